@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -79,8 +81,10 @@ public abstract class AcknowledgedResponseBase implements PlainJsonSerializable
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACKNOWLEDGED = JsonpKey.of("acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("acknowledged");
+        JsonpUtils.writeKey(generator, KEY_ACKNOWLEDGED);
         generator.write(this.acknowledged);
     }
 
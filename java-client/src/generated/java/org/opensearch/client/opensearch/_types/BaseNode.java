@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -148,9 +150,16 @@ public abstract class BaseNode implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.attributes)) {
-            generator.writeKey("attributes");
+            JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -160,20 +169,20 @@ public abstract class BaseNode implements PlainJsonSerializable {
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (NodeRole item0 : this.roles) {
                 item0.serialize(generator, mapper);
@@ -182,7 +191,7 @@ public abstract class BaseNode implements PlainJsonSerializable {
         }
 
         if (this.transportAddress != null) {
-            generator.writeKey("transport_address");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
             generator.write(this.transportAddress);
         }
     }
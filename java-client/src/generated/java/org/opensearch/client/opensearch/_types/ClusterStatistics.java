@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,18 @@ public class ClusterStatistics implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SKIPPED = JsonpKey.of("skipped");
+    private static final JsonpKey KEY_SUCCESSFUL = JsonpKey.of("successful");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("skipped");
+        JsonpUtils.writeKey(generator, KEY_SKIPPED);
         generator.write(this.skipped);
 
-        generator.writeKey("successful");
+        JsonpUtils.writeKey(generator, KEY_SUCCESSFUL);
         generator.write(this.successful);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
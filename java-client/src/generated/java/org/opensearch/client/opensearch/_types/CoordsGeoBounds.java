@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -132,17 +134,22 @@ public class CoordsGeoBounds implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOTTOM = JsonpKey.of("bottom");
+    private static final JsonpKey KEY_LEFT = JsonpKey.of("left");
+    private static final JsonpKey KEY_RIGHT = JsonpKey.of("right");
+    private static final JsonpKey KEY_TOP = JsonpKey.of("top");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bottom");
+        JsonpUtils.writeKey(generator, KEY_BOTTOM);
         generator.write(this.bottom);
 
-        generator.writeKey("left");
+        JsonpUtils.writeKey(generator, KEY_LEFT);
         generator.write(this.left);
 
-        generator.writeKey("right");
+        JsonpUtils.writeKey(generator, KEY_RIGHT);
         generator.write(this.right);
 
-        generator.writeKey("top");
+        JsonpUtils.writeKey(generator, KEY_TOP);
         generator.write(this.top);
     }
 
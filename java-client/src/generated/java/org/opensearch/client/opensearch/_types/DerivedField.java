@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -165,27 +167,35 @@ public class DerivedField implements PlainJsonSerializable, ToCopyableBuilder<De
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PREFILTER_FIELD = JsonpKey.of("prefilter_field");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.prefilterField != null) {
-            generator.writeKey("prefilter_field");
+            JsonpUtils.writeKey(generator, KEY_PREFILTER_FIELD);
             generator.write(this.prefilterField);
         }
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.properties.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -194,10 +204,10 @@ public class DerivedField implements PlainJsonSerializable, ToCopyableBuilder<De
             generator.writeEnd();
         }
 
-        generator.writeKey("script");
+        JsonpUtils.writeKey(generator, KEY_SCRIPT);
         this.script.serialize(generator, mapper);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,12 +115,15 @@ public class DocStats implements PlainJsonSerializable, ToCopyableBuilder<DocSta
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DELETED = JsonpKey.of("deleted");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
         if (this.deleted != null) {
-            generator.writeKey("deleted");
+            JsonpUtils.writeKey(generator, KEY_DELETED);
             generator.write(this.deleted);
         }
     }
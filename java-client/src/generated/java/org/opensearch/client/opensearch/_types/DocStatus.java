@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -156,29 +158,35 @@ public class DocStatus implements PlainJsonSerializable, ToCopyableBuilder<DocSt
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY__1XX = JsonpKey.of("1xx");
+    private static final JsonpKey KEY__2XX = JsonpKey.of("2xx");
+    private static final JsonpKey KEY__3XX = JsonpKey.of("3xx");
+    private static final JsonpKey KEY__4XX = JsonpKey.of("4xx");
+    private static final JsonpKey KEY__5XX = JsonpKey.of("5xx");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this._1xx != null) {
-            generator.writeKey("1xx");
+            JsonpUtils.writeKey(generator, KEY__1XX);
             generator.write(this._1xx);
         }
 
         if (this._2xx != null) {
-            generator.writeKey("2xx");
+            JsonpUtils.writeKey(generator, KEY__2XX);
             generator.write(this._2xx);
         }
 
         if (this._3xx != null) {
-            generator.writeKey("3xx");
+            JsonpUtils.writeKey(generator, KEY__3XX);
             generator.write(this._3xx);
         }
 
         if (this._4xx != null) {
-            generator.writeKey("4xx");
+            JsonpUtils.writeKey(generator, KEY__4XX);
             generator.write(this._4xx);
         }
 
         if (this._5xx != null) {
-            generator.writeKey("5xx");
+            JsonpUtils.writeKey(generator, KEY__5XX);
             generator.write(this._5xx);
         }
     }
@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -188,18 +190,26 @@ public class ErrorCause implements PlainJsonSerializable, ToCopyableBuilder<Erro
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CAUSED_BY = JsonpKey.of("caused_by");
+    private static final JsonpKey KEY_HEADER = JsonpKey.of("header");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_ROOT_CAUSE = JsonpKey.of("root_cause");
+    private static final JsonpKey KEY_STACK_TRACE = JsonpKey.of("stack_trace");
+    private static final JsonpKey KEY_SUPPRESSED = JsonpKey.of("suppressed");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.causedBy != null) {
-            generator.writeKey("caused_by");
+            JsonpUtils.writeKey(generator, KEY_CAUSED_BY);
             this.causedBy.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.header)) {
-            generator.writeKey("header");
+            JsonpUtils.writeKey(generator, KEY_HEADER);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.header.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -215,12 +225,12 @@ public class ErrorCause implements PlainJsonSerializable, ToCopyableBuilder<Erro
         }
 
         if (this.reason != null) {
-            generator.writeKey("reason");
+            JsonpUtils.writeKey(generator, KEY_REASON);
             generator.write(this.reason);
         }
 
         if (ApiTypeHelper.isDefined(this.rootCause)) {
-            generator.writeKey("root_cause");
+            JsonpUtils.writeKey(generator, KEY_ROOT_CAUSE);
             generator.writeStartArray();
             for (ErrorCause item0 : this.rootCause) {
                 item0.serialize(generator, mapper);
@@ -229,12 +239,12 @@ public class ErrorCause implements PlainJsonSerializable, ToCopyableBuilder<Erro
         }
 
         if (this.stackTrace != null) {
-            generator.writeKey("stack_trace");
+            JsonpUtils.writeKey(generator, KEY_STACK_TRACE);
             generator.write(this.stackTrace);
         }
 
         if (ApiTypeHelper.isDefined(this.suppressed)) {
-            generator.writeKey("suppressed");
+            JsonpUtils.writeKey(generator, KEY_SUPPRESSED);
             generator.writeStartArray();
             for (ErrorCause item0 : this.suppressed) {
                 item0.serialize(generator, mapper);
@@ -242,7 +252,7 @@ public class ErrorCause implements PlainJsonSerializable, ToCopyableBuilder<Erro
             generator.writeEnd();
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,13 +112,16 @@ public class FieldSizeUsage implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
         generator.write(this.sizeInBytes);
     }
 
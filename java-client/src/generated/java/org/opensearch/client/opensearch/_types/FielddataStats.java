@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,14 +140,19 @@ public class FielddataStats implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EVICTIONS = JsonpKey.of("evictions");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_MEMORY_SIZE = JsonpKey.of("memory_size");
+    private static final JsonpKey KEY_MEMORY_SIZE_IN_BYTES = JsonpKey.of("memory_size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.evictions != null) {
-            generator.writeKey("evictions");
+            JsonpUtils.writeKey(generator, KEY_EVICTIONS);
             generator.write(this.evictions);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, FieldMemoryUsage> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -155,11 +162,11 @@ public class FielddataStats implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.memorySize != null) {
-            generator.writeKey("memory_size");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE);
             generator.write(this.memorySize);
         }
 
-        generator.writeKey("memory_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE_IN_BYTES);
         generator.write(this.memorySizeInBytes);
     }
 
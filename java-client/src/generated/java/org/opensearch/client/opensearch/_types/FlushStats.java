@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -130,19 +132,24 @@ public class FlushStats implements PlainJsonSerializable, ToCopyableBuilder<Flus
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PERIODIC = JsonpKey.of("periodic");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("periodic");
+        JsonpUtils.writeKey(generator, KEY_PERIODIC);
         generator.write(this.periodic);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -92,8 +94,10 @@ public class GeoHashLocation implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_GEOHASH = JsonpKey.of("geohash");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("geohash");
+        JsonpUtils.writeKey(generator, KEY_GEOHASH);
         generator.write(this.geohash);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -200,41 +202,52 @@ public class GetStats implements PlainJsonSerializable, ToCopyableBuilder<GetSta
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_EXISTS_TIME = JsonpKey.of("exists_time");
+    private static final JsonpKey KEY_EXISTS_TIME_IN_MILLIS = JsonpKey.of("exists_time_in_millis");
+    private static final JsonpKey KEY_EXISTS_TOTAL = JsonpKey.of("exists_total");
+    private static final JsonpKey KEY_MISSING_TIME = JsonpKey.of("missing_time");
+    private static final JsonpKey KEY_MISSING_TIME_IN_MILLIS = JsonpKey.of("missing_time_in_millis");
+    private static final JsonpKey KEY_MISSING_TOTAL = JsonpKey.of("missing_total");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TIME_IN_MILLIS = JsonpKey.of("time_in_millis");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current");
+        JsonpUtils.writeKey(generator, KEY_CURRENT);
         generator.write(this.current);
 
         if (this.existsTime != null) {
-            generator.writeKey("exists_time");
+            JsonpUtils.writeKey(generator, KEY_EXISTS_TIME);
             this.existsTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("exists_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_EXISTS_TIME_IN_MILLIS);
         generator.write(this.existsTimeInMillis);
 
-        generator.writeKey("exists_total");
+        JsonpUtils.writeKey(generator, KEY_EXISTS_TOTAL);
         generator.write(this.existsTotal);
 
         if (this.missingTime != null) {
-            generator.writeKey("missing_time");
+            JsonpUtils.writeKey(generator, KEY_MISSING_TIME);
             this.missingTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("missing_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_MISSING_TIME_IN_MILLIS);
         generator.write(this.missingTimeInMillis);
 
-        generator.writeKey("missing_total");
+        JsonpUtils.writeKey(generator, KEY_MISSING_TOTAL);
         generator.write(this.missingTotal);
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
-        generator.writeKey("time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_MILLIS);
         generator.write(this.timeInMillis);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
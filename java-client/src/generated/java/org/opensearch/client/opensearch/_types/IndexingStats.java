@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -263,55 +265,70 @@ public class IndexingStats implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DELETE_CURRENT = JsonpKey.of("delete_current");
+    private static final JsonpKey KEY_DELETE_TIME = JsonpKey.of("delete_time");
+    private static final JsonpKey KEY_DELETE_TIME_IN_MILLIS = JsonpKey.of("delete_time_in_millis");
+    private static final JsonpKey KEY_DELETE_TOTAL = JsonpKey.of("delete_total");
+    private static final JsonpKey KEY_DOC_STATUS = JsonpKey.of("doc_status");
+    private static final JsonpKey KEY_INDEX_CURRENT = JsonpKey.of("index_current");
+    private static final JsonpKey KEY_INDEX_FAILED = JsonpKey.of("index_failed");
+    private static final JsonpKey KEY_INDEX_TIME = JsonpKey.of("index_time");
+    private static final JsonpKey KEY_INDEX_TIME_IN_MILLIS = JsonpKey.of("index_time_in_millis");
+    private static final JsonpKey KEY_INDEX_TOTAL = JsonpKey.of("index_total");
+    private static final JsonpKey KEY_IS_THROTTLED = JsonpKey.of("is_throttled");
+    private static final JsonpKey KEY_NOOP_UPDATE_TOTAL = JsonpKey.of("noop_update_total");
+    private static final JsonpKey KEY_THROTTLE_TIME = JsonpKey.of("throttle_time");
+    private static final JsonpKey KEY_THROTTLE_TIME_IN_MILLIS = JsonpKey.of("throttle_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("delete_current");
+        JsonpUtils.writeKey(generator, KEY_DELETE_CURRENT);
         generator.write(this.deleteCurrent);
 
         if (this.deleteTime != null) {
-            generator.writeKey("delete_time");
+            JsonpUtils.writeKey(generator, KEY_DELETE_TIME);
             this.deleteTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("delete_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_DELETE_TIME_IN_MILLIS);
         generator.write(this.deleteTimeInMillis);
 
-        generator.writeKey("delete_total");
+        JsonpUtils.writeKey(generator, KEY_DELETE_TOTAL);
         generator.write(this.deleteTotal);
 
         if (this.docStatus != null) {
-            generator.writeKey("doc_status");
+            JsonpUtils.writeKey(generator, KEY_DOC_STATUS);
             this.docStatus.serialize(generator, mapper);
         }
 
-        generator.writeKey("index_current");
+        JsonpUtils.writeKey(generator, KEY_INDEX_CURRENT);
         generator.write(this.indexCurrent);
 
-        generator.writeKey("index_failed");
+        JsonpUtils.writeKey(generator, KEY_INDEX_FAILED);
         generator.write(this.indexFailed);
 
         if (this.indexTime != null) {
-            generator.writeKey("index_time");
+            JsonpUtils.writeKey(generator, KEY_INDEX_TIME);
             this.indexTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("index_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_INDEX_TIME_IN_MILLIS);
         generator.write(this.indexTimeInMillis);
 
-        generator.writeKey("index_total");
+        JsonpUtils.writeKey(generator, KEY_INDEX_TOTAL);
         generator.write(this.indexTotal);
 
-        generator.writeKey("is_throttled");
+        JsonpUtils.writeKey(generator, KEY_IS_THROTTLED);
         generator.write(this.isThrottled);
 
-        generator.writeKey("noop_update_total");
+        JsonpUtils.writeKey(generator, KEY_NOOP_UPDATE_TOTAL);
         generator.write(this.noopUpdateTotal);
 
         if (this.throttleTime != null) {
-            generator.writeKey("throttle_time");
+            JsonpUtils.writeKey(generator, KEY_THROTTLE_TIME);
             this.throttleTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("throttle_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_THROTTLE_TIME_IN_MILLIS);
         generator.write(this.throttleTimeInMillis);
     }
 
@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ObjectBuilder;
 
@@ -72,10 +74,12 @@ public abstract class IndicesResponseBase extends AcknowledgedResponseBase {
         return this.shards;
     }
 
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.shards != null) {
-            generator.writeKey("_shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
     }
@@ -46,6 +46,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -188,13 +189,20 @@ public class InlineGet<TDocument> implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FOUND = JsonpKey.of("found");
+    private static final JsonpKey KEY_PRIMARY_TERM = JsonpKey.of("_primary_term");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SEQ_NO = JsonpKey.of("_seq_no");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -203,26 +211,26 @@ public class InlineGet<TDocument> implements PlainJsonSerializable, ToCopyableBu
             generator.writeEnd();
         }
 
-        generator.writeKey("found");
+        JsonpUtils.writeKey(generator, KEY_FOUND);
         generator.write(this.found);
 
         if (this.primaryTerm != null) {
-            generator.writeKey("_primary_term");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY_TERM);
             generator.write(this.primaryTerm);
         }
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.seqNo != null) {
-            generator.writeKey("_seq_no");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO);
             generator.write(this.seqNo);
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             JsonpUtils.serialize(this.source, generator, tDocumentSerializer, mapper);
         }
     }
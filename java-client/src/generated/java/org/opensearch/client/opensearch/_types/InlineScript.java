@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -108,15 +110,19 @@ public class InlineScript extends ScriptBase implements ToCopyableBuilder<Inline
         return this.source;
     }
 
+    private static final JsonpKey KEY_LANG = JsonpKey.of("lang");
+    private static final JsonpKey KEY_OPTIONS = JsonpKey.of("options");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.lang != null) {
-            generator.writeKey("lang");
+            JsonpUtils.writeKey(generator, KEY_LANG);
             this.lang.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.options)) {
-            generator.writeKey("options");
+            JsonpUtils.writeKey(generator, KEY_OPTIONS);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.options.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -125,7 +131,7 @@ public class InlineScript extends ScriptBase implements ToCopyableBuilder<Inline
             generator.writeEnd();
         }
 
-        generator.writeKey("source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         generator.write(this.source);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,11 +108,14 @@ public class LatLonGeoLocation implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LAT = JsonpKey.of("lat");
+    private static final JsonpKey KEY_LON = JsonpKey.of("lon");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("lat");
+        JsonpUtils.writeKey(generator, KEY_LAT);
         generator.write(this.lat);
 
-        generator.writeKey("lon");
+        JsonpUtils.writeKey(generator, KEY_LON);
         generator.write(this.lon);
     }
 
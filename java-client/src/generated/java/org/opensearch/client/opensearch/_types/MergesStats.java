@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -321,69 +323,87 @@ public class MergesStats implements PlainJsonSerializable, ToCopyableBuilder<Mer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_CURRENT_DOCS = JsonpKey.of("current_docs");
+    private static final JsonpKey KEY_CURRENT_SIZE = JsonpKey.of("current_size");
+    private static final JsonpKey KEY_CURRENT_SIZE_IN_BYTES = JsonpKey.of("current_size_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_AUTO_THROTTLE = JsonpKey.of("total_auto_throttle");
+    private static final JsonpKey KEY_TOTAL_AUTO_THROTTLE_IN_BYTES = JsonpKey.of("total_auto_throttle_in_bytes");
+    private static final JsonpKey KEY_TOTAL_DOCS = JsonpKey.of("total_docs");
+    private static final JsonpKey KEY_TOTAL_SIZE = JsonpKey.of("total_size");
+    private static final JsonpKey KEY_TOTAL_SIZE_IN_BYTES = JsonpKey.of("total_size_in_bytes");
+    private static final JsonpKey KEY_TOTAL_STOPPED_TIME = JsonpKey.of("total_stopped_time");
+    private static final JsonpKey KEY_TOTAL_STOPPED_TIME_IN_MILLIS = JsonpKey.of("total_stopped_time_in_millis");
+    private static final JsonpKey KEY_TOTAL_THROTTLED_TIME = JsonpKey.of("total_throttled_time");
+    private static final JsonpKey KEY_TOTAL_THROTTLED_TIME_IN_MILLIS = JsonpKey.of("total_throttled_time_in_millis");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+    private static final JsonpKey KEY_UNREFERENCED_FILE_CLEANUPS_PERFORMED = JsonpKey.of("unreferenced_file_cleanups_performed");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current");
+        JsonpUtils.writeKey(generator, KEY_CURRENT);
         generator.write(this.current);
 
-        generator.writeKey("current_docs");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_DOCS);
         generator.write(this.currentDocs);
 
         if (this.currentSize != null) {
-            generator.writeKey("current_size");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_SIZE);
             generator.write(this.currentSize);
         }
 
-        generator.writeKey("current_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_SIZE_IN_BYTES);
         generator.write(this.currentSizeInBytes);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
 
         if (this.totalAutoThrottle != null) {
-            generator.writeKey("total_auto_throttle");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_AUTO_THROTTLE);
             generator.write(this.totalAutoThrottle);
         }
 
-        generator.writeKey("total_auto_throttle_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_AUTO_THROTTLE_IN_BYTES);
         generator.write(this.totalAutoThrottleInBytes);
 
-        generator.writeKey("total_docs");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_DOCS);
         generator.write(this.totalDocs);
 
         if (this.totalSize != null) {
-            generator.writeKey("total_size");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_SIZE);
             generator.write(this.totalSize);
         }
 
-        generator.writeKey("total_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_SIZE_IN_BYTES);
         generator.write(this.totalSizeInBytes);
 
         if (this.totalStoppedTime != null) {
-            generator.writeKey("total_stopped_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_STOPPED_TIME);
             this.totalStoppedTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_stopped_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_STOPPED_TIME_IN_MILLIS);
         generator.write(this.totalStoppedTimeInMillis);
 
         if (this.totalThrottledTime != null) {
-            generator.writeKey("total_throttled_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_THROTTLED_TIME);
             this.totalThrottledTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_throttled_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_THROTTLED_TIME_IN_MILLIS);
         generator.write(this.totalThrottledTimeInMillis);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
 
         if (this.unreferencedFileCleanupsPerformed != null) {
-            generator.writeKey("unreferenced_file_cleanups_performed");
+            JsonpUtils.writeKey(generator, KEY_UNREFERENCED_FILE_CLEANUPS_PERFORMED);
             generator.write(this.unreferencedFileCleanupsPerformed);
         }
     }
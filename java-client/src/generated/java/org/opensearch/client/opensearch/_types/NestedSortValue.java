@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,23 +142,28 @@ public class NestedSortValue implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_MAX_CHILDREN = JsonpKey.of("max_children");
+    private static final JsonpKey KEY_NESTED = JsonpKey.of("nested");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.maxChildren != null) {
-            generator.writeKey("max_children");
+            JsonpUtils.writeKey(generator, KEY_MAX_CHILDREN);
             generator.write(this.maxChildren);
         }
 
         if (this.nested != null) {
-            generator.writeKey("nested");
+            JsonpUtils.writeKey(generator, KEY_NESTED);
             this.nested.serialize(generator, mapper);
         }
 
-        generator.writeKey("path");
+        JsonpUtils.writeKey(generator, KEY_PATH);
         generator.write(this.path);
     }
 
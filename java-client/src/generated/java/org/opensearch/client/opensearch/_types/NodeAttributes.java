@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -171,8 +173,16 @@ public class NodeAttributes implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_EPHEMERAL_ID = JsonpKey.of("ephemeral_id");
+    private static final JsonpKey KEY_EXTERNAL_ID = JsonpKey.of("external_id");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("attributes");
+        JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -180,24 +190,24 @@ public class NodeAttributes implements PlainJsonSerializable, ToCopyableBuilder<
         }
         generator.writeEnd();
 
-        generator.writeKey("ephemeral_id");
+        JsonpUtils.writeKey(generator, KEY_EPHEMERAL_ID);
         generator.write(this.ephemeralId);
 
         if (this.externalId != null) {
-            generator.writeKey("external_id");
+            JsonpUtils.writeKey(generator, KEY_EXTERNAL_ID);
             generator.write(this.externalId);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (NodeRole item0 : this.roles) {
                 item0.serialize(generator, mapper);
@@ -205,7 +215,7 @@ public class NodeAttributes implements PlainJsonSerializable, ToCopyableBuilder<
             generator.writeEnd();
         }
 
-        generator.writeKey("transport_address");
+        JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
         generator.write(this.transportAddress);
     }
 
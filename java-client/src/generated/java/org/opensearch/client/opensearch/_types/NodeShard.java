@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -207,9 +209,20 @@ public class NodeShard implements PlainJsonSerializable, ToCopyableBuilder<NodeS
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATION_ID = JsonpKey.of("allocation_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_RECOVERY_SOURCE = JsonpKey.of("recovery_source");
+    private static final JsonpKey KEY_RELOCATING_NODE = JsonpKey.of("relocating_node");
+    private static final JsonpKey KEY_SEARCH_ONLY = JsonpKey.of("searchOnly");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_UNASSIGNED_INFO = JsonpKey.of("unassigned_info");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.allocationId)) {
-            generator.writeKey("allocation_id");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION_ID);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.allocationId.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -218,19 +231,19 @@ public class NodeShard implements PlainJsonSerializable, ToCopyableBuilder<NodeS
             generator.writeEnd();
         }
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
-        generator.writeKey("primary");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY);
         generator.write(this.primary);
 
         if (ApiTypeHelper.isDefined(this.recoverySource)) {
-            generator.writeKey("recovery_source");
+            JsonpUtils.writeKey(generator, KEY_RECOVERY_SOURCE);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.recoverySource.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -240,23 +253,23 @@ public class NodeShard implements PlainJsonSerializable, ToCopyableBuilder<NodeS
         }
 
         if (this.relocatingNode != null) {
-            generator.writeKey("relocating_node");
+            JsonpUtils.writeKey(generator, KEY_RELOCATING_NODE);
             generator.write(this.relocatingNode);
         }
 
         if (this.searchOnly != null) {
-            generator.writeKey("searchOnly");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ONLY);
             generator.write(this.searchOnly);
         }
 
-        generator.writeKey("shard");
+        JsonpUtils.writeKey(generator, KEY_SHARD);
         generator.write(this.shard);
 
-        generator.writeKey("state");
+        JsonpUtils.writeKey(generator, KEY_STATE);
         this.state.serialize(generator, mapper);
 
         if (this.unassignedInfo != null) {
-            generator.writeKey("unassigned_info");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_INFO);
             this.unassignedInfo.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -241,37 +243,48 @@ public class OpenSearchVersionInfo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILD_DATE = JsonpKey.of("build_date");
+    private static final JsonpKey KEY_BUILD_FLAVOR = JsonpKey.of("build_flavor");
+    private static final JsonpKey KEY_BUILD_HASH = JsonpKey.of("build_hash");
+    private static final JsonpKey KEY_BUILD_SNAPSHOT = JsonpKey.of("build_snapshot");
+    private static final JsonpKey KEY_BUILD_TYPE = JsonpKey.of("build_type");
+    private static final JsonpKey KEY_DISTRIBUTION = JsonpKey.of("distribution");
+    private static final JsonpKey KEY_LUCENE_VERSION = JsonpKey.of("lucene_version");
+    private static final JsonpKey KEY_MINIMUM_INDEX_COMPATIBILITY_VERSION = JsonpKey.of("minimum_index_compatibility_version");
+    private static final JsonpKey KEY_MINIMUM_WIRE_COMPATIBILITY_VERSION = JsonpKey.of("minimum_wire_compatibility_version");
+    private static final JsonpKey KEY_NUMBER = JsonpKey.of("number");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("build_date");
+        JsonpUtils.writeKey(generator, KEY_BUILD_DATE);
         generator.write(this.buildDate);
 
         if (this.buildFlavor != null) {
-            generator.writeKey("build_flavor");
+            JsonpUtils.writeKey(generator, KEY_BUILD_FLAVOR);
             generator.write(this.buildFlavor);
         }
 
-        generator.writeKey("build_hash");
+        JsonpUtils.writeKey(generator, KEY_BUILD_HASH);
         generator.write(this.buildHash);
 
-        generator.writeKey("build_snapshot");
+        JsonpUtils.writeKey(generator, KEY_BUILD_SNAPSHOT);
         generator.write(this.buildSnapshot);
 
-        generator.writeKey("build_type");
+        JsonpUtils.writeKey(generator, KEY_BUILD_TYPE);
         generator.write(this.buildType);
 
-        generator.writeKey("distribution");
+        JsonpUtils.writeKey(generator, KEY_DISTRIBUTION);
         generator.write(this.distribution);
 
-        generator.writeKey("lucene_version");
+        JsonpUtils.writeKey(generator, KEY_LUCENE_VERSION);
         generator.write(this.luceneVersion);
 
-        generator.writeKey("minimum_index_compatibility_version");
+        JsonpUtils.writeKey(generator, KEY_MINIMUM_INDEX_COMPATIBILITY_VERSION);
         generator.write(this.minimumIndexCompatibilityVersion);
 
-        generator.writeKey("minimum_wire_compatibility_version");
+        JsonpUtils.writeKey(generator, KEY_MINIMUM_WIRE_COMPATIBILITY_VERSION);
         generator.write(this.minimumWireCompatibilityVersion);
 
-        generator.writeKey("number");
+        JsonpUtils.writeKey(generator, KEY_NUMBER);
         generator.write(this.number);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -158,23 +160,30 @@ public class PhaseTook implements PlainJsonSerializable, ToCopyableBuilder<Phase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CAN_MATCH = JsonpKey.of("can_match");
+    private static final JsonpKey KEY_DFS_PRE_QUERY = JsonpKey.of("dfs_pre_query");
+    private static final JsonpKey KEY_DFS_QUERY = JsonpKey.of("dfs_query");
+    private static final JsonpKey KEY_EXPAND = JsonpKey.of("expand");
+    private static final JsonpKey KEY_FETCH = JsonpKey.of("fetch");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("can_match");
+        JsonpUtils.writeKey(generator, KEY_CAN_MATCH);
         generator.write(this.canMatch);
 
-        generator.writeKey("dfs_pre_query");
+        JsonpUtils.writeKey(generator, KEY_DFS_PRE_QUERY);
         generator.write(this.dfsPreQuery);
 
-        generator.writeKey("dfs_query");
+        JsonpUtils.writeKey(generator, KEY_DFS_QUERY);
         generator.write(this.dfsQuery);
 
-        generator.writeKey("expand");
+        JsonpUtils.writeKey(generator, KEY_EXPAND);
         generator.write(this.expand);
 
-        generator.writeKey("fetch");
+        JsonpUtils.writeKey(generator, KEY_FETCH);
         generator.write(this.fetch);
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
     }
 
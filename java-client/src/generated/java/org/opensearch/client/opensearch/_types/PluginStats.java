@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -210,44 +212,56 @@ public class PluginStats implements PlainJsonSerializable, ToCopyableBuilder<Plu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLASSNAME = JsonpKey.of("classname");
+    private static final JsonpKey KEY_CUSTOM_FOLDERNAME = JsonpKey.of("custom_foldername");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_EXTENDED_PLUGINS = JsonpKey.of("extended_plugins");
+    private static final JsonpKey KEY_HAS_NATIVE_CONTROLLER = JsonpKey.of("has_native_controller");
+    private static final JsonpKey KEY_JAVA_VERSION = JsonpKey.of("java_version");
+    private static final JsonpKey KEY_LICENSED = JsonpKey.of("licensed");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_OPENSEARCH_VERSION = JsonpKey.of("opensearch_version");
+    private static final JsonpKey KEY_OPTIONAL_EXTENDED_PLUGINS = JsonpKey.of("optional_extended_plugins");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("classname");
+        JsonpUtils.writeKey(generator, KEY_CLASSNAME);
         generator.write(this.classname);
 
         if (this.customFoldername != null) {
-            generator.writeKey("custom_foldername");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM_FOLDERNAME);
             generator.write(this.customFoldername);
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
-        generator.writeKey("extended_plugins");
+        JsonpUtils.writeKey(generator, KEY_EXTENDED_PLUGINS);
         generator.writeStartArray();
         for (String item0 : this.extendedPlugins) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("has_native_controller");
+        JsonpUtils.writeKey(generator, KEY_HAS_NATIVE_CONTROLLER);
         generator.write(this.hasNativeController);
 
-        generator.writeKey("java_version");
+        JsonpUtils.writeKey(generator, KEY_JAVA_VERSION);
         generator.write(this.javaVersion);
 
         if (this.licensed != null) {
-            generator.writeKey("licensed");
+            JsonpUtils.writeKey(generator, KEY_LICENSED);
             generator.write(this.licensed);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("opensearch_version");
+        JsonpUtils.writeKey(generator, KEY_OPENSEARCH_VERSION);
         generator.write(this.opensearchVersion);
 
         if (ApiTypeHelper.isDefined(this.optionalExtendedPlugins)) {
-            generator.writeKey("optional_extended_plugins");
+            JsonpUtils.writeKey(generator, KEY_OPTIONAL_EXTENDED_PLUGINS);
             generator.writeStartArray();
             for (String item0 : this.optionalExtendedPlugins) {
                 generator.write(item0);
@@ -255,7 +269,7 @@ public class PluginStats implements PlainJsonSerializable, ToCopyableBuilder<Plu
             generator.writeEnd();
         }
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
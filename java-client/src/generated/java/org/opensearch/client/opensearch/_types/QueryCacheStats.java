@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -189,31 +191,40 @@ public class QueryCacheStats implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE_COUNT = JsonpKey.of("cache_count");
+    private static final JsonpKey KEY_CACHE_SIZE = JsonpKey.of("cache_size");
+    private static final JsonpKey KEY_EVICTIONS = JsonpKey.of("evictions");
+    private static final JsonpKey KEY_HIT_COUNT = JsonpKey.of("hit_count");
+    private static final JsonpKey KEY_MEMORY_SIZE = JsonpKey.of("memory_size");
+    private static final JsonpKey KEY_MEMORY_SIZE_IN_BYTES = JsonpKey.of("memory_size_in_bytes");
+    private static final JsonpKey KEY_MISS_COUNT = JsonpKey.of("miss_count");
+    private static final JsonpKey KEY_TOTAL_COUNT = JsonpKey.of("total_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cache_count");
+        JsonpUtils.writeKey(generator, KEY_CACHE_COUNT);
         generator.write(this.cacheCount);
 
-        generator.writeKey("cache_size");
+        JsonpUtils.writeKey(generator, KEY_CACHE_SIZE);
         generator.write(this.cacheSize);
 
-        generator.writeKey("evictions");
+        JsonpUtils.writeKey(generator, KEY_EVICTIONS);
         generator.write(this.evictions);
 
-        generator.writeKey("hit_count");
+        JsonpUtils.writeKey(generator, KEY_HIT_COUNT);
         generator.write(this.hitCount);
 
         if (this.memorySize != null) {
-            generator.writeKey("memory_size");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE);
             generator.write(this.memorySize);
         }
 
-        generator.writeKey("memory_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE_IN_BYTES);
         generator.write(this.memorySizeInBytes);
 
-        generator.writeKey("miss_count");
+        JsonpUtils.writeKey(generator, KEY_MISS_COUNT);
         generator.write(this.missCount);
 
-        generator.writeKey("total_count");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_COUNT);
         generator.write(this.totalCount);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,19 +138,24 @@ public class RecoveryStats implements PlainJsonSerializable, ToCopyableBuilder<R
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_AS_SOURCE = JsonpKey.of("current_as_source");
+    private static final JsonpKey KEY_CURRENT_AS_TARGET = JsonpKey.of("current_as_target");
+    private static final JsonpKey KEY_THROTTLE_TIME = JsonpKey.of("throttle_time");
+    private static final JsonpKey KEY_THROTTLE_TIME_IN_MILLIS = JsonpKey.of("throttle_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current_as_source");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_AS_SOURCE);
         generator.write(this.currentAsSource);
 
-        generator.writeKey("current_as_target");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_AS_TARGET);
         generator.write(this.currentAsTarget);
 
         if (this.throttleTime != null) {
-            generator.writeKey("throttle_time");
+            JsonpUtils.writeKey(generator, KEY_THROTTLE_TIME);
             this.throttleTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("throttle_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_THROTTLE_TIME_IN_MILLIS);
         generator.write(this.throttleTimeInMillis);
     }
 
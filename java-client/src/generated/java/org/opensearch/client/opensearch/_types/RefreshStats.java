@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,30 +179,38 @@ public class RefreshStats implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXTERNAL_TOTAL = JsonpKey.of("external_total");
+    private static final JsonpKey KEY_EXTERNAL_TOTAL_TIME = JsonpKey.of("external_total_time");
+    private static final JsonpKey KEY_EXTERNAL_TOTAL_TIME_IN_MILLIS = JsonpKey.of("external_total_time_in_millis");
+    private static final JsonpKey KEY_LISTENERS = JsonpKey.of("listeners");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("external_total");
+        JsonpUtils.writeKey(generator, KEY_EXTERNAL_TOTAL);
         generator.write(this.externalTotal);
 
         if (this.externalTotalTime != null) {
-            generator.writeKey("external_total_time");
+            JsonpUtils.writeKey(generator, KEY_EXTERNAL_TOTAL_TIME);
             this.externalTotalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("external_total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_EXTERNAL_TOTAL_TIME_IN_MILLIS);
         generator.write(this.externalTotalTimeInMillis);
 
-        generator.writeKey("listeners");
+        JsonpUtils.writeKey(generator, KEY_LISTENERS);
         generator.write(this.listeners);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,16 +130,20 @@ public class RemoteStoreDownloadStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_DOWNLOAD_SIZE = JsonpKey.of("total_download_size");
+    private static final JsonpKey KEY_TOTAL_TIME_SPENT = JsonpKey.of("total_time_spent");
+    private static final JsonpKey KEY_TOTAL_TIME_SPENT_IN_MILLIS = JsonpKey.of("total_time_spent_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("total_download_size");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_DOWNLOAD_SIZE);
         this.totalDownloadSize.serialize(generator, mapper);
 
         if (this.totalTimeSpent != null) {
-            generator.writeKey("total_time_spent");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_SPENT);
             this.totalTimeSpent.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_spent_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_SPENT_IN_MILLIS);
         generator.write(this.totalTimeSpentInMillis);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,11 +106,14 @@ public class RemoteStoreStats implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOWNLOAD = JsonpKey.of("download");
+    private static final JsonpKey KEY_UPLOAD = JsonpKey.of("upload");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("download");
+        JsonpUtils.writeKey(generator, KEY_DOWNLOAD);
         this.download.serialize(generator, mapper);
 
-        generator.writeKey("upload");
+        JsonpUtils.writeKey(generator, KEY_UPLOAD);
         this.upload.serialize(generator, mapper);
     }
 
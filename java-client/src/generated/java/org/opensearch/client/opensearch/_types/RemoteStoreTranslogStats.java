@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,8 +97,10 @@ public class RemoteStoreTranslogStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_UPLOAD = JsonpKey.of("upload");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("upload");
+        JsonpUtils.writeKey(generator, KEY_UPLOAD);
         this.upload.serialize(generator, mapper);
     }
 
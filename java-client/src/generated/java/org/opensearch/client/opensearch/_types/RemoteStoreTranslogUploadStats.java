@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,11 +111,14 @@ public class RemoteStoreTranslogUploadStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_UPLOAD_SIZE = JsonpKey.of("total_upload_size");
+    private static final JsonpKey KEY_TOTAL_UPLOADS = JsonpKey.of("total_uploads");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("total_upload_size");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_UPLOAD_SIZE);
         this.totalUploadSize.serialize(generator, mapper);
 
-        generator.writeKey("total_uploads");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_UPLOADS);
         this.totalUploads.serialize(generator, mapper);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -124,14 +126,18 @@ public class RemoteStoreTranslogUploadTotalUploadsStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_STARTED = JsonpKey.of("started");
+    private static final JsonpKey KEY_SUCCEEDED = JsonpKey.of("succeeded");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("failed");
+        JsonpUtils.writeKey(generator, KEY_FAILED);
         generator.write(this.failed);
 
-        generator.writeKey("started");
+        JsonpUtils.writeKey(generator, KEY_STARTED);
         generator.write(this.started);
 
-        generator.writeKey("succeeded");
+        JsonpUtils.writeKey(generator, KEY_SUCCEEDED);
         generator.write(this.succeeded);
     }
 
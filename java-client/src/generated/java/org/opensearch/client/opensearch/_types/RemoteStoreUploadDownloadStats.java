@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -171,29 +173,36 @@ public class RemoteStoreUploadDownloadStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_FAILED_BYTES = JsonpKey.of("failed_bytes");
+    private static final JsonpKey KEY_STARTED = JsonpKey.of("started");
+    private static final JsonpKey KEY_STARTED_BYTES = JsonpKey.of("started_bytes");
+    private static final JsonpKey KEY_SUCCEEDED = JsonpKey.of("succeeded");
+    private static final JsonpKey KEY_SUCCEEDED_BYTES = JsonpKey.of("succeeded_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.failed != null) {
-            generator.writeKey("failed");
+            JsonpUtils.writeKey(generator, KEY_FAILED);
             generator.write(this.failed);
         }
 
-        generator.writeKey("failed_bytes");
+        JsonpUtils.writeKey(generator, KEY_FAILED_BYTES);
         generator.write(this.failedBytes);
 
         if (this.started != null) {
-            generator.writeKey("started");
+            JsonpUtils.writeKey(generator, KEY_STARTED);
             generator.write(this.started);
         }
 
-        generator.writeKey("started_bytes");
+        JsonpUtils.writeKey(generator, KEY_STARTED_BYTES);
         generator.write(this.startedBytes);
 
         if (this.succeeded != null) {
-            generator.writeKey("succeeded");
+            JsonpUtils.writeKey(generator, KEY_SUCCEEDED);
             generator.write(this.succeeded);
         }
 
-        generator.writeKey("succeeded_bytes");
+        JsonpUtils.writeKey(generator, KEY_SUCCEEDED_BYTES);
         generator.write(this.succeededBytes);
     }
 
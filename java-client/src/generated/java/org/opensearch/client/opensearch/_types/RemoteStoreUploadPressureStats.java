@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -98,8 +100,10 @@ public class RemoteStoreUploadPressureStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_REJECTIONS = JsonpKey.of("total_rejections");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("total_rejections");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_REJECTIONS);
         generator.write(this.totalRejections);
     }
 
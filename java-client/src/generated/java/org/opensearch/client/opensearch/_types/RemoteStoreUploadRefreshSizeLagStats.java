@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,21 +145,26 @@ public class RemoteStoreUploadRefreshSizeLagStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_BYTES = JsonpKey.of("max_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_BYTES = JsonpKey.of("total_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
-        generator.writeKey("max_bytes");
+        JsonpUtils.writeKey(generator, KEY_MAX_BYTES);
         generator.write(this.maxBytes);
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
-        generator.writeKey("total_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_BYTES);
         generator.write(this.totalBytes);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,32 +179,40 @@ public class RemoteStoreUploadStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_REFRESH_TIME_LAG = JsonpKey.of("max_refresh_time_lag");
+    private static final JsonpKey KEY_MAX_REFRESH_TIME_LAG_IN_MILLIS = JsonpKey.of("max_refresh_time_lag_in_millis");
+    private static final JsonpKey KEY_PRESSURE = JsonpKey.of("pressure");
+    private static final JsonpKey KEY_REFRESH_SIZE_LAG = JsonpKey.of("refresh_size_lag");
+    private static final JsonpKey KEY_TOTAL_TIME_SPENT = JsonpKey.of("total_time_spent");
+    private static final JsonpKey KEY_TOTAL_TIME_SPENT_IN_MILLIS = JsonpKey.of("total_time_spent_in_millis");
+    private static final JsonpKey KEY_TOTAL_UPLOAD_SIZE = JsonpKey.of("total_upload_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxRefreshTimeLag != null) {
-            generator.writeKey("max_refresh_time_lag");
+            JsonpUtils.writeKey(generator, KEY_MAX_REFRESH_TIME_LAG);
             this.maxRefreshTimeLag.serialize(generator, mapper);
         }
 
-        generator.writeKey("max_refresh_time_lag_in_millis");
+        JsonpUtils.writeKey(generator, KEY_MAX_REFRESH_TIME_LAG_IN_MILLIS);
         generator.write(this.maxRefreshTimeLagInMillis);
 
         if (this.pressure != null) {
-            generator.writeKey("pressure");
+            JsonpUtils.writeKey(generator, KEY_PRESSURE);
             this.pressure.serialize(generator, mapper);
         }
 
-        generator.writeKey("refresh_size_lag");
+        JsonpUtils.writeKey(generator, KEY_REFRESH_SIZE_LAG);
         this.refreshSizeLag.serialize(generator, mapper);
 
         if (this.totalTimeSpent != null) {
-            generator.writeKey("total_time_spent");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_SPENT);
             this.totalTimeSpent.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_spent_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_SPENT_IN_MILLIS);
         generator.write(this.totalTimeSpentInMillis);
 
-        generator.writeKey("total_upload_size");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_UPLOAD_SIZE);
         this.totalUploadSize.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,24 +143,29 @@ public class RequestStats implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TIME_IN_MILLIS = JsonpKey.of("time_in_millis");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.current != null) {
-            generator.writeKey("current");
+            JsonpUtils.writeKey(generator, KEY_CURRENT);
             generator.write(this.current);
         }
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
         if (this.timeInMillis != null) {
-            generator.writeKey("time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_MILLIS);
             generator.write(this.timeInMillis);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -100,11 +102,14 @@ public class ResourceStat implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU_TIME_IN_NANOS = JsonpKey.of("cpu_time_in_nanos");
+    private static final JsonpKey KEY_MEMORY_IN_BYTES = JsonpKey.of("memory_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cpu_time_in_nanos");
+        JsonpUtils.writeKey(generator, KEY_CPU_TIME_IN_NANOS);
         generator.write(this.cpuTimeInNanos);
 
-        generator.writeKey("memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MEMORY_IN_BYTES);
         generator.write(this.memoryInBytes);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,20 +142,26 @@ public class ResourceStats implements PlainJsonSerializable, ToCopyableBuilder<R
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVERAGE = JsonpKey.of("average");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+    private static final JsonpKey KEY_THREAD_INFO = JsonpKey.of("thread_info");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("average");
+        JsonpUtils.writeKey(generator, KEY_AVERAGE);
         this.average.serialize(generator, mapper);
 
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         this.max.serialize(generator, mapper);
 
-        generator.writeKey("min");
+        JsonpUtils.writeKey(generator, KEY_MIN);
         this.min.serialize(generator, mapper);
 
-        generator.writeKey("thread_info");
+        JsonpUtils.writeKey(generator, KEY_THREAD_INFO);
         this.threadInfo.serialize(generator, mapper);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         this.total.serialize(generator, mapper);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,11 +108,14 @@ public class Retries implements PlainJsonSerializable, ToCopyableBuilder<Retries
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BULK = JsonpKey.of("bulk");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bulk");
+        JsonpUtils.writeKey(generator, KEY_BULK);
         generator.write(this.bulk);
 
-        generator.writeKey("search");
+        JsonpUtils.writeKey(generator, KEY_SEARCH);
         generator.write(this.search);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -86,9 +88,11 @@ public abstract class ScriptBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -112,13 +114,16 @@ public class ScriptField implements PlainJsonSerializable, ToCopyableBuilder<Scr
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignore_failure");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignore_failure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
-        generator.writeKey("script");
+        JsonpUtils.writeKey(generator, KEY_SCRIPT);
         this.script.serialize(generator, mapper);
     }
 
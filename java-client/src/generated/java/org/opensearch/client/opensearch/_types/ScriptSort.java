@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -159,27 +161,33 @@ public class ScriptSort implements SortOptionsVariant, PlainJsonSerializable, To
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_NESTED = JsonpKey.of("nested");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
 
         if (this.nested != null) {
-            generator.writeKey("nested");
+            JsonpUtils.writeKey(generator, KEY_NESTED);
             this.nested.serialize(generator, mapper);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
 
-        generator.writeKey("script");
+        JsonpUtils.writeKey(generator, KEY_SCRIPT);
         this.script.serialize(generator, mapper);
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -489,48 +491,78 @@ public class SearchStats implements PlainJsonSerializable, ToCopyableBuilder<Sea
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONCURRENT_AVG_SLICE_COUNT = JsonpKey.of("concurrent_avg_slice_count");
+    private static final JsonpKey KEY_CONCURRENT_QUERY_CURRENT = JsonpKey.of("concurrent_query_current");
+    private static final JsonpKey KEY_CONCURRENT_QUERY_TIME = JsonpKey.of("concurrent_query_time");
+    private static final JsonpKey KEY_CONCURRENT_QUERY_TIME_IN_MILLIS = JsonpKey.of("concurrent_query_time_in_millis");
+    private static final JsonpKey KEY_CONCURRENT_QUERY_TOTAL = JsonpKey.of("concurrent_query_total");
+    private static final JsonpKey KEY_FETCH_CURRENT = JsonpKey.of("fetch_current");
+    private static final JsonpKey KEY_FETCH_TIME = JsonpKey.of("fetch_time");
+    private static final JsonpKey KEY_FETCH_TIME_IN_MILLIS = JsonpKey.of("fetch_time_in_millis");
+    private static final JsonpKey KEY_FETCH_TOTAL = JsonpKey.of("fetch_total");
+    private static final JsonpKey KEY_GROUPS = JsonpKey.of("groups");
+    private static final JsonpKey KEY_OPEN_CONTEXTS = JsonpKey.of("open_contexts");
+    private static final JsonpKey KEY_POINT_IN_TIME_CURRENT = JsonpKey.of("point_in_time_current");
+    private static final JsonpKey KEY_POINT_IN_TIME_TIME = JsonpKey.of("point_in_time_time");
+    private static final JsonpKey KEY_POINT_IN_TIME_TIME_IN_MILLIS = JsonpKey.of("point_in_time_time_in_millis");
+    private static final JsonpKey KEY_POINT_IN_TIME_TOTAL = JsonpKey.of("point_in_time_total");
+    private static final JsonpKey KEY_QUERY_CURRENT = JsonpKey.of("query_current");
+    private static final JsonpKey KEY_QUERY_TIME = JsonpKey.of("query_time");
+    private static final JsonpKey KEY_QUERY_TIME_IN_MILLIS = JsonpKey.of("query_time_in_millis");
+    private static final JsonpKey KEY_QUERY_TOTAL = JsonpKey.of("query_total");
+    private static final JsonpKey KEY_REQUEST = JsonpKey.of("request");
+    private static final JsonpKey KEY_SCROLL_CURRENT = JsonpKey.of("scroll_current");
+    private static final JsonpKey KEY_SCROLL_TIME = JsonpKey.of("scroll_time");
+    private static final JsonpKey KEY_SCROLL_TIME_IN_MILLIS = JsonpKey.of("scroll_time_in_millis");
+    private static final JsonpKey KEY_SCROLL_TOTAL = JsonpKey.of("scroll_total");
+    private static final JsonpKey KEY_SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = JsonpKey.of("search_idle_reactivate_count_total");
+    private static final JsonpKey KEY_SUGGEST_CURRENT = JsonpKey.of("suggest_current");
+    private static final JsonpKey KEY_SUGGEST_TIME = JsonpKey.of("suggest_time");
+    private static final JsonpKey KEY_SUGGEST_TIME_IN_MILLIS = JsonpKey.of("suggest_time_in_millis");
+    private static final JsonpKey KEY_SUGGEST_TOTAL = JsonpKey.of("suggest_total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.concurrentAvgSliceCount != null) {
-            generator.writeKey("concurrent_avg_slice_count");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_AVG_SLICE_COUNT);
             generator.write(this.concurrentAvgSliceCount);
         }
 
         if (this.concurrentQueryCurrent != null) {
-            generator.writeKey("concurrent_query_current");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_QUERY_CURRENT);
             generator.write(this.concurrentQueryCurrent);
         }
 
         if (this.concurrentQueryTime != null) {
-            generator.writeKey("concurrent_query_time");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_QUERY_TIME);
             this.concurrentQueryTime.serialize(generator, mapper);
         }
 
         if (this.concurrentQueryTimeInMillis != null) {
-            generator.writeKey("concurrent_query_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_QUERY_TIME_IN_MILLIS);
             generator.write(this.concurrentQueryTimeInMillis);
         }
 
         if (this.concurrentQueryTotal != null) {
-            generator.writeKey("concurrent_query_total");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_QUERY_TOTAL);
             generator.write(this.concurrentQueryTotal);
         }
 
-        generator.writeKey("fetch_current");
+        JsonpUtils.writeKey(generator, KEY_FETCH_CURRENT);
         generator.write(this.fetchCurrent);
 
         if (this.fetchTime != null) {
-            generator.writeKey("fetch_time");
+            JsonpUtils.writeKey(generator, KEY_FETCH_TIME);
             this.fetchTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("fetch_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_FETCH_TIME_IN_MILLIS);
         generator.write(this.fetchTimeInMillis);
 
-        generator.writeKey("fetch_total");
+        JsonpUtils.writeKey(generator, KEY_FETCH_TOTAL);
         generator.write(this.fetchTotal);
 
         if (ApiTypeHelper.isDefined(this.groups)) {
-            generator.writeKey("groups");
+            JsonpUtils.writeKey(generator, KEY_GROUPS);
             generator.writeStartObject();
             for (Map.Entry<String, SearchStats> item0 : this.groups.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -540,46 +572,46 @@ public class SearchStats implements PlainJsonSerializable, ToCopyableBuilder<Sea
         }
 
         if (this.openContexts != null) {
-            generator.writeKey("open_contexts");
+            JsonpUtils.writeKey(generator, KEY_OPEN_CONTEXTS);
             generator.write(this.openContexts);
         }
 
         if (this.pointInTimeCurrent != null) {
-            generator.writeKey("point_in_time_current");
+            JsonpUtils.writeKey(generator, KEY_POINT_IN_TIME_CURRENT);
             generator.write(this.pointInTimeCurrent);
         }
 
         if (this.pointInTimeTime != null) {
-            generator.writeKey("point_in_time_time");
+            JsonpUtils.writeKey(generator, KEY_POINT_IN_TIME_TIME);
             this.pointInTimeTime.serialize(generator, mapper);
         }
 
         if (this.pointInTimeTimeInMillis != null) {
-            generator.writeKey("point_in_time_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_POINT_IN_TIME_TIME_IN_MILLIS);
             generator.write(this.pointInTimeTimeInMillis);
         }
 
         if (this.pointInTimeTotal != null) {
-            generator.writeKey("point_in_time_total");
+            JsonpUtils.writeKey(generator, KEY_POINT_IN_TIME_TOTAL);
             generator.write(this.pointInTimeTotal);
         }
 
-        generator.writeKey("query_current");
+        JsonpUtils.writeKey(generator, KEY_QUERY_CURRENT);
         generator.write(this.queryCurrent);
 
         if (this.queryTime != null) {
-            generator.writeKey("query_time");
+            JsonpUtils.writeKey(generator, KEY_QUERY_TIME);
             this.queryTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("query_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_QUERY_TIME_IN_MILLIS);
         generator.write(this.queryTimeInMillis);
 
-        generator.writeKey("query_total");
+        JsonpUtils.writeKey(generator, KEY_QUERY_TOTAL);
         generator.write(this.queryTotal);
 
         if (ApiTypeHelper.isDefined(this.request)) {
-            generator.writeKey("request");
+            JsonpUtils.writeKey(generator, KEY_REQUEST);
             generator.writeStartObject();
             for (Map.Entry<String, RequestStats> item0 : this.request.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -588,37 +620,37 @@ public class SearchStats implements PlainJsonSerializable, ToCopyableBuilder<Sea
             generator.writeEnd();
         }
 
-        generator.writeKey("scroll_current");
+        JsonpUtils.writeKey(generator, KEY_SCROLL_CURRENT);
         generator.write(this.scrollCurrent);
 
         if (this.scrollTime != null) {
-            generator.writeKey("scroll_time");
+            JsonpUtils.writeKey(generator, KEY_SCROLL_TIME);
             this.scrollTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("scroll_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_SCROLL_TIME_IN_MILLIS);
         generator.write(this.scrollTimeInMillis);
 
-        generator.writeKey("scroll_total");
+        JsonpUtils.writeKey(generator, KEY_SCROLL_TOTAL);
         generator.write(this.scrollTotal);
 
         if (this.searchIdleReactivateCountTotal != null) {
-            generator.writeKey("search_idle_reactivate_count_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_IDLE_REACTIVATE_COUNT_TOTAL);
             generator.write(this.searchIdleReactivateCountTotal);
         }
 
-        generator.writeKey("suggest_current");
+        JsonpUtils.writeKey(generator, KEY_SUGGEST_CURRENT);
         generator.write(this.suggestCurrent);
 
         if (this.suggestTime != null) {
-            generator.writeKey("suggest_time");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_TIME);
             this.suggestTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("suggest_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_SUGGEST_TIME_IN_MILLIS);
         generator.write(this.suggestTimeInMillis);
 
-        generator.writeKey("suggest_total");
+        JsonpUtils.writeKey(generator, KEY_SUGGEST_TOTAL);
         generator.write(this.suggestTotal);
     }
 
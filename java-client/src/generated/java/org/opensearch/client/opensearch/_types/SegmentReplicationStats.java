@@ -43,7 +43,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,14 +119,18 @@ public class SegmentReplicationStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_BYTES_BEHIND = JsonpKey.of("max_bytes_behind");
+    private static final JsonpKey KEY_MAX_REPLICATION_LAG = JsonpKey.of("max_replication_lag");
+    private static final JsonpKey KEY_TOTAL_BYTES_BEHIND = JsonpKey.of("total_bytes_behind");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("max_bytes_behind");
+        JsonpUtils.writeKey(generator, KEY_MAX_BYTES_BEHIND);
         this.maxBytesBehind.serialize(generator, mapper);
 
-        generator.writeKey("max_replication_lag");
+        JsonpUtils.writeKey(generator, KEY_MAX_REPLICATION_LAG);
         this.maxReplicationLag.serialize(generator, mapper);
 
-        generator.writeKey("total_bytes_behind");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_BYTES_BEHIND);
         this.totalBytesBehind.serialize(generator, mapper);
     }
 
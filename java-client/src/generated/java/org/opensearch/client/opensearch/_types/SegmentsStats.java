@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -441,19 +443,46 @@ public class SegmentsStats implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DOC_VALUES_MEMORY = JsonpKey.of("doc_values_memory");
+    private static final JsonpKey KEY_DOC_VALUES_MEMORY_IN_BYTES = JsonpKey.of("doc_values_memory_in_bytes");
+    private static final JsonpKey KEY_FILE_SIZES = JsonpKey.of("file_sizes");
+    private static final JsonpKey KEY_FIXED_BIT_SET = JsonpKey.of("fixed_bit_set");
+    private static final JsonpKey KEY_FIXED_BIT_SET_MEMORY_IN_BYTES = JsonpKey.of("fixed_bit_set_memory_in_bytes");
+    private static final JsonpKey KEY_INDEX_WRITER_MAX_MEMORY_IN_BYTES = JsonpKey.of("index_writer_max_memory_in_bytes");
+    private static final JsonpKey KEY_INDEX_WRITER_MEMORY = JsonpKey.of("index_writer_memory");
+    private static final JsonpKey KEY_INDEX_WRITER_MEMORY_IN_BYTES = JsonpKey.of("index_writer_memory_in_bytes");
+    private static final JsonpKey KEY_MAX_UNSAFE_AUTO_ID_TIMESTAMP = JsonpKey.of("max_unsafe_auto_id_timestamp");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_MEMORY_IN_BYTES = JsonpKey.of("memory_in_bytes");
+    private static final JsonpKey KEY_NORMS_MEMORY = JsonpKey.of("norms_memory");
+    private static final JsonpKey KEY_NORMS_MEMORY_IN_BYTES = JsonpKey.of("norms_memory_in_bytes");
+    private static final JsonpKey KEY_POINTS_MEMORY = JsonpKey.of("points_memory");
+    private static final JsonpKey KEY_POINTS_MEMORY_IN_BYTES = JsonpKey.of("points_memory_in_bytes");
+    private static final JsonpKey KEY_REMOTE_STORE = JsonpKey.of("remote_store");
+    private static final JsonpKey KEY_SEGMENT_REPLICATION = JsonpKey.of("segment_replication");
+    private static final JsonpKey KEY_STORED_FIELDS_MEMORY = JsonpKey.of("stored_fields_memory");
+    private static final JsonpKey KEY_STORED_FIELDS_MEMORY_IN_BYTES = JsonpKey.of("stored_fields_memory_in_bytes");
+    private static final JsonpKey KEY_TERM_VECTORS_MEMORY = JsonpKey.of("term_vectors_memory");
+    private static final JsonpKey KEY_TERM_VECTORS_MEMORY_IN_BYTES = JsonpKey.of("term_vectors_memory_in_bytes");
+    private static final JsonpKey KEY_TERMS_MEMORY = JsonpKey.of("terms_memory");
+    private static final JsonpKey KEY_TERMS_MEMORY_IN_BYTES = JsonpKey.of("terms_memory_in_bytes");
+    private static final JsonpKey KEY_VERSION_MAP_MEMORY = JsonpKey.of("version_map_memory");
+    private static final JsonpKey KEY_VERSION_MAP_MEMORY_IN_BYTES = JsonpKey.of("version_map_memory_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
         if (this.docValuesMemory != null) {
-            generator.writeKey("doc_values_memory");
+            JsonpUtils.writeKey(generator, KEY_DOC_VALUES_MEMORY);
             generator.write(this.docValuesMemory);
         }
 
-        generator.writeKey("doc_values_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_DOC_VALUES_MEMORY_IN_BYTES);
         generator.write(this.docValuesMemoryInBytes);
 
-        generator.writeKey("file_sizes");
+        JsonpUtils.writeKey(generator, KEY_FILE_SIZES);
         generator.writeStartObject();
         for (Map.Entry<String, ShardFileSizeInfo> item0 : this.fileSizes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -462,93 +491,93 @@ public class SegmentsStats implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
 
         if (this.fixedBitSet != null) {
-            generator.writeKey("fixed_bit_set");
+            JsonpUtils.writeKey(generator, KEY_FIXED_BIT_SET);
             generator.write(this.fixedBitSet);
         }
 
-        generator.writeKey("fixed_bit_set_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_FIXED_BIT_SET_MEMORY_IN_BYTES);
         generator.write(this.fixedBitSetMemoryInBytes);
 
         if (this.indexWriterMaxMemoryInBytes != null) {
-            generator.writeKey("index_writer_max_memory_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_INDEX_WRITER_MAX_MEMORY_IN_BYTES);
             generator.write(this.indexWriterMaxMemoryInBytes);
         }
 
         if (this.indexWriterMemory != null) {
-            generator.writeKey("index_writer_memory");
+            JsonpUtils.writeKey(generator, KEY_INDEX_WRITER_MEMORY);
             generator.write(this.indexWriterMemory);
         }
 
-        generator.writeKey("index_writer_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_INDEX_WRITER_MEMORY_IN_BYTES);
         generator.write(this.indexWriterMemoryInBytes);
 
-        generator.writeKey("max_unsafe_auto_id_timestamp");
+        JsonpUtils.writeKey(generator, KEY_MAX_UNSAFE_AUTO_ID_TIMESTAMP);
         generator.write(this.maxUnsafeAutoIdTimestamp);
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             generator.write(this.memory);
         }
 
-        generator.writeKey("memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MEMORY_IN_BYTES);
         generator.write(this.memoryInBytes);
 
         if (this.normsMemory != null) {
-            generator.writeKey("norms_memory");
+            JsonpUtils.writeKey(generator, KEY_NORMS_MEMORY);
             generator.write(this.normsMemory);
         }
 
-        generator.writeKey("norms_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_NORMS_MEMORY_IN_BYTES);
         generator.write(this.normsMemoryInBytes);
 
         if (this.pointsMemory != null) {
-            generator.writeKey("points_memory");
+            JsonpUtils.writeKey(generator, KEY_POINTS_MEMORY);
             generator.write(this.pointsMemory);
         }
 
-        generator.writeKey("points_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_POINTS_MEMORY_IN_BYTES);
         generator.write(this.pointsMemoryInBytes);
 
         if (this.remoteStore != null) {
-            generator.writeKey("remote_store");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_STORE);
             this.remoteStore.serialize(generator, mapper);
         }
 
         if (this.segmentReplication != null) {
-            generator.writeKey("segment_replication");
+            JsonpUtils.writeKey(generator, KEY_SEGMENT_REPLICATION);
             this.segmentReplication.serialize(generator, mapper);
         }
 
         if (this.storedFieldsMemory != null) {
-            generator.writeKey("stored_fields_memory");
+            JsonpUtils.writeKey(generator, KEY_STORED_FIELDS_MEMORY);
             generator.write(this.storedFieldsMemory);
         }
 
-        generator.writeKey("stored_fields_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_STORED_FIELDS_MEMORY_IN_BYTES);
         generator.write(this.storedFieldsMemoryInBytes);
 
         if (this.termVectorsMemory != null) {
-            generator.writeKey("term_vectors_memory");
+            JsonpUtils.writeKey(generator, KEY_TERM_VECTORS_MEMORY);
             generator.write(this.termVectorsMemory);
         }
 
-        generator.writeKey("term_vectors_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TERM_VECTORS_MEMORY_IN_BYTES);
         generator.write(this.termVectorsMemoryInBytes);
 
         if (this.termsMemory != null) {
-            generator.writeKey("terms_memory");
+            JsonpUtils.writeKey(generator, KEY_TERMS_MEMORY);
             generator.write(this.termsMemory);
         }
 
-        generator.writeKey("terms_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TERMS_MEMORY_IN_BYTES);
         generator.write(this.termsMemoryInBytes);
 
         if (this.versionMapMemory != null) {
-            generator.writeKey("version_map_memory");
+            JsonpUtils.writeKey(generator, KEY_VERSION_MAP_MEMORY);
             generator.write(this.versionMapMemory);
         }
 
-        generator.writeKey("version_map_memory_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_VERSION_MAP_MEMORY_IN_BYTES);
         generator.write(this.versionMapMemoryInBytes);
     }
 
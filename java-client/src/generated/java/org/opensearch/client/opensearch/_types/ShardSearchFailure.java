@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,21 +139,26 @@ public class ShardSearchFailure implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
-        generator.writeKey("reason");
+        JsonpUtils.writeKey(generator, KEY_REASON);
         this.reason.serialize(generator, mapper);
 
-        generator.writeKey("shard");
+        JsonpUtils.writeKey(generator, KEY_SHARD);
         generator.write(this.shard);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,12 +136,18 @@ public class ShardStatistics implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_FAILURES = JsonpKey.of("failures");
+    private static final JsonpKey KEY_SKIPPED = JsonpKey.of("skipped");
+    private static final JsonpKey KEY_SUCCESSFUL = JsonpKey.of("successful");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("failed");
+        JsonpUtils.writeKey(generator, KEY_FAILED);
         generator.write(this.failed);
 
         if (ApiTypeHelper.isDefined(this.failures)) {
-            generator.writeKey("failures");
+            JsonpUtils.writeKey(generator, KEY_FAILURES);
             generator.writeStartArray();
             for (ShardSearchFailure item0 : this.failures) {
                 item0.serialize(generator, mapper);
@@ -148,14 +156,14 @@ public class ShardStatistics implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.skipped != null) {
-            generator.writeKey("skipped");
+            JsonpUtils.writeKey(generator, KEY_SKIPPED);
             generator.write(this.skipped);
         }
 
-        generator.writeKey("successful");
+        JsonpUtils.writeKey(generator, KEY_SUCCESSFUL);
         generator.write(this.successful);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -82,8 +84,10 @@ public abstract class ShardsOperationResponseBase implements PlainJsonSerializab
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,16 +125,20 @@ public class SlicedScroll implements PlainJsonSerializable, ToCopyableBuilder<Sl
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         generator.write(this.max);
     }
 
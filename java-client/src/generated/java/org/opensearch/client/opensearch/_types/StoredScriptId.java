@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -78,9 +80,11 @@ public class StoredScriptId extends ScriptBase implements ToCopyableBuilder<Stor
         return this.id;
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
     }
 
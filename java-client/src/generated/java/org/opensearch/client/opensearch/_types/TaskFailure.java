@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -132,17 +134,22 @@ public class TaskFailure implements PlainJsonSerializable, ToCopyableBuilder<Tas
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TASK_ID = JsonpKey.of("task_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("node_id");
+        JsonpUtils.writeKey(generator, KEY_NODE_ID);
         generator.write(this.nodeId);
 
-        generator.writeKey("reason");
+        JsonpUtils.writeKey(generator, KEY_REASON);
         this.reason.serialize(generator, mapper);
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         generator.write(this.status);
 
-        generator.writeKey("task_id");
+        JsonpUtils.writeKey(generator, KEY_TASK_ID);
         generator.write(this.taskId);
     }
 
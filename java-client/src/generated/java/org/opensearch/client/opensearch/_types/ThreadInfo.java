@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,11 +112,14 @@ public class ThreadInfo implements PlainJsonSerializable, ToCopyableBuilder<Thre
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_THREADS = JsonpKey.of("active_threads");
+    private static final JsonpKey KEY_THREAD_EXECUTIONS = JsonpKey.of("thread_executions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("active_threads");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_THREADS);
         generator.write(this.activeThreads.doubleValue());
 
-        generator.writeKey("thread_executions");
+        JsonpUtils.writeKey(generator, KEY_THREAD_EXECUTIONS);
         generator.write(this.threadExecutions.doubleValue());
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,11 +117,14 @@ public class TopLeftBottomRightGeoBounds
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOTTOM_RIGHT = JsonpKey.of("bottom_right");
+    private static final JsonpKey KEY_TOP_LEFT = JsonpKey.of("top_left");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bottom_right");
+        JsonpUtils.writeKey(generator, KEY_BOTTOM_RIGHT);
         this.bottomRight.serialize(generator, mapper);
 
-        generator.writeKey("top_left");
+        JsonpUtils.writeKey(generator, KEY_TOP_LEFT);
         this.topLeft.serialize(generator, mapper);
     }
 
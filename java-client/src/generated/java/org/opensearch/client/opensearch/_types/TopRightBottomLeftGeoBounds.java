@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,11 +117,14 @@ public class TopRightBottomLeftGeoBounds
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOTTOM_LEFT = JsonpKey.of("bottom_left");
+    private static final JsonpKey KEY_TOP_RIGHT = JsonpKey.of("top_right");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bottom_left");
+        JsonpUtils.writeKey(generator, KEY_BOTTOM_LEFT);
         this.bottomLeft.serialize(generator, mapper);
 
-        generator.writeKey("top_right");
+        JsonpUtils.writeKey(generator, KEY_TOP_RIGHT);
         this.topRight.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -189,35 +191,44 @@ public class TranslogStats implements PlainJsonSerializable, ToCopyableBuilder<T
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EARLIEST_LAST_MODIFIED_AGE = JsonpKey.of("earliest_last_modified_age");
+    private static final JsonpKey KEY_OPERATIONS = JsonpKey.of("operations");
+    private static final JsonpKey KEY_REMOTE_STORE = JsonpKey.of("remote_store");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+    private static final JsonpKey KEY_UNCOMMITTED_OPERATIONS = JsonpKey.of("uncommitted_operations");
+    private static final JsonpKey KEY_UNCOMMITTED_SIZE = JsonpKey.of("uncommitted_size");
+    private static final JsonpKey KEY_UNCOMMITTED_SIZE_IN_BYTES = JsonpKey.of("uncommitted_size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("earliest_last_modified_age");
+        JsonpUtils.writeKey(generator, KEY_EARLIEST_LAST_MODIFIED_AGE);
         generator.write(this.earliestLastModifiedAge);
 
-        generator.writeKey("operations");
+        JsonpUtils.writeKey(generator, KEY_OPERATIONS);
         generator.write(this.operations);
 
         if (this.remoteStore != null) {
-            generator.writeKey("remote_store");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_STORE);
             this.remoteStore.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
         generator.write(this.sizeInBytes);
 
-        generator.writeKey("uncommitted_operations");
+        JsonpUtils.writeKey(generator, KEY_UNCOMMITTED_OPERATIONS);
         generator.write(this.uncommittedOperations);
 
         if (this.uncommittedSize != null) {
-            generator.writeKey("uncommitted_size");
+            JsonpUtils.writeKey(generator, KEY_UNCOMMITTED_SIZE);
             generator.write(this.uncommittedSize);
         }
 
-        generator.writeKey("uncommitted_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_UNCOMMITTED_SIZE_IN_BYTES);
         generator.write(this.uncommittedSizeInBytes);
     }
 
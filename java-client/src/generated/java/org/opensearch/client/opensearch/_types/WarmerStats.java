@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,19 +138,24 @@ public class WarmerStats implements PlainJsonSerializable, ToCopyableBuilder<War
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current");
+        JsonpUtils.writeKey(generator, KEY_CURRENT);
         generator.write(this.current);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
     }
 
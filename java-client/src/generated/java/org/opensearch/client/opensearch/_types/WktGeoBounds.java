@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,8 +97,10 @@ public class WktGeoBounds implements PlainJsonSerializable, ToCopyableBuilder<Wk
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_WKT = JsonpKey.of("wkt");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("wkt");
+        JsonpUtils.writeKey(generator, KEY_WKT);
         generator.write(this.wkt);
     }
 
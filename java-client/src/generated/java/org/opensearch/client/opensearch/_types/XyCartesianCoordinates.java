@@ -18,7 +18,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -85,11 +87,14 @@ public class XyCartesianCoordinates
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_X = JsonpKey.of("x");
+    private static final JsonpKey KEY_Y = JsonpKey.of("y");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("x");
+        JsonpUtils.writeKey(generator, KEY_X);
         generator.write(this.x);
 
-        generator.writeKey("y");
+        JsonpUtils.writeKey(generator, KEY_Y);
         generator.write(this.y);
     }
 
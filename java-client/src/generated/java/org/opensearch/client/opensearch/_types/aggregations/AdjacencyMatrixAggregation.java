@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
@@ -98,10 +100,12 @@ public class AdjacencyMatrixAggregation extends BucketAggregationBase
         return this.filters;
     }
 
+    private static final JsonpKey KEY_FILTERS = JsonpKey.of("filters");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.filters)) {
-            generator.writeKey("filters");
+            JsonpUtils.writeKey(generator, KEY_FILTERS);
             generator.writeStartObject();
             for (Map.Entry<String, Query> item0 : this.filters.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -80,9 +82,11 @@ public class AdjacencyMatrixBucket extends MultiBucketBase
         return this.key;
     }
 
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.write(this.key);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -82,9 +84,11 @@ public abstract class AggregateBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -47,8 +47,10 @@ import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonEnum;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -135,9 +137,11 @@ public class Aggregation implements TaggedUnion<Aggregation.Kind, AggregationVar
         WeightedAvg("weighted_avg");
 
         private final String jsonValue;
+        private final JsonpKey jsonKey;
 
         Kind(String jsonValue) {
             this.jsonValue = jsonValue;
+            this.jsonKey = JsonpKey.of(jsonValue);
         }
 
         @Override
@@ -1226,11 +1230,13 @@ public class Aggregation implements TaggedUnion<Aggregation.Kind, AggregationVar
         return TaggedUnionUtils.get(this, Kind.WeightedAvg);
     }
 
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+
     @Override
     public void serialize(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject();
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -1238,7 +1244,7 @@ public class Aggregation implements TaggedUnion<Aggregation.Kind, AggregationVar
             }
             generator.writeEnd();
         }
-        generator.writeKey(_kind.jsonValue());
+        JsonpUtils.writeKey(generator, _kind.jsonKey);
         if (_value instanceof JsonpSerializable) {
             ((JsonpSerializable) _value).serialize(generator, mapper);
         }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -94,9 +96,12 @@ public abstract class AggregationBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -106,7 +111,7 @@ public abstract class AggregationBase implements PlainJsonSerializable {
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -124,19 +126,23 @@ public class AggregationRange implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_TO = JsonpKey.of("to");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             this.from.serialize(generator, mapper);
         }
 
         if (this.key != null) {
-            generator.writeKey("key");
+            JsonpUtils.writeKey(generator, KEY_KEY);
             generator.write(this.key);
         }
 
         if (this.to != null) {
-            generator.writeKey("to");
+            JsonpUtils.writeKey(generator, KEY_TO);
             this.to.serialize(generator, mapper);
         }
     }
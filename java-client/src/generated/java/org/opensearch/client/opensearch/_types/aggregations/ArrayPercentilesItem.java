@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,17 +117,21 @@ public class ArrayPercentilesItem implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+    private static final JsonpKey KEY_VALUE_AS_STRING = JsonpKey.of("value_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.write(this.key);
 
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             generator.write(this.value);
         }
 
         if (this.valueAsString != null) {
-            generator.writeKey("value_as_string");
+            JsonpUtils.writeKey(generator, KEY_VALUE_AS_STRING);
             generator.write(this.valueAsString);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Time;
@@ -92,9 +94,11 @@ public class AutoDateHistogramAggregate extends MultiBucketAggregateBase<DateHis
         return this.interval;
     }
 
+    private static final JsonpKey KEY_INTERVAL = JsonpKey.of("interval");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("interval");
+        JsonpUtils.writeKey(generator, KEY_INTERVAL);
         this.interval.serialize(generator, mapper);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -202,40 +204,50 @@ public class AutoDateHistogramAggregation extends BucketAggregationBase
         return this.timeZone;
     }
 
+    private static final JsonpKey KEY_BUCKETS = JsonpKey.of("buckets");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_MINIMUM_INTERVAL = JsonpKey.of("minimum_interval");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.buckets != null) {
-            generator.writeKey("buckets");
+            JsonpUtils.writeKey(generator, KEY_BUCKETS);
             generator.write(this.buckets);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.minimumInterval != null) {
-            generator.writeKey("minimum_interval");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_INTERVAL);
             this.minimumInterval.serialize(generator, mapper);
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             generator.write(this.missing);
         }
 
         if (this.offset != null) {
-            generator.writeKey("offset");
+            JsonpUtils.writeKey(generator, KEY_OFFSET);
             generator.write(this.offset);
         }
 
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -245,12 +257,12 @@ public class AutoDateHistogramAggregation extends BucketAggregationBase
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
     }
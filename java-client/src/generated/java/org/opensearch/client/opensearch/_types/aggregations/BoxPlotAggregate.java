@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -233,61 +235,76 @@ public class BoxPlotAggregate extends AggregateBase
         return this.upperAsString;
     }
 
+    private static final JsonpKey KEY_LOWER = JsonpKey.of("lower");
+    private static final JsonpKey KEY_LOWER_AS_STRING = JsonpKey.of("lower_as_string");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_AS_STRING = JsonpKey.of("max_as_string");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+    private static final JsonpKey KEY_MIN_AS_STRING = JsonpKey.of("min_as_string");
+    private static final JsonpKey KEY_Q1 = JsonpKey.of("q1");
+    private static final JsonpKey KEY_Q1_AS_STRING = JsonpKey.of("q1_as_string");
+    private static final JsonpKey KEY_Q2 = JsonpKey.of("q2");
+    private static final JsonpKey KEY_Q2_AS_STRING = JsonpKey.of("q2_as_string");
+    private static final JsonpKey KEY_Q3 = JsonpKey.of("q3");
+    private static final JsonpKey KEY_Q3_AS_STRING = JsonpKey.of("q3_as_string");
+    private static final JsonpKey KEY_UPPER = JsonpKey.of("upper");
+    private static final JsonpKey KEY_UPPER_AS_STRING = JsonpKey.of("upper_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("lower");
+        JsonpUtils.writeKey(generator, KEY_LOWER);
         generator.write(this.lower);
 
         if (this.lowerAsString != null) {
-            generator.writeKey("lower_as_string");
+            JsonpUtils.writeKey(generator, KEY_LOWER_AS_STRING);
             generator.write(this.lowerAsString);
         }
 
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         generator.write(this.max);
 
         if (this.maxAsString != null) {
-            generator.writeKey("max_as_string");
+            JsonpUtils.writeKey(generator, KEY_MAX_AS_STRING);
             generator.write(this.maxAsString);
         }
 
-        generator.writeKey("min");
+        JsonpUtils.writeKey(generator, KEY_MIN);
         generator.write(this.min);
 
         if (this.minAsString != null) {
-            generator.writeKey("min_as_string");
+            JsonpUtils.writeKey(generator, KEY_MIN_AS_STRING);
             generator.write(this.minAsString);
         }
 
-        generator.writeKey("q1");
+        JsonpUtils.writeKey(generator, KEY_Q1);
         generator.write(this.q1);
 
         if (this.q1AsString != null) {
-            generator.writeKey("q1_as_string");
+            JsonpUtils.writeKey(generator, KEY_Q1_AS_STRING);
             generator.write(this.q1AsString);
         }
 
-        generator.writeKey("q2");
+        JsonpUtils.writeKey(generator, KEY_Q2);
         generator.write(this.q2);
 
         if (this.q2AsString != null) {
-            generator.writeKey("q2_as_string");
+            JsonpUtils.writeKey(generator, KEY_Q2_AS_STRING);
             generator.write(this.q2AsString);
         }
 
-        generator.writeKey("q3");
+        JsonpUtils.writeKey(generator, KEY_Q3);
         generator.write(this.q3);
 
         if (this.q3AsString != null) {
-            generator.writeKey("q3_as_string");
+            JsonpUtils.writeKey(generator, KEY_Q3_AS_STRING);
             generator.write(this.q3AsString);
         }
 
-        generator.writeKey("upper");
+        JsonpUtils.writeKey(generator, KEY_UPPER);
         generator.write(this.upper);
 
         if (this.upperAsString != null) {
-            generator.writeKey("upper_as_string");
+            JsonpUtils.writeKey(generator, KEY_UPPER_AS_STRING);
             generator.write(this.upperAsString);
         }
     }
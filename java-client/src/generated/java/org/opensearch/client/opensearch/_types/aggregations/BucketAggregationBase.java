@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.ObjectBuilder;
@@ -90,10 +92,13 @@ public abstract class BucketAggregationBase extends AggregationBase {
         return this.aggs;
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_AGGS = JsonpKey.of("aggs");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Aggregation> item0 : this.aggregations.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -103,7 +108,7 @@ public abstract class BucketAggregationBase extends AggregationBase {
         }
 
         if (ApiTypeHelper.isDefined(this.aggs)) {
-            generator.writeKey("aggs");
+            JsonpUtils.writeKey(generator, KEY_AGGS);
             generator.writeStartObject();
             for (Map.Entry<String, Aggregation> item0 : this.aggs.entrySet()) {
                 generator.writeKey(item0.getKey());
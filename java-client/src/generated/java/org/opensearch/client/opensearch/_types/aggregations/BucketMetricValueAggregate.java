@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -92,9 +94,11 @@ public class BucketMetricValueAggregate extends SingleMetricAggregateBase
         return this.keys;
     }
 
+    private static final JsonpKey KEY_KEYS = JsonpKey.of("keys");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("keys");
+        JsonpUtils.writeKey(generator, KEY_KEYS);
         generator.writeStartArray();
         for (String item0 : this.keys) {
             generator.write(item0);
@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ObjectBuilder;
 
@@ -69,10 +71,12 @@ public abstract class BucketPathAggregation extends AggregationBase {
         return this.bucketsPath;
     }
 
+    private static final JsonpKey KEY_BUCKETS_PATH = JsonpKey.of("buckets_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.bucketsPath != null) {
-            generator.writeKey("buckets_path");
+            JsonpUtils.writeKey(generator, KEY_BUCKETS_PATH);
             this.bucketsPath.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -91,10 +93,12 @@ public class BucketSelectorAggregation extends PipelineAggregationBase
         return this.script;
     }
 
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.SortOptions;
@@ -135,25 +137,30 @@ public class BucketSortAggregation extends AggregationBase
         return this.sort;
     }
 
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_GAP_POLICY = JsonpKey.of("gap_policy");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.gapPolicy != null) {
-            generator.writeKey("gap_policy");
+            JsonpUtils.writeKey(generator, KEY_GAP_POLICY);
             this.gapPolicy.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (SortOptions item0 : this.sort) {
                 item0.serialize(generator, mapper);
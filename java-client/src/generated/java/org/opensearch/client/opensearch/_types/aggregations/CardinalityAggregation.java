@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -105,15 +107,18 @@ public class CardinalityAggregation extends MetricAggregationBase
         return this.precisionThreshold;
     }
 
+    private static final JsonpKey KEY_EXECUTION_HINT = JsonpKey.of("execution_hint");
+    private static final JsonpKey KEY_PRECISION_THRESHOLD = JsonpKey.of("precision_threshold");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.executionHint != null) {
-            generator.writeKey("execution_hint");
+            JsonpUtils.writeKey(generator, KEY_EXECUTION_HINT);
             this.executionHint.serialize(generator, mapper);
         }
 
         if (this.precisionThreshold != null) {
-            generator.writeKey("precision_threshold");
+            JsonpUtils.writeKey(generator, KEY_PRECISION_THRESHOLD);
             generator.write(this.precisionThreshold);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,10 +92,12 @@ public class ChildrenAggregation extends BucketAggregationBase
         return this.type;
     }
 
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -93,10 +95,12 @@ public class CompositeAggregate extends MultiBucketAggregateBase<CompositeBucket
         return this.afterKey;
     }
 
+    private static final JsonpKey KEY_AFTER_KEY = JsonpKey.of("after_key");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.afterKey)) {
-            generator.writeKey("after_key");
+            JsonpUtils.writeKey(generator, KEY_AFTER_KEY);
             generator.writeStartObject();
             for (Map.Entry<String, FieldValue> item0 : this.afterKey.entrySet()) {
                 generator.writeKey(item0.getKey());
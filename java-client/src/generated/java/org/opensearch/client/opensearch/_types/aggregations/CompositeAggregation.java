@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -124,10 +126,14 @@ public class CompositeAggregation extends BucketAggregationBase
         return this.sources;
     }
 
+    private static final JsonpKey KEY_AFTER = JsonpKey.of("after");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SOURCES = JsonpKey.of("sources");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.after)) {
-            generator.writeKey("after");
+            JsonpUtils.writeKey(generator, KEY_AFTER);
             generator.writeStartObject();
             for (Map.Entry<String, FieldValue> item0 : this.after.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -137,12 +143,12 @@ public class CompositeAggregation extends BucketAggregationBase
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (ApiTypeHelper.isDefined(this.sources)) {
-            generator.writeKey("sources");
+            JsonpUtils.writeKey(generator, KEY_SOURCES);
             generator.writeStartArray();
             for (Map<String, CompositeAggregationSource> item0 : this.sources) {
                 generator.writeStartObject();
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,24 +133,29 @@ public class CompositeAggregationSource
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATE_HISTOGRAM = JsonpKey.of("date_histogram");
+    private static final JsonpKey KEY_GEOTILE_GRID = JsonpKey.of("geotile_grid");
+    private static final JsonpKey KEY_HISTOGRAM = JsonpKey.of("histogram");
+    private static final JsonpKey KEY_TERMS = JsonpKey.of("terms");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.dateHistogram != null) {
-            generator.writeKey("date_histogram");
+            JsonpUtils.writeKey(generator, KEY_DATE_HISTOGRAM);
             this.dateHistogram.serialize(generator, mapper);
         }
 
         if (this.geotileGrid != null) {
-            generator.writeKey("geotile_grid");
+            JsonpUtils.writeKey(generator, KEY_GEOTILE_GRID);
             this.geotileGrid.serialize(generator, mapper);
         }
 
         if (this.histogram != null) {
-            generator.writeKey("histogram");
+            JsonpUtils.writeKey(generator, KEY_HISTOGRAM);
             this.histogram.serialize(generator, mapper);
         }
 
         if (this.terms != null) {
-            generator.writeKey("terms");
+            JsonpUtils.writeKey(generator, KEY_TERMS);
             this.terms.serialize(generator, mapper);
         }
     }
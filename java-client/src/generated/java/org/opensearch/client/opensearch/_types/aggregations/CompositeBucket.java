@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -80,9 +82,11 @@ public class CompositeBucket extends MultiBucketBase implements ToCopyableBuilde
         return this.key;
     }
 
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.writeStartObject();
         for (Map.Entry<String, FieldValue> item0 : this.key.entrySet()) {
             generator.writeKey(item0.getKey());
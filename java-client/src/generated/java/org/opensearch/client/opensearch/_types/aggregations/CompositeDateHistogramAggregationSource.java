@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Time;
@@ -132,30 +134,36 @@ public class CompositeDateHistogramAggregationSource extends CompositeValuesSour
         return this.timeZone;
     }
 
+    private static final JsonpKey KEY_CALENDAR_INTERVAL = JsonpKey.of("calendar_interval");
+    private static final JsonpKey KEY_FIXED_INTERVAL = JsonpKey.of("fixed_interval");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.calendarInterval != null) {
-            generator.writeKey("calendar_interval");
+            JsonpUtils.writeKey(generator, KEY_CALENDAR_INTERVAL);
             this.calendarInterval.serialize(generator, mapper);
         }
 
         if (this.fixedInterval != null) {
-            generator.writeKey("fixed_interval");
+            JsonpUtils.writeKey(generator, KEY_FIXED_INTERVAL);
             this.fixedInterval.serialize(generator, mapper);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.offset != null) {
-            generator.writeKey("offset");
+            JsonpUtils.writeKey(generator, KEY_OFFSET);
             this.offset.serialize(generator, mapper);
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.GeoBounds;
@@ -96,15 +98,18 @@ public class CompositeGeoTileGridAggregationSource extends CompositeValuesSource
         return this.precision;
     }
 
+    private static final JsonpKey KEY_BOUNDS = JsonpKey.of("bounds");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.bounds != null) {
-            generator.writeKey("bounds");
+            JsonpUtils.writeKey(generator, KEY_BOUNDS);
             this.bounds.serialize(generator, mapper);
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             generator.write(this.precision);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.Script;
@@ -143,34 +145,41 @@ public abstract class CompositeValuesSource implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MISSING_BUCKET = JsonpKey.of("missing_bucket");
+    private static final JsonpKey KEY_MISSING_ORDER = JsonpKey.of("missing_order");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_VALUE_TYPE = JsonpKey.of("value_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.missingBucket != null) {
-            generator.writeKey("missing_bucket");
+            JsonpUtils.writeKey(generator, KEY_MISSING_BUCKET);
             generator.write(this.missingBucket);
         }
 
         if (this.missingOrder != null) {
-            generator.writeKey("missing_order");
+            JsonpUtils.writeKey(generator, KEY_MISSING_ORDER);
             this.missingOrder.serialize(generator, mapper);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.valueType != null) {
-            generator.writeKey("value_type");
+            JsonpUtils.writeKey(generator, KEY_VALUE_TYPE);
             this.valueType.serialize(generator, mapper);
         }
     }
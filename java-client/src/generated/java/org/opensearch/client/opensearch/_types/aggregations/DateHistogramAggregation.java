@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -274,70 +276,86 @@ public class DateHistogramAggregation extends BucketAggregationBase
         return this.timeZone;
     }
 
+    private static final JsonpKey KEY_CALENDAR_INTERVAL = JsonpKey.of("calendar_interval");
+    private static final JsonpKey KEY_EXTENDED_BOUNDS = JsonpKey.of("extended_bounds");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FIXED_INTERVAL = JsonpKey.of("fixed_interval");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_HARD_BOUNDS = JsonpKey.of("hard_bounds");
+    private static final JsonpKey KEY_INTERVAL = JsonpKey.of("interval");
+    private static final JsonpKey KEY_KEYED = JsonpKey.of("keyed");
+    private static final JsonpKey KEY_MIN_DOC_COUNT = JsonpKey.of("min_doc_count");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.calendarInterval != null) {
-            generator.writeKey("calendar_interval");
+            JsonpUtils.writeKey(generator, KEY_CALENDAR_INTERVAL);
             this.calendarInterval.serialize(generator, mapper);
         }
 
         if (this.extendedBounds != null) {
-            generator.writeKey("extended_bounds");
+            JsonpUtils.writeKey(generator, KEY_EXTENDED_BOUNDS);
             this.extendedBounds.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.fixedInterval != null) {
-            generator.writeKey("fixed_interval");
+            JsonpUtils.writeKey(generator, KEY_FIXED_INTERVAL);
             this.fixedInterval.serialize(generator, mapper);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.hardBounds != null) {
-            generator.writeKey("hard_bounds");
+            JsonpUtils.writeKey(generator, KEY_HARD_BOUNDS);
             this.hardBounds.serialize(generator, mapper);
         }
 
         if (this.interval != null) {
-            generator.writeKey("interval");
+            JsonpUtils.writeKey(generator, KEY_INTERVAL);
             this.interval.serialize(generator, mapper);
         }
 
         if (this.keyed != null) {
-            generator.writeKey("keyed");
+            JsonpUtils.writeKey(generator, KEY_KEYED);
             generator.write(this.keyed);
         }
 
         if (this.minDocCount != null) {
-            generator.writeKey("min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_COUNT);
             generator.write(this.minDocCount);
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             generator.write(this.missing);
         }
 
         if (this.offset != null) {
-            generator.writeKey("offset");
+            JsonpUtils.writeKey(generator, KEY_OFFSET);
             this.offset.serialize(generator, mapper);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -347,12 +365,12 @@ public class DateHistogramAggregation extends BucketAggregationBase
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -162,30 +164,37 @@ public class DateRangeAggregation extends BucketAggregationBase
         return this.timeZone;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_KEYED = JsonpKey.of("keyed");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_RANGES = JsonpKey.of("ranges");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.keyed != null) {
-            generator.writeKey("keyed");
+            JsonpUtils.writeKey(generator, KEY_KEYED);
             generator.write(this.keyed);
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             this.missing.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.ranges)) {
-            generator.writeKey("ranges");
+            JsonpUtils.writeKey(generator, KEY_RANGES);
             generator.writeStartArray();
             for (DateRangeExpression item0 : this.ranges) {
                 item0.serialize(generator, mapper);
@@ -194,7 +203,7 @@ public class DateRangeAggregation extends BucketAggregationBase
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
     }
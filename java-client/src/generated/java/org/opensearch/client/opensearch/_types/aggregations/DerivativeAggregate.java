@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,15 +104,18 @@ public class DerivativeAggregate extends SingleMetricAggregateBase
         return this.normalizedValueAsString;
     }
 
+    private static final JsonpKey KEY_NORMALIZED_VALUE = JsonpKey.of("normalized_value");
+    private static final JsonpKey KEY_NORMALIZED_VALUE_AS_STRING = JsonpKey.of("normalized_value_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.normalizedValue != null) {
-            generator.writeKey("normalized_value");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZED_VALUE);
             generator.write(this.normalizedValue);
         }
 
         if (this.normalizedValueAsString != null) {
-            generator.writeKey("normalized_value_as_string");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZED_VALUE_AS_STRING);
             generator.write(this.normalizedValueAsString);
         }
     }
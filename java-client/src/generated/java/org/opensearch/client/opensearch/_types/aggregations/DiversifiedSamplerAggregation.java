@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -147,30 +149,36 @@ public class DiversifiedSamplerAggregation extends BucketAggregationBase
         return this.shardSize;
     }
 
+    private static final JsonpKey KEY_EXECUTION_HINT = JsonpKey.of("execution_hint");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MAX_DOCS_PER_VALUE = JsonpKey.of("max_docs_per_value");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.executionHint != null) {
-            generator.writeKey("execution_hint");
+            JsonpUtils.writeKey(generator, KEY_EXECUTION_HINT);
             this.executionHint.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.maxDocsPerValue != null) {
-            generator.writeKey("max_docs_per_value");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOCS_PER_VALUE);
             generator.write(this.maxDocsPerValue);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -90,13 +92,16 @@ public class DoubleTermsBucket extends TermsBucketBase implements ToCopyableBuil
         return this.keyAsString;
     }
 
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_KEY_AS_STRING = JsonpKey.of("key_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.write(this.key);
 
         if (this.keyAsString != null) {
-            generator.writeKey("key_as_string");
+            JsonpUtils.writeKey(generator, KEY_KEY_AS_STRING);
             generator.write(this.keyAsString);
         }
     }
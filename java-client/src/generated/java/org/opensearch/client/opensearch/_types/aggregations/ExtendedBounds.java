@@ -42,6 +42,7 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -114,11 +115,14 @@ public class ExtendedBounds<T> implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         JsonpUtils.serialize(this.max, generator, tSerializer, mapper);
 
-        generator.writeKey("min");
+        JsonpUtils.writeKey(generator, KEY_MIN);
         JsonpUtils.serialize(this.min, generator, tSerializer, mapper);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ObjectBuilder;
 
@@ -226,75 +228,90 @@ public abstract class ExtendedStatsAggregateBase extends StatsAggregateBase {
         return this.varianceSamplingAsString;
     }
 
+    private static final JsonpKey KEY_STD_DEVIATION = JsonpKey.of("std_deviation");
+    private static final JsonpKey KEY_STD_DEVIATION_AS_STRING = JsonpKey.of("std_deviation_as_string");
+    private static final JsonpKey KEY_STD_DEVIATION_BOUNDS = JsonpKey.of("std_deviation_bounds");
+    private static final JsonpKey KEY_STD_DEVIATION_BOUNDS_AS_STRING = JsonpKey.of("std_deviation_bounds_as_string");
+    private static final JsonpKey KEY_STD_DEVIATION_POPULATION = JsonpKey.of("std_deviation_population");
+    private static final JsonpKey KEY_STD_DEVIATION_SAMPLING = JsonpKey.of("std_deviation_sampling");
+    private static final JsonpKey KEY_SUM_OF_SQUARES = JsonpKey.of("sum_of_squares");
+    private static final JsonpKey KEY_SUM_OF_SQUARES_AS_STRING = JsonpKey.of("sum_of_squares_as_string");
+    private static final JsonpKey KEY_VARIANCE = JsonpKey.of("variance");
+    private static final JsonpKey KEY_VARIANCE_AS_STRING = JsonpKey.of("variance_as_string");
+    private static final JsonpKey KEY_VARIANCE_POPULATION = JsonpKey.of("variance_population");
+    private static final JsonpKey KEY_VARIANCE_POPULATION_AS_STRING = JsonpKey.of("variance_population_as_string");
+    private static final JsonpKey KEY_VARIANCE_SAMPLING = JsonpKey.of("variance_sampling");
+    private static final JsonpKey KEY_VARIANCE_SAMPLING_AS_STRING = JsonpKey.of("variance_sampling_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.stdDeviation != null) {
-            generator.writeKey("std_deviation");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION);
             generator.write(this.stdDeviation);
         }
 
         if (this.stdDeviationAsString != null) {
-            generator.writeKey("std_deviation_as_string");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION_AS_STRING);
             generator.write(this.stdDeviationAsString);
         }
 
         if (this.stdDeviationBounds != null) {
-            generator.writeKey("std_deviation_bounds");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION_BOUNDS);
             this.stdDeviationBounds.serialize(generator, mapper);
         }
 
         if (this.stdDeviationBoundsAsString != null) {
-            generator.writeKey("std_deviation_bounds_as_string");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION_BOUNDS_AS_STRING);
             this.stdDeviationBoundsAsString.serialize(generator, mapper);
         }
 
         if (this.stdDeviationPopulation != null) {
-            generator.writeKey("std_deviation_population");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION_POPULATION);
             generator.write(this.stdDeviationPopulation);
         }
 
         if (this.stdDeviationSampling != null) {
-            generator.writeKey("std_deviation_sampling");
+            JsonpUtils.writeKey(generator, KEY_STD_DEVIATION_SAMPLING);
             generator.write(this.stdDeviationSampling);
         }
 
         if (this.sumOfSquares != null) {
-            generator.writeKey("sum_of_squares");
+            JsonpUtils.writeKey(generator, KEY_SUM_OF_SQUARES);
             generator.write(this.sumOfSquares);
         }
 
         if (this.sumOfSquaresAsString != null) {
-            generator.writeKey("sum_of_squares_as_string");
+            JsonpUtils.writeKey(generator, KEY_SUM_OF_SQUARES_AS_STRING);
             generator.write(this.sumOfSquaresAsString);
         }
 
         if (this.variance != null) {
-            generator.writeKey("variance");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE);
             generator.write(this.variance);
         }
 
         if (this.varianceAsString != null) {
-            generator.writeKey("variance_as_string");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE_AS_STRING);
             generator.write(this.varianceAsString);
         }
 
         if (this.variancePopulation != null) {
-            generator.writeKey("variance_population");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE_POPULATION);
             generator.write(this.variancePopulation);
         }
 
         if (this.variancePopulationAsString != null) {
-            generator.writeKey("variance_population_as_string");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE_POPULATION_AS_STRING);
             generator.write(this.variancePopulationAsString);
         }
 
         if (this.varianceSampling != null) {
-            generator.writeKey("variance_sampling");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE_SAMPLING);
             generator.write(this.varianceSampling);
         }
 
         if (this.varianceSamplingAsString != null) {
-            generator.writeKey("variance_sampling_as_string");
+            JsonpUtils.writeKey(generator, KEY_VARIANCE_SAMPLING_AS_STRING);
             generator.write(this.varianceSamplingAsString);
         }
     }
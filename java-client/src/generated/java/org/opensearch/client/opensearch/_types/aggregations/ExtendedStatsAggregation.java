@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -93,10 +95,12 @@ public class ExtendedStatsAggregation extends FormatMetricAggregationBase
         return this.sigma;
     }
 
+    private static final JsonpKey KEY_SIGMA = JsonpKey.of("sigma");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.sigma != null) {
-            generator.writeKey("sigma");
+            JsonpUtils.writeKey(generator, KEY_SIGMA);
             generator.write(this.sigma);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
@@ -137,25 +139,30 @@ public class FiltersAggregation extends BucketAggregationBase
         return this.otherBucketKey;
     }
 
+    private static final JsonpKey KEY_FILTERS = JsonpKey.of("filters");
+    private static final JsonpKey KEY_KEYED = JsonpKey.of("keyed");
+    private static final JsonpKey KEY_OTHER_BUCKET = JsonpKey.of("other_bucket");
+    private static final JsonpKey KEY_OTHER_BUCKET_KEY = JsonpKey.of("other_bucket_key");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.filters != null) {
-            generator.writeKey("filters");
+            JsonpUtils.writeKey(generator, KEY_FILTERS);
             this.filters.serialize(generator, mapper);
         }
 
         if (this.keyed != null) {
-            generator.writeKey("keyed");
+            JsonpUtils.writeKey(generator, KEY_KEYED);
             generator.write(this.keyed);
         }
 
         if (this.otherBucket != null) {
-            generator.writeKey("other_bucket");
+            JsonpUtils.writeKey(generator, KEY_OTHER_BUCKET);
             generator.write(this.otherBucket);
         }
 
         if (this.otherBucketKey != null) {
-            generator.writeKey("other_bucket_key");
+            JsonpUtils.writeKey(generator, KEY_OTHER_BUCKET_KEY);
             generator.write(this.otherBucketKey);
         }
     }
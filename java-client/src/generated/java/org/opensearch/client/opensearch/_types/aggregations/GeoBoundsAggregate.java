@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.GeoBounds;
@@ -91,10 +93,12 @@ public class GeoBoundsAggregate extends AggregateBase
         return this.bounds;
     }
 
+    private static final JsonpKey KEY_BOUNDS = JsonpKey.of("bounds");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.bounds != null) {
-            generator.writeKey("bounds");
+            JsonpUtils.writeKey(generator, KEY_BOUNDS);
             this.bounds.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -93,10 +95,12 @@ public class GeoBoundsAggregation extends MetricAggregationBase
         return this.wrapLongitude;
     }
 
+    private static final JsonpKey KEY_WRAP_LONGITUDE = JsonpKey.of("wrap_longitude");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.wrapLongitude != null) {
-            generator.writeKey("wrap_longitude");
+            JsonpUtils.writeKey(generator, KEY_WRAP_LONGITUDE);
             generator.write(this.wrapLongitude);
         }
     }
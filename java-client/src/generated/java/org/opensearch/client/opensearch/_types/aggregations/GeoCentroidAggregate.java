@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.GeoLocation;
@@ -102,13 +104,16 @@ public class GeoCentroidAggregate extends AggregateBase
         return this.location;
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_LOCATION = JsonpKey.of("location");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
         if (this.location != null) {
-            generator.writeKey("location");
+            JsonpUtils.writeKey(generator, KEY_LOCATION);
             this.location.serialize(generator, mapper);
         }
     }
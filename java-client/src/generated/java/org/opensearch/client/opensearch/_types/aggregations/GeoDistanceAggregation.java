@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.DistanceUnit;
@@ -146,25 +148,31 @@ public class GeoDistanceAggregation extends BucketAggregationBase
         return this.unit;
     }
 
+    private static final JsonpKey KEY_DISTANCE_TYPE = JsonpKey.of("distance_type");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_ORIGIN = JsonpKey.of("origin");
+    private static final JsonpKey KEY_RANGES = JsonpKey.of("ranges");
+    private static final JsonpKey KEY_UNIT = JsonpKey.of("unit");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.distanceType != null) {
-            generator.writeKey("distance_type");
+            JsonpUtils.writeKey(generator, KEY_DISTANCE_TYPE);
             this.distanceType.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.origin != null) {
-            generator.writeKey("origin");
+            JsonpUtils.writeKey(generator, KEY_ORIGIN);
             this.origin.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.ranges)) {
-            generator.writeKey("ranges");
+            JsonpUtils.writeKey(generator, KEY_RANGES);
             generator.writeStartArray();
             for (AggregationRange item0 : this.ranges) {
                 item0.serialize(generator, mapper);
@@ -173,7 +181,7 @@ public class GeoDistanceAggregation extends BucketAggregationBase
         }
 
         if (this.unit != null) {
-            generator.writeKey("unit");
+            JsonpUtils.writeKey(generator, KEY_UNIT);
             this.unit.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.GeoBounds;
@@ -147,30 +149,36 @@ public class GeoHashGridAggregation extends BucketAggregationBase
         return this.size;
     }
 
+    private static final JsonpKey KEY_BOUNDS = JsonpKey.of("bounds");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.bounds != null) {
-            generator.writeKey("bounds");
+            JsonpUtils.writeKey(generator, KEY_BOUNDS);
             this.bounds.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             this.precision.serialize(generator, mapper);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,9 +95,11 @@ public class HdrMethod implements PlainJsonSerializable, ToCopyableBuilder<HdrMe
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUMBER_OF_SIGNIFICANT_VALUE_DIGITS = JsonpKey.of("number_of_significant_value_digits");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.numberOfSignificantValueDigits != null) {
-            generator.writeKey("number_of_significant_value_digits");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_SIGNIFICANT_VALUE_DIGITS);
             generator.write(this.numberOfSignificantValueDigits);
         }
     }
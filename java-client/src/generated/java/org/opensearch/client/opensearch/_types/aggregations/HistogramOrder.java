@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,14 +105,17 @@ public class HistogramOrder implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("_count");
+    private static final JsonpKey KEY_KEY = JsonpKey.of("_key");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.count != null) {
-            generator.writeKey("_count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             this.count.serialize(generator, mapper);
         }
 
         if (this.key != null) {
-            generator.writeKey("_key");
+            JsonpUtils.writeKey(generator, KEY_KEY);
             this.key.serialize(generator, mapper);
         }
     }
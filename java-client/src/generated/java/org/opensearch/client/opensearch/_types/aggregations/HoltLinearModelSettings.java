@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,14 +107,17 @@ public class HoltLinearModelSettings
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALPHA = JsonpKey.of("alpha");
+    private static final JsonpKey KEY_BETA = JsonpKey.of("beta");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alpha != null) {
-            generator.writeKey("alpha");
+            JsonpUtils.writeKey(generator, KEY_ALPHA);
             generator.write(this.alpha);
         }
 
         if (this.beta != null) {
-            generator.writeKey("beta");
+            JsonpUtils.writeKey(generator, KEY_BETA);
             generator.write(this.beta);
         }
     }
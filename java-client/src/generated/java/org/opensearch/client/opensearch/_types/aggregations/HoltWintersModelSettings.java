@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,34 +155,41 @@ public class HoltWintersModelSettings
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALPHA = JsonpKey.of("alpha");
+    private static final JsonpKey KEY_BETA = JsonpKey.of("beta");
+    private static final JsonpKey KEY_GAMMA = JsonpKey.of("gamma");
+    private static final JsonpKey KEY_PAD = JsonpKey.of("pad");
+    private static final JsonpKey KEY_PERIOD = JsonpKey.of("period");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alpha != null) {
-            generator.writeKey("alpha");
+            JsonpUtils.writeKey(generator, KEY_ALPHA);
             generator.write(this.alpha);
         }
 
         if (this.beta != null) {
-            generator.writeKey("beta");
+            JsonpUtils.writeKey(generator, KEY_BETA);
             generator.write(this.beta);
         }
 
         if (this.gamma != null) {
-            generator.writeKey("gamma");
+            JsonpUtils.writeKey(generator, KEY_GAMMA);
             generator.write(this.gamma);
         }
 
         if (this.pad != null) {
-            generator.writeKey("pad");
+            JsonpUtils.writeKey(generator, KEY_PAD);
             generator.write(this.pad);
         }
 
         if (this.period != null) {
-            generator.writeKey("period");
+            JsonpUtils.writeKey(generator, KEY_PERIOD);
             generator.write(this.period);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -91,10 +93,12 @@ public class HoltWintersMovingAverageAggregation extends MovingAverageAggregatio
         return this.settings;
     }
 
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("model", "holt_winters");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("settings");
+        JsonpUtils.writeKey(generator, KEY_SETTINGS);
         this.settings.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -107,15 +109,18 @@ public class IpRangeAggregation extends BucketAggregationBase
         return this.ranges;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_RANGES = JsonpKey.of("ranges");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (ApiTypeHelper.isDefined(this.ranges)) {
-            generator.writeKey("ranges");
+            JsonpUtils.writeKey(generator, KEY_RANGES);
             generator.writeStartArray();
             for (IpRangeAggregationRange item0 : this.ranges) {
                 item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,19 +128,23 @@ public class IpRangeAggregationRange
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_MASK = JsonpKey.of("mask");
+    private static final JsonpKey KEY_TO = JsonpKey.of("to");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.mask != null) {
-            generator.writeKey("mask");
+            JsonpUtils.writeKey(generator, KEY_MASK);
             generator.write(this.mask);
         }
 
         if (this.to != null) {
-            generator.writeKey("to");
+            JsonpUtils.writeKey(generator, KEY_TO);
             generator.write(this.to);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 
@@ -86,10 +88,13 @@ public abstract class MatrixAggregation extends AggregationBase {
         return this.missing;
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -98,7 +103,7 @@ public abstract class MatrixAggregation extends AggregationBase {
         }
 
         if (ApiTypeHelper.isDefined(this.missing)) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             generator.writeStartObject();
             for (Map.Entry<String, Double> item0 : this.missing.entrySet()) {
                 generator.writeKey(item0.getKey());
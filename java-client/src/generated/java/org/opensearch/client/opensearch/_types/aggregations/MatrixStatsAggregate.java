@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -102,13 +104,16 @@ public class MatrixStatsAggregate extends AggregateBase
         return this.fields;
     }
 
+    private static final JsonpKey KEY_DOC_COUNT = JsonpKey.of("doc_count");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("doc_count");
+        JsonpUtils.writeKey(generator, KEY_DOC_COUNT);
         generator.write(this.docCount);
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (MatrixStatsFields item0 : this.fields) {
                 item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.SortMode;
@@ -91,10 +93,12 @@ public class MatrixStatsAggregation extends MatrixAggregation
         return this.mode;
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
     }
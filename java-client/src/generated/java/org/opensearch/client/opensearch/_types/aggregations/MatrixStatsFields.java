@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -164,8 +166,17 @@ public class MatrixStatsFields implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CORRELATION = JsonpKey.of("correlation");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_COVARIANCE = JsonpKey.of("covariance");
+    private static final JsonpKey KEY_KURTOSIS = JsonpKey.of("kurtosis");
+    private static final JsonpKey KEY_MEAN = JsonpKey.of("mean");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_SKEWNESS = JsonpKey.of("skewness");
+    private static final JsonpKey KEY_VARIANCE = JsonpKey.of("variance");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("correlation");
+        JsonpUtils.writeKey(generator, KEY_CORRELATION);
         generator.writeStartObject();
         for (Map.Entry<String, Double> item0 : this.correlation.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -173,10 +184,10 @@ public class MatrixStatsFields implements PlainJsonSerializable, ToCopyableBuild
         }
         generator.writeEnd();
 
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
-        generator.writeKey("covariance");
+        JsonpUtils.writeKey(generator, KEY_COVARIANCE);
         generator.writeStartObject();
         for (Map.Entry<String, Double> item0 : this.covariance.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -184,19 +195,19 @@ public class MatrixStatsFields implements PlainJsonSerializable, ToCopyableBuild
         }
         generator.writeEnd();
 
-        generator.writeKey("kurtosis");
+        JsonpUtils.writeKey(generator, KEY_KURTOSIS);
         generator.write(this.kurtosis);
 
-        generator.writeKey("mean");
+        JsonpUtils.writeKey(generator, KEY_MEAN);
         generator.write(this.mean);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("skewness");
+        JsonpUtils.writeKey(generator, KEY_SKEWNESS);
         generator.write(this.skewness);
 
-        generator.writeKey("variance");
+        JsonpUtils.writeKey(generator, KEY_VARIANCE);
         generator.write(this.variance);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,10 +92,12 @@ public class MaxAggregation extends FormatMetricAggregationBase
         return this.valueType;
     }
 
+    private static final JsonpKey KEY_VALUE_TYPE = JsonpKey.of("value_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.valueType != null) {
-            generator.writeKey("value_type");
+            JsonpUtils.writeKey(generator, KEY_VALUE_TYPE);
             this.valueType.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -96,10 +98,12 @@ public class MedianAbsoluteDeviationAggregation extends FormatMetricAggregationB
         return this.compression;
     }
 
+    private static final JsonpKey KEY_COMPRESSION = JsonpKey.of("compression");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.compression != null) {
-            generator.writeKey("compression");
+            JsonpUtils.writeKey(generator, KEY_COMPRESSION);
             generator.write(this.compression);
         }
     }
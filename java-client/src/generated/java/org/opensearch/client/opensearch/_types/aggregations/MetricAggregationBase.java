@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -134,14 +136,20 @@ public abstract class MetricAggregationBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -151,17 +159,17 @@ public abstract class MetricAggregationBase implements PlainJsonSerializable {
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             this.missing.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
     }
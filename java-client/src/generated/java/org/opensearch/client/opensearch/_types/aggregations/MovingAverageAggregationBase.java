@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.aggregations.MovingAverageAggregationBase
@@ -92,20 +94,24 @@ public abstract class MovingAverageAggregationBase extends PipelineAggregationBa
         return this.window;
     }
 
+    private static final JsonpKey KEY_MINIMIZE = JsonpKey.of("minimize");
+    private static final JsonpKey KEY_PREDICT = JsonpKey.of("predict");
+    private static final JsonpKey KEY_WINDOW = JsonpKey.of("window");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.minimize != null) {
-            generator.writeKey("minimize");
+            JsonpUtils.writeKey(generator, KEY_MINIMIZE);
             generator.write(this.minimize);
         }
 
         if (this.predict != null) {
-            generator.writeKey("predict");
+            JsonpUtils.writeKey(generator, KEY_PREDICT);
             generator.write(this.predict);
         }
 
         if (this.window != null) {
-            generator.writeKey("window");
+            JsonpUtils.writeKey(generator, KEY_WINDOW);
             generator.write(this.window);
         }
     }
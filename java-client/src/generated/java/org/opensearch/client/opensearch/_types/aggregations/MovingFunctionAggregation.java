@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -124,20 +126,24 @@ public class MovingFunctionAggregation extends PipelineAggregationBase
         return this.window;
     }
 
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SHIFT = JsonpKey.of("shift");
+    private static final JsonpKey KEY_WINDOW = JsonpKey.of("window");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             generator.write(this.script);
         }
 
         if (this.shift != null) {
-            generator.writeKey("shift");
+            JsonpUtils.writeKey(generator, KEY_SHIFT);
             generator.write(this.shift);
         }
 
         if (this.window != null) {
-            generator.writeKey("window");
+            JsonpUtils.writeKey(generator, KEY_WINDOW);
             generator.write(this.window);
         }
     }
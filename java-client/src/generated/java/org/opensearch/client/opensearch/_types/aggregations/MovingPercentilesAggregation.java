@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -123,20 +125,24 @@ public class MovingPercentilesAggregation extends PipelineAggregationBase
         return this.window;
     }
 
+    private static final JsonpKey KEY_KEYED = JsonpKey.of("keyed");
+    private static final JsonpKey KEY_SHIFT = JsonpKey.of("shift");
+    private static final JsonpKey KEY_WINDOW = JsonpKey.of("window");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.keyed != null) {
-            generator.writeKey("keyed");
+            JsonpUtils.writeKey(generator, KEY_KEYED);
             generator.write(this.keyed);
         }
 
         if (this.shift != null) {
-            generator.writeKey("shift");
+            JsonpUtils.writeKey(generator, KEY_SHIFT);
             generator.write(this.shift);
         }
 
         if (this.window != null) {
-            generator.writeKey("window");
+            JsonpUtils.writeKey(generator, KEY_WINDOW);
             generator.write(this.window);
         }
     }
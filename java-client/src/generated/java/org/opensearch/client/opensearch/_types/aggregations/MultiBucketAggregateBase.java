@@ -41,7 +41,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.ObjectBuilder;
@@ -69,9 +71,11 @@ public abstract class MultiBucketAggregateBase<TBucket> extends AggregateBase {
         return this.buckets;
     }
 
+    private static final JsonpKey KEY_BUCKETS = JsonpKey.of("buckets");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("buckets");
+        JsonpUtils.writeKey(generator, KEY_BUCKETS);
         this.buckets.serialize(generator, mapper);
     }
 
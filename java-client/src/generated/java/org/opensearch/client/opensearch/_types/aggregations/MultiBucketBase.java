@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.ExternallyTaggedUnion;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -95,9 +97,11 @@ public abstract class MultiBucketBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC_COUNT = JsonpKey.of("doc_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         ExternallyTaggedUnion.serializeTypedKeysInner(this.aggregations, generator, mapper);
-        generator.writeKey("doc_count");
+        JsonpUtils.writeKey(generator, KEY_DOC_COUNT);
         generator.write(this.docCount);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -195,44 +197,53 @@ public class MultiTermsAggregation extends BucketAggregationBase
         return this.terms;
     }
 
+    private static final JsonpKey KEY_COLLECT_MODE = JsonpKey.of("collect_mode");
+    private static final JsonpKey KEY_MIN_DOC_COUNT = JsonpKey.of("min_doc_count");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SHARD_MIN_DOC_COUNT = JsonpKey.of("shard_min_doc_count");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SHOW_TERM_DOC_COUNT_ERROR = JsonpKey.of("show_term_doc_count_error");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_TERMS = JsonpKey.of("terms");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.collectMode != null) {
-            generator.writeKey("collect_mode");
+            JsonpUtils.writeKey(generator, KEY_COLLECT_MODE);
             this.collectMode.serialize(generator, mapper);
         }
 
         if (this.minDocCount != null) {
-            generator.writeKey("min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_COUNT);
             generator.write(this.minDocCount);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
 
         if (this.shardMinDocCount != null) {
-            generator.writeKey("shard_min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_SHARD_MIN_DOC_COUNT);
             generator.write(this.shardMinDocCount);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.showTermDocCountError != null) {
-            generator.writeKey("show_term_doc_count_error");
+            JsonpUtils.writeKey(generator, KEY_SHOW_TERM_DOC_COUNT_ERROR);
             generator.write(this.showTermDocCountError);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("terms");
+        JsonpUtils.writeKey(generator, KEY_TERMS);
         generator.writeStartArray();
         for (MultiTermLookup item0 : this.terms) {
             item0.serialize(generator, mapper);
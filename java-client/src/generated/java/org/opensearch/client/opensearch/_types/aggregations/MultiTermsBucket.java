@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -106,14 +108,18 @@ public class MultiTermsBucket extends MultiBucketBase implements ToCopyableBuild
         return this.keyAsString;
     }
 
+    private static final JsonpKey KEY_DOC_COUNT_ERROR_UPPER_BOUND = JsonpKey.of("doc_count_error_upper_bound");
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_KEY_AS_STRING = JsonpKey.of("key_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.docCountErrorUpperBound != null) {
-            generator.writeKey("doc_count_error_upper_bound");
+            JsonpUtils.writeKey(generator, KEY_DOC_COUNT_ERROR_UPPER_BOUND);
             generator.write(this.docCountErrorUpperBound);
         }
 
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.writeStartArray();
         for (FieldValue item0 : this.key) {
             item0.serialize(generator, mapper);
@@ -121,7 +127,7 @@ public class MultiTermsBucket extends MultiBucketBase implements ToCopyableBuild
         generator.writeEnd();
 
         if (this.keyAsString != null) {
-            generator.writeKey("key_as_string");
+            JsonpUtils.writeKey(generator, KEY_KEY_AS_STRING);
             generator.write(this.keyAsString);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,14 +116,17 @@ public class MutualInformationHeuristic
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKGROUND_IS_SUPERSET = JsonpKey.of("background_is_superset");
+    private static final JsonpKey KEY_INCLUDE_NEGATIVES = JsonpKey.of("include_negatives");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.backgroundIsSuperset != null) {
-            generator.writeKey("background_is_superset");
+            JsonpUtils.writeKey(generator, KEY_BACKGROUND_IS_SUPERSET);
             generator.write(this.backgroundIsSuperset);
         }
 
         if (this.includeNegatives != null) {
-            generator.writeKey("include_negatives");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_NEGATIVES);
             generator.write(this.includeNegatives);
         }
     }
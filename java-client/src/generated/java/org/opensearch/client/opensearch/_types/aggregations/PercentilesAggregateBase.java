@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.ObjectBuilder;
@@ -68,9 +70,11 @@ public abstract class PercentilesAggregateBase extends AggregateBase {
         return this.values;
     }
 
+    private static final JsonpKey KEY_VALUES = JsonpKey.of("values");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("values");
+        JsonpUtils.writeKey(generator, KEY_VALUES);
         this.values.serialize(generator, mapper);
     }
 
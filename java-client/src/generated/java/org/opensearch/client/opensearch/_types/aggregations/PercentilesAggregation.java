@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -135,20 +137,25 @@ public class PercentilesAggregation extends FormatMetricAggregationBase
         return this.tdigest;
     }
 
+    private static final JsonpKey KEY_HDR = JsonpKey.of("hdr");
+    private static final JsonpKey KEY_KEYED = JsonpKey.of("keyed");
+    private static final JsonpKey KEY_PERCENTS = JsonpKey.of("percents");
+    private static final JsonpKey KEY_TDIGEST = JsonpKey.of("tdigest");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.hdr != null) {
-            generator.writeKey("hdr");
+            JsonpUtils.writeKey(generator, KEY_HDR);
             this.hdr.serialize(generator, mapper);
         }
 
         if (this.keyed != null) {
-            generator.writeKey("keyed");
+            JsonpUtils.writeKey(generator, KEY_KEYED);
             generator.write(this.keyed);
         }
 
         if (ApiTypeHelper.isDefined(this.percents)) {
-            generator.writeKey("percents");
+            JsonpUtils.writeKey(generator, KEY_PERCENTS);
             generator.writeStartArray();
             for (Double item0 : this.percents) {
                 generator.write(item0);
@@ -157,7 +164,7 @@ public class PercentilesAggregation extends FormatMetricAggregationBase
         }
 
         if (this.tdigest != null) {
-            generator.writeKey("tdigest");
+            JsonpUtils.writeKey(generator, KEY_TDIGEST);
             this.tdigest.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -97,10 +99,12 @@ public class PercentilesBucketAggregation extends PipelineAggregationBase
         return this.percents;
     }
 
+    private static final JsonpKey KEY_PERCENTS = JsonpKey.of("percents");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.percents)) {
-            generator.writeKey("percents");
+            JsonpUtils.writeKey(generator, KEY_PERCENTS);
             generator.writeStartArray();
             for (Double item0 : this.percents) {
                 generator.write(item0);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.aggregations.PipelineAggregationBase
@@ -84,15 +86,18 @@ public abstract class PipelineAggregationBase extends BucketPathAggregation {
         return this.gapPolicy;
     }
 
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_GAP_POLICY = JsonpKey.of("gap_policy");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.gapPolicy != null) {
-            generator.writeKey("gap_policy");
+            JsonpUtils.writeKey(generator, KEY_GAP_POLICY);
             this.gapPolicy.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -130,30 +132,36 @@ public class RangeBucket extends MultiBucketBase implements ToCopyableBuilder<Ra
         return this.toAsString;
     }
 
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_FROM_AS_STRING = JsonpKey.of("from_as_string");
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_TO = JsonpKey.of("to");
+    private static final JsonpKey KEY_TO_AS_STRING = JsonpKey.of("to_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.fromAsString != null) {
-            generator.writeKey("from_as_string");
+            JsonpUtils.writeKey(generator, KEY_FROM_AS_STRING);
             generator.write(this.fromAsString);
         }
 
         if (this.key != null) {
-            generator.writeKey("key");
+            JsonpUtils.writeKey(generator, KEY_KEY);
             generator.write(this.key);
         }
 
         if (this.to != null) {
-            generator.writeKey("to");
+            JsonpUtils.writeKey(generator, KEY_TO);
             generator.write(this.to);
         }
 
         if (this.toAsString != null) {
-            generator.writeKey("to_as_string");
+            JsonpUtils.writeKey(generator, KEY_TO_AS_STRING);
             generator.write(this.toAsString);
         }
     }
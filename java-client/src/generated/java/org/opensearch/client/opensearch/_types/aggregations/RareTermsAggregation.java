@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -169,40 +171,48 @@ public class RareTermsAggregation extends BucketAggregationBase
         return this.valueType;
     }
 
+    private static final JsonpKey KEY_EXCLUDE = JsonpKey.of("exclude");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_MAX_DOC_COUNT = JsonpKey.of("max_doc_count");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+    private static final JsonpKey KEY_VALUE_TYPE = JsonpKey.of("value_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.exclude != null) {
-            generator.writeKey("exclude");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE);
             this.exclude.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.include != null) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             this.include.serialize(generator, mapper);
         }
 
         if (this.maxDocCount != null) {
-            generator.writeKey("max_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOC_COUNT);
             generator.write(this.maxDocCount);
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             this.missing.serialize(generator, mapper);
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             generator.write(this.precision);
         }
 
         if (this.valueType != null) {
-            generator.writeKey("value_type");
+            JsonpUtils.writeKey(generator, KEY_VALUE_TYPE);
             generator.write(this.valueType);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,15 +104,18 @@ public class RateAggregation extends FormatMetricAggregationBase
         return this.unit;
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_UNIT = JsonpKey.of("unit");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
 
         if (this.unit != null) {
-            generator.writeKey("unit");
+            JsonpUtils.writeKey(generator, KEY_UNIT);
             this.unit.serialize(generator, mapper);
         }
     }
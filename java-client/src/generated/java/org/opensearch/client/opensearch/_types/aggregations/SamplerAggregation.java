@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -93,10 +95,12 @@ public class SamplerAggregation extends BucketAggregationBase
         return this.shardSize;
     }
 
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -90,9 +92,11 @@ public class ScriptedMetricAggregate extends AggregateBase
         return this.value;
     }
 
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         this.value.serialize(generator, mapper);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -146,25 +148,31 @@ public class ScriptedMetricAggregation extends MetricAggregationBase
         return this.reduceScript;
     }
 
+    private static final JsonpKey KEY_COMBINE_SCRIPT = JsonpKey.of("combine_script");
+    private static final JsonpKey KEY_INIT_SCRIPT = JsonpKey.of("init_script");
+    private static final JsonpKey KEY_MAP_SCRIPT = JsonpKey.of("map_script");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_REDUCE_SCRIPT = JsonpKey.of("reduce_script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.combineScript != null) {
-            generator.writeKey("combine_script");
+            JsonpUtils.writeKey(generator, KEY_COMBINE_SCRIPT);
             this.combineScript.serialize(generator, mapper);
         }
 
         if (this.initScript != null) {
-            generator.writeKey("init_script");
+            JsonpUtils.writeKey(generator, KEY_INIT_SCRIPT);
             this.initScript.serialize(generator, mapper);
         }
 
         if (this.mapScript != null) {
-            generator.writeKey("map_script");
+            JsonpUtils.writeKey(generator, KEY_MAP_SCRIPT);
             this.mapScript.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -174,7 +182,7 @@ public class ScriptedMetricAggregation extends MetricAggregationBase
         }
 
         if (this.reduceScript != null) {
-            generator.writeKey("reduce_script");
+            JsonpUtils.writeKey(generator, KEY_REDUCE_SCRIPT);
             this.reduceScript.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -95,10 +97,12 @@ public class SerialDifferencingAggregation extends PipelineAggregationBase
         return this.lag;
     }
 
+    private static final JsonpKey KEY_LAG = JsonpKey.of("lag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.lag != null) {
-            generator.writeKey("lag");
+            JsonpUtils.writeKey(generator, KEY_LAG);
             generator.write(this.lag);
         }
     }
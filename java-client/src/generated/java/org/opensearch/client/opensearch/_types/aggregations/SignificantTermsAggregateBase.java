@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.aggregations.SignificantTermsAggregateBase
@@ -80,15 +82,18 @@ public abstract class SignificantTermsAggregateBase<TBucket> extends MultiBucket
         return this.docCount;
     }
 
+    private static final JsonpKey KEY_BG_COUNT = JsonpKey.of("bg_count");
+    private static final JsonpKey KEY_DOC_COUNT = JsonpKey.of("doc_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.bgCount != null) {
-            generator.writeKey("bg_count");
+            JsonpUtils.writeKey(generator, KEY_BG_COUNT);
             generator.write(this.bgCount);
         }
 
         if (this.docCount != null) {
-            generator.writeKey("doc_count");
+            JsonpUtils.writeKey(generator, KEY_DOC_COUNT);
             generator.write(this.docCount);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.EmptyObject;
@@ -277,80 +279,96 @@ public class SignificantTermsAggregation extends BucketAggregationBase
         return this.size;
     }
 
+    private static final JsonpKey KEY_BACKGROUND_FILTER = JsonpKey.of("background_filter");
+    private static final JsonpKey KEY_CHI_SQUARE = JsonpKey.of("chi_square");
+    private static final JsonpKey KEY_EXCLUDE = JsonpKey.of("exclude");
+    private static final JsonpKey KEY_EXECUTION_HINT = JsonpKey.of("execution_hint");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_GND = JsonpKey.of("gnd");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_JLH = JsonpKey.of("jlh");
+    private static final JsonpKey KEY_MIN_DOC_COUNT = JsonpKey.of("min_doc_count");
+    private static final JsonpKey KEY_MUTUAL_INFORMATION = JsonpKey.of("mutual_information");
+    private static final JsonpKey KEY_PERCENTAGE = JsonpKey.of("percentage");
+    private static final JsonpKey KEY_SCRIPT_HEURISTIC = JsonpKey.of("script_heuristic");
+    private static final JsonpKey KEY_SHARD_MIN_DOC_COUNT = JsonpKey.of("shard_min_doc_count");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.backgroundFilter != null) {
-            generator.writeKey("background_filter");
+            JsonpUtils.writeKey(generator, KEY_BACKGROUND_FILTER);
             this.backgroundFilter.serialize(generator, mapper);
         }
 
         if (this.chiSquare != null) {
-            generator.writeKey("chi_square");
+            JsonpUtils.writeKey(generator, KEY_CHI_SQUARE);
             this.chiSquare.serialize(generator, mapper);
         }
 
         if (this.exclude != null) {
-            generator.writeKey("exclude");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE);
             this.exclude.serialize(generator, mapper);
         }
 
         if (this.executionHint != null) {
-            generator.writeKey("execution_hint");
+            JsonpUtils.writeKey(generator, KEY_EXECUTION_HINT);
             this.executionHint.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.gnd != null) {
-            generator.writeKey("gnd");
+            JsonpUtils.writeKey(generator, KEY_GND);
             this.gnd.serialize(generator, mapper);
         }
 
         if (this.include != null) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             this.include.serialize(generator, mapper);
         }
 
         if (this.jlh != null) {
-            generator.writeKey("jlh");
+            JsonpUtils.writeKey(generator, KEY_JLH);
             this.jlh.serialize(generator, mapper);
         }
 
         if (this.minDocCount != null) {
-            generator.writeKey("min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_COUNT);
             generator.write(this.minDocCount);
         }
 
         if (this.mutualInformation != null) {
-            generator.writeKey("mutual_information");
+            JsonpUtils.writeKey(generator, KEY_MUTUAL_INFORMATION);
             this.mutualInformation.serialize(generator, mapper);
         }
 
         if (this.percentage != null) {
-            generator.writeKey("percentage");
+            JsonpUtils.writeKey(generator, KEY_PERCENTAGE);
             this.percentage.serialize(generator, mapper);
         }
 
         if (this.scriptHeuristic != null) {
-            generator.writeKey("script_heuristic");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_HEURISTIC);
             this.scriptHeuristic.serialize(generator, mapper);
         }
 
         if (this.shardMinDocCount != null) {
-            generator.writeKey("shard_min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_SHARD_MIN_DOC_COUNT);
             generator.write(this.shardMinDocCount);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
     }
@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 
@@ -75,12 +77,15 @@ public abstract class SignificantTermsBucketBase extends MultiBucketBase {
         return this.score;
     }
 
+    private static final JsonpKey KEY_BG_COUNT = JsonpKey.of("bg_count");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("score");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("bg_count");
+        JsonpUtils.writeKey(generator, KEY_BG_COUNT);
         generator.write(this.bgCount);
 
-        generator.writeKey("score");
+        JsonpUtils.writeKey(generator, KEY_SCORE);
         generator.write(this.score);
     }
 
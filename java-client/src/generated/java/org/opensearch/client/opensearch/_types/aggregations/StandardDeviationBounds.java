@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,34 +155,41 @@ public class StandardDeviationBounds
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOWER = JsonpKey.of("lower");
+    private static final JsonpKey KEY_LOWER_POPULATION = JsonpKey.of("lower_population");
+    private static final JsonpKey KEY_LOWER_SAMPLING = JsonpKey.of("lower_sampling");
+    private static final JsonpKey KEY_UPPER = JsonpKey.of("upper");
+    private static final JsonpKey KEY_UPPER_POPULATION = JsonpKey.of("upper_population");
+    private static final JsonpKey KEY_UPPER_SAMPLING = JsonpKey.of("upper_sampling");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.lower != null) {
-            generator.writeKey("lower");
+            JsonpUtils.writeKey(generator, KEY_LOWER);
             generator.write(this.lower);
         }
 
         if (this.lowerPopulation != null) {
-            generator.writeKey("lower_population");
+            JsonpUtils.writeKey(generator, KEY_LOWER_POPULATION);
             generator.write(this.lowerPopulation);
         }
 
         if (this.lowerSampling != null) {
-            generator.writeKey("lower_sampling");
+            JsonpUtils.writeKey(generator, KEY_LOWER_SAMPLING);
             generator.write(this.lowerSampling);
         }
 
         if (this.upper != null) {
-            generator.writeKey("upper");
+            JsonpUtils.writeKey(generator, KEY_UPPER);
             generator.write(this.upper);
         }
 
         if (this.upperPopulation != null) {
-            generator.writeKey("upper_population");
+            JsonpUtils.writeKey(generator, KEY_UPPER_POPULATION);
             generator.write(this.upperPopulation);
         }
 
         if (this.upperSampling != null) {
-            generator.writeKey("upper_sampling");
+            JsonpUtils.writeKey(generator, KEY_UPPER_SAMPLING);
             generator.write(this.upperSampling);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -154,23 +156,30 @@ public class StandardDeviationBoundsAsString
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOWER = JsonpKey.of("lower");
+    private static final JsonpKey KEY_LOWER_POPULATION = JsonpKey.of("lower_population");
+    private static final JsonpKey KEY_LOWER_SAMPLING = JsonpKey.of("lower_sampling");
+    private static final JsonpKey KEY_UPPER = JsonpKey.of("upper");
+    private static final JsonpKey KEY_UPPER_POPULATION = JsonpKey.of("upper_population");
+    private static final JsonpKey KEY_UPPER_SAMPLING = JsonpKey.of("upper_sampling");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("lower");
+        JsonpUtils.writeKey(generator, KEY_LOWER);
         generator.write(this.lower);
 
-        generator.writeKey("lower_population");
+        JsonpUtils.writeKey(generator, KEY_LOWER_POPULATION);
         generator.write(this.lowerPopulation);
 
-        generator.writeKey("lower_sampling");
+        JsonpUtils.writeKey(generator, KEY_LOWER_SAMPLING);
         generator.write(this.lowerSampling);
 
-        generator.writeKey("upper");
+        JsonpUtils.writeKey(generator, KEY_UPPER);
         generator.write(this.upper);
 
-        generator.writeKey("upper_population");
+        JsonpUtils.writeKey(generator, KEY_UPPER_POPULATION);
         generator.write(this.upperPopulation);
 
-        generator.writeKey("upper_sampling");
+        JsonpUtils.writeKey(generator, KEY_UPPER_SAMPLING);
         generator.write(this.upperSampling);
     }
 
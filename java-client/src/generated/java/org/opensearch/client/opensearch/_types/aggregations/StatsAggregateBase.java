@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 
@@ -161,46 +163,56 @@ public abstract class StatsAggregateBase extends AggregateBase {
         return this.sumAsString;
     }
 
+    private static final JsonpKey KEY_AVG = JsonpKey.of("avg");
+    private static final JsonpKey KEY_AVG_AS_STRING = JsonpKey.of("avg_as_string");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_AS_STRING = JsonpKey.of("max_as_string");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+    private static final JsonpKey KEY_MIN_AS_STRING = JsonpKey.of("min_as_string");
+    private static final JsonpKey KEY_SUM = JsonpKey.of("sum");
+    private static final JsonpKey KEY_SUM_AS_STRING = JsonpKey.of("sum_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.avg != null) {
-            generator.writeKey("avg");
+            JsonpUtils.writeKey(generator, KEY_AVG);
             generator.write(this.avg);
         }
 
         if (this.avgAsString != null) {
-            generator.writeKey("avg_as_string");
+            JsonpUtils.writeKey(generator, KEY_AVG_AS_STRING);
             generator.write(this.avgAsString);
         }
 
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.maxAsString != null) {
-            generator.writeKey("max_as_string");
+            JsonpUtils.writeKey(generator, KEY_MAX_AS_STRING);
             generator.write(this.maxAsString);
         }
 
         if (this.min != null) {
-            generator.writeKey("min");
+            JsonpUtils.writeKey(generator, KEY_MIN);
             generator.write(this.min);
         }
 
         if (this.minAsString != null) {
-            generator.writeKey("min_as_string");
+            JsonpUtils.writeKey(generator, KEY_MIN_AS_STRING);
             generator.write(this.minAsString);
         }
 
-        generator.writeKey("sum");
+        JsonpUtils.writeKey(generator, KEY_SUM);
         generator.write(this.sum);
 
         if (this.sumAsString != null) {
-            generator.writeKey("sum_as_string");
+            JsonpUtils.writeKey(generator, KEY_SUM_AS_STRING);
             generator.write(this.sumAsString);
         }
     }
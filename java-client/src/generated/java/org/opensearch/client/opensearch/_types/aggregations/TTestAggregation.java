@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -114,20 +116,24 @@ public class TTestAggregation extends AggregationBase
         return this.type;
     }
 
+    private static final JsonpKey KEY_A = JsonpKey.of("a");
+    private static final JsonpKey KEY_B = JsonpKey.of("b");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.a != null) {
-            generator.writeKey("a");
+            JsonpUtils.writeKey(generator, KEY_A);
             this.a.serialize(generator, mapper);
         }
 
         if (this.b != null) {
-            generator.writeKey("b");
+            JsonpUtils.writeKey(generator, KEY_B);
             this.b.serialize(generator, mapper);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
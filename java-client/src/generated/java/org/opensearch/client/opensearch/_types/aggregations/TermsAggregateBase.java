@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.aggregations.TermsAggregateBase
@@ -80,15 +82,18 @@ public abstract class TermsAggregateBase<TBucket> extends MultiBucketAggregateBa
         return this.sumOtherDocCount;
     }
 
+    private static final JsonpKey KEY_DOC_COUNT_ERROR_UPPER_BOUND = JsonpKey.of("doc_count_error_upper_bound");
+    private static final JsonpKey KEY_SUM_OTHER_DOC_COUNT = JsonpKey.of("sum_other_doc_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.docCountErrorUpperBound != null) {
-            generator.writeKey("doc_count_error_upper_bound");
+            JsonpUtils.writeKey(generator, KEY_DOC_COUNT_ERROR_UPPER_BOUND);
             generator.write(this.docCountErrorUpperBound);
         }
 
         if (this.sumOtherDocCount != null) {
-            generator.writeKey("sum_other_doc_count");
+            JsonpUtils.writeKey(generator, KEY_SUM_OTHER_DOC_COUNT);
             generator.write(this.sumOtherDocCount);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -351,9 +353,29 @@ public class TermsAggregation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_AGGS = JsonpKey.of("aggs");
+    private static final JsonpKey KEY_COLLECT_MODE = JsonpKey.of("collect_mode");
+    private static final JsonpKey KEY_EXCLUDE = JsonpKey.of("exclude");
+    private static final JsonpKey KEY_EXECUTION_HINT = JsonpKey.of("execution_hint");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+    private static final JsonpKey KEY_MIN_DOC_COUNT = JsonpKey.of("min_doc_count");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SHARD_MIN_DOC_COUNT = JsonpKey.of("shard_min_doc_count");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SHOW_TERM_DOC_COUNT_ERROR = JsonpKey.of("show_term_doc_count_error");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_VALUE_TYPE = JsonpKey.of("value_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Aggregation> item0 : this.aggregations.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -363,7 +385,7 @@ public class TermsAggregation
         }
 
         if (ApiTypeHelper.isDefined(this.aggs)) {
-            generator.writeKey("aggs");
+            JsonpUtils.writeKey(generator, KEY_AGGS);
             generator.writeStartObject();
             for (Map.Entry<String, Aggregation> item0 : this.aggs.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -373,37 +395,37 @@ public class TermsAggregation
         }
 
         if (this.collectMode != null) {
-            generator.writeKey("collect_mode");
+            JsonpUtils.writeKey(generator, KEY_COLLECT_MODE);
             this.collectMode.serialize(generator, mapper);
         }
 
         if (this.exclude != null) {
-            generator.writeKey("exclude");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE);
             this.exclude.serialize(generator, mapper);
         }
 
         if (this.executionHint != null) {
-            generator.writeKey("execution_hint");
+            JsonpUtils.writeKey(generator, KEY_EXECUTION_HINT);
             this.executionHint.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.include != null) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             this.include.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -413,22 +435,22 @@ public class TermsAggregation
         }
 
         if (this.minDocCount != null) {
-            generator.writeKey("min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_COUNT);
             generator.write(this.minDocCount);
         }
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             this.missing.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (ApiTypeHelper.isDefined(this.order)) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             generator.writeStartArray();
             for (Map<String, SortOrder> item0 : this.order) {
                 generator.writeStartObject();
@@ -444,32 +466,32 @@ public class TermsAggregation
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.shardMinDocCount != null) {
-            generator.writeKey("shard_min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_SHARD_MIN_DOC_COUNT);
             generator.write(this.shardMinDocCount);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.showTermDocCountError != null) {
-            generator.writeKey("show_term_doc_count_error");
+            JsonpUtils.writeKey(generator, KEY_SHOW_TERM_DOC_COUNT_ERROR);
             generator.write(this.showTermDocCountError);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.valueType != null) {
-            generator.writeKey("value_type");
+            JsonpUtils.writeKey(generator, KEY_VALUE_TYPE);
             this.valueType.serialize(generator, mapper);
         }
     }
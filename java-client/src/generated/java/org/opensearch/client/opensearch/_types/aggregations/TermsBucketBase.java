@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.aggregations.TermsBucketBase
@@ -71,10 +73,12 @@ public abstract class TermsBucketBase extends MultiBucketBase {
         return this.docCountError;
     }
 
+    private static final JsonpKey KEY_DOC_COUNT_ERROR = JsonpKey.of("doc_count_error");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.docCountError != null) {
-            generator.writeKey("doc_count_error");
+            JsonpUtils.writeKey(generator, KEY_DOC_COUNT_ERROR);
             generator.write(this.docCountError);
         }
     }
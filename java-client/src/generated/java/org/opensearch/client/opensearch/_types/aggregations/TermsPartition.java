@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,11 +105,14 @@ public class TermsPartition implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUM_PARTITIONS = JsonpKey.of("num_partitions");
+    private static final JsonpKey KEY_PARTITION = JsonpKey.of("partition");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("num_partitions");
+        JsonpUtils.writeKey(generator, KEY_NUM_PARTITIONS);
         generator.write(this.numPartitions);
 
-        generator.writeKey("partition");
+        JsonpUtils.writeKey(generator, KEY_PARTITION);
         generator.write(this.partition);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.core.search.HitsMetadata;
@@ -91,9 +93,11 @@ public class TopHitsAggregate extends AggregateBase
         return this.hits;
     }
 
+    private static final JsonpKey KEY_HITS = JsonpKey.of("hits");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("hits");
+        JsonpUtils.writeKey(generator, KEY_HITS);
         this.hits.serialize(generator, mapper);
     }
 
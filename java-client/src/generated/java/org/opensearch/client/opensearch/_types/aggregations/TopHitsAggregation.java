@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.ScriptField;
@@ -250,10 +252,23 @@ public class TopHitsAggregation extends MetricAggregationBase
         return this.version;
     }
 
+    private static final JsonpKey KEY_DOCVALUE_FIELDS = JsonpKey.of("docvalue_fields");
+    private static final JsonpKey KEY_EXPLAIN = JsonpKey.of("explain");
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_SCRIPT_FIELDS = JsonpKey.of("script_fields");
+    private static final JsonpKey KEY_SEQ_NO_PRIMARY_TERM = JsonpKey.of("seq_no_primary_term");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_STORED_FIELDS = JsonpKey.of("stored_fields");
+    private static final JsonpKey KEY_TRACK_SCORES = JsonpKey.of("track_scores");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.docvalueFields)) {
-            generator.writeKey("docvalue_fields");
+            JsonpUtils.writeKey(generator, KEY_DOCVALUE_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.docvalueFields) {
                 generator.write(item0);
@@ -262,22 +277,22 @@ public class TopHitsAggregation extends MetricAggregationBase
         }
 
         if (this.explain != null) {
-            generator.writeKey("explain");
+            JsonpUtils.writeKey(generator, KEY_EXPLAIN);
             generator.write(this.explain);
         }
 
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.highlight != null) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             this.highlight.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.scriptFields)) {
-            generator.writeKey("script_fields");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, ScriptField> item0 : this.scriptFields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -287,17 +302,17 @@ public class TopHitsAggregation extends MetricAggregationBase
         }
 
         if (this.seqNoPrimaryTerm != null) {
-            generator.writeKey("seq_no_primary_term");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_PRIMARY_TERM);
             generator.write(this.seqNoPrimaryTerm);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (SortOptions item0 : this.sort) {
                 item0.serialize(generator, mapper);
@@ -306,12 +321,12 @@ public class TopHitsAggregation extends MetricAggregationBase
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             this.source.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.storedFields)) {
-            generator.writeKey("stored_fields");
+            JsonpUtils.writeKey(generator, KEY_STORED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.storedFields) {
                 generator.write(item0);
@@ -320,12 +335,12 @@ public class TopHitsAggregation extends MetricAggregationBase
         }
 
         if (this.trackScores != null) {
-            generator.writeKey("track_scores");
+            JsonpUtils.writeKey(generator, KEY_TRACK_SCORES);
             generator.write(this.trackScores);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,24 +152,29 @@ public class VariableWidthHistogramAggregation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUCKETS = JsonpKey.of("buckets");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_INITIAL_BUFFER = JsonpKey.of("initial_buffer");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.buckets != null) {
-            generator.writeKey("buckets");
+            JsonpUtils.writeKey(generator, KEY_BUCKETS);
             generator.write(this.buckets);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (this.initialBuffer != null) {
-            generator.writeKey("initial_buffer");
+            JsonpUtils.writeKey(generator, KEY_INITIAL_BUFFER);
             generator.write(this.initialBuffer);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -138,29 +140,36 @@ public class VariableWidthHistogramBucket extends MultiBucketBase
         return this.minAsString;
     }
 
+    private static final JsonpKey KEY_KEY = JsonpKey.of("key");
+    private static final JsonpKey KEY_KEY_AS_STRING = JsonpKey.of("key_as_string");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_AS_STRING = JsonpKey.of("max_as_string");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+    private static final JsonpKey KEY_MIN_AS_STRING = JsonpKey.of("min_as_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("key");
+        JsonpUtils.writeKey(generator, KEY_KEY);
         generator.write(this.key);
 
         if (this.keyAsString != null) {
-            generator.writeKey("key_as_string");
+            JsonpUtils.writeKey(generator, KEY_KEY_AS_STRING);
             generator.write(this.keyAsString);
         }
 
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         generator.write(this.max);
 
         if (this.maxAsString != null) {
-            generator.writeKey("max_as_string");
+            JsonpUtils.writeKey(generator, KEY_MAX_AS_STRING);
             generator.write(this.maxAsString);
         }
 
-        generator.writeKey("min");
+        JsonpUtils.writeKey(generator, KEY_MIN);
         generator.write(this.min);
 
         if (this.minAsString != null) {
-            generator.writeKey("min_as_string");
+            JsonpUtils.writeKey(generator, KEY_MIN_AS_STRING);
             generator.write(this.minAsString);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -131,25 +133,30 @@ public class WeightedAverageAggregation extends AggregationBase
         return this.weight;
     }
 
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+    private static final JsonpKey KEY_VALUE_TYPE = JsonpKey.of("value_type");
+    private static final JsonpKey KEY_WEIGHT = JsonpKey.of("weight");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             this.value.serialize(generator, mapper);
         }
 
         if (this.valueType != null) {
-            generator.writeKey("value_type");
+            JsonpUtils.writeKey(generator, KEY_VALUE_TYPE);
             this.valueType.serialize(generator, mapper);
         }
 
         if (this.weight != null) {
-            generator.writeKey("weight");
+            JsonpUtils.writeKey(generator, KEY_WEIGHT);
             this.weight.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class AsciiFoldingTokenFilter extends TokenFilterBase
         return this.preserveOriginal;
     }
 
+    private static final JsonpKey KEY_PRESERVE_ORIGINAL = JsonpKey.of("preserve_original");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "asciifolding");
         super.serializeInternal(generator, mapper);
         if (this.preserveOriginal != null) {
-            generator.writeKey("preserve_original");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_ORIGINAL);
             generator.write(this.preserveOriginal);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -79,9 +81,11 @@ public abstract class CharFilterBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -104,15 +106,18 @@ public class CharGroupTokenizer extends TokenizerBase
         return this.tokenizeOnChars;
     }
 
+    private static final JsonpKey KEY_MAX_TOKEN_LENGTH = JsonpKey.of("max_token_length");
+    private static final JsonpKey KEY_TOKENIZE_ON_CHARS = JsonpKey.of("tokenize_on_chars");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "char_group");
         super.serializeInternal(generator, mapper);
         if (this.maxTokenLength != null) {
-            generator.writeKey("max_token_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_TOKEN_LENGTH);
             generator.write(this.maxTokenLength);
         }
 
-        generator.writeKey("tokenize_on_chars");
+        JsonpUtils.writeKey(generator, KEY_TOKENIZE_ON_CHARS);
         generator.writeStartArray();
         for (String item0 : this.tokenizeOnChars) {
             generator.write(item0);
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -88,10 +90,13 @@ public class CjkAnalyzer implements AnalyzerVariant, PlainJsonSerializable, ToCo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+    private static final JsonpKey KEY_STOPWORDS_PATH = JsonpKey.of("stopwords_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "cjk");
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -100,7 +105,7 @@ public class CjkAnalyzer implements AnalyzerVariant, PlainJsonSerializable, ToCo
         }
 
         if (this.stopwordsPath != null) {
-            generator.writeKey("stopwords_path");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS_PATH);
             generator.write(this.stopwordsPath);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -128,11 +130,16 @@ public class CommonGramsTokenFilter extends TokenFilterBase
         return this.queryMode;
     }
 
+    private static final JsonpKey KEY_COMMON_WORDS = JsonpKey.of("common_words");
+    private static final JsonpKey KEY_COMMON_WORDS_PATH = JsonpKey.of("common_words_path");
+    private static final JsonpKey KEY_IGNORE_CASE = JsonpKey.of("ignore_case");
+    private static final JsonpKey KEY_QUERY_MODE = JsonpKey.of("query_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "common_grams");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.commonWords)) {
-            generator.writeKey("common_words");
+            JsonpUtils.writeKey(generator, KEY_COMMON_WORDS);
             generator.writeStartArray();
             for (String item0 : this.commonWords) {
                 generator.write(item0);
@@ -141,17 +148,17 @@ public class CommonGramsTokenFilter extends TokenFilterBase
         }
 
         if (this.commonWordsPath != null) {
-            generator.writeKey("common_words_path");
+            JsonpUtils.writeKey(generator, KEY_COMMON_WORDS_PATH);
             generator.write(this.commonWordsPath);
         }
 
         if (this.ignoreCase != null) {
-            generator.writeKey("ignore_case");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_CASE);
             generator.write(this.ignoreCase);
         }
 
         if (this.queryMode != null) {
-            generator.writeKey("query_mode");
+            JsonpUtils.writeKey(generator, KEY_QUERY_MODE);
             generator.write(this.queryMode);
         }
     }
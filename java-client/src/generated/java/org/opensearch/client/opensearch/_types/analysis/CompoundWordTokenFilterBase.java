@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 
@@ -142,35 +144,43 @@ public abstract class CompoundWordTokenFilterBase extends TokenFilterBase {
         return this.wordListPath;
     }
 
+    private static final JsonpKey KEY_HYPHENATION_PATTERNS_PATH = JsonpKey.of("hyphenation_patterns_path");
+    private static final JsonpKey KEY_MAX_SUBWORD_SIZE = JsonpKey.of("max_subword_size");
+    private static final JsonpKey KEY_MIN_SUBWORD_SIZE = JsonpKey.of("min_subword_size");
+    private static final JsonpKey KEY_MIN_WORD_SIZE = JsonpKey.of("min_word_size");
+    private static final JsonpKey KEY_ONLY_LONGEST_MATCH = JsonpKey.of("only_longest_match");
+    private static final JsonpKey KEY_WORD_LIST = JsonpKey.of("word_list");
+    private static final JsonpKey KEY_WORD_LIST_PATH = JsonpKey.of("word_list_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.hyphenationPatternsPath != null) {
-            generator.writeKey("hyphenation_patterns_path");
+            JsonpUtils.writeKey(generator, KEY_HYPHENATION_PATTERNS_PATH);
             generator.write(this.hyphenationPatternsPath);
         }
 
         if (this.maxSubwordSize != null) {
-            generator.writeKey("max_subword_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_SUBWORD_SIZE);
             generator.write(this.maxSubwordSize);
         }
 
         if (this.minSubwordSize != null) {
-            generator.writeKey("min_subword_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_SUBWORD_SIZE);
             generator.write(this.minSubwordSize);
         }
 
         if (this.minWordSize != null) {
-            generator.writeKey("min_word_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_WORD_SIZE);
             generator.write(this.minWordSize);
         }
 
         if (this.onlyLongestMatch != null) {
-            generator.writeKey("only_longest_match");
+            JsonpUtils.writeKey(generator, KEY_ONLY_LONGEST_MATCH);
             generator.write(this.onlyLongestMatch);
         }
 
         if (ApiTypeHelper.isDefined(this.wordList)) {
-            generator.writeKey("word_list");
+            JsonpUtils.writeKey(generator, KEY_WORD_LIST);
             generator.writeStartArray();
             for (String item0 : this.wordList) {
                 generator.write(item0);
@@ -179,7 +189,7 @@ public abstract class CompoundWordTokenFilterBase extends TokenFilterBase {
         }
 
         if (this.wordListPath != null) {
-            generator.writeKey("word_list_path");
+            JsonpUtils.writeKey(generator, KEY_WORD_LIST_PATH);
             generator.write(this.wordListPath);
         }
     }
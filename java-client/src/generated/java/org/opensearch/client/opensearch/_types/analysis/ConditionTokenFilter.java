@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -103,17 +105,20 @@ public class ConditionTokenFilter extends TokenFilterBase
         return this.script;
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "condition");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("filter");
+        JsonpUtils.writeKey(generator, KEY_FILTER);
         generator.writeStartArray();
         for (String item0 : this.filter) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("script");
+        JsonpUtils.writeKey(generator, KEY_SCRIPT);
         this.script.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -148,10 +150,16 @@ public class CustomAnalyzer implements AnalyzerVariant, PlainJsonSerializable, T
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHAR_FILTER = JsonpKey.of("char_filter");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_POSITION_INCREMENT_GAP = JsonpKey.of("position_increment_gap");
+    private static final JsonpKey KEY_POSITION_OFFSET_GAP = JsonpKey.of("position_offset_gap");
+    private static final JsonpKey KEY_TOKENIZER = JsonpKey.of("tokenizer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "custom");
         if (ApiTypeHelper.isDefined(this.charFilter)) {
-            generator.writeKey("char_filter");
+            JsonpUtils.writeKey(generator, KEY_CHAR_FILTER);
             generator.writeStartArray();
             for (String item0 : this.charFilter) {
                 generator.write(item0);
@@ -160,7 +168,7 @@ public class CustomAnalyzer implements AnalyzerVariant, PlainJsonSerializable, T
         }
 
         if (ApiTypeHelper.isDefined(this.filter)) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.writeStartArray();
             for (String item0 : this.filter) {
                 generator.write(item0);
@@ -169,16 +177,16 @@ public class CustomAnalyzer implements AnalyzerVariant, PlainJsonSerializable, T
         }
 
         if (this.positionIncrementGap != null) {
-            generator.writeKey("position_increment_gap");
+            JsonpUtils.writeKey(generator, KEY_POSITION_INCREMENT_GAP);
             generator.write(this.positionIncrementGap);
         }
 
         if (this.positionOffsetGap != null) {
-            generator.writeKey("position_offset_gap");
+            JsonpUtils.writeKey(generator, KEY_POSITION_OFFSET_GAP);
             generator.write(this.positionOffsetGap);
         }
 
-        generator.writeKey("tokenizer");
+        JsonpUtils.writeKey(generator, KEY_TOKENIZER);
         generator.write(this.tokenizer);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,10 +118,13 @@ public class CustomNormalizer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHAR_FILTER = JsonpKey.of("char_filter");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "custom");
         if (ApiTypeHelper.isDefined(this.charFilter)) {
-            generator.writeKey("char_filter");
+            JsonpUtils.writeKey(generator, KEY_CHAR_FILTER);
             generator.writeStartArray();
             for (String item0 : this.charFilter) {
                 generator.write(item0);
@@ -128,7 +133,7 @@ public class CustomNormalizer
         }
 
         if (ApiTypeHelper.isDefined(this.filter)) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.writeStartArray();
             for (String item0 : this.filter) {
                 generator.write(item0);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -104,16 +106,19 @@ public class DelimitedPayloadTokenFilter extends TokenFilterBase
         return this.encoding;
     }
 
+    private static final JsonpKey KEY_DELIMITER = JsonpKey.of("delimiter");
+    private static final JsonpKey KEY_ENCODING = JsonpKey.of("encoding");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "delimited_payload");
         super.serializeInternal(generator, mapper);
         if (this.delimiter != null) {
-            generator.writeKey("delimiter");
+            JsonpUtils.writeKey(generator, KEY_DELIMITER);
             generator.write(this.delimiter);
         }
 
         if (this.encoding != null) {
-            generator.writeKey("encoding");
+            JsonpUtils.writeKey(generator, KEY_ENCODING);
             this.encoding.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -100,10 +102,12 @@ public class DutchAnalyzer implements AnalyzerVariant, PlainJsonSerializable, To
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "dutch");
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -116,11 +118,15 @@ public class ElisionTokenFilter extends TokenFilterBase
         return this.articlesPath;
     }
 
+    private static final JsonpKey KEY_ARTICLES = JsonpKey.of("articles");
+    private static final JsonpKey KEY_ARTICLES_CASE = JsonpKey.of("articles_case");
+    private static final JsonpKey KEY_ARTICLES_PATH = JsonpKey.of("articles_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "elision");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.articles)) {
-            generator.writeKey("articles");
+            JsonpUtils.writeKey(generator, KEY_ARTICLES);
             generator.writeStartArray();
             for (String item0 : this.articles) {
                 generator.write(item0);
@@ -129,12 +135,12 @@ public class ElisionTokenFilter extends TokenFilterBase
         }
 
         if (this.articlesCase != null) {
-            generator.writeKey("articles_case");
+            JsonpUtils.writeKey(generator, KEY_ARTICLES_CASE);
             generator.write(this.articlesCase);
         }
 
         if (this.articlesPath != null) {
-            generator.writeKey("articles_path");
+            JsonpUtils.writeKey(generator, KEY_ARTICLES_PATH);
             generator.write(this.articlesPath);
         }
     }
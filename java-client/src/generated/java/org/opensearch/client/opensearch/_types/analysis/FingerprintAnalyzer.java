@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -160,19 +162,26 @@ public class FingerprintAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_OUTPUT_SIZE = JsonpKey.of("max_output_size");
+    private static final JsonpKey KEY_PRESERVE_ORIGINAL = JsonpKey.of("preserve_original");
+    private static final JsonpKey KEY_SEPARATOR = JsonpKey.of("separator");
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+    private static final JsonpKey KEY_STOPWORDS_PATH = JsonpKey.of("stopwords_path");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "fingerprint");
-        generator.writeKey("max_output_size");
+        JsonpUtils.writeKey(generator, KEY_MAX_OUTPUT_SIZE);
         generator.write(this.maxOutputSize);
 
-        generator.writeKey("preserve_original");
+        JsonpUtils.writeKey(generator, KEY_PRESERVE_ORIGINAL);
         generator.write(this.preserveOriginal);
 
-        generator.writeKey("separator");
+        JsonpUtils.writeKey(generator, KEY_SEPARATOR);
         generator.write(this.separator);
 
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -181,12 +190,12 @@ public class FingerprintAnalyzer
         }
 
         if (this.stopwordsPath != null) {
-            generator.writeKey("stopwords_path");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS_PATH);
             generator.write(this.stopwordsPath);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,16 +104,19 @@ public class FingerprintTokenFilter extends TokenFilterBase
         return this.separator;
     }
 
+    private static final JsonpKey KEY_MAX_OUTPUT_SIZE = JsonpKey.of("max_output_size");
+    private static final JsonpKey KEY_SEPARATOR = JsonpKey.of("separator");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "fingerprint");
         super.serializeInternal(generator, mapper);
         if (this.maxOutputSize != null) {
-            generator.writeKey("max_output_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_OUTPUT_SIZE);
             generator.write(this.maxOutputSize);
         }
 
         if (this.separator != null) {
-            generator.writeKey("separator");
+            JsonpUtils.writeKey(generator, KEY_SEPARATOR);
             generator.write(this.separator);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -127,24 +129,29 @@ public class HunspellTokenFilter extends TokenFilterBase
         return this.longestOnly;
     }
 
+    private static final JsonpKey KEY_DEDUP = JsonpKey.of("dedup");
+    private static final JsonpKey KEY_DICTIONARY = JsonpKey.of("dictionary");
+    private static final JsonpKey KEY_LOCALE = JsonpKey.of("locale");
+    private static final JsonpKey KEY_LONGEST_ONLY = JsonpKey.of("longest_only");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "hunspell");
         super.serializeInternal(generator, mapper);
         if (this.dedup != null) {
-            generator.writeKey("dedup");
+            JsonpUtils.writeKey(generator, KEY_DEDUP);
             generator.write(this.dedup);
         }
 
         if (this.dictionary != null) {
-            generator.writeKey("dictionary");
+            JsonpUtils.writeKey(generator, KEY_DICTIONARY);
             generator.write(this.dictionary);
         }
 
-        generator.writeKey("locale");
+        JsonpUtils.writeKey(generator, KEY_LOCALE);
         generator.write(this.locale);
 
         if (this.longestOnly != null) {
-            generator.writeKey("longest_only");
+            JsonpUtils.writeKey(generator, KEY_LONGEST_ONLY);
             generator.write(this.longestOnly);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,12 +111,15 @@ public class IcuAnalyzer implements AnalyzerVariant, PlainJsonSerializable, ToCo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_METHOD = JsonpKey.of("method");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_analyzer");
-        generator.writeKey("method");
+        JsonpUtils.writeKey(generator, KEY_METHOD);
         this.method.serialize(generator, mapper);
 
-        generator.writeKey("mode");
+        JsonpUtils.writeKey(generator, KEY_MODE);
         this.mode.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -222,66 +224,79 @@ public class IcuCollationTokenFilter extends TokenFilterBase
         return this.variant;
     }
 
+    private static final JsonpKey KEY_ALTERNATE = JsonpKey.of("alternate");
+    private static final JsonpKey KEY_CASE_FIRST = JsonpKey.of("caseFirst");
+    private static final JsonpKey KEY_CASE_LEVEL = JsonpKey.of("caseLevel");
+    private static final JsonpKey KEY_COUNTRY = JsonpKey.of("country");
+    private static final JsonpKey KEY_DECOMPOSITION = JsonpKey.of("decomposition");
+    private static final JsonpKey KEY_HIRAGANA_QUATERNARY_MODE = JsonpKey.of("hiraganaQuaternaryMode");
+    private static final JsonpKey KEY_LANGUAGE = JsonpKey.of("language");
+    private static final JsonpKey KEY_NUMERIC = JsonpKey.of("numeric");
+    private static final JsonpKey KEY_RULES = JsonpKey.of("rules");
+    private static final JsonpKey KEY_STRENGTH = JsonpKey.of("strength");
+    private static final JsonpKey KEY_VARIABLE_TOP = JsonpKey.of("variableTop");
+    private static final JsonpKey KEY_VARIANT = JsonpKey.of("variant");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_collation");
         super.serializeInternal(generator, mapper);
         if (this.alternate != null) {
-            generator.writeKey("alternate");
+            JsonpUtils.writeKey(generator, KEY_ALTERNATE);
             this.alternate.serialize(generator, mapper);
         }
 
         if (this.caseFirst != null) {
-            generator.writeKey("caseFirst");
+            JsonpUtils.writeKey(generator, KEY_CASE_FIRST);
             this.caseFirst.serialize(generator, mapper);
         }
 
         if (this.caseLevel != null) {
-            generator.writeKey("caseLevel");
+            JsonpUtils.writeKey(generator, KEY_CASE_LEVEL);
             generator.write(this.caseLevel);
         }
 
         if (this.country != null) {
-            generator.writeKey("country");
+            JsonpUtils.writeKey(generator, KEY_COUNTRY);
             generator.write(this.country);
         }
 
         if (this.decomposition != null) {
-            generator.writeKey("decomposition");
+            JsonpUtils.writeKey(generator, KEY_DECOMPOSITION);
             this.decomposition.serialize(generator, mapper);
         }
 
         if (this.hiraganaQuaternaryMode != null) {
-            generator.writeKey("hiraganaQuaternaryMode");
+            JsonpUtils.writeKey(generator, KEY_HIRAGANA_QUATERNARY_MODE);
             generator.write(this.hiraganaQuaternaryMode);
         }
 
         if (this.language != null) {
-            generator.writeKey("language");
+            JsonpUtils.writeKey(generator, KEY_LANGUAGE);
             generator.write(this.language);
         }
 
         if (this.numeric != null) {
-            generator.writeKey("numeric");
+            JsonpUtils.writeKey(generator, KEY_NUMERIC);
             generator.write(this.numeric);
         }
 
         if (this.rules != null) {
-            generator.writeKey("rules");
+            JsonpUtils.writeKey(generator, KEY_RULES);
             generator.write(this.rules);
         }
 
         if (this.strength != null) {
-            generator.writeKey("strength");
+            JsonpUtils.writeKey(generator, KEY_STRENGTH);
             this.strength.serialize(generator, mapper);
         }
 
         if (this.variableTop != null) {
-            generator.writeKey("variableTop");
+            JsonpUtils.writeKey(generator, KEY_VARIABLE_TOP);
             generator.write(this.variableTop);
         }
 
         if (this.variant != null) {
-            generator.writeKey("variant");
+            JsonpUtils.writeKey(generator, KEY_VARIANT);
             generator.write(this.variant);
         }
     }
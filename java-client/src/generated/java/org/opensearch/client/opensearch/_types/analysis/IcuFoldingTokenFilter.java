@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,10 +91,12 @@ public class IcuFoldingTokenFilter extends TokenFilterBase
         return this.unicodeSetFilter;
     }
 
+    private static final JsonpKey KEY_UNICODE_SET_FILTER = JsonpKey.of("unicode_set_filter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_folding");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("unicode_set_filter");
+        JsonpUtils.writeKey(generator, KEY_UNICODE_SET_FILTER);
         generator.write(this.unicodeSetFilter);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -104,16 +106,19 @@ public class IcuNormalizationCharFilter extends CharFilterBase
         return this.name;
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_normalizer");
         super.serializeInternal(generator, mapper);
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             this.name.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -98,10 +100,12 @@ public class IcuTokenizer extends TokenizerBase
         return this.ruleFiles;
     }
 
+    private static final JsonpKey KEY_RULE_FILES = JsonpKey.of("rule_files");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_tokenizer");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("rule_files");
+        JsonpUtils.writeKey(generator, KEY_RULE_FILES);
         generator.write(this.ruleFiles);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -103,15 +105,18 @@ public class IcuTransformTokenFilter extends TokenFilterBase
         return this.id;
     }
 
+    private static final JsonpKey KEY_DIR = JsonpKey.of("dir");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_transform");
         super.serializeInternal(generator, mapper);
         if (this.dir != null) {
-            generator.writeKey("dir");
+            JsonpUtils.writeKey(generator, KEY_DIR);
             this.dir.serialize(generator, mapper);
         }
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
     }
 
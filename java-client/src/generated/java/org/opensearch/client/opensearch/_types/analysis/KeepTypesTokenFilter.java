@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -104,16 +106,19 @@ public class KeepTypesTokenFilter extends TokenFilterBase
         return this.types;
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_TYPES = JsonpKey.of("types");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keep_types");
         super.serializeInternal(generator, mapper);
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.types)) {
-            generator.writeKey("types");
+            JsonpUtils.writeKey(generator, KEY_TYPES);
             generator.writeStartArray();
             for (String item0 : this.types) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -116,11 +118,15 @@ public class KeepWordsTokenFilter extends TokenFilterBase
         return this.keepWordsPath;
     }
 
+    private static final JsonpKey KEY_KEEP_WORDS = JsonpKey.of("keep_words");
+    private static final JsonpKey KEY_KEEP_WORDS_CASE = JsonpKey.of("keep_words_case");
+    private static final JsonpKey KEY_KEEP_WORDS_PATH = JsonpKey.of("keep_words_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keep");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.keepWords)) {
-            generator.writeKey("keep_words");
+            JsonpUtils.writeKey(generator, KEY_KEEP_WORDS);
             generator.writeStartArray();
             for (String item0 : this.keepWords) {
                 generator.write(item0);
@@ -129,12 +135,12 @@ public class KeepWordsTokenFilter extends TokenFilterBase
         }
 
         if (this.keepWordsCase != null) {
-            generator.writeKey("keep_words_case");
+            JsonpUtils.writeKey(generator, KEY_KEEP_WORDS_CASE);
             generator.write(this.keepWordsCase);
         }
 
         if (this.keepWordsPath != null) {
-            generator.writeKey("keep_words_path");
+            JsonpUtils.writeKey(generator, KEY_KEEP_WORDS_PATH);
             generator.write(this.keepWordsPath);
         }
     }
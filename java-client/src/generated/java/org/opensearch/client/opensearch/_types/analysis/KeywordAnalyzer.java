@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,10 +104,12 @@ public class KeywordAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keyword");
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -128,16 +130,21 @@ public class KeywordMarkerTokenFilter extends TokenFilterBase
         return this.keywordsPattern;
     }
 
+    private static final JsonpKey KEY_IGNORE_CASE = JsonpKey.of("ignore_case");
+    private static final JsonpKey KEY_KEYWORDS = JsonpKey.of("keywords");
+    private static final JsonpKey KEY_KEYWORDS_PATH = JsonpKey.of("keywords_path");
+    private static final JsonpKey KEY_KEYWORDS_PATTERN = JsonpKey.of("keywords_pattern");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keyword_marker");
         super.serializeInternal(generator, mapper);
         if (this.ignoreCase != null) {
-            generator.writeKey("ignore_case");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_CASE);
             generator.write(this.ignoreCase);
         }
 
         if (ApiTypeHelper.isDefined(this.keywords)) {
-            generator.writeKey("keywords");
+            JsonpUtils.writeKey(generator, KEY_KEYWORDS);
             generator.writeStartArray();
             for (String item0 : this.keywords) {
                 generator.write(item0);
@@ -146,12 +153,12 @@ public class KeywordMarkerTokenFilter extends TokenFilterBase
         }
 
         if (this.keywordsPath != null) {
-            generator.writeKey("keywords_path");
+            JsonpUtils.writeKey(generator, KEY_KEYWORDS_PATH);
             generator.write(this.keywordsPath);
         }
 
         if (this.keywordsPattern != null) {
-            generator.writeKey("keywords_pattern");
+            JsonpUtils.writeKey(generator, KEY_KEYWORDS_PATTERN);
             generator.write(this.keywordsPattern);
         }
     }
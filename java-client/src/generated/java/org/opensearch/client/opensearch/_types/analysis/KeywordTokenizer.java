@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -87,10 +89,12 @@ public class KeywordTokenizer extends TokenizerBase
         return this.bufferSize;
     }
 
+    private static final JsonpKey KEY_BUFFER_SIZE = JsonpKey.of("buffer_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keyword");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("buffer_size");
+        JsonpUtils.writeKey(generator, KEY_BUFFER_SIZE);
         generator.write(this.bufferSize);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,13 +117,16 @@ public class KuromojiAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_USER_DICTIONARY = JsonpKey.of("user_dictionary");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji");
-        generator.writeKey("mode");
+        JsonpUtils.writeKey(generator, KEY_MODE);
         this.mode.serialize(generator, mapper);
 
         if (this.userDictionary != null) {
-            generator.writeKey("user_dictionary");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY);
             generator.write(this.userDictionary);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -99,13 +101,16 @@ public class KuromojiIterationMarkCharFilter extends CharFilterBase
         return this.normalizeKanji;
     }
 
+    private static final JsonpKey KEY_NORMALIZE_KANA = JsonpKey.of("normalize_kana");
+    private static final JsonpKey KEY_NORMALIZE_KANJI = JsonpKey.of("normalize_kanji");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji_iteration_mark");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("normalize_kana");
+        JsonpUtils.writeKey(generator, KEY_NORMALIZE_KANA);
         generator.write(this.normalizeKana);
 
-        generator.writeKey("normalize_kanji");
+        JsonpUtils.writeKey(generator, KEY_NORMALIZE_KANJI);
         generator.write(this.normalizeKanji);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -92,10 +94,12 @@ public class KuromojiPartOfSpeechTokenFilter extends TokenFilterBase
         return this.stoptags;
     }
 
+    private static final JsonpKey KEY_STOPTAGS = JsonpKey.of("stoptags");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji_part_of_speech");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("stoptags");
+        JsonpUtils.writeKey(generator, KEY_STOPTAGS);
         generator.writeStartArray();
         for (String item0 : this.stoptags) {
             generator.write(item0);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,10 +91,12 @@ public class KuromojiReadingFormTokenFilter extends TokenFilterBase
         return this.useRomaji;
     }
 
+    private static final JsonpKey KEY_USE_ROMAJI = JsonpKey.of("use_romaji");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji_readingform");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("use_romaji");
+        JsonpUtils.writeKey(generator, KEY_USE_ROMAJI);
         generator.write(this.useRomaji);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,10 +91,12 @@ public class KuromojiStemmerTokenFilter extends TokenFilterBase
         return this.minimumLength;
     }
 
+    private static final JsonpKey KEY_MINIMUM_LENGTH = JsonpKey.of("minimum_length");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji_stemmer");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("minimum_length");
+        JsonpUtils.writeKey(generator, KEY_MINIMUM_LENGTH);
         generator.write(this.minimumLength);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -164,39 +166,47 @@ public class KuromojiTokenizer extends TokenizerBase
         return this.userDictionaryRules;
     }
 
+    private static final JsonpKey KEY_DISCARD_COMPOUND_TOKEN = JsonpKey.of("discard_compound_token");
+    private static final JsonpKey KEY_DISCARD_PUNCTUATION = JsonpKey.of("discard_punctuation");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_NBEST_COST = JsonpKey.of("nbest_cost");
+    private static final JsonpKey KEY_NBEST_EXAMPLES = JsonpKey.of("nbest_examples");
+    private static final JsonpKey KEY_USER_DICTIONARY = JsonpKey.of("user_dictionary");
+    private static final JsonpKey KEY_USER_DICTIONARY_RULES = JsonpKey.of("user_dictionary_rules");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "kuromoji_tokenizer");
         super.serializeInternal(generator, mapper);
         if (this.discardCompoundToken != null) {
-            generator.writeKey("discard_compound_token");
+            JsonpUtils.writeKey(generator, KEY_DISCARD_COMPOUND_TOKEN);
             generator.write(this.discardCompoundToken);
         }
 
         if (this.discardPunctuation != null) {
-            generator.writeKey("discard_punctuation");
+            JsonpUtils.writeKey(generator, KEY_DISCARD_PUNCTUATION);
             generator.write(this.discardPunctuation);
         }
 
-        generator.writeKey("mode");
+        JsonpUtils.writeKey(generator, KEY_MODE);
         this.mode.serialize(generator, mapper);
 
         if (this.nbestCost != null) {
-            generator.writeKey("nbest_cost");
+            JsonpUtils.writeKey(generator, KEY_NBEST_COST);
             generator.write(this.nbestCost);
         }
 
         if (this.nbestExamples != null) {
-            generator.writeKey("nbest_examples");
+            JsonpUtils.writeKey(generator, KEY_NBEST_EXAMPLES);
             generator.write(this.nbestExamples);
         }
 
         if (this.userDictionary != null) {
-            generator.writeKey("user_dictionary");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY);
             generator.write(this.userDictionary);
         }
 
         if (ApiTypeHelper.isDefined(this.userDictionaryRules)) {
-            generator.writeKey("user_dictionary_rules");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY_RULES);
             generator.writeStartArray();
             for (String item0 : this.userDictionaryRules) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -152,12 +154,18 @@ public class LanguageAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LANGUAGE = JsonpKey.of("language");
+    private static final JsonpKey KEY_STEM_EXCLUSION = JsonpKey.of("stem_exclusion");
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+    private static final JsonpKey KEY_STOPWORDS_PATH = JsonpKey.of("stopwords_path");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "language");
-        generator.writeKey("language");
+        JsonpUtils.writeKey(generator, KEY_LANGUAGE);
         this.language.serialize(generator, mapper);
 
-        generator.writeKey("stem_exclusion");
+        JsonpUtils.writeKey(generator, KEY_STEM_EXCLUSION);
         generator.writeStartArray();
         for (String item0 : this.stemExclusion) {
             generator.write(item0);
@@ -165,7 +173,7 @@ public class LanguageAnalyzer
         generator.writeEnd();
 
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -174,12 +182,12 @@ public class LanguageAnalyzer
         }
 
         if (this.stopwordsPath != null) {
-            generator.writeKey("stopwords_path");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS_PATH);
             generator.write(this.stopwordsPath);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
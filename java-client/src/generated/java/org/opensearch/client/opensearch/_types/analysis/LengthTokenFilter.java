@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,16 +104,19 @@ public class LengthTokenFilter extends TokenFilterBase
         return this.min;
     }
 
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "length");
         super.serializeInternal(generator, mapper);
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.min != null) {
-            generator.writeKey("min");
+            JsonpUtils.writeKey(generator, KEY_MIN);
             generator.write(this.min);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -104,16 +106,19 @@ public class LimitTokenCountTokenFilter extends TokenFilterBase
         return this.maxTokenCount;
     }
 
+    private static final JsonpKey KEY_CONSUME_ALL_TOKENS = JsonpKey.of("consume_all_tokens");
+    private static final JsonpKey KEY_MAX_TOKEN_COUNT = JsonpKey.of("max_token_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "limit");
         super.serializeInternal(generator, mapper);
         if (this.consumeAllTokens != null) {
-            generator.writeKey("consume_all_tokens");
+            JsonpUtils.writeKey(generator, KEY_CONSUME_ALL_TOKENS);
             generator.write(this.consumeAllTokens);
         }
 
         if (this.maxTokenCount != null) {
-            generator.writeKey("max_token_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_TOKEN_COUNT);
             generator.write(this.maxTokenCount);
         }
     }
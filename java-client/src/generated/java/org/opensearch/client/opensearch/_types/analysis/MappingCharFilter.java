@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -104,11 +106,14 @@ public class MappingCharFilter extends CharFilterBase
         return this.mappingsPath;
     }
 
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_MAPPINGS_PATH = JsonpKey.of("mappings_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "mapping");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.mappings)) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             generator.writeStartArray();
             for (String item0 : this.mappings) {
                 generator.write(item0);
@@ -117,7 +122,7 @@ public class MappingCharFilter extends CharFilterBase
         }
 
         if (this.mappingsPath != null) {
-            generator.writeKey("mappings_path");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS_PATH);
             generator.write(this.mappingsPath);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -114,21 +116,25 @@ public class NGramTokenFilter extends TokenFilterBase
         return this.preserveOriginal;
     }
 
+    private static final JsonpKey KEY_MAX_GRAM = JsonpKey.of("max_gram");
+    private static final JsonpKey KEY_MIN_GRAM = JsonpKey.of("min_gram");
+    private static final JsonpKey KEY_PRESERVE_ORIGINAL = JsonpKey.of("preserve_original");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "ngram");
         super.serializeInternal(generator, mapper);
         if (this.maxGram != null) {
-            generator.writeKey("max_gram");
+            JsonpUtils.writeKey(generator, KEY_MAX_GRAM);
             generator.write(this.maxGram);
         }
 
         if (this.minGram != null) {
-            generator.writeKey("min_gram");
+            JsonpUtils.writeKey(generator, KEY_MIN_GRAM);
             generator.write(this.minGram);
         }
 
         if (this.preserveOriginal != null) {
-            generator.writeKey("preserve_original");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_ORIGINAL);
             generator.write(this.preserveOriginal);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -124,21 +126,26 @@ public class NGramTokenizer extends TokenizerBase
         return this.tokenChars;
     }
 
+    private static final JsonpKey KEY_CUSTOM_TOKEN_CHARS = JsonpKey.of("custom_token_chars");
+    private static final JsonpKey KEY_MAX_GRAM = JsonpKey.of("max_gram");
+    private static final JsonpKey KEY_MIN_GRAM = JsonpKey.of("min_gram");
+    private static final JsonpKey KEY_TOKEN_CHARS = JsonpKey.of("token_chars");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "ngram");
         super.serializeInternal(generator, mapper);
         if (this.customTokenChars != null) {
-            generator.writeKey("custom_token_chars");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM_TOKEN_CHARS);
             generator.write(this.customTokenChars);
         }
 
-        generator.writeKey("max_gram");
+        JsonpUtils.writeKey(generator, KEY_MAX_GRAM);
         generator.write(this.maxGram);
 
-        generator.writeKey("min_gram");
+        JsonpUtils.writeKey(generator, KEY_MIN_GRAM);
         generator.write(this.minGram);
 
-        generator.writeKey("token_chars");
+        JsonpUtils.writeKey(generator, KEY_TOKEN_CHARS);
         generator.writeStartArray();
         for (TokenChar item0 : this.tokenChars) {
             item0.serialize(generator, mapper);
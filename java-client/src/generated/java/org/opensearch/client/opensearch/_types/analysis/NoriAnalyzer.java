@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,15 +138,20 @@ public class NoriAnalyzer implements AnalyzerVariant, PlainJsonSerializable, ToC
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DECOMPOUND_MODE = JsonpKey.of("decompound_mode");
+    private static final JsonpKey KEY_STOPTAGS = JsonpKey.of("stoptags");
+    private static final JsonpKey KEY_USER_DICTIONARY = JsonpKey.of("user_dictionary");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "nori");
         if (this.decompoundMode != null) {
-            generator.writeKey("decompound_mode");
+            JsonpUtils.writeKey(generator, KEY_DECOMPOUND_MODE);
             this.decompoundMode.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.stoptags)) {
-            generator.writeKey("stoptags");
+            JsonpUtils.writeKey(generator, KEY_STOPTAGS);
             generator.writeStartArray();
             for (String item0 : this.stoptags) {
                 generator.write(item0);
@@ -153,12 +160,12 @@ public class NoriAnalyzer implements AnalyzerVariant, PlainJsonSerializable, ToC
         }
 
         if (this.userDictionary != null) {
-            generator.writeKey("user_dictionary");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY);
             generator.write(this.userDictionary);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
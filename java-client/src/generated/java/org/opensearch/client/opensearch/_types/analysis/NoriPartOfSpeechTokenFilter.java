@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -94,11 +96,13 @@ public class NoriPartOfSpeechTokenFilter extends TokenFilterBase
         return this.stoptags;
     }
 
+    private static final JsonpKey KEY_STOPTAGS = JsonpKey.of("stoptags");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "nori_part_of_speech");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.stoptags)) {
-            generator.writeKey("stoptags");
+            JsonpUtils.writeKey(generator, KEY_STOPTAGS);
             generator.writeStartArray();
             for (String item0 : this.stoptags) {
                 generator.write(item0);
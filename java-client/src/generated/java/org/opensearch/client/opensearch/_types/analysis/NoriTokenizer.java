@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -128,26 +130,31 @@ public class NoriTokenizer extends TokenizerBase
         return this.userDictionaryRules;
     }
 
+    private static final JsonpKey KEY_DECOMPOUND_MODE = JsonpKey.of("decompound_mode");
+    private static final JsonpKey KEY_DISCARD_PUNCTUATION = JsonpKey.of("discard_punctuation");
+    private static final JsonpKey KEY_USER_DICTIONARY = JsonpKey.of("user_dictionary");
+    private static final JsonpKey KEY_USER_DICTIONARY_RULES = JsonpKey.of("user_dictionary_rules");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "nori_tokenizer");
         super.serializeInternal(generator, mapper);
         if (this.decompoundMode != null) {
-            generator.writeKey("decompound_mode");
+            JsonpUtils.writeKey(generator, KEY_DECOMPOUND_MODE);
             this.decompoundMode.serialize(generator, mapper);
         }
 
         if (this.discardPunctuation != null) {
-            generator.writeKey("discard_punctuation");
+            JsonpUtils.writeKey(generator, KEY_DISCARD_PUNCTUATION);
             generator.write(this.discardPunctuation);
         }
 
         if (this.userDictionary != null) {
-            generator.writeKey("user_dictionary");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY);
             generator.write(this.userDictionary);
         }
 
         if (ApiTypeHelper.isDefined(this.userDictionaryRules)) {
-            generator.writeKey("user_dictionary_rules");
+            JsonpUtils.writeKey(generator, KEY_USER_DICTIONARY_RULES);
             generator.writeStartArray();
             for (String item0 : this.userDictionaryRules) {
                 generator.write(item0);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -133,24 +135,30 @@ public class PathHierarchyTokenizer extends TokenizerBase
         return this.skip;
     }
 
+    private static final JsonpKey KEY_BUFFER_SIZE = JsonpKey.of("buffer_size");
+    private static final JsonpKey KEY_DELIMITER = JsonpKey.of("delimiter");
+    private static final JsonpKey KEY_REPLACEMENT = JsonpKey.of("replacement");
+    private static final JsonpKey KEY_REVERSE = JsonpKey.of("reverse");
+    private static final JsonpKey KEY_SKIP = JsonpKey.of("skip");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "path_hierarchy");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("buffer_size");
+        JsonpUtils.writeKey(generator, KEY_BUFFER_SIZE);
         generator.write(this.bufferSize);
 
-        generator.writeKey("delimiter");
+        JsonpUtils.writeKey(generator, KEY_DELIMITER);
         generator.write(this.delimiter);
 
         if (this.replacement != null) {
-            generator.writeKey("replacement");
+            JsonpUtils.writeKey(generator, KEY_REPLACEMENT);
             generator.write(this.replacement);
         }
 
-        generator.writeKey("reverse");
+        JsonpUtils.writeKey(generator, KEY_REVERSE);
         generator.write(this.reverse);
 
-        generator.writeKey("skip");
+        JsonpUtils.writeKey(generator, KEY_SKIP);
         generator.write(this.skip);
     }
 
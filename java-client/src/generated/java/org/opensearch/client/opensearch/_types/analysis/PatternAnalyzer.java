@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -152,23 +154,29 @@ public class PatternAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FLAGS = JsonpKey.of("flags");
+    private static final JsonpKey KEY_LOWERCASE = JsonpKey.of("lowercase");
+    private static final JsonpKey KEY_PATTERN = JsonpKey.of("pattern");
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "pattern");
         if (this.flags != null) {
-            generator.writeKey("flags");
+            JsonpUtils.writeKey(generator, KEY_FLAGS);
             generator.write(this.flags);
         }
 
         if (this.lowercase != null) {
-            generator.writeKey("lowercase");
+            JsonpUtils.writeKey(generator, KEY_LOWERCASE);
             generator.write(this.lowercase);
         }
 
-        generator.writeKey("pattern");
+        JsonpUtils.writeKey(generator, KEY_PATTERN);
         generator.write(this.pattern);
 
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -177,7 +185,7 @@ public class PatternAnalyzer
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
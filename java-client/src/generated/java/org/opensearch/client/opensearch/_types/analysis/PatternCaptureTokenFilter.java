@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -104,10 +106,13 @@ public class PatternCaptureTokenFilter extends TokenFilterBase
         return this.preserveOriginal;
     }
 
+    private static final JsonpKey KEY_PATTERNS = JsonpKey.of("patterns");
+    private static final JsonpKey KEY_PRESERVE_ORIGINAL = JsonpKey.of("preserve_original");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "pattern_capture");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("patterns");
+        JsonpUtils.writeKey(generator, KEY_PATTERNS);
         generator.writeStartArray();
         for (String item0 : this.patterns) {
             generator.write(item0);
@@ -115,7 +120,7 @@ public class PatternCaptureTokenFilter extends TokenFilterBase
         generator.writeEnd();
 
         if (this.preserveOriginal != null) {
-            generator.writeKey("preserve_original");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_ORIGINAL);
             generator.write(this.preserveOriginal);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -127,24 +129,29 @@ public class PatternReplaceTokenFilter extends TokenFilterBase
         return this.replacement;
     }
 
+    private static final JsonpKey KEY_ALL = JsonpKey.of("all");
+    private static final JsonpKey KEY_FLAGS = JsonpKey.of("flags");
+    private static final JsonpKey KEY_PATTERN = JsonpKey.of("pattern");
+    private static final JsonpKey KEY_REPLACEMENT = JsonpKey.of("replacement");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "pattern_replace");
         super.serializeInternal(generator, mapper);
         if (this.all != null) {
-            generator.writeKey("all");
+            JsonpUtils.writeKey(generator, KEY_ALL);
             generator.write(this.all);
         }
 
         if (this.flags != null) {
-            generator.writeKey("flags");
+            JsonpUtils.writeKey(generator, KEY_FLAGS);
             generator.write(this.flags);
         }
 
-        generator.writeKey("pattern");
+        JsonpUtils.writeKey(generator, KEY_PATTERN);
         generator.write(this.pattern);
 
         if (this.replacement != null) {
-            generator.writeKey("replacement");
+            JsonpUtils.writeKey(generator, KEY_REPLACEMENT);
             generator.write(this.replacement);
         }
     }
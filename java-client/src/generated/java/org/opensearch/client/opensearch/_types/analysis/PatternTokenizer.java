@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -114,21 +116,25 @@ public class PatternTokenizer extends TokenizerBase
         return this.pattern;
     }
 
+    private static final JsonpKey KEY_FLAGS = JsonpKey.of("flags");
+    private static final JsonpKey KEY_GROUP = JsonpKey.of("group");
+    private static final JsonpKey KEY_PATTERN = JsonpKey.of("pattern");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "pattern");
         super.serializeInternal(generator, mapper);
         if (this.flags != null) {
-            generator.writeKey("flags");
+            JsonpUtils.writeKey(generator, KEY_FLAGS);
             generator.write(this.flags);
         }
 
         if (this.group != null) {
-            generator.writeKey("group");
+            JsonpUtils.writeKey(generator, KEY_GROUP);
             generator.write(this.group);
         }
 
         if (this.pattern != null) {
-            generator.writeKey("pattern");
+            JsonpUtils.writeKey(generator, KEY_PATTERN);
             generator.write(this.pattern);
         }
     }
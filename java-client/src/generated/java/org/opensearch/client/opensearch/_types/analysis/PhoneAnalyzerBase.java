@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -82,9 +84,11 @@ public abstract class PhoneAnalyzerBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PHONE_REGION = JsonpKey.of("phone-region");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.phoneRegion != null) {
-            generator.writeKey("phone-region");
+            JsonpUtils.writeKey(generator, KEY_PHONE_REGION);
             generator.write(this.phoneRegion);
         }
     }
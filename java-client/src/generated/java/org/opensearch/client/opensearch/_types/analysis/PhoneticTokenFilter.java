@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -152,13 +154,20 @@ public class PhoneticTokenFilter extends TokenFilterBase
         return this.ruleType;
     }
 
+    private static final JsonpKey KEY_ENCODER = JsonpKey.of("encoder");
+    private static final JsonpKey KEY_LANGUAGESET = JsonpKey.of("languageset");
+    private static final JsonpKey KEY_MAX_CODE_LEN = JsonpKey.of("max_code_len");
+    private static final JsonpKey KEY_NAME_TYPE = JsonpKey.of("name_type");
+    private static final JsonpKey KEY_REPLACE = JsonpKey.of("replace");
+    private static final JsonpKey KEY_RULE_TYPE = JsonpKey.of("rule_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "phonetic");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("encoder");
+        JsonpUtils.writeKey(generator, KEY_ENCODER);
         this.encoder.serialize(generator, mapper);
 
-        generator.writeKey("languageset");
+        JsonpUtils.writeKey(generator, KEY_LANGUAGESET);
         generator.writeStartArray();
         for (PhoneticLanguage item0 : this.languageset) {
             item0.serialize(generator, mapper);
@@ -166,19 +175,19 @@ public class PhoneticTokenFilter extends TokenFilterBase
         generator.writeEnd();
 
         if (this.maxCodeLen != null) {
-            generator.writeKey("max_code_len");
+            JsonpUtils.writeKey(generator, KEY_MAX_CODE_LEN);
             generator.write(this.maxCodeLen);
         }
 
-        generator.writeKey("name_type");
+        JsonpUtils.writeKey(generator, KEY_NAME_TYPE);
         this.nameType.serialize(generator, mapper);
 
         if (this.replace != null) {
-            generator.writeKey("replace");
+            JsonpUtils.writeKey(generator, KEY_REPLACE);
             generator.write(this.replace);
         }
 
-        generator.writeKey("rule_type");
+        JsonpUtils.writeKey(generator, KEY_RULE_TYPE);
         this.ruleType.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -150,36 +152,43 @@ public class ShingleTokenFilter extends TokenFilterBase
         return this.tokenSeparator;
     }
 
+    private static final JsonpKey KEY_FILLER_TOKEN = JsonpKey.of("filler_token");
+    private static final JsonpKey KEY_MAX_SHINGLE_SIZE = JsonpKey.of("max_shingle_size");
+    private static final JsonpKey KEY_MIN_SHINGLE_SIZE = JsonpKey.of("min_shingle_size");
+    private static final JsonpKey KEY_OUTPUT_UNIGRAMS = JsonpKey.of("output_unigrams");
+    private static final JsonpKey KEY_OUTPUT_UNIGRAMS_IF_NO_SHINGLES = JsonpKey.of("output_unigrams_if_no_shingles");
+    private static final JsonpKey KEY_TOKEN_SEPARATOR = JsonpKey.of("token_separator");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "shingle");
         super.serializeInternal(generator, mapper);
         if (this.fillerToken != null) {
-            generator.writeKey("filler_token");
+            JsonpUtils.writeKey(generator, KEY_FILLER_TOKEN);
             generator.write(this.fillerToken);
         }
 
         if (this.maxShingleSize != null) {
-            generator.writeKey("max_shingle_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_SHINGLE_SIZE);
             generator.write(this.maxShingleSize);
         }
 
         if (this.minShingleSize != null) {
-            generator.writeKey("min_shingle_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_SHINGLE_SIZE);
             generator.write(this.minShingleSize);
         }
 
         if (this.outputUnigrams != null) {
-            generator.writeKey("output_unigrams");
+            JsonpUtils.writeKey(generator, KEY_OUTPUT_UNIGRAMS);
             generator.write(this.outputUnigrams);
         }
 
         if (this.outputUnigramsIfNoShingles != null) {
-            generator.writeKey("output_unigrams_if_no_shingles");
+            JsonpUtils.writeKey(generator, KEY_OUTPUT_UNIGRAMS_IF_NO_SHINGLES);
             generator.write(this.outputUnigramsIfNoShingles);
         }
 
         if (this.tokenSeparator != null) {
-            generator.writeKey("token_separator");
+            JsonpUtils.writeKey(generator, KEY_TOKEN_SEPARATOR);
             generator.write(this.tokenSeparator);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -92,11 +94,13 @@ public class SimplePatternSplitTokenizer extends TokenizerBase
         return this.pattern;
     }
 
+    private static final JsonpKey KEY_PATTERN = JsonpKey.of("pattern");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "simple_pattern_split");
         super.serializeInternal(generator, mapper);
         if (this.pattern != null) {
-            generator.writeKey("pattern");
+            JsonpUtils.writeKey(generator, KEY_PATTERN);
             generator.write(this.pattern);
         }
     }
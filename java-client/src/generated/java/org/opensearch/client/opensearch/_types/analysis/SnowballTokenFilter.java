@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,10 +91,12 @@ public class SnowballTokenFilter extends TokenFilterBase
         return this.language;
     }
 
+    private static final JsonpKey KEY_LANGUAGE = JsonpKey.of("language");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "snowball");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("language");
+        JsonpUtils.writeKey(generator, KEY_LANGUAGE);
         this.language.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,15 +118,18 @@ public class StandardAnalyzer
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_TOKEN_LENGTH = JsonpKey.of("max_token_length");
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "standard");
         if (this.maxTokenLength != null) {
-            generator.writeKey("max_token_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_TOKEN_LENGTH);
             generator.write(this.maxTokenLength);
         }
 
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -106,11 +108,14 @@ public class StemmerOverrideTokenFilter extends TokenFilterBase
         return this.rulesPath;
     }
 
+    private static final JsonpKey KEY_RULES = JsonpKey.of("rules");
+    private static final JsonpKey KEY_RULES_PATH = JsonpKey.of("rules_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "stemmer_override");
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.rules)) {
-            generator.writeKey("rules");
+            JsonpUtils.writeKey(generator, KEY_RULES);
             generator.writeStartArray();
             for (String item0 : this.rules) {
                 generator.write(item0);
@@ -119,7 +124,7 @@ public class StemmerOverrideTokenFilter extends TokenFilterBase
         }
 
         if (this.rulesPath != null) {
-            generator.writeKey("rules_path");
+            JsonpUtils.writeKey(generator, KEY_RULES_PATH);
             generator.write(this.rulesPath);
         }
     }
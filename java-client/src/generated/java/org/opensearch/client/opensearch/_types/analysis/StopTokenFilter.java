@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -128,21 +130,26 @@ public class StopTokenFilter extends TokenFilterBase
         return this.stopwordsPath;
     }
 
+    private static final JsonpKey KEY_IGNORE_CASE = JsonpKey.of("ignore_case");
+    private static final JsonpKey KEY_REMOVE_TRAILING = JsonpKey.of("remove_trailing");
+    private static final JsonpKey KEY_STOPWORDS = JsonpKey.of("stopwords");
+    private static final JsonpKey KEY_STOPWORDS_PATH = JsonpKey.of("stopwords_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "stop");
         super.serializeInternal(generator, mapper);
         if (this.ignoreCase != null) {
-            generator.writeKey("ignore_case");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_CASE);
             generator.write(this.ignoreCase);
         }
 
         if (this.removeTrailing != null) {
-            generator.writeKey("remove_trailing");
+            JsonpUtils.writeKey(generator, KEY_REMOVE_TRAILING);
             generator.write(this.removeTrailing);
         }
 
         if (ApiTypeHelper.isDefined(this.stopwords)) {
-            generator.writeKey("stopwords");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS);
             generator.writeStartArray();
             for (String item0 : this.stopwords) {
                 generator.write(item0);
@@ -151,7 +158,7 @@ public class StopTokenFilter extends TokenFilterBase
         }
 
         if (this.stopwordsPath != null) {
-            generator.writeKey("stopwords_path");
+            JsonpUtils.writeKey(generator, KEY_STOPWORDS_PATH);
             generator.write(this.stopwordsPath);
         }
     }
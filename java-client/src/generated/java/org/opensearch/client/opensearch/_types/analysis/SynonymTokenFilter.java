@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -164,26 +166,34 @@ public class SynonymTokenFilter extends TokenFilterBase
         return this.updateable;
     }
 
+    private static final JsonpKey KEY_EXPAND = JsonpKey.of("expand");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_LENIENT = JsonpKey.of("lenient");
+    private static final JsonpKey KEY_SYNONYMS = JsonpKey.of("synonyms");
+    private static final JsonpKey KEY_SYNONYMS_PATH = JsonpKey.of("synonyms_path");
+    private static final JsonpKey KEY_TOKENIZER = JsonpKey.of("tokenizer");
+    private static final JsonpKey KEY_UPDATEABLE = JsonpKey.of("updateable");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "synonym");
         super.serializeInternal(generator, mapper);
         if (this.expand != null) {
-            generator.writeKey("expand");
+            JsonpUtils.writeKey(generator, KEY_EXPAND);
             generator.write(this.expand);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             this.format.serialize(generator, mapper);
         }
 
         if (this.lenient != null) {
-            generator.writeKey("lenient");
+            JsonpUtils.writeKey(generator, KEY_LENIENT);
             generator.write(this.lenient);
         }
 
         if (ApiTypeHelper.isDefined(this.synonyms)) {
-            generator.writeKey("synonyms");
+            JsonpUtils.writeKey(generator, KEY_SYNONYMS);
             generator.writeStartArray();
             for (String item0 : this.synonyms) {
                 generator.write(item0);
@@ -192,17 +202,17 @@ public class SynonymTokenFilter extends TokenFilterBase
         }
 
         if (this.synonymsPath != null) {
-            generator.writeKey("synonyms_path");
+            JsonpUtils.writeKey(generator, KEY_SYNONYMS_PATH);
             generator.write(this.synonymsPath);
         }
 
         if (this.tokenizer != null) {
-            generator.writeKey("tokenizer");
+            JsonpUtils.writeKey(generator, KEY_TOKENIZER);
             generator.write(this.tokenizer);
         }
 
         if (this.updateable != null) {
-            generator.writeKey("updateable");
+            JsonpUtils.writeKey(generator, KEY_UPDATEABLE);
             generator.write(this.updateable);
         }
     }
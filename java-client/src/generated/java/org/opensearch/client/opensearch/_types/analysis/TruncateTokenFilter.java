@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class TruncateTokenFilter extends TokenFilterBase
         return this.length;
     }
 
+    private static final JsonpKey KEY_LENGTH = JsonpKey.of("length");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "truncate");
         super.serializeInternal(generator, mapper);
         if (this.length != null) {
-            generator.writeKey("length");
+            JsonpUtils.writeKey(generator, KEY_LENGTH);
             generator.write(this.length);
         }
     }
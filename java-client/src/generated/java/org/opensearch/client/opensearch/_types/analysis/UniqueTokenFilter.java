@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class UniqueTokenFilter extends TokenFilterBase
         return this.onlyOnSamePosition;
     }
 
+    private static final JsonpKey KEY_ONLY_ON_SAME_POSITION = JsonpKey.of("only_on_same_position");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "unique");
         super.serializeInternal(generator, mapper);
         if (this.onlyOnSamePosition != null) {
-            generator.writeKey("only_on_same_position");
+            JsonpUtils.writeKey(generator, KEY_ONLY_ON_SAME_POSITION);
             generator.write(this.onlyOnSamePosition);
         }
     }
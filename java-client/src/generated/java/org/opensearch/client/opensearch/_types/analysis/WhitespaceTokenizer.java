@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class WhitespaceTokenizer extends TokenizerBase
         return this.maxTokenLength;
     }
 
+    private static final JsonpKey KEY_MAX_TOKEN_LENGTH = JsonpKey.of("max_token_length");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "whitespace");
         super.serializeInternal(generator, mapper);
         if (this.maxTokenLength != null) {
-            generator.writeKey("max_token_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_TOKEN_LENGTH);
             generator.write(this.maxTokenLength);
         }
     }
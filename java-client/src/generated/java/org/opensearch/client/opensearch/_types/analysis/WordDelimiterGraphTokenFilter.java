@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -262,51 +264,67 @@ public class WordDelimiterGraphTokenFilter extends TokenFilterBase
         return this.typeTablePath;
     }
 
+    private static final JsonpKey KEY_ADJUST_OFFSETS = JsonpKey.of("adjust_offsets");
+    private static final JsonpKey KEY_CATENATE_ALL = JsonpKey.of("catenate_all");
+    private static final JsonpKey KEY_CATENATE_NUMBERS = JsonpKey.of("catenate_numbers");
+    private static final JsonpKey KEY_CATENATE_WORDS = JsonpKey.of("catenate_words");
+    private static final JsonpKey KEY_GENERATE_NUMBER_PARTS = JsonpKey.of("generate_number_parts");
+    private static final JsonpKey KEY_GENERATE_WORD_PARTS = JsonpKey.of("generate_word_parts");
+    private static final JsonpKey KEY_IGNORE_KEYWORDS = JsonpKey.of("ignore_keywords");
+    private static final JsonpKey KEY_PRESERVE_ORIGINAL = JsonpKey.of("preserve_original");
+    private static final JsonpKey KEY_PROTECTED_WORDS = JsonpKey.of("protected_words");
+    private static final JsonpKey KEY_PROTECTED_WORDS_PATH = JsonpKey.of("protected_words_path");
+    private static final JsonpKey KEY_SPLIT_ON_CASE_CHANGE = JsonpKey.of("split_on_case_change");
+    private static final JsonpKey KEY_SPLIT_ON_NUMERICS = JsonpKey.of("split_on_numerics");
+    private static final JsonpKey KEY_STEM_ENGLISH_POSSESSIVE = JsonpKey.of("stem_english_possessive");
+    private static final JsonpKey KEY_TYPE_TABLE = JsonpKey.of("type_table");
+    private static final JsonpKey KEY_TYPE_TABLE_PATH = JsonpKey.of("type_table_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "word_delimiter_graph");
         super.serializeInternal(generator, mapper);
         if (this.adjustOffsets != null) {
-            generator.writeKey("adjust_offsets");
+            JsonpUtils.writeKey(generator, KEY_ADJUST_OFFSETS);
             generator.write(this.adjustOffsets);
         }
 
         if (this.catenateAll != null) {
-            generator.writeKey("catenate_all");
+            JsonpUtils.writeKey(generator, KEY_CATENATE_ALL);
             generator.write(this.catenateAll);
         }
 
         if (this.catenateNumbers != null) {
-            generator.writeKey("catenate_numbers");
+            JsonpUtils.writeKey(generator, KEY_CATENATE_NUMBERS);
             generator.write(this.catenateNumbers);
         }
 
         if (this.catenateWords != null) {
-            generator.writeKey("catenate_words");
+            JsonpUtils.writeKey(generator, KEY_CATENATE_WORDS);
             generator.write(this.catenateWords);
         }
 
         if (this.generateNumberParts != null) {
-            generator.writeKey("generate_number_parts");
+            JsonpUtils.writeKey(generator, KEY_GENERATE_NUMBER_PARTS);
             generator.write(this.generateNumberParts);
         }
 
         if (this.generateWordParts != null) {
-            generator.writeKey("generate_word_parts");
+            JsonpUtils.writeKey(generator, KEY_GENERATE_WORD_PARTS);
             generator.write(this.generateWordParts);
         }
 
         if (this.ignoreKeywords != null) {
-            generator.writeKey("ignore_keywords");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_KEYWORDS);
             generator.write(this.ignoreKeywords);
         }
 
         if (this.preserveOriginal != null) {
-            generator.writeKey("preserve_original");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_ORIGINAL);
             generator.write(this.preserveOriginal);
         }
 
         if (ApiTypeHelper.isDefined(this.protectedWords)) {
-            generator.writeKey("protected_words");
+            JsonpUtils.writeKey(generator, KEY_PROTECTED_WORDS);
             generator.writeStartArray();
             for (String item0 : this.protectedWords) {
                 generator.write(item0);
@@ -315,27 +333,27 @@ public class WordDelimiterGraphTokenFilter extends TokenFilterBase
         }
 
         if (this.protectedWordsPath != null) {
-            generator.writeKey("protected_words_path");
+            JsonpUtils.writeKey(generator, KEY_PROTECTED_WORDS_PATH);
             generator.write(this.protectedWordsPath);
         }
 
         if (this.splitOnCaseChange != null) {
-            generator.writeKey("split_on_case_change");
+            JsonpUtils.writeKey(generator, KEY_SPLIT_ON_CASE_CHANGE);
             generator.write(this.splitOnCaseChange);
         }
 
         if (this.splitOnNumerics != null) {
-            generator.writeKey("split_on_numerics");
+            JsonpUtils.writeKey(generator, KEY_SPLIT_ON_NUMERICS);
             generator.write(this.splitOnNumerics);
         }
 
         if (this.stemEnglishPossessive != null) {
-            generator.writeKey("stem_english_possessive");
+            JsonpUtils.writeKey(generator, KEY_STEM_ENGLISH_POSSESSIVE);
             generator.write(this.stemEnglishPossessive);
         }
 
         if (ApiTypeHelper.isDefined(this.typeTable)) {
-            generator.writeKey("type_table");
+            JsonpUtils.writeKey(generator, KEY_TYPE_TABLE);
             generator.writeStartArray();
             for (String item0 : this.typeTable) {
                 generator.write(item0);
@@ -344,7 +362,7 @@ public class WordDelimiterGraphTokenFilter extends TokenFilterBase
         }
 
         if (this.typeTablePath != null) {
-            generator.writeKey("type_table_path");
+            JsonpUtils.writeKey(generator, KEY_TYPE_TABLE_PATH);
             generator.write(this.typeTablePath);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -104,13 +106,16 @@ public class AggregateMetricDoubleProperty extends PropertyBase
         return this.metrics;
     }
 
+    private static final JsonpKey KEY_DEFAULT_METRIC = JsonpKey.of("default_metric");
+    private static final JsonpKey KEY_METRICS = JsonpKey.of("metrics");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "aggregate_metric_double");
         super.serializeInternal(generator, mapper);
-        generator.writeKey("default_metric");
+        JsonpUtils.writeKey(generator, KEY_DEFAULT_METRIC);
         generator.write(this.defaultMetric);
 
-        generator.writeKey("metrics");
+        JsonpUtils.writeKey(generator, KEY_METRICS);
         generator.writeStartArray();
         for (String item0 : this.metrics) {
             generator.write(item0);
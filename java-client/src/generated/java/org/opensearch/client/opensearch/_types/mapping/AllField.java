@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -183,35 +185,46 @@ public class AllField implements PlainJsonSerializable, ToCopyableBuilder<AllFie
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_OMIT_NORMS = JsonpKey.of("omit_norms");
+    private static final JsonpKey KEY_SEARCH_ANALYZER = JsonpKey.of("search_analyzer");
+    private static final JsonpKey KEY_SIMILARITY = JsonpKey.of("similarity");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_STORE_TERM_VECTOR_OFFSETS = JsonpKey.of("store_term_vector_offsets");
+    private static final JsonpKey KEY_STORE_TERM_VECTOR_PAYLOADS = JsonpKey.of("store_term_vector_payloads");
+    private static final JsonpKey KEY_STORE_TERM_VECTOR_POSITIONS = JsonpKey.of("store_term_vector_positions");
+    private static final JsonpKey KEY_STORE_TERM_VECTORS = JsonpKey.of("store_term_vectors");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("analyzer");
+        JsonpUtils.writeKey(generator, KEY_ANALYZER);
         generator.write(this.analyzer);
 
-        generator.writeKey("enabled");
+        JsonpUtils.writeKey(generator, KEY_ENABLED);
         generator.write(this.enabled);
 
-        generator.writeKey("omit_norms");
+        JsonpUtils.writeKey(generator, KEY_OMIT_NORMS);
         generator.write(this.omitNorms);
 
-        generator.writeKey("search_analyzer");
+        JsonpUtils.writeKey(generator, KEY_SEARCH_ANALYZER);
         generator.write(this.searchAnalyzer);
 
-        generator.writeKey("similarity");
+        JsonpUtils.writeKey(generator, KEY_SIMILARITY);
         generator.write(this.similarity);
 
-        generator.writeKey("store");
+        JsonpUtils.writeKey(generator, KEY_STORE);
         generator.write(this.store);
 
-        generator.writeKey("store_term_vector_offsets");
+        JsonpUtils.writeKey(generator, KEY_STORE_TERM_VECTOR_OFFSETS);
         generator.write(this.storeTermVectorOffsets);
 
-        generator.writeKey("store_term_vector_payloads");
+        JsonpUtils.writeKey(generator, KEY_STORE_TERM_VECTOR_PAYLOADS);
         generator.write(this.storeTermVectorPayloads);
 
-        generator.writeKey("store_term_vector_positions");
+        JsonpUtils.writeKey(generator, KEY_STORE_TERM_VECTOR_POSITIONS);
         generator.write(this.storeTermVectorPositions);
 
-        generator.writeKey("store_term_vectors");
+        JsonpUtils.writeKey(generator, KEY_STORE_TERM_VECTORS);
         generator.write(this.storeTermVectors);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.indices.NumericFielddata;
@@ -127,26 +129,31 @@ public class BooleanProperty extends DocValuesPropertyBase
         return this.nullValue;
     }
 
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_FIELDDATA = JsonpKey.of("fielddata");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "boolean");
         super.serializeInternal(generator, mapper);
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.fielddata != null) {
-            generator.writeKey("fielddata");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA);
             this.fielddata.serialize(generator, mapper);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class ByteNumberProperty extends NumberPropertyBase
         return this.nullValue;
     }
 
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "byte");
         super.serializeInternal(generator, mapper);
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue.doubleValue());
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -152,16 +154,23 @@ public class CompletionProperty extends DocValuesPropertyBase
         return this.searchAnalyzer;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+    private static final JsonpKey KEY_MAX_INPUT_LENGTH = JsonpKey.of("max_input_length");
+    private static final JsonpKey KEY_PRESERVE_POSITION_INCREMENTS = JsonpKey.of("preserve_position_increments");
+    private static final JsonpKey KEY_PRESERVE_SEPARATORS = JsonpKey.of("preserve_separators");
+    private static final JsonpKey KEY_SEARCH_ANALYZER = JsonpKey.of("search_analyzer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "completion");
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (ApiTypeHelper.isDefined(this.contexts)) {
-            generator.writeKey("contexts");
+            JsonpUtils.writeKey(generator, KEY_CONTEXTS);
             generator.writeStartArray();
             for (SuggestContext item0 : this.contexts) {
                 item0.serialize(generator, mapper);
@@ -170,22 +179,22 @@ public class CompletionProperty extends DocValuesPropertyBase
         }
 
         if (this.maxInputLength != null) {
-            generator.writeKey("max_input_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_INPUT_LENGTH);
             generator.write(this.maxInputLength);
         }
 
         if (this.preservePositionIncrements != null) {
-            generator.writeKey("preserve_position_increments");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_POSITION_INCREMENTS);
             generator.write(this.preservePositionIncrements);
         }
 
         if (this.preserveSeparators != null) {
-            generator.writeKey("preserve_separators");
+            JsonpUtils.writeKey(generator, KEY_PRESERVE_SEPARATORS);
             generator.write(this.preserveSeparators);
         }
 
         if (this.searchAnalyzer != null) {
-            generator.writeKey("search_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ANALYZER);
             generator.write(this.searchAnalyzer);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -91,11 +93,13 @@ public class ConstantKeywordProperty extends PropertyBase
         return this.value;
     }
 
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "constant_keyword");
         super.serializeInternal(generator, mapper);
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             this.value.serialize(generator, mapper);
         }
     }
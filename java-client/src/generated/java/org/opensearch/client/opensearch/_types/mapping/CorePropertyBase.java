@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
 
@@ -94,10 +96,14 @@ public abstract class CorePropertyBase extends PropertyBase {
         return this.store;
     }
 
+    private static final JsonpKey KEY_COPY_TO = JsonpKey.of("copy_to");
+    private static final JsonpKey KEY_SIMILARITY = JsonpKey.of("similarity");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.copyTo)) {
-            generator.writeKey("copy_to");
+            JsonpUtils.writeKey(generator, KEY_COPY_TO);
             generator.writeStartArray();
             for (String item0 : this.copyTo) {
                 generator.write(item0);
@@ -106,12 +112,12 @@ public abstract class CorePropertyBase extends PropertyBase {
         }
 
         if (this.similarity != null) {
-            generator.writeKey("similarity");
+            JsonpUtils.writeKey(generator, KEY_SIMILARITY);
             generator.write(this.similarity);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             generator.write(this.store);
         }
     }
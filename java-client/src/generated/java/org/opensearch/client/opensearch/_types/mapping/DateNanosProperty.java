@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -150,36 +152,43 @@ public class DateNanosProperty extends DocValuesPropertyBase
         return this.precisionStep;
     }
 
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+    private static final JsonpKey KEY_PRECISION_STEP = JsonpKey.of("precision_step");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "date_nanos");
         super.serializeInternal(generator, mapper);
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue);
         }
 
         if (this.precisionStep != null) {
-            generator.writeKey("precision_step");
+            JsonpUtils.writeKey(generator, KEY_PRECISION_STEP);
             generator.write(this.precisionStep);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _types.mapping.DocValuesPropertyBase
@@ -68,10 +70,12 @@ public abstract class DocValuesPropertyBase extends CorePropertyBase {
         return this.docValues;
     }
 
+    private static final JsonpKey KEY_DOC_VALUES = JsonpKey.of("doc_values");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.docValues != null) {
-            generator.writeKey("doc_values");
+            JsonpUtils.writeKey(generator, KEY_DOC_VALUES);
             generator.write(this.docValues);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -162,39 +164,47 @@ public class DynamicTemplate implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAPPING = JsonpKey.of("mapping");
+    private static final JsonpKey KEY_MATCH = JsonpKey.of("match");
+    private static final JsonpKey KEY_MATCH_MAPPING_TYPE = JsonpKey.of("match_mapping_type");
+    private static final JsonpKey KEY_MATCH_PATTERN = JsonpKey.of("match_pattern");
+    private static final JsonpKey KEY_PATH_MATCH = JsonpKey.of("path_match");
+    private static final JsonpKey KEY_PATH_UNMATCH = JsonpKey.of("path_unmatch");
+    private static final JsonpKey KEY_UNMATCH = JsonpKey.of("unmatch");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mapping != null) {
-            generator.writeKey("mapping");
+            JsonpUtils.writeKey(generator, KEY_MAPPING);
             this.mapping.serialize(generator, mapper);
         }
 
         if (this.match != null) {
-            generator.writeKey("match");
+            JsonpUtils.writeKey(generator, KEY_MATCH);
             generator.write(this.match);
         }
 
         if (this.matchMappingType != null) {
-            generator.writeKey("match_mapping_type");
+            JsonpUtils.writeKey(generator, KEY_MATCH_MAPPING_TYPE);
             generator.write(this.matchMappingType);
         }
 
         if (this.matchPattern != null) {
-            generator.writeKey("match_pattern");
+            JsonpUtils.writeKey(generator, KEY_MATCH_PATTERN);
             this.matchPattern.serialize(generator, mapper);
         }
 
         if (this.pathMatch != null) {
-            generator.writeKey("path_match");
+            JsonpUtils.writeKey(generator, KEY_PATH_MATCH);
             generator.write(this.pathMatch);
         }
 
         if (this.pathUnmatch != null) {
-            generator.writeKey("path_unmatch");
+            JsonpUtils.writeKey(generator, KEY_PATH_UNMATCH);
             generator.write(this.pathUnmatch);
         }
 
         if (this.unmatch != null) {
-            generator.writeKey("unmatch");
+            JsonpUtils.writeKey(generator, KEY_UNMATCH);
             generator.write(this.unmatch);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,16 +104,19 @@ public class FlatObjectProperty extends PropertyBase
         return this.searchable;
     }
 
+    private static final JsonpKey KEY_AGGREGATABLE = JsonpKey.of("aggregatable");
+    private static final JsonpKey KEY_SEARCHABLE = JsonpKey.of("searchable");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "flat_object");
         super.serializeInternal(generator, mapper);
         if (this.aggregatable != null) {
-            generator.writeKey("aggregatable");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATABLE);
             generator.write(this.aggregatable);
         }
 
         if (this.searchable != null) {
-            generator.writeKey("searchable");
+            JsonpUtils.writeKey(generator, KEY_SEARCHABLE);
             generator.write(this.searchable);
         }
     }
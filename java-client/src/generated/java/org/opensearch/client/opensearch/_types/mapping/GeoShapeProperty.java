@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -150,36 +152,43 @@ public class GeoShapeProperty extends DocValuesPropertyBase
         return this.strategy;
     }
 
+    private static final JsonpKey KEY_COERCE = JsonpKey.of("coerce");
+    private static final JsonpKey KEY_DISTANCE_ERROR_PCT = JsonpKey.of("distance_error_pct");
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_IGNORE_Z_VALUE = JsonpKey.of("ignore_z_value");
+    private static final JsonpKey KEY_ORIENTATION = JsonpKey.of("orientation");
+    private static final JsonpKey KEY_STRATEGY = JsonpKey.of("strategy");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "geo_shape");
         super.serializeInternal(generator, mapper);
         if (this.coerce != null) {
-            generator.writeKey("coerce");
+            JsonpUtils.writeKey(generator, KEY_COERCE);
             generator.write(this.coerce);
         }
 
         if (this.distanceErrorPct != null) {
-            generator.writeKey("distance_error_pct");
+            JsonpUtils.writeKey(generator, KEY_DISTANCE_ERROR_PCT);
             generator.write(this.distanceErrorPct);
         }
 
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
         if (this.ignoreZValue != null) {
-            generator.writeKey("ignore_z_value");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_Z_VALUE);
             generator.write(this.ignoreZValue);
         }
 
         if (this.orientation != null) {
-            generator.writeKey("orientation");
+            JsonpUtils.writeKey(generator, KEY_ORIENTATION);
             this.orientation.serialize(generator, mapper);
         }
 
         if (this.strategy != null) {
-            generator.writeKey("strategy");
+            JsonpUtils.writeKey(generator, KEY_STRATEGY);
             this.strategy.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.analysis.IcuCollationAlternate;
@@ -240,71 +242,85 @@ public class IcuCollationKeywordProperty extends DocValuesPropertyBase
         return this.variant;
     }
 
+    private static final JsonpKey KEY_ALTERNATE = JsonpKey.of("alternate");
+    private static final JsonpKey KEY_CASE_FIRST = JsonpKey.of("case_first");
+    private static final JsonpKey KEY_CASE_LEVEL = JsonpKey.of("case_level");
+    private static final JsonpKey KEY_COUNTRY = JsonpKey.of("country");
+    private static final JsonpKey KEY_DECOMPOSITION = JsonpKey.of("decomposition");
+    private static final JsonpKey KEY_HIRAGANA_QUATERNARY_MODE = JsonpKey.of("hiragana_quaternary_mode");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_LANGUAGE = JsonpKey.of("language");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+    private static final JsonpKey KEY_NUMERIC = JsonpKey.of("numeric");
+    private static final JsonpKey KEY_STRENGTH = JsonpKey.of("strength");
+    private static final JsonpKey KEY_VARIABLE_TOP = JsonpKey.of("variable_top");
+    private static final JsonpKey KEY_VARIANT = JsonpKey.of("variant");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "icu_collation_keyword");
         super.serializeInternal(generator, mapper);
         if (this.alternate != null) {
-            generator.writeKey("alternate");
+            JsonpUtils.writeKey(generator, KEY_ALTERNATE);
             this.alternate.serialize(generator, mapper);
         }
 
         if (this.caseFirst != null) {
-            generator.writeKey("case_first");
+            JsonpUtils.writeKey(generator, KEY_CASE_FIRST);
             this.caseFirst.serialize(generator, mapper);
         }
 
         if (this.caseLevel != null) {
-            generator.writeKey("case_level");
+            JsonpUtils.writeKey(generator, KEY_CASE_LEVEL);
             generator.write(this.caseLevel);
         }
 
         if (this.country != null) {
-            generator.writeKey("country");
+            JsonpUtils.writeKey(generator, KEY_COUNTRY);
             generator.write(this.country);
         }
 
         if (this.decomposition != null) {
-            generator.writeKey("decomposition");
+            JsonpUtils.writeKey(generator, KEY_DECOMPOSITION);
             this.decomposition.serialize(generator, mapper);
         }
 
         if (this.hiraganaQuaternaryMode != null) {
-            generator.writeKey("hiragana_quaternary_mode");
+            JsonpUtils.writeKey(generator, KEY_HIRAGANA_QUATERNARY_MODE);
             generator.write(this.hiraganaQuaternaryMode);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.language != null) {
-            generator.writeKey("language");
+            JsonpUtils.writeKey(generator, KEY_LANGUAGE);
             generator.write(this.language);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue);
         }
 
         if (this.numeric != null) {
-            generator.writeKey("numeric");
+            JsonpUtils.writeKey(generator, KEY_NUMERIC);
             generator.write(this.numeric);
         }
 
         if (this.strength != null) {
-            generator.writeKey("strength");
+            JsonpUtils.writeKey(generator, KEY_STRENGTH);
             this.strength.serialize(generator, mapper);
         }
 
         if (this.variableTop != null) {
-            generator.writeKey("variable_top");
+            JsonpUtils.writeKey(generator, KEY_VARIABLE_TOP);
             generator.write(this.variableTop);
         }
 
         if (this.variant != null) {
-            generator.writeKey("variant");
+            JsonpUtils.writeKey(generator, KEY_VARIANT);
             generator.write(this.variant);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -102,16 +104,19 @@ public class JoinProperty extends PropertyBase implements PropertyVariant, ToCop
         return this.relations;
     }
 
+    private static final JsonpKey KEY_EAGER_GLOBAL_ORDINALS = JsonpKey.of("eager_global_ordinals");
+    private static final JsonpKey KEY_RELATIONS = JsonpKey.of("relations");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "join");
         super.serializeInternal(generator, mapper);
         if (this.eagerGlobalOrdinals != null) {
-            generator.writeKey("eager_global_ordinals");
+            JsonpUtils.writeKey(generator, KEY_EAGER_GLOBAL_ORDINALS);
             generator.write(this.eagerGlobalOrdinals);
         }
 
         if (ApiTypeHelper.isDefined(this.relations)) {
-            generator.writeKey("relations");
+            JsonpUtils.writeKey(generator, KEY_RELATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.relations.entrySet()) {
                 generator.writeKey(item0.getKey());
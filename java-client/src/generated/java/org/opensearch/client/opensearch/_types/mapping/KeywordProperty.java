@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -174,46 +176,55 @@ public class KeywordProperty extends DocValuesPropertyBase
         return this.splitQueriesOnWhitespace;
     }
 
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_EAGER_GLOBAL_ORDINALS = JsonpKey.of("eager_global_ordinals");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEX_OPTIONS = JsonpKey.of("index_options");
+    private static final JsonpKey KEY_NORMALIZER = JsonpKey.of("normalizer");
+    private static final JsonpKey KEY_NORMS = JsonpKey.of("norms");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+    private static final JsonpKey KEY_SPLIT_QUERIES_ON_WHITESPACE = JsonpKey.of("split_queries_on_whitespace");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "keyword");
         super.serializeInternal(generator, mapper);
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.eagerGlobalOrdinals != null) {
-            generator.writeKey("eager_global_ordinals");
+            JsonpUtils.writeKey(generator, KEY_EAGER_GLOBAL_ORDINALS);
             generator.write(this.eagerGlobalOrdinals);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexOptions != null) {
-            generator.writeKey("index_options");
+            JsonpUtils.writeKey(generator, KEY_INDEX_OPTIONS);
             this.indexOptions.serialize(generator, mapper);
         }
 
         if (this.normalizer != null) {
-            generator.writeKey("normalizer");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZER);
             generator.write(this.normalizer);
         }
 
         if (this.norms != null) {
-            generator.writeKey("norms");
+            JsonpUtils.writeKey(generator, KEY_NORMS);
             generator.write(this.norms);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue);
         }
 
         if (this.splitQueriesOnWhitespace != null) {
-            generator.writeKey("split_queries_on_whitespace");
+            JsonpUtils.writeKey(generator, KEY_SPLIT_QUERIES_ON_WHITESPACE);
             generator.write(this.splitQueriesOnWhitespace);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -161,39 +163,47 @@ public class KnnVectorProperty extends DocValuesPropertyBase
         return this.spaceType;
     }
 
+    private static final JsonpKey KEY_COMPRESSION_LEVEL = JsonpKey.of("compression_level");
+    private static final JsonpKey KEY_DATA_TYPE = JsonpKey.of("data_type");
+    private static final JsonpKey KEY_DIMENSION = JsonpKey.of("dimension");
+    private static final JsonpKey KEY_METHOD = JsonpKey.of("method");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_SPACE_TYPE = JsonpKey.of("space_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "knn_vector");
         super.serializeInternal(generator, mapper);
         if (this.compressionLevel != null) {
-            generator.writeKey("compression_level");
+            JsonpUtils.writeKey(generator, KEY_COMPRESSION_LEVEL);
             generator.write(this.compressionLevel);
         }
 
         if (this.dataType != null) {
-            generator.writeKey("data_type");
+            JsonpUtils.writeKey(generator, KEY_DATA_TYPE);
             generator.write(this.dataType);
         }
 
-        generator.writeKey("dimension");
+        JsonpUtils.writeKey(generator, KEY_DIMENSION);
         generator.write(this.dimension);
 
         if (this.method != null) {
-            generator.writeKey("method");
+            JsonpUtils.writeKey(generator, KEY_METHOD);
             this.method.serialize(generator, mapper);
         }
 
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.write(this.mode);
         }
 
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.spaceType != null) {
-            generator.writeKey("space_type");
+            JsonpUtils.writeKey(generator, KEY_SPACE_TYPE);
             generator.write(this.spaceType);
         }
     }
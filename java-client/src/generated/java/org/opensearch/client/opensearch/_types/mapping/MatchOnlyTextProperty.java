@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,10 +138,14 @@ public class MatchOnlyTextProperty
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COPY_TO = JsonpKey.of("copy_to");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "match_only_text");
         if (ApiTypeHelper.isDefined(this.copyTo)) {
-            generator.writeKey("copy_to");
+            JsonpUtils.writeKey(generator, KEY_COPY_TO);
             generator.writeStartArray();
             for (String item0 : this.copyTo) {
                 generator.write(item0);
@@ -148,7 +154,7 @@ public class MatchOnlyTextProperty
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, Property> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -158,7 +164,7 @@ public class MatchOnlyTextProperty
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
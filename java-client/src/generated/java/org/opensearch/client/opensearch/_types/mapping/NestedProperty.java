@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -111,21 +113,25 @@ public class NestedProperty extends CorePropertyBase implements PropertyVariant,
         return this.includeInRoot;
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_INCLUDE_IN_PARENT = JsonpKey.of("include_in_parent");
+    private static final JsonpKey KEY_INCLUDE_IN_ROOT = JsonpKey.of("include_in_root");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "nested");
         super.serializeInternal(generator, mapper);
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.includeInParent != null) {
-            generator.writeKey("include_in_parent");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_IN_PARENT);
             generator.write(this.includeInParent);
         }
 
         if (this.includeInRoot != null) {
-            generator.writeKey("include_in_root");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_IN_ROOT);
             generator.write(this.includeInRoot);
         }
     }
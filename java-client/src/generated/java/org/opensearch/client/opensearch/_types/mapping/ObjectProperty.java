@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -87,11 +89,13 @@ public class ObjectProperty extends CorePropertyBase implements PropertyVariant,
         return this.enabled;
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "object");
         super.serializeInternal(generator, mapper);
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
     }
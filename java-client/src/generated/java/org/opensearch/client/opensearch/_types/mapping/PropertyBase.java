@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -134,14 +136,20 @@ public abstract class PropertyBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DYNAMIC = JsonpKey.of("dynamic");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_IGNORE_ABOVE = JsonpKey.of("ignore_above");
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.dynamic != null) {
-            generator.writeKey("dynamic");
+            JsonpUtils.writeKey(generator, KEY_DYNAMIC);
             this.dynamic.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, Property> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -151,12 +159,12 @@ public abstract class PropertyBase implements PlainJsonSerializable {
         }
 
         if (this.ignoreAbove != null) {
-            generator.writeKey("ignore_above");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_ABOVE);
             generator.write(this.ignoreAbove);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -166,7 +174,7 @@ public abstract class PropertyBase implements PlainJsonSerializable {
         }
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartObject();
             for (Map.Entry<String, Property> item0 : this.properties.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -90,11 +92,13 @@ public class RankFeatureProperty extends PropertyBase
         return this.positiveScoreImpact;
     }
 
+    private static final JsonpKey KEY_POSITIVE_SCORE_IMPACT = JsonpKey.of("positive_score_impact");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "rank_feature");
         super.serializeInternal(generator, mapper);
         if (this.positiveScoreImpact != null) {
-            generator.writeKey("positive_score_impact");
+            JsonpUtils.writeKey(generator, KEY_POSITIVE_SCORE_IMPACT);
             generator.write(this.positiveScoreImpact);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -87,8 +89,10 @@ public class RoutingField implements PlainJsonSerializable, ToCopyableBuilder<Ro
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_REQUIRED = JsonpKey.of("required");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("required");
+        JsonpUtils.writeKey(generator, KEY_REQUIRED);
         generator.write(this.required);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -174,46 +176,55 @@ public class SearchAsYouTypeProperty extends CorePropertyBase
         return this.termVector;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEX_OPTIONS = JsonpKey.of("index_options");
+    private static final JsonpKey KEY_MAX_SHINGLE_SIZE = JsonpKey.of("max_shingle_size");
+    private static final JsonpKey KEY_NORMS = JsonpKey.of("norms");
+    private static final JsonpKey KEY_SEARCH_ANALYZER = JsonpKey.of("search_analyzer");
+    private static final JsonpKey KEY_SEARCH_QUOTE_ANALYZER = JsonpKey.of("search_quote_analyzer");
+    private static final JsonpKey KEY_TERM_VECTOR = JsonpKey.of("term_vector");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "search_as_you_type");
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexOptions != null) {
-            generator.writeKey("index_options");
+            JsonpUtils.writeKey(generator, KEY_INDEX_OPTIONS);
             this.indexOptions.serialize(generator, mapper);
         }
 
         if (this.maxShingleSize != null) {
-            generator.writeKey("max_shingle_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_SHINGLE_SIZE);
             generator.write(this.maxShingleSize);
         }
 
         if (this.norms != null) {
-            generator.writeKey("norms");
+            JsonpUtils.writeKey(generator, KEY_NORMS);
             generator.write(this.norms);
         }
 
         if (this.searchAnalyzer != null) {
-            generator.writeKey("search_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ANALYZER);
             generator.write(this.searchAnalyzer);
         }
 
         if (this.searchQuoteAnalyzer != null) {
-            generator.writeKey("search_quote_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUOTE_ANALYZER);
             generator.write(this.searchQuoteAnalyzer);
         }
 
         if (this.termVector != null) {
-            generator.writeKey("term_vector");
+            JsonpUtils.writeKey(generator, KEY_TERM_VECTOR);
             this.termVector.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,24 +133,29 @@ public class SemanticDenseEmbeddingConfig
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPRESSION_LEVEL = JsonpKey.of("compression_level");
+    private static final JsonpKey KEY_DATA_TYPE = JsonpKey.of("data_type");
+    private static final JsonpKey KEY_METHOD = JsonpKey.of("method");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.compressionLevel != null) {
-            generator.writeKey("compression_level");
+            JsonpUtils.writeKey(generator, KEY_COMPRESSION_LEVEL);
             generator.write(this.compressionLevel);
         }
 
         if (this.dataType != null) {
-            generator.writeKey("data_type");
+            JsonpUtils.writeKey(generator, KEY_DATA_TYPE);
             generator.write(this.dataType);
         }
 
         if (this.method != null) {
-            generator.writeKey("method");
+            JsonpUtils.writeKey(generator, KEY_METHOD);
             this.method.serialize(generator, mapper);
         }
 
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.write(this.mode);
         }
     }
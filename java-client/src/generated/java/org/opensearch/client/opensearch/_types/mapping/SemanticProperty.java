@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -200,48 +202,58 @@ public class SemanticProperty
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHUNKING = JsonpKey.of("chunking");
+    private static final JsonpKey KEY_DENSE_EMBEDDING_CONFIG = JsonpKey.of("dense_embedding_config");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_RAW_FIELD_TYPE = JsonpKey.of("raw_field_type");
+    private static final JsonpKey KEY_SEARCH_MODEL_ID = JsonpKey.of("search_model_id");
+    private static final JsonpKey KEY_SEMANTIC_FIELD_SEARCH_ANALYZER = JsonpKey.of("semantic_field_search_analyzer");
+    private static final JsonpKey KEY_SEMANTIC_INFO_FIELD_NAME = JsonpKey.of("semantic_info_field_name");
+    private static final JsonpKey KEY_SKIP_EXISTING_EMBEDDING = JsonpKey.of("skip_existing_embedding");
+    private static final JsonpKey KEY_SPARSE_ENCODING_CONFIG = JsonpKey.of("sparse_encoding_config");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "semantic");
         if (this.chunking != null) {
-            generator.writeKey("chunking");
+            JsonpUtils.writeKey(generator, KEY_CHUNKING);
             this.chunking.serialize(generator, mapper);
         }
 
         if (this.denseEmbeddingConfig != null) {
-            generator.writeKey("dense_embedding_config");
+            JsonpUtils.writeKey(generator, KEY_DENSE_EMBEDDING_CONFIG);
             this.denseEmbeddingConfig.serialize(generator, mapper);
         }
 
-        generator.writeKey("model_id");
+        JsonpUtils.writeKey(generator, KEY_MODEL_ID);
         generator.write(this.modelId);
 
         if (this.rawFieldType != null) {
-            generator.writeKey("raw_field_type");
+            JsonpUtils.writeKey(generator, KEY_RAW_FIELD_TYPE);
             generator.write(this.rawFieldType);
         }
 
         if (this.searchModelId != null) {
-            generator.writeKey("search_model_id");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_MODEL_ID);
             generator.write(this.searchModelId);
         }
 
         if (this.semanticFieldSearchAnalyzer != null) {
-            generator.writeKey("semantic_field_search_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEMANTIC_FIELD_SEARCH_ANALYZER);
             generator.write(this.semanticFieldSearchAnalyzer);
         }
 
         if (this.semanticInfoFieldName != null) {
-            generator.writeKey("semantic_info_field_name");
+            JsonpUtils.writeKey(generator, KEY_SEMANTIC_INFO_FIELD_NAME);
             generator.write(this.semanticInfoFieldName);
         }
 
         if (this.skipExistingEmbedding != null) {
-            generator.writeKey("skip_existing_embedding");
+            JsonpUtils.writeKey(generator, KEY_SKIP_EXISTING_EMBEDDING);
             generator.write(this.skipExistingEmbedding);
         }
 
         if (this.sparseEncodingConfig != null) {
-            generator.writeKey("sparse_encoding_config");
+            JsonpUtils.writeKey(generator, KEY_SPARSE_ENCODING_CONFIG);
             this.sparseEncodingConfig.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,17 @@ public class SemanticSparseEncodingConfig
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PRUNE_RATIO = JsonpKey.of("prune_ratio");
+    private static final JsonpKey KEY_PRUNE_TYPE = JsonpKey.of("prune_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.pruneRatio != null) {
-            generator.writeKey("prune_ratio");
+            JsonpUtils.writeKey(generator, KEY_PRUNE_RATIO);
             generator.write(this.pruneRatio.doubleValue());
         }
 
         if (this.pruneType != null) {
-            generator.writeKey("prune_type");
+            JsonpUtils.writeKey(generator, KEY_PRUNE_TYPE);
             generator.write(this.pruneType);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -87,8 +89,10 @@ public class SizeField implements PlainJsonSerializable, ToCopyableBuilder<SizeF
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("enabled");
+        JsonpUtils.writeKey(generator, KEY_ENABLED);
         generator.write(this.enabled);
     }
 
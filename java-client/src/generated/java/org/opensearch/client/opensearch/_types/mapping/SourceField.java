@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainDeserializable;
@@ -141,24 +143,30 @@ public class SourceField implements PlainJsonSerializable, ToCopyableBuilder<Sou
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPRESS = JsonpKey.of("compress");
+    private static final JsonpKey KEY_COMPRESS_THRESHOLD = JsonpKey.of("compress_threshold");
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_EXCLUDES = JsonpKey.of("excludes");
+    private static final JsonpKey KEY_INCLUDES = JsonpKey.of("includes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.compress != null) {
-            generator.writeKey("compress");
+            JsonpUtils.writeKey(generator, KEY_COMPRESS);
             generator.write(this.compress);
         }
 
         if (this.compressThreshold != null) {
-            generator.writeKey("compress_threshold");
+            JsonpUtils.writeKey(generator, KEY_COMPRESS_THRESHOLD);
             generator.write(this.compressThreshold);
         }
 
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (ApiTypeHelper.isDefined(this.excludes)) {
-            generator.writeKey("excludes");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDES);
             generator.writeStartArray();
             for (String item0 : this.excludes) {
                 generator.write(item0);
@@ -167,7 +175,7 @@ public class SourceField implements PlainJsonSerializable, ToCopyableBuilder<Sou
         }
 
         if (ApiTypeHelper.isDefined(this.includes)) {
-            generator.writeKey("includes");
+            JsonpUtils.writeKey(generator, KEY_INCLUDES);
             generator.writeStartArray();
             for (String item0 : this.includes) {
                 generator.write(item0);
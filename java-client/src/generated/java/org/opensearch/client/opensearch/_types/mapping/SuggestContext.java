@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,21 +130,26 @@ public class SuggestContext implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.path != null) {
-            generator.writeKey("path");
+            JsonpUtils.writeKey(generator, KEY_PATH);
             generator.write(this.path);
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             this.precision.serialize(generator, mapper);
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,11 +99,14 @@ public class TextIndexPrefixes implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_CHARS = JsonpKey.of("max_chars");
+    private static final JsonpKey KEY_MIN_CHARS = JsonpKey.of("min_chars");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("max_chars");
+        JsonpUtils.writeKey(generator, KEY_MAX_CHARS);
         generator.write(this.maxChars);
 
-        generator.writeKey("min_chars");
+        JsonpUtils.writeKey(generator, KEY_MIN_CHARS);
         generator.write(this.minChars);
     }
 
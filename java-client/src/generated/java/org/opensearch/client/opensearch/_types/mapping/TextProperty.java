@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.indices.FielddataFrequencyFilter;
@@ -244,76 +246,91 @@ public class TextProperty extends CorePropertyBase implements PropertyVariant, T
         return this.termVector;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_EAGER_GLOBAL_ORDINALS = JsonpKey.of("eager_global_ordinals");
+    private static final JsonpKey KEY_FIELDDATA = JsonpKey.of("fielddata");
+    private static final JsonpKey KEY_FIELDDATA_FREQUENCY_FILTER = JsonpKey.of("fielddata_frequency_filter");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEX_OPTIONS = JsonpKey.of("index_options");
+    private static final JsonpKey KEY_INDEX_PHRASES = JsonpKey.of("index_phrases");
+    private static final JsonpKey KEY_INDEX_PREFIXES = JsonpKey.of("index_prefixes");
+    private static final JsonpKey KEY_NORMS = JsonpKey.of("norms");
+    private static final JsonpKey KEY_POSITION_INCREMENT_GAP = JsonpKey.of("position_increment_gap");
+    private static final JsonpKey KEY_SEARCH_ANALYZER = JsonpKey.of("search_analyzer");
+    private static final JsonpKey KEY_SEARCH_QUOTE_ANALYZER = JsonpKey.of("search_quote_analyzer");
+    private static final JsonpKey KEY_TERM_VECTOR = JsonpKey.of("term_vector");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "text");
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.eagerGlobalOrdinals != null) {
-            generator.writeKey("eager_global_ordinals");
+            JsonpUtils.writeKey(generator, KEY_EAGER_GLOBAL_ORDINALS);
             generator.write(this.eagerGlobalOrdinals);
         }
 
         if (this.fielddata != null) {
-            generator.writeKey("fielddata");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA);
             generator.write(this.fielddata);
         }
 
         if (this.fielddataFrequencyFilter != null) {
-            generator.writeKey("fielddata_frequency_filter");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_FREQUENCY_FILTER);
             this.fielddataFrequencyFilter.serialize(generator, mapper);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexOptions != null) {
-            generator.writeKey("index_options");
+            JsonpUtils.writeKey(generator, KEY_INDEX_OPTIONS);
             this.indexOptions.serialize(generator, mapper);
         }
 
         if (this.indexPhrases != null) {
-            generator.writeKey("index_phrases");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PHRASES);
             generator.write(this.indexPhrases);
         }
 
         if (this.indexPrefixes != null) {
-            generator.writeKey("index_prefixes");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PREFIXES);
             this.indexPrefixes.serialize(generator, mapper);
         }
 
         if (this.norms != null) {
-            generator.writeKey("norms");
+            JsonpUtils.writeKey(generator, KEY_NORMS);
             generator.write(this.norms);
         }
 
         if (this.positionIncrementGap != null) {
-            generator.writeKey("position_increment_gap");
+            JsonpUtils.writeKey(generator, KEY_POSITION_INCREMENT_GAP);
             generator.write(this.positionIncrementGap);
         }
 
         if (this.searchAnalyzer != null) {
-            generator.writeKey("search_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ANALYZER);
             generator.write(this.searchAnalyzer);
         }
 
         if (this.searchQuoteAnalyzer != null) {
-            generator.writeKey("search_quote_analyzer");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUOTE_ANALYZER);
             generator.write(this.searchQuoteAnalyzer);
         }
 
         if (this.termVector != null) {
-            generator.writeKey("term_vector");
+            JsonpUtils.writeKey(generator, KEY_TERM_VECTOR);
             this.termVector.serialize(generator, mapper);
         }
     }
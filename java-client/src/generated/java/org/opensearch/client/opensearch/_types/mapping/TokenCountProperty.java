@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -138,31 +140,37 @@ public class TokenCountProperty extends DocValuesPropertyBase
         return this.nullValue;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_ENABLE_POSITION_INCREMENTS = JsonpKey.of("enable_position_increments");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "token_count");
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.enablePositionIncrements != null) {
-            generator.writeKey("enable_position_increments");
+            JsonpUtils.writeKey(generator, KEY_ENABLE_POSITION_INCREMENTS);
             generator.write(this.enablePositionIncrements);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             generator.write(this.nullValue);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainDeserializable;
@@ -263,29 +265,45 @@ public class TypeMapping implements PlainJsonSerializable, ToCopyableBuilder<Typ
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALL_FIELD = JsonpKey.of("all_field");
+    private static final JsonpKey KEY_DATA_STREAM_TIMESTAMP = JsonpKey.of("_data_stream_timestamp");
+    private static final JsonpKey KEY_DATE_DETECTION = JsonpKey.of("date_detection");
+    private static final JsonpKey KEY_DYNAMIC = JsonpKey.of("dynamic");
+    private static final JsonpKey KEY_DYNAMIC_DATE_FORMATS = JsonpKey.of("dynamic_date_formats");
+    private static final JsonpKey KEY_DYNAMIC_TEMPLATES = JsonpKey.of("dynamic_templates");
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_FIELD_NAMES = JsonpKey.of("_field_names");
+    private static final JsonpKey KEY_INDEX_FIELD = JsonpKey.of("index_field");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_NUMERIC_DETECTION = JsonpKey.of("numeric_detection");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("_size");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allField != null) {
-            generator.writeKey("all_field");
+            JsonpUtils.writeKey(generator, KEY_ALL_FIELD);
             this.allField.serialize(generator, mapper);
         }
 
         if (this.dataStreamTimestamp != null) {
-            generator.writeKey("_data_stream_timestamp");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAM_TIMESTAMP);
             this.dataStreamTimestamp.serialize(generator, mapper);
         }
 
         if (this.dateDetection != null) {
-            generator.writeKey("date_detection");
+            JsonpUtils.writeKey(generator, KEY_DATE_DETECTION);
             generator.write(this.dateDetection);
         }
 
         if (this.dynamic != null) {
-            generator.writeKey("dynamic");
+            JsonpUtils.writeKey(generator, KEY_DYNAMIC);
             this.dynamic.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.dynamicDateFormats)) {
-            generator.writeKey("dynamic_date_formats");
+            JsonpUtils.writeKey(generator, KEY_DYNAMIC_DATE_FORMATS);
             generator.writeStartArray();
             for (String item0 : this.dynamicDateFormats) {
                 generator.write(item0);
@@ -294,7 +312,7 @@ public class TypeMapping implements PlainJsonSerializable, ToCopyableBuilder<Typ
         }
 
         if (ApiTypeHelper.isDefined(this.dynamicTemplates)) {
-            generator.writeKey("dynamic_templates");
+            JsonpUtils.writeKey(generator, KEY_DYNAMIC_TEMPLATES);
             generator.writeStartArray();
             for (Map<String, DynamicTemplate> item0 : this.dynamicTemplates) {
                 generator.writeStartObject();
@@ -310,22 +328,22 @@ public class TypeMapping implements PlainJsonSerializable, ToCopyableBuilder<Typ
         }
 
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.fieldNames != null) {
-            generator.writeKey("_field_names");
+            JsonpUtils.writeKey(generator, KEY_FIELD_NAMES);
             this.fieldNames.serialize(generator, mapper);
         }
 
         if (this.indexField != null) {
-            generator.writeKey("index_field");
+            JsonpUtils.writeKey(generator, KEY_INDEX_FIELD);
             this.indexField.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -335,12 +353,12 @@ public class TypeMapping implements PlainJsonSerializable, ToCopyableBuilder<Typ
         }
 
         if (this.numericDetection != null) {
-            generator.writeKey("numeric_detection");
+            JsonpUtils.writeKey(generator, KEY_NUMERIC_DETECTION);
             generator.write(this.numericDetection);
         }
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartObject();
             for (Map.Entry<String, Property> item0 : this.properties.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -350,17 +368,17 @@ public class TypeMapping implements PlainJsonSerializable, ToCopyableBuilder<Typ
         }
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             this.routing.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("_size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             this.size.serialize(generator, mapper);
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             this.source.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.XyLocation;
@@ -91,21 +93,25 @@ public class XyPointProperty extends DocValuesPropertyBase
         return this.nullValue;
     }
 
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_IGNORE_Z_VALUE = JsonpKey.of("ignore_z_value");
+    private static final JsonpKey KEY_NULL_VALUE = JsonpKey.of("null_value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "xy_point");
         super.serializeInternal(generator, mapper);
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
         if (this.ignoreZValue != null) {
-            generator.writeKey("ignore_z_value");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_Z_VALUE);
             generator.write(this.ignoreZValue);
         }
 
         if (this.nullValue != null) {
-            generator.writeKey("null_value");
+            JsonpUtils.writeKey(generator, KEY_NULL_VALUE);
             this.nullValue.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -102,26 +104,31 @@ public class XyShapeProperty extends DocValuesPropertyBase
         return this.orientation;
     }
 
+    private static final JsonpKey KEY_COERCE = JsonpKey.of("coerce");
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_IGNORE_Z_VALUE = JsonpKey.of("ignore_z_value");
+    private static final JsonpKey KEY_ORIENTATION = JsonpKey.of("orientation");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("type", "xy_shape");
         super.serializeInternal(generator, mapper);
         if (this.coerce != null) {
-            generator.writeKey("coerce");
+            JsonpUtils.writeKey(generator, KEY_COERCE);
             generator.write(this.coerce);
         }
 
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
         if (this.ignoreZValue != null) {
-            generator.writeKey("ignore_z_value");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_Z_VALUE);
             generator.write(this.ignoreZValue);
         }
 
         if (this.orientation != null) {
-            generator.writeKey("orientation");
+            JsonpUtils.writeKey(generator, KEY_ORIENTATION);
             this.orientation.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -123,15 +125,19 @@ public class AgenticQuery extends QueryBase implements QueryVariant, ToCopyableB
         return this.queryText;
     }
 
+    private static final JsonpKey KEY_MEMORY_ID = JsonpKey.of("memory_id");
+    private static final JsonpKey KEY_QUERY_FIELDS = JsonpKey.of("query_fields");
+    private static final JsonpKey KEY_QUERY_TEXT = JsonpKey.of("query_text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.memoryId != null) {
-            generator.writeKey("memory_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_ID);
             generator.write(this.memoryId);
         }
 
         if (ApiTypeHelper.isDefined(this.queryFields)) {
-            generator.writeKey("query_fields");
+            JsonpUtils.writeKey(generator, KEY_QUERY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.queryFields) {
                 generator.write(item0);
@@ -139,7 +145,7 @@ public class AgenticQuery extends QueryBase implements QueryVariant, ToCopyableB
             generator.writeEnd();
         }
 
-        generator.writeKey("query_text");
+        JsonpUtils.writeKey(generator, KEY_QUERY_TEXT);
         generator.write(this.queryText);
     }
 
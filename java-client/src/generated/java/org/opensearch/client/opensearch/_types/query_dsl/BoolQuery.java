@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -167,15 +169,22 @@ public class BoolQuery extends QueryBase implements QueryVariant, ToCopyableBuil
         return this.should;
     }
 
+    private static final JsonpKey KEY_ADJUST_PURE_NEGATIVE = JsonpKey.of("adjust_pure_negative");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_MUST = JsonpKey.of("must");
+    private static final JsonpKey KEY_MUST_NOT = JsonpKey.of("must_not");
+    private static final JsonpKey KEY_SHOULD = JsonpKey.of("should");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.adjustPureNegative != null) {
-            generator.writeKey("adjust_pure_negative");
+            JsonpUtils.writeKey(generator, KEY_ADJUST_PURE_NEGATIVE);
             generator.write(this.adjustPureNegative);
         }
 
         if (ApiTypeHelper.isDefined(this.filter)) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.writeStartArray();
             for (Query item0 : this.filter) {
                 item0.serialize(generator, mapper);
@@ -184,12 +193,12 @@ public class BoolQuery extends QueryBase implements QueryVariant, ToCopyableBuil
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (ApiTypeHelper.isDefined(this.must)) {
-            generator.writeKey("must");
+            JsonpUtils.writeKey(generator, KEY_MUST);
             generator.writeStartArray();
             for (Query item0 : this.must) {
                 item0.serialize(generator, mapper);
@@ -198,7 +207,7 @@ public class BoolQuery extends QueryBase implements QueryVariant, ToCopyableBuil
         }
 
         if (ApiTypeHelper.isDefined(this.mustNot)) {
-            generator.writeKey("must_not");
+            JsonpUtils.writeKey(generator, KEY_MUST_NOT);
             generator.writeStartArray();
             for (Query item0 : this.mustNot) {
                 item0.serialize(generator, mapper);
@@ -207,7 +216,7 @@ public class BoolQuery extends QueryBase implements QueryVariant, ToCopyableBuil
         }
 
         if (ApiTypeHelper.isDefined(this.should)) {
-            generator.writeKey("should");
+            JsonpUtils.writeKey(generator, KEY_SHOULD);
             generator.writeStartArray();
             for (Query item0 : this.should) {
                 item0.serialize(generator, mapper);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -112,15 +114,19 @@ public class BoostingQuery extends QueryBase implements QueryVariant, ToCopyable
         return this.positive;
     }
 
+    private static final JsonpKey KEY_NEGATIVE = JsonpKey.of("negative");
+    private static final JsonpKey KEY_NEGATIVE_BOOST = JsonpKey.of("negative_boost");
+    private static final JsonpKey KEY_POSITIVE = JsonpKey.of("positive");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("negative");
+        JsonpUtils.writeKey(generator, KEY_NEGATIVE);
         this.negative.serialize(generator, mapper);
 
-        generator.writeKey("negative_boost");
+        JsonpUtils.writeKey(generator, KEY_NEGATIVE_BOOST);
         generator.write(this.negativeBoost);
 
-        generator.writeKey("positive");
+        JsonpUtils.writeKey(generator, KEY_POSITIVE);
         this.positive.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -163,14 +165,21 @@ public class CombinedFieldsQuery extends QueryBase
         return this.zeroTermsQuery;
     }
 
+    private static final JsonpKey KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY = JsonpKey.of("auto_generate_synonyms_phrase_query");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_OPERATOR = JsonpKey.of("operator");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_ZERO_TERMS_QUERY = JsonpKey.of("zero_terms_query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.autoGenerateSynonymsPhraseQuery != null) {
-            generator.writeKey("auto_generate_synonyms_phrase_query");
+            JsonpUtils.writeKey(generator, KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY);
             generator.write(this.autoGenerateSynonymsPhraseQuery);
         }
 
-        generator.writeKey("fields");
+        JsonpUtils.writeKey(generator, KEY_FIELDS);
         generator.writeStartArray();
         for (String item0 : this.fields) {
             generator.write(item0);
@@ -178,20 +187,20 @@ public class CombinedFieldsQuery extends QueryBase
         generator.writeEnd();
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (this.operator != null) {
-            generator.writeKey("operator");
+            JsonpUtils.writeKey(generator, KEY_OPERATOR);
             this.operator.serialize(generator, mapper);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.zeroTermsQuery != null) {
-            generator.writeKey("zero_terms_query");
+            JsonpUtils.writeKey(generator, KEY_ZERO_TERMS_QUERY);
             this.zeroTermsQuery.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -160,35 +162,42 @@ public class CommonTermsQuery extends QueryBase implements QueryVariant, ToCopya
         return this.query;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_CUTOFF_FREQUENCY = JsonpKey.of("cutoff_frequency");
+    private static final JsonpKey KEY_HIGH_FREQ_OPERATOR = JsonpKey.of("high_freq_operator");
+    private static final JsonpKey KEY_LOW_FREQ_OPERATOR = JsonpKey.of("low_freq_operator");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.cutoffFrequency != null) {
-            generator.writeKey("cutoff_frequency");
+            JsonpUtils.writeKey(generator, KEY_CUTOFF_FREQUENCY);
             generator.write(this.cutoffFrequency);
         }
 
         if (this.highFreqOperator != null) {
-            generator.writeKey("high_freq_operator");
+            JsonpUtils.writeKey(generator, KEY_HIGH_FREQ_OPERATOR);
             this.highFreqOperator.serialize(generator, mapper);
         }
 
         if (this.lowFreqOperator != null) {
-            generator.writeKey("low_freq_operator");
+            JsonpUtils.writeKey(generator, KEY_LOW_FREQ_OPERATOR);
             this.lowFreqOperator.serialize(generator, mapper);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
         generator.writeEnd();
     }
@@ -41,7 +41,9 @@ import java.util.Objects;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -78,9 +80,11 @@ public abstract class DecayFunctionBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MULTI_VALUE_MODE = JsonpKey.of("multi_value_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.multiValueMode != null) {
-            generator.writeKey("multi_value_mode");
+            JsonpUtils.writeKey(generator, KEY_MULTI_VALUE_MODE);
             this.multiValueMode.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,23 +130,28 @@ public class DecayPlacement implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DECAY = JsonpKey.of("decay");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+    private static final JsonpKey KEY_ORIGIN = JsonpKey.of("origin");
+    private static final JsonpKey KEY_SCALE = JsonpKey.of("scale");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.decay != null) {
-            generator.writeKey("decay");
+            JsonpUtils.writeKey(generator, KEY_DECAY);
             generator.write(this.decay);
         }
 
         if (this.offset != null) {
-            generator.writeKey("offset");
+            JsonpUtils.writeKey(generator, KEY_OFFSET);
             this.offset.serialize(generator, mapper);
         }
 
         if (this.origin != null) {
-            generator.writeKey("origin");
+            JsonpUtils.writeKey(generator, KEY_ORIGIN);
             this.origin.serialize(generator, mapper);
         }
 
-        generator.writeKey("scale");
+        JsonpUtils.writeKey(generator, KEY_SCALE);
         this.scale.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -108,9 +110,12 @@ public class DisMaxQuery extends QueryBase implements QueryVariant, ToCopyableBu
         return this.tieBreaker;
     }
 
+    private static final JsonpKey KEY_QUERIES = JsonpKey.of("queries");
+    private static final JsonpKey KEY_TIE_BREAKER = JsonpKey.of("tie_breaker");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("queries");
+        JsonpUtils.writeKey(generator, KEY_QUERIES);
         generator.writeStartArray();
         for (Query item0 : this.queries) {
             item0.serialize(generator, mapper);
@@ -118,7 +123,7 @@ public class DisMaxQuery extends QueryBase implements QueryVariant, ToCopyableBu
         generator.writeEnd();
 
         if (this.tieBreaker != null) {
-            generator.writeKey("tie_breaker");
+            JsonpUtils.writeKey(generator, KEY_TIE_BREAKER);
             generator.write(this.tieBreaker);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -114,15 +116,19 @@ public class DistanceFeatureQuery extends QueryBase
         return this.pivot;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_ORIGIN = JsonpKey.of("origin");
+    private static final JsonpKey KEY_PIVOT = JsonpKey.of("pivot");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
-        generator.writeKey("origin");
+        JsonpUtils.writeKey(generator, KEY_ORIGIN);
         this.origin.serialize(generator, mapper);
 
-        generator.writeKey("pivot");
+        JsonpUtils.writeKey(generator, KEY_PIVOT);
         generator.write(this.pivot);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -86,9 +88,11 @@ public class ExistsQuery extends QueryBase implements QueryVariant, ToCopyableBu
         return this.field;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,22 +129,27 @@ public class FieldLookup implements PlainJsonSerializable, ToCopyableBuilder<Fie
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.path != null) {
-            generator.writeKey("path");
+            JsonpUtils.writeKey(generator, KEY_PATH);
             generator.write(this.path);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -148,22 +150,27 @@ public class FieldValueFactorScoreFunction
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FACTOR = JsonpKey.of("factor");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_MODIFIER = JsonpKey.of("modifier");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.factor != null) {
-            generator.writeKey("factor");
+            JsonpUtils.writeKey(generator, KEY_FACTOR);
             generator.write(this.factor);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.missing != null) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             generator.write(this.missing);
         }
 
         if (this.modifier != null) {
-            generator.writeKey("modifier");
+            JsonpUtils.writeKey(generator, KEY_MODIFIER);
             this.modifier.serialize(generator, mapper);
         }
     }
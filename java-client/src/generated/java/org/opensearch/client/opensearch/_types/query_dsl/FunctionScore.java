@@ -45,8 +45,10 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonEnum;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -73,9 +75,11 @@ public class FunctionScore implements TaggedUnion<FunctionScore.Kind, FunctionSc
         ScriptScore("script_score");
 
         private final String jsonValue;
+        private final JsonpKey jsonKey;
 
         Kind(String jsonValue) {
             this.jsonValue = jsonValue;
+            this.jsonKey = JsonpKey.of(jsonValue);
         }
 
         @Override
@@ -243,20 +247,23 @@ public class FunctionScore implements TaggedUnion<FunctionScore.Kind, FunctionSc
         return TaggedUnionUtils.get(this, Kind.ScriptScore);
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_WEIGHT = JsonpKey.of("weight");
+
     @Override
     public void serialize(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject();
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.weight != null) {
-            generator.writeKey("weight");
+            JsonpUtils.writeKey(generator, KEY_WEIGHT);
             generator.write(this.weight);
         }
         if (_kind != null) {
-            generator.writeKey(_kind.jsonValue());
+            JsonpUtils.writeKey(generator, _kind.jsonKey);
             if (_value instanceof JsonpSerializable) {
                 ((JsonpSerializable) _value).serialize(generator, mapper);
             }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -161,15 +163,22 @@ public class FunctionScoreQuery extends QueryBase
         return this.scoreMode;
     }
 
+    private static final JsonpKey KEY_BOOST_MODE = JsonpKey.of("boost_mode");
+    private static final JsonpKey KEY_FUNCTIONS = JsonpKey.of("functions");
+    private static final JsonpKey KEY_MAX_BOOST = JsonpKey.of("max_boost");
+    private static final JsonpKey KEY_MIN_SCORE = JsonpKey.of("min_score");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SCORE_MODE = JsonpKey.of("score_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.boostMode != null) {
-            generator.writeKey("boost_mode");
+            JsonpUtils.writeKey(generator, KEY_BOOST_MODE);
             this.boostMode.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.functions)) {
-            generator.writeKey("functions");
+            JsonpUtils.writeKey(generator, KEY_FUNCTIONS);
             generator.writeStartArray();
             for (FunctionScore item0 : this.functions) {
                 item0.serialize(generator, mapper);
@@ -178,22 +187,22 @@ public class FunctionScoreQuery extends QueryBase
         }
 
         if (this.maxBoost != null) {
-            generator.writeKey("max_boost");
+            JsonpUtils.writeKey(generator, KEY_MAX_BOOST);
             generator.write(this.maxBoost);
         }
 
         if (this.minScore != null) {
-            generator.writeKey("min_score");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE);
             generator.write(this.minScore);
         }
 
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             this.query.serialize(generator, mapper);
         }
 
         if (this.scoreMode != null) {
-            generator.writeKey("score_mode");
+            JsonpUtils.writeKey(generator, KEY_SCORE_MODE);
             this.scoreMode.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -173,35 +175,42 @@ public class FuzzyQuery extends QueryBase implements QueryVariant, ToCopyableBui
         return this.value;
     }
 
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_MAX_EXPANSIONS = JsonpKey.of("max_expansions");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_REWRITE = JsonpKey.of("rewrite");
+    private static final JsonpKey KEY_TRANSPOSITIONS = JsonpKey.of("transpositions");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.fuzziness != null) {
-            generator.writeKey("fuzziness");
+            JsonpUtils.writeKey(generator, KEY_FUZZINESS);
             generator.write(this.fuzziness);
         }
 
         if (this.maxExpansions != null) {
-            generator.writeKey("max_expansions");
+            JsonpUtils.writeKey(generator, KEY_MAX_EXPANSIONS);
             generator.write(this.maxExpansions);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
         if (this.rewrite != null) {
-            generator.writeKey("rewrite");
+            JsonpUtils.writeKey(generator, KEY_REWRITE);
             generator.write(this.rewrite);
         }
 
         if (this.transpositions != null) {
-            generator.writeKey("transpositions");
+            JsonpUtils.writeKey(generator, KEY_TRANSPOSITIONS);
             generator.write(this.transpositions);
         }
 
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         this.value.serialize(generator, mapper);
         generator.writeEnd();
     }
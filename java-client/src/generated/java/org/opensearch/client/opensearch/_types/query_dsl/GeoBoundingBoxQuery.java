@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.GeoBounds;
@@ -149,22 +151,26 @@ public class GeoBoundingBoxQuery extends QueryBase
         return this.validationMethod;
     }
 
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_VALIDATION_METHOD = JsonpKey.of("validation_method");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         generator.writeKey(this.field);
         this.boundingBox.serialize(generator, mapper);
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
 
         if (this.validationMethod != null) {
-            generator.writeKey("validation_method");
+            JsonpUtils.writeKey(generator, KEY_VALIDATION_METHOD);
             this.validationMethod.serialize(generator, mapper);
         }
     }
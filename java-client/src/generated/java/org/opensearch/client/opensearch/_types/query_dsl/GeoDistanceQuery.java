@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.DistanceUnit;
@@ -175,30 +177,36 @@ public class GeoDistanceQuery extends QueryBase implements QueryVariant, ToCopya
         return this.validationMethod;
     }
 
+    private static final JsonpKey KEY_DISTANCE = JsonpKey.of("distance");
+    private static final JsonpKey KEY_DISTANCE_TYPE = JsonpKey.of("distance_type");
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+    private static final JsonpKey KEY_UNIT = JsonpKey.of("unit");
+    private static final JsonpKey KEY_VALIDATION_METHOD = JsonpKey.of("validation_method");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         generator.writeKey(this.field);
         this.location.serialize(generator, mapper);
-        generator.writeKey("distance");
+        JsonpUtils.writeKey(generator, KEY_DISTANCE);
         generator.write(this.distance);
 
         if (this.distanceType != null) {
-            generator.writeKey("distance_type");
+            JsonpUtils.writeKey(generator, KEY_DISTANCE_TYPE);
             this.distanceType.serialize(generator, mapper);
         }
 
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
 
         if (this.unit != null) {
-            generator.writeKey("unit");
+            JsonpUtils.writeKey(generator, KEY_UNIT);
             this.unit.serialize(generator, mapper);
         }
 
         if (this.validationMethod != null) {
-            generator.writeKey("validation_method");
+            JsonpUtils.writeKey(generator, KEY_VALIDATION_METHOD);
             this.validationMethod.serialize(generator, mapper);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -91,8 +93,10 @@ public class GeoPolygonPoints implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_POINTS = JsonpKey.of("points");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("points");
+        JsonpUtils.writeKey(generator, KEY_POINTS);
         generator.writeStartArray();
         for (GeoLocation item0 : this.points) {
             item0.serialize(generator, mapper);
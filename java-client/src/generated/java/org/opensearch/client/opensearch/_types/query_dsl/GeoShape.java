@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,9 +107,12 @@ public class GeoShape implements PlainJsonSerializable, ToCopyableBuilder<GeoSha
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATES = JsonpKey.of("coordinates");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.coordinates)) {
-            generator.writeKey("coordinates");
+            JsonpUtils.writeKey(generator, KEY_COORDINATES);
             generator.writeStartArray();
             for (JsonData item0 : this.coordinates) {
                 item0.serialize(generator, mapper);
@@ -116,7 +121,7 @@ public class GeoShape implements PlainJsonSerializable, ToCopyableBuilder<GeoSha
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -112,12 +114,14 @@ public class GeoShapeQuery extends QueryBase implements QueryVariant, ToCopyable
         return this.shape;
     }
 
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         generator.writeKey(this.field);
         this.shape.serialize(generator, mapper);
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.core.search.InnerHits;
@@ -172,37 +174,45 @@ public class HasChildQuery extends QueryBase implements QueryVariant, ToCopyable
         return this.type;
     }
 
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+    private static final JsonpKey KEY_INNER_HITS = JsonpKey.of("inner_hits");
+    private static final JsonpKey KEY_MAX_CHILDREN = JsonpKey.of("max_children");
+    private static final JsonpKey KEY_MIN_CHILDREN = JsonpKey.of("min_children");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SCORE_MODE = JsonpKey.of("score_mode");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
 
         if (this.innerHits != null) {
-            generator.writeKey("inner_hits");
+            JsonpUtils.writeKey(generator, KEY_INNER_HITS);
             this.innerHits.serialize(generator, mapper);
         }
 
         if (this.maxChildren != null) {
-            generator.writeKey("max_children");
+            JsonpUtils.writeKey(generator, KEY_MAX_CHILDREN);
             generator.write(this.maxChildren);
         }
 
         if (this.minChildren != null) {
-            generator.writeKey("min_children");
+            JsonpUtils.writeKey(generator, KEY_MIN_CHILDREN);
             generator.write(this.minChildren);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         this.query.serialize(generator, mapper);
 
         if (this.scoreMode != null) {
-            generator.writeKey("score_mode");
+            JsonpUtils.writeKey(generator, KEY_SCORE_MODE);
             this.scoreMode.serialize(generator, mapper);
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.core.search.InnerHits;
@@ -144,26 +146,32 @@ public class HasParentQuery extends QueryBase implements QueryVariant, ToCopyabl
         return this.score;
     }
 
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+    private static final JsonpKey KEY_INNER_HITS = JsonpKey.of("inner_hits");
+    private static final JsonpKey KEY_PARENT_TYPE = JsonpKey.of("parent_type");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("score");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
 
         if (this.innerHits != null) {
-            generator.writeKey("inner_hits");
+            JsonpUtils.writeKey(generator, KEY_INNER_HITS);
             this.innerHits.serialize(generator, mapper);
         }
 
-        generator.writeKey("parent_type");
+        JsonpUtils.writeKey(generator, KEY_PARENT_TYPE);
         generator.write(this.parentType);
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         this.query.serialize(generator, mapper);
 
         if (this.score != null) {
-            generator.writeKey("score");
+            JsonpUtils.writeKey(generator, KEY_SCORE);
             generator.write(this.score);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -113,20 +115,24 @@ public class HybridQuery extends QueryBase implements QueryVariant, ToCopyableBu
         return this.queries;
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_PAGINATION_DEPTH = JsonpKey.of("pagination_depth");
+    private static final JsonpKey KEY_QUERIES = JsonpKey.of("queries");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.paginationDepth != null) {
-            generator.writeKey("pagination_depth");
+            JsonpUtils.writeKey(generator, KEY_PAGINATION_DEPTH);
             generator.write(this.paginationDepth);
         }
 
         if (ApiTypeHelper.isDefined(this.queries)) {
-            generator.writeKey("queries");
+            JsonpUtils.writeKey(generator, KEY_QUERIES);
             generator.writeStartArray();
             for (Query item0 : this.queries) {
                 item0.serialize(generator, mapper);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,10 +91,12 @@ public class IdsQuery extends QueryBase implements QueryVariant, ToCopyableBuild
         return this.values;
     }
 
+    private static final JsonpKey KEY_VALUES = JsonpKey.of("values");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.values)) {
-            generator.writeKey("values");
+            JsonpUtils.writeKey(generator, KEY_VALUES);
             generator.writeStartArray();
             for (String item0 : this.values) {
                 generator.write(item0);
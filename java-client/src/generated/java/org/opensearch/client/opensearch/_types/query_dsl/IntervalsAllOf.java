@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -159,13 +161,18 @@ public class IntervalsAllOf
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_INTERVALS = JsonpKey.of("intervals");
+    private static final JsonpKey KEY_MAX_GAPS = JsonpKey.of("max_gaps");
+    private static final JsonpKey KEY_ORDERED = JsonpKey.of("ordered");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
-        generator.writeKey("intervals");
+        JsonpUtils.writeKey(generator, KEY_INTERVALS);
         generator.writeStartArray();
         for (Intervals item0 : this.intervals) {
             item0.serialize(generator, mapper);
@@ -173,12 +180,12 @@ public class IntervalsAllOf
         generator.writeEnd();
 
         if (this.maxGaps != null) {
-            generator.writeKey("max_gaps");
+            JsonpUtils.writeKey(generator, KEY_MAX_GAPS);
             generator.write(this.maxGaps);
         }
 
         if (this.ordered != null) {
-            generator.writeKey("ordered");
+            JsonpUtils.writeKey(generator, KEY_ORDERED);
             generator.write(this.ordered);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,13 +130,16 @@ public class IntervalsAnyOf
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_INTERVALS = JsonpKey.of("intervals");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
-        generator.writeKey("intervals");
+        JsonpUtils.writeKey(generator, KEY_INTERVALS);
         generator.writeStartArray();
         for (Intervals item0 : this.intervals) {
             item0.serialize(generator, mapper);
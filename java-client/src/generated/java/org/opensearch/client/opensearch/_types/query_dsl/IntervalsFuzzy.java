@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -184,32 +186,39 @@ public class IntervalsFuzzy
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_TERM = JsonpKey.of("term");
+    private static final JsonpKey KEY_TRANSPOSITIONS = JsonpKey.of("transpositions");
+    private static final JsonpKey KEY_USE_FIELD = JsonpKey.of("use_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.fuzziness != null) {
-            generator.writeKey("fuzziness");
+            JsonpUtils.writeKey(generator, KEY_FUZZINESS);
             generator.write(this.fuzziness);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
-        generator.writeKey("term");
+        JsonpUtils.writeKey(generator, KEY_TERM);
         generator.write(this.term);
 
         if (this.transpositions != null) {
-            generator.writeKey("transpositions");
+            JsonpUtils.writeKey(generator, KEY_TRANSPOSITIONS);
             generator.write(this.transpositions);
         }
 
         if (this.useField != null) {
-            generator.writeKey("use_field");
+            JsonpUtils.writeKey(generator, KEY_USE_FIELD);
             generator.write(this.useField);
         }
     }
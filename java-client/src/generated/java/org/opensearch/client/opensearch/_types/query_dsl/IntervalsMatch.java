@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -184,32 +186,39 @@ public class IntervalsMatch
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_MAX_GAPS = JsonpKey.of("max_gaps");
+    private static final JsonpKey KEY_ORDERED = JsonpKey.of("ordered");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_USE_FIELD = JsonpKey.of("use_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.maxGaps != null) {
-            generator.writeKey("max_gaps");
+            JsonpUtils.writeKey(generator, KEY_MAX_GAPS);
             generator.write(this.maxGaps);
         }
 
         if (this.ordered != null) {
-            generator.writeKey("ordered");
+            JsonpUtils.writeKey(generator, KEY_ORDERED);
             generator.write(this.ordered);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.useField != null) {
-            generator.writeKey("use_field");
+            JsonpUtils.writeKey(generator, KEY_USE_FIELD);
             generator.write(this.useField);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,17 +144,21 @@ public class IntervalsPrefix
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_PREFIX = JsonpKey.of("prefix");
+    private static final JsonpKey KEY_USE_FIELD = JsonpKey.of("use_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
-        generator.writeKey("prefix");
+        JsonpUtils.writeKey(generator, KEY_PREFIX);
         generator.write(this.prefix);
 
         if (this.useField != null) {
-            generator.writeKey("use_field");
+            JsonpUtils.writeKey(generator, KEY_USE_FIELD);
             generator.write(this.useField);
         }
     }
@@ -44,8 +44,10 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonEnum;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -75,9 +77,11 @@ public class IntervalsQuery extends QueryBase
         Wildcard("wildcard");
 
         private final String jsonValue;
+        private final JsonpKey jsonKey;
 
         Kind(String jsonValue) {
             this.jsonValue = jsonValue;
+            this.jsonKey = JsonpKey.of(jsonValue);
         }
 
         @Override
@@ -230,7 +234,7 @@ public class IntervalsQuery extends QueryBase
         generator.writeStartObject();
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
-        generator.writeKey(_kind.jsonValue());
+        JsonpUtils.writeKey(generator, _kind.jsonKey);
         if (_value instanceof JsonpSerializable) {
             ((JsonpSerializable) _value).serialize(generator, mapper);
         }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -199,31 +201,40 @@ public class KnnQuery extends QueryBase implements QueryVariant, ToCopyableBuild
         return this.vector;
     }
 
+    private static final JsonpKey KEY_EXPAND_NESTED_DOCS = JsonpKey.of("expand_nested_docs");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_K = JsonpKey.of("k");
+    private static final JsonpKey KEY_MAX_DISTANCE = JsonpKey.of("max_distance");
+    private static final JsonpKey KEY_METHOD_PARAMETERS = JsonpKey.of("method_parameters");
+    private static final JsonpKey KEY_MIN_SCORE = JsonpKey.of("min_score");
+    private static final JsonpKey KEY_RESCORE = JsonpKey.of("rescore");
+    private static final JsonpKey KEY_VECTOR = JsonpKey.of("vector");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.expandNestedDocs != null) {
-            generator.writeKey("expand_nested_docs");
+            JsonpUtils.writeKey(generator, KEY_EXPAND_NESTED_DOCS);
             generator.write(this.expandNestedDocs);
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.k != null) {
-            generator.writeKey("k");
+            JsonpUtils.writeKey(generator, KEY_K);
             generator.write(this.k);
         }
 
         if (this.maxDistance != null) {
-            generator.writeKey("max_distance");
+            JsonpUtils.writeKey(generator, KEY_MAX_DISTANCE);
             generator.write(this.maxDistance);
         }
 
         if (ApiTypeHelper.isDefined(this.methodParameters)) {
-            generator.writeKey("method_parameters");
+            JsonpUtils.writeKey(generator, KEY_METHOD_PARAMETERS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.methodParameters.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -233,16 +244,16 @@ public class KnnQuery extends QueryBase implements QueryVariant, ToCopyableBuild
         }
 
         if (this.minScore != null) {
-            generator.writeKey("min_score");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE);
             generator.write(this.minScore);
         }
 
         if (this.rescore != null) {
-            generator.writeKey("rescore");
+            JsonpUtils.writeKey(generator, KEY_RESCORE);
             this.rescore.serialize(generator, mapper);
         }
 
-        generator.writeKey("vector");
+        JsonpUtils.writeKey(generator, KEY_VECTOR);
         generator.writeStartArray();
         for (Float item0 : this.vector) {
             generator.write(item0);
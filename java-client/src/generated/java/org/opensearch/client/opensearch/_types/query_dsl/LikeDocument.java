@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -182,14 +184,23 @@ public class LikeDocument implements PlainJsonSerializable, ToCopyableBuilder<Li
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC = JsonpKey.of("doc");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_PER_FIELD_ANALYZER = JsonpKey.of("per_field_analyzer");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.doc != null) {
-            generator.writeKey("doc");
+            JsonpUtils.writeKey(generator, KEY_DOC);
             this.doc.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -198,17 +209,17 @@ public class LikeDocument implements PlainJsonSerializable, ToCopyableBuilder<Li
         }
 
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("_index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (ApiTypeHelper.isDefined(this.perFieldAnalyzer)) {
-            generator.writeKey("per_field_analyzer");
+            JsonpUtils.writeKey(generator, KEY_PER_FIELD_ANALYZER);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.perFieldAnalyzer.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -218,17 +229,17 @@ public class LikeDocument implements PlainJsonSerializable, ToCopyableBuilder<Li
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.versionType != null) {
-            generator.writeKey("version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -217,50 +219,60 @@ public class MatchBoolPrefixQuery extends QueryBase
         return this.query;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_FUZZY_REWRITE = JsonpKey.of("fuzzy_rewrite");
+    private static final JsonpKey KEY_FUZZY_TRANSPOSITIONS = JsonpKey.of("fuzzy_transpositions");
+    private static final JsonpKey KEY_MAX_EXPANSIONS = JsonpKey.of("max_expansions");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_OPERATOR = JsonpKey.of("operator");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.fuzziness != null) {
-            generator.writeKey("fuzziness");
+            JsonpUtils.writeKey(generator, KEY_FUZZINESS);
             generator.write(this.fuzziness);
         }
 
         if (this.fuzzyRewrite != null) {
-            generator.writeKey("fuzzy_rewrite");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_REWRITE);
             generator.write(this.fuzzyRewrite);
         }
 
         if (this.fuzzyTranspositions != null) {
-            generator.writeKey("fuzzy_transpositions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_TRANSPOSITIONS);
             generator.write(this.fuzzyTranspositions);
         }
 
         if (this.maxExpansions != null) {
-            generator.writeKey("max_expansions");
+            JsonpUtils.writeKey(generator, KEY_MAX_EXPANSIONS);
             generator.write(this.maxExpansions);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (this.operator != null) {
-            generator.writeKey("operator");
+            JsonpUtils.writeKey(generator, KEY_OPERATOR);
             this.operator.serialize(generator, mapper);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
         generator.writeEnd();
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -145,24 +147,29 @@ public class MatchPhraseQuery extends QueryBase implements QueryVariant, ToCopya
         return this.zeroTermsQuery;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SLOP = JsonpKey.of("slop");
+    private static final JsonpKey KEY_ZERO_TERMS_QUERY = JsonpKey.of("zero_terms_query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.slop != null) {
-            generator.writeKey("slop");
+            JsonpUtils.writeKey(generator, KEY_SLOP);
             generator.write(this.slop);
         }
 
         if (this.zeroTermsQuery != null) {
-            generator.writeKey("zero_terms_query");
+            JsonpUtils.writeKey(generator, KEY_ZERO_TERMS_QUERY);
             this.zeroTermsQuery.serialize(generator, mapper);
         }
         generator.writeEnd();
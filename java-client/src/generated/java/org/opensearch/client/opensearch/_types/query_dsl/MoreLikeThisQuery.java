@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.VersionType;
@@ -352,25 +354,45 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         return this.versionType;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_BOOST_TERMS = JsonpKey.of("boost_terms");
+    private static final JsonpKey KEY_FAIL_ON_UNSUPPORTED_FIELD = JsonpKey.of("fail_on_unsupported_field");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_LIKE = JsonpKey.of("like");
+    private static final JsonpKey KEY_MAX_DOC_FREQ = JsonpKey.of("max_doc_freq");
+    private static final JsonpKey KEY_MAX_QUERY_TERMS = JsonpKey.of("max_query_terms");
+    private static final JsonpKey KEY_MAX_WORD_LENGTH = JsonpKey.of("max_word_length");
+    private static final JsonpKey KEY_MIN_DOC_FREQ = JsonpKey.of("min_doc_freq");
+    private static final JsonpKey KEY_MIN_TERM_FREQ = JsonpKey.of("min_term_freq");
+    private static final JsonpKey KEY_MIN_WORD_LENGTH = JsonpKey.of("min_word_length");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_PER_FIELD_ANALYZER = JsonpKey.of("per_field_analyzer");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_STOP_WORDS = JsonpKey.of("stop_words");
+    private static final JsonpKey KEY_UNLIKE = JsonpKey.of("unlike");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.boostTerms != null) {
-            generator.writeKey("boost_terms");
+            JsonpUtils.writeKey(generator, KEY_BOOST_TERMS);
             generator.write(this.boostTerms);
         }
 
         if (this.failOnUnsupportedField != null) {
-            generator.writeKey("fail_on_unsupported_field");
+            JsonpUtils.writeKey(generator, KEY_FAIL_ON_UNSUPPORTED_FIELD);
             generator.write(this.failOnUnsupportedField);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -379,11 +401,11 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         }
 
         if (this.include != null) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             generator.write(this.include);
         }
 
-        generator.writeKey("like");
+        JsonpUtils.writeKey(generator, KEY_LIKE);
         generator.writeStartArray();
         for (Like item0 : this.like) {
             item0.serialize(generator, mapper);
@@ -391,42 +413,42 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         generator.writeEnd();
 
         if (this.maxDocFreq != null) {
-            generator.writeKey("max_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOC_FREQ);
             generator.write(this.maxDocFreq);
         }
 
         if (this.maxQueryTerms != null) {
-            generator.writeKey("max_query_terms");
+            JsonpUtils.writeKey(generator, KEY_MAX_QUERY_TERMS);
             generator.write(this.maxQueryTerms);
         }
 
         if (this.maxWordLength != null) {
-            generator.writeKey("max_word_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_WORD_LENGTH);
             generator.write(this.maxWordLength);
         }
 
         if (this.minDocFreq != null) {
-            generator.writeKey("min_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_FREQ);
             generator.write(this.minDocFreq);
         }
 
         if (this.minTermFreq != null) {
-            generator.writeKey("min_term_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_TERM_FREQ);
             generator.write(this.minTermFreq);
         }
 
         if (this.minWordLength != null) {
-            generator.writeKey("min_word_length");
+            JsonpUtils.writeKey(generator, KEY_MIN_WORD_LENGTH);
             generator.write(this.minWordLength);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (ApiTypeHelper.isDefined(this.perFieldAnalyzer)) {
-            generator.writeKey("per_field_analyzer");
+            JsonpUtils.writeKey(generator, KEY_PER_FIELD_ANALYZER);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.perFieldAnalyzer.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -436,12 +458,12 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (ApiTypeHelper.isDefined(this.stopWords)) {
-            generator.writeKey("stop_words");
+            JsonpUtils.writeKey(generator, KEY_STOP_WORDS);
             generator.writeStartArray();
             for (String item0 : this.stopWords) {
                 generator.write(item0);
@@ -450,7 +472,7 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         }
 
         if (ApiTypeHelper.isDefined(this.unlike)) {
-            generator.writeKey("unlike");
+            JsonpUtils.writeKey(generator, KEY_UNLIKE);
             generator.writeStartArray();
             for (Like item0 : this.unlike) {
                 item0.serialize(generator, mapper);
@@ -459,12 +481,12 @@ public class MoreLikeThisQuery extends QueryBase implements QueryVariant, ToCopy
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.versionType != null) {
-            generator.writeKey("version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -309,25 +311,43 @@ public class MultiMatchQuery extends QueryBase implements QueryVariant, ToCopyab
         return this.zeroTermsQuery;
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY = JsonpKey.of("auto_generate_synonyms_phrase_query");
+    private static final JsonpKey KEY_CUTOFF_FREQUENCY = JsonpKey.of("cutoff_frequency");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_FUZZY_REWRITE = JsonpKey.of("fuzzy_rewrite");
+    private static final JsonpKey KEY_FUZZY_TRANSPOSITIONS = JsonpKey.of("fuzzy_transpositions");
+    private static final JsonpKey KEY_LENIENT = JsonpKey.of("lenient");
+    private static final JsonpKey KEY_MAX_EXPANSIONS = JsonpKey.of("max_expansions");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_OPERATOR = JsonpKey.of("operator");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SLOP = JsonpKey.of("slop");
+    private static final JsonpKey KEY_TIE_BREAKER = JsonpKey.of("tie_breaker");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_ZERO_TERMS_QUERY = JsonpKey.of("zero_terms_query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.autoGenerateSynonymsPhraseQuery != null) {
-            generator.writeKey("auto_generate_synonyms_phrase_query");
+            JsonpUtils.writeKey(generator, KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY);
             generator.write(this.autoGenerateSynonymsPhraseQuery);
         }
 
         if (this.cutoffFrequency != null) {
-            generator.writeKey("cutoff_frequency");
+            JsonpUtils.writeKey(generator, KEY_CUTOFF_FREQUENCY);
             generator.write(this.cutoffFrequency);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -336,65 +356,65 @@ public class MultiMatchQuery extends QueryBase implements QueryVariant, ToCopyab
         }
 
         if (this.fuzziness != null) {
-            generator.writeKey("fuzziness");
+            JsonpUtils.writeKey(generator, KEY_FUZZINESS);
             generator.write(this.fuzziness);
         }
 
         if (this.fuzzyRewrite != null) {
-            generator.writeKey("fuzzy_rewrite");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_REWRITE);
             generator.write(this.fuzzyRewrite);
         }
 
         if (this.fuzzyTranspositions != null) {
-            generator.writeKey("fuzzy_transpositions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_TRANSPOSITIONS);
             generator.write(this.fuzzyTranspositions);
         }
 
         if (this.lenient != null) {
-            generator.writeKey("lenient");
+            JsonpUtils.writeKey(generator, KEY_LENIENT);
             generator.write(this.lenient);
         }
 
         if (this.maxExpansions != null) {
-            generator.writeKey("max_expansions");
+            JsonpUtils.writeKey(generator, KEY_MAX_EXPANSIONS);
             generator.write(this.maxExpansions);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (this.operator != null) {
-            generator.writeKey("operator");
+            JsonpUtils.writeKey(generator, KEY_OPERATOR);
             this.operator.serialize(generator, mapper);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.slop != null) {
-            generator.writeKey("slop");
+            JsonpUtils.writeKey(generator, KEY_SLOP);
             generator.write(this.slop);
         }
 
         if (this.tieBreaker != null) {
-            generator.writeKey("tie_breaker");
+            JsonpUtils.writeKey(generator, KEY_TIE_BREAKER);
             generator.write(this.tieBreaker);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
 
         if (this.zeroTermsQuery != null) {
-            generator.writeKey("zero_terms_query");
+            JsonpUtils.writeKey(generator, KEY_ZERO_TERMS_QUERY);
             this.zeroTermsQuery.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -172,41 +174,49 @@ public class NeuralQuery extends QueryBase implements QueryVariant, ToCopyableBu
         return this.queryText;
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_K = JsonpKey.of("k");
+    private static final JsonpKey KEY_MAX_DISTANCE = JsonpKey.of("max_distance");
+    private static final JsonpKey KEY_MIN_SCORE = JsonpKey.of("min_score");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_QUERY_IMAGE = JsonpKey.of("query_image");
+    private static final JsonpKey KEY_QUERY_TEXT = JsonpKey.of("query_text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.k != null) {
-            generator.writeKey("k");
+            JsonpUtils.writeKey(generator, KEY_K);
             generator.write(this.k);
         }
 
         if (this.maxDistance != null) {
-            generator.writeKey("max_distance");
+            JsonpUtils.writeKey(generator, KEY_MAX_DISTANCE);
             generator.write(this.maxDistance);
         }
 
         if (this.minScore != null) {
-            generator.writeKey("min_score");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE);
             generator.write(this.minScore);
         }
 
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.queryImage != null) {
-            generator.writeKey("query_image");
+            JsonpUtils.writeKey(generator, KEY_QUERY_IMAGE);
             generator.write(this.queryImage);
         }
 
         if (this.queryText != null) {
-            generator.writeKey("query_text");
+            JsonpUtils.writeKey(generator, KEY_QUERY_TEXT);
             generator.write(this.queryText);
         }
         generator.writeEnd();
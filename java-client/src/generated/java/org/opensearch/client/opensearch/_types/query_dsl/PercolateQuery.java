@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -198,15 +200,25 @@ public class PercolateQuery extends QueryBase implements QueryVariant, ToCopyabl
         return this.version;
     }
 
+    private static final JsonpKey KEY_DOCUMENT = JsonpKey.of("document");
+    private static final JsonpKey KEY_DOCUMENTS = JsonpKey.of("documents");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PREFERENCE = JsonpKey.of("preference");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.document != null) {
-            generator.writeKey("document");
+            JsonpUtils.writeKey(generator, KEY_DOCUMENT);
             this.document.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.documents)) {
-            generator.writeKey("documents");
+            JsonpUtils.writeKey(generator, KEY_DOCUMENTS);
             generator.writeStartArray();
             for (JsonData item0 : this.documents) {
                 item0.serialize(generator, mapper);
@@ -214,36 +226,36 @@ public class PercolateQuery extends QueryBase implements QueryVariant, ToCopyabl
             generator.writeEnd();
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.preference != null) {
-            generator.writeKey("preference");
+            JsonpUtils.writeKey(generator, KEY_PREFERENCE);
             generator.write(this.preference);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -131,20 +133,24 @@ public class PrefixQuery extends QueryBase implements QueryVariant, ToCopyableBu
         return this.value;
     }
 
+    private static final JsonpKey KEY_CASE_INSENSITIVE = JsonpKey.of("case_insensitive");
+    private static final JsonpKey KEY_REWRITE = JsonpKey.of("rewrite");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.caseInsensitive != null) {
-            generator.writeKey("case_insensitive");
+            JsonpUtils.writeKey(generator, KEY_CASE_INSENSITIVE);
             generator.write(this.caseInsensitive);
         }
 
         if (this.rewrite != null) {
-            generator.writeKey("rewrite");
+            JsonpUtils.writeKey(generator, KEY_REWRITE);
             generator.write(this.rewrite);
         }
 
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         generator.write(this.value);
         generator.writeEnd();
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -428,50 +430,76 @@ public class QueryStringQuery extends QueryBase implements QueryVariant, ToCopya
         return this.type;
     }
 
+    private static final JsonpKey KEY_ALLOW_LEADING_WILDCARD = JsonpKey.of("allow_leading_wildcard");
+    private static final JsonpKey KEY_ANALYZE_WILDCARD = JsonpKey.of("analyze_wildcard");
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY = JsonpKey.of("auto_generate_synonyms_phrase_query");
+    private static final JsonpKey KEY_DEFAULT_FIELD = JsonpKey.of("default_field");
+    private static final JsonpKey KEY_DEFAULT_OPERATOR = JsonpKey.of("default_operator");
+    private static final JsonpKey KEY_ENABLE_POSITION_INCREMENTS = JsonpKey.of("enable_position_increments");
+    private static final JsonpKey KEY_ESCAPE = JsonpKey.of("escape");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_FUZZY_MAX_EXPANSIONS = JsonpKey.of("fuzzy_max_expansions");
+    private static final JsonpKey KEY_FUZZY_PREFIX_LENGTH = JsonpKey.of("fuzzy_prefix_length");
+    private static final JsonpKey KEY_FUZZY_REWRITE = JsonpKey.of("fuzzy_rewrite");
+    private static final JsonpKey KEY_FUZZY_TRANSPOSITIONS = JsonpKey.of("fuzzy_transpositions");
+    private static final JsonpKey KEY_LENIENT = JsonpKey.of("lenient");
+    private static final JsonpKey KEY_MAX_DETERMINIZED_STATES = JsonpKey.of("max_determinized_states");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_PHRASE_SLOP = JsonpKey.of("phrase_slop");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_QUOTE_ANALYZER = JsonpKey.of("quote_analyzer");
+    private static final JsonpKey KEY_QUOTE_FIELD_SUFFIX = JsonpKey.of("quote_field_suffix");
+    private static final JsonpKey KEY_REWRITE = JsonpKey.of("rewrite");
+    private static final JsonpKey KEY_TIE_BREAKER = JsonpKey.of("tie_breaker");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.allowLeadingWildcard != null) {
-            generator.writeKey("allow_leading_wildcard");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_LEADING_WILDCARD);
             generator.write(this.allowLeadingWildcard);
         }
 
         if (this.analyzeWildcard != null) {
-            generator.writeKey("analyze_wildcard");
+            JsonpUtils.writeKey(generator, KEY_ANALYZE_WILDCARD);
             generator.write(this.analyzeWildcard);
         }
 
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.autoGenerateSynonymsPhraseQuery != null) {
-            generator.writeKey("auto_generate_synonyms_phrase_query");
+            JsonpUtils.writeKey(generator, KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY);
             generator.write(this.autoGenerateSynonymsPhraseQuery);
         }
 
         if (this.defaultField != null) {
-            generator.writeKey("default_field");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_FIELD);
             generator.write(this.defaultField);
         }
 
         if (this.defaultOperator != null) {
-            generator.writeKey("default_operator");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_OPERATOR);
             this.defaultOperator.serialize(generator, mapper);
         }
 
         if (this.enablePositionIncrements != null) {
-            generator.writeKey("enable_position_increments");
+            JsonpUtils.writeKey(generator, KEY_ENABLE_POSITION_INCREMENTS);
             generator.write(this.enablePositionIncrements);
         }
 
         if (this.escape != null) {
-            generator.writeKey("escape");
+            JsonpUtils.writeKey(generator, KEY_ESCAPE);
             generator.write(this.escape);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -480,80 +508,80 @@ public class QueryStringQuery extends QueryBase implements QueryVariant, ToCopya
         }
 
         if (this.fuzziness != null) {
-            generator.writeKey("fuzziness");
+            JsonpUtils.writeKey(generator, KEY_FUZZINESS);
             generator.write(this.fuzziness);
         }
 
         if (this.fuzzyMaxExpansions != null) {
-            generator.writeKey("fuzzy_max_expansions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_MAX_EXPANSIONS);
             generator.write(this.fuzzyMaxExpansions);
         }
 
         if (this.fuzzyPrefixLength != null) {
-            generator.writeKey("fuzzy_prefix_length");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_PREFIX_LENGTH);
             generator.write(this.fuzzyPrefixLength);
         }
 
         if (this.fuzzyRewrite != null) {
-            generator.writeKey("fuzzy_rewrite");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_REWRITE);
             generator.write(this.fuzzyRewrite);
         }
 
         if (this.fuzzyTranspositions != null) {
-            generator.writeKey("fuzzy_transpositions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_TRANSPOSITIONS);
             generator.write(this.fuzzyTranspositions);
         }
 
         if (this.lenient != null) {
-            generator.writeKey("lenient");
+            JsonpUtils.writeKey(generator, KEY_LENIENT);
             generator.write(this.lenient);
         }
 
         if (this.maxDeterminizedStates != null) {
-            generator.writeKey("max_determinized_states");
+            JsonpUtils.writeKey(generator, KEY_MAX_DETERMINIZED_STATES);
             generator.write(this.maxDeterminizedStates);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
         if (this.phraseSlop != null) {
-            generator.writeKey("phrase_slop");
+            JsonpUtils.writeKey(generator, KEY_PHRASE_SLOP);
             generator.write(this.phraseSlop);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.quoteAnalyzer != null) {
-            generator.writeKey("quote_analyzer");
+            JsonpUtils.writeKey(generator, KEY_QUOTE_ANALYZER);
             generator.write(this.quoteAnalyzer);
         }
 
         if (this.quoteFieldSuffix != null) {
-            generator.writeKey("quote_field_suffix");
+            JsonpUtils.writeKey(generator, KEY_QUOTE_FIELD_SUFFIX);
             generator.write(this.quoteFieldSuffix);
         }
 
         if (this.rewrite != null) {
-            generator.writeKey("rewrite");
+            JsonpUtils.writeKey(generator, KEY_REWRITE);
             generator.write(this.rewrite);
         }
 
         if (this.tieBreaker != null) {
-            generator.writeKey("tie_breaker");
+            JsonpUtils.writeKey(generator, KEY_TIE_BREAKER);
             generator.write(this.tieBreaker);
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
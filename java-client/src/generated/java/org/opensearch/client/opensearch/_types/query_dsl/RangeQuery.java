@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -256,70 +258,84 @@ public class RangeQuery implements QueryVariant, PlainJsonSerializable, ToCopyab
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_GT = JsonpKey.of("gt");
+    private static final JsonpKey KEY_GTE = JsonpKey.of("gte");
+    private static final JsonpKey KEY_INCLUDE_LOWER = JsonpKey.of("include_lower");
+    private static final JsonpKey KEY_INCLUDE_UPPER = JsonpKey.of("include_upper");
+    private static final JsonpKey KEY_LT = JsonpKey.of("lt");
+    private static final JsonpKey KEY_LTE = JsonpKey.of("lte");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("_name");
+    private static final JsonpKey KEY_RELATION = JsonpKey.of("relation");
+    private static final JsonpKey KEY_TIME_ZONE = JsonpKey.of("time_zone");
+    private static final JsonpKey KEY_TO = JsonpKey.of("to");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             this.from.serialize(generator, mapper);
         }
 
         if (this.gt != null) {
-            generator.writeKey("gt");
+            JsonpUtils.writeKey(generator, KEY_GT);
             this.gt.serialize(generator, mapper);
         }
 
         if (this.gte != null) {
-            generator.writeKey("gte");
+            JsonpUtils.writeKey(generator, KEY_GTE);
             this.gte.serialize(generator, mapper);
         }
 
         if (this.includeLower != null) {
-            generator.writeKey("include_lower");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_LOWER);
             generator.write(this.includeLower);
         }
 
         if (this.includeUpper != null) {
-            generator.writeKey("include_upper");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_UPPER);
             generator.write(this.includeUpper);
         }
 
         if (this.lt != null) {
-            generator.writeKey("lt");
+            JsonpUtils.writeKey(generator, KEY_LT);
             this.lt.serialize(generator, mapper);
         }
 
         if (this.lte != null) {
-            generator.writeKey("lte");
+            JsonpUtils.writeKey(generator, KEY_LTE);
             this.lte.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("_name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.relation != null) {
-            generator.writeKey("relation");
+            JsonpUtils.writeKey(generator, KEY_RELATION);
             generator.write(this.relation);
         }
 
         if (this.timeZone != null) {
-            generator.writeKey("time_zone");
+            JsonpUtils.writeKey(generator, KEY_TIME_ZONE);
             generator.write(this.timeZone);
         }
 
         if (this.to != null) {
-            generator.writeKey("to");
+            JsonpUtils.writeKey(generator, KEY_TO);
             this.to.serialize(generator, mapper);
         }
         generator.writeEnd();
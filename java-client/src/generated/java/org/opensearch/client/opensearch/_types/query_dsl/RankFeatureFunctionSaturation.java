@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -98,9 +100,11 @@ public class RankFeatureFunctionSaturation extends RankFeatureFunction
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIVOT = JsonpKey.of("pivot");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.pivot != null) {
-            generator.writeKey("pivot");
+            JsonpUtils.writeKey(generator, KEY_PIVOT);
             generator.write(this.pivot);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,11 +110,14 @@ public class RankFeatureFunctionSigmoid extends RankFeatureFunction
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXPONENT = JsonpKey.of("exponent");
+    private static final JsonpKey KEY_PIVOT = JsonpKey.of("pivot");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("exponent");
+        JsonpUtils.writeKey(generator, KEY_EXPONENT);
         generator.write(this.exponent);
 
-        generator.writeKey("pivot");
+        JsonpUtils.writeKey(generator, KEY_PIVOT);
         generator.write(this.pivot);
     }
 
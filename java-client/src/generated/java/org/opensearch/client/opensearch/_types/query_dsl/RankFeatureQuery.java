@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -136,28 +138,34 @@ public class RankFeatureQuery extends QueryBase implements QueryVariant, ToCopya
         return this.sigmoid;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_LINEAR = JsonpKey.of("linear");
+    private static final JsonpKey KEY_LOG = JsonpKey.of("log");
+    private static final JsonpKey KEY_SATURATION = JsonpKey.of("saturation");
+    private static final JsonpKey KEY_SIGMOID = JsonpKey.of("sigmoid");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.linear != null) {
-            generator.writeKey("linear");
+            JsonpUtils.writeKey(generator, KEY_LINEAR);
             this.linear.serialize(generator, mapper);
         }
 
         if (this.log != null) {
-            generator.writeKey("log");
+            JsonpUtils.writeKey(generator, KEY_LOG);
             this.log.serialize(generator, mapper);
         }
 
         if (this.saturation != null) {
-            generator.writeKey("saturation");
+            JsonpUtils.writeKey(generator, KEY_SATURATION);
             this.saturation.serialize(generator, mapper);
         }
 
         if (this.sigmoid != null) {
-            generator.writeKey("sigmoid");
+            JsonpUtils.writeKey(generator, KEY_SIGMOID);
             this.sigmoid.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -90,9 +92,11 @@ public class RescoreContext implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_OVERSAMPLE_FACTOR = JsonpKey.of("oversample_factor");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.oversampleFactor != null) {
-            generator.writeKey("oversample_factor");
+            JsonpUtils.writeKey(generator, KEY_OVERSAMPLE_FACTOR);
             generator.write(this.oversampleFactor);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -269,30 +271,44 @@ public class SimpleQueryStringQuery extends QueryBase
         return this.quoteFieldSuffix;
     }
 
+    private static final JsonpKey KEY_ANALYZE_WILDCARD = JsonpKey.of("analyze_wildcard");
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY = JsonpKey.of("auto_generate_synonyms_phrase_query");
+    private static final JsonpKey KEY_DEFAULT_OPERATOR = JsonpKey.of("default_operator");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FLAGS = JsonpKey.of("flags");
+    private static final JsonpKey KEY_FUZZY_MAX_EXPANSIONS = JsonpKey.of("fuzzy_max_expansions");
+    private static final JsonpKey KEY_FUZZY_PREFIX_LENGTH = JsonpKey.of("fuzzy_prefix_length");
+    private static final JsonpKey KEY_FUZZY_TRANSPOSITIONS = JsonpKey.of("fuzzy_transpositions");
+    private static final JsonpKey KEY_LENIENT = JsonpKey.of("lenient");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH = JsonpKey.of("minimum_should_match");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_QUOTE_FIELD_SUFFIX = JsonpKey.of("quote_field_suffix");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.analyzeWildcard != null) {
-            generator.writeKey("analyze_wildcard");
+            JsonpUtils.writeKey(generator, KEY_ANALYZE_WILDCARD);
             generator.write(this.analyzeWildcard);
         }
 
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (this.autoGenerateSynonymsPhraseQuery != null) {
-            generator.writeKey("auto_generate_synonyms_phrase_query");
+            JsonpUtils.writeKey(generator, KEY_AUTO_GENERATE_SYNONYMS_PHRASE_QUERY);
             generator.write(this.autoGenerateSynonymsPhraseQuery);
         }
 
         if (this.defaultOperator != null) {
-            generator.writeKey("default_operator");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_OPERATOR);
             this.defaultOperator.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -301,40 +317,40 @@ public class SimpleQueryStringQuery extends QueryBase
         }
 
         if (this.flags != null) {
-            generator.writeKey("flags");
+            JsonpUtils.writeKey(generator, KEY_FLAGS);
             this.flags.serialize(generator, mapper);
         }
 
         if (this.fuzzyMaxExpansions != null) {
-            generator.writeKey("fuzzy_max_expansions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_MAX_EXPANSIONS);
             generator.write(this.fuzzyMaxExpansions);
         }
 
         if (this.fuzzyPrefixLength != null) {
-            generator.writeKey("fuzzy_prefix_length");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_PREFIX_LENGTH);
             generator.write(this.fuzzyPrefixLength);
         }
 
         if (this.fuzzyTranspositions != null) {
-            generator.writeKey("fuzzy_transpositions");
+            JsonpUtils.writeKey(generator, KEY_FUZZY_TRANSPOSITIONS);
             generator.write(this.fuzzyTranspositions);
         }
 
         if (this.lenient != null) {
-            generator.writeKey("lenient");
+            JsonpUtils.writeKey(generator, KEY_LENIENT);
             generator.write(this.lenient);
         }
 
         if (this.minimumShouldMatch != null) {
-            generator.writeKey("minimum_should_match");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH);
             generator.write(this.minimumShouldMatch);
         }
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.write(this.query);
 
         if (this.quoteFieldSuffix != null) {
-            generator.writeKey("quote_field_suffix");
+            JsonpUtils.writeKey(generator, KEY_QUOTE_FIELD_SUFFIX);
             generator.write(this.quoteFieldSuffix);
         }
     }
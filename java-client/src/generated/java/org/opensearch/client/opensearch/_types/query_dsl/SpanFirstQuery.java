@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -111,12 +113,15 @@ public class SpanFirstQuery extends QueryBase
         return this.match;
     }
 
+    private static final JsonpKey KEY_END = JsonpKey.of("end");
+    private static final JsonpKey KEY_MATCH = JsonpKey.of("match");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("end");
+        JsonpUtils.writeKey(generator, KEY_END);
         generator.write(this.end);
 
-        generator.writeKey("match");
+        JsonpUtils.writeKey(generator, KEY_MATCH);
         this.match.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -134,9 +136,13 @@ public class SpanNearQuery extends QueryBase
         return this.slop;
     }
 
+    private static final JsonpKey KEY_CLAUSES = JsonpKey.of("clauses");
+    private static final JsonpKey KEY_IN_ORDER = JsonpKey.of("in_order");
+    private static final JsonpKey KEY_SLOP = JsonpKey.of("slop");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("clauses");
+        JsonpUtils.writeKey(generator, KEY_CLAUSES);
         generator.writeStartArray();
         for (SpanQuery item0 : this.clauses) {
             item0.serialize(generator, mapper);
@@ -144,12 +150,12 @@ public class SpanNearQuery extends QueryBase
         generator.writeEnd();
 
         if (this.inOrder != null) {
-            generator.writeKey("in_order");
+            JsonpUtils.writeKey(generator, KEY_IN_ORDER);
             generator.write(this.inOrder);
         }
 
         if (this.slop != null) {
-            generator.writeKey("slop");
+            JsonpUtils.writeKey(generator, KEY_SLOP);
             generator.write(this.slop);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -158,26 +160,32 @@ public class SpanNotQuery extends QueryBase
         return this.pre;
     }
 
+    private static final JsonpKey KEY_DIST = JsonpKey.of("dist");
+    private static final JsonpKey KEY_EXCLUDE = JsonpKey.of("exclude");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_POST = JsonpKey.of("post");
+    private static final JsonpKey KEY_PRE = JsonpKey.of("pre");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.dist != null) {
-            generator.writeKey("dist");
+            JsonpUtils.writeKey(generator, KEY_DIST);
             generator.write(this.dist);
         }
 
-        generator.writeKey("exclude");
+        JsonpUtils.writeKey(generator, KEY_EXCLUDE);
         this.exclude.serialize(generator, mapper);
 
-        generator.writeKey("include");
+        JsonpUtils.writeKey(generator, KEY_INCLUDE);
         this.include.serialize(generator, mapper);
 
         if (this.post != null) {
-            generator.writeKey("post");
+            JsonpUtils.writeKey(generator, KEY_POST);
             generator.write(this.post);
         }
 
         if (this.pre != null) {
-            generator.writeKey("pre");
+            JsonpUtils.writeKey(generator, KEY_PRE);
             generator.write(this.pre);
         }
     }
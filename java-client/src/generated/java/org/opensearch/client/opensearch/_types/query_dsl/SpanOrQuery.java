@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -98,9 +100,11 @@ public class SpanOrQuery extends QueryBase implements QueryVariant, SpanQueryVar
         return this.clauses;
     }
 
+    private static final JsonpKey KEY_CLAUSES = JsonpKey.of("clauses");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("clauses");
+        JsonpUtils.writeKey(generator, KEY_CLAUSES);
         generator.writeStartArray();
         for (SpanQuery item0 : this.clauses) {
             item0.serialize(generator, mapper);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -110,12 +112,15 @@ public class SpanWithinQuery extends QueryBase
         return this.little;
     }
 
+    private static final JsonpKey KEY_BIG = JsonpKey.of("big");
+    private static final JsonpKey KEY_LITTLE = JsonpKey.of("little");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("big");
+        JsonpUtils.writeKey(generator, KEY_BIG);
         this.big.serialize(generator, mapper);
 
-        generator.writeKey("little");
+        JsonpUtils.writeKey(generator, KEY_LITTLE);
         this.little.serialize(generator, mapper);
     }
 
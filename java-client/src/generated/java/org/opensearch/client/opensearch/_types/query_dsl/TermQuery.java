@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.FieldValue;
@@ -117,15 +119,18 @@ public class TermQuery extends QueryBase implements QueryVariant, ToCopyableBuil
         return this.value;
     }
 
+    private static final JsonpKey KEY_CASE_INSENSITIVE = JsonpKey.of("case_insensitive");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.caseInsensitive != null) {
-            generator.writeKey("case_insensitive");
+            JsonpUtils.writeKey(generator, KEY_CASE_INSENSITIVE);
             generator.write(this.caseInsensitive);
         }
 
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         this.value.serialize(generator, mapper);
         generator.writeEnd();
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.Script;
@@ -126,20 +128,24 @@ public class TermsSetQuery extends QueryBase implements QueryVariant, ToCopyable
         return this.terms;
     }
 
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH_FIELD = JsonpKey.of("minimum_should_match_field");
+    private static final JsonpKey KEY_MINIMUM_SHOULD_MATCH_SCRIPT = JsonpKey.of("minimum_should_match_script");
+    private static final JsonpKey KEY_TERMS = JsonpKey.of("terms");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.field);
         super.serializeInternal(generator, mapper);
         if (this.minimumShouldMatchField != null) {
-            generator.writeKey("minimum_should_match_field");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH_FIELD);
             generator.write(this.minimumShouldMatchField);
         }
 
         if (this.minimumShouldMatchScript != null) {
-            generator.writeKey("minimum_should_match_script");
+            JsonpUtils.writeKey(generator, KEY_MINIMUM_SHOULD_MATCH_SCRIPT);
             this.minimumShouldMatchScript.serialize(generator, mapper);
         }
 
-        generator.writeKey("terms");
+        JsonpUtils.writeKey(generator, KEY_TERMS);
         generator.writeStartArray();
         for (String item0 : this.terms) {
             generator.write(item0);
@@ -22,7 +22,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -81,9 +83,12 @@ public class XyShape implements PlainJsonSerializable, ToCopyableBuilder<XyShape
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATES = JsonpKey.of("coordinates");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.coordinates)) {
-            generator.writeKey("coordinates");
+            JsonpUtils.writeKey(generator, KEY_COORDINATES);
             generator.writeStartArray();
             for (JsonData item0 : this.coordinates) {
                 item0.serialize(generator, mapper);
@@ -92,7 +97,7 @@ public class XyShape implements PlainJsonSerializable, ToCopyableBuilder<XyShape
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -92,18 +94,22 @@ public class XyShapeQueryField implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEXED_SHAPE = JsonpKey.of("indexed_shape");
+    private static final JsonpKey KEY_RELATION = JsonpKey.of("relation");
+    private static final JsonpKey KEY_SHAPE = JsonpKey.of("shape");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.indexedShape != null) {
-            generator.writeKey("indexed_shape");
+            JsonpUtils.writeKey(generator, KEY_INDEXED_SHAPE);
             this.indexedShape.serialize(generator, mapper);
         }
 
         if (this.relation != null) {
-            generator.writeKey("relation");
+            JsonpUtils.writeKey(generator, KEY_RELATION);
             this.relation.serialize(generator, mapper);
         }
 
-        generator.writeKey("shape");
+        JsonpUtils.writeKey(generator, KEY_SHAPE);
         this.shape.serialize(generator, mapper);
     }
 
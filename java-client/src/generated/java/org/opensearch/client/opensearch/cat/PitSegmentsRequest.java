@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,8 +121,10 @@ public final class PitSegmentsRequest extends CatRequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("pit_id");
+        JsonpUtils.writeKey(generator, KEY_PIT_ID);
         generator.writeStartArray();
         for (String item0 : this.pitId) {
             generator.write(item0);
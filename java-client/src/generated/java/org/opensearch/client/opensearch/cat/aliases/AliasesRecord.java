@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -165,34 +167,41 @@ public class AliasesRecord implements PlainJsonSerializable, ToCopyableBuilder<A
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIAS = JsonpKey.of("alias");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_IS_WRITE_INDEX = JsonpKey.of("is_write_index");
+    private static final JsonpKey KEY_ROUTING_INDEX = JsonpKey.of("routing.index");
+    private static final JsonpKey KEY_ROUTING_SEARCH = JsonpKey.of("routing.search");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alias != null) {
-            generator.writeKey("alias");
+            JsonpUtils.writeKey(generator, KEY_ALIAS);
             generator.write(this.alias);
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.write(this.filter);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.isWriteIndex != null) {
-            generator.writeKey("is_write_index");
+            JsonpUtils.writeKey(generator, KEY_IS_WRITE_INDEX);
             generator.write(this.isWriteIndex);
         }
 
         if (this.routingIndex != null) {
-            generator.writeKey("routing.index");
+            JsonpUtils.writeKey(generator, KEY_ROUTING_INDEX);
             generator.write(this.routingIndex);
         }
 
         if (this.routingSearch != null) {
-            generator.writeKey("routing.search");
+            JsonpUtils.writeKey(generator, KEY_ROUTING_SEARCH);
             generator.write(this.routingSearch);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -217,49 +219,59 @@ public class AllocationRecord implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISK_AVAIL = JsonpKey.of("disk.avail");
+    private static final JsonpKey KEY_DISK_INDICES = JsonpKey.of("disk.indices");
+    private static final JsonpKey KEY_DISK_PERCENT = JsonpKey.of("disk.percent");
+    private static final JsonpKey KEY_DISK_TOTAL = JsonpKey.of("disk.total");
+    private static final JsonpKey KEY_DISK_USED = JsonpKey.of("disk.used");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.diskAvail != null) {
-            generator.writeKey("disk.avail");
+            JsonpUtils.writeKey(generator, KEY_DISK_AVAIL);
             generator.write(this.diskAvail);
         }
 
         if (this.diskIndices != null) {
-            generator.writeKey("disk.indices");
+            JsonpUtils.writeKey(generator, KEY_DISK_INDICES);
             generator.write(this.diskIndices);
         }
 
         if (this.diskPercent != null) {
-            generator.writeKey("disk.percent");
+            JsonpUtils.writeKey(generator, KEY_DISK_PERCENT);
             generator.write(this.diskPercent);
         }
 
         if (this.diskTotal != null) {
-            generator.writeKey("disk.total");
+            JsonpUtils.writeKey(generator, KEY_DISK_TOTAL);
             generator.write(this.diskTotal);
         }
 
         if (this.diskUsed != null) {
-            generator.writeKey("disk.used");
+            JsonpUtils.writeKey(generator, KEY_DISK_USED);
             generator.write(this.diskUsed);
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
         if (this.shards != null) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.write(this.shards);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,24 +140,29 @@ public class ClusterManagerRecord implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,19 +119,23 @@ public class CountRecord implements PlainJsonSerializable, ToCopyableBuilder<Cou
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_EPOCH = JsonpKey.of("epoch");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.epoch != null) {
-            generator.writeKey("epoch");
+            JsonpUtils.writeKey(generator, KEY_EPOCH);
             generator.write(this.epoch);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -297,79 +299,95 @@ public class HealthRecord implements PlainJsonSerializable, ToCopyableBuilder<He
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_SHARDS_PERCENT = JsonpKey.of("active_shards_percent");
+    private static final JsonpKey KEY_CLUSTER = JsonpKey.of("cluster");
+    private static final JsonpKey KEY_DISCOVERED_CLUSTER_MANAGER = JsonpKey.of("discovered_cluster_manager");
+    private static final JsonpKey KEY_EPOCH = JsonpKey.of("epoch");
+    private static final JsonpKey KEY_INIT = JsonpKey.of("init");
+    private static final JsonpKey KEY_MAX_TASK_WAIT_TIME = JsonpKey.of("max_task_wait_time");
+    private static final JsonpKey KEY_NODE_DATA = JsonpKey.of("node.data");
+    private static final JsonpKey KEY_NODE_TOTAL = JsonpKey.of("node.total");
+    private static final JsonpKey KEY_PENDING_TASKS = JsonpKey.of("pending_tasks");
+    private static final JsonpKey KEY_PRI = JsonpKey.of("pri");
+    private static final JsonpKey KEY_RELO = JsonpKey.of("relo");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+    private static final JsonpKey KEY_UNASSIGN = JsonpKey.of("unassign");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.activeShardsPercent != null) {
-            generator.writeKey("active_shards_percent");
+            JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS_PERCENT);
             generator.write(this.activeShardsPercent);
         }
 
         if (this.cluster != null) {
-            generator.writeKey("cluster");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER);
             generator.write(this.cluster);
         }
 
         if (this.discoveredClusterManager != null) {
-            generator.writeKey("discovered_cluster_manager");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERED_CLUSTER_MANAGER);
             generator.write(this.discoveredClusterManager);
         }
 
         if (this.epoch != null) {
-            generator.writeKey("epoch");
+            JsonpUtils.writeKey(generator, KEY_EPOCH);
             generator.write(this.epoch);
         }
 
         if (this.init != null) {
-            generator.writeKey("init");
+            JsonpUtils.writeKey(generator, KEY_INIT);
             generator.write(this.init);
         }
 
         if (this.maxTaskWaitTime != null) {
-            generator.writeKey("max_task_wait_time");
+            JsonpUtils.writeKey(generator, KEY_MAX_TASK_WAIT_TIME);
             generator.write(this.maxTaskWaitTime);
         }
 
         if (this.nodeData != null) {
-            generator.writeKey("node.data");
+            JsonpUtils.writeKey(generator, KEY_NODE_DATA);
             generator.write(this.nodeData);
         }
 
         if (this.nodeTotal != null) {
-            generator.writeKey("node.total");
+            JsonpUtils.writeKey(generator, KEY_NODE_TOTAL);
             generator.write(this.nodeTotal);
         }
 
         if (this.pendingTasks != null) {
-            generator.writeKey("pending_tasks");
+            JsonpUtils.writeKey(generator, KEY_PENDING_TASKS);
             generator.write(this.pendingTasks);
         }
 
         if (this.pri != null) {
-            generator.writeKey("pri");
+            JsonpUtils.writeKey(generator, KEY_PRI);
             generator.write(this.pri);
         }
 
         if (this.relo != null) {
-            generator.writeKey("relo");
+            JsonpUtils.writeKey(generator, KEY_RELO);
             generator.write(this.relo);
         }
 
         if (this.shards != null) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.write(this.shards);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
 
         if (this.unassign != null) {
-            generator.writeKey("unassign");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGN);
             generator.write(this.unassign);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -2211,729 +2213,875 @@ public class IndicesRecord implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPLETION_SIZE = JsonpKey.of("completion.size");
+    private static final JsonpKey KEY_CREATION_DATE = JsonpKey.of("creation.date");
+    private static final JsonpKey KEY_CREATION_DATE_STRING = JsonpKey.of("creation.date.string");
+    private static final JsonpKey KEY_DOCS_COUNT = JsonpKey.of("docs.count");
+    private static final JsonpKey KEY_DOCS_DELETED = JsonpKey.of("docs.deleted");
+    private static final JsonpKey KEY_FIELDDATA_EVICTIONS = JsonpKey.of("fielddata.evictions");
+    private static final JsonpKey KEY_FIELDDATA_MEMORY_SIZE = JsonpKey.of("fielddata.memory_size");
+    private static final JsonpKey KEY_FLUSH_TOTAL = JsonpKey.of("flush.total");
+    private static final JsonpKey KEY_FLUSH_TOTAL_TIME = JsonpKey.of("flush.total_time");
+    private static final JsonpKey KEY_GET_CURRENT = JsonpKey.of("get.current");
+    private static final JsonpKey KEY_GET_EXISTS_TIME = JsonpKey.of("get.exists_time");
+    private static final JsonpKey KEY_GET_EXISTS_TOTAL = JsonpKey.of("get.exists_total");
+    private static final JsonpKey KEY_GET_MISSING_TIME = JsonpKey.of("get.missing_time");
+    private static final JsonpKey KEY_GET_MISSING_TOTAL = JsonpKey.of("get.missing_total");
+    private static final JsonpKey KEY_GET_TIME = JsonpKey.of("get.time");
+    private static final JsonpKey KEY_GET_TOTAL = JsonpKey.of("get.total");
+    private static final JsonpKey KEY_HEALTH = JsonpKey.of("health");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEXING_DELETE_CURRENT = JsonpKey.of("indexing.delete_current");
+    private static final JsonpKey KEY_INDEXING_DELETE_TIME = JsonpKey.of("indexing.delete_time");
+    private static final JsonpKey KEY_INDEXING_DELETE_TOTAL = JsonpKey.of("indexing.delete_total");
+    private static final JsonpKey KEY_INDEXING_INDEX_CURRENT = JsonpKey.of("indexing.index_current");
+    private static final JsonpKey KEY_INDEXING_INDEX_FAILED = JsonpKey.of("indexing.index_failed");
+    private static final JsonpKey KEY_INDEXING_INDEX_TIME = JsonpKey.of("indexing.index_time");
+    private static final JsonpKey KEY_INDEXING_INDEX_TOTAL = JsonpKey.of("indexing.index_total");
+    private static final JsonpKey KEY_MEMORY_TOTAL = JsonpKey.of("memory.total");
+    private static final JsonpKey KEY_MERGES_CURRENT = JsonpKey.of("merges.current");
+    private static final JsonpKey KEY_MERGES_CURRENT_DOCS = JsonpKey.of("merges.current_docs");
+    private static final JsonpKey KEY_MERGES_CURRENT_SIZE = JsonpKey.of("merges.current_size");
+    private static final JsonpKey KEY_MERGES_TOTAL = JsonpKey.of("merges.total");
+    private static final JsonpKey KEY_MERGES_TOTAL_DOCS = JsonpKey.of("merges.total_docs");
+    private static final JsonpKey KEY_MERGES_TOTAL_SIZE = JsonpKey.of("merges.total_size");
+    private static final JsonpKey KEY_MERGES_TOTAL_TIME = JsonpKey.of("merges.total_time");
+    private static final JsonpKey KEY_PRI = JsonpKey.of("pri");
+    private static final JsonpKey KEY_PRI_COMPLETION_SIZE = JsonpKey.of("pri.completion.size");
+    private static final JsonpKey KEY_PRI_FIELDDATA_EVICTIONS = JsonpKey.of("pri.fielddata.evictions");
+    private static final JsonpKey KEY_PRI_FIELDDATA_MEMORY_SIZE = JsonpKey.of("pri.fielddata.memory_size");
+    private static final JsonpKey KEY_PRI_FLUSH_TOTAL = JsonpKey.of("pri.flush.total");
+    private static final JsonpKey KEY_PRI_FLUSH_TOTAL_TIME = JsonpKey.of("pri.flush.total_time");
+    private static final JsonpKey KEY_PRI_GET_CURRENT = JsonpKey.of("pri.get.current");
+    private static final JsonpKey KEY_PRI_GET_EXISTS_TIME = JsonpKey.of("pri.get.exists_time");
+    private static final JsonpKey KEY_PRI_GET_EXISTS_TOTAL = JsonpKey.of("pri.get.exists_total");
+    private static final JsonpKey KEY_PRI_GET_MISSING_TIME = JsonpKey.of("pri.get.missing_time");
+    private static final JsonpKey KEY_PRI_GET_MISSING_TOTAL = JsonpKey.of("pri.get.missing_total");
+    private static final JsonpKey KEY_PRI_GET_TIME = JsonpKey.of("pri.get.time");
+    private static final JsonpKey KEY_PRI_GET_TOTAL = JsonpKey.of("pri.get.total");
+    private static final JsonpKey KEY_PRI_INDEXING_DELETE_CURRENT = JsonpKey.of("pri.indexing.delete_current");
+    private static final JsonpKey KEY_PRI_INDEXING_DELETE_TIME = JsonpKey.of("pri.indexing.delete_time");
+    private static final JsonpKey KEY_PRI_INDEXING_DELETE_TOTAL = JsonpKey.of("pri.indexing.delete_total");
+    private static final JsonpKey KEY_PRI_INDEXING_INDEX_CURRENT = JsonpKey.of("pri.indexing.index_current");
+    private static final JsonpKey KEY_PRI_INDEXING_INDEX_FAILED = JsonpKey.of("pri.indexing.index_failed");
+    private static final JsonpKey KEY_PRI_INDEXING_INDEX_TIME = JsonpKey.of("pri.indexing.index_time");
+    private static final JsonpKey KEY_PRI_INDEXING_INDEX_TOTAL = JsonpKey.of("pri.indexing.index_total");
+    private static final JsonpKey KEY_PRI_MEMORY_TOTAL = JsonpKey.of("pri.memory.total");
+    private static final JsonpKey KEY_PRI_MERGES_CURRENT = JsonpKey.of("pri.merges.current");
+    private static final JsonpKey KEY_PRI_MERGES_CURRENT_DOCS = JsonpKey.of("pri.merges.current_docs");
+    private static final JsonpKey KEY_PRI_MERGES_CURRENT_SIZE = JsonpKey.of("pri.merges.current_size");
+    private static final JsonpKey KEY_PRI_MERGES_TOTAL = JsonpKey.of("pri.merges.total");
+    private static final JsonpKey KEY_PRI_MERGES_TOTAL_DOCS = JsonpKey.of("pri.merges.total_docs");
+    private static final JsonpKey KEY_PRI_MERGES_TOTAL_SIZE = JsonpKey.of("pri.merges.total_size");
+    private static final JsonpKey KEY_PRI_MERGES_TOTAL_TIME = JsonpKey.of("pri.merges.total_time");
+    private static final JsonpKey KEY_PRI_QUERY_CACHE_EVICTIONS = JsonpKey.of("pri.query_cache.evictions");
+    private static final JsonpKey KEY_PRI_QUERY_CACHE_MEMORY_SIZE = JsonpKey.of("pri.query_cache.memory_size");
+    private static final JsonpKey KEY_PRI_REFRESH_EXTERNAL_TIME = JsonpKey.of("pri.refresh.external_time");
+    private static final JsonpKey KEY_PRI_REFRESH_EXTERNAL_TOTAL = JsonpKey.of("pri.refresh.external_total");
+    private static final JsonpKey KEY_PRI_REFRESH_LISTENERS = JsonpKey.of("pri.refresh.listeners");
+    private static final JsonpKey KEY_PRI_REFRESH_TIME = JsonpKey.of("pri.refresh.time");
+    private static final JsonpKey KEY_PRI_REFRESH_TOTAL = JsonpKey.of("pri.refresh.total");
+    private static final JsonpKey KEY_PRI_REQUEST_CACHE_EVICTIONS = JsonpKey.of("pri.request_cache.evictions");
+    private static final JsonpKey KEY_PRI_REQUEST_CACHE_HIT_COUNT = JsonpKey.of("pri.request_cache.hit_count");
+    private static final JsonpKey KEY_PRI_REQUEST_CACHE_MEMORY_SIZE = JsonpKey.of("pri.request_cache.memory_size");
+    private static final JsonpKey KEY_PRI_REQUEST_CACHE_MISS_COUNT = JsonpKey.of("pri.request_cache.miss_count");
+    private static final JsonpKey KEY_PRI_SEARCH_CONCURRENT_AVG_SLICE_COUNT = JsonpKey.of("pri.search.concurrent_avg_slice_count");
+    private static final JsonpKey KEY_PRI_SEARCH_CONCURRENT_QUERY_CURRENT = JsonpKey.of("pri.search.concurrent_query_current");
+    private static final JsonpKey KEY_PRI_SEARCH_CONCURRENT_QUERY_TIME = JsonpKey.of("pri.search.concurrent_query_time");
+    private static final JsonpKey KEY_PRI_SEARCH_CONCURRENT_QUERY_TOTAL = JsonpKey.of("pri.search.concurrent_query_total");
+    private static final JsonpKey KEY_PRI_SEARCH_FETCH_CURRENT = JsonpKey.of("pri.search.fetch_current");
+    private static final JsonpKey KEY_PRI_SEARCH_FETCH_TIME = JsonpKey.of("pri.search.fetch_time");
+    private static final JsonpKey KEY_PRI_SEARCH_FETCH_TOTAL = JsonpKey.of("pri.search.fetch_total");
+    private static final JsonpKey KEY_PRI_SEARCH_OPEN_CONTEXTS = JsonpKey.of("pri.search.open_contexts");
+    private static final JsonpKey KEY_PRI_SEARCH_POINT_IN_TIME_CURRENT = JsonpKey.of("pri.search.point_in_time_current");
+    private static final JsonpKey KEY_PRI_SEARCH_POINT_IN_TIME_TIME = JsonpKey.of("pri.search.point_in_time_time");
+    private static final JsonpKey KEY_PRI_SEARCH_POINT_IN_TIME_TOTAL = JsonpKey.of("pri.search.point_in_time_total");
+    private static final JsonpKey KEY_PRI_SEARCH_QUERY_CURRENT = JsonpKey.of("pri.search.query_current");
+    private static final JsonpKey KEY_PRI_SEARCH_QUERY_TIME = JsonpKey.of("pri.search.query_time");
+    private static final JsonpKey KEY_PRI_SEARCH_QUERY_TOTAL = JsonpKey.of("pri.search.query_total");
+    private static final JsonpKey KEY_PRI_SEARCH_SCROLL_CURRENT = JsonpKey.of("pri.search.scroll_current");
+    private static final JsonpKey KEY_PRI_SEARCH_SCROLL_TIME = JsonpKey.of("pri.search.scroll_time");
+    private static final JsonpKey KEY_PRI_SEARCH_SCROLL_TOTAL = JsonpKey.of("pri.search.scroll_total");
+    private static final JsonpKey KEY_PRI_SEGMENTS_COUNT = JsonpKey.of("pri.segments.count");
+    private static final JsonpKey KEY_PRI_SEGMENTS_FIXED_BITSET_MEMORY = JsonpKey.of("pri.segments.fixed_bitset_memory");
+    private static final JsonpKey KEY_PRI_SEGMENTS_INDEX_WRITER_MEMORY = JsonpKey.of("pri.segments.index_writer_memory");
+    private static final JsonpKey KEY_PRI_SEGMENTS_MEMORY = JsonpKey.of("pri.segments.memory");
+    private static final JsonpKey KEY_PRI_SEGMENTS_VERSION_MAP_MEMORY = JsonpKey.of("pri.segments.version_map_memory");
+    private static final JsonpKey KEY_PRI_STORE_SIZE = JsonpKey.of("pri.store.size");
+    private static final JsonpKey KEY_PRI_SUGGEST_CURRENT = JsonpKey.of("pri.suggest.current");
+    private static final JsonpKey KEY_PRI_SUGGEST_TIME = JsonpKey.of("pri.suggest.time");
+    private static final JsonpKey KEY_PRI_SUGGEST_TOTAL = JsonpKey.of("pri.suggest.total");
+    private static final JsonpKey KEY_PRI_WARMER_CURRENT = JsonpKey.of("pri.warmer.current");
+    private static final JsonpKey KEY_PRI_WARMER_TOTAL = JsonpKey.of("pri.warmer.total");
+    private static final JsonpKey KEY_PRI_WARMER_TOTAL_TIME = JsonpKey.of("pri.warmer.total_time");
+    private static final JsonpKey KEY_QUERY_CACHE_EVICTIONS = JsonpKey.of("query_cache.evictions");
+    private static final JsonpKey KEY_QUERY_CACHE_MEMORY_SIZE = JsonpKey.of("query_cache.memory_size");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TIME = JsonpKey.of("refresh.external_time");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TOTAL = JsonpKey.of("refresh.external_total");
+    private static final JsonpKey KEY_REFRESH_LISTENERS = JsonpKey.of("refresh.listeners");
+    private static final JsonpKey KEY_REFRESH_TIME = JsonpKey.of("refresh.time");
+    private static final JsonpKey KEY_REFRESH_TOTAL = JsonpKey.of("refresh.total");
+    private static final JsonpKey KEY_REP = JsonpKey.of("rep");
+    private static final JsonpKey KEY_REQUEST_CACHE_EVICTIONS = JsonpKey.of("request_cache.evictions");
+    private static final JsonpKey KEY_REQUEST_CACHE_HIT_COUNT = JsonpKey.of("request_cache.hit_count");
+    private static final JsonpKey KEY_REQUEST_CACHE_MEMORY_SIZE = JsonpKey.of("request_cache.memory_size");
+    private static final JsonpKey KEY_REQUEST_CACHE_MISS_COUNT = JsonpKey.of("request_cache.miss_count");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT = JsonpKey.of("search.concurrent_avg_slice_count");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_CURRENT = JsonpKey.of("search.concurrent_query_current");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TIME = JsonpKey.of("search.concurrent_query_time");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TOTAL = JsonpKey.of("search.concurrent_query_total");
+    private static final JsonpKey KEY_SEARCH_FETCH_CURRENT = JsonpKey.of("search.fetch_current");
+    private static final JsonpKey KEY_SEARCH_FETCH_TIME = JsonpKey.of("search.fetch_time");
+    private static final JsonpKey KEY_SEARCH_FETCH_TOTAL = JsonpKey.of("search.fetch_total");
+    private static final JsonpKey KEY_SEARCH_OPEN_CONTEXTS = JsonpKey.of("search.open_contexts");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_CURRENT = JsonpKey.of("search.point_in_time_current");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TIME = JsonpKey.of("search.point_in_time_time");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TOTAL = JsonpKey.of("search.point_in_time_total");
+    private static final JsonpKey KEY_SEARCH_QUERY_CURRENT = JsonpKey.of("search.query_current");
+    private static final JsonpKey KEY_SEARCH_QUERY_TIME = JsonpKey.of("search.query_time");
+    private static final JsonpKey KEY_SEARCH_QUERY_TOTAL = JsonpKey.of("search.query_total");
+    private static final JsonpKey KEY_SEARCH_SCROLL_CURRENT = JsonpKey.of("search.scroll_current");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TIME = JsonpKey.of("search.scroll_time");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TOTAL = JsonpKey.of("search.scroll_total");
+    private static final JsonpKey KEY_SEARCH_THROTTLED = JsonpKey.of("search.throttled");
+    private static final JsonpKey KEY_SEGMENTS_COUNT = JsonpKey.of("segments.count");
+    private static final JsonpKey KEY_SEGMENTS_FIXED_BITSET_MEMORY = JsonpKey.of("segments.fixed_bitset_memory");
+    private static final JsonpKey KEY_SEGMENTS_INDEX_WRITER_MEMORY = JsonpKey.of("segments.index_writer_memory");
+    private static final JsonpKey KEY_SEGMENTS_MEMORY = JsonpKey.of("segments.memory");
+    private static final JsonpKey KEY_SEGMENTS_VERSION_MAP_MEMORY = JsonpKey.of("segments.version_map_memory");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_STORE_SIZE = JsonpKey.of("store.size");
+    private static final JsonpKey KEY_SUGGEST_CURRENT = JsonpKey.of("suggest.current");
+    private static final JsonpKey KEY_SUGGEST_TIME = JsonpKey.of("suggest.time");
+    private static final JsonpKey KEY_SUGGEST_TOTAL = JsonpKey.of("suggest.total");
+    private static final JsonpKey KEY_UUID = JsonpKey.of("uuid");
+    private static final JsonpKey KEY_WARMER_CURRENT = JsonpKey.of("warmer.current");
+    private static final JsonpKey KEY_WARMER_TOTAL = JsonpKey.of("warmer.total");
+    private static final JsonpKey KEY_WARMER_TOTAL_TIME = JsonpKey.of("warmer.total_time");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.completionSize != null) {
-            generator.writeKey("completion.size");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION_SIZE);
             generator.write(this.completionSize);
         }
 
         if (this.creationDate != null) {
-            generator.writeKey("creation.date");
+            JsonpUtils.writeKey(generator, KEY_CREATION_DATE);
             generator.write(this.creationDate);
         }
 
         if (this.creationDateString != null) {
-            generator.writeKey("creation.date.string");
+            JsonpUtils.writeKey(generator, KEY_CREATION_DATE_STRING);
             generator.write(this.creationDateString);
         }
 
         if (this.docsCount != null) {
-            generator.writeKey("docs.count");
+            JsonpUtils.writeKey(generator, KEY_DOCS_COUNT);
             generator.write(this.docsCount);
         }
 
         if (this.docsDeleted != null) {
-            generator.writeKey("docs.deleted");
+            JsonpUtils.writeKey(generator, KEY_DOCS_DELETED);
             generator.write(this.docsDeleted);
         }
 
         if (this.fielddataEvictions != null) {
-            generator.writeKey("fielddata.evictions");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_EVICTIONS);
             generator.write(this.fielddataEvictions);
         }
 
         if (this.fielddataMemorySize != null) {
-            generator.writeKey("fielddata.memory_size");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_MEMORY_SIZE);
             generator.write(this.fielddataMemorySize);
         }
 
         if (this.flushTotal != null) {
-            generator.writeKey("flush.total");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL);
             generator.write(this.flushTotal);
         }
 
         if (this.flushTotalTime != null) {
-            generator.writeKey("flush.total_time");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL_TIME);
             generator.write(this.flushTotalTime);
         }
 
         if (this.getCurrent != null) {
-            generator.writeKey("get.current");
+            JsonpUtils.writeKey(generator, KEY_GET_CURRENT);
             generator.write(this.getCurrent);
         }
 
         if (this.getExistsTime != null) {
-            generator.writeKey("get.exists_time");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TIME);
             generator.write(this.getExistsTime);
         }
 
         if (this.getExistsTotal != null) {
-            generator.writeKey("get.exists_total");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TOTAL);
             generator.write(this.getExistsTotal);
         }
 
         if (this.getMissingTime != null) {
-            generator.writeKey("get.missing_time");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TIME);
             generator.write(this.getMissingTime);
         }
 
         if (this.getMissingTotal != null) {
-            generator.writeKey("get.missing_total");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TOTAL);
             generator.write(this.getMissingTotal);
         }
 
         if (this.getTime != null) {
-            generator.writeKey("get.time");
+            JsonpUtils.writeKey(generator, KEY_GET_TIME);
             generator.write(this.getTime);
         }
 
         if (this.getTotal != null) {
-            generator.writeKey("get.total");
+            JsonpUtils.writeKey(generator, KEY_GET_TOTAL);
             generator.write(this.getTotal);
         }
 
         if (this.health != null) {
-            generator.writeKey("health");
+            JsonpUtils.writeKey(generator, KEY_HEALTH);
             generator.write(this.health);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexingDeleteCurrent != null) {
-            generator.writeKey("indexing.delete_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_CURRENT);
             generator.write(this.indexingDeleteCurrent);
         }
 
         if (this.indexingDeleteTime != null) {
-            generator.writeKey("indexing.delete_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TIME);
             generator.write(this.indexingDeleteTime);
         }
 
         if (this.indexingDeleteTotal != null) {
-            generator.writeKey("indexing.delete_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TOTAL);
             generator.write(this.indexingDeleteTotal);
         }
 
         if (this.indexingIndexCurrent != null) {
-            generator.writeKey("indexing.index_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_CURRENT);
             generator.write(this.indexingIndexCurrent);
         }
 
         if (this.indexingIndexFailed != null) {
-            generator.writeKey("indexing.index_failed");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_FAILED);
             generator.write(this.indexingIndexFailed);
         }
 
         if (this.indexingIndexTime != null) {
-            generator.writeKey("indexing.index_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TIME);
             generator.write(this.indexingIndexTime);
         }
 
         if (this.indexingIndexTotal != null) {
-            generator.writeKey("indexing.index_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TOTAL);
             generator.write(this.indexingIndexTotal);
         }
 
         if (this.memoryTotal != null) {
-            generator.writeKey("memory.total");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_TOTAL);
             generator.write(this.memoryTotal);
         }
 
         if (this.mergesCurrent != null) {
-            generator.writeKey("merges.current");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT);
             generator.write(this.mergesCurrent);
         }
 
         if (this.mergesCurrentDocs != null) {
-            generator.writeKey("merges.current_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_DOCS);
             generator.write(this.mergesCurrentDocs);
         }
 
         if (this.mergesCurrentSize != null) {
-            generator.writeKey("merges.current_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_SIZE);
             generator.write(this.mergesCurrentSize);
         }
 
         if (this.mergesTotal != null) {
-            generator.writeKey("merges.total");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL);
             generator.write(this.mergesTotal);
         }
 
         if (this.mergesTotalDocs != null) {
-            generator.writeKey("merges.total_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_DOCS);
             generator.write(this.mergesTotalDocs);
         }
 
         if (this.mergesTotalSize != null) {
-            generator.writeKey("merges.total_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_SIZE);
             generator.write(this.mergesTotalSize);
         }
 
         if (this.mergesTotalTime != null) {
-            generator.writeKey("merges.total_time");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_TIME);
             generator.write(this.mergesTotalTime);
         }
 
         if (this.pri != null) {
-            generator.writeKey("pri");
+            JsonpUtils.writeKey(generator, KEY_PRI);
             generator.write(this.pri);
         }
 
         if (this.priCompletionSize != null) {
-            generator.writeKey("pri.completion.size");
+            JsonpUtils.writeKey(generator, KEY_PRI_COMPLETION_SIZE);
             generator.write(this.priCompletionSize);
         }
 
         if (this.priFielddataEvictions != null) {
-            generator.writeKey("pri.fielddata.evictions");
+            JsonpUtils.writeKey(generator, KEY_PRI_FIELDDATA_EVICTIONS);
             generator.write(this.priFielddataEvictions);
         }
 
         if (this.priFielddataMemorySize != null) {
-            generator.writeKey("pri.fielddata.memory_size");
+            JsonpUtils.writeKey(generator, KEY_PRI_FIELDDATA_MEMORY_SIZE);
             generator.write(this.priFielddataMemorySize);
         }
 
         if (this.priFlushTotal != null) {
-            generator.writeKey("pri.flush.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_FLUSH_TOTAL);
             generator.write(this.priFlushTotal);
         }
 
         if (this.priFlushTotalTime != null) {
-            generator.writeKey("pri.flush.total_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_FLUSH_TOTAL_TIME);
             generator.write(this.priFlushTotalTime);
         }
 
         if (this.priGetCurrent != null) {
-            generator.writeKey("pri.get.current");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_CURRENT);
             generator.write(this.priGetCurrent);
         }
 
         if (this.priGetExistsTime != null) {
-            generator.writeKey("pri.get.exists_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_EXISTS_TIME);
             generator.write(this.priGetExistsTime);
         }
 
         if (this.priGetExistsTotal != null) {
-            generator.writeKey("pri.get.exists_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_EXISTS_TOTAL);
             generator.write(this.priGetExistsTotal);
         }
 
         if (this.priGetMissingTime != null) {
-            generator.writeKey("pri.get.missing_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_MISSING_TIME);
             generator.write(this.priGetMissingTime);
         }
 
         if (this.priGetMissingTotal != null) {
-            generator.writeKey("pri.get.missing_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_MISSING_TOTAL);
             generator.write(this.priGetMissingTotal);
         }
 
         if (this.priGetTime != null) {
-            generator.writeKey("pri.get.time");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_TIME);
             generator.write(this.priGetTime);
         }
 
         if (this.priGetTotal != null) {
-            generator.writeKey("pri.get.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_GET_TOTAL);
             generator.write(this.priGetTotal);
         }
 
         if (this.priIndexingDeleteCurrent != null) {
-            generator.writeKey("pri.indexing.delete_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_DELETE_CURRENT);
             generator.write(this.priIndexingDeleteCurrent);
         }
 
         if (this.priIndexingDeleteTime != null) {
-            generator.writeKey("pri.indexing.delete_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_DELETE_TIME);
             generator.write(this.priIndexingDeleteTime);
         }
 
         if (this.priIndexingDeleteTotal != null) {
-            generator.writeKey("pri.indexing.delete_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_DELETE_TOTAL);
             generator.write(this.priIndexingDeleteTotal);
         }
 
         if (this.priIndexingIndexCurrent != null) {
-            generator.writeKey("pri.indexing.index_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_INDEX_CURRENT);
             generator.write(this.priIndexingIndexCurrent);
         }
 
         if (this.priIndexingIndexFailed != null) {
-            generator.writeKey("pri.indexing.index_failed");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_INDEX_FAILED);
             generator.write(this.priIndexingIndexFailed);
         }
 
         if (this.priIndexingIndexTime != null) {
-            generator.writeKey("pri.indexing.index_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_INDEX_TIME);
             generator.write(this.priIndexingIndexTime);
         }
 
         if (this.priIndexingIndexTotal != null) {
-            generator.writeKey("pri.indexing.index_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_INDEXING_INDEX_TOTAL);
             generator.write(this.priIndexingIndexTotal);
         }
 
         if (this.priMemoryTotal != null) {
-            generator.writeKey("pri.memory.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_MEMORY_TOTAL);
             generator.write(this.priMemoryTotal);
         }
 
         if (this.priMergesCurrent != null) {
-            generator.writeKey("pri.merges.current");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_CURRENT);
             generator.write(this.priMergesCurrent);
         }
 
         if (this.priMergesCurrentDocs != null) {
-            generator.writeKey("pri.merges.current_docs");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_CURRENT_DOCS);
             generator.write(this.priMergesCurrentDocs);
         }
 
         if (this.priMergesCurrentSize != null) {
-            generator.writeKey("pri.merges.current_size");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_CURRENT_SIZE);
             generator.write(this.priMergesCurrentSize);
         }
 
         if (this.priMergesTotal != null) {
-            generator.writeKey("pri.merges.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_TOTAL);
             generator.write(this.priMergesTotal);
         }
 
         if (this.priMergesTotalDocs != null) {
-            generator.writeKey("pri.merges.total_docs");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_TOTAL_DOCS);
             generator.write(this.priMergesTotalDocs);
         }
 
         if (this.priMergesTotalSize != null) {
-            generator.writeKey("pri.merges.total_size");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_TOTAL_SIZE);
             generator.write(this.priMergesTotalSize);
         }
 
         if (this.priMergesTotalTime != null) {
-            generator.writeKey("pri.merges.total_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_MERGES_TOTAL_TIME);
             generator.write(this.priMergesTotalTime);
         }
 
         if (this.priQueryCacheEvictions != null) {
-            generator.writeKey("pri.query_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_PRI_QUERY_CACHE_EVICTIONS);
             generator.write(this.priQueryCacheEvictions);
         }
 
         if (this.priQueryCacheMemorySize != null) {
-            generator.writeKey("pri.query_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_PRI_QUERY_CACHE_MEMORY_SIZE);
             generator.write(this.priQueryCacheMemorySize);
         }
 
         if (this.priRefreshExternalTime != null) {
-            generator.writeKey("pri.refresh.external_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_REFRESH_EXTERNAL_TIME);
             generator.write(this.priRefreshExternalTime);
         }
 
         if (this.priRefreshExternalTotal != null) {
-            generator.writeKey("pri.refresh.external_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_REFRESH_EXTERNAL_TOTAL);
             generator.write(this.priRefreshExternalTotal);
         }
 
         if (this.priRefreshListeners != null) {
-            generator.writeKey("pri.refresh.listeners");
+            JsonpUtils.writeKey(generator, KEY_PRI_REFRESH_LISTENERS);
             generator.write(this.priRefreshListeners);
         }
 
         if (this.priRefreshTime != null) {
-            generator.writeKey("pri.refresh.time");
+            JsonpUtils.writeKey(generator, KEY_PRI_REFRESH_TIME);
             generator.write(this.priRefreshTime);
         }
 
         if (this.priRefreshTotal != null) {
-            generator.writeKey("pri.refresh.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_REFRESH_TOTAL);
             generator.write(this.priRefreshTotal);
         }
 
         if (this.priRequestCacheEvictions != null) {
-            generator.writeKey("pri.request_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_PRI_REQUEST_CACHE_EVICTIONS);
             generator.write(this.priRequestCacheEvictions);
         }
 
         if (this.priRequestCacheHitCount != null) {
-            generator.writeKey("pri.request_cache.hit_count");
+            JsonpUtils.writeKey(generator, KEY_PRI_REQUEST_CACHE_HIT_COUNT);
             generator.write(this.priRequestCacheHitCount);
         }
 
         if (this.priRequestCacheMemorySize != null) {
-            generator.writeKey("pri.request_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_PRI_REQUEST_CACHE_MEMORY_SIZE);
             generator.write(this.priRequestCacheMemorySize);
         }
 
         if (this.priRequestCacheMissCount != null) {
-            generator.writeKey("pri.request_cache.miss_count");
+            JsonpUtils.writeKey(generator, KEY_PRI_REQUEST_CACHE_MISS_COUNT);
             generator.write(this.priRequestCacheMissCount);
         }
 
         if (this.priSearchConcurrentAvgSliceCount != null) {
-            generator.writeKey("pri.search.concurrent_avg_slice_count");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_CONCURRENT_AVG_SLICE_COUNT);
             generator.write(this.priSearchConcurrentAvgSliceCount);
         }
 
         if (this.priSearchConcurrentQueryCurrent != null) {
-            generator.writeKey("pri.search.concurrent_query_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_CONCURRENT_QUERY_CURRENT);
             generator.write(this.priSearchConcurrentQueryCurrent);
         }
 
         if (this.priSearchConcurrentQueryTime != null) {
-            generator.writeKey("pri.search.concurrent_query_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_CONCURRENT_QUERY_TIME);
             generator.write(this.priSearchConcurrentQueryTime);
         }
 
         if (this.priSearchConcurrentQueryTotal != null) {
-            generator.writeKey("pri.search.concurrent_query_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_CONCURRENT_QUERY_TOTAL);
             generator.write(this.priSearchConcurrentQueryTotal);
         }
 
         if (this.priSearchFetchCurrent != null) {
-            generator.writeKey("pri.search.fetch_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_FETCH_CURRENT);
             generator.write(this.priSearchFetchCurrent);
         }
 
         if (this.priSearchFetchTime != null) {
-            generator.writeKey("pri.search.fetch_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_FETCH_TIME);
             generator.write(this.priSearchFetchTime);
         }
 
         if (this.priSearchFetchTotal != null) {
-            generator.writeKey("pri.search.fetch_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_FETCH_TOTAL);
             generator.write(this.priSearchFetchTotal);
         }
 
         if (this.priSearchOpenContexts != null) {
-            generator.writeKey("pri.search.open_contexts");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_OPEN_CONTEXTS);
             generator.write(this.priSearchOpenContexts);
         }
 
         if (this.priSearchPointInTimeCurrent != null) {
-            generator.writeKey("pri.search.point_in_time_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_POINT_IN_TIME_CURRENT);
             generator.write(this.priSearchPointInTimeCurrent);
         }
 
         if (this.priSearchPointInTimeTime != null) {
-            generator.writeKey("pri.search.point_in_time_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_POINT_IN_TIME_TIME);
             generator.write(this.priSearchPointInTimeTime);
         }
 
         if (this.priSearchPointInTimeTotal != null) {
-            generator.writeKey("pri.search.point_in_time_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_POINT_IN_TIME_TOTAL);
             generator.write(this.priSearchPointInTimeTotal);
         }
 
         if (this.priSearchQueryCurrent != null) {
-            generator.writeKey("pri.search.query_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_QUERY_CURRENT);
             generator.write(this.priSearchQueryCurrent);
         }
 
         if (this.priSearchQueryTime != null) {
-            generator.writeKey("pri.search.query_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_QUERY_TIME);
             generator.write(this.priSearchQueryTime);
         }
 
         if (this.priSearchQueryTotal != null) {
-            generator.writeKey("pri.search.query_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_QUERY_TOTAL);
             generator.write(this.priSearchQueryTotal);
         }
 
         if (this.priSearchScrollCurrent != null) {
-            generator.writeKey("pri.search.scroll_current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_SCROLL_CURRENT);
             generator.write(this.priSearchScrollCurrent);
         }
 
         if (this.priSearchScrollTime != null) {
-            generator.writeKey("pri.search.scroll_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_SCROLL_TIME);
             generator.write(this.priSearchScrollTime);
         }
 
         if (this.priSearchScrollTotal != null) {
-            generator.writeKey("pri.search.scroll_total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEARCH_SCROLL_TOTAL);
             generator.write(this.priSearchScrollTotal);
         }
 
         if (this.priSegmentsCount != null) {
-            generator.writeKey("pri.segments.count");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEGMENTS_COUNT);
             generator.write(this.priSegmentsCount);
         }
 
         if (this.priSegmentsFixedBitsetMemory != null) {
-            generator.writeKey("pri.segments.fixed_bitset_memory");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEGMENTS_FIXED_BITSET_MEMORY);
             generator.write(this.priSegmentsFixedBitsetMemory);
         }
 
         if (this.priSegmentsIndexWriterMemory != null) {
-            generator.writeKey("pri.segments.index_writer_memory");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEGMENTS_INDEX_WRITER_MEMORY);
             generator.write(this.priSegmentsIndexWriterMemory);
         }
 
         if (this.priSegmentsMemory != null) {
-            generator.writeKey("pri.segments.memory");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEGMENTS_MEMORY);
             generator.write(this.priSegmentsMemory);
         }
 
         if (this.priSegmentsVersionMapMemory != null) {
-            generator.writeKey("pri.segments.version_map_memory");
+            JsonpUtils.writeKey(generator, KEY_PRI_SEGMENTS_VERSION_MAP_MEMORY);
             generator.write(this.priSegmentsVersionMapMemory);
         }
 
         if (this.priStoreSize != null) {
-            generator.writeKey("pri.store.size");
+            JsonpUtils.writeKey(generator, KEY_PRI_STORE_SIZE);
             generator.write(this.priStoreSize);
         }
 
         if (this.priSuggestCurrent != null) {
-            generator.writeKey("pri.suggest.current");
+            JsonpUtils.writeKey(generator, KEY_PRI_SUGGEST_CURRENT);
             generator.write(this.priSuggestCurrent);
         }
 
         if (this.priSuggestTime != null) {
-            generator.writeKey("pri.suggest.time");
+            JsonpUtils.writeKey(generator, KEY_PRI_SUGGEST_TIME);
             generator.write(this.priSuggestTime);
         }
 
         if (this.priSuggestTotal != null) {
-            generator.writeKey("pri.suggest.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_SUGGEST_TOTAL);
             generator.write(this.priSuggestTotal);
         }
 
         if (this.priWarmerCurrent != null) {
-            generator.writeKey("pri.warmer.current");
+            JsonpUtils.writeKey(generator, KEY_PRI_WARMER_CURRENT);
             generator.write(this.priWarmerCurrent);
         }
 
         if (this.priWarmerTotal != null) {
-            generator.writeKey("pri.warmer.total");
+            JsonpUtils.writeKey(generator, KEY_PRI_WARMER_TOTAL);
             generator.write(this.priWarmerTotal);
         }
 
         if (this.priWarmerTotalTime != null) {
-            generator.writeKey("pri.warmer.total_time");
+            JsonpUtils.writeKey(generator, KEY_PRI_WARMER_TOTAL_TIME);
             generator.write(this.priWarmerTotalTime);
         }
 
         if (this.queryCacheEvictions != null) {
-            generator.writeKey("query_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_EVICTIONS);
             generator.write(this.queryCacheEvictions);
         }
 
         if (this.queryCacheMemorySize != null) {
-            generator.writeKey("query_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_MEMORY_SIZE);
             generator.write(this.queryCacheMemorySize);
         }
 
         if (this.refreshExternalTime != null) {
-            generator.writeKey("refresh.external_time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TIME);
             generator.write(this.refreshExternalTime);
         }
 
         if (this.refreshExternalTotal != null) {
-            generator.writeKey("refresh.external_total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TOTAL);
             generator.write(this.refreshExternalTotal);
         }
 
         if (this.refreshListeners != null) {
-            generator.writeKey("refresh.listeners");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_LISTENERS);
             generator.write(this.refreshListeners);
         }
 
         if (this.refreshTime != null) {
-            generator.writeKey("refresh.time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TIME);
             generator.write(this.refreshTime);
         }
 
         if (this.refreshTotal != null) {
-            generator.writeKey("refresh.total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TOTAL);
             generator.write(this.refreshTotal);
         }
 
         if (this.rep != null) {
-            generator.writeKey("rep");
+            JsonpUtils.writeKey(generator, KEY_REP);
             generator.write(this.rep);
         }
 
         if (this.requestCacheEvictions != null) {
-            generator.writeKey("request_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_EVICTIONS);
             generator.write(this.requestCacheEvictions);
         }
 
         if (this.requestCacheHitCount != null) {
-            generator.writeKey("request_cache.hit_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_HIT_COUNT);
             generator.write(this.requestCacheHitCount);
         }
 
         if (this.requestCacheMemorySize != null) {
-            generator.writeKey("request_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_MEMORY_SIZE);
             generator.write(this.requestCacheMemorySize);
         }
 
         if (this.requestCacheMissCount != null) {
-            generator.writeKey("request_cache.miss_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_MISS_COUNT);
             generator.write(this.requestCacheMissCount);
         }
 
         if (this.searchConcurrentAvgSliceCount != null) {
-            generator.writeKey("search.concurrent_avg_slice_count");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT);
             generator.write(this.searchConcurrentAvgSliceCount);
         }
 
         if (this.searchConcurrentQueryCurrent != null) {
-            generator.writeKey("search.concurrent_query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_CURRENT);
             generator.write(this.searchConcurrentQueryCurrent);
         }
 
         if (this.searchConcurrentQueryTime != null) {
-            generator.writeKey("search.concurrent_query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TIME);
             generator.write(this.searchConcurrentQueryTime);
         }
 
         if (this.searchConcurrentQueryTotal != null) {
-            generator.writeKey("search.concurrent_query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TOTAL);
             generator.write(this.searchConcurrentQueryTotal);
         }
 
         if (this.searchFetchCurrent != null) {
-            generator.writeKey("search.fetch_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_CURRENT);
             generator.write(this.searchFetchCurrent);
         }
 
         if (this.searchFetchTime != null) {
-            generator.writeKey("search.fetch_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TIME);
             generator.write(this.searchFetchTime);
         }
 
         if (this.searchFetchTotal != null) {
-            generator.writeKey("search.fetch_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TOTAL);
             generator.write(this.searchFetchTotal);
         }
 
         if (this.searchOpenContexts != null) {
-            generator.writeKey("search.open_contexts");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_OPEN_CONTEXTS);
             generator.write(this.searchOpenContexts);
         }
 
         if (this.searchPointInTimeCurrent != null) {
-            generator.writeKey("search.point_in_time_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_CURRENT);
             generator.write(this.searchPointInTimeCurrent);
         }
 
         if (this.searchPointInTimeTime != null) {
-            generator.writeKey("search.point_in_time_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TIME);
             generator.write(this.searchPointInTimeTime);
         }
 
         if (this.searchPointInTimeTotal != null) {
-            generator.writeKey("search.point_in_time_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TOTAL);
             generator.write(this.searchPointInTimeTotal);
         }
 
         if (this.searchQueryCurrent != null) {
-            generator.writeKey("search.query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_CURRENT);
             generator.write(this.searchQueryCurrent);
         }
 
         if (this.searchQueryTime != null) {
-            generator.writeKey("search.query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TIME);
             generator.write(this.searchQueryTime);
         }
 
         if (this.searchQueryTotal != null) {
-            generator.writeKey("search.query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TOTAL);
             generator.write(this.searchQueryTotal);
         }
 
         if (this.searchScrollCurrent != null) {
-            generator.writeKey("search.scroll_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_CURRENT);
             generator.write(this.searchScrollCurrent);
         }
 
         if (this.searchScrollTime != null) {
-            generator.writeKey("search.scroll_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TIME);
             generator.write(this.searchScrollTime);
         }
 
         if (this.searchScrollTotal != null) {
-            generator.writeKey("search.scroll_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TOTAL);
             generator.write(this.searchScrollTotal);
         }
 
         if (this.searchThrottled != null) {
-            generator.writeKey("search.throttled");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_THROTTLED);
             generator.write(this.searchThrottled);
         }
 
         if (this.segmentsCount != null) {
-            generator.writeKey("segments.count");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COUNT);
             generator.write(this.segmentsCount);
         }
 
         if (this.segmentsFixedBitsetMemory != null) {
-            generator.writeKey("segments.fixed_bitset_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_FIXED_BITSET_MEMORY);
             generator.write(this.segmentsFixedBitsetMemory);
         }
 
         if (this.segmentsIndexWriterMemory != null) {
-            generator.writeKey("segments.index_writer_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_INDEX_WRITER_MEMORY);
             generator.write(this.segmentsIndexWriterMemory);
         }
 
         if (this.segmentsMemory != null) {
-            generator.writeKey("segments.memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_MEMORY);
             generator.write(this.segmentsMemory);
         }
 
         if (this.segmentsVersionMapMemory != null) {
-            generator.writeKey("segments.version_map_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_VERSION_MAP_MEMORY);
             generator.write(this.segmentsVersionMapMemory);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (this.storeSize != null) {
-            generator.writeKey("store.size");
+            JsonpUtils.writeKey(generator, KEY_STORE_SIZE);
             generator.write(this.storeSize);
         }
 
         if (this.suggestCurrent != null) {
-            generator.writeKey("suggest.current");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_CURRENT);
             generator.write(this.suggestCurrent);
         }
 
         if (this.suggestTime != null) {
-            generator.writeKey("suggest.time");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_TIME);
             generator.write(this.suggestTime);
         }
 
         if (this.suggestTotal != null) {
-            generator.writeKey("suggest.total");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_TOTAL);
             generator.write(this.suggestTotal);
         }
 
         if (this.uuid != null) {
-            generator.writeKey("uuid");
+            JsonpUtils.writeKey(generator, KEY_UUID);
             generator.write(this.uuid);
         }
 
         if (this.warmerCurrent != null) {
-            generator.writeKey("warmer.current");
+            JsonpUtils.writeKey(generator, KEY_WARMER_CURRENT);
             generator.write(this.warmerCurrent);
         }
 
         if (this.warmerTotal != null) {
-            generator.writeKey("warmer.total");
+            JsonpUtils.writeKey(generator, KEY_WARMER_TOTAL);
             generator.write(this.warmerTotal);
         }
 
         if (this.warmerTotalTime != null) {
-            generator.writeKey("warmer.total_time");
+            JsonpUtils.writeKey(generator, KEY_WARMER_TOTAL_TIME);
             generator.write(this.warmerTotalTime);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -198,44 +200,53 @@ public class NodeAttributesRecord implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTR = JsonpKey.of("attr");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_PID = JsonpKey.of("pid");
+    private static final JsonpKey KEY_PORT = JsonpKey.of("port");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.attr != null) {
-            generator.writeKey("attr");
+            JsonpUtils.writeKey(generator, KEY_ATTR);
             generator.write(this.attr);
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
         if (this.pid != null) {
-            generator.writeKey("pid");
+            JsonpUtils.writeKey(generator, KEY_PID);
             generator.write(this.pid);
         }
 
         if (this.port != null) {
-            generator.writeKey("port");
+            JsonpUtils.writeKey(generator, KEY_PORT);
             generator.write(this.port);
         }
 
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             generator.write(this.value);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -1610,529 +1612,635 @@ public class NodesRecord implements PlainJsonSerializable, ToCopyableBuilder<Nod
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILD = JsonpKey.of("build");
+    private static final JsonpKey KEY_BULK_AVG_SIZE_IN_BYTES = JsonpKey.of("bulk.avg_size_in_bytes");
+    private static final JsonpKey KEY_BULK_AVG_TIME = JsonpKey.of("bulk.avg_time");
+    private static final JsonpKey KEY_BULK_TOTAL_OPERATIONS = JsonpKey.of("bulk.total_operations");
+    private static final JsonpKey KEY_BULK_TOTAL_SIZE_IN_BYTES = JsonpKey.of("bulk.total_size_in_bytes");
+    private static final JsonpKey KEY_BULK_TOTAL_TIME = JsonpKey.of("bulk.total_time");
+    private static final JsonpKey KEY_CLUSTER_MANAGER = JsonpKey.of("cluster_manager");
+    private static final JsonpKey KEY_COMPLETION_SIZE = JsonpKey.of("completion.size");
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_DISK_AVAIL = JsonpKey.of("disk.avail");
+    private static final JsonpKey KEY_DISK_TOTAL = JsonpKey.of("disk.total");
+    private static final JsonpKey KEY_DISK_USED = JsonpKey.of("disk.used");
+    private static final JsonpKey KEY_DISK_USED_PERCENT = JsonpKey.of("disk.used_percent");
+    private static final JsonpKey KEY_FIELDDATA_EVICTIONS = JsonpKey.of("fielddata.evictions");
+    private static final JsonpKey KEY_FIELDDATA_MEMORY_SIZE = JsonpKey.of("fielddata.memory_size");
+    private static final JsonpKey KEY_FILE_DESC_CURRENT = JsonpKey.of("file_desc.current");
+    private static final JsonpKey KEY_FILE_DESC_MAX = JsonpKey.of("file_desc.max");
+    private static final JsonpKey KEY_FILE_DESC_PERCENT = JsonpKey.of("file_desc.percent");
+    private static final JsonpKey KEY_FLAVOR = JsonpKey.of("flavor");
+    private static final JsonpKey KEY_FLUSH_TOTAL = JsonpKey.of("flush.total");
+    private static final JsonpKey KEY_FLUSH_TOTAL_TIME = JsonpKey.of("flush.total_time");
+    private static final JsonpKey KEY_GET_CURRENT = JsonpKey.of("get.current");
+    private static final JsonpKey KEY_GET_EXISTS_TIME = JsonpKey.of("get.exists_time");
+    private static final JsonpKey KEY_GET_EXISTS_TOTAL = JsonpKey.of("get.exists_total");
+    private static final JsonpKey KEY_GET_MISSING_TIME = JsonpKey.of("get.missing_time");
+    private static final JsonpKey KEY_GET_MISSING_TOTAL = JsonpKey.of("get.missing_total");
+    private static final JsonpKey KEY_GET_TIME = JsonpKey.of("get.time");
+    private static final JsonpKey KEY_GET_TOTAL = JsonpKey.of("get.total");
+    private static final JsonpKey KEY_HEAP_CURRENT = JsonpKey.of("heap.current");
+    private static final JsonpKey KEY_HEAP_MAX = JsonpKey.of("heap.max");
+    private static final JsonpKey KEY_HEAP_PERCENT = JsonpKey.of("heap.percent");
+    private static final JsonpKey KEY_HTTP_ADDRESS = JsonpKey.of("http_address");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEXING_DELETE_CURRENT = JsonpKey.of("indexing.delete_current");
+    private static final JsonpKey KEY_INDEXING_DELETE_TIME = JsonpKey.of("indexing.delete_time");
+    private static final JsonpKey KEY_INDEXING_DELETE_TOTAL = JsonpKey.of("indexing.delete_total");
+    private static final JsonpKey KEY_INDEXING_INDEX_CURRENT = JsonpKey.of("indexing.index_current");
+    private static final JsonpKey KEY_INDEXING_INDEX_FAILED = JsonpKey.of("indexing.index_failed");
+    private static final JsonpKey KEY_INDEXING_INDEX_TIME = JsonpKey.of("indexing.index_time");
+    private static final JsonpKey KEY_INDEXING_INDEX_TOTAL = JsonpKey.of("indexing.index_total");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_JDK = JsonpKey.of("jdk");
+    private static final JsonpKey KEY_LOAD15M = JsonpKey.of("load_15m");
+    private static final JsonpKey KEY_LOAD1M = JsonpKey.of("load_1m");
+    private static final JsonpKey KEY_LOAD5M = JsonpKey.of("load_5m");
+    private static final JsonpKey KEY_MASTER = JsonpKey.of("master");
+    private static final JsonpKey KEY_MERGES_CURRENT = JsonpKey.of("merges.current");
+    private static final JsonpKey KEY_MERGES_CURRENT_DOCS = JsonpKey.of("merges.current_docs");
+    private static final JsonpKey KEY_MERGES_CURRENT_SIZE = JsonpKey.of("merges.current_size");
+    private static final JsonpKey KEY_MERGES_TOTAL = JsonpKey.of("merges.total");
+    private static final JsonpKey KEY_MERGES_TOTAL_DOCS = JsonpKey.of("merges.total_docs");
+    private static final JsonpKey KEY_MERGES_TOTAL_SIZE = JsonpKey.of("merges.total_size");
+    private static final JsonpKey KEY_MERGES_TOTAL_TIME = JsonpKey.of("merges.total_time");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_NODE_ROLE = JsonpKey.of("node.role");
+    private static final JsonpKey KEY_NODE_ROLES = JsonpKey.of("node.roles");
+    private static final JsonpKey KEY_PID = JsonpKey.of("pid");
+    private static final JsonpKey KEY_PORT = JsonpKey.of("port");
+    private static final JsonpKey KEY_QUERY_CACHE_EVICTIONS = JsonpKey.of("query_cache.evictions");
+    private static final JsonpKey KEY_QUERY_CACHE_HIT_COUNT = JsonpKey.of("query_cache.hit_count");
+    private static final JsonpKey KEY_QUERY_CACHE_MEMORY_SIZE = JsonpKey.of("query_cache.memory_size");
+    private static final JsonpKey KEY_QUERY_CACHE_MISS_COUNT = JsonpKey.of("query_cache.miss_count");
+    private static final JsonpKey KEY_RAM_CURRENT = JsonpKey.of("ram.current");
+    private static final JsonpKey KEY_RAM_MAX = JsonpKey.of("ram.max");
+    private static final JsonpKey KEY_RAM_PERCENT = JsonpKey.of("ram.percent");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TIME = JsonpKey.of("refresh.external_time");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TOTAL = JsonpKey.of("refresh.external_total");
+    private static final JsonpKey KEY_REFRESH_LISTENERS = JsonpKey.of("refresh.listeners");
+    private static final JsonpKey KEY_REFRESH_TIME = JsonpKey.of("refresh.time");
+    private static final JsonpKey KEY_REFRESH_TOTAL = JsonpKey.of("refresh.total");
+    private static final JsonpKey KEY_REQUEST_CACHE_EVICTIONS = JsonpKey.of("request_cache.evictions");
+    private static final JsonpKey KEY_REQUEST_CACHE_HIT_COUNT = JsonpKey.of("request_cache.hit_count");
+    private static final JsonpKey KEY_REQUEST_CACHE_MEMORY_SIZE = JsonpKey.of("request_cache.memory_size");
+    private static final JsonpKey KEY_REQUEST_CACHE_MISS_COUNT = JsonpKey.of("request_cache.miss_count");
+    private static final JsonpKey KEY_SCRIPT_CACHE_EVICTIONS = JsonpKey.of("script.cache_evictions");
+    private static final JsonpKey KEY_SCRIPT_COMPILATION_LIMIT_TRIGGERED = JsonpKey.of("script.compilation_limit_triggered");
+    private static final JsonpKey KEY_SCRIPT_COMPILATIONS = JsonpKey.of("script.compilations");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT = JsonpKey.of("search.concurrent_avg_slice_count");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_CURRENT = JsonpKey.of("search.concurrent_query_current");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TIME = JsonpKey.of("search.concurrent_query_time");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TOTAL = JsonpKey.of("search.concurrent_query_total");
+    private static final JsonpKey KEY_SEARCH_FETCH_CURRENT = JsonpKey.of("search.fetch_current");
+    private static final JsonpKey KEY_SEARCH_FETCH_TIME = JsonpKey.of("search.fetch_time");
+    private static final JsonpKey KEY_SEARCH_FETCH_TOTAL = JsonpKey.of("search.fetch_total");
+    private static final JsonpKey KEY_SEARCH_OPEN_CONTEXTS = JsonpKey.of("search.open_contexts");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_CURRENT = JsonpKey.of("search.point_in_time_current");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TIME = JsonpKey.of("search.point_in_time_time");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TOTAL = JsonpKey.of("search.point_in_time_total");
+    private static final JsonpKey KEY_SEARCH_QUERY_CURRENT = JsonpKey.of("search.query_current");
+    private static final JsonpKey KEY_SEARCH_QUERY_TIME = JsonpKey.of("search.query_time");
+    private static final JsonpKey KEY_SEARCH_QUERY_TOTAL = JsonpKey.of("search.query_total");
+    private static final JsonpKey KEY_SEARCH_SCROLL_CURRENT = JsonpKey.of("search.scroll_current");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TIME = JsonpKey.of("search.scroll_time");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TOTAL = JsonpKey.of("search.scroll_total");
+    private static final JsonpKey KEY_SEGMENTS_COUNT = JsonpKey.of("segments.count");
+    private static final JsonpKey KEY_SEGMENTS_FIXED_BITSET_MEMORY = JsonpKey.of("segments.fixed_bitset_memory");
+    private static final JsonpKey KEY_SEGMENTS_INDEX_WRITER_MEMORY = JsonpKey.of("segments.index_writer_memory");
+    private static final JsonpKey KEY_SEGMENTS_MEMORY = JsonpKey.of("segments.memory");
+    private static final JsonpKey KEY_SEGMENTS_VERSION_MAP_MEMORY = JsonpKey.of("segments.version_map_memory");
+    private static final JsonpKey KEY_SUGGEST_CURRENT = JsonpKey.of("suggest.current");
+    private static final JsonpKey KEY_SUGGEST_TIME = JsonpKey.of("suggest.time");
+    private static final JsonpKey KEY_SUGGEST_TOTAL = JsonpKey.of("suggest.total");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_UPTIME = JsonpKey.of("uptime");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.build != null) {
-            generator.writeKey("build");
+            JsonpUtils.writeKey(generator, KEY_BUILD);
             generator.write(this.build);
         }
 
         if (this.bulkAvgSizeInBytes != null) {
-            generator.writeKey("bulk.avg_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_BULK_AVG_SIZE_IN_BYTES);
             generator.write(this.bulkAvgSizeInBytes);
         }
 
         if (this.bulkAvgTime != null) {
-            generator.writeKey("bulk.avg_time");
+            JsonpUtils.writeKey(generator, KEY_BULK_AVG_TIME);
             generator.write(this.bulkAvgTime);
         }
 
         if (this.bulkTotalOperations != null) {
-            generator.writeKey("bulk.total_operations");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_OPERATIONS);
             generator.write(this.bulkTotalOperations);
         }
 
         if (this.bulkTotalSizeInBytes != null) {
-            generator.writeKey("bulk.total_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_SIZE_IN_BYTES);
             generator.write(this.bulkTotalSizeInBytes);
         }
 
         if (this.bulkTotalTime != null) {
-            generator.writeKey("bulk.total_time");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_TIME);
             generator.write(this.bulkTotalTime);
         }
 
         if (this.clusterManager != null) {
-            generator.writeKey("cluster_manager");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_MANAGER);
             generator.write(this.clusterManager);
         }
 
         if (this.completionSize != null) {
-            generator.writeKey("completion.size");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION_SIZE);
             generator.write(this.completionSize);
         }
 
         if (this.cpu != null) {
-            generator.writeKey("cpu");
+            JsonpUtils.writeKey(generator, KEY_CPU);
             generator.write(this.cpu);
         }
 
         if (this.diskAvail != null) {
-            generator.writeKey("disk.avail");
+            JsonpUtils.writeKey(generator, KEY_DISK_AVAIL);
             generator.write(this.diskAvail);
         }
 
         if (this.diskTotal != null) {
-            generator.writeKey("disk.total");
+            JsonpUtils.writeKey(generator, KEY_DISK_TOTAL);
             generator.write(this.diskTotal);
         }
 
         if (this.diskUsed != null) {
-            generator.writeKey("disk.used");
+            JsonpUtils.writeKey(generator, KEY_DISK_USED);
             generator.write(this.diskUsed);
         }
 
         if (this.diskUsedPercent != null) {
-            generator.writeKey("disk.used_percent");
+            JsonpUtils.writeKey(generator, KEY_DISK_USED_PERCENT);
             generator.write(this.diskUsedPercent);
         }
 
         if (this.fielddataEvictions != null) {
-            generator.writeKey("fielddata.evictions");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_EVICTIONS);
             generator.write(this.fielddataEvictions);
         }
 
         if (this.fielddataMemorySize != null) {
-            generator.writeKey("fielddata.memory_size");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_MEMORY_SIZE);
             generator.write(this.fielddataMemorySize);
         }
 
         if (this.fileDescCurrent != null) {
-            generator.writeKey("file_desc.current");
+            JsonpUtils.writeKey(generator, KEY_FILE_DESC_CURRENT);
             generator.write(this.fileDescCurrent);
         }
 
         if (this.fileDescMax != null) {
-            generator.writeKey("file_desc.max");
+            JsonpUtils.writeKey(generator, KEY_FILE_DESC_MAX);
             generator.write(this.fileDescMax);
         }
 
         if (this.fileDescPercent != null) {
-            generator.writeKey("file_desc.percent");
+            JsonpUtils.writeKey(generator, KEY_FILE_DESC_PERCENT);
             generator.write(this.fileDescPercent);
         }
 
         if (this.flavor != null) {
-            generator.writeKey("flavor");
+            JsonpUtils.writeKey(generator, KEY_FLAVOR);
             generator.write(this.flavor);
         }
 
         if (this.flushTotal != null) {
-            generator.writeKey("flush.total");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL);
             generator.write(this.flushTotal);
         }
 
         if (this.flushTotalTime != null) {
-            generator.writeKey("flush.total_time");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL_TIME);
             generator.write(this.flushTotalTime);
         }
 
         if (this.getCurrent != null) {
-            generator.writeKey("get.current");
+            JsonpUtils.writeKey(generator, KEY_GET_CURRENT);
             generator.write(this.getCurrent);
         }
 
         if (this.getExistsTime != null) {
-            generator.writeKey("get.exists_time");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TIME);
             generator.write(this.getExistsTime);
         }
 
         if (this.getExistsTotal != null) {
-            generator.writeKey("get.exists_total");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TOTAL);
             generator.write(this.getExistsTotal);
         }
 
         if (this.getMissingTime != null) {
-            generator.writeKey("get.missing_time");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TIME);
             generator.write(this.getMissingTime);
         }
 
         if (this.getMissingTotal != null) {
-            generator.writeKey("get.missing_total");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TOTAL);
             generator.write(this.getMissingTotal);
         }
 
         if (this.getTime != null) {
-            generator.writeKey("get.time");
+            JsonpUtils.writeKey(generator, KEY_GET_TIME);
             generator.write(this.getTime);
         }
 
         if (this.getTotal != null) {
-            generator.writeKey("get.total");
+            JsonpUtils.writeKey(generator, KEY_GET_TOTAL);
             generator.write(this.getTotal);
         }
 
         if (this.heapCurrent != null) {
-            generator.writeKey("heap.current");
+            JsonpUtils.writeKey(generator, KEY_HEAP_CURRENT);
             generator.write(this.heapCurrent);
         }
 
         if (this.heapMax != null) {
-            generator.writeKey("heap.max");
+            JsonpUtils.writeKey(generator, KEY_HEAP_MAX);
             generator.write(this.heapMax);
         }
 
         if (this.heapPercent != null) {
-            generator.writeKey("heap.percent");
+            JsonpUtils.writeKey(generator, KEY_HEAP_PERCENT);
             generator.write(this.heapPercent);
         }
 
         if (this.httpAddress != null) {
-            generator.writeKey("http_address");
+            JsonpUtils.writeKey(generator, KEY_HTTP_ADDRESS);
             generator.write(this.httpAddress);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.indexingDeleteCurrent != null) {
-            generator.writeKey("indexing.delete_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_CURRENT);
             generator.write(this.indexingDeleteCurrent);
         }
 
         if (this.indexingDeleteTime != null) {
-            generator.writeKey("indexing.delete_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TIME);
             generator.write(this.indexingDeleteTime);
         }
 
         if (this.indexingDeleteTotal != null) {
-            generator.writeKey("indexing.delete_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TOTAL);
             generator.write(this.indexingDeleteTotal);
         }
 
         if (this.indexingIndexCurrent != null) {
-            generator.writeKey("indexing.index_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_CURRENT);
             generator.write(this.indexingIndexCurrent);
         }
 
         if (this.indexingIndexFailed != null) {
-            generator.writeKey("indexing.index_failed");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_FAILED);
             generator.write(this.indexingIndexFailed);
         }
 
         if (this.indexingIndexTime != null) {
-            generator.writeKey("indexing.index_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TIME);
             generator.write(this.indexingIndexTime);
         }
 
         if (this.indexingIndexTotal != null) {
-            generator.writeKey("indexing.index_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TOTAL);
             generator.write(this.indexingIndexTotal);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.jdk != null) {
-            generator.writeKey("jdk");
+            JsonpUtils.writeKey(generator, KEY_JDK);
             generator.write(this.jdk);
         }
 
         if (this.load15m != null) {
-            generator.writeKey("load_15m");
+            JsonpUtils.writeKey(generator, KEY_LOAD15M);
             generator.write(this.load15m);
         }
 
         if (this.load1m != null) {
-            generator.writeKey("load_1m");
+            JsonpUtils.writeKey(generator, KEY_LOAD1M);
             generator.write(this.load1m);
         }
 
         if (this.load5m != null) {
-            generator.writeKey("load_5m");
+            JsonpUtils.writeKey(generator, KEY_LOAD5M);
             generator.write(this.load5m);
         }
 
         if (this.master != null) {
-            generator.writeKey("master");
+            JsonpUtils.writeKey(generator, KEY_MASTER);
             generator.write(this.master);
         }
 
         if (this.mergesCurrent != null) {
-            generator.writeKey("merges.current");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT);
             generator.write(this.mergesCurrent);
         }
 
         if (this.mergesCurrentDocs != null) {
-            generator.writeKey("merges.current_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_DOCS);
             generator.write(this.mergesCurrentDocs);
         }
 
         if (this.mergesCurrentSize != null) {
-            generator.writeKey("merges.current_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_SIZE);
             generator.write(this.mergesCurrentSize);
         }
 
         if (this.mergesTotal != null) {
-            generator.writeKey("merges.total");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL);
             generator.write(this.mergesTotal);
         }
 
         if (this.mergesTotalDocs != null) {
-            generator.writeKey("merges.total_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_DOCS);
             generator.write(this.mergesTotalDocs);
         }
 
         if (this.mergesTotalSize != null) {
-            generator.writeKey("merges.total_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_SIZE);
             generator.write(this.mergesTotalSize);
         }
 
         if (this.mergesTotalTime != null) {
-            generator.writeKey("merges.total_time");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_TIME);
             generator.write(this.mergesTotalTime);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.nodeRole != null) {
-            generator.writeKey("node.role");
+            JsonpUtils.writeKey(generator, KEY_NODE_ROLE);
             generator.write(this.nodeRole);
         }
 
         if (this.nodeRoles != null) {
-            generator.writeKey("node.roles");
+            JsonpUtils.writeKey(generator, KEY_NODE_ROLES);
             generator.write(this.nodeRoles);
         }
 
         if (this.pid != null) {
-            generator.writeKey("pid");
+            JsonpUtils.writeKey(generator, KEY_PID);
             generator.write(this.pid);
         }
 
         if (this.port != null) {
-            generator.writeKey("port");
+            JsonpUtils.writeKey(generator, KEY_PORT);
             generator.write(this.port);
         }
 
         if (this.queryCacheEvictions != null) {
-            generator.writeKey("query_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_EVICTIONS);
             generator.write(this.queryCacheEvictions);
         }
 
         if (this.queryCacheHitCount != null) {
-            generator.writeKey("query_cache.hit_count");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_HIT_COUNT);
             generator.write(this.queryCacheHitCount);
         }
 
         if (this.queryCacheMemorySize != null) {
-            generator.writeKey("query_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_MEMORY_SIZE);
             generator.write(this.queryCacheMemorySize);
         }
 
         if (this.queryCacheMissCount != null) {
-            generator.writeKey("query_cache.miss_count");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_MISS_COUNT);
             generator.write(this.queryCacheMissCount);
         }
 
         if (this.ramCurrent != null) {
-            generator.writeKey("ram.current");
+            JsonpUtils.writeKey(generator, KEY_RAM_CURRENT);
             generator.write(this.ramCurrent);
         }
 
         if (this.ramMax != null) {
-            generator.writeKey("ram.max");
+            JsonpUtils.writeKey(generator, KEY_RAM_MAX);
             generator.write(this.ramMax);
         }
 
         if (this.ramPercent != null) {
-            generator.writeKey("ram.percent");
+            JsonpUtils.writeKey(generator, KEY_RAM_PERCENT);
             generator.write(this.ramPercent);
         }
 
         if (this.refreshExternalTime != null) {
-            generator.writeKey("refresh.external_time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TIME);
             generator.write(this.refreshExternalTime);
         }
 
         if (this.refreshExternalTotal != null) {
-            generator.writeKey("refresh.external_total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TOTAL);
             generator.write(this.refreshExternalTotal);
         }
 
         if (this.refreshListeners != null) {
-            generator.writeKey("refresh.listeners");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_LISTENERS);
             generator.write(this.refreshListeners);
         }
 
         if (this.refreshTime != null) {
-            generator.writeKey("refresh.time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TIME);
             generator.write(this.refreshTime);
         }
 
         if (this.refreshTotal != null) {
-            generator.writeKey("refresh.total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TOTAL);
             generator.write(this.refreshTotal);
         }
 
         if (this.requestCacheEvictions != null) {
-            generator.writeKey("request_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_EVICTIONS);
             generator.write(this.requestCacheEvictions);
         }
 
         if (this.requestCacheHitCount != null) {
-            generator.writeKey("request_cache.hit_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_HIT_COUNT);
             generator.write(this.requestCacheHitCount);
         }
 
         if (this.requestCacheMemorySize != null) {
-            generator.writeKey("request_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_MEMORY_SIZE);
             generator.write(this.requestCacheMemorySize);
         }
 
         if (this.requestCacheMissCount != null) {
-            generator.writeKey("request_cache.miss_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE_MISS_COUNT);
             generator.write(this.requestCacheMissCount);
         }
 
         if (this.scriptCacheEvictions != null) {
-            generator.writeKey("script.cache_evictions");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_CACHE_EVICTIONS);
             generator.write(this.scriptCacheEvictions);
         }
 
         if (this.scriptCompilationLimitTriggered != null) {
-            generator.writeKey("script.compilation_limit_triggered");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_COMPILATION_LIMIT_TRIGGERED);
             generator.write(this.scriptCompilationLimitTriggered);
         }
 
         if (this.scriptCompilations != null) {
-            generator.writeKey("script.compilations");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_COMPILATIONS);
             generator.write(this.scriptCompilations);
         }
 
         if (this.searchConcurrentAvgSliceCount != null) {
-            generator.writeKey("search.concurrent_avg_slice_count");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT);
             generator.write(this.searchConcurrentAvgSliceCount);
         }
 
         if (this.searchConcurrentQueryCurrent != null) {
-            generator.writeKey("search.concurrent_query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_CURRENT);
             generator.write(this.searchConcurrentQueryCurrent);
         }
 
         if (this.searchConcurrentQueryTime != null) {
-            generator.writeKey("search.concurrent_query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TIME);
             generator.write(this.searchConcurrentQueryTime);
         }
 
         if (this.searchConcurrentQueryTotal != null) {
-            generator.writeKey("search.concurrent_query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TOTAL);
             generator.write(this.searchConcurrentQueryTotal);
         }
 
         if (this.searchFetchCurrent != null) {
-            generator.writeKey("search.fetch_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_CURRENT);
             generator.write(this.searchFetchCurrent);
         }
 
         if (this.searchFetchTime != null) {
-            generator.writeKey("search.fetch_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TIME);
             generator.write(this.searchFetchTime);
         }
 
         if (this.searchFetchTotal != null) {
-            generator.writeKey("search.fetch_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TOTAL);
             generator.write(this.searchFetchTotal);
         }
 
         if (this.searchOpenContexts != null) {
-            generator.writeKey("search.open_contexts");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_OPEN_CONTEXTS);
             generator.write(this.searchOpenContexts);
         }
 
         if (this.searchPointInTimeCurrent != null) {
-            generator.writeKey("search.point_in_time_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_CURRENT);
             generator.write(this.searchPointInTimeCurrent);
         }
 
         if (this.searchPointInTimeTime != null) {
-            generator.writeKey("search.point_in_time_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TIME);
             generator.write(this.searchPointInTimeTime);
         }
 
         if (this.searchPointInTimeTotal != null) {
-            generator.writeKey("search.point_in_time_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TOTAL);
             generator.write(this.searchPointInTimeTotal);
         }
 
         if (this.searchQueryCurrent != null) {
-            generator.writeKey("search.query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_CURRENT);
             generator.write(this.searchQueryCurrent);
         }
 
         if (this.searchQueryTime != null) {
-            generator.writeKey("search.query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TIME);
             generator.write(this.searchQueryTime);
         }
 
         if (this.searchQueryTotal != null) {
-            generator.writeKey("search.query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TOTAL);
             generator.write(this.searchQueryTotal);
         }
 
         if (this.searchScrollCurrent != null) {
-            generator.writeKey("search.scroll_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_CURRENT);
             generator.write(this.searchScrollCurrent);
         }
 
         if (this.searchScrollTime != null) {
-            generator.writeKey("search.scroll_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TIME);
             generator.write(this.searchScrollTime);
         }
 
         if (this.searchScrollTotal != null) {
-            generator.writeKey("search.scroll_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TOTAL);
             generator.write(this.searchScrollTotal);
         }
 
         if (this.segmentsCount != null) {
-            generator.writeKey("segments.count");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COUNT);
             generator.write(this.segmentsCount);
         }
 
         if (this.segmentsFixedBitsetMemory != null) {
-            generator.writeKey("segments.fixed_bitset_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_FIXED_BITSET_MEMORY);
             generator.write(this.segmentsFixedBitsetMemory);
         }
 
         if (this.segmentsIndexWriterMemory != null) {
-            generator.writeKey("segments.index_writer_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_INDEX_WRITER_MEMORY);
             generator.write(this.segmentsIndexWriterMemory);
         }
 
         if (this.segmentsMemory != null) {
-            generator.writeKey("segments.memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_MEMORY);
             generator.write(this.segmentsMemory);
         }
 
         if (this.segmentsVersionMapMemory != null) {
-            generator.writeKey("segments.version_map_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_VERSION_MAP_MEMORY);
             generator.write(this.segmentsVersionMapMemory);
         }
 
         if (this.suggestCurrent != null) {
-            generator.writeKey("suggest.current");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_CURRENT);
             generator.write(this.suggestCurrent);
         }
 
         if (this.suggestTime != null) {
-            generator.writeKey("suggest.time");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_TIME);
             generator.write(this.suggestTime);
         }
 
         if (this.suggestTotal != null) {
-            generator.writeKey("suggest.total");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_TOTAL);
             generator.write(this.suggestTotal);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
 
         if (this.uptime != null) {
-            generator.writeKey("uptime");
+            JsonpUtils.writeKey(generator, KEY_UPTIME);
             generator.write(this.uptime);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
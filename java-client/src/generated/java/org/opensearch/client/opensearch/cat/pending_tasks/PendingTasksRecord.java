@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,24 +140,29 @@ public class PendingTasksRecord implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INSERT_ORDER = JsonpKey.of("insertOrder");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+    private static final JsonpKey KEY_TIME_IN_QUEUE = JsonpKey.of("timeInQueue");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.insertOrder != null) {
-            generator.writeKey("insertOrder");
+            JsonpUtils.writeKey(generator, KEY_INSERT_ORDER);
             generator.write(this.insertOrder);
         }
 
         if (this.priority != null) {
-            generator.writeKey("priority");
+            JsonpUtils.writeKey(generator, KEY_PRIORITY);
             generator.write(this.priority);
         }
 
         if (this.source != null) {
-            generator.writeKey("source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             generator.write(this.source);
         }
 
         if (this.timeInQueue != null) {
-            generator.writeKey("timeInQueue");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_QUEUE);
             generator.write(this.timeInQueue);
         }
     }
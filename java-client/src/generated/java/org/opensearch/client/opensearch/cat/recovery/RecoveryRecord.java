@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -442,134 +444,161 @@ public class RecoveryRecord implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BYTES = JsonpKey.of("bytes");
+    private static final JsonpKey KEY_BYTES_PERCENT = JsonpKey.of("bytes_percent");
+    private static final JsonpKey KEY_BYTES_RECOVERED = JsonpKey.of("bytes_recovered");
+    private static final JsonpKey KEY_BYTES_TOTAL = JsonpKey.of("bytes_total");
+    private static final JsonpKey KEY_FILES = JsonpKey.of("files");
+    private static final JsonpKey KEY_FILES_PERCENT = JsonpKey.of("files_percent");
+    private static final JsonpKey KEY_FILES_RECOVERED = JsonpKey.of("files_recovered");
+    private static final JsonpKey KEY_FILES_TOTAL = JsonpKey.of("files_total");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_REPOSITORY = JsonpKey.of("repository");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+    private static final JsonpKey KEY_SOURCE_HOST = JsonpKey.of("source_host");
+    private static final JsonpKey KEY_SOURCE_NODE = JsonpKey.of("source_node");
+    private static final JsonpKey KEY_STAGE = JsonpKey.of("stage");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_START_TIME_MILLIS = JsonpKey.of("start_time_millis");
+    private static final JsonpKey KEY_STOP_TIME = JsonpKey.of("stop_time");
+    private static final JsonpKey KEY_STOP_TIME_MILLIS = JsonpKey.of("stop_time_millis");
+    private static final JsonpKey KEY_TARGET_HOST = JsonpKey.of("target_host");
+    private static final JsonpKey KEY_TARGET_NODE = JsonpKey.of("target_node");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TRANSLOG_OPS = JsonpKey.of("translog_ops");
+    private static final JsonpKey KEY_TRANSLOG_OPS_PERCENT = JsonpKey.of("translog_ops_percent");
+    private static final JsonpKey KEY_TRANSLOG_OPS_RECOVERED = JsonpKey.of("translog_ops_recovered");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bytes != null) {
-            generator.writeKey("bytes");
+            JsonpUtils.writeKey(generator, KEY_BYTES);
             generator.write(this.bytes);
         }
 
         if (this.bytesPercent != null) {
-            generator.writeKey("bytes_percent");
+            JsonpUtils.writeKey(generator, KEY_BYTES_PERCENT);
             generator.write(this.bytesPercent);
         }
 
         if (this.bytesRecovered != null) {
-            generator.writeKey("bytes_recovered");
+            JsonpUtils.writeKey(generator, KEY_BYTES_RECOVERED);
             generator.write(this.bytesRecovered);
         }
 
         if (this.bytesTotal != null) {
-            generator.writeKey("bytes_total");
+            JsonpUtils.writeKey(generator, KEY_BYTES_TOTAL);
             generator.write(this.bytesTotal);
         }
 
         if (this.files != null) {
-            generator.writeKey("files");
+            JsonpUtils.writeKey(generator, KEY_FILES);
             generator.write(this.files);
         }
 
         if (this.filesPercent != null) {
-            generator.writeKey("files_percent");
+            JsonpUtils.writeKey(generator, KEY_FILES_PERCENT);
             generator.write(this.filesPercent);
         }
 
         if (this.filesRecovered != null) {
-            generator.writeKey("files_recovered");
+            JsonpUtils.writeKey(generator, KEY_FILES_RECOVERED);
             generator.write(this.filesRecovered);
         }
 
         if (this.filesTotal != null) {
-            generator.writeKey("files_total");
+            JsonpUtils.writeKey(generator, KEY_FILES_TOTAL);
             generator.write(this.filesTotal);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.repository != null) {
-            generator.writeKey("repository");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY);
             generator.write(this.repository);
         }
 
         if (this.shard != null) {
-            generator.writeKey("shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             generator.write(this.snapshot);
         }
 
         if (this.sourceHost != null) {
-            generator.writeKey("source_host");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_HOST);
             generator.write(this.sourceHost);
         }
 
         if (this.sourceNode != null) {
-            generator.writeKey("source_node");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_NODE);
             generator.write(this.sourceNode);
         }
 
         if (this.stage != null) {
-            generator.writeKey("stage");
+            JsonpUtils.writeKey(generator, KEY_STAGE);
             generator.write(this.stage);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
         if (this.startTimeMillis != null) {
-            generator.writeKey("start_time_millis");
+            JsonpUtils.writeKey(generator, KEY_START_TIME_MILLIS);
             generator.write(this.startTimeMillis);
         }
 
         if (this.stopTime != null) {
-            generator.writeKey("stop_time");
+            JsonpUtils.writeKey(generator, KEY_STOP_TIME);
             generator.write(this.stopTime);
         }
 
         if (this.stopTimeMillis != null) {
-            generator.writeKey("stop_time_millis");
+            JsonpUtils.writeKey(generator, KEY_STOP_TIME_MILLIS);
             generator.write(this.stopTimeMillis);
         }
 
         if (this.targetHost != null) {
-            generator.writeKey("target_host");
+            JsonpUtils.writeKey(generator, KEY_TARGET_HOST);
             generator.write(this.targetHost);
         }
 
         if (this.targetNode != null) {
-            generator.writeKey("target_node");
+            JsonpUtils.writeKey(generator, KEY_TARGET_NODE);
             generator.write(this.targetNode);
         }
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
         if (this.translogOps != null) {
-            generator.writeKey("translog_ops");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG_OPS);
             generator.write(this.translogOps);
         }
 
         if (this.translogOpsPercent != null) {
-            generator.writeKey("translog_ops_percent");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG_OPS_PERCENT);
             generator.write(this.translogOpsPercent);
         }
 
         if (this.translogOpsRecovered != null) {
-            generator.writeKey("translog_ops_recovered");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG_OPS_RECOVERED);
             generator.write(this.translogOpsRecovered);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
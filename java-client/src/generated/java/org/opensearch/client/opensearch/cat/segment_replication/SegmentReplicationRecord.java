@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -381,129 +383,155 @@ public class SegmentReplicationRecord
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BYTES = JsonpKey.of("bytes");
+    private static final JsonpKey KEY_BYTES_BEHIND = JsonpKey.of("bytes_behind");
+    private static final JsonpKey KEY_BYTES_FETCHED = JsonpKey.of("bytes_fetched");
+    private static final JsonpKey KEY_BYTES_PERCENT = JsonpKey.of("bytes_percent");
+    private static final JsonpKey KEY_BYTES_TOTAL = JsonpKey.of("bytes_total");
+    private static final JsonpKey KEY_CHECKPOINTS_BEHIND = JsonpKey.of("checkpoints_behind");
+    private static final JsonpKey KEY_CURRENT_LAG = JsonpKey.of("current_lag");
+    private static final JsonpKey KEY_FILE_DIFF_STAGE_TIME_TAKEN = JsonpKey.of("file_diff_stage_time_taken");
+    private static final JsonpKey KEY_FILES = JsonpKey.of("files");
+    private static final JsonpKey KEY_FILES_FETCHED = JsonpKey.of("files_fetched");
+    private static final JsonpKey KEY_FILES_PERCENT = JsonpKey.of("files_percent");
+    private static final JsonpKey KEY_FILES_TOTAL = JsonpKey.of("files_total");
+    private static final JsonpKey KEY_FINALIZE_REPLICATION_STAGE_TIME_TAKEN = JsonpKey.of("finalize_replication_stage_time_taken");
+    private static final JsonpKey KEY_GET_CHECKPOINT_INFO_STAGE_TIME_TAKEN = JsonpKey.of("get_checkpoint_info_stage_time_taken");
+    private static final JsonpKey KEY_GET_FILES_STAGE_TIME_TAKEN = JsonpKey.of("get_files_stage_time_taken");
+    private static final JsonpKey KEY_LAST_COMPLETED_LAG = JsonpKey.of("last_completed_lag");
+    private static final JsonpKey KEY_REJECTED_REQUESTS = JsonpKey.of("rejected_requests");
+    private static final JsonpKey KEY_REPLICATING_STAGE_TIME_TAKEN = JsonpKey.of("replicating_stage_time_taken");
+    private static final JsonpKey KEY_SHARD_ID = JsonpKey.of("shardId");
+    private static final JsonpKey KEY_STAGE = JsonpKey.of("stage");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_STOP_TIME = JsonpKey.of("stop_time");
+    private static final JsonpKey KEY_TARGET_HOST = JsonpKey.of("target_host");
+    private static final JsonpKey KEY_TARGET_NODE = JsonpKey.of("target_node");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bytes != null) {
-            generator.writeKey("bytes");
+            JsonpUtils.writeKey(generator, KEY_BYTES);
             generator.write(this.bytes);
         }
 
         if (this.bytesBehind != null) {
-            generator.writeKey("bytes_behind");
+            JsonpUtils.writeKey(generator, KEY_BYTES_BEHIND);
             generator.write(this.bytesBehind);
         }
 
         if (this.bytesFetched != null) {
-            generator.writeKey("bytes_fetched");
+            JsonpUtils.writeKey(generator, KEY_BYTES_FETCHED);
             generator.write(this.bytesFetched);
         }
 
         if (this.bytesPercent != null) {
-            generator.writeKey("bytes_percent");
+            JsonpUtils.writeKey(generator, KEY_BYTES_PERCENT);
             generator.write(this.bytesPercent);
         }
 
         if (this.bytesTotal != null) {
-            generator.writeKey("bytes_total");
+            JsonpUtils.writeKey(generator, KEY_BYTES_TOTAL);
             generator.write(this.bytesTotal);
         }
 
         if (this.checkpointsBehind != null) {
-            generator.writeKey("checkpoints_behind");
+            JsonpUtils.writeKey(generator, KEY_CHECKPOINTS_BEHIND);
             generator.write(this.checkpointsBehind);
         }
 
         if (this.currentLag != null) {
-            generator.writeKey("current_lag");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_LAG);
             generator.write(this.currentLag);
         }
 
         if (this.fileDiffStageTimeTaken != null) {
-            generator.writeKey("file_diff_stage_time_taken");
+            JsonpUtils.writeKey(generator, KEY_FILE_DIFF_STAGE_TIME_TAKEN);
             generator.write(this.fileDiffStageTimeTaken);
         }
 
         if (this.files != null) {
-            generator.writeKey("files");
+            JsonpUtils.writeKey(generator, KEY_FILES);
             generator.write(this.files);
         }
 
         if (this.filesFetched != null) {
-            generator.writeKey("files_fetched");
+            JsonpUtils.writeKey(generator, KEY_FILES_FETCHED);
             generator.write(this.filesFetched);
         }
 
         if (this.filesPercent != null) {
-            generator.writeKey("files_percent");
+            JsonpUtils.writeKey(generator, KEY_FILES_PERCENT);
             generator.write(this.filesPercent);
         }
 
         if (this.filesTotal != null) {
-            generator.writeKey("files_total");
+            JsonpUtils.writeKey(generator, KEY_FILES_TOTAL);
             generator.write(this.filesTotal);
         }
 
         if (this.finalizeReplicationStageTimeTaken != null) {
-            generator.writeKey("finalize_replication_stage_time_taken");
+            JsonpUtils.writeKey(generator, KEY_FINALIZE_REPLICATION_STAGE_TIME_TAKEN);
             generator.write(this.finalizeReplicationStageTimeTaken);
         }
 
         if (this.getCheckpointInfoStageTimeTaken != null) {
-            generator.writeKey("get_checkpoint_info_stage_time_taken");
+            JsonpUtils.writeKey(generator, KEY_GET_CHECKPOINT_INFO_STAGE_TIME_TAKEN);
             generator.write(this.getCheckpointInfoStageTimeTaken);
         }
 
         if (this.getFilesStageTimeTaken != null) {
-            generator.writeKey("get_files_stage_time_taken");
+            JsonpUtils.writeKey(generator, KEY_GET_FILES_STAGE_TIME_TAKEN);
             generator.write(this.getFilesStageTimeTaken);
         }
 
         if (this.lastCompletedLag != null) {
-            generator.writeKey("last_completed_lag");
+            JsonpUtils.writeKey(generator, KEY_LAST_COMPLETED_LAG);
             generator.write(this.lastCompletedLag);
         }
 
         if (this.rejectedRequests != null) {
-            generator.writeKey("rejected_requests");
+            JsonpUtils.writeKey(generator, KEY_REJECTED_REQUESTS);
             generator.write(this.rejectedRequests);
         }
 
         if (this.replicatingStageTimeTaken != null) {
-            generator.writeKey("replicating_stage_time_taken");
+            JsonpUtils.writeKey(generator, KEY_REPLICATING_STAGE_TIME_TAKEN);
             generator.write(this.replicatingStageTimeTaken);
         }
 
         if (this.shardId != null) {
-            generator.writeKey("shardId");
+            JsonpUtils.writeKey(generator, KEY_SHARD_ID);
             generator.write(this.shardId);
         }
 
         if (this.stage != null) {
-            generator.writeKey("stage");
+            JsonpUtils.writeKey(generator, KEY_STAGE);
             generator.write(this.stage);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
         if (this.stopTime != null) {
-            generator.writeKey("stop_time");
+            JsonpUtils.writeKey(generator, KEY_STOP_TIME);
             generator.write(this.stopTime);
         }
 
         if (this.targetHost != null) {
-            generator.writeKey("target_host");
+            JsonpUtils.writeKey(generator, KEY_TARGET_HOST);
             generator.write(this.targetHost);
         }
 
         if (this.targetNode != null) {
-            generator.writeKey("target_node");
+            JsonpUtils.writeKey(generator, KEY_TARGET_NODE);
             generator.write(this.targetNode);
         }
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             generator.write(this.time);
         }
     }
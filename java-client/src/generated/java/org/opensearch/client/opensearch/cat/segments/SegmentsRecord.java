@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -297,79 +299,95 @@ public class SegmentsRecord implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMMITTED = JsonpKey.of("committed");
+    private static final JsonpKey KEY_COMPOUND = JsonpKey.of("compound");
+    private static final JsonpKey KEY_DOCS_COUNT = JsonpKey.of("docs.count");
+    private static final JsonpKey KEY_DOCS_DELETED = JsonpKey.of("docs.deleted");
+    private static final JsonpKey KEY_GENERATION = JsonpKey.of("generation");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_PRIREP = JsonpKey.of("prirep");
+    private static final JsonpKey KEY_SEARCHABLE = JsonpKey.of("searchable");
+    private static final JsonpKey KEY_SEGMENT = JsonpKey.of("segment");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_MEMORY = JsonpKey.of("size.memory");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.committed != null) {
-            generator.writeKey("committed");
+            JsonpUtils.writeKey(generator, KEY_COMMITTED);
             generator.write(this.committed);
         }
 
         if (this.compound != null) {
-            generator.writeKey("compound");
+            JsonpUtils.writeKey(generator, KEY_COMPOUND);
             generator.write(this.compound);
         }
 
         if (this.docsCount != null) {
-            generator.writeKey("docs.count");
+            JsonpUtils.writeKey(generator, KEY_DOCS_COUNT);
             generator.write(this.docsCount);
         }
 
         if (this.docsDeleted != null) {
-            generator.writeKey("docs.deleted");
+            JsonpUtils.writeKey(generator, KEY_DOCS_DELETED);
             generator.write(this.docsDeleted);
         }
 
         if (this.generation != null) {
-            generator.writeKey("generation");
+            JsonpUtils.writeKey(generator, KEY_GENERATION);
             generator.write(this.generation);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.prirep != null) {
-            generator.writeKey("prirep");
+            JsonpUtils.writeKey(generator, KEY_PRIREP);
             generator.write(this.prirep);
         }
 
         if (this.searchable != null) {
-            generator.writeKey("searchable");
+            JsonpUtils.writeKey(generator, KEY_SEARCHABLE);
             generator.write(this.searchable);
         }
 
         if (this.segment != null) {
-            generator.writeKey("segment");
+            JsonpUtils.writeKey(generator, KEY_SEGMENT);
             generator.write(this.segment);
         }
 
         if (this.shard != null) {
-            generator.writeKey("shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.sizeMemory != null) {
-            generator.writeKey("size.memory");
+            JsonpUtils.writeKey(generator, KEY_SIZE_MEMORY);
             generator.write(this.sizeMemory);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -1344,429 +1346,515 @@ public class ShardsRecord implements PlainJsonSerializable, ToCopyableBuilder<Sh
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BULK_AVG_SIZE_IN_BYTES = JsonpKey.of("bulk.avg_size_in_bytes");
+    private static final JsonpKey KEY_BULK_AVG_TIME = JsonpKey.of("bulk.avg_time");
+    private static final JsonpKey KEY_BULK_TOTAL_OPERATIONS = JsonpKey.of("bulk.total_operations");
+    private static final JsonpKey KEY_BULK_TOTAL_SIZE_IN_BYTES = JsonpKey.of("bulk.total_size_in_bytes");
+    private static final JsonpKey KEY_BULK_TOTAL_TIME = JsonpKey.of("bulk.total_time");
+    private static final JsonpKey KEY_COMPLETION_SIZE = JsonpKey.of("completion.size");
+    private static final JsonpKey KEY_DOCS = JsonpKey.of("docs");
+    private static final JsonpKey KEY_DOCS_DELETED = JsonpKey.of("docs.deleted");
+    private static final JsonpKey KEY_FIELDDATA_EVICTIONS = JsonpKey.of("fielddata.evictions");
+    private static final JsonpKey KEY_FIELDDATA_MEMORY_SIZE = JsonpKey.of("fielddata.memory_size");
+    private static final JsonpKey KEY_FLUSH_TOTAL = JsonpKey.of("flush.total");
+    private static final JsonpKey KEY_FLUSH_TOTAL_TIME = JsonpKey.of("flush.total_time");
+    private static final JsonpKey KEY_GET_CURRENT = JsonpKey.of("get.current");
+    private static final JsonpKey KEY_GET_EXISTS_TIME = JsonpKey.of("get.exists_time");
+    private static final JsonpKey KEY_GET_EXISTS_TOTAL = JsonpKey.of("get.exists_total");
+    private static final JsonpKey KEY_GET_MISSING_TIME = JsonpKey.of("get.missing_time");
+    private static final JsonpKey KEY_GET_MISSING_TOTAL = JsonpKey.of("get.missing_total");
+    private static final JsonpKey KEY_GET_TIME = JsonpKey.of("get.time");
+    private static final JsonpKey KEY_GET_TOTAL = JsonpKey.of("get.total");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEXING_DELETE_CURRENT = JsonpKey.of("indexing.delete_current");
+    private static final JsonpKey KEY_INDEXING_DELETE_TIME = JsonpKey.of("indexing.delete_time");
+    private static final JsonpKey KEY_INDEXING_DELETE_TOTAL = JsonpKey.of("indexing.delete_total");
+    private static final JsonpKey KEY_INDEXING_INDEX_CURRENT = JsonpKey.of("indexing.index_current");
+    private static final JsonpKey KEY_INDEXING_INDEX_FAILED = JsonpKey.of("indexing.index_failed");
+    private static final JsonpKey KEY_INDEXING_INDEX_TIME = JsonpKey.of("indexing.index_time");
+    private static final JsonpKey KEY_INDEXING_INDEX_TOTAL = JsonpKey.of("indexing.index_total");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_MERGES_CURRENT = JsonpKey.of("merges.current");
+    private static final JsonpKey KEY_MERGES_CURRENT_DOCS = JsonpKey.of("merges.current_docs");
+    private static final JsonpKey KEY_MERGES_CURRENT_SIZE = JsonpKey.of("merges.current_size");
+    private static final JsonpKey KEY_MERGES_TOTAL = JsonpKey.of("merges.total");
+    private static final JsonpKey KEY_MERGES_TOTAL_DOCS = JsonpKey.of("merges.total_docs");
+    private static final JsonpKey KEY_MERGES_TOTAL_SIZE = JsonpKey.of("merges.total_size");
+    private static final JsonpKey KEY_MERGES_TOTAL_TIME = JsonpKey.of("merges.total_time");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_PATH_DATA = JsonpKey.of("path.data");
+    private static final JsonpKey KEY_PATH_STATE = JsonpKey.of("path.state");
+    private static final JsonpKey KEY_PRIREP = JsonpKey.of("prirep");
+    private static final JsonpKey KEY_QUERY_CACHE_EVICTIONS = JsonpKey.of("query_cache.evictions");
+    private static final JsonpKey KEY_QUERY_CACHE_MEMORY_SIZE = JsonpKey.of("query_cache.memory_size");
+    private static final JsonpKey KEY_RECOVERYSOURCE_TYPE = JsonpKey.of("recoverysource.type");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TIME = JsonpKey.of("refresh.external_time");
+    private static final JsonpKey KEY_REFRESH_EXTERNAL_TOTAL = JsonpKey.of("refresh.external_total");
+    private static final JsonpKey KEY_REFRESH_LISTENERS = JsonpKey.of("refresh.listeners");
+    private static final JsonpKey KEY_REFRESH_TIME = JsonpKey.of("refresh.time");
+    private static final JsonpKey KEY_REFRESH_TOTAL = JsonpKey.of("refresh.total");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT = JsonpKey.of("search.concurrent_avg_slice_count");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_CURRENT = JsonpKey.of("search.concurrent_query_current");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TIME = JsonpKey.of("search.concurrent_query_time");
+    private static final JsonpKey KEY_SEARCH_CONCURRENT_QUERY_TOTAL = JsonpKey.of("search.concurrent_query_total");
+    private static final JsonpKey KEY_SEARCH_FETCH_CURRENT = JsonpKey.of("search.fetch_current");
+    private static final JsonpKey KEY_SEARCH_FETCH_TIME = JsonpKey.of("search.fetch_time");
+    private static final JsonpKey KEY_SEARCH_FETCH_TOTAL = JsonpKey.of("search.fetch_total");
+    private static final JsonpKey KEY_SEARCH_OPEN_CONTEXTS = JsonpKey.of("search.open_contexts");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_CURRENT = JsonpKey.of("search.point_in_time_current");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TIME = JsonpKey.of("search.point_in_time_time");
+    private static final JsonpKey KEY_SEARCH_POINT_IN_TIME_TOTAL = JsonpKey.of("search.point_in_time_total");
+    private static final JsonpKey KEY_SEARCH_QUERY_CURRENT = JsonpKey.of("search.query_current");
+    private static final JsonpKey KEY_SEARCH_QUERY_TIME = JsonpKey.of("search.query_time");
+    private static final JsonpKey KEY_SEARCH_QUERY_TOTAL = JsonpKey.of("search.query_total");
+    private static final JsonpKey KEY_SEARCH_SCROLL_CURRENT = JsonpKey.of("search.scroll_current");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TIME = JsonpKey.of("search.scroll_time");
+    private static final JsonpKey KEY_SEARCH_SCROLL_TOTAL = JsonpKey.of("search.scroll_total");
+    private static final JsonpKey KEY_SEARCH_SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = JsonpKey.of("search.search_idle_reactivate_count_total");
+    private static final JsonpKey KEY_SEGMENTS_COUNT = JsonpKey.of("segments.count");
+    private static final JsonpKey KEY_SEGMENTS_FIXED_BITSET_MEMORY = JsonpKey.of("segments.fixed_bitset_memory");
+    private static final JsonpKey KEY_SEGMENTS_INDEX_WRITER_MEMORY = JsonpKey.of("segments.index_writer_memory");
+    private static final JsonpKey KEY_SEGMENTS_MEMORY = JsonpKey.of("segments.memory");
+    private static final JsonpKey KEY_SEGMENTS_VERSION_MAP_MEMORY = JsonpKey.of("segments.version_map_memory");
+    private static final JsonpKey KEY_SEQ_NO_GLOBAL_CHECKPOINT = JsonpKey.of("seq_no.global_checkpoint");
+    private static final JsonpKey KEY_SEQ_NO_LOCAL_CHECKPOINT = JsonpKey.of("seq_no.local_checkpoint");
+    private static final JsonpKey KEY_SEQ_NO_MAX = JsonpKey.of("seq_no.max");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_SYNC_ID = JsonpKey.of("sync_id");
+    private static final JsonpKey KEY_UNASSIGNED_AT = JsonpKey.of("unassigned.at");
+    private static final JsonpKey KEY_UNASSIGNED_DETAILS = JsonpKey.of("unassigned.details");
+    private static final JsonpKey KEY_UNASSIGNED_FOR = JsonpKey.of("unassigned.for");
+    private static final JsonpKey KEY_UNASSIGNED_REASON = JsonpKey.of("unassigned.reason");
+    private static final JsonpKey KEY_WARMER_CURRENT = JsonpKey.of("warmer.current");
+    private static final JsonpKey KEY_WARMER_TOTAL = JsonpKey.of("warmer.total");
+    private static final JsonpKey KEY_WARMER_TOTAL_TIME = JsonpKey.of("warmer.total_time");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bulkAvgSizeInBytes != null) {
-            generator.writeKey("bulk.avg_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_BULK_AVG_SIZE_IN_BYTES);
             generator.write(this.bulkAvgSizeInBytes);
         }
 
         if (this.bulkAvgTime != null) {
-            generator.writeKey("bulk.avg_time");
+            JsonpUtils.writeKey(generator, KEY_BULK_AVG_TIME);
             generator.write(this.bulkAvgTime);
         }
 
         if (this.bulkTotalOperations != null) {
-            generator.writeKey("bulk.total_operations");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_OPERATIONS);
             generator.write(this.bulkTotalOperations);
         }
 
         if (this.bulkTotalSizeInBytes != null) {
-            generator.writeKey("bulk.total_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_SIZE_IN_BYTES);
             generator.write(this.bulkTotalSizeInBytes);
         }
 
         if (this.bulkTotalTime != null) {
-            generator.writeKey("bulk.total_time");
+            JsonpUtils.writeKey(generator, KEY_BULK_TOTAL_TIME);
             generator.write(this.bulkTotalTime);
         }
 
         if (this.completionSize != null) {
-            generator.writeKey("completion.size");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION_SIZE);
             generator.write(this.completionSize);
         }
 
         if (this.docs != null) {
-            generator.writeKey("docs");
+            JsonpUtils.writeKey(generator, KEY_DOCS);
             generator.write(this.docs);
         }
 
         if (this.docsDeleted != null) {
-            generator.writeKey("docs.deleted");
+            JsonpUtils.writeKey(generator, KEY_DOCS_DELETED);
             generator.write(this.docsDeleted);
         }
 
         if (this.fielddataEvictions != null) {
-            generator.writeKey("fielddata.evictions");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_EVICTIONS);
             generator.write(this.fielddataEvictions);
         }
 
         if (this.fielddataMemorySize != null) {
-            generator.writeKey("fielddata.memory_size");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA_MEMORY_SIZE);
             generator.write(this.fielddataMemorySize);
         }
 
         if (this.flushTotal != null) {
-            generator.writeKey("flush.total");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL);
             generator.write(this.flushTotal);
         }
 
         if (this.flushTotalTime != null) {
-            generator.writeKey("flush.total_time");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_TOTAL_TIME);
             generator.write(this.flushTotalTime);
         }
 
         if (this.getCurrent != null) {
-            generator.writeKey("get.current");
+            JsonpUtils.writeKey(generator, KEY_GET_CURRENT);
             generator.write(this.getCurrent);
         }
 
         if (this.getExistsTime != null) {
-            generator.writeKey("get.exists_time");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TIME);
             generator.write(this.getExistsTime);
         }
 
         if (this.getExistsTotal != null) {
-            generator.writeKey("get.exists_total");
+            JsonpUtils.writeKey(generator, KEY_GET_EXISTS_TOTAL);
             generator.write(this.getExistsTotal);
         }
 
         if (this.getMissingTime != null) {
-            generator.writeKey("get.missing_time");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TIME);
             generator.write(this.getMissingTime);
         }
 
         if (this.getMissingTotal != null) {
-            generator.writeKey("get.missing_total");
+            JsonpUtils.writeKey(generator, KEY_GET_MISSING_TOTAL);
             generator.write(this.getMissingTotal);
         }
 
         if (this.getTime != null) {
-            generator.writeKey("get.time");
+            JsonpUtils.writeKey(generator, KEY_GET_TIME);
             generator.write(this.getTime);
         }
 
         if (this.getTotal != null) {
-            generator.writeKey("get.total");
+            JsonpUtils.writeKey(generator, KEY_GET_TOTAL);
             generator.write(this.getTotal);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexingDeleteCurrent != null) {
-            generator.writeKey("indexing.delete_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_CURRENT);
             generator.write(this.indexingDeleteCurrent);
         }
 
         if (this.indexingDeleteTime != null) {
-            generator.writeKey("indexing.delete_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TIME);
             generator.write(this.indexingDeleteTime);
         }
 
         if (this.indexingDeleteTotal != null) {
-            generator.writeKey("indexing.delete_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_DELETE_TOTAL);
             generator.write(this.indexingDeleteTotal);
         }
 
         if (this.indexingIndexCurrent != null) {
-            generator.writeKey("indexing.index_current");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_CURRENT);
             generator.write(this.indexingIndexCurrent);
         }
 
         if (this.indexingIndexFailed != null) {
-            generator.writeKey("indexing.index_failed");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_FAILED);
             generator.write(this.indexingIndexFailed);
         }
 
         if (this.indexingIndexTime != null) {
-            generator.writeKey("indexing.index_time");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TIME);
             generator.write(this.indexingIndexTime);
         }
 
         if (this.indexingIndexTotal != null) {
-            generator.writeKey("indexing.index_total");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_INDEX_TOTAL);
             generator.write(this.indexingIndexTotal);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.mergesCurrent != null) {
-            generator.writeKey("merges.current");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT);
             generator.write(this.mergesCurrent);
         }
 
         if (this.mergesCurrentDocs != null) {
-            generator.writeKey("merges.current_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_DOCS);
             generator.write(this.mergesCurrentDocs);
         }
 
         if (this.mergesCurrentSize != null) {
-            generator.writeKey("merges.current_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_CURRENT_SIZE);
             generator.write(this.mergesCurrentSize);
         }
 
         if (this.mergesTotal != null) {
-            generator.writeKey("merges.total");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL);
             generator.write(this.mergesTotal);
         }
 
         if (this.mergesTotalDocs != null) {
-            generator.writeKey("merges.total_docs");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_DOCS);
             generator.write(this.mergesTotalDocs);
         }
 
         if (this.mergesTotalSize != null) {
-            generator.writeKey("merges.total_size");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_SIZE);
             generator.write(this.mergesTotalSize);
         }
 
         if (this.mergesTotalTime != null) {
-            generator.writeKey("merges.total_time");
+            JsonpUtils.writeKey(generator, KEY_MERGES_TOTAL_TIME);
             generator.write(this.mergesTotalTime);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
         if (this.pathData != null) {
-            generator.writeKey("path.data");
+            JsonpUtils.writeKey(generator, KEY_PATH_DATA);
             generator.write(this.pathData);
         }
 
         if (this.pathState != null) {
-            generator.writeKey("path.state");
+            JsonpUtils.writeKey(generator, KEY_PATH_STATE);
             generator.write(this.pathState);
         }
 
         if (this.prirep != null) {
-            generator.writeKey("prirep");
+            JsonpUtils.writeKey(generator, KEY_PRIREP);
             generator.write(this.prirep);
         }
 
         if (this.queryCacheEvictions != null) {
-            generator.writeKey("query_cache.evictions");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_EVICTIONS);
             generator.write(this.queryCacheEvictions);
         }
 
         if (this.queryCacheMemorySize != null) {
-            generator.writeKey("query_cache.memory_size");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE_MEMORY_SIZE);
             generator.write(this.queryCacheMemorySize);
         }
 
         if (this.recoverysourceType != null) {
-            generator.writeKey("recoverysource.type");
+            JsonpUtils.writeKey(generator, KEY_RECOVERYSOURCE_TYPE);
             generator.write(this.recoverysourceType);
         }
 
         if (this.refreshExternalTime != null) {
-            generator.writeKey("refresh.external_time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TIME);
             generator.write(this.refreshExternalTime);
         }
 
         if (this.refreshExternalTotal != null) {
-            generator.writeKey("refresh.external_total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_EXTERNAL_TOTAL);
             generator.write(this.refreshExternalTotal);
         }
 
         if (this.refreshListeners != null) {
-            generator.writeKey("refresh.listeners");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_LISTENERS);
             generator.write(this.refreshListeners);
         }
 
         if (this.refreshTime != null) {
-            generator.writeKey("refresh.time");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TIME);
             generator.write(this.refreshTime);
         }
 
         if (this.refreshTotal != null) {
-            generator.writeKey("refresh.total");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_TOTAL);
             generator.write(this.refreshTotal);
         }
 
         if (this.searchConcurrentAvgSliceCount != null) {
-            generator.writeKey("search.concurrent_avg_slice_count");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_AVG_SLICE_COUNT);
             generator.write(this.searchConcurrentAvgSliceCount);
         }
 
         if (this.searchConcurrentQueryCurrent != null) {
-            generator.writeKey("search.concurrent_query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_CURRENT);
             generator.write(this.searchConcurrentQueryCurrent);
         }
 
         if (this.searchConcurrentQueryTime != null) {
-            generator.writeKey("search.concurrent_query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TIME);
             generator.write(this.searchConcurrentQueryTime);
         }
 
         if (this.searchConcurrentQueryTotal != null) {
-            generator.writeKey("search.concurrent_query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONCURRENT_QUERY_TOTAL);
             generator.write(this.searchConcurrentQueryTotal);
         }
 
         if (this.searchFetchCurrent != null) {
-            generator.writeKey("search.fetch_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_CURRENT);
             generator.write(this.searchFetchCurrent);
         }
 
         if (this.searchFetchTime != null) {
-            generator.writeKey("search.fetch_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TIME);
             generator.write(this.searchFetchTime);
         }
 
         if (this.searchFetchTotal != null) {
-            generator.writeKey("search.fetch_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_FETCH_TOTAL);
             generator.write(this.searchFetchTotal);
         }
 
         if (this.searchOpenContexts != null) {
-            generator.writeKey("search.open_contexts");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_OPEN_CONTEXTS);
             generator.write(this.searchOpenContexts);
         }
 
         if (this.searchPointInTimeCurrent != null) {
-            generator.writeKey("search.point_in_time_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_CURRENT);
             generator.write(this.searchPointInTimeCurrent);
         }
 
         if (this.searchPointInTimeTime != null) {
-            generator.writeKey("search.point_in_time_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TIME);
             generator.write(this.searchPointInTimeTime);
         }
 
         if (this.searchPointInTimeTotal != null) {
-            generator.writeKey("search.point_in_time_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_POINT_IN_TIME_TOTAL);
             generator.write(this.searchPointInTimeTotal);
         }
 
         if (this.searchQueryCurrent != null) {
-            generator.writeKey("search.query_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_CURRENT);
             generator.write(this.searchQueryCurrent);
         }
 
         if (this.searchQueryTime != null) {
-            generator.writeKey("search.query_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TIME);
             generator.write(this.searchQueryTime);
         }
 
         if (this.searchQueryTotal != null) {
-            generator.writeKey("search.query_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_QUERY_TOTAL);
             generator.write(this.searchQueryTotal);
         }
 
         if (this.searchScrollCurrent != null) {
-            generator.writeKey("search.scroll_current");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_CURRENT);
             generator.write(this.searchScrollCurrent);
         }
 
         if (this.searchScrollTime != null) {
-            generator.writeKey("search.scroll_time");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TIME);
             generator.write(this.searchScrollTime);
         }
 
         if (this.searchScrollTotal != null) {
-            generator.writeKey("search.scroll_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SCROLL_TOTAL);
             generator.write(this.searchScrollTotal);
         }
 
         if (this.searchSearchIdleReactivateCountTotal != null) {
-            generator.writeKey("search.search_idle_reactivate_count_total");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SEARCH_IDLE_REACTIVATE_COUNT_TOTAL);
             generator.write(this.searchSearchIdleReactivateCountTotal);
         }
 
         if (this.segmentsCount != null) {
-            generator.writeKey("segments.count");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COUNT);
             generator.write(this.segmentsCount);
         }
 
         if (this.segmentsFixedBitsetMemory != null) {
-            generator.writeKey("segments.fixed_bitset_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_FIXED_BITSET_MEMORY);
             generator.write(this.segmentsFixedBitsetMemory);
         }
 
         if (this.segmentsIndexWriterMemory != null) {
-            generator.writeKey("segments.index_writer_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_INDEX_WRITER_MEMORY);
             generator.write(this.segmentsIndexWriterMemory);
         }
 
         if (this.segmentsMemory != null) {
-            generator.writeKey("segments.memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_MEMORY);
             generator.write(this.segmentsMemory);
         }
 
         if (this.segmentsVersionMapMemory != null) {
-            generator.writeKey("segments.version_map_memory");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_VERSION_MAP_MEMORY);
             generator.write(this.segmentsVersionMapMemory);
         }
 
         if (this.seqNoGlobalCheckpoint != null) {
-            generator.writeKey("seq_no.global_checkpoint");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_GLOBAL_CHECKPOINT);
             generator.write(this.seqNoGlobalCheckpoint);
         }
 
         if (this.seqNoLocalCheckpoint != null) {
-            generator.writeKey("seq_no.local_checkpoint");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_LOCAL_CHECKPOINT);
             generator.write(this.seqNoLocalCheckpoint);
         }
 
         if (this.seqNoMax != null) {
-            generator.writeKey("seq_no.max");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_MAX);
             generator.write(this.seqNoMax);
         }
 
         if (this.shard != null) {
-            generator.writeKey("shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             generator.write(this.state);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             generator.write(this.store);
         }
 
         if (this.syncId != null) {
-            generator.writeKey("sync_id");
+            JsonpUtils.writeKey(generator, KEY_SYNC_ID);
             generator.write(this.syncId);
         }
 
         if (this.unassignedAt != null) {
-            generator.writeKey("unassigned.at");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_AT);
             generator.write(this.unassignedAt);
         }
 
         if (this.unassignedDetails != null) {
-            generator.writeKey("unassigned.details");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_DETAILS);
             generator.write(this.unassignedDetails);
         }
 
         if (this.unassignedFor != null) {
-            generator.writeKey("unassigned.for");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_FOR);
             generator.write(this.unassignedFor);
         }
 
         if (this.unassignedReason != null) {
-            generator.writeKey("unassigned.reason");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_REASON);
             generator.write(this.unassignedReason);
         }
 
         if (this.warmerCurrent != null) {
-            generator.writeKey("warmer.current");
+            JsonpUtils.writeKey(generator, KEY_WARMER_CURRENT);
             generator.write(this.warmerCurrent);
         }
 
         if (this.warmerTotal != null) {
-            generator.writeKey("warmer.total");
+            JsonpUtils.writeKey(generator, KEY_WARMER_TOTAL);
             generator.write(this.warmerTotal);
         }
 
         if (this.warmerTotalTime != null) {
-            generator.writeKey("warmer.total_time");
+            JsonpUtils.writeKey(generator, KEY_WARMER_TOTAL_TIME);
             generator.write(this.warmerTotalTime);
         }
     }
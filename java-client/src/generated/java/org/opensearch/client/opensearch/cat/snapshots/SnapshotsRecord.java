@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -262,69 +264,83 @@ public class SnapshotsRecord implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DURATION = JsonpKey.of("duration");
+    private static final JsonpKey KEY_END_EPOCH = JsonpKey.of("end_epoch");
+    private static final JsonpKey KEY_END_TIME = JsonpKey.of("end_time");
+    private static final JsonpKey KEY_FAILED_SHARDS = JsonpKey.of("failed_shards");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_REPOSITORY = JsonpKey.of("repository");
+    private static final JsonpKey KEY_START_EPOCH = JsonpKey.of("start_epoch");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_SUCCESSFUL_SHARDS = JsonpKey.of("successful_shards");
+    private static final JsonpKey KEY_TOTAL_SHARDS = JsonpKey.of("total_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.duration != null) {
-            generator.writeKey("duration");
+            JsonpUtils.writeKey(generator, KEY_DURATION);
             this.duration.serialize(generator, mapper);
         }
 
         if (this.endEpoch != null) {
-            generator.writeKey("end_epoch");
+            JsonpUtils.writeKey(generator, KEY_END_EPOCH);
             generator.write(this.endEpoch);
         }
 
         if (this.endTime != null) {
-            generator.writeKey("end_time");
+            JsonpUtils.writeKey(generator, KEY_END_TIME);
             generator.write(this.endTime);
         }
 
         if (this.failedShards != null) {
-            generator.writeKey("failed_shards");
+            JsonpUtils.writeKey(generator, KEY_FAILED_SHARDS);
             generator.write(this.failedShards);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.indices != null) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.write(this.indices);
         }
 
         if (this.reason != null) {
-            generator.writeKey("reason");
+            JsonpUtils.writeKey(generator, KEY_REASON);
             generator.write(this.reason);
         }
 
         if (this.repository != null) {
-            generator.writeKey("repository");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY);
             generator.write(this.repository);
         }
 
         if (this.startEpoch != null) {
-            generator.writeKey("start_epoch");
+            JsonpUtils.writeKey(generator, KEY_START_EPOCH);
             generator.write(this.startEpoch);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (this.successfulShards != null) {
-            generator.writeKey("successful_shards");
+            JsonpUtils.writeKey(generator, KEY_SUCCESSFUL_SHARDS);
             generator.write(this.successfulShards);
         }
 
         if (this.totalShards != null) {
-            generator.writeKey("total_shards");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_SHARDS);
             generator.write(this.totalShards);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -306,84 +308,101 @@ public class TasksRecord implements PlainJsonSerializable, ToCopyableBuilder<Tas
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTION = JsonpKey.of("action");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_PARENT_TASK_ID = JsonpKey.of("parent_task_id");
+    private static final JsonpKey KEY_PORT = JsonpKey.of("port");
+    private static final JsonpKey KEY_RUNNING_TIME = JsonpKey.of("running_time");
+    private static final JsonpKey KEY_RUNNING_TIME_NS = JsonpKey.of("running_time_ns");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_TASK_ID = JsonpKey.of("task_id");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_X_OPAQUE_ID = JsonpKey.of("x_opaque_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.action != null) {
-            generator.writeKey("action");
+            JsonpUtils.writeKey(generator, KEY_ACTION);
             generator.write(this.action);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.node != null) {
-            generator.writeKey("node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
         if (this.nodeId != null) {
-            generator.writeKey("node_id");
+            JsonpUtils.writeKey(generator, KEY_NODE_ID);
             generator.write(this.nodeId);
         }
 
         if (this.parentTaskId != null) {
-            generator.writeKey("parent_task_id");
+            JsonpUtils.writeKey(generator, KEY_PARENT_TASK_ID);
             generator.write(this.parentTaskId);
         }
 
         if (this.port != null) {
-            generator.writeKey("port");
+            JsonpUtils.writeKey(generator, KEY_PORT);
             generator.write(this.port);
         }
 
         if (this.runningTime != null) {
-            generator.writeKey("running_time");
+            JsonpUtils.writeKey(generator, KEY_RUNNING_TIME);
             generator.write(this.runningTime);
         }
 
         if (this.runningTimeNs != null) {
-            generator.writeKey("running_time_ns");
+            JsonpUtils.writeKey(generator, KEY_RUNNING_TIME_NS);
             generator.write(this.runningTimeNs);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
         if (this.taskId != null) {
-            generator.writeKey("task_id");
+            JsonpUtils.writeKey(generator, KEY_TASK_ID);
             generator.write(this.taskId);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.xOpaqueId != null) {
-            generator.writeKey("x_opaque_id");
+            JsonpUtils.writeKey(generator, KEY_X_OPAQUE_ID);
             generator.write(this.xOpaqueId);
         }
     }
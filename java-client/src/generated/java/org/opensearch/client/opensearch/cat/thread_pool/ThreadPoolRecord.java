@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -388,109 +390,131 @@ public class ThreadPoolRecord implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE = JsonpKey.of("active");
+    private static final JsonpKey KEY_COMPLETED = JsonpKey.of("completed");
+    private static final JsonpKey KEY_CORE = JsonpKey.of("core");
+    private static final JsonpKey KEY_EPHEMERAL_NODE_ID = JsonpKey.of("ephemeral_node_id");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_KEEP_ALIVE = JsonpKey.of("keep_alive");
+    private static final JsonpKey KEY_LARGEST = JsonpKey.of("largest");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_NODE_NAME = JsonpKey.of("node_name");
+    private static final JsonpKey KEY_PID = JsonpKey.of("pid");
+    private static final JsonpKey KEY_POOL_SIZE = JsonpKey.of("pool_size");
+    private static final JsonpKey KEY_PORT = JsonpKey.of("port");
+    private static final JsonpKey KEY_QUEUE = JsonpKey.of("queue");
+    private static final JsonpKey KEY_QUEUE_SIZE = JsonpKey.of("queue_size");
+    private static final JsonpKey KEY_REJECTED = JsonpKey.of("rejected");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_TOTAL_WAIT_TIME = JsonpKey.of("total_wait_time");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.active != null) {
-            generator.writeKey("active");
+            JsonpUtils.writeKey(generator, KEY_ACTIVE);
             generator.write(this.active);
         }
 
         if (this.completed != null) {
-            generator.writeKey("completed");
+            JsonpUtils.writeKey(generator, KEY_COMPLETED);
             generator.write(this.completed);
         }
 
         if (this.core != null) {
-            generator.writeKey("core");
+            JsonpUtils.writeKey(generator, KEY_CORE);
             generator.write(this.core);
         }
 
         if (this.ephemeralNodeId != null) {
-            generator.writeKey("ephemeral_node_id");
+            JsonpUtils.writeKey(generator, KEY_EPHEMERAL_NODE_ID);
             generator.write(this.ephemeralNodeId);
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.keepAlive != null) {
-            generator.writeKey("keep_alive");
+            JsonpUtils.writeKey(generator, KEY_KEEP_ALIVE);
             generator.write(this.keepAlive);
         }
 
         if (this.largest != null) {
-            generator.writeKey("largest");
+            JsonpUtils.writeKey(generator, KEY_LARGEST);
             generator.write(this.largest);
         }
 
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.nodeId != null) {
-            generator.writeKey("node_id");
+            JsonpUtils.writeKey(generator, KEY_NODE_ID);
             generator.write(this.nodeId);
         }
 
         if (this.nodeName != null) {
-            generator.writeKey("node_name");
+            JsonpUtils.writeKey(generator, KEY_NODE_NAME);
             generator.write(this.nodeName);
         }
 
         if (this.pid != null) {
-            generator.writeKey("pid");
+            JsonpUtils.writeKey(generator, KEY_PID);
             generator.write(this.pid);
         }
 
         if (this.poolSize != null) {
-            generator.writeKey("pool_size");
+            JsonpUtils.writeKey(generator, KEY_POOL_SIZE);
             generator.write(this.poolSize);
         }
 
         if (this.port != null) {
-            generator.writeKey("port");
+            JsonpUtils.writeKey(generator, KEY_PORT);
             generator.write(this.port);
         }
 
         if (this.queue != null) {
-            generator.writeKey("queue");
+            JsonpUtils.writeKey(generator, KEY_QUEUE);
             generator.write(this.queue);
         }
 
         if (this.queueSize != null) {
-            generator.writeKey("queue_size");
+            JsonpUtils.writeKey(generator, KEY_QUEUE_SIZE);
             generator.write(this.queueSize);
         }
 
         if (this.rejected != null) {
-            generator.writeKey("rejected");
+            JsonpUtils.writeKey(generator, KEY_REJECTED);
             generator.write(this.rejected);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.totalWaitTime != null) {
-            generator.writeKey("total_wait_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_WAIT_TIME);
             generator.write(this.totalWaitTime);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -179,24 +181,29 @@ public final class AllocationExplainRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_NODE = JsonpKey.of("current_node");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.currentNode != null) {
-            generator.writeKey("current_node");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_NODE);
             generator.write(this.currentNode);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.primary != null) {
-            generator.writeKey("primary");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY);
             generator.write(this.primary);
         }
 
         if (this.shard != null) {
-            generator.writeKey("shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
     }
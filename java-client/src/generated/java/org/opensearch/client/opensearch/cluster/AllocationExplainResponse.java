@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -386,39 +388,65 @@ public class AllocationExplainResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATE_EXPLANATION = JsonpKey.of("allocate_explanation");
+    private static final JsonpKey KEY_ALLOCATION_DELAY = JsonpKey.of("allocation_delay");
+    private static final JsonpKey KEY_ALLOCATION_DELAY_IN_MILLIS = JsonpKey.of("allocation_delay_in_millis");
+    private static final JsonpKey KEY_CAN_ALLOCATE = JsonpKey.of("can_allocate");
+    private static final JsonpKey KEY_CAN_MOVE_TO_OTHER_NODE = JsonpKey.of("can_move_to_other_node");
+    private static final JsonpKey KEY_CAN_REBALANCE_CLUSTER = JsonpKey.of("can_rebalance_cluster");
+    private static final JsonpKey KEY_CAN_REBALANCE_CLUSTER_DECISIONS = JsonpKey.of("can_rebalance_cluster_decisions");
+    private static final JsonpKey KEY_CAN_REBALANCE_TO_OTHER_NODE = JsonpKey.of("can_rebalance_to_other_node");
+    private static final JsonpKey KEY_CAN_REMAIN_DECISIONS = JsonpKey.of("can_remain_decisions");
+    private static final JsonpKey KEY_CAN_REMAIN_ON_CURRENT_NODE = JsonpKey.of("can_remain_on_current_node");
+    private static final JsonpKey KEY_CLUSTER_INFO = JsonpKey.of("cluster_info");
+    private static final JsonpKey KEY_CONFIGURED_DELAY = JsonpKey.of("configured_delay");
+    private static final JsonpKey KEY_CONFIGURED_DELAY_IN_MILLIS = JsonpKey.of("configured_delay_in_millis");
+    private static final JsonpKey KEY_CURRENT_NODE = JsonpKey.of("current_node");
+    private static final JsonpKey KEY_CURRENT_STATE = JsonpKey.of("current_state");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_MOVE_EXPLANATION = JsonpKey.of("move_explanation");
+    private static final JsonpKey KEY_NODE_ALLOCATION_DECISIONS = JsonpKey.of("node_allocation_decisions");
+    private static final JsonpKey KEY_NOTE = JsonpKey.of("note");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_REBALANCE_EXPLANATION = JsonpKey.of("rebalance_explanation");
+    private static final JsonpKey KEY_REMAINING_DELAY = JsonpKey.of("remaining_delay");
+    private static final JsonpKey KEY_REMAINING_DELAY_IN_MILLIS = JsonpKey.of("remaining_delay_in_millis");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_UNASSIGNED_INFO = JsonpKey.of("unassigned_info");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allocateExplanation != null) {
-            generator.writeKey("allocate_explanation");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATE_EXPLANATION);
             generator.write(this.allocateExplanation);
         }
 
         if (this.allocationDelay != null) {
-            generator.writeKey("allocation_delay");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION_DELAY);
             this.allocationDelay.serialize(generator, mapper);
         }
 
         if (this.allocationDelayInMillis != null) {
-            generator.writeKey("allocation_delay_in_millis");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION_DELAY_IN_MILLIS);
             generator.write(this.allocationDelayInMillis);
         }
 
         if (this.canAllocate != null) {
-            generator.writeKey("can_allocate");
+            JsonpUtils.writeKey(generator, KEY_CAN_ALLOCATE);
             this.canAllocate.serialize(generator, mapper);
         }
 
         if (this.canMoveToOtherNode != null) {
-            generator.writeKey("can_move_to_other_node");
+            JsonpUtils.writeKey(generator, KEY_CAN_MOVE_TO_OTHER_NODE);
             this.canMoveToOtherNode.serialize(generator, mapper);
         }
 
         if (this.canRebalanceCluster != null) {
-            generator.writeKey("can_rebalance_cluster");
+            JsonpUtils.writeKey(generator, KEY_CAN_REBALANCE_CLUSTER);
             this.canRebalanceCluster.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.canRebalanceClusterDecisions)) {
-            generator.writeKey("can_rebalance_cluster_decisions");
+            JsonpUtils.writeKey(generator, KEY_CAN_REBALANCE_CLUSTER_DECISIONS);
             generator.writeStartArray();
             for (AllocationDecision item0 : this.canRebalanceClusterDecisions) {
                 item0.serialize(generator, mapper);
@@ -427,12 +455,12 @@ public class AllocationExplainResponse
         }
 
         if (this.canRebalanceToOtherNode != null) {
-            generator.writeKey("can_rebalance_to_other_node");
+            JsonpUtils.writeKey(generator, KEY_CAN_REBALANCE_TO_OTHER_NODE);
             this.canRebalanceToOtherNode.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.canRemainDecisions)) {
-            generator.writeKey("can_remain_decisions");
+            JsonpUtils.writeKey(generator, KEY_CAN_REMAIN_DECISIONS);
             generator.writeStartArray();
             for (AllocationDecision item0 : this.canRemainDecisions) {
                 item0.serialize(generator, mapper);
@@ -441,43 +469,43 @@ public class AllocationExplainResponse
         }
 
         if (this.canRemainOnCurrentNode != null) {
-            generator.writeKey("can_remain_on_current_node");
+            JsonpUtils.writeKey(generator, KEY_CAN_REMAIN_ON_CURRENT_NODE);
             this.canRemainOnCurrentNode.serialize(generator, mapper);
         }
 
         if (this.clusterInfo != null) {
-            generator.writeKey("cluster_info");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_INFO);
             this.clusterInfo.serialize(generator, mapper);
         }
 
         if (this.configuredDelay != null) {
-            generator.writeKey("configured_delay");
+            JsonpUtils.writeKey(generator, KEY_CONFIGURED_DELAY);
             this.configuredDelay.serialize(generator, mapper);
         }
 
         if (this.configuredDelayInMillis != null) {
-            generator.writeKey("configured_delay_in_millis");
+            JsonpUtils.writeKey(generator, KEY_CONFIGURED_DELAY_IN_MILLIS);
             generator.write(this.configuredDelayInMillis);
         }
 
         if (this.currentNode != null) {
-            generator.writeKey("current_node");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_NODE);
             this.currentNode.serialize(generator, mapper);
         }
 
-        generator.writeKey("current_state");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_STATE);
         generator.write(this.currentState);
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
         if (this.moveExplanation != null) {
-            generator.writeKey("move_explanation");
+            JsonpUtils.writeKey(generator, KEY_MOVE_EXPLANATION);
             generator.write(this.moveExplanation);
         }
 
         if (ApiTypeHelper.isDefined(this.nodeAllocationDecisions)) {
-            generator.writeKey("node_allocation_decisions");
+            JsonpUtils.writeKey(generator, KEY_NODE_ALLOCATION_DECISIONS);
             generator.writeStartArray();
             for (NodeAllocationExplanation item0 : this.nodeAllocationDecisions) {
                 item0.serialize(generator, mapper);
@@ -486,33 +514,33 @@ public class AllocationExplainResponse
         }
 
         if (this.note != null) {
-            generator.writeKey("note");
+            JsonpUtils.writeKey(generator, KEY_NOTE);
             generator.write(this.note);
         }
 
-        generator.writeKey("primary");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY);
         generator.write(this.primary);
 
         if (this.rebalanceExplanation != null) {
-            generator.writeKey("rebalance_explanation");
+            JsonpUtils.writeKey(generator, KEY_REBALANCE_EXPLANATION);
             generator.write(this.rebalanceExplanation);
         }
 
         if (this.remainingDelay != null) {
-            generator.writeKey("remaining_delay");
+            JsonpUtils.writeKey(generator, KEY_REMAINING_DELAY);
             this.remainingDelay.serialize(generator, mapper);
         }
 
         if (this.remainingDelayInMillis != null) {
-            generator.writeKey("remaining_delay_in_millis");
+            JsonpUtils.writeKey(generator, KEY_REMAINING_DELAY_IN_MILLIS);
             generator.write(this.remainingDelayInMillis);
         }
 
-        generator.writeKey("shard");
+        JsonpUtils.writeKey(generator, KEY_SHARD);
         generator.write(this.shard);
 
         if (this.unassignedInfo != null) {
-            generator.writeKey("unassigned_info");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_INFO);
             this.unassignedInfo.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.HealthStatus;
@@ -162,28 +164,35 @@ public class ClusterStatsResponse extends NodesResponseBase
         return this.timestamp;
     }
 
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_CLUSTER_UUID = JsonpKey.of("cluster_uuid");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("cluster_name");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
         generator.write(this.clusterName);
 
-        generator.writeKey("cluster_uuid");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_UUID);
         generator.write(this.clusterUuid);
 
         if (this.indices != null) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             this.indices.serialize(generator, mapper);
         }
 
         if (this.nodes != null) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             this.nodes.serialize(generator, mapper);
         }
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
-        generator.writeKey("timestamp");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
         generator.write(this.timestamp);
     }
 
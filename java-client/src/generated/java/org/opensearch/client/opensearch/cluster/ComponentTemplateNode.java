@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,9 +122,13 @@ public class ComponentTemplateNode
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -131,11 +137,11 @@ public class ComponentTemplateNode
             generator.writeEnd();
         }
 
-        generator.writeKey("template");
+        JsonpUtils.writeKey(generator, KEY_TEMPLATE);
         this.template.serialize(generator, mapper);
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
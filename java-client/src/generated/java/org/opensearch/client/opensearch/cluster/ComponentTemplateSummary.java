@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -147,9 +149,15 @@ public class ComponentTemplateSummary
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartObject();
             for (Map.Entry<String, AliasDefinition> item0 : this.aliases.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -159,12 +167,12 @@ public class ComponentTemplateSummary
         }
 
         if (this.mappings != null) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             this.mappings.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -174,7 +182,7 @@ public class ComponentTemplateSummary
         }
 
         if (ApiTypeHelper.isDefined(this.settings)) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             generator.writeStartObject();
             for (Map.Entry<String, IndexSettings> item0 : this.settings.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -184,7 +192,7 @@ public class ComponentTemplateSummary
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
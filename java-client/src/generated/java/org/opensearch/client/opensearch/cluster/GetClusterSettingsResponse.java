@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,9 +124,13 @@ public class GetClusterSettingsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULTS = JsonpKey.of("defaults");
+    private static final JsonpKey KEY_PERSISTENT = JsonpKey.of("persistent");
+    private static final JsonpKey KEY_TRANSIENT_ = JsonpKey.of("transient");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.defaults)) {
-            generator.writeKey("defaults");
+            JsonpUtils.writeKey(generator, KEY_DEFAULTS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.defaults.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -133,7 +139,7 @@ public class GetClusterSettingsResponse
             generator.writeEnd();
         }
 
-        generator.writeKey("persistent");
+        JsonpUtils.writeKey(generator, KEY_PERSISTENT);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.persistent.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -141,7 +147,7 @@ public class GetClusterSettingsResponse
         }
         generator.writeEnd();
 
-        generator.writeKey("transient");
+        JsonpUtils.writeKey(generator, KEY_TRANSIENT_);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.transient_.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,8 +97,10 @@ public class GetComponentTemplateResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPONENT_TEMPLATES = JsonpKey.of("component_templates");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("component_templates");
+        JsonpUtils.writeKey(generator, KEY_COMPONENT_TEMPLATES);
         generator.writeStartArray();
         for (ComponentTemplate item0 : this.componentTemplates) {
             item0.serialize(generator, mapper);
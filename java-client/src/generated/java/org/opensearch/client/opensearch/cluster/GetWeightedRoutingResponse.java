@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.cluster.weighted_routing.WeightsBase;
@@ -84,10 +86,12 @@ public class GetWeightedRoutingResponse extends WeightsBase
         return this.discoveredClusterManager;
     }
 
+    private static final JsonpKey KEY_DISCOVERED_CLUSTER_MANAGER = JsonpKey.of("discovered_cluster_manager");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.discoveredClusterManager != null) {
-            generator.writeKey("discovered_cluster_manager");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERED_CLUSTER_MANAGER);
             generator.write(this.discoveredClusterManager);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -361,23 +363,45 @@ public class HealthResponse implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_PRIMARY_SHARDS = JsonpKey.of("active_primary_shards");
+    private static final JsonpKey KEY_ACTIVE_SHARDS = JsonpKey.of("active_shards");
+    private static final JsonpKey KEY_ACTIVE_SHARDS_PERCENT = JsonpKey.of("active_shards_percent");
+    private static final JsonpKey KEY_ACTIVE_SHARDS_PERCENT_AS_NUMBER = JsonpKey.of("active_shards_percent_as_number");
+    private static final JsonpKey KEY_AWARENESS_ATTRIBUTES = JsonpKey.of("awareness_attributes");
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_DELAYED_UNASSIGNED_SHARDS = JsonpKey.of("delayed_unassigned_shards");
+    private static final JsonpKey KEY_DISCOVERED_CLUSTER_MANAGER = JsonpKey.of("discovered_cluster_manager");
+    private static final JsonpKey KEY_DISCOVERED_MASTER = JsonpKey.of("discovered_master");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_INITIALIZING_SHARDS = JsonpKey.of("initializing_shards");
+    private static final JsonpKey KEY_NUMBER_OF_DATA_NODES = JsonpKey.of("number_of_data_nodes");
+    private static final JsonpKey KEY_NUMBER_OF_IN_FLIGHT_FETCH = JsonpKey.of("number_of_in_flight_fetch");
+    private static final JsonpKey KEY_NUMBER_OF_NODES = JsonpKey.of("number_of_nodes");
+    private static final JsonpKey KEY_NUMBER_OF_PENDING_TASKS = JsonpKey.of("number_of_pending_tasks");
+    private static final JsonpKey KEY_RELOCATING_SHARDS = JsonpKey.of("relocating_shards");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TASK_MAX_WAITING_IN_QUEUE = JsonpKey.of("task_max_waiting_in_queue");
+    private static final JsonpKey KEY_TASK_MAX_WAITING_IN_QUEUE_MILLIS = JsonpKey.of("task_max_waiting_in_queue_millis");
+    private static final JsonpKey KEY_TIMED_OUT = JsonpKey.of("timed_out");
+    private static final JsonpKey KEY_UNASSIGNED_SHARDS = JsonpKey.of("unassigned_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("active_primary_shards");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_PRIMARY_SHARDS);
         generator.write(this.activePrimaryShards);
 
-        generator.writeKey("active_shards");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS);
         generator.write(this.activeShards);
 
         if (this.activeShardsPercent != null) {
-            generator.writeKey("active_shards_percent");
+            JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS_PERCENT);
             generator.write(this.activeShardsPercent);
         }
 
-        generator.writeKey("active_shards_percent_as_number");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS_PERCENT_AS_NUMBER);
         generator.write(this.activeShardsPercentAsNumber);
 
         if (ApiTypeHelper.isDefined(this.awarenessAttributes)) {
-            generator.writeKey("awareness_attributes");
+            JsonpUtils.writeKey(generator, KEY_AWARENESS_ATTRIBUTES);
             generator.writeStartObject();
             for (Map.Entry<String, AwarenessAttributeStats> item0 : this.awarenessAttributes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -386,24 +410,24 @@ public class HealthResponse implements PlainJsonSerializable, ToCopyableBuilder<
             generator.writeEnd();
         }
 
-        generator.writeKey("cluster_name");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
         generator.write(this.clusterName);
 
-        generator.writeKey("delayed_unassigned_shards");
+        JsonpUtils.writeKey(generator, KEY_DELAYED_UNASSIGNED_SHARDS);
         generator.write(this.delayedUnassignedShards);
 
         if (this.discoveredClusterManager != null) {
-            generator.writeKey("discovered_cluster_manager");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERED_CLUSTER_MANAGER);
             generator.write(this.discoveredClusterManager);
         }
 
         if (this.discoveredMaster != null) {
-            generator.writeKey("discovered_master");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERED_MASTER);
             generator.write(this.discoveredMaster);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartObject();
             for (Map.Entry<String, IndexHealthStats> item0 : this.indices.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -412,39 +436,39 @@ public class HealthResponse implements PlainJsonSerializable, ToCopyableBuilder<
             generator.writeEnd();
         }
 
-        generator.writeKey("initializing_shards");
+        JsonpUtils.writeKey(generator, KEY_INITIALIZING_SHARDS);
         generator.write(this.initializingShards);
 
-        generator.writeKey("number_of_data_nodes");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_DATA_NODES);
         generator.write(this.numberOfDataNodes);
 
-        generator.writeKey("number_of_in_flight_fetch");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_IN_FLIGHT_FETCH);
         generator.write(this.numberOfInFlightFetch);
 
-        generator.writeKey("number_of_nodes");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_NODES);
         generator.write(this.numberOfNodes);
 
-        generator.writeKey("number_of_pending_tasks");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_PENDING_TASKS);
         generator.write(this.numberOfPendingTasks);
 
-        generator.writeKey("relocating_shards");
+        JsonpUtils.writeKey(generator, KEY_RELOCATING_SHARDS);
         generator.write(this.relocatingShards);
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
         if (this.taskMaxWaitingInQueue != null) {
-            generator.writeKey("task_max_waiting_in_queue");
+            JsonpUtils.writeKey(generator, KEY_TASK_MAX_WAITING_IN_QUEUE);
             this.taskMaxWaitingInQueue.serialize(generator, mapper);
         }
 
-        generator.writeKey("task_max_waiting_in_queue_millis");
+        JsonpUtils.writeKey(generator, KEY_TASK_MAX_WAITING_IN_QUEUE_MILLIS);
         generator.write(this.taskMaxWaitingInQueueMillis);
 
-        generator.writeKey("timed_out");
+        JsonpUtils.writeKey(generator, KEY_TIMED_OUT);
         generator.write(this.timedOut);
 
-        generator.writeKey("unassigned_shards");
+        JsonpUtils.writeKey(generator, KEY_UNASSIGNED_SHARDS);
         generator.write(this.unassignedShards);
     }
 
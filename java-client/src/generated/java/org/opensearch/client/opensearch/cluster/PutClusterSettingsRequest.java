@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -186,9 +188,12 @@ public final class PutClusterSettingsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PERSISTENT = JsonpKey.of("persistent");
+    private static final JsonpKey KEY_TRANSIENT_ = JsonpKey.of("transient");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.persistent)) {
-            generator.writeKey("persistent");
+            JsonpUtils.writeKey(generator, KEY_PERSISTENT);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.persistent.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -198,7 +203,7 @@ public final class PutClusterSettingsRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.transient_)) {
-            generator.writeKey("transient");
+            JsonpUtils.writeKey(generator, KEY_TRANSIENT_);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.transient_.entrySet()) {
                 generator.writeKey(item0.getKey());
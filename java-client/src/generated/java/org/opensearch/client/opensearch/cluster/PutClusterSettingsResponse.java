@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -118,11 +120,15 @@ public class PutClusterSettingsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACKNOWLEDGED = JsonpKey.of("acknowledged");
+    private static final JsonpKey KEY_PERSISTENT = JsonpKey.of("persistent");
+    private static final JsonpKey KEY_TRANSIENT_ = JsonpKey.of("transient");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("acknowledged");
+        JsonpUtils.writeKey(generator, KEY_ACKNOWLEDGED);
         generator.write(this.acknowledged);
 
-        generator.writeKey("persistent");
+        JsonpUtils.writeKey(generator, KEY_PERSISTENT);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.persistent.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -130,7 +136,7 @@ public class PutClusterSettingsResponse
         }
         generator.writeEnd();
 
-        generator.writeKey("transient");
+        JsonpUtils.writeKey(generator, KEY_TRANSIENT_);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.transient_.entrySet()) {
             generator.writeKey(item0.getKey());
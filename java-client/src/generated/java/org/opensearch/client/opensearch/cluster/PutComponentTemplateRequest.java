@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -237,14 +239,19 @@ public final class PutComponentTemplateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_AUTO_CREATE = JsonpKey.of("allow_auto_create");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allowAutoCreate != null) {
-            generator.writeKey("allow_auto_create");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_AUTO_CREATE);
             generator.write(this.allowAutoCreate);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -253,11 +260,11 @@ public final class PutComponentTemplateRequest extends RequestBase
             generator.writeEnd();
         }
 
-        generator.writeKey("template");
+        JsonpUtils.writeKey(generator, KEY_TEMPLATE);
         this.template.serialize(generator, mapper);
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
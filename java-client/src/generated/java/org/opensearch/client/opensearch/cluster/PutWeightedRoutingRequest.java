@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -130,14 +132,17 @@ public final class PutWeightedRoutingRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+    private static final JsonpKey KEY_WEIGHTS = JsonpKey.of("weights");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.version != null) {
-            generator.writeKey("_version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (ApiTypeHelper.isDefined(this.weights)) {
-            generator.writeKey("weights");
+            JsonpUtils.writeKey(generator, KEY_WEIGHTS);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.weights.entrySet()) {
                 generator.writeKey(item0.getKey());
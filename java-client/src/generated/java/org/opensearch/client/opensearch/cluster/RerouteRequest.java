@@ -48,7 +48,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -223,9 +225,11 @@ public final class RerouteRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMMANDS = JsonpKey.of("commands");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.commands)) {
-            generator.writeKey("commands");
+            JsonpUtils.writeKey(generator, KEY_COMMANDS);
             generator.writeStartArray();
             for (Command item0 : this.commands) {
                 item0.serialize(generator, mapper);
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.AcknowledgedResponseBase;
@@ -99,10 +101,13 @@ public class RerouteResponse extends AcknowledgedResponseBase implements ToCopya
         return this.state;
     }
 
+    private static final JsonpKey KEY_EXPLANATIONS = JsonpKey.of("explanations");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.explanations)) {
-            generator.writeKey("explanations");
+            JsonpUtils.writeKey(generator, KEY_EXPLANATIONS);
             generator.writeStartArray();
             for (RerouteExplanation item0 : this.explanations) {
                 item0.serialize(generator, mapper);
@@ -111,7 +116,7 @@ public class RerouteResponse extends AcknowledgedResponseBase implements ToCopya
         }
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             this.state.serialize(generator, mapper);
         }
     }
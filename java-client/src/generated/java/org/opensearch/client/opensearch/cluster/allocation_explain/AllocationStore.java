@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,23 +143,30 @@ public class AllocationStore implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATION_ID = JsonpKey.of("allocation_id");
+    private static final JsonpKey KEY_FOUND = JsonpKey.of("found");
+    private static final JsonpKey KEY_IN_SYNC = JsonpKey.of("in_sync");
+    private static final JsonpKey KEY_MATCHING_SIZE_IN_BYTES = JsonpKey.of("matching_size_in_bytes");
+    private static final JsonpKey KEY_MATCHING_SYNC_ID = JsonpKey.of("matching_sync_id");
+    private static final JsonpKey KEY_STORE_EXCEPTION = JsonpKey.of("store_exception");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("allocation_id");
+        JsonpUtils.writeKey(generator, KEY_ALLOCATION_ID);
         generator.write(this.allocationId);
 
-        generator.writeKey("found");
+        JsonpUtils.writeKey(generator, KEY_FOUND);
         generator.write(this.found);
 
-        generator.writeKey("in_sync");
+        JsonpUtils.writeKey(generator, KEY_IN_SYNC);
         generator.write(this.inSync);
 
-        generator.writeKey("matching_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MATCHING_SIZE_IN_BYTES);
         generator.write(this.matchingSizeInBytes);
 
-        generator.writeKey("matching_sync_id");
+        JsonpUtils.writeKey(generator, KEY_MATCHING_SYNC_ID);
         generator.write(this.matchingSyncId);
 
-        generator.writeKey("store_exception");
+        JsonpUtils.writeKey(generator, KEY_STORE_EXCEPTION);
         generator.write(this.storeException);
     }
 
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,8 +144,14 @@ public class ClusterInfo implements PlainJsonSerializable, ToCopyableBuilder<Clu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+    private static final JsonpKey KEY_RESERVED_SIZES = JsonpKey.of("reserved_sizes");
+    private static final JsonpKey KEY_SHARD_DATA_SET_SIZES = JsonpKey.of("shard_data_set_sizes");
+    private static final JsonpKey KEY_SHARD_PATHS = JsonpKey.of("shard_paths");
+    private static final JsonpKey KEY_SHARD_SIZES = JsonpKey.of("shard_sizes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("nodes");
+        JsonpUtils.writeKey(generator, KEY_NODES);
         generator.writeStartObject();
         for (Map.Entry<String, NodeDiskUsage> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -151,7 +159,7 @@ public class ClusterInfo implements PlainJsonSerializable, ToCopyableBuilder<Clu
         }
         generator.writeEnd();
 
-        generator.writeKey("reserved_sizes");
+        JsonpUtils.writeKey(generator, KEY_RESERVED_SIZES);
         generator.writeStartArray();
         for (ReservedSize item0 : this.reservedSizes) {
             item0.serialize(generator, mapper);
@@ -159,7 +167,7 @@ public class ClusterInfo implements PlainJsonSerializable, ToCopyableBuilder<Clu
         generator.writeEnd();
 
         if (ApiTypeHelper.isDefined(this.shardDataSetSizes)) {
-            generator.writeKey("shard_data_set_sizes");
+            JsonpUtils.writeKey(generator, KEY_SHARD_DATA_SET_SIZES);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.shardDataSetSizes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -168,7 +176,7 @@ public class ClusterInfo implements PlainJsonSerializable, ToCopyableBuilder<Clu
             generator.writeEnd();
         }
 
-        generator.writeKey("shard_paths");
+        JsonpUtils.writeKey(generator, KEY_SHARD_PATHS);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.shardPaths.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -176,7 +184,7 @@ public class ClusterInfo implements PlainJsonSerializable, ToCopyableBuilder<Clu
         }
         generator.writeEnd();
 
-        generator.writeKey("shard_sizes");
+        JsonpUtils.writeKey(generator, KEY_SHARD_SIZES);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.shardSizes.entrySet()) {
             generator.writeKey(item0.getKey());
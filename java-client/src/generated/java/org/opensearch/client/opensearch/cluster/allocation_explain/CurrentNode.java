@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,8 +138,14 @@ public class CurrentNode implements PlainJsonSerializable, ToCopyableBuilder<Cur
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+    private static final JsonpKey KEY_WEIGHT_RANKING = JsonpKey.of("weight_ranking");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("attributes");
+        JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -145,16 +153,16 @@ public class CurrentNode implements PlainJsonSerializable, ToCopyableBuilder<Cur
         }
         generator.writeEnd();
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("transport_address");
+        JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
         generator.write(this.transportAddress);
 
-        generator.writeKey("weight_ranking");
+        JsonpUtils.writeKey(generator, KEY_WEIGHT_RANKING);
         generator.write(this.weightRanking);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,38 +179,48 @@ public class DiskUsage implements PlainJsonSerializable, ToCopyableBuilder<DiskU
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FREE = JsonpKey.of("free");
+    private static final JsonpKey KEY_FREE_BYTES = JsonpKey.of("free_bytes");
+    private static final JsonpKey KEY_FREE_DISK_PERCENT = JsonpKey.of("free_disk_percent");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_BYTES = JsonpKey.of("total_bytes");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_BYTES = JsonpKey.of("used_bytes");
+    private static final JsonpKey KEY_USED_DISK_PERCENT = JsonpKey.of("used_disk_percent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.free != null) {
-            generator.writeKey("free");
+            JsonpUtils.writeKey(generator, KEY_FREE);
             generator.write(this.free);
         }
 
-        generator.writeKey("free_bytes");
+        JsonpUtils.writeKey(generator, KEY_FREE_BYTES);
         generator.write(this.freeBytes);
 
-        generator.writeKey("free_disk_percent");
+        JsonpUtils.writeKey(generator, KEY_FREE_DISK_PERCENT);
         generator.write(this.freeDiskPercent);
 
-        generator.writeKey("path");
+        JsonpUtils.writeKey(generator, KEY_PATH);
         generator.write(this.path);
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
-        generator.writeKey("total_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_BYTES);
         generator.write(this.totalBytes);
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
-        generator.writeKey("used_bytes");
+        JsonpUtils.writeKey(generator, KEY_USED_BYTES);
         generator.write(this.usedBytes);
 
-        generator.writeKey("used_disk_percent");
+        JsonpUtils.writeKey(generator, KEY_USED_DISK_PERCENT);
         generator.write(this.usedDiskPercent);
     }
 
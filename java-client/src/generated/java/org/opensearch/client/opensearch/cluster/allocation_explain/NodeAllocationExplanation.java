@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -180,15 +182,24 @@ public class NodeAllocationExplanation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DECIDERS = JsonpKey.of("deciders");
+    private static final JsonpKey KEY_NODE_ATTRIBUTES = JsonpKey.of("node_attributes");
+    private static final JsonpKey KEY_NODE_DECISION = JsonpKey.of("node_decision");
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_NODE_NAME = JsonpKey.of("node_name");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+    private static final JsonpKey KEY_WEIGHT_RANKING = JsonpKey.of("weight_ranking");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("deciders");
+        JsonpUtils.writeKey(generator, KEY_DECIDERS);
         generator.writeStartArray();
         for (AllocationDecision item0 : this.deciders) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("node_attributes");
+        JsonpUtils.writeKey(generator, KEY_NODE_ATTRIBUTES);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.nodeAttributes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -196,25 +207,25 @@ public class NodeAllocationExplanation
         }
         generator.writeEnd();
 
-        generator.writeKey("node_decision");
+        JsonpUtils.writeKey(generator, KEY_NODE_DECISION);
         this.nodeDecision.serialize(generator, mapper);
 
-        generator.writeKey("node_id");
+        JsonpUtils.writeKey(generator, KEY_NODE_ID);
         generator.write(this.nodeId);
 
-        generator.writeKey("node_name");
+        JsonpUtils.writeKey(generator, KEY_NODE_NAME);
         generator.write(this.nodeName);
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             this.store.serialize(generator, mapper);
         }
 
-        generator.writeKey("transport_address");
+        JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
         generator.write(this.transportAddress);
 
         if (this.weightRanking != null) {
-            generator.writeKey("weight_ranking");
+            JsonpUtils.writeKey(generator, KEY_WEIGHT_RANKING);
             generator.write(this.weightRanking);
         }
     }
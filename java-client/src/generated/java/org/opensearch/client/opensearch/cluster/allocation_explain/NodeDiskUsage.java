@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,14 +115,18 @@ public class NodeDiskUsage implements PlainJsonSerializable, ToCopyableBuilder<N
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LEAST_AVAILABLE = JsonpKey.of("least_available");
+    private static final JsonpKey KEY_MOST_AVAILABLE = JsonpKey.of("most_available");
+    private static final JsonpKey KEY_NODE_NAME = JsonpKey.of("node_name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("least_available");
+        JsonpUtils.writeKey(generator, KEY_LEAST_AVAILABLE);
         this.leastAvailable.serialize(generator, mapper);
 
-        generator.writeKey("most_available");
+        JsonpUtils.writeKey(generator, KEY_MOST_AVAILABLE);
         this.mostAvailable.serialize(generator, mapper);
 
-        generator.writeKey("node_name");
+        JsonpUtils.writeKey(generator, KEY_NODE_NAME);
         generator.write(this.nodeName);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -124,21 +126,26 @@ public class ReservedSize implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("node_id");
+        JsonpUtils.writeKey(generator, KEY_NODE_ID);
         generator.write(this.nodeId);
 
-        generator.writeKey("path");
+        JsonpUtils.writeKey(generator, KEY_PATH);
         generator.write(this.path);
 
-        generator.writeKey("shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         generator.writeStartArray();
         for (String item0 : this.shards) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
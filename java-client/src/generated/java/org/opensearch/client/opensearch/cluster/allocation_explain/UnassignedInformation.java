@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,36 +168,44 @@ public class UnassignedInformation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATION_STATUS = JsonpKey.of("allocation_status");
+    private static final JsonpKey KEY_AT = JsonpKey.of("at");
+    private static final JsonpKey KEY_DELAYED = JsonpKey.of("delayed");
+    private static final JsonpKey KEY_DETAILS = JsonpKey.of("details");
+    private static final JsonpKey KEY_FAILED_ALLOCATION_ATTEMPTS = JsonpKey.of("failed_allocation_attempts");
+    private static final JsonpKey KEY_LAST_ALLOCATION_STATUS = JsonpKey.of("last_allocation_status");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allocationStatus != null) {
-            generator.writeKey("allocation_status");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION_STATUS);
             generator.write(this.allocationStatus);
         }
 
-        generator.writeKey("at");
+        JsonpUtils.writeKey(generator, KEY_AT);
         generator.write(this.at);
 
         if (this.delayed != null) {
-            generator.writeKey("delayed");
+            JsonpUtils.writeKey(generator, KEY_DELAYED);
             generator.write(this.delayed);
         }
 
         if (this.details != null) {
-            generator.writeKey("details");
+            JsonpUtils.writeKey(generator, KEY_DETAILS);
             generator.write(this.details);
         }
 
         if (this.failedAllocationAttempts != null) {
-            generator.writeKey("failed_allocation_attempts");
+            JsonpUtils.writeKey(generator, KEY_FAILED_ALLOCATION_ATTEMPTS);
             generator.write(this.failedAllocationAttempts);
         }
 
         if (this.lastAllocationStatus != null) {
-            generator.writeKey("last_allocation_status");
+            JsonpUtils.writeKey(generator, KEY_LAST_ALLOCATION_STATUS);
             generator.write(this.lastAllocationStatus);
         }
 
-        generator.writeKey("reason");
+        JsonpUtils.writeKey(generator, KEY_REASON);
         this.reason.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,34 +155,41 @@ public class AwarenessAttributeStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_SHARDS = JsonpKey.of("active_shards");
+    private static final JsonpKey KEY_DATA_NODES = JsonpKey.of("data_nodes");
+    private static final JsonpKey KEY_INITIALIZING_SHARDS = JsonpKey.of("initializing_shards");
+    private static final JsonpKey KEY_RELOCATING_SHARDS = JsonpKey.of("relocating_shards");
+    private static final JsonpKey KEY_UNASSIGNED_SHARDS = JsonpKey.of("unassigned_shards");
+    private static final JsonpKey KEY_WEIGHT = JsonpKey.of("weight");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.activeShards != null) {
-            generator.writeKey("active_shards");
+            JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS);
             generator.write(this.activeShards);
         }
 
         if (this.dataNodes != null) {
-            generator.writeKey("data_nodes");
+            JsonpUtils.writeKey(generator, KEY_DATA_NODES);
             generator.write(this.dataNodes);
         }
 
         if (this.initializingShards != null) {
-            generator.writeKey("initializing_shards");
+            JsonpUtils.writeKey(generator, KEY_INITIALIZING_SHARDS);
             generator.write(this.initializingShards);
         }
 
         if (this.relocatingShards != null) {
-            generator.writeKey("relocating_shards");
+            JsonpUtils.writeKey(generator, KEY_RELOCATING_SHARDS);
             generator.write(this.relocatingShards);
         }
 
         if (this.unassignedShards != null) {
-            generator.writeKey("unassigned_shards");
+            JsonpUtils.writeKey(generator, KEY_UNASSIGNED_SHARDS);
             generator.write(this.unassignedShards);
         }
 
         if (this.weight != null) {
-            generator.writeKey("weight");
+            JsonpUtils.writeKey(generator, KEY_WEIGHT);
             generator.write(this.weight);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -175,27 +177,37 @@ public class IndexHealthStats implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_PRIMARY_SHARDS = JsonpKey.of("active_primary_shards");
+    private static final JsonpKey KEY_ACTIVE_SHARDS = JsonpKey.of("active_shards");
+    private static final JsonpKey KEY_INITIALIZING_SHARDS = JsonpKey.of("initializing_shards");
+    private static final JsonpKey KEY_NUMBER_OF_REPLICAS = JsonpKey.of("number_of_replicas");
+    private static final JsonpKey KEY_NUMBER_OF_SHARDS = JsonpKey.of("number_of_shards");
+    private static final JsonpKey KEY_RELOCATING_SHARDS = JsonpKey.of("relocating_shards");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_UNASSIGNED_SHARDS = JsonpKey.of("unassigned_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("active_primary_shards");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_PRIMARY_SHARDS);
         generator.write(this.activePrimaryShards);
 
-        generator.writeKey("active_shards");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS);
         generator.write(this.activeShards);
 
-        generator.writeKey("initializing_shards");
+        JsonpUtils.writeKey(generator, KEY_INITIALIZING_SHARDS);
         generator.write(this.initializingShards);
 
-        generator.writeKey("number_of_replicas");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_REPLICAS);
         generator.write(this.numberOfReplicas);
 
-        generator.writeKey("number_of_shards");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_SHARDS);
         generator.write(this.numberOfShards);
 
-        generator.writeKey("relocating_shards");
+        JsonpUtils.writeKey(generator, KEY_RELOCATING_SHARDS);
         generator.write(this.relocatingShards);
 
         if (ApiTypeHelper.isDefined(this.shards)) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.writeStartObject();
             for (Map.Entry<String, ShardHealthStats> item0 : this.shards.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -204,10 +216,10 @@ public class IndexHealthStats implements PlainJsonSerializable, ToCopyableBuilde
             generator.writeEnd();
         }
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
-        generator.writeKey("unassigned_shards");
+        JsonpUtils.writeKey(generator, KEY_UNASSIGNED_SHARDS);
         generator.write(this.unassignedShards);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,23 +142,30 @@ public class ShardHealthStats implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE_SHARDS = JsonpKey.of("active_shards");
+    private static final JsonpKey KEY_INITIALIZING_SHARDS = JsonpKey.of("initializing_shards");
+    private static final JsonpKey KEY_PRIMARY_ACTIVE = JsonpKey.of("primary_active");
+    private static final JsonpKey KEY_RELOCATING_SHARDS = JsonpKey.of("relocating_shards");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_UNASSIGNED_SHARDS = JsonpKey.of("unassigned_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("active_shards");
+        JsonpUtils.writeKey(generator, KEY_ACTIVE_SHARDS);
         generator.write(this.activeShards);
 
-        generator.writeKey("initializing_shards");
+        JsonpUtils.writeKey(generator, KEY_INITIALIZING_SHARDS);
         generator.write(this.initializingShards);
 
-        generator.writeKey("primary_active");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_ACTIVE);
         generator.write(this.primaryActive);
 
-        generator.writeKey("relocating_shards");
+        JsonpUtils.writeKey(generator, KEY_RELOCATING_SHARDS);
         generator.write(this.relocatingShards);
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
-        generator.writeKey("unassigned_shards");
+        JsonpUtils.writeKey(generator, KEY_UNASSIGNED_SHARDS);
         generator.write(this.unassignedShards);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -183,35 +185,44 @@ public class PendingTask implements PlainJsonSerializable, ToCopyableBuilder<Pen
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXECUTING = JsonpKey.of("executing");
+    private static final JsonpKey KEY_INSERT_ORDER = JsonpKey.of("insert_order");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+    private static final JsonpKey KEY_TIME_IN_EXECUTION = JsonpKey.of("time_in_execution");
+    private static final JsonpKey KEY_TIME_IN_EXECUTION_MILLIS = JsonpKey.of("time_in_execution_millis");
+    private static final JsonpKey KEY_TIME_IN_QUEUE = JsonpKey.of("time_in_queue");
+    private static final JsonpKey KEY_TIME_IN_QUEUE_MILLIS = JsonpKey.of("time_in_queue_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("executing");
+        JsonpUtils.writeKey(generator, KEY_EXECUTING);
         generator.write(this.executing);
 
-        generator.writeKey("insert_order");
+        JsonpUtils.writeKey(generator, KEY_INSERT_ORDER);
         generator.write(this.insertOrder);
 
-        generator.writeKey("priority");
+        JsonpUtils.writeKey(generator, KEY_PRIORITY);
         generator.write(this.priority);
 
-        generator.writeKey("source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         generator.write(this.source);
 
         if (this.timeInExecution != null) {
-            generator.writeKey("time_in_execution");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_EXECUTION);
             this.timeInExecution.serialize(generator, mapper);
         }
 
         if (this.timeInExecutionMillis != null) {
-            generator.writeKey("time_in_execution_millis");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_EXECUTION_MILLIS);
             generator.write(this.timeInExecutionMillis);
         }
 
         if (this.timeInQueue != null) {
-            generator.writeKey("time_in_queue");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_QUEUE);
             this.timeInQueue.serialize(generator, mapper);
         }
 
-        generator.writeKey("time_in_queue_millis");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_QUEUE_MILLIS);
         generator.write(this.timeInQueueMillis);
     }
 
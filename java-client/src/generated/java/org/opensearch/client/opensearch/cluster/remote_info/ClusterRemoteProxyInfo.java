@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,27 +168,35 @@ public class ClusterRemoteProxyInfo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECTED = JsonpKey.of("connected");
+    private static final JsonpKey KEY_INITIAL_CONNECT_TIMEOUT = JsonpKey.of("initial_connect_timeout");
+    private static final JsonpKey KEY_MAX_PROXY_SOCKET_CONNECTIONS = JsonpKey.of("max_proxy_socket_connections");
+    private static final JsonpKey KEY_NUM_PROXY_SOCKETS_CONNECTED = JsonpKey.of("num_proxy_sockets_connected");
+    private static final JsonpKey KEY_PROXY_ADDRESS = JsonpKey.of("proxy_address");
+    private static final JsonpKey KEY_SERVER_NAME = JsonpKey.of("server_name");
+    private static final JsonpKey KEY_SKIP_UNAVAILABLE = JsonpKey.of("skip_unavailable");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("mode", "proxy");
-        generator.writeKey("connected");
+        JsonpUtils.writeKey(generator, KEY_CONNECTED);
         generator.write(this.connected);
 
-        generator.writeKey("initial_connect_timeout");
+        JsonpUtils.writeKey(generator, KEY_INITIAL_CONNECT_TIMEOUT);
         this.initialConnectTimeout.serialize(generator, mapper);
 
-        generator.writeKey("max_proxy_socket_connections");
+        JsonpUtils.writeKey(generator, KEY_MAX_PROXY_SOCKET_CONNECTIONS);
         generator.write(this.maxProxySocketConnections);
 
-        generator.writeKey("num_proxy_sockets_connected");
+        JsonpUtils.writeKey(generator, KEY_NUM_PROXY_SOCKETS_CONNECTED);
         generator.write(this.numProxySocketsConnected);
 
-        generator.writeKey("proxy_address");
+        JsonpUtils.writeKey(generator, KEY_PROXY_ADDRESS);
         generator.write(this.proxyAddress);
 
-        generator.writeKey("server_name");
+        JsonpUtils.writeKey(generator, KEY_SERVER_NAME);
         generator.write(this.serverName);
 
-        generator.writeKey("skip_unavailable");
+        JsonpUtils.writeKey(generator, KEY_SKIP_UNAVAILABLE);
         generator.write(this.skipUnavailable);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -155,28 +157,35 @@ public class ClusterRemoteSniffInfo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECTED = JsonpKey.of("connected");
+    private static final JsonpKey KEY_INITIAL_CONNECT_TIMEOUT = JsonpKey.of("initial_connect_timeout");
+    private static final JsonpKey KEY_MAX_CONNECTIONS_PER_CLUSTER = JsonpKey.of("max_connections_per_cluster");
+    private static final JsonpKey KEY_NUM_NODES_CONNECTED = JsonpKey.of("num_nodes_connected");
+    private static final JsonpKey KEY_SEEDS = JsonpKey.of("seeds");
+    private static final JsonpKey KEY_SKIP_UNAVAILABLE = JsonpKey.of("skip_unavailable");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.write("mode", "sniff");
-        generator.writeKey("connected");
+        JsonpUtils.writeKey(generator, KEY_CONNECTED);
         generator.write(this.connected);
 
-        generator.writeKey("initial_connect_timeout");
+        JsonpUtils.writeKey(generator, KEY_INITIAL_CONNECT_TIMEOUT);
         this.initialConnectTimeout.serialize(generator, mapper);
 
-        generator.writeKey("max_connections_per_cluster");
+        JsonpUtils.writeKey(generator, KEY_MAX_CONNECTIONS_PER_CLUSTER);
         generator.write(this.maxConnectionsPerCluster);
 
-        generator.writeKey("num_nodes_connected");
+        JsonpUtils.writeKey(generator, KEY_NUM_NODES_CONNECTED);
         generator.write(this.numNodesConnected);
 
-        generator.writeKey("seeds");
+        JsonpUtils.writeKey(generator, KEY_SEEDS);
         generator.writeStartArray();
         for (String item0 : this.seeds) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("skip_unavailable");
+        JsonpUtils.writeKey(generator, KEY_SKIP_UNAVAILABLE);
         generator.write(this.skipUnavailable);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -167,29 +169,35 @@ public class Command implements PlainJsonSerializable, ToCopyableBuilder<Command
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATE_EMPTY_PRIMARY = JsonpKey.of("allocate_empty_primary");
+    private static final JsonpKey KEY_ALLOCATE_REPLICA = JsonpKey.of("allocate_replica");
+    private static final JsonpKey KEY_ALLOCATE_STALE_PRIMARY = JsonpKey.of("allocate_stale_primary");
+    private static final JsonpKey KEY_CANCEL = JsonpKey.of("cancel");
+    private static final JsonpKey KEY_MOVE = JsonpKey.of("move");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allocateEmptyPrimary != null) {
-            generator.writeKey("allocate_empty_primary");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATE_EMPTY_PRIMARY);
             this.allocateEmptyPrimary.serialize(generator, mapper);
         }
 
         if (this.allocateReplica != null) {
-            generator.writeKey("allocate_replica");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATE_REPLICA);
             this.allocateReplica.serialize(generator, mapper);
         }
 
         if (this.allocateStalePrimary != null) {
-            generator.writeKey("allocate_stale_primary");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATE_STALE_PRIMARY);
             this.allocateStalePrimary.serialize(generator, mapper);
         }
 
         if (this.cancel != null) {
-            generator.writeKey("cancel");
+            JsonpUtils.writeKey(generator, KEY_CANCEL);
             this.cancel.serialize(generator, mapper);
         }
 
         if (this.move != null) {
-            generator.writeKey("move");
+            JsonpUtils.writeKey(generator, KEY_MOVE);
             this.move.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,17 +133,22 @@ public class CommandAllocatePrimaryAction
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCEPT_DATA_LOSS = JsonpKey.of("accept_data_loss");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("accept_data_loss");
+        JsonpUtils.writeKey(generator, KEY_ACCEPT_DATA_LOSS);
         generator.write(this.acceptDataLoss);
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("node");
+        JsonpUtils.writeKey(generator, KEY_NODE);
         generator.write(this.node);
 
-        generator.writeKey("shard");
+        JsonpUtils.writeKey(generator, KEY_SHARD);
         generator.write(this.shard);
     }
 
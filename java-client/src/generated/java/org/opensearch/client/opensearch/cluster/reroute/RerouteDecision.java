@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,14 +115,18 @@ public class RerouteDecision implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DECIDER = JsonpKey.of("decider");
+    private static final JsonpKey KEY_DECISION = JsonpKey.of("decision");
+    private static final JsonpKey KEY_EXPLANATION = JsonpKey.of("explanation");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("decider");
+        JsonpUtils.writeKey(generator, KEY_DECIDER);
         generator.write(this.decider);
 
-        generator.writeKey("decision");
+        JsonpUtils.writeKey(generator, KEY_DECISION);
         generator.write(this.decision);
 
-        generator.writeKey("explanation");
+        JsonpUtils.writeKey(generator, KEY_EXPLANATION);
         generator.write(this.explanation);
     }
 
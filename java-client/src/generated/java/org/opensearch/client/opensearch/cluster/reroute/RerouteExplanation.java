@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,18 +116,22 @@ public class RerouteExplanation implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMMAND = JsonpKey.of("command");
+    private static final JsonpKey KEY_DECISIONS = JsonpKey.of("decisions");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("command");
+        JsonpUtils.writeKey(generator, KEY_COMMAND);
         generator.write(this.command);
 
-        generator.writeKey("decisions");
+        JsonpUtils.writeKey(generator, KEY_DECISIONS);
         generator.writeStartArray();
         for (RerouteDecision item0 : this.decisions) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("parameters");
+        JsonpUtils.writeKey(generator, KEY_PARAMETERS);
         this.parameters.serialize(generator, mapper);
     }
 
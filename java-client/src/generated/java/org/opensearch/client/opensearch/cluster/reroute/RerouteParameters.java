@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -147,26 +149,33 @@ public class RerouteParameters implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_PRIMARY = JsonpKey.of("allow_primary");
+    private static final JsonpKey KEY_FROM_NODE = JsonpKey.of("from_node");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_TO_NODE = JsonpKey.of("to_node");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("allow_primary");
+        JsonpUtils.writeKey(generator, KEY_ALLOW_PRIMARY);
         generator.write(this.allowPrimary);
 
         if (this.fromNode != null) {
-            generator.writeKey("from_node");
+            JsonpUtils.writeKey(generator, KEY_FROM_NODE);
             generator.write(this.fromNode);
         }
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("node");
+        JsonpUtils.writeKey(generator, KEY_NODE);
         generator.write(this.node);
 
-        generator.writeKey("shard");
+        JsonpUtils.writeKey(generator, KEY_SHARD);
         generator.write(this.shard);
 
         if (this.toNode != null) {
-            generator.writeKey("to_node");
+            JsonpUtils.writeKey(generator, KEY_TO_NODE);
             generator.write(this.toNode);
         }
     }
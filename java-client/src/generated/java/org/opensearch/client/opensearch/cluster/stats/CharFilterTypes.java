@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -198,57 +200,66 @@ public class CharFilterTypes implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER_TYPES = JsonpKey.of("analyzer_types");
+    private static final JsonpKey KEY_BUILT_IN_ANALYZERS = JsonpKey.of("built_in_analyzers");
+    private static final JsonpKey KEY_BUILT_IN_CHAR_FILTERS = JsonpKey.of("built_in_char_filters");
+    private static final JsonpKey KEY_BUILT_IN_FILTERS = JsonpKey.of("built_in_filters");
+    private static final JsonpKey KEY_BUILT_IN_TOKENIZERS = JsonpKey.of("built_in_tokenizers");
+    private static final JsonpKey KEY_CHAR_FILTER_TYPES = JsonpKey.of("char_filter_types");
+    private static final JsonpKey KEY_FILTER_TYPES = JsonpKey.of("filter_types");
+    private static final JsonpKey KEY_TOKENIZER_TYPES = JsonpKey.of("tokenizer_types");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("analyzer_types");
+        JsonpUtils.writeKey(generator, KEY_ANALYZER_TYPES);
         generator.writeStartArray();
         for (FieldTypes item0 : this.analyzerTypes) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("built_in_analyzers");
+        JsonpUtils.writeKey(generator, KEY_BUILT_IN_ANALYZERS);
         generator.writeStartArray();
         for (FieldTypes item0 : this.builtInAnalyzers) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("built_in_char_filters");
+        JsonpUtils.writeKey(generator, KEY_BUILT_IN_CHAR_FILTERS);
         generator.writeStartArray();
         for (FieldTypes item0 : this.builtInCharFilters) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("built_in_filters");
+        JsonpUtils.writeKey(generator, KEY_BUILT_IN_FILTERS);
         generator.writeStartArray();
         for (FieldTypes item0 : this.builtInFilters) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("built_in_tokenizers");
+        JsonpUtils.writeKey(generator, KEY_BUILT_IN_TOKENIZERS);
         generator.writeStartArray();
         for (FieldTypes item0 : this.builtInTokenizers) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("char_filter_types");
+        JsonpUtils.writeKey(generator, KEY_CHAR_FILTER_TYPES);
         generator.writeStartArray();
         for (FieldTypes item0 : this.charFilterTypes) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("filter_types");
+        JsonpUtils.writeKey(generator, KEY_FILTER_TYPES);
         generator.writeStartArray();
         for (FieldTypes item0 : this.filterTypes) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("tokenizer_types");
+        JsonpUtils.writeKey(generator, KEY_TOKENIZER_TYPES);
         generator.writeStartArray();
         for (FieldTypes item0 : this.tokenizerTypes) {
             item0.serialize(generator, mapper);
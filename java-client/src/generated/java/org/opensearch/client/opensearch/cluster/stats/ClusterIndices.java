@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -224,59 +226,71 @@ public class ClusterIndices implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYSIS = JsonpKey.of("analysis");
+    private static final JsonpKey KEY_COMPLETION = JsonpKey.of("completion");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DOCS = JsonpKey.of("docs");
+    private static final JsonpKey KEY_FIELDDATA = JsonpKey.of("fielddata");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_QUERY_CACHE = JsonpKey.of("query_cache");
+    private static final JsonpKey KEY_SEGMENTS = JsonpKey.of("segments");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_VERSIONS = JsonpKey.of("versions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analysis != null) {
-            generator.writeKey("analysis");
+            JsonpUtils.writeKey(generator, KEY_ANALYSIS);
             this.analysis.serialize(generator, mapper);
         }
 
         if (this.completion != null) {
-            generator.writeKey("completion");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION);
             this.completion.serialize(generator, mapper);
         }
 
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.docs != null) {
-            generator.writeKey("docs");
+            JsonpUtils.writeKey(generator, KEY_DOCS);
             this.docs.serialize(generator, mapper);
         }
 
         if (this.fielddata != null) {
-            generator.writeKey("fielddata");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA);
             this.fielddata.serialize(generator, mapper);
         }
 
         if (this.mappings != null) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             this.mappings.serialize(generator, mapper);
         }
 
         if (this.queryCache != null) {
-            generator.writeKey("query_cache");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE);
             this.queryCache.serialize(generator, mapper);
         }
 
         if (this.segments != null) {
-            generator.writeKey("segments");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS);
             this.segments.serialize(generator, mapper);
         }
 
         if (this.shards != null) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             this.store.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.versions)) {
-            generator.writeKey("versions");
+            JsonpUtils.writeKey(generator, KEY_VERSIONS);
             generator.writeStartArray();
             for (IndicesVersions item0 : this.versions) {
                 item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -135,24 +137,29 @@ public class ClusterIndicesShards implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_PRIMARIES = JsonpKey.of("primaries");
+    private static final JsonpKey KEY_REPLICATION = JsonpKey.of("replication");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             this.index.serialize(generator, mapper);
         }
 
         if (this.primaries != null) {
-            generator.writeKey("primaries");
+            JsonpUtils.writeKey(generator, KEY_PRIMARIES);
             generator.write(this.primaries);
         }
 
         if (this.replication != null) {
-            generator.writeKey("replication");
+            JsonpUtils.writeKey(generator, KEY_REPLICATION);
             generator.write(this.replication);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,14 +127,18 @@ public class ClusterIndicesShardsIndex
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PRIMARIES = JsonpKey.of("primaries");
+    private static final JsonpKey KEY_REPLICATION = JsonpKey.of("replication");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("primaries");
+        JsonpUtils.writeKey(generator, KEY_PRIMARIES);
         this.primaries.serialize(generator, mapper);
 
-        generator.writeKey("replication");
+        JsonpUtils.writeKey(generator, KEY_REPLICATION);
         this.replication.serialize(generator, mapper);
 
-        generator.writeKey("shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -100,11 +102,14 @@ public class ClusterIngest implements PlainJsonSerializable, ToCopyableBuilder<C
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUMBER_OF_PIPELINES = JsonpKey.of("number_of_pipelines");
+    private static final JsonpKey KEY_PROCESSOR_STATS = JsonpKey.of("processor_stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("number_of_pipelines");
+        JsonpUtils.writeKey(generator, KEY_NUMBER_OF_PIPELINES);
         generator.write(this.numberOfPipelines);
 
-        generator.writeKey("processor_stats");
+        JsonpUtils.writeKey(generator, KEY_PROCESSOR_STATS);
         generator.writeStartObject();
         for (Map.Entry<String, ClusterProcessor> item0 : this.processorStats.entrySet()) {
             generator.writeKey(item0.getKey());
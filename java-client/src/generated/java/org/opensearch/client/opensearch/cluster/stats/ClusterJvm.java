@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,23 +145,29 @@ public class ClusterJvm implements PlainJsonSerializable, ToCopyableBuilder<Clus
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_UPTIME = JsonpKey.of("max_uptime");
+    private static final JsonpKey KEY_MAX_UPTIME_IN_MILLIS = JsonpKey.of("max_uptime_in_millis");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_THREADS = JsonpKey.of("threads");
+    private static final JsonpKey KEY_VERSIONS = JsonpKey.of("versions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxUptime != null) {
-            generator.writeKey("max_uptime");
+            JsonpUtils.writeKey(generator, KEY_MAX_UPTIME);
             this.maxUptime.serialize(generator, mapper);
         }
 
-        generator.writeKey("max_uptime_in_millis");
+        JsonpUtils.writeKey(generator, KEY_MAX_UPTIME_IN_MILLIS);
         generator.write(this.maxUptimeInMillis);
 
-        generator.writeKey("mem");
+        JsonpUtils.writeKey(generator, KEY_MEM);
         this.mem.serialize(generator, mapper);
 
-        generator.writeKey("threads");
+        JsonpUtils.writeKey(generator, KEY_THREADS);
         generator.write(this.threads);
 
         if (ApiTypeHelper.isDefined(this.versions)) {
-            generator.writeKey("versions");
+            JsonpUtils.writeKey(generator, KEY_VERSIONS);
             generator.writeStartArray();
             for (ClusterJvmVersion item0 : this.versions) {
                 item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -135,21 +137,26 @@ public class ClusterJvmMemory implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HEAP_MAX = JsonpKey.of("heap_max");
+    private static final JsonpKey KEY_HEAP_MAX_IN_BYTES = JsonpKey.of("heap_max_in_bytes");
+    private static final JsonpKey KEY_HEAP_USED = JsonpKey.of("heap_used");
+    private static final JsonpKey KEY_HEAP_USED_IN_BYTES = JsonpKey.of("heap_used_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.heapMax != null) {
-            generator.writeKey("heap_max");
+            JsonpUtils.writeKey(generator, KEY_HEAP_MAX);
             generator.write(this.heapMax);
         }
 
-        generator.writeKey("heap_max_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_HEAP_MAX_IN_BYTES);
         generator.write(this.heapMaxInBytes);
 
         if (this.heapUsed != null) {
-            generator.writeKey("heap_used");
+            JsonpUtils.writeKey(generator, KEY_HEAP_USED);
             generator.write(this.heapUsed);
         }
 
-        generator.writeKey("heap_used_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_HEAP_USED_IN_BYTES);
         generator.write(this.heapUsedInBytes);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -170,26 +172,34 @@ public class ClusterJvmVersion implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUNDLED_JDK = JsonpKey.of("bundled_jdk");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_USING_BUNDLED_JDK = JsonpKey.of("using_bundled_jdk");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VM_NAME = JsonpKey.of("vm_name");
+    private static final JsonpKey KEY_VM_VENDOR = JsonpKey.of("vm_vendor");
+    private static final JsonpKey KEY_VM_VERSION = JsonpKey.of("vm_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bundled_jdk");
+        JsonpUtils.writeKey(generator, KEY_BUNDLED_JDK);
         generator.write(this.bundledJdk);
 
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
-        generator.writeKey("using_bundled_jdk");
+        JsonpUtils.writeKey(generator, KEY_USING_BUNDLED_JDK);
         generator.write(this.usingBundledJdk);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
 
-        generator.writeKey("vm_name");
+        JsonpUtils.writeKey(generator, KEY_VM_NAME);
         generator.write(this.vmName);
 
-        generator.writeKey("vm_vendor");
+        JsonpUtils.writeKey(generator, KEY_VM_VENDOR);
         generator.write(this.vmVendor);
 
-        generator.writeKey("vm_version");
+        JsonpUtils.writeKey(generator, KEY_VM_VERSION);
         generator.write(this.vmVersion);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,8 +110,11 @@ public class ClusterNetworkTypes implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HTTP_TYPES = JsonpKey.of("http_types");
+    private static final JsonpKey KEY_TRANSPORT_TYPES = JsonpKey.of("transport_types");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("http_types");
+        JsonpUtils.writeKey(generator, KEY_HTTP_TYPES);
         generator.writeStartObject();
         for (Map.Entry<String, Integer> item0 : this.httpTypes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -117,7 +122,7 @@ public class ClusterNetworkTypes implements PlainJsonSerializable, ToCopyableBui
         }
         generator.writeEnd();
 
-        generator.writeKey("transport_types");
+        JsonpUtils.writeKey(generator, KEY_TRANSPORT_TYPES);
         generator.writeStartObject();
         for (Map.Entry<String, Integer> item0 : this.transportTypes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -271,77 +273,95 @@ public class ClusterNodeCount implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLUSTER_MANAGER = JsonpKey.of("cluster_manager");
+    private static final JsonpKey KEY_COORDINATING_ONLY = JsonpKey.of("coordinating_only");
+    private static final JsonpKey KEY_DATA = JsonpKey.of("data");
+    private static final JsonpKey KEY_DATA_COLD = JsonpKey.of("data_cold");
+    private static final JsonpKey KEY_DATA_CONTENT = JsonpKey.of("data_content");
+    private static final JsonpKey KEY_DATA_FROZEN = JsonpKey.of("data_frozen");
+    private static final JsonpKey KEY_DATA_HOT = JsonpKey.of("data_hot");
+    private static final JsonpKey KEY_DATA_WARM = JsonpKey.of("data_warm");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("ingest");
+    private static final JsonpKey KEY_MASTER = JsonpKey.of("master");
+    private static final JsonpKey KEY_ML = JsonpKey.of("ml");
+    private static final JsonpKey KEY_REMOTE_CLUSTER_CLIENT = JsonpKey.of("remote_cluster_client");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TRANSFORM = JsonpKey.of("transform");
+    private static final JsonpKey KEY_VOTING_ONLY = JsonpKey.of("voting_only");
+    private static final JsonpKey KEY_WARM = JsonpKey.of("warm");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.clusterManager != null) {
-            generator.writeKey("cluster_manager");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_MANAGER);
             generator.write(this.clusterManager);
         }
 
-        generator.writeKey("coordinating_only");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_ONLY);
         generator.write(this.coordinatingOnly);
 
-        generator.writeKey("data");
+        JsonpUtils.writeKey(generator, KEY_DATA);
         generator.write(this.data);
 
         if (this.dataCold != null) {
-            generator.writeKey("data_cold");
+            JsonpUtils.writeKey(generator, KEY_DATA_COLD);
             generator.write(this.dataCold);
         }
 
         if (this.dataContent != null) {
-            generator.writeKey("data_content");
+            JsonpUtils.writeKey(generator, KEY_DATA_CONTENT);
             generator.write(this.dataContent);
         }
 
         if (this.dataFrozen != null) {
-            generator.writeKey("data_frozen");
+            JsonpUtils.writeKey(generator, KEY_DATA_FROZEN);
             generator.write(this.dataFrozen);
         }
 
         if (this.dataHot != null) {
-            generator.writeKey("data_hot");
+            JsonpUtils.writeKey(generator, KEY_DATA_HOT);
             generator.write(this.dataHot);
         }
 
         if (this.dataWarm != null) {
-            generator.writeKey("data_warm");
+            JsonpUtils.writeKey(generator, KEY_DATA_WARM);
             generator.write(this.dataWarm);
         }
 
-        generator.writeKey("ingest");
+        JsonpUtils.writeKey(generator, KEY_INGEST);
         generator.write(this.ingest);
 
-        generator.writeKey("master");
+        JsonpUtils.writeKey(generator, KEY_MASTER);
         generator.write(this.master);
 
         if (this.ml != null) {
-            generator.writeKey("ml");
+            JsonpUtils.writeKey(generator, KEY_ML);
             generator.write(this.ml);
         }
 
-        generator.writeKey("remote_cluster_client");
+        JsonpUtils.writeKey(generator, KEY_REMOTE_CLUSTER_CLIENT);
         generator.write(this.remoteClusterClient);
 
         if (this.search != null) {
-            generator.writeKey("search");
+            JsonpUtils.writeKey(generator, KEY_SEARCH);
             generator.write(this.search);
         }
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
 
         if (this.transform != null) {
-            generator.writeKey("transform");
+            JsonpUtils.writeKey(generator, KEY_TRANSFORM);
             generator.write(this.transform);
         }
 
         if (this.votingOnly != null) {
-            generator.writeKey("voting_only");
+            JsonpUtils.writeKey(generator, KEY_VOTING_ONLY);
             generator.write(this.votingOnly);
         }
 
         if (this.warm != null) {
-            generator.writeKey("warm");
+            JsonpUtils.writeKey(generator, KEY_WARM);
             generator.write(this.warm);
         }
     }
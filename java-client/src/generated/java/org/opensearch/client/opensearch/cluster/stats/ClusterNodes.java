@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -257,14 +259,27 @@ public class ClusterNodes implements PlainJsonSerializable, ToCopyableBuilder<Cl
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DISCOVERY_TYPES = JsonpKey.of("discovery_types");
+    private static final JsonpKey KEY_FS = JsonpKey.of("fs");
+    private static final JsonpKey KEY_INDEXING_PRESSURE = JsonpKey.of("indexing_pressure");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("ingest");
+    private static final JsonpKey KEY_JVM = JsonpKey.of("jvm");
+    private static final JsonpKey KEY_NETWORK_TYPES = JsonpKey.of("network_types");
+    private static final JsonpKey KEY_OS = JsonpKey.of("os");
+    private static final JsonpKey KEY_PACKAGING_TYPES = JsonpKey.of("packaging_types");
+    private static final JsonpKey KEY_PLUGINS = JsonpKey.of("plugins");
+    private static final JsonpKey KEY_PROCESS = JsonpKey.of("process");
+    private static final JsonpKey KEY_VERSIONS = JsonpKey.of("versions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             this.count.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.discoveryTypes)) {
-            generator.writeKey("discovery_types");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERY_TYPES);
             generator.writeStartObject();
             for (Map.Entry<String, Integer> item0 : this.discoveryTypes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -274,37 +289,37 @@ public class ClusterNodes implements PlainJsonSerializable, ToCopyableBuilder<Cl
         }
 
         if (this.fs != null) {
-            generator.writeKey("fs");
+            JsonpUtils.writeKey(generator, KEY_FS);
             this.fs.serialize(generator, mapper);
         }
 
         if (this.indexingPressure != null) {
-            generator.writeKey("indexing_pressure");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_PRESSURE);
             this.indexingPressure.serialize(generator, mapper);
         }
 
         if (this.ingest != null) {
-            generator.writeKey("ingest");
+            JsonpUtils.writeKey(generator, KEY_INGEST);
             this.ingest.serialize(generator, mapper);
         }
 
         if (this.jvm != null) {
-            generator.writeKey("jvm");
+            JsonpUtils.writeKey(generator, KEY_JVM);
             this.jvm.serialize(generator, mapper);
         }
 
         if (this.networkTypes != null) {
-            generator.writeKey("network_types");
+            JsonpUtils.writeKey(generator, KEY_NETWORK_TYPES);
             this.networkTypes.serialize(generator, mapper);
         }
 
         if (this.os != null) {
-            generator.writeKey("os");
+            JsonpUtils.writeKey(generator, KEY_OS);
             this.os.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.packagingTypes)) {
-            generator.writeKey("packaging_types");
+            JsonpUtils.writeKey(generator, KEY_PACKAGING_TYPES);
             generator.writeStartArray();
             for (NodePackagingType item0 : this.packagingTypes) {
                 item0.serialize(generator, mapper);
@@ -313,7 +328,7 @@ public class ClusterNodes implements PlainJsonSerializable, ToCopyableBuilder<Cl
         }
 
         if (ApiTypeHelper.isDefined(this.plugins)) {
-            generator.writeKey("plugins");
+            JsonpUtils.writeKey(generator, KEY_PLUGINS);
             generator.writeStartArray();
             for (PluginStats item0 : this.plugins) {
                 item0.serialize(generator, mapper);
@@ -322,12 +337,12 @@ public class ClusterNodes implements PlainJsonSerializable, ToCopyableBuilder<Cl
         }
 
         if (this.process != null) {
-            generator.writeKey("process");
+            JsonpUtils.writeKey(generator, KEY_PROCESS);
             this.process.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.versions)) {
-            generator.writeKey("versions");
+            JsonpUtils.writeKey(generator, KEY_VERSIONS);
             generator.writeStartArray();
             for (String item0 : this.versions) {
                 generator.write(item0);
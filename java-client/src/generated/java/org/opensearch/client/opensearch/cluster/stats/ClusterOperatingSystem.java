@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,12 +170,19 @@ public class ClusterOperatingSystem
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATED_PROCESSORS = JsonpKey.of("allocated_processors");
+    private static final JsonpKey KEY_ARCHITECTURES = JsonpKey.of("architectures");
+    private static final JsonpKey KEY_AVAILABLE_PROCESSORS = JsonpKey.of("available_processors");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_NAMES = JsonpKey.of("names");
+    private static final JsonpKey KEY_PRETTY_NAMES = JsonpKey.of("pretty_names");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("allocated_processors");
+        JsonpUtils.writeKey(generator, KEY_ALLOCATED_PROCESSORS);
         generator.write(this.allocatedProcessors);
 
         if (ApiTypeHelper.isDefined(this.architectures)) {
-            generator.writeKey("architectures");
+            JsonpUtils.writeKey(generator, KEY_ARCHITECTURES);
             generator.writeStartArray();
             for (ClusterOperatingSystemArchitecture item0 : this.architectures) {
                 item0.serialize(generator, mapper);
@@ -181,20 +190,20 @@ public class ClusterOperatingSystem
             generator.writeEnd();
         }
 
-        generator.writeKey("available_processors");
+        JsonpUtils.writeKey(generator, KEY_AVAILABLE_PROCESSORS);
         generator.write(this.availableProcessors);
 
-        generator.writeKey("mem");
+        JsonpUtils.writeKey(generator, KEY_MEM);
         this.mem.serialize(generator, mapper);
 
-        generator.writeKey("names");
+        JsonpUtils.writeKey(generator, KEY_NAMES);
         generator.writeStartArray();
         for (ClusterOperatingSystemName item0 : this.names) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("pretty_names");
+        JsonpUtils.writeKey(generator, KEY_PRETTY_NAMES);
         generator.writeStartArray();
         for (ClusterOperatingSystemPrettyName item0 : this.prettyNames) {
             item0.serialize(generator, mapper);
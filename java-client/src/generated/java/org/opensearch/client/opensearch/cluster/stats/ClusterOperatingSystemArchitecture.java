@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,11 +112,14 @@ public class ClusterOperatingSystemArchitecture
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ARCH = JsonpKey.of("arch");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("arch");
+        JsonpUtils.writeKey(generator, KEY_ARCH);
         generator.write(this.arch);
 
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -101,11 +103,14 @@ public class ClusterProcess implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_OPEN_FILE_DESCRIPTORS = JsonpKey.of("open_file_descriptors");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cpu");
+        JsonpUtils.writeKey(generator, KEY_CPU);
         this.cpu.serialize(generator, mapper);
 
-        generator.writeKey("open_file_descriptors");
+        JsonpUtils.writeKey(generator, KEY_OPEN_FILE_DESCRIPTORS);
         this.openFileDescriptors.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -132,22 +134,28 @@ public class ClusterProcessor implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TIME_IN_MILLIS = JsonpKey.of("time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
-        generator.writeKey("current");
+        JsonpUtils.writeKey(generator, KEY_CURRENT);
         generator.write(this.current);
 
-        generator.writeKey("failed");
+        JsonpUtils.writeKey(generator, KEY_FAILED);
         generator.write(this.failed);
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
-        generator.writeKey("time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_MILLIS);
         generator.write(this.timeInMillis);
     }
 
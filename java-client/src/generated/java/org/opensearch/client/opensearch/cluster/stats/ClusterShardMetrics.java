@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,14 +118,18 @@ public class ClusterShardMetrics implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVG = JsonpKey.of("avg");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("avg");
+        JsonpUtils.writeKey(generator, KEY_AVG);
         generator.write(this.avg);
 
-        generator.writeKey("max");
+        JsonpUtils.writeKey(generator, KEY_MAX);
         generator.write(this.max);
 
-        generator.writeKey("min");
+        JsonpUtils.writeKey(generator, KEY_MIN);
         generator.write(this.min);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,14 +116,18 @@ public class IndexingPressureMemory
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_LIMIT_IN_BYTES = JsonpKey.of("limit_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current");
+        JsonpUtils.writeKey(generator, KEY_CURRENT);
         this.current.serialize(generator, mapper);
 
-        generator.writeKey("limit_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_LIMIT_IN_BYTES);
         generator.write(this.limitInBytes);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         this.total.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -174,34 +176,45 @@ public class IndexingPressureMemorySummary
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALL_IN_BYTES = JsonpKey.of("all_in_bytes");
+    private static final JsonpKey KEY_COMBINED_COORDINATING_AND_PRIMARY_IN_BYTES = JsonpKey.of(
+        "combined_coordinating_and_primary_in_bytes"
+    );
+    private static final JsonpKey KEY_COORDINATING_IN_BYTES = JsonpKey.of("coordinating_in_bytes");
+    private static final JsonpKey KEY_COORDINATING_REJECTIONS = JsonpKey.of("coordinating_rejections");
+    private static final JsonpKey KEY_PRIMARY_IN_BYTES = JsonpKey.of("primary_in_bytes");
+    private static final JsonpKey KEY_PRIMARY_REJECTIONS = JsonpKey.of("primary_rejections");
+    private static final JsonpKey KEY_REPLICA_IN_BYTES = JsonpKey.of("replica_in_bytes");
+    private static final JsonpKey KEY_REPLICA_REJECTIONS = JsonpKey.of("replica_rejections");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("all_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_ALL_IN_BYTES);
         generator.write(this.allInBytes);
 
-        generator.writeKey("combined_coordinating_and_primary_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_COMBINED_COORDINATING_AND_PRIMARY_IN_BYTES);
         generator.write(this.combinedCoordinatingAndPrimaryInBytes);
 
-        generator.writeKey("coordinating_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_IN_BYTES);
         generator.write(this.coordinatingInBytes);
 
         if (this.coordinatingRejections != null) {
-            generator.writeKey("coordinating_rejections");
+            JsonpUtils.writeKey(generator, KEY_COORDINATING_REJECTIONS);
             generator.write(this.coordinatingRejections.doubleValue());
         }
 
-        generator.writeKey("primary_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_IN_BYTES);
         generator.write(this.primaryInBytes);
 
         if (this.primaryRejections != null) {
-            generator.writeKey("primary_rejections");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY_REJECTIONS);
             generator.write(this.primaryRejections.doubleValue());
         }
 
-        generator.writeKey("replica_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_REPLICA_IN_BYTES);
         generator.write(this.replicaInBytes);
 
         if (this.replicaRejections != null) {
-            generator.writeKey("replica_rejections");
+            JsonpUtils.writeKey(generator, KEY_REPLICA_REJECTIONS);
             generator.write(this.replicaRejections.doubleValue());
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,17 +121,22 @@ public class IndicesVersions implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX_COUNT = JsonpKey.of("index_count");
+    private static final JsonpKey KEY_PRIMARY_SHARD_COUNT = JsonpKey.of("primary_shard_count");
+    private static final JsonpKey KEY_TOTAL_PRIMARY_BYTES = JsonpKey.of("total_primary_bytes");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("index_count");
+        JsonpUtils.writeKey(generator, KEY_INDEX_COUNT);
         generator.write(this.indexCount);
 
-        generator.writeKey("primary_shard_count");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_SHARD_COUNT);
         generator.write(this.primaryShardCount);
 
-        generator.writeKey("total_primary_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_PRIMARY_BYTES);
         generator.write(this.totalPrimaryBytes);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
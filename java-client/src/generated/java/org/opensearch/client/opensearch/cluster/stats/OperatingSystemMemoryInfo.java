@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -209,40 +211,50 @@ public class OperatingSystemMemoryInfo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADJUSTED_TOTAL_IN_BYTES = JsonpKey.of("adjusted_total_in_bytes");
+    private static final JsonpKey KEY_FREE = JsonpKey.of("free");
+    private static final JsonpKey KEY_FREE_IN_BYTES = JsonpKey.of("free_in_bytes");
+    private static final JsonpKey KEY_FREE_PERCENT = JsonpKey.of("free_percent");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_IN_BYTES = JsonpKey.of("total_in_bytes");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_IN_BYTES = JsonpKey.of("used_in_bytes");
+    private static final JsonpKey KEY_USED_PERCENT = JsonpKey.of("used_percent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.adjustedTotalInBytes != null) {
-            generator.writeKey("adjusted_total_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_ADJUSTED_TOTAL_IN_BYTES);
             generator.write(this.adjustedTotalInBytes);
         }
 
         if (this.free != null) {
-            generator.writeKey("free");
+            JsonpUtils.writeKey(generator, KEY_FREE);
             generator.write(this.free);
         }
 
-        generator.writeKey("free_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_FREE_IN_BYTES);
         generator.write(this.freeInBytes);
 
-        generator.writeKey("free_percent");
+        JsonpUtils.writeKey(generator, KEY_FREE_PERCENT);
         generator.write(this.freePercent);
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
-        generator.writeKey("total_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_IN_BYTES);
         generator.write(this.totalInBytes);
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
-        generator.writeKey("used_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_USED_IN_BYTES);
         generator.write(this.usedInBytes);
 
-        generator.writeKey("used_percent");
+        JsonpUtils.writeKey(generator, KEY_USED_PERCENT);
         generator.write(this.usedPercent);
     }
 
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,9 +106,11 @@ public final class ClearScrollRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SCROLL_ID = JsonpKey.of("scroll_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.scrollId)) {
-            generator.writeKey("scroll_id");
+            JsonpUtils.writeKey(generator, KEY_SCROLL_ID);
             generator.writeStartArray();
             for (String item0 : this.scrollId) {
                 generator.write(item0);
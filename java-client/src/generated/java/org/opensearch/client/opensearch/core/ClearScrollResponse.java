@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,11 +99,14 @@ public class ClearScrollResponse implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUM_FREED = JsonpKey.of("num_freed");
+    private static final JsonpKey KEY_SUCCEEDED = JsonpKey.of("succeeded");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("num_freed");
+        JsonpUtils.writeKey(generator, KEY_NUM_FREED);
         generator.write(this.numFreed);
 
-        generator.writeKey("succeeded");
+        JsonpUtils.writeKey(generator, KEY_SUCCEEDED);
         generator.write(this.succeeded);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,15 +116,19 @@ public class CountResponse implements PlainJsonSerializable, ToCopyableBuilder<C
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_TERMINATED_EARLY = JsonpKey.of("terminated_early");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("count");
+        JsonpUtils.writeKey(generator, KEY_COUNT);
         generator.write(this.count);
 
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
 
         if (this.terminatedEarly != null) {
-            generator.writeKey("terminated_early");
+            JsonpUtils.writeKey(generator, KEY_TERMINATED_EARLY);
             generator.write(this.terminatedEarly);
         }
     }
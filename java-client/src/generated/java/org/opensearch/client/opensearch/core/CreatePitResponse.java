@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,19 +117,23 @@ public class CreatePitResponse implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATION_TIME = JsonpKey.of("creation_time");
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.creationTime != null) {
-            generator.writeKey("creation_time");
+            JsonpUtils.writeKey(generator, KEY_CREATION_TIME);
             generator.write(this.creationTime);
         }
 
         if (this.pitId != null) {
-            generator.writeKey("pit_id");
+            JsonpUtils.writeKey(generator, KEY_PIT_ID);
             generator.write(this.pitId);
         }
 
         if (this.shards != null) {
-            generator.writeKey("_shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
     }
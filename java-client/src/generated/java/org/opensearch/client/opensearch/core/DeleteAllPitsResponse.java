@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -96,9 +98,11 @@ public class DeleteAllPitsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PITS = JsonpKey.of("pits");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.pits)) {
-            generator.writeKey("pits");
+            JsonpUtils.writeKey(generator, KEY_PITS);
             generator.writeStartArray();
             for (DeletedPit item0 : this.pits) {
                 item0.serialize(generator, mapper);
@@ -45,7 +45,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,8 +104,10 @@ public final class DeletePitRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("pit_id");
+        JsonpUtils.writeKey(generator, KEY_PIT_ID);
         generator.writeStartArray();
         for (String item0 : this.pitId) {
             generator.write(item0);
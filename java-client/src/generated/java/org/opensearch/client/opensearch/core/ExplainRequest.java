@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -317,9 +319,11 @@ public final class ExplainRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             this.query.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.NamedDeserializer;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
@@ -145,24 +147,30 @@ public class ExplainResponse<TDocument>
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXPLANATION = JsonpKey.of("explanation");
+    private static final JsonpKey KEY_GET = JsonpKey.of("get");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_MATCHED = JsonpKey.of("matched");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.explanation != null) {
-            generator.writeKey("explanation");
+            JsonpUtils.writeKey(generator, KEY_EXPLANATION);
             this.explanation.serialize(generator, mapper);
         }
 
         if (this.get != null) {
-            generator.writeKey("get");
+            JsonpUtils.writeKey(generator, KEY_GET);
             this.get.serialize(generator, mapper);
         }
 
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("_index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("matched");
+        JsonpUtils.writeKey(generator, KEY_MATCHED);
         generator.write(this.matched);
     }
 
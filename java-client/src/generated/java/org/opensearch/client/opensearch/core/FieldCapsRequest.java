@@ -48,7 +48,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -198,9 +200,12 @@ public final class FieldCapsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_INDEX_FILTER = JsonpKey.of("index_filter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -209,7 +214,7 @@ public final class FieldCapsRequest extends RequestBase
         }
 
         if (this.indexFilter != null) {
-            generator.writeKey("index_filter");
+            JsonpUtils.writeKey(generator, KEY_INDEX_FILTER);
             this.indexFilter.serialize(generator, mapper);
         }
     }
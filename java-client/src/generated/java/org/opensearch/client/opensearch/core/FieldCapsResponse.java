@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,8 +106,11 @@ public class FieldCapsResponse implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("fields");
+        JsonpUtils.writeKey(generator, KEY_FIELDS);
         generator.writeStartObject();
         for (Map.Entry<String, Map<String, FieldCapability>> item0 : this.fields.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -118,7 +123,7 @@ public class FieldCapsResponse implements PlainJsonSerializable, ToCopyableBuild
         }
         generator.writeEnd();
 
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartArray();
         for (String item0 : this.indices) {
             generator.write(item0);
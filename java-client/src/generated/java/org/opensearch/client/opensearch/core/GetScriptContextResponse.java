@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -94,8 +96,10 @@ public class GetScriptContextResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("contexts");
+        JsonpUtils.writeKey(generator, KEY_CONTEXTS);
         generator.writeStartArray();
         for (Context item0 : this.contexts) {
             item0.serialize(generator, mapper);
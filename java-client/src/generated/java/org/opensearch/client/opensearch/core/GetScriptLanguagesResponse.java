@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,15 +110,18 @@ public class GetScriptLanguagesResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LANGUAGE_CONTEXTS = JsonpKey.of("language_contexts");
+    private static final JsonpKey KEY_TYPES_ALLOWED = JsonpKey.of("types_allowed");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("language_contexts");
+        JsonpUtils.writeKey(generator, KEY_LANGUAGE_CONTEXTS);
         generator.writeStartArray();
         for (LanguageContext item0 : this.languageContexts) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("types_allowed");
+        JsonpUtils.writeKey(generator, KEY_TYPES_ALLOWED);
         generator.writeStartArray();
         for (String item0 : this.typesAllowed) {
             generator.write(item0);
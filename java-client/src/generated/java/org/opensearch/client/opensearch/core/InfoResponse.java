@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,20 +140,26 @@ public class InfoResponse implements PlainJsonSerializable, ToCopyableBuilder<In
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_CLUSTER_UUID = JsonpKey.of("cluster_uuid");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TAGLINE = JsonpKey.of("tagline");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cluster_name");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
         generator.write(this.clusterName);
 
-        generator.writeKey("cluster_uuid");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_UUID);
         generator.write(this.clusterUuid);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("tagline");
+        JsonpUtils.writeKey(generator, KEY_TAGLINE);
         generator.write(this.tagline);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         this.version.serialize(generator, mapper);
     }
 
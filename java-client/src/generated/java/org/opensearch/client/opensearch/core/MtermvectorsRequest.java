@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -308,9 +310,12 @@ public final class MtermvectorsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOCS = JsonpKey.of("docs");
+    private static final JsonpKey KEY_IDS = JsonpKey.of("ids");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.docs)) {
-            generator.writeKey("docs");
+            JsonpUtils.writeKey(generator, KEY_DOCS);
             generator.writeStartArray();
             for (MultiTermVectorsOperation item0 : this.docs) {
                 item0.serialize(generator, mapper);
@@ -319,7 +324,7 @@ public final class MtermvectorsRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.ids)) {
-            generator.writeKey("ids");
+            JsonpUtils.writeKey(generator, KEY_IDS);
             generator.writeStartArray();
             for (String item0 : this.ids) {
                 generator.write(item0);
@@ -48,7 +48,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -202,13 +204,16 @@ public final class RankEvalRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_METRIC = JsonpKey.of("metric");
+    private static final JsonpKey KEY_REQUESTS = JsonpKey.of("requests");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.metric != null) {
-            generator.writeKey("metric");
+            JsonpUtils.writeKey(generator, KEY_METRIC);
             this.metric.serialize(generator, mapper);
         }
 
-        generator.writeKey("requests");
+        JsonpUtils.writeKey(generator, KEY_REQUESTS);
         generator.writeStartArray();
         for (RankEvalRequestItem item0 : this.requests) {
             item0.serialize(generator, mapper);
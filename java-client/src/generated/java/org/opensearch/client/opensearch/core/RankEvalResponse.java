@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,8 +122,12 @@ public class RankEvalResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DETAILS = JsonpKey.of("details");
+    private static final JsonpKey KEY_FAILURES = JsonpKey.of("failures");
+    private static final JsonpKey KEY_METRIC_SCORE = JsonpKey.of("metric_score");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("details");
+        JsonpUtils.writeKey(generator, KEY_DETAILS);
         generator.writeStartObject();
         for (Map.Entry<String, RankEvalMetricDetail> item0 : this.details.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -129,7 +135,7 @@ public class RankEvalResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
         generator.writeEnd();
 
-        generator.writeKey("failures");
+        JsonpUtils.writeKey(generator, KEY_FAILURES);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.failures.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -137,7 +143,7 @@ public class RankEvalResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
         generator.writeEnd();
 
-        generator.writeKey("metric_score");
+        JsonpUtils.writeKey(generator, KEY_METRIC_SCORE);
         generator.write(this.metricScore);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -293,31 +295,38 @@ public final class ReindexRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFLICTS = JsonpKey.of("conflicts");
+    private static final JsonpKey KEY_DEST = JsonpKey.of("dest");
+    private static final JsonpKey KEY_MAX_DOCS = JsonpKey.of("max_docs");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.conflicts != null) {
-            generator.writeKey("conflicts");
+            JsonpUtils.writeKey(generator, KEY_CONFLICTS);
             this.conflicts.serialize(generator, mapper);
         }
 
-        generator.writeKey("dest");
+        JsonpUtils.writeKey(generator, KEY_DEST);
         this.dest.serialize(generator, mapper);
 
         if (this.maxDocs != null) {
-            generator.writeKey("max_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOCS);
             generator.write(this.maxDocs);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         this.source.serialize(generator, mapper);
     }
 
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,9 +143,12 @@ public final class RenderSearchTemplateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -153,7 +158,7 @@ public final class RenderSearchTemplateRequest extends RequestBase
         }
 
         if (this.source != null) {
-            generator.writeKey("source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             generator.write(this.source);
         }
     }
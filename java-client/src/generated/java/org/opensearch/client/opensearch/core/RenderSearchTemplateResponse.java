@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -96,8 +98,10 @@ public class RenderSearchTemplateResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TEMPLATE_OUTPUT = JsonpKey.of("template_output");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("template_output");
+        JsonpUtils.writeKey(generator, KEY_TEMPLATE_OUTPUT);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.templateOutput.entrySet()) {
             generator.writeKey(item0.getKey());
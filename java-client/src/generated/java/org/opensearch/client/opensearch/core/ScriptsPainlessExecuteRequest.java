@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -133,19 +135,23 @@ public final class ScriptsPainlessExecuteRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXT = JsonpKey.of("context");
+    private static final JsonpKey KEY_CONTEXT_SETUP = JsonpKey.of("context_setup");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.context != null) {
-            generator.writeKey("context");
+            JsonpUtils.writeKey(generator, KEY_CONTEXT);
             generator.write(this.context);
         }
 
         if (this.contextSetup != null) {
-            generator.writeKey("context_setup");
+            JsonpUtils.writeKey(generator, KEY_CONTEXT_SETUP);
             this.contextSetup.serialize(generator, mapper);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
     }
@@ -43,6 +43,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -110,8 +111,10 @@ public class ScriptsPainlessExecuteResponse<TResult>
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_RESULT = JsonpKey.of("result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("result");
+        JsonpUtils.writeKey(generator, KEY_RESULT);
         JsonpUtils.serialize(this.result, generator, tResultSerializer, mapper);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,13 +118,16 @@ public final class ScrollRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SCROLL = JsonpKey.of("scroll");
+    private static final JsonpKey KEY_SCROLL_ID = JsonpKey.of("scroll_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.scroll != null) {
-            generator.writeKey("scroll");
+            JsonpUtils.writeKey(generator, KEY_SCROLL);
             this.scroll.serialize(generator, mapper);
         }
 
-        generator.writeKey("scroll_id");
+        JsonpUtils.writeKey(generator, KEY_SCROLL_ID);
         generator.write(this.scrollId);
     }
 
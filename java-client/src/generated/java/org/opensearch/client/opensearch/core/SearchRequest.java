@@ -49,7 +49,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -986,9 +988,44 @@ public final class SearchRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_COLLAPSE = JsonpKey.of("collapse");
+    private static final JsonpKey KEY_DERIVED = JsonpKey.of("derived");
+    private static final JsonpKey KEY_DOCVALUE_FIELDS = JsonpKey.of("docvalue_fields");
+    private static final JsonpKey KEY_EXPLAIN = JsonpKey.of("explain");
+    private static final JsonpKey KEY_EXT = JsonpKey.of("ext");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_INCLUDE_NAMED_QUERIES_SCORE = JsonpKey.of("include_named_queries_score");
+    private static final JsonpKey KEY_INDICES_BOOST = JsonpKey.of("indices_boost");
+    private static final JsonpKey KEY_MIN_SCORE = JsonpKey.of("min_score");
+    private static final JsonpKey KEY_PIT = JsonpKey.of("pit");
+    private static final JsonpKey KEY_POST_FILTER = JsonpKey.of("post_filter");
+    private static final JsonpKey KEY_PROFILE = JsonpKey.of("profile");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_RESCORE = JsonpKey.of("rescore");
+    private static final JsonpKey KEY_SCRIPT_FIELDS = JsonpKey.of("script_fields");
+    private static final JsonpKey KEY_SEARCH_AFTER = JsonpKey.of("search_after");
+    private static final JsonpKey KEY_SEARCH_PIPELINE = JsonpKey.of("search_pipeline");
+    private static final JsonpKey KEY_SEQ_NO_PRIMARY_TERM = JsonpKey.of("seq_no_primary_term");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SLICE = JsonpKey.of("slice");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+    private static final JsonpKey KEY_STORED_FIELDS = JsonpKey.of("stored_fields");
+    private static final JsonpKey KEY_SUGGEST = JsonpKey.of("suggest");
+    private static final JsonpKey KEY_TERMINATE_AFTER = JsonpKey.of("terminate_after");
+    private static final JsonpKey KEY_TIMEOUT = JsonpKey.of("timeout");
+    private static final JsonpKey KEY_TRACK_SCORES = JsonpKey.of("track_scores");
+    private static final JsonpKey KEY_TRACK_TOTAL_HITS = JsonpKey.of("track_total_hits");
+    private static final JsonpKey KEY_VERBOSE_PIPELINE = JsonpKey.of("verbose_pipeline");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Aggregation> item0 : this.aggregations.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -998,12 +1035,12 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.collapse != null) {
-            generator.writeKey("collapse");
+            JsonpUtils.writeKey(generator, KEY_COLLAPSE);
             this.collapse.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.derived)) {
-            generator.writeKey("derived");
+            JsonpUtils.writeKey(generator, KEY_DERIVED);
             generator.writeStartObject();
             for (Map.Entry<String, DerivedField> item0 : this.derived.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -1013,7 +1050,7 @@ public final class SearchRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.docvalueFields)) {
-            generator.writeKey("docvalue_fields");
+            JsonpUtils.writeKey(generator, KEY_DOCVALUE_FIELDS);
             generator.writeStartArray();
             for (FieldAndFormat item0 : this.docvalueFields) {
                 item0.serialize(generator, mapper);
@@ -1022,12 +1059,12 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.explain != null) {
-            generator.writeKey("explain");
+            JsonpUtils.writeKey(generator, KEY_EXPLAIN);
             generator.write(this.explain);
         }
 
         if (ApiTypeHelper.isDefined(this.ext)) {
-            generator.writeKey("ext");
+            JsonpUtils.writeKey(generator, KEY_EXT);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.ext.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -1037,7 +1074,7 @@ public final class SearchRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (FieldAndFormat item0 : this.fields) {
                 item0.serialize(generator, mapper);
@@ -1046,22 +1083,22 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.highlight != null) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             this.highlight.serialize(generator, mapper);
         }
 
         if (this.includeNamedQueriesScore != null) {
-            generator.writeKey("include_named_queries_score");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_NAMED_QUERIES_SCORE);
             generator.write(this.includeNamedQueriesScore);
         }
 
         if (ApiTypeHelper.isDefined(this.indicesBoost)) {
-            generator.writeKey("indices_boost");
+            JsonpUtils.writeKey(generator, KEY_INDICES_BOOST);
             generator.writeStartArray();
             for (Map<String, Float> item0 : this.indicesBoost) {
                 generator.writeStartObject();
@@ -1077,32 +1114,32 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.minScore != null) {
-            generator.writeKey("min_score");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE);
             generator.write(this.minScore);
         }
 
         if (this.pit != null) {
-            generator.writeKey("pit");
+            JsonpUtils.writeKey(generator, KEY_PIT);
             this.pit.serialize(generator, mapper);
         }
 
         if (this.postFilter != null) {
-            generator.writeKey("post_filter");
+            JsonpUtils.writeKey(generator, KEY_POST_FILTER);
             this.postFilter.serialize(generator, mapper);
         }
 
         if (this.profile != null) {
-            generator.writeKey("profile");
+            JsonpUtils.writeKey(generator, KEY_PROFILE);
             generator.write(this.profile);
         }
 
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             this.query.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.rescore)) {
-            generator.writeKey("rescore");
+            JsonpUtils.writeKey(generator, KEY_RESCORE);
             generator.writeStartArray();
             for (Rescore item0 : this.rescore) {
                 item0.serialize(generator, mapper);
@@ -1111,7 +1148,7 @@ public final class SearchRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.scriptFields)) {
-            generator.writeKey("script_fields");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, ScriptField> item0 : this.scriptFields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -1121,7 +1158,7 @@ public final class SearchRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.searchAfter)) {
-            generator.writeKey("search_after");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_AFTER);
             generator.writeStartArray();
             for (FieldValue item0 : this.searchAfter) {
                 item0.serialize(generator, mapper);
@@ -1130,27 +1167,27 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.searchPipeline != null) {
-            generator.writeKey("search_pipeline");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_PIPELINE);
             generator.write(this.searchPipeline);
         }
 
         if (this.seqNoPrimaryTerm != null) {
-            generator.writeKey("seq_no_primary_term");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_PRIMARY_TERM);
             generator.write(this.seqNoPrimaryTerm);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.slice != null) {
-            generator.writeKey("slice");
+            JsonpUtils.writeKey(generator, KEY_SLICE);
             this.slice.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (SortOptions item0 : this.sort) {
                 item0.serialize(generator, mapper);
@@ -1159,12 +1196,12 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             this.source.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.stats)) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             generator.writeStartArray();
             for (String item0 : this.stats) {
                 generator.write(item0);
@@ -1173,7 +1210,7 @@ public final class SearchRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.storedFields)) {
-            generator.writeKey("stored_fields");
+            JsonpUtils.writeKey(generator, KEY_STORED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.storedFields) {
                 generator.write(item0);
@@ -1182,37 +1219,37 @@ public final class SearchRequest extends RequestBase
         }
 
         if (this.suggest != null) {
-            generator.writeKey("suggest");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST);
             this.suggest.serialize(generator, mapper);
         }
 
         if (this.terminateAfter != null) {
-            generator.writeKey("terminate_after");
+            JsonpUtils.writeKey(generator, KEY_TERMINATE_AFTER);
             generator.write(this.terminateAfter);
         }
 
         if (this.timeout != null) {
-            generator.writeKey("timeout");
+            JsonpUtils.writeKey(generator, KEY_TIMEOUT);
             generator.write(this.timeout);
         }
 
         if (this.trackScores != null) {
-            generator.writeKey("track_scores");
+            JsonpUtils.writeKey(generator, KEY_TRACK_SCORES);
             generator.write(this.trackScores);
         }
 
         if (this.trackTotalHits != null) {
-            generator.writeKey("track_total_hits");
+            JsonpUtils.writeKey(generator, KEY_TRACK_TOTAL_HITS);
             this.trackTotalHits.serialize(generator, mapper);
         }
 
         if (this.verbosePipeline != null) {
-            generator.writeKey("verbose_pipeline");
+            JsonpUtils.writeKey(generator, KEY_VERBOSE_PIPELINE);
             generator.write(this.verbosePipeline);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
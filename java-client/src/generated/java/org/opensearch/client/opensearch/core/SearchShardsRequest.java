@@ -48,7 +48,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -216,9 +218,11 @@ public final class SearchShardsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SLICE = JsonpKey.of("slice");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.slice != null) {
-            generator.writeKey("slice");
+            JsonpUtils.writeKey(generator, KEY_SLICE);
             this.slice.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -118,8 +120,12 @@ public class SearchShardsResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartObject();
         for (Map.Entry<String, ShardStoreIndex> item0 : this.indices.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -127,7 +133,7 @@ public class SearchShardsResponse implements PlainJsonSerializable, ToCopyableBu
         }
         generator.writeEnd();
 
-        generator.writeKey("nodes");
+        JsonpUtils.writeKey(generator, KEY_NODES);
         generator.writeStartObject();
         for (Map.Entry<String, NodeAttributes> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -135,7 +141,7 @@ public class SearchShardsResponse implements PlainJsonSerializable, ToCopyableBu
         }
         generator.writeEnd();
 
-        generator.writeKey("shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         generator.writeStartArray();
         for (List<NodeShard> item0 : this.shards) {
             generator.writeStartArray();
@@ -49,7 +49,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -354,19 +356,25 @@ public final class SearchTemplateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXPLAIN = JsonpKey.of("explain");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_PROFILE = JsonpKey.of("profile");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.explain != null) {
-            generator.writeKey("explain");
+            JsonpUtils.writeKey(generator, KEY_EXPLAIN);
             generator.write(this.explain);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -376,12 +384,12 @@ public final class SearchTemplateRequest extends RequestBase
         }
 
         if (this.profile != null) {
-            generator.writeKey("profile");
+            JsonpUtils.writeKey(generator, KEY_PROFILE);
             generator.write(this.profile);
         }
 
         if (this.source != null) {
-            generator.writeKey("source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             generator.write(this.source);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.NamedDeserializer;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
@@ -85,10 +87,12 @@ public class SearchTemplateResponse<TDocument> extends SearchResult<TDocument>
         return this.status;
     }
 
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
     }
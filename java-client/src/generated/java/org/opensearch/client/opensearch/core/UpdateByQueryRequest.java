@@ -48,7 +48,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -674,29 +676,35 @@ public final class UpdateByQueryRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFLICTS = JsonpKey.of("conflicts");
+    private static final JsonpKey KEY_MAX_DOCS = JsonpKey.of("max_docs");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SLICE = JsonpKey.of("slice");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.conflicts != null) {
-            generator.writeKey("conflicts");
+            JsonpUtils.writeKey(generator, KEY_CONFLICTS);
             this.conflicts.serialize(generator, mapper);
         }
 
         if (this.maxDocs != null) {
-            generator.writeKey("max_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOCS);
             generator.write(this.maxDocs);
         }
 
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             this.query.serialize(generator, mapper);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.slice != null) {
-            generator.writeKey("slice");
+            JsonpUtils.writeKey(generator, KEY_SLICE);
             this.slice.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -112,9 +114,12 @@ public class UpdateByQueryRethrottleResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE_FAILURES = JsonpKey.of("node_failures");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.nodeFailures)) {
-            generator.writeKey("node_failures");
+            JsonpUtils.writeKey(generator, KEY_NODE_FAILURES);
             generator.writeStartArray();
             for (ErrorCause item0 : this.nodeFailures) {
                 item0.serialize(generator, mapper);
@@ -122,7 +127,7 @@ public class UpdateByQueryRethrottleResponse
             generator.writeEnd();
         }
 
-        generator.writeKey("nodes");
+        JsonpUtils.writeKey(generator, KEY_NODES);
         generator.writeStartObject();
         for (Map.Entry<String, UpdateByQueryRethrottleNode> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
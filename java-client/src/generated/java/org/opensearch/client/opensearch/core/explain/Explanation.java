@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,12 +116,16 @@ public class Explanation implements PlainJsonSerializable, ToCopyableBuilder<Exp
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_DETAILS = JsonpKey.of("details");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
         if (ApiTypeHelper.isDefined(this.details)) {
-            generator.writeKey("details");
+            JsonpUtils.writeKey(generator, KEY_DETAILS);
             generator.writeStartArray();
             for (Explanation item0 : this.details) {
                 item0.serialize(generator, mapper);
@@ -127,7 +133,7 @@ public class Explanation implements PlainJsonSerializable, ToCopyableBuilder<Exp
             generator.writeEnd();
         }
 
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         generator.write(this.value);
     }
 
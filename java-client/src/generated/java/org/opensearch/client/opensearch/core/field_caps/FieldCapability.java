@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -182,12 +184,21 @@ public class FieldCapability implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATABLE = JsonpKey.of("aggregatable");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_META = JsonpKey.of("meta");
+    private static final JsonpKey KEY_METADATA_FIELD = JsonpKey.of("metadata_field");
+    private static final JsonpKey KEY_NON_AGGREGATABLE_INDICES = JsonpKey.of("non_aggregatable_indices");
+    private static final JsonpKey KEY_NON_SEARCHABLE_INDICES = JsonpKey.of("non_searchable_indices");
+    private static final JsonpKey KEY_SEARCHABLE = JsonpKey.of("searchable");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("aggregatable");
+        JsonpUtils.writeKey(generator, KEY_AGGREGATABLE);
         generator.write(this.aggregatable);
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -196,7 +207,7 @@ public class FieldCapability implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -212,12 +223,12 @@ public class FieldCapability implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.metadataField != null) {
-            generator.writeKey("metadata_field");
+            JsonpUtils.writeKey(generator, KEY_METADATA_FIELD);
             generator.write(this.metadataField);
         }
 
         if (ApiTypeHelper.isDefined(this.nonAggregatableIndices)) {
-            generator.writeKey("non_aggregatable_indices");
+            JsonpUtils.writeKey(generator, KEY_NON_AGGREGATABLE_INDICES);
             generator.writeStartArray();
             for (String item0 : this.nonAggregatableIndices) {
                 generator.write(item0);
@@ -226,7 +237,7 @@ public class FieldCapability implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.nonSearchableIndices)) {
-            generator.writeKey("non_searchable_indices");
+            JsonpUtils.writeKey(generator, KEY_NON_SEARCHABLE_INDICES);
             generator.writeStartArray();
             for (String item0 : this.nonSearchableIndices) {
                 generator.write(item0);
@@ -234,10 +245,10 @@ public class FieldCapability implements PlainJsonSerializable, ToCopyableBuilder
             generator.writeEnd();
         }
 
-        generator.writeKey("searchable");
+        JsonpUtils.writeKey(generator, KEY_SEARCHABLE);
         generator.write(this.searchable);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
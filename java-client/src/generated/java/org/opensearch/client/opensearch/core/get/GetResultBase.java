@@ -44,6 +44,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -190,9 +191,19 @@ public abstract class GetResultBase<TDocument> implements PlainJsonSerializable
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FOUND = JsonpKey.of("found");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_PRIMARY_TERM = JsonpKey.of("_primary_term");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SEQ_NO = JsonpKey.of("_seq_no");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -201,37 +212,37 @@ public abstract class GetResultBase<TDocument> implements PlainJsonSerializable
             generator.writeEnd();
         }
 
-        generator.writeKey("found");
+        JsonpUtils.writeKey(generator, KEY_FOUND);
         generator.write(this.found);
 
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("_index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
         if (this.primaryTerm != null) {
-            generator.writeKey("_primary_term");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY_TERM);
             generator.write(this.primaryTerm);
         }
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.seqNo != null) {
-            generator.writeKey("_seq_no");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO);
             generator.write(this.seqNo);
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             JsonpUtils.serialize(this.source, generator, tDocumentSerializer, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("_version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
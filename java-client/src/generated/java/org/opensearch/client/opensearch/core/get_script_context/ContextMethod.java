@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,18 +116,22 @@ public class ContextMethod implements PlainJsonSerializable, ToCopyableBuilder<C
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_RETURN_TYPE = JsonpKey.of("return_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("params");
+        JsonpUtils.writeKey(generator, KEY_PARAMS);
         generator.writeStartArray();
         for (ContextMethodParam item0 : this.params) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("return_type");
+        JsonpUtils.writeKey(generator, KEY_RETURN_TYPE);
         generator.write(this.returnType);
     }
 
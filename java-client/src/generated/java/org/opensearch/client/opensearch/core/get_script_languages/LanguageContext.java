@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,15 +105,18 @@ public class LanguageContext implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+    private static final JsonpKey KEY_LANGUAGE = JsonpKey.of("language");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("contexts");
+        JsonpUtils.writeKey(generator, KEY_CONTEXTS);
         generator.writeStartArray();
         for (String item0 : this.contexts) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("language");
+        JsonpUtils.writeKey(generator, KEY_LANGUAGE);
         this.language.serialize(generator, mapper);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -261,19 +263,33 @@ public class MultiTermVectorsOperation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC = JsonpKey.of("doc");
+    private static final JsonpKey KEY_FIELD_STATISTICS = JsonpKey.of("field_statistics");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_OFFSETS = JsonpKey.of("offsets");
+    private static final JsonpKey KEY_PAYLOADS = JsonpKey.of("payloads");
+    private static final JsonpKey KEY_POSITIONS = JsonpKey.of("positions");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_TERM_STATISTICS = JsonpKey.of("term_statistics");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.doc != null) {
-            generator.writeKey("doc");
+            JsonpUtils.writeKey(generator, KEY_DOC);
             this.doc.serialize(generator, mapper);
         }
 
         if (this.fieldStatistics != null) {
-            generator.writeKey("field_statistics");
+            JsonpUtils.writeKey(generator, KEY_FIELD_STATISTICS);
             generator.write(this.fieldStatistics);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -282,50 +298,50 @@ public class MultiTermVectorsOperation
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
         if (this.index != null) {
-            generator.writeKey("_index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.offsets != null) {
-            generator.writeKey("offsets");
+            JsonpUtils.writeKey(generator, KEY_OFFSETS);
             generator.write(this.offsets);
         }
 
         if (this.payloads != null) {
-            generator.writeKey("payloads");
+            JsonpUtils.writeKey(generator, KEY_PAYLOADS);
             generator.write(this.payloads);
         }
 
         if (this.positions != null) {
-            generator.writeKey("positions");
+            JsonpUtils.writeKey(generator, KEY_POSITIONS);
             generator.write(this.positions);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.termStatistics != null) {
-            generator.writeKey("term_statistics");
+            JsonpUtils.writeKey(generator, KEY_TERM_STATISTICS);
             generator.write(this.termStatistics);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.versionType != null) {
-            generator.writeKey("version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -169,25 +171,33 @@ public class MultiTermVectorsResult
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_FOUND = JsonpKey.of("found");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_TERM_VECTORS = JsonpKey.of("term_vectors");
+    private static final JsonpKey KEY_TOOK = JsonpKey.of("took");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             this.error.serialize(generator, mapper);
         }
 
         if (this.found != null) {
-            generator.writeKey("found");
+            JsonpUtils.writeKey(generator, KEY_FOUND);
             generator.write(this.found);
         }
 
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("_index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
         if (ApiTypeHelper.isDefined(this.termVectors)) {
-            generator.writeKey("term_vectors");
+            JsonpUtils.writeKey(generator, KEY_TERM_VECTORS);
             generator.writeStartObject();
             for (Map.Entry<String, TermVector> item0 : this.termVectors.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -197,12 +207,12 @@ public class MultiTermVectorsResult
         }
 
         if (this.took != null) {
-            generator.writeKey("took");
+            JsonpUtils.writeKey(generator, KEY_TOOK);
             generator.write(this.took);
         }
 
         if (this.version != null) {
-            generator.writeKey("_version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,14 +104,17 @@ public class DeletedPit implements PlainJsonSerializable, ToCopyableBuilder<Dele
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+    private static final JsonpKey KEY_SUCCESSFUL = JsonpKey.of("successful");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.pitId != null) {
-            generator.writeKey("pit_id");
+            JsonpUtils.writeKey(generator, KEY_PIT_ID);
             generator.write(this.pitId);
         }
 
         if (this.successful != null) {
-            generator.writeKey("successful");
+            JsonpUtils.writeKey(generator, KEY_SUCCESSFUL);
             generator.write(this.successful);
         }
     }
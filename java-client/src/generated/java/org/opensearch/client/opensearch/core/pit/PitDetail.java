@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class PitDetail implements PlainJsonSerializable, ToCopyableBuilder<PitDe
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATION_TIME = JsonpKey.of("creation_time");
+    private static final JsonpKey KEY_KEEP_ALIVE = JsonpKey.of("keep_alive");
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.creationTime != null) {
-            generator.writeKey("creation_time");
+            JsonpUtils.writeKey(generator, KEY_CREATION_TIME);
             generator.write(this.creationTime);
         }
 
         if (this.keepAlive != null) {
-            generator.writeKey("keep_alive");
+            JsonpUtils.writeKey(generator, KEY_KEEP_ALIVE);
             generator.write(this.keepAlive);
         }
 
         if (this.pitId != null) {
-            generator.writeKey("pit_id");
+            JsonpUtils.writeKey(generator, KEY_PIT_ID);
             generator.write(this.pitId);
         }
     }
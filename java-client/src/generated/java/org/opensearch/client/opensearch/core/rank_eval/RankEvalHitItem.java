@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,12 +105,15 @@ public class RankEvalHitItem implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HIT = JsonpKey.of("hit");
+    private static final JsonpKey KEY_RATING = JsonpKey.of("rating");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("hit");
+        JsonpUtils.writeKey(generator, KEY_HIT);
         this.hit.serialize(generator, mapper);
 
         if (this.rating != null) {
-            generator.writeKey("rating");
+            JsonpUtils.writeKey(generator, KEY_RATING);
             generator.write(this.rating);
         }
     }
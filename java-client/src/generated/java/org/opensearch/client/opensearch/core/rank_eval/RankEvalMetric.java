@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,29 +140,35 @@ public class RankEvalMetric implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DCG = JsonpKey.of("dcg");
+    private static final JsonpKey KEY_EXPECTED_RECIPROCAL_RANK = JsonpKey.of("expected_reciprocal_rank");
+    private static final JsonpKey KEY_MEAN_RECIPROCAL_RANK = JsonpKey.of("mean_reciprocal_rank");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+    private static final JsonpKey KEY_RECALL = JsonpKey.of("recall");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.dcg != null) {
-            generator.writeKey("dcg");
+            JsonpUtils.writeKey(generator, KEY_DCG);
             this.dcg.serialize(generator, mapper);
         }
 
         if (this.expectedReciprocalRank != null) {
-            generator.writeKey("expected_reciprocal_rank");
+            JsonpUtils.writeKey(generator, KEY_EXPECTED_RECIPROCAL_RANK);
             this.expectedReciprocalRank.serialize(generator, mapper);
         }
 
         if (this.meanReciprocalRank != null) {
-            generator.writeKey("mean_reciprocal_rank");
+            JsonpUtils.writeKey(generator, KEY_MEAN_RECIPROCAL_RANK);
             this.meanReciprocalRank.serialize(generator, mapper);
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             this.precision.serialize(generator, mapper);
         }
 
         if (this.recall != null) {
-            generator.writeKey("recall");
+            JsonpUtils.writeKey(generator, KEY_RECALL);
             this.recall.serialize(generator, mapper);
         }
     }
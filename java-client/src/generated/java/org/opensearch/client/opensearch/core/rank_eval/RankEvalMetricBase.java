@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -82,9 +84,11 @@ public abstract class RankEvalMetricBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_K = JsonpKey.of("k");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.k != null) {
-            generator.writeKey("k");
+            JsonpUtils.writeKey(generator, KEY_K);
             generator.write(this.k);
         }
     }
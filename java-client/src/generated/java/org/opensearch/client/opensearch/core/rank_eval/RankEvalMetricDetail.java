@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,15 +143,20 @@ public class RankEvalMetricDetail implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HITS = JsonpKey.of("hits");
+    private static final JsonpKey KEY_METRIC_DETAILS = JsonpKey.of("metric_details");
+    private static final JsonpKey KEY_METRIC_SCORE = JsonpKey.of("metric_score");
+    private static final JsonpKey KEY_UNRATED_DOCS = JsonpKey.of("unrated_docs");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("hits");
+        JsonpUtils.writeKey(generator, KEY_HITS);
         generator.writeStartArray();
         for (RankEvalHitItem item0 : this.hits) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("metric_details");
+        JsonpUtils.writeKey(generator, KEY_METRIC_DETAILS);
         generator.writeStartObject();
         for (Map.Entry<String, Map<String, JsonData>> item0 : this.metricDetails.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -162,10 +169,10 @@ public class RankEvalMetricDetail implements PlainJsonSerializable, ToCopyableBu
         }
         generator.writeEnd();
 
-        generator.writeKey("metric_score");
+        JsonpUtils.writeKey(generator, KEY_METRIC_SCORE);
         generator.write(this.metricScore);
 
-        generator.writeKey("unrated_docs");
+        JsonpUtils.writeKey(generator, KEY_UNRATED_DOCS);
         generator.writeStartArray();
         for (UnratedDocument item0 : this.unratedDocs) {
             item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -87,10 +89,12 @@ public class RankEvalMetricDiscountedCumulativeGain extends RankEvalMetricBase
         return this.normalize;
     }
 
+    private static final JsonpKey KEY_NORMALIZE = JsonpKey.of("normalize");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.normalize != null) {
-            generator.writeKey("normalize");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZE);
             generator.write(this.normalize);
         }
     }
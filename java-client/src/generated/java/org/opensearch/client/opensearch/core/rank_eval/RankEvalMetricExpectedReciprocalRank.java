@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -83,9 +85,11 @@ public class RankEvalMetricExpectedReciprocalRank extends RankEvalMetricBase
         return this.maximumRelevance;
     }
 
+    private static final JsonpKey KEY_MAXIMUM_RELEVANCE = JsonpKey.of("maximum_relevance");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("maximum_relevance");
+        JsonpUtils.writeKey(generator, KEY_MAXIMUM_RELEVANCE);
         generator.write(this.maximumRelevance);
     }
 
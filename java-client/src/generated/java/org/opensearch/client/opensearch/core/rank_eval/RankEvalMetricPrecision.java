@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -85,10 +87,12 @@ public class RankEvalMetricPrecision extends RankEvalMetricRatingThreshold
         return this.ignoreUnlabeled;
     }
 
+    private static final JsonpKey KEY_IGNORE_UNLABELED = JsonpKey.of("ignore_unlabeled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.ignoreUnlabeled != null) {
-            generator.writeKey("ignore_unlabeled");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNLABELED);
             generator.write(this.ignoreUnlabeled);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: core.rank_eval.RankEvalMetricRatingThreshold
@@ -71,10 +73,12 @@ public abstract class RankEvalMetricRatingThreshold extends RankEvalMetricBase {
         return this.relevantRatingThreshold;
     }
 
+    private static final JsonpKey KEY_RELEVANT_RATING_THRESHOLD = JsonpKey.of("relevant_rating_threshold");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.relevantRatingThreshold != null) {
-            generator.writeKey("relevant_rating_threshold");
+            JsonpUtils.writeKey(generator, KEY_RELEVANT_RATING_THRESHOLD);
             generator.write(this.relevantRatingThreshold);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -148,12 +150,18 @@ public class RankEvalRequestItem implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_PARAMS = JsonpKey.of("params");
+    private static final JsonpKey KEY_RATINGS = JsonpKey.of("ratings");
+    private static final JsonpKey KEY_REQUEST = JsonpKey.of("request");
+    private static final JsonpKey KEY_TEMPLATE_ID = JsonpKey.of("template_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
         if (ApiTypeHelper.isDefined(this.params)) {
-            generator.writeKey("params");
+            JsonpUtils.writeKey(generator, KEY_PARAMS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.params.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -162,7 +170,7 @@ public class RankEvalRequestItem implements PlainJsonSerializable, ToCopyableBui
             generator.writeEnd();
         }
 
-        generator.writeKey("ratings");
+        JsonpUtils.writeKey(generator, KEY_RATINGS);
         generator.writeStartArray();
         for (DocumentRating item0 : this.ratings) {
             item0.serialize(generator, mapper);
@@ -170,12 +178,12 @@ public class RankEvalRequestItem implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
 
         if (this.request != null) {
-            generator.writeKey("request");
+            JsonpUtils.writeKey(generator, KEY_REQUEST);
             this.request.serialize(generator, mapper);
         }
 
         if (this.templateId != null) {
-            generator.writeKey("template_id");
+            JsonpUtils.writeKey(generator, KEY_TEMPLATE_ID);
             generator.write(this.templateId);
         }
     }
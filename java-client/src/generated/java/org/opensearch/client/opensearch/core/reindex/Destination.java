@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -144,27 +146,33 @@ public class Destination implements PlainJsonSerializable, ToCopyableBuilder<Des
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_OP_TYPE = JsonpKey.of("op_type");
+    private static final JsonpKey KEY_PIPELINE = JsonpKey.of("pipeline");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
         if (this.opType != null) {
-            generator.writeKey("op_type");
+            JsonpUtils.writeKey(generator, KEY_OP_TYPE);
             this.opType.serialize(generator, mapper);
         }
 
         if (this.pipeline != null) {
-            generator.writeKey("pipeline");
+            JsonpUtils.writeKey(generator, KEY_PIPELINE);
             generator.write(this.pipeline);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.versionType != null) {
-            generator.writeKey("version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
     }
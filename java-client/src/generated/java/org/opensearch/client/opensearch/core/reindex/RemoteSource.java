@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -156,14 +158,21 @@ public class RemoteSource implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECT_TIMEOUT = JsonpKey.of("connect_timeout");
+    private static final JsonpKey KEY_HEADERS = JsonpKey.of("headers");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_PASSWORD = JsonpKey.of("password");
+    private static final JsonpKey KEY_SOCKET_TIMEOUT = JsonpKey.of("socket_timeout");
+    private static final JsonpKey KEY_USERNAME = JsonpKey.of("username");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.connectTimeout != null) {
-            generator.writeKey("connect_timeout");
+            JsonpUtils.writeKey(generator, KEY_CONNECT_TIMEOUT);
             this.connectTimeout.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.headers)) {
-            generator.writeKey("headers");
+            JsonpUtils.writeKey(generator, KEY_HEADERS);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.headers.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -172,21 +181,21 @@ public class RemoteSource implements PlainJsonSerializable, ToCopyableBuilder<Re
             generator.writeEnd();
         }
 
-        generator.writeKey("host");
+        JsonpUtils.writeKey(generator, KEY_HOST);
         generator.write(this.host);
 
         if (this.password != null) {
-            generator.writeKey("password");
+            JsonpUtils.writeKey(generator, KEY_PASSWORD);
             generator.write(this.password);
         }
 
         if (this.socketTimeout != null) {
-            generator.writeKey("socket_timeout");
+            JsonpUtils.writeKey(generator, KEY_SOCKET_TIMEOUT);
             this.socketTimeout.serialize(generator, mapper);
         }
 
         if (this.username != null) {
-            generator.writeKey("username");
+            JsonpUtils.writeKey(generator, KEY_USERNAME);
             generator.write(this.username);
         }
     }
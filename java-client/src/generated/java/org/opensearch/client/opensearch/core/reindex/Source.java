@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -171,8 +173,16 @@ public class Source implements PlainJsonSerializable, ToCopyableBuilder<Source.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_REMOTE = JsonpKey.of("remote");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SLICE = JsonpKey.of("slice");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SOURCE_FIELDS = JsonpKey.of("_source");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.writeStartArray();
         for (String item0 : this.index) {
             generator.write(item0);
@@ -180,27 +190,27 @@ public class Source implements PlainJsonSerializable, ToCopyableBuilder<Source.B
         generator.writeEnd();
 
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             this.query.serialize(generator, mapper);
         }
 
         if (this.remote != null) {
-            generator.writeKey("remote");
+            JsonpUtils.writeKey(generator, KEY_REMOTE);
             this.remote.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.slice != null) {
-            generator.writeKey("slice");
+            JsonpUtils.writeKey(generator, KEY_SLICE);
             this.slice.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (SortOptions item0 : this.sort) {
                 item0.serialize(generator, mapper);
@@ -209,7 +219,7 @@ public class Source implements PlainJsonSerializable, ToCopyableBuilder<Source.B
         }
 
         if (ApiTypeHelper.isDefined(this.sourceFields)) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.sourceFields) {
                 generator.write(item0);
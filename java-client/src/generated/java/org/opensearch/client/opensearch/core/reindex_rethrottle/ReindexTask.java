@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -218,22 +220,35 @@ public class ReindexTask implements PlainJsonSerializable, ToCopyableBuilder<Rei
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTION = JsonpKey.of("action");
+    private static final JsonpKey KEY_CANCELLABLE = JsonpKey.of("cancellable");
+    private static final JsonpKey KEY_CANCELLED = JsonpKey.of("cancelled");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_HEADERS = JsonpKey.of("headers");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_RESOURCE_STATS = JsonpKey.of("resource_stats");
+    private static final JsonpKey KEY_RUNNING_TIME_IN_NANOS = JsonpKey.of("running_time_in_nanos");
+    private static final JsonpKey KEY_START_TIME_IN_MILLIS = JsonpKey.of("start_time_in_millis");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("action");
+        JsonpUtils.writeKey(generator, KEY_ACTION);
         generator.write(this.action);
 
-        generator.writeKey("cancellable");
+        JsonpUtils.writeKey(generator, KEY_CANCELLABLE);
         generator.write(this.cancellable);
 
         if (this.cancelled != null) {
-            generator.writeKey("cancelled");
+            JsonpUtils.writeKey(generator, KEY_CANCELLED);
             generator.write(this.cancelled);
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
-        generator.writeKey("headers");
+        JsonpUtils.writeKey(generator, KEY_HEADERS);
         generator.writeStartObject();
         for (Map.Entry<String, List<String>> item0 : this.headers.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -247,27 +262,27 @@ public class ReindexTask implements PlainJsonSerializable, ToCopyableBuilder<Rei
         }
         generator.writeEnd();
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("node");
+        JsonpUtils.writeKey(generator, KEY_NODE);
         generator.write(this.node);
 
         if (this.resourceStats != null) {
-            generator.writeKey("resource_stats");
+            JsonpUtils.writeKey(generator, KEY_RESOURCE_STATS);
             this.resourceStats.serialize(generator, mapper);
         }
 
-        generator.writeKey("running_time_in_nanos");
+        JsonpUtils.writeKey(generator, KEY_RUNNING_TIME_IN_NANOS);
         generator.write(this.runningTimeInNanos);
 
-        generator.writeKey("start_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_START_TIME_IN_MILLIS);
         generator.write(this.startTimeInMillis);
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
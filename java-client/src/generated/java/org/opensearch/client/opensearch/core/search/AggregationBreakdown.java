@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -203,45 +205,58 @@ public class AggregationBreakdown implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILD_AGGREGATION = JsonpKey.of("build_aggregation");
+    private static final JsonpKey KEY_BUILD_AGGREGATION_COUNT = JsonpKey.of("build_aggregation_count");
+    private static final JsonpKey KEY_BUILD_LEAF_COLLECTOR = JsonpKey.of("build_leaf_collector");
+    private static final JsonpKey KEY_BUILD_LEAF_COLLECTOR_COUNT = JsonpKey.of("build_leaf_collector_count");
+    private static final JsonpKey KEY_COLLECT = JsonpKey.of("collect");
+    private static final JsonpKey KEY_COLLECT_COUNT = JsonpKey.of("collect_count");
+    private static final JsonpKey KEY_INITIALIZE = JsonpKey.of("initialize");
+    private static final JsonpKey KEY_INITIALIZE_COUNT = JsonpKey.of("initialize_count");
+    private static final JsonpKey KEY_POST_COLLECTION = JsonpKey.of("post_collection");
+    private static final JsonpKey KEY_POST_COLLECTION_COUNT = JsonpKey.of("post_collection_count");
+    private static final JsonpKey KEY_REDUCE = JsonpKey.of("reduce");
+    private static final JsonpKey KEY_REDUCE_COUNT = JsonpKey.of("reduce_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("build_aggregation");
+        JsonpUtils.writeKey(generator, KEY_BUILD_AGGREGATION);
         generator.write(this.buildAggregation);
 
-        generator.writeKey("build_aggregation_count");
+        JsonpUtils.writeKey(generator, KEY_BUILD_AGGREGATION_COUNT);
         generator.write(this.buildAggregationCount);
 
-        generator.writeKey("build_leaf_collector");
+        JsonpUtils.writeKey(generator, KEY_BUILD_LEAF_COLLECTOR);
         generator.write(this.buildLeafCollector);
 
-        generator.writeKey("build_leaf_collector_count");
+        JsonpUtils.writeKey(generator, KEY_BUILD_LEAF_COLLECTOR_COUNT);
         generator.write(this.buildLeafCollectorCount);
 
-        generator.writeKey("collect");
+        JsonpUtils.writeKey(generator, KEY_COLLECT);
         generator.write(this.collect);
 
-        generator.writeKey("collect_count");
+        JsonpUtils.writeKey(generator, KEY_COLLECT_COUNT);
         generator.write(this.collectCount);
 
-        generator.writeKey("initialize");
+        JsonpUtils.writeKey(generator, KEY_INITIALIZE);
         generator.write(this.initialize);
 
-        generator.writeKey("initialize_count");
+        JsonpUtils.writeKey(generator, KEY_INITIALIZE_COUNT);
         generator.write(this.initializeCount);
 
         if (this.postCollection != null) {
-            generator.writeKey("post_collection");
+            JsonpUtils.writeKey(generator, KEY_POST_COLLECTION);
             generator.write(this.postCollection);
         }
 
         if (this.postCollectionCount != null) {
-            generator.writeKey("post_collection_count");
+            JsonpUtils.writeKey(generator, KEY_POST_COLLECTION_COUNT);
             generator.write(this.postCollectionCount);
         }
 
-        generator.writeKey("reduce");
+        JsonpUtils.writeKey(generator, KEY_REDUCE);
         generator.write(this.reduce);
 
-        generator.writeKey("reduce_count");
+        JsonpUtils.writeKey(generator, KEY_REDUCE_COUNT);
         generator.write(this.reduceCount);
     }
 
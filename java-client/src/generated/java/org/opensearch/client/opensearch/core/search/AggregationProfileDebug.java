@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -359,34 +361,58 @@ public class AggregationProfileDebug
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILT_BUCKETS = JsonpKey.of("built_buckets");
+    private static final JsonpKey KEY_CHARS_FETCHED = JsonpKey.of("chars_fetched");
+    private static final JsonpKey KEY_COLLECT_ANALYZED_COUNT = JsonpKey.of("collect_analyzed_count");
+    private static final JsonpKey KEY_COLLECT_ANALYZED_NS = JsonpKey.of("collect_analyzed_ns");
+    private static final JsonpKey KEY_COLLECTION_STRATEGY = JsonpKey.of("collection_strategy");
+    private static final JsonpKey KEY_DEFERRED_AGGREGATORS = JsonpKey.of("deferred_aggregators");
+    private static final JsonpKey KEY_DELEGATE = JsonpKey.of("delegate");
+    private static final JsonpKey KEY_DELEGATE_DEBUG = JsonpKey.of("delegate_debug");
+    private static final JsonpKey KEY_EMPTY_COLLECTORS_USED = JsonpKey.of("empty_collectors_used");
+    private static final JsonpKey KEY_EXTRACT_COUNT = JsonpKey.of("extract_count");
+    private static final JsonpKey KEY_EXTRACT_NS = JsonpKey.of("extract_ns");
+    private static final JsonpKey KEY_HAS_FILTER = JsonpKey.of("has_filter");
+    private static final JsonpKey KEY_MAP_REDUCER = JsonpKey.of("map_reducer");
+    private static final JsonpKey KEY_NUMERIC_COLLECTORS_USED = JsonpKey.of("numeric_collectors_used");
+    private static final JsonpKey KEY_ORDINALS_COLLECTORS_OVERHEAD_TOO_HIGH = JsonpKey.of("ordinals_collectors_overhead_too_high");
+    private static final JsonpKey KEY_ORDINALS_COLLECTORS_USED = JsonpKey.of("ordinals_collectors_used");
+    private static final JsonpKey KEY_RESULT_STRATEGY = JsonpKey.of("result_strategy");
+    private static final JsonpKey KEY_SEGMENTS_WITH_MULTI_VALUED_ORDS = JsonpKey.of("segments_with_multi_valued_ords");
+    private static final JsonpKey KEY_SEGMENTS_WITH_SINGLE_VALUED_ORDS = JsonpKey.of("segments_with_single_valued_ords");
+    private static final JsonpKey KEY_STRING_HASHING_COLLECTORS_USED = JsonpKey.of("string_hashing_collectors_used");
+    private static final JsonpKey KEY_SURVIVING_BUCKETS = JsonpKey.of("surviving_buckets");
+    private static final JsonpKey KEY_TOTAL_BUCKETS = JsonpKey.of("total_buckets");
+    private static final JsonpKey KEY_VALUES_FETCHED = JsonpKey.of("values_fetched");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.builtBuckets != null) {
-            generator.writeKey("built_buckets");
+            JsonpUtils.writeKey(generator, KEY_BUILT_BUCKETS);
             generator.write(this.builtBuckets);
         }
 
         if (this.charsFetched != null) {
-            generator.writeKey("chars_fetched");
+            JsonpUtils.writeKey(generator, KEY_CHARS_FETCHED);
             generator.write(this.charsFetched);
         }
 
         if (this.collectAnalyzedCount != null) {
-            generator.writeKey("collect_analyzed_count");
+            JsonpUtils.writeKey(generator, KEY_COLLECT_ANALYZED_COUNT);
             generator.write(this.collectAnalyzedCount);
         }
 
         if (this.collectAnalyzedNs != null) {
-            generator.writeKey("collect_analyzed_ns");
+            JsonpUtils.writeKey(generator, KEY_COLLECT_ANALYZED_NS);
             generator.write(this.collectAnalyzedNs);
         }
 
         if (this.collectionStrategy != null) {
-            generator.writeKey("collection_strategy");
+            JsonpUtils.writeKey(generator, KEY_COLLECTION_STRATEGY);
             generator.write(this.collectionStrategy);
         }
 
         if (ApiTypeHelper.isDefined(this.deferredAggregators)) {
-            generator.writeKey("deferred_aggregators");
+            JsonpUtils.writeKey(generator, KEY_DEFERRED_AGGREGATORS);
             generator.writeStartArray();
             for (String item0 : this.deferredAggregators) {
                 generator.write(item0);
@@ -395,87 +421,87 @@ public class AggregationProfileDebug
         }
 
         if (this.delegate != null) {
-            generator.writeKey("delegate");
+            JsonpUtils.writeKey(generator, KEY_DELEGATE);
             generator.write(this.delegate);
         }
 
         if (this.delegateDebug != null) {
-            generator.writeKey("delegate_debug");
+            JsonpUtils.writeKey(generator, KEY_DELEGATE_DEBUG);
             this.delegateDebug.serialize(generator, mapper);
         }
 
         if (this.emptyCollectorsUsed != null) {
-            generator.writeKey("empty_collectors_used");
+            JsonpUtils.writeKey(generator, KEY_EMPTY_COLLECTORS_USED);
             generator.write(this.emptyCollectorsUsed);
         }
 
         if (this.extractCount != null) {
-            generator.writeKey("extract_count");
+            JsonpUtils.writeKey(generator, KEY_EXTRACT_COUNT);
             generator.write(this.extractCount);
         }
 
         if (this.extractNs != null) {
-            generator.writeKey("extract_ns");
+            JsonpUtils.writeKey(generator, KEY_EXTRACT_NS);
             generator.write(this.extractNs);
         }
 
         if (this.hasFilter != null) {
-            generator.writeKey("has_filter");
+            JsonpUtils.writeKey(generator, KEY_HAS_FILTER);
             generator.write(this.hasFilter);
         }
 
         if (this.mapReducer != null) {
-            generator.writeKey("map_reducer");
+            JsonpUtils.writeKey(generator, KEY_MAP_REDUCER);
             generator.write(this.mapReducer);
         }
 
         if (this.numericCollectorsUsed != null) {
-            generator.writeKey("numeric_collectors_used");
+            JsonpUtils.writeKey(generator, KEY_NUMERIC_COLLECTORS_USED);
             generator.write(this.numericCollectorsUsed);
         }
 
         if (this.ordinalsCollectorsOverheadTooHigh != null) {
-            generator.writeKey("ordinals_collectors_overhead_too_high");
+            JsonpUtils.writeKey(generator, KEY_ORDINALS_COLLECTORS_OVERHEAD_TOO_HIGH);
             generator.write(this.ordinalsCollectorsOverheadTooHigh);
         }
 
         if (this.ordinalsCollectorsUsed != null) {
-            generator.writeKey("ordinals_collectors_used");
+            JsonpUtils.writeKey(generator, KEY_ORDINALS_COLLECTORS_USED);
             generator.write(this.ordinalsCollectorsUsed);
         }
 
         if (this.resultStrategy != null) {
-            generator.writeKey("result_strategy");
+            JsonpUtils.writeKey(generator, KEY_RESULT_STRATEGY);
             generator.write(this.resultStrategy);
         }
 
         if (this.segmentsWithMultiValuedOrds != null) {
-            generator.writeKey("segments_with_multi_valued_ords");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_WITH_MULTI_VALUED_ORDS);
             generator.write(this.segmentsWithMultiValuedOrds);
         }
 
         if (this.segmentsWithSingleValuedOrds != null) {
-            generator.writeKey("segments_with_single_valued_ords");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_WITH_SINGLE_VALUED_ORDS);
             generator.write(this.segmentsWithSingleValuedOrds);
         }
 
         if (this.stringHashingCollectorsUsed != null) {
-            generator.writeKey("string_hashing_collectors_used");
+            JsonpUtils.writeKey(generator, KEY_STRING_HASHING_COLLECTORS_USED);
             generator.write(this.stringHashingCollectorsUsed);
         }
 
         if (this.survivingBuckets != null) {
-            generator.writeKey("surviving_buckets");
+            JsonpUtils.writeKey(generator, KEY_SURVIVING_BUCKETS);
             generator.write(this.survivingBuckets);
         }
 
         if (this.totalBuckets != null) {
-            generator.writeKey("total_buckets");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_BUCKETS);
             generator.write(this.totalBuckets);
         }
 
         if (this.valuesFetched != null) {
-            generator.writeKey("values_fetched");
+            JsonpUtils.writeKey(generator, KEY_VALUES_FETCHED);
             generator.write(this.valuesFetched);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -145,9 +147,15 @@ public class AggregationProfileDelegateDebug
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILTERS = JsonpKey.of("filters");
+    private static final JsonpKey KEY_SEGMENTS_COLLECTED = JsonpKey.of("segments_collected");
+    private static final JsonpKey KEY_SEGMENTS_COUNTED = JsonpKey.of("segments_counted");
+    private static final JsonpKey KEY_SEGMENTS_WITH_DELETED_DOCS = JsonpKey.of("segments_with_deleted_docs");
+    private static final JsonpKey KEY_SEGMENTS_WITH_DOC_COUNT_FIELD = JsonpKey.of("segments_with_doc_count_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.filters)) {
-            generator.writeKey("filters");
+            JsonpUtils.writeKey(generator, KEY_FILTERS);
             generator.writeStartArray();
             for (AggregationProfileDelegateDebugFilter item0 : this.filters) {
                 item0.serialize(generator, mapper);
@@ -156,22 +164,22 @@ public class AggregationProfileDelegateDebug
         }
 
         if (this.segmentsCollected != null) {
-            generator.writeKey("segments_collected");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COLLECTED);
             generator.write(this.segmentsCollected);
         }
 
         if (this.segmentsCounted != null) {
-            generator.writeKey("segments_counted");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COUNTED);
             generator.write(this.segmentsCounted);
         }
 
         if (this.segmentsWithDeletedDocs != null) {
-            generator.writeKey("segments_with_deleted_docs");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_WITH_DELETED_DOCS);
             generator.write(this.segmentsWithDeletedDocs);
         }
 
         if (this.segmentsWithDocCountField != null) {
-            generator.writeKey("segments_with_doc_count_field");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_WITH_DOC_COUNT_FIELD);
             generator.write(this.segmentsWithDocCountField);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,24 +133,29 @@ public class AggregationProfileDelegateDebugFilter
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_RESULTS_FROM_METADATA = JsonpKey.of("results_from_metadata");
+    private static final JsonpKey KEY_SEGMENTS_COUNTED_IN_CONSTANT_TIME = JsonpKey.of("segments_counted_in_constant_time");
+    private static final JsonpKey KEY_SPECIALIZED_FOR = JsonpKey.of("specialized_for");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.query != null) {
-            generator.writeKey("query");
+            JsonpUtils.writeKey(generator, KEY_QUERY);
             generator.write(this.query);
         }
 
         if (this.resultsFromMetadata != null) {
-            generator.writeKey("results_from_metadata");
+            JsonpUtils.writeKey(generator, KEY_RESULTS_FROM_METADATA);
             generator.write(this.resultsFromMetadata);
         }
 
         if (this.segmentsCountedInConstantTime != null) {
-            generator.writeKey("segments_counted_in_constant_time");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_COUNTED_IN_CONSTANT_TIME);
             generator.write(this.segmentsCountedInConstantTime);
         }
 
         if (this.specializedFor != null) {
-            generator.writeKey("specialized_for");
+            JsonpUtils.writeKey(generator, KEY_SPECIALIZED_FOR);
             generator.write(this.specializedFor);
         }
     }
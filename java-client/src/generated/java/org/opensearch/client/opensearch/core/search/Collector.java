@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,9 +128,14 @@ public class Collector implements PlainJsonSerializable, ToCopyableBuilder<Colle
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHILDREN = JsonpKey.of("children");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_TIME_IN_NANOS = JsonpKey.of("time_in_nanos");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.children)) {
-            generator.writeKey("children");
+            JsonpUtils.writeKey(generator, KEY_CHILDREN);
             generator.writeStartArray();
             for (Collector item0 : this.children) {
                 item0.serialize(generator, mapper);
@@ -136,13 +143,13 @@ public class Collector implements PlainJsonSerializable, ToCopyableBuilder<Colle
             generator.writeEnd();
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("reason");
+        JsonpUtils.writeKey(generator, KEY_REASON);
         generator.write(this.reason);
 
-        generator.writeKey("time_in_nanos");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_NANOS);
         generator.write(this.timeInNanos);
     }
 
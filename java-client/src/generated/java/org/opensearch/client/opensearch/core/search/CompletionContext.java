@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,17 +143,23 @@ public class CompletionContext implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOOST = JsonpKey.of("boost");
+    private static final JsonpKey KEY_CONTEXT = JsonpKey.of("context");
+    private static final JsonpKey KEY_NEIGHBOURS = JsonpKey.of("neighbours");
+    private static final JsonpKey KEY_PRECISION = JsonpKey.of("precision");
+    private static final JsonpKey KEY_PREFIX = JsonpKey.of("prefix");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.boost != null) {
-            generator.writeKey("boost");
+            JsonpUtils.writeKey(generator, KEY_BOOST);
             generator.write(this.boost);
         }
 
-        generator.writeKey("context");
+        JsonpUtils.writeKey(generator, KEY_CONTEXT);
         this.context.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.neighbours)) {
-            generator.writeKey("neighbours");
+            JsonpUtils.writeKey(generator, KEY_NEIGHBOURS);
             generator.writeStartArray();
             for (GeoHashPrecision item0 : this.neighbours) {
                 item0.serialize(generator, mapper);
@@ -160,12 +168,12 @@ public class CompletionContext implements PlainJsonSerializable, ToCopyableBuild
         }
 
         if (this.precision != null) {
-            generator.writeKey("precision");
+            JsonpUtils.writeKey(generator, KEY_PRECISION);
             this.precision.serialize(generator, mapper);
         }
 
         if (this.prefix != null) {
-            generator.writeKey("prefix");
+            JsonpUtils.writeKey(generator, KEY_PREFIX);
             generator.write(this.prefix);
         }
     }
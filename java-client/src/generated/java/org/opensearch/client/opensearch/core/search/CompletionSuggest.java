@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -90,9 +92,11 @@ public class CompletionSuggest<TDocument> extends SuggestBase
         return this.options;
     }
 
+    private static final JsonpKey KEY_OPTIONS = JsonpKey.of("options");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("options");
+        JsonpUtils.writeKey(generator, KEY_OPTIONS);
         generator.writeStartArray();
         for (CompletionSuggestOption<TDocument> item0 : this.options) {
             item0.serialize(generator, mapper);
@@ -46,6 +46,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -207,14 +208,24 @@ public class CompletionSuggestOption<TDocument>
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLATE_MATCH = JsonpKey.of("collate_match");
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("_score");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.collateMatch != null) {
-            generator.writeKey("collate_match");
+            JsonpUtils.writeKey(generator, KEY_COLLATE_MATCH);
             generator.write(this.collateMatch);
         }
 
         if (ApiTypeHelper.isDefined(this.contexts)) {
-            generator.writeKey("contexts");
+            JsonpUtils.writeKey(generator, KEY_CONTEXTS);
             generator.writeStartObject();
             for (Map.Entry<String, List<Context>> item0 : this.contexts.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -230,7 +241,7 @@ public class CompletionSuggestOption<TDocument>
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -240,31 +251,31 @@ public class CompletionSuggestOption<TDocument>
         }
 
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("_index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.score != null) {
-            generator.writeKey("_score");
+            JsonpUtils.writeKey(generator, KEY_SCORE);
             generator.write(this.score);
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             JsonpUtils.serialize(this.source, generator, tDocumentSerializer, mapper);
         }
 
-        generator.writeKey("text");
+        JsonpUtils.writeKey(generator, KEY_TEXT);
         generator.write(this.text);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -129,10 +131,15 @@ public class CompletionSuggester extends SuggesterBase
         return this.skipDuplicates;
     }
 
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+    private static final JsonpKey KEY_FUZZY = JsonpKey.of("fuzzy");
+    private static final JsonpKey KEY_REGEX = JsonpKey.of("regex");
+    private static final JsonpKey KEY_SKIP_DUPLICATES = JsonpKey.of("skip_duplicates");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.contexts)) {
-            generator.writeKey("contexts");
+            JsonpUtils.writeKey(generator, KEY_CONTEXTS);
             generator.writeStartObject();
             for (Map.Entry<String, List<CompletionContext>> item0 : this.contexts.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -148,17 +155,17 @@ public class CompletionSuggester extends SuggesterBase
         }
 
         if (this.fuzzy != null) {
-            generator.writeKey("fuzzy");
+            JsonpUtils.writeKey(generator, KEY_FUZZY);
             this.fuzzy.serialize(generator, mapper);
         }
 
         if (this.regex != null) {
-            generator.writeKey("regex");
+            JsonpUtils.writeKey(generator, KEY_REGEX);
             generator.write(this.regex);
         }
 
         if (this.skipDuplicates != null) {
-            generator.writeKey("skip_duplicates");
+            JsonpUtils.writeKey(generator, KEY_SKIP_DUPLICATES);
             generator.write(this.skipDuplicates);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -212,57 +214,69 @@ public class DirectGenerator implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MAX_EDITS = JsonpKey.of("max_edits");
+    private static final JsonpKey KEY_MAX_INSPECTIONS = JsonpKey.of("max_inspections");
+    private static final JsonpKey KEY_MAX_TERM_FREQ = JsonpKey.of("max_term_freq");
+    private static final JsonpKey KEY_MIN_DOC_FREQ = JsonpKey.of("min_doc_freq");
+    private static final JsonpKey KEY_MIN_WORD_LENGTH = JsonpKey.of("min_word_length");
+    private static final JsonpKey KEY_POST_FILTER = JsonpKey.of("post_filter");
+    private static final JsonpKey KEY_PRE_FILTER = JsonpKey.of("pre_filter");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SUGGEST_MODE = JsonpKey.of("suggest_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.maxEdits != null) {
-            generator.writeKey("max_edits");
+            JsonpUtils.writeKey(generator, KEY_MAX_EDITS);
             generator.write(this.maxEdits);
         }
 
         if (this.maxInspections != null) {
-            generator.writeKey("max_inspections");
+            JsonpUtils.writeKey(generator, KEY_MAX_INSPECTIONS);
             generator.write(this.maxInspections);
         }
 
         if (this.maxTermFreq != null) {
-            generator.writeKey("max_term_freq");
+            JsonpUtils.writeKey(generator, KEY_MAX_TERM_FREQ);
             generator.write(this.maxTermFreq);
         }
 
         if (this.minDocFreq != null) {
-            generator.writeKey("min_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_FREQ);
             generator.write(this.minDocFreq);
         }
 
         if (this.minWordLength != null) {
-            generator.writeKey("min_word_length");
+            JsonpUtils.writeKey(generator, KEY_MIN_WORD_LENGTH);
             generator.write(this.minWordLength);
         }
 
         if (this.postFilter != null) {
-            generator.writeKey("post_filter");
+            JsonpUtils.writeKey(generator, KEY_POST_FILTER);
             generator.write(this.postFilter);
         }
 
         if (this.preFilter != null) {
-            generator.writeKey("pre_filter");
+            JsonpUtils.writeKey(generator, KEY_PRE_FILTER);
             generator.write(this.preFilter);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.suggestMode != null) {
-            generator.writeKey("suggest_mode");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_MODE);
             this.suggestMode.serialize(generator, mapper);
         }
     }
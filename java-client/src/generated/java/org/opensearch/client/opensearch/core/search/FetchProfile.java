@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,12 +152,19 @@ public class FetchProfile implements PlainJsonSerializable, ToCopyableBuilder<Fe
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BREAKDOWN = JsonpKey.of("breakdown");
+    private static final JsonpKey KEY_CHILDREN = JsonpKey.of("children");
+    private static final JsonpKey KEY_DEBUG = JsonpKey.of("debug");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_TIME_IN_NANOS = JsonpKey.of("time_in_nanos");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("breakdown");
+        JsonpUtils.writeKey(generator, KEY_BREAKDOWN);
         this.breakdown.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.children)) {
-            generator.writeKey("children");
+            JsonpUtils.writeKey(generator, KEY_CHILDREN);
             generator.writeStartArray();
             for (FetchProfile item0 : this.children) {
                 item0.serialize(generator, mapper);
@@ -164,17 +173,17 @@ public class FetchProfile implements PlainJsonSerializable, ToCopyableBuilder<Fe
         }
 
         if (this.debug != null) {
-            generator.writeKey("debug");
+            JsonpUtils.writeKey(generator, KEY_DEBUG);
             this.debug.serialize(generator, mapper);
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
-        generator.writeKey("time_in_nanos");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_NANOS);
         generator.write(this.timeInNanos);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,44 +179,53 @@ public class FetchProfileBreakdown
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOAD_SOURCE = JsonpKey.of("load_source");
+    private static final JsonpKey KEY_LOAD_SOURCE_COUNT = JsonpKey.of("load_source_count");
+    private static final JsonpKey KEY_LOAD_STORED_FIELDS = JsonpKey.of("load_stored_fields");
+    private static final JsonpKey KEY_LOAD_STORED_FIELDS_COUNT = JsonpKey.of("load_stored_fields_count");
+    private static final JsonpKey KEY_NEXT_READER = JsonpKey.of("next_reader");
+    private static final JsonpKey KEY_NEXT_READER_COUNT = JsonpKey.of("next_reader_count");
+    private static final JsonpKey KEY_PROCESS = JsonpKey.of("process");
+    private static final JsonpKey KEY_PROCESS_COUNT = JsonpKey.of("process_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.loadSource != null) {
-            generator.writeKey("load_source");
+            JsonpUtils.writeKey(generator, KEY_LOAD_SOURCE);
             generator.write(this.loadSource);
         }
 
         if (this.loadSourceCount != null) {
-            generator.writeKey("load_source_count");
+            JsonpUtils.writeKey(generator, KEY_LOAD_SOURCE_COUNT);
             generator.write(this.loadSourceCount);
         }
 
         if (this.loadStoredFields != null) {
-            generator.writeKey("load_stored_fields");
+            JsonpUtils.writeKey(generator, KEY_LOAD_STORED_FIELDS);
             generator.write(this.loadStoredFields);
         }
 
         if (this.loadStoredFieldsCount != null) {
-            generator.writeKey("load_stored_fields_count");
+            JsonpUtils.writeKey(generator, KEY_LOAD_STORED_FIELDS_COUNT);
             generator.write(this.loadStoredFieldsCount);
         }
 
         if (this.nextReader != null) {
-            generator.writeKey("next_reader");
+            JsonpUtils.writeKey(generator, KEY_NEXT_READER);
             generator.write(this.nextReader);
         }
 
         if (this.nextReaderCount != null) {
-            generator.writeKey("next_reader_count");
+            JsonpUtils.writeKey(generator, KEY_NEXT_READER_COUNT);
             generator.write(this.nextReaderCount);
         }
 
         if (this.process != null) {
-            generator.writeKey("process");
+            JsonpUtils.writeKey(generator, KEY_PROCESS);
             generator.write(this.process);
         }
 
         if (this.processCount != null) {
-            generator.writeKey("process_count");
+            JsonpUtils.writeKey(generator, KEY_PROCESS_COUNT);
             generator.write(this.processCount);
         }
     }
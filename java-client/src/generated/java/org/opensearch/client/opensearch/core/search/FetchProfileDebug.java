@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,14 +106,17 @@ public class FetchProfileDebug implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAST_PATH = JsonpKey.of("fast_path");
+    private static final JsonpKey KEY_STORED_FIELDS = JsonpKey.of("stored_fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.fastPath != null) {
-            generator.writeKey("fast_path");
+            JsonpUtils.writeKey(generator, KEY_FAST_PATH);
             generator.write(this.fastPath);
         }
 
         if (ApiTypeHelper.isDefined(this.storedFields)) {
-            generator.writeKey("stored_fields");
+            JsonpUtils.writeKey(generator, KEY_STORED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.storedFields) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,12 +124,16 @@ public class FieldCollapse implements PlainJsonSerializable, ToCopyableBuilder<F
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_INNER_HITS = JsonpKey.of("inner_hits");
+    private static final JsonpKey KEY_MAX_CONCURRENT_GROUP_SEARCHES = JsonpKey.of("max_concurrent_group_searches");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (ApiTypeHelper.isDefined(this.innerHits)) {
-            generator.writeKey("inner_hits");
+            JsonpUtils.writeKey(generator, KEY_INNER_HITS);
             generator.writeStartArray();
             for (InnerHits item0 : this.innerHits) {
                 item0.serialize(generator, mapper);
@@ -136,7 +142,7 @@ public class FieldCollapse implements PlainJsonSerializable, ToCopyableBuilder<F
         }
 
         if (this.maxConcurrentGroupSearches != null) {
-            generator.writeKey("max_concurrent_group_searches");
+            JsonpUtils.writeKey(generator, KEY_MAX_CONCURRENT_GROUP_SEARCHES);
             generator.write(this.maxConcurrentGroupSearches);
         }
     }
@@ -45,8 +45,10 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonEnum;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -70,9 +72,11 @@ public class FieldSuggester implements TaggedUnion<FieldSuggester.Kind, FieldSug
         Term("term");
 
         private final String jsonValue;
+        private final JsonpKey jsonKey;
 
         Kind(String jsonValue) {
             this.jsonValue = jsonValue;
+            this.jsonKey = JsonpKey.of(jsonValue);
         }
 
         @Override
@@ -195,24 +199,28 @@ public class FieldSuggester implements TaggedUnion<FieldSuggester.Kind, FieldSug
         return TaggedUnionUtils.get(this, Kind.Term);
     }
 
+    private static final JsonpKey KEY_PREFIX = JsonpKey.of("prefix");
+    private static final JsonpKey KEY_REGEX = JsonpKey.of("regex");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     @Override
     public void serialize(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject();
         if (this.prefix != null) {
-            generator.writeKey("prefix");
+            JsonpUtils.writeKey(generator, KEY_PREFIX);
             generator.write(this.prefix);
         }
 
         if (this.regex != null) {
-            generator.writeKey("regex");
+            JsonpUtils.writeKey(generator, KEY_REGEX);
             generator.write(this.regex);
         }
 
         if (this.text != null) {
-            generator.writeKey("text");
+            JsonpUtils.writeKey(generator, KEY_TEXT);
             generator.write(this.text);
         }
-        generator.writeKey(_kind.jsonValue());
+        JsonpUtils.writeKey(generator, _kind.jsonKey);
         if (_value instanceof JsonpSerializable) {
             ((JsonpSerializable) _value).serialize(generator, mapper);
         }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -93,14 +95,17 @@ public class Highlight extends HighlightBase implements ToCopyableBuilder<Highli
         return this.fields;
     }
 
+    private static final JsonpKey KEY_ENCODER = JsonpKey.of("encoder");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.encoder != null) {
-            generator.writeKey("encoder");
+            JsonpUtils.writeKey(generator, KEY_ENCODER);
             this.encoder.serialize(generator, mapper);
         }
 
-        generator.writeKey("fields");
+        JsonpUtils.writeKey(generator, KEY_FIELDS);
         generator.writeStartArray();
         for (HighlightField item0 : this.fields) {
             item0.serialize(generator, mapper);
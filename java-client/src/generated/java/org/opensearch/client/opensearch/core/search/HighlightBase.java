@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.query_dsl.Query;
@@ -383,79 +385,102 @@ public abstract class HighlightBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOUNDARY_CHARS = JsonpKey.of("boundary_chars");
+    private static final JsonpKey KEY_BOUNDARY_MAX_SCAN = JsonpKey.of("boundary_max_scan");
+    private static final JsonpKey KEY_BOUNDARY_SCANNER = JsonpKey.of("boundary_scanner");
+    private static final JsonpKey KEY_BOUNDARY_SCANNER_LOCALE = JsonpKey.of("boundary_scanner_locale");
+    private static final JsonpKey KEY_FORCE_SOURCE = JsonpKey.of("force_source");
+    private static final JsonpKey KEY_FRAGMENT_OFFSET = JsonpKey.of("fragment_offset");
+    private static final JsonpKey KEY_FRAGMENT_SIZE = JsonpKey.of("fragment_size");
+    private static final JsonpKey KEY_FRAGMENTER = JsonpKey.of("fragmenter");
+    private static final JsonpKey KEY_HIGHLIGHT_FILTER = JsonpKey.of("highlight_filter");
+    private static final JsonpKey KEY_HIGHLIGHT_QUERY = JsonpKey.of("highlight_query");
+    private static final JsonpKey KEY_MAX_ANALYZER_OFFSET = JsonpKey.of("max_analyzer_offset");
+    private static final JsonpKey KEY_MAX_FRAGMENT_LENGTH = JsonpKey.of("max_fragment_length");
+    private static final JsonpKey KEY_NO_MATCH_SIZE = JsonpKey.of("no_match_size");
+    private static final JsonpKey KEY_NUMBER_OF_FRAGMENTS = JsonpKey.of("number_of_fragments");
+    private static final JsonpKey KEY_OPTIONS = JsonpKey.of("options");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_PHRASE_LIMIT = JsonpKey.of("phrase_limit");
+    private static final JsonpKey KEY_POST_TAGS = JsonpKey.of("post_tags");
+    private static final JsonpKey KEY_PRE_TAGS = JsonpKey.of("pre_tags");
+    private static final JsonpKey KEY_REQUIRE_FIELD_MATCH = JsonpKey.of("require_field_match");
+    private static final JsonpKey KEY_TAGS_SCHEMA = JsonpKey.of("tags_schema");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.boundaryChars != null) {
-            generator.writeKey("boundary_chars");
+            JsonpUtils.writeKey(generator, KEY_BOUNDARY_CHARS);
             generator.write(this.boundaryChars);
         }
 
         if (this.boundaryMaxScan != null) {
-            generator.writeKey("boundary_max_scan");
+            JsonpUtils.writeKey(generator, KEY_BOUNDARY_MAX_SCAN);
             generator.write(this.boundaryMaxScan);
         }
 
         if (this.boundaryScanner != null) {
-            generator.writeKey("boundary_scanner");
+            JsonpUtils.writeKey(generator, KEY_BOUNDARY_SCANNER);
             this.boundaryScanner.serialize(generator, mapper);
         }
 
         if (this.boundaryScannerLocale != null) {
-            generator.writeKey("boundary_scanner_locale");
+            JsonpUtils.writeKey(generator, KEY_BOUNDARY_SCANNER_LOCALE);
             generator.write(this.boundaryScannerLocale);
         }
 
         if (this.forceSource != null) {
-            generator.writeKey("force_source");
+            JsonpUtils.writeKey(generator, KEY_FORCE_SOURCE);
             generator.write(this.forceSource);
         }
 
         if (this.fragmentOffset != null) {
-            generator.writeKey("fragment_offset");
+            JsonpUtils.writeKey(generator, KEY_FRAGMENT_OFFSET);
             generator.write(this.fragmentOffset);
         }
 
         if (this.fragmentSize != null) {
-            generator.writeKey("fragment_size");
+            JsonpUtils.writeKey(generator, KEY_FRAGMENT_SIZE);
             generator.write(this.fragmentSize);
         }
 
         if (this.fragmenter != null) {
-            generator.writeKey("fragmenter");
+            JsonpUtils.writeKey(generator, KEY_FRAGMENTER);
             this.fragmenter.serialize(generator, mapper);
         }
 
         if (this.highlightFilter != null) {
-            generator.writeKey("highlight_filter");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT_FILTER);
             generator.write(this.highlightFilter);
         }
 
         if (this.highlightQuery != null) {
-            generator.writeKey("highlight_query");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT_QUERY);
             this.highlightQuery.serialize(generator, mapper);
         }
 
         if (this.maxAnalyzerOffset != null) {
-            generator.writeKey("max_analyzer_offset");
+            JsonpUtils.writeKey(generator, KEY_MAX_ANALYZER_OFFSET);
             generator.write(this.maxAnalyzerOffset);
         }
 
         if (this.maxFragmentLength != null) {
-            generator.writeKey("max_fragment_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_FRAGMENT_LENGTH);
             generator.write(this.maxFragmentLength);
         }
 
         if (this.noMatchSize != null) {
-            generator.writeKey("no_match_size");
+            JsonpUtils.writeKey(generator, KEY_NO_MATCH_SIZE);
             generator.write(this.noMatchSize);
         }
 
         if (this.numberOfFragments != null) {
-            generator.writeKey("number_of_fragments");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_FRAGMENTS);
             generator.write(this.numberOfFragments);
         }
 
         if (ApiTypeHelper.isDefined(this.options)) {
-            generator.writeKey("options");
+            JsonpUtils.writeKey(generator, KEY_OPTIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Map<String, JsonData>> item0 : this.options.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -470,17 +495,17 @@ public abstract class HighlightBase implements PlainJsonSerializable {
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
 
         if (this.phraseLimit != null) {
-            generator.writeKey("phrase_limit");
+            JsonpUtils.writeKey(generator, KEY_PHRASE_LIMIT);
             generator.write(this.phraseLimit);
         }
 
         if (ApiTypeHelper.isDefined(this.postTags)) {
-            generator.writeKey("post_tags");
+            JsonpUtils.writeKey(generator, KEY_POST_TAGS);
             generator.writeStartArray();
             for (String item0 : this.postTags) {
                 generator.write(item0);
@@ -489,7 +514,7 @@ public abstract class HighlightBase implements PlainJsonSerializable {
         }
 
         if (ApiTypeHelper.isDefined(this.preTags)) {
-            generator.writeKey("pre_tags");
+            JsonpUtils.writeKey(generator, KEY_PRE_TAGS);
             generator.writeStartArray();
             for (String item0 : this.preTags) {
                 generator.write(item0);
@@ -498,17 +523,17 @@ public abstract class HighlightBase implements PlainJsonSerializable {
         }
 
         if (this.requireFieldMatch != null) {
-            generator.writeKey("require_field_match");
+            JsonpUtils.writeKey(generator, KEY_REQUIRE_FIELD_MATCH);
             generator.write(this.requireFieldMatch);
         }
 
         if (this.tagsSchema != null) {
-            generator.writeKey("tags_schema");
+            JsonpUtils.writeKey(generator, KEY_TAGS_SCHEMA);
             this.tagsSchema.serialize(generator, mapper);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
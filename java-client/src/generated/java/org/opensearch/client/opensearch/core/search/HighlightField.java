@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -93,11 +95,13 @@ public class HighlightField extends HighlightBase implements ToCopyableBuilder<H
         return this.matchedFields;
     }
 
+    private static final JsonpKey KEY_MATCHED_FIELDS = JsonpKey.of("matched_fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         generator.writeStartObject(this.key);
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.matchedFields)) {
-            generator.writeKey("matched_fields");
+            JsonpUtils.writeKey(generator, KEY_MATCHED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.matchedFields) {
                 generator.write(item0);
@@ -47,6 +47,7 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
 import org.opensearch.client.json.JsonpUtils;
@@ -341,18 +342,38 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXPLANATION = JsonpKey.of("_explanation");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_IGNORED = JsonpKey.of("_ignored");
+    private static final JsonpKey KEY_IGNORED_FIELD_VALUES = JsonpKey.of("ignored_field_values");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_INNER_HITS = JsonpKey.of("inner_hits");
+    private static final JsonpKey KEY_MATCHED_QUERIES = JsonpKey.of("matched_queries");
+    private static final JsonpKey KEY_NESTED = JsonpKey.of("_nested");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("_node");
+    private static final JsonpKey KEY_PRIMARY_TERM = JsonpKey.of("_primary_term");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("_score");
+    private static final JsonpKey KEY_SEQ_NO = JsonpKey.of("_seq_no");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("_shard");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metaFields.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.explanation != null) {
-            generator.writeKey("_explanation");
+            JsonpUtils.writeKey(generator, KEY_EXPLANATION);
             this.explanation.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.fields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -362,7 +383,7 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.highlight)) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.highlight.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -378,12 +399,12 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (ApiTypeHelper.isDefined(this.ignored)) {
-            generator.writeKey("_ignored");
+            JsonpUtils.writeKey(generator, KEY_IGNORED);
             generator.writeStartArray();
             for (String item0 : this.ignored) {
                 generator.write(item0);
@@ -392,7 +413,7 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.ignoredFieldValues)) {
-            generator.writeKey("ignored_field_values");
+            JsonpUtils.writeKey(generator, KEY_IGNORED_FIELD_VALUES);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.ignoredFieldValues.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -408,12 +429,12 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.index != null) {
-            generator.writeKey("_index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (ApiTypeHelper.isDefined(this.innerHits)) {
-            generator.writeKey("inner_hits");
+            JsonpUtils.writeKey(generator, KEY_INNER_HITS);
             generator.writeStartObject();
             for (Map.Entry<String, InnerHitsResult> item0 : this.innerHits.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -423,47 +444,47 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.matchedQueries != null) {
-            generator.writeKey("matched_queries");
+            JsonpUtils.writeKey(generator, KEY_MATCHED_QUERIES);
             this.matchedQueries.serialize(generator, mapper);
         }
 
         if (this.nested != null) {
-            generator.writeKey("_nested");
+            JsonpUtils.writeKey(generator, KEY_NESTED);
             this.nested.serialize(generator, mapper);
         }
 
         if (this.node != null) {
-            generator.writeKey("_node");
+            JsonpUtils.writeKey(generator, KEY_NODE);
             generator.write(this.node);
         }
 
         if (this.primaryTerm != null) {
-            generator.writeKey("_primary_term");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY_TERM);
             generator.write(this.primaryTerm);
         }
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.score != null) {
-            generator.writeKey("_score");
+            JsonpUtils.writeKey(generator, KEY_SCORE);
             generator.write(this.score);
         }
 
         if (this.seqNo != null) {
-            generator.writeKey("_seq_no");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO);
             generator.write(this.seqNo);
         }
 
         if (this.shard != null) {
-            generator.writeKey("_shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (FieldValue item0 : this.sort) {
                 item0.serialize(generator, mapper);
@@ -472,12 +493,12 @@ public class Hit<TDocument> implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             JsonpUtils.serialize(this.source, generator, tDocumentSerializer, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("_version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
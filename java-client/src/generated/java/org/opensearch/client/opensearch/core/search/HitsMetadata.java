@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,8 +124,12 @@ public class HitsMetadata<TDocument>
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HITS = JsonpKey.of("hits");
+    private static final JsonpKey KEY_MAX_SCORE = JsonpKey.of("max_score");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("hits");
+        JsonpUtils.writeKey(generator, KEY_HITS);
         generator.writeStartArray();
         for (Hit<TDocument> item0 : this.hits) {
             item0.serialize(generator, mapper);
@@ -131,12 +137,12 @@ public class HitsMetadata<TDocument>
         generator.writeEnd();
 
         if (this.maxScore != null) {
-            generator.writeKey("max_score");
+            JsonpUtils.writeKey(generator, KEY_MAX_SCORE);
             generator.write(this.maxScore);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -282,14 +284,31 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLAPSE = JsonpKey.of("collapse");
+    private static final JsonpKey KEY_DOCVALUE_FIELDS = JsonpKey.of("docvalue_fields");
+    private static final JsonpKey KEY_EXPLAIN = JsonpKey.of("explain");
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_FROM = JsonpKey.of("from");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_IGNORE_UNMAPPED = JsonpKey.of("ignore_unmapped");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_SCRIPT_FIELDS = JsonpKey.of("script_fields");
+    private static final JsonpKey KEY_SEQ_NO_PRIMARY_TERM = JsonpKey.of("seq_no_primary_term");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_STORED_FIELDS = JsonpKey.of("stored_fields");
+    private static final JsonpKey KEY_TRACK_SCORES = JsonpKey.of("track_scores");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.collapse != null) {
-            generator.writeKey("collapse");
+            JsonpUtils.writeKey(generator, KEY_COLLAPSE);
             this.collapse.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.docvalueFields)) {
-            generator.writeKey("docvalue_fields");
+            JsonpUtils.writeKey(generator, KEY_DOCVALUE_FIELDS);
             generator.writeStartArray();
             for (FieldAndFormat item0 : this.docvalueFields) {
                 item0.serialize(generator, mapper);
@@ -298,12 +317,12 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         }
 
         if (this.explain != null) {
-            generator.writeKey("explain");
+            JsonpUtils.writeKey(generator, KEY_EXPLAIN);
             generator.write(this.explain);
         }
 
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (FieldAndFormat item0 : this.fields) {
                 item0.serialize(generator, mapper);
@@ -312,27 +331,27 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         }
 
         if (this.from != null) {
-            generator.writeKey("from");
+            JsonpUtils.writeKey(generator, KEY_FROM);
             generator.write(this.from);
         }
 
         if (this.highlight != null) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             this.highlight.serialize(generator, mapper);
         }
 
         if (this.ignoreUnmapped != null) {
-            generator.writeKey("ignore_unmapped");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNMAPPED);
             generator.write(this.ignoreUnmapped);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (ApiTypeHelper.isDefined(this.scriptFields)) {
-            generator.writeKey("script_fields");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_FIELDS);
             generator.writeStartObject();
             for (Map.Entry<String, ScriptField> item0 : this.scriptFields.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -342,17 +361,17 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         }
 
         if (this.seqNoPrimaryTerm != null) {
-            generator.writeKey("seq_no_primary_term");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO_PRIMARY_TERM);
             generator.write(this.seqNoPrimaryTerm);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (ApiTypeHelper.isDefined(this.sort)) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             generator.writeStartArray();
             for (SortOptions item0 : this.sort) {
                 item0.serialize(generator, mapper);
@@ -361,12 +380,12 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         }
 
         if (this.source != null) {
-            generator.writeKey("_source");
+            JsonpUtils.writeKey(generator, KEY_SOURCE);
             this.source.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.storedFields)) {
-            generator.writeKey("stored_fields");
+            JsonpUtils.writeKey(generator, KEY_STORED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.storedFields) {
                 generator.write(item0);
@@ -375,12 +394,12 @@ public class InnerHits implements PlainJsonSerializable, ToCopyableBuilder<Inner
         }
 
         if (this.trackScores != null) {
-            generator.writeKey("track_scores");
+            JsonpUtils.writeKey(generator, KEY_TRACK_SCORES);
             generator.write(this.trackScores);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -99,8 +101,10 @@ public class LaplaceSmoothingModel
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALPHA = JsonpKey.of("alpha");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("alpha");
+        JsonpUtils.writeKey(generator, KEY_ALPHA);
         generator.write(this.alpha);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -121,14 +123,18 @@ public class LinearInterpolationSmoothingModel
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BIGRAM_LAMBDA = JsonpKey.of("bigram_lambda");
+    private static final JsonpKey KEY_TRIGRAM_LAMBDA = JsonpKey.of("trigram_lambda");
+    private static final JsonpKey KEY_UNIGRAM_LAMBDA = JsonpKey.of("unigram_lambda");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bigram_lambda");
+        JsonpUtils.writeKey(generator, KEY_BIGRAM_LAMBDA);
         generator.write(this.bigramLambda);
 
-        generator.writeKey("trigram_lambda");
+        JsonpUtils.writeKey(generator, KEY_TRIGRAM_LAMBDA);
         generator.write(this.trigramLambda);
 
-        generator.writeKey("unigram_lambda");
+        JsonpUtils.writeKey(generator, KEY_UNIGRAM_LAMBDA);
         generator.write(this.unigramLambda);
     }
 
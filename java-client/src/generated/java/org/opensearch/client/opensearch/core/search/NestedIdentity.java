@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,16 +115,20 @@ public class NestedIdentity implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_NESTED = JsonpKey.of("_nested");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.nested != null) {
-            generator.writeKey("_nested");
+            JsonpUtils.writeKey(generator, KEY_NESTED);
             this.nested.serialize(generator, mapper);
         }
 
-        generator.writeKey("offset");
+        JsonpUtils.writeKey(generator, KEY_OFFSET);
         generator.write(this.offset);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -87,9 +89,11 @@ public class PhraseSuggest extends SuggestBase implements SuggestVariant, ToCopy
         return this.options;
     }
 
+    private static final JsonpKey KEY_OPTIONS = JsonpKey.of("options");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("options");
+        JsonpUtils.writeKey(generator, KEY_OPTIONS);
         generator.writeStartArray();
         for (PhraseSuggestOption item0 : this.options) {
             item0.serialize(generator, mapper);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,11 +106,14 @@ public class PhraseSuggestHighlight
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_POST_TAG = JsonpKey.of("post_tag");
+    private static final JsonpKey KEY_PRE_TAG = JsonpKey.of("pre_tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("post_tag");
+        JsonpUtils.writeKey(generator, KEY_POST_TAG);
         generator.write(this.postTag);
 
-        generator.writeKey("pre_tag");
+        JsonpUtils.writeKey(generator, KEY_PRE_TAG);
         generator.write(this.preTag);
     }
 
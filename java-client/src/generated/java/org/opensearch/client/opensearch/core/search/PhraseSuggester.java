@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -236,20 +238,34 @@ public class PhraseSuggester extends SuggesterBase
         return this.tokenLimit;
     }
 
+    private static final JsonpKey KEY_COLLATE = JsonpKey.of("collate");
+    private static final JsonpKey KEY_CONFIDENCE = JsonpKey.of("confidence");
+    private static final JsonpKey KEY_DIRECT_GENERATOR = JsonpKey.of("direct_generator");
+    private static final JsonpKey KEY_FORCE_UNIGRAMS = JsonpKey.of("force_unigrams");
+    private static final JsonpKey KEY_GRAM_SIZE = JsonpKey.of("gram_size");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_MAX_ERRORS = JsonpKey.of("max_errors");
+    private static final JsonpKey KEY_REAL_WORD_ERROR_LIKELIHOOD = JsonpKey.of("real_word_error_likelihood");
+    private static final JsonpKey KEY_SEPARATOR = JsonpKey.of("separator");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SMOOTHING = JsonpKey.of("smoothing");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+    private static final JsonpKey KEY_TOKEN_LIMIT = JsonpKey.of("token_limit");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.collate != null) {
-            generator.writeKey("collate");
+            JsonpUtils.writeKey(generator, KEY_COLLATE);
             this.collate.serialize(generator, mapper);
         }
 
         if (this.confidence != null) {
-            generator.writeKey("confidence");
+            JsonpUtils.writeKey(generator, KEY_CONFIDENCE);
             generator.write(this.confidence);
         }
 
         if (ApiTypeHelper.isDefined(this.directGenerator)) {
-            generator.writeKey("direct_generator");
+            JsonpUtils.writeKey(generator, KEY_DIRECT_GENERATOR);
             generator.writeStartArray();
             for (DirectGenerator item0 : this.directGenerator) {
                 item0.serialize(generator, mapper);
@@ -258,52 +274,52 @@ public class PhraseSuggester extends SuggesterBase
         }
 
         if (this.forceUnigrams != null) {
-            generator.writeKey("force_unigrams");
+            JsonpUtils.writeKey(generator, KEY_FORCE_UNIGRAMS);
             generator.write(this.forceUnigrams);
         }
 
         if (this.gramSize != null) {
-            generator.writeKey("gram_size");
+            JsonpUtils.writeKey(generator, KEY_GRAM_SIZE);
             generator.write(this.gramSize);
         }
 
         if (this.highlight != null) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             this.highlight.serialize(generator, mapper);
         }
 
         if (this.maxErrors != null) {
-            generator.writeKey("max_errors");
+            JsonpUtils.writeKey(generator, KEY_MAX_ERRORS);
             generator.write(this.maxErrors);
         }
 
         if (this.realWordErrorLikelihood != null) {
-            generator.writeKey("real_word_error_likelihood");
+            JsonpUtils.writeKey(generator, KEY_REAL_WORD_ERROR_LIKELIHOOD);
             generator.write(this.realWordErrorLikelihood);
         }
 
         if (this.separator != null) {
-            generator.writeKey("separator");
+            JsonpUtils.writeKey(generator, KEY_SEPARATOR);
             generator.write(this.separator);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.smoothing != null) {
-            generator.writeKey("smoothing");
+            JsonpUtils.writeKey(generator, KEY_SMOOTHING);
             this.smoothing.serialize(generator, mapper);
         }
 
         if (this.text != null) {
-            generator.writeKey("text");
+            JsonpUtils.writeKey(generator, KEY_TEXT);
             generator.write(this.text);
         }
 
         if (this.tokenLimit != null) {
-            generator.writeKey("token_limit");
+            JsonpUtils.writeKey(generator, KEY_TOKEN_LIMIT);
             generator.write(this.tokenLimit);
         }
     }
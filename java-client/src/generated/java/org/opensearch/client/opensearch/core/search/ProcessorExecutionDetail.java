@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,39 +168,47 @@ public class ProcessorExecutionDetail
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DURATION_MILLIS = JsonpKey.of("duration_millis");
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_INPUT_DATA = JsonpKey.of("input_data");
+    private static final JsonpKey KEY_OUTPUT_DATA = JsonpKey.of("output_data");
+    private static final JsonpKey KEY_PROCESSOR_NAME = JsonpKey.of("processor_name");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.durationMillis != null) {
-            generator.writeKey("duration_millis");
+            JsonpUtils.writeKey(generator, KEY_DURATION_MILLIS);
             generator.write(this.durationMillis);
         }
 
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             generator.write(this.error);
         }
 
         if (this.inputData != null) {
-            generator.writeKey("input_data");
+            JsonpUtils.writeKey(generator, KEY_INPUT_DATA);
             this.inputData.serialize(generator, mapper);
         }
 
         if (this.outputData != null) {
-            generator.writeKey("output_data");
+            JsonpUtils.writeKey(generator, KEY_OUTPUT_DATA);
             this.outputData.serialize(generator, mapper);
         }
 
         if (this.processorName != null) {
-            generator.writeKey("processor_name");
+            JsonpUtils.writeKey(generator, KEY_PROCESSOR_NAME);
             generator.write(this.processorName);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -90,8 +92,10 @@ public class Profile implements PlainJsonSerializable, ToCopyableBuilder<Profile
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         generator.writeStartArray();
         for (ShardProfile item0 : this.shards) {
             item0.serialize(generator, mapper);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -261,59 +263,78 @@ public class QueryBreakdown implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADVANCE = JsonpKey.of("advance");
+    private static final JsonpKey KEY_ADVANCE_COUNT = JsonpKey.of("advance_count");
+    private static final JsonpKey KEY_BUILD_SCORER = JsonpKey.of("build_scorer");
+    private static final JsonpKey KEY_BUILD_SCORER_COUNT = JsonpKey.of("build_scorer_count");
+    private static final JsonpKey KEY_COMPUTE_MAX_SCORE = JsonpKey.of("compute_max_score");
+    private static final JsonpKey KEY_COMPUTE_MAX_SCORE_COUNT = JsonpKey.of("compute_max_score_count");
+    private static final JsonpKey KEY_CREATE_WEIGHT = JsonpKey.of("create_weight");
+    private static final JsonpKey KEY_CREATE_WEIGHT_COUNT = JsonpKey.of("create_weight_count");
+    private static final JsonpKey KEY_MATCH = JsonpKey.of("match");
+    private static final JsonpKey KEY_MATCH_COUNT = JsonpKey.of("match_count");
+    private static final JsonpKey KEY_NEXT_DOC = JsonpKey.of("next_doc");
+    private static final JsonpKey KEY_NEXT_DOC_COUNT = JsonpKey.of("next_doc_count");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("score");
+    private static final JsonpKey KEY_SCORE_COUNT = JsonpKey.of("score_count");
+    private static final JsonpKey KEY_SET_MIN_COMPETITIVE_SCORE = JsonpKey.of("set_min_competitive_score");
+    private static final JsonpKey KEY_SET_MIN_COMPETITIVE_SCORE_COUNT = JsonpKey.of("set_min_competitive_score_count");
+    private static final JsonpKey KEY_SHALLOW_ADVANCE = JsonpKey.of("shallow_advance");
+    private static final JsonpKey KEY_SHALLOW_ADVANCE_COUNT = JsonpKey.of("shallow_advance_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("advance");
+        JsonpUtils.writeKey(generator, KEY_ADVANCE);
         generator.write(this.advance);
 
-        generator.writeKey("advance_count");
+        JsonpUtils.writeKey(generator, KEY_ADVANCE_COUNT);
         generator.write(this.advanceCount);
 
-        generator.writeKey("build_scorer");
+        JsonpUtils.writeKey(generator, KEY_BUILD_SCORER);
         generator.write(this.buildScorer);
 
-        generator.writeKey("build_scorer_count");
+        JsonpUtils.writeKey(generator, KEY_BUILD_SCORER_COUNT);
         generator.write(this.buildScorerCount);
 
-        generator.writeKey("compute_max_score");
+        JsonpUtils.writeKey(generator, KEY_COMPUTE_MAX_SCORE);
         generator.write(this.computeMaxScore);
 
-        generator.writeKey("compute_max_score_count");
+        JsonpUtils.writeKey(generator, KEY_COMPUTE_MAX_SCORE_COUNT);
         generator.write(this.computeMaxScoreCount);
 
-        generator.writeKey("create_weight");
+        JsonpUtils.writeKey(generator, KEY_CREATE_WEIGHT);
         generator.write(this.createWeight);
 
-        generator.writeKey("create_weight_count");
+        JsonpUtils.writeKey(generator, KEY_CREATE_WEIGHT_COUNT);
         generator.write(this.createWeightCount);
 
-        generator.writeKey("match");
+        JsonpUtils.writeKey(generator, KEY_MATCH);
         generator.write(this.match);
 
-        generator.writeKey("match_count");
+        JsonpUtils.writeKey(generator, KEY_MATCH_COUNT);
         generator.write(this.matchCount);
 
-        generator.writeKey("next_doc");
+        JsonpUtils.writeKey(generator, KEY_NEXT_DOC);
         generator.write(this.nextDoc);
 
-        generator.writeKey("next_doc_count");
+        JsonpUtils.writeKey(generator, KEY_NEXT_DOC_COUNT);
         generator.write(this.nextDocCount);
 
-        generator.writeKey("score");
+        JsonpUtils.writeKey(generator, KEY_SCORE);
         generator.write(this.score);
 
-        generator.writeKey("score_count");
+        JsonpUtils.writeKey(generator, KEY_SCORE_COUNT);
         generator.write(this.scoreCount);
 
-        generator.writeKey("set_min_competitive_score");
+        JsonpUtils.writeKey(generator, KEY_SET_MIN_COMPETITIVE_SCORE);
         generator.write(this.setMinCompetitiveScore);
 
-        generator.writeKey("set_min_competitive_score_count");
+        JsonpUtils.writeKey(generator, KEY_SET_MIN_COMPETITIVE_SCORE_COUNT);
         generator.write(this.setMinCompetitiveScoreCount);
 
-        generator.writeKey("shallow_advance");
+        JsonpUtils.writeKey(generator, KEY_SHALLOW_ADVANCE);
         generator.write(this.shallowAdvance);
 
-        generator.writeKey("shallow_advance_count");
+        JsonpUtils.writeKey(generator, KEY_SHALLOW_ADVANCE_COUNT);
         generator.write(this.shallowAdvanceCount);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,12 +140,18 @@ public class QueryProfile implements PlainJsonSerializable, ToCopyableBuilder<Qu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BREAKDOWN = JsonpKey.of("breakdown");
+    private static final JsonpKey KEY_CHILDREN = JsonpKey.of("children");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_TIME_IN_NANOS = JsonpKey.of("time_in_nanos");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("breakdown");
+        JsonpUtils.writeKey(generator, KEY_BREAKDOWN);
         this.breakdown.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.children)) {
-            generator.writeKey("children");
+            JsonpUtils.writeKey(generator, KEY_CHILDREN);
             generator.writeStartArray();
             for (QueryProfile item0 : this.children) {
                 item0.serialize(generator, mapper);
@@ -151,13 +159,13 @@ public class QueryProfile implements PlainJsonSerializable, ToCopyableBuilder<Qu
             generator.writeEnd();
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
-        generator.writeKey("time_in_nanos");
+        JsonpUtils.writeKey(generator, KEY_TIME_IN_NANOS);
         generator.write(this.timeInNanos);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
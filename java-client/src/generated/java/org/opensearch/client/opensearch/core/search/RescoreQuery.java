@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,22 +136,27 @@ public class RescoreQuery implements PlainJsonSerializable, ToCopyableBuilder<Re
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_QUERY_WEIGHT = JsonpKey.of("query_weight");
+    private static final JsonpKey KEY_RESCORE_QUERY = JsonpKey.of("rescore_query");
+    private static final JsonpKey KEY_RESCORE_QUERY_WEIGHT = JsonpKey.of("rescore_query_weight");
+    private static final JsonpKey KEY_SCORE_MODE = JsonpKey.of("score_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.queryWeight != null) {
-            generator.writeKey("query_weight");
+            JsonpUtils.writeKey(generator, KEY_QUERY_WEIGHT);
             generator.write(this.queryWeight);
         }
 
-        generator.writeKey("rescore_query");
+        JsonpUtils.writeKey(generator, KEY_RESCORE_QUERY);
         this.rescoreQuery.serialize(generator, mapper);
 
         if (this.rescoreQueryWeight != null) {
-            generator.writeKey("rescore_query_weight");
+            JsonpUtils.writeKey(generator, KEY_RESCORE_QUERY_WEIGHT);
             generator.write(this.rescoreQueryWeight);
         }
 
         if (this.scoreMode != null) {
-            generator.writeKey("score_mode");
+            JsonpUtils.writeKey(generator, KEY_SCORE_MODE);
             this.scoreMode.serialize(generator, mapper);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -112,22 +114,26 @@ public class SearchProfile implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLECTOR = JsonpKey.of("collector");
+    private static final JsonpKey KEY_QUERY = JsonpKey.of("query");
+    private static final JsonpKey KEY_REWRITE_TIME = JsonpKey.of("rewrite_time");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("collector");
+        JsonpUtils.writeKey(generator, KEY_COLLECTOR);
         generator.writeStartArray();
         for (Collector item0 : this.collector) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("query");
+        JsonpUtils.writeKey(generator, KEY_QUERY);
         generator.writeStartArray();
         for (QueryProfile item0 : this.query) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("rewrite_time");
+        JsonpUtils.writeKey(generator, KEY_REWRITE_TIME);
         generator.write(this.rewriteTime);
     }
 
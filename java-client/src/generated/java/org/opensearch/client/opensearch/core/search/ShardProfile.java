@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,8 +130,13 @@ public class ShardProfile implements PlainJsonSerializable, ToCopyableBuilder<Sh
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_FETCH = JsonpKey.of("fetch");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_SEARCHES = JsonpKey.of("searches");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("aggregations");
+        JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
         generator.writeStartArray();
         for (AggregationProfile item0 : this.aggregations) {
             item0.serialize(generator, mapper);
@@ -137,14 +144,14 @@ public class ShardProfile implements PlainJsonSerializable, ToCopyableBuilder<Sh
         generator.writeEnd();
 
         if (this.fetch != null) {
-            generator.writeKey("fetch");
+            JsonpUtils.writeKey(generator, KEY_FETCH);
             this.fetch.serialize(generator, mapper);
         }
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("searches");
+        JsonpUtils.writeKey(generator, KEY_SEARCHES);
         generator.writeStartArray();
         for (SearchProfile item0 : this.searches) {
             item0.serialize(generator, mapper);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,9 +106,12 @@ public class SourceFilter implements PlainJsonSerializable, ToCopyableBuilder<So
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXCLUDES = JsonpKey.of("excludes");
+    private static final JsonpKey KEY_INCLUDES = JsonpKey.of("includes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.excludes)) {
-            generator.writeKey("excludes");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDES);
             generator.writeStartArray();
             for (String item0 : this.excludes) {
                 generator.write(item0);
@@ -115,7 +120,7 @@ public class SourceFilter implements PlainJsonSerializable, ToCopyableBuilder<So
         }
 
         if (ApiTypeHelper.isDefined(this.includes)) {
-            generator.writeKey("includes");
+            JsonpUtils.writeKey(generator, KEY_INCLUDES);
             generator.writeStartArray();
             for (String item0 : this.includes) {
                 generator.write(item0);
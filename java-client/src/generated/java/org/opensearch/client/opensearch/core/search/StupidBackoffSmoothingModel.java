@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -101,8 +103,10 @@ public class StupidBackoffSmoothingModel
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISCOUNT = JsonpKey.of("discount");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("discount");
+        JsonpUtils.writeKey(generator, KEY_DISCOUNT);
         generator.write(this.discount);
     }
 
@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -98,14 +100,18 @@ public abstract class SuggestBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LENGTH = JsonpKey.of("length");
+    private static final JsonpKey KEY_OFFSET = JsonpKey.of("offset");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("length");
+        JsonpUtils.writeKey(generator, KEY_LENGTH);
         generator.write(this.length);
 
-        generator.writeKey("offset");
+        JsonpUtils.writeKey(generator, KEY_OFFSET);
         generator.write(this.offset);
 
-        generator.writeKey("text");
+        JsonpUtils.writeKey(generator, KEY_TEXT);
         generator.write(this.text);
     }
 
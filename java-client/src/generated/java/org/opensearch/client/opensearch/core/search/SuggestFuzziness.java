@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -129,20 +131,26 @@ public class SuggestFuzziness implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FUZZINESS = JsonpKey.of("fuzziness");
+    private static final JsonpKey KEY_MIN_LENGTH = JsonpKey.of("min_length");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_TRANSPOSITIONS = JsonpKey.of("transpositions");
+    private static final JsonpKey KEY_UNICODE_AWARE = JsonpKey.of("unicode_aware");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("fuzziness");
+        JsonpUtils.writeKey(generator, KEY_FUZZINESS);
         generator.write(this.fuzziness);
 
-        generator.writeKey("min_length");
+        JsonpUtils.writeKey(generator, KEY_MIN_LENGTH);
         generator.write(this.minLength);
 
-        generator.writeKey("prefix_length");
+        JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
         generator.write(this.prefixLength);
 
-        generator.writeKey("transpositions");
+        JsonpUtils.writeKey(generator, KEY_TRANSPOSITIONS);
         generator.write(this.transpositions);
 
-        generator.writeKey("unicode_aware");
+        JsonpUtils.writeKey(generator, KEY_UNICODE_AWARE);
         generator.write(this.unicodeAware);
     }
 
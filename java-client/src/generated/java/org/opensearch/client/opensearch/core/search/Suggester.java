@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,13 +110,15 @@ public class Suggester implements PlainJsonSerializable, ToCopyableBuilder<Sugge
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, FieldSuggester> item0 : this.suggesters.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.text != null) {
-            generator.writeKey("text");
+            JsonpUtils.writeKey(generator, KEY_TEXT);
             generator.write(this.text);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,26 +139,32 @@ public class TermSuggestOption implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLATE_MATCH = JsonpKey.of("collate_match");
+    private static final JsonpKey KEY_FREQ = JsonpKey.of("freq");
+    private static final JsonpKey KEY_HIGHLIGHTED = JsonpKey.of("highlighted");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("score");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.collateMatch != null) {
-            generator.writeKey("collate_match");
+            JsonpUtils.writeKey(generator, KEY_COLLATE_MATCH);
             generator.write(this.collateMatch);
         }
 
         if (this.freq != null) {
-            generator.writeKey("freq");
+            JsonpUtils.writeKey(generator, KEY_FREQ);
             generator.write(this.freq);
         }
 
         if (this.highlighted != null) {
-            generator.writeKey("highlighted");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHTED);
             generator.write(this.highlighted);
         }
 
-        generator.writeKey("score");
+        JsonpUtils.writeKey(generator, KEY_SCORE);
         generator.write(this.score);
 
-        generator.writeKey("text");
+        JsonpUtils.writeKey(generator, KEY_TEXT);
         generator.write(this.text);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.SuggestMode;
@@ -220,65 +222,78 @@ public class TermSuggester extends SuggesterBase implements FieldSuggesterVarian
         return this.text;
     }
 
+    private static final JsonpKey KEY_LOWERCASE_TERMS = JsonpKey.of("lowercase_terms");
+    private static final JsonpKey KEY_MAX_EDITS = JsonpKey.of("max_edits");
+    private static final JsonpKey KEY_MAX_INSPECTIONS = JsonpKey.of("max_inspections");
+    private static final JsonpKey KEY_MAX_TERM_FREQ = JsonpKey.of("max_term_freq");
+    private static final JsonpKey KEY_MIN_DOC_FREQ = JsonpKey.of("min_doc_freq");
+    private static final JsonpKey KEY_MIN_WORD_LENGTH = JsonpKey.of("min_word_length");
+    private static final JsonpKey KEY_PREFIX_LENGTH = JsonpKey.of("prefix_length");
+    private static final JsonpKey KEY_SHARD_SIZE = JsonpKey.of("shard_size");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_STRING_DISTANCE = JsonpKey.of("string_distance");
+    private static final JsonpKey KEY_SUGGEST_MODE = JsonpKey.of("suggest_mode");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.lowercaseTerms != null) {
-            generator.writeKey("lowercase_terms");
+            JsonpUtils.writeKey(generator, KEY_LOWERCASE_TERMS);
             generator.write(this.lowercaseTerms);
         }
 
         if (this.maxEdits != null) {
-            generator.writeKey("max_edits");
+            JsonpUtils.writeKey(generator, KEY_MAX_EDITS);
             generator.write(this.maxEdits);
         }
 
         if (this.maxInspections != null) {
-            generator.writeKey("max_inspections");
+            JsonpUtils.writeKey(generator, KEY_MAX_INSPECTIONS);
             generator.write(this.maxInspections);
         }
 
         if (this.maxTermFreq != null) {
-            generator.writeKey("max_term_freq");
+            JsonpUtils.writeKey(generator, KEY_MAX_TERM_FREQ);
             generator.write(this.maxTermFreq);
         }
 
         if (this.minDocFreq != null) {
-            generator.writeKey("min_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_FREQ);
             generator.write(this.minDocFreq);
         }
 
         if (this.minWordLength != null) {
-            generator.writeKey("min_word_length");
+            JsonpUtils.writeKey(generator, KEY_MIN_WORD_LENGTH);
             generator.write(this.minWordLength);
         }
 
         if (this.prefixLength != null) {
-            generator.writeKey("prefix_length");
+            JsonpUtils.writeKey(generator, KEY_PREFIX_LENGTH);
             generator.write(this.prefixLength);
         }
 
         if (this.shardSize != null) {
-            generator.writeKey("shard_size");
+            JsonpUtils.writeKey(generator, KEY_SHARD_SIZE);
             generator.write(this.shardSize);
         }
 
         if (this.sort != null) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             this.sort.serialize(generator, mapper);
         }
 
         if (this.stringDistance != null) {
-            generator.writeKey("string_distance");
+            JsonpUtils.writeKey(generator, KEY_STRING_DISTANCE);
             this.stringDistance.serialize(generator, mapper);
         }
 
         if (this.suggestMode != null) {
-            generator.writeKey("suggest_mode");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST_MODE);
             this.suggestMode.serialize(generator, mapper);
         }
 
         if (this.text != null) {
-            generator.writeKey("text");
+            JsonpUtils.writeKey(generator, KEY_TEXT);
             generator.write(this.text);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,9 +107,12 @@ public class ShardStoreIndex implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartArray();
             for (String item0 : this.aliases) {
                 generator.write(item0);
@@ -116,7 +121,7 @@ public class ShardStoreIndex implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
     }
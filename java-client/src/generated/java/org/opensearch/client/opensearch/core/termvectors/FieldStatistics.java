@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,18 @@ public class FieldStatistics implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC_COUNT = JsonpKey.of("doc_count");
+    private static final JsonpKey KEY_SUM_DOC_FREQ = JsonpKey.of("sum_doc_freq");
+    private static final JsonpKey KEY_SUM_TTF = JsonpKey.of("sum_ttf");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("doc_count");
+        JsonpUtils.writeKey(generator, KEY_DOC_COUNT);
         generator.write(this.docCount);
 
-        generator.writeKey("sum_doc_freq");
+        JsonpUtils.writeKey(generator, KEY_SUM_DOC_FREQ);
         generator.write(this.sumDocFreq);
 
-        generator.writeKey("sum_ttf");
+        JsonpUtils.writeKey(generator, KEY_SUM_TTF);
         generator.write(this.sumTtf);
     }
 
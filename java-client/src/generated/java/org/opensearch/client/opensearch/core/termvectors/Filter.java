@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -183,39 +185,47 @@ public class Filter implements PlainJsonSerializable, ToCopyableBuilder<Filter.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_DOC_FREQ = JsonpKey.of("max_doc_freq");
+    private static final JsonpKey KEY_MAX_NUM_TERMS = JsonpKey.of("max_num_terms");
+    private static final JsonpKey KEY_MAX_TERM_FREQ = JsonpKey.of("max_term_freq");
+    private static final JsonpKey KEY_MAX_WORD_LENGTH = JsonpKey.of("max_word_length");
+    private static final JsonpKey KEY_MIN_DOC_FREQ = JsonpKey.of("min_doc_freq");
+    private static final JsonpKey KEY_MIN_TERM_FREQ = JsonpKey.of("min_term_freq");
+    private static final JsonpKey KEY_MIN_WORD_LENGTH = JsonpKey.of("min_word_length");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxDocFreq != null) {
-            generator.writeKey("max_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOC_FREQ);
             generator.write(this.maxDocFreq);
         }
 
         if (this.maxNumTerms != null) {
-            generator.writeKey("max_num_terms");
+            JsonpUtils.writeKey(generator, KEY_MAX_NUM_TERMS);
             generator.write(this.maxNumTerms);
         }
 
         if (this.maxTermFreq != null) {
-            generator.writeKey("max_term_freq");
+            JsonpUtils.writeKey(generator, KEY_MAX_TERM_FREQ);
             generator.write(this.maxTermFreq);
         }
 
         if (this.maxWordLength != null) {
-            generator.writeKey("max_word_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_WORD_LENGTH);
             generator.write(this.maxWordLength);
         }
 
         if (this.minDocFreq != null) {
-            generator.writeKey("min_doc_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_FREQ);
             generator.write(this.minDocFreq);
         }
 
         if (this.minTermFreq != null) {
-            generator.writeKey("min_term_freq");
+            JsonpUtils.writeKey(generator, KEY_MIN_TERM_FREQ);
             generator.write(this.minTermFreq);
         }
 
         if (this.minWordLength != null) {
-            generator.writeKey("min_word_length");
+            JsonpUtils.writeKey(generator, KEY_MIN_WORD_LENGTH);
             generator.write(this.minWordLength);
         }
     }
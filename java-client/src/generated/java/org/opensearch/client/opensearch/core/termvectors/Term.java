@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,22 +140,28 @@ public class Term implements PlainJsonSerializable, ToCopyableBuilder<Term.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC_FREQ = JsonpKey.of("doc_freq");
+    private static final JsonpKey KEY_SCORE = JsonpKey.of("score");
+    private static final JsonpKey KEY_TERM_FREQ = JsonpKey.of("term_freq");
+    private static final JsonpKey KEY_TOKENS = JsonpKey.of("tokens");
+    private static final JsonpKey KEY_TTF = JsonpKey.of("ttf");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.docFreq != null) {
-            generator.writeKey("doc_freq");
+            JsonpUtils.writeKey(generator, KEY_DOC_FREQ);
             generator.write(this.docFreq);
         }
 
         if (this.score != null) {
-            generator.writeKey("score");
+            JsonpUtils.writeKey(generator, KEY_SCORE);
             generator.write(this.score);
         }
 
-        generator.writeKey("term_freq");
+        JsonpUtils.writeKey(generator, KEY_TERM_FREQ);
         generator.write(this.termFreq);
 
         if (ApiTypeHelper.isDefined(this.tokens)) {
-            generator.writeKey("tokens");
+            JsonpUtils.writeKey(generator, KEY_TOKENS);
             generator.writeStartArray();
             for (Token item0 : this.tokens) {
                 item0.serialize(generator, mapper);
@@ -162,7 +170,7 @@ public class Term implements PlainJsonSerializable, ToCopyableBuilder<Term.Build
         }
 
         if (this.ttf != null) {
-            generator.writeKey("ttf");
+            JsonpUtils.writeKey(generator, KEY_TTF);
             generator.write(this.ttf);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,13 +106,16 @@ public class TermVector implements PlainJsonSerializable, ToCopyableBuilder<Term
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD_STATISTICS = JsonpKey.of("field_statistics");
+    private static final JsonpKey KEY_TERMS = JsonpKey.of("terms");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.fieldStatistics != null) {
-            generator.writeKey("field_statistics");
+            JsonpUtils.writeKey(generator, KEY_FIELD_STATISTICS);
             this.fieldStatistics.serialize(generator, mapper);
         }
 
-        generator.writeKey("terms");
+        JsonpUtils.writeKey(generator, KEY_TERMS);
         generator.writeStartObject();
         for (Map.Entry<String, Term> item0 : this.terms.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,22 +127,27 @@ public class Token implements PlainJsonSerializable, ToCopyableBuilder<Token.Bui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_END_OFFSET = JsonpKey.of("end_offset");
+    private static final JsonpKey KEY_PAYLOAD = JsonpKey.of("payload");
+    private static final JsonpKey KEY_POSITION = JsonpKey.of("position");
+    private static final JsonpKey KEY_START_OFFSET = JsonpKey.of("start_offset");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.endOffset != null) {
-            generator.writeKey("end_offset");
+            JsonpUtils.writeKey(generator, KEY_END_OFFSET);
             generator.write(this.endOffset);
         }
 
         if (this.payload != null) {
-            generator.writeKey("payload");
+            JsonpUtils.writeKey(generator, KEY_PAYLOAD);
             generator.write(this.payload);
         }
 
-        generator.writeKey("position");
+        JsonpUtils.writeKey(generator, KEY_POSITION);
         generator.write(this.position);
 
         if (this.startOffset != null) {
-            generator.writeKey("start_offset");
+            JsonpUtils.writeKey(generator, KEY_START_OFFSET);
             generator.write(this.startOffset);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.dangling_indices.list_dangling_indices.DanglingIndex;
@@ -99,14 +101,17 @@ public class ListDanglingIndicesResponse extends NodesResponseBase
         return this.danglingIndices;
     }
 
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_DANGLING_INDICES = JsonpKey.of("dangling_indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.clusterName != null) {
-            generator.writeKey("cluster_name");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
             generator.write(this.clusterName);
         }
 
-        generator.writeKey("dangling_indices");
+        JsonpUtils.writeKey(generator, KEY_DANGLING_INDICES);
         generator.writeStartArray();
         for (DanglingIndex item0 : this.danglingIndices) {
             item0.serialize(generator, mapper);
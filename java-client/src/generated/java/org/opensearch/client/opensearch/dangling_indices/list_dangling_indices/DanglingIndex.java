@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,22 +140,28 @@ public class DanglingIndex implements PlainJsonSerializable, ToCopyableBuilder<D
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATION_DATE = JsonpKey.of("creation_date");
+    private static final JsonpKey KEY_CREATION_DATE_MILLIS = JsonpKey.of("creation_date_millis");
+    private static final JsonpKey KEY_INDEX_NAME = JsonpKey.of("index_name");
+    private static final JsonpKey KEY_INDEX_UUID = JsonpKey.of("index_uuid");
+    private static final JsonpKey KEY_NODE_IDS = JsonpKey.of("node_ids");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.creationDate != null) {
-            generator.writeKey("creation_date");
+            JsonpUtils.writeKey(generator, KEY_CREATION_DATE);
             generator.write(this.creationDate);
         }
 
-        generator.writeKey("creation_date_millis");
+        JsonpUtils.writeKey(generator, KEY_CREATION_DATE_MILLIS);
         generator.write(this.creationDateMillis);
 
-        generator.writeKey("index_name");
+        JsonpUtils.writeKey(generator, KEY_INDEX_NAME);
         generator.write(this.indexName);
 
-        generator.writeKey("index_uuid");
+        JsonpUtils.writeKey(generator, KEY_INDEX_UUID);
         generator.write(this.indexUuid);
 
-        generator.writeKey("node_ids");
+        JsonpUtils.writeKey(generator, KEY_NODE_IDS);
         generator.writeStartArray();
         for (String item0 : this.nodeIds) {
             generator.write(item0);
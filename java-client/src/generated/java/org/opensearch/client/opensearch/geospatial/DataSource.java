@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,26 +168,34 @@ public class DataSource implements PlainJsonSerializable, ToCopyableBuilder<Data
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATABASE = JsonpKey.of("database");
+    private static final JsonpKey KEY_ENDPOINT = JsonpKey.of("endpoint");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_NEXT_UPDATE_AT_IN_EPOCH_MILLIS = JsonpKey.of("next_update_at_in_epoch_millis");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_UPDATE_INTERVAL_IN_DAYS = JsonpKey.of("update_interval_in_days");
+    private static final JsonpKey KEY_UPDATE_STATS = JsonpKey.of("update_stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("database");
+        JsonpUtils.writeKey(generator, KEY_DATABASE);
         this.database.serialize(generator, mapper);
 
-        generator.writeKey("endpoint");
+        JsonpUtils.writeKey(generator, KEY_ENDPOINT);
         generator.write(this.endpoint);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("next_update_at_in_epoch_millis");
+        JsonpUtils.writeKey(generator, KEY_NEXT_UPDATE_AT_IN_EPOCH_MILLIS);
         generator.write(this.nextUpdateAtInEpochMillis);
 
-        generator.writeKey("state");
+        JsonpUtils.writeKey(generator, KEY_STATE);
         this.state.serialize(generator, mapper);
 
-        generator.writeKey("update_interval_in_days");
+        JsonpUtils.writeKey(generator, KEY_UPDATE_INTERVAL_IN_DAYS);
         generator.write(this.updateIntervalInDays);
 
-        generator.writeKey("update_stats");
+        JsonpUtils.writeKey(generator, KEY_UPDATE_STATS);
         this.updateStats.serialize(generator, mapper);
     }
 
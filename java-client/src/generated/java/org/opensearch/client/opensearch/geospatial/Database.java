@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,9 +142,15 @@ public class Database implements PlainJsonSerializable, ToCopyableBuilder<Databa
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELDS = JsonpKey.of("fields");
+    private static final JsonpKey KEY_PROVIDER = JsonpKey.of("provider");
+    private static final JsonpKey KEY_SHA256_HASH = JsonpKey.of("sha256_hash");
+    private static final JsonpKey KEY_UPDATED_AT_IN_EPOCH_MILLIS = JsonpKey.of("updated_at_in_epoch_millis");
+    private static final JsonpKey KEY_VALID_FOR_IN_DAYS = JsonpKey.of("valid_for_in_days");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.fields)) {
-            generator.writeKey("fields");
+            JsonpUtils.writeKey(generator, KEY_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.fields) {
                 generator.write(item0);
@@ -151,22 +159,22 @@ public class Database implements PlainJsonSerializable, ToCopyableBuilder<Databa
         }
 
         if (this.provider != null) {
-            generator.writeKey("provider");
+            JsonpUtils.writeKey(generator, KEY_PROVIDER);
             generator.write(this.provider);
         }
 
         if (this.sha256Hash != null) {
-            generator.writeKey("sha256_hash");
+            JsonpUtils.writeKey(generator, KEY_SHA256_HASH);
             generator.write(this.sha256Hash);
         }
 
         if (this.updatedAtInEpochMillis != null) {
-            generator.writeKey("updated_at_in_epoch_millis");
+            JsonpUtils.writeKey(generator, KEY_UPDATED_AT_IN_EPOCH_MILLIS);
             generator.write(this.updatedAtInEpochMillis);
         }
 
         if (this.validForInDays != null) {
-            generator.writeKey("valid_for_in_days");
+            JsonpUtils.writeKey(generator, KEY_VALID_FOR_IN_DAYS);
             generator.write(this.validForInDays);
         }
     }
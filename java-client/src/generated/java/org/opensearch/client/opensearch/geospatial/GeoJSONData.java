@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,12 +119,16 @@ public class GeoJSONData implements PlainJsonSerializable, ToCopyableBuilder<Geo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_GEOMETRY = JsonpKey.of("geometry");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("geometry");
+        JsonpUtils.writeKey(generator, KEY_GEOMETRY);
         this.geometry.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.properties.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -131,7 +137,7 @@ public class GeoJSONData implements PlainJsonSerializable, ToCopyableBuilder<Geo
             generator.writeEnd();
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         this.type.serialize(generator, mapper);
     }
 
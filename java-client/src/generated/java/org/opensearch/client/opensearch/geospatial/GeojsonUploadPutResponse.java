@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,20 +144,26 @@ public class GeojsonUploadPutResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ERRORS = JsonpKey.of("errors");
+    private static final JsonpKey KEY_FAILURE = JsonpKey.of("failure");
+    private static final JsonpKey KEY_SUCCESS = JsonpKey.of("success");
+    private static final JsonpKey KEY_TOOK = JsonpKey.of("took");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("errors");
+        JsonpUtils.writeKey(generator, KEY_ERRORS);
         generator.write(this.errors);
 
-        generator.writeKey("failure");
+        JsonpUtils.writeKey(generator, KEY_FAILURE);
         generator.write(this.failure);
 
-        generator.writeKey("success");
+        JsonpUtils.writeKey(generator, KEY_SUCCESS);
         generator.write(this.success);
 
-        generator.writeKey("took");
+        JsonpUtils.writeKey(generator, KEY_TOOK);
         generator.write(this.took);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
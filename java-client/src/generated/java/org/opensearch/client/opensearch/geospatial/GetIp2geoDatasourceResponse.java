@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,8 +97,10 @@ public class GetIp2geoDatasourceResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATASOURCES = JsonpKey.of("datasources");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("datasources");
+        JsonpUtils.writeKey(generator, KEY_DATASOURCES);
         generator.writeStartArray();
         for (DataSource item0 : this.datasources) {
             item0.serialize(generator, mapper);
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,14 +143,17 @@ public final class PutIp2geoDatasourceRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENDPOINT = JsonpKey.of("endpoint");
+    private static final JsonpKey KEY_UPDATE_INTERVAL_IN_DAYS = JsonpKey.of("update_interval_in_days");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.endpoint != null) {
-            generator.writeKey("endpoint");
+            JsonpUtils.writeKey(generator, KEY_ENDPOINT);
             generator.write(this.endpoint);
         }
 
         if (this.updateIntervalInDays != null) {
-            generator.writeKey("update_interval_in_days");
+            JsonpUtils.writeKey(generator, KEY_UPDATE_INTERVAL_IN_DAYS);
             generator.write(this.updateIntervalInDays);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,14 +104,17 @@ public class UpdateStats implements PlainJsonSerializable, ToCopyableBuilder<Upd
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LAST_PROCESSING_TIME_IN_MILLIS = JsonpKey.of("last_processing_time_in_millis");
+    private static final JsonpKey KEY_LAST_SUCCEEDED_AT_IN_EPOCH_MILLIS = JsonpKey.of("last_succeeded_at_in_epoch_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.lastProcessingTimeInMillis != null) {
-            generator.writeKey("last_processing_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_LAST_PROCESSING_TIME_IN_MILLIS);
             generator.write(this.lastProcessingTimeInMillis);
         }
 
         if (this.lastSucceededAtInEpochMillis != null) {
-            generator.writeKey("last_succeeded_at_in_epoch_millis");
+            JsonpUtils.writeKey(generator, KEY_LAST_SUCCEEDED_AT_IN_EPOCH_MILLIS);
             generator.write(this.lastSucceededAtInEpochMillis);
         }
     }
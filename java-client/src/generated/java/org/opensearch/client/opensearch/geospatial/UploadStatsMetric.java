@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -165,26 +167,34 @@ public class UploadStatsMetric implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DURATION = JsonpKey.of("duration");
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NODE_ID = JsonpKey.of("node_id");
+    private static final JsonpKey KEY_SUCCESS = JsonpKey.of("success");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_UPLOAD = JsonpKey.of("upload");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("duration");
+        JsonpUtils.writeKey(generator, KEY_DURATION);
         generator.write(this.duration);
 
-        generator.writeKey("failed");
+        JsonpUtils.writeKey(generator, KEY_FAILED);
         generator.write(this.failed);
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("node_id");
+        JsonpUtils.writeKey(generator, KEY_NODE_ID);
         generator.write(this.nodeId);
 
-        generator.writeKey("success");
+        JsonpUtils.writeKey(generator, KEY_SUCCESS);
         generator.write(this.success);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
 
-        generator.writeKey("upload");
+        JsonpUtils.writeKey(generator, KEY_UPLOAD);
         generator.write(this.upload);
     }
 
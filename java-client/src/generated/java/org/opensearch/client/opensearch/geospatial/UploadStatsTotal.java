@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -139,20 +141,26 @@ public class UploadStatsTotal implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DURATION = JsonpKey.of("duration");
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_REQUEST_COUNT = JsonpKey.of("request_count");
+    private static final JsonpKey KEY_SUCCESS = JsonpKey.of("success");
+    private static final JsonpKey KEY_UPLOAD = JsonpKey.of("upload");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("duration");
+        JsonpUtils.writeKey(generator, KEY_DURATION);
         generator.write(this.duration);
 
-        generator.writeKey("failed");
+        JsonpUtils.writeKey(generator, KEY_FAILED);
         generator.write(this.failed);
 
-        generator.writeKey("request_count");
+        JsonpUtils.writeKey(generator, KEY_REQUEST_COUNT);
         generator.write(this.requestCount);
 
-        generator.writeKey("success");
+        JsonpUtils.writeKey(generator, KEY_SUCCESS);
         generator.write(this.success);
 
-        generator.writeKey("upload");
+        JsonpUtils.writeKey(generator, KEY_UPLOAD);
         generator.write(this.upload);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.AcknowledgedResponseBase;
@@ -91,16 +93,19 @@ public class AddBlockResponse extends AcknowledgedResponseBase implements ToCopy
         return this.shardsAcknowledged;
     }
 
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartArray();
         for (IndicesBlockStatus item0 : this.indices) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("shards_acknowledged");
+        JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
         generator.write(this.shardsAcknowledged);
     }
 
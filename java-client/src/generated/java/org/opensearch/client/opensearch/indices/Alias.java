@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -160,34 +162,41 @@ public class Alias implements PlainJsonSerializable, ToCopyableBuilder<Alias.Bui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_INDEX_ROUTING = JsonpKey.of("index_routing");
+    private static final JsonpKey KEY_IS_HIDDEN = JsonpKey.of("is_hidden");
+    private static final JsonpKey KEY_IS_WRITE_INDEX = JsonpKey.of("is_write_index");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_SEARCH_ROUTING = JsonpKey.of("search_routing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.indexRouting != null) {
-            generator.writeKey("index_routing");
+            JsonpUtils.writeKey(generator, KEY_INDEX_ROUTING);
             generator.write(this.indexRouting);
         }
 
         if (this.isHidden != null) {
-            generator.writeKey("is_hidden");
+            JsonpUtils.writeKey(generator, KEY_IS_HIDDEN);
             generator.write(this.isHidden);
         }
 
         if (this.isWriteIndex != null) {
-            generator.writeKey("is_write_index");
+            JsonpUtils.writeKey(generator, KEY_IS_WRITE_INDEX);
             generator.write(this.isWriteIndex);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.searchRouting != null) {
-            generator.writeKey("search_routing");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ROUTING);
             generator.write(this.searchRouting);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -238,14 +240,24 @@ public final class AnalyzeRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_CHAR_FILTER = JsonpKey.of("char_filter");
+    private static final JsonpKey KEY_EXPLAIN = JsonpKey.of("explain");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_NORMALIZER = JsonpKey.of("normalizer");
+    private static final JsonpKey KEY_TEXT = JsonpKey.of("text");
+    private static final JsonpKey KEY_TOKENIZER = JsonpKey.of("tokenizer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.write(this.analyzer);
         }
 
         if (ApiTypeHelper.isDefined(this.attributes)) {
-            generator.writeKey("attributes");
+            JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
             generator.writeStartArray();
             for (String item0 : this.attributes) {
                 generator.write(item0);
@@ -254,7 +266,7 @@ public final class AnalyzeRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.charFilter)) {
-            generator.writeKey("char_filter");
+            JsonpUtils.writeKey(generator, KEY_CHAR_FILTER);
             generator.writeStartArray();
             for (CharFilter item0 : this.charFilter) {
                 item0.serialize(generator, mapper);
@@ -263,17 +275,17 @@ public final class AnalyzeRequest extends RequestBase
         }
 
         if (this.explain != null) {
-            generator.writeKey("explain");
+            JsonpUtils.writeKey(generator, KEY_EXPLAIN);
             generator.write(this.explain);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.write(this.field);
         }
 
         if (ApiTypeHelper.isDefined(this.filter)) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.writeStartArray();
             for (TokenFilter item0 : this.filter) {
                 item0.serialize(generator, mapper);
@@ -282,12 +294,12 @@ public final class AnalyzeRequest extends RequestBase
         }
 
         if (this.normalizer != null) {
-            generator.writeKey("normalizer");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZER);
             generator.write(this.normalizer);
         }
 
         if (ApiTypeHelper.isDefined(this.text)) {
-            generator.writeKey("text");
+            JsonpUtils.writeKey(generator, KEY_TEXT);
             generator.writeStartArray();
             for (String item0 : this.text) {
                 generator.write(item0);
@@ -296,7 +308,7 @@ public final class AnalyzeRequest extends RequestBase
         }
 
         if (this.tokenizer != null) {
-            generator.writeKey("tokenizer");
+            JsonpUtils.writeKey(generator, KEY_TOKENIZER);
             this.tokenizer.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,14 +108,17 @@ public class AnalyzeResponse implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DETAIL = JsonpKey.of("detail");
+    private static final JsonpKey KEY_TOKENS = JsonpKey.of("tokens");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.detail != null) {
-            generator.writeKey("detail");
+            JsonpUtils.writeKey(generator, KEY_DETAIL);
             this.detail.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.tokens)) {
-            generator.writeKey("tokens");
+            JsonpUtils.writeKey(generator, KEY_TOKENS);
             generator.writeStartArray();
             for (AnalyzeToken item0 : this.tokens) {
                 item0.serialize(generator, mapper);
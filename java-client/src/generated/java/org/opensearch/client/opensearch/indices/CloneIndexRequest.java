@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -248,9 +250,12 @@ public final class CloneIndexRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartObject();
             for (Map.Entry<String, Alias> item0 : this.aliases.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -260,7 +265,7 @@ public final class CloneIndexRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.settings)) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.settings.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.AcknowledgedResponseBase;
@@ -93,9 +95,12 @@ public class CloseIndexResponse extends AcknowledgedResponseBase
         return this.shardsAcknowledged;
     }
 
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartObject();
         for (Map.Entry<String, CloseIndexResult> item0 : this.indices.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -103,7 +108,7 @@ public class CloseIndexResponse extends AcknowledgedResponseBase
         }
         generator.writeEnd();
 
-        generator.writeKey("shards_acknowledged");
+        JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
         generator.write(this.shardsAcknowledged);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -212,9 +214,13 @@ public final class CreateIndexRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartObject();
             for (Map.Entry<String, Alias> item0 : this.aliases.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -224,12 +230,12 @@ public final class CreateIndexRequest extends RequestBase
         }
 
         if (this.mappings != null) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             this.mappings.serialize(generator, mapper);
         }
 
         if (this.settings != null) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             this.settings.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,14 +111,18 @@ public class CreateIndexResponse implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACKNOWLEDGED = JsonpKey.of("acknowledged");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("acknowledged");
+        JsonpUtils.writeKey(generator, KEY_ACKNOWLEDGED);
         generator.write(this.acknowledged);
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("shards_acknowledged");
+        JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
         generator.write(this.shardsAcknowledged);
     }
 
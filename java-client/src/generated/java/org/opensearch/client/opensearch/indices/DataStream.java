@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -274,26 +276,41 @@ public class DataStream implements PlainJsonSerializable, ToCopyableBuilder<Data
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_CUSTOM_ROUTING = JsonpKey.of("allow_custom_routing");
+    private static final JsonpKey KEY_GENERATION = JsonpKey.of("generation");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_ILM_POLICY = JsonpKey.of("ilm_policy");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_NEXT_GENERATION_MANAGED_BY = JsonpKey.of("next_generation_managed_by");
+    private static final JsonpKey KEY_PREFER_ILM = JsonpKey.of("prefer_ilm");
+    private static final JsonpKey KEY_REPLICATED = JsonpKey.of("replicated");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_SYSTEM = JsonpKey.of("system");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+    private static final JsonpKey KEY_TIMESTAMP_FIELD = JsonpKey.of("timestamp_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allowCustomRouting != null) {
-            generator.writeKey("allow_custom_routing");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_CUSTOM_ROUTING);
             generator.write(this.allowCustomRouting);
         }
 
-        generator.writeKey("generation");
+        JsonpUtils.writeKey(generator, KEY_GENERATION);
         generator.write(this.generation);
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (this.ilmPolicy != null) {
-            generator.writeKey("ilm_policy");
+            JsonpUtils.writeKey(generator, KEY_ILM_POLICY);
             generator.write(this.ilmPolicy);
         }
 
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartArray();
         for (DataStreamIndex item0 : this.indices) {
             item0.serialize(generator, mapper);
@@ -301,7 +318,7 @@ public class DataStream implements PlainJsonSerializable, ToCopyableBuilder<Data
         generator.writeEnd();
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -310,36 +327,36 @@ public class DataStream implements PlainJsonSerializable, ToCopyableBuilder<Data
             generator.writeEnd();
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.nextGenerationManagedBy != null) {
-            generator.writeKey("next_generation_managed_by");
+            JsonpUtils.writeKey(generator, KEY_NEXT_GENERATION_MANAGED_BY);
             this.nextGenerationManagedBy.serialize(generator, mapper);
         }
 
         if (this.preferIlm != null) {
-            generator.writeKey("prefer_ilm");
+            JsonpUtils.writeKey(generator, KEY_PREFER_ILM);
             generator.write(this.preferIlm);
         }
 
         if (this.replicated != null) {
-            generator.writeKey("replicated");
+            JsonpUtils.writeKey(generator, KEY_REPLICATED);
             generator.write(this.replicated);
         }
 
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         this.status.serialize(generator, mapper);
 
         if (this.system != null) {
-            generator.writeKey("system");
+            JsonpUtils.writeKey(generator, KEY_SYSTEM);
             generator.write(this.system);
         }
 
-        generator.writeKey("template");
+        JsonpUtils.writeKey(generator, KEY_TEMPLATE);
         generator.write(this.template);
 
-        generator.writeKey("timestamp_field");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP_FIELD);
         this.timestampField.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -145,25 +147,31 @@ public class DataStreamIndex implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ILM_POLICY = JsonpKey.of("ilm_policy");
+    private static final JsonpKey KEY_INDEX_NAME = JsonpKey.of("index_name");
+    private static final JsonpKey KEY_INDEX_UUID = JsonpKey.of("index_uuid");
+    private static final JsonpKey KEY_MANAGED_BY = JsonpKey.of("managed_by");
+    private static final JsonpKey KEY_PREFER_ILM = JsonpKey.of("prefer_ilm");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.ilmPolicy != null) {
-            generator.writeKey("ilm_policy");
+            JsonpUtils.writeKey(generator, KEY_ILM_POLICY);
             generator.write(this.ilmPolicy);
         }
 
-        generator.writeKey("index_name");
+        JsonpUtils.writeKey(generator, KEY_INDEX_NAME);
         generator.write(this.indexName);
 
-        generator.writeKey("index_uuid");
+        JsonpUtils.writeKey(generator, KEY_INDEX_UUID);
         generator.write(this.indexUuid);
 
         if (this.managedBy != null) {
-            generator.writeKey("managed_by");
+            JsonpUtils.writeKey(generator, KEY_MANAGED_BY);
             this.managedBy.serialize(generator, mapper);
         }
 
         if (this.preferIlm != null) {
-            generator.writeKey("prefer_ilm");
+            JsonpUtils.writeKey(generator, KEY_PREFER_ILM);
             generator.write(this.preferIlm);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,22 +144,28 @@ public class DataStreamStats implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKING_INDICES = JsonpKey.of("backing_indices");
+    private static final JsonpKey KEY_DATA_STREAM = JsonpKey.of("data_stream");
+    private static final JsonpKey KEY_MAXIMUM_TIMESTAMP = JsonpKey.of("maximum_timestamp");
+    private static final JsonpKey KEY_STORE_SIZE = JsonpKey.of("store_size");
+    private static final JsonpKey KEY_STORE_SIZE_BYTES = JsonpKey.of("store_size_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("backing_indices");
+        JsonpUtils.writeKey(generator, KEY_BACKING_INDICES);
         generator.write(this.backingIndices);
 
-        generator.writeKey("data_stream");
+        JsonpUtils.writeKey(generator, KEY_DATA_STREAM);
         generator.write(this.dataStream);
 
-        generator.writeKey("maximum_timestamp");
+        JsonpUtils.writeKey(generator, KEY_MAXIMUM_TIMESTAMP);
         generator.write(this.maximumTimestamp);
 
         if (this.storeSize != null) {
-            generator.writeKey("store_size");
+            JsonpUtils.writeKey(generator, KEY_STORE_SIZE);
             generator.write(this.storeSize);
         }
 
-        generator.writeKey("store_size_bytes");
+        JsonpUtils.writeKey(generator, KEY_STORE_SIZE_BYTES);
         generator.write(this.storeSizeBytes);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -162,29 +164,36 @@ public class DataStreamsStatsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKING_INDICES = JsonpKey.of("backing_indices");
+    private static final JsonpKey KEY_DATA_STREAM_COUNT = JsonpKey.of("data_stream_count");
+    private static final JsonpKey KEY_DATA_STREAMS = JsonpKey.of("data_streams");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_TOTAL_STORE_SIZE = JsonpKey.of("total_store_size");
+    private static final JsonpKey KEY_TOTAL_STORE_SIZE_BYTES = JsonpKey.of("total_store_size_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("backing_indices");
+        JsonpUtils.writeKey(generator, KEY_BACKING_INDICES);
         generator.write(this.backingIndices);
 
-        generator.writeKey("data_stream_count");
+        JsonpUtils.writeKey(generator, KEY_DATA_STREAM_COUNT);
         generator.write(this.dataStreamCount);
 
-        generator.writeKey("data_streams");
+        JsonpUtils.writeKey(generator, KEY_DATA_STREAMS);
         generator.writeStartArray();
         for (DataStreamStats item0 : this.dataStreams) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
 
         if (this.totalStoreSize != null) {
-            generator.writeKey("total_store_size");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_STORE_SIZE);
             generator.write(this.totalStoreSize);
         }
 
-        generator.writeKey("total_store_size_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_STORE_SIZE_BYTES);
         generator.write(this.totalStoreSizeBytes);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.ShardsOperationResponseBase;
@@ -86,10 +88,12 @@ public class ForcemergeResponse extends ShardsOperationResponseBase
         return this.task;
     }
 
+    private static final JsonpKey KEY_TASK = JsonpKey.of("task");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.task != null) {
-            generator.writeKey("task");
+            JsonpUtils.writeKey(generator, KEY_TASK);
             generator.write(this.task);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,8 +95,10 @@ public class GetDataStreamResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATA_STREAMS = JsonpKey.of("data_streams");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("data_streams");
+        JsonpUtils.writeKey(generator, KEY_DATA_STREAMS);
         generator.writeStartArray();
         for (DataStream item0 : this.dataStreams) {
             item0.serialize(generator, mapper);
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -94,8 +96,10 @@ public class GetIndexTemplateResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX_TEMPLATES = JsonpKey.of("index_templates");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("index_templates");
+        JsonpUtils.writeKey(generator, KEY_INDEX_TEMPLATES);
         generator.writeStartArray();
         for (IndexTemplateItem item0 : this.indexTemplates) {
             item0.serialize(generator, mapper);
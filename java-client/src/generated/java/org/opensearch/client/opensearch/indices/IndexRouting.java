@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,14 +107,17 @@ public class IndexRouting implements PlainJsonSerializable, ToCopyableBuilder<In
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATION = JsonpKey.of("allocation");
+    private static final JsonpKey KEY_REBALANCE = JsonpKey.of("rebalance");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allocation != null) {
-            generator.writeKey("allocation");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION);
             this.allocation.serialize(generator, mapper);
         }
 
         if (this.rebalance != null) {
-            generator.writeKey("rebalance");
+            JsonpUtils.writeKey(generator, KEY_REBALANCE);
             this.rebalance.serialize(generator, mapper);
         }
     }
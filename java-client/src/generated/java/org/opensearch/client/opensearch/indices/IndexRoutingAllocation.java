@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -156,34 +158,41 @@ public class IndexRoutingAllocation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISK = JsonpKey.of("disk");
+    private static final JsonpKey KEY_ENABLE = JsonpKey.of("enable");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_INITIAL_RECOVERY = JsonpKey.of("initial_recovery");
+    private static final JsonpKey KEY_TOTAL_PRIMARY_SHARDS_PER_NODE = JsonpKey.of("total_primary_shards_per_node");
+    private static final JsonpKey KEY_TOTAL_SHARDS_PER_NODE = JsonpKey.of("total_shards_per_node");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.disk != null) {
-            generator.writeKey("disk");
+            JsonpUtils.writeKey(generator, KEY_DISK);
             this.disk.serialize(generator, mapper);
         }
 
         if (this.enable != null) {
-            generator.writeKey("enable");
+            JsonpUtils.writeKey(generator, KEY_ENABLE);
             this.enable.serialize(generator, mapper);
         }
 
         if (this.include != null) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             this.include.serialize(generator, mapper);
         }
 
         if (this.initialRecovery != null) {
-            generator.writeKey("initial_recovery");
+            JsonpUtils.writeKey(generator, KEY_INITIAL_RECOVERY);
             this.initialRecovery.serialize(generator, mapper);
         }
 
         if (this.totalPrimaryShardsPerNode != null) {
-            generator.writeKey("total_primary_shards_per_node");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_PRIMARY_SHARDS_PER_NODE);
             generator.write(this.totalPrimaryShardsPerNode);
         }
 
         if (this.totalShardsPerNode != null) {
-            generator.writeKey("total_shards_per_node");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_SHARDS_PER_NODE);
             generator.write(this.totalShardsPerNode);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,14 +115,17 @@ public class IndexRoutingAllocationInclude
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_TIER_PREFERENCE = JsonpKey.of("_tier_preference");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.tierPreference != null) {
-            generator.writeKey("_tier_preference");
+            JsonpUtils.writeKey(generator, KEY_TIER_PREFERENCE);
             generator.write(this.tierPreference);
         }
     }
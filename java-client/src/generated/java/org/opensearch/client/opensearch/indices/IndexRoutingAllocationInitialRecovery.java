@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -98,9 +100,11 @@ public class IndexRoutingAllocationInitialRecovery
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,9 +133,14 @@ public class IndexSegmentSort implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MISSING = JsonpKey.of("missing");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.field)) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             generator.writeStartArray();
             for (String item0 : this.field) {
                 generator.write(item0);
@@ -142,7 +149,7 @@ public class IndexSegmentSort implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.missing)) {
-            generator.writeKey("missing");
+            JsonpUtils.writeKey(generator, KEY_MISSING);
             generator.writeStartArray();
             for (SegmentSortMissing item0 : this.missing) {
                 item0.serialize(generator, mapper);
@@ -151,7 +158,7 @@ public class IndexSegmentSort implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.mode)) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.writeStartArray();
             for (SegmentSortMode item0 : this.mode) {
                 item0.serialize(generator, mapper);
@@ -160,7 +167,7 @@ public class IndexSegmentSort implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.order)) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             generator.writeStartArray();
             for (SegmentSortOrder item0 : this.order) {
                 item0.serialize(generator, mapper);
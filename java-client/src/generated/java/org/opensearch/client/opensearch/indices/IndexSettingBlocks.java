@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -156,34 +158,41 @@ public class IndexSettingBlocks implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_READ = JsonpKey.of("read");
+    private static final JsonpKey KEY_READ_ONLY = JsonpKey.of("read_only");
+    private static final JsonpKey KEY_READ_ONLY_ALLOW_DELETE = JsonpKey.of("read_only_allow_delete");
+    private static final JsonpKey KEY_SEARCH_ONLY = JsonpKey.of("search_only");
+    private static final JsonpKey KEY_WRITE = JsonpKey.of("write");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.metadata != null) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.write(this.metadata);
         }
 
         if (this.read != null) {
-            generator.writeKey("read");
+            JsonpUtils.writeKey(generator, KEY_READ);
             generator.write(this.read);
         }
 
         if (this.readOnly != null) {
-            generator.writeKey("read_only");
+            JsonpUtils.writeKey(generator, KEY_READ_ONLY);
             generator.write(this.readOnly);
         }
 
         if (this.readOnlyAllowDelete != null) {
-            generator.writeKey("read_only_allow_delete");
+            JsonpUtils.writeKey(generator, KEY_READ_ONLY_ALLOW_DELETE);
             generator.write(this.readOnlyAllowDelete);
         }
 
         if (this.searchOnly != null) {
-            generator.writeKey("search_only");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ONLY);
             generator.write(this.searchOnly);
         }
 
         if (this.write != null) {
-            generator.writeKey("write");
+            JsonpUtils.writeKey(generator, KEY_WRITE);
             generator.write(this.write);
         }
     }
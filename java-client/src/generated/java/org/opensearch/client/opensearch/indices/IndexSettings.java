@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -993,303 +995,378 @@ public class IndexSettings implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYSIS = JsonpKey.of("analysis");
+    private static final JsonpKey KEY_ANALYZE = JsonpKey.of("analyze");
+    private static final JsonpKey KEY_ANALYZE_MAX_TOKEN_COUNT = JsonpKey.of("analyze.max_token_count");
+    private static final JsonpKey KEY_AUTO_EXPAND_REPLICAS = JsonpKey.of("auto_expand_replicas");
+    private static final JsonpKey KEY_BLOCKS = JsonpKey.of("blocks");
+    private static final JsonpKey KEY_BLOCKS_METADATA = JsonpKey.of("blocks.metadata");
+    private static final JsonpKey KEY_BLOCKS_READ = JsonpKey.of("blocks.read");
+    private static final JsonpKey KEY_BLOCKS_READ_ONLY = JsonpKey.of("blocks.read_only");
+    private static final JsonpKey KEY_BLOCKS_READ_ONLY_ALLOW_DELETE = JsonpKey.of("blocks.read_only_allow_delete");
+    private static final JsonpKey KEY_BLOCKS_WRITE = JsonpKey.of("blocks.write");
+    private static final JsonpKey KEY_CHECK_ON_STARTUP = JsonpKey.of("check_on_startup");
+    private static final JsonpKey KEY_CODEC = JsonpKey.of("codec");
+    private static final JsonpKey KEY_COMPOSITE_INDEX_STAR_TREE = JsonpKey.of("composite_index.star_tree");
+    private static final JsonpKey KEY_CREATION_DATE = JsonpKey.of("creation_date");
+    private static final JsonpKey KEY_CREATION_DATE_STRING = JsonpKey.of("creation_date_string");
+    private static final JsonpKey KEY_DEFAULT_PIPELINE = JsonpKey.of("default_pipeline");
+    private static final JsonpKey KEY_FINAL_PIPELINE = JsonpKey.of("final_pipeline");
+    private static final JsonpKey KEY_FORMAT = JsonpKey.of("format");
+    private static final JsonpKey KEY_GC_DELETES = JsonpKey.of("gc_deletes");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_HIGHLIGHT = JsonpKey.of("highlight");
+    private static final JsonpKey KEY_HIGHLIGHT_MAX_ANALYZED_OFFSET = JsonpKey.of("highlight.max_analyzed_offset");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEXING = JsonpKey.of("indexing");
+    private static final JsonpKey KEY_INDEXING_PRESSURE = JsonpKey.of("indexing_pressure");
+    private static final JsonpKey KEY_INGESTION_SOURCE = JsonpKey.of("ingestion_source");
+    private static final JsonpKey KEY_KNN = JsonpKey.of("knn");
+    private static final JsonpKey KEY_KNN_ALGO_PARAM_EF_SEARCH = JsonpKey.of("knn.algo_param.ef_search");
+    private static final JsonpKey KEY_LIFECYCLE = JsonpKey.of("lifecycle");
+    private static final JsonpKey KEY_LIFECYCLE_NAME = JsonpKey.of("lifecycle.name");
+    private static final JsonpKey KEY_LOAD_FIXED_BITSET_FILTERS_EAGERLY = JsonpKey.of("load_fixed_bitset_filters_eagerly");
+    private static final JsonpKey KEY_MAPPING = JsonpKey.of("mapping");
+    private static final JsonpKey KEY_MAX_DOCVALUE_FIELDS_SEARCH = JsonpKey.of("max_docvalue_fields_search");
+    private static final JsonpKey KEY_MAX_INNER_RESULT_WINDOW = JsonpKey.of("max_inner_result_window");
+    private static final JsonpKey KEY_MAX_NGRAM_DIFF = JsonpKey.of("max_ngram_diff");
+    private static final JsonpKey KEY_MAX_REFRESH_LISTENERS = JsonpKey.of("max_refresh_listeners");
+    private static final JsonpKey KEY_MAX_REGEX_LENGTH = JsonpKey.of("max_regex_length");
+    private static final JsonpKey KEY_MAX_RESCORE_WINDOW = JsonpKey.of("max_rescore_window");
+    private static final JsonpKey KEY_MAX_RESULT_WINDOW = JsonpKey.of("max_result_window");
+    private static final JsonpKey KEY_MAX_SCRIPT_FIELDS = JsonpKey.of("max_script_fields");
+    private static final JsonpKey KEY_MAX_SHINGLE_DIFF = JsonpKey.of("max_shingle_diff");
+    private static final JsonpKey KEY_MAX_SLICES_PER_SCROLL = JsonpKey.of("max_slices_per_scroll");
+    private static final JsonpKey KEY_MAX_TERMS_COUNT = JsonpKey.of("max_terms_count");
+    private static final JsonpKey KEY_MERGE = JsonpKey.of("merge");
+    private static final JsonpKey KEY_MERGE_SCHEDULER_MAX_THREAD_COUNT = JsonpKey.of("merge.scheduler.max_thread_count");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_NUMBER_OF_REPLICAS = JsonpKey.of("number_of_replicas");
+    private static final JsonpKey KEY_NUMBER_OF_ROUTING_SHARDS = JsonpKey.of("number_of_routing_shards");
+    private static final JsonpKey KEY_NUMBER_OF_SHARDS = JsonpKey.of("number_of_shards");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+    private static final JsonpKey KEY_PROVIDED_NAME = JsonpKey.of("provided_name");
+    private static final JsonpKey KEY_QUERIES = JsonpKey.of("queries");
+    private static final JsonpKey KEY_QUERY_STRING = JsonpKey.of("query_string");
+    private static final JsonpKey KEY_QUERY_STRING_LENIENT = JsonpKey.of("query_string.lenient");
+    private static final JsonpKey KEY_REFRESH_INTERVAL = JsonpKey.of("refresh_interval");
+    private static final JsonpKey KEY_REPLICATION_TYPE = JsonpKey.of("replication.type");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_ROUTING_PARTITION_SIZE = JsonpKey.of("routing_partition_size");
+    private static final JsonpKey KEY_ROUTING_PATH = JsonpKey.of("routing_path");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+    private static final JsonpKey KEY_SEARCH_IDLE_AFTER = JsonpKey.of("search.idle.after");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+    private static final JsonpKey KEY_SIMILARITY = JsonpKey.of("similarity");
+    private static final JsonpKey KEY_SOFT_DELETES = JsonpKey.of("soft_deletes");
+    private static final JsonpKey KEY_SOFT_DELETES_RETENTION_LEASE_PERIOD = JsonpKey.of("soft_deletes.retention_lease.period");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_TOP_METRICS_MAX_SIZE = JsonpKey.of("top_metrics_max_size");
+    private static final JsonpKey KEY_TRANSLOG = JsonpKey.of("translog");
+    private static final JsonpKey KEY_TRANSLOG_DURABILITY = JsonpKey.of("translog.durability");
+    private static final JsonpKey KEY_TRANSLOG_FLUSH_THRESHOLD_SIZE = JsonpKey.of("translog.flush_threshold_size");
+    private static final JsonpKey KEY_UUID = JsonpKey.of("uuid");
+    private static final JsonpKey KEY_VERIFIED_BEFORE_CLOSE = JsonpKey.of("verified_before_close");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.customSettings.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.analysis != null) {
-            generator.writeKey("analysis");
+            JsonpUtils.writeKey(generator, KEY_ANALYSIS);
             this.analysis.serialize(generator, mapper);
         }
 
         if (this.analyze != null) {
-            generator.writeKey("analyze");
+            JsonpUtils.writeKey(generator, KEY_ANALYZE);
             this.analyze.serialize(generator, mapper);
         }
 
         if (this.analyzeMaxTokenCount != null) {
-            generator.writeKey("analyze.max_token_count");
+            JsonpUtils.writeKey(generator, KEY_ANALYZE_MAX_TOKEN_COUNT);
             generator.write(this.analyzeMaxTokenCount);
         }
 
         if (this.autoExpandReplicas != null) {
-            generator.writeKey("auto_expand_replicas");
+            JsonpUtils.writeKey(generator, KEY_AUTO_EXPAND_REPLICAS);
             generator.write(this.autoExpandReplicas);
         }
 
         if (this.blocks != null) {
-            generator.writeKey("blocks");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS);
             this.blocks.serialize(generator, mapper);
         }
 
         if (this.blocksMetadata != null) {
-            generator.writeKey("blocks.metadata");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS_METADATA);
             generator.write(this.blocksMetadata);
         }
 
         if (this.blocksRead != null) {
-            generator.writeKey("blocks.read");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS_READ);
             generator.write(this.blocksRead);
         }
 
         if (this.blocksReadOnly != null) {
-            generator.writeKey("blocks.read_only");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS_READ_ONLY);
             generator.write(this.blocksReadOnly);
         }
 
         if (this.blocksReadOnlyAllowDelete != null) {
-            generator.writeKey("blocks.read_only_allow_delete");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS_READ_ONLY_ALLOW_DELETE);
             generator.write(this.blocksReadOnlyAllowDelete);
         }
 
         if (this.blocksWrite != null) {
-            generator.writeKey("blocks.write");
+            JsonpUtils.writeKey(generator, KEY_BLOCKS_WRITE);
             generator.write(this.blocksWrite);
         }
 
         if (this.checkOnStartup != null) {
-            generator.writeKey("check_on_startup");
+            JsonpUtils.writeKey(generator, KEY_CHECK_ON_STARTUP);
             this.checkOnStartup.serialize(generator, mapper);
         }
 
         if (this.codec != null) {
-            generator.writeKey("codec");
+            JsonpUtils.writeKey(generator, KEY_CODEC);
             generator.write(this.codec);
         }
 
         if (this.compositeIndexStarTree != null) {
-            generator.writeKey("composite_index.star_tree");
+            JsonpUtils.writeKey(generator, KEY_COMPOSITE_INDEX_STAR_TREE);
             this.compositeIndexStarTree.serialize(generator, mapper);
         }
 
         if (this.creationDate != null) {
-            generator.writeKey("creation_date");
+            JsonpUtils.writeKey(generator, KEY_CREATION_DATE);
             generator.write(this.creationDate);
         }
 
         if (this.creationDateString != null) {
-            generator.writeKey("creation_date_string");
+            JsonpUtils.writeKey(generator, KEY_CREATION_DATE_STRING);
             generator.write(this.creationDateString);
         }
 
         if (this.defaultPipeline != null) {
-            generator.writeKey("default_pipeline");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_PIPELINE);
             generator.write(this.defaultPipeline);
         }
 
         if (this.finalPipeline != null) {
-            generator.writeKey("final_pipeline");
+            JsonpUtils.writeKey(generator, KEY_FINAL_PIPELINE);
             generator.write(this.finalPipeline);
         }
 
         if (this.format != null) {
-            generator.writeKey("format");
+            JsonpUtils.writeKey(generator, KEY_FORMAT);
             generator.write(this.format);
         }
 
         if (this.gcDeletes != null) {
-            generator.writeKey("gc_deletes");
+            JsonpUtils.writeKey(generator, KEY_GC_DELETES);
             this.gcDeletes.serialize(generator, mapper);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (this.highlight != null) {
-            generator.writeKey("highlight");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT);
             this.highlight.serialize(generator, mapper);
         }
 
         if (this.highlightMaxAnalyzedOffset != null) {
-            generator.writeKey("highlight.max_analyzed_offset");
+            JsonpUtils.writeKey(generator, KEY_HIGHLIGHT_MAX_ANALYZED_OFFSET);
             generator.write(this.highlightMaxAnalyzedOffset);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             this.index.serialize(generator, mapper);
         }
 
         if (this.indexing != null) {
-            generator.writeKey("indexing");
+            JsonpUtils.writeKey(generator, KEY_INDEXING);
             this.indexing.serialize(generator, mapper);
         }
 
         if (this.indexingPressure != null) {
-            generator.writeKey("indexing_pressure");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_PRESSURE);
             this.indexingPressure.serialize(generator, mapper);
         }
 
         if (this.ingestionSource != null) {
-            generator.writeKey("ingestion_source");
+            JsonpUtils.writeKey(generator, KEY_INGESTION_SOURCE);
             this.ingestionSource.serialize(generator, mapper);
         }
 
         if (this.knn != null) {
-            generator.writeKey("knn");
+            JsonpUtils.writeKey(generator, KEY_KNN);
             generator.write(this.knn);
         }
 
         if (this.knnAlgoParamEfSearch != null) {
-            generator.writeKey("knn.algo_param.ef_search");
+            JsonpUtils.writeKey(generator, KEY_KNN_ALGO_PARAM_EF_SEARCH);
             generator.write(this.knnAlgoParamEfSearch);
         }
 
         if (this.lifecycle != null) {
-            generator.writeKey("lifecycle");
+            JsonpUtils.writeKey(generator, KEY_LIFECYCLE);
             this.lifecycle.serialize(generator, mapper);
         }
 
         if (this.lifecycleName != null) {
-            generator.writeKey("lifecycle.name");
+            JsonpUtils.writeKey(generator, KEY_LIFECYCLE_NAME);
             generator.write(this.lifecycleName);
         }
 
         if (this.loadFixedBitsetFiltersEagerly != null) {
-            generator.writeKey("load_fixed_bitset_filters_eagerly");
+            JsonpUtils.writeKey(generator, KEY_LOAD_FIXED_BITSET_FILTERS_EAGERLY);
             generator.write(this.loadFixedBitsetFiltersEagerly);
         }
 
         if (this.mapping != null) {
-            generator.writeKey("mapping");
+            JsonpUtils.writeKey(generator, KEY_MAPPING);
             this.mapping.serialize(generator, mapper);
         }
 
         if (this.maxDocvalueFieldsSearch != null) {
-            generator.writeKey("max_docvalue_fields_search");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOCVALUE_FIELDS_SEARCH);
             generator.write(this.maxDocvalueFieldsSearch);
         }
 
         if (this.maxInnerResultWindow != null) {
-            generator.writeKey("max_inner_result_window");
+            JsonpUtils.writeKey(generator, KEY_MAX_INNER_RESULT_WINDOW);
             generator.write(this.maxInnerResultWindow);
         }
 
         if (this.maxNgramDiff != null) {
-            generator.writeKey("max_ngram_diff");
+            JsonpUtils.writeKey(generator, KEY_MAX_NGRAM_DIFF);
             generator.write(this.maxNgramDiff);
         }
 
         if (this.maxRefreshListeners != null) {
-            generator.writeKey("max_refresh_listeners");
+            JsonpUtils.writeKey(generator, KEY_MAX_REFRESH_LISTENERS);
             generator.write(this.maxRefreshListeners);
         }
 
         if (this.maxRegexLength != null) {
-            generator.writeKey("max_regex_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_REGEX_LENGTH);
             generator.write(this.maxRegexLength);
         }
 
         if (this.maxRescoreWindow != null) {
-            generator.writeKey("max_rescore_window");
+            JsonpUtils.writeKey(generator, KEY_MAX_RESCORE_WINDOW);
             generator.write(this.maxRescoreWindow);
         }
 
         if (this.maxResultWindow != null) {
-            generator.writeKey("max_result_window");
+            JsonpUtils.writeKey(generator, KEY_MAX_RESULT_WINDOW);
             generator.write(this.maxResultWindow);
         }
 
         if (this.maxScriptFields != null) {
-            generator.writeKey("max_script_fields");
+            JsonpUtils.writeKey(generator, KEY_MAX_SCRIPT_FIELDS);
             generator.write(this.maxScriptFields);
         }
 
         if (this.maxShingleDiff != null) {
-            generator.writeKey("max_shingle_diff");
+            JsonpUtils.writeKey(generator, KEY_MAX_SHINGLE_DIFF);
             generator.write(this.maxShingleDiff);
         }
 
         if (this.maxSlicesPerScroll != null) {
-            generator.writeKey("max_slices_per_scroll");
+            JsonpUtils.writeKey(generator, KEY_MAX_SLICES_PER_SCROLL);
             generator.write(this.maxSlicesPerScroll);
         }
 
         if (this.maxTermsCount != null) {
-            generator.writeKey("max_terms_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_TERMS_COUNT);
             generator.write(this.maxTermsCount);
         }
 
         if (this.merge != null) {
-            generator.writeKey("merge");
+            JsonpUtils.writeKey(generator, KEY_MERGE);
             this.merge.serialize(generator, mapper);
         }
 
         if (this.mergeSchedulerMaxThreadCount != null) {
-            generator.writeKey("merge.scheduler.max_thread_count");
+            JsonpUtils.writeKey(generator, KEY_MERGE_SCHEDULER_MAX_THREAD_COUNT);
             generator.write(this.mergeSchedulerMaxThreadCount);
         }
 
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.write(this.mode);
         }
 
         if (this.numberOfReplicas != null) {
-            generator.writeKey("number_of_replicas");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_REPLICAS);
             generator.write(this.numberOfReplicas);
         }
 
         if (this.numberOfRoutingShards != null) {
-            generator.writeKey("number_of_routing_shards");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_ROUTING_SHARDS);
             generator.write(this.numberOfRoutingShards);
         }
 
         if (this.numberOfShards != null) {
-            generator.writeKey("number_of_shards");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_SHARDS);
             generator.write(this.numberOfShards);
         }
 
         if (this.priority != null) {
-            generator.writeKey("priority");
+            JsonpUtils.writeKey(generator, KEY_PRIORITY);
             generator.write(this.priority);
         }
 
         if (this.providedName != null) {
-            generator.writeKey("provided_name");
+            JsonpUtils.writeKey(generator, KEY_PROVIDED_NAME);
             generator.write(this.providedName);
         }
 
         if (this.queries != null) {
-            generator.writeKey("queries");
+            JsonpUtils.writeKey(generator, KEY_QUERIES);
             this.queries.serialize(generator, mapper);
         }
 
         if (this.queryString != null) {
-            generator.writeKey("query_string");
+            JsonpUtils.writeKey(generator, KEY_QUERY_STRING);
             this.queryString.serialize(generator, mapper);
         }
 
         if (this.queryStringLenient != null) {
-            generator.writeKey("query_string.lenient");
+            JsonpUtils.writeKey(generator, KEY_QUERY_STRING_LENIENT);
             generator.write(this.queryStringLenient);
         }
 
         if (this.refreshInterval != null) {
-            generator.writeKey("refresh_interval");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL);
             this.refreshInterval.serialize(generator, mapper);
         }
 
         if (this.replicationType != null) {
-            generator.writeKey("replication.type");
+            JsonpUtils.writeKey(generator, KEY_REPLICATION_TYPE);
             this.replicationType.serialize(generator, mapper);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             this.routing.serialize(generator, mapper);
         }
 
         if (this.routingPartitionSize != null) {
-            generator.writeKey("routing_partition_size");
+            JsonpUtils.writeKey(generator, KEY_ROUTING_PARTITION_SIZE);
             generator.write(this.routingPartitionSize);
         }
 
         if (ApiTypeHelper.isDefined(this.routingPath)) {
-            generator.writeKey("routing_path");
+            JsonpUtils.writeKey(generator, KEY_ROUTING_PATH);
             generator.writeStartArray();
             for (String item0 : this.routingPath) {
                 generator.write(item0);
@@ -1298,77 +1375,77 @@ public class IndexSettings implements PlainJsonSerializable, ToCopyableBuilder<I
         }
 
         if (this.search != null) {
-            generator.writeKey("search");
+            JsonpUtils.writeKey(generator, KEY_SEARCH);
             this.search.serialize(generator, mapper);
         }
 
         if (this.searchIdleAfter != null) {
-            generator.writeKey("search.idle.after");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_IDLE_AFTER);
             this.searchIdleAfter.serialize(generator, mapper);
         }
 
         if (this.settings != null) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             this.settings.serialize(generator, mapper);
         }
 
         if (this.similarity != null) {
-            generator.writeKey("similarity");
+            JsonpUtils.writeKey(generator, KEY_SIMILARITY);
             this.similarity.serialize(generator, mapper);
         }
 
         if (this.softDeletes != null) {
-            generator.writeKey("soft_deletes");
+            JsonpUtils.writeKey(generator, KEY_SOFT_DELETES);
             this.softDeletes.serialize(generator, mapper);
         }
 
         if (this.softDeletesRetentionLeasePeriod != null) {
-            generator.writeKey("soft_deletes.retention_lease.period");
+            JsonpUtils.writeKey(generator, KEY_SOFT_DELETES_RETENTION_LEASE_PERIOD);
             this.softDeletesRetentionLeasePeriod.serialize(generator, mapper);
         }
 
         if (this.sort != null) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             this.sort.serialize(generator, mapper);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             this.store.serialize(generator, mapper);
         }
 
         if (this.topMetricsMaxSize != null) {
-            generator.writeKey("top_metrics_max_size");
+            JsonpUtils.writeKey(generator, KEY_TOP_METRICS_MAX_SIZE);
             generator.write(this.topMetricsMaxSize);
         }
 
         if (this.translog != null) {
-            generator.writeKey("translog");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG);
             this.translog.serialize(generator, mapper);
         }
 
         if (this.translogDurability != null) {
-            generator.writeKey("translog.durability");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG_DURABILITY);
             this.translogDurability.serialize(generator, mapper);
         }
 
         if (this.translogFlushThresholdSize != null) {
-            generator.writeKey("translog.flush_threshold_size");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG_FLUSH_THRESHOLD_SIZE);
             generator.write(this.translogFlushThresholdSize);
         }
 
         if (this.uuid != null) {
-            generator.writeKey("uuid");
+            JsonpUtils.writeKey(generator, KEY_UUID);
             generator.write(this.uuid);
         }
 
         if (this.verifiedBeforeClose != null) {
-            generator.writeKey("verified_before_close");
+            JsonpUtils.writeKey(generator, KEY_VERIFIED_BEFORE_CLOSE);
             generator.write(this.verifiedBeforeClose);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             this.version.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,9 +168,15 @@ public class IndexSettingsAnalysis
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_CHAR_FILTER = JsonpKey.of("char_filter");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_NORMALIZER = JsonpKey.of("normalizer");
+    private static final JsonpKey KEY_TOKENIZER = JsonpKey.of("tokenizer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.analyzer)) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             generator.writeStartObject();
             for (Map.Entry<String, Analyzer> item0 : this.analyzer.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -178,7 +186,7 @@ public class IndexSettingsAnalysis
         }
 
         if (ApiTypeHelper.isDefined(this.charFilter)) {
-            generator.writeKey("char_filter");
+            JsonpUtils.writeKey(generator, KEY_CHAR_FILTER);
             generator.writeStartObject();
             for (Map.Entry<String, CharFilter> item0 : this.charFilter.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -188,7 +196,7 @@ public class IndexSettingsAnalysis
         }
 
         if (ApiTypeHelper.isDefined(this.filter)) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             generator.writeStartObject();
             for (Map.Entry<String, TokenFilter> item0 : this.filter.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -198,7 +206,7 @@ public class IndexSettingsAnalysis
         }
 
         if (ApiTypeHelper.isDefined(this.normalizer)) {
-            generator.writeKey("normalizer");
+            JsonpUtils.writeKey(generator, KEY_NORMALIZER);
             generator.writeStartObject();
             for (Map.Entry<String, Normalizer> item0 : this.normalizer.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -208,7 +216,7 @@ public class IndexSettingsAnalysis
         }
 
         if (ApiTypeHelper.isDefined(this.tokenizer)) {
-            generator.writeKey("tokenizer");
+            JsonpUtils.writeKey(generator, KEY_TOKENIZER);
             generator.writeStartObject();
             for (Map.Entry<String, Tokenizer> item0 : this.tokenizer.entrySet()) {
                 generator.writeKey(item0.getKey());
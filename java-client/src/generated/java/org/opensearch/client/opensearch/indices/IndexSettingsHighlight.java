@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -96,9 +98,11 @@ public class IndexSettingsHighlight
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_ANALYZED_OFFSET = JsonpKey.of("max_analyzed_offset");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxAnalyzedOffset != null) {
-            generator.writeKey("max_analyzed_offset");
+            JsonpUtils.writeKey(generator, KEY_MAX_ANALYZED_OFFSET);
             generator.write(this.maxAnalyzedOffset);
         }
     }
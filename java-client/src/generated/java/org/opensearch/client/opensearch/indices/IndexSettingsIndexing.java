@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -96,9 +98,11 @@ public class IndexSettingsIndexing
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SLOWLOG = JsonpKey.of("slowlog");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.slowlog != null) {
-            generator.writeKey("slowlog");
+            JsonpUtils.writeKey(generator, KEY_SLOWLOG);
             this.slowlog.serialize(generator, mapper);
         }
     }
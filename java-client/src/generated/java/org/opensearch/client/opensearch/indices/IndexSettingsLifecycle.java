@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -172,32 +174,39 @@ public class IndexSettingsLifecycle
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEXING_COMPLETE = JsonpKey.of("indexing_complete");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ORIGINATION_DATE = JsonpKey.of("origination_date");
+    private static final JsonpKey KEY_PARSE_ORIGINATION_DATE = JsonpKey.of("parse_origination_date");
+    private static final JsonpKey KEY_ROLLOVER_ALIAS = JsonpKey.of("rollover_alias");
+    private static final JsonpKey KEY_STEP = JsonpKey.of("step");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.indexingComplete != null) {
-            generator.writeKey("indexing_complete");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_COMPLETE);
             generator.write(this.indexingComplete);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.originationDate != null) {
-            generator.writeKey("origination_date");
+            JsonpUtils.writeKey(generator, KEY_ORIGINATION_DATE);
             generator.write(this.originationDate);
         }
 
         if (this.parseOriginationDate != null) {
-            generator.writeKey("parse_origination_date");
+            JsonpUtils.writeKey(generator, KEY_PARSE_ORIGINATION_DATE);
             generator.write(this.parseOriginationDate);
         }
 
         if (this.rolloverAlias != null) {
-            generator.writeKey("rollover_alias");
+            JsonpUtils.writeKey(generator, KEY_ROLLOVER_ALIAS);
             generator.write(this.rolloverAlias);
         }
 
         if (this.step != null) {
-            generator.writeKey("step");
+            JsonpUtils.writeKey(generator, KEY_STEP);
             this.step.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -99,9 +101,11 @@ public class IndexSettingsLifecycleStep
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_WAIT_TIME_THRESHOLD = JsonpKey.of("wait_time_threshold");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.waitTimeThreshold != null) {
-            generator.writeKey("wait_time_threshold");
+            JsonpUtils.writeKey(generator, KEY_WAIT_TIME_THRESHOLD);
             this.waitTimeThreshold.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,44 +179,53 @@ public class IndexSettingsMapping implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COERCE = JsonpKey.of("coerce");
+    private static final JsonpKey KEY_DEPTH = JsonpKey.of("depth");
+    private static final JsonpKey KEY_DIMENSION_FIELDS = JsonpKey.of("dimension_fields");
+    private static final JsonpKey KEY_FIELD_NAME_LENGTH = JsonpKey.of("field_name_length");
+    private static final JsonpKey KEY_IGNORE_MALFORMED = JsonpKey.of("ignore_malformed");
+    private static final JsonpKey KEY_NESTED_FIELDS = JsonpKey.of("nested_fields");
+    private static final JsonpKey KEY_NESTED_OBJECTS = JsonpKey.of("nested_objects");
+    private static final JsonpKey KEY_TOTAL_FIELDS = JsonpKey.of("total_fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.coerce != null) {
-            generator.writeKey("coerce");
+            JsonpUtils.writeKey(generator, KEY_COERCE);
             generator.write(this.coerce);
         }
 
         if (this.depth != null) {
-            generator.writeKey("depth");
+            JsonpUtils.writeKey(generator, KEY_DEPTH);
             this.depth.serialize(generator, mapper);
         }
 
         if (this.dimensionFields != null) {
-            generator.writeKey("dimension_fields");
+            JsonpUtils.writeKey(generator, KEY_DIMENSION_FIELDS);
             this.dimensionFields.serialize(generator, mapper);
         }
 
         if (this.fieldNameLength != null) {
-            generator.writeKey("field_name_length");
+            JsonpUtils.writeKey(generator, KEY_FIELD_NAME_LENGTH);
             this.fieldNameLength.serialize(generator, mapper);
         }
 
         if (this.ignoreMalformed != null) {
-            generator.writeKey("ignore_malformed");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MALFORMED);
             generator.write(this.ignoreMalformed);
         }
 
         if (this.nestedFields != null) {
-            generator.writeKey("nested_fields");
+            JsonpUtils.writeKey(generator, KEY_NESTED_FIELDS);
             this.nestedFields.serialize(generator, mapper);
         }
 
         if (this.nestedObjects != null) {
-            generator.writeKey("nested_objects");
+            JsonpUtils.writeKey(generator, KEY_NESTED_OBJECTS);
             this.nestedObjects.serialize(generator, mapper);
         }
 
         if (this.totalFields != null) {
-            generator.writeKey("total_fields");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_FIELDS);
             this.totalFields.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -100,9 +102,11 @@ public class IndexSettingsMappingLimitFieldNameLength
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LIMIT = JsonpKey.of("limit");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.limit != null) {
-            generator.writeKey("limit");
+            JsonpUtils.writeKey(generator, KEY_LIMIT);
             generator.write(this.limit);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -201,54 +203,65 @@ public class IndexSettingsMerge implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOG_BYTE_SIZE_POLICY = JsonpKey.of("log_byte_size_policy");
+    private static final JsonpKey KEY_POLICY = JsonpKey.of("policy");
+    private static final JsonpKey KEY_POLICY_DELETES_PCT_ALLOWED = JsonpKey.of("policy.deletes_pct_allowed");
+    private static final JsonpKey KEY_POLICY_EXPUNGE_DELETES_ALLOWED = JsonpKey.of("policy.expunge_deletes_allowed");
+    private static final JsonpKey KEY_POLICY_FLOOR_SEGMENT = JsonpKey.of("policy.floor_segment");
+    private static final JsonpKey KEY_POLICY_MAX_MERGE_AT_ONCE = JsonpKey.of("policy.max_merge_at_once");
+    private static final JsonpKey KEY_POLICY_MAX_MERGED_SEGMENT = JsonpKey.of("policy.max_merged_segment");
+    private static final JsonpKey KEY_POLICY_RECLAIM_DELETES_WEIGHT = JsonpKey.of("policy.reclaim_deletes_weight");
+    private static final JsonpKey KEY_POLICY_SEGMENTS_PER_TIER = JsonpKey.of("policy.segments_per_tier");
+    private static final JsonpKey KEY_SCHEDULER = JsonpKey.of("scheduler");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.logByteSizePolicy != null) {
-            generator.writeKey("log_byte_size_policy");
+            JsonpUtils.writeKey(generator, KEY_LOG_BYTE_SIZE_POLICY);
             this.logByteSizePolicy.serialize(generator, mapper);
         }
 
         if (this.policy != null) {
-            generator.writeKey("policy");
+            JsonpUtils.writeKey(generator, KEY_POLICY);
             this.policy.serialize(generator, mapper);
         }
 
         if (this.policyDeletesPctAllowed != null) {
-            generator.writeKey("policy.deletes_pct_allowed");
+            JsonpUtils.writeKey(generator, KEY_POLICY_DELETES_PCT_ALLOWED);
             generator.write(this.policyDeletesPctAllowed);
         }
 
         if (this.policyExpungeDeletesAllowed != null) {
-            generator.writeKey("policy.expunge_deletes_allowed");
+            JsonpUtils.writeKey(generator, KEY_POLICY_EXPUNGE_DELETES_ALLOWED);
             generator.write(this.policyExpungeDeletesAllowed);
         }
 
         if (this.policyFloorSegment != null) {
-            generator.writeKey("policy.floor_segment");
+            JsonpUtils.writeKey(generator, KEY_POLICY_FLOOR_SEGMENT);
             generator.write(this.policyFloorSegment);
         }
 
         if (this.policyMaxMergeAtOnce != null) {
-            generator.writeKey("policy.max_merge_at_once");
+            JsonpUtils.writeKey(generator, KEY_POLICY_MAX_MERGE_AT_ONCE);
             generator.write(this.policyMaxMergeAtOnce);
         }
 
         if (this.policyMaxMergedSegment != null) {
-            generator.writeKey("policy.max_merged_segment");
+            JsonpUtils.writeKey(generator, KEY_POLICY_MAX_MERGED_SEGMENT);
             generator.write(this.policyMaxMergedSegment);
         }
 
         if (this.policyReclaimDeletesWeight != null) {
-            generator.writeKey("policy.reclaim_deletes_weight");
+            JsonpUtils.writeKey(generator, KEY_POLICY_RECLAIM_DELETES_WEIGHT);
             generator.write(this.policyReclaimDeletesWeight);
         }
 
         if (this.policySegmentsPerTier != null) {
-            generator.writeKey("policy.segments_per_tier");
+            JsonpUtils.writeKey(generator, KEY_POLICY_SEGMENTS_PER_TIER);
             generator.write(this.policySegmentsPerTier);
         }
 
         if (this.scheduler != null) {
-            generator.writeKey("scheduler");
+            JsonpUtils.writeKey(generator, KEY_SCHEDULER);
             this.scheduler.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -158,34 +160,41 @@ public class IndexSettingsMergeLogByteSizePolicy
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_MERGE_SEGMENT = JsonpKey.of("max_merge_segment");
+    private static final JsonpKey KEY_MAX_MERGE_SEGMENT_FORCED_MERGE = JsonpKey.of("max_merge_segment_forced_merge");
+    private static final JsonpKey KEY_MAX_MERGED_DOCS = JsonpKey.of("max_merged_docs");
+    private static final JsonpKey KEY_MERGE_FACTOR = JsonpKey.of("merge_factor");
+    private static final JsonpKey KEY_MIN_MERGE = JsonpKey.of("min_merge");
+    private static final JsonpKey KEY_NO_CFS_RATIO = JsonpKey.of("no_cfs_ratio");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxMergeSegment != null) {
-            generator.writeKey("max_merge_segment");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGE_SEGMENT);
             generator.write(this.maxMergeSegment);
         }
 
         if (this.maxMergeSegmentForcedMerge != null) {
-            generator.writeKey("max_merge_segment_forced_merge");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGE_SEGMENT_FORCED_MERGE);
             generator.write(this.maxMergeSegmentForcedMerge);
         }
 
         if (this.maxMergedDocs != null) {
-            generator.writeKey("max_merged_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGED_DOCS);
             generator.write(this.maxMergedDocs);
         }
 
         if (this.mergeFactor != null) {
-            generator.writeKey("merge_factor");
+            JsonpUtils.writeKey(generator, KEY_MERGE_FACTOR);
             generator.write(this.mergeFactor);
         }
 
         if (this.minMerge != null) {
-            generator.writeKey("min_merge");
+            JsonpUtils.writeKey(generator, KEY_MIN_MERGE);
             generator.write(this.minMerge);
         }
 
         if (this.noCfsRatio != null) {
-            generator.writeKey("no_cfs_ratio");
+            JsonpUtils.writeKey(generator, KEY_NO_CFS_RATIO);
             generator.write(this.noCfsRatio);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,19 +124,23 @@ public class IndexSettingsMergeScheduler
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AUTO_THROTTLE = JsonpKey.of("auto_throttle");
+    private static final JsonpKey KEY_MAX_MERGE_COUNT = JsonpKey.of("max_merge_count");
+    private static final JsonpKey KEY_MAX_THREAD_COUNT = JsonpKey.of("max_thread_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.autoThrottle != null) {
-            generator.writeKey("auto_throttle");
+            JsonpUtils.writeKey(generator, KEY_AUTO_THROTTLE);
             generator.write(this.autoThrottle);
         }
 
         if (this.maxMergeCount != null) {
-            generator.writeKey("max_merge_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGE_COUNT);
             generator.write(this.maxMergeCount);
         }
 
         if (this.maxThreadCount != null) {
-            generator.writeKey("max_thread_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_THREAD_COUNT);
             generator.write(this.maxThreadCount);
         }
     }
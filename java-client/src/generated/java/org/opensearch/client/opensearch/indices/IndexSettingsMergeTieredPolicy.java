@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -170,39 +172,47 @@ public class IndexSettingsMergeTieredPolicy
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DELETES_PCT_ALLOWED = JsonpKey.of("deletes_pct_allowed");
+    private static final JsonpKey KEY_EXPUNGE_DELETES_ALLOWED = JsonpKey.of("expunge_deletes_allowed");
+    private static final JsonpKey KEY_FLOOR_SEGMENT = JsonpKey.of("floor_segment");
+    private static final JsonpKey KEY_MAX_MERGE_AT_ONCE = JsonpKey.of("max_merge_at_once");
+    private static final JsonpKey KEY_MAX_MERGED_SEGMENT = JsonpKey.of("max_merged_segment");
+    private static final JsonpKey KEY_RECLAIM_DELETES_WEIGHT = JsonpKey.of("reclaim_deletes_weight");
+    private static final JsonpKey KEY_SEGMENTS_PER_TIER = JsonpKey.of("segments_per_tier");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.deletesPctAllowed != null) {
-            generator.writeKey("deletes_pct_allowed");
+            JsonpUtils.writeKey(generator, KEY_DELETES_PCT_ALLOWED);
             generator.write(this.deletesPctAllowed);
         }
 
         if (this.expungeDeletesAllowed != null) {
-            generator.writeKey("expunge_deletes_allowed");
+            JsonpUtils.writeKey(generator, KEY_EXPUNGE_DELETES_ALLOWED);
             generator.write(this.expungeDeletesAllowed);
         }
 
         if (this.floorSegment != null) {
-            generator.writeKey("floor_segment");
+            JsonpUtils.writeKey(generator, KEY_FLOOR_SEGMENT);
             generator.write(this.floorSegment);
         }
 
         if (this.maxMergeAtOnce != null) {
-            generator.writeKey("max_merge_at_once");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGE_AT_ONCE);
             generator.write(this.maxMergeAtOnce);
         }
 
         if (this.maxMergedSegment != null) {
-            generator.writeKey("max_merged_segment");
+            JsonpUtils.writeKey(generator, KEY_MAX_MERGED_SEGMENT);
             generator.write(this.maxMergedSegment);
         }
 
         if (this.reclaimDeletesWeight != null) {
-            generator.writeKey("reclaim_deletes_weight");
+            JsonpUtils.writeKey(generator, KEY_RECLAIM_DELETES_WEIGHT);
             generator.write(this.reclaimDeletesWeight);
         }
 
         if (this.segmentsPerTier != null) {
-            generator.writeKey("segments_per_tier");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS_PER_TIER);
             generator.write(this.segmentsPerTier);
         }
     }
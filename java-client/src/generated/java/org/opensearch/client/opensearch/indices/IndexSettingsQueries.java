@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,9 +95,11 @@ public class IndexSettingsQueries implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE = JsonpKey.of("cache");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cache != null) {
-            generator.writeKey("cache");
+            JsonpUtils.writeKey(generator, KEY_CACHE);
             this.cache.serialize(generator, mapper);
         }
     }
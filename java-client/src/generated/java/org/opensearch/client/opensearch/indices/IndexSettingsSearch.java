@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,39 +170,47 @@ public class IndexSettingsSearch implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONCURRENT = JsonpKey.of("concurrent");
+    private static final JsonpKey KEY_CONCURRENT_SEGMENT_SEARCH = JsonpKey.of("concurrent_segment_search");
+    private static final JsonpKey KEY_DEFAULT_PIPELINE = JsonpKey.of("default_pipeline");
+    private static final JsonpKey KEY_IDLE = JsonpKey.of("idle");
+    private static final JsonpKey KEY_SLOWLOG = JsonpKey.of("slowlog");
+    private static final JsonpKey KEY_STAR_TREE_INDEX = JsonpKey.of("star_tree_index");
+    private static final JsonpKey KEY_THROTTLED = JsonpKey.of("throttled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.concurrent != null) {
-            generator.writeKey("concurrent");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT);
             this.concurrent.serialize(generator, mapper);
         }
 
         if (this.concurrentSegmentSearch != null) {
-            generator.writeKey("concurrent_segment_search");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_SEGMENT_SEARCH);
             this.concurrentSegmentSearch.serialize(generator, mapper);
         }
 
         if (this.defaultPipeline != null) {
-            generator.writeKey("default_pipeline");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_PIPELINE);
             generator.write(this.defaultPipeline);
         }
 
         if (this.idle != null) {
-            generator.writeKey("idle");
+            JsonpUtils.writeKey(generator, KEY_IDLE);
             this.idle.serialize(generator, mapper);
         }
 
         if (this.slowlog != null) {
-            generator.writeKey("slowlog");
+            JsonpUtils.writeKey(generator, KEY_SLOWLOG);
             this.slowlog.serialize(generator, mapper);
         }
 
         if (this.starTreeIndex != null) {
-            generator.writeKey("star_tree_index");
+            JsonpUtils.writeKey(generator, KEY_STAR_TREE_INDEX);
             this.starTreeIndex.serialize(generator, mapper);
         }
 
         if (this.throttled != null) {
-            generator.writeKey("throttled");
+            JsonpUtils.writeKey(generator, KEY_THROTTLED);
             generator.write(this.throttled);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,14 +115,17 @@ public class IndexSettingsSearchConcurrentSegmentSearch
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.write(this.mode);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,39 +170,47 @@ public class IndexSettingsSimilarity
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BM25 = JsonpKey.of("bm25");
+    private static final JsonpKey KEY_DFI = JsonpKey.of("dfi");
+    private static final JsonpKey KEY_DFR = JsonpKey.of("dfr");
+    private static final JsonpKey KEY_IB = JsonpKey.of("ib");
+    private static final JsonpKey KEY_LMD = JsonpKey.of("lmd");
+    private static final JsonpKey KEY_LMJ = JsonpKey.of("lmj");
+    private static final JsonpKey KEY_SCRIPTED_TFIDF = JsonpKey.of("scripted_tfidf");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bm25 != null) {
-            generator.writeKey("bm25");
+            JsonpUtils.writeKey(generator, KEY_BM25);
             this.bm25.serialize(generator, mapper);
         }
 
         if (this.dfi != null) {
-            generator.writeKey("dfi");
+            JsonpUtils.writeKey(generator, KEY_DFI);
             this.dfi.serialize(generator, mapper);
         }
 
         if (this.dfr != null) {
-            generator.writeKey("dfr");
+            JsonpUtils.writeKey(generator, KEY_DFR);
             this.dfr.serialize(generator, mapper);
         }
 
         if (this.ib != null) {
-            generator.writeKey("ib");
+            JsonpUtils.writeKey(generator, KEY_IB);
             this.ib.serialize(generator, mapper);
         }
 
         if (this.lmd != null) {
-            generator.writeKey("lmd");
+            JsonpUtils.writeKey(generator, KEY_LMD);
             this.lmd.serialize(generator, mapper);
         }
 
         if (this.lmj != null) {
-            generator.writeKey("lmj");
+            JsonpUtils.writeKey(generator, KEY_LMJ);
             this.lmj.serialize(generator, mapper);
         }
 
         if (this.scriptedTfidf != null) {
-            generator.writeKey("scripted_tfidf");
+            JsonpUtils.writeKey(generator, KEY_SCRIPTED_TFIDF);
             this.scriptedTfidf.serialize(generator, mapper);
         }
     }
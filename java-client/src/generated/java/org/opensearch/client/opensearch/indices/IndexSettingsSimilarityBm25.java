@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -139,17 +141,22 @@ public class IndexSettingsSimilarityBm25
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_B = JsonpKey.of("b");
+    private static final JsonpKey KEY_DISCOUNT_OVERLAPS = JsonpKey.of("discount_overlaps");
+    private static final JsonpKey KEY_K1 = JsonpKey.of("k1");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("b");
+        JsonpUtils.writeKey(generator, KEY_B);
         generator.write(this.b);
 
-        generator.writeKey("discount_overlaps");
+        JsonpUtils.writeKey(generator, KEY_DISCOUNT_OVERLAPS);
         generator.write(this.discountOverlaps);
 
-        generator.writeKey("k1");
+        JsonpUtils.writeKey(generator, KEY_K1);
         generator.write(this.k1);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,17 +138,22 @@ public class IndexSettingsSimilarityDfr
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AFTER_EFFECT = JsonpKey.of("after_effect");
+    private static final JsonpKey KEY_BASIC_MODEL = JsonpKey.of("basic_model");
+    private static final JsonpKey KEY_NORMALIZATION = JsonpKey.of("normalization");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("after_effect");
+        JsonpUtils.writeKey(generator, KEY_AFTER_EFFECT);
         this.afterEffect.serialize(generator, mapper);
 
-        generator.writeKey("basic_model");
+        JsonpUtils.writeKey(generator, KEY_BASIC_MODEL);
         this.basicModel.serialize(generator, mapper);
 
-        generator.writeKey("normalization");
+        JsonpUtils.writeKey(generator, KEY_NORMALIZATION);
         this.normalization.serialize(generator, mapper);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,17 +136,22 @@ public class IndexSettingsSimilarityIb
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISTRIBUTION = JsonpKey.of("distribution");
+    private static final JsonpKey KEY_LAMBDA = JsonpKey.of("lambda");
+    private static final JsonpKey KEY_NORMALIZATION = JsonpKey.of("normalization");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("distribution");
+        JsonpUtils.writeKey(generator, KEY_DISTRIBUTION);
         this.distribution.serialize(generator, mapper);
 
-        generator.writeKey("lambda");
+        JsonpUtils.writeKey(generator, KEY_LAMBDA);
         this.lambda.serialize(generator, mapper);
 
-        generator.writeKey("normalization");
+        JsonpUtils.writeKey(generator, KEY_NORMALIZATION);
         this.normalization.serialize(generator, mapper);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,19 +122,23 @@ public class IndexSettingsStarTree
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_ = JsonpKey.of("default");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_MAX_FIELDS = JsonpKey.of("max_fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.default_ != null) {
-            generator.writeKey("default");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_);
             this.default_.serialize(generator, mapper);
         }
 
         if (this.field != null) {
-            generator.writeKey("field");
+            JsonpUtils.writeKey(generator, KEY_FIELD);
             this.field.serialize(generator, mapper);
         }
 
         if (this.maxFields != null) {
-            generator.writeKey("max_fields");
+            JsonpUtils.writeKey(generator, KEY_MAX_FIELDS);
             generator.write(this.maxFields);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -98,9 +100,11 @@ public class IndexSettingsStarTreeDefault
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_LEAF_DOCS = JsonpKey.of("max_leaf_docs");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxLeafDocs != null) {
-            generator.writeKey("max_leaf_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_LEAF_DOCS);
             generator.write(this.maxLeafDocs);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,24 +136,29 @@ public class IndexSettingsStarTreeField
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_ = JsonpKey.of("default");
+    private static final JsonpKey KEY_MAX_BASE_METRICS = JsonpKey.of("max_base_metrics");
+    private static final JsonpKey KEY_MAX_DATE_INTERVALS = JsonpKey.of("max_date_intervals");
+    private static final JsonpKey KEY_MAX_DIMENSIONS = JsonpKey.of("max_dimensions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.default_ != null) {
-            generator.writeKey("default");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_);
             this.default_.serialize(generator, mapper);
         }
 
         if (this.maxBaseMetrics != null) {
-            generator.writeKey("max_base_metrics");
+            JsonpUtils.writeKey(generator, KEY_MAX_BASE_METRICS);
             generator.write(this.maxBaseMetrics);
         }
 
         if (this.maxDateIntervals != null) {
-            generator.writeKey("max_date_intervals");
+            JsonpUtils.writeKey(generator, KEY_MAX_DATE_INTERVALS);
             generator.write(this.maxDateIntervals);
         }
 
         if (this.maxDimensions != null) {
-            generator.writeKey("max_dimensions");
+            JsonpUtils.writeKey(generator, KEY_MAX_DIMENSIONS);
             generator.write(this.maxDimensions);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -118,9 +120,12 @@ public class IndexSettingsStarTreeFieldDefault
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATE_INTERVALS = JsonpKey.of("date_intervals");
+    private static final JsonpKey KEY_METRICS = JsonpKey.of("metrics");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.dateIntervals)) {
-            generator.writeKey("date_intervals");
+            JsonpUtils.writeKey(generator, KEY_DATE_INTERVALS);
             generator.writeStartArray();
             for (String item0 : this.dateIntervals) {
                 generator.write(item0);
@@ -129,7 +134,7 @@ public class IndexSettingsStarTreeFieldDefault
         }
 
         if (ApiTypeHelper.isDefined(this.metrics)) {
-            generator.writeKey("metrics");
+            JsonpUtils.writeKey(generator, KEY_METRICS);
             generator.writeStartArray();
             for (String item0 : this.metrics) {
                 generator.write(item0);
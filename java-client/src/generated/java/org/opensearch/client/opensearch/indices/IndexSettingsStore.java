@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -161,24 +163,31 @@ public class IndexSettingsStore implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_MMAP = JsonpKey.of("allow_mmap");
+    private static final JsonpKey KEY_FS = JsonpKey.of("fs");
+    private static final JsonpKey KEY_HYBRID = JsonpKey.of("hybrid");
+    private static final JsonpKey KEY_PRELOAD = JsonpKey.of("preload");
+    private static final JsonpKey KEY_STATS_REFRESH_INTERVAL = JsonpKey.of("stats_refresh_interval");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allowMmap != null) {
-            generator.writeKey("allow_mmap");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_MMAP);
             generator.write(this.allowMmap);
         }
 
         if (this.fs != null) {
-            generator.writeKey("fs");
+            JsonpUtils.writeKey(generator, KEY_FS);
             this.fs.serialize(generator, mapper);
         }
 
         if (this.hybrid != null) {
-            generator.writeKey("hybrid");
+            JsonpUtils.writeKey(generator, KEY_HYBRID);
             this.hybrid.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.preload)) {
-            generator.writeKey("preload");
+            JsonpUtils.writeKey(generator, KEY_PRELOAD);
             generator.writeStartArray();
             for (String item0 : this.preload) {
                 generator.write(item0);
@@ -187,11 +196,11 @@ public class IndexSettingsStore implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (this.statsRefreshInterval != null) {
-            generator.writeKey("stats_refresh_interval");
+            JsonpUtils.writeKey(generator, KEY_STATS_REFRESH_INTERVAL);
             this.statsRefreshInterval.serialize(generator, mapper);
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         this.type.serialize(generator, mapper);
     }
 
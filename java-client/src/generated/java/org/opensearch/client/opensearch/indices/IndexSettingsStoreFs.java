@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,9 +95,11 @@ public class IndexSettingsStoreFs implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FS_LOCK = JsonpKey.of("fs_lock");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.fsLock != null) {
-            generator.writeKey("fs_lock");
+            JsonpUtils.writeKey(generator, KEY_FS_LOCK);
             this.fsLock.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,14 +110,17 @@ public class IndexSettingsStoreHybrid
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MMAP = JsonpKey.of("mmap");
+    private static final JsonpKey KEY_NIO = JsonpKey.of("nio");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mmap != null) {
-            generator.writeKey("mmap");
+            JsonpUtils.writeKey(generator, KEY_MMAP);
             this.mmap.serialize(generator, mapper);
         }
 
         if (this.nio != null) {
-            generator.writeKey("nio");
+            JsonpUtils.writeKey(generator, KEY_NIO);
             this.nio.serialize(generator, mapper);
         }
     }
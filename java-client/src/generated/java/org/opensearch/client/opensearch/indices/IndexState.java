@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -147,9 +149,15 @@ public class IndexState implements PlainJsonSerializable, ToCopyableBuilder<Inde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_DATA_STREAM = JsonpKey.of("data_stream");
+    private static final JsonpKey KEY_DEFAULTS = JsonpKey.of("defaults");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartObject();
             for (Map.Entry<String, Alias> item0 : this.aliases.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -159,22 +167,22 @@ public class IndexState implements PlainJsonSerializable, ToCopyableBuilder<Inde
         }
 
         if (this.dataStream != null) {
-            generator.writeKey("data_stream");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAM);
             generator.write(this.dataStream);
         }
 
         if (this.defaults != null) {
-            generator.writeKey("defaults");
+            JsonpUtils.writeKey(generator, KEY_DEFAULTS);
             this.defaults.serialize(generator, mapper);
         }
 
         if (this.mappings != null) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             this.mappings.serialize(generator, mapper);
         }
 
         if (this.settings != null) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             this.settings.serialize(generator, mapper);
         }
     }
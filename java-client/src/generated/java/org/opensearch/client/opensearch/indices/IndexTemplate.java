@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -193,14 +195,23 @@ public class IndexTemplate implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_AUTO_CREATE = JsonpKey.of("allow_auto_create");
+    private static final JsonpKey KEY_COMPOSED_OF = JsonpKey.of("composed_of");
+    private static final JsonpKey KEY_DATA_STREAM = JsonpKey.of("data_stream");
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allowAutoCreate != null) {
-            generator.writeKey("allow_auto_create");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_AUTO_CREATE);
             generator.write(this.allowAutoCreate);
         }
 
         if (ApiTypeHelper.isDefined(this.composedOf)) {
-            generator.writeKey("composed_of");
+            JsonpUtils.writeKey(generator, KEY_COMPOSED_OF);
             generator.writeStartArray();
             for (String item0 : this.composedOf) {
                 generator.write(item0);
@@ -209,11 +220,11 @@ public class IndexTemplate implements PlainJsonSerializable, ToCopyableBuilder<I
         }
 
         if (this.dataStream != null) {
-            generator.writeKey("data_stream");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAM);
             this.dataStream.serialize(generator, mapper);
         }
 
-        generator.writeKey("index_patterns");
+        JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
         generator.writeStartArray();
         for (String item0 : this.indexPatterns) {
             generator.write(item0);
@@ -221,7 +232,7 @@ public class IndexTemplate implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -231,17 +242,17 @@ public class IndexTemplate implements PlainJsonSerializable, ToCopyableBuilder<I
         }
 
         if (this.priority != null) {
-            generator.writeKey("priority");
+            JsonpUtils.writeKey(generator, KEY_PRIORITY);
             generator.write(this.priority);
         }
 
         if (this.template != null) {
-            generator.writeKey("template");
+            JsonpUtils.writeKey(generator, KEY_TEMPLATE);
             this.template.serialize(generator, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
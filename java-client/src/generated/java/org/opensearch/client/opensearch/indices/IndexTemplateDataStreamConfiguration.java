@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,19 +130,23 @@ public class IndexTemplateDataStreamConfiguration
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOW_CUSTOM_ROUTING = JsonpKey.of("allow_custom_routing");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_TIMESTAMP_FIELD = JsonpKey.of("timestamp_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allowCustomRouting != null) {
-            generator.writeKey("allow_custom_routing");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_CUSTOM_ROUTING);
             generator.write(this.allowCustomRouting);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (this.timestampField != null) {
-            generator.writeKey("timestamp_field");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP_FIELD);
             this.timestampField.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,14 +110,17 @@ public class IndexVersioning implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATED = JsonpKey.of("created");
+    private static final JsonpKey KEY_CREATED_STRING = JsonpKey.of("created_string");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.created != null) {
-            generator.writeKey("created");
+            JsonpUtils.writeKey(generator, KEY_CREATED);
             generator.write(this.created);
         }
 
         if (this.createdString != null) {
-            generator.writeKey("created_string");
+            JsonpUtils.writeKey(generator, KEY_CREATED_STRING);
             generator.write(this.createdString);
         }
     }
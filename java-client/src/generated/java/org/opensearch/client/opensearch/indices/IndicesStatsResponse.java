@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,12 +121,16 @@ public class IndicesStatsResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALL = JsonpKey.of("_all");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("_all");
+        JsonpUtils.writeKey(generator, KEY_ALL);
         this.all.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartObject();
             for (Map.Entry<String, IndicesStats> item0 : this.indices.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -133,7 +139,7 @@ public class IndicesStatsResponse implements PlainJsonSerializable, ToCopyableBu
             generator.writeEnd();
         }
 
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -256,29 +258,42 @@ public class IngestionSource implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALL_ACTIVE = JsonpKey.of("all_active");
+    private static final JsonpKey KEY_ERROR_STRATEGY = JsonpKey.of("error_strategy");
+    private static final JsonpKey KEY_INTERNAL_QUEUE_SIZE = JsonpKey.of("internal_queue_size");
+    private static final JsonpKey KEY_NUM_PROCESSOR_THREADS = JsonpKey.of("num_processor_threads");
+    private static final JsonpKey KEY_PARAM = JsonpKey.of("param");
+    private static final JsonpKey KEY_POINTER = JsonpKey.of("pointer");
+    private static final JsonpKey KEY_POINTER_INIT_RESET = JsonpKey.of("pointer.init.reset");
+    private static final JsonpKey KEY_POINTER_INIT_RESET_VALUE = JsonpKey.of("pointer.init.reset.value");
+    private static final JsonpKey KEY_POLL = JsonpKey.of("poll");
+    private static final JsonpKey KEY_POLL_MAX_BATCH_SIZE = JsonpKey.of("poll.max_batch_size");
+    private static final JsonpKey KEY_POLL_TIMEOUT = JsonpKey.of("poll.timeout");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allActive != null) {
-            generator.writeKey("all_active");
+            JsonpUtils.writeKey(generator, KEY_ALL_ACTIVE);
             generator.write(this.allActive);
         }
 
         if (this.errorStrategy != null) {
-            generator.writeKey("error_strategy");
+            JsonpUtils.writeKey(generator, KEY_ERROR_STRATEGY);
             this.errorStrategy.serialize(generator, mapper);
         }
 
         if (this.internalQueueSize != null) {
-            generator.writeKey("internal_queue_size");
+            JsonpUtils.writeKey(generator, KEY_INTERNAL_QUEUE_SIZE);
             generator.write(this.internalQueueSize);
         }
 
         if (this.numProcessorThreads != null) {
-            generator.writeKey("num_processor_threads");
+            JsonpUtils.writeKey(generator, KEY_NUM_PROCESSOR_THREADS);
             generator.write(this.numProcessorThreads);
         }
 
         if (ApiTypeHelper.isDefined(this.param)) {
-            generator.writeKey("param");
+            JsonpUtils.writeKey(generator, KEY_PARAM);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.param.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -288,37 +303,37 @@ public class IngestionSource implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.pointer != null) {
-            generator.writeKey("pointer");
+            JsonpUtils.writeKey(generator, KEY_POINTER);
             this.pointer.serialize(generator, mapper);
         }
 
         if (this.pointerInitReset != null) {
-            generator.writeKey("pointer.init.reset");
+            JsonpUtils.writeKey(generator, KEY_POINTER_INIT_RESET);
             this.pointerInitReset.serialize(generator, mapper);
         }
 
         if (this.pointerInitResetValue != null) {
-            generator.writeKey("pointer.init.reset.value");
+            JsonpUtils.writeKey(generator, KEY_POINTER_INIT_RESET_VALUE);
             generator.write(this.pointerInitResetValue);
         }
 
         if (this.poll != null) {
-            generator.writeKey("poll");
+            JsonpUtils.writeKey(generator, KEY_POLL);
             this.poll.serialize(generator, mapper);
         }
 
         if (this.pollMaxBatchSize != null) {
-            generator.writeKey("poll.max_batch_size");
+            JsonpUtils.writeKey(generator, KEY_POLL_MAX_BATCH_SIZE);
             generator.write(this.pollMaxBatchSize);
         }
 
         if (this.pollTimeout != null) {
-            generator.writeKey("poll.timeout");
+            JsonpUtils.writeKey(generator, KEY_POLL_TIMEOUT);
             generator.write(this.pollTimeout);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,14 +112,17 @@ public class IngestionSourcePointerInit
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_RESET = JsonpKey.of("reset");
+    private static final JsonpKey KEY_RESET_VALUE = JsonpKey.of("reset.value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.reset != null) {
-            generator.writeKey("reset");
+            JsonpUtils.writeKey(generator, KEY_RESET);
             this.reset.serialize(generator, mapper);
         }
 
         if (this.resetValue != null) {
-            generator.writeKey("reset.value");
+            JsonpUtils.writeKey(generator, KEY_RESET_VALUE);
             generator.write(this.resetValue);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,14 +110,17 @@ public class IngestionSourcePoll implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_BATCH_SIZE = JsonpKey.of("max_batch_size");
+    private static final JsonpKey KEY_TIMEOUT = JsonpKey.of("timeout");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxBatchSize != null) {
-            generator.writeKey("max_batch_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_BATCH_SIZE);
             generator.write(this.maxBatchSize);
         }
 
         if (this.timeout != null) {
-            generator.writeKey("timeout");
+            JsonpUtils.writeKey(generator, KEY_TIMEOUT);
             generator.write(this.timeout);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,23 +129,27 @@ public class OpenResponse implements PlainJsonSerializable, ToCopyableBuilder<Op
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACKNOWLEDGED = JsonpKey.of("acknowledged");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+    private static final JsonpKey KEY_TASK = JsonpKey.of("task");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.acknowledged != null) {
-            generator.writeKey("acknowledged");
+            JsonpUtils.writeKey(generator, KEY_ACKNOWLEDGED);
             generator.write(this.acknowledged);
         }
 
         if (this.shardsAcknowledged != null) {
-            generator.writeKey("shards_acknowledged");
+            JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
             generator.write(this.shardsAcknowledged);
         }
 
         if (this.task != null) {
-            generator.writeKey("task");
+            JsonpUtils.writeKey(generator, KEY_TASK);
             generator.write(this.task);
         }
     }
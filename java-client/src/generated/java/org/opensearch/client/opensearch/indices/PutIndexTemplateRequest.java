@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -265,9 +267,17 @@ public final class PutIndexTemplateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPOSED_OF = JsonpKey.of("composed_of");
+    private static final JsonpKey KEY_DATA_STREAM = JsonpKey.of("data_stream");
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.composedOf)) {
-            generator.writeKey("composed_of");
+            JsonpUtils.writeKey(generator, KEY_COMPOSED_OF);
             generator.writeStartArray();
             for (String item0 : this.composedOf) {
                 generator.write(item0);
@@ -276,12 +286,12 @@ public final class PutIndexTemplateRequest extends RequestBase
         }
 
         if (this.dataStream != null) {
-            generator.writeKey("data_stream");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAM);
             this.dataStream.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.indexPatterns)) {
-            generator.writeKey("index_patterns");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
             generator.writeStartArray();
             for (String item0 : this.indexPatterns) {
                 generator.write(item0);
@@ -290,7 +300,7 @@ public final class PutIndexTemplateRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -300,17 +310,17 @@ public final class PutIndexTemplateRequest extends RequestBase
         }
 
         if (this.priority != null) {
-            generator.writeKey("priority");
+            JsonpUtils.writeKey(generator, KEY_PRIORITY);
             generator.write(this.priority);
         }
 
         if (this.template != null) {
-            generator.writeKey("template");
+            JsonpUtils.writeKey(generator, KEY_TEMPLATE);
             this.template.serialize(generator, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -248,9 +250,16 @@ public final class PutTemplateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartObject();
             for (Map.Entry<String, Alias> item0 : this.aliases.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -260,7 +269,7 @@ public final class PutTemplateRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.indexPatterns)) {
-            generator.writeKey("index_patterns");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
             generator.writeStartArray();
             for (String item0 : this.indexPatterns) {
                 generator.write(item0);
@@ -269,17 +278,17 @@ public final class PutTemplateRequest extends RequestBase
         }
 
         if (this.mappings != null) {
-            generator.writeKey("mappings");
+            JsonpUtils.writeKey(generator, KEY_MAPPINGS);
             this.mappings.serialize(generator, mapper);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             generator.write(this.order);
         }
 
         if (ApiTypeHelper.isDefined(this.settings)) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.settings.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -289,7 +298,7 @@ public final class PutTemplateRequest extends RequestBase
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
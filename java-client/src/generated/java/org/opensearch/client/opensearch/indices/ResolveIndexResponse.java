@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,22 +119,26 @@ public class ResolveIndexResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_DATA_STREAMS = JsonpKey.of("data_streams");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("aliases");
+        JsonpUtils.writeKey(generator, KEY_ALIASES);
         generator.writeStartArray();
         for (ResolveIndexAliasItem item0 : this.aliases) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("data_streams");
+        JsonpUtils.writeKey(generator, KEY_DATA_STREAMS);
         generator.writeStartArray();
         for (ResolveIndexDataStreamsItem item0 : this.dataStreams) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("indices");
+        JsonpUtils.writeKey(generator, KEY_INDICES);
         generator.writeStartArray();
         for (ResolveIndexItem item0 : this.indices) {
             item0.serialize(generator, mapper);
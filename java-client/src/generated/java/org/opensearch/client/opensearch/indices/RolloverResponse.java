@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.AcknowledgedResponseBase;
@@ -134,9 +136,16 @@ public class RolloverResponse extends AcknowledgedResponseBase implements ToCopy
         return this.shardsAcknowledged;
     }
 
+    private static final JsonpKey KEY_CONDITIONS = JsonpKey.of("conditions");
+    private static final JsonpKey KEY_DRY_RUN = JsonpKey.of("dry_run");
+    private static final JsonpKey KEY_NEW_INDEX = JsonpKey.of("new_index");
+    private static final JsonpKey KEY_OLD_INDEX = JsonpKey.of("old_index");
+    private static final JsonpKey KEY_ROLLED_OVER = JsonpKey.of("rolled_over");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("conditions");
+        JsonpUtils.writeKey(generator, KEY_CONDITIONS);
         generator.writeStartObject();
         for (Map.Entry<String, Boolean> item0 : this.conditions.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -144,19 +153,19 @@ public class RolloverResponse extends AcknowledgedResponseBase implements ToCopy
         }
         generator.writeEnd();
 
-        generator.writeKey("dry_run");
+        JsonpUtils.writeKey(generator, KEY_DRY_RUN);
         generator.write(this.dryRun);
 
-        generator.writeKey("new_index");
+        JsonpUtils.writeKey(generator, KEY_NEW_INDEX);
         generator.write(this.newIndex);
 
-        generator.writeKey("old_index");
+        JsonpUtils.writeKey(generator, KEY_OLD_INDEX);
         generator.write(this.oldIndex);
 
-        generator.writeKey("rolled_over");
+        JsonpUtils.writeKey(generator, KEY_ROLLED_OVER);
         generator.write(this.rolledOver);
 
-        generator.writeKey("shards_acknowledged");
+        JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
         generator.write(this.shardsAcknowledged);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -94,9 +96,11 @@ public class SearchIdle implements PlainJsonSerializable, ToCopyableBuilder<Sear
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AFTER = JsonpKey.of("after");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.after != null) {
-            generator.writeKey("after");
+            JsonpUtils.writeKey(generator, KEY_AFTER);
             this.after.serialize(generator, mapper);
         }
     }
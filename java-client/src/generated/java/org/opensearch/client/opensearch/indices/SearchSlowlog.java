@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class SearchSlowlog implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LEVEL = JsonpKey.of("level");
+    private static final JsonpKey KEY_REFORMAT = JsonpKey.of("reformat");
+    private static final JsonpKey KEY_THRESHOLD = JsonpKey.of("threshold");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.level != null) {
-            generator.writeKey("level");
+            JsonpUtils.writeKey(generator, KEY_LEVEL);
             generator.write(this.level);
         }
 
         if (this.reformat != null) {
-            generator.writeKey("reformat");
+            JsonpUtils.writeKey(generator, KEY_REFORMAT);
             generator.write(this.reformat);
         }
 
         if (this.threshold != null) {
-            generator.writeKey("threshold");
+            JsonpUtils.writeKey(generator, KEY_THRESHOLD);
             this.threshold.serialize(generator, mapper);
         }
     }
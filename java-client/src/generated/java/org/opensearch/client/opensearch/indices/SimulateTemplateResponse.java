@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,9 +111,12 @@ public class SimulateTemplateResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_OVERLAPPING = JsonpKey.of("overlapping");
+    private static final JsonpKey KEY_TEMPLATE = JsonpKey.of("template");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.overlapping)) {
-            generator.writeKey("overlapping");
+            JsonpUtils.writeKey(generator, KEY_OVERLAPPING);
             generator.writeStartArray();
             for (Overlapping item0 : this.overlapping) {
                 item0.serialize(generator, mapper);
@@ -119,7 +124,7 @@ public class SimulateTemplateResponse
             generator.writeEnd();
         }
 
-        generator.writeKey("template");
+        JsonpUtils.writeKey(generator, KEY_TEMPLATE);
         this.template.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -133,24 +135,29 @@ public class SlowlogThresholdLevels
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEBUG = JsonpKey.of("debug");
+    private static final JsonpKey KEY_INFO = JsonpKey.of("info");
+    private static final JsonpKey KEY_TRACE = JsonpKey.of("trace");
+    private static final JsonpKey KEY_WARN = JsonpKey.of("warn");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.debug != null) {
-            generator.writeKey("debug");
+            JsonpUtils.writeKey(generator, KEY_DEBUG);
             this.debug.serialize(generator, mapper);
         }
 
         if (this.info != null) {
-            generator.writeKey("info");
+            JsonpUtils.writeKey(generator, KEY_INFO);
             this.info.serialize(generator, mapper);
         }
 
         if (this.trace != null) {
-            generator.writeKey("trace");
+            JsonpUtils.writeKey(generator, KEY_TRACE);
             this.trace.serialize(generator, mapper);
         }
 
         if (this.warn != null) {
-            generator.writeKey("warn");
+            JsonpUtils.writeKey(generator, KEY_WARN);
             this.warn.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,19 +122,23 @@ public class SoftDeletes implements PlainJsonSerializable, ToCopyableBuilder<Sof
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_RETENTION = JsonpKey.of("retention");
+    private static final JsonpKey KEY_RETENTION_LEASE = JsonpKey.of("retention_lease");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.retention != null) {
-            generator.writeKey("retention");
+            JsonpUtils.writeKey(generator, KEY_RETENTION);
             this.retention.serialize(generator, mapper);
         }
 
         if (this.retentionLease != null) {
-            generator.writeKey("retention_lease");
+            JsonpUtils.writeKey(generator, KEY_RETENTION_LEASE);
             this.retentionLease.serialize(generator, mapper);
         }
     }
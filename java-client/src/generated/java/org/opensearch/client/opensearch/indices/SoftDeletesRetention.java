@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,9 +95,11 @@ public class SoftDeletesRetention implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_OPERATIONS = JsonpKey.of("operations");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.operations != null) {
-            generator.writeKey("operations");
+            JsonpUtils.writeKey(generator, KEY_OPERATIONS);
             generator.write(this.operations);
         }
     }
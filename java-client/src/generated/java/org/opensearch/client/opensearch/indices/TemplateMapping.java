@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -162,8 +164,15 @@ public class TemplateMapping implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("aliases");
+        JsonpUtils.writeKey(generator, KEY_ALIASES);
         generator.writeStartObject();
         for (Map.Entry<String, Alias> item0 : this.aliases.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -171,20 +180,20 @@ public class TemplateMapping implements PlainJsonSerializable, ToCopyableBuilder
         }
         generator.writeEnd();
 
-        generator.writeKey("index_patterns");
+        JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
         generator.writeStartArray();
         for (String item0 : this.indexPatterns) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("mappings");
+        JsonpUtils.writeKey(generator, KEY_MAPPINGS);
         this.mappings.serialize(generator, mapper);
 
-        generator.writeKey("order");
+        JsonpUtils.writeKey(generator, KEY_ORDER);
         generator.write(this.order);
 
-        generator.writeKey("settings");
+        JsonpUtils.writeKey(generator, KEY_SETTINGS);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.settings.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -193,7 +202,7 @@ public class TemplateMapping implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
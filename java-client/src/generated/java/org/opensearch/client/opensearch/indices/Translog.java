@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,29 +144,35 @@ public class Translog implements PlainJsonSerializable, ToCopyableBuilder<Transl
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DURABILITY = JsonpKey.of("durability");
+    private static final JsonpKey KEY_FLUSH_THRESHOLD_SIZE = JsonpKey.of("flush_threshold_size");
+    private static final JsonpKey KEY_GENERATION_THRESHOLD_SIZE = JsonpKey.of("generation_threshold_size");
+    private static final JsonpKey KEY_RETENTION = JsonpKey.of("retention");
+    private static final JsonpKey KEY_SYNC_INTERVAL = JsonpKey.of("sync_interval");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.durability != null) {
-            generator.writeKey("durability");
+            JsonpUtils.writeKey(generator, KEY_DURABILITY);
             this.durability.serialize(generator, mapper);
         }
 
         if (this.flushThresholdSize != null) {
-            generator.writeKey("flush_threshold_size");
+            JsonpUtils.writeKey(generator, KEY_FLUSH_THRESHOLD_SIZE);
             generator.write(this.flushThresholdSize);
         }
 
         if (this.generationThresholdSize != null) {
-            generator.writeKey("generation_threshold_size");
+            JsonpUtils.writeKey(generator, KEY_GENERATION_THRESHOLD_SIZE);
             generator.write(this.generationThresholdSize);
         }
 
         if (this.retention != null) {
-            generator.writeKey("retention");
+            JsonpUtils.writeKey(generator, KEY_RETENTION);
             this.retention.serialize(generator, mapper);
         }
 
         if (this.syncInterval != null) {
-            generator.writeKey("sync_interval");
+            JsonpUtils.writeKey(generator, KEY_SYNC_INTERVAL);
             this.syncInterval.serialize(generator, mapper);
         }
     }
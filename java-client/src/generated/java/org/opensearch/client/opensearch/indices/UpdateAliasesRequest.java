@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -157,9 +159,11 @@ public final class UpdateAliasesRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.actions)) {
-            generator.writeKey("actions");
+            JsonpUtils.writeKey(generator, KEY_ACTIONS);
             generator.writeStartArray();
             for (Action item0 : this.actions) {
                 item0.serialize(generator, mapper);
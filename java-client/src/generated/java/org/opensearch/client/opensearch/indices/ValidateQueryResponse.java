@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,14 +133,19 @@ public class ValidateQueryResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_EXPLANATIONS = JsonpKey.of("explanations");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_VALID = JsonpKey.of("valid");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             generator.write(this.error);
         }
 
         if (ApiTypeHelper.isDefined(this.explanations)) {
-            generator.writeKey("explanations");
+            JsonpUtils.writeKey(generator, KEY_EXPLANATIONS);
             generator.writeStartArray();
             for (IndicesValidationExplanation item0 : this.explanations) {
                 item0.serialize(generator, mapper);
@@ -147,11 +154,11 @@ public class ValidateQueryResponse
         }
 
         if (this.shards != null) {
-            generator.writeKey("_shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
 
-        generator.writeKey("valid");
+        JsonpUtils.writeKey(generator, KEY_VALID);
         generator.write(this.valid);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,14 +152,20 @@ public class AnalyzeDetail implements PlainJsonSerializable, ToCopyableBuilder<A
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ANALYZER = JsonpKey.of("analyzer");
+    private static final JsonpKey KEY_CHARFILTERS = JsonpKey.of("charfilters");
+    private static final JsonpKey KEY_CUSTOM_ANALYZER = JsonpKey.of("custom_analyzer");
+    private static final JsonpKey KEY_TOKENFILTERS = JsonpKey.of("tokenfilters");
+    private static final JsonpKey KEY_TOKENIZER = JsonpKey.of("tokenizer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.analyzer != null) {
-            generator.writeKey("analyzer");
+            JsonpUtils.writeKey(generator, KEY_ANALYZER);
             this.analyzer.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.charfilters)) {
-            generator.writeKey("charfilters");
+            JsonpUtils.writeKey(generator, KEY_CHARFILTERS);
             generator.writeStartArray();
             for (CharFilterDetail item0 : this.charfilters) {
                 item0.serialize(generator, mapper);
@@ -165,11 +173,11 @@ public class AnalyzeDetail implements PlainJsonSerializable, ToCopyableBuilder<A
             generator.writeEnd();
         }
 
-        generator.writeKey("custom_analyzer");
+        JsonpUtils.writeKey(generator, KEY_CUSTOM_ANALYZER);
         generator.write(this.customAnalyzer);
 
         if (ApiTypeHelper.isDefined(this.tokenfilters)) {
-            generator.writeKey("tokenfilters");
+            JsonpUtils.writeKey(generator, KEY_TOKENFILTERS);
             generator.writeStartArray();
             for (TokenDetail item0 : this.tokenfilters) {
                 item0.serialize(generator, mapper);
@@ -178,7 +186,7 @@ public class AnalyzeDetail implements PlainJsonSerializable, ToCopyableBuilder<A
         }
 
         if (this.tokenizer != null) {
-            generator.writeKey("tokenizer");
+            JsonpUtils.writeKey(generator, KEY_TOKENIZER);
             this.tokenizer.serialize(generator, mapper);
         }
     }
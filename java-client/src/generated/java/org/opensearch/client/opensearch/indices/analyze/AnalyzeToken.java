@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,25 +168,32 @@ public class AnalyzeToken implements PlainJsonSerializable, ToCopyableBuilder<An
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_END_OFFSET = JsonpKey.of("end_offset");
+    private static final JsonpKey KEY_POSITION = JsonpKey.of("position");
+    private static final JsonpKey KEY_POSITION_LENGTH = JsonpKey.of("positionLength");
+    private static final JsonpKey KEY_START_OFFSET = JsonpKey.of("start_offset");
+    private static final JsonpKey KEY_TOKEN = JsonpKey.of("token");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("end_offset");
+        JsonpUtils.writeKey(generator, KEY_END_OFFSET);
         generator.write(this.endOffset);
 
-        generator.writeKey("position");
+        JsonpUtils.writeKey(generator, KEY_POSITION);
         generator.write(this.position);
 
         if (this.positionLength != null) {
-            generator.writeKey("positionLength");
+            JsonpUtils.writeKey(generator, KEY_POSITION_LENGTH);
             generator.write(this.positionLength);
         }
 
-        generator.writeKey("start_offset");
+        JsonpUtils.writeKey(generator, KEY_START_OFFSET);
         generator.write(this.startOffset);
 
-        generator.writeKey("token");
+        JsonpUtils.writeKey(generator, KEY_TOKEN);
         generator.write(this.token);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -207,34 +209,44 @@ public class ExplainAnalyzeToken implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BYTES = JsonpKey.of("bytes");
+    private static final JsonpKey KEY_END_OFFSET = JsonpKey.of("end_offset");
+    private static final JsonpKey KEY_KEYWORD = JsonpKey.of("keyword");
+    private static final JsonpKey KEY_POSITION = JsonpKey.of("position");
+    private static final JsonpKey KEY_POSITION_LENGTH = JsonpKey.of("positionLength");
+    private static final JsonpKey KEY_START_OFFSET = JsonpKey.of("start_offset");
+    private static final JsonpKey KEY_TERM_FREQUENCY = JsonpKey.of("termFrequency");
+    private static final JsonpKey KEY_TOKEN = JsonpKey.of("token");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bytes");
+        JsonpUtils.writeKey(generator, KEY_BYTES);
         generator.write(this.bytes);
 
-        generator.writeKey("end_offset");
+        JsonpUtils.writeKey(generator, KEY_END_OFFSET);
         generator.write(this.endOffset);
 
         if (this.keyword != null) {
-            generator.writeKey("keyword");
+            JsonpUtils.writeKey(generator, KEY_KEYWORD);
             generator.write(this.keyword);
         }
 
-        generator.writeKey("position");
+        JsonpUtils.writeKey(generator, KEY_POSITION);
         generator.write(this.position);
 
-        generator.writeKey("positionLength");
+        JsonpUtils.writeKey(generator, KEY_POSITION_LENGTH);
         generator.write(this.positionLength);
 
-        generator.writeKey("start_offset");
+        JsonpUtils.writeKey(generator, KEY_START_OFFSET);
         generator.write(this.startOffset);
 
-        generator.writeKey("termFrequency");
+        JsonpUtils.writeKey(generator, KEY_TERM_FREQUENCY);
         generator.write(this.termFrequency);
 
-        generator.writeKey("token");
+        JsonpUtils.writeKey(generator, KEY_TOKEN);
         generator.write(this.token);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -111,12 +113,15 @@ public class CloseIndexResult implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLOSED = JsonpKey.of("closed");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("closed");
+        JsonpUtils.writeKey(generator, KEY_CLOSED);
         generator.write(this.closed);
 
         if (ApiTypeHelper.isDefined(this.shards)) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.writeStartObject();
             for (Map.Entry<String, CloseShardResult> item0 : this.shards.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,8 +99,10 @@ public class IndexAliases implements PlainJsonSerializable, ToCopyableBuilder<In
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("aliases");
+        JsonpUtils.writeKey(generator, KEY_ALIASES);
         generator.writeStartObject();
         for (Map.Entry<String, AliasDefinition> item0 : this.aliases.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,13 +109,16 @@ public class IndexMappingRecord implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ITEM = JsonpKey.of("item");
+    private static final JsonpKey KEY_MAPPINGS = JsonpKey.of("mappings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.item != null) {
-            generator.writeKey("item");
+            JsonpUtils.writeKey(generator, KEY_ITEM);
             this.item.serialize(generator, mapper);
         }
 
-        generator.writeKey("mappings");
+        JsonpUtils.writeKey(generator, KEY_MAPPINGS);
         this.mappings.serialize(generator, mapper);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -121,14 +123,18 @@ public class FileDetails implements PlainJsonSerializable, ToCopyableBuilder<Fil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LENGTH = JsonpKey.of("length");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_RECOVERED = JsonpKey.of("recovered");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("length");
+        JsonpUtils.writeKey(generator, KEY_LENGTH);
         generator.write(this.length);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("recovered");
+        JsonpUtils.writeKey(generator, KEY_RECOVERED);
         generator.write(this.recovered);
     }
 
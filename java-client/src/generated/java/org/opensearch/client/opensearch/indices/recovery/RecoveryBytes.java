@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -184,42 +186,52 @@ public class RecoveryBytes implements PlainJsonSerializable, ToCopyableBuilder<R
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PERCENT = JsonpKey.of("percent");
+    private static final JsonpKey KEY_RECOVERED = JsonpKey.of("recovered");
+    private static final JsonpKey KEY_RECOVERED_FROM_SNAPSHOT = JsonpKey.of("recovered_from_snapshot");
+    private static final JsonpKey KEY_RECOVERED_FROM_SNAPSHOT_IN_BYTES = JsonpKey.of("recovered_from_snapshot_in_bytes");
+    private static final JsonpKey KEY_RECOVERED_IN_BYTES = JsonpKey.of("recovered_in_bytes");
+    private static final JsonpKey KEY_REUSED = JsonpKey.of("reused");
+    private static final JsonpKey KEY_REUSED_IN_BYTES = JsonpKey.of("reused_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_IN_BYTES = JsonpKey.of("total_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("percent");
+        JsonpUtils.writeKey(generator, KEY_PERCENT);
         generator.write(this.percent);
 
         if (this.recovered != null) {
-            generator.writeKey("recovered");
+            JsonpUtils.writeKey(generator, KEY_RECOVERED);
             generator.write(this.recovered);
         }
 
         if (this.recoveredFromSnapshot != null) {
-            generator.writeKey("recovered_from_snapshot");
+            JsonpUtils.writeKey(generator, KEY_RECOVERED_FROM_SNAPSHOT);
             generator.write(this.recoveredFromSnapshot);
         }
 
         if (this.recoveredFromSnapshotInBytes != null) {
-            generator.writeKey("recovered_from_snapshot_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_RECOVERED_FROM_SNAPSHOT_IN_BYTES);
             generator.write(this.recoveredFromSnapshotInBytes);
         }
 
-        generator.writeKey("recovered_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_RECOVERED_IN_BYTES);
         generator.write(this.recoveredInBytes);
 
         if (this.reused != null) {
-            generator.writeKey("reused");
+            JsonpUtils.writeKey(generator, KEY_REUSED);
             generator.write(this.reused);
         }
 
-        generator.writeKey("reused_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_REUSED_IN_BYTES);
         generator.write(this.reusedInBytes);
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
-        generator.writeKey("total_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_IN_BYTES);
         generator.write(this.totalInBytes);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -149,9 +151,15 @@ public class RecoveryFiles implements PlainJsonSerializable, ToCopyableBuilder<R
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DETAILS = JsonpKey.of("details");
+    private static final JsonpKey KEY_PERCENT = JsonpKey.of("percent");
+    private static final JsonpKey KEY_RECOVERED = JsonpKey.of("recovered");
+    private static final JsonpKey KEY_REUSED = JsonpKey.of("reused");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.details)) {
-            generator.writeKey("details");
+            JsonpUtils.writeKey(generator, KEY_DETAILS);
             generator.writeStartArray();
             for (FileDetails item0 : this.details) {
                 item0.serialize(generator, mapper);
@@ -159,16 +167,16 @@ public class RecoveryFiles implements PlainJsonSerializable, ToCopyableBuilder<R
             generator.writeEnd();
         }
 
-        generator.writeKey("percent");
+        JsonpUtils.writeKey(generator, KEY_PERCENT);
         generator.write(this.percent);
 
-        generator.writeKey("recovered");
+        JsonpUtils.writeKey(generator, KEY_RECOVERED);
         generator.write(this.recovered);
 
-        generator.writeKey("reused");
+        JsonpUtils.writeKey(generator, KEY_REUSED);
         generator.write(this.reused);
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         generator.write(this.total);
     }
 
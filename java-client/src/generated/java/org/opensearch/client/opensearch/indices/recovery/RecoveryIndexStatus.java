@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -193,40 +195,50 @@ public class RecoveryIndexStatus implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BYTES = JsonpKey.of("bytes");
+    private static final JsonpKey KEY_FILES = JsonpKey.of("files");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SOURCE_THROTTLE_TIME = JsonpKey.of("source_throttle_time");
+    private static final JsonpKey KEY_SOURCE_THROTTLE_TIME_IN_MILLIS = JsonpKey.of("source_throttle_time_in_millis");
+    private static final JsonpKey KEY_TARGET_THROTTLE_TIME = JsonpKey.of("target_throttle_time");
+    private static final JsonpKey KEY_TARGET_THROTTLE_TIME_IN_MILLIS = JsonpKey.of("target_throttle_time_in_millis");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bytes != null) {
-            generator.writeKey("bytes");
+            JsonpUtils.writeKey(generator, KEY_BYTES);
             this.bytes.serialize(generator, mapper);
         }
 
-        generator.writeKey("files");
+        JsonpUtils.writeKey(generator, KEY_FILES);
         this.files.serialize(generator, mapper);
 
-        generator.writeKey("size");
+        JsonpUtils.writeKey(generator, KEY_SIZE);
         this.size.serialize(generator, mapper);
 
         if (this.sourceThrottleTime != null) {
-            generator.writeKey("source_throttle_time");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_THROTTLE_TIME);
             this.sourceThrottleTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("source_throttle_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_SOURCE_THROTTLE_TIME_IN_MILLIS);
         generator.write(this.sourceThrottleTimeInMillis);
 
         if (this.targetThrottleTime != null) {
-            generator.writeKey("target_throttle_time");
+            JsonpUtils.writeKey(generator, KEY_TARGET_THROTTLE_TIME);
             this.targetThrottleTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("target_throttle_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TARGET_THROTTLE_TIME_IN_MILLIS);
         generator.write(this.targetThrottleTimeInMillis);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -291,84 +293,101 @@ public class RecoveryOrigin implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOOTSTRAP_NEW_HISTORY_UUID = JsonpKey.of("bootstrap_new_history_uuid");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_HOSTNAME = JsonpKey.of("hostname");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_IS_SEARCHABLE_SNAPSHOT = JsonpKey.of("isSearchableSnapshot");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_REMOTE_STORE_INDEX_SHALLOW_COPY = JsonpKey.of("remoteStoreIndexShallowCopy");
+    private static final JsonpKey KEY_REPOSITORY = JsonpKey.of("repository");
+    private static final JsonpKey KEY_RESTORE_UUID = JsonpKey.of("restoreUUID");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+    private static final JsonpKey KEY_SOURCE_REMOTE_STORE_REPOSITORY = JsonpKey.of("sourceRemoteStoreRepository");
+    private static final JsonpKey KEY_SOURCE_REMOTE_TRANSLOG_REPOSITORY = JsonpKey.of("sourceRemoteTranslogRepository");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.bootstrapNewHistoryUuid != null) {
-            generator.writeKey("bootstrap_new_history_uuid");
+            JsonpUtils.writeKey(generator, KEY_BOOTSTRAP_NEW_HISTORY_UUID);
             generator.write(this.bootstrapNewHistoryUuid);
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.hostname != null) {
-            generator.writeKey("hostname");
+            JsonpUtils.writeKey(generator, KEY_HOSTNAME);
             generator.write(this.hostname);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.isSearchableSnapshot != null) {
-            generator.writeKey("isSearchableSnapshot");
+            JsonpUtils.writeKey(generator, KEY_IS_SEARCHABLE_SNAPSHOT);
             generator.write(this.isSearchableSnapshot);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.remoteStoreIndexShallowCopy != null) {
-            generator.writeKey("remoteStoreIndexShallowCopy");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_STORE_INDEX_SHALLOW_COPY);
             generator.write(this.remoteStoreIndexShallowCopy);
         }
 
         if (this.repository != null) {
-            generator.writeKey("repository");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY);
             generator.write(this.repository);
         }
 
         if (this.restoreUuid != null) {
-            generator.writeKey("restoreUUID");
+            JsonpUtils.writeKey(generator, KEY_RESTORE_UUID);
             generator.write(this.restoreUuid);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             generator.write(this.snapshot);
         }
 
         if (this.sourceRemoteStoreRepository != null) {
-            generator.writeKey("sourceRemoteStoreRepository");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_REMOTE_STORE_REPOSITORY);
             generator.write(this.sourceRemoteStoreRepository);
         }
 
         if (this.sourceRemoteTranslogRepository != null) {
-            generator.writeKey("sourceRemoteTranslogRepository");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_REMOTE_TRANSLOG_REPOSITORY);
             generator.write(this.sourceRemoteTranslogRepository);
         }
 
         if (this.transportAddress != null) {
-            generator.writeKey("transport_address");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
             generator.write(this.transportAddress);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
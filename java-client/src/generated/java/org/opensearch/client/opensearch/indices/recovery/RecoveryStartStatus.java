@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,21 +129,26 @@ public class RecoveryStartStatus implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHECK_INDEX_TIME = JsonpKey.of("check_index_time");
+    private static final JsonpKey KEY_CHECK_INDEX_TIME_IN_MILLIS = JsonpKey.of("check_index_time_in_millis");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.checkIndexTime != null) {
-            generator.writeKey("check_index_time");
+            JsonpUtils.writeKey(generator, KEY_CHECK_INDEX_TIME);
             this.checkIndexTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("check_index_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_CHECK_INDEX_TIME_IN_MILLIS);
         generator.write(this.checkIndexTimeInMillis);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
     }
 
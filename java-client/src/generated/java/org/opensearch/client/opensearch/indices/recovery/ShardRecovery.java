@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -279,63 +281,80 @@ public class ShardRecovery implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+    private static final JsonpKey KEY_STAGE = JsonpKey.of("stage");
+    private static final JsonpKey KEY_START = JsonpKey.of("start");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_START_TIME_IN_MILLIS = JsonpKey.of("start_time_in_millis");
+    private static final JsonpKey KEY_STOP_TIME = JsonpKey.of("stop_time");
+    private static final JsonpKey KEY_STOP_TIME_IN_MILLIS = JsonpKey.of("stop_time_in_millis");
+    private static final JsonpKey KEY_TARGET = JsonpKey.of("target");
+    private static final JsonpKey KEY_TOTAL_TIME = JsonpKey.of("total_time");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+    private static final JsonpKey KEY_TRANSLOG = JsonpKey.of("translog");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_VERIFY_INDEX = JsonpKey.of("verify_index");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         this.index.serialize(generator, mapper);
 
-        generator.writeKey("primary");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY);
         generator.write(this.primary);
 
-        generator.writeKey("source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         this.source.serialize(generator, mapper);
 
-        generator.writeKey("stage");
+        JsonpUtils.writeKey(generator, KEY_STAGE);
         generator.write(this.stage);
 
         if (this.start != null) {
-            generator.writeKey("start");
+            JsonpUtils.writeKey(generator, KEY_START);
             this.start.serialize(generator, mapper);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
-        generator.writeKey("start_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_START_TIME_IN_MILLIS);
         generator.write(this.startTimeInMillis);
 
         if (this.stopTime != null) {
-            generator.writeKey("stop_time");
+            JsonpUtils.writeKey(generator, KEY_STOP_TIME);
             generator.write(this.stopTime);
         }
 
         if (this.stopTimeInMillis != null) {
-            generator.writeKey("stop_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_STOP_TIME_IN_MILLIS);
             generator.write(this.stopTimeInMillis);
         }
 
-        generator.writeKey("target");
+        JsonpUtils.writeKey(generator, KEY_TARGET);
         this.target.serialize(generator, mapper);
 
         if (this.totalTime != null) {
-            generator.writeKey("total_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME);
             this.totalTime.serialize(generator, mapper);
         }
 
-        generator.writeKey("total_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
         generator.write(this.totalTimeInMillis);
 
-        generator.writeKey("translog");
+        JsonpUtils.writeKey(generator, KEY_TRANSLOG);
         this.translog.serialize(generator, mapper);
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
 
-        generator.writeKey("verify_index");
+        JsonpUtils.writeKey(generator, KEY_VERIFY_INDEX);
         this.verifyIndex.serialize(generator, mapper);
     }
 
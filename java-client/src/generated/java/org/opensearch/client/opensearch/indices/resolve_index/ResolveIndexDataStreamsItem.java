@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,18 +124,22 @@ public class ResolveIndexDataStreamsItem
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKING_INDICES = JsonpKey.of("backing_indices");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TIMESTAMP_FIELD = JsonpKey.of("timestamp_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("backing_indices");
+        JsonpUtils.writeKey(generator, KEY_BACKING_INDICES);
         generator.writeStartArray();
         for (String item0 : this.backingIndices) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("timestamp_field");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP_FIELD);
         generator.write(this.timestampField);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,9 +139,14 @@ public class ResolveIndexItem implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_DATA_STREAM = JsonpKey.of("data_stream");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartArray();
             for (String item0 : this.aliases) {
                 generator.write(item0);
@@ -147,7 +154,7 @@ public class ResolveIndexItem implements PlainJsonSerializable, ToCopyableBuilde
             generator.writeEnd();
         }
 
-        generator.writeKey("attributes");
+        JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
         generator.writeStartArray();
         for (String item0 : this.attributes) {
             generator.write(item0);
@@ -155,11 +162,11 @@ public class ResolveIndexItem implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
 
         if (this.dataStream != null) {
-            generator.writeKey("data_stream");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAM);
             generator.write(this.dataStream);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
     }
 
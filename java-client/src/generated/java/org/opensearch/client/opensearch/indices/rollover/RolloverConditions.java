@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -307,79 +309,95 @@ public class RolloverConditions implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_AGE = JsonpKey.of("max_age");
+    private static final JsonpKey KEY_MAX_AGE_MILLIS = JsonpKey.of("max_age_millis");
+    private static final JsonpKey KEY_MAX_DOCS = JsonpKey.of("max_docs");
+    private static final JsonpKey KEY_MAX_PRIMARY_SHARD_DOCS = JsonpKey.of("max_primary_shard_docs");
+    private static final JsonpKey KEY_MAX_PRIMARY_SHARD_SIZE = JsonpKey.of("max_primary_shard_size");
+    private static final JsonpKey KEY_MAX_PRIMARY_SHARD_SIZE_BYTES = JsonpKey.of("max_primary_shard_size_bytes");
+    private static final JsonpKey KEY_MAX_SIZE = JsonpKey.of("max_size");
+    private static final JsonpKey KEY_MAX_SIZE_BYTES = JsonpKey.of("max_size_bytes");
+    private static final JsonpKey KEY_MIN_AGE = JsonpKey.of("min_age");
+    private static final JsonpKey KEY_MIN_DOCS = JsonpKey.of("min_docs");
+    private static final JsonpKey KEY_MIN_PRIMARY_SHARD_DOCS = JsonpKey.of("min_primary_shard_docs");
+    private static final JsonpKey KEY_MIN_PRIMARY_SHARD_SIZE = JsonpKey.of("min_primary_shard_size");
+    private static final JsonpKey KEY_MIN_PRIMARY_SHARD_SIZE_BYTES = JsonpKey.of("min_primary_shard_size_bytes");
+    private static final JsonpKey KEY_MIN_SIZE = JsonpKey.of("min_size");
+    private static final JsonpKey KEY_MIN_SIZE_BYTES = JsonpKey.of("min_size_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxAge != null) {
-            generator.writeKey("max_age");
+            JsonpUtils.writeKey(generator, KEY_MAX_AGE);
             this.maxAge.serialize(generator, mapper);
         }
 
         if (this.maxAgeMillis != null) {
-            generator.writeKey("max_age_millis");
+            JsonpUtils.writeKey(generator, KEY_MAX_AGE_MILLIS);
             generator.write(this.maxAgeMillis);
         }
 
         if (this.maxDocs != null) {
-            generator.writeKey("max_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_DOCS);
             generator.write(this.maxDocs);
         }
 
         if (this.maxPrimaryShardDocs != null) {
-            generator.writeKey("max_primary_shard_docs");
+            JsonpUtils.writeKey(generator, KEY_MAX_PRIMARY_SHARD_DOCS);
             generator.write(this.maxPrimaryShardDocs);
         }
 
         if (this.maxPrimaryShardSize != null) {
-            generator.writeKey("max_primary_shard_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_PRIMARY_SHARD_SIZE);
             generator.write(this.maxPrimaryShardSize);
         }
 
         if (this.maxPrimaryShardSizeBytes != null) {
-            generator.writeKey("max_primary_shard_size_bytes");
+            JsonpUtils.writeKey(generator, KEY_MAX_PRIMARY_SHARD_SIZE_BYTES);
             generator.write(this.maxPrimaryShardSizeBytes);
         }
 
         if (this.maxSize != null) {
-            generator.writeKey("max_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_SIZE);
             generator.write(this.maxSize);
         }
 
         if (this.maxSizeBytes != null) {
-            generator.writeKey("max_size_bytes");
+            JsonpUtils.writeKey(generator, KEY_MAX_SIZE_BYTES);
             generator.write(this.maxSizeBytes);
         }
 
         if (this.minAge != null) {
-            generator.writeKey("min_age");
+            JsonpUtils.writeKey(generator, KEY_MIN_AGE);
             this.minAge.serialize(generator, mapper);
         }
 
         if (this.minDocs != null) {
-            generator.writeKey("min_docs");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOCS);
             generator.write(this.minDocs);
         }
 
         if (this.minPrimaryShardDocs != null) {
-            generator.writeKey("min_primary_shard_docs");
+            JsonpUtils.writeKey(generator, KEY_MIN_PRIMARY_SHARD_DOCS);
             generator.write(this.minPrimaryShardDocs);
         }
 
         if (this.minPrimaryShardSize != null) {
-            generator.writeKey("min_primary_shard_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_PRIMARY_SHARD_SIZE);
             generator.write(this.minPrimaryShardSize);
         }
 
         if (this.minPrimaryShardSizeBytes != null) {
-            generator.writeKey("min_primary_shard_size_bytes");
+            JsonpUtils.writeKey(generator, KEY_MIN_PRIMARY_SHARD_SIZE_BYTES);
             generator.write(this.minPrimaryShardSizeBytes);
         }
 
         if (this.minSize != null) {
-            generator.writeKey("min_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_SIZE);
             generator.write(this.minSize);
         }
 
         if (this.minSizeBytes != null) {
-            generator.writeKey("min_size_bytes");
+            JsonpUtils.writeKey(generator, KEY_MIN_SIZE_BYTES);
             generator.write(this.minSizeBytes);
         }
     }
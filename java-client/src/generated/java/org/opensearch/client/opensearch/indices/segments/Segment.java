@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -234,8 +236,21 @@ public class Segment implements PlainJsonSerializable, ToCopyableBuilder<Segment
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_COMMITTED = JsonpKey.of("committed");
+    private static final JsonpKey KEY_COMPOUND = JsonpKey.of("compound");
+    private static final JsonpKey KEY_DELETED_DOCS = JsonpKey.of("deleted_docs");
+    private static final JsonpKey KEY_GENERATION = JsonpKey.of("generation");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_MEMORY_IN_BYTES = JsonpKey.of("memory_in_bytes");
+    private static final JsonpKey KEY_NUM_DOCS = JsonpKey.of("num_docs");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("attributes");
+        JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -243,43 +258,43 @@ public class Segment implements PlainJsonSerializable, ToCopyableBuilder<Segment
         }
         generator.writeEnd();
 
-        generator.writeKey("committed");
+        JsonpUtils.writeKey(generator, KEY_COMMITTED);
         generator.write(this.committed);
 
-        generator.writeKey("compound");
+        JsonpUtils.writeKey(generator, KEY_COMPOUND);
         generator.write(this.compound);
 
-        generator.writeKey("deleted_docs");
+        JsonpUtils.writeKey(generator, KEY_DELETED_DOCS);
         generator.write(this.deletedDocs);
 
-        generator.writeKey("generation");
+        JsonpUtils.writeKey(generator, KEY_GENERATION);
         generator.write(this.generation);
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             generator.write(this.memory);
         }
 
         if (this.memoryInBytes != null) {
-            generator.writeKey("memory_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_IN_BYTES);
             generator.write(this.memoryInBytes);
         }
 
-        generator.writeKey("num_docs");
+        JsonpUtils.writeKey(generator, KEY_NUM_DOCS);
         generator.write(this.numDocs);
 
-        generator.writeKey("search");
+        JsonpUtils.writeKey(generator, KEY_SEARCH);
         generator.write(this.search);
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
         generator.write(this.sizeInBytes);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,17 +136,22 @@ public class ShardsSegment implements PlainJsonSerializable, ToCopyableBuilder<S
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUM_COMMITTED_SEGMENTS = JsonpKey.of("num_committed_segments");
+    private static final JsonpKey KEY_NUM_SEARCH_SEGMENTS = JsonpKey.of("num_search_segments");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_SEGMENTS = JsonpKey.of("segments");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("num_committed_segments");
+        JsonpUtils.writeKey(generator, KEY_NUM_COMMITTED_SEGMENTS);
         generator.write(this.numCommittedSegments);
 
-        generator.writeKey("num_search_segments");
+        JsonpUtils.writeKey(generator, KEY_NUM_SEARCH_SEGMENTS);
         generator.write(this.numSearchSegments);
 
-        generator.writeKey("routing");
+        JsonpUtils.writeKey(generator, KEY_ROUTING);
         this.routing.serialize(generator, mapper);
 
-        generator.writeKey("segments");
+        JsonpUtils.writeKey(generator, KEY_SEGMENTS);
         generator.writeStartObject();
         for (Map.Entry<String, Segment> item0 : this.segments.entrySet()) {
             generator.writeKey(item0.getKey());
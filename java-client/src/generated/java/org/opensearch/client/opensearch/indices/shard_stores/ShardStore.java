@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -130,21 +132,25 @@ public class ShardStore implements PlainJsonSerializable, ToCopyableBuilder<Shar
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATION = JsonpKey.of("allocation");
+    private static final JsonpKey KEY_ALLOCATION_ID = JsonpKey.of("allocation_id");
+    private static final JsonpKey KEY_STORE_EXCEPTION = JsonpKey.of("store_exception");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, NodeAttributes> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
-        generator.writeKey("allocation");
+        JsonpUtils.writeKey(generator, KEY_ALLOCATION);
         this.allocation.serialize(generator, mapper);
 
         if (this.allocationId != null) {
-            generator.writeKey("allocation_id");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION_ID);
             generator.write(this.allocationId);
         }
 
         if (this.storeException != null) {
-            generator.writeKey("store_exception");
+            JsonpUtils.writeKey(generator, KEY_STORE_EXCEPTION);
             this.storeException.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ObjectBuilder;
 
@@ -117,30 +119,36 @@ public abstract class IndexShardStatsBase extends IndexStatsBase {
         return this.shardPath;
     }
 
+    private static final JsonpKey KEY_COMMIT = JsonpKey.of("commit");
+    private static final JsonpKey KEY_RETENTION_LEASES = JsonpKey.of("retention_leases");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_SEQ_NO = JsonpKey.of("seq_no");
+    private static final JsonpKey KEY_SHARD_PATH = JsonpKey.of("shard_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.commit != null) {
-            generator.writeKey("commit");
+            JsonpUtils.writeKey(generator, KEY_COMMIT);
             this.commit.serialize(generator, mapper);
         }
 
         if (this.retentionLeases != null) {
-            generator.writeKey("retention_leases");
+            JsonpUtils.writeKey(generator, KEY_RETENTION_LEASES);
             this.retentionLeases.serialize(generator, mapper);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             this.routing.serialize(generator, mapper);
         }
 
         if (this.seqNo != null) {
-            generator.writeKey("seq_no");
+            JsonpUtils.writeKey(generator, KEY_SEQ_NO);
             this.seqNo.serialize(generator, mapper);
         }
 
         if (this.shardPath != null) {
-            generator.writeKey("shard_path");
+            JsonpUtils.writeKey(generator, KEY_SHARD_PATH);
             this.shardPath.serialize(generator, mapper);
         }
     }
@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.CompletionStats;
@@ -279,84 +281,101 @@ public abstract class IndexStatsBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPLETION = JsonpKey.of("completion");
+    private static final JsonpKey KEY_DOCS = JsonpKey.of("docs");
+    private static final JsonpKey KEY_FIELDDATA = JsonpKey.of("fielddata");
+    private static final JsonpKey KEY_FLUSH = JsonpKey.of("flush");
+    private static final JsonpKey KEY_GET = JsonpKey.of("get");
+    private static final JsonpKey KEY_INDEXING = JsonpKey.of("indexing");
+    private static final JsonpKey KEY_MERGES = JsonpKey.of("merges");
+    private static final JsonpKey KEY_QUERY_CACHE = JsonpKey.of("query_cache");
+    private static final JsonpKey KEY_RECOVERY = JsonpKey.of("recovery");
+    private static final JsonpKey KEY_REFRESH = JsonpKey.of("refresh");
+    private static final JsonpKey KEY_REQUEST_CACHE = JsonpKey.of("request_cache");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+    private static final JsonpKey KEY_SEGMENTS = JsonpKey.of("segments");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_TRANSLOG = JsonpKey.of("translog");
+    private static final JsonpKey KEY_WARMER = JsonpKey.of("warmer");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.completion != null) {
-            generator.writeKey("completion");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION);
             this.completion.serialize(generator, mapper);
         }
 
         if (this.docs != null) {
-            generator.writeKey("docs");
+            JsonpUtils.writeKey(generator, KEY_DOCS);
             this.docs.serialize(generator, mapper);
         }
 
         if (this.fielddata != null) {
-            generator.writeKey("fielddata");
+            JsonpUtils.writeKey(generator, KEY_FIELDDATA);
             this.fielddata.serialize(generator, mapper);
         }
 
         if (this.flush != null) {
-            generator.writeKey("flush");
+            JsonpUtils.writeKey(generator, KEY_FLUSH);
             this.flush.serialize(generator, mapper);
         }
 
         if (this.get != null) {
-            generator.writeKey("get");
+            JsonpUtils.writeKey(generator, KEY_GET);
             this.get.serialize(generator, mapper);
         }
 
         if (this.indexing != null) {
-            generator.writeKey("indexing");
+            JsonpUtils.writeKey(generator, KEY_INDEXING);
             this.indexing.serialize(generator, mapper);
         }
 
         if (this.merges != null) {
-            generator.writeKey("merges");
+            JsonpUtils.writeKey(generator, KEY_MERGES);
             this.merges.serialize(generator, mapper);
         }
 
         if (this.queryCache != null) {
-            generator.writeKey("query_cache");
+            JsonpUtils.writeKey(generator, KEY_QUERY_CACHE);
             this.queryCache.serialize(generator, mapper);
         }
 
         if (this.recovery != null) {
-            generator.writeKey("recovery");
+            JsonpUtils.writeKey(generator, KEY_RECOVERY);
             this.recovery.serialize(generator, mapper);
         }
 
         if (this.refresh != null) {
-            generator.writeKey("refresh");
+            JsonpUtils.writeKey(generator, KEY_REFRESH);
             this.refresh.serialize(generator, mapper);
         }
 
         if (this.requestCache != null) {
-            generator.writeKey("request_cache");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_CACHE);
             this.requestCache.serialize(generator, mapper);
         }
 
         if (this.search != null) {
-            generator.writeKey("search");
+            JsonpUtils.writeKey(generator, KEY_SEARCH);
             this.search.serialize(generator, mapper);
         }
 
         if (this.segments != null) {
-            generator.writeKey("segments");
+            JsonpUtils.writeKey(generator, KEY_SEGMENTS);
             this.segments.serialize(generator, mapper);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             this.store.serialize(generator, mapper);
         }
 
         if (this.translog != null) {
-            generator.writeKey("translog");
+            JsonpUtils.writeKey(generator, KEY_TRANSLOG);
             this.translog.serialize(generator, mapper);
         }
 
         if (this.warmer != null) {
-            generator.writeKey("warmer");
+            JsonpUtils.writeKey(generator, KEY_WARMER);
             this.warmer.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -135,12 +137,17 @@ public class IndicesStats implements PlainJsonSerializable, ToCopyableBuilder<In
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PRIMARIES = JsonpKey.of("primaries");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_UUID = JsonpKey.of("uuid");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("primaries");
+        JsonpUtils.writeKey(generator, KEY_PRIMARIES);
         this.primaries.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.shards)) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.writeStartObject();
             for (Map.Entry<String, List<IndexShardStats>> item0 : this.shards.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -155,10 +162,10 @@ public class IndicesStats implements PlainJsonSerializable, ToCopyableBuilder<In
             generator.writeEnd();
         }
 
-        generator.writeKey("total");
+        JsonpUtils.writeKey(generator, KEY_TOTAL);
         this.total.serialize(generator, mapper);
 
-        generator.writeKey("uuid");
+        JsonpUtils.writeKey(generator, KEY_UUID);
         generator.write(this.uuid);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,17 +136,22 @@ public class ShardCommit implements PlainJsonSerializable, ToCopyableBuilder<Sha
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_GENERATION = JsonpKey.of("generation");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NUM_DOCS = JsonpKey.of("num_docs");
+    private static final JsonpKey KEY_USER_DATA = JsonpKey.of("user_data");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("generation");
+        JsonpUtils.writeKey(generator, KEY_GENERATION);
         generator.write(this.generation);
 
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("num_docs");
+        JsonpUtils.writeKey(generator, KEY_NUM_DOCS);
         generator.write(this.numDocs);
 
-        generator.writeKey("user_data");
+        JsonpUtils.writeKey(generator, KEY_USER_DATA);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.userData.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -170,36 +172,44 @@ public class ShardFileSizeInfo implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVERAGE_SIZE_IN_BYTES = JsonpKey.of("average_size_in_bytes");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_MAX_SIZE_IN_BYTES = JsonpKey.of("max_size_in_bytes");
+    private static final JsonpKey KEY_MIN_SIZE_IN_BYTES = JsonpKey.of("min_size_in_bytes");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.averageSizeInBytes != null) {
-            generator.writeKey("average_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_AVERAGE_SIZE_IN_BYTES);
             generator.write(this.averageSizeInBytes);
         }
 
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
         if (this.maxSizeInBytes != null) {
-            generator.writeKey("max_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MAX_SIZE_IN_BYTES);
             generator.write(this.maxSizeInBytes);
         }
 
         if (this.minSizeInBytes != null) {
-            generator.writeKey("min_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MIN_SIZE_IN_BYTES);
             generator.write(this.minSizeInBytes);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
         generator.write(this.sizeInBytes);
     }
 
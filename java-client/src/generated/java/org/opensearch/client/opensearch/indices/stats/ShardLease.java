@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -124,17 +126,22 @@ public class ShardLease implements PlainJsonSerializable, ToCopyableBuilder<Shar
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_RETAINING_SEQ_NO = JsonpKey.of("retaining_seq_no");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("source");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("retaining_seq_no");
+        JsonpUtils.writeKey(generator, KEY_RETAINING_SEQ_NO);
         generator.write(this.retainingSeqNo);
 
-        generator.writeKey("source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         generator.write(this.source);
 
-        generator.writeKey("timestamp");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
         generator.write(this.timestamp);
     }
 
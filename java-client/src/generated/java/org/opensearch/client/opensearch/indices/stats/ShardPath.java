@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,14 +125,18 @@ public class ShardPath implements PlainJsonSerializable, ToCopyableBuilder<Shard
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATA_PATH = JsonpKey.of("data_path");
+    private static final JsonpKey KEY_IS_CUSTOM_DATA_PATH = JsonpKey.of("is_custom_data_path");
+    private static final JsonpKey KEY_STATE_PATH = JsonpKey.of("state_path");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("data_path");
+        JsonpUtils.writeKey(generator, KEY_DATA_PATH);
         generator.write(this.dataPath);
 
-        generator.writeKey("is_custom_data_path");
+        JsonpUtils.writeKey(generator, KEY_IS_CUSTOM_DATA_PATH);
         generator.write(this.isCustomDataPath);
 
-        generator.writeKey("state_path");
+        JsonpUtils.writeKey(generator, KEY_STATE_PATH);
         generator.write(this.statePath);
     }
 
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,18 +121,22 @@ public class ShardRetentionLeases implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LEASES = JsonpKey.of("leases");
+    private static final JsonpKey KEY_PRIMARY_TERM = JsonpKey.of("primary_term");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("leases");
+        JsonpUtils.writeKey(generator, KEY_LEASES);
         generator.writeStartArray();
         for (ShardLease item0 : this.leases) {
             item0.serialize(generator, mapper);
         }
         generator.writeEnd();
 
-        generator.writeKey("primary_term");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_TERM);
         generator.write(this.primaryTerm);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
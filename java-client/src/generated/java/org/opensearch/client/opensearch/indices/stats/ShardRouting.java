@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,19 +139,24 @@ public class ShardRouting implements PlainJsonSerializable, ToCopyableBuilder<Sh
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_RELOCATING_NODE = JsonpKey.of("relocating_node");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("node");
+        JsonpUtils.writeKey(generator, KEY_NODE);
         generator.write(this.node);
 
-        generator.writeKey("primary");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY);
         generator.write(this.primary);
 
         if (this.relocatingNode != null) {
-            generator.writeKey("relocating_node");
+            JsonpUtils.writeKey(generator, KEY_RELOCATING_NODE);
             generator.write(this.relocatingNode);
         }
 
-        generator.writeKey("state");
+        JsonpUtils.writeKey(generator, KEY_STATE);
         this.state.serialize(generator, mapper);
     }
 
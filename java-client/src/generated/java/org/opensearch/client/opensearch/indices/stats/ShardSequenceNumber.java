@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,14 +118,18 @@ public class ShardSequenceNumber implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_GLOBAL_CHECKPOINT = JsonpKey.of("global_checkpoint");
+    private static final JsonpKey KEY_LOCAL_CHECKPOINT = JsonpKey.of("local_checkpoint");
+    private static final JsonpKey KEY_MAX_SEQ_NO = JsonpKey.of("max_seq_no");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("global_checkpoint");
+        JsonpUtils.writeKey(generator, KEY_GLOBAL_CHECKPOINT);
         generator.write(this.globalCheckpoint);
 
-        generator.writeKey("local_checkpoint");
+        JsonpUtils.writeKey(generator, KEY_LOCAL_CHECKPOINT);
         generator.write(this.localCheckpoint);
 
-        generator.writeKey("max_seq_no");
+        JsonpUtils.writeKey(generator, KEY_MAX_SEQ_NO);
         generator.write(this.maxSeqNo);
     }
 
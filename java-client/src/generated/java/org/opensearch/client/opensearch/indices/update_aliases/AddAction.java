@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -236,14 +238,26 @@ public class AddAction implements ActionVariant, PlainJsonSerializable, ToCopyab
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIAS = JsonpKey.of("alias");
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_FILTER = JsonpKey.of("filter");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDEX_ROUTING = JsonpKey.of("index_routing");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_IS_HIDDEN = JsonpKey.of("is_hidden");
+    private static final JsonpKey KEY_IS_WRITE_INDEX = JsonpKey.of("is_write_index");
+    private static final JsonpKey KEY_MUST_EXIST = JsonpKey.of("must_exist");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_SEARCH_ROUTING = JsonpKey.of("search_routing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alias != null) {
-            generator.writeKey("alias");
+            JsonpUtils.writeKey(generator, KEY_ALIAS);
             generator.write(this.alias);
         }
 
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartArray();
             for (String item0 : this.aliases) {
                 generator.write(item0);
@@ -252,22 +266,22 @@ public class AddAction implements ActionVariant, PlainJsonSerializable, ToCopyab
         }
 
         if (this.filter != null) {
-            generator.writeKey("filter");
+            JsonpUtils.writeKey(generator, KEY_FILTER);
             this.filter.serialize(generator, mapper);
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.indexRouting != null) {
-            generator.writeKey("index_routing");
+            JsonpUtils.writeKey(generator, KEY_INDEX_ROUTING);
             generator.write(this.indexRouting);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -276,27 +290,27 @@ public class AddAction implements ActionVariant, PlainJsonSerializable, ToCopyab
         }
 
         if (this.isHidden != null) {
-            generator.writeKey("is_hidden");
+            JsonpUtils.writeKey(generator, KEY_IS_HIDDEN);
             generator.write(this.isHidden);
         }
 
         if (this.isWriteIndex != null) {
-            generator.writeKey("is_write_index");
+            JsonpUtils.writeKey(generator, KEY_IS_WRITE_INDEX);
             generator.write(this.isWriteIndex);
         }
 
         if (this.mustExist != null) {
-            generator.writeKey("must_exist");
+            JsonpUtils.writeKey(generator, KEY_MUST_EXIST);
             generator.write(this.mustExist);
         }
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
         if (this.searchRouting != null) {
-            generator.writeKey("search_routing");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_ROUTING);
             generator.write(this.searchRouting);
         }
     }
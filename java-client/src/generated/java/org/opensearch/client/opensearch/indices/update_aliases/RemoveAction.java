@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -157,14 +159,20 @@ public class RemoveAction implements ActionVariant, PlainJsonSerializable, ToCop
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIAS = JsonpKey.of("alias");
+    private static final JsonpKey KEY_ALIASES = JsonpKey.of("aliases");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_MUST_EXIST = JsonpKey.of("must_exist");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alias != null) {
-            generator.writeKey("alias");
+            JsonpUtils.writeKey(generator, KEY_ALIAS);
             generator.write(this.alias);
         }
 
         if (ApiTypeHelper.isDefined(this.aliases)) {
-            generator.writeKey("aliases");
+            JsonpUtils.writeKey(generator, KEY_ALIASES);
             generator.writeStartArray();
             for (String item0 : this.aliases) {
                 generator.write(item0);
@@ -173,12 +181,12 @@ public class RemoveAction implements ActionVariant, PlainJsonSerializable, ToCop
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -187,7 +195,7 @@ public class RemoveAction implements ActionVariant, PlainJsonSerializable, ToCop
         }
 
         if (this.mustExist != null) {
-            generator.writeKey("must_exist");
+            JsonpUtils.writeKey(generator, KEY_MUST_EXIST);
             generator.write(this.mustExist);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,21 +144,26 @@ public class IndicesValidationExplanation
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_EXPLANATION = JsonpKey.of("explanation");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_VALID = JsonpKey.of("valid");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             generator.write(this.error);
         }
 
         if (this.explanation != null) {
-            generator.writeKey("explanation");
+            JsonpUtils.writeKey(generator, KEY_EXPLANATION);
             generator.write(this.explanation);
         }
 
-        generator.writeKey("index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("valid");
+        JsonpUtils.writeKey(generator, KEY_VALID);
         generator.write(this.valid);
     }
 
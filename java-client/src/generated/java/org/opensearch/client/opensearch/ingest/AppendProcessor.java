@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -123,17 +125,21 @@ public class AppendProcessor extends ProcessorBase
         return this.value;
     }
 
+    private static final JsonpKey KEY_ALLOW_DUPLICATES = JsonpKey.of("allow_duplicates");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.allowDuplicates != null) {
-            generator.writeKey("allow_duplicates");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_DUPLICATES);
             generator.write(this.allowDuplicates);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
-        generator.writeKey("value");
+        JsonpUtils.writeKey(generator, KEY_VALUE);
         generator.writeStartArray();
         for (JsonData item0 : this.value) {
             item0.serialize(generator, mapper);
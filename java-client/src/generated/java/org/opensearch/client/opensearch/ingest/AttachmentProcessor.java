@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -178,28 +180,36 @@ public class AttachmentProcessor extends ProcessorBase
         return this.targetField;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_INDEXED_CHARS = JsonpKey.of("indexed_chars");
+    private static final JsonpKey KEY_INDEXED_CHARS_FIELD = JsonpKey.of("indexed_chars_field");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+    private static final JsonpKey KEY_RESOURCE_NAME = JsonpKey.of("resource_name");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (this.indexedChars != null) {
-            generator.writeKey("indexed_chars");
+            JsonpUtils.writeKey(generator, KEY_INDEXED_CHARS);
             generator.write(this.indexedChars);
         }
 
         if (this.indexedCharsField != null) {
-            generator.writeKey("indexed_chars_field");
+            JsonpUtils.writeKey(generator, KEY_INDEXED_CHARS_FIELD);
             generator.write(this.indexedCharsField);
         }
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartArray();
             for (String item0 : this.properties) {
                 generator.write(item0);
@@ -208,12 +218,12 @@ public class AttachmentProcessor extends ProcessorBase
         }
 
         if (this.resourceName != null) {
-            generator.writeKey("resource_name");
+            JsonpUtils.writeKey(generator, KEY_RESOURCE_NAME);
             generator.write(this.resourceName);
         }
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -144,24 +146,30 @@ public class CircleProcessor extends ProcessorBase
         return this.targetField;
     }
 
+    private static final JsonpKey KEY_ERROR_DISTANCE = JsonpKey.of("error_distance");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_SHAPE_TYPE = JsonpKey.of("shape_type");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("error_distance");
+        JsonpUtils.writeKey(generator, KEY_ERROR_DISTANCE);
         generator.write(this.errorDistance);
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
-        generator.writeKey("shape_type");
+        JsonpUtils.writeKey(generator, KEY_SHAPE_TYPE);
         this.shapeType.serialize(generator, mapper);
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -178,32 +180,40 @@ public class CsvProcessor extends ProcessorBase implements ProcessorVariant, ToC
         return this.trim;
     }
 
+    private static final JsonpKey KEY_EMPTY_VALUE = JsonpKey.of("empty_value");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_QUOTE = JsonpKey.of("quote");
+    private static final JsonpKey KEY_SEPARATOR = JsonpKey.of("separator");
+    private static final JsonpKey KEY_TARGET_FIELDS = JsonpKey.of("target_fields");
+    private static final JsonpKey KEY_TRIM = JsonpKey.of("trim");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.emptyValue != null) {
-            generator.writeKey("empty_value");
+            JsonpUtils.writeKey(generator, KEY_EMPTY_VALUE);
             this.emptyValue.serialize(generator, mapper);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (this.quote != null) {
-            generator.writeKey("quote");
+            JsonpUtils.writeKey(generator, KEY_QUOTE);
             generator.write(this.quote);
         }
 
         if (this.separator != null) {
-            generator.writeKey("separator");
+            JsonpUtils.writeKey(generator, KEY_SEPARATOR);
             generator.write(this.separator);
         }
 
-        generator.writeKey("target_fields");
+        JsonpUtils.writeKey(generator, KEY_TARGET_FIELDS);
         generator.writeStartArray();
         for (String item0 : this.targetFields) {
             generator.write(item0);
@@ -211,7 +221,7 @@ public class CsvProcessor extends ProcessorBase implements ProcessorVariant, ToC
         generator.writeEnd();
 
         if (this.trim != null) {
-            generator.writeKey("trim");
+            JsonpUtils.writeKey(generator, KEY_TRIM);
             generator.write(this.trim);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -186,38 +188,46 @@ public class DateIndexNameProcessor extends ProcessorBase
         return this.timezone;
     }
 
+    private static final JsonpKey KEY_DATE_FORMATS = JsonpKey.of("date_formats");
+    private static final JsonpKey KEY_DATE_ROUNDING = JsonpKey.of("date_rounding");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_INDEX_NAME_FORMAT = JsonpKey.of("index_name_format");
+    private static final JsonpKey KEY_INDEX_NAME_PREFIX = JsonpKey.of("index_name_prefix");
+    private static final JsonpKey KEY_LOCALE = JsonpKey.of("locale");
+    private static final JsonpKey KEY_TIMEZONE = JsonpKey.of("timezone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("date_formats");
+        JsonpUtils.writeKey(generator, KEY_DATE_FORMATS);
         generator.writeStartArray();
         for (String item0 : this.dateFormats) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("date_rounding");
+        JsonpUtils.writeKey(generator, KEY_DATE_ROUNDING);
         generator.write(this.dateRounding);
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.indexNameFormat != null) {
-            generator.writeKey("index_name_format");
+            JsonpUtils.writeKey(generator, KEY_INDEX_NAME_FORMAT);
             generator.write(this.indexNameFormat);
         }
 
         if (this.indexNamePrefix != null) {
-            generator.writeKey("index_name_prefix");
+            JsonpUtils.writeKey(generator, KEY_INDEX_NAME_PREFIX);
             generator.write(this.indexNamePrefix);
         }
 
         if (this.locale != null) {
-            generator.writeKey("locale");
+            JsonpUtils.writeKey(generator, KEY_LOCALE);
             generator.write(this.locale);
         }
 
         if (this.timezone != null) {
-            generator.writeKey("timezone");
+            JsonpUtils.writeKey(generator, KEY_TIMEZONE);
             generator.write(this.timezone);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -147,12 +149,18 @@ public class DateProcessor extends ProcessorBase implements ProcessorVariant, To
         return this.timezone;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FORMATS = JsonpKey.of("formats");
+    private static final JsonpKey KEY_LOCALE = JsonpKey.of("locale");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+    private static final JsonpKey KEY_TIMEZONE = JsonpKey.of("timezone");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
-        generator.writeKey("formats");
+        JsonpUtils.writeKey(generator, KEY_FORMATS);
         generator.writeStartArray();
         for (String item0 : this.formats) {
             generator.write(item0);
@@ -160,17 +168,17 @@ public class DateProcessor extends ProcessorBase implements ProcessorVariant, To
         generator.writeEnd();
 
         if (this.locale != null) {
-            generator.writeKey("locale");
+            JsonpUtils.writeKey(generator, KEY_LOCALE);
             generator.write(this.locale);
         }
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
 
         if (this.timezone != null) {
-            generator.writeKey("timezone");
+            JsonpUtils.writeKey(generator, KEY_TIMEZONE);
             generator.write(this.timezone);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -137,22 +139,27 @@ public class DissectProcessor extends ProcessorBase
         return this.pattern;
     }
 
+    private static final JsonpKey KEY_APPEND_SEPARATOR = JsonpKey.of("append_separator");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_PATTERN = JsonpKey.of("pattern");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.appendSeparator != null) {
-            generator.writeKey("append_separator");
+            JsonpUtils.writeKey(generator, KEY_APPEND_SEPARATOR);
             generator.write(this.appendSeparator);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
-        generator.writeKey("pattern");
+        JsonpUtils.writeKey(generator, KEY_PATTERN);
         generator.write(this.pattern);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -89,9 +91,11 @@ public class FailProcessor extends ProcessorBase implements ProcessorVariant, To
         return this.message;
     }
 
+    private static final JsonpKey KEY_MESSAGE = JsonpKey.of("message");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("message");
+        JsonpUtils.writeKey(generator, KEY_MESSAGE);
         generator.write(this.message);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -163,28 +165,35 @@ public class GeoIpProcessor extends ProcessorBase implements ProcessorVariant, T
         return this.targetField;
     }
 
+    private static final JsonpKey KEY_DATABASE_FILE = JsonpKey.of("database_file");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FIRST_ONLY = JsonpKey.of("first_only");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_PROPERTIES = JsonpKey.of("properties");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.databaseFile != null) {
-            generator.writeKey("database_file");
+            JsonpUtils.writeKey(generator, KEY_DATABASE_FILE);
             generator.write(this.databaseFile);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.firstOnly != null) {
-            generator.writeKey("first_only");
+            JsonpUtils.writeKey(generator, KEY_FIRST_ONLY);
             generator.write(this.firstOnly);
         }
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (ApiTypeHelper.isDefined(this.properties)) {
-            generator.writeKey("properties");
+            JsonpUtils.writeKey(generator, KEY_PROPERTIES);
             generator.writeStartArray();
             for (String item0 : this.properties) {
                 generator.write(item0);
@@ -193,7 +202,7 @@ public class GeoIpProcessor extends ProcessorBase implements ProcessorVariant, T
         }
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -154,18 +156,24 @@ public class GrokProcessor extends ProcessorBase implements ProcessorVariant, To
         return this.traceMatch;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_PATTERN_DEFINITIONS = JsonpKey.of("pattern_definitions");
+    private static final JsonpKey KEY_PATTERNS = JsonpKey.of("patterns");
+    private static final JsonpKey KEY_TRACE_MATCH = JsonpKey.of("trace_match");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (ApiTypeHelper.isDefined(this.patternDefinitions)) {
-            generator.writeKey("pattern_definitions");
+            JsonpUtils.writeKey(generator, KEY_PATTERN_DEFINITIONS);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.patternDefinitions.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -174,7 +182,7 @@ public class GrokProcessor extends ProcessorBase implements ProcessorVariant, To
             generator.writeEnd();
         }
 
-        generator.writeKey("patterns");
+        JsonpUtils.writeKey(generator, KEY_PATTERNS);
         generator.writeStartArray();
         for (String item0 : this.patterns) {
             generator.write(item0);
@@ -182,7 +190,7 @@ public class GrokProcessor extends ProcessorBase implements ProcessorVariant, To
         generator.writeEnd();
 
         if (this.traceMatch != null) {
-            generator.writeKey("trace_match");
+            JsonpUtils.writeKey(generator, KEY_TRACE_MATCH);
             generator.write(this.traceMatch);
         }
     }
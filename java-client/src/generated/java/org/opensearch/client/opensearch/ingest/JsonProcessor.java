@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -144,28 +146,34 @@ public class JsonProcessor extends ProcessorBase implements ProcessorVariant, To
         return this.targetField;
     }
 
+    private static final JsonpKey KEY_ADD_TO_ROOT = JsonpKey.of("add_to_root");
+    private static final JsonpKey KEY_ADD_TO_ROOT_CONFLICT_STRATEGY = JsonpKey.of("add_to_root_conflict_strategy");
+    private static final JsonpKey KEY_ALLOW_DUPLICATE_KEYS = JsonpKey.of("allow_duplicate_keys");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.addToRoot != null) {
-            generator.writeKey("add_to_root");
+            JsonpUtils.writeKey(generator, KEY_ADD_TO_ROOT);
             generator.write(this.addToRoot);
         }
 
         if (this.addToRootConflictStrategy != null) {
-            generator.writeKey("add_to_root_conflict_strategy");
+            JsonpUtils.writeKey(generator, KEY_ADD_TO_ROOT_CONFLICT_STRATEGY);
             this.addToRootConflictStrategy.serialize(generator, mapper);
         }
 
         if (this.allowDuplicateKeys != null) {
-            generator.writeKey("allow_duplicate_keys");
+            JsonpUtils.writeKey(generator, KEY_ALLOW_DUPLICATE_KEYS);
             generator.write(this.allowDuplicateKeys);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -241,10 +243,22 @@ public class KeyValueProcessor extends ProcessorBase
         return this.valueSplit;
     }
 
+    private static final JsonpKey KEY_EXCLUDE_KEYS = JsonpKey.of("exclude_keys");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_FIELD_SPLIT = JsonpKey.of("field_split");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_INCLUDE_KEYS = JsonpKey.of("include_keys");
+    private static final JsonpKey KEY_PREFIX = JsonpKey.of("prefix");
+    private static final JsonpKey KEY_STRIP_BRACKETS = JsonpKey.of("strip_brackets");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+    private static final JsonpKey KEY_TRIM_KEY = JsonpKey.of("trim_key");
+    private static final JsonpKey KEY_TRIM_VALUE = JsonpKey.of("trim_value");
+    private static final JsonpKey KEY_VALUE_SPLIT = JsonpKey.of("value_split");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.excludeKeys)) {
-            generator.writeKey("exclude_keys");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE_KEYS);
             generator.writeStartArray();
             for (String item0 : this.excludeKeys) {
                 generator.write(item0);
@@ -252,19 +266,19 @@ public class KeyValueProcessor extends ProcessorBase
             generator.writeEnd();
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
-        generator.writeKey("field_split");
+        JsonpUtils.writeKey(generator, KEY_FIELD_SPLIT);
         generator.write(this.fieldSplit);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (ApiTypeHelper.isDefined(this.includeKeys)) {
-            generator.writeKey("include_keys");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_KEYS);
             generator.writeStartArray();
             for (String item0 : this.includeKeys) {
                 generator.write(item0);
@@ -273,31 +287,31 @@ public class KeyValueProcessor extends ProcessorBase
         }
 
         if (this.prefix != null) {
-            generator.writeKey("prefix");
+            JsonpUtils.writeKey(generator, KEY_PREFIX);
             generator.write(this.prefix);
         }
 
         if (this.stripBrackets != null) {
-            generator.writeKey("strip_brackets");
+            JsonpUtils.writeKey(generator, KEY_STRIP_BRACKETS);
             generator.write(this.stripBrackets);
         }
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
 
         if (this.trimKey != null) {
-            generator.writeKey("trim_key");
+            JsonpUtils.writeKey(generator, KEY_TRIM_KEY);
             generator.write(this.trimKey);
         }
 
         if (this.trimValue != null) {
-            generator.writeKey("trim_value");
+            JsonpUtils.writeKey(generator, KEY_TRIM_VALUE);
             generator.write(this.trimValue);
         }
 
-        generator.writeKey("value_split");
+        JsonpUtils.writeKey(generator, KEY_VALUE_SPLIT);
         generator.write(this.valueSplit);
     }
 
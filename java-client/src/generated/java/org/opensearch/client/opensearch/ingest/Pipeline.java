@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -151,14 +153,20 @@ public class Pipeline implements PlainJsonSerializable, ToCopyableBuilder<Pipeli
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_META = JsonpKey.of("_meta");
+    private static final JsonpKey KEY_ON_FAILURE = JsonpKey.of("on_failure");
+    private static final JsonpKey KEY_PROCESSORS = JsonpKey.of("processors");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (ApiTypeHelper.isDefined(this.meta)) {
-            generator.writeKey("_meta");
+            JsonpUtils.writeKey(generator, KEY_META);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.meta.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -168,7 +176,7 @@ public class Pipeline implements PlainJsonSerializable, ToCopyableBuilder<Pipeli
         }
 
         if (ApiTypeHelper.isDefined(this.onFailure)) {
-            generator.writeKey("on_failure");
+            JsonpUtils.writeKey(generator, KEY_ON_FAILURE);
             generator.writeStartArray();
             for (Processor item0 : this.onFailure) {
                 item0.serialize(generator, mapper);
@@ -177,7 +185,7 @@ public class Pipeline implements PlainJsonSerializable, ToCopyableBuilder<Pipeli
         }
 
         if (ApiTypeHelper.isDefined(this.processors)) {
-            generator.writeKey("processors");
+            JsonpUtils.writeKey(generator, KEY_PROCESSORS);
             generator.writeStartArray();
             for (Processor item0 : this.processors) {
                 item0.serialize(generator, mapper);
@@ -186,7 +194,7 @@ public class Pipeline implements PlainJsonSerializable, ToCopyableBuilder<Pipeli
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
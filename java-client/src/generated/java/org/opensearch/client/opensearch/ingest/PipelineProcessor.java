@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -106,14 +108,17 @@ public class PipelineProcessor extends ProcessorBase
         return this.name;
     }
 
+    private static final JsonpKey KEY_IGNORE_MISSING_PIPELINE = JsonpKey.of("ignore_missing_pipeline");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.ignoreMissingPipeline != null) {
-            generator.writeKey("ignore_missing_pipeline");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING_PIPELINE);
             generator.write(this.ignoreMissingPipeline);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -146,24 +148,30 @@ public abstract class ProcessorBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IF_ = JsonpKey.of("if");
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignore_failure");
+    private static final JsonpKey KEY_ON_FAILURE = JsonpKey.of("on_failure");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.if_ != null) {
-            generator.writeKey("if");
+            JsonpUtils.writeKey(generator, KEY_IF_);
             generator.write(this.if_);
         }
 
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignore_failure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
         if (ApiTypeHelper.isDefined(this.onFailure)) {
-            generator.writeKey("on_failure");
+            JsonpUtils.writeKey(generator, KEY_ON_FAILURE);
             generator.writeStartArray();
             for (Processor item0 : this.onFailure) {
                 item0.serialize(generator, mapper);
@@ -172,7 +180,7 @@ public abstract class ProcessorBase implements PlainJsonSerializable {
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
     }
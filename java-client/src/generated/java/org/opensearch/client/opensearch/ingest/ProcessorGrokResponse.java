@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,8 +95,10 @@ public class ProcessorGrokResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PATTERNS = JsonpKey.of("patterns");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("patterns");
+        JsonpUtils.writeKey(generator, KEY_PATTERNS);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.patterns.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -45,7 +45,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -164,33 +166,40 @@ public class SetProcessor extends ProcessorBase implements ProcessorVariant, ToC
         return this.value;
     }
 
+    private static final JsonpKey KEY_COPY_FROM = JsonpKey.of("copy_from");
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_EMPTY_VALUE = JsonpKey.of("ignore_empty_value");
+    private static final JsonpKey KEY_MEDIA_TYPE = JsonpKey.of("media_type");
+    private static final JsonpKey KEY_OVERRIDE = JsonpKey.of("override");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.copyFrom != null) {
-            generator.writeKey("copy_from");
+            JsonpUtils.writeKey(generator, KEY_COPY_FROM);
             generator.write(this.copyFrom);
         }
 
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreEmptyValue != null) {
-            generator.writeKey("ignore_empty_value");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_EMPTY_VALUE);
             generator.write(this.ignoreEmptyValue);
         }
 
         if (this.mediaType != null) {
-            generator.writeKey("media_type");
+            JsonpUtils.writeKey(generator, KEY_MEDIA_TYPE);
             generator.write(this.mediaType);
         }
 
         if (this.override != null) {
-            generator.writeKey("override");
+            JsonpUtils.writeKey(generator, KEY_OVERRIDE);
             generator.write(this.override);
         }
 
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             this.value.serialize(generator, mapper);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,9 +152,12 @@ public final class SimulateRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOCS = JsonpKey.of("docs");
+    private static final JsonpKey KEY_PIPELINE = JsonpKey.of("pipeline");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.docs)) {
-            generator.writeKey("docs");
+            JsonpUtils.writeKey(generator, KEY_DOCS);
             generator.writeStartArray();
             for (Document item0 : this.docs) {
                 item0.serialize(generator, mapper);
@@ -161,7 +166,7 @@ public final class SimulateRequest extends RequestBase
         }
 
         if (this.pipeline != null) {
-            generator.writeKey("pipeline");
+            JsonpUtils.writeKey(generator, KEY_PIPELINE);
             this.pipeline.serialize(generator, mapper);
         }
     }
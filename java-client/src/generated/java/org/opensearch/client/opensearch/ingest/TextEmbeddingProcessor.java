@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -119,14 +121,18 @@ public class TextEmbeddingProcessor extends ProcessorBase
         return this.modelId;
     }
 
+    private static final JsonpKey KEY_BATCH_SIZE = JsonpKey.of("batch_size");
+    private static final JsonpKey KEY_FIELD_MAP = JsonpKey.of("field_map");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.batchSize != null) {
-            generator.writeKey("batch_size");
+            JsonpUtils.writeKey(generator, KEY_BATCH_SIZE);
             generator.write(this.batchSize);
         }
 
-        generator.writeKey("field_map");
+        JsonpUtils.writeKey(generator, KEY_FIELD_MAP);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.fieldMap.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -134,7 +140,7 @@ public class TextEmbeddingProcessor extends ProcessorBase
         }
         generator.writeEnd();
 
-        generator.writeKey("model_id");
+        JsonpUtils.writeKey(generator, KEY_MODEL_ID);
         generator.write(this.modelId);
     }
 
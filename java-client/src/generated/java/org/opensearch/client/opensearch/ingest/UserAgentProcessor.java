@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -148,18 +150,24 @@ public class UserAgentProcessor extends ProcessorBase
         return this.targetField;
     }
 
+    private static final JsonpKey KEY_FIELD = JsonpKey.of("field");
+    private static final JsonpKey KEY_IGNORE_MISSING = JsonpKey.of("ignore_missing");
+    private static final JsonpKey KEY_OPTIONS = JsonpKey.of("options");
+    private static final JsonpKey KEY_REGEX_FILE = JsonpKey.of("regex_file");
+    private static final JsonpKey KEY_TARGET_FIELD = JsonpKey.of("target_field");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("field");
+        JsonpUtils.writeKey(generator, KEY_FIELD);
         generator.write(this.field);
 
         if (this.ignoreMissing != null) {
-            generator.writeKey("ignore_missing");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_MISSING);
             generator.write(this.ignoreMissing);
         }
 
         if (ApiTypeHelper.isDefined(this.options)) {
-            generator.writeKey("options");
+            JsonpUtils.writeKey(generator, KEY_OPTIONS);
             generator.writeStartArray();
             for (UserAgentProperty item0 : this.options) {
                 item0.serialize(generator, mapper);
@@ -168,12 +176,12 @@ public class UserAgentProcessor extends ProcessorBase
         }
 
         if (this.regexFile != null) {
-            generator.writeKey("regex_file");
+            JsonpUtils.writeKey(generator, KEY_REGEX_FILE);
             generator.write(this.regexFile);
         }
 
         if (this.targetField != null) {
-            generator.writeKey("target_field");
+            JsonpUtils.writeKey(generator, KEY_TARGET_FIELD);
             generator.write(this.targetField);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -172,22 +174,30 @@ public class DocumentSimulation implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("_ingest");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("_routing");
+    private static final JsonpKey KEY_SOURCE = JsonpKey.of("_source");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("_version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("_index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("_ingest");
+        JsonpUtils.writeKey(generator, KEY_INGEST);
         this.ingest.serialize(generator, mapper);
 
         if (this.routing != null) {
-            generator.writeKey("_routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
         }
 
-        generator.writeKey("_source");
+        JsonpUtils.writeKey(generator, KEY_SOURCE);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.source.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -196,12 +206,12 @@ public class DocumentSimulation implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
 
         if (this.version != null) {
-            generator.writeKey("_version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.versionType != null) {
-            generator.writeKey("_version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
     }
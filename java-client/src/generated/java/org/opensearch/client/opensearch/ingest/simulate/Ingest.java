@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,13 +105,16 @@ public class Ingest implements PlainJsonSerializable, ToCopyableBuilder<Ingest.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIPELINE = JsonpKey.of("pipeline");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.pipeline != null) {
-            generator.writeKey("pipeline");
+            JsonpUtils.writeKey(generator, KEY_PIPELINE);
             generator.write(this.pipeline);
         }
 
-        generator.writeKey("timestamp");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
         generator.write(this.timestamp);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,14 +143,20 @@ public class PipelineSimulation implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DOC = JsonpKey.of("doc");
+    private static final JsonpKey KEY_PROCESSOR_RESULTS = JsonpKey.of("processor_results");
+    private static final JsonpKey KEY_PROCESSOR_TYPE = JsonpKey.of("processor_type");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.doc != null) {
-            generator.writeKey("doc");
+            JsonpUtils.writeKey(generator, KEY_DOC);
             this.doc.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.processorResults)) {
-            generator.writeKey("processor_results");
+            JsonpUtils.writeKey(generator, KEY_PROCESSOR_RESULTS);
             generator.writeStartArray();
             for (PipelineSimulation item0 : this.processorResults) {
                 item0.serialize(generator, mapper);
@@ -157,17 +165,17 @@ public class PipelineSimulation implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (this.processorType != null) {
-            generator.writeKey("processor_type");
+            JsonpUtils.writeKey(generator, KEY_PROCESSOR_TYPE);
             generator.write(this.processorType);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             this.status.serialize(generator, mapper);
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -124,9 +126,13 @@ public class GetStateResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INGESTION_STATE = JsonpKey.of("ingestion_state");
+    private static final JsonpKey KEY_NEXT_PAGE_TOKEN = JsonpKey.of("next_page_token");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.ingestionState)) {
-            generator.writeKey("ingestion_state");
+            JsonpUtils.writeKey(generator, KEY_INGESTION_STATE);
             generator.writeStartObject();
             for (Map.Entry<String, List<ShardIngestionState>> item0 : this.ingestionState.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -142,12 +148,12 @@ public class GetStateResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.nextPageToken != null) {
-            generator.writeKey("next_page_token");
+            JsonpUtils.writeKey(generator, KEY_NEXT_PAGE_TOKEN);
             generator.write(this.nextPageToken);
         }
 
         if (this.shards != null) {
-            generator.writeKey("_shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
     }
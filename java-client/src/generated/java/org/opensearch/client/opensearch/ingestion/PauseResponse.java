@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -130,17 +132,22 @@ public class PauseResponse implements PlainJsonSerializable, ToCopyableBuilder<P
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACKNOWLEDGED = JsonpKey.of("acknowledged");
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_FAILURES = JsonpKey.of("failures");
+    private static final JsonpKey KEY_SHARDS_ACKNOWLEDGED = JsonpKey.of("shards_acknowledged");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("acknowledged");
+        JsonpUtils.writeKey(generator, KEY_ACKNOWLEDGED);
         generator.write(this.acknowledged);
 
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             generator.write(this.error);
         }
 
         if (ApiTypeHelper.isDefined(this.failures)) {
-            generator.writeKey("failures");
+            JsonpUtils.writeKey(generator, KEY_FAILURES);
             generator.writeStartArray();
             for (IngestionStateShardFailure item0 : this.failures) {
                 item0.serialize(generator, mapper);
@@ -148,7 +155,7 @@ public class PauseResponse implements PlainJsonSerializable, ToCopyableBuilder<P
             generator.writeEnd();
         }
 
-        generator.writeKey("shards_acknowledged");
+        JsonpUtils.writeKey(generator, KEY_SHARDS_ACKNOWLEDGED);
         generator.write(this.shardsAcknowledged);
     }
 
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,9 +155,11 @@ public final class ResumeRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_RESET_SETTINGS = JsonpKey.of("reset_settings");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.resetSettings)) {
-            generator.writeKey("reset_settings");
+            JsonpUtils.writeKey(generator, KEY_RESET_SETTINGS);
             generator.writeStartArray();
             for (ResetSettings item0 : this.resetSettings) {
                 item0.serialize(generator, mapper);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,34 +170,41 @@ public class ShardIngestionState implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BATCH_START_POINTER = JsonpKey.of("batch_start_pointer");
+    private static final JsonpKey KEY_ERROR_POLICY = JsonpKey.of("error_policy");
+    private static final JsonpKey KEY_POLLER_PAUSED = JsonpKey.of("poller_paused");
+    private static final JsonpKey KEY_POLLER_STATE = JsonpKey.of("poller_state");
+    private static final JsonpKey KEY_SHARD = JsonpKey.of("shard");
+    private static final JsonpKey KEY_WRITE_BLOCK_ENABLED = JsonpKey.of("write_block_enabled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.batchStartPointer != null) {
-            generator.writeKey("batch_start_pointer");
+            JsonpUtils.writeKey(generator, KEY_BATCH_START_POINTER);
             generator.write(this.batchStartPointer);
         }
 
         if (this.errorPolicy != null) {
-            generator.writeKey("error_policy");
+            JsonpUtils.writeKey(generator, KEY_ERROR_POLICY);
             this.errorPolicy.serialize(generator, mapper);
         }
 
         if (this.pollerPaused != null) {
-            generator.writeKey("poller_paused");
+            JsonpUtils.writeKey(generator, KEY_POLLER_PAUSED);
             generator.write(this.pollerPaused);
         }
 
         if (this.pollerState != null) {
-            generator.writeKey("poller_state");
+            JsonpUtils.writeKey(generator, KEY_POLLER_STATE);
             this.pollerState.serialize(generator, mapper);
         }
 
         if (this.shard != null) {
-            generator.writeKey("shard");
+            JsonpUtils.writeKey(generator, KEY_SHARD);
             generator.write(this.shard);
         }
 
         if (this.writeBlockEnabled != null) {
-            generator.writeKey("write_block_enabled");
+            JsonpUtils.writeKey(generator, KEY_WRITE_BLOCK_ENABLED);
             generator.write(this.writeBlockEnabled);
         }
     }
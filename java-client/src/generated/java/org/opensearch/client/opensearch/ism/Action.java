@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -369,24 +371,44 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALIAS = JsonpKey.of("alias");
+    private static final JsonpKey KEY_ALLOCATION = JsonpKey.of("allocation");
+    private static final JsonpKey KEY_CLOSE = JsonpKey.of("close");
+    private static final JsonpKey KEY_CUSTOM = JsonpKey.of("custom");
+    private static final JsonpKey KEY_DELETE = JsonpKey.of("delete");
+    private static final JsonpKey KEY_FORCE_MERGE = JsonpKey.of("force_merge");
+    private static final JsonpKey KEY_INDEX_PRIORITY = JsonpKey.of("index_priority");
+    private static final JsonpKey KEY_NOTIFICATION = JsonpKey.of("notification");
+    private static final JsonpKey KEY_OPEN = JsonpKey.of("open");
+    private static final JsonpKey KEY_READ_ONLY = JsonpKey.of("read_only");
+    private static final JsonpKey KEY_READ_WRITE = JsonpKey.of("read_write");
+    private static final JsonpKey KEY_REPLICA_COUNT = JsonpKey.of("replica_count");
+    private static final JsonpKey KEY_RETRY = JsonpKey.of("retry");
+    private static final JsonpKey KEY_ROLLOVER = JsonpKey.of("rollover");
+    private static final JsonpKey KEY_ROLLUP = JsonpKey.of("rollup");
+    private static final JsonpKey KEY_SHRINK = JsonpKey.of("shrink");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+    private static final JsonpKey KEY_TIMEOUT = JsonpKey.of("timeout");
+    private static final JsonpKey KEY_TRANSFORM = JsonpKey.of("transform");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.alias != null) {
-            generator.writeKey("alias");
+            JsonpUtils.writeKey(generator, KEY_ALIAS);
             this.alias.serialize(generator, mapper);
         }
 
         if (this.allocation != null) {
-            generator.writeKey("allocation");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATION);
             this.allocation.serialize(generator, mapper);
         }
 
         if (this.close != null) {
-            generator.writeKey("close");
+            JsonpUtils.writeKey(generator, KEY_CLOSE);
             this.close.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.custom)) {
-            generator.writeKey("custom");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.custom.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -396,22 +418,22 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         }
 
         if (this.delete != null) {
-            generator.writeKey("delete");
+            JsonpUtils.writeKey(generator, KEY_DELETE);
             this.delete.serialize(generator, mapper);
         }
 
         if (this.forceMerge != null) {
-            generator.writeKey("force_merge");
+            JsonpUtils.writeKey(generator, KEY_FORCE_MERGE);
             this.forceMerge.serialize(generator, mapper);
         }
 
         if (this.indexPriority != null) {
-            generator.writeKey("index_priority");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PRIORITY);
             this.indexPriority.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.notification)) {
-            generator.writeKey("notification");
+            JsonpUtils.writeKey(generator, KEY_NOTIFICATION);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.notification.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -421,37 +443,37 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         }
 
         if (this.open != null) {
-            generator.writeKey("open");
+            JsonpUtils.writeKey(generator, KEY_OPEN);
             this.open.serialize(generator, mapper);
         }
 
         if (this.readOnly != null) {
-            generator.writeKey("read_only");
+            JsonpUtils.writeKey(generator, KEY_READ_ONLY);
             this.readOnly.serialize(generator, mapper);
         }
 
         if (this.readWrite != null) {
-            generator.writeKey("read_write");
+            JsonpUtils.writeKey(generator, KEY_READ_WRITE);
             this.readWrite.serialize(generator, mapper);
         }
 
         if (this.replicaCount != null) {
-            generator.writeKey("replica_count");
+            JsonpUtils.writeKey(generator, KEY_REPLICA_COUNT);
             this.replicaCount.serialize(generator, mapper);
         }
 
         if (this.retry != null) {
-            generator.writeKey("retry");
+            JsonpUtils.writeKey(generator, KEY_RETRY);
             this.retry.serialize(generator, mapper);
         }
 
         if (this.rollover != null) {
-            generator.writeKey("rollover");
+            JsonpUtils.writeKey(generator, KEY_ROLLOVER);
             this.rollover.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.rollup)) {
-            generator.writeKey("rollup");
+            JsonpUtils.writeKey(generator, KEY_ROLLUP);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.rollup.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -461,7 +483,7 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         }
 
         if (ApiTypeHelper.isDefined(this.shrink)) {
-            generator.writeKey("shrink");
+            JsonpUtils.writeKey(generator, KEY_SHRINK);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.shrink.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -471,17 +493,17 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             this.snapshot.serialize(generator, mapper);
         }
 
         if (this.timeout != null) {
-            generator.writeKey("timeout");
+            JsonpUtils.writeKey(generator, KEY_TIMEOUT);
             this.timeout.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.transform)) {
-            generator.writeKey("transform");
+            JsonpUtils.writeKey(generator, KEY_TRANSFORM);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.transform.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -96,9 +98,11 @@ public class ActionAlias implements PlainJsonSerializable, ToCopyableBuilder<Act
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.actions)) {
-            generator.writeKey("actions");
+            JsonpUtils.writeKey(generator, KEY_ACTIONS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.actions.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,9 +143,14 @@ public class ActionAllocation implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXCLUDE = JsonpKey.of("exclude");
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_REQUIRE = JsonpKey.of("require");
+    private static final JsonpKey KEY_WAIT_FOR = JsonpKey.of("wait_for");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.exclude)) {
-            generator.writeKey("exclude");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.exclude.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -153,7 +160,7 @@ public class ActionAllocation implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.include)) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.include.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -163,7 +170,7 @@ public class ActionAllocation implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.require)) {
-            generator.writeKey("require");
+            JsonpUtils.writeKey(generator, KEY_REQUIRE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.require.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -173,7 +180,7 @@ public class ActionAllocation implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.waitFor != null) {
-            generator.writeKey("wait_for");
+            JsonpUtils.writeKey(generator, KEY_WAIT_FOR);
             generator.write(this.waitFor);
         }
     }
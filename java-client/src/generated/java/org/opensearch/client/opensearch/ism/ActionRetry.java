@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class ActionRetry implements PlainJsonSerializable, ToCopyableBuilder<Act
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKOFF = JsonpKey.of("backoff");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_DELAY = JsonpKey.of("delay");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.backoff != null) {
-            generator.writeKey("backoff");
+            JsonpUtils.writeKey(generator, KEY_BACKOFF);
             generator.write(this.backoff);
         }
 
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.delay != null) {
-            generator.writeKey("delay");
+            JsonpUtils.writeKey(generator, KEY_DELAY);
             generator.write(this.delay);
         }
     }
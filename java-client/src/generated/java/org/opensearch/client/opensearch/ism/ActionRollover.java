@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,29 +155,35 @@ public class ActionRollover implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COPY_ALIAS = JsonpKey.of("copy_alias");
+    private static final JsonpKey KEY_MIN_DOC_COUNT = JsonpKey.of("min_doc_count");
+    private static final JsonpKey KEY_MIN_INDEX_AGE = JsonpKey.of("min_index_age");
+    private static final JsonpKey KEY_MIN_PRIMARY_SHARD_SIZE = JsonpKey.of("min_primary_shard_size");
+    private static final JsonpKey KEY_MIN_SIZE = JsonpKey.of("min_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.copyAlias != null) {
-            generator.writeKey("copy_alias");
+            JsonpUtils.writeKey(generator, KEY_COPY_ALIAS);
             generator.write(this.copyAlias);
         }
 
         if (this.minDocCount != null) {
-            generator.writeKey("min_doc_count");
+            JsonpUtils.writeKey(generator, KEY_MIN_DOC_COUNT);
             generator.write(this.minDocCount.doubleValue());
         }
 
         if (this.minIndexAge != null) {
-            generator.writeKey("min_index_age");
+            JsonpUtils.writeKey(generator, KEY_MIN_INDEX_AGE);
             generator.write(this.minIndexAge);
         }
 
         if (this.minPrimaryShardSize != null) {
-            generator.writeKey("min_primary_shard_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_PRIMARY_SHARD_SIZE);
             generator.write(this.minPrimaryShardSize);
         }
 
         if (this.minSize != null) {
-            generator.writeKey("min_size");
+            JsonpUtils.writeKey(generator, KEY_MIN_SIZE);
             generator.write(this.minSize);
         }
     }
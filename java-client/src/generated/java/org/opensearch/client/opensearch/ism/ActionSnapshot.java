@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class ActionSnapshot implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INCLUDE_GLOBAL_STATE = JsonpKey.of("include_global_state");
+    private static final JsonpKey KEY_REPOSITORY = JsonpKey.of("repository");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.includeGlobalState != null) {
-            generator.writeKey("include_global_state");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_GLOBAL_STATE);
             generator.write(this.includeGlobalState);
         }
 
         if (this.repository != null) {
-            generator.writeKey("repository");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY);
             generator.write(this.repository);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             generator.write(this.snapshot);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -118,8 +120,10 @@ public final class AddPolicyRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_POLICY_ID = JsonpKey.of("policy_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("policy_id");
+        JsonpUtils.writeKey(generator, KEY_POLICY_ID);
         generator.write(this.policyId);
     }
 
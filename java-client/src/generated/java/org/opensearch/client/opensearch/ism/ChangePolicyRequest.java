@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -149,9 +151,13 @@ public final class ChangePolicyRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INCLUDE = JsonpKey.of("include");
+    private static final JsonpKey KEY_POLICY_ID = JsonpKey.of("policy_id");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.include)) {
-            generator.writeKey("include");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE);
             generator.writeStartArray();
             for (IncludeState item0 : this.include) {
                 item0.serialize(generator, mapper);
@@ -159,11 +165,11 @@ public final class ChangePolicyRequest extends RequestBase
             generator.writeEnd();
         }
 
-        generator.writeKey("policy_id");
+        JsonpUtils.writeKey(generator, KEY_POLICY_ID);
         generator.write(this.policyId);
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             generator.write(this.state);
         }
     }
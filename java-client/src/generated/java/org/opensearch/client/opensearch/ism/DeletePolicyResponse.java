@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -177,31 +179,40 @@ public class DeletePolicyResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FORCED_REFRESH = JsonpKey.of("forced_refresh");
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_PRIMARY_TERM = JsonpKey.of("_primary_term");
+    private static final JsonpKey KEY_RESULT = JsonpKey.of("result");
+    private static final JsonpKey KEY_SEQ_NO = JsonpKey.of("_seq_no");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.forcedRefresh != null) {
-            generator.writeKey("forced_refresh");
+            JsonpUtils.writeKey(generator, KEY_FORCED_REFRESH);
             generator.write(this.forcedRefresh);
         }
 
-        generator.writeKey("_id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("_index");
+        JsonpUtils.writeKey(generator, KEY_INDEX);
         generator.write(this.index);
 
-        generator.writeKey("_primary_term");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_TERM);
         generator.write(this.primaryTerm);
 
-        generator.writeKey("result");
+        JsonpUtils.writeKey(generator, KEY_RESULT);
         this.result.serialize(generator, mapper);
 
-        generator.writeKey("_seq_no");
+        JsonpUtils.writeKey(generator, KEY_SEQ_NO);
         generator.write(this.seqNo);
 
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
 
-        generator.writeKey("_version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,19 +122,23 @@ public class ErrorNotification implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHANNEL = JsonpKey.of("channel");
+    private static final JsonpKey KEY_DESTINATION = JsonpKey.of("destination");
+    private static final JsonpKey KEY_MESSAGE_TEMPLATE = JsonpKey.of("message_template");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.channel != null) {
-            generator.writeKey("channel");
+            JsonpUtils.writeKey(generator, KEY_CHANNEL);
             this.channel.serialize(generator, mapper);
         }
 
         if (this.destination != null) {
-            generator.writeKey("destination");
+            JsonpUtils.writeKey(generator, KEY_DESTINATION);
             this.destination.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.messageTemplate)) {
-            generator.writeKey("message_template");
+            JsonpUtils.writeKey(generator, KEY_MESSAGE_TEMPLATE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.messageTemplate.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,6 +128,9 @@ public class ErrorNotificationDestination
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LAST_UPDATE_TIME = JsonpKey.of("last_update_time");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, Map<String, JsonData>> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -137,12 +142,12 @@ public class ErrorNotificationDestination
             generator.writeEnd();
         }
         if (this.lastUpdateTime != null) {
-            generator.writeKey("last_update_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATE_TIME);
             generator.write(this.lastUpdateTime);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,27 @@ public class ExplainPolicy implements PlainJsonSerializable, ToCopyableBuilder<E
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_INDEX_OPENDISTRO_INDEX_STATE_MANAGEMENT_POLICY_ID = JsonpKey.of(
+        "index.opendistro.index_state_management.policy_id"
+    );
+    private static final JsonpKey KEY_INDEX_PLUGINS_INDEX_STATE_MANAGEMENT_POLICY_ID = JsonpKey.of(
+        "index.plugins.index_state_management.policy_id"
+    );
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.indexOpendistroIndexStateManagementPolicyId != null) {
-            generator.writeKey("index.opendistro.index_state_management.policy_id");
+            JsonpUtils.writeKey(generator, KEY_INDEX_OPENDISTRO_INDEX_STATE_MANAGEMENT_POLICY_ID);
             generator.write(this.indexOpendistroIndexStateManagementPolicyId);
         }
 
         if (this.indexPluginsIndexStateManagementPolicyId != null) {
-            generator.writeKey("index.plugins.index_state_management.policy_id");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PLUGINS_INDEX_STATE_MANAGEMENT_POLICY_ID);
             generator.write(this.indexPluginsIndexStateManagementPolicyId);
         }
     }
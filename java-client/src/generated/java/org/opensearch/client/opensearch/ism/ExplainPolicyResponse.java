@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,13 +110,15 @@ public class ExplainPolicyResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_MANAGED_INDICES = JsonpKey.of("total_managed_indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, ExplainPolicy> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.totalManagedIndices != null) {
-            generator.writeKey("total_managed_indices");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_MANAGED_INDICES);
             generator.write(this.totalManagedIndices.doubleValue());
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class FailedIndex implements PlainJsonSerializable, ToCopyableBuilder<Fai
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX_NAME = JsonpKey.of("index_name");
+    private static final JsonpKey KEY_INDEX_UUID = JsonpKey.of("index_uuid");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.indexName != null) {
-            generator.writeKey("index_name");
+            JsonpUtils.writeKey(generator, KEY_INDEX_NAME);
             generator.write(this.indexName);
         }
 
         if (this.indexUuid != null) {
-            generator.writeKey("index_uuid");
+            JsonpUtils.writeKey(generator, KEY_INDEX_UUID);
             generator.write(this.indexUuid);
         }
 
         if (this.reason != null) {
-            generator.writeKey("reason");
+            JsonpUtils.writeKey(generator, KEY_REASON);
             generator.write(this.reason);
         }
     }
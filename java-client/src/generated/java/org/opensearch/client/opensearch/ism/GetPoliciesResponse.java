@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,9 +112,12 @@ public class GetPoliciesResponse implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_POLICIES = JsonpKey.of("policies");
+    private static final JsonpKey KEY_TOTAL_POLICIES = JsonpKey.of("total_policies");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.policies)) {
-            generator.writeKey("policies");
+            JsonpUtils.writeKey(generator, KEY_POLICIES);
             generator.writeStartArray();
             for (PolicyWithMetadata item0 : this.policies) {
                 item0.serialize(generator, mapper);
@@ -121,7 +126,7 @@ public class GetPoliciesResponse implements PlainJsonSerializable, ToCopyableBui
         }
 
         if (this.totalPolicies != null) {
-            generator.writeKey("total_policies");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_POLICIES);
             generator.write(this.totalPolicies.doubleValue());
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,9 +127,13 @@ public class IsmTemplate implements PlainJsonSerializable, ToCopyableBuilder<Ism
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_PRIORITY = JsonpKey.of("priority");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.indexPatterns)) {
-            generator.writeKey("index_patterns");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
             generator.writeStartArray();
             for (String item0 : this.indexPatterns) {
                 generator.write(item0);
@@ -136,12 +142,12 @@ public class IsmTemplate implements PlainJsonSerializable, ToCopyableBuilder<Ism
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.priority != null) {
-            generator.writeKey("priority");
+            JsonpUtils.writeKey(generator, KEY_PRIORITY);
             generator.write(this.priority.doubleValue());
         }
     }
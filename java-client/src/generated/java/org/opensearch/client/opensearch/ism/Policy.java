@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -203,24 +205,33 @@ public class Policy implements PlainJsonSerializable, ToCopyableBuilder<Policy.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_STATE = JsonpKey.of("default_state");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_ERROR_NOTIFICATION = JsonpKey.of("error_notification");
+    private static final JsonpKey KEY_ISM_TEMPLATE = JsonpKey.of("ism_template");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_POLICY_ID = JsonpKey.of("policy_id");
+    private static final JsonpKey KEY_SCHEMA_VERSION = JsonpKey.of("schema_version");
+    private static final JsonpKey KEY_STATES = JsonpKey.of("states");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.defaultState != null) {
-            generator.writeKey("default_state");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_STATE);
             generator.write(this.defaultState);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.errorNotification != null) {
-            generator.writeKey("error_notification");
+            JsonpUtils.writeKey(generator, KEY_ERROR_NOTIFICATION);
             this.errorNotification.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.ismTemplate)) {
-            generator.writeKey("ism_template");
+            JsonpUtils.writeKey(generator, KEY_ISM_TEMPLATE);
             generator.writeStartArray();
             for (IsmTemplate item0 : this.ismTemplate) {
                 item0.serialize(generator, mapper);
@@ -229,22 +240,22 @@ public class Policy implements PlainJsonSerializable, ToCopyableBuilder<Policy.B
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.policyId != null) {
-            generator.writeKey("policy_id");
+            JsonpUtils.writeKey(generator, KEY_POLICY_ID);
             generator.write(this.policyId);
         }
 
         if (this.schemaVersion != null) {
-            generator.writeKey("schema_version");
+            JsonpUtils.writeKey(generator, KEY_SCHEMA_VERSION);
             generator.write(this.schemaVersion.doubleValue());
         }
 
         if (ApiTypeHelper.isDefined(this.states)) {
-            generator.writeKey("states");
+            JsonpUtils.writeKey(generator, KEY_STATES);
             generator.writeStartArray();
             for (States item0 : this.states) {
                 item0.serialize(generator, mapper);
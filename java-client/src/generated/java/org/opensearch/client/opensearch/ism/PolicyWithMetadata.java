@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -90,9 +92,11 @@ public class PolicyWithMetadata implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_POLICY = JsonpKey.of("policy");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.policy != null) {
-            generator.writeKey("policy");
+            JsonpUtils.writeKey(generator, KEY_POLICY);
             this.policy.serialize(generator, mapper);
         }
     }
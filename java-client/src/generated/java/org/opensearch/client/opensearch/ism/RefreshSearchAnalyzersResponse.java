@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -113,14 +115,17 @@ public class RefreshSearchAnalyzersResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_SUCCESSFUL_REFRESH_DETAILS = JsonpKey.of("successful_refresh_details");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.shards != null) {
-            generator.writeKey("_shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.successfulRefreshDetails)) {
-            generator.writeKey("successful_refresh_details");
+            JsonpUtils.writeKey(generator, KEY_SUCCESSFUL_REFRESH_DETAILS);
             generator.writeStartArray();
             for (RefreshSearchAnalyzersResponseDetails item0 : this.successfulRefreshDetails) {
                 item0.serialize(generator, mapper);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,14 +117,17 @@ public class RefreshSearchAnalyzersResponseDetails
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_REFRESHED_ANALYZERS = JsonpKey.of("refreshed_analyzers");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (ApiTypeHelper.isDefined(this.refreshedAnalyzers)) {
-            generator.writeKey("refreshed_analyzers");
+            JsonpUtils.writeKey(generator, KEY_REFRESHED_ANALYZERS);
             generator.writeStartArray();
             for (String item0 : this.refreshedAnalyzers) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,9 +127,13 @@ public class RetryIndexResponse implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAILED_INDICES = JsonpKey.of("failed_indices");
+    private static final JsonpKey KEY_FAILURES = JsonpKey.of("failures");
+    private static final JsonpKey KEY_UPDATED_INDICES = JsonpKey.of("updated_indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.failedIndices)) {
-            generator.writeKey("failed_indices");
+            JsonpUtils.writeKey(generator, KEY_FAILED_INDICES);
             generator.writeStartArray();
             for (FailedIndex item0 : this.failedIndices) {
                 item0.serialize(generator, mapper);
@@ -136,12 +142,12 @@ public class RetryIndexResponse implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (this.failures != null) {
-            generator.writeKey("failures");
+            JsonpUtils.writeKey(generator, KEY_FAILURES);
             generator.write(this.failures);
         }
 
         if (this.updatedIndices != null) {
-            generator.writeKey("updated_indices");
+            JsonpUtils.writeKey(generator, KEY_UPDATED_INDICES);
             generator.write(this.updatedIndices.doubleValue());
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,9 +130,13 @@ public class States implements PlainJsonSerializable, ToCopyableBuilder<States.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TRANSITIONS = JsonpKey.of("transitions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.actions)) {
-            generator.writeKey("actions");
+            JsonpUtils.writeKey(generator, KEY_ACTIONS);
             generator.writeStartArray();
             for (Action item0 : this.actions) {
                 item0.serialize(generator, mapper);
@@ -139,12 +145,12 @@ public class States implements PlainJsonSerializable, ToCopyableBuilder<States.B
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (ApiTypeHelper.isDefined(this.transitions)) {
-            generator.writeKey("transitions");
+            JsonpUtils.writeKey(generator, KEY_TRANSITIONS);
             generator.writeStartArray();
             for (Transition item0 : this.transitions) {
                 item0.serialize(generator, mapper);
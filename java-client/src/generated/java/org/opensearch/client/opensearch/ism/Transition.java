@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,9 +116,12 @@ public class Transition implements PlainJsonSerializable, ToCopyableBuilder<Tran
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONDITIONS = JsonpKey.of("conditions");
+    private static final JsonpKey KEY_STATE_NAME = JsonpKey.of("state_name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.conditions)) {
-            generator.writeKey("conditions");
+            JsonpUtils.writeKey(generator, KEY_CONDITIONS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.conditions.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -126,7 +131,7 @@ public class Transition implements PlainJsonSerializable, ToCopyableBuilder<Tran
         }
 
         if (this.stateName != null) {
-            generator.writeKey("state_name");
+            JsonpUtils.writeKey(generator, KEY_STATE_NAME);
             generator.write(this.stateName);
         }
     }
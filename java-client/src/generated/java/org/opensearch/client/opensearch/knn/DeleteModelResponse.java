@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -101,11 +103,14 @@ public class DeleteModelResponse implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_RESULT = JsonpKey.of("result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("model_id");
+        JsonpUtils.writeKey(generator, KEY_MODEL_ID);
         generator.write(this.modelId);
 
-        generator.writeKey("result");
+        JsonpUtils.writeKey(generator, KEY_RESULT);
         this.result.serialize(generator, mapper);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -162,39 +164,47 @@ public class GraphMergeStats implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_CURRENT_DOCS = JsonpKey.of("current_docs");
+    private static final JsonpKey KEY_CURRENT_SIZE_IN_BYTES = JsonpKey.of("current_size_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_DOCS = JsonpKey.of("total_docs");
+    private static final JsonpKey KEY_TOTAL_SIZE_IN_BYTES = JsonpKey.of("total_size_in_bytes");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.current != null) {
-            generator.writeKey("current");
+            JsonpUtils.writeKey(generator, KEY_CURRENT);
             generator.write(this.current);
         }
 
         if (this.currentDocs != null) {
-            generator.writeKey("current_docs");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_DOCS);
             generator.write(this.currentDocs);
         }
 
         if (this.currentSizeInBytes != null) {
-            generator.writeKey("current_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_SIZE_IN_BYTES);
             generator.write(this.currentSizeInBytes);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
         if (this.totalDocs != null) {
-            generator.writeKey("total_docs");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_DOCS);
             generator.write(this.totalDocs);
         }
 
         if (this.totalSizeInBytes != null) {
-            generator.writeKey("total_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_SIZE_IN_BYTES);
             generator.write(this.totalSizeInBytes);
         }
 
         if (this.totalTimeInMillis != null) {
-            generator.writeKey("total_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
             generator.write(this.totalTimeInMillis);
         }
     }
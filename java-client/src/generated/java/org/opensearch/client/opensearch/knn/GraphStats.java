@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,14 +104,17 @@ public class GraphStats implements PlainJsonSerializable, ToCopyableBuilder<Grap
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MERGE = JsonpKey.of("merge");
+    private static final JsonpKey KEY_REFRESH = JsonpKey.of("refresh");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.merge != null) {
-            generator.writeKey("merge");
+            JsonpUtils.writeKey(generator, KEY_MERGE);
             this.merge.serialize(generator, mapper);
         }
 
         if (this.refresh != null) {
-            generator.writeKey("refresh");
+            JsonpUtils.writeKey(generator, KEY_REFRESH);
             this.refresh.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -129,17 +131,22 @@ public class KnnMethod implements PlainJsonSerializable, ToCopyableBuilder<KnnMe
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENGINE = JsonpKey.of("engine");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_SPACE_TYPE = JsonpKey.of("space_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.engine != null) {
-            generator.writeKey("engine");
+            JsonpUtils.writeKey(generator, KEY_ENGINE);
             generator.write(this.engine);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (ApiTypeHelper.isDefined(this.parameters)) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.parameters.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -149,7 +156,7 @@ public class KnnMethod implements PlainJsonSerializable, ToCopyableBuilder<KnnMe
         }
 
         if (this.spaceType != null) {
-            generator.writeKey("space_type");
+            JsonpUtils.writeKey(generator, KEY_SPACE_TYPE);
             generator.write(this.spaceType);
         }
     }
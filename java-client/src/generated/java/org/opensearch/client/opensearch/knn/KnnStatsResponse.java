@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.HealthStatus;
@@ -119,25 +121,30 @@ public class KnnStatsResponse extends NodesResponseBase implements ToCopyableBui
         return this.nodes;
     }
 
+    private static final JsonpKey KEY_CIRCUIT_BREAKER_TRIGGERED = JsonpKey.of("circuit_breaker_triggered");
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_MODEL_INDEX_STATUS = JsonpKey.of("model_index_status");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.circuitBreakerTriggered != null) {
-            generator.writeKey("circuit_breaker_triggered");
+            JsonpUtils.writeKey(generator, KEY_CIRCUIT_BREAKER_TRIGGERED);
             generator.write(this.circuitBreakerTriggered);
         }
 
         if (this.clusterName != null) {
-            generator.writeKey("cluster_name");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
             generator.write(this.clusterName);
         }
 
         if (this.modelIndexStatus != null) {
-            generator.writeKey("model_index_status");
+            JsonpUtils.writeKey(generator, KEY_MODEL_INDEX_STATUS);
             this.modelIndexStatus.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.nodes)) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, NodeStats> item0 : this.nodes.entrySet()) {
                 generator.writeKey(item0.getKey());
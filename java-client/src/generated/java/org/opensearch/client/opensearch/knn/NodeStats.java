@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -489,69 +491,104 @@ public class NodeStats implements PlainJsonSerializable, ToCopyableBuilder<NodeS
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE_CAPACITY_REACHED = JsonpKey.of("cache_capacity_reached");
+    private static final JsonpKey KEY_EVICTION_COUNT = JsonpKey.of("eviction_count");
+    private static final JsonpKey KEY_FAISS_INITIALIZED = JsonpKey.of("faiss_initialized");
+    private static final JsonpKey KEY_GRAPH_INDEX_ERRORS = JsonpKey.of("graph_index_errors");
+    private static final JsonpKey KEY_GRAPH_INDEX_REQUESTS = JsonpKey.of("graph_index_requests");
+    private static final JsonpKey KEY_GRAPH_MEMORY_USAGE = JsonpKey.of("graph_memory_usage");
+    private static final JsonpKey KEY_GRAPH_MEMORY_USAGE_PERCENTAGE = JsonpKey.of("graph_memory_usage_percentage");
+    private static final JsonpKey KEY_GRAPH_QUERY_ERRORS = JsonpKey.of("graph_query_errors");
+    private static final JsonpKey KEY_GRAPH_QUERY_REQUESTS = JsonpKey.of("graph_query_requests");
+    private static final JsonpKey KEY_GRAPH_STATS = JsonpKey.of("graph_stats");
+    private static final JsonpKey KEY_HIT_COUNT = JsonpKey.of("hit_count");
+    private static final JsonpKey KEY_INDEXING_FROM_MODEL_DEGRADED = JsonpKey.of("indexing_from_model_degraded");
+    private static final JsonpKey KEY_INDICES_IN_CACHE = JsonpKey.of("indices_in_cache");
+    private static final JsonpKey KEY_KNN_QUERY_REQUESTS = JsonpKey.of("knn_query_requests");
+    private static final JsonpKey KEY_KNN_QUERY_WITH_FILTER_REQUESTS = JsonpKey.of("knn_query_with_filter_requests");
+    private static final JsonpKey KEY_LOAD_EXCEPTION_COUNT = JsonpKey.of("load_exception_count");
+    private static final JsonpKey KEY_LOAD_SUCCESS_COUNT = JsonpKey.of("load_success_count");
+    private static final JsonpKey KEY_LUCENE_INITIALIZED = JsonpKey.of("lucene_initialized");
+    private static final JsonpKey KEY_MAX_DISTANCE_QUERY_REQUESTS = JsonpKey.of("max_distance_query_requests");
+    private static final JsonpKey KEY_MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS = JsonpKey.of("max_distance_query_with_filter_requests");
+    private static final JsonpKey KEY_MIN_SCORE_QUERY_REQUESTS = JsonpKey.of("min_score_query_requests");
+    private static final JsonpKey KEY_MIN_SCORE_QUERY_WITH_FILTER_REQUESTS = JsonpKey.of("min_score_query_with_filter_requests");
+    private static final JsonpKey KEY_MISS_COUNT = JsonpKey.of("miss_count");
+    private static final JsonpKey KEY_NMSLIB_INITIALIZED = JsonpKey.of("nmslib_initialized");
+    private static final JsonpKey KEY_REMOTE_VECTOR_INDEX_BUILD_STATS = JsonpKey.of("remote_vector_index_build_stats");
+    private static final JsonpKey KEY_SCRIPT_COMPILATION_ERRORS = JsonpKey.of("script_compilation_errors");
+    private static final JsonpKey KEY_SCRIPT_COMPILATIONS = JsonpKey.of("script_compilations");
+    private static final JsonpKey KEY_SCRIPT_QUERY_ERRORS = JsonpKey.of("script_query_errors");
+    private static final JsonpKey KEY_SCRIPT_QUERY_REQUESTS = JsonpKey.of("script_query_requests");
+    private static final JsonpKey KEY_TOTAL_LOAD_TIME = JsonpKey.of("total_load_time");
+    private static final JsonpKey KEY_TRAINING_ERRORS = JsonpKey.of("training_errors");
+    private static final JsonpKey KEY_TRAINING_MEMORY_USAGE = JsonpKey.of("training_memory_usage");
+    private static final JsonpKey KEY_TRAINING_MEMORY_USAGE_PERCENTAGE = JsonpKey.of("training_memory_usage_percentage");
+    private static final JsonpKey KEY_TRAINING_REQUESTS = JsonpKey.of("training_requests");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cacheCapacityReached != null) {
-            generator.writeKey("cache_capacity_reached");
+            JsonpUtils.writeKey(generator, KEY_CACHE_CAPACITY_REACHED);
             generator.write(this.cacheCapacityReached);
         }
 
         if (this.evictionCount != null) {
-            generator.writeKey("eviction_count");
+            JsonpUtils.writeKey(generator, KEY_EVICTION_COUNT);
             generator.write(this.evictionCount);
         }
 
         if (this.faissInitialized != null) {
-            generator.writeKey("faiss_initialized");
+            JsonpUtils.writeKey(generator, KEY_FAISS_INITIALIZED);
             generator.write(this.faissInitialized);
         }
 
         if (this.graphIndexErrors != null) {
-            generator.writeKey("graph_index_errors");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_INDEX_ERRORS);
             generator.write(this.graphIndexErrors);
         }
 
         if (this.graphIndexRequests != null) {
-            generator.writeKey("graph_index_requests");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_INDEX_REQUESTS);
             generator.write(this.graphIndexRequests);
         }
 
         if (this.graphMemoryUsage != null) {
-            generator.writeKey("graph_memory_usage");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_MEMORY_USAGE);
             generator.write(this.graphMemoryUsage);
         }
 
         if (this.graphMemoryUsagePercentage != null) {
-            generator.writeKey("graph_memory_usage_percentage");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_MEMORY_USAGE_PERCENTAGE);
             generator.write(this.graphMemoryUsagePercentage);
         }
 
         if (this.graphQueryErrors != null) {
-            generator.writeKey("graph_query_errors");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_QUERY_ERRORS);
             generator.write(this.graphQueryErrors);
         }
 
         if (this.graphQueryRequests != null) {
-            generator.writeKey("graph_query_requests");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_QUERY_REQUESTS);
             generator.write(this.graphQueryRequests);
         }
 
         if (this.graphStats != null) {
-            generator.writeKey("graph_stats");
+            JsonpUtils.writeKey(generator, KEY_GRAPH_STATS);
             this.graphStats.serialize(generator, mapper);
         }
 
         if (this.hitCount != null) {
-            generator.writeKey("hit_count");
+            JsonpUtils.writeKey(generator, KEY_HIT_COUNT);
             generator.write(this.hitCount);
         }
 
         if (this.indexingFromModelDegraded != null) {
-            generator.writeKey("indexing_from_model_degraded");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_FROM_MODEL_DEGRADED);
             generator.write(this.indexingFromModelDegraded);
         }
 
         if (ApiTypeHelper.isDefined(this.indicesInCache)) {
-            generator.writeKey("indices_in_cache");
+            JsonpUtils.writeKey(generator, KEY_INDICES_IN_CACHE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.indicesInCache.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -561,107 +598,107 @@ public class NodeStats implements PlainJsonSerializable, ToCopyableBuilder<NodeS
         }
 
         if (this.knnQueryRequests != null) {
-            generator.writeKey("knn_query_requests");
+            JsonpUtils.writeKey(generator, KEY_KNN_QUERY_REQUESTS);
             generator.write(this.knnQueryRequests);
         }
 
         if (this.knnQueryWithFilterRequests != null) {
-            generator.writeKey("knn_query_with_filter_requests");
+            JsonpUtils.writeKey(generator, KEY_KNN_QUERY_WITH_FILTER_REQUESTS);
             generator.write(this.knnQueryWithFilterRequests);
         }
 
         if (this.loadExceptionCount != null) {
-            generator.writeKey("load_exception_count");
+            JsonpUtils.writeKey(generator, KEY_LOAD_EXCEPTION_COUNT);
             generator.write(this.loadExceptionCount);
         }
 
         if (this.loadSuccessCount != null) {
-            generator.writeKey("load_success_count");
+            JsonpUtils.writeKey(generator, KEY_LOAD_SUCCESS_COUNT);
             generator.write(this.loadSuccessCount);
         }
 
         if (this.luceneInitialized != null) {
-            generator.writeKey("lucene_initialized");
+            JsonpUtils.writeKey(generator, KEY_LUCENE_INITIALIZED);
             generator.write(this.luceneInitialized);
         }
 
         if (this.maxDistanceQueryRequests != null) {
-            generator.writeKey("max_distance_query_requests");
+            JsonpUtils.writeKey(generator, KEY_MAX_DISTANCE_QUERY_REQUESTS);
             generator.write(this.maxDistanceQueryRequests);
         }
 
         if (this.maxDistanceQueryWithFilterRequests != null) {
-            generator.writeKey("max_distance_query_with_filter_requests");
+            JsonpUtils.writeKey(generator, KEY_MAX_DISTANCE_QUERY_WITH_FILTER_REQUESTS);
             generator.write(this.maxDistanceQueryWithFilterRequests);
         }
 
         if (this.minScoreQueryRequests != null) {
-            generator.writeKey("min_score_query_requests");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE_QUERY_REQUESTS);
             generator.write(this.minScoreQueryRequests);
         }
 
         if (this.minScoreQueryWithFilterRequests != null) {
-            generator.writeKey("min_score_query_with_filter_requests");
+            JsonpUtils.writeKey(generator, KEY_MIN_SCORE_QUERY_WITH_FILTER_REQUESTS);
             generator.write(this.minScoreQueryWithFilterRequests);
         }
 
         if (this.missCount != null) {
-            generator.writeKey("miss_count");
+            JsonpUtils.writeKey(generator, KEY_MISS_COUNT);
             generator.write(this.missCount);
         }
 
         if (this.nmslibInitialized != null) {
-            generator.writeKey("nmslib_initialized");
+            JsonpUtils.writeKey(generator, KEY_NMSLIB_INITIALIZED);
             generator.write(this.nmslibInitialized);
         }
 
         if (this.remoteVectorIndexBuildStats != null) {
-            generator.writeKey("remote_vector_index_build_stats");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_VECTOR_INDEX_BUILD_STATS);
             this.remoteVectorIndexBuildStats.serialize(generator, mapper);
         }
 
         if (this.scriptCompilationErrors != null) {
-            generator.writeKey("script_compilation_errors");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_COMPILATION_ERRORS);
             generator.write(this.scriptCompilationErrors);
         }
 
         if (this.scriptCompilations != null) {
-            generator.writeKey("script_compilations");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_COMPILATIONS);
             generator.write(this.scriptCompilations);
         }
 
         if (this.scriptQueryErrors != null) {
-            generator.writeKey("script_query_errors");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_QUERY_ERRORS);
             generator.write(this.scriptQueryErrors);
         }
 
         if (this.scriptQueryRequests != null) {
-            generator.writeKey("script_query_requests");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_QUERY_REQUESTS);
             generator.write(this.scriptQueryRequests);
         }
 
         if (this.totalLoadTime != null) {
-            generator.writeKey("total_load_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_LOAD_TIME);
             generator.write(this.totalLoadTime);
         }
 
         if (this.trainingErrors != null) {
-            generator.writeKey("training_errors");
+            JsonpUtils.writeKey(generator, KEY_TRAINING_ERRORS);
             generator.write(this.trainingErrors);
         }
 
         if (this.trainingMemoryUsage != null) {
-            generator.writeKey("training_memory_usage");
+            JsonpUtils.writeKey(generator, KEY_TRAINING_MEMORY_USAGE);
             generator.write(this.trainingMemoryUsage);
         }
 
         if (this.trainingMemoryUsagePercentage != null) {
-            generator.writeKey("training_memory_usage_percentage");
+            JsonpUtils.writeKey(generator, KEY_TRAINING_MEMORY_USAGE_PERCENTAGE);
             generator.write(this.trainingMemoryUsagePercentage);
         }
 
         if (this.trainingRequests != null) {
-            generator.writeKey("training_requests");
+            JsonpUtils.writeKey(generator, KEY_TRAINING_REQUESTS);
             generator.write(this.trainingRequests);
         }
     }
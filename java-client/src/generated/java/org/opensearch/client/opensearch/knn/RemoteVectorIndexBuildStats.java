@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,19 +121,23 @@ public class RemoteVectorIndexBuildStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILD_STATS = JsonpKey.of("build_stats");
+    private static final JsonpKey KEY_CLIENT_STATS = JsonpKey.of("client_stats");
+    private static final JsonpKey KEY_REPOSITORY_STATS = JsonpKey.of("repository_stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.buildStats != null) {
-            generator.writeKey("build_stats");
+            JsonpUtils.writeKey(generator, KEY_BUILD_STATS);
             this.buildStats.serialize(generator, mapper);
         }
 
         if (this.clientStats != null) {
-            generator.writeKey("client_stats");
+            JsonpUtils.writeKey(generator, KEY_CLIENT_STATS);
             this.clientStats.serialize(generator, mapper);
         }
 
         if (this.repositoryStats != null) {
-            generator.writeKey("repository_stats");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY_STATS);
             this.repositoryStats.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -155,34 +157,45 @@ public class RemoteVectorIndexBuildStatsDetails
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_CURRENT_FLUSH_OPERATIONS = JsonpKey.of(
+        "remote_index_build_current_flush_operations"
+    );
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_CURRENT_FLUSH_SIZE = JsonpKey.of("remote_index_build_current_flush_size");
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_CURRENT_MERGE_OPERATIONS = JsonpKey.of(
+        "remote_index_build_current_merge_operations"
+    );
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_CURRENT_MERGE_SIZE = JsonpKey.of("remote_index_build_current_merge_size");
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_FLUSH_TIME_IN_MILLIS = JsonpKey.of("remote_index_build_flush_time_in_millis");
+    private static final JsonpKey KEY_REMOTE_INDEX_BUILD_MERGE_TIME_IN_MILLIS = JsonpKey.of("remote_index_build_merge_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.remoteIndexBuildCurrentFlushOperations != null) {
-            generator.writeKey("remote_index_build_current_flush_operations");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_CURRENT_FLUSH_OPERATIONS);
             generator.write(this.remoteIndexBuildCurrentFlushOperations);
         }
 
         if (this.remoteIndexBuildCurrentFlushSize != null) {
-            generator.writeKey("remote_index_build_current_flush_size");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_CURRENT_FLUSH_SIZE);
             generator.write(this.remoteIndexBuildCurrentFlushSize);
         }
 
         if (this.remoteIndexBuildCurrentMergeOperations != null) {
-            generator.writeKey("remote_index_build_current_merge_operations");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_CURRENT_MERGE_OPERATIONS);
             generator.write(this.remoteIndexBuildCurrentMergeOperations);
         }
 
         if (this.remoteIndexBuildCurrentMergeSize != null) {
-            generator.writeKey("remote_index_build_current_merge_size");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_CURRENT_MERGE_SIZE);
             generator.write(this.remoteIndexBuildCurrentMergeSize);
         }
 
         if (this.remoteIndexBuildFlushTimeInMillis != null) {
-            generator.writeKey("remote_index_build_flush_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_FLUSH_TIME_IN_MILLIS);
             generator.write(this.remoteIndexBuildFlushTimeInMillis);
         }
 
         if (this.remoteIndexBuildMergeTimeInMillis != null) {
-            generator.writeKey("remote_index_build_merge_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_INDEX_BUILD_MERGE_TIME_IN_MILLIS);
             generator.write(this.remoteIndexBuildMergeTimeInMillis);
         }
     }
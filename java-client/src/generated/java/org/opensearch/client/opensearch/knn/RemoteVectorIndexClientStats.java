@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -167,39 +169,47 @@ public class RemoteVectorIndexClientStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUILD_REQUEST_FAILURE_COUNT = JsonpKey.of("build_request_failure_count");
+    private static final JsonpKey KEY_BUILD_REQUEST_SUCCESS_COUNT = JsonpKey.of("build_request_success_count");
+    private static final JsonpKey KEY_INDEX_BUILD_FAILURE_COUNT = JsonpKey.of("index_build_failure_count");
+    private static final JsonpKey KEY_INDEX_BUILD_SUCCESS_COUNT = JsonpKey.of("index_build_success_count");
+    private static final JsonpKey KEY_STATUS_REQUEST_FAILURE_COUNT = JsonpKey.of("status_request_failure_count");
+    private static final JsonpKey KEY_STATUS_REQUEST_SUCCESS_COUNT = JsonpKey.of("status_request_success_count");
+    private static final JsonpKey KEY_WAITING_TIME_IN_MS = JsonpKey.of("waiting_time_in_ms");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.buildRequestFailureCount != null) {
-            generator.writeKey("build_request_failure_count");
+            JsonpUtils.writeKey(generator, KEY_BUILD_REQUEST_FAILURE_COUNT);
             generator.write(this.buildRequestFailureCount);
         }
 
         if (this.buildRequestSuccessCount != null) {
-            generator.writeKey("build_request_success_count");
+            JsonpUtils.writeKey(generator, KEY_BUILD_REQUEST_SUCCESS_COUNT);
             generator.write(this.buildRequestSuccessCount);
         }
 
         if (this.indexBuildFailureCount != null) {
-            generator.writeKey("index_build_failure_count");
+            JsonpUtils.writeKey(generator, KEY_INDEX_BUILD_FAILURE_COUNT);
             generator.write(this.indexBuildFailureCount);
         }
 
         if (this.indexBuildSuccessCount != null) {
-            generator.writeKey("index_build_success_count");
+            JsonpUtils.writeKey(generator, KEY_INDEX_BUILD_SUCCESS_COUNT);
             generator.write(this.indexBuildSuccessCount);
         }
 
         if (this.statusRequestFailureCount != null) {
-            generator.writeKey("status_request_failure_count");
+            JsonpUtils.writeKey(generator, KEY_STATUS_REQUEST_FAILURE_COUNT);
             generator.write(this.statusRequestFailureCount);
         }
 
         if (this.statusRequestSuccessCount != null) {
-            generator.writeKey("status_request_success_count");
+            JsonpUtils.writeKey(generator, KEY_STATUS_REQUEST_SUCCESS_COUNT);
             generator.write(this.statusRequestSuccessCount);
         }
 
         if (this.waitingTimeInMs != null) {
-            generator.writeKey("waiting_time_in_ms");
+            JsonpUtils.writeKey(generator, KEY_WAITING_TIME_IN_MS);
             generator.write(this.waitingTimeInMs);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -155,34 +157,41 @@ public class RemoteVectorIndexRepositoryStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_READ_FAILURE_COUNT = JsonpKey.of("read_failure_count");
+    private static final JsonpKey KEY_READ_SUCCESS_COUNT = JsonpKey.of("read_success_count");
+    private static final JsonpKey KEY_SUCCESSFUL_READ_TIME_IN_MILLIS = JsonpKey.of("successful_read_time_in_millis");
+    private static final JsonpKey KEY_SUCCESSFUL_WRITE_TIME_IN_MILLIS = JsonpKey.of("successful_write_time_in_millis");
+    private static final JsonpKey KEY_WRITE_FAILURE_COUNT = JsonpKey.of("write_failure_count");
+    private static final JsonpKey KEY_WRITE_SUCCESS_COUNT = JsonpKey.of("write_success_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.readFailureCount != null) {
-            generator.writeKey("read_failure_count");
+            JsonpUtils.writeKey(generator, KEY_READ_FAILURE_COUNT);
             generator.write(this.readFailureCount);
         }
 
         if (this.readSuccessCount != null) {
-            generator.writeKey("read_success_count");
+            JsonpUtils.writeKey(generator, KEY_READ_SUCCESS_COUNT);
             generator.write(this.readSuccessCount);
         }
 
         if (this.successfulReadTimeInMillis != null) {
-            generator.writeKey("successful_read_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_SUCCESSFUL_READ_TIME_IN_MILLIS);
             generator.write(this.successfulReadTimeInMillis);
         }
 
         if (this.successfulWriteTimeInMillis != null) {
-            generator.writeKey("successful_write_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_SUCCESSFUL_WRITE_TIME_IN_MILLIS);
             generator.write(this.successfulWriteTimeInMillis);
         }
 
         if (this.writeFailureCount != null) {
-            generator.writeKey("write_failure_count");
+            JsonpUtils.writeKey(generator, KEY_WRITE_FAILURE_COUNT);
             generator.write(this.writeFailureCount);
         }
 
         if (this.writeSuccessCount != null) {
-            generator.writeKey("write_success_count");
+            JsonpUtils.writeKey(generator, KEY_WRITE_SUCCESS_COUNT);
             generator.write(this.writeSuccessCount);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -239,49 +241,60 @@ public final class TrainModelRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPRESSION_LEVEL = JsonpKey.of("compression_level");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_DIMENSION = JsonpKey.of("dimension");
+    private static final JsonpKey KEY_MAX_TRAINING_VECTOR_COUNT = JsonpKey.of("max_training_vector_count");
+    private static final JsonpKey KEY_METHOD = JsonpKey.of("method");
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_SEARCH_SIZE = JsonpKey.of("search_size");
+    private static final JsonpKey KEY_SPACE_TYPE = JsonpKey.of("spaceType");
+    private static final JsonpKey KEY_TRAINING_FIELD = JsonpKey.of("training_field");
+    private static final JsonpKey KEY_TRAINING_INDEX = JsonpKey.of("training_index");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.compressionLevel != null) {
-            generator.writeKey("compression_level");
+            JsonpUtils.writeKey(generator, KEY_COMPRESSION_LEVEL);
             generator.write(this.compressionLevel);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
-        generator.writeKey("dimension");
+        JsonpUtils.writeKey(generator, KEY_DIMENSION);
         generator.write(this.dimension);
 
         if (this.maxTrainingVectorCount != null) {
-            generator.writeKey("max_training_vector_count");
+            JsonpUtils.writeKey(generator, KEY_MAX_TRAINING_VECTOR_COUNT);
             generator.write(this.maxTrainingVectorCount);
         }
 
         if (this.method != null) {
-            generator.writeKey("method");
+            JsonpUtils.writeKey(generator, KEY_METHOD);
             this.method.serialize(generator, mapper);
         }
 
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             generator.write(this.mode);
         }
 
         if (this.searchSize != null) {
-            generator.writeKey("search_size");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SIZE);
             generator.write(this.searchSize);
         }
 
         if (this.spaceType != null) {
-            generator.writeKey("spaceType");
+            JsonpUtils.writeKey(generator, KEY_SPACE_TYPE);
             generator.write(this.spaceType);
         }
 
-        generator.writeKey("training_field");
+        JsonpUtils.writeKey(generator, KEY_TRAINING_FIELD);
         generator.write(this.trainingField);
 
-        generator.writeKey("training_index");
+        JsonpUtils.writeKey(generator, KEY_TRAINING_INDEX);
         generator.write(this.trainingIndex);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,29 +140,35 @@ public class CacheStat implements PlainJsonSerializable, ToCopyableBuilder<Cache
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENTRY_COUNT = JsonpKey.of("entry_count");
+    private static final JsonpKey KEY_EVICTION_COUNT = JsonpKey.of("eviction_count");
+    private static final JsonpKey KEY_HIT_COUNT = JsonpKey.of("hit_count");
+    private static final JsonpKey KEY_MEMORY_USAGE_IN_BYTES = JsonpKey.of("memory_usage_in_bytes");
+    private static final JsonpKey KEY_MISS_COUNT = JsonpKey.of("miss_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.entryCount != null) {
-            generator.writeKey("entry_count");
+            JsonpUtils.writeKey(generator, KEY_ENTRY_COUNT);
             generator.write(this.entryCount);
         }
 
         if (this.evictionCount != null) {
-            generator.writeKey("eviction_count");
+            JsonpUtils.writeKey(generator, KEY_EVICTION_COUNT);
             generator.write(this.evictionCount);
         }
 
         if (this.hitCount != null) {
-            generator.writeKey("hit_count");
+            JsonpUtils.writeKey(generator, KEY_HIT_COUNT);
             generator.write(this.hitCount);
         }
 
         if (this.memoryUsageInBytes != null) {
-            generator.writeKey("memory_usage_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_USAGE_IN_BYTES);
             generator.write(this.memoryUsageInBytes);
         }
 
         if (this.missCount != null) {
-            generator.writeKey("miss_count");
+            JsonpUtils.writeKey(generator, KEY_MISS_COUNT);
             generator.write(this.missCount);
         }
     }
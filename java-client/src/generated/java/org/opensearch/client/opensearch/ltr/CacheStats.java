@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class CacheStats implements PlainJsonSerializable, ToCopyableBuilder<Cach
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FEATURE = JsonpKey.of("feature");
+    private static final JsonpKey KEY_FEATURESET = JsonpKey.of("featureset");
+    private static final JsonpKey KEY_MODEL = JsonpKey.of("model");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.feature != null) {
-            generator.writeKey("feature");
+            JsonpUtils.writeKey(generator, KEY_FEATURE);
             this.feature.serialize(generator, mapper);
         }
 
         if (this.featureset != null) {
-            generator.writeKey("featureset");
+            JsonpUtils.writeKey(generator, KEY_FEATURESET);
             this.featureset.serialize(generator, mapper);
         }
 
         if (this.model != null) {
-            generator.writeKey("model");
+            JsonpUtils.writeKey(generator, KEY_MODEL);
             this.model.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -133,24 +135,29 @@ public class CacheStatsResponse implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALL = JsonpKey.of("all");
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("_nodes");
+    private static final JsonpKey KEY_STORES = JsonpKey.of("stores");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.all != null) {
-            generator.writeKey("all");
+            JsonpUtils.writeKey(generator, KEY_ALL);
             this.all.serialize(generator, mapper);
         }
 
         if (this.clusterName != null) {
-            generator.writeKey("cluster_name");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
             generator.write(this.clusterName);
         }
 
         if (this.nodes != null) {
-            generator.writeKey("_nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             this.nodes.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.stores)) {
-            generator.writeKey("stores");
+            JsonpUtils.writeKey(generator, KEY_STORES);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.stores.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.nodes.NodesResponseBase;
@@ -118,15 +120,20 @@ public class LtrStatsResponse extends NodesResponseBase implements ToCopyableBui
         return this.stores;
     }
 
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_STORES = JsonpKey.of("stores");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.clusterName != null) {
-            generator.writeKey("cluster_name");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
             generator.write(this.clusterName);
         }
 
         if (ApiTypeHelper.isDefined(this.nodes)) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, NodeStats> item0 : this.nodes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -136,12 +143,12 @@ public class LtrStatsResponse extends NodesResponseBase implements ToCopyableBui
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (ApiTypeHelper.isDefined(this.stores)) {
-            generator.writeKey("stores");
+            JsonpUtils.writeKey(generator, KEY_STORES);
             generator.writeStartObject();
             for (Map.Entry<String, StoreStat> item0 : this.stores.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,19 +122,23 @@ public class NodeDetails implements PlainJsonSerializable, ToCopyableBuilder<Nod
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HOSTNAME = JsonpKey.of("hostname");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.hostname != null) {
-            generator.writeKey("hostname");
+            JsonpUtils.writeKey(generator, KEY_HOSTNAME);
             generator.write(this.hostname);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.stats != null) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             this.stats.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class NodeStats implements PlainJsonSerializable, ToCopyableBuilder<NodeS
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE = JsonpKey.of("cache");
+    private static final JsonpKey KEY_REQUEST_ERROR_COUNT = JsonpKey.of("request_error_count");
+    private static final JsonpKey KEY_REQUEST_TOTAL_COUNT = JsonpKey.of("request_total_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cache != null) {
-            generator.writeKey("cache");
+            JsonpUtils.writeKey(generator, KEY_CACHE);
             this.cache.serialize(generator, mapper);
         }
 
         if (this.requestErrorCount != null) {
-            generator.writeKey("request_error_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_ERROR_COUNT);
             generator.write(this.requestErrorCount);
         }
 
         if (this.requestTotalCount != null) {
-            generator.writeKey("request_total_count");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_TOTAL_COUNT);
             generator.write(this.requestTotalCount);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -129,24 +131,29 @@ public class NodeStatsDetails implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FEATURES = JsonpKey.of("features");
+    private static final JsonpKey KEY_FEATURESETS = JsonpKey.of("featuresets");
+    private static final JsonpKey KEY_MODELS = JsonpKey.of("models");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.features != null) {
-            generator.writeKey("features");
+            JsonpUtils.writeKey(generator, KEY_FEATURES);
             this.features.serialize(generator, mapper);
         }
 
         if (this.featuresets != null) {
-            generator.writeKey("featuresets");
+            JsonpUtils.writeKey(generator, KEY_FEATURESETS);
             this.featuresets.serialize(generator, mapper);
         }
 
         if (this.models != null) {
-            generator.writeKey("models");
+            JsonpUtils.writeKey(generator, KEY_MODELS);
             this.models.serialize(generator, mapper);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
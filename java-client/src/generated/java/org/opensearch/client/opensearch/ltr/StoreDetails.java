@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,9 +143,14 @@ public class StoreDetails implements PlainJsonSerializable, ToCopyableBuilder<St
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNTS = JsonpKey.of("counts");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_STORE = JsonpKey.of("store");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.counts)) {
-            generator.writeKey("counts");
+            JsonpUtils.writeKey(generator, KEY_COUNTS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.counts.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -153,17 +160,17 @@ public class StoreDetails implements PlainJsonSerializable, ToCopyableBuilder<St
         }
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
         }
 
         if (this.store != null) {
-            generator.writeKey("store");
+            JsonpUtils.writeKey(generator, KEY_STORE);
             generator.write(this.store);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,24 +128,29 @@ public class StoreStat implements PlainJsonSerializable, ToCopyableBuilder<Store
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FEATURE_COUNT = JsonpKey.of("feature_count");
+    private static final JsonpKey KEY_FEATURESET_COUNT = JsonpKey.of("featureset_count");
+    private static final JsonpKey KEY_MODEL_COUNT = JsonpKey.of("model_count");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.featureCount != null) {
-            generator.writeKey("feature_count");
+            JsonpUtils.writeKey(generator, KEY_FEATURE_COUNT);
             generator.write(this.featureCount);
         }
 
         if (this.featuresetCount != null) {
-            generator.writeKey("featureset_count");
+            JsonpUtils.writeKey(generator, KEY_FEATURESET_COUNT);
             generator.write(this.featuresetCount);
         }
 
         if (this.modelCount != null) {
-            generator.writeKey("model_count");
+            JsonpUtils.writeKey(generator, KEY_MODEL_COUNT);
             generator.write(this.modelCount);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
     }
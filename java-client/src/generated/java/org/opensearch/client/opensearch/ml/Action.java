@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,39 +140,47 @@ public class Action implements PlainJsonSerializable, ToCopyableBuilder<Action.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTION_TYPE = JsonpKey.of("action_type");
+    private static final JsonpKey KEY_HEADERS = JsonpKey.of("headers");
+    private static final JsonpKey KEY_METHOD = JsonpKey.of("method");
+    private static final JsonpKey KEY_POST_PROCESS_FUNCTION = JsonpKey.of("post_process_function");
+    private static final JsonpKey KEY_PRE_PROCESS_FUNCTION = JsonpKey.of("pre_process_function");
+    private static final JsonpKey KEY_REQUEST_BODY = JsonpKey.of("request_body");
+    private static final JsonpKey KEY_URL = JsonpKey.of("url");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.actionType != null) {
-            generator.writeKey("action_type");
+            JsonpUtils.writeKey(generator, KEY_ACTION_TYPE);
             generator.write(this.actionType);
         }
 
         if (this.headers != null) {
-            generator.writeKey("headers");
+            JsonpUtils.writeKey(generator, KEY_HEADERS);
             this.headers.serialize(generator, mapper);
         }
 
         if (this.method != null) {
-            generator.writeKey("method");
+            JsonpUtils.writeKey(generator, KEY_METHOD);
             generator.write(this.method);
         }
 
         if (this.postProcessFunction != null) {
-            generator.writeKey("post_process_function");
+            JsonpUtils.writeKey(generator, KEY_POST_PROCESS_FUNCTION);
             generator.write(this.postProcessFunction);
         }
 
         if (this.preProcessFunction != null) {
-            generator.writeKey("pre_process_function");
+            JsonpUtils.writeKey(generator, KEY_PRE_PROCESS_FUNCTION);
             generator.write(this.preProcessFunction);
         }
 
         if (this.requestBody != null) {
-            generator.writeKey("request_body");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_BODY);
             generator.write(this.requestBody);
         }
 
         if (this.url != null) {
-            generator.writeKey("url");
+            JsonpUtils.writeKey(generator, KEY_URL);
             generator.write(this.url);
         }
     }
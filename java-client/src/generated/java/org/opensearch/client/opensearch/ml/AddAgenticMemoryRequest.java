@@ -24,7 +24,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -186,19 +188,28 @@ public final class AddAgenticMemoryRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BINARY_DATA = JsonpKey.of("binary_data");
+    private static final JsonpKey KEY_INFER = JsonpKey.of("infer");
+    private static final JsonpKey KEY_MESSAGES = JsonpKey.of("messages");
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_NAMESPACE = JsonpKey.of("namespace");
+    private static final JsonpKey KEY_PAYLOAD_TYPE = JsonpKey.of("payload_type");
+    private static final JsonpKey KEY_STRUCTURED_DATA = JsonpKey.of("structured_data");
+    private static final JsonpKey KEY_TAGS = JsonpKey.of("tags");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.binaryData != null) {
-            generator.writeKey("binary_data");
+            JsonpUtils.writeKey(generator, KEY_BINARY_DATA);
             generator.write(this.binaryData);
         }
 
         if (this.infer != null) {
-            generator.writeKey("infer");
+            JsonpUtils.writeKey(generator, KEY_INFER);
             generator.write(this.infer);
         }
 
         if (ApiTypeHelper.isDefined(this.messages)) {
-            generator.writeKey("messages");
+            JsonpUtils.writeKey(generator, KEY_MESSAGES);
             generator.writeStartArray();
             for (Message item0 : this.messages) {
                 item0.serialize(generator, mapper);
@@ -207,7 +218,7 @@ public final class AddAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -217,7 +228,7 @@ public final class AddAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.namespace)) {
-            generator.writeKey("namespace");
+            JsonpUtils.writeKey(generator, KEY_NAMESPACE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.namespace.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -227,12 +238,12 @@ public final class AddAgenticMemoryRequest extends RequestBase
         }
 
         if (this.payloadType != null) {
-            generator.writeKey("payload_type");
+            JsonpUtils.writeKey(generator, KEY_PAYLOAD_TYPE);
             generator.write(this.payloadType);
         }
 
         if (ApiTypeHelper.isDefined(this.structuredData)) {
-            generator.writeKey("structured_data");
+            JsonpUtils.writeKey(generator, KEY_STRUCTURED_DATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.structuredData.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -242,7 +253,7 @@ public final class AddAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.tags)) {
-            generator.writeKey("tags");
+            JsonpUtils.writeKey(generator, KEY_TAGS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.tags.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -87,14 +89,17 @@ public class AddAgenticMemoryResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SESSION_ID = JsonpKey.of("session_id");
+    private static final JsonpKey KEY_WORKING_MEMORY_ID = JsonpKey.of("working_memory_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.sessionId != null) {
-            generator.writeKey("session_id");
+            JsonpUtils.writeKey(generator, KEY_SESSION_ID);
             generator.write(this.sessionId);
         }
 
         if (this.workingMemoryId != null) {
-            generator.writeKey("working_memory_id");
+            JsonpUtils.writeKey(generator, KEY_WORKING_MEMORY_ID);
             generator.write(this.workingMemoryId);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,39 +140,47 @@ public class AlgorithmOperations implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEPLOY = JsonpKey.of("deploy");
+    private static final JsonpKey KEY_EXECUTE = JsonpKey.of("execute");
+    private static final JsonpKey KEY_PREDICT = JsonpKey.of("predict");
+    private static final JsonpKey KEY_REGISTER = JsonpKey.of("register");
+    private static final JsonpKey KEY_TRAIN = JsonpKey.of("train");
+    private static final JsonpKey KEY_TRAIN_PREDICT = JsonpKey.of("train_predict");
+    private static final JsonpKey KEY_UNDEPLOY = JsonpKey.of("undeploy");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.deploy != null) {
-            generator.writeKey("deploy");
+            JsonpUtils.writeKey(generator, KEY_DEPLOY);
             this.deploy.serialize(generator, mapper);
         }
 
         if (this.execute != null) {
-            generator.writeKey("execute");
+            JsonpUtils.writeKey(generator, KEY_EXECUTE);
             this.execute.serialize(generator, mapper);
         }
 
         if (this.predict != null) {
-            generator.writeKey("predict");
+            JsonpUtils.writeKey(generator, KEY_PREDICT);
             this.predict.serialize(generator, mapper);
         }
 
         if (this.register != null) {
-            generator.writeKey("register");
+            JsonpUtils.writeKey(generator, KEY_REGISTER);
             this.register.serialize(generator, mapper);
         }
 
         if (this.train != null) {
-            generator.writeKey("train");
+            JsonpUtils.writeKey(generator, KEY_TRAIN);
             this.train.serialize(generator, mapper);
         }
 
         if (this.trainPredict != null) {
-            generator.writeKey("train_predict");
+            JsonpUtils.writeKey(generator, KEY_TRAIN_PREDICT);
             this.trainPredict.serialize(generator, mapper);
         }
 
         if (this.undeploy != null) {
-            generator.writeKey("undeploy");
+            JsonpUtils.writeKey(generator, KEY_UNDEPLOY);
             this.undeploy.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -84,14 +86,17 @@ public class ByteBuffer implements PlainJsonSerializable, ToCopyableBuilder<Byte
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ARRAY = JsonpKey.of("array");
+    private static final JsonpKey KEY_ORDER = JsonpKey.of("order");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.array != null) {
-            generator.writeKey("array");
+            JsonpUtils.writeKey(generator, KEY_ARRAY);
             generator.write(this.array);
         }
 
         if (this.order != null) {
-            generator.writeKey("order");
+            JsonpUtils.writeKey(generator, KEY_ORDER);
             this.order.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,39 +140,47 @@ public class ClientConfig implements PlainJsonSerializable, ToCopyableBuilder<Cl
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECTION_TIMEOUT = JsonpKey.of("connection_timeout");
+    private static final JsonpKey KEY_MAX_CONNECTION = JsonpKey.of("max_connection");
+    private static final JsonpKey KEY_MAX_RETRY_TIMES = JsonpKey.of("max_retry_times");
+    private static final JsonpKey KEY_READ_TIMEOUT = JsonpKey.of("read_timeout");
+    private static final JsonpKey KEY_RETRY_BACKOFF_MILLIS = JsonpKey.of("retry_backoff_millis");
+    private static final JsonpKey KEY_RETRY_BACKOFF_POLICY = JsonpKey.of("retry_backoff_policy");
+    private static final JsonpKey KEY_RETRY_TIMEOUT_SECONDS = JsonpKey.of("retry_timeout_seconds");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.connectionTimeout != null) {
-            generator.writeKey("connection_timeout");
+            JsonpUtils.writeKey(generator, KEY_CONNECTION_TIMEOUT);
             generator.write(this.connectionTimeout);
         }
 
         if (this.maxConnection != null) {
-            generator.writeKey("max_connection");
+            JsonpUtils.writeKey(generator, KEY_MAX_CONNECTION);
             generator.write(this.maxConnection);
         }
 
         if (this.maxRetryTimes != null) {
-            generator.writeKey("max_retry_times");
+            JsonpUtils.writeKey(generator, KEY_MAX_RETRY_TIMES);
             generator.write(this.maxRetryTimes);
         }
 
         if (this.readTimeout != null) {
-            generator.writeKey("read_timeout");
+            JsonpUtils.writeKey(generator, KEY_READ_TIMEOUT);
             generator.write(this.readTimeout);
         }
 
         if (this.retryBackoffMillis != null) {
-            generator.writeKey("retry_backoff_millis");
+            JsonpUtils.writeKey(generator, KEY_RETRY_BACKOFF_MILLIS);
             generator.write(this.retryBackoffMillis);
         }
 
         if (this.retryBackoffPolicy != null) {
-            generator.writeKey("retry_backoff_policy");
+            JsonpUtils.writeKey(generator, KEY_RETRY_BACKOFF_POLICY);
             generator.write(this.retryBackoffPolicy);
         }
 
         if (this.retryTimeoutSeconds != null) {
-            generator.writeKey("retry_timeout_seconds");
+            JsonpUtils.writeKey(generator, KEY_RETRY_TIMEOUT_SECONDS);
             generator.write(this.retryTimeoutSeconds);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -78,14 +80,17 @@ public class ColumnMeta implements PlainJsonSerializable, ToCopyableBuilder<Colu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLUMN_TYPE = JsonpKey.of("column_type");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.columnType != null) {
-            generator.writeKey("column_type");
+            JsonpUtils.writeKey(generator, KEY_COLUMN_TYPE);
             this.columnType.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -162,8 +164,17 @@ public final class CreateConnectorRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+    private static final JsonpKey KEY_CLIENT_CONFIG = JsonpKey.of("client_config");
+    private static final JsonpKey KEY_CREDENTIAL = JsonpKey.of("credential");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_PROTOCOL = JsonpKey.of("protocol");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("actions");
+        JsonpUtils.writeKey(generator, KEY_ACTIONS);
         generator.writeStartArray();
         for (Action item0 : this.actions) {
             item0.serialize(generator, mapper);
@@ -171,26 +182,26 @@ public final class CreateConnectorRequest extends RequestBase
         generator.writeEnd();
 
         if (this.clientConfig != null) {
-            generator.writeKey("client_config");
+            JsonpUtils.writeKey(generator, KEY_CLIENT_CONFIG);
             this.clientConfig.serialize(generator, mapper);
         }
 
-        generator.writeKey("credential");
+        JsonpUtils.writeKey(generator, KEY_CREDENTIAL);
         this.credential.serialize(generator, mapper);
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
-        generator.writeKey("parameters");
+        JsonpUtils.writeKey(generator, KEY_PARAMETERS);
         this.parameters.serialize(generator, mapper);
 
-        generator.writeKey("protocol");
+        JsonpUtils.writeKey(generator, KEY_PROTOCOL);
         this.protocol.serialize(generator, mapper);
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
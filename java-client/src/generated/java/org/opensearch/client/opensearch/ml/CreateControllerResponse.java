@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -81,14 +83,17 @@ public class CreateControllerResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             this.status.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -83,14 +85,17 @@ public class CreateMemoryContainerResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MEMORY_CONTAINER_ID = JsonpKey.of("memory_container_id");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.memoryContainerId != null) {
-            generator.writeKey("memory_container_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_CONTAINER_ID);
             generator.write(this.memoryContainerId);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
     }
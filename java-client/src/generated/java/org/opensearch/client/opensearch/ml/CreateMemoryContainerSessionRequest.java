@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,9 +138,14 @@ public final class CreateMemoryContainerSessionRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_NAMESPACE = JsonpKey.of("namespace");
+    private static final JsonpKey KEY_SESSION_ID = JsonpKey.of("session_id");
+    private static final JsonpKey KEY_SUMMARY = JsonpKey.of("summary");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -148,7 +155,7 @@ public final class CreateMemoryContainerSessionRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.namespace)) {
-            generator.writeKey("namespace");
+            JsonpUtils.writeKey(generator, KEY_NAMESPACE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.namespace.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -158,12 +165,12 @@ public final class CreateMemoryContainerSessionRequest extends RequestBase
         }
 
         if (this.sessionId != null) {
-            generator.writeKey("session_id");
+            JsonpUtils.writeKey(generator, KEY_SESSION_ID);
             generator.write(this.sessionId);
         }
 
         if (this.summary != null) {
-            generator.writeKey("summary");
+            JsonpUtils.writeKey(generator, KEY_SUMMARY);
             generator.write(this.summary);
         }
     }
@@ -18,7 +18,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -68,8 +70,10 @@ public class CreateMessageResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MESSAGE_ID = JsonpKey.of("message_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("message_id");
+        JsonpUtils.writeKey(generator, KEY_MESSAGE_ID);
         generator.write(this.messageId);
     }
 
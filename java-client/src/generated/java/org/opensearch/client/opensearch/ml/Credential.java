@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,23 +105,27 @@ public class Credential implements PlainJsonSerializable, ToCopyableBuilder<Cred
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCESS_KEY = JsonpKey.of("access_key");
+    private static final JsonpKey KEY_SECRET_KEY = JsonpKey.of("secret_key");
+    private static final JsonpKey KEY_SESSION_TOKEN = JsonpKey.of("session_token");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.accessKey != null) {
-            generator.writeKey("access_key");
+            JsonpUtils.writeKey(generator, KEY_ACCESS_KEY);
             generator.write(this.accessKey);
         }
 
         if (this.secretKey != null) {
-            generator.writeKey("secret_key");
+            JsonpUtils.writeKey(generator, KEY_SECRET_KEY);
             generator.write(this.secretKey);
         }
 
         if (this.sessionToken != null) {
-            generator.writeKey("session_token");
+            JsonpUtils.writeKey(generator, KEY_SESSION_TOKEN);
             generator.write(this.sessionToken);
         }
     }
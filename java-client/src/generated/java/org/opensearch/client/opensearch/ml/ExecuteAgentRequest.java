@@ -22,7 +22,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,12 +108,15 @@ public final class ExecuteAgentRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_PARAMETERS_VERBOSE = JsonpKey.of("parameters.verbose");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("parameters");
+        JsonpUtils.writeKey(generator, KEY_PARAMETERS);
         this.parameters.serialize(generator, mapper);
 
         if (this.parametersVerbose != null) {
-            generator.writeKey("parameters.verbose");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS_VERBOSE);
             generator.write(this.parametersVerbose);
         }
     }
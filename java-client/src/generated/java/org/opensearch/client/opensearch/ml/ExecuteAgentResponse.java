@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -92,9 +94,13 @@ public class ExecuteAgentResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INFERENCE_RESULTS = JsonpKey.of("inference_results");
+    private static final JsonpKey KEY_PREDICTION_RESULT = JsonpKey.of("prediction_result");
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.inferenceResults)) {
-            generator.writeKey("inference_results");
+            JsonpUtils.writeKey(generator, KEY_INFERENCE_RESULTS);
             generator.writeStartArray();
             for (InferenceResults item0 : this.inferenceResults) {
                 item0.serialize(generator, mapper);
@@ -103,12 +109,12 @@ public class ExecuteAgentResponse implements PlainJsonSerializable, ToCopyableBu
         }
 
         if (this.predictionResult != null) {
-            generator.writeKey("prediction_result");
+            JsonpUtils.writeKey(generator, KEY_PREDICTION_RESULT);
             this.predictionResult.serialize(generator, mapper);
         }
 
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             this.status.serialize(generator, mapper);
         }
     }
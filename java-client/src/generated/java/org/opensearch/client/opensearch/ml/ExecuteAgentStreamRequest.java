@@ -20,7 +20,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -89,8 +91,10 @@ public final class ExecuteAgentStreamRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("parameters");
+        JsonpUtils.writeKey(generator, KEY_PARAMETERS);
         this.parameters.serialize(generator, mapper);
     }
 
@@ -22,7 +22,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -91,9 +93,11 @@ public final class ExecuteToolRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.parameters != null) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             this.parameters.serialize(generator, mapper);
         }
     }
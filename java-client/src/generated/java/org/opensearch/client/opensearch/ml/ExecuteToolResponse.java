@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -68,9 +70,11 @@ public class ExecuteToolResponse implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INFERENCE_RESULTS = JsonpKey.of("inference_results");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.inferenceResults)) {
-            generator.writeKey("inference_results");
+            JsonpUtils.writeKey(generator, KEY_INFERENCE_RESULTS);
             generator.writeStartArray();
             for (InferenceResults item0 : this.inferenceResults) {
                 item0.serialize(generator, mapper);
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -152,34 +154,42 @@ public class GetAgentResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IS_HIDDEN = JsonpKey.of("is_hidden");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TOOLS = JsonpKey.of("tools");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.isHidden != null) {
-            generator.writeKey("is_hidden");
+            JsonpUtils.writeKey(generator, KEY_IS_HIDDEN);
             generator.write(this.isHidden);
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (ApiTypeHelper.isDefined(this.tools)) {
-            generator.writeKey("tools");
+            JsonpUtils.writeKey(generator, KEY_TOOLS);
             generator.writeStartArray();
             for (ToolItems item0 : this.tools) {
                 item0.serialize(generator, mapper);
@@ -188,7 +198,7 @@ public class GetAgentResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
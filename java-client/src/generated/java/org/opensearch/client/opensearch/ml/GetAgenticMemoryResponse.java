@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -316,14 +318,34 @@ public class GetAgenticMemoryResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTION = JsonpKey.of("action");
+    private static final JsonpKey KEY_AFTER = JsonpKey.of("after");
+    private static final JsonpKey KEY_BEFORE = JsonpKey.of("before");
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_INFER = JsonpKey.of("infer");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_MEMORY_CONTAINER_ID = JsonpKey.of("memory_container_id");
+    private static final JsonpKey KEY_MEMORY_EMBEDDING = JsonpKey.of("memory_embedding");
+    private static final JsonpKey KEY_MEMORY_ID = JsonpKey.of("memory_id");
+    private static final JsonpKey KEY_MESSAGES = JsonpKey.of("messages");
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_NAMESPACE = JsonpKey.of("namespace");
+    private static final JsonpKey KEY_NAMESPACE_SIZE = JsonpKey.of("namespace_size");
+    private static final JsonpKey KEY_OWNER_ID = JsonpKey.of("owner_id");
+    private static final JsonpKey KEY_PAYLOAD_TYPE = JsonpKey.of("payload_type");
+    private static final JsonpKey KEY_STRATEGY_ID = JsonpKey.of("strategy_id");
+    private static final JsonpKey KEY_STRATEGY_TYPE = JsonpKey.of("strategy_type");
+    private static final JsonpKey KEY_TAGS = JsonpKey.of("tags");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.action != null) {
-            generator.writeKey("action");
+            JsonpUtils.writeKey(generator, KEY_ACTION);
             this.action.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.after)) {
-            generator.writeKey("after");
+            JsonpUtils.writeKey(generator, KEY_AFTER);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.after.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -333,7 +355,7 @@ public class GetAgenticMemoryResponse
         }
 
         if (ApiTypeHelper.isDefined(this.before)) {
-            generator.writeKey("before");
+            JsonpUtils.writeKey(generator, KEY_BEFORE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.before.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -343,32 +365,32 @@ public class GetAgenticMemoryResponse
         }
 
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
         if (this.infer != null) {
-            generator.writeKey("infer");
+            JsonpUtils.writeKey(generator, KEY_INFER);
             generator.write(this.infer);
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             generator.write(this.memory);
         }
 
         if (this.memoryContainerId != null) {
-            generator.writeKey("memory_container_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_CONTAINER_ID);
             generator.write(this.memoryContainerId);
         }
 
         if (ApiTypeHelper.isDefined(this.memoryEmbedding)) {
-            generator.writeKey("memory_embedding");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_EMBEDDING);
             generator.writeStartArray();
             for (Double item0 : this.memoryEmbedding) {
                 generator.write(item0);
@@ -377,12 +399,12 @@ public class GetAgenticMemoryResponse
         }
 
         if (this.memoryId != null) {
-            generator.writeKey("memory_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_ID);
             generator.write(this.memoryId);
         }
 
         if (ApiTypeHelper.isDefined(this.messages)) {
-            generator.writeKey("messages");
+            JsonpUtils.writeKey(generator, KEY_MESSAGES);
             generator.writeStartArray();
             for (Message item0 : this.messages) {
                 item0.serialize(generator, mapper);
@@ -391,7 +413,7 @@ public class GetAgenticMemoryResponse
         }
 
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -401,7 +423,7 @@ public class GetAgenticMemoryResponse
         }
 
         if (ApiTypeHelper.isDefined(this.namespace)) {
-            generator.writeKey("namespace");
+            JsonpUtils.writeKey(generator, KEY_NAMESPACE);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.namespace.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -411,32 +433,32 @@ public class GetAgenticMemoryResponse
         }
 
         if (this.namespaceSize != null) {
-            generator.writeKey("namespace_size");
+            JsonpUtils.writeKey(generator, KEY_NAMESPACE_SIZE);
             generator.write(this.namespaceSize);
         }
 
         if (this.ownerId != null) {
-            generator.writeKey("owner_id");
+            JsonpUtils.writeKey(generator, KEY_OWNER_ID);
             generator.write(this.ownerId);
         }
 
         if (this.payloadType != null) {
-            generator.writeKey("payload_type");
+            JsonpUtils.writeKey(generator, KEY_PAYLOAD_TYPE);
             this.payloadType.serialize(generator, mapper);
         }
 
         if (this.strategyId != null) {
-            generator.writeKey("strategy_id");
+            JsonpUtils.writeKey(generator, KEY_STRATEGY_ID);
             generator.write(this.strategyId);
         }
 
         if (this.strategyType != null) {
-            generator.writeKey("strategy_type");
+            JsonpUtils.writeKey(generator, KEY_STRATEGY_TYPE);
             this.strategyType.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.tags)) {
-            generator.writeKey("tags");
+            JsonpUtils.writeKey(generator, KEY_TAGS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.tags.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -86,8 +88,11 @@ public class GetAllMemoriesResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MEMORIES = JsonpKey.of("memories");
+    private static final JsonpKey KEY_NEXT_TOKEN = JsonpKey.of("next_token");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("memories");
+        JsonpUtils.writeKey(generator, KEY_MEMORIES);
         generator.writeStartArray();
         for (Memory item0 : this.memories) {
             item0.serialize(generator, mapper);
@@ -95,7 +100,7 @@ public class GetAllMemoriesResponse
         generator.writeEnd();
 
         if (this.nextToken != null) {
-            generator.writeKey("next_token");
+            JsonpUtils.writeKey(generator, KEY_NEXT_TOKEN);
             generator.write(this.nextToken);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -86,8 +88,11 @@ public class GetAllMessagesResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MESSAGES = JsonpKey.of("messages");
+    private static final JsonpKey KEY_NEXT_TOKEN = JsonpKey.of("next_token");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("messages");
+        JsonpUtils.writeKey(generator, KEY_MESSAGES);
         generator.writeStartArray();
         for (Message item0 : this.messages) {
             item0.serialize(generator, mapper);
@@ -95,7 +100,7 @@ public class GetAllMessagesResponse
         generator.writeEnd();
 
         if (this.nextToken != null) {
-            generator.writeKey("next_token");
+            JsonpUtils.writeKey(generator, KEY_NEXT_TOKEN);
             generator.write(this.nextToken);
         }
     }
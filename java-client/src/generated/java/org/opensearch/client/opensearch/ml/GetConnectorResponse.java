@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -161,9 +163,18 @@ public class GetConnectorResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_PROTOCOL = JsonpKey.of("protocol");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.actions)) {
-            generator.writeKey("actions");
+            JsonpUtils.writeKey(generator, KEY_ACTIONS);
             generator.writeStartArray();
             for (Action item0 : this.actions) {
                 item0.serialize(generator, mapper);
@@ -172,37 +183,37 @@ public class GetConnectorResponse implements PlainJsonSerializable, ToCopyableBu
         }
 
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.parameters != null) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             this.parameters.serialize(generator, mapper);
         }
 
         if (this.protocol != null) {
-            generator.writeKey("protocol");
+            JsonpUtils.writeKey(generator, KEY_PROTOCOL);
             this.protocol.serialize(generator, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
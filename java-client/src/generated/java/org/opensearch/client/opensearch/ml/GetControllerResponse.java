@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -83,14 +85,17 @@ public class GetControllerResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_USER_RATE_LIMITER = JsonpKey.of("user_rate_limiter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (ApiTypeHelper.isDefined(this.userRateLimiter)) {
-            generator.writeKey("user_rate_limiter");
+            JsonpUtils.writeKey(generator, KEY_USER_RATE_LIMITER);
             generator.writeStartObject();
             for (Map.Entry<String, RateLimiter> item0 : this.userRateLimiter.entrySet()) {
                 generator.writeKey(item0.getKey());
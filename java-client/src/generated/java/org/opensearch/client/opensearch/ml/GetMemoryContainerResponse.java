@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,34 +142,41 @@ public class GetMemoryContainerResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFIGURATION = JsonpKey.of("configuration");
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_OWNER = JsonpKey.of("owner");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.configuration != null) {
-            generator.writeKey("configuration");
+            JsonpUtils.writeKey(generator, KEY_CONFIGURATION);
             this.configuration.serialize(generator, mapper);
         }
 
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.owner != null) {
-            generator.writeKey("owner");
+            JsonpUtils.writeKey(generator, KEY_OWNER);
             this.owner.serialize(generator, mapper);
         }
     }
@@ -22,7 +22,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,9 +152,17 @@ public class GetMemoryResponse implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDITIONAL_INFO = JsonpKey.of("additional_info");
+    private static final JsonpKey KEY_CREATE_TIME = JsonpKey.of("create_time");
+    private static final JsonpKey KEY_MEMORY_ID = JsonpKey.of("memory_id");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_UPDATED_TIME = JsonpKey.of("updated_time");
+    private static final JsonpKey KEY_USER = JsonpKey.of("user");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.additionalInfo)) {
-            generator.writeKey("additional_info");
+            JsonpUtils.writeKey(generator, KEY_ADDITIONAL_INFO);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.additionalInfo.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -162,32 +172,32 @@ public class GetMemoryResponse implements PlainJsonSerializable, ToCopyableBuild
         }
 
         if (this.createTime != null) {
-            generator.writeKey("create_time");
+            JsonpUtils.writeKey(generator, KEY_CREATE_TIME);
             generator.write(this.createTime);
         }
 
         if (this.memoryId != null) {
-            generator.writeKey("memory_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_ID);
             generator.write(this.memoryId);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
 
         if (this.updatedTime != null) {
-            generator.writeKey("updated_time");
+            JsonpUtils.writeKey(generator, KEY_UPDATED_TIME);
             generator.write(this.updatedTime);
         }
 
         if (this.user != null) {
-            generator.writeKey("user");
+            JsonpUtils.writeKey(generator, KEY_USER);
             generator.write(this.user);
         }
     }
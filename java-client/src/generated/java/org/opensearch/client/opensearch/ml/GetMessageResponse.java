@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -226,9 +228,22 @@ public class GetMessageResponse implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDITIONAL_INFO = JsonpKey.of("additional_info");
+    private static final JsonpKey KEY_CONTENT = JsonpKey.of("content");
+    private static final JsonpKey KEY_CREATE_TIME = JsonpKey.of("create_time");
+    private static final JsonpKey KEY_INPUT = JsonpKey.of("input");
+    private static final JsonpKey KEY_MEMORY_ID = JsonpKey.of("memory_id");
+    private static final JsonpKey KEY_MESSAGE_ID = JsonpKey.of("message_id");
+    private static final JsonpKey KEY_ORIGIN = JsonpKey.of("origin");
+    private static final JsonpKey KEY_PARENT_MESSAGE_ID = JsonpKey.of("parent_message_id");
+    private static final JsonpKey KEY_PROMPT_TEMPLATE = JsonpKey.of("prompt_template");
+    private static final JsonpKey KEY_RESPONSE = JsonpKey.of("response");
+    private static final JsonpKey KEY_ROLE = JsonpKey.of("role");
+    private static final JsonpKey KEY_TRACE_NUMBER = JsonpKey.of("trace_number");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.additionalInfo)) {
-            generator.writeKey("additional_info");
+            JsonpUtils.writeKey(generator, KEY_ADDITIONAL_INFO);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.additionalInfo.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -238,7 +253,7 @@ public class GetMessageResponse implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (ApiTypeHelper.isDefined(this.content)) {
-            generator.writeKey("content");
+            JsonpUtils.writeKey(generator, KEY_CONTENT);
             generator.writeStartArray();
             for (Content item0 : this.content) {
                 item0.serialize(generator, mapper);
@@ -247,52 +262,52 @@ public class GetMessageResponse implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (this.createTime != null) {
-            generator.writeKey("create_time");
+            JsonpUtils.writeKey(generator, KEY_CREATE_TIME);
             generator.write(this.createTime);
         }
 
         if (this.input != null) {
-            generator.writeKey("input");
+            JsonpUtils.writeKey(generator, KEY_INPUT);
             generator.write(this.input);
         }
 
         if (this.memoryId != null) {
-            generator.writeKey("memory_id");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_ID);
             generator.write(this.memoryId);
         }
 
         if (this.messageId != null) {
-            generator.writeKey("message_id");
+            JsonpUtils.writeKey(generator, KEY_MESSAGE_ID);
             generator.write(this.messageId);
         }
 
         if (this.origin != null) {
-            generator.writeKey("origin");
+            JsonpUtils.writeKey(generator, KEY_ORIGIN);
             generator.write(this.origin);
         }
 
         if (this.parentMessageId != null) {
-            generator.writeKey("parent_message_id");
+            JsonpUtils.writeKey(generator, KEY_PARENT_MESSAGE_ID);
             generator.write(this.parentMessageId);
         }
 
         if (this.promptTemplate != null) {
-            generator.writeKey("prompt_template");
+            JsonpUtils.writeKey(generator, KEY_PROMPT_TEMPLATE);
             generator.write(this.promptTemplate);
         }
 
         if (this.response != null) {
-            generator.writeKey("response");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE);
             generator.write(this.response);
         }
 
         if (this.role != null) {
-            generator.writeKey("role");
+            JsonpUtils.writeKey(generator, KEY_ROLE);
             generator.write(this.role);
         }
 
         if (this.traceNumber != null) {
-            generator.writeKey("trace_number");
+            JsonpUtils.writeKey(generator, KEY_TRACE_NUMBER);
             generator.write(this.traceNumber);
         }
     }
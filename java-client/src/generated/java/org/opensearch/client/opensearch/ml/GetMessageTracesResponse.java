@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -83,13 +85,16 @@ public class GetMessageTracesResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NEXT_TOKEN = JsonpKey.of("next_token");
+    private static final JsonpKey KEY_TRACES = JsonpKey.of("traces");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.nextToken != null) {
-            generator.writeKey("next_token");
+            JsonpUtils.writeKey(generator, KEY_NEXT_TOKEN);
             generator.write(this.nextToken);
         }
 
-        generator.writeKey("traces");
+        JsonpUtils.writeKey(generator, KEY_TRACES);
         generator.writeStartArray();
         for (Message item0 : this.traces) {
             item0.serialize(generator, mapper);
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -149,31 +151,39 @@ public class GetModelGroupResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCESS = JsonpKey.of("access");
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_LATEST_VERSION = JsonpKey.of("latest_version");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_OWNER = JsonpKey.of("owner");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("access");
+        JsonpUtils.writeKey(generator, KEY_ACCESS);
         this.access.serialize(generator, mapper);
 
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
-        generator.writeKey("latest_version");
+        JsonpUtils.writeKey(generator, KEY_LATEST_VERSION);
         generator.write(this.latestVersion);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.owner != null) {
-            generator.writeKey("owner");
+            JsonpUtils.writeKey(generator, KEY_OWNER);
             this.owner.serialize(generator, mapper);
         }
     }
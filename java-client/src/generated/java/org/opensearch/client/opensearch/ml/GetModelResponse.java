@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -256,72 +258,87 @@ public class GetModelResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALGORITHM = JsonpKey.of("algorithm");
+    private static final JsonpKey KEY_CREATED_TIME = JsonpKey.of("created_time");
+    private static final JsonpKey KEY_IS_HIDDEN = JsonpKey.of("is_hidden");
+    private static final JsonpKey KEY_LAST_REGISTERED_TIME = JsonpKey.of("last_registered_time");
+    private static final JsonpKey KEY_LAST_UPDATED_TIME = JsonpKey.of("last_updated_time");
+    private static final JsonpKey KEY_MODEL_CONFIG = JsonpKey.of("model_config");
+    private static final JsonpKey KEY_MODEL_CONTENT_HASH_VALUE = JsonpKey.of("model_content_hash_value");
+    private static final JsonpKey KEY_MODEL_CONTENT_SIZE_IN_BYTES = JsonpKey.of("model_content_size_in_bytes");
+    private static final JsonpKey KEY_MODEL_FORMAT = JsonpKey.of("model_format");
+    private static final JsonpKey KEY_MODEL_GROUP_ID = JsonpKey.of("model_group_id");
+    private static final JsonpKey KEY_MODEL_STATE = JsonpKey.of("model_state");
+    private static final JsonpKey KEY_MODEL_VERSION = JsonpKey.of("model_version");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_TOTAL_CHUNKS = JsonpKey.of("total_chunks");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.algorithm != null) {
-            generator.writeKey("algorithm");
+            JsonpUtils.writeKey(generator, KEY_ALGORITHM);
             generator.write(this.algorithm);
         }
 
         if (this.createdTime != null) {
-            generator.writeKey("created_time");
+            JsonpUtils.writeKey(generator, KEY_CREATED_TIME);
             generator.write(this.createdTime);
         }
 
         if (this.isHidden != null) {
-            generator.writeKey("is_hidden");
+            JsonpUtils.writeKey(generator, KEY_IS_HIDDEN);
             generator.write(this.isHidden);
         }
 
         if (this.lastRegisteredTime != null) {
-            generator.writeKey("last_registered_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_REGISTERED_TIME);
             generator.write(this.lastRegisteredTime);
         }
 
         if (this.lastUpdatedTime != null) {
-            generator.writeKey("last_updated_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATED_TIME);
             generator.write(this.lastUpdatedTime);
         }
 
         if (this.modelConfig != null) {
-            generator.writeKey("model_config");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONFIG);
             this.modelConfig.serialize(generator, mapper);
         }
 
         if (this.modelContentHashValue != null) {
-            generator.writeKey("model_content_hash_value");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONTENT_HASH_VALUE);
             generator.write(this.modelContentHashValue);
         }
 
         if (this.modelContentSizeInBytes != null) {
-            generator.writeKey("model_content_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONTENT_SIZE_IN_BYTES);
             generator.write(this.modelContentSizeInBytes);
         }
 
         if (this.modelFormat != null) {
-            generator.writeKey("model_format");
+            JsonpUtils.writeKey(generator, KEY_MODEL_FORMAT);
             this.modelFormat.serialize(generator, mapper);
         }
 
         if (this.modelGroupId != null) {
-            generator.writeKey("model_group_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_GROUP_ID);
             generator.write(this.modelGroupId);
         }
 
-        generator.writeKey("model_state");
+        JsonpUtils.writeKey(generator, KEY_MODEL_STATE);
         this.modelState.serialize(generator, mapper);
 
         if (this.modelVersion != null) {
-            generator.writeKey("model_version");
+            JsonpUtils.writeKey(generator, KEY_MODEL_VERSION);
             generator.write(this.modelVersion);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.totalChunks != null) {
-            generator.writeKey("total_chunks");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_CHUNKS);
             generator.write(this.totalChunks);
         }
     }
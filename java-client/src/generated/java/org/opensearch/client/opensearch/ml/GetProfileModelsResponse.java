@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -71,9 +73,11 @@ public class GetProfileModelsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.nodes)) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, Node> item0 : this.nodes.entrySet()) {
                 generator.writeKey(item0.getKey());
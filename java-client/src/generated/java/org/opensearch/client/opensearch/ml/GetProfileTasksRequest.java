@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -146,9 +148,15 @@ public final class GetProfileTasksRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_IDS = JsonpKey.of("model_ids");
+    private static final JsonpKey KEY_NODE_IDS = JsonpKey.of("node_ids");
+    private static final JsonpKey KEY_RETURN_ALL_MODELS = JsonpKey.of("return_all_models");
+    private static final JsonpKey KEY_RETURN_ALL_TASKS = JsonpKey.of("return_all_tasks");
+    private static final JsonpKey KEY_TASK_IDS = JsonpKey.of("task_ids");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.modelIds)) {
-            generator.writeKey("model_ids");
+            JsonpUtils.writeKey(generator, KEY_MODEL_IDS);
             generator.writeStartArray();
             for (String item0 : this.modelIds) {
                 generator.write(item0);
@@ -157,7 +165,7 @@ public final class GetProfileTasksRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.nodeIds)) {
-            generator.writeKey("node_ids");
+            JsonpUtils.writeKey(generator, KEY_NODE_IDS);
             generator.writeStartArray();
             for (String item0 : this.nodeIds) {
                 generator.write(item0);
@@ -166,17 +174,17 @@ public final class GetProfileTasksRequest extends RequestBase
         }
 
         if (this.returnAllModels != null) {
-            generator.writeKey("return_all_models");
+            JsonpUtils.writeKey(generator, KEY_RETURN_ALL_MODELS);
             generator.write(this.returnAllModels);
         }
 
         if (this.returnAllTasks != null) {
-            generator.writeKey("return_all_tasks");
+            JsonpUtils.writeKey(generator, KEY_RETURN_ALL_TASKS);
             generator.write(this.returnAllTasks);
         }
 
         if (ApiTypeHelper.isDefined(this.taskIds)) {
-            generator.writeKey("task_ids");
+            JsonpUtils.writeKey(generator, KEY_TASK_IDS);
             generator.writeStartArray();
             for (String item0 : this.taskIds) {
                 generator.write(item0);
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -173,44 +175,53 @@ public class GetStatsResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ML_CONFIG_INDEX_STATUS = JsonpKey.of("ml_config_index_status");
+    private static final JsonpKey KEY_ML_CONNECTOR_COUNT = JsonpKey.of("ml_connector_count");
+    private static final JsonpKey KEY_ML_CONNECTOR_INDEX_STATUS = JsonpKey.of("ml_connector_index_status");
+    private static final JsonpKey KEY_ML_CONTROLLER_INDEX_STATUS = JsonpKey.of("ml_controller_index_status");
+    private static final JsonpKey KEY_ML_MODEL_COUNT = JsonpKey.of("ml_model_count");
+    private static final JsonpKey KEY_ML_MODEL_INDEX_STATUS = JsonpKey.of("ml_model_index_status");
+    private static final JsonpKey KEY_ML_TASK_INDEX_STATUS = JsonpKey.of("ml_task_index_status");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mlConfigIndexStatus != null) {
-            generator.writeKey("ml_config_index_status");
+            JsonpUtils.writeKey(generator, KEY_ML_CONFIG_INDEX_STATUS);
             this.mlConfigIndexStatus.serialize(generator, mapper);
         }
 
         if (this.mlConnectorCount != null) {
-            generator.writeKey("ml_connector_count");
+            JsonpUtils.writeKey(generator, KEY_ML_CONNECTOR_COUNT);
             generator.write(this.mlConnectorCount);
         }
 
         if (this.mlConnectorIndexStatus != null) {
-            generator.writeKey("ml_connector_index_status");
+            JsonpUtils.writeKey(generator, KEY_ML_CONNECTOR_INDEX_STATUS);
             this.mlConnectorIndexStatus.serialize(generator, mapper);
         }
 
         if (this.mlControllerIndexStatus != null) {
-            generator.writeKey("ml_controller_index_status");
+            JsonpUtils.writeKey(generator, KEY_ML_CONTROLLER_INDEX_STATUS);
             this.mlControllerIndexStatus.serialize(generator, mapper);
         }
 
         if (this.mlModelCount != null) {
-            generator.writeKey("ml_model_count");
+            JsonpUtils.writeKey(generator, KEY_ML_MODEL_COUNT);
             generator.write(this.mlModelCount);
         }
 
         if (this.mlModelIndexStatus != null) {
-            generator.writeKey("ml_model_index_status");
+            JsonpUtils.writeKey(generator, KEY_ML_MODEL_INDEX_STATUS);
             this.mlModelIndexStatus.serialize(generator, mapper);
         }
 
         if (this.mlTaskIndexStatus != null) {
-            generator.writeKey("ml_task_index_status");
+            JsonpUtils.writeKey(generator, KEY_ML_TASK_INDEX_STATUS);
             this.mlTaskIndexStatus.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.nodes)) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, NodeStatsDetails> item0 : this.nodes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -190,29 +192,40 @@ public class Guardrails implements PlainJsonSerializable, ToCopyableBuilder<Guar
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEX_NAME = JsonpKey.of("index_name");
+    private static final JsonpKey KEY_INPUT_GUARDRAIL = JsonpKey.of("input_guardrail");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_OUTPUT_GUARDRAIL = JsonpKey.of("output_guardrail");
+    private static final JsonpKey KEY_REGEX = JsonpKey.of("regex");
+    private static final JsonpKey KEY_RESPONSE_FILTER = JsonpKey.of("response_filter");
+    private static final JsonpKey KEY_RESPONSE_VALIDATION_REGEX = JsonpKey.of("response_validation_regex");
+    private static final JsonpKey KEY_SOURCE_FIELDS = JsonpKey.of("source_fields");
+    private static final JsonpKey KEY_STOP_WORDS = JsonpKey.of("stop_words");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.indexName != null) {
-            generator.writeKey("index_name");
+            JsonpUtils.writeKey(generator, KEY_INDEX_NAME);
             generator.write(this.indexName);
         }
 
         if (this.inputGuardrail != null) {
-            generator.writeKey("input_guardrail");
+            JsonpUtils.writeKey(generator, KEY_INPUT_GUARDRAIL);
             this.inputGuardrail.serialize(generator, mapper);
         }
 
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.outputGuardrail != null) {
-            generator.writeKey("output_guardrail");
+            JsonpUtils.writeKey(generator, KEY_OUTPUT_GUARDRAIL);
             this.outputGuardrail.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.regex)) {
-            generator.writeKey("regex");
+            JsonpUtils.writeKey(generator, KEY_REGEX);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.regex.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -222,17 +235,17 @@ public class Guardrails implements PlainJsonSerializable, ToCopyableBuilder<Guar
         }
 
         if (this.responseFilter != null) {
-            generator.writeKey("response_filter");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_FILTER);
             generator.write(this.responseFilter);
         }
 
         if (this.responseValidationRegex != null) {
-            generator.writeKey("response_validation_regex");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_VALIDATION_REGEX);
             generator.write(this.responseValidationRegex);
         }
 
         if (ApiTypeHelper.isDefined(this.sourceFields)) {
-            generator.writeKey("source_fields");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.sourceFields) {
                 generator.write(item0);
@@ -241,7 +254,7 @@ public class Guardrails implements PlainJsonSerializable, ToCopyableBuilder<Guar
         }
 
         if (ApiTypeHelper.isDefined(this.stopWords)) {
-            generator.writeKey("stop_words");
+            JsonpUtils.writeKey(generator, KEY_STOP_WORDS);
             generator.writeStartArray();
             for (String item0 : this.stopWords) {
                 generator.write(item0);
@@ -250,7 +263,7 @@ public class Guardrails implements PlainJsonSerializable, ToCopyableBuilder<Guar
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -87,14 +89,17 @@ public class GuardrailsInputOutput
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_RESPONSE_VALIDATION_REGEX = JsonpKey.of("response_validation_regex");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.responseValidationRegex != null) {
-            generator.writeKey("response_validation_regex");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_VALIDATION_REGEX);
             generator.write(this.responseValidationRegex);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -79,13 +81,15 @@ public class Headers implements PlainJsonSerializable, ToCopyableBuilder<Headers
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTENT_TYPE = JsonpKey.of("content_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.contentType != null) {
-            generator.writeKey("content_type");
+            JsonpUtils.writeKey(generator, KEY_CONTENT_TYPE);
             generator.write(this.contentType);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,18 +99,21 @@ public class Index implements PlainJsonSerializable, ToCopyableBuilder<Index.Bui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUMBER_OF_REPLICAS = JsonpKey.of("number_of_replicas");
+    private static final JsonpKey KEY_NUMBER_OF_SHARDS = JsonpKey.of("number_of_shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.numberOfReplicas != null) {
-            generator.writeKey("number_of_replicas");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_REPLICAS);
             generator.write(this.numberOfReplicas);
         }
 
         if (this.numberOfShards != null) {
-            generator.writeKey("number_of_shards");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_SHARDS);
             generator.write(this.numberOfShards);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -115,28 +117,33 @@ public class IndexSettings implements PlainJsonSerializable, ToCopyableBuilder<I
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LONG_TERM_MEMORY_HISTORY_INDEX = JsonpKey.of("long_term_memory_history_index");
+    private static final JsonpKey KEY_LONG_TERM_MEMORY_INDEX = JsonpKey.of("long_term_memory_index");
+    private static final JsonpKey KEY_SESSION_INDEX = JsonpKey.of("session_index");
+    private static final JsonpKey KEY_SHORT_TERM_MEMORY_INDEX = JsonpKey.of("short_term_memory_index");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.longTermMemoryHistoryIndex != null) {
-            generator.writeKey("long_term_memory_history_index");
+            JsonpUtils.writeKey(generator, KEY_LONG_TERM_MEMORY_HISTORY_INDEX);
             this.longTermMemoryHistoryIndex.serialize(generator, mapper);
         }
 
         if (this.longTermMemoryIndex != null) {
-            generator.writeKey("long_term_memory_index");
+            JsonpUtils.writeKey(generator, KEY_LONG_TERM_MEMORY_INDEX);
             this.longTermMemoryIndex.serialize(generator, mapper);
         }
 
         if (this.sessionIndex != null) {
-            generator.writeKey("session_index");
+            JsonpUtils.writeKey(generator, KEY_SESSION_INDEX);
             this.sessionIndex.serialize(generator, mapper);
         }
 
         if (this.shortTermMemoryIndex != null) {
-            generator.writeKey("short_term_memory_index");
+            JsonpUtils.writeKey(generator, KEY_SHORT_TERM_MEMORY_INDEX);
             this.shortTermMemoryIndex.serialize(generator, mapper);
         }
     }
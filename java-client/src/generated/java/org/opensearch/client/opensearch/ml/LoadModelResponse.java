@@ -18,7 +18,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -89,14 +91,18 @@ public class LoadModelResponse implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_TASK_ID = JsonpKey.of("task_id");
+    private static final JsonpKey KEY_TASK_TYPE = JsonpKey.of("task_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("status");
+        JsonpUtils.writeKey(generator, KEY_STATUS);
         generator.write(this.status);
 
-        generator.writeKey("task_id");
+        JsonpUtils.writeKey(generator, KEY_TASK_ID);
         generator.write(this.taskId);
 
-        generator.writeKey("task_type");
+        JsonpUtils.writeKey(generator, KEY_TASK_TYPE);
         this.taskType.serialize(generator, mapper);
     }
 
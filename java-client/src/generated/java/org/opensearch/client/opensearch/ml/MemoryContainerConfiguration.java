@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -232,59 +234,72 @@ public class MemoryContainerConfiguration
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISABLE_HISTORY = JsonpKey.of("disable_history");
+    private static final JsonpKey KEY_DISABLE_SESSION = JsonpKey.of("disable_session");
+    private static final JsonpKey KEY_EMBEDDING_DIMENSION = JsonpKey.of("embedding_dimension");
+    private static final JsonpKey KEY_EMBEDDING_MODEL_ID = JsonpKey.of("embedding_model_id");
+    private static final JsonpKey KEY_EMBEDDING_MODEL_TYPE = JsonpKey.of("embedding_model_type");
+    private static final JsonpKey KEY_INDEX_PREFIX = JsonpKey.of("index_prefix");
+    private static final JsonpKey KEY_INDEX_SETTINGS = JsonpKey.of("index_settings");
+    private static final JsonpKey KEY_LLM_ID = JsonpKey.of("llm_id");
+    private static final JsonpKey KEY_MAX_INFER_SIZE = JsonpKey.of("max_infer_size");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_STRATEGIES = JsonpKey.of("strategies");
+    private static final JsonpKey KEY_USE_SYSTEM_INDEX = JsonpKey.of("use_system_index");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.disableHistory != null) {
-            generator.writeKey("disable_history");
+            JsonpUtils.writeKey(generator, KEY_DISABLE_HISTORY);
             generator.write(this.disableHistory);
         }
 
         if (this.disableSession != null) {
-            generator.writeKey("disable_session");
+            JsonpUtils.writeKey(generator, KEY_DISABLE_SESSION);
             generator.write(this.disableSession);
         }
 
         if (this.embeddingDimension != null) {
-            generator.writeKey("embedding_dimension");
+            JsonpUtils.writeKey(generator, KEY_EMBEDDING_DIMENSION);
             generator.write(this.embeddingDimension);
         }
 
         if (this.embeddingModelId != null) {
-            generator.writeKey("embedding_model_id");
+            JsonpUtils.writeKey(generator, KEY_EMBEDDING_MODEL_ID);
             generator.write(this.embeddingModelId);
         }
 
         if (this.embeddingModelType != null) {
-            generator.writeKey("embedding_model_type");
+            JsonpUtils.writeKey(generator, KEY_EMBEDDING_MODEL_TYPE);
             generator.write(this.embeddingModelType);
         }
 
         if (this.indexPrefix != null) {
-            generator.writeKey("index_prefix");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PREFIX);
             generator.write(this.indexPrefix);
         }
 
         if (this.indexSettings != null) {
-            generator.writeKey("index_settings");
+            JsonpUtils.writeKey(generator, KEY_INDEX_SETTINGS);
             this.indexSettings.serialize(generator, mapper);
         }
 
         if (this.llmId != null) {
-            generator.writeKey("llm_id");
+            JsonpUtils.writeKey(generator, KEY_LLM_ID);
             generator.write(this.llmId);
         }
 
         if (this.maxInferSize != null) {
-            generator.writeKey("max_infer_size");
+            JsonpUtils.writeKey(generator, KEY_MAX_INFER_SIZE);
             generator.write(this.maxInferSize);
         }
 
         if (this.parameters != null) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             this.parameters.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.strategies)) {
-            generator.writeKey("strategies");
+            JsonpUtils.writeKey(generator, KEY_STRATEGIES);
             generator.writeStartArray();
             for (Strategy item0 : this.strategies) {
                 item0.serialize(generator, mapper);
@@ -293,7 +308,7 @@ public class MemoryContainerConfiguration
         }
 
         if (this.useSystemIndex != null) {
-            generator.writeKey("use_system_index");
+            JsonpUtils.writeKey(generator, KEY_USE_SYSTEM_INDEX);
             generator.write(this.useSystemIndex);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -84,14 +86,17 @@ public class Messages implements PlainJsonSerializable, ToCopyableBuilder<Messag
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTENT = JsonpKey.of("content");
+    private static final JsonpKey KEY_ROLE = JsonpKey.of("role");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.content != null) {
-            generator.writeKey("content");
+            JsonpUtils.writeKey(generator, KEY_CONTENT);
             generator.write(this.content);
         }
 
         if (this.role != null) {
-            generator.writeKey("role");
+            JsonpUtils.writeKey(generator, KEY_ROLE);
             generator.write(this.role);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,29 +128,35 @@ public class ModelConfig implements PlainJsonSerializable, ToCopyableBuilder<Mod
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDITIONAL_CONFIG = JsonpKey.of("additional_config");
+    private static final JsonpKey KEY_ALL_CONFIG = JsonpKey.of("all_config");
+    private static final JsonpKey KEY_EMBEDDING_DIMENSION = JsonpKey.of("embedding_dimension");
+    private static final JsonpKey KEY_FRAMEWORK_TYPE = JsonpKey.of("framework_type");
+    private static final JsonpKey KEY_MODEL_TYPE = JsonpKey.of("model_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.additionalConfig != null) {
-            generator.writeKey("additional_config");
+            JsonpUtils.writeKey(generator, KEY_ADDITIONAL_CONFIG);
             this.additionalConfig.serialize(generator, mapper);
         }
 
         if (this.allConfig != null) {
-            generator.writeKey("all_config");
+            JsonpUtils.writeKey(generator, KEY_ALL_CONFIG);
             generator.write(this.allConfig);
         }
 
         if (this.embeddingDimension != null) {
-            generator.writeKey("embedding_dimension");
+            JsonpUtils.writeKey(generator, KEY_EMBEDDING_DIMENSION);
             generator.write(this.embeddingDimension);
         }
 
         if (this.frameworkType != null) {
-            generator.writeKey("framework_type");
+            JsonpUtils.writeKey(generator, KEY_FRAMEWORK_TYPE);
             generator.write(this.frameworkType);
         }
 
         if (this.modelType != null) {
-            generator.writeKey("model_type");
+            JsonpUtils.writeKey(generator, KEY_MODEL_TYPE);
             generator.write(this.modelType);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -233,54 +235,69 @@ public class ModelProfile implements PlainJsonSerializable, ToCopyableBuilder<Mo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEPLOY = JsonpKey.of("deploy");
+    private static final JsonpKey KEY_EXECUTE = JsonpKey.of("execute");
+    private static final JsonpKey KEY_MEMORY_SIZE_ESTIMATION_CPU = JsonpKey.of("memory_size_estimation_cpu");
+    private static final JsonpKey KEY_MEMORY_SIZE_ESTIMATION_GPU = JsonpKey.of("memory_size_estimation_gpu");
+    private static final JsonpKey KEY_MODEL_STATE = JsonpKey.of("model_state");
+    private static final JsonpKey KEY_PREDICT = JsonpKey.of("predict");
+    private static final JsonpKey KEY_PREDICT_REQUEST_STATS = JsonpKey.of("predict_request_stats");
+    private static final JsonpKey KEY_PREDICTOR = JsonpKey.of("predictor");
+    private static final JsonpKey KEY_REGISTER = JsonpKey.of("register");
+    private static final JsonpKey KEY_TARGET_WORKER_NODES = JsonpKey.of("target_worker_nodes");
+    private static final JsonpKey KEY_TRAIN = JsonpKey.of("train");
+    private static final JsonpKey KEY_TRAIN_PREDICT = JsonpKey.of("train_predict");
+    private static final JsonpKey KEY_UNDEPLOY = JsonpKey.of("undeploy");
+    private static final JsonpKey KEY_WORKER_NODES = JsonpKey.of("worker_nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.deploy != null) {
-            generator.writeKey("deploy");
+            JsonpUtils.writeKey(generator, KEY_DEPLOY);
             this.deploy.serialize(generator, mapper);
         }
 
         if (this.execute != null) {
-            generator.writeKey("execute");
+            JsonpUtils.writeKey(generator, KEY_EXECUTE);
             this.execute.serialize(generator, mapper);
         }
 
         if (this.memorySizeEstimationCpu != null) {
-            generator.writeKey("memory_size_estimation_cpu");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE_ESTIMATION_CPU);
             generator.write(this.memorySizeEstimationCpu);
         }
 
         if (this.memorySizeEstimationGpu != null) {
-            generator.writeKey("memory_size_estimation_gpu");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_SIZE_ESTIMATION_GPU);
             generator.write(this.memorySizeEstimationGpu);
         }
 
         if (this.modelState != null) {
-            generator.writeKey("model_state");
+            JsonpUtils.writeKey(generator, KEY_MODEL_STATE);
             this.modelState.serialize(generator, mapper);
         }
 
         if (this.predict != null) {
-            generator.writeKey("predict");
+            JsonpUtils.writeKey(generator, KEY_PREDICT);
             this.predict.serialize(generator, mapper);
         }
 
         if (this.predictRequestStats != null) {
-            generator.writeKey("predict_request_stats");
+            JsonpUtils.writeKey(generator, KEY_PREDICT_REQUEST_STATS);
             this.predictRequestStats.serialize(generator, mapper);
         }
 
         if (this.predictor != null) {
-            generator.writeKey("predictor");
+            JsonpUtils.writeKey(generator, KEY_PREDICTOR);
             generator.write(this.predictor);
         }
 
         if (this.register != null) {
-            generator.writeKey("register");
+            JsonpUtils.writeKey(generator, KEY_REGISTER);
             this.register.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.targetWorkerNodes)) {
-            generator.writeKey("target_worker_nodes");
+            JsonpUtils.writeKey(generator, KEY_TARGET_WORKER_NODES);
             generator.writeStartArray();
             for (List<String> item0 : this.targetWorkerNodes) {
                 generator.writeStartArray();
@@ -293,22 +310,22 @@ public class ModelProfile implements PlainJsonSerializable, ToCopyableBuilder<Mo
         }
 
         if (this.train != null) {
-            generator.writeKey("train");
+            JsonpUtils.writeKey(generator, KEY_TRAIN);
             this.train.serialize(generator, mapper);
         }
 
         if (this.trainPredict != null) {
-            generator.writeKey("train_predict");
+            JsonpUtils.writeKey(generator, KEY_TRAIN_PREDICT);
             this.trainPredict.serialize(generator, mapper);
         }
 
         if (this.undeploy != null) {
-            generator.writeKey("undeploy");
+            JsonpUtils.writeKey(generator, KEY_UNDEPLOY);
             this.undeploy.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.workerNodes)) {
-            generator.writeKey("worker_nodes");
+            JsonpUtils.writeKey(generator, KEY_WORKER_NODES);
             generator.writeStartArray();
             for (List<String> item0 : this.workerNodes) {
                 generator.writeStartArray();
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -99,19 +101,23 @@ public class ModelStats implements PlainJsonSerializable, ToCopyableBuilder<Mode
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ML_ACTION_FAILURE_COUNT = JsonpKey.of("ml_action_failure_count");
+    private static final JsonpKey KEY_ML_ACTION_REQUEST_COUNT = JsonpKey.of("ml_action_request_count");
+    private static final JsonpKey KEY_ML_EXECUTING_TASK_COUNT = JsonpKey.of("ml_executing_task_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mlActionFailureCount != null) {
-            generator.writeKey("ml_action_failure_count");
+            JsonpUtils.writeKey(generator, KEY_ML_ACTION_FAILURE_COUNT);
             generator.write(this.mlActionFailureCount);
         }
 
         if (this.mlActionRequestCount != null) {
-            generator.writeKey("ml_action_request_count");
+            JsonpUtils.writeKey(generator, KEY_ML_ACTION_REQUEST_COUNT);
             generator.write(this.mlActionRequestCount);
         }
 
         if (this.mlExecutingTaskCount != null) {
-            generator.writeKey("ml_executing_task_count");
+            JsonpUtils.writeKey(generator, KEY_ML_EXECUTING_TASK_COUNT);
             generator.write(this.mlExecutingTaskCount);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -80,9 +82,12 @@ public class Node implements PlainJsonSerializable, ToCopyableBuilder<Node.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODELS = JsonpKey.of("models");
+    private static final JsonpKey KEY_TASKS = JsonpKey.of("tasks");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.models)) {
-            generator.writeKey("models");
+            JsonpUtils.writeKey(generator, KEY_MODELS);
             generator.writeStartObject();
             for (Map.Entry<String, ModelProfile> item0 : this.models.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -92,7 +97,7 @@ public class Node implements PlainJsonSerializable, ToCopyableBuilder<Node.Build
         }
 
         if (ApiTypeHelper.isDefined(this.tasks)) {
-            generator.writeKey("tasks");
+            JsonpUtils.writeKey(generator, KEY_TASKS);
             generator.writeStartObject();
             for (Map.Entry<String, Task> item0 : this.tasks.entrySet()) {
                 generator.writeKey(item0.getKey());
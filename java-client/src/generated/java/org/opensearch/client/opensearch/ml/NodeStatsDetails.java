@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -170,9 +172,18 @@ public class NodeStatsDetails implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALGORITHMS = JsonpKey.of("algorithms");
+    private static final JsonpKey KEY_ML_CIRCUIT_BREAKER_TRIGGER_COUNT = JsonpKey.of("ml_circuit_breaker_trigger_count");
+    private static final JsonpKey KEY_ML_DEPLOYED_MODEL_COUNT = JsonpKey.of("ml_deployed_model_count");
+    private static final JsonpKey KEY_ML_EXECUTING_TASK_COUNT = JsonpKey.of("ml_executing_task_count");
+    private static final JsonpKey KEY_ML_FAILURE_COUNT = JsonpKey.of("ml_failure_count");
+    private static final JsonpKey KEY_ML_JVM_HEAP_USAGE = JsonpKey.of("ml_jvm_heap_usage");
+    private static final JsonpKey KEY_ML_REQUEST_COUNT = JsonpKey.of("ml_request_count");
+    private static final JsonpKey KEY_MODELS = JsonpKey.of("models");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.algorithms)) {
-            generator.writeKey("algorithms");
+            JsonpUtils.writeKey(generator, KEY_ALGORITHMS);
             generator.writeStartObject();
             for (Map.Entry<String, AlgorithmOperations> item0 : this.algorithms.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -182,37 +193,37 @@ public class NodeStatsDetails implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.mlCircuitBreakerTriggerCount != null) {
-            generator.writeKey("ml_circuit_breaker_trigger_count");
+            JsonpUtils.writeKey(generator, KEY_ML_CIRCUIT_BREAKER_TRIGGER_COUNT);
             generator.write(this.mlCircuitBreakerTriggerCount);
         }
 
         if (this.mlDeployedModelCount != null) {
-            generator.writeKey("ml_deployed_model_count");
+            JsonpUtils.writeKey(generator, KEY_ML_DEPLOYED_MODEL_COUNT);
             generator.write(this.mlDeployedModelCount);
         }
 
         if (this.mlExecutingTaskCount != null) {
-            generator.writeKey("ml_executing_task_count");
+            JsonpUtils.writeKey(generator, KEY_ML_EXECUTING_TASK_COUNT);
             generator.write(this.mlExecutingTaskCount);
         }
 
         if (this.mlFailureCount != null) {
-            generator.writeKey("ml_failure_count");
+            JsonpUtils.writeKey(generator, KEY_ML_FAILURE_COUNT);
             generator.write(this.mlFailureCount);
         }
 
         if (this.mlJvmHeapUsage != null) {
-            generator.writeKey("ml_jvm_heap_usage");
+            JsonpUtils.writeKey(generator, KEY_ML_JVM_HEAP_USAGE);
             generator.write(this.mlJvmHeapUsage);
         }
 
         if (this.mlRequestCount != null) {
-            generator.writeKey("ml_request_count");
+            JsonpUtils.writeKey(generator, KEY_ML_REQUEST_COUNT);
             generator.write(this.mlRequestCount);
         }
 
         if (ApiTypeHelper.isDefined(this.models)) {
-            generator.writeKey("models");
+            JsonpUtils.writeKey(generator, KEY_MODELS);
             generator.writeStartObject();
             for (Map.Entry<String, ModelProfile> item0 : this.models.entrySet()) {
                 generator.writeKey(item0.getKey());
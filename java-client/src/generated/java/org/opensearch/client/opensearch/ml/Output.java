@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -146,14 +148,22 @@ public class Output implements PlainJsonSerializable, ToCopyableBuilder<Output.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BYTE_BUFFER = JsonpKey.of("byte_buffer");
+    private static final JsonpKey KEY_DATA = JsonpKey.of("data");
+    private static final JsonpKey KEY_DATA_AS_MAP = JsonpKey.of("dataAsMap");
+    private static final JsonpKey KEY_DATA_TYPE = JsonpKey.of("data_type");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_RESULT = JsonpKey.of("result");
+    private static final JsonpKey KEY_SHAPE = JsonpKey.of("shape");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.byteBuffer != null) {
-            generator.writeKey("byte_buffer");
+            JsonpUtils.writeKey(generator, KEY_BYTE_BUFFER);
             this.byteBuffer.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.data)) {
-            generator.writeKey("data");
+            JsonpUtils.writeKey(generator, KEY_DATA);
             generator.writeStartArray();
             for (Double item0 : this.data) {
                 generator.write(item0);
@@ -162,27 +172,27 @@ public class Output implements PlainJsonSerializable, ToCopyableBuilder<Output.B
         }
 
         if (this.dataAsMap != null) {
-            generator.writeKey("dataAsMap");
+            JsonpUtils.writeKey(generator, KEY_DATA_AS_MAP);
             this.dataAsMap.serialize(generator, mapper);
         }
 
         if (this.dataType != null) {
-            generator.writeKey("data_type");
+            JsonpUtils.writeKey(generator, KEY_DATA_TYPE);
             this.dataType.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.result != null) {
-            generator.writeKey("result");
+            JsonpUtils.writeKey(generator, KEY_RESULT);
             generator.write(this.result);
         }
 
         if (ApiTypeHelper.isDefined(this.shape)) {
-            generator.writeKey("shape");
+            JsonpUtils.writeKey(generator, KEY_SHAPE);
             generator.writeStartArray();
             for (Long item0 : this.shape) {
                 generator.write(item0);
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,9 +145,16 @@ public class Owner implements PlainJsonSerializable, ToCopyableBuilder<Owner.Bui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_CUSTOM_ATTRIBUTE_NAMES = JsonpKey.of("custom_attribute_names");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_USER_REQUESTED_TENANT = JsonpKey.of("user_requested_tenant");
+    private static final JsonpKey KEY_USER_REQUESTED_TENANT_ACCESS = JsonpKey.of("user_requested_tenant_access");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -154,7 +163,7 @@ public class Owner implements PlainJsonSerializable, ToCopyableBuilder<Owner.Bui
         }
 
         if (ApiTypeHelper.isDefined(this.customAttributeNames)) {
-            generator.writeKey("custom_attribute_names");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM_ATTRIBUTE_NAMES);
             generator.writeStartArray();
             for (String item0 : this.customAttributeNames) {
                 generator.write(item0);
@@ -162,11 +171,11 @@ public class Owner implements PlainJsonSerializable, ToCopyableBuilder<Owner.Bui
             generator.writeEnd();
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (String item0 : this.roles) {
                 generator.write(item0);
@@ -175,12 +184,12 @@ public class Owner implements PlainJsonSerializable, ToCopyableBuilder<Owner.Bui
         }
 
         if (this.userRequestedTenant != null) {
-            generator.writeKey("user_requested_tenant");
+            JsonpUtils.writeKey(generator, KEY_USER_REQUESTED_TENANT);
             generator.write(this.userRequestedTenant);
         }
 
         if (this.userRequestedTenantAccess != null) {
-            generator.writeKey("user_requested_tenant_access");
+            JsonpUtils.writeKey(generator, KEY_USER_REQUESTED_TENANT_ACCESS);
             generator.write(this.userRequestedTenantAccess);
         }
     }
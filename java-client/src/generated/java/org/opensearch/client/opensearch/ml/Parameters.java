@@ -24,7 +24,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,23 +118,28 @@ public class Parameters implements PlainJsonSerializable, ToCopyableBuilder<Para
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INPUTS = JsonpKey.of("inputs");
+    private static final JsonpKey KEY_LLM_INTERFACE = JsonpKey.of("_llm_interface");
+    private static final JsonpKey KEY_MESSAGES = JsonpKey.of("messages");
+    private static final JsonpKey KEY_QUESTION = JsonpKey.of("question");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.inputs != null) {
-            generator.writeKey("inputs");
+            JsonpUtils.writeKey(generator, KEY_INPUTS);
             generator.write(this.inputs);
         }
 
         if (this.llmInterface != null) {
-            generator.writeKey("_llm_interface");
+            JsonpUtils.writeKey(generator, KEY_LLM_INTERFACE);
             generator.write(this.llmInterface);
         }
 
         if (ApiTypeHelper.isDefined(this.messages)) {
-            generator.writeKey("messages");
+            JsonpUtils.writeKey(generator, KEY_MESSAGES);
             generator.writeStartArray();
             for (Messages item0 : this.messages) {
                 item0.serialize(generator, mapper);
@@ -141,7 +148,7 @@ public class Parameters implements PlainJsonSerializable, ToCopyableBuilder<Para
         }
 
         if (this.question != null) {
-            generator.writeKey("question");
+            JsonpUtils.writeKey(generator, KEY_QUESTION);
             generator.write(this.question);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -159,39 +161,47 @@ public class PredictRequestStats implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVERAGE = JsonpKey.of("average");
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MIN = JsonpKey.of("min");
+    private static final JsonpKey KEY_P50 = JsonpKey.of("p50");
+    private static final JsonpKey KEY_P90 = JsonpKey.of("p90");
+    private static final JsonpKey KEY_P99 = JsonpKey.of("p99");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.average != null) {
-            generator.writeKey("average");
+            JsonpUtils.writeKey(generator, KEY_AVERAGE);
             generator.write(this.average);
         }
 
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.min != null) {
-            generator.writeKey("min");
+            JsonpUtils.writeKey(generator, KEY_MIN);
             generator.write(this.min);
         }
 
         if (this.p50 != null) {
-            generator.writeKey("p50");
+            JsonpUtils.writeKey(generator, KEY_P50);
             generator.write(this.p50);
         }
 
         if (this.p90 != null) {
-            generator.writeKey("p90");
+            JsonpUtils.writeKey(generator, KEY_P90);
             generator.write(this.p90);
         }
 
         if (this.p99 != null) {
-            generator.writeKey("p99");
+            JsonpUtils.writeKey(generator, KEY_P99);
             generator.write(this.p99);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -80,9 +82,12 @@ public class PredictionResult implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLUMN_METAS = JsonpKey.of("column_metas");
+    private static final JsonpKey KEY_ROWS = JsonpKey.of("rows");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.columnMetas)) {
-            generator.writeKey("column_metas");
+            JsonpUtils.writeKey(generator, KEY_COLUMN_METAS);
             generator.writeStartArray();
             for (ColumnMeta item0 : this.columnMetas) {
                 item0.serialize(generator, mapper);
@@ -91,7 +96,7 @@ public class PredictionResult implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.rows)) {
-            generator.writeKey("rows");
+            JsonpUtils.writeKey(generator, KEY_ROWS);
             generator.writeStartArray();
             for (Rows item0 : this.rows) {
                 item0.serialize(generator, mapper);
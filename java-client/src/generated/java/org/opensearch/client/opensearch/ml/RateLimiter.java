@@ -18,7 +18,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -81,11 +83,14 @@ public class RateLimiter implements PlainJsonSerializable, ToCopyableBuilder<Rat
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LIMIT = JsonpKey.of("limit");
+    private static final JsonpKey KEY_UNIT = JsonpKey.of("unit");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("limit");
+        JsonpUtils.writeKey(generator, KEY_LIMIT);
         generator.write(this.limit);
 
-        generator.writeKey("unit");
+        JsonpUtils.writeKey(generator, KEY_UNIT);
         this.unit.serialize(generator, mapper);
     }
 
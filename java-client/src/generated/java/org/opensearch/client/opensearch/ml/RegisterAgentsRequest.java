@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -164,37 +166,46 @@ public final class RegisterAgentsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_APP_TYPE = JsonpKey.of("app_type");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_LLM = JsonpKey.of("llm");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_TOOLS = JsonpKey.of("tools");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.appType != null) {
-            generator.writeKey("app_type");
+            JsonpUtils.writeKey(generator, KEY_APP_TYPE);
             generator.write(this.appType);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.llm != null) {
-            generator.writeKey("llm");
+            JsonpUtils.writeKey(generator, KEY_LLM);
             this.llm.serialize(generator, mapper);
         }
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             this.memory.serialize(generator, mapper);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.parameters != null) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             this.parameters.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.tools)) {
-            generator.writeKey("tools");
+            JsonpUtils.writeKey(generator, KEY_TOOLS);
             generator.writeStartArray();
             for (ToolItems item0 : this.tools) {
                 item0.serialize(generator, mapper);
@@ -202,7 +213,7 @@ public final class RegisterAgentsRequest extends RequestBase
             generator.writeEnd();
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
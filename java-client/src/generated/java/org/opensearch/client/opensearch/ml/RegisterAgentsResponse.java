@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -69,9 +71,11 @@ public class RegisterAgentsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGENT_ID = JsonpKey.of("agent_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.agentId != null) {
-            generator.writeKey("agent_id");
+            JsonpUtils.writeKey(generator, KEY_AGENT_ID);
             generator.write(this.agentId);
         }
     }
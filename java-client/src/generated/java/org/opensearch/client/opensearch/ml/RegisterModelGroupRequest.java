@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,19 +145,25 @@ public final class RegisterModelGroupRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCESS_MODE = JsonpKey.of("access_mode");
+    private static final JsonpKey KEY_ADD_ALL_BACKEND_ROLES = JsonpKey.of("add_all_backend_roles");
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.accessMode != null) {
-            generator.writeKey("access_mode");
+            JsonpUtils.writeKey(generator, KEY_ACCESS_MODE);
             this.accessMode.serialize(generator, mapper);
         }
 
         if (this.addAllBackendRoles != null) {
-            generator.writeKey("add_all_backend_roles");
+            JsonpUtils.writeKey(generator, KEY_ADD_ALL_BACKEND_ROLES);
             generator.write(this.addAllBackendRoles);
         }
 
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -164,11 +172,11 @@ public final class RegisterModelGroupRequest extends RequestBase
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
     }
 
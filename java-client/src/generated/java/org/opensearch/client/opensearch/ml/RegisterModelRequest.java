@@ -22,7 +22,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -205,52 +207,63 @@ public final class RegisterModelRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECTOR_ID = JsonpKey.of("connector_id");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_FUNCTION_NAME = JsonpKey.of("function_name");
+    private static final JsonpKey KEY_MODEL_CONFIG = JsonpKey.of("model_config");
+    private static final JsonpKey KEY_MODEL_CONTENT_HASH_VALUE = JsonpKey.of("model_content_hash_value");
+    private static final JsonpKey KEY_MODEL_FORMAT = JsonpKey.of("model_format");
+    private static final JsonpKey KEY_MODEL_GROUP_ID = JsonpKey.of("model_group_id");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_URL = JsonpKey.of("url");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.connectorId != null) {
-            generator.writeKey("connector_id");
+            JsonpUtils.writeKey(generator, KEY_CONNECTOR_ID);
             generator.write(this.connectorId);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.functionName != null) {
-            generator.writeKey("function_name");
+            JsonpUtils.writeKey(generator, KEY_FUNCTION_NAME);
             generator.write(this.functionName);
         }
 
         if (this.modelConfig != null) {
-            generator.writeKey("model_config");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONFIG);
             this.modelConfig.serialize(generator, mapper);
         }
 
         if (this.modelContentHashValue != null) {
-            generator.writeKey("model_content_hash_value");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONTENT_HASH_VALUE);
             generator.write(this.modelContentHashValue);
         }
 
         if (this.modelFormat != null) {
-            generator.writeKey("model_format");
+            JsonpUtils.writeKey(generator, KEY_MODEL_FORMAT);
             this.modelFormat.serialize(generator, mapper);
         }
 
         if (this.modelGroupId != null) {
-            generator.writeKey("model_group_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_GROUP_ID);
             generator.write(this.modelGroupId);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.url != null) {
-            generator.writeKey("url");
+            JsonpUtils.writeKey(generator, KEY_URL);
             generator.write(this.url);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -68,9 +70,11 @@ public class Rows implements PlainJsonSerializable, ToCopyableBuilder<Rows.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_VALUES = JsonpKey.of("values");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.values)) {
-            generator.writeKey("values");
+            JsonpUtils.writeKey(generator, KEY_VALUES);
             generator.writeStartArray();
             for (Values item0 : this.values) {
                 item0.serialize(generator, mapper);
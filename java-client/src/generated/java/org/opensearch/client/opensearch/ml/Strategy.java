@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,24 +127,30 @@ public class Strategy implements PlainJsonSerializable, ToCopyableBuilder<Strate
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFIGURATION = JsonpKey.of("configuration");
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_NAMESPACE = JsonpKey.of("namespace");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.configuration != null) {
-            generator.writeKey("configuration");
+            JsonpUtils.writeKey(generator, KEY_CONFIGURATION);
             this.configuration.serialize(generator, mapper);
         }
 
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.id != null) {
-            generator.writeKey("id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
         }
 
         if (ApiTypeHelper.isDefined(this.namespace)) {
-            generator.writeKey("namespace");
+            JsonpUtils.writeKey(generator, KEY_NAMESPACE);
             generator.writeStartArray();
             for (String item0 : this.namespace) {
                 generator.write(item0);
@@ -151,7 +159,7 @@ public class Strategy implements PlainJsonSerializable, ToCopyableBuilder<Strate
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             this.type.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,19 +104,23 @@ public class StrategyConfiguration
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LLM_ID = JsonpKey.of("llm_id");
+    private static final JsonpKey KEY_LLM_RESULT_PATH = JsonpKey.of("llm_result_path");
+    private static final JsonpKey KEY_SYSTEM_PROMPT = JsonpKey.of("system_prompt");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.llmId != null) {
-            generator.writeKey("llm_id");
+            JsonpUtils.writeKey(generator, KEY_LLM_ID);
             generator.write(this.llmId);
         }
 
         if (this.llmResultPath != null) {
-            generator.writeKey("llm_result_path");
+            JsonpUtils.writeKey(generator, KEY_LLM_RESULT_PATH);
             generator.write(this.llmResultPath);
         }
 
         if (this.systemPrompt != null) {
-            generator.writeKey("system_prompt");
+            JsonpUtils.writeKey(generator, KEY_SYSTEM_PROMPT);
             generator.write(this.systemPrompt);
         }
     }
@@ -21,7 +21,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -176,52 +178,63 @@ public class Task implements PlainJsonSerializable, ToCopyableBuilder<Task.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CREATE_TIME = JsonpKey.of("create_time");
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_FUNCTION_NAME = JsonpKey.of("function_name");
+    private static final JsonpKey KEY_IS_ASYNC = JsonpKey.of("is_async");
+    private static final JsonpKey KEY_LAST_UPDATE_TIME = JsonpKey.of("last_update_time");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_TASK_ID = JsonpKey.of("task_id");
+    private static final JsonpKey KEY_TASK_TYPE = JsonpKey.of("task_type");
+    private static final JsonpKey KEY_WORKER_NODE = JsonpKey.of("worker_node");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.createTime != null) {
-            generator.writeKey("create_time");
+            JsonpUtils.writeKey(generator, KEY_CREATE_TIME);
             generator.write(this.createTime);
         }
 
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             generator.write(this.error);
         }
 
         if (this.functionName != null) {
-            generator.writeKey("function_name");
+            JsonpUtils.writeKey(generator, KEY_FUNCTION_NAME);
             this.functionName.serialize(generator, mapper);
         }
 
         if (this.isAsync != null) {
-            generator.writeKey("is_async");
+            JsonpUtils.writeKey(generator, KEY_IS_ASYNC);
             generator.write(this.isAsync);
         }
 
         if (this.lastUpdateTime != null) {
-            generator.writeKey("last_update_time");
+            JsonpUtils.writeKey(generator, KEY_LAST_UPDATE_TIME);
             generator.write(this.lastUpdateTime);
         }
 
         if (this.modelId != null) {
-            generator.writeKey("model_id");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
-        generator.writeKey("state");
+        JsonpUtils.writeKey(generator, KEY_STATE);
         this.state.serialize(generator, mapper);
 
         if (this.taskId != null) {
-            generator.writeKey("task_id");
+            JsonpUtils.writeKey(generator, KEY_TASK_ID);
             generator.write(this.taskId);
         }
 
         if (this.taskType != null) {
-            generator.writeKey("task_type");
+            JsonpUtils.writeKey(generator, KEY_TASK_TYPE);
             this.taskType.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.workerNode)) {
-            generator.writeKey("worker_node");
+            JsonpUtils.writeKey(generator, KEY_WORKER_NODE);
             generator.writeStartArray();
             for (List<String> item0 : this.workerNode) {
                 generator.writeStartArray();
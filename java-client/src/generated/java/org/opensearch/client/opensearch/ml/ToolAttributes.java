@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -91,18 +93,21 @@ public class ToolAttributes implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INPUT_SCHEMA = JsonpKey.of("input_schema");
+    private static final JsonpKey KEY_STRICT = JsonpKey.of("strict");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.attributes.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.inputSchema != null) {
-            generator.writeKey("input_schema");
+            JsonpUtils.writeKey(generator, KEY_INPUT_SCHEMA);
             generator.write(this.inputSchema);
         }
 
         if (this.strict != null) {
-            generator.writeKey("strict");
+            JsonpUtils.writeKey(generator, KEY_STRICT);
             generator.write(this.strict);
         }
     }
@@ -22,7 +22,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -69,9 +71,11 @@ public class UndeployModelNode implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.stats)) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.stats.entrySet()) {
                 generator.writeKey(item0.getKey());
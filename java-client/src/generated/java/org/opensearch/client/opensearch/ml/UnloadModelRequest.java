@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,9 +106,12 @@ public final class UnloadModelRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODEL_IDS = JsonpKey.of("model_ids");
+    private static final JsonpKey KEY_NODE_IDS = JsonpKey.of("node_ids");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.modelIds)) {
-            generator.writeKey("model_ids");
+            JsonpUtils.writeKey(generator, KEY_MODEL_IDS);
             generator.writeStartArray();
             for (String item0 : this.modelIds) {
                 generator.write(item0);
@@ -115,7 +120,7 @@ public final class UnloadModelRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.nodeIds)) {
-            generator.writeKey("node_ids");
+            JsonpUtils.writeKey(generator, KEY_NODE_IDS);
             generator.writeStartArray();
             for (String item0 : this.nodeIds) {
                 generator.write(item0);
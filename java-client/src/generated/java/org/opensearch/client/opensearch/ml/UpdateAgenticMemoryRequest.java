@@ -24,7 +24,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -221,9 +223,19 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDITIONAL_INFO = JsonpKey.of("additional_info");
+    private static final JsonpKey KEY_AGENTS = JsonpKey.of("agents");
+    private static final JsonpKey KEY_BINARY_DATA = JsonpKey.of("binary_data");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_MESSAGES = JsonpKey.of("messages");
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_STRUCTURED_DATA = JsonpKey.of("structured_data");
+    private static final JsonpKey KEY_SUMMARY = JsonpKey.of("summary");
+    private static final JsonpKey KEY_TAGS = JsonpKey.of("tags");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.additionalInfo)) {
-            generator.writeKey("additional_info");
+            JsonpUtils.writeKey(generator, KEY_ADDITIONAL_INFO);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.additionalInfo.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -233,7 +245,7 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.agents)) {
-            generator.writeKey("agents");
+            JsonpUtils.writeKey(generator, KEY_AGENTS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.agents.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -243,7 +255,7 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.binaryData)) {
-            generator.writeKey("binary_data");
+            JsonpUtils.writeKey(generator, KEY_BINARY_DATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.binaryData.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -253,12 +265,12 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             generator.write(this.memory);
         }
 
         if (ApiTypeHelper.isDefined(this.messages)) {
-            generator.writeKey("messages");
+            JsonpUtils.writeKey(generator, KEY_MESSAGES);
             generator.writeStartArray();
             for (Message item0 : this.messages) {
                 item0.serialize(generator, mapper);
@@ -267,7 +279,7 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -277,7 +289,7 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.structuredData)) {
-            generator.writeKey("structured_data");
+            JsonpUtils.writeKey(generator, KEY_STRUCTURED_DATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.structuredData.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -287,12 +299,12 @@ public final class UpdateAgenticMemoryRequest extends RequestBase
         }
 
         if (this.summary != null) {
-            generator.writeKey("summary");
+            JsonpUtils.writeKey(generator, KEY_SUMMARY);
             generator.write(this.summary);
         }
 
         if (ApiTypeHelper.isDefined(this.tags)) {
-            generator.writeKey("tags");
+            JsonpUtils.writeKey(generator, KEY_TAGS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.tags.entrySet()) {
                 generator.writeKey(item0.getKey());
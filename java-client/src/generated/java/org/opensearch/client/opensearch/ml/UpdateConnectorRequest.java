@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -209,14 +211,27 @@ public final class UpdateConnectorRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCESS_MODE = JsonpKey.of("access_mode");
+    private static final JsonpKey KEY_ACTIONS = JsonpKey.of("actions");
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_CREDENTIAL = JsonpKey.of("credential");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PARAMETERS = JsonpKey.of("parameters");
+    private static final JsonpKey KEY_PARAMETERS_SKIP_VALIDATING_MISSING_PARAMETERS = JsonpKey.of(
+        "parameters.skip_validating_missing_parameters"
+    );
+    private static final JsonpKey KEY_PROTOCOL = JsonpKey.of("protocol");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.accessMode != null) {
-            generator.writeKey("access_mode");
+            JsonpUtils.writeKey(generator, KEY_ACCESS_MODE);
             this.accessMode.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.actions)) {
-            generator.writeKey("actions");
+            JsonpUtils.writeKey(generator, KEY_ACTIONS);
             generator.writeStartArray();
             for (Action item0 : this.actions) {
                 item0.serialize(generator, mapper);
@@ -225,7 +240,7 @@ public final class UpdateConnectorRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -234,37 +249,37 @@ public final class UpdateConnectorRequest extends RequestBase
         }
 
         if (this.credential != null) {
-            generator.writeKey("credential");
+            JsonpUtils.writeKey(generator, KEY_CREDENTIAL);
             this.credential.serialize(generator, mapper);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.parameters != null) {
-            generator.writeKey("parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS);
             this.parameters.serialize(generator, mapper);
         }
 
         if (this.parametersSkipValidatingMissingParameters != null) {
-            generator.writeKey("parameters.skip_validating_missing_parameters");
+            JsonpUtils.writeKey(generator, KEY_PARAMETERS_SKIP_VALIDATING_MISSING_PARAMETERS);
             generator.write(this.parametersSkipValidatingMissingParameters);
         }
 
         if (this.protocol != null) {
-            generator.writeKey("protocol");
+            JsonpUtils.writeKey(generator, KEY_PROTOCOL);
             this.protocol.serialize(generator, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -152,9 +154,15 @@ public final class UpdateMessageRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDITIONAL_INFO = JsonpKey.of("additional_info");
+    private static final JsonpKey KEY_INPUT = JsonpKey.of("input");
+    private static final JsonpKey KEY_ORIGIN = JsonpKey.of("origin");
+    private static final JsonpKey KEY_PROMPT_TEMPLATE = JsonpKey.of("prompt_template");
+    private static final JsonpKey KEY_RESPONSE = JsonpKey.of("response");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.additionalInfo)) {
-            generator.writeKey("additional_info");
+            JsonpUtils.writeKey(generator, KEY_ADDITIONAL_INFO);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.additionalInfo.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -164,22 +172,22 @@ public final class UpdateMessageRequest extends RequestBase
         }
 
         if (this.input != null) {
-            generator.writeKey("input");
+            JsonpUtils.writeKey(generator, KEY_INPUT);
             generator.write(this.input);
         }
 
         if (this.origin != null) {
-            generator.writeKey("origin");
+            JsonpUtils.writeKey(generator, KEY_ORIGIN);
             generator.write(this.origin);
         }
 
         if (this.promptTemplate != null) {
-            generator.writeKey("prompt_template");
+            JsonpUtils.writeKey(generator, KEY_PROMPT_TEMPLATE);
             generator.write(this.promptTemplate);
         }
 
         if (this.response != null) {
-            generator.writeKey("response");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE);
             generator.write(this.response);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -170,14 +172,21 @@ public final class UpdateModelGroupRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADD_ALL_BACKEND_ROLES = JsonpKey.of("add_all_backend_roles");
+    private static final JsonpKey KEY_ADD_BACKEND_ROLES = JsonpKey.of("add_backend_roles");
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_MODEL_ACCESS_NAME = JsonpKey.of("model_access_name");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.addAllBackendRoles != null) {
-            generator.writeKey("add_all_backend_roles");
+            JsonpUtils.writeKey(generator, KEY_ADD_ALL_BACKEND_ROLES);
             generator.write(this.addAllBackendRoles);
         }
 
         if (ApiTypeHelper.isDefined(this.addBackendRoles)) {
-            generator.writeKey("add_backend_roles");
+            JsonpUtils.writeKey(generator, KEY_ADD_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.addBackendRoles) {
                 generator.write(item0);
@@ -186,7 +195,7 @@ public final class UpdateModelGroupRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -195,17 +204,17 @@ public final class UpdateModelGroupRequest extends RequestBase
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.modelAccessName != null) {
-            generator.writeKey("model_access_name");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ACCESS_NAME);
             generator.write(this.modelAccessName);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
     }
@@ -23,7 +23,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -206,9 +208,19 @@ public final class UpdateModelRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONNECTOR = JsonpKey.of("connector");
+    private static final JsonpKey KEY_CONNECTOR_ID = JsonpKey.of("connector_id");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_GUARDRAILS = JsonpKey.of("guardrails");
+    private static final JsonpKey KEY_INTERFACE_ = JsonpKey.of("interface");
+    private static final JsonpKey KEY_IS_ENABLED = JsonpKey.of("is_enabled");
+    private static final JsonpKey KEY_MODEL_CONFIG = JsonpKey.of("model_config");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_RATE_LIMITER = JsonpKey.of("rate_limiter");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.connector)) {
-            generator.writeKey("connector");
+            JsonpUtils.writeKey(generator, KEY_CONNECTOR);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.connector.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -218,22 +230,22 @@ public final class UpdateModelRequest extends RequestBase
         }
 
         if (this.connectorId != null) {
-            generator.writeKey("connector_id");
+            JsonpUtils.writeKey(generator, KEY_CONNECTOR_ID);
             generator.write(this.connectorId);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.guardrails != null) {
-            generator.writeKey("guardrails");
+            JsonpUtils.writeKey(generator, KEY_GUARDRAILS);
             this.guardrails.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.interface_)) {
-            generator.writeKey("interface");
+            JsonpUtils.writeKey(generator, KEY_INTERFACE_);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.interface_.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -243,22 +255,22 @@ public final class UpdateModelRequest extends RequestBase
         }
 
         if (this.isEnabled != null) {
-            generator.writeKey("is_enabled");
+            JsonpUtils.writeKey(generator, KEY_IS_ENABLED);
             generator.write(this.isEnabled);
         }
 
         if (this.modelConfig != null) {
-            generator.writeKey("model_config");
+            JsonpUtils.writeKey(generator, KEY_MODEL_CONFIG);
             this.modelConfig.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.rateLimiter != null) {
-            generator.writeKey("rate_limiter");
+            JsonpUtils.writeKey(generator, KEY_RATE_LIMITER);
             this.rateLimiter.serialize(generator, mapper);
         }
     }
@@ -20,7 +20,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -81,14 +83,17 @@ public class Values implements PlainJsonSerializable, ToCopyableBuilder<Values.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLUMN_TYPE = JsonpKey.of("column_type");
+    private static final JsonpKey KEY_VALUE = JsonpKey.of("value");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.columnType != null) {
-            generator.writeKey("column_type");
+            JsonpUtils.writeKey(generator, KEY_COLUMN_TYPE);
             this.columnType.serialize(generator, mapper);
         }
 
         if (this.value != null) {
-            generator.writeKey("value");
+            JsonpUtils.writeKey(generator, KEY_VALUE);
             generator.write(this.value.doubleValue());
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.nodes.info.NodeInfo;
@@ -95,12 +97,15 @@ public class NodesInfoResponse extends NodesResponseBase implements ToCopyableBu
         return this.nodes;
     }
 
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("cluster_name");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
         generator.write(this.clusterName);
 
-        generator.writeKey("nodes");
+        JsonpUtils.writeKey(generator, KEY_NODES);
         generator.writeStartObject();
         for (Map.Entry<String, NodeInfo> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
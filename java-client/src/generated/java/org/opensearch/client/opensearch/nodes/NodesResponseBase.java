@@ -42,7 +42,9 @@ import java.util.function.Function;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.NodeStatistics;
@@ -87,9 +89,11 @@ public abstract class NodesResponseBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE_STATS = JsonpKey.of("_nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.nodeStats != null) {
-            generator.writeKey("_nodes");
+            JsonpUtils.writeKey(generator, KEY_NODE_STATS);
             this.nodeStats.serialize(generator, mapper);
         }
     }
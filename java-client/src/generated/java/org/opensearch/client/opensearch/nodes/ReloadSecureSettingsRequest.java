@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,9 +140,11 @@ public final class ReloadSecureSettingsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SECURE_SETTINGS_PASSWORD = JsonpKey.of("secure_settings_password");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.secureSettingsPassword != null) {
-            generator.writeKey("secure_settings_password");
+            JsonpUtils.writeKey(generator, KEY_SECURE_SETTINGS_PASSWORD);
             generator.write(this.secureSettingsPassword);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -409,9 +411,35 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_BUILD_FLAVOR = JsonpKey.of("build_flavor");
+    private static final JsonpKey KEY_BUILD_HASH = JsonpKey.of("build_hash");
+    private static final JsonpKey KEY_BUILD_TYPE = JsonpKey.of("build_type");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_HTTP = JsonpKey.of("http");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("ingest");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_JVM = JsonpKey.of("jvm");
+    private static final JsonpKey KEY_MODULES = JsonpKey.of("modules");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_NETWORK = JsonpKey.of("network");
+    private static final JsonpKey KEY_OS = JsonpKey.of("os");
+    private static final JsonpKey KEY_PLUGINS = JsonpKey.of("plugins");
+    private static final JsonpKey KEY_PROCESS = JsonpKey.of("process");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_SEARCH_PIPELINES = JsonpKey.of("search_pipelines");
+    private static final JsonpKey KEY_SETTINGS = JsonpKey.of("settings");
+    private static final JsonpKey KEY_THREAD_POOL = JsonpKey.of("thread_pool");
+    private static final JsonpKey KEY_TOTAL_INDEXING_BUFFER = JsonpKey.of("total_indexing_buffer");
+    private static final JsonpKey KEY_TOTAL_INDEXING_BUFFER_IN_BYTES = JsonpKey.of("total_indexing_buffer_in_bytes");
+    private static final JsonpKey KEY_TRANSPORT = JsonpKey.of("transport");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, NodeInfoAggregation> item0 : this.aggregations.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -421,7 +449,7 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         }
 
         if (ApiTypeHelper.isDefined(this.attributes)) {
-            generator.writeKey("attributes");
+            JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -431,43 +459,43 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         }
 
         if (this.buildFlavor != null) {
-            generator.writeKey("build_flavor");
+            JsonpUtils.writeKey(generator, KEY_BUILD_FLAVOR);
             generator.write(this.buildFlavor);
         }
 
-        generator.writeKey("build_hash");
+        JsonpUtils.writeKey(generator, KEY_BUILD_HASH);
         generator.write(this.buildHash);
 
-        generator.writeKey("build_type");
+        JsonpUtils.writeKey(generator, KEY_BUILD_TYPE);
         generator.write(this.buildType);
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.http != null) {
-            generator.writeKey("http");
+            JsonpUtils.writeKey(generator, KEY_HTTP);
             this.http.serialize(generator, mapper);
         }
 
         if (this.ingest != null) {
-            generator.writeKey("ingest");
+            JsonpUtils.writeKey(generator, KEY_INGEST);
             this.ingest.serialize(generator, mapper);
         }
 
         if (this.ip != null) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.write(this.ip);
         }
 
         if (this.jvm != null) {
-            generator.writeKey("jvm");
+            JsonpUtils.writeKey(generator, KEY_JVM);
             this.jvm.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.modules)) {
-            generator.writeKey("modules");
+            JsonpUtils.writeKey(generator, KEY_MODULES);
             generator.writeStartArray();
             for (PluginStats item0 : this.modules) {
                 item0.serialize(generator, mapper);
@@ -475,21 +503,21 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
             generator.writeEnd();
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.network != null) {
-            generator.writeKey("network");
+            JsonpUtils.writeKey(generator, KEY_NETWORK);
             this.network.serialize(generator, mapper);
         }
 
         if (this.os != null) {
-            generator.writeKey("os");
+            JsonpUtils.writeKey(generator, KEY_OS);
             this.os.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.plugins)) {
-            generator.writeKey("plugins");
+            JsonpUtils.writeKey(generator, KEY_PLUGINS);
             generator.writeStartArray();
             for (PluginStats item0 : this.plugins) {
                 item0.serialize(generator, mapper);
@@ -498,11 +526,11 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         }
 
         if (this.process != null) {
-            generator.writeKey("process");
+            JsonpUtils.writeKey(generator, KEY_PROCESS);
             this.process.serialize(generator, mapper);
         }
 
-        generator.writeKey("roles");
+        JsonpUtils.writeKey(generator, KEY_ROLES);
         generator.writeStartArray();
         for (NodeRole item0 : this.roles) {
             item0.serialize(generator, mapper);
@@ -510,17 +538,17 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         generator.writeEnd();
 
         if (this.searchPipelines != null) {
-            generator.writeKey("search_pipelines");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_PIPELINES);
             this.searchPipelines.serialize(generator, mapper);
         }
 
         if (this.settings != null) {
-            generator.writeKey("settings");
+            JsonpUtils.writeKey(generator, KEY_SETTINGS);
             this.settings.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.threadPool)) {
-            generator.writeKey("thread_pool");
+            JsonpUtils.writeKey(generator, KEY_THREAD_POOL);
             generator.writeStartObject();
             for (Map.Entry<String, NodeThreadPoolInfo> item0 : this.threadPool.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -530,26 +558,26 @@ public class NodeInfo implements PlainJsonSerializable, ToCopyableBuilder<NodeIn
         }
 
         if (this.totalIndexingBuffer != null) {
-            generator.writeKey("total_indexing_buffer");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_INDEXING_BUFFER);
             this.totalIndexingBuffer.serialize(generator, mapper);
         }
 
         if (this.totalIndexingBufferInBytes != null) {
-            generator.writeKey("total_indexing_buffer_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_INDEXING_BUFFER_IN_BYTES);
             this.totalIndexingBufferInBytes.serialize(generator, mapper);
         }
 
         if (this.transport != null) {
-            generator.writeKey("transport");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT);
             this.transport.serialize(generator, mapper);
         }
 
         if (this.transportAddress != null) {
-            generator.writeKey("transport_address");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
             generator.write(this.transportAddress);
         }
 
-        generator.writeKey("version");
+        JsonpUtils.writeKey(generator, KEY_VERSION);
         generator.write(this.version);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -135,8 +137,13 @@ public class NodeInfoHttp implements PlainJsonSerializable, ToCopyableBuilder<No
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOUND_ADDRESS = JsonpKey.of("bound_address");
+    private static final JsonpKey KEY_MAX_CONTENT_LENGTH = JsonpKey.of("max_content_length");
+    private static final JsonpKey KEY_MAX_CONTENT_LENGTH_IN_BYTES = JsonpKey.of("max_content_length_in_bytes");
+    private static final JsonpKey KEY_PUBLISH_ADDRESS = JsonpKey.of("publish_address");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bound_address");
+        JsonpUtils.writeKey(generator, KEY_BOUND_ADDRESS);
         generator.writeStartArray();
         for (String item0 : this.boundAddress) {
             generator.write(item0);
@@ -144,14 +151,14 @@ public class NodeInfoHttp implements PlainJsonSerializable, ToCopyableBuilder<No
         generator.writeEnd();
 
         if (this.maxContentLength != null) {
-            generator.writeKey("max_content_length");
+            JsonpUtils.writeKey(generator, KEY_MAX_CONTENT_LENGTH);
             generator.write(this.maxContentLength);
         }
 
-        generator.writeKey("max_content_length_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_MAX_CONTENT_LENGTH_IN_BYTES);
         generator.write(this.maxContentLengthInBytes);
 
-        generator.writeKey("publish_address");
+        JsonpUtils.writeKey(generator, KEY_PUBLISH_ADDRESS);
         generator.write(this.publishAddress);
     }
 
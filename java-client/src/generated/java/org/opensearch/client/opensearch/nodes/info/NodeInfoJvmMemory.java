@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -192,45 +194,56 @@ public class NodeInfoJvmMemory implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DIRECT_MAX = JsonpKey.of("direct_max");
+    private static final JsonpKey KEY_DIRECT_MAX_IN_BYTES = JsonpKey.of("direct_max_in_bytes");
+    private static final JsonpKey KEY_HEAP_INIT = JsonpKey.of("heap_init");
+    private static final JsonpKey KEY_HEAP_INIT_IN_BYTES = JsonpKey.of("heap_init_in_bytes");
+    private static final JsonpKey KEY_HEAP_MAX = JsonpKey.of("heap_max");
+    private static final JsonpKey KEY_HEAP_MAX_IN_BYTES = JsonpKey.of("heap_max_in_bytes");
+    private static final JsonpKey KEY_NON_HEAP_INIT = JsonpKey.of("non_heap_init");
+    private static final JsonpKey KEY_NON_HEAP_INIT_IN_BYTES = JsonpKey.of("non_heap_init_in_bytes");
+    private static final JsonpKey KEY_NON_HEAP_MAX = JsonpKey.of("non_heap_max");
+    private static final JsonpKey KEY_NON_HEAP_MAX_IN_BYTES = JsonpKey.of("non_heap_max_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.directMax != null) {
-            generator.writeKey("direct_max");
+            JsonpUtils.writeKey(generator, KEY_DIRECT_MAX);
             generator.write(this.directMax);
         }
 
-        generator.writeKey("direct_max_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_DIRECT_MAX_IN_BYTES);
         generator.write(this.directMaxInBytes);
 
         if (this.heapInit != null) {
-            generator.writeKey("heap_init");
+            JsonpUtils.writeKey(generator, KEY_HEAP_INIT);
             generator.write(this.heapInit);
         }
 
-        generator.writeKey("heap_init_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_HEAP_INIT_IN_BYTES);
         generator.write(this.heapInitInBytes);
 
         if (this.heapMax != null) {
-            generator.writeKey("heap_max");
+            JsonpUtils.writeKey(generator, KEY_HEAP_MAX);
             generator.write(this.heapMax);
         }
 
-        generator.writeKey("heap_max_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_HEAP_MAX_IN_BYTES);
         generator.write(this.heapMaxInBytes);
 
         if (this.nonHeapInit != null) {
-            generator.writeKey("non_heap_init");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_INIT);
             generator.write(this.nonHeapInit);
         }
 
-        generator.writeKey("non_heap_init_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_NON_HEAP_INIT_IN_BYTES);
         generator.write(this.nonHeapInitInBytes);
 
         if (this.nonHeapMax != null) {
-            generator.writeKey("non_heap_max");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_MAX);
             generator.write(this.nonHeapMax);
         }
 
-        generator.writeKey("non_heap_max_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_NON_HEAP_MAX_IN_BYTES);
         generator.write(this.nonHeapMaxInBytes);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,11 +107,14 @@ public class NodeInfoNetwork implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PRIMARY_INTERFACE = JsonpKey.of("primary_interface");
+    private static final JsonpKey KEY_REFRESH_INTERVAL = JsonpKey.of("refresh_interval");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("primary_interface");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_INTERFACE);
         this.primaryInterface.serialize(generator, mapper);
 
-        generator.writeKey("refresh_interval");
+        JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL);
         generator.write(this.refreshInterval);
     }
 
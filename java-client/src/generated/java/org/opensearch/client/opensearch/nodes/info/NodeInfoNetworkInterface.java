@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,14 +127,18 @@ public class NodeInfoNetworkInterface
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADDRESS = JsonpKey.of("address");
+    private static final JsonpKey KEY_MAC_ADDRESS = JsonpKey.of("mac_address");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("address");
+        JsonpUtils.writeKey(generator, KEY_ADDRESS);
         generator.write(this.address);
 
-        generator.writeKey("mac_address");
+        JsonpUtils.writeKey(generator, KEY_MAC_ADDRESS);
         generator.write(this.macAddress);
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
     }
 
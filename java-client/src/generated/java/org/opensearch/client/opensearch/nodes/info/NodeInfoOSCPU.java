@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -184,29 +186,38 @@ public class NodeInfoOSCPU implements PlainJsonSerializable, ToCopyableBuilder<N
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE_SIZE = JsonpKey.of("cache_size");
+    private static final JsonpKey KEY_CACHE_SIZE_IN_BYTES = JsonpKey.of("cache_size_in_bytes");
+    private static final JsonpKey KEY_CORES_PER_SOCKET = JsonpKey.of("cores_per_socket");
+    private static final JsonpKey KEY_MHZ = JsonpKey.of("mhz");
+    private static final JsonpKey KEY_MODEL = JsonpKey.of("model");
+    private static final JsonpKey KEY_TOTAL_CORES = JsonpKey.of("total_cores");
+    private static final JsonpKey KEY_TOTAL_SOCKETS = JsonpKey.of("total_sockets");
+    private static final JsonpKey KEY_VENDOR = JsonpKey.of("vendor");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cache_size");
+        JsonpUtils.writeKey(generator, KEY_CACHE_SIZE);
         generator.write(this.cacheSize);
 
-        generator.writeKey("cache_size_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_CACHE_SIZE_IN_BYTES);
         generator.write(this.cacheSizeInBytes);
 
-        generator.writeKey("cores_per_socket");
+        JsonpUtils.writeKey(generator, KEY_CORES_PER_SOCKET);
         generator.write(this.coresPerSocket);
 
-        generator.writeKey("mhz");
+        JsonpUtils.writeKey(generator, KEY_MHZ);
         generator.write(this.mhz);
 
-        generator.writeKey("model");
+        JsonpUtils.writeKey(generator, KEY_MODEL);
         generator.write(this.model);
 
-        generator.writeKey("total_cores");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_CORES);
         generator.write(this.totalCores);
 
-        generator.writeKey("total_sockets");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_SOCKETS);
         generator.write(this.totalSockets);
 
-        generator.writeKey("vendor");
+        JsonpUtils.writeKey(generator, KEY_VENDOR);
         generator.write(this.vendor);
     }
 
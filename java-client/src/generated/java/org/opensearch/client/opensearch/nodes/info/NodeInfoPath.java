@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,9 +145,14 @@ public class NodeInfoPath implements PlainJsonSerializable, ToCopyableBuilder<No
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATA = JsonpKey.of("data");
+    private static final JsonpKey KEY_HOME = JsonpKey.of("home");
+    private static final JsonpKey KEY_LOGS = JsonpKey.of("logs");
+    private static final JsonpKey KEY_REPO = JsonpKey.of("repo");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.data)) {
-            generator.writeKey("data");
+            JsonpUtils.writeKey(generator, KEY_DATA);
             generator.writeStartArray();
             for (String item0 : this.data) {
                 generator.write(item0);
@@ -153,14 +160,14 @@ public class NodeInfoPath implements PlainJsonSerializable, ToCopyableBuilder<No
             generator.writeEnd();
         }
 
-        generator.writeKey("home");
+        JsonpUtils.writeKey(generator, KEY_HOME);
         generator.write(this.home);
 
-        generator.writeKey("logs");
+        JsonpUtils.writeKey(generator, KEY_LOGS);
         generator.write(this.logs);
 
         if (ApiTypeHelper.isDefined(this.repo)) {
-            generator.writeKey("repo");
+            JsonpUtils.writeKey(generator, KEY_REPO);
             generator.writeStartArray();
             for (String item0 : this.repo) {
                 generator.write(item0);
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,11 +116,14 @@ public class NodeInfoScript implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOWED_TYPES = JsonpKey.of("allowed_types");
+    private static final JsonpKey KEY_DISABLE_MAX_COMPILATIONS_RATE = JsonpKey.of("disable_max_compilations_rate");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("allowed_types");
+        JsonpUtils.writeKey(generator, KEY_ALLOWED_TYPES);
         generator.write(this.allowedTypes);
 
-        generator.writeKey("disable_max_compilations_rate");
+        JsonpUtils.writeKey(generator, KEY_DISABLE_MAX_COMPILATIONS_RATE);
         generator.write(this.disableMaxCompilationsRate);
     }
 
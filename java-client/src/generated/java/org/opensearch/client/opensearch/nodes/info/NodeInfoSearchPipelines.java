@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,9 +133,13 @@ public class NodeInfoSearchPipelines
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PHASE_RESULTS_PROCESSORS = JsonpKey.of("phase_results_processors");
+    private static final JsonpKey KEY_REQUEST_PROCESSORS = JsonpKey.of("request_processors");
+    private static final JsonpKey KEY_RESPONSE_PROCESSORS = JsonpKey.of("response_processors");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.phaseResultsProcessors)) {
-            generator.writeKey("phase_results_processors");
+            JsonpUtils.writeKey(generator, KEY_PHASE_RESULTS_PROCESSORS);
             generator.writeStartArray();
             for (NodeInfoSearchPipelineProcessor item0 : this.phaseResultsProcessors) {
                 item0.serialize(generator, mapper);
@@ -142,7 +148,7 @@ public class NodeInfoSearchPipelines
         }
 
         if (ApiTypeHelper.isDefined(this.requestProcessors)) {
-            generator.writeKey("request_processors");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_PROCESSORS);
             generator.writeStartArray();
             for (NodeInfoSearchPipelineProcessor item0 : this.requestProcessors) {
                 item0.serialize(generator, mapper);
@@ -151,7 +157,7 @@ public class NodeInfoSearchPipelines
         }
 
         if (ApiTypeHelper.isDefined(this.responseProcessors)) {
-            generator.writeKey("response_processors");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_PROCESSORS);
             generator.writeStartArray();
             for (NodeInfoSearchPipelineProcessor item0 : this.responseProcessors) {
                 item0.serialize(generator, mapper);
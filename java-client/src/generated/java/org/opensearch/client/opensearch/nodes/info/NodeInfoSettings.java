@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -276,54 +278,71 @@ public class NodeInfoSettings implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTION = JsonpKey.of("action");
+    private static final JsonpKey KEY_BOOTSTRAP = JsonpKey.of("bootstrap");
+    private static final JsonpKey KEY_CLIENT = JsonpKey.of("client");
+    private static final JsonpKey KEY_CLUSTER = JsonpKey.of("cluster");
+    private static final JsonpKey KEY_DISCOVERY = JsonpKey.of("discovery");
+    private static final JsonpKey KEY_HTTP = JsonpKey.of("http");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("index");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("ingest");
+    private static final JsonpKey KEY_NETWORK = JsonpKey.of("network");
+    private static final JsonpKey KEY_NODE = JsonpKey.of("node");
+    private static final JsonpKey KEY_PATH = JsonpKey.of("path");
+    private static final JsonpKey KEY_PLUGINS = JsonpKey.of("plugins");
+    private static final JsonpKey KEY_REPOSITORIES = JsonpKey.of("repositories");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SEARCH = JsonpKey.of("search");
+    private static final JsonpKey KEY_TRANSPORT = JsonpKey.of("transport");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.action != null) {
-            generator.writeKey("action");
+            JsonpUtils.writeKey(generator, KEY_ACTION);
             this.action.serialize(generator, mapper);
         }
 
         if (this.bootstrap != null) {
-            generator.writeKey("bootstrap");
+            JsonpUtils.writeKey(generator, KEY_BOOTSTRAP);
             this.bootstrap.serialize(generator, mapper);
         }
 
-        generator.writeKey("client");
+        JsonpUtils.writeKey(generator, KEY_CLIENT);
         this.client.serialize(generator, mapper);
 
-        generator.writeKey("cluster");
+        JsonpUtils.writeKey(generator, KEY_CLUSTER);
         this.cluster.serialize(generator, mapper);
 
         if (this.discovery != null) {
-            generator.writeKey("discovery");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERY);
             this.discovery.serialize(generator, mapper);
         }
 
-        generator.writeKey("http");
+        JsonpUtils.writeKey(generator, KEY_HTTP);
         this.http.serialize(generator, mapper);
 
         if (this.index != null) {
-            generator.writeKey("index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             this.index.serialize(generator, mapper);
         }
 
         if (this.ingest != null) {
-            generator.writeKey("ingest");
+            JsonpUtils.writeKey(generator, KEY_INGEST);
             this.ingest.serialize(generator, mapper);
         }
 
         if (this.network != null) {
-            generator.writeKey("network");
+            JsonpUtils.writeKey(generator, KEY_NETWORK);
             this.network.serialize(generator, mapper);
         }
 
-        generator.writeKey("node");
+        JsonpUtils.writeKey(generator, KEY_NODE);
         this.node.serialize(generator, mapper);
 
-        generator.writeKey("path");
+        JsonpUtils.writeKey(generator, KEY_PATH);
         this.path.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.plugins)) {
-            generator.writeKey("plugins");
+            JsonpUtils.writeKey(generator, KEY_PLUGINS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.plugins.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -333,21 +352,21 @@ public class NodeInfoSettings implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.repositories != null) {
-            generator.writeKey("repositories");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORIES);
             this.repositories.serialize(generator, mapper);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.search != null) {
-            generator.writeKey("search");
+            JsonpUtils.writeKey(generator, KEY_SEARCH);
             this.search.serialize(generator, mapper);
         }
 
-        generator.writeKey("transport");
+        JsonpUtils.writeKey(generator, KEY_TRANSPORT);
         this.transport.serialize(generator, mapper);
     }
 
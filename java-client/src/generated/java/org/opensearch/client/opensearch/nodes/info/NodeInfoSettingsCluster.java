@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -159,19 +161,26 @@ public class NodeInfoSettingsCluster
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEPRECATION_INDEXING = JsonpKey.of("deprecation_indexing");
+    private static final JsonpKey KEY_ELECTION = JsonpKey.of("election");
+    private static final JsonpKey KEY_INITIAL_CLUSTER_MANAGER_NODES = JsonpKey.of("initial_cluster_manager_nodes");
+    private static final JsonpKey KEY_INITIAL_MASTER_NODES = JsonpKey.of("initial_master_nodes");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.deprecationIndexing != null) {
-            generator.writeKey("deprecation_indexing");
+            JsonpUtils.writeKey(generator, KEY_DEPRECATION_INDEXING);
             this.deprecationIndexing.serialize(generator, mapper);
         }
 
         if (this.election != null) {
-            generator.writeKey("election");
+            JsonpUtils.writeKey(generator, KEY_ELECTION);
             this.election.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.initialClusterManagerNodes)) {
-            generator.writeKey("initial_cluster_manager_nodes");
+            JsonpUtils.writeKey(generator, KEY_INITIAL_CLUSTER_MANAGER_NODES);
             generator.writeStartArray();
             for (String item0 : this.initialClusterManagerNodes) {
                 generator.write(item0);
@@ -180,7 +189,7 @@ public class NodeInfoSettingsCluster
         }
 
         if (ApiTypeHelper.isDefined(this.initialMasterNodes)) {
-            generator.writeKey("initial_master_nodes");
+            JsonpUtils.writeKey(generator, KEY_INITIAL_MASTER_NODES);
             generator.writeStartArray();
             for (String item0 : this.initialMasterNodes) {
                 generator.write(item0);
@@ -188,11 +197,11 @@ public class NodeInfoSettingsCluster
             generator.writeEnd();
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
 
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             this.routing.serialize(generator, mapper);
         }
     }
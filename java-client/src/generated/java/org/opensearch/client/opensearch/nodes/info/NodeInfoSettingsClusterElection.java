@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,8 +99,10 @@ public class NodeInfoSettingsClusterElection
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STRATEGY = JsonpKey.of("strategy");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("strategy");
+        JsonpUtils.writeKey(generator, KEY_STRATEGY);
         generator.write(this.strategy);
     }
 
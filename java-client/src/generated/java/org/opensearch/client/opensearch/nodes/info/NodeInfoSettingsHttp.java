@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -133,22 +135,27 @@ public class NodeInfoSettingsHttp implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPRESSION = JsonpKey.of("compression");
+    private static final JsonpKey KEY_PORT = JsonpKey.of("port");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+    private static final JsonpKey KEY_TYPE_DEFAULT = JsonpKey.of("type.default");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.compression != null) {
-            generator.writeKey("compression");
+            JsonpUtils.writeKey(generator, KEY_COMPRESSION);
             generator.write(this.compression);
         }
 
         if (this.port != null) {
-            generator.writeKey("port");
+            JsonpUtils.writeKey(generator, KEY_PORT);
             generator.write(this.port);
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         this.type.serialize(generator, mapper);
 
         if (this.typeDefault != null) {
-            generator.writeKey("type.default");
+            JsonpUtils.writeKey(generator, KEY_TYPE_DEFAULT);
             generator.write(this.typeDefault);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -101,9 +103,11 @@ public class NodeInfoSettingsHttpTypeConfig
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_ = JsonpKey.of("default");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.default_ != null) {
-            generator.writeKey("default");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_);
             generator.write(this.default_);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,9 +105,11 @@ public class NodeInfoSettingsIndexStoreMmap
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXTENSIONS = JsonpKey.of("extensions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.extensions)) {
-            generator.writeKey("extensions");
+            JsonpUtils.writeKey(generator, KEY_EXTENSIONS);
             generator.writeStartArray();
             for (String item0 : this.extensions) {
                 generator.write(item0);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -492,174 +494,209 @@ public class NodeInfoSettingsIngest
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_APPEND = JsonpKey.of("append");
+    private static final JsonpKey KEY_ATTACHMENT = JsonpKey.of("attachment");
+    private static final JsonpKey KEY_BYTES = JsonpKey.of("bytes");
+    private static final JsonpKey KEY_CIRCLE = JsonpKey.of("circle");
+    private static final JsonpKey KEY_CONVERT = JsonpKey.of("convert");
+    private static final JsonpKey KEY_CSV = JsonpKey.of("csv");
+    private static final JsonpKey KEY_DATE = JsonpKey.of("date");
+    private static final JsonpKey KEY_DATE_INDEX_NAME = JsonpKey.of("date_index_name");
+    private static final JsonpKey KEY_DISSECT = JsonpKey.of("dissect");
+    private static final JsonpKey KEY_DOT_EXPANDER = JsonpKey.of("dot_expander");
+    private static final JsonpKey KEY_DROP = JsonpKey.of("drop");
+    private static final JsonpKey KEY_ENRICH = JsonpKey.of("enrich");
+    private static final JsonpKey KEY_FAIL = JsonpKey.of("fail");
+    private static final JsonpKey KEY_FOREACH = JsonpKey.of("foreach");
+    private static final JsonpKey KEY_GEOIP = JsonpKey.of("geoip");
+    private static final JsonpKey KEY_GROK = JsonpKey.of("grok");
+    private static final JsonpKey KEY_GSUB = JsonpKey.of("gsub");
+    private static final JsonpKey KEY_INFERENCE = JsonpKey.of("inference");
+    private static final JsonpKey KEY_JOIN = JsonpKey.of("join");
+    private static final JsonpKey KEY_JSON = JsonpKey.of("json");
+    private static final JsonpKey KEY_KV = JsonpKey.of("kv");
+    private static final JsonpKey KEY_LOWERCASE = JsonpKey.of("lowercase");
+    private static final JsonpKey KEY_PIPELINE = JsonpKey.of("pipeline");
+    private static final JsonpKey KEY_REMOVE = JsonpKey.of("remove");
+    private static final JsonpKey KEY_RENAME = JsonpKey.of("rename");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SET = JsonpKey.of("set");
+    private static final JsonpKey KEY_SET_SECURITY_USER = JsonpKey.of("set_security_user");
+    private static final JsonpKey KEY_SORT = JsonpKey.of("sort");
+    private static final JsonpKey KEY_SPLIT = JsonpKey.of("split");
+    private static final JsonpKey KEY_TRIM = JsonpKey.of("trim");
+    private static final JsonpKey KEY_UPPERCASE = JsonpKey.of("uppercase");
+    private static final JsonpKey KEY_URLDECODE = JsonpKey.of("urldecode");
+    private static final JsonpKey KEY_USER_AGENT = JsonpKey.of("user_agent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.append != null) {
-            generator.writeKey("append");
+            JsonpUtils.writeKey(generator, KEY_APPEND);
             this.append.serialize(generator, mapper);
         }
 
         if (this.attachment != null) {
-            generator.writeKey("attachment");
+            JsonpUtils.writeKey(generator, KEY_ATTACHMENT);
             this.attachment.serialize(generator, mapper);
         }
 
         if (this.bytes != null) {
-            generator.writeKey("bytes");
+            JsonpUtils.writeKey(generator, KEY_BYTES);
             this.bytes.serialize(generator, mapper);
         }
 
         if (this.circle != null) {
-            generator.writeKey("circle");
+            JsonpUtils.writeKey(generator, KEY_CIRCLE);
             this.circle.serialize(generator, mapper);
         }
 
         if (this.convert != null) {
-            generator.writeKey("convert");
+            JsonpUtils.writeKey(generator, KEY_CONVERT);
             this.convert.serialize(generator, mapper);
         }
 
         if (this.csv != null) {
-            generator.writeKey("csv");
+            JsonpUtils.writeKey(generator, KEY_CSV);
             this.csv.serialize(generator, mapper);
         }
 
         if (this.date != null) {
-            generator.writeKey("date");
+            JsonpUtils.writeKey(generator, KEY_DATE);
             this.date.serialize(generator, mapper);
         }
 
         if (this.dateIndexName != null) {
-            generator.writeKey("date_index_name");
+            JsonpUtils.writeKey(generator, KEY_DATE_INDEX_NAME);
             this.dateIndexName.serialize(generator, mapper);
         }
 
         if (this.dissect != null) {
-            generator.writeKey("dissect");
+            JsonpUtils.writeKey(generator, KEY_DISSECT);
             this.dissect.serialize(generator, mapper);
         }
 
         if (this.dotExpander != null) {
-            generator.writeKey("dot_expander");
+            JsonpUtils.writeKey(generator, KEY_DOT_EXPANDER);
             this.dotExpander.serialize(generator, mapper);
         }
 
         if (this.drop != null) {
-            generator.writeKey("drop");
+            JsonpUtils.writeKey(generator, KEY_DROP);
             this.drop.serialize(generator, mapper);
         }
 
         if (this.enrich != null) {
-            generator.writeKey("enrich");
+            JsonpUtils.writeKey(generator, KEY_ENRICH);
             this.enrich.serialize(generator, mapper);
         }
 
         if (this.fail != null) {
-            generator.writeKey("fail");
+            JsonpUtils.writeKey(generator, KEY_FAIL);
             this.fail.serialize(generator, mapper);
         }
 
         if (this.foreach != null) {
-            generator.writeKey("foreach");
+            JsonpUtils.writeKey(generator, KEY_FOREACH);
             this.foreach.serialize(generator, mapper);
         }
 
         if (this.geoip != null) {
-            generator.writeKey("geoip");
+            JsonpUtils.writeKey(generator, KEY_GEOIP);
             this.geoip.serialize(generator, mapper);
         }
 
         if (this.grok != null) {
-            generator.writeKey("grok");
+            JsonpUtils.writeKey(generator, KEY_GROK);
             this.grok.serialize(generator, mapper);
         }
 
         if (this.gsub != null) {
-            generator.writeKey("gsub");
+            JsonpUtils.writeKey(generator, KEY_GSUB);
             this.gsub.serialize(generator, mapper);
         }
 
         if (this.inference != null) {
-            generator.writeKey("inference");
+            JsonpUtils.writeKey(generator, KEY_INFERENCE);
             this.inference.serialize(generator, mapper);
         }
 
         if (this.join != null) {
-            generator.writeKey("join");
+            JsonpUtils.writeKey(generator, KEY_JOIN);
             this.join.serialize(generator, mapper);
         }
 
         if (this.json != null) {
-            generator.writeKey("json");
+            JsonpUtils.writeKey(generator, KEY_JSON);
             this.json.serialize(generator, mapper);
         }
 
         if (this.kv != null) {
-            generator.writeKey("kv");
+            JsonpUtils.writeKey(generator, KEY_KV);
             this.kv.serialize(generator, mapper);
         }
 
         if (this.lowercase != null) {
-            generator.writeKey("lowercase");
+            JsonpUtils.writeKey(generator, KEY_LOWERCASE);
             this.lowercase.serialize(generator, mapper);
         }
 
         if (this.pipeline != null) {
-            generator.writeKey("pipeline");
+            JsonpUtils.writeKey(generator, KEY_PIPELINE);
             this.pipeline.serialize(generator, mapper);
         }
 
         if (this.remove != null) {
-            generator.writeKey("remove");
+            JsonpUtils.writeKey(generator, KEY_REMOVE);
             this.remove.serialize(generator, mapper);
         }
 
         if (this.rename != null) {
-            generator.writeKey("rename");
+            JsonpUtils.writeKey(generator, KEY_RENAME);
             this.rename.serialize(generator, mapper);
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.set != null) {
-            generator.writeKey("set");
+            JsonpUtils.writeKey(generator, KEY_SET);
             this.set.serialize(generator, mapper);
         }
 
         if (this.setSecurityUser != null) {
-            generator.writeKey("set_security_user");
+            JsonpUtils.writeKey(generator, KEY_SET_SECURITY_USER);
             this.setSecurityUser.serialize(generator, mapper);
         }
 
         if (this.sort != null) {
-            generator.writeKey("sort");
+            JsonpUtils.writeKey(generator, KEY_SORT);
             this.sort.serialize(generator, mapper);
         }
 
         if (this.split != null) {
-            generator.writeKey("split");
+            JsonpUtils.writeKey(generator, KEY_SPLIT);
             this.split.serialize(generator, mapper);
         }
 
         if (this.trim != null) {
-            generator.writeKey("trim");
+            JsonpUtils.writeKey(generator, KEY_TRIM);
             this.trim.serialize(generator, mapper);
         }
 
         if (this.uppercase != null) {
-            generator.writeKey("uppercase");
+            JsonpUtils.writeKey(generator, KEY_UPPERCASE);
             this.uppercase.serialize(generator, mapper);
         }
 
         if (this.urldecode != null) {
-            generator.writeKey("urldecode");
+            JsonpUtils.writeKey(generator, KEY_URLDECODE);
             this.urldecode.serialize(generator, mapper);
         }
 
         if (this.userAgent != null) {
-            generator.writeKey("user_agent");
+            JsonpUtils.writeKey(generator, KEY_USER_AGENT);
             this.userAgent.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,9 +128,13 @@ public class NodeInfoSettingsNode implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTR = JsonpKey.of("attr");
+    private static final JsonpKey KEY_MAX_LOCAL_STORAGE_NODES = JsonpKey.of("max_local_storage_nodes");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.attr)) {
-            generator.writeKey("attr");
+            JsonpUtils.writeKey(generator, KEY_ATTR);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.attr.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -138,11 +144,11 @@ public class NodeInfoSettingsNode implements PlainJsonSerializable, ToCopyableBu
         }
 
         if (this.maxLocalStorageNodes != null) {
-            generator.writeKey("max_local_storage_nodes");
+            JsonpUtils.writeKey(generator, KEY_MAX_LOCAL_STORAGE_NODES);
             generator.write(this.maxLocalStorageNodes);
         }
 
-        generator.writeKey("name");
+        JsonpUtils.writeKey(generator, KEY_NAME);
         generator.write(this.name);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,15 +129,19 @@ public class NodeInfoTransport implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BOUND_ADDRESS = JsonpKey.of("bound_address");
+    private static final JsonpKey KEY_PROFILES = JsonpKey.of("profiles");
+    private static final JsonpKey KEY_PUBLISH_ADDRESS = JsonpKey.of("publish_address");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bound_address");
+        JsonpUtils.writeKey(generator, KEY_BOUND_ADDRESS);
         generator.writeStartArray();
         for (String item0 : this.boundAddress) {
             generator.write(item0);
         }
         generator.writeEnd();
 
-        generator.writeKey("profiles");
+        JsonpUtils.writeKey(generator, KEY_PROFILES);
         generator.writeStartObject();
         for (Map.Entry<String, String> item0 : this.profiles.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -143,7 +149,7 @@ public class NodeInfoTransport implements PlainJsonSerializable, ToCopyableBuild
         }
         generator.writeEnd();
 
-        generator.writeKey("publish_address");
+        JsonpUtils.writeKey(generator, KEY_PUBLISH_ADDRESS);
         generator.write(this.publishAddress);
     }
 
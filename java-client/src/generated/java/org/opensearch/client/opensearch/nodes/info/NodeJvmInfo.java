@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -266,12 +268,27 @@ public class NodeJvmInfo implements PlainJsonSerializable, ToCopyableBuilder<Nod
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUNDLED_JDK = JsonpKey.of("bundled_jdk");
+    private static final JsonpKey KEY_GC_COLLECTORS = JsonpKey.of("gc_collectors");
+    private static final JsonpKey KEY_INPUT_ARGUMENTS = JsonpKey.of("input_arguments");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_MEMORY_POOLS = JsonpKey.of("memory_pools");
+    private static final JsonpKey KEY_PID = JsonpKey.of("pid");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_START_TIME_IN_MILLIS = JsonpKey.of("start_time_in_millis");
+    private static final JsonpKey KEY_USING_BUNDLED_JDK = JsonpKey.of("using_bundled_jdk");
+    private static final JsonpKey KEY_USING_COMPRESSED_ORDINARY_OBJECT_POINTERS = JsonpKey.of("using_compressed_ordinary_object_pointers");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VM_NAME = JsonpKey.of("vm_name");
+    private static final JsonpKey KEY_VM_VENDOR = JsonpKey.of("vm_vendor");
+    private static final JsonpKey KEY_VM_VERSION = JsonpKey.of("vm_version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("bundled_jdk");
+        JsonpUtils.writeKey(generator, KEY_BUNDLED_JDK);
         generator.write(this.bundledJdk);
 
         if (ApiTypeHelper.isDefined(this.gcCollectors)) {
-            generator.writeKey("gc_collectors");
+            JsonpUtils.writeKey(generator, KEY_GC_COLLECTORS);
             generator.writeStartArray();
             for (String item0 : this.gcCollectors) {
                 generator.write(item0);
@@ -280,7 +297,7 @@ public class NodeJvmInfo implements PlainJsonSerializable, ToCopyableBuilder<Nod
         }
 
         if (ApiTypeHelper.isDefined(this.inputArguments)) {
-            generator.writeKey("input_arguments");
+            JsonpUtils.writeKey(generator, KEY_INPUT_ARGUMENTS);
             generator.writeStartArray();
             for (String item0 : this.inputArguments) {
                 generator.write(item0);
@@ -288,11 +305,11 @@ public class NodeJvmInfo implements PlainJsonSerializable, ToCopyableBuilder<Nod
             generator.writeEnd();
         }
 
-        generator.writeKey("mem");
+        JsonpUtils.writeKey(generator, KEY_MEM);
         this.mem.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.memoryPools)) {
-            generator.writeKey("memory_pools");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_POOLS);
             generator.writeStartArray();
             for (String item0 : this.memoryPools) {
                 generator.write(item0);
@@ -300,44 +317,44 @@ public class NodeJvmInfo implements PlainJsonSerializable, ToCopyableBuilder<Nod
             generator.writeEnd();
         }
 
-        generator.writeKey("pid");
+        JsonpUtils.writeKey(generator, KEY_PID);
         generator.write(this.pid);
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
-        generator.writeKey("start_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_START_TIME_IN_MILLIS);
         generator.write(this.startTimeInMillis);
 
         if (this.usingBundledJdk != null) {
-            generator.writeKey("using_bundled_jdk");
+            JsonpUtils.writeKey(generator, KEY_USING_BUNDLED_JDK);
             generator.write(this.usingBundledJdk);
         }
 
         if (this.usingCompressedOrdinaryObjectPointers != null) {
-            generator.writeKey("using_compressed_ordinary_object_pointers");
+            JsonpUtils.writeKey(generator, KEY_USING_COMPRESSED_ORDINARY_OBJECT_POINTERS);
             generator.write(this.usingCompressedOrdinaryObjectPointers);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.vmName != null) {
-            generator.writeKey("vm_name");
+            JsonpUtils.writeKey(generator, KEY_VM_NAME);
             generator.write(this.vmName);
         }
 
         if (this.vmVendor != null) {
-            generator.writeKey("vm_vendor");
+            JsonpUtils.writeKey(generator, KEY_VM_VENDOR);
             generator.write(this.vmVendor);
         }
 
         if (this.vmVersion != null) {
-            generator.writeKey("vm_version");
+            JsonpUtils.writeKey(generator, KEY_VM_VERSION);
             generator.write(this.vmVersion);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -224,55 +226,67 @@ public class NodeOperatingSystemInfo
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOCATED_PROCESSORS = JsonpKey.of("allocated_processors");
+    private static final JsonpKey KEY_ARCH = JsonpKey.of("arch");
+    private static final JsonpKey KEY_AVAILABLE_PROCESSORS = JsonpKey.of("available_processors");
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_PRETTY_NAME = JsonpKey.of("pretty_name");
+    private static final JsonpKey KEY_REFRESH_INTERVAL = JsonpKey.of("refresh_interval");
+    private static final JsonpKey KEY_REFRESH_INTERVAL_IN_MILLIS = JsonpKey.of("refresh_interval_in_millis");
+    private static final JsonpKey KEY_SWAP = JsonpKey.of("swap");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.allocatedProcessors != null) {
-            generator.writeKey("allocated_processors");
+            JsonpUtils.writeKey(generator, KEY_ALLOCATED_PROCESSORS);
             generator.write(this.allocatedProcessors);
         }
 
         if (this.arch != null) {
-            generator.writeKey("arch");
+            JsonpUtils.writeKey(generator, KEY_ARCH);
             generator.write(this.arch);
         }
 
-        generator.writeKey("available_processors");
+        JsonpUtils.writeKey(generator, KEY_AVAILABLE_PROCESSORS);
         generator.write(this.availableProcessors);
 
         if (this.cpu != null) {
-            generator.writeKey("cpu");
+            JsonpUtils.writeKey(generator, KEY_CPU);
             this.cpu.serialize(generator, mapper);
         }
 
         if (this.mem != null) {
-            generator.writeKey("mem");
+            JsonpUtils.writeKey(generator, KEY_MEM);
             this.mem.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.prettyName != null) {
-            generator.writeKey("pretty_name");
+            JsonpUtils.writeKey(generator, KEY_PRETTY_NAME);
             generator.write(this.prettyName);
         }
 
         if (this.refreshInterval != null) {
-            generator.writeKey("refresh_interval");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL);
             this.refreshInterval.serialize(generator, mapper);
         }
 
-        generator.writeKey("refresh_interval_in_millis");
+        JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL_IN_MILLIS);
         generator.write(this.refreshIntervalInMillis);
 
         if (this.swap != null) {
-            generator.writeKey("swap");
+            JsonpUtils.writeKey(generator, KEY_SWAP);
             this.swap.serialize(generator, mapper);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,19 +133,24 @@ public class NodeProcessInfo implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("id");
+    private static final JsonpKey KEY_MLOCKALL = JsonpKey.of("mlockall");
+    private static final JsonpKey KEY_REFRESH_INTERVAL = JsonpKey.of("refresh_interval");
+    private static final JsonpKey KEY_REFRESH_INTERVAL_IN_MILLIS = JsonpKey.of("refresh_interval_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("id");
+        JsonpUtils.writeKey(generator, KEY_ID);
         generator.write(this.id);
 
-        generator.writeKey("mlockall");
+        JsonpUtils.writeKey(generator, KEY_MLOCKALL);
         generator.write(this.mlockall);
 
         if (this.refreshInterval != null) {
-            generator.writeKey("refresh_interval");
+            JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL);
             this.refreshInterval.serialize(generator, mapper);
         }
 
-        generator.writeKey("refresh_interval_in_millis");
+        JsonpUtils.writeKey(generator, KEY_REFRESH_INTERVAL_IN_MILLIS);
         generator.write(this.refreshIntervalInMillis);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,31 +170,38 @@ public class NodeThreadPoolInfo implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CORE = JsonpKey.of("core");
+    private static final JsonpKey KEY_KEEP_ALIVE = JsonpKey.of("keep_alive");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_QUEUE_SIZE = JsonpKey.of("queue_size");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.core != null) {
-            generator.writeKey("core");
+            JsonpUtils.writeKey(generator, KEY_CORE);
             generator.write(this.core);
         }
 
         if (this.keepAlive != null) {
-            generator.writeKey("keep_alive");
+            JsonpUtils.writeKey(generator, KEY_KEEP_ALIVE);
             this.keepAlive.serialize(generator, mapper);
         }
 
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
-        generator.writeKey("queue_size");
+        JsonpUtils.writeKey(generator, KEY_QUEUE_SIZE);
         generator.write(this.queueSize);
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
-        generator.writeKey("type");
+        JsonpUtils.writeKey(generator, KEY_TYPE);
         generator.write(this.type);
     }
 
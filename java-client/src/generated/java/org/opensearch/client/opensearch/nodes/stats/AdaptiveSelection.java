@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -178,39 +180,47 @@ public class AdaptiveSelection implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVG_QUEUE_SIZE = JsonpKey.of("avg_queue_size");
+    private static final JsonpKey KEY_AVG_RESPONSE_TIME = JsonpKey.of("avg_response_time");
+    private static final JsonpKey KEY_AVG_RESPONSE_TIME_NS = JsonpKey.of("avg_response_time_ns");
+    private static final JsonpKey KEY_AVG_SERVICE_TIME = JsonpKey.of("avg_service_time");
+    private static final JsonpKey KEY_AVG_SERVICE_TIME_NS = JsonpKey.of("avg_service_time_ns");
+    private static final JsonpKey KEY_OUTGOING_SEARCHES = JsonpKey.of("outgoing_searches");
+    private static final JsonpKey KEY_RANK = JsonpKey.of("rank");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.avgQueueSize != null) {
-            generator.writeKey("avg_queue_size");
+            JsonpUtils.writeKey(generator, KEY_AVG_QUEUE_SIZE);
             generator.write(this.avgQueueSize);
         }
 
         if (this.avgResponseTime != null) {
-            generator.writeKey("avg_response_time");
+            JsonpUtils.writeKey(generator, KEY_AVG_RESPONSE_TIME);
             this.avgResponseTime.serialize(generator, mapper);
         }
 
         if (this.avgResponseTimeNs != null) {
-            generator.writeKey("avg_response_time_ns");
+            JsonpUtils.writeKey(generator, KEY_AVG_RESPONSE_TIME_NS);
             generator.write(this.avgResponseTimeNs);
         }
 
         if (this.avgServiceTime != null) {
-            generator.writeKey("avg_service_time");
+            JsonpUtils.writeKey(generator, KEY_AVG_SERVICE_TIME);
             this.avgServiceTime.serialize(generator, mapper);
         }
 
         if (this.avgServiceTimeNs != null) {
-            generator.writeKey("avg_service_time_ns");
+            JsonpUtils.writeKey(generator, KEY_AVG_SERVICE_TIME_NS);
             generator.write(this.avgServiceTimeNs);
         }
 
         if (this.outgoingSearches != null) {
-            generator.writeKey("outgoing_searches");
+            JsonpUtils.writeKey(generator, KEY_OUTGOING_SEARCHES);
             generator.write(this.outgoingSearches);
         }
 
         if (this.rank != null) {
-            generator.writeKey("rank");
+            JsonpUtils.writeKey(generator, KEY_RANK);
             generator.write(this.rank);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,34 +170,41 @@ public class Breaker implements PlainJsonSerializable, ToCopyableBuilder<Breaker
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ESTIMATED_SIZE = JsonpKey.of("estimated_size");
+    private static final JsonpKey KEY_ESTIMATED_SIZE_IN_BYTES = JsonpKey.of("estimated_size_in_bytes");
+    private static final JsonpKey KEY_LIMIT_SIZE = JsonpKey.of("limit_size");
+    private static final JsonpKey KEY_LIMIT_SIZE_IN_BYTES = JsonpKey.of("limit_size_in_bytes");
+    private static final JsonpKey KEY_OVERHEAD = JsonpKey.of("overhead");
+    private static final JsonpKey KEY_TRIPPED = JsonpKey.of("tripped");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.estimatedSize != null) {
-            generator.writeKey("estimated_size");
+            JsonpUtils.writeKey(generator, KEY_ESTIMATED_SIZE);
             generator.write(this.estimatedSize);
         }
 
         if (this.estimatedSizeInBytes != null) {
-            generator.writeKey("estimated_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_ESTIMATED_SIZE_IN_BYTES);
             generator.write(this.estimatedSizeInBytes);
         }
 
         if (this.limitSize != null) {
-            generator.writeKey("limit_size");
+            JsonpUtils.writeKey(generator, KEY_LIMIT_SIZE);
             generator.write(this.limitSize);
         }
 
         if (this.limitSizeInBytes != null) {
-            generator.writeKey("limit_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_LIMIT_SIZE_IN_BYTES);
             generator.write(this.limitSizeInBytes);
         }
 
         if (this.overhead != null) {
-            generator.writeKey("overhead");
+            JsonpUtils.writeKey(generator, KEY_OVERHEAD);
             generator.write(this.overhead);
         }
 
         if (this.tripped != null) {
-            generator.writeKey("tripped");
+            JsonpUtils.writeKey(generator, KEY_TRIPPED);
             generator.write(this.tripped);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -105,10 +107,14 @@ public class CacheStats extends CacheStatsBase implements ToCopyableBuilder<Cach
         return this.storeName;
     }
 
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_STORE_NAME = JsonpKey.of("store_name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartObject();
             for (Map.Entry<String, CacheIndicesStats> item0 : this.indices.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -118,7 +124,7 @@ public class CacheStats extends CacheStatsBase implements ToCopyableBuilder<Cach
         }
 
         if (ApiTypeHelper.isDefined(this.shards)) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.writeStartObject();
             for (Map.Entry<String, CacheShardStats> item0 : this.shards.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -128,7 +134,7 @@ public class CacheStats extends CacheStatsBase implements ToCopyableBuilder<Cach
         }
 
         if (this.storeName != null) {
-            generator.writeKey("store_name");
+            JsonpUtils.writeKey(generator, KEY_STORE_NAME);
             generator.write(this.storeName);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -139,34 +141,41 @@ public abstract class CacheStatsBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EVICTIONS = JsonpKey.of("evictions");
+    private static final JsonpKey KEY_HIT_COUNT = JsonpKey.of("hit_count");
+    private static final JsonpKey KEY_ITEM_COUNT = JsonpKey.of("item_count");
+    private static final JsonpKey KEY_MISS_COUNT = JsonpKey.of("miss_count");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.evictions != null) {
-            generator.writeKey("evictions");
+            JsonpUtils.writeKey(generator, KEY_EVICTIONS);
             generator.write(this.evictions);
         }
 
         if (this.hitCount != null) {
-            generator.writeKey("hit_count");
+            JsonpUtils.writeKey(generator, KEY_HIT_COUNT);
             generator.write(this.hitCount);
         }
 
         if (this.itemCount != null) {
-            generator.writeKey("item_count");
+            JsonpUtils.writeKey(generator, KEY_ITEM_COUNT);
             generator.write(this.itemCount);
         }
 
         if (this.missCount != null) {
-            generator.writeKey("miss_count");
+            JsonpUtils.writeKey(generator, KEY_MISS_COUNT);
             generator.write(this.missCount);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.sizeInBytes != null) {
-            generator.writeKey("size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
             generator.write(this.sizeInBytes);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,14 +107,17 @@ public class CgroupCpuAcctStats implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTROL_GROUP = JsonpKey.of("control_group");
+    private static final JsonpKey KEY_USAGE_NANOS = JsonpKey.of("usage_nanos");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.controlGroup != null) {
-            generator.writeKey("control_group");
+            JsonpUtils.writeKey(generator, KEY_CONTROL_GROUP);
             generator.write(this.controlGroup);
         }
 
         if (this.usageNanos != null) {
-            generator.writeKey("usage_nanos");
+            JsonpUtils.writeKey(generator, KEY_USAGE_NANOS);
             generator.write(this.usageNanos);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,19 +122,23 @@ public class CgroupCpuStat implements PlainJsonSerializable, ToCopyableBuilder<C
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NUMBER_OF_ELAPSED_PERIODS = JsonpKey.of("number_of_elapsed_periods");
+    private static final JsonpKey KEY_NUMBER_OF_TIMES_THROTTLED = JsonpKey.of("number_of_times_throttled");
+    private static final JsonpKey KEY_TIME_THROTTLED_NANOS = JsonpKey.of("time_throttled_nanos");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.numberOfElapsedPeriods != null) {
-            generator.writeKey("number_of_elapsed_periods");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_ELAPSED_PERIODS);
             generator.write(this.numberOfElapsedPeriods);
         }
 
         if (this.numberOfTimesThrottled != null) {
-            generator.writeKey("number_of_times_throttled");
+            JsonpUtils.writeKey(generator, KEY_NUMBER_OF_TIMES_THROTTLED);
             generator.write(this.numberOfTimesThrottled);
         }
 
         if (this.timeThrottledNanos != null) {
-            generator.writeKey("time_throttled_nanos");
+            JsonpUtils.writeKey(generator, KEY_TIME_THROTTLED_NANOS);
             generator.write(this.timeThrottledNanos);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,24 +139,29 @@ public class CgroupCpuStats implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CFS_PERIOD_MICROS = JsonpKey.of("cfs_period_micros");
+    private static final JsonpKey KEY_CFS_QUOTA_MICROS = JsonpKey.of("cfs_quota_micros");
+    private static final JsonpKey KEY_CONTROL_GROUP = JsonpKey.of("control_group");
+    private static final JsonpKey KEY_STAT = JsonpKey.of("stat");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cfsPeriodMicros != null) {
-            generator.writeKey("cfs_period_micros");
+            JsonpUtils.writeKey(generator, KEY_CFS_PERIOD_MICROS);
             generator.write(this.cfsPeriodMicros);
         }
 
         if (this.cfsQuotaMicros != null) {
-            generator.writeKey("cfs_quota_micros");
+            JsonpUtils.writeKey(generator, KEY_CFS_QUOTA_MICROS);
             generator.write(this.cfsQuotaMicros);
         }
 
         if (this.controlGroup != null) {
-            generator.writeKey("control_group");
+            JsonpUtils.writeKey(generator, KEY_CONTROL_GROUP);
             generator.write(this.controlGroup);
         }
 
         if (this.stat != null) {
-            generator.writeKey("stat");
+            JsonpUtils.writeKey(generator, KEY_STAT);
             this.stat.serialize(generator, mapper);
         }
     }
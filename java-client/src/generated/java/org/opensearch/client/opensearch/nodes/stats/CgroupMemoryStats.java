@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,19 +129,23 @@ public class CgroupMemoryStats implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTROL_GROUP = JsonpKey.of("control_group");
+    private static final JsonpKey KEY_LIMIT_IN_BYTES = JsonpKey.of("limit_in_bytes");
+    private static final JsonpKey KEY_USAGE_IN_BYTES = JsonpKey.of("usage_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.controlGroup != null) {
-            generator.writeKey("control_group");
+            JsonpUtils.writeKey(generator, KEY_CONTROL_GROUP);
             generator.write(this.controlGroup);
         }
 
         if (this.limitInBytes != null) {
-            generator.writeKey("limit_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_LIMIT_IN_BYTES);
             generator.write(this.limitInBytes);
         }
 
         if (this.usageInBytes != null) {
-            generator.writeKey("usage_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_USAGE_IN_BYTES);
             generator.write(this.usageInBytes);
         }
     }
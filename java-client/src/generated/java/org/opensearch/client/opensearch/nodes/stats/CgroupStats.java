@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class CgroupStats implements PlainJsonSerializable, ToCopyableBuilder<Cgr
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_CPUACCT = JsonpKey.of("cpuacct");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cpu != null) {
-            generator.writeKey("cpu");
+            JsonpUtils.writeKey(generator, KEY_CPU);
             this.cpu.serialize(generator, mapper);
         }
 
         if (this.cpuacct != null) {
-            generator.writeKey("cpuacct");
+            JsonpUtils.writeKey(generator, KEY_CPUACCT);
             this.cpuacct.serialize(generator, mapper);
         }
 
         if (this.memory != null) {
-            generator.writeKey("memory");
+            JsonpUtils.writeKey(generator, KEY_MEMORY);
             this.memory.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,19 +119,23 @@ public class ClusterStateOverallStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAILED_COUNT = JsonpKey.of("failed_count");
+    private static final JsonpKey KEY_TOTAL_TIME_IN_MILLIS = JsonpKey.of("total_time_in_millis");
+    private static final JsonpKey KEY_UPDATE_COUNT = JsonpKey.of("update_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.failedCount != null) {
-            generator.writeKey("failed_count");
+            JsonpUtils.writeKey(generator, KEY_FAILED_COUNT);
             generator.write(this.failedCount);
         }
 
         if (this.totalTimeInMillis != null) {
-            generator.writeKey("total_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_TIME_IN_MILLIS);
             generator.write(this.totalTimeInMillis);
         }
 
         if (this.updateCount != null) {
-            generator.writeKey("update_count");
+            JsonpUtils.writeKey(generator, KEY_UPDATE_COUNT);
             generator.write(this.updateCount);
         }
     }
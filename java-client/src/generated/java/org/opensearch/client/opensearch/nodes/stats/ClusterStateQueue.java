@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class ClusterStateQueue implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMMITTED = JsonpKey.of("committed");
+    private static final JsonpKey KEY_PENDING = JsonpKey.of("pending");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.committed != null) {
-            generator.writeKey("committed");
+            JsonpUtils.writeKey(generator, KEY_COMMITTED);
             generator.write(this.committed);
         }
 
         if (this.pending != null) {
-            generator.writeKey("pending");
+            JsonpUtils.writeKey(generator, KEY_PENDING);
             generator.write(this.pending);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
     }
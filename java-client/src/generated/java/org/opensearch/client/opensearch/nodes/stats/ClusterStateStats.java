@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -90,9 +92,11 @@ public class ClusterStateStats implements PlainJsonSerializable, ToCopyableBuild
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_OVERALL = JsonpKey.of("overall");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.overall != null) {
-            generator.writeKey("overall");
+            JsonpUtils.writeKey(generator, KEY_OVERALL);
             this.overall.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class Discovery implements PlainJsonSerializable, ToCopyableBuilder<Disco
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLUSTER_STATE_QUEUE = JsonpKey.of("cluster_state_queue");
+    private static final JsonpKey KEY_CLUSTER_STATE_STATS = JsonpKey.of("cluster_state_stats");
+    private static final JsonpKey KEY_PUBLISHED_CLUSTER_STATES = JsonpKey.of("published_cluster_states");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.clusterStateQueue != null) {
-            generator.writeKey("cluster_state_queue");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_STATE_QUEUE);
             this.clusterStateQueue.serialize(generator, mapper);
         }
 
         if (this.clusterStateStats != null) {
-            generator.writeKey("cluster_state_stats");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_STATE_STATS);
             this.clusterStateStats.serialize(generator, mapper);
         }
 
         if (this.publishedClusterStates != null) {
-            generator.writeKey("published_cluster_states");
+            JsonpUtils.writeKey(generator, KEY_PUBLISHED_CLUSTER_STATES);
             this.publishedClusterStates.serialize(generator, mapper);
         }
     }
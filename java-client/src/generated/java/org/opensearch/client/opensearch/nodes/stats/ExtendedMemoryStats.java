@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.CopyableBuilder;
@@ -97,15 +99,18 @@ public class ExtendedMemoryStats extends MemoryStatsBase implements ToCopyableBu
         return this.usedPercent;
     }
 
+    private static final JsonpKey KEY_FREE_PERCENT = JsonpKey.of("free_percent");
+    private static final JsonpKey KEY_USED_PERCENT = JsonpKey.of("used_percent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (this.freePercent != null) {
-            generator.writeKey("free_percent");
+            JsonpUtils.writeKey(generator, KEY_FREE_PERCENT);
             generator.write(this.freePercent);
         }
 
         if (this.usedPercent != null) {
-            generator.writeKey("used_percent");
+            JsonpUtils.writeKey(generator, KEY_USED_PERCENT);
             generator.write(this.usedPercent);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -134,9 +136,14 @@ public class FileSystem implements PlainJsonSerializable, ToCopyableBuilder<File
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATA = JsonpKey.of("data");
+    private static final JsonpKey KEY_IO_STATS = JsonpKey.of("io_stats");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.data)) {
-            generator.writeKey("data");
+            JsonpUtils.writeKey(generator, KEY_DATA);
             generator.writeStartArray();
             for (DataPathStats item0 : this.data) {
                 item0.serialize(generator, mapper);
@@ -145,17 +152,17 @@ public class FileSystem implements PlainJsonSerializable, ToCopyableBuilder<File
         }
 
         if (this.ioStats != null) {
-            generator.writeKey("io_stats");
+            JsonpUtils.writeKey(generator, KEY_IO_STATS);
             this.ioStats.serialize(generator, mapper);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
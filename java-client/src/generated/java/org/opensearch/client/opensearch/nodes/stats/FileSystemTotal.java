@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -200,44 +202,53 @@ public class FileSystemTotal implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AVAILABLE = JsonpKey.of("available");
+    private static final JsonpKey KEY_AVAILABLE_IN_BYTES = JsonpKey.of("available_in_bytes");
+    private static final JsonpKey KEY_CACHE_RESERVED = JsonpKey.of("cache_reserved");
+    private static final JsonpKey KEY_CACHE_RESERVED_IN_BYTES = JsonpKey.of("cache_reserved_in_bytes");
+    private static final JsonpKey KEY_FREE = JsonpKey.of("free");
+    private static final JsonpKey KEY_FREE_IN_BYTES = JsonpKey.of("free_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_IN_BYTES = JsonpKey.of("total_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.available != null) {
-            generator.writeKey("available");
+            JsonpUtils.writeKey(generator, KEY_AVAILABLE);
             generator.write(this.available);
         }
 
         if (this.availableInBytes != null) {
-            generator.writeKey("available_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_AVAILABLE_IN_BYTES);
             generator.write(this.availableInBytes);
         }
 
         if (this.cacheReserved != null) {
-            generator.writeKey("cache_reserved");
+            JsonpUtils.writeKey(generator, KEY_CACHE_RESERVED);
             generator.write(this.cacheReserved);
         }
 
         if (this.cacheReservedInBytes != null) {
-            generator.writeKey("cache_reserved_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_CACHE_RESERVED_IN_BYTES);
             generator.write(this.cacheReservedInBytes);
         }
 
         if (this.free != null) {
-            generator.writeKey("free");
+            JsonpUtils.writeKey(generator, KEY_FREE);
             generator.write(this.free);
         }
 
         if (this.freeInBytes != null) {
-            generator.writeKey("free_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_FREE_IN_BYTES);
             generator.write(this.freeInBytes);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
         if (this.totalInBytes != null) {
-            generator.writeKey("total_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_IN_BYTES);
             generator.write(this.totalInBytes);
         }
     }
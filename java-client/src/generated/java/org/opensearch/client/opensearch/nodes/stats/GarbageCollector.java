@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,9 +97,11 @@ public class GarbageCollector implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLECTORS = JsonpKey.of("collectors");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.collectors)) {
-            generator.writeKey("collectors");
+            JsonpUtils.writeKey(generator, KEY_COLLECTORS);
             generator.writeStartObject();
             for (Map.Entry<String, GarbageCollectorTotal> item0 : this.collectors.entrySet()) {
                 generator.writeKey(item0.getKey());
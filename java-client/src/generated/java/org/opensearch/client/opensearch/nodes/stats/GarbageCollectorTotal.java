@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -127,19 +129,23 @@ public class GarbageCollectorTotal
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COLLECTION_COUNT = JsonpKey.of("collection_count");
+    private static final JsonpKey KEY_COLLECTION_TIME = JsonpKey.of("collection_time");
+    private static final JsonpKey KEY_COLLECTION_TIME_IN_MILLIS = JsonpKey.of("collection_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.collectionCount != null) {
-            generator.writeKey("collection_count");
+            JsonpUtils.writeKey(generator, KEY_COLLECTION_COUNT);
             generator.write(this.collectionCount);
         }
 
         if (this.collectionTime != null) {
-            generator.writeKey("collection_time");
+            JsonpUtils.writeKey(generator, KEY_COLLECTION_TIME);
             this.collectionTime.serialize(generator, mapper);
         }
 
         if (this.collectionTimeInMillis != null) {
-            generator.writeKey("collection_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_COLLECTION_TIME_IN_MILLIS);
             generator.write(this.collectionTimeInMillis);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,14 +110,17 @@ public class Http implements PlainJsonSerializable, ToCopyableBuilder<Http.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_OPEN = JsonpKey.of("current_open");
+    private static final JsonpKey KEY_TOTAL_OPENED = JsonpKey.of("total_opened");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.currentOpen != null) {
-            generator.writeKey("current_open");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_OPEN);
             generator.write(this.currentOpen);
         }
 
         if (this.totalOpened != null) {
-            generator.writeKey("total_opened");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_OPENED);
             generator.write(this.totalOpened);
         }
     }
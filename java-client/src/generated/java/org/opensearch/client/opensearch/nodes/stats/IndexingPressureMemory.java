@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -132,24 +134,29 @@ public class IndexingPressureMemory
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_LIMIT = JsonpKey.of("limit");
+    private static final JsonpKey KEY_LIMIT_IN_BYTES = JsonpKey.of("limit_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.current != null) {
-            generator.writeKey("current");
+            JsonpUtils.writeKey(generator, KEY_CURRENT);
             this.current.serialize(generator, mapper);
         }
 
         if (this.limit != null) {
-            generator.writeKey("limit");
+            JsonpUtils.writeKey(generator, KEY_LIMIT);
             generator.write(this.limit);
         }
 
         if (this.limitInBytes != null) {
-            generator.writeKey("limit_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_LIMIT_IN_BYTES);
             generator.write(this.limitInBytes);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,9 +109,12 @@ public class Ingest implements PlainJsonSerializable, ToCopyableBuilder<Ingest.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIPELINES = JsonpKey.of("pipelines");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.pipelines)) {
-            generator.writeKey("pipelines");
+            JsonpUtils.writeKey(generator, KEY_PIPELINES);
             generator.writeStartObject();
             for (Map.Entry<String, IngestTotal> item0 : this.pipelines.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -119,7 +124,7 @@ public class Ingest implements PlainJsonSerializable, ToCopyableBuilder<Ingest.B
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,24 +168,31 @@ public class IngestTotal implements PlainJsonSerializable, ToCopyableBuilder<Ing
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_CURRENT = JsonpKey.of("current");
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_PROCESSORS = JsonpKey.of("processors");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TIME_IN_MILLIS = JsonpKey.of("time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.current != null) {
-            generator.writeKey("current");
+            JsonpUtils.writeKey(generator, KEY_CURRENT);
             generator.write(this.current);
         }
 
         if (this.failed != null) {
-            generator.writeKey("failed");
+            JsonpUtils.writeKey(generator, KEY_FAILED);
             generator.write(this.failed);
         }
 
         if (ApiTypeHelper.isDefined(this.processors)) {
-            generator.writeKey("processors");
+            JsonpUtils.writeKey(generator, KEY_PROCESSORS);
             generator.writeStartArray();
             for (Map<String, KeyedProcessor> item0 : this.processors) {
                 generator.writeStartObject();
@@ -199,12 +208,12 @@ public class IngestTotal implements PlainJsonSerializable, ToCopyableBuilder<Ing
         }
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
         if (this.timeInMillis != null) {
-            generator.writeKey("time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_MILLIS);
             generator.write(this.timeInMillis);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -216,54 +218,65 @@ public class IoStatDevice implements PlainJsonSerializable, ToCopyableBuilder<Io
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEVICE_NAME = JsonpKey.of("device_name");
+    private static final JsonpKey KEY_IO_TIME_IN_MILLIS = JsonpKey.of("io_time_in_millis");
+    private static final JsonpKey KEY_OPERATIONS = JsonpKey.of("operations");
+    private static final JsonpKey KEY_QUEUE_SIZE = JsonpKey.of("queue_size");
+    private static final JsonpKey KEY_READ_KILOBYTES = JsonpKey.of("read_kilobytes");
+    private static final JsonpKey KEY_READ_OPERATIONS = JsonpKey.of("read_operations");
+    private static final JsonpKey KEY_READ_TIME = JsonpKey.of("read_time");
+    private static final JsonpKey KEY_WRITE_KILOBYTES = JsonpKey.of("write_kilobytes");
+    private static final JsonpKey KEY_WRITE_OPERATIONS = JsonpKey.of("write_operations");
+    private static final JsonpKey KEY_WRITE_TIME = JsonpKey.of("write_time");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.deviceName != null) {
-            generator.writeKey("device_name");
+            JsonpUtils.writeKey(generator, KEY_DEVICE_NAME);
             generator.write(this.deviceName);
         }
 
         if (this.ioTimeInMillis != null) {
-            generator.writeKey("io_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_IO_TIME_IN_MILLIS);
             generator.write(this.ioTimeInMillis);
         }
 
         if (this.operations != null) {
-            generator.writeKey("operations");
+            JsonpUtils.writeKey(generator, KEY_OPERATIONS);
             generator.write(this.operations);
         }
 
         if (this.queueSize != null) {
-            generator.writeKey("queue_size");
+            JsonpUtils.writeKey(generator, KEY_QUEUE_SIZE);
             generator.write(this.queueSize);
         }
 
         if (this.readKilobytes != null) {
-            generator.writeKey("read_kilobytes");
+            JsonpUtils.writeKey(generator, KEY_READ_KILOBYTES);
             generator.write(this.readKilobytes);
         }
 
         if (this.readOperations != null) {
-            generator.writeKey("read_operations");
+            JsonpUtils.writeKey(generator, KEY_READ_OPERATIONS);
             generator.write(this.readOperations);
         }
 
         if (this.readTime != null) {
-            generator.writeKey("read_time");
+            JsonpUtils.writeKey(generator, KEY_READ_TIME);
             generator.write(this.readTime);
         }
 
         if (this.writeKilobytes != null) {
-            generator.writeKey("write_kilobytes");
+            JsonpUtils.writeKey(generator, KEY_WRITE_KILOBYTES);
             generator.write(this.writeKilobytes);
         }
 
         if (this.writeOperations != null) {
-            generator.writeKey("write_operations");
+            JsonpUtils.writeKey(generator, KEY_WRITE_OPERATIONS);
             generator.write(this.writeOperations);
         }
 
         if (this.writeTime != null) {
-            generator.writeKey("write_time");
+            JsonpUtils.writeKey(generator, KEY_WRITE_TIME);
             generator.write(this.writeTime);
         }
     }
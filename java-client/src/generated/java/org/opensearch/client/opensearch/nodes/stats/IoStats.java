@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -108,9 +110,12 @@ public class IoStats implements PlainJsonSerializable, ToCopyableBuilder<IoStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEVICES = JsonpKey.of("devices");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.devices)) {
-            generator.writeKey("devices");
+            JsonpUtils.writeKey(generator, KEY_DEVICES);
             generator.writeStartArray();
             for (IoStatDevice item0 : this.devices) {
                 item0.serialize(generator, mapper);
@@ -119,7 +124,7 @@ public class IoStats implements PlainJsonSerializable, ToCopyableBuilder<IoStats
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -189,9 +191,18 @@ public class Jvm implements PlainJsonSerializable, ToCopyableBuilder<Jvm.Builder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BUFFER_POOLS = JsonpKey.of("buffer_pools");
+    private static final JsonpKey KEY_CLASSES = JsonpKey.of("classes");
+    private static final JsonpKey KEY_GC = JsonpKey.of("gc");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_THREADS = JsonpKey.of("threads");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+    private static final JsonpKey KEY_UPTIME = JsonpKey.of("uptime");
+    private static final JsonpKey KEY_UPTIME_IN_MILLIS = JsonpKey.of("uptime_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.bufferPools)) {
-            generator.writeKey("buffer_pools");
+            JsonpUtils.writeKey(generator, KEY_BUFFER_POOLS);
             generator.writeStartObject();
             for (Map.Entry<String, NodeBufferPool> item0 : this.bufferPools.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -201,37 +212,37 @@ public class Jvm implements PlainJsonSerializable, ToCopyableBuilder<Jvm.Builder
         }
 
         if (this.classes != null) {
-            generator.writeKey("classes");
+            JsonpUtils.writeKey(generator, KEY_CLASSES);
             this.classes.serialize(generator, mapper);
         }
 
         if (this.gc != null) {
-            generator.writeKey("gc");
+            JsonpUtils.writeKey(generator, KEY_GC);
             this.gc.serialize(generator, mapper);
         }
 
         if (this.mem != null) {
-            generator.writeKey("mem");
+            JsonpUtils.writeKey(generator, KEY_MEM);
             this.mem.serialize(generator, mapper);
         }
 
         if (this.threads != null) {
-            generator.writeKey("threads");
+            JsonpUtils.writeKey(generator, KEY_THREADS);
             this.threads.serialize(generator, mapper);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
 
         if (this.uptime != null) {
-            generator.writeKey("uptime");
+            JsonpUtils.writeKey(generator, KEY_UPTIME);
             this.uptime.serialize(generator, mapper);
         }
 
         if (this.uptimeInMillis != null) {
-            generator.writeKey("uptime_in_millis");
+            JsonpUtils.writeKey(generator, KEY_UPTIME_IN_MILLIS);
             generator.write(this.uptimeInMillis);
         }
     }
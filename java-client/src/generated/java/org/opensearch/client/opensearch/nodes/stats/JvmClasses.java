@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -123,19 +125,23 @@ public class JvmClasses implements PlainJsonSerializable, ToCopyableBuilder<JvmC
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_LOADED_COUNT = JsonpKey.of("current_loaded_count");
+    private static final JsonpKey KEY_TOTAL_LOADED_COUNT = JsonpKey.of("total_loaded_count");
+    private static final JsonpKey KEY_TOTAL_UNLOADED_COUNT = JsonpKey.of("total_unloaded_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.currentLoadedCount != null) {
-            generator.writeKey("current_loaded_count");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_LOADED_COUNT);
             generator.write(this.currentLoadedCount);
         }
 
         if (this.totalLoadedCount != null) {
-            generator.writeKey("total_loaded_count");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_LOADED_COUNT);
             generator.write(this.totalLoadedCount);
         }
 
         if (this.totalUnloadedCount != null) {
-            generator.writeKey("total_unloaded_count");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_UNLOADED_COUNT);
             generator.write(this.totalUnloadedCount);
         }
     }
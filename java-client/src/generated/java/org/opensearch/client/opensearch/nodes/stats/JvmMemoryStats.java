@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -260,64 +262,77 @@ public class JvmMemoryStats implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HEAP_COMMITTED = JsonpKey.of("heap_committed");
+    private static final JsonpKey KEY_HEAP_COMMITTED_IN_BYTES = JsonpKey.of("heap_committed_in_bytes");
+    private static final JsonpKey KEY_HEAP_MAX = JsonpKey.of("heap_max");
+    private static final JsonpKey KEY_HEAP_MAX_IN_BYTES = JsonpKey.of("heap_max_in_bytes");
+    private static final JsonpKey KEY_HEAP_USED = JsonpKey.of("heap_used");
+    private static final JsonpKey KEY_HEAP_USED_IN_BYTES = JsonpKey.of("heap_used_in_bytes");
+    private static final JsonpKey KEY_HEAP_USED_PERCENT = JsonpKey.of("heap_used_percent");
+    private static final JsonpKey KEY_NON_HEAP_COMMITTED = JsonpKey.of("non_heap_committed");
+    private static final JsonpKey KEY_NON_HEAP_COMMITTED_IN_BYTES = JsonpKey.of("non_heap_committed_in_bytes");
+    private static final JsonpKey KEY_NON_HEAP_USED = JsonpKey.of("non_heap_used");
+    private static final JsonpKey KEY_NON_HEAP_USED_IN_BYTES = JsonpKey.of("non_heap_used_in_bytes");
+    private static final JsonpKey KEY_POOLS = JsonpKey.of("pools");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.heapCommitted != null) {
-            generator.writeKey("heap_committed");
+            JsonpUtils.writeKey(generator, KEY_HEAP_COMMITTED);
             generator.write(this.heapCommitted);
         }
 
         if (this.heapCommittedInBytes != null) {
-            generator.writeKey("heap_committed_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_HEAP_COMMITTED_IN_BYTES);
             generator.write(this.heapCommittedInBytes);
         }
 
         if (this.heapMax != null) {
-            generator.writeKey("heap_max");
+            JsonpUtils.writeKey(generator, KEY_HEAP_MAX);
             generator.write(this.heapMax);
         }
 
         if (this.heapMaxInBytes != null) {
-            generator.writeKey("heap_max_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_HEAP_MAX_IN_BYTES);
             generator.write(this.heapMaxInBytes);
         }
 
         if (this.heapUsed != null) {
-            generator.writeKey("heap_used");
+            JsonpUtils.writeKey(generator, KEY_HEAP_USED);
             generator.write(this.heapUsed);
         }
 
         if (this.heapUsedInBytes != null) {
-            generator.writeKey("heap_used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_HEAP_USED_IN_BYTES);
             generator.write(this.heapUsedInBytes);
         }
 
         if (this.heapUsedPercent != null) {
-            generator.writeKey("heap_used_percent");
+            JsonpUtils.writeKey(generator, KEY_HEAP_USED_PERCENT);
             generator.write(this.heapUsedPercent);
         }
 
         if (this.nonHeapCommitted != null) {
-            generator.writeKey("non_heap_committed");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_COMMITTED);
             generator.write(this.nonHeapCommitted);
         }
 
         if (this.nonHeapCommittedInBytes != null) {
-            generator.writeKey("non_heap_committed_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_COMMITTED_IN_BYTES);
             generator.write(this.nonHeapCommittedInBytes);
         }
 
         if (this.nonHeapUsed != null) {
-            generator.writeKey("non_heap_used");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_USED);
             generator.write(this.nonHeapUsed);
         }
 
         if (this.nonHeapUsedInBytes != null) {
-            generator.writeKey("non_heap_used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_NON_HEAP_USED_IN_BYTES);
             generator.write(this.nonHeapUsedInBytes);
         }
 
         if (ApiTypeHelper.isDefined(this.pools)) {
-            generator.writeKey("pools");
+            JsonpUtils.writeKey(generator, KEY_POOLS);
             generator.writeStartObject();
             for (Map.Entry<String, Pool> item0 : this.pools.entrySet()) {
                 generator.writeKey(item0.getKey());
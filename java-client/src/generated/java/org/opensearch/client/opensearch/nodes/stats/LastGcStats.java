@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,29 +140,35 @@ public class LastGcStats implements PlainJsonSerializable, ToCopyableBuilder<Las
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_IN_BYTES = JsonpKey.of("max_in_bytes");
+    private static final JsonpKey KEY_USAGE_PERCENT = JsonpKey.of("usage_percent");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_IN_BYTES = JsonpKey.of("used_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.maxInBytes != null) {
-            generator.writeKey("max_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MAX_IN_BYTES);
             generator.write(this.maxInBytes);
         }
 
         if (this.usagePercent != null) {
-            generator.writeKey("usage_percent");
+            JsonpUtils.writeKey(generator, KEY_USAGE_PERCENT);
             generator.write(this.usagePercent);
         }
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
         if (this.usedInBytes != null) {
-            generator.writeKey("used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_USED_IN_BYTES);
             generator.write(this.usedInBytes);
         }
     }
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ObjectBuilderBase;
@@ -157,34 +159,41 @@ public abstract class MemoryStatsBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FREE = JsonpKey.of("free");
+    private static final JsonpKey KEY_FREE_IN_BYTES = JsonpKey.of("free_in_bytes");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_TOTAL_IN_BYTES = JsonpKey.of("total_in_bytes");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_IN_BYTES = JsonpKey.of("used_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.free != null) {
-            generator.writeKey("free");
+            JsonpUtils.writeKey(generator, KEY_FREE);
             generator.write(this.free);
         }
 
         if (this.freeInBytes != null) {
-            generator.writeKey("free_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_FREE_IN_BYTES);
             generator.write(this.freeInBytes);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
         if (this.totalInBytes != null) {
-            generator.writeKey("total_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_IN_BYTES);
             generator.write(this.totalInBytes);
         }
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
         if (this.usedInBytes != null) {
-            generator.writeKey("used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_USED_IN_BYTES);
             generator.write(this.usedInBytes);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -153,29 +155,35 @@ public class NodeBufferPool implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COUNT = JsonpKey.of("count");
+    private static final JsonpKey KEY_TOTAL_CAPACITY = JsonpKey.of("total_capacity");
+    private static final JsonpKey KEY_TOTAL_CAPACITY_IN_BYTES = JsonpKey.of("total_capacity_in_bytes");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_IN_BYTES = JsonpKey.of("used_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.count != null) {
-            generator.writeKey("count");
+            JsonpUtils.writeKey(generator, KEY_COUNT);
             generator.write(this.count);
         }
 
         if (this.totalCapacity != null) {
-            generator.writeKey("total_capacity");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_CAPACITY);
             generator.write(this.totalCapacity);
         }
 
         if (this.totalCapacityInBytes != null) {
-            generator.writeKey("total_capacity_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_CAPACITY_IN_BYTES);
             generator.write(this.totalCapacityInBytes);
         }
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
         if (this.usedInBytes != null) {
-            generator.writeKey("used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_USED_IN_BYTES);
             generator.write(this.usedInBytes);
         }
     }
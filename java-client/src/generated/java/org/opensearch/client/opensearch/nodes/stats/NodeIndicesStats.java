@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.indices.stats.IndexStats;
@@ -96,10 +98,13 @@ public class NodeIndicesStats extends IndexStatsBase implements ToCopyableBuilde
         return this.shards;
     }
 
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartObject();
             for (Map.Entry<String, IndexStats> item0 : this.indices.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -109,7 +114,7 @@ public class NodeIndicesStats extends IndexStatsBase implements ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.shards)) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             generator.writeStartObject();
             for (Map.Entry<String, List<NodeIndexShardStats>> item0 : this.shards.entrySet()) {
                 generator.writeKey(item0.getKey());
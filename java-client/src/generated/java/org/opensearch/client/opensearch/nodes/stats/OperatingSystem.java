@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,29 +140,35 @@ public class OperatingSystem implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CGROUP = JsonpKey.of("cgroup");
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_SWAP = JsonpKey.of("swap");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cgroup != null) {
-            generator.writeKey("cgroup");
+            JsonpUtils.writeKey(generator, KEY_CGROUP);
             this.cgroup.serialize(generator, mapper);
         }
 
         if (this.cpu != null) {
-            generator.writeKey("cpu");
+            JsonpUtils.writeKey(generator, KEY_CPU);
             this.cpu.serialize(generator, mapper);
         }
 
         if (this.mem != null) {
-            generator.writeKey("mem");
+            JsonpUtils.writeKey(generator, KEY_MEM);
             this.mem.serialize(generator, mapper);
         }
 
         if (this.swap != null) {
-            generator.writeKey("swap");
+            JsonpUtils.writeKey(generator, KEY_SWAP);
             this.swap.serialize(generator, mapper);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
     }
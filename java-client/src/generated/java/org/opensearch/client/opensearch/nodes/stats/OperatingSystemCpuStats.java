@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,9 +109,12 @@ public class OperatingSystemCpuStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOAD_AVERAGE = JsonpKey.of("load_average");
+    private static final JsonpKey KEY_PERCENT = JsonpKey.of("percent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.loadAverage)) {
-            generator.writeKey("load_average");
+            JsonpUtils.writeKey(generator, KEY_LOAD_AVERAGE);
             generator.writeStartObject();
             for (Map.Entry<String, Double> item0 : this.loadAverage.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -119,7 +124,7 @@ public class OperatingSystemCpuStats
         }
 
         if (this.percent != null) {
-            generator.writeKey("percent");
+            JsonpUtils.writeKey(generator, KEY_PERCENT);
             generator.write(this.percent);
         }
     }
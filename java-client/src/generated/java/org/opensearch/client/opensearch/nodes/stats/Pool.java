@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -213,49 +215,59 @@ public class Pool implements PlainJsonSerializable, ToCopyableBuilder<Pool.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LAST_GC_STATS = JsonpKey.of("last_gc_stats");
+    private static final JsonpKey KEY_MAX = JsonpKey.of("max");
+    private static final JsonpKey KEY_MAX_IN_BYTES = JsonpKey.of("max_in_bytes");
+    private static final JsonpKey KEY_PEAK_MAX = JsonpKey.of("peak_max");
+    private static final JsonpKey KEY_PEAK_MAX_IN_BYTES = JsonpKey.of("peak_max_in_bytes");
+    private static final JsonpKey KEY_PEAK_USED = JsonpKey.of("peak_used");
+    private static final JsonpKey KEY_PEAK_USED_IN_BYTES = JsonpKey.of("peak_used_in_bytes");
+    private static final JsonpKey KEY_USED = JsonpKey.of("used");
+    private static final JsonpKey KEY_USED_IN_BYTES = JsonpKey.of("used_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.lastGcStats != null) {
-            generator.writeKey("last_gc_stats");
+            JsonpUtils.writeKey(generator, KEY_LAST_GC_STATS);
             this.lastGcStats.serialize(generator, mapper);
         }
 
         if (this.max != null) {
-            generator.writeKey("max");
+            JsonpUtils.writeKey(generator, KEY_MAX);
             generator.write(this.max);
         }
 
         if (this.maxInBytes != null) {
-            generator.writeKey("max_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_MAX_IN_BYTES);
             generator.write(this.maxInBytes);
         }
 
         if (this.peakMax != null) {
-            generator.writeKey("peak_max");
+            JsonpUtils.writeKey(generator, KEY_PEAK_MAX);
             generator.write(this.peakMax);
         }
 
         if (this.peakMaxInBytes != null) {
-            generator.writeKey("peak_max_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_PEAK_MAX_IN_BYTES);
             generator.write(this.peakMaxInBytes);
         }
 
         if (this.peakUsed != null) {
-            generator.writeKey("peak_used");
+            JsonpUtils.writeKey(generator, KEY_PEAK_USED);
             generator.write(this.peakUsed);
         }
 
         if (this.peakUsedInBytes != null) {
-            generator.writeKey("peak_used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_PEAK_USED_IN_BYTES);
             generator.write(this.peakUsedInBytes);
         }
 
         if (this.used != null) {
-            generator.writeKey("used");
+            JsonpUtils.writeKey(generator, KEY_USED);
             generator.write(this.used);
         }
 
         if (this.usedInBytes != null) {
-            generator.writeKey("used_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_USED_IN_BYTES);
             generator.write(this.usedInBytes);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -147,29 +149,35 @@ public class Process implements PlainJsonSerializable, ToCopyableBuilder<Process
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU = JsonpKey.of("cpu");
+    private static final JsonpKey KEY_MAX_FILE_DESCRIPTORS = JsonpKey.of("max_file_descriptors");
+    private static final JsonpKey KEY_MEM = JsonpKey.of("mem");
+    private static final JsonpKey KEY_OPEN_FILE_DESCRIPTORS = JsonpKey.of("open_file_descriptors");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cpu != null) {
-            generator.writeKey("cpu");
+            JsonpUtils.writeKey(generator, KEY_CPU);
             this.cpu.serialize(generator, mapper);
         }
 
         if (this.maxFileDescriptors != null) {
-            generator.writeKey("max_file_descriptors");
+            JsonpUtils.writeKey(generator, KEY_MAX_FILE_DESCRIPTORS);
             generator.write(this.maxFileDescriptors);
         }
 
         if (this.mem != null) {
-            generator.writeKey("mem");
+            JsonpUtils.writeKey(generator, KEY_MEM);
             this.mem.serialize(generator, mapper);
         }
 
         if (this.openFileDescriptors != null) {
-            generator.writeKey("open_file_descriptors");
+            JsonpUtils.writeKey(generator, KEY_OPEN_FILE_DESCRIPTORS);
             generator.write(this.openFileDescriptors);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,14 +104,17 @@ public class ProcessMemoryStats implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_VIRTUAL = JsonpKey.of("total_virtual");
+    private static final JsonpKey KEY_TOTAL_VIRTUAL_IN_BYTES = JsonpKey.of("total_virtual_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.totalVirtual != null) {
-            generator.writeKey("total_virtual");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_VIRTUAL);
             generator.write(this.totalVirtual);
         }
 
         if (this.totalVirtualInBytes != null) {
-            generator.writeKey("total_virtual_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_VIRTUAL_IN_BYTES);
             generator.write(this.totalVirtualInBytes);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,19 +128,23 @@ public class PublishedClusterStates
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPATIBLE_DIFFS = JsonpKey.of("compatible_diffs");
+    private static final JsonpKey KEY_FULL_STATES = JsonpKey.of("full_states");
+    private static final JsonpKey KEY_INCOMPATIBLE_DIFFS = JsonpKey.of("incompatible_diffs");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.compatibleDiffs != null) {
-            generator.writeKey("compatible_diffs");
+            JsonpUtils.writeKey(generator, KEY_COMPATIBLE_DIFFS);
             generator.write(this.compatibleDiffs);
         }
 
         if (this.fullStates != null) {
-            generator.writeKey("full_states");
+            JsonpUtils.writeKey(generator, KEY_FULL_STATES);
             generator.write(this.fullStates);
         }
 
         if (this.incompatibleDiffs != null) {
-            generator.writeKey("incompatible_diffs");
+            JsonpUtils.writeKey(generator, KEY_INCOMPATIBLE_DIFFS);
             generator.write(this.incompatibleDiffs);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,9 +95,13 @@ public class RemoteStoreStats implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LAST_SUCCESSFUL_FETCH_OF_PINNED_TIMESTAMPS = JsonpKey.of(
+        "last_successful_fetch_of_pinned_timestamps"
+    );
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.lastSuccessfulFetchOfPinnedTimestamps != null) {
-            generator.writeKey("last_successful_fetch_of_pinned_timestamps");
+            JsonpUtils.writeKey(generator, KEY_LAST_SUCCESSFUL_FETCH_OF_PINNED_TIMESTAMPS);
             generator.write(this.lastSuccessfulFetchOfPinnedTimestamps);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -206,9 +208,18 @@ public class RepositoryStatsSnapshot
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_REPOSITORY_LOCATION = JsonpKey.of("repository_location");
+    private static final JsonpKey KEY_REPOSITORY_NAME = JsonpKey.of("repository_name");
+    private static final JsonpKey KEY_REPOSITORY_TYPE = JsonpKey.of("repository_type");
+    private static final JsonpKey KEY_REQUEST_COUNTS = JsonpKey.of("request_counts");
+    private static final JsonpKey KEY_REQUEST_FAILURES_TOTAL = JsonpKey.of("request_failures_total");
+    private static final JsonpKey KEY_REQUEST_RETRY_COUNT_TOTAL = JsonpKey.of("request_retry_count_total");
+    private static final JsonpKey KEY_REQUEST_SUCCESS_TOTAL = JsonpKey.of("request_success_total");
+    private static final JsonpKey KEY_REQUEST_TIME_IN_MILLIS = JsonpKey.of("request_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.repositoryLocation)) {
-            generator.writeKey("repository_location");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY_LOCATION);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.repositoryLocation.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -218,17 +229,17 @@ public class RepositoryStatsSnapshot
         }
 
         if (this.repositoryName != null) {
-            generator.writeKey("repository_name");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY_NAME);
             generator.write(this.repositoryName);
         }
 
         if (this.repositoryType != null) {
-            generator.writeKey("repository_type");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY_TYPE);
             generator.write(this.repositoryType);
         }
 
         if (ApiTypeHelper.isDefined(this.requestCounts)) {
-            generator.writeKey("request_counts");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_COUNTS);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.requestCounts.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -238,7 +249,7 @@ public class RepositoryStatsSnapshot
         }
 
         if (ApiTypeHelper.isDefined(this.requestFailuresTotal)) {
-            generator.writeKey("request_failures_total");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_FAILURES_TOTAL);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.requestFailuresTotal.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -248,7 +259,7 @@ public class RepositoryStatsSnapshot
         }
 
         if (ApiTypeHelper.isDefined(this.requestRetryCountTotal)) {
-            generator.writeKey("request_retry_count_total");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_RETRY_COUNT_TOTAL);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.requestRetryCountTotal.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -258,7 +269,7 @@ public class RepositoryStatsSnapshot
         }
 
         if (ApiTypeHelper.isDefined(this.requestSuccessTotal)) {
-            generator.writeKey("request_success_total");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_SUCCESS_TOTAL);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.requestSuccessTotal.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -268,7 +279,7 @@ public class RepositoryStatsSnapshot
         }
 
         if (ApiTypeHelper.isDefined(this.requestTimeInMillis)) {
-            generator.writeKey("request_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_TIME_IN_MILLIS);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.requestTimeInMillis.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,9 +106,12 @@ public class ScriptCacheStats implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXTS = JsonpKey.of("contexts");
+    private static final JsonpKey KEY_SUM = JsonpKey.of("sum");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.contexts)) {
-            generator.writeKey("contexts");
+            JsonpUtils.writeKey(generator, KEY_CONTEXTS);
             generator.writeStartArray();
             for (ScriptContextStats item0 : this.contexts) {
                 item0.serialize(generator, mapper);
@@ -114,7 +119,7 @@ public class ScriptCacheStats implements PlainJsonSerializable, ToCopyableBuilde
             generator.writeEnd();
         }
 
-        generator.writeKey("sum");
+        JsonpUtils.writeKey(generator, KEY_SUM);
         this.sum.serialize(generator, mapper);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -78,9 +80,11 @@ public class ScriptContextStats extends ScriptStatsBase implements ToCopyableBui
         return this.context;
     }
 
+    private static final JsonpKey KEY_CONTEXT = JsonpKey.of("context");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("context");
+        JsonpUtils.writeKey(generator, KEY_CONTEXT);
         generator.write(this.context);
     }
 
@@ -40,7 +40,9 @@ import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -105,14 +107,18 @@ public abstract class ScriptStatsBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CACHE_EVICTIONS = JsonpKey.of("cache_evictions");
+    private static final JsonpKey KEY_COMPILATION_LIMIT_TRIGGERED = JsonpKey.of("compilation_limit_triggered");
+    private static final JsonpKey KEY_COMPILATIONS = JsonpKey.of("compilations");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("cache_evictions");
+        JsonpUtils.writeKey(generator, KEY_CACHE_EVICTIONS);
         generator.write(this.cacheEvictions);
 
-        generator.writeKey("compilation_limit_triggered");
+        JsonpUtils.writeKey(generator, KEY_COMPILATION_LIMIT_TRIGGERED);
         generator.write(this.compilationLimitTriggered);
 
-        generator.writeKey("compilations");
+        JsonpUtils.writeKey(generator, KEY_COMPILATIONS);
         generator.write(this.compilations);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,17 @@ public class ShardAdmissionControlStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_GLOBAL_CPU_USAGE = JsonpKey.of("global_cpu_usage");
+    private static final JsonpKey KEY_GLOBAL_IO_USAGE = JsonpKey.of("global_io_usage");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.globalCpuUsage != null) {
-            generator.writeKey("global_cpu_usage");
+            JsonpUtils.writeKey(generator, KEY_GLOBAL_CPU_USAGE);
             this.globalCpuUsage.serialize(generator, mapper);
         }
 
         if (this.globalIoUsage != null) {
-            generator.writeKey("global_io_usage");
+            JsonpUtils.writeKey(generator, KEY_GLOBAL_IO_USAGE);
             this.globalIoUsage.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,9 +97,11 @@ public class ShardClusterManagerThrottlingStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.stats != null) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             this.stats.serialize(generator, mapper);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,8 +111,11 @@ public class ShardClusterManagerThrottlingStatsDetail
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_THROTTLED_TASKS_PER_TASK_TYPE = JsonpKey.of("throttled_tasks_per_task_type");
+    private static final JsonpKey KEY_TOTAL_THROTTLED_TASKS = JsonpKey.of("total_throttled_tasks");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("throttled_tasks_per_task_type");
+        JsonpUtils.writeKey(generator, KEY_THROTTLED_TASKS_PER_TASK_TYPE);
         generator.writeStartObject();
         for (Map.Entry<String, Long> item0 : this.throttledTasksPerTaskType.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -118,7 +123,7 @@ public class ShardClusterManagerThrottlingStatsDetail
         }
         generator.writeEnd();
 
-        generator.writeKey("total_throttled_tasks");
+        JsonpUtils.writeKey(generator, KEY_TOTAL_THROTTLED_TASKS);
         generator.write(this.totalThrottledTasks);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,23 +144,30 @@ public class ShardIndexingPressurePerShardIndexingStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATING_COUNT = JsonpKey.of("coordinating_count");
+    private static final JsonpKey KEY_COORDINATING_TIME_IN_MILLIS = JsonpKey.of("coordinating_time_in_millis");
+    private static final JsonpKey KEY_PRIMARY_COUNT = JsonpKey.of("primary_count");
+    private static final JsonpKey KEY_PRIMARY_TIME_IN_MILLIS = JsonpKey.of("primary_time_in_millis");
+    private static final JsonpKey KEY_REPLICA_COUNT = JsonpKey.of("replica_count");
+    private static final JsonpKey KEY_REPLICA_TIME_IN_MILLIS = JsonpKey.of("replica_time_in_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("coordinating_count");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_COUNT);
         generator.write(this.coordinatingCount);
 
-        generator.writeKey("coordinating_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_TIME_IN_MILLIS);
         generator.write(this.coordinatingTimeInMillis);
 
-        generator.writeKey("primary_count");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_COUNT);
         generator.write(this.primaryCount);
 
-        generator.writeKey("primary_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_TIME_IN_MILLIS);
         generator.write(this.primaryTimeInMillis);
 
-        generator.writeKey("replica_count");
+        JsonpUtils.writeKey(generator, KEY_REPLICA_COUNT);
         generator.write(this.replicaCount);
 
-        generator.writeKey("replica_time_in_millis");
+        JsonpUtils.writeKey(generator, KEY_REPLICA_TIME_IN_MILLIS);
         generator.write(this.replicaTimeInMillis);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,14 +130,24 @@ public class ShardIndexingPressurePerShardLastSuccessfulTimestamp
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATING_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS = JsonpKey.of(
+        "coordinating_last_successful_request_timestamp_in_millis"
+    );
+    private static final JsonpKey KEY_PRIMARY_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS = JsonpKey.of(
+        "primary_last_successful_request_timestamp_in_millis"
+    );
+    private static final JsonpKey KEY_REPLICA_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS = JsonpKey.of(
+        "replica_last_successful_request_timestamp_in_millis"
+    );
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("coordinating_last_successful_request_timestamp_in_millis");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS);
         generator.write(this.coordinatingLastSuccessfulRequestTimestampInMillis);
 
-        generator.writeKey("primary_last_successful_request_timestamp_in_millis");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS);
         generator.write(this.primaryLastSuccessfulRequestTimestampInMillis);
 
-        generator.writeKey("replica_last_successful_request_timestamp_in_millis");
+        JsonpUtils.writeKey(generator, KEY_REPLICA_LAST_SUCCESSFUL_REQUEST_TIMESTAMP_IN_MILLIS);
         generator.write(this.replicaLastSuccessfulRequestTimestampInMillis);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,11 +116,16 @@ public class ShardIndexingPressurePerShardMemoryAllocationLimitStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_COORDINATING_AND_PRIMARY_LIMITS_IN_BYTES = JsonpKey.of(
+        "current_coordinating_and_primary_limits_in_bytes"
+    );
+    private static final JsonpKey KEY_CURRENT_REPLICA_LIMITS_IN_BYTES = JsonpKey.of("current_replica_limits_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current_coordinating_and_primary_limits_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_COORDINATING_AND_PRIMARY_LIMITS_IN_BYTES);
         generator.write(this.currentCoordinatingAndPrimaryLimitsInBytes);
 
-        generator.writeKey("current_replica_limits_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_REPLICA_LIMITS_IN_BYTES);
         generator.write(this.currentReplicaLimitsInBytes);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -150,29 +152,36 @@ public class ShardIndexingPressurePerShardMemoryStatsDetails
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATING = JsonpKey.of("coordinating");
+    private static final JsonpKey KEY_COORDINATING_IN_BYTES = JsonpKey.of("coordinating_in_bytes");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_PRIMARY_IN_BYTES = JsonpKey.of("primary_in_bytes");
+    private static final JsonpKey KEY_REPLICA = JsonpKey.of("replica");
+    private static final JsonpKey KEY_REPLICA_IN_BYTES = JsonpKey.of("replica_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.coordinating != null) {
-            generator.writeKey("coordinating");
+            JsonpUtils.writeKey(generator, KEY_COORDINATING);
             generator.write(this.coordinating);
         }
 
-        generator.writeKey("coordinating_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_IN_BYTES);
         generator.write(this.coordinatingInBytes);
 
         if (this.primary != null) {
-            generator.writeKey("primary");
+            JsonpUtils.writeKey(generator, KEY_PRIMARY);
             generator.write(this.primary);
         }
 
-        generator.writeKey("primary_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_IN_BYTES);
         generator.write(this.primaryInBytes);
 
         if (this.replica != null) {
-            generator.writeKey("replica");
+            JsonpUtils.writeKey(generator, KEY_REPLICA);
             generator.write(this.replica);
         }
 
-        generator.writeKey("replica_in_bytes");
+        JsonpUtils.writeKey(generator, KEY_REPLICA_IN_BYTES);
         generator.write(this.replicaInBytes);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,18 +124,22 @@ public class ShardIndexingPressurePerShardRejectionCoordinatingStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BREAKUP = JsonpKey.of("breakup");
+    private static final JsonpKey KEY_BREAKUP_SHADOW_MODE = JsonpKey.of("breakup_shadow_mode");
+    private static final JsonpKey KEY_COORDINATING_REJECTIONS = JsonpKey.of("coordinating_rejections");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.breakup != null) {
-            generator.writeKey("breakup");
+            JsonpUtils.writeKey(generator, KEY_BREAKUP);
             this.breakup.serialize(generator, mapper);
         }
 
         if (this.breakupShadowMode != null) {
-            generator.writeKey("breakup_shadow_mode");
+            JsonpUtils.writeKey(generator, KEY_BREAKUP_SHADOW_MODE);
             this.breakupShadowMode.serialize(generator, mapper);
         }
 
-        generator.writeKey("coordinating_rejections");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING_REJECTIONS);
         generator.write(this.coordinatingRejections);
     }
 
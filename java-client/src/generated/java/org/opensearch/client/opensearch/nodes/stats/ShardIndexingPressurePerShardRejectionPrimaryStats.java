@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -120,18 +122,22 @@ public class ShardIndexingPressurePerShardRejectionPrimaryStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BREAKUP = JsonpKey.of("breakup");
+    private static final JsonpKey KEY_BREAKUP_SHADOW_MODE = JsonpKey.of("breakup_shadow_mode");
+    private static final JsonpKey KEY_PRIMARY_REJECTIONS = JsonpKey.of("primary_rejections");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.breakup != null) {
-            generator.writeKey("breakup");
+            JsonpUtils.writeKey(generator, KEY_BREAKUP);
             this.breakup.serialize(generator, mapper);
         }
 
         if (this.breakupShadowMode != null) {
-            generator.writeKey("breakup_shadow_mode");
+            JsonpUtils.writeKey(generator, KEY_BREAKUP_SHADOW_MODE);
             this.breakupShadowMode.serialize(generator, mapper);
         }
 
-        generator.writeKey("primary_rejections");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY_REJECTIONS);
         generator.write(this.primaryRejections);
     }
 
@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -118,14 +120,18 @@ public class ShardIndexingPressurePerShardRejectionStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COORDINATING = JsonpKey.of("coordinating");
+    private static final JsonpKey KEY_PRIMARY = JsonpKey.of("primary");
+    private static final JsonpKey KEY_REPLICA = JsonpKey.of("replica");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("coordinating");
+        JsonpUtils.writeKey(generator, KEY_COORDINATING);
         this.coordinating.serialize(generator, mapper);
 
-        generator.writeKey("primary");
+        JsonpUtils.writeKey(generator, KEY_PRIMARY);
         this.primary.serialize(generator, mapper);
 
-        generator.writeKey("replica");
+        JsonpUtils.writeKey(generator, KEY_REPLICA);
         this.replica.serialize(generator, mapper);
     }
 
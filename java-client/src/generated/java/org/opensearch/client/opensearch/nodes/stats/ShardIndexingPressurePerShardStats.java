@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,20 +144,26 @@ public class ShardIndexingPressurePerShardStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INDEXING = JsonpKey.of("indexing");
+    private static final JsonpKey KEY_LAST_SUCCESSFUL_TIMESTAMP = JsonpKey.of("last_successful_timestamp");
+    private static final JsonpKey KEY_MEMORY = JsonpKey.of("memory");
+    private static final JsonpKey KEY_MEMORY_ALLOCATION = JsonpKey.of("memory_allocation");
+    private static final JsonpKey KEY_REJECTION = JsonpKey.of("rejection");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("indexing");
+        JsonpUtils.writeKey(generator, KEY_INDEXING);
         this.indexing.serialize(generator, mapper);
 
-        generator.writeKey("last_successful_timestamp");
+        JsonpUtils.writeKey(generator, KEY_LAST_SUCCESSFUL_TIMESTAMP);
         this.lastSuccessfulTimestamp.serialize(generator, mapper);
 
-        generator.writeKey("memory");
+        JsonpUtils.writeKey(generator, KEY_MEMORY);
         this.memory.serialize(generator, mapper);
 
-        generator.writeKey("memory_allocation");
+        JsonpUtils.writeKey(generator, KEY_MEMORY_ALLOCATION);
         this.memoryAllocation.serialize(generator, mapper);
 
-        generator.writeKey("rejection");
+        JsonpUtils.writeKey(generator, KEY_REJECTION);
         this.rejection.serialize(generator, mapper);
     }
 
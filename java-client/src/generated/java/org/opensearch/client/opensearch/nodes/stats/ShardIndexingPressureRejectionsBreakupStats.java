@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,19 +121,23 @@ public class ShardIndexingPressureRejectionsBreakupStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NO_SUCCESSFUL_REQUEST_LIMITS = JsonpKey.of("no_successful_request_limits");
+    private static final JsonpKey KEY_NODE_LIMITS = JsonpKey.of("node_limits");
+    private static final JsonpKey KEY_THROUGHPUT_DEGRADATION_LIMITS = JsonpKey.of("throughput_degradation_limits");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.noSuccessfulRequestLimits != null) {
-            generator.writeKey("no_successful_request_limits");
+            JsonpUtils.writeKey(generator, KEY_NO_SUCCESSFUL_REQUEST_LIMITS);
             generator.write(this.noSuccessfulRequestLimits);
         }
 
         if (this.nodeLimits != null) {
-            generator.writeKey("node_limits");
+            JsonpUtils.writeKey(generator, KEY_NODE_LIMITS);
             generator.write(this.nodeLimits);
         }
 
         if (this.throughputDegradationLimits != null) {
-            generator.writeKey("throughput_degradation_limits");
+            JsonpUtils.writeKey(generator, KEY_THROUGHPUT_DEGRADATION_LIMITS);
             generator.write(this.throughputDegradationLimits);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -145,19 +147,25 @@ public class ShardIndexingPressureStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_ENFORCED = JsonpKey.of("enforced");
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+    private static final JsonpKey KEY_TOTAL_REJECTIONS_BREAKUP = JsonpKey.of("total_rejections_breakup");
+    private static final JsonpKey KEY_TOTAL_REJECTIONS_BREAKUP_SHADOW_MODE = JsonpKey.of("total_rejections_breakup_shadow_mode");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.enforced != null) {
-            generator.writeKey("enforced");
+            JsonpUtils.writeKey(generator, KEY_ENFORCED);
             generator.write(this.enforced);
         }
 
         if (ApiTypeHelper.isDefined(this.stats)) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             generator.writeStartObject();
             for (Map.Entry<String, ShardIndexingPressurePerShardStats> item0 : this.stats.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -167,12 +175,12 @@ public class ShardIndexingPressureStats
         }
 
         if (this.totalRejectionsBreakup != null) {
-            generator.writeKey("total_rejections_breakup");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_REJECTIONS_BREAKUP);
             this.totalRejectionsBreakup.serialize(generator, mapper);
         }
 
         if (this.totalRejectionsBreakupShadowMode != null) {
-            generator.writeKey("total_rejections_breakup_shadow_mode");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_REJECTIONS_BREAKUP_SHADOW_MODE);
             this.totalRejectionsBreakupShadowMode.serialize(generator, mapper);
         }
     }
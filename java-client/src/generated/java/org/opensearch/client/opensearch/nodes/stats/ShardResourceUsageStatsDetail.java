@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,24 +133,29 @@ public class ShardResourceUsageStatsDetail
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU_UTILIZATION_PERCENT = JsonpKey.of("cpu_utilization_percent");
+    private static final JsonpKey KEY_IO_USAGE_STATS = JsonpKey.of("io_usage_stats");
+    private static final JsonpKey KEY_MEMORY_UTILIZATION_PERCENT = JsonpKey.of("memory_utilization_percent");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cpuUtilizationPercent != null) {
-            generator.writeKey("cpu_utilization_percent");
+            JsonpUtils.writeKey(generator, KEY_CPU_UTILIZATION_PERCENT);
             generator.write(this.cpuUtilizationPercent);
         }
 
         if (this.ioUsageStats != null) {
-            generator.writeKey("io_usage_stats");
+            JsonpUtils.writeKey(generator, KEY_IO_USAGE_STATS);
             this.ioUsageStats.serialize(generator, mapper);
         }
 
         if (this.memoryUtilizationPercent != null) {
-            generator.writeKey("memory_utilization_percent");
+            JsonpUtils.writeKey(generator, KEY_MEMORY_UTILIZATION_PERCENT);
             generator.write(this.memoryUtilizationPercent);
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
     }
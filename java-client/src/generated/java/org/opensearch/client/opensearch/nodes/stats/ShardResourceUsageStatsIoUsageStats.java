@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,9 +97,11 @@ public class ShardResourceUsageStatsIoUsageStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MAX_IO_UTILIZATION_PERCENT = JsonpKey.of("max_io_utilization_percent");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.maxIoUtilizationPercent != null) {
-            generator.writeKey("max_io_utilization_percent");
+            JsonpUtils.writeKey(generator, KEY_MAX_IO_UTILIZATION_PERCENT);
             generator.write(this.maxIoUtilizationPercent);
         }
     }
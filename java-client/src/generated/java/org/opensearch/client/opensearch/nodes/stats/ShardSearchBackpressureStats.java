@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,19 +121,23 @@ public class ShardSearchBackpressureStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_MODE = JsonpKey.of("mode");
+    private static final JsonpKey KEY_SEARCH_SHARD_TASK = JsonpKey.of("search_shard_task");
+    private static final JsonpKey KEY_SEARCH_TASK = JsonpKey.of("search_task");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.mode != null) {
-            generator.writeKey("mode");
+            JsonpUtils.writeKey(generator, KEY_MODE);
             this.mode.serialize(generator, mapper);
         }
 
         if (this.searchShardTask != null) {
-            generator.writeKey("search_shard_task");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_SHARD_TASK);
             this.searchShardTask.serialize(generator, mapper);
         }
 
         if (this.searchTask != null) {
-            generator.writeKey("search_task");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_TASK);
             this.searchTask.serialize(generator, mapper);
         }
     }
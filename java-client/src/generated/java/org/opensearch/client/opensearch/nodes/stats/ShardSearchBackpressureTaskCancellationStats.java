@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -131,24 +133,29 @@ public class ShardSearchBackpressureTaskCancellationStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CANCELLATION_COUNT = JsonpKey.of("cancellation_count");
+    private static final JsonpKey KEY_CANCELLATION_LIMIT_REACHED_COUNT = JsonpKey.of("cancellation_limit_reached_count");
+    private static final JsonpKey KEY_CANCELLED_TASK_PERCENTAGE = JsonpKey.of("cancelled_task_percentage");
+    private static final JsonpKey KEY_CURRENT_CANCELLATION_ELIGIBLE_TASKS_COUNT = JsonpKey.of("current_cancellation_eligible_tasks_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cancellationCount != null) {
-            generator.writeKey("cancellation_count");
+            JsonpUtils.writeKey(generator, KEY_CANCELLATION_COUNT);
             generator.write(this.cancellationCount);
         }
 
         if (this.cancellationLimitReachedCount != null) {
-            generator.writeKey("cancellation_limit_reached_count");
+            JsonpUtils.writeKey(generator, KEY_CANCELLATION_LIMIT_REACHED_COUNT);
             generator.write(this.cancellationLimitReachedCount);
         }
 
         if (this.cancelledTaskPercentage != null) {
-            generator.writeKey("cancelled_task_percentage");
+            JsonpUtils.writeKey(generator, KEY_CANCELLED_TASK_PERCENTAGE);
             generator.write(this.cancelledTaskPercentage);
         }
 
         if (this.currentCancellationEligibleTasksCount != null) {
-            generator.writeKey("current_cancellation_eligible_tasks_count");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_CANCELLATION_ELIGIBLE_TASKS_COUNT);
             generator.write(this.currentCancellationEligibleTasksCount);
         }
     }
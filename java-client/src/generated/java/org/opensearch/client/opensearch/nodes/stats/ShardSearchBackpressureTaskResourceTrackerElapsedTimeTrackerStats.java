@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -148,29 +150,35 @@ public class ShardSearchBackpressureTaskResourceTrackerElapsedTimeTrackerStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CANCELLATION_COUNT = JsonpKey.of("cancellation_count");
+    private static final JsonpKey KEY_CURRENT_AVG = JsonpKey.of("current_avg");
+    private static final JsonpKey KEY_CURRENT_AVG_MILLIS = JsonpKey.of("current_avg_millis");
+    private static final JsonpKey KEY_CURRENT_MAX = JsonpKey.of("current_max");
+    private static final JsonpKey KEY_CURRENT_MAX_MILLIS = JsonpKey.of("current_max_millis");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cancellationCount != null) {
-            generator.writeKey("cancellation_count");
+            JsonpUtils.writeKey(generator, KEY_CANCELLATION_COUNT);
             generator.write(this.cancellationCount);
         }
 
         if (this.currentAvg != null) {
-            generator.writeKey("current_avg");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_AVG);
             this.currentAvg.serialize(generator, mapper);
         }
 
         if (this.currentAvgMillis != null) {
-            generator.writeKey("current_avg_millis");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_AVG_MILLIS);
             generator.write(this.currentAvgMillis);
         }
 
         if (this.currentMax != null) {
-            generator.writeKey("current_max");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_MAX);
             this.currentMax.serialize(generator, mapper);
         }
 
         if (this.currentMaxMillis != null) {
-            generator.writeKey("current_max_millis");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_MAX_MILLIS);
             generator.write(this.currentMaxMillis);
         }
     }
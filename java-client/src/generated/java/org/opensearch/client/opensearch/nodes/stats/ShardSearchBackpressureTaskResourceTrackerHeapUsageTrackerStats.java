@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -171,39 +173,47 @@ public class ShardSearchBackpressureTaskResourceTrackerHeapUsageTrackerStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CANCELLATION_COUNT = JsonpKey.of("cancellation_count");
+    private static final JsonpKey KEY_CURRENT_AVG = JsonpKey.of("current_avg");
+    private static final JsonpKey KEY_CURRENT_AVG_BYTES = JsonpKey.of("current_avg_bytes");
+    private static final JsonpKey KEY_CURRENT_MAX = JsonpKey.of("current_max");
+    private static final JsonpKey KEY_CURRENT_MAX_BYTES = JsonpKey.of("current_max_bytes");
+    private static final JsonpKey KEY_ROLLING_AVG = JsonpKey.of("rolling_avg");
+    private static final JsonpKey KEY_ROLLING_AVG_BYTES = JsonpKey.of("rolling_avg_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cancellationCount != null) {
-            generator.writeKey("cancellation_count");
+            JsonpUtils.writeKey(generator, KEY_CANCELLATION_COUNT);
             generator.write(this.cancellationCount);
         }
 
         if (this.currentAvg != null) {
-            generator.writeKey("current_avg");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_AVG);
             generator.write(this.currentAvg);
         }
 
         if (this.currentAvgBytes != null) {
-            generator.writeKey("current_avg_bytes");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_AVG_BYTES);
             generator.write(this.currentAvgBytes);
         }
 
         if (this.currentMax != null) {
-            generator.writeKey("current_max");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_MAX);
             generator.write(this.currentMax);
         }
 
         if (this.currentMaxBytes != null) {
-            generator.writeKey("current_max_bytes");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_MAX_BYTES);
             generator.write(this.currentMaxBytes);
         }
 
         if (this.rollingAvg != null) {
-            generator.writeKey("rolling_avg");
+            JsonpUtils.writeKey(generator, KEY_ROLLING_AVG);
             generator.write(this.rollingAvg);
         }
 
         if (this.rollingAvgBytes != null) {
-            generator.writeKey("rolling_avg_bytes");
+            JsonpUtils.writeKey(generator, KEY_ROLLING_AVG_BYTES);
             generator.write(this.rollingAvgBytes);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,19 +121,23 @@ public class ShardSearchBackpressureTaskResourceTrackerStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CPU_USAGE_TRACKER = JsonpKey.of("cpu_usage_tracker");
+    private static final JsonpKey KEY_ELAPSED_TIME_TRACKER = JsonpKey.of("elapsed_time_tracker");
+    private static final JsonpKey KEY_HEAP_USAGE_TRACKER = JsonpKey.of("heap_usage_tracker");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cpuUsageTracker != null) {
-            generator.writeKey("cpu_usage_tracker");
+            JsonpUtils.writeKey(generator, KEY_CPU_USAGE_TRACKER);
             this.cpuUsageTracker.serialize(generator, mapper);
         }
 
         if (this.elapsedTimeTracker != null) {
-            generator.writeKey("elapsed_time_tracker");
+            JsonpUtils.writeKey(generator, KEY_ELAPSED_TIME_TRACKER);
             this.elapsedTimeTracker.serialize(generator, mapper);
         }
 
         if (this.heapUsageTracker != null) {
-            generator.writeKey("heap_usage_tracker");
+            JsonpUtils.writeKey(generator, KEY_HEAP_USAGE_TRACKER);
             this.heapUsageTracker.serialize(generator, mapper);
         }
     }
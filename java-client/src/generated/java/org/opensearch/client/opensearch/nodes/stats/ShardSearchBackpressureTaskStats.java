@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,19 +121,23 @@ public class ShardSearchBackpressureTaskStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CANCELLATION_STATS = JsonpKey.of("cancellation_stats");
+    private static final JsonpKey KEY_COMPLETION_COUNT = JsonpKey.of("completion_count");
+    private static final JsonpKey KEY_RESOURCE_TRACKER_STATS = JsonpKey.of("resource_tracker_stats");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cancellationStats != null) {
-            generator.writeKey("cancellation_stats");
+            JsonpUtils.writeKey(generator, KEY_CANCELLATION_STATS);
             this.cancellationStats.serialize(generator, mapper);
         }
 
         if (this.completionCount != null) {
-            generator.writeKey("completion_count");
+            JsonpUtils.writeKey(generator, KEY_COMPLETION_COUNT);
             generator.write(this.completionCount);
         }
 
         if (this.resourceTrackerStats != null) {
-            generator.writeKey("resource_tracker_stats");
+            JsonpUtils.writeKey(generator, KEY_RESOURCE_TRACKER_STATS);
             this.resourceTrackerStats.serialize(generator, mapper);
         }
     }
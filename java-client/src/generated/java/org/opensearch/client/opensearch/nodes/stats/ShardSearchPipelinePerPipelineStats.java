@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -133,14 +135,19 @@ public class ShardSearchPipelinePerPipelineStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_REQUEST = JsonpKey.of("request");
+    private static final JsonpKey KEY_REQUEST_PROCESSORS = JsonpKey.of("request_processors");
+    private static final JsonpKey KEY_RESPONSE = JsonpKey.of("response");
+    private static final JsonpKey KEY_RESPONSE_PROCESSORS = JsonpKey.of("response_processors");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.request != null) {
-            generator.writeKey("request");
+            JsonpUtils.writeKey(generator, KEY_REQUEST);
             this.request.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.requestProcessors)) {
-            generator.writeKey("request_processors");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_PROCESSORS);
             generator.writeStartArray();
             for (ShardSearchPipelinePerPipelineProcessorStats item0 : this.requestProcessors) {
                 item0.serialize(generator, mapper);
@@ -149,12 +156,12 @@ public class ShardSearchPipelinePerPipelineStats
         }
 
         if (this.response != null) {
-            generator.writeKey("response");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE);
             this.response.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.responseProcessors)) {
-            generator.writeKey("response_processors");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_PROCESSORS);
             generator.writeStartArray();
             for (ShardSearchPipelinePerPipelineProcessorStats item0 : this.responseProcessors) {
                 item0.serialize(generator, mapper);
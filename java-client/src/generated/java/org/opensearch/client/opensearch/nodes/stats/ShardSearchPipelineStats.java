@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,9 +121,13 @@ public class ShardSearchPipelineStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_PIPELINES = JsonpKey.of("pipelines");
+    private static final JsonpKey KEY_TOTAL_REQUEST = JsonpKey.of("total_request");
+    private static final JsonpKey KEY_TOTAL_RESPONSE = JsonpKey.of("total_response");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.pipelines)) {
-            generator.writeKey("pipelines");
+            JsonpUtils.writeKey(generator, KEY_PIPELINES);
             generator.writeStartObject();
             for (Map.Entry<String, ShardSearchPipelinePerPipelineStats> item0 : this.pipelines.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -131,12 +137,12 @@ public class ShardSearchPipelineStats
         }
 
         if (this.totalRequest != null) {
-            generator.writeKey("total_request");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_REQUEST);
             this.totalRequest.serialize(generator, mapper);
         }
 
         if (this.totalResponse != null) {
-            generator.writeKey("total_response");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_RESPONSE);
             this.totalResponse.serialize(generator, mapper);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,9 +97,11 @@ public class ShardSegmentReplicationBackpressureStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_TOTAL_REJECTED_REQUESTS = JsonpKey.of("total_rejected_requests");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.totalRejectedRequests != null) {
-            generator.writeKey("total_rejected_requests");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_REJECTED_REQUESTS);
             generator.write(this.totalRejectedRequests);
         }
     }
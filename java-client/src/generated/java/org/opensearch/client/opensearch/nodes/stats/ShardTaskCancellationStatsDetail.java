@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,17 @@ public class ShardTaskCancellationStatsDetail
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_COUNT_POST_CANCEL = JsonpKey.of("current_count_post_cancel");
+    private static final JsonpKey KEY_TOTAL_COUNT_POST_CANCEL = JsonpKey.of("total_count_post_cancel");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.currentCountPostCancel != null) {
-            generator.writeKey("current_count_post_cancel");
+            JsonpUtils.writeKey(generator, KEY_CURRENT_COUNT_POST_CANCEL);
             generator.write(this.currentCountPostCancel);
         }
 
         if (this.totalCountPostCancel != null) {
-            generator.writeKey("total_count_post_cancel");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_COUNT_POST_CANCEL);
             generator.write(this.totalCountPostCancel);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -95,9 +97,11 @@ public class ShardWeightedRoutingStatsDetail
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FAIL_OPEN_COUNT = JsonpKey.of("fail_open_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.failOpenCount != null) {
-            generator.writeKey("fail_open_count");
+            JsonpUtils.writeKey(generator, KEY_FAIL_OPEN_COUNT);
             generator.write(this.failOpenCount);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -505,9 +507,44 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADAPTIVE_SELECTION = JsonpKey.of("adaptive_selection");
+    private static final JsonpKey KEY_ADMISSION_CONTROL = JsonpKey.of("admission_control");
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_BREAKERS = JsonpKey.of("breakers");
+    private static final JsonpKey KEY_CACHES = JsonpKey.of("caches");
+    private static final JsonpKey KEY_CLUSTER_MANAGER_THROTTLING = JsonpKey.of("cluster_manager_throttling");
+    private static final JsonpKey KEY_DISCOVERY = JsonpKey.of("discovery");
+    private static final JsonpKey KEY_FS = JsonpKey.of("fs");
+    private static final JsonpKey KEY_HOST = JsonpKey.of("host");
+    private static final JsonpKey KEY_HTTP = JsonpKey.of("http");
+    private static final JsonpKey KEY_INDEXING_PRESSURE = JsonpKey.of("indexing_pressure");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_INGEST = JsonpKey.of("ingest");
+    private static final JsonpKey KEY_IP = JsonpKey.of("ip");
+    private static final JsonpKey KEY_JVM = JsonpKey.of("jvm");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_OS = JsonpKey.of("os");
+    private static final JsonpKey KEY_PROCESS = JsonpKey.of("process");
+    private static final JsonpKey KEY_REMOTE_STORE = JsonpKey.of("remote_store");
+    private static final JsonpKey KEY_REPOSITORIES = JsonpKey.of("repositories");
+    private static final JsonpKey KEY_RESOURCE_USAGE_STATS = JsonpKey.of("resource_usage_stats");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_SCRIPT = JsonpKey.of("script");
+    private static final JsonpKey KEY_SCRIPT_CACHE = JsonpKey.of("script_cache");
+    private static final JsonpKey KEY_SEARCH_BACKPRESSURE = JsonpKey.of("search_backpressure");
+    private static final JsonpKey KEY_SEARCH_PIPELINE = JsonpKey.of("search_pipeline");
+    private static final JsonpKey KEY_SEGMENT_REPLICATION_BACKPRESSURE = JsonpKey.of("segment_replication_backpressure");
+    private static final JsonpKey KEY_SHARD_INDEXING_PRESSURE = JsonpKey.of("shard_indexing_pressure");
+    private static final JsonpKey KEY_TASK_CANCELLATION = JsonpKey.of("task_cancellation");
+    private static final JsonpKey KEY_THREAD_POOL = JsonpKey.of("thread_pool");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+    private static final JsonpKey KEY_TRANSPORT = JsonpKey.of("transport");
+    private static final JsonpKey KEY_TRANSPORT_ADDRESS = JsonpKey.of("transport_address");
+    private static final JsonpKey KEY_WEIGHTED_ROUTING = JsonpKey.of("weighted_routing");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.adaptiveSelection)) {
-            generator.writeKey("adaptive_selection");
+            JsonpUtils.writeKey(generator, KEY_ADAPTIVE_SELECTION);
             generator.writeStartObject();
             for (Map.Entry<String, AdaptiveSelection> item0 : this.adaptiveSelection.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -517,12 +554,12 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (this.admissionControl != null) {
-            generator.writeKey("admission_control");
+            JsonpUtils.writeKey(generator, KEY_ADMISSION_CONTROL);
             this.admissionControl.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.attributes)) {
-            generator.writeKey("attributes");
+            JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -532,7 +569,7 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (ApiTypeHelper.isDefined(this.breakers)) {
-            generator.writeKey("breakers");
+            JsonpUtils.writeKey(generator, KEY_BREAKERS);
             generator.writeStartObject();
             for (Map.Entry<String, Breaker> item0 : this.breakers.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -542,7 +579,7 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (ApiTypeHelper.isDefined(this.caches)) {
-            generator.writeKey("caches");
+            JsonpUtils.writeKey(generator, KEY_CACHES);
             generator.writeStartObject();
             for (Map.Entry<String, CacheStats> item0 : this.caches.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -552,47 +589,47 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (this.clusterManagerThrottling != null) {
-            generator.writeKey("cluster_manager_throttling");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_MANAGER_THROTTLING);
             this.clusterManagerThrottling.serialize(generator, mapper);
         }
 
         if (this.discovery != null) {
-            generator.writeKey("discovery");
+            JsonpUtils.writeKey(generator, KEY_DISCOVERY);
             this.discovery.serialize(generator, mapper);
         }
 
         if (this.fs != null) {
-            generator.writeKey("fs");
+            JsonpUtils.writeKey(generator, KEY_FS);
             this.fs.serialize(generator, mapper);
         }
 
         if (this.host != null) {
-            generator.writeKey("host");
+            JsonpUtils.writeKey(generator, KEY_HOST);
             generator.write(this.host);
         }
 
         if (this.http != null) {
-            generator.writeKey("http");
+            JsonpUtils.writeKey(generator, KEY_HTTP);
             this.http.serialize(generator, mapper);
         }
 
         if (this.indexingPressure != null) {
-            generator.writeKey("indexing_pressure");
+            JsonpUtils.writeKey(generator, KEY_INDEXING_PRESSURE);
             this.indexingPressure.serialize(generator, mapper);
         }
 
         if (this.indices != null) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             this.indices.serialize(generator, mapper);
         }
 
         if (this.ingest != null) {
-            generator.writeKey("ingest");
+            JsonpUtils.writeKey(generator, KEY_INGEST);
             this.ingest.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.ip)) {
-            generator.writeKey("ip");
+            JsonpUtils.writeKey(generator, KEY_IP);
             generator.writeStartArray();
             for (String item0 : this.ip) {
                 generator.write(item0);
@@ -601,32 +638,32 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (this.jvm != null) {
-            generator.writeKey("jvm");
+            JsonpUtils.writeKey(generator, KEY_JVM);
             this.jvm.serialize(generator, mapper);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.os != null) {
-            generator.writeKey("os");
+            JsonpUtils.writeKey(generator, KEY_OS);
             this.os.serialize(generator, mapper);
         }
 
         if (this.process != null) {
-            generator.writeKey("process");
+            JsonpUtils.writeKey(generator, KEY_PROCESS);
             this.process.serialize(generator, mapper);
         }
 
         if (this.remoteStore != null) {
-            generator.writeKey("remote_store");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_STORE);
             this.remoteStore.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.repositories)) {
-            generator.writeKey("repositories");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORIES);
             generator.writeStartArray();
             for (RepositoryStatsSnapshot item0 : this.repositories) {
                 item0.serialize(generator, mapper);
@@ -635,7 +672,7 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (ApiTypeHelper.isDefined(this.resourceUsageStats)) {
-            generator.writeKey("resource_usage_stats");
+            JsonpUtils.writeKey(generator, KEY_RESOURCE_USAGE_STATS);
             generator.writeStartObject();
             for (Map.Entry<String, ShardResourceUsageStatsDetail> item0 : this.resourceUsageStats.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -645,7 +682,7 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (NodeRole item0 : this.roles) {
                 item0.serialize(generator, mapper);
@@ -654,42 +691,42 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (this.script != null) {
-            generator.writeKey("script");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT);
             this.script.serialize(generator, mapper);
         }
 
         if (this.scriptCache != null) {
-            generator.writeKey("script_cache");
+            JsonpUtils.writeKey(generator, KEY_SCRIPT_CACHE);
             this.scriptCache.serialize(generator, mapper);
         }
 
         if (this.searchBackpressure != null) {
-            generator.writeKey("search_backpressure");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_BACKPRESSURE);
             this.searchBackpressure.serialize(generator, mapper);
         }
 
         if (this.searchPipeline != null) {
-            generator.writeKey("search_pipeline");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_PIPELINE);
             this.searchPipeline.serialize(generator, mapper);
         }
 
         if (this.segmentReplicationBackpressure != null) {
-            generator.writeKey("segment_replication_backpressure");
+            JsonpUtils.writeKey(generator, KEY_SEGMENT_REPLICATION_BACKPRESSURE);
             this.segmentReplicationBackpressure.serialize(generator, mapper);
         }
 
         if (this.shardIndexingPressure != null) {
-            generator.writeKey("shard_indexing_pressure");
+            JsonpUtils.writeKey(generator, KEY_SHARD_INDEXING_PRESSURE);
             this.shardIndexingPressure.serialize(generator, mapper);
         }
 
         if (this.taskCancellation != null) {
-            generator.writeKey("task_cancellation");
+            JsonpUtils.writeKey(generator, KEY_TASK_CANCELLATION);
             this.taskCancellation.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.threadPool)) {
-            generator.writeKey("thread_pool");
+            JsonpUtils.writeKey(generator, KEY_THREAD_POOL);
             generator.writeStartObject();
             for (Map.Entry<String, ThreadCount> item0 : this.threadPool.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -699,22 +736,22 @@ public class Stats implements PlainJsonSerializable, ToCopyableBuilder<Stats.Bui
         }
 
         if (this.timestamp != null) {
-            generator.writeKey("timestamp");
+            JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
             generator.write(this.timestamp);
         }
 
         if (this.transport != null) {
-            generator.writeKey("transport");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT);
             this.transport.serialize(generator, mapper);
         }
 
         if (this.transportAddress != null) {
-            generator.writeKey("transport_address");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT_ADDRESS);
             generator.write(this.transportAddress);
         }
 
         if (this.weightedRouting != null) {
-            generator.writeKey("weighted_routing");
+            JsonpUtils.writeKey(generator, KEY_WEIGHTED_ROUTING);
             this.weightedRouting.serialize(generator, mapper);
         }
     }
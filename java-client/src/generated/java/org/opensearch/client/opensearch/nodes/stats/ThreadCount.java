@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -201,44 +203,53 @@ public class ThreadCount implements PlainJsonSerializable, ToCopyableBuilder<Thr
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACTIVE = JsonpKey.of("active");
+    private static final JsonpKey KEY_COMPLETED = JsonpKey.of("completed");
+    private static final JsonpKey KEY_LARGEST = JsonpKey.of("largest");
+    private static final JsonpKey KEY_QUEUE = JsonpKey.of("queue");
+    private static final JsonpKey KEY_REJECTED = JsonpKey.of("rejected");
+    private static final JsonpKey KEY_THREADS = JsonpKey.of("threads");
+    private static final JsonpKey KEY_TOTAL_WAIT_TIME = JsonpKey.of("total_wait_time");
+    private static final JsonpKey KEY_TOTAL_WAIT_TIME_IN_NANOS = JsonpKey.of("total_wait_time_in_nanos");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.active != null) {
-            generator.writeKey("active");
+            JsonpUtils.writeKey(generator, KEY_ACTIVE);
             generator.write(this.active);
         }
 
         if (this.completed != null) {
-            generator.writeKey("completed");
+            JsonpUtils.writeKey(generator, KEY_COMPLETED);
             generator.write(this.completed);
         }
 
         if (this.largest != null) {
-            generator.writeKey("largest");
+            JsonpUtils.writeKey(generator, KEY_LARGEST);
             generator.write(this.largest);
         }
 
         if (this.queue != null) {
-            generator.writeKey("queue");
+            JsonpUtils.writeKey(generator, KEY_QUEUE);
             generator.write(this.queue);
         }
 
         if (this.rejected != null) {
-            generator.writeKey("rejected");
+            JsonpUtils.writeKey(generator, KEY_REJECTED);
             generator.write(this.rejected);
         }
 
         if (this.threads != null) {
-            generator.writeKey("threads");
+            JsonpUtils.writeKey(generator, KEY_THREADS);
             generator.write(this.threads);
         }
 
         if (this.totalWaitTime != null) {
-            generator.writeKey("total_wait_time");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_WAIT_TIME);
             this.totalWaitTime.serialize(generator, mapper);
         }
 
         if (this.totalWaitTimeInNanos != null) {
-            generator.writeKey("total_wait_time_in_nanos");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_WAIT_TIME_IN_NANOS);
             generator.write(this.totalWaitTimeInNanos);
         }
     }
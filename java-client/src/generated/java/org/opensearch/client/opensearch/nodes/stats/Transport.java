@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -200,44 +202,53 @@ public class Transport implements PlainJsonSerializable, ToCopyableBuilder<Trans
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_RX_COUNT = JsonpKey.of("rx_count");
+    private static final JsonpKey KEY_RX_SIZE = JsonpKey.of("rx_size");
+    private static final JsonpKey KEY_RX_SIZE_IN_BYTES = JsonpKey.of("rx_size_in_bytes");
+    private static final JsonpKey KEY_SERVER_OPEN = JsonpKey.of("server_open");
+    private static final JsonpKey KEY_TOTAL_OUTBOUND_CONNECTIONS = JsonpKey.of("total_outbound_connections");
+    private static final JsonpKey KEY_TX_COUNT = JsonpKey.of("tx_count");
+    private static final JsonpKey KEY_TX_SIZE = JsonpKey.of("tx_size");
+    private static final JsonpKey KEY_TX_SIZE_IN_BYTES = JsonpKey.of("tx_size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.rxCount != null) {
-            generator.writeKey("rx_count");
+            JsonpUtils.writeKey(generator, KEY_RX_COUNT);
             generator.write(this.rxCount);
         }
 
         if (this.rxSize != null) {
-            generator.writeKey("rx_size");
+            JsonpUtils.writeKey(generator, KEY_RX_SIZE);
             generator.write(this.rxSize);
         }
 
         if (this.rxSizeInBytes != null) {
-            generator.writeKey("rx_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_RX_SIZE_IN_BYTES);
             generator.write(this.rxSizeInBytes);
         }
 
         if (this.serverOpen != null) {
-            generator.writeKey("server_open");
+            JsonpUtils.writeKey(generator, KEY_SERVER_OPEN);
             generator.write(this.serverOpen);
         }
 
         if (this.totalOutboundConnections != null) {
-            generator.writeKey("total_outbound_connections");
+            JsonpUtils.writeKey(generator, KEY_TOTAL_OUTBOUND_CONNECTIONS);
             generator.write(this.totalOutboundConnections);
         }
 
         if (this.txCount != null) {
-            generator.writeKey("tx_count");
+            JsonpUtils.writeKey(generator, KEY_TX_COUNT);
             generator.write(this.txCount);
         }
 
         if (this.txSize != null) {
-            generator.writeKey("tx_size");
+            JsonpUtils.writeKey(generator, KEY_TX_SIZE);
             generator.write(this.txSize);
         }
 
         if (this.txSizeInBytes != null) {
-            generator.writeKey("tx_size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_TX_SIZE_IN_BYTES);
             generator.write(this.txSizeInBytes);
         }
     }
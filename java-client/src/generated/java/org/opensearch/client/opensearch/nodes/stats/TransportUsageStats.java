@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -92,9 +94,11 @@ public class TransportUsageStats implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_REJECTION_COUNT = JsonpKey.of("rejection_count");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.rejectionCount)) {
-            generator.writeKey("rejection_count");
+            JsonpUtils.writeKey(generator, KEY_REJECTION_COUNT);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.rejectionCount.entrySet()) {
                 generator.writeKey(item0.getKey());
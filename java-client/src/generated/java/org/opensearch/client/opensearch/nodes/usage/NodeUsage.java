@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -125,9 +127,14 @@ public class NodeUsage implements PlainJsonSerializable, ToCopyableBuilder<NodeU
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_REST_ACTIONS = JsonpKey.of("rest_actions");
+    private static final JsonpKey KEY_SINCE = JsonpKey.of("since");
+    private static final JsonpKey KEY_TIMESTAMP = JsonpKey.of("timestamp");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.aggregations.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -137,7 +144,7 @@ public class NodeUsage implements PlainJsonSerializable, ToCopyableBuilder<NodeU
         }
 
         if (ApiTypeHelper.isDefined(this.restActions)) {
-            generator.writeKey("rest_actions");
+            JsonpUtils.writeKey(generator, KEY_REST_ACTIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Long> item0 : this.restActions.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -146,10 +153,10 @@ public class NodeUsage implements PlainJsonSerializable, ToCopyableBuilder<NodeU
             generator.writeEnd();
         }
 
-        generator.writeKey("since");
+        JsonpUtils.writeKey(generator, KEY_SINCE);
         generator.write(this.since);
 
-        generator.writeKey("timestamp");
+        JsonpUtils.writeKey(generator, KEY_TIMESTAMP);
         generator.write(this.timestamp);
     }
 
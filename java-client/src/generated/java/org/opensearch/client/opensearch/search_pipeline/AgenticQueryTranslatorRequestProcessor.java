@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -144,22 +146,27 @@ public class AgenticQueryTranslatorRequestProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGENT_ID = JsonpKey.of("agent_id");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignore_failure");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("agent_id");
+        JsonpUtils.writeKey(generator, KEY_AGENT_ID);
         generator.write(this.agentId);
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignore_failure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
     }
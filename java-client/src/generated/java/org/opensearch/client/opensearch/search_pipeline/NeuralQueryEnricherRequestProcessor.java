@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,19 +144,24 @@ public class NeuralQueryEnricherRequestProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_MODEL_ID = JsonpKey.of("default_model_id");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NEURAL_FIELD_DEFAULT_ID = JsonpKey.of("neural_field_default_id");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.defaultModelId != null) {
-            generator.writeKey("default_model_id");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_MODEL_ID);
             generator.write(this.defaultModelId);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (ApiTypeHelper.isDefined(this.neuralFieldDefaultId)) {
-            generator.writeKey("neural_field_default_id");
+            JsonpUtils.writeKey(generator, KEY_NEURAL_FIELD_DEFAULT_ID);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.neuralFieldDefaultId.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -164,7 +171,7 @@ public class NeuralQueryEnricherRequestProcessor
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
     }
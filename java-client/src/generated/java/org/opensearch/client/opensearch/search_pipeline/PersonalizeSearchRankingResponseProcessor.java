@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -187,39 +189,48 @@ public class PersonalizeSearchRankingResponseProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CAMPAIGN_ARN = JsonpKey.of("campaign_arn");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IAM_ROLE_ARN = JsonpKey.of("iam_role_arn");
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignore_failure");
+    private static final JsonpKey KEY_ITEM_ID_FIELD = JsonpKey.of("item_id_field");
+    private static final JsonpKey KEY_RECIPE = JsonpKey.of("recipe");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+    private static final JsonpKey KEY_WEIGHT = JsonpKey.of("weight");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("campaign_arn");
+        JsonpUtils.writeKey(generator, KEY_CAMPAIGN_ARN);
         generator.write(this.campaignArn);
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.iamRoleArn != null) {
-            generator.writeKey("iam_role_arn");
+            JsonpUtils.writeKey(generator, KEY_IAM_ROLE_ARN);
             generator.write(this.iamRoleArn);
         }
 
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignore_failure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
         if (this.itemIdField != null) {
-            generator.writeKey("item_id_field");
+            JsonpUtils.writeKey(generator, KEY_ITEM_ID_FIELD);
             generator.write(this.itemIdField);
         }
 
-        generator.writeKey("recipe");
+        JsonpUtils.writeKey(generator, KEY_RECIPE);
         generator.write(this.recipe);
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
 
-        generator.writeKey("weight");
+        JsonpUtils.writeKey(generator, KEY_WEIGHT);
         generator.write(this.weight);
     }
 
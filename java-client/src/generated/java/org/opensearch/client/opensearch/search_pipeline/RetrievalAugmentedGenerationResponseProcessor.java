@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -166,8 +168,15 @@ public class RetrievalAugmentedGenerationResponseProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXT_FIELD_LIST = JsonpKey.of("context_field_list");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("model_id");
+    private static final JsonpKey KEY_SYSTEM_PROMPT = JsonpKey.of("system_prompt");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+    private static final JsonpKey KEY_USER_INSTRUCTIONS = JsonpKey.of("user_instructions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("context_field_list");
+        JsonpUtils.writeKey(generator, KEY_CONTEXT_FIELD_LIST);
         generator.writeStartArray();
         for (String item0 : this.contextFieldList) {
             generator.write(item0);
@@ -175,25 +184,25 @@ public class RetrievalAugmentedGenerationResponseProcessor
         generator.writeEnd();
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
-        generator.writeKey("model_id");
+        JsonpUtils.writeKey(generator, KEY_MODEL_ID);
         generator.write(this.modelId);
 
         if (this.systemPrompt != null) {
-            generator.writeKey("system_prompt");
+            JsonpUtils.writeKey(generator, KEY_SYSTEM_PROMPT);
             generator.write(this.systemPrompt);
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
 
         if (this.userInstructions != null) {
-            generator.writeKey("user_instructions");
+            JsonpUtils.writeKey(generator, KEY_USER_INSTRUCTIONS);
             generator.write(this.userInstructions);
         }
     }
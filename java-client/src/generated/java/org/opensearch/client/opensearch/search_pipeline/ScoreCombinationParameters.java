@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -97,9 +99,11 @@ public class ScoreCombinationParameters
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_WEIGHTS = JsonpKey.of("weights");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.weights)) {
-            generator.writeKey("weights");
+            JsonpUtils.writeKey(generator, KEY_WEIGHTS);
             generator.writeStartArray();
             for (Float item0 : this.weights) {
                 generator.write(item0);
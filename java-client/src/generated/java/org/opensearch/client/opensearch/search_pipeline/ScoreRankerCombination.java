@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,13 +108,16 @@ public class ScoreRankerCombination
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_RANK_CONSTANT = JsonpKey.of("rank_constant");
+    private static final JsonpKey KEY_TECHNIQUE = JsonpKey.of("technique");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.rankConstant != null) {
-            generator.writeKey("rank_constant");
+            JsonpUtils.writeKey(generator, KEY_RANK_CONSTANT);
             generator.write(this.rankConstant);
         }
 
-        generator.writeKey("technique");
+        JsonpUtils.writeKey(generator, KEY_TECHNIQUE);
         this.technique.serialize(generator, mapper);
     }
 
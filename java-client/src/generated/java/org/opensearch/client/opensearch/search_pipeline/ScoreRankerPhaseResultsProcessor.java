@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -103,8 +105,10 @@ public class ScoreRankerPhaseResultsProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMBINATION = JsonpKey.of("combination");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("combination");
+        JsonpUtils.writeKey(generator, KEY_COMBINATION);
         this.combination.serialize(generator, mapper);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -143,14 +145,20 @@ public class SearchPipelineStructure
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_PHASE_RESULTS_PROCESSORS = JsonpKey.of("phase_results_processors");
+    private static final JsonpKey KEY_REQUEST_PROCESSORS = JsonpKey.of("request_processors");
+    private static final JsonpKey KEY_RESPONSE_PROCESSORS = JsonpKey.of("response_processors");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (ApiTypeHelper.isDefined(this.phaseResultsProcessors)) {
-            generator.writeKey("phase_results_processors");
+            JsonpUtils.writeKey(generator, KEY_PHASE_RESULTS_PROCESSORS);
             generator.writeStartArray();
             for (PhaseResultsProcessor item0 : this.phaseResultsProcessors) {
                 item0.serialize(generator, mapper);
@@ -159,7 +167,7 @@ public class SearchPipelineStructure
         }
 
         if (ApiTypeHelper.isDefined(this.requestProcessors)) {
-            generator.writeKey("request_processors");
+            JsonpUtils.writeKey(generator, KEY_REQUEST_PROCESSORS);
             generator.writeStartArray();
             for (RequestProcessor item0 : this.requestProcessors) {
                 item0.serialize(generator, mapper);
@@ -168,7 +176,7 @@ public class SearchPipelineStructure
         }
 
         if (ApiTypeHelper.isDefined(this.responseProcessors)) {
-            generator.writeKey("response_processors");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE_PROCESSORS);
             generator.writeStartArray();
             for (ResponseProcessor item0 : this.responseProcessors) {
                 item0.serialize(generator, mapper);
@@ -177,7 +185,7 @@ public class SearchPipelineStructure
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -152,29 +154,35 @@ public class TruncateHitsResponseProcessor
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONTEXT_PREFIX = JsonpKey.of("context_prefix");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignore_failure");
+    private static final JsonpKey KEY_TAG = JsonpKey.of("tag");
+    private static final JsonpKey KEY_TARGET_SIZE = JsonpKey.of("target_size");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.contextPrefix != null) {
-            generator.writeKey("context_prefix");
+            JsonpUtils.writeKey(generator, KEY_CONTEXT_PREFIX);
             generator.write(this.contextPrefix);
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignore_failure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
         if (this.tag != null) {
-            generator.writeKey("tag");
+            JsonpUtils.writeKey(generator, KEY_TAG);
             generator.write(this.tag);
         }
 
         if (this.targetSize != null) {
-            generator.writeKey("target_size");
+            JsonpUtils.writeKey(generator, KEY_TARGET_SIZE);
             generator.write(this.targetSize);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch.nodes.NodesResponseBase;
@@ -121,10 +123,15 @@ public class GetNodeStatsResponse extends NodesResponseBase
         return this.nodes;
     }
 
+    private static final JsonpKey KEY_ALL_NODES = JsonpKey.of("all_nodes");
+    private static final JsonpKey KEY_CLUSTER_NAME = JsonpKey.of("cluster_name");
+    private static final JsonpKey KEY_INFO = JsonpKey.of("info");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.allNodes)) {
-            generator.writeKey("all_nodes");
+            JsonpUtils.writeKey(generator, KEY_ALL_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.allNodes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -134,12 +141,12 @@ public class GetNodeStatsResponse extends NodesResponseBase
         }
 
         if (this.clusterName != null) {
-            generator.writeKey("cluster_name");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_NAME);
             generator.write(this.clusterName);
         }
 
         if (ApiTypeHelper.isDefined(this.info)) {
-            generator.writeKey("info");
+            JsonpUtils.writeKey(generator, KEY_INFO);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.info.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -148,7 +155,7 @@ public class GetNodeStatsResponse extends NodesResponseBase
             generator.writeEnd();
         }
 
-        generator.writeKey("nodes");
+        JsonpUtils.writeKey(generator, KEY_NODES);
         generator.writeStartObject();
         for (Map.Entry<String, JsonData> item0 : this.nodes.entrySet()) {
             generator.writeKey(item0.getKey());
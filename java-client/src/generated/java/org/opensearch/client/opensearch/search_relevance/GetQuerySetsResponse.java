@@ -48,7 +48,9 @@ import org.opensearch.client.json.ExternallyTaggedUnion;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.NamedDeserializer;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
@@ -261,37 +263,52 @@ public class GetQuerySetsResponse<TDocument>
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AGGREGATIONS = JsonpKey.of("aggregations");
+    private static final JsonpKey KEY_CLUSTERS = JsonpKey.of("_clusters");
+    private static final JsonpKey KEY_HITS = JsonpKey.of("hits");
+    private static final JsonpKey KEY_NUM_REDUCE_PHASES = JsonpKey.of("num_reduce_phases");
+    private static final JsonpKey KEY_PHASE_TOOK = JsonpKey.of("phase_took");
+    private static final JsonpKey KEY_PIT_ID = JsonpKey.of("pit_id");
+    private static final JsonpKey KEY_PROCESSOR_RESULTS = JsonpKey.of("processor_results");
+    private static final JsonpKey KEY_PROFILE = JsonpKey.of("profile");
+    private static final JsonpKey KEY_SCROLL_ID = JsonpKey.of("_scroll_id");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("_shards");
+    private static final JsonpKey KEY_SUGGEST = JsonpKey.of("suggest");
+    private static final JsonpKey KEY_TERMINATED_EARLY = JsonpKey.of("terminated_early");
+    private static final JsonpKey KEY_TIMED_OUT = JsonpKey.of("timed_out");
+    private static final JsonpKey KEY_TOOK = JsonpKey.of("took");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.aggregations)) {
-            generator.writeKey("aggregations");
+            JsonpUtils.writeKey(generator, KEY_AGGREGATIONS);
             ExternallyTaggedUnion.serializeTypedKeys(this.aggregations, generator, mapper);
         }
 
         if (this.clusters != null) {
-            generator.writeKey("_clusters");
+            JsonpUtils.writeKey(generator, KEY_CLUSTERS);
             this.clusters.serialize(generator, mapper);
         }
 
-        generator.writeKey("hits");
+        JsonpUtils.writeKey(generator, KEY_HITS);
         this.hits.serialize(generator, mapper);
 
         if (this.numReducePhases != null) {
-            generator.writeKey("num_reduce_phases");
+            JsonpUtils.writeKey(generator, KEY_NUM_REDUCE_PHASES);
             generator.write(this.numReducePhases);
         }
 
         if (this.phaseTook != null) {
-            generator.writeKey("phase_took");
+            JsonpUtils.writeKey(generator, KEY_PHASE_TOOK);
             this.phaseTook.serialize(generator, mapper);
         }
 
         if (this.pitId != null) {
-            generator.writeKey("pit_id");
+            JsonpUtils.writeKey(generator, KEY_PIT_ID);
             generator.write(this.pitId);
         }
 
         if (ApiTypeHelper.isDefined(this.processorResults)) {
-            generator.writeKey("processor_results");
+            JsonpUtils.writeKey(generator, KEY_PROCESSOR_RESULTS);
             generator.writeStartArray();
             for (ProcessorExecutionDetail item0 : this.processorResults) {
                 item0.serialize(generator, mapper);
@@ -300,32 +317,32 @@ public class GetQuerySetsResponse<TDocument>
         }
 
         if (this.profile != null) {
-            generator.writeKey("profile");
+            JsonpUtils.writeKey(generator, KEY_PROFILE);
             this.profile.serialize(generator, mapper);
         }
 
         if (this.scrollId != null) {
-            generator.writeKey("_scroll_id");
+            JsonpUtils.writeKey(generator, KEY_SCROLL_ID);
             generator.write(this.scrollId);
         }
 
-        generator.writeKey("_shards");
+        JsonpUtils.writeKey(generator, KEY_SHARDS);
         this.shards.serialize(generator, mapper);
 
         if (ApiTypeHelper.isDefined(this.suggest)) {
-            generator.writeKey("suggest");
+            JsonpUtils.writeKey(generator, KEY_SUGGEST);
             ExternallyTaggedUnion.serializeTypedKeysArray(this.suggest, generator, mapper);
         }
 
         if (this.terminatedEarly != null) {
-            generator.writeKey("terminated_early");
+            JsonpUtils.writeKey(generator, KEY_TERMINATED_EARLY);
             generator.write(this.terminatedEarly);
         }
 
-        generator.writeKey("timed_out");
+        JsonpUtils.writeKey(generator, KEY_TIMED_OUT);
         generator.write(this.timedOut);
 
-        generator.writeKey("took");
+        JsonpUtils.writeKey(generator, KEY_TOOK);
         generator.write(this.took);
     }
 
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,24 +140,29 @@ public final class PostQuerySetsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_QUERY_SET_SIZE = JsonpKey.of("querySetSize");
+    private static final JsonpKey KEY_SAMPLING = JsonpKey.of("sampling");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.querySetSize != null) {
-            generator.writeKey("querySetSize");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_SIZE);
             generator.write(this.querySetSize);
         }
 
         if (this.sampling != null) {
-            generator.writeKey("sampling");
+            JsonpUtils.writeKey(generator, KEY_SAMPLING);
             generator.write(this.sampling);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -116,14 +118,17 @@ public final class PostScheduledExperimentsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CRON_EXPRESSION = JsonpKey.of("cronExpression");
+    private static final JsonpKey KEY_EXPERIMENT_ID = JsonpKey.of("experimentId");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.cronExpression != null) {
-            generator.writeKey("cronExpression");
+            JsonpUtils.writeKey(generator, KEY_CRON_EXPRESSION);
             generator.write(this.cronExpression);
         }
 
         if (this.experimentId != null) {
-            generator.writeKey("experimentId");
+            JsonpUtils.writeKey(generator, KEY_EXPERIMENT_ID);
             generator.write(this.experimentId);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,17 @@ public class PostScheduledExperimentsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_JOB_ID = JsonpKey.of("job_id");
+    private static final JsonpKey KEY_JOB_RESULT = JsonpKey.of("job_result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.jobId != null) {
-            generator.writeKey("job_id");
+            JsonpUtils.writeKey(generator, KEY_JOB_ID);
             generator.write(this.jobId);
         }
 
         if (this.jobResult != null) {
-            generator.writeKey("job_result");
+            JsonpUtils.writeKey(generator, KEY_JOB_RESULT);
             generator.write(this.jobResult);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -151,29 +153,35 @@ public final class PutExperimentsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_JUDGMENT_LIST = JsonpKey.of("judgmentList");
+    private static final JsonpKey KEY_QUERY_SET_ID = JsonpKey.of("querySetId");
+    private static final JsonpKey KEY_SEARCH_CONFIGURATION_LIST = JsonpKey.of("searchConfigurationList");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.judgmentList != null) {
-            generator.writeKey("judgmentList");
+            JsonpUtils.writeKey(generator, KEY_JUDGMENT_LIST);
             this.judgmentList.serialize(generator, mapper);
         }
 
         if (this.querySetId != null) {
-            generator.writeKey("querySetId");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_ID);
             generator.write(this.querySetId);
         }
 
         if (this.searchConfigurationList != null) {
-            generator.writeKey("searchConfigurationList");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONFIGURATION_LIST);
             this.searchConfigurationList.serialize(generator, mapper);
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
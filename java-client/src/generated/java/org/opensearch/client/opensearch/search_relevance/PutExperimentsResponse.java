@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,14 +107,17 @@ public class PutExperimentsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_EXPERIMENT_ID = JsonpKey.of("experiment_id");
+    private static final JsonpKey KEY_EXPERIMENT_RESULT = JsonpKey.of("experiment_result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.experimentId != null) {
-            generator.writeKey("experiment_id");
+            JsonpUtils.writeKey(generator, KEY_EXPERIMENT_ID);
             generator.write(this.experimentId);
         }
 
         if (this.experimentResult != null) {
-            generator.writeKey("experiment_result");
+            JsonpUtils.writeKey(generator, KEY_EXPERIMENT_RESULT);
             generator.write(this.experimentResult);
         }
     }
@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -237,14 +239,27 @@ public final class PutJudgmentsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLICK_MODEL = JsonpKey.of("clickModel");
+    private static final JsonpKey KEY_CONTEXT_FIELDS = JsonpKey.of("contextFields");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_IGNORE_FAILURE = JsonpKey.of("ignoreFailure");
+    private static final JsonpKey KEY_JUDGMENT_RATINGS = JsonpKey.of("judgmentRatings");
+    private static final JsonpKey KEY_MAX_RANK = JsonpKey.of("maxRank");
+    private static final JsonpKey KEY_MODEL_ID = JsonpKey.of("modelId");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_QUERY_SET_ID = JsonpKey.of("querySetId");
+    private static final JsonpKey KEY_SEARCH_CONFIGURATION_LIST = JsonpKey.of("searchConfigurationList");
+    private static final JsonpKey KEY_SIZE = JsonpKey.of("size");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.clickModel != null) {
-            generator.writeKey("clickModel");
+            JsonpUtils.writeKey(generator, KEY_CLICK_MODEL);
             generator.write(this.clickModel);
         }
 
         if (ApiTypeHelper.isDefined(this.contextFields)) {
-            generator.writeKey("contextFields");
+            JsonpUtils.writeKey(generator, KEY_CONTEXT_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.contextFields) {
                 generator.write(item0);
@@ -253,17 +268,17 @@ public final class PutJudgmentsRequest extends RequestBase
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.ignoreFailure != null) {
-            generator.writeKey("ignoreFailure");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_FAILURE);
             generator.write(this.ignoreFailure);
         }
 
         if (ApiTypeHelper.isDefined(this.judgmentRatings)) {
-            generator.writeKey("judgmentRatings");
+            JsonpUtils.writeKey(generator, KEY_JUDGMENT_RATINGS);
             generator.writeStartArray();
             for (Map<String, JsonData> item0 : this.judgmentRatings) {
                 generator.writeStartObject();
@@ -279,27 +294,27 @@ public final class PutJudgmentsRequest extends RequestBase
         }
 
         if (this.maxRank != null) {
-            generator.writeKey("maxRank");
+            JsonpUtils.writeKey(generator, KEY_MAX_RANK);
             generator.write(this.maxRank);
         }
 
         if (this.modelId != null) {
-            generator.writeKey("modelId");
+            JsonpUtils.writeKey(generator, KEY_MODEL_ID);
             generator.write(this.modelId);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (this.querySetId != null) {
-            generator.writeKey("querySetId");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_ID);
             generator.write(this.querySetId);
         }
 
         if (ApiTypeHelper.isDefined(this.searchConfigurationList)) {
-            generator.writeKey("searchConfigurationList");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONFIGURATION_LIST);
             generator.writeStartArray();
             for (String item0 : this.searchConfigurationList) {
                 generator.write(item0);
@@ -308,12 +323,12 @@ public final class PutJudgmentsRequest extends RequestBase
         }
 
         if (this.size != null) {
-            generator.writeKey("size");
+            JsonpUtils.writeKey(generator, KEY_SIZE);
             generator.write(this.size);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -141,19 +143,24 @@ public final class PutQuerySetsRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+    private static final JsonpKey KEY_QUERY_SET_QUERIES = JsonpKey.of("querySetQueries");
+    private static final JsonpKey KEY_SAMPLING = JsonpKey.of("sampling");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
 
         if (ApiTypeHelper.isDefined(this.querySetQueries)) {
-            generator.writeKey("querySetQueries");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_QUERIES);
             generator.writeStartArray();
             for (Map<String, JsonData> item0 : this.querySetQueries) {
                 generator.writeStartObject();
@@ -169,7 +176,7 @@ public final class PutQuerySetsRequest extends RequestBase
         }
 
         if (this.sampling != null) {
-            generator.writeKey("sampling");
+            JsonpUtils.writeKey(generator, KEY_SAMPLING);
             generator.write(this.sampling);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -102,14 +104,17 @@ public class PutQuerySetsResponse implements PlainJsonSerializable, ToCopyableBu
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_QUERY_SET_ID = JsonpKey.of("query_set_id");
+    private static final JsonpKey KEY_QUERY_SET_RESULT = JsonpKey.of("query_set_result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.querySetId != null) {
-            generator.writeKey("query_set_id");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_ID);
             generator.write(this.querySetId);
         }
 
         if (this.querySetResult != null) {
-            generator.writeKey("query_set_result");
+            JsonpUtils.writeKey(generator, KEY_QUERY_SET_RESULT);
             generator.write(this.querySetResult);
         }
     }
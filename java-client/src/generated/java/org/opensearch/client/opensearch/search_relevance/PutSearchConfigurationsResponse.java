@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,14 +109,17 @@ public class PutSearchConfigurationsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SEARCH_CONFIGURATION_ID = JsonpKey.of("search_configuration_id");
+    private static final JsonpKey KEY_SEARCH_CONFIGURATION_RESULT = JsonpKey.of("search_configuration_result");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.searchConfigurationId != null) {
-            generator.writeKey("search_configuration_id");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONFIGURATION_ID);
             generator.write(this.searchConfigurationId);
         }
 
         if (this.searchConfigurationResult != null) {
-            generator.writeKey("search_configuration_result");
+            JsonpUtils.writeKey(generator, KEY_SEARCH_CONFIGURATION_RESULT);
             generator.write(this.searchConfigurationResult);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -224,9 +226,22 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISABLED_REST_CATEGORIES = JsonpKey.of("disabled_rest_categories");
+    private static final JsonpKey KEY_DISABLED_TRANSPORT_CATEGORIES = JsonpKey.of("disabled_transport_categories");
+    private static final JsonpKey KEY_ENABLE_REST = JsonpKey.of("enable_rest");
+    private static final JsonpKey KEY_ENABLE_TRANSPORT = JsonpKey.of("enable_transport");
+    private static final JsonpKey KEY_EXCLUDE_SENSITIVE_HEADERS = JsonpKey.of("exclude_sensitive_headers");
+    private static final JsonpKey KEY_IGNORE_HEADERS = JsonpKey.of("ignore_headers");
+    private static final JsonpKey KEY_IGNORE_REQUESTS = JsonpKey.of("ignore_requests");
+    private static final JsonpKey KEY_IGNORE_URL_PARAMS = JsonpKey.of("ignore_url_params");
+    private static final JsonpKey KEY_IGNORE_USERS = JsonpKey.of("ignore_users");
+    private static final JsonpKey KEY_LOG_REQUEST_BODY = JsonpKey.of("log_request_body");
+    private static final JsonpKey KEY_RESOLVE_BULK_REQUESTS = JsonpKey.of("resolve_bulk_requests");
+    private static final JsonpKey KEY_RESOLVE_INDICES = JsonpKey.of("resolve_indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.disabledRestCategories)) {
-            generator.writeKey("disabled_rest_categories");
+            JsonpUtils.writeKey(generator, KEY_DISABLED_REST_CATEGORIES);
             generator.writeStartArray();
             for (String item0 : this.disabledRestCategories) {
                 generator.write(item0);
@@ -235,7 +250,7 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.disabledTransportCategories)) {
-            generator.writeKey("disabled_transport_categories");
+            JsonpUtils.writeKey(generator, KEY_DISABLED_TRANSPORT_CATEGORIES);
             generator.writeStartArray();
             for (String item0 : this.disabledTransportCategories) {
                 generator.write(item0);
@@ -244,22 +259,22 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.enableRest != null) {
-            generator.writeKey("enable_rest");
+            JsonpUtils.writeKey(generator, KEY_ENABLE_REST);
             generator.write(this.enableRest);
         }
 
         if (this.enableTransport != null) {
-            generator.writeKey("enable_transport");
+            JsonpUtils.writeKey(generator, KEY_ENABLE_TRANSPORT);
             generator.write(this.enableTransport);
         }
 
         if (this.excludeSensitiveHeaders != null) {
-            generator.writeKey("exclude_sensitive_headers");
+            JsonpUtils.writeKey(generator, KEY_EXCLUDE_SENSITIVE_HEADERS);
             generator.write(this.excludeSensitiveHeaders);
         }
 
         if (ApiTypeHelper.isDefined(this.ignoreHeaders)) {
-            generator.writeKey("ignore_headers");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_HEADERS);
             generator.writeStartArray();
             for (String item0 : this.ignoreHeaders) {
                 generator.write(item0);
@@ -268,7 +283,7 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.ignoreRequests)) {
-            generator.writeKey("ignore_requests");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_REQUESTS);
             generator.writeStartArray();
             for (String item0 : this.ignoreRequests) {
                 generator.write(item0);
@@ -277,7 +292,7 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.ignoreUrlParams)) {
-            generator.writeKey("ignore_url_params");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_URL_PARAMS);
             generator.writeStartArray();
             for (String item0 : this.ignoreUrlParams) {
                 generator.write(item0);
@@ -286,7 +301,7 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.ignoreUsers)) {
-            generator.writeKey("ignore_users");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_USERS);
             generator.writeStartArray();
             for (String item0 : this.ignoreUsers) {
                 generator.write(item0);
@@ -295,17 +310,17 @@ public class AuditLogsConfig implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.logRequestBody != null) {
-            generator.writeKey("log_request_body");
+            JsonpUtils.writeKey(generator, KEY_LOG_REQUEST_BODY);
             generator.write(this.logRequestBody);
         }
 
         if (this.resolveBulkRequests != null) {
-            generator.writeKey("resolve_bulk_requests");
+            JsonpUtils.writeKey(generator, KEY_RESOLVE_BULK_REQUESTS);
             generator.write(this.resolveBulkRequests);
         }
 
         if (this.resolveIndices != null) {
-            generator.writeKey("resolve_indices");
+            JsonpUtils.writeKey(generator, KEY_RESOLVE_INDICES);
             generator.write(this.resolveIndices);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -291,9 +293,24 @@ public class AuthinfoResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_CUSTOM_ATTRIBUTE_NAMES = JsonpKey.of("custom_attribute_names");
+    private static final JsonpKey KEY_PEER_CERTIFICATES = JsonpKey.of("peer_certificates");
+    private static final JsonpKey KEY_PRINCIPAL = JsonpKey.of("principal");
+    private static final JsonpKey KEY_REMOTE_ADDRESS = JsonpKey.of("remote_address");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_SIZE_OF_BACKENDROLES = JsonpKey.of("size_of_backendroles");
+    private static final JsonpKey KEY_SIZE_OF_CUSTOM_ATTRIBUTES = JsonpKey.of("size_of_custom_attributes");
+    private static final JsonpKey KEY_SIZE_OF_USER = JsonpKey.of("size_of_user");
+    private static final JsonpKey KEY_SSO_LOGOUT_URL = JsonpKey.of("sso_logout_url");
+    private static final JsonpKey KEY_TENANTS = JsonpKey.of("tenants");
+    private static final JsonpKey KEY_USER = JsonpKey.of("user");
+    private static final JsonpKey KEY_USER_NAME = JsonpKey.of("user_name");
+    private static final JsonpKey KEY_USER_REQUESTED_TENANT = JsonpKey.of("user_requested_tenant");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -302,7 +319,7 @@ public class AuthinfoResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.customAttributeNames)) {
-            generator.writeKey("custom_attribute_names");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM_ATTRIBUTE_NAMES);
             generator.writeStartArray();
             for (String item0 : this.customAttributeNames) {
                 generator.write(item0);
@@ -311,22 +328,22 @@ public class AuthinfoResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.peerCertificates != null) {
-            generator.writeKey("peer_certificates");
+            JsonpUtils.writeKey(generator, KEY_PEER_CERTIFICATES);
             generator.write(this.peerCertificates);
         }
 
         if (this.principal != null) {
-            generator.writeKey("principal");
+            JsonpUtils.writeKey(generator, KEY_PRINCIPAL);
             generator.write(this.principal);
         }
 
         if (this.remoteAddress != null) {
-            generator.writeKey("remote_address");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_ADDRESS);
             generator.write(this.remoteAddress);
         }
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (String item0 : this.roles) {
                 generator.write(item0);
@@ -335,27 +352,27 @@ public class AuthinfoResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.sizeOfBackendroles != null) {
-            generator.writeKey("size_of_backendroles");
+            JsonpUtils.writeKey(generator, KEY_SIZE_OF_BACKENDROLES);
             generator.write(this.sizeOfBackendroles);
         }
 
         if (this.sizeOfCustomAttributes != null) {
-            generator.writeKey("size_of_custom_attributes");
+            JsonpUtils.writeKey(generator, KEY_SIZE_OF_CUSTOM_ATTRIBUTES);
             generator.write(this.sizeOfCustomAttributes);
         }
 
         if (this.sizeOfUser != null) {
-            generator.writeKey("size_of_user");
+            JsonpUtils.writeKey(generator, KEY_SIZE_OF_USER);
             generator.write(this.sizeOfUser);
         }
 
         if (this.ssoLogoutUrl != null) {
-            generator.writeKey("sso_logout_url");
+            JsonpUtils.writeKey(generator, KEY_SSO_LOGOUT_URL);
             generator.write(this.ssoLogoutUrl);
         }
 
         if (ApiTypeHelper.isDefined(this.tenants)) {
-            generator.writeKey("tenants");
+            JsonpUtils.writeKey(generator, KEY_TENANTS);
             generator.writeStartObject();
             for (Map.Entry<String, Boolean> item0 : this.tenants.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -365,17 +382,17 @@ public class AuthinfoResponse implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.user != null) {
-            generator.writeKey("user");
+            JsonpUtils.writeKey(generator, KEY_USER);
             generator.write(this.user);
         }
 
         if (this.userName != null) {
-            generator.writeKey("user_name");
+            JsonpUtils.writeKey(generator, KEY_USER_NAME);
             generator.write(this.userName);
         }
 
         if (this.userRequestedTenant != null) {
-            generator.writeKey("user_requested_tenant");
+            JsonpUtils.writeKey(generator, KEY_USER_REQUESTED_TENANT);
             generator.write(this.userRequestedTenant);
         }
     }
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -105,9 +107,12 @@ public class CertificateTypes implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HTTP = JsonpKey.of("http");
+    private static final JsonpKey KEY_TRANSPORT = JsonpKey.of("transport");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.http)) {
-            generator.writeKey("http");
+            JsonpUtils.writeKey(generator, KEY_HTTP);
             generator.writeStartArray();
             for (Map<String, CertificatesDetail> item0 : this.http) {
                 generator.writeStartObject();
@@ -123,7 +128,7 @@ public class CertificateTypes implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.transport)) {
-            generator.writeKey("transport");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT);
             generator.writeStartArray();
             for (Map<String, CertificatesDetail> item0 : this.transport) {
                 generator.writeStartObject();
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -138,29 +140,35 @@ public class CertificatesDetail implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ISSUER_DN = JsonpKey.of("issuer_dn");
+    private static final JsonpKey KEY_NOT_AFTER = JsonpKey.of("not_after");
+    private static final JsonpKey KEY_NOT_BEFORE = JsonpKey.of("not_before");
+    private static final JsonpKey KEY_SAN = JsonpKey.of("san");
+    private static final JsonpKey KEY_SUBJECT_DN = JsonpKey.of("subject_dn");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.issuerDn != null) {
-            generator.writeKey("issuer_dn");
+            JsonpUtils.writeKey(generator, KEY_ISSUER_DN);
             generator.write(this.issuerDn);
         }
 
         if (this.notAfter != null) {
-            generator.writeKey("not_after");
+            JsonpUtils.writeKey(generator, KEY_NOT_AFTER);
             generator.write(this.notAfter);
         }
 
         if (this.notBefore != null) {
-            generator.writeKey("not_before");
+            JsonpUtils.writeKey(generator, KEY_NOT_BEFORE);
             generator.write(this.notBefore);
         }
 
         if (this.san != null) {
-            generator.writeKey("san");
+            JsonpUtils.writeKey(generator, KEY_SAN);
             generator.write(this.san);
         }
 
         if (this.subjectDn != null) {
-            generator.writeKey("subject_dn");
+            JsonpUtils.writeKey(generator, KEY_SUBJECT_DN);
             generator.write(this.subjectDn);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,9 +109,12 @@ public class CertificatesPerNode implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CERTIFICATES = JsonpKey.of("certificates");
+    private static final JsonpKey KEY_NAME = JsonpKey.of("name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.certificates)) {
-            generator.writeKey("certificates");
+            JsonpUtils.writeKey(generator, KEY_CERTIFICATES);
             generator.writeStartObject();
             for (Map.Entry<String, CertificateTypes> item0 : this.certificates.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -119,7 +124,7 @@ public class CertificatesPerNode implements PlainJsonSerializable, ToCopyableBui
         }
 
         if (this.name != null) {
-            generator.writeKey("name");
+            JsonpUtils.writeKey(generator, KEY_NAME);
             generator.write(this.name);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -119,11 +121,14 @@ public final class ChangePasswordRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CURRENT_PASSWORD = JsonpKey.of("current_password");
+    private static final JsonpKey KEY_PASSWORD = JsonpKey.of("password");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("current_password");
+        JsonpUtils.writeKey(generator, KEY_CURRENT_PASSWORD);
         generator.write(this.currentPassword);
 
-        generator.writeKey("password");
+        JsonpUtils.writeKey(generator, KEY_PASSWORD);
         generator.write(this.password);
     }
 
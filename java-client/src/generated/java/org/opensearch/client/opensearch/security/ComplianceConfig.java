@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -201,24 +203,35 @@ public class ComplianceConfig implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+    private static final JsonpKey KEY_EXTERNAL_CONFIG = JsonpKey.of("external_config");
+    private static final JsonpKey KEY_INTERNAL_CONFIG = JsonpKey.of("internal_config");
+    private static final JsonpKey KEY_READ_IGNORE_USERS = JsonpKey.of("read_ignore_users");
+    private static final JsonpKey KEY_READ_METADATA_ONLY = JsonpKey.of("read_metadata_only");
+    private static final JsonpKey KEY_READ_WATCHED_FIELDS = JsonpKey.of("read_watched_fields");
+    private static final JsonpKey KEY_WRITE_IGNORE_USERS = JsonpKey.of("write_ignore_users");
+    private static final JsonpKey KEY_WRITE_LOG_DIFFS = JsonpKey.of("write_log_diffs");
+    private static final JsonpKey KEY_WRITE_METADATA_ONLY = JsonpKey.of("write_metadata_only");
+    private static final JsonpKey KEY_WRITE_WATCHED_INDICES = JsonpKey.of("write_watched_indices");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
 
         if (this.externalConfig != null) {
-            generator.writeKey("external_config");
+            JsonpUtils.writeKey(generator, KEY_EXTERNAL_CONFIG);
             generator.write(this.externalConfig);
         }
 
         if (this.internalConfig != null) {
-            generator.writeKey("internal_config");
+            JsonpUtils.writeKey(generator, KEY_INTERNAL_CONFIG);
             generator.write(this.internalConfig);
         }
 
         if (ApiTypeHelper.isDefined(this.readIgnoreUsers)) {
-            generator.writeKey("read_ignore_users");
+            JsonpUtils.writeKey(generator, KEY_READ_IGNORE_USERS);
             generator.writeStartArray();
             for (String item0 : this.readIgnoreUsers) {
                 generator.write(item0);
@@ -227,17 +240,17 @@ public class ComplianceConfig implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.readMetadataOnly != null) {
-            generator.writeKey("read_metadata_only");
+            JsonpUtils.writeKey(generator, KEY_READ_METADATA_ONLY);
             generator.write(this.readMetadataOnly);
         }
 
         if (this.readWatchedFields != null) {
-            generator.writeKey("read_watched_fields");
+            JsonpUtils.writeKey(generator, KEY_READ_WATCHED_FIELDS);
             this.readWatchedFields.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.writeIgnoreUsers)) {
-            generator.writeKey("write_ignore_users");
+            JsonpUtils.writeKey(generator, KEY_WRITE_IGNORE_USERS);
             generator.writeStartArray();
             for (String item0 : this.writeIgnoreUsers) {
                 generator.write(item0);
@@ -246,17 +259,17 @@ public class ComplianceConfig implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (this.writeLogDiffs != null) {
-            generator.writeKey("write_log_diffs");
+            JsonpUtils.writeKey(generator, KEY_WRITE_LOG_DIFFS);
             generator.write(this.writeLogDiffs);
         }
 
         if (this.writeMetadataOnly != null) {
-            generator.writeKey("write_metadata_only");
+            JsonpUtils.writeKey(generator, KEY_WRITE_METADATA_ONLY);
             generator.write(this.writeMetadataOnly);
         }
 
         if (ApiTypeHelper.isDefined(this.writeWatchedIndices)) {
-            generator.writeKey("write_watched_indices");
+            JsonpUtils.writeKey(generator, KEY_WRITE_WATCHED_INDICES);
             generator.writeStartArray();
             for (String item0 : this.writeWatchedIndices) {
                 generator.write(item0);
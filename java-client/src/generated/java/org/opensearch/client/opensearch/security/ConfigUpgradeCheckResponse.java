@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -122,14 +124,18 @@ public class ConfigUpgradeCheckResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_UPGRADE_ACTIONS = JsonpKey.of("upgradeActions");
+    private static final JsonpKey KEY_UPGRADE_AVAILABLE = JsonpKey.of("upgradeAvailable");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (ApiTypeHelper.isDefined(this.upgradeActions)) {
-            generator.writeKey("upgradeActions");
+            JsonpUtils.writeKey(generator, KEY_UPGRADE_ACTIONS);
             generator.writeStartObject();
             for (Map.Entry<String, Map<String, List<String>>> item0 : this.upgradeActions.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -150,7 +156,7 @@ public class ConfigUpgradeCheckResponse
         }
 
         if (this.upgradeAvailable != null) {
-            generator.writeKey("upgradeAvailable");
+            JsonpUtils.writeKey(generator, KEY_UPGRADE_AVAILABLE);
             generator.write(this.upgradeAvailable);
         }
     }
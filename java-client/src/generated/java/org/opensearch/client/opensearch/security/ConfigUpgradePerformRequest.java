@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,9 +111,11 @@ public final class ConfigUpgradePerformRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFIG = JsonpKey.of("config");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.config)) {
-            generator.writeKey("config");
+            JsonpUtils.writeKey(generator, KEY_CONFIG);
             generator.writeStartArray();
             for (String item0 : this.config) {
                 generator.write(item0);
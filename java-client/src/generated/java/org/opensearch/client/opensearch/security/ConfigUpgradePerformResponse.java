@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -110,14 +112,17 @@ public class ConfigUpgradePerformResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_STATUS = JsonpKey.of("status");
+    private static final JsonpKey KEY_UPGRADES = JsonpKey.of("upgrades");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.status != null) {
-            generator.writeKey("status");
+            JsonpUtils.writeKey(generator, KEY_STATUS);
             generator.write(this.status);
         }
 
         if (ApiTypeHelper.isDefined(this.upgrades)) {
-            generator.writeKey("upgrades");
+            JsonpUtils.writeKey(generator, KEY_UPGRADES);
             generator.writeStartObject();
             for (Map.Entry<String, Map<String, List<String>>> item0 : this.upgrades.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -179,9 +181,16 @@ public final class CreateActionGroupRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOWED_ACTIONS = JsonpKey.of("allowed_actions");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_RESERVED = JsonpKey.of("reserved");
+    private static final JsonpKey KEY_STATIC_ = JsonpKey.of("static");
+    private static final JsonpKey KEY_TYPE = JsonpKey.of("type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.allowedActions)) {
-            generator.writeKey("allowed_actions");
+            JsonpUtils.writeKey(generator, KEY_ALLOWED_ACTIONS);
             generator.writeStartArray();
             for (String item0 : this.allowedActions) {
                 generator.write(item0);
@@ -190,27 +199,27 @@ public final class CreateActionGroupRequest extends RequestBase
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (this.reserved != null) {
-            generator.writeKey("reserved");
+            JsonpUtils.writeKey(generator, KEY_RESERVED);
             generator.write(this.reserved);
         }
 
         if (this.static_ != null) {
-            generator.writeKey("static");
+            JsonpUtils.writeKey(generator, KEY_STATIC_);
             generator.write(this.static_);
         }
 
         if (this.type != null) {
-            generator.writeKey("type");
+            JsonpUtils.writeKey(generator, KEY_TYPE);
             generator.write(this.type);
         }
     }
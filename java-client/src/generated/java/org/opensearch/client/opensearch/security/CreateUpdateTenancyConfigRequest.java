@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -142,24 +144,29 @@ public final class CreateUpdateTenancyConfigRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_TENANT = JsonpKey.of("default_tenant");
+    private static final JsonpKey KEY_MULTITENANCY_ENABLED = JsonpKey.of("multitenancy_enabled");
+    private static final JsonpKey KEY_PRIVATE_TENANT_ENABLED = JsonpKey.of("private_tenant_enabled");
+    private static final JsonpKey KEY_SIGN_IN_OPTIONS = JsonpKey.of("sign_in_options");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.defaultTenant != null) {
-            generator.writeKey("default_tenant");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_TENANT);
             generator.write(this.defaultTenant);
         }
 
         if (this.multitenancyEnabled != null) {
-            generator.writeKey("multitenancy_enabled");
+            JsonpUtils.writeKey(generator, KEY_MULTITENANCY_ENABLED);
             generator.write(this.multitenancyEnabled);
         }
 
         if (this.privateTenantEnabled != null) {
-            generator.writeKey("private_tenant_enabled");
+            JsonpUtils.writeKey(generator, KEY_PRIVATE_TENANT_ENABLED);
             generator.write(this.privateTenantEnabled);
         }
 
         if (ApiTypeHelper.isDefined(this.signInOptions)) {
-            generator.writeKey("sign_in_options");
+            JsonpUtils.writeKey(generator, KEY_SIGN_IN_OPTIONS);
             generator.writeStartArray();
             for (String item0 : this.signInOptions) {
                 generator.write(item0);
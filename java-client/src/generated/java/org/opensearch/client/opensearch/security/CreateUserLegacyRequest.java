@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -215,9 +217,19 @@ public final class CreateUserLegacyRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ATTRIBUTES = JsonpKey.of("attributes");
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_HASH = JsonpKey.of("hash");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_OPENDISTRO_SECURITY_ROLES = JsonpKey.of("opendistro_security_roles");
+    private static final JsonpKey KEY_PASSWORD = JsonpKey.of("password");
+    private static final JsonpKey KEY_RESERVED = JsonpKey.of("reserved");
+    private static final JsonpKey KEY_STATIC_ = JsonpKey.of("static");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.attributes)) {
-            generator.writeKey("attributes");
+            JsonpUtils.writeKey(generator, KEY_ATTRIBUTES);
             generator.writeStartObject();
             for (Map.Entry<String, String> item0 : this.attributes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -227,7 +239,7 @@ public final class CreateUserLegacyRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -236,22 +248,22 @@ public final class CreateUserLegacyRequest extends RequestBase
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.hash != null) {
-            generator.writeKey("hash");
+            JsonpUtils.writeKey(generator, KEY_HASH);
             generator.write(this.hash);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (ApiTypeHelper.isDefined(this.opendistroSecurityRoles)) {
-            generator.writeKey("opendistro_security_roles");
+            JsonpUtils.writeKey(generator, KEY_OPENDISTRO_SECURITY_ROLES);
             generator.writeStartArray();
             for (String item0 : this.opendistroSecurityRoles) {
                 generator.write(item0);
@@ -260,17 +272,17 @@ public final class CreateUserLegacyRequest extends RequestBase
         }
 
         if (this.password != null) {
-            generator.writeKey("password");
+            JsonpUtils.writeKey(generator, KEY_PASSWORD);
             generator.write(this.password);
         }
 
         if (this.reserved != null) {
-            generator.writeKey("reserved");
+            JsonpUtils.writeKey(generator, KEY_RESERVED);
             generator.write(this.reserved);
         }
 
         if (this.static_ != null) {
-            generator.writeKey("static");
+            JsonpUtils.writeKey(generator, KEY_STATIC_);
             generator.write(this.static_);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -90,9 +92,11 @@ public class DynamicConfig implements PlainJsonSerializable, ToCopyableBuilder<D
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DYNAMIC = JsonpKey.of("dynamic");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.dynamic != null) {
-            generator.writeKey("dynamic");
+            JsonpUtils.writeKey(generator, KEY_DYNAMIC);
             this.dynamic.serialize(generator, mapper);
         }
     }
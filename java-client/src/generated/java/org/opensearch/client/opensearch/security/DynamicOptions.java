@@ -46,7 +46,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -261,9 +263,25 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AUTH_FAILURE_LISTENERS = JsonpKey.of("auth_failure_listeners");
+    private static final JsonpKey KEY_AUTHC = JsonpKey.of("authc");
+    private static final JsonpKey KEY_AUTHZ = JsonpKey.of("authz");
+    private static final JsonpKey KEY_DISABLE_INTERTRANSPORT_AUTH = JsonpKey.of("disable_intertransport_auth");
+    private static final JsonpKey KEY_DISABLE_REST_AUTH = JsonpKey.of("disable_rest_auth");
+    private static final JsonpKey KEY_DO_NOT_FAIL_ON_FORBIDDEN = JsonpKey.of("do_not_fail_on_forbidden");
+    private static final JsonpKey KEY_DO_NOT_FAIL_ON_FORBIDDEN_EMPTY = JsonpKey.of("do_not_fail_on_forbidden_empty");
+    private static final JsonpKey KEY_FILTERED_ALIAS_MODE = JsonpKey.of("filtered_alias_mode");
+    private static final JsonpKey KEY_HOSTS_RESOLVER_MODE = JsonpKey.of("hosts_resolver_mode");
+    private static final JsonpKey KEY_HTTP = JsonpKey.of("http");
+    private static final JsonpKey KEY_KIBANA = JsonpKey.of("kibana");
+    private static final JsonpKey KEY_MULTI_ROLESPAN_ENABLED = JsonpKey.of("multi_rolespan_enabled");
+    private static final JsonpKey KEY_ON_BEHALF_OF = JsonpKey.of("on_behalf_of");
+    private static final JsonpKey KEY_OPENSEARCH_DASHBOARDS = JsonpKey.of("opensearch-dashboards");
+    private static final JsonpKey KEY_RESPECT_REQUEST_INDICES_OPTIONS = JsonpKey.of("respect_request_indices_options");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.authFailureListeners)) {
-            generator.writeKey("auth_failure_listeners");
+            JsonpUtils.writeKey(generator, KEY_AUTH_FAILURE_LISTENERS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.authFailureListeners.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -273,7 +291,7 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.authc)) {
-            generator.writeKey("authc");
+            JsonpUtils.writeKey(generator, KEY_AUTHC);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.authc.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -283,7 +301,7 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.authz)) {
-            generator.writeKey("authz");
+            JsonpUtils.writeKey(generator, KEY_AUTHZ);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.authz.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -293,37 +311,37 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.disableIntertransportAuth != null) {
-            generator.writeKey("disable_intertransport_auth");
+            JsonpUtils.writeKey(generator, KEY_DISABLE_INTERTRANSPORT_AUTH);
             generator.write(this.disableIntertransportAuth);
         }
 
         if (this.disableRestAuth != null) {
-            generator.writeKey("disable_rest_auth");
+            JsonpUtils.writeKey(generator, KEY_DISABLE_REST_AUTH);
             generator.write(this.disableRestAuth);
         }
 
         if (this.doNotFailOnForbidden != null) {
-            generator.writeKey("do_not_fail_on_forbidden");
+            JsonpUtils.writeKey(generator, KEY_DO_NOT_FAIL_ON_FORBIDDEN);
             generator.write(this.doNotFailOnForbidden);
         }
 
         if (this.doNotFailOnForbiddenEmpty != null) {
-            generator.writeKey("do_not_fail_on_forbidden_empty");
+            JsonpUtils.writeKey(generator, KEY_DO_NOT_FAIL_ON_FORBIDDEN_EMPTY);
             generator.write(this.doNotFailOnForbiddenEmpty);
         }
 
         if (this.filteredAliasMode != null) {
-            generator.writeKey("filtered_alias_mode");
+            JsonpUtils.writeKey(generator, KEY_FILTERED_ALIAS_MODE);
             generator.write(this.filteredAliasMode);
         }
 
         if (this.hostsResolverMode != null) {
-            generator.writeKey("hosts_resolver_mode");
+            JsonpUtils.writeKey(generator, KEY_HOSTS_RESOLVER_MODE);
             generator.write(this.hostsResolverMode);
         }
 
         if (ApiTypeHelper.isDefined(this.http)) {
-            generator.writeKey("http");
+            JsonpUtils.writeKey(generator, KEY_HTTP);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.http.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -333,7 +351,7 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.kibana)) {
-            generator.writeKey("kibana");
+            JsonpUtils.writeKey(generator, KEY_KIBANA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.kibana.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -343,12 +361,12 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.multiRolespanEnabled != null) {
-            generator.writeKey("multi_rolespan_enabled");
+            JsonpUtils.writeKey(generator, KEY_MULTI_ROLESPAN_ENABLED);
             generator.write(this.multiRolespanEnabled);
         }
 
         if (ApiTypeHelper.isDefined(this.onBehalfOf)) {
-            generator.writeKey("on_behalf_of");
+            JsonpUtils.writeKey(generator, KEY_ON_BEHALF_OF);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.onBehalfOf.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -358,7 +376,7 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (ApiTypeHelper.isDefined(this.opensearchDashboards)) {
-            generator.writeKey("opensearch-dashboards");
+            JsonpUtils.writeKey(generator, KEY_OPENSEARCH_DASHBOARDS);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.opensearchDashboards.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -368,7 +386,7 @@ public class DynamicOptions implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.respectRequestIndicesOptions != null) {
-            generator.writeKey("respect_request_indices_options");
+            JsonpUtils.writeKey(generator, KEY_RESPECT_REQUEST_INDICES_OPTIONS);
             generator.write(this.respectRequestIndicesOptions);
         }
     }
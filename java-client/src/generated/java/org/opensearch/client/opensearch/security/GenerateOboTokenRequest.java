@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -136,17 +138,21 @@ public final class GenerateOboTokenRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_DURATION = JsonpKey.of("duration");
+    private static final JsonpKey KEY_SERVICE = JsonpKey.of("service");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("description");
+        JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
         generator.write(this.description);
 
         if (this.duration != null) {
-            generator.writeKey("duration");
+            JsonpUtils.writeKey(generator, KEY_DURATION);
             generator.write(this.duration);
         }
 
         if (this.service != null) {
-            generator.writeKey("service");
+            JsonpUtils.writeKey(generator, KEY_SERVICE);
             generator.write(this.service);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,19 +128,23 @@ public class GenerateOboTokenResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AUTHENTICATION_TOKEN = JsonpKey.of("authenticationToken");
+    private static final JsonpKey KEY_DURATION_SECONDS = JsonpKey.of("durationSeconds");
+    private static final JsonpKey KEY_USER = JsonpKey.of("user");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.authenticationToken != null) {
-            generator.writeKey("authenticationToken");
+            JsonpUtils.writeKey(generator, KEY_AUTHENTICATION_TOKEN);
             generator.write(this.authenticationToken);
         }
 
         if (this.durationSeconds != null) {
-            generator.writeKey("durationSeconds");
+            JsonpUtils.writeKey(generator, KEY_DURATION_SECONDS);
             generator.write(this.durationSeconds);
         }
 
         if (this.user != null) {
-            generator.writeKey("user");
+            JsonpUtils.writeKey(generator, KEY_USER);
             generator.write(this.user);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -191,9 +193,19 @@ public class GetAccountDetailsResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_CUSTOM_ATTRIBUTE_NAMES = JsonpKey.of("custom_attribute_names");
+    private static final JsonpKey KEY_IS_HIDDEN = JsonpKey.of("is_hidden");
+    private static final JsonpKey KEY_IS_INTERNAL_USER = JsonpKey.of("is_internal_user");
+    private static final JsonpKey KEY_IS_RESERVED = JsonpKey.of("is_reserved");
+    private static final JsonpKey KEY_ROLES = JsonpKey.of("roles");
+    private static final JsonpKey KEY_TENANTS = JsonpKey.of("tenants");
+    private static final JsonpKey KEY_USER_NAME = JsonpKey.of("user_name");
+    private static final JsonpKey KEY_USER_REQUESTED_TENANT = JsonpKey.of("user_requested_tenant");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -202,7 +214,7 @@ public class GetAccountDetailsResponse
         }
 
         if (ApiTypeHelper.isDefined(this.customAttributeNames)) {
-            generator.writeKey("custom_attribute_names");
+            JsonpUtils.writeKey(generator, KEY_CUSTOM_ATTRIBUTE_NAMES);
             generator.writeStartArray();
             for (String item0 : this.customAttributeNames) {
                 generator.write(item0);
@@ -211,22 +223,22 @@ public class GetAccountDetailsResponse
         }
 
         if (this.isHidden != null) {
-            generator.writeKey("is_hidden");
+            JsonpUtils.writeKey(generator, KEY_IS_HIDDEN);
             generator.write(this.isHidden);
         }
 
         if (this.isInternalUser != null) {
-            generator.writeKey("is_internal_user");
+            JsonpUtils.writeKey(generator, KEY_IS_INTERNAL_USER);
             generator.write(this.isInternalUser);
         }
 
         if (this.isReserved != null) {
-            generator.writeKey("is_reserved");
+            JsonpUtils.writeKey(generator, KEY_IS_RESERVED);
             generator.write(this.isReserved);
         }
 
         if (ApiTypeHelper.isDefined(this.roles)) {
-            generator.writeKey("roles");
+            JsonpUtils.writeKey(generator, KEY_ROLES);
             generator.writeStartArray();
             for (String item0 : this.roles) {
                 generator.write(item0);
@@ -235,17 +247,17 @@ public class GetAccountDetailsResponse
         }
 
         if (this.tenants != null) {
-            generator.writeKey("tenants");
+            JsonpUtils.writeKey(generator, KEY_TENANTS);
             this.tenants.serialize(generator, mapper);
         }
 
         if (this.userName != null) {
-            generator.writeKey("user_name");
+            JsonpUtils.writeKey(generator, KEY_USER_NAME);
             generator.write(this.userName);
         }
 
         if (this.userRequestedTenant != null) {
-            generator.writeKey("user_requested_tenant");
+            JsonpUtils.writeKey(generator, KEY_USER_REQUESTED_TENANT);
             generator.write(this.userRequestedTenant);
         }
     }
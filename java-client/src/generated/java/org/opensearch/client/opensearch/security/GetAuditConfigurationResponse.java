@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,14 +111,17 @@ public class GetAuditConfigurationResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CONFIG = JsonpKey.of("config");
+    private static final JsonpKey KEY_READONLY = JsonpKey.of("_readonly");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.config != null) {
-            generator.writeKey("config");
+            JsonpUtils.writeKey(generator, KEY_CONFIG);
             this.config.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.readonly)) {
-            generator.writeKey("_readonly");
+            JsonpUtils.writeKey(generator, KEY_READONLY);
             generator.writeStartArray();
             for (String item0 : this.readonly) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -107,9 +109,12 @@ public class GetCertificatesResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_HTTP_CERTIFICATES_LIST = JsonpKey.of("http_certificates_list");
+    private static final JsonpKey KEY_TRANSPORT_CERTIFICATES_LIST = JsonpKey.of("transport_certificates_list");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.httpCertificatesList)) {
-            generator.writeKey("http_certificates_list");
+            JsonpUtils.writeKey(generator, KEY_HTTP_CERTIFICATES_LIST);
             generator.writeStartArray();
             for (CertificatesDetail item0 : this.httpCertificatesList) {
                 item0.serialize(generator, mapper);
@@ -118,7 +123,7 @@ public class GetCertificatesResponse
         }
 
         if (ApiTypeHelper.isDefined(this.transportCertificatesList)) {
-            generator.writeKey("transport_certificates_list");
+            JsonpUtils.writeKey(generator, KEY_TRANSPORT_CERTIFICATES_LIST);
             generator.writeStartArray();
             for (CertificatesDetail item0 : this.transportCertificatesList) {
                 item0.serialize(generator, mapper);
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -137,9 +139,14 @@ public class GetPermissionsInfoResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DISABLED_ENDPOINTS = JsonpKey.of("disabled_endpoints");
+    private static final JsonpKey KEY_HAS_API_ACCESS = JsonpKey.of("has_api_access");
+    private static final JsonpKey KEY_USER = JsonpKey.of("user");
+    private static final JsonpKey KEY_USER_NAME = JsonpKey.of("user_name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.disabledEndpoints)) {
-            generator.writeKey("disabled_endpoints");
+            JsonpUtils.writeKey(generator, KEY_DISABLED_ENDPOINTS);
             generator.writeStartObject();
             for (Map.Entry<String, List<String>> item0 : this.disabledEndpoints.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -155,17 +162,17 @@ public class GetPermissionsInfoResponse
         }
 
         if (this.hasApiAccess != null) {
-            generator.writeKey("has_api_access");
+            JsonpUtils.writeKey(generator, KEY_HAS_API_ACCESS);
             generator.write(this.hasApiAccess);
         }
 
         if (this.user != null) {
-            generator.writeKey("user");
+            JsonpUtils.writeKey(generator, KEY_USER);
             generator.write(this.user);
         }
 
         if (this.userName != null) {
-            generator.writeKey("user_name");
+            JsonpUtils.writeKey(generator, KEY_USER_NAME);
             generator.write(this.userName);
         }
     }
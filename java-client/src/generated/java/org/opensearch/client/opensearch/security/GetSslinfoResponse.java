@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -313,9 +315,25 @@ public class GetSslinfoResponse implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_LOCAL_CERTIFICATES_LIST = JsonpKey.of("local_certificates_list");
+    private static final JsonpKey KEY_PEER_CERTIFICATES = JsonpKey.of("peer_certificates");
+    private static final JsonpKey KEY_PEER_CERTIFICATES_LIST = JsonpKey.of("peer_certificates_list");
+    private static final JsonpKey KEY_PRINCIPAL = JsonpKey.of("principal");
+    private static final JsonpKey KEY_SSL_CIPHER = JsonpKey.of("ssl_cipher");
+    private static final JsonpKey KEY_SSL_OPENSSL_AVAILABLE = JsonpKey.of("ssl_openssl_available");
+    private static final JsonpKey KEY_SSL_OPENSSL_NON_AVAILABLE_CAUSE = JsonpKey.of("ssl_openssl_non_available_cause");
+    private static final JsonpKey KEY_SSL_OPENSSL_SUPPORTS_HOSTNAME_VALIDATION = JsonpKey.of("ssl_openssl_supports_hostname_validation");
+    private static final JsonpKey KEY_SSL_OPENSSL_SUPPORTS_KEY_MANAGER_FACTORY = JsonpKey.of("ssl_openssl_supports_key_manager_factory");
+    private static final JsonpKey KEY_SSL_OPENSSL_VERSION = JsonpKey.of("ssl_openssl_version");
+    private static final JsonpKey KEY_SSL_OPENSSL_VERSION_STRING = JsonpKey.of("ssl_openssl_version_string");
+    private static final JsonpKey KEY_SSL_PROTOCOL = JsonpKey.of("ssl_protocol");
+    private static final JsonpKey KEY_SSL_PROVIDER_HTTP = JsonpKey.of("ssl_provider_http");
+    private static final JsonpKey KEY_SSL_PROVIDER_TRANSPORT_CLIENT = JsonpKey.of("ssl_provider_transport_client");
+    private static final JsonpKey KEY_SSL_PROVIDER_TRANSPORT_SERVER = JsonpKey.of("ssl_provider_transport_server");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.localCertificatesList)) {
-            generator.writeKey("local_certificates_list");
+            JsonpUtils.writeKey(generator, KEY_LOCAL_CERTIFICATES_LIST);
             generator.writeStartArray();
             for (String item0 : this.localCertificatesList) {
                 generator.write(item0);
@@ -323,11 +341,11 @@ public class GetSslinfoResponse implements PlainJsonSerializable, ToCopyableBuil
             generator.writeEnd();
         }
 
-        generator.writeKey("peer_certificates");
+        JsonpUtils.writeKey(generator, KEY_PEER_CERTIFICATES);
         generator.write(this.peerCertificates);
 
         if (ApiTypeHelper.isDefined(this.peerCertificatesList)) {
-            generator.writeKey("peer_certificates_list");
+            JsonpUtils.writeKey(generator, KEY_PEER_CERTIFICATES_LIST);
             generator.writeStartArray();
             for (String item0 : this.peerCertificatesList) {
                 generator.write(item0);
@@ -336,59 +354,59 @@ public class GetSslinfoResponse implements PlainJsonSerializable, ToCopyableBuil
         }
 
         if (this.principal != null) {
-            generator.writeKey("principal");
+            JsonpUtils.writeKey(generator, KEY_PRINCIPAL);
             generator.write(this.principal);
         }
 
         if (this.sslCipher != null) {
-            generator.writeKey("ssl_cipher");
+            JsonpUtils.writeKey(generator, KEY_SSL_CIPHER);
             generator.write(this.sslCipher);
         }
 
         if (this.sslOpensslAvailable != null) {
-            generator.writeKey("ssl_openssl_available");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_AVAILABLE);
             generator.write(this.sslOpensslAvailable);
         }
 
         if (this.sslOpensslNonAvailableCause != null) {
-            generator.writeKey("ssl_openssl_non_available_cause");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_NON_AVAILABLE_CAUSE);
             generator.write(this.sslOpensslNonAvailableCause);
         }
 
         if (this.sslOpensslSupportsHostnameValidation != null) {
-            generator.writeKey("ssl_openssl_supports_hostname_validation");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_SUPPORTS_HOSTNAME_VALIDATION);
             generator.write(this.sslOpensslSupportsHostnameValidation);
         }
 
         if (this.sslOpensslSupportsKeyManagerFactory != null) {
-            generator.writeKey("ssl_openssl_supports_key_manager_factory");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_SUPPORTS_KEY_MANAGER_FACTORY);
             generator.write(this.sslOpensslSupportsKeyManagerFactory);
         }
 
         if (this.sslOpensslVersion != null) {
-            generator.writeKey("ssl_openssl_version");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_VERSION);
             generator.write(this.sslOpensslVersion);
         }
 
         if (this.sslOpensslVersionString != null) {
-            generator.writeKey("ssl_openssl_version_string");
+            JsonpUtils.writeKey(generator, KEY_SSL_OPENSSL_VERSION_STRING);
             generator.write(this.sslOpensslVersionString);
         }
 
         if (this.sslProtocol != null) {
-            generator.writeKey("ssl_protocol");
+            JsonpUtils.writeKey(generator, KEY_SSL_PROTOCOL);
             generator.write(this.sslProtocol);
         }
 
         if (this.sslProviderHttp != null) {
-            generator.writeKey("ssl_provider_http");
+            JsonpUtils.writeKey(generator, KEY_SSL_PROVIDER_HTTP);
             generator.write(this.sslProviderHttp);
         }
 
-        generator.writeKey("ssl_provider_transport_client");
+        JsonpUtils.writeKey(generator, KEY_SSL_PROVIDER_TRANSPORT_CLIENT);
         generator.write(this.sslProviderTransportClient);
 
-        generator.writeKey("ssl_provider_transport_server");
+        JsonpUtils.writeKey(generator, KEY_SSL_PROVIDER_TRANSPORT_SERVER);
         generator.write(this.sslProviderTransportServer);
     }
 
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -140,9 +142,15 @@ public class IndexPermission implements PlainJsonSerializable, ToCopyableBuilder
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOWED_ACTIONS = JsonpKey.of("allowed_actions");
+    private static final JsonpKey KEY_DLS = JsonpKey.of("dls");
+    private static final JsonpKey KEY_FLS = JsonpKey.of("fls");
+    private static final JsonpKey KEY_INDEX_PATTERNS = JsonpKey.of("index_patterns");
+    private static final JsonpKey KEY_MASKED_FIELDS = JsonpKey.of("masked_fields");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.allowedActions)) {
-            generator.writeKey("allowed_actions");
+            JsonpUtils.writeKey(generator, KEY_ALLOWED_ACTIONS);
             generator.writeStartArray();
             for (String item0 : this.allowedActions) {
                 generator.write(item0);
@@ -151,12 +159,12 @@ public class IndexPermission implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (this.dls != null) {
-            generator.writeKey("dls");
+            JsonpUtils.writeKey(generator, KEY_DLS);
             generator.write(this.dls);
         }
 
         if (ApiTypeHelper.isDefined(this.fls)) {
-            generator.writeKey("fls");
+            JsonpUtils.writeKey(generator, KEY_FLS);
             generator.writeStartArray();
             for (String item0 : this.fls) {
                 generator.write(item0);
@@ -165,7 +173,7 @@ public class IndexPermission implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.indexPatterns)) {
-            generator.writeKey("index_patterns");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PATTERNS);
             generator.writeStartArray();
             for (String item0 : this.indexPatterns) {
                 generator.write(item0);
@@ -174,7 +182,7 @@ public class IndexPermission implements PlainJsonSerializable, ToCopyableBuilder
         }
 
         if (ApiTypeHelper.isDefined(this.maskedFields)) {
-            generator.writeKey("masked_fields");
+            JsonpUtils.writeKey(generator, KEY_MASKED_FIELDS);
             generator.writeStartArray();
             for (String item0 : this.maskedFields) {
                 generator.write(item0);
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -250,54 +252,66 @@ public class PostDashboardsInfoResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DEFAULT_TENANT = JsonpKey.of("default_tenant");
+    private static final JsonpKey KEY_MULTITENANCY_ENABLED = JsonpKey.of("multitenancy_enabled");
+    private static final JsonpKey KEY_NOT_FAIL_ON_FORBIDDEN_ENABLED = JsonpKey.of("not_fail_on_forbidden_enabled");
+    private static final JsonpKey KEY_OPENSEARCH_DASHBOARDS_INDEX = JsonpKey.of("opensearch_dashboards_index");
+    private static final JsonpKey KEY_OPENSEARCH_DASHBOARDS_MT_ENABLED = JsonpKey.of("opensearch_dashboards_mt_enabled");
+    private static final JsonpKey KEY_OPENSEARCH_DASHBOARDS_SERVER_USER = JsonpKey.of("opensearch_dashboards_server_user");
+    private static final JsonpKey KEY_PASSWORD_VALIDATION_ERROR_MESSAGE = JsonpKey.of("password_validation_error_message");
+    private static final JsonpKey KEY_PASSWORD_VALIDATION_REGEX = JsonpKey.of("password_validation_regex");
+    private static final JsonpKey KEY_PRIVATE_TENANT_ENABLED = JsonpKey.of("private_tenant_enabled");
+    private static final JsonpKey KEY_SIGN_IN_OPTIONS = JsonpKey.of("sign_in_options");
+    private static final JsonpKey KEY_USER_NAME = JsonpKey.of("user_name");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.defaultTenant != null) {
-            generator.writeKey("default_tenant");
+            JsonpUtils.writeKey(generator, KEY_DEFAULT_TENANT);
             generator.write(this.defaultTenant);
         }
 
         if (this.multitenancyEnabled != null) {
-            generator.writeKey("multitenancy_enabled");
+            JsonpUtils.writeKey(generator, KEY_MULTITENANCY_ENABLED);
             generator.write(this.multitenancyEnabled);
         }
 
         if (this.notFailOnForbiddenEnabled != null) {
-            generator.writeKey("not_fail_on_forbidden_enabled");
+            JsonpUtils.writeKey(generator, KEY_NOT_FAIL_ON_FORBIDDEN_ENABLED);
             generator.write(this.notFailOnForbiddenEnabled);
         }
 
         if (this.opensearchDashboardsIndex != null) {
-            generator.writeKey("opensearch_dashboards_index");
+            JsonpUtils.writeKey(generator, KEY_OPENSEARCH_DASHBOARDS_INDEX);
             generator.write(this.opensearchDashboardsIndex);
         }
 
         if (this.opensearchDashboardsMtEnabled != null) {
-            generator.writeKey("opensearch_dashboards_mt_enabled");
+            JsonpUtils.writeKey(generator, KEY_OPENSEARCH_DASHBOARDS_MT_ENABLED);
             generator.write(this.opensearchDashboardsMtEnabled);
         }
 
         if (this.opensearchDashboardsServerUser != null) {
-            generator.writeKey("opensearch_dashboards_server_user");
+            JsonpUtils.writeKey(generator, KEY_OPENSEARCH_DASHBOARDS_SERVER_USER);
             generator.write(this.opensearchDashboardsServerUser);
         }
 
         if (this.passwordValidationErrorMessage != null) {
-            generator.writeKey("password_validation_error_message");
+            JsonpUtils.writeKey(generator, KEY_PASSWORD_VALIDATION_ERROR_MESSAGE);
             generator.write(this.passwordValidationErrorMessage);
         }
 
         if (this.passwordValidationRegex != null) {
-            generator.writeKey("password_validation_regex");
+            JsonpUtils.writeKey(generator, KEY_PASSWORD_VALIDATION_REGEX);
             generator.write(this.passwordValidationRegex);
         }
 
         if (this.privateTenantEnabled != null) {
-            generator.writeKey("private_tenant_enabled");
+            JsonpUtils.writeKey(generator, KEY_PRIVATE_TENANT_ENABLED);
             generator.write(this.privateTenantEnabled);
         }
 
         if (ApiTypeHelper.isDefined(this.signInOptions)) {
-            generator.writeKey("sign_in_options");
+            JsonpUtils.writeKey(generator, KEY_SIGN_IN_OPTIONS);
             generator.writeStartArray();
             for (String item0 : this.signInOptions) {
                 generator.write(item0);
@@ -306,7 +320,7 @@ public class PostDashboardsInfoResponse
         }
 
         if (this.userName != null) {
-            generator.writeKey("user_name");
+            JsonpUtils.writeKey(generator, KEY_USER_NAME);
             generator.write(this.userName);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -164,9 +166,17 @@ public class Role implements PlainJsonSerializable, ToCopyableBuilder<Role.Build
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CLUSTER_PERMISSIONS = JsonpKey.of("cluster_permissions");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_INDEX_PERMISSIONS = JsonpKey.of("index_permissions");
+    private static final JsonpKey KEY_RESERVED = JsonpKey.of("reserved");
+    private static final JsonpKey KEY_STATIC_ = JsonpKey.of("static");
+    private static final JsonpKey KEY_TENANT_PERMISSIONS = JsonpKey.of("tenant_permissions");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.clusterPermissions)) {
-            generator.writeKey("cluster_permissions");
+            JsonpUtils.writeKey(generator, KEY_CLUSTER_PERMISSIONS);
             generator.writeStartArray();
             for (String item0 : this.clusterPermissions) {
                 generator.write(item0);
@@ -175,17 +185,17 @@ public class Role implements PlainJsonSerializable, ToCopyableBuilder<Role.Build
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (ApiTypeHelper.isDefined(this.indexPermissions)) {
-            generator.writeKey("index_permissions");
+            JsonpUtils.writeKey(generator, KEY_INDEX_PERMISSIONS);
             generator.writeStartArray();
             for (IndexPermission item0 : this.indexPermissions) {
                 item0.serialize(generator, mapper);
@@ -194,17 +204,17 @@ public class Role implements PlainJsonSerializable, ToCopyableBuilder<Role.Build
         }
 
         if (this.reserved != null) {
-            generator.writeKey("reserved");
+            JsonpUtils.writeKey(generator, KEY_RESERVED);
             generator.write(this.reserved);
         }
 
         if (this.static_ != null) {
-            generator.writeKey("static");
+            JsonpUtils.writeKey(generator, KEY_STATIC_);
             generator.write(this.static_);
         }
 
         if (ApiTypeHelper.isDefined(this.tenantPermissions)) {
-            generator.writeKey("tenant_permissions");
+            JsonpUtils.writeKey(generator, KEY_TENANT_PERMISSIONS);
             generator.writeStartArray();
             for (TenantPermission item0 : this.tenantPermissions) {
                 item0.serialize(generator, mapper);
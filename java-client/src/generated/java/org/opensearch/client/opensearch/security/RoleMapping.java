@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -164,9 +166,17 @@ public class RoleMapping implements PlainJsonSerializable, ToCopyableBuilder<Rol
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AND_BACKEND_ROLES = JsonpKey.of("and_backend_roles");
+    private static final JsonpKey KEY_BACKEND_ROLES = JsonpKey.of("backend_roles");
+    private static final JsonpKey KEY_DESCRIPTION = JsonpKey.of("description");
+    private static final JsonpKey KEY_HIDDEN = JsonpKey.of("hidden");
+    private static final JsonpKey KEY_HOSTS = JsonpKey.of("hosts");
+    private static final JsonpKey KEY_RESERVED = JsonpKey.of("reserved");
+    private static final JsonpKey KEY_USERS = JsonpKey.of("users");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.andBackendRoles)) {
-            generator.writeKey("and_backend_roles");
+            JsonpUtils.writeKey(generator, KEY_AND_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.andBackendRoles) {
                 generator.write(item0);
@@ -175,7 +185,7 @@ public class RoleMapping implements PlainJsonSerializable, ToCopyableBuilder<Rol
         }
 
         if (ApiTypeHelper.isDefined(this.backendRoles)) {
-            generator.writeKey("backend_roles");
+            JsonpUtils.writeKey(generator, KEY_BACKEND_ROLES);
             generator.writeStartArray();
             for (String item0 : this.backendRoles) {
                 generator.write(item0);
@@ -184,17 +194,17 @@ public class RoleMapping implements PlainJsonSerializable, ToCopyableBuilder<Rol
         }
 
         if (this.description != null) {
-            generator.writeKey("description");
+            JsonpUtils.writeKey(generator, KEY_DESCRIPTION);
             generator.write(this.description);
         }
 
         if (this.hidden != null) {
-            generator.writeKey("hidden");
+            JsonpUtils.writeKey(generator, KEY_HIDDEN);
             generator.write(this.hidden);
         }
 
         if (ApiTypeHelper.isDefined(this.hosts)) {
-            generator.writeKey("hosts");
+            JsonpUtils.writeKey(generator, KEY_HOSTS);
             generator.writeStartArray();
             for (String item0 : this.hosts) {
                 generator.write(item0);
@@ -203,12 +213,12 @@ public class RoleMapping implements PlainJsonSerializable, ToCopyableBuilder<Rol
         }
 
         if (this.reserved != null) {
-            generator.writeKey("reserved");
+            JsonpUtils.writeKey(generator, KEY_RESERVED);
             generator.write(this.reserved);
         }
 
         if (ApiTypeHelper.isDefined(this.users)) {
-            generator.writeKey("users");
+            JsonpUtils.writeKey(generator, KEY_USERS);
             generator.writeStartArray();
             for (String item0 : this.users) {
                 generator.write(item0);
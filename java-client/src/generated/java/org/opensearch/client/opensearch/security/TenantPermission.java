@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -104,9 +106,12 @@ public class TenantPermission implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ALLOWED_ACTIONS = JsonpKey.of("allowed_actions");
+    private static final JsonpKey KEY_TENANT_PATTERNS = JsonpKey.of("tenant_patterns");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.allowedActions)) {
-            generator.writeKey("allowed_actions");
+            JsonpUtils.writeKey(generator, KEY_ALLOWED_ACTIONS);
             generator.writeStartArray();
             for (String item0 : this.allowedActions) {
                 generator.write(item0);
@@ -115,7 +120,7 @@ public class TenantPermission implements PlainJsonSerializable, ToCopyableBuilde
         }
 
         if (ApiTypeHelper.isDefined(this.tenantPatterns)) {
-            generator.writeKey("tenant_patterns");
+            JsonpUtils.writeKey(generator, KEY_TENANT_PATTERNS);
             generator.writeStartArray();
             for (String item0 : this.tenantPatterns) {
                 generator.write(item0);
@@ -46,7 +46,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -128,19 +130,23 @@ public final class UpdateAuditConfigurationRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_AUDIT = JsonpKey.of("audit");
+    private static final JsonpKey KEY_COMPLIANCE = JsonpKey.of("compliance");
+    private static final JsonpKey KEY_ENABLED = JsonpKey.of("enabled");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.audit != null) {
-            generator.writeKey("audit");
+            JsonpUtils.writeKey(generator, KEY_AUDIT);
             this.audit.serialize(generator, mapper);
         }
 
         if (this.compliance != null) {
-            generator.writeKey("compliance");
+            JsonpUtils.writeKey(generator, KEY_COMPLIANCE);
             this.compliance.serialize(generator, mapper);
         }
 
         if (this.enabled != null) {
-            generator.writeKey("enabled");
+            JsonpUtils.writeKey(generator, KEY_ENABLED);
             generator.write(this.enabled);
         }
     }
@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -121,9 +123,11 @@ public final class UpdateDistinguishedNameRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODES_DN = JsonpKey.of("nodes_dn");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.nodesDn)) {
-            generator.writeKey("nodes_dn");
+            JsonpUtils.writeKey(generator, KEY_NODES_DN);
             generator.writeStartArray();
             for (String item0 : this.nodesDn) {
                 generator.write(item0);
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -114,19 +116,23 @@ public class UserTenants implements PlainJsonSerializable, ToCopyableBuilder<Use
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ADMIN = JsonpKey.of("admin");
+    private static final JsonpKey KEY_ADMIN_TENANT = JsonpKey.of("admin_tenant");
+    private static final JsonpKey KEY_GLOBAL_TENANT = JsonpKey.of("global_tenant");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.admin != null) {
-            generator.writeKey("admin");
+            JsonpUtils.writeKey(generator, KEY_ADMIN);
             generator.write(this.admin);
         }
 
         if (this.adminTenant != null) {
-            generator.writeKey("admin_tenant");
+            JsonpUtils.writeKey(generator, KEY_ADMIN_TENANT);
             generator.write(this.adminTenant);
         }
 
         if (this.globalTenant != null) {
-            generator.writeKey("global_tenant");
+            JsonpUtils.writeKey(generator, KEY_GLOBAL_TENANT);
             generator.write(this.globalTenant);
         }
     }
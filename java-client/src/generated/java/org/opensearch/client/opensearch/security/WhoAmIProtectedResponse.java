@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -117,19 +119,23 @@ public class WhoAmIProtectedResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DN = JsonpKey.of("dn");
+    private static final JsonpKey KEY_IS_ADMIN = JsonpKey.of("is_admin");
+    private static final JsonpKey KEY_IS_NODE_CERTIFICATE_REQUEST = JsonpKey.of("is_node_certificate_request");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.dn != null) {
-            generator.writeKey("dn");
+            JsonpUtils.writeKey(generator, KEY_DN);
             generator.write(this.dn);
         }
 
         if (this.isAdmin != null) {
-            generator.writeKey("is_admin");
+            JsonpUtils.writeKey(generator, KEY_IS_ADMIN);
             generator.write(this.isAdmin);
         }
 
         if (this.isNodeCertificateRequest != null) {
-            generator.writeKey("is_node_certificate_request");
+            JsonpUtils.writeKey(generator, KEY_IS_NODE_CERTIFICATE_REQUEST);
             generator.write(this.isNodeCertificateRequest);
         }
     }
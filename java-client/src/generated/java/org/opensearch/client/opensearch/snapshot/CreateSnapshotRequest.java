@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -266,9 +268,16 @@ public final class CreateSnapshotRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FEATURE_STATES = JsonpKey.of("feature_states");
+    private static final JsonpKey KEY_IGNORE_UNAVAILABLE = JsonpKey.of("ignore_unavailable");
+    private static final JsonpKey KEY_INCLUDE_GLOBAL_STATE = JsonpKey.of("include_global_state");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_PARTIAL = JsonpKey.of("partial");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.featureStates)) {
-            generator.writeKey("feature_states");
+            JsonpUtils.writeKey(generator, KEY_FEATURE_STATES);
             generator.writeStartArray();
             for (String item0 : this.featureStates) {
                 generator.write(item0);
@@ -277,17 +286,17 @@ public final class CreateSnapshotRequest extends RequestBase
         }
 
         if (this.ignoreUnavailable != null) {
-            generator.writeKey("ignore_unavailable");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNAVAILABLE);
             generator.write(this.ignoreUnavailable);
         }
 
         if (this.includeGlobalState != null) {
-            generator.writeKey("include_global_state");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_GLOBAL_STATE);
             generator.write(this.includeGlobalState);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -296,7 +305,7 @@ public final class CreateSnapshotRequest extends RequestBase
         }
 
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -306,7 +315,7 @@ public final class CreateSnapshotRequest extends RequestBase
         }
 
         if (this.partial != null) {
-            generator.writeKey("partial");
+            JsonpUtils.writeKey(generator, KEY_PARTIAL);
             generator.write(this.partial);
         }
     }
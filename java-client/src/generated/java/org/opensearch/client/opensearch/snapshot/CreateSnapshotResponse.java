@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -109,14 +111,17 @@ public class CreateSnapshotResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ACCEPTED = JsonpKey.of("accepted");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.accepted != null) {
-            generator.writeKey("accepted");
+            JsonpUtils.writeKey(generator, KEY_ACCEPTED);
             generator.write(this.accepted);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             this.snapshot.serialize(generator, mapper);
         }
     }
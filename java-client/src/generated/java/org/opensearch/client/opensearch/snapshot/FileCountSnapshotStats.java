@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -111,14 +113,17 @@ public class FileCountSnapshotStats
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_FILE_COUNT = JsonpKey.of("file_count");
+    private static final JsonpKey KEY_SIZE_IN_BYTES = JsonpKey.of("size_in_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.fileCount != null) {
-            generator.writeKey("file_count");
+            JsonpUtils.writeKey(generator, KEY_FILE_COUNT);
             generator.write(this.fileCount);
         }
 
         if (this.sizeInBytes != null) {
-            generator.writeKey("size_in_bytes");
+            JsonpUtils.writeKey(generator, KEY_SIZE_IN_BYTES);
             generator.write(this.sizeInBytes);
         }
     }
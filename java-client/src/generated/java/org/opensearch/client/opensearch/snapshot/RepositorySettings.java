@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -156,29 +158,35 @@ public class RepositorySettings implements PlainJsonSerializable, ToCopyableBuil
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_CHUNK_SIZE = JsonpKey.of("chunk_size");
+    private static final JsonpKey KEY_COMPRESS = JsonpKey.of("compress");
+    private static final JsonpKey KEY_CONCURRENT_STREAMS = JsonpKey.of("concurrent_streams");
+    private static final JsonpKey KEY_LOCATION = JsonpKey.of("location");
+    private static final JsonpKey KEY_READ_ONLY = JsonpKey.of("read_only");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.chunkSize != null) {
-            generator.writeKey("chunk_size");
+            JsonpUtils.writeKey(generator, KEY_CHUNK_SIZE);
             generator.write(this.chunkSize);
         }
 
         if (this.compress != null) {
-            generator.writeKey("compress");
+            JsonpUtils.writeKey(generator, KEY_COMPRESS);
             generator.write(this.compress);
         }
 
         if (this.concurrentStreams != null) {
-            generator.writeKey("concurrent_streams");
+            JsonpUtils.writeKey(generator, KEY_CONCURRENT_STREAMS);
             generator.write(this.concurrentStreams);
         }
 
         if (this.location != null) {
-            generator.writeKey("location");
+            JsonpUtils.writeKey(generator, KEY_LOCATION);
             generator.write(this.location);
         }
 
         if (this.readOnly != null) {
-            generator.writeKey("read_only");
+            JsonpUtils.writeKey(generator, KEY_READ_ONLY);
             generator.write(this.readOnly);
         }
     }
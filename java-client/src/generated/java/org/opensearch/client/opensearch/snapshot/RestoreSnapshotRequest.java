@@ -47,7 +47,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -388,9 +390,23 @@ public final class RestoreSnapshotRequest extends RequestBase
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_IGNORE_INDEX_SETTINGS = JsonpKey.of("ignore_index_settings");
+    private static final JsonpKey KEY_IGNORE_UNAVAILABLE = JsonpKey.of("ignore_unavailable");
+    private static final JsonpKey KEY_INCLUDE_ALIASES = JsonpKey.of("include_aliases");
+    private static final JsonpKey KEY_INCLUDE_GLOBAL_STATE = JsonpKey.of("include_global_state");
+    private static final JsonpKey KEY_INDEX_SETTINGS = JsonpKey.of("index_settings");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_PARTIAL = JsonpKey.of("partial");
+    private static final JsonpKey KEY_RENAME_ALIAS_PATTERN = JsonpKey.of("rename_alias_pattern");
+    private static final JsonpKey KEY_RENAME_ALIAS_REPLACEMENT = JsonpKey.of("rename_alias_replacement");
+    private static final JsonpKey KEY_RENAME_PATTERN = JsonpKey.of("rename_pattern");
+    private static final JsonpKey KEY_RENAME_REPLACEMENT = JsonpKey.of("rename_replacement");
+    private static final JsonpKey KEY_SOURCE_REMOTE_STORE_REPOSITORY = JsonpKey.of("source_remote_store_repository");
+    private static final JsonpKey KEY_STORAGE_TYPE = JsonpKey.of("storage_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.ignoreIndexSettings)) {
-            generator.writeKey("ignore_index_settings");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_INDEX_SETTINGS);
             generator.writeStartArray();
             for (String item0 : this.ignoreIndexSettings) {
                 generator.write(item0);
@@ -399,27 +415,27 @@ public final class RestoreSnapshotRequest extends RequestBase
         }
 
         if (this.ignoreUnavailable != null) {
-            generator.writeKey("ignore_unavailable");
+            JsonpUtils.writeKey(generator, KEY_IGNORE_UNAVAILABLE);
             generator.write(this.ignoreUnavailable);
         }
 
         if (this.includeAliases != null) {
-            generator.writeKey("include_aliases");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_ALIASES);
             generator.write(this.includeAliases);
         }
 
         if (this.includeGlobalState != null) {
-            generator.writeKey("include_global_state");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_GLOBAL_STATE);
             generator.write(this.includeGlobalState);
         }
 
         if (this.indexSettings != null) {
-            generator.writeKey("index_settings");
+            JsonpUtils.writeKey(generator, KEY_INDEX_SETTINGS);
             this.indexSettings.serialize(generator, mapper);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -428,37 +444,37 @@ public final class RestoreSnapshotRequest extends RequestBase
         }
 
         if (this.partial != null) {
-            generator.writeKey("partial");
+            JsonpUtils.writeKey(generator, KEY_PARTIAL);
             generator.write(this.partial);
         }
 
         if (this.renameAliasPattern != null) {
-            generator.writeKey("rename_alias_pattern");
+            JsonpUtils.writeKey(generator, KEY_RENAME_ALIAS_PATTERN);
             generator.write(this.renameAliasPattern);
         }
 
         if (this.renameAliasReplacement != null) {
-            generator.writeKey("rename_alias_replacement");
+            JsonpUtils.writeKey(generator, KEY_RENAME_ALIAS_REPLACEMENT);
             generator.write(this.renameAliasReplacement);
         }
 
         if (this.renamePattern != null) {
-            generator.writeKey("rename_pattern");
+            JsonpUtils.writeKey(generator, KEY_RENAME_PATTERN);
             generator.write(this.renamePattern);
         }
 
         if (this.renameReplacement != null) {
-            generator.writeKey("rename_replacement");
+            JsonpUtils.writeKey(generator, KEY_RENAME_REPLACEMENT);
             generator.write(this.renameReplacement);
         }
 
         if (this.sourceRemoteStoreRepository != null) {
-            generator.writeKey("source_remote_store_repository");
+            JsonpUtils.writeKey(generator, KEY_SOURCE_REMOTE_STORE_REPOSITORY);
             generator.write(this.sourceRemoteStoreRepository);
         }
 
         if (this.storageType != null) {
-            generator.writeKey("storage_type");
+            JsonpUtils.writeKey(generator, KEY_STORAGE_TYPE);
             generator.write(this.storageType);
         }
     }
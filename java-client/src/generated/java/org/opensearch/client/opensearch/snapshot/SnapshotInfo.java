@@ -47,7 +47,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -384,9 +386,30 @@ public class SnapshotInfo implements PlainJsonSerializable, ToCopyableBuilder<Sn
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DATA_STREAMS = JsonpKey.of("data_streams");
+    private static final JsonpKey KEY_DURATION = JsonpKey.of("duration");
+    private static final JsonpKey KEY_DURATION_IN_MILLIS = JsonpKey.of("duration_in_millis");
+    private static final JsonpKey KEY_END_TIME = JsonpKey.of("end_time");
+    private static final JsonpKey KEY_END_TIME_IN_MILLIS = JsonpKey.of("end_time_in_millis");
+    private static final JsonpKey KEY_FAILURES = JsonpKey.of("failures");
+    private static final JsonpKey KEY_INCLUDE_GLOBAL_STATE = JsonpKey.of("include_global_state");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_METADATA = JsonpKey.of("metadata");
+    private static final JsonpKey KEY_PINNED_TIMESTAMP = JsonpKey.of("pinned_timestamp");
+    private static final JsonpKey KEY_REASON = JsonpKey.of("reason");
+    private static final JsonpKey KEY_REMOTE_STORE_INDEX_SHALLOW_COPY = JsonpKey.of("remote_store_index_shallow_copy");
+    private static final JsonpKey KEY_SHARDS = JsonpKey.of("shards");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+    private static final JsonpKey KEY_START_TIME = JsonpKey.of("start_time");
+    private static final JsonpKey KEY_START_TIME_IN_MILLIS = JsonpKey.of("start_time_in_millis");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_UUID = JsonpKey.of("uuid");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VERSION_ID = JsonpKey.of("version_id");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.dataStreams)) {
-            generator.writeKey("data_streams");
+            JsonpUtils.writeKey(generator, KEY_DATA_STREAMS);
             generator.writeStartArray();
             for (String item0 : this.dataStreams) {
                 generator.write(item0);
@@ -395,27 +418,27 @@ public class SnapshotInfo implements PlainJsonSerializable, ToCopyableBuilder<Sn
         }
 
         if (this.duration != null) {
-            generator.writeKey("duration");
+            JsonpUtils.writeKey(generator, KEY_DURATION);
             this.duration.serialize(generator, mapper);
         }
 
         if (this.durationInMillis != null) {
-            generator.writeKey("duration_in_millis");
+            JsonpUtils.writeKey(generator, KEY_DURATION_IN_MILLIS);
             generator.write(this.durationInMillis);
         }
 
         if (this.endTime != null) {
-            generator.writeKey("end_time");
+            JsonpUtils.writeKey(generator, KEY_END_TIME);
             generator.write(this.endTime);
         }
 
         if (this.endTimeInMillis != null) {
-            generator.writeKey("end_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_END_TIME_IN_MILLIS);
             generator.write(this.endTimeInMillis);
         }
 
         if (ApiTypeHelper.isDefined(this.failures)) {
-            generator.writeKey("failures");
+            JsonpUtils.writeKey(generator, KEY_FAILURES);
             generator.writeStartArray();
             for (SnapshotShardFailure item0 : this.failures) {
                 item0.serialize(generator, mapper);
@@ -424,12 +447,12 @@ public class SnapshotInfo implements PlainJsonSerializable, ToCopyableBuilder<Sn
         }
 
         if (this.includeGlobalState != null) {
-            generator.writeKey("include_global_state");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_GLOBAL_STATE);
             generator.write(this.includeGlobalState);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartArray();
             for (String item0 : this.indices) {
                 generator.write(item0);
@@ -438,7 +461,7 @@ public class SnapshotInfo implements PlainJsonSerializable, ToCopyableBuilder<Sn
         }
 
         if (ApiTypeHelper.isDefined(this.metadata)) {
-            generator.writeKey("metadata");
+            JsonpUtils.writeKey(generator, KEY_METADATA);
             generator.writeStartObject();
             for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -448,57 +471,57 @@ public class SnapshotInfo implements PlainJsonSerializable, ToCopyableBuilder<Sn
         }
 
         if (this.pinnedTimestamp != null) {
-            generator.writeKey("pinned_timestamp");
+            JsonpUtils.writeKey(generator, KEY_PINNED_TIMESTAMP);
             generator.write(this.pinnedTimestamp);
         }
 
         if (this.reason != null) {
-            generator.writeKey("reason");
+            JsonpUtils.writeKey(generator, KEY_REASON);
             generator.write(this.reason);
         }
 
         if (this.remoteStoreIndexShallowCopy != null) {
-            generator.writeKey("remote_store_index_shallow_copy");
+            JsonpUtils.writeKey(generator, KEY_REMOTE_STORE_INDEX_SHALLOW_COPY);
             generator.write(this.remoteStoreIndexShallowCopy);
         }
 
         if (this.shards != null) {
-            generator.writeKey("shards");
+            JsonpUtils.writeKey(generator, KEY_SHARDS);
             this.shards.serialize(generator, mapper);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             generator.write(this.snapshot);
         }
 
         if (this.startTime != null) {
-            generator.writeKey("start_time");
+            JsonpUtils.writeKey(generator, KEY_START_TIME);
             generator.write(this.startTime);
         }
 
         if (this.startTimeInMillis != null) {
-            generator.writeKey("start_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_START_TIME_IN_MILLIS);
             generator.write(this.startTimeInMillis);
         }
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             generator.write(this.state);
         }
 
         if (this.uuid != null) {
-            generator.writeKey("uuid");
+            JsonpUtils.writeKey(generator, KEY_UUID);
             generator.write(this.uuid);
         }
 
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
         }
 
         if (this.versionId != null) {
-            generator.writeKey("version_id");
+            JsonpUtils.writeKey(generator, KEY_VERSION_ID);
             generator.write(this.versionId);
         }
     }
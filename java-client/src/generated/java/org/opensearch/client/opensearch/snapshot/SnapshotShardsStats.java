@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -168,34 +170,41 @@ public class SnapshotShardsStats implements PlainJsonSerializable, ToCopyableBui
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DONE = JsonpKey.of("done");
+    private static final JsonpKey KEY_FAILED = JsonpKey.of("failed");
+    private static final JsonpKey KEY_FINALIZING = JsonpKey.of("finalizing");
+    private static final JsonpKey KEY_INITIALIZING = JsonpKey.of("initializing");
+    private static final JsonpKey KEY_STARTED = JsonpKey.of("started");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.done != null) {
-            generator.writeKey("done");
+            JsonpUtils.writeKey(generator, KEY_DONE);
             generator.write(this.done);
         }
 
         if (this.failed != null) {
-            generator.writeKey("failed");
+            JsonpUtils.writeKey(generator, KEY_FAILED);
             generator.write(this.failed);
         }
 
         if (this.finalizing != null) {
-            generator.writeKey("finalizing");
+            JsonpUtils.writeKey(generator, KEY_FINALIZING);
             generator.write(this.finalizing);
         }
 
         if (this.initializing != null) {
-            generator.writeKey("initializing");
+            JsonpUtils.writeKey(generator, KEY_INITIALIZING);
             generator.write(this.initializing);
         }
 
         if (this.started != null) {
-            generator.writeKey("started");
+            JsonpUtils.writeKey(generator, KEY_STARTED);
             generator.write(this.started);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
     }
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -174,34 +176,41 @@ public class SnapshotShardsStatsSummary
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INCREMENTAL = JsonpKey.of("incremental");
+    private static final JsonpKey KEY_PROCESSED = JsonpKey.of("processed");
+    private static final JsonpKey KEY_START_TIME_IN_MILLIS = JsonpKey.of("start_time_in_millis");
+    private static final JsonpKey KEY_TIME = JsonpKey.of("time");
+    private static final JsonpKey KEY_TIME_IN_MILLIS = JsonpKey.of("time_in_millis");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.incremental != null) {
-            generator.writeKey("incremental");
+            JsonpUtils.writeKey(generator, KEY_INCREMENTAL);
             this.incremental.serialize(generator, mapper);
         }
 
         if (this.processed != null) {
-            generator.writeKey("processed");
+            JsonpUtils.writeKey(generator, KEY_PROCESSED);
             this.processed.serialize(generator, mapper);
         }
 
         if (this.startTimeInMillis != null) {
-            generator.writeKey("start_time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_START_TIME_IN_MILLIS);
             generator.write(this.startTimeInMillis);
         }
 
         if (this.time != null) {
-            generator.writeKey("time");
+            JsonpUtils.writeKey(generator, KEY_TIME);
             this.time.serialize(generator, mapper);
         }
 
         if (this.timeInMillis != null) {
-            generator.writeKey("time_in_millis");
+            JsonpUtils.writeKey(generator, KEY_TIME_IN_MILLIS);
             generator.write(this.timeInMillis);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             this.total.serialize(generator, mapper);
         }
     }
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -200,14 +202,23 @@ public class SnapshotStatus implements PlainJsonSerializable, ToCopyableBuilder<
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_INCLUDE_GLOBAL_STATE = JsonpKey.of("include_global_state");
+    private static final JsonpKey KEY_INDICES = JsonpKey.of("indices");
+    private static final JsonpKey KEY_REPOSITORY = JsonpKey.of("repository");
+    private static final JsonpKey KEY_SHARDS_STATS = JsonpKey.of("shards_stats");
+    private static final JsonpKey KEY_SNAPSHOT = JsonpKey.of("snapshot");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_STATS = JsonpKey.of("stats");
+    private static final JsonpKey KEY_UUID = JsonpKey.of("uuid");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (this.includeGlobalState != null) {
-            generator.writeKey("include_global_state");
+            JsonpUtils.writeKey(generator, KEY_INCLUDE_GLOBAL_STATE);
             generator.write(this.includeGlobalState);
         }
 
         if (ApiTypeHelper.isDefined(this.indices)) {
-            generator.writeKey("indices");
+            JsonpUtils.writeKey(generator, KEY_INDICES);
             generator.writeStartObject();
             for (Map.Entry<String, SnapshotIndexStats> item0 : this.indices.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -217,32 +228,32 @@ public class SnapshotStatus implements PlainJsonSerializable, ToCopyableBuilder<
         }
 
         if (this.repository != null) {
-            generator.writeKey("repository");
+            JsonpUtils.writeKey(generator, KEY_REPOSITORY);
             generator.write(this.repository);
         }
 
         if (this.shardsStats != null) {
-            generator.writeKey("shards_stats");
+            JsonpUtils.writeKey(generator, KEY_SHARDS_STATS);
             this.shardsStats.serialize(generator, mapper);
         }
 
         if (this.snapshot != null) {
-            generator.writeKey("snapshot");
+            JsonpUtils.writeKey(generator, KEY_SNAPSHOT);
             generator.write(this.snapshot);
         }
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             generator.write(this.state);
         }
 
         if (this.stats != null) {
-            generator.writeKey("stats");
+            JsonpUtils.writeKey(generator, KEY_STATS);
             this.stats.serialize(generator, mapper);
         }
 
         if (this.uuid != null) {
-            generator.writeKey("uuid");
+            JsonpUtils.writeKey(generator, KEY_UUID);
             generator.write(this.uuid);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -93,8 +95,10 @@ public class SnapshotStatusResponse
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_SNAPSHOTS = JsonpKey.of("snapshots");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("snapshots");
+        JsonpUtils.writeKey(generator, KEY_SNAPSHOTS);
         generator.writeStartArray();
         for (SnapshotStatus item0 : this.snapshots) {
             item0.serialize(generator, mapper);
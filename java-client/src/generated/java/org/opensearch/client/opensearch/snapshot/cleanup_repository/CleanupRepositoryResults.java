@@ -42,7 +42,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -106,11 +108,14 @@ public class CleanupRepositoryResults
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_DELETED_BLOBS = JsonpKey.of("deleted_blobs");
+    private static final JsonpKey KEY_DELETED_BYTES = JsonpKey.of("deleted_bytes");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("deleted_blobs");
+        JsonpUtils.writeKey(generator, KEY_DELETED_BLOBS);
         generator.write(this.deletedBlobs);
 
-        generator.writeKey("deleted_bytes");
+        JsonpUtils.writeKey(generator, KEY_DELETED_BYTES);
         generator.write(this.deletedBytes);
     }
 
@@ -44,7 +44,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -126,21 +128,26 @@ public class GetTasksResponse implements PlainJsonSerializable, ToCopyableBuilde
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_COMPLETED = JsonpKey.of("completed");
+    private static final JsonpKey KEY_ERROR = JsonpKey.of("error");
+    private static final JsonpKey KEY_RESPONSE = JsonpKey.of("response");
+    private static final JsonpKey KEY_TASK = JsonpKey.of("task");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
-        generator.writeKey("completed");
+        JsonpUtils.writeKey(generator, KEY_COMPLETED);
         generator.write(this.completed);
 
         if (this.error != null) {
-            generator.writeKey("error");
+            JsonpUtils.writeKey(generator, KEY_ERROR);
             this.error.serialize(generator, mapper);
         }
 
         if (this.response != null) {
-            generator.writeKey("response");
+            JsonpUtils.writeKey(generator, KEY_RESPONSE);
             this.response.serialize(generator, mapper);
         }
 
-        generator.writeKey("task");
+        JsonpUtils.writeKey(generator, KEY_TASK);
         this.task.serialize(generator, mapper);
     }
 
@@ -48,7 +48,9 @@ import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
@@ -344,58 +346,77 @@ public class Status implements PlainJsonSerializable, ToCopyableBuilder<Status.B
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_BATCHES = JsonpKey.of("batches");
+    private static final JsonpKey KEY_CANCELED = JsonpKey.of("canceled");
+    private static final JsonpKey KEY_CREATED = JsonpKey.of("created");
+    private static final JsonpKey KEY_DELETED = JsonpKey.of("deleted");
+    private static final JsonpKey KEY_NOOPS = JsonpKey.of("noops");
+    private static final JsonpKey KEY_PHASE = JsonpKey.of("phase");
+    private static final JsonpKey KEY_REQUESTS_PER_SECOND = JsonpKey.of("requests_per_second");
+    private static final JsonpKey KEY_RETRIES = JsonpKey.of("retries");
+    private static final JsonpKey KEY_SLICE_ID = JsonpKey.of("slice_id");
+    private static final JsonpKey KEY_SLICES = JsonpKey.of("slices");
+    private static final JsonpKey KEY_STATE = JsonpKey.of("state");
+    private static final JsonpKey KEY_THROTTLED = JsonpKey.of("throttled");
+    private static final JsonpKey KEY_THROTTLED_MILLIS = JsonpKey.of("throttled_millis");
+    private static final JsonpKey KEY_THROTTLED_UNTIL = JsonpKey.of("throttled_until");
+    private static final JsonpKey KEY_THROTTLED_UNTIL_MILLIS = JsonpKey.of("throttled_until_millis");
+    private static final JsonpKey KEY_TOTAL = JsonpKey.of("total");
+    private static final JsonpKey KEY_UPDATED = JsonpKey.of("updated");
+    private static final JsonpKey KEY_VERSION_CONFLICTS = JsonpKey.of("version_conflicts");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         for (Map.Entry<String, JsonData> item0 : this.metadata.entrySet()) {
             generator.writeKey(item0.getKey());
             item0.getValue().serialize(generator, mapper);
         }
         if (this.batches != null) {
-            generator.writeKey("batches");
+            JsonpUtils.writeKey(generator, KEY_BATCHES);
             generator.write(this.batches);
         }
 
         if (this.canceled != null) {
-            generator.writeKey("canceled");
+            JsonpUtils.writeKey(generator, KEY_CANCELED);
             generator.write(this.canceled);
         }
 
         if (this.created != null) {
-            generator.writeKey("created");
+            JsonpUtils.writeKey(generator, KEY_CREATED);
             generator.write(this.created);
         }
 
         if (this.deleted != null) {
-            generator.writeKey("deleted");
+            JsonpUtils.writeKey(generator, KEY_DELETED);
             generator.write(this.deleted);
         }
 
         if (this.noops != null) {
-            generator.writeKey("noops");
+            JsonpUtils.writeKey(generator, KEY_NOOPS);
             generator.write(this.noops);
         }
 
         if (this.phase != null) {
-            generator.writeKey("phase");
+            JsonpUtils.writeKey(generator, KEY_PHASE);
             generator.write(this.phase);
         }
 
         if (this.requestsPerSecond != null) {
-            generator.writeKey("requests_per_second");
+            JsonpUtils.writeKey(generator, KEY_REQUESTS_PER_SECOND);
             generator.write(this.requestsPerSecond);
         }
 
         if (this.retries != null) {
-            generator.writeKey("retries");
+            JsonpUtils.writeKey(generator, KEY_RETRIES);
             this.retries.serialize(generator, mapper);
         }
 
         if (this.sliceId != null) {
-            generator.writeKey("slice_id");
+            JsonpUtils.writeKey(generator, KEY_SLICE_ID);
             generator.write(this.sliceId);
         }
 
         if (ApiTypeHelper.isDefined(this.slices)) {
-            generator.writeKey("slices");
+            JsonpUtils.writeKey(generator, KEY_SLICES);
             generator.writeStartArray();
             for (BulkByScrollTaskStatusOrException item0 : this.slices) {
                 item0.serialize(generator, mapper);
@@ -404,42 +425,42 @@ public class Status implements PlainJsonSerializable, ToCopyableBuilder<Status.B
         }
 
         if (this.state != null) {
-            generator.writeKey("state");
+            JsonpUtils.writeKey(generator, KEY_STATE);
             generator.write(this.state);
         }
 
         if (this.throttled != null) {
-            generator.writeKey("throttled");
+            JsonpUtils.writeKey(generator, KEY_THROTTLED);
             this.throttled.serialize(generator, mapper);
         }
 
         if (this.throttledMillis != null) {
-            generator.writeKey("throttled_millis");
+            JsonpUtils.writeKey(generator, KEY_THROTTLED_MILLIS);
             generator.write(this.throttledMillis);
         }
 
         if (this.throttledUntil != null) {
-            generator.writeKey("throttled_until");
+            JsonpUtils.writeKey(generator, KEY_THROTTLED_UNTIL);
             this.throttledUntil.serialize(generator, mapper);
         }
 
         if (this.throttledUntilMillis != null) {
-            generator.writeKey("throttled_until_millis");
+            JsonpUtils.writeKey(generator, KEY_THROTTLED_UNTIL_MILLIS);
             generator.write(this.throttledUntilMillis);
         }
 
         if (this.total != null) {
-            generator.writeKey("total");
+            JsonpUtils.writeKey(generator, KEY_TOTAL);
             generator.write(this.total);
         }
 
         if (this.updated != null) {
-            generator.writeKey("updated");
+            JsonpUtils.writeKey(generator, KEY_UPDATED);
             generator.write(this.updated);
         }
 
         if (this.versionConflicts != null) {
-            generator.writeKey("version_conflicts");
+            JsonpUtils.writeKey(generator, KEY_VERSION_CONFLICTS);
             generator.write(this.versionConflicts);
         }
     }
@@ -43,7 +43,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.opensearch._types.BaseNode;
@@ -80,9 +82,11 @@ public class TaskExecutingNode extends BaseNode implements ToCopyableBuilder<Tas
         return this.tasks;
     }
 
+    private static final JsonpKey KEY_TASKS = JsonpKey.of("tasks");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
-        generator.writeKey("tasks");
+        JsonpUtils.writeKey(generator, KEY_TASKS);
         generator.writeStartObject();
         for (Map.Entry<String, TaskInfo> item0 : this.tasks.entrySet()) {
             generator.writeKey(item0.getKey());
@@ -45,7 +45,9 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectBuilderDeserializer;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.util.ApiTypeHelper;
@@ -81,10 +83,12 @@ public class TaskGroup extends TaskInfoBase implements ToCopyableBuilder<TaskGro
         return this.children;
     }
 
+    private static final JsonpKey KEY_CHILDREN = JsonpKey.of("children");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         super.serializeInternal(generator, mapper);
         if (ApiTypeHelper.isDefined(this.children)) {
-            generator.writeKey("children");
+            JsonpUtils.writeKey(generator, KEY_CHILDREN);
             generator.writeStartArray();
             for (TaskGroup item0 : this.children) {
                 item0.serialize(generator, mapper);
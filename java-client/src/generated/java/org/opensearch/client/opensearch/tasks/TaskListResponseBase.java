@@ -45,7 +45,9 @@ import javax.annotation.Generated;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.ErrorCause;
@@ -125,9 +127,14 @@ public abstract class TaskListResponseBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_NODE_FAILURES = JsonpKey.of("node_failures");
+    private static final JsonpKey KEY_NODES = JsonpKey.of("nodes");
+    private static final JsonpKey KEY_TASK_FAILURES = JsonpKey.of("task_failures");
+    private static final JsonpKey KEY_TASKS = JsonpKey.of("tasks");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
         if (ApiTypeHelper.isDefined(this.nodeFailures)) {
-            generator.writeKey("node_failures");
+            JsonpUtils.writeKey(generator, KEY_NODE_FAILURES);
             generator.writeStartArray();
             for (ErrorCause item0 : this.nodeFailures) {
                 item0.serialize(generator, mapper);
@@ -136,7 +143,7 @@ public abstract class TaskListResponseBase implements PlainJsonSerializable {
         }
 
         if (ApiTypeHelper.isDefined(this.nodes)) {
-            generator.writeKey("nodes");
+            JsonpUtils.writeKey(generator, KEY_NODES);
             generator.writeStartObject();
             for (Map.Entry<String, TaskExecutingNode> item0 : this.nodes.entrySet()) {
                 generator.writeKey(item0.getKey());
@@ -146,7 +153,7 @@ public abstract class TaskListResponseBase implements PlainJsonSerializable {
         }
 
         if (ApiTypeHelper.isDefined(this.taskFailures)) {
-            generator.writeKey("task_failures");
+            JsonpUtils.writeKey(generator, KEY_TASK_FAILURES);
             generator.writeStartArray();
             for (TaskFailure item0 : this.taskFailures) {
                 item0.serialize(generator, mapper);
@@ -155,7 +162,7 @@ public abstract class TaskListResponseBase implements PlainJsonSerializable {
         }
 
         if (this.tasks != null) {
-            generator.writeKey("tasks");
+            JsonpUtils.writeKey(generator, KEY_TASKS);
             this.tasks.serialize(generator, mapper);
         }
     }
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.stream.JsonParser;
+import javax.annotation.Nullable;
+
+/**
+ * A parser that reads property names and values directly from the tokens of the underlying parser, without translating
+ * them into JSONP events and values.
+ * <p>
+ * Deserializers check whether a parser implements this interface and otherwise use the {@link JsonParser} methods. Like
+ * those, the value getters apply to the current event.
+ */
+public interface DirectJsonParser extends JsonParser {
+
+    /**
+     * Moves to the next event, and returns its property name if it is a {@link Event#KEY_NAME}. Otherwise returns
+     * {@code null}, and the event is given by {@link #currentEvent()}.
+     *
+     * @throws java.util.NoSuchElementException if there are no more events.
+     */
+    @Nullable
+    String nextFieldName();
+
+    /**
+     * The text of the current string, number or property name, as found in the JSON stream.
+     *
+     * @see JsonParser#getString()
+     */
+    String getText();
+
+    /**
+     * The value of the current number as an {@code int}.
+     *
+     * @see JsonParser#getInt()
+     */
+    int getIntValue();
+
+    /**
+     * The value of the current number as a {@code long}.
+     *
+     * @see JsonParser#getLong()
+     */
+    long getLongValue();
+
+    /**
+     * The value of the current number as a {@code float}, without going through a {@code BigDecimal}.
+     */
+    float getFloatValue();
+
+    /**
+     * The value of the current number as a {@code double}, without going through a {@code BigDecimal}.
+     */
+    double getDoubleValue();
+}
@@ -94,6 +94,21 @@ public abstract class JsonpDeserializerBase<V> implements JsonpDeserializer<V> {
 
     // ---------------------------------------------------------------------------------------------
 
+    // Parsers that give numbers directly avoid the BigDecimal of the JSONP API
+    private static float floatValue(JsonParser parser) {
+        if (parser instanceof DirectJsonParser) {
+            return ((DirectJsonParser) parser).getFloatValue();
+        }
+        return parser.getBigDecimal().floatValue();
+    }
+
+    private static double doubleValue(JsonParser parser) {
+        if (parser instanceof DirectJsonParser) {
+            return ((DirectJsonParser) parser).getDoubleValue();
+        }
+        return parser.getBigDecimal().doubleValue();
+    }
+
     // ----- Builtin types
 
     static final JsonpDeserializer<String> STRING =
@@ -164,7 +179,7 @@ public abstract class JsonpDeserializerBase<V> implements JsonpDeserializer<V> {
             if (event == Event.VALUE_STRING) {
                 return Float.valueOf(parser.getString());
             }
-            return parser.getBigDecimal().floatValue();
+            return floatValue(parser);
         }
     };
 
@@ -177,7 +192,7 @@ public abstract class JsonpDeserializerBase<V> implements JsonpDeserializer<V> {
             if (event == Event.VALUE_STRING) {
                 return Double.valueOf(parser.getString());
             }
-            return parser.getBigDecimal().doubleValue();
+            return doubleValue(parser);
         }
     };
 
@@ -199,7 +214,7 @@ public abstract class JsonpDeserializerBase<V> implements JsonpDeserializer<V> {
             if (event == Event.VALUE_STRING) {
                 return Double.valueOf(parser.getString());
             }
-            return parser.getBigDecimal().doubleValue();
+            return doubleValue(parser);
         }
     }
 
@@ -267,7 +282,7 @@ public abstract class JsonpDeserializerBase<V> implements JsonpDeserializer<V> {
             if (event == Event.VALUE_STRING) {
                 return Double.valueOf(parser.getString());
             }
-            return parser.getBigDecimal().doubleValue();
+            return doubleValue(parser);
         }
     };
 
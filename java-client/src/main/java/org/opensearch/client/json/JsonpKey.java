@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import java.util.Objects;
+
+/**
+ * The name of an object property, to be written with {@link JsonpUtils#writeKey(jakarta.json.stream.JsonGenerator, JsonpKey)}.
+ * <p>
+ * Keys are meant to be held in constants: generators that implement {@link PreEncodedKeyJsonGenerator} write the quoted
+ * and encoded name that the key computes on first use, instead of escaping and encoding the name on each write.
+ */
+public final class JsonpKey {
+    private final String name;
+    private final SerializedString serializedName;
+
+    private JsonpKey(String name) {
+        this.name = name;
+        this.serializedName = new SerializedString(name);
+    }
+
+    public static JsonpKey of(String name) {
+        return new JsonpKey(Objects.requireNonNull(name, "name must not be null"));
+    }
+
+    /**
+     * The name of the property.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The name of the property as a Jackson string, which caches its quoted and encoded forms.
+     */
+    public SerializableString serializedName() {
+        return serializedName;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -40,16 +40,42 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nullable;
 
 public abstract class JsonpMapperBase implements JsonpMapper {
+    // Deserializers found in the JsonpDeserializable classes, shared by all mappers
+    private static final ClassValue<DeserializerField> DESERIALIZER_FIELDS = new ClassValue<DeserializerField>() {
+        @Override
+        protected DeserializerField computeValue(Class<?> clazz) {
+            JsonpDeserializable annotation = clazz.getAnnotation(JsonpDeserializable.class);
+            if (annotation == null) {
+                return DeserializerField.NONE;
+            }
+            try {
+                return new DeserializerField(clazz.getDeclaredField(annotation.field()));
+            } catch (Exception e) {
+                throw new RuntimeException("No deserializer found in '" + clazz.getName() + "." + annotation.field() + "'");
+            }
+        }
+    };
+
     @Nullable
     private Map<String, Object> attributes;
 
-    protected JsonpMapperBase() {}
+    // Default deserializers of this mapper. Not a ClassValue, whose entries in long-lived classes would keep discarded
+    // mappers reachable through their deserializers.
+    private final ConcurrentMap<Class<?>, JsonpDeserializer<?>> defaultDeserializers;
+
+    protected JsonpMapperBase() {
+        this.defaultDeserializers = new ConcurrentHashMap<>();
+    }
 
     protected JsonpMapperBase(JsonpMapperBase o) {
         this.attributes = o.attributes; // We always copy in `setAttribute` so no need to copy here.
+        // Copies only differ by their attributes, which are given to the deserializers when they are called
+        this.defaultDeserializers = o.defaultDeserializers;
     }
 
     @Override
@@ -88,33 +114,32 @@ public abstract class JsonpMapperBase implements JsonpMapper {
         return this;
     }
 
-    /** Get a serializer when none of the builtin ones are applicable */
+    /**
+     * Get a serializer when none of the builtin ones are applicable. It is called once per class, and the deserializer
+     * is then reused by this mapper and its copies.
+     */
     protected abstract <T> JsonpDeserializer<T> getDefaultDeserializer(Class<T> clazz);
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T deserialize(JsonParser parser, Class<T> clazz) {
         JsonpDeserializer<T> deserializer = findDeserializer(clazz);
         if (deserializer != null) {
             return deserializer.deserialize(parser, this);
         }
 
-        return getDefaultDeserializer(clazz).deserialize(parser, this);
+        deserializer = (JsonpDeserializer<T>) defaultDeserializers.get(clazz);
+        if (deserializer == null) {
+            deserializer = getDefaultDeserializer(clazz);
+            defaultDeserializers.putIfAbsent(clazz, deserializer);
+        }
+        return deserializer.deserialize(parser, this);
     }
 
     @Nullable
     @SuppressWarnings("unchecked")
     public static <T> JsonpDeserializer<T> findDeserializer(Class<T> clazz) {
-        JsonpDeserializable annotation = clazz.getAnnotation(JsonpDeserializable.class);
-        if (annotation != null) {
-            try {
-                Field field = clazz.getDeclaredField(annotation.field());
-                return (JsonpDeserializer<T>) field.get(null);
-            } catch (Exception e) {
-                throw new RuntimeException("No deserializer found in '" + clazz.getName() + "." + annotation.field() + "'");
-            }
-        }
-
-        return null;
+        return (JsonpDeserializer<T>) DESERIALIZER_FIELDS.get(clazz).get();
     }
 
     @Nullable
@@ -132,6 +157,39 @@ public abstract class JsonpMapperBase implements JsonpMapper {
         return null;
     }
 
+    /**
+     * The static field holding the deserializer of a {@link JsonpDeserializable} class.
+     */
+    private static final class DeserializerField {
+        static final DeserializerField NONE = new DeserializerField(null);
+
+        @Nullable
+        private final Field field;
+        @Nullable
+        private volatile JsonpDeserializer<?> deserializer;
+
+        DeserializerField(@Nullable Field field) {
+            this.field = field;
+        }
+
+        @Nullable
+        JsonpDeserializer<?> get() {
+            JsonpDeserializer<?> result = deserializer;
+            if (result == null && field != null) {
+                try {
+                    result = (JsonpDeserializer<?>) field.get(null);
+                } catch (Exception e) {
+                    throw new RuntimeException(
+                        "No deserializer found in '" + field.getDeclaringClass().getName() + "." + field.getName() + "'"
+                    );
+                }
+                // The field is still null if the class is being initialized, e.g. when its deserializer refers to itself
+                deserializer = result;
+            }
+            return result;
+        }
+    }
+
     protected static class JsonpSerializableSerializer<T extends JsonpSerializable> implements JsonpSerializer<T> {
         @Override
         public void serialize(T value, JsonGenerator generator, JsonpMapper mapper) {
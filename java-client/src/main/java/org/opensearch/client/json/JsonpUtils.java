@@ -149,6 +149,17 @@ public class JsonpUtils {
         return builder.build();
     }
 
+    /**
+     * Writes the name of a property, using its encoded form if the generator supports it.
+     */
+    public static void writeKey(JsonGenerator generator, JsonpKey key) {
+        if (generator instanceof PreEncodedKeyJsonGenerator) {
+            ((PreEncodedKeyJsonGenerator) generator).writeKey(key);
+        } else {
+            generator.writeKey(key.name());
+        }
+    }
+
     public static <T> void serialize(T value, JsonGenerator generator, @Nullable JsonpSerializer<T> serializer, JsonpMapper mapper) {
         if (serializer != null) {
             serializer.serialize(value, generator, mapper);
@@ -35,9 +35,11 @@ package org.opensearch.client.json;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 import jakarta.json.stream.JsonParsingException;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
@@ -89,6 +91,21 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
         }
     }
 
+    /**
+     * Deserializes the fields of an object that it knows of, typically with a {@code switch} on the field name. This avoids the
+     * lookup of a field deserializer and the indirect calls to its deserializer and setter for the most common fields.
+     */
+    @FunctionalInterface
+    public interface FieldSwitch<ObjectType> {
+        /**
+         * Deserializes the value of a field.
+         *
+         * @return {@code true} if the value was deserialized, or {@code false} if the field is unknown to this switch, in which case
+         *         the parser must not have been moved.
+         */
+        boolean deserialize(ObjectType object, String fieldName, JsonParser parser, JsonpMapper mapper);
+    }
+
     private static final FieldDeserializer<?> IGNORED_FIELD = new FieldDeserializer<Object>("-") {
 
         @Override
@@ -109,6 +126,12 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
     private EnumSet<Event> acceptedEvents = EventSetObject; // May be changed in `shortcutProperty()`
     private final Supplier<ObjectType> constructor;
     protected final Map<String, FieldDeserializer<ObjectType>> fieldDeserializers;
+    private final FieldMap<ObjectType> fieldMap;
+    // Built from fieldDeserializers on first use, and again if they are changed
+    @Nullable
+    private volatile FieldTable<ObjectType> fieldTable;
+    @Nullable
+    private FieldSwitch<ObjectType> fieldSwitch;
     private FieldDeserializer<ObjectType> singleKey;
     private String typeProperty;
     private String defaultType;
@@ -117,7 +140,8 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
 
     public ObjectDeserializer(Supplier<ObjectType> constructor) {
         this.constructor = constructor;
-        this.fieldDeserializers = new HashMap<>();
+        this.fieldMap = new FieldMap<>();
+        this.fieldDeserializers = fieldMap;
     }
 
     /**
@@ -170,21 +194,24 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
                 JsonpUtils.expectEvent(parser, Event.START_OBJECT, event);
             }
 
-            if (event == Event.START_OBJECT) {
-                event = parser.next();
-            }
             // Regular object: read all properties until we reach the end of the object
-            while (event != Event.END_OBJECT) {
-                JsonpUtils.expectEvent(parser, Event.KEY_NAME, event);
-                String fieldName = parser.getString();
-
-                FieldDeserializer<ObjectType> fieldDeserializer = fieldDeserializers.get(fieldName);
-                if (fieldDeserializer == null) {
-                    parseUnknownField(parser, mapper, fieldName, value);
-                } else {
-                    fieldDeserializer.deserialize(parser, mapper, fieldName, value);
+            if (event == Event.START_OBJECT && parser instanceof DirectJsonParser) {
+                // Read the property names directly rather than through their events
+                DirectJsonParser directParser = (DirectJsonParser) parser;
+                String fieldName;
+                while ((fieldName = directParser.nextFieldName()) != null) {
+                    deserializeField(value, fieldName, parser, mapper);
+                }
+                JsonpUtils.expectEvent(parser, Event.END_OBJECT, directParser.currentEvent());
+            } else {
+                if (event == Event.START_OBJECT) {
+                    event = parser.next();
+                }
+                while (event != Event.END_OBJECT) {
+                    JsonpUtils.expectEvent(parser, Event.KEY_NAME, event);
+                    deserializeField(value, parser.getString(), parser, mapper);
+                    event = parser.next();
                 }
-                event = parser.next();
             }
         } else {
             // Union variant: find the property to find the proper deserializer
@@ -194,7 +221,7 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
             String variant = unionInfo.getKey();
             JsonParser innerParser = unionInfo.getValue();
 
-            FieldDeserializer<ObjectType> fieldDeserializer = fieldDeserializers.get(variant);
+            FieldDeserializer<ObjectType> fieldDeserializer = fieldTable().get(variant);
             if (fieldDeserializer == null) {
                 parseUnknownField(parser, mapper, variant, value);
             } else {
@@ -209,6 +236,30 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
         return value;
     }
 
+    private void deserializeField(ObjectType value, String fieldName, JsonParser parser, JsonpMapper mapper) {
+        if (fieldSwitch != null && !fieldMap.isChangedSinceSwitch(fieldName) && fieldSwitch.deserialize(value, fieldName, parser, mapper)) {
+            return;
+        }
+
+        FieldDeserializer<ObjectType> fieldDeserializer = fieldTable().get(fieldName);
+        if (fieldDeserializer == null) {
+            parseUnknownField(parser, mapper, fieldName, value);
+        } else {
+            fieldDeserializer.deserialize(parser, mapper, fieldName, value);
+        }
+    }
+
+    private FieldTable<ObjectType> fieldTable() {
+        FieldTable<ObjectType> table = fieldTable;
+        // Subclasses may also change the field deserializers
+        int modifications = fieldMap.modifications;
+        if (table == null || table.modifications != modifications) {
+            table = new FieldTable<>(fieldMap, modifications);
+            fieldTable = table;
+        }
+        return table;
+    }
+
     protected void parseUnknownField(JsonParser parser, JsonpMapper mapper, String fieldName, ObjectType object) {
         if (this.unknownFieldHandler != null) {
             this.unknownFieldHandler.accept(object, fieldName, parser, mapper);
@@ -267,6 +318,29 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
         }
     }
 
+    /**
+     * Adds a switch that deserializes some fields directly. The fields it handles must also be added with their deserializers, which are
+     * still used to describe the type, for unions and shortcut properties, and for the fields the switch doesn't handle.
+     * <p>
+     * Switches added later, such as the ones of subclasses, are tried first. Fields that are added or ignored after a switch are not
+     * deserialized by it.
+     */
+    public void addFieldSwitch(FieldSwitch<ObjectType> fieldSwitch) {
+        FieldSwitch<ObjectType> previous = this.fieldSwitch;
+        if (previous == null) {
+            this.fieldSwitch = fieldSwitch;
+        } else {
+            Set<String> changed = fieldMap.changedSinceSwitch;
+            FieldSwitch<ObjectType> outer = changed.isEmpty()
+                ? previous
+                : (object, fieldName, parser, mapper) -> !changed.contains(fieldName)
+                    && previous.deserialize(object, fieldName, parser, mapper);
+            this.fieldSwitch = (object, fieldName, parser, mapper) -> fieldSwitch.deserialize(object, fieldName, parser, mapper)
+                || outer.deserialize(object, fieldName, parser, mapper);
+        }
+        fieldMap.changedSinceSwitch = new HashSet<>();
+    }
+
     public <FieldType> void setKey(BiConsumer<ObjectType, FieldType> setter, JsonpDeserializer<FieldType> deserializer) {
         this.singleKey = new FieldObjectDeserializer<>(setter, deserializer, null);
     }
@@ -283,4 +357,123 @@ public class ObjectDeserializer<ObjectType> implements JsonpDeserializer<ObjectT
         add(setter::accept, JsonpDeserializer.integerDeserializer(), name, deprecatedNames);
     }
 
+    /**
+     * A symbol table of the field deserializers, using open addressing.
+     * <p>
+     * The field names are interned. So are the names returned by Jackson parsers, with the default settings of their
+     * factory, which are then matched by reference. Other names are matched by their content.
+     */
+    private static final class FieldTable<ObjectType> {
+        // The modification count of the field deserializers this table was built from
+        final int modifications;
+        private final int mask;
+        private final String[] names;
+        private final int[] hashes;
+        private final FieldDeserializer<ObjectType>[] deserializers;
+
+        FieldTable(Map<String, FieldDeserializer<ObjectType>> fields, int modifications) {
+            this.modifications = modifications;
+            // At most half full, so that most names are found on the first probe
+            int capacity = Integer.highestOneBit(Math.max(fields.size(), 1)) << 2;
+            this.mask = capacity - 1;
+            this.names = new String[capacity];
+            this.hashes = new int[capacity];
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            FieldDeserializer<ObjectType>[] deserializers = new FieldDeserializer[capacity];
+            this.deserializers = deserializers;
+
+            for (Map.Entry<String, FieldDeserializer<ObjectType>> field : fields.entrySet()) {
+                String name = field.getKey().intern();
+                int hash = name.hashCode();
+                int i = index(hash);
+                while (names[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                names[i] = name;
+                hashes[i] = hash;
+                deserializers[i] = field.getValue();
+            }
+        }
+
+        @Nullable
+        FieldDeserializer<ObjectType> get(String name) {
+            int hash = name.hashCode();
+            int i = index(hash);
+            String candidate;
+            while ((candidate = names[i]) != null) {
+                if (candidate == name || (hashes[i] == hash && candidate.equals(name))) {
+                    return deserializers[i];
+                }
+                i = (i + 1) & mask;
+            }
+            return null;
+        }
+
+        private int index(int hash) {
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+    /**
+     * The field deserializers, counting their changes so that the field table is rebuilt when they change, including when a
+     * deserializer is replaced. Its views are read-only, as their changes could not be counted.
+     */
+    private static final class FieldMap<ObjectType> extends AbstractMap<String, FieldDeserializer<ObjectType>> {
+        private final Map<String, FieldDeserializer<ObjectType>> map = new HashMap<>();
+        volatile int modifications;
+        // The names of the fields changed since the last field switch was added, which take precedence over it
+        @Nullable
+        Set<String> changedSinceSwitch;
+
+        boolean isChangedSinceSwitch(String name) {
+            return changedSinceSwitch != null && changedSinceSwitch.contains(name);
+        }
+
+        private void changed(Object name) {
+            modifications++;
+            if (changedSinceSwitch != null && name instanceof String) {
+                changedSinceSwitch.add((String) name);
+            }
+        }
+
+        @Override
+        public FieldDeserializer<ObjectType> get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public FieldDeserializer<ObjectType> put(String key, FieldDeserializer<ObjectType> value) {
+            changed(key);
+            return map.put(key, value);
+        }
+
+        @Override
+        public FieldDeserializer<ObjectType> remove(Object key) {
+            changed(key);
+            return map.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            map.keySet().forEach(this::changed);
+            modifications++;
+            map.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<String, FieldDeserializer<ObjectType>>> entrySet() {
+            return Collections.unmodifiableMap(map).entrySet();
+        }
+    }
+
 }
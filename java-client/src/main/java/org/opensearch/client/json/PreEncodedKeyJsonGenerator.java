@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.json;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * A generator that writes the encoded form of {@link JsonpKey}s as is.
+ */
+public interface PreEncodedKeyJsonGenerator extends JsonGenerator {
+
+    /**
+     * Writes the name of a property in the current object context.
+     *
+     * @see JsonGenerator#writeKey(String)
+     */
+    JsonGenerator writeKey(JsonpKey key);
+}
@@ -42,11 +42,13 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Map;
+import org.opensearch.client.json.JsonpKey;
+import org.opensearch.client.json.PreEncodedKeyJsonGenerator;
 
 /**
  * A JSONP generator implementation on top of Jackson.
  */
-public class JacksonJsonpGenerator implements JsonGenerator {
+public class JacksonJsonpGenerator implements PreEncodedKeyJsonGenerator {
 
     private final com.fasterxml.jackson.core.JsonGenerator generator;
 
@@ -113,6 +115,16 @@ public class JacksonJsonpGenerator implements JsonGenerator {
         return this;
     }
 
+    @Override
+    public JsonGenerator writeKey(JsonpKey key) {
+        try {
+            generator.writeFieldName(key.serializedName());
+        } catch (IOException e) {
+            throw JacksonUtils.convertException(e);
+        }
+        return this;
+    }
+
     @Override
     public JsonGenerator write(String name, JsonValue value) {
         try {
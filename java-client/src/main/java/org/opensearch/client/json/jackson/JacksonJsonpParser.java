@@ -33,6 +33,7 @@
 package org.opensearch.client.json.jackson;
 
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.core.util.JsonParserSequence;
 import com.fasterxml.jackson.databind.util.TokenBuffer;
 import jakarta.json.JsonArray;
@@ -44,10 +45,11 @@ import jakarta.json.stream.JsonParsingException;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.AbstractMap;
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import org.opensearch.client.json.DirectJsonParser;
 import org.opensearch.client.json.LookAheadJsonParser;
 import org.opensearch.client.json.UnexpectedJsonEventException;
 
@@ -58,34 +60,42 @@ import org.opensearch.client.json.UnexpectedJsonEventException;
  * moves forward the underlying Jackson parser as Jackson doesn't provide an equivalent method. This means no value
  * getter method (e.g. {@link #getInt()} or {@link #getString()} should be called until the next call to {@link #next()}.
  * Such calls will throw an {@code IllegalStateException}.
+ * <p>
+ * As a {@link DirectJsonParser}, it also gives the property names and values of the Jackson tokens as is.
  */
-public class JacksonJsonpParser implements LookAheadJsonParser {
+public class JacksonJsonpParser implements LookAheadJsonParser, DirectJsonParser {
 
     private final com.fasterxml.jackson.core.JsonParser parser;
 
     private boolean hasNextWasCalled = false;
 
-    private static final EnumMap<JsonToken, Event> tokenToEvent;
+    // Indexed by token ordinal, which is cheaper than an EnumMap lookup on every event
+    private static final Event[] tokenToEvent;
 
     static {
-        tokenToEvent = new EnumMap<>(JsonToken.class);
-        tokenToEvent.put(JsonToken.END_ARRAY, Event.END_ARRAY);
-        tokenToEvent.put(JsonToken.END_OBJECT, Event.END_OBJECT);
-        tokenToEvent.put(JsonToken.FIELD_NAME, Event.KEY_NAME);
-        tokenToEvent.put(JsonToken.START_ARRAY, Event.START_ARRAY);
-        tokenToEvent.put(JsonToken.START_OBJECT, Event.START_OBJECT);
-        tokenToEvent.put(JsonToken.VALUE_FALSE, Event.VALUE_FALSE);
-        tokenToEvent.put(JsonToken.VALUE_NULL, Event.VALUE_NULL);
-        tokenToEvent.put(JsonToken.VALUE_NUMBER_FLOAT, Event.VALUE_NUMBER);
-        tokenToEvent.put(JsonToken.VALUE_NUMBER_INT, Event.VALUE_NUMBER);
-        tokenToEvent.put(JsonToken.VALUE_STRING, Event.VALUE_STRING);
-        tokenToEvent.put(JsonToken.VALUE_TRUE, Event.VALUE_TRUE);
+        tokenToEvent = new Event[JsonToken.values().length];
+        tokenToEvent[JsonToken.END_ARRAY.ordinal()] = Event.END_ARRAY;
+        tokenToEvent[JsonToken.END_OBJECT.ordinal()] = Event.END_OBJECT;
+        tokenToEvent[JsonToken.FIELD_NAME.ordinal()] = Event.KEY_NAME;
+        tokenToEvent[JsonToken.START_ARRAY.ordinal()] = Event.START_ARRAY;
+        tokenToEvent[JsonToken.START_OBJECT.ordinal()] = Event.START_OBJECT;
+        tokenToEvent[JsonToken.VALUE_FALSE.ordinal()] = Event.VALUE_FALSE;
+        tokenToEvent[JsonToken.VALUE_NULL.ordinal()] = Event.VALUE_NULL;
+        tokenToEvent[JsonToken.VALUE_NUMBER_FLOAT.ordinal()] = Event.VALUE_NUMBER;
+        tokenToEvent[JsonToken.VALUE_NUMBER_INT.ordinal()] = Event.VALUE_NUMBER;
+        tokenToEvent[JsonToken.VALUE_STRING.ordinal()] = Event.VALUE_STRING;
+        tokenToEvent[JsonToken.VALUE_TRUE.ordinal()] = Event.VALUE_TRUE;
 
         // No equivalent for
         // - VALUE_EMBEDDED_OBJECT
         // - NOT_AVAILABLE
     }
 
+    @Nullable
+    private static Event toEvent(@Nullable JsonToken token) {
+        return token == null ? null : tokenToEvent[token.ordinal()];
+    }
+
     public JacksonJsonpParser(com.fasterxml.jackson.core.JsonParser parser) {
         this.parser = parser;
     }
@@ -139,7 +149,11 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
             throw new NoSuchElementException();
         }
 
-        Event result = tokenToEvent.get(token);
+        return supportedEvent(token);
+    }
+
+    private Event supportedEvent(JsonToken token) {
+        Event result = tokenToEvent[token.ordinal()];
         if (result == null) {
             throw new JsonParsingException("Unsupported Jackson event type '" + token + "'", getLocation());
         }
@@ -147,6 +161,13 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
         return result;
     }
 
+    @Override
+    public Event currentEvent() {
+        ensureTokenIsCurrent();
+        JsonToken token = parser.currentToken();
+        return token == null ? null : supportedEvent(token);
+    }
+
     @Override
     public String getString() {
         ensureTokenIsCurrent();
@@ -193,6 +214,82 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
         }
     }
 
+    // ----- Direct methods
+
+    @Override
+    public String nextFieldName() {
+        String name;
+        try {
+            if (hasNextWasCalled) {
+                hasNextWasCalled = false;
+                name = parser.currentToken() == JsonToken.FIELD_NAME ? parser.currentName() : null;
+            } else {
+                name = parser.nextFieldName();
+            }
+        } catch (IOException e) {
+            throw convertException(e);
+        }
+        if (name == null && parser.currentToken() == null) {
+            throw new NoSuchElementException();
+        }
+        return name;
+    }
+
+    @Override
+    public String getText() {
+        ensureTokenIsCurrent();
+        try {
+            return parser.getText();
+        } catch (IOException e) {
+            throw convertException(e);
+        }
+    }
+
+    @Override
+    public int getIntValue() {
+        return getInt();
+    }
+
+    @Override
+    public long getLongValue() {
+        return getLong();
+    }
+
+    @Override
+    public float getFloatValue() {
+        ensureTokenIsCurrent();
+        try {
+            if (isUnparsedFloat()) {
+                return NumberInput.parseFloat(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), true);
+            }
+            return parser.getFloatValue();
+        } catch (IOException e) {
+            throw convertException(e);
+        }
+    }
+
+    @Override
+    public double getDoubleValue() {
+        ensureTokenIsCurrent();
+        try {
+            if (isUnparsedFloat()) {
+                return NumberInput.parseDouble(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength(), true);
+            }
+            return parser.getDoubleValue();
+        } catch (IOException e) {
+            throw convertException(e);
+        }
+    }
+
+    /**
+     * Jackson parses floating point numbers from a string, unless its fast parser is enabled. Parsing the characters of the
+     * token with the fast parser gives the same value without that allocation. Non-numeric values such as {@code NaN} are
+     * already parsed.
+     */
+    private boolean isUnparsedFloat() throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NUMBER_FLOAT && !parser.isNaN();
+    }
+
     @Override
     public JsonLocation getLocation() {
         return new JacksonJsonpLocation(parser.getCurrentLocation());
@@ -406,14 +503,14 @@ public class JacksonJsonpParser implements LookAheadJsonParser {
     private void expectNextEvent(JsonToken expected) throws IOException {
         JsonToken event = parser.nextToken();
         if (event != expected) {
-            throw new UnexpectedJsonEventException(this, tokenToEvent.get(event), tokenToEvent.get(expected));
+            throw new UnexpectedJsonEventException(this, toEvent(event), toEvent(expected));
         }
     }
 
     private void expectEvent(JsonToken expected) {
         JsonToken event = parser.currentToken();
         if (event != expected) {
-            throw new UnexpectedJsonEventException(this, tokenToEvent.get(event), tokenToEvent.get(expected));
+            throw new UnexpectedJsonEventException(this, toEvent(event), toEvent(expected));
         }
     }
 }
@@ -50,10 +50,13 @@ import org.opensearch.client.opensearch.core.MsearchRequest;
 import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.MsearchTemplateRequest;
 import org.opensearch.client.opensearch.core.MsearchTemplateResponse;
+import org.opensearch.client.opensearch.core.ScrollRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.TermvectorsRequest;
 import org.opensearch.client.opensearch.core.TermvectorsResponse;
 import org.opensearch.client.opensearch.core.UpdateRequest;
 import org.opensearch.client.opensearch.core.UpdateResponse;
+import org.opensearch.client.opensearch.core.search.SearchHitStream;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.TransportOptions;
@@ -316,6 +319,79 @@ public class OpenSearchAsyncClient extends OpenSearchAsyncClientBase<OpenSearchA
         return msearchTemplate(fn.apply(new MsearchTemplateRequest.Builder()).build(), tDocumentClass);
     }
 
+    // ----- Endpoint: search (streaming)
+
+    /**
+     * Returns search hits that match the query defined in the request, deserializing them one at a time while they
+     * are iterated instead of materializing them all in the response. The returned future completes once the first
+     * hits have been decoded. The stream must be closed once done with it.
+     *
+     * @see SearchHitStream
+     */
+
+    public <TDocument> CompletableFuture<SearchHitStream<TDocument>> searchStream(SearchRequest request, Class<TDocument> tDocumentClass) {
+        return SearchHitStream.search(
+            this.transport,
+            this.transportOptions,
+            request,
+            getDeserializer(tDocumentClass),
+            SearchHitStream.defaultExecutor(),
+            SearchHitStream.DEFAULT_BUFFER_SIZE
+        ).started();
+    }
+
+    /**
+     * Returns search hits that match the query defined in the request, deserializing them one at a time while they
+     * are iterated instead of materializing them all in the response.
+     *
+     * @param fn
+     *            a function that initializes a builder to create the
+     *            {@link SearchRequest}
+     *
+     */
+
+    public final <TDocument> CompletableFuture<SearchHitStream<TDocument>> searchStream(
+        Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> fn,
+        Class<TDocument> tDocumentClass
+    ) {
+        return searchStream(fn.apply(new SearchRequest.Builder()).build(), tDocumentClass);
+    }
+
+    /**
+     * Retrieves the next batch of results of a scrolling search, deserializing hits one at a time while they are
+     * iterated instead of materializing them all in the response.
+     *
+     * @see SearchHitStream
+     */
+
+    public <TDocument> CompletableFuture<SearchHitStream<TDocument>> scrollStream(ScrollRequest request, Class<TDocument> tDocumentClass) {
+        return SearchHitStream.scroll(
+            this.transport,
+            this.transportOptions,
+            request,
+            getDeserializer(tDocumentClass),
+            SearchHitStream.defaultExecutor(),
+            SearchHitStream.DEFAULT_BUFFER_SIZE
+        ).started();
+    }
+
+    /**
+     * Retrieves the next batch of results of a scrolling search, deserializing hits one at a time while they are
+     * iterated instead of materializing them all in the response.
+     *
+     * @param fn
+     *            a function that initializes a builder to create the
+     *            {@link ScrollRequest}
+     *
+     */
+
+    public final <TDocument> CompletableFuture<SearchHitStream<TDocument>> scrollStream(
+        Function<ScrollRequest.Builder, ObjectBuilder<ScrollRequest>> fn,
+        Class<TDocument> tDocumentClass
+    ) {
+        return scrollStream(fn.apply(new ScrollRequest.Builder()).build(), tDocumentClass);
+    }
+
     // ----- Endpoint: termvectors
 
     /**
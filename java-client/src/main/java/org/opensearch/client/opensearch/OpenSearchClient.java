@@ -49,10 +49,13 @@ import org.opensearch.client.opensearch.core.MsearchRequest;
 import org.opensearch.client.opensearch.core.MsearchResponse;
 import org.opensearch.client.opensearch.core.MsearchTemplateRequest;
 import org.opensearch.client.opensearch.core.MsearchTemplateResponse;
+import org.opensearch.client.opensearch.core.ScrollRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.TermvectorsRequest;
 import org.opensearch.client.opensearch.core.TermvectorsResponse;
 import org.opensearch.client.opensearch.core.UpdateRequest;
 import org.opensearch.client.opensearch.core.UpdateResponse;
+import org.opensearch.client.opensearch.core.search.SearchHitStream;
 import org.opensearch.client.opensearch.generic.OpenSearchGenericClient;
 import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
@@ -316,6 +319,81 @@ public class OpenSearchClient extends OpenSearchClientBase<OpenSearchClient> {
         return msearchTemplate(fn.apply(new MsearchTemplateRequest.Builder()).build(), tDocumentClass);
     }
 
+    // ----- Endpoint: search (streaming)
+
+    /**
+     * Returns search hits that match the query defined in the request, deserializing them one at a time while they
+     * are iterated instead of materializing them all in the response. The first hits are awaited before returning, so
+     * that errors are thrown by this method. The stream must be closed once done with it.
+     *
+     * @see SearchHitStream
+     */
+
+    public <TDocument> SearchHitStream<TDocument> searchStream(SearchRequest request, Class<TDocument> tDocumentClass) throws IOException,
+        OpenSearchException {
+        return SearchHitStream.search(
+            this.transport,
+            this.transportOptions,
+            request,
+            getDeserializer(tDocumentClass),
+            SearchHitStream.defaultExecutor(),
+            SearchHitStream.DEFAULT_BUFFER_SIZE
+        ).awaitStarted();
+    }
+
+    /**
+     * Returns search hits that match the query defined in the request, deserializing them one at a time while they
+     * are iterated instead of materializing them all in the response.
+     *
+     * @param fn
+     *            a function that initializes a builder to create the
+     *            {@link SearchRequest}
+     *
+     */
+
+    public final <TDocument> SearchHitStream<TDocument> searchStream(
+        Function<SearchRequest.Builder, ObjectBuilder<SearchRequest>> fn,
+        Class<TDocument> tDocumentClass
+    ) throws IOException, OpenSearchException {
+        return searchStream(fn.apply(new SearchRequest.Builder()).build(), tDocumentClass);
+    }
+
+    /**
+     * Retrieves the next batch of results of a scrolling search, deserializing hits one at a time while they are
+     * iterated instead of materializing them all in the response.
+     *
+     * @see SearchHitStream
+     */
+
+    public <TDocument> SearchHitStream<TDocument> scrollStream(ScrollRequest request, Class<TDocument> tDocumentClass) throws IOException,
+        OpenSearchException {
+        return SearchHitStream.scroll(
+            this.transport,
+            this.transportOptions,
+            request,
+            getDeserializer(tDocumentClass),
+            SearchHitStream.defaultExecutor(),
+            SearchHitStream.DEFAULT_BUFFER_SIZE
+        ).awaitStarted();
+    }
+
+    /**
+     * Retrieves the next batch of results of a scrolling search, deserializing hits one at a time while they are
+     * iterated instead of materializing them all in the response.
+     *
+     * @param fn
+     *            a function that initializes a builder to create the
+     *            {@link ScrollRequest}
+     *
+     */
+
+    public final <TDocument> SearchHitStream<TDocument> scrollStream(
+        Function<ScrollRequest.Builder, ObjectBuilder<ScrollRequest>> fn,
+        Class<TDocument> tDocumentClass
+    ) throws IOException, OpenSearchException {
+        return scrollStream(fn.apply(new ScrollRequest.Builder()).build(), tDocumentClass);
+    }
+
     // ----- Endpoint: termvectors
 
     /**
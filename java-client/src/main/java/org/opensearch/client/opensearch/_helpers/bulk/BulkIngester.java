@@ -34,25 +34,35 @@ package org.opensearch.client.opensearch._helpers.bulk;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 import java.util.LongSummaryStatistics;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 import javax.annotation.Nullable;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.opensearch.OpenSearchAsyncClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.BulkRequest;
@@ -60,6 +70,7 @@ import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.transport.BackoffPolicy;
+import org.opensearch.client.transport.ResponseStatus;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.ObjectBuilder;
@@ -70,16 +81,21 @@ import org.opensearch.client.util.ObjectBuilder;
  * The BulkIngester buffers bulk operations and automatically flushes them based on configurable thresholds:
  * <ul>
  *   <li>Number of operations (maxOperations)</li>
- *   <li>Total size in bytes (maxSize)</li>
+ *   <li>Total size in bytes (maxSize), optionally adapted to keep the server processing time of requests near a target</li>
  *   <li>Time interval (flushInterval)</li>
  * </ul>
  * <p>
  * It also provides:
  * <ul>
  *   <li>Backpressure control via maxConcurrentRequests to prevent overwhelming the cluster</li>
- *   <li>Automatic retries with configurable backoff policies for failed operations</li>
+ *   <li>Automatic retries with configurable backoff policies for failed operations, and of whole requests that failed
+ *   with a transient error, see {@link BulkRetryPredicates}</li>
  *   <li>Per-request context tracking via the optional Context type parameter</li>
  *   <li>Event notifications through the {@link BulkListener} interface</li>
+ *   <li>An optional concurrent buffering mode for many producer threads, see {@link Builder#concurrentBuffering}</li>
+ *   <li>Optional serialization of operations by the producer threads that add them, see {@link Builder#preSerialize}</li>
+ *   <li>Non-blocking additions with per-operation results, see {@link #addAsync(BulkOperation, Object)} and
+ *   {@link #tryAdd(BulkOperation, Object)}</li>
  * </ul>
  * <p>
  * The ingester is thread-safe and can be used concurrently from multiple threads. It must be closed
@@ -117,6 +133,14 @@ public class BulkIngester<Context> implements AutoCloseable {
     private final int maxOperations;
     private final @Nullable BulkListener<Context> listener;
     private final Long flushIntervalMillis;
+    private final boolean concurrentBuffering;
+    private final boolean preSerialize;
+    private final Predicate<BulkResponseItem> retryItemIf;
+    private final Predicate<Throwable> retryRequestIf;
+    private final @Nullable Long targetTookMillis;
+    private final long minAdaptiveSize;
+    private final int maxOverflowOperations;
+    private final long maxOverflowSize;
 
     private @Nullable ScheduledFuture<?> flushTask;
     private @Nullable ScheduledExecutorService scheduler;
@@ -125,10 +149,33 @@ public class BulkIngester<Context> implements AutoCloseable {
     private BackoffPolicy backoffPolicy;
 
     // Current state
-    private List<RetryableBulkOperation<Context>> operations = new ArrayList<>();
+    private List<IngesterOperation<Context>> operations = new ArrayList<>();
     private long currentSize;
     private int requestsInFlightCount;
     private volatile boolean isClosed = false;
+    // The size limit of requests, equal to maxSize unless adaptive sizing is enabled
+    private final AtomicLong sizeLimit = new AtomicLong();
+
+    // Failed operations waiting for their retry delay to elapse, earliest first
+    private final PriorityQueue<IngesterOperation<Context>> retryOperations = new PriorityQueue<>(
+        Comparator.comparingLong(op -> op.repeatableOperation().retryTime())
+    );
+
+    // Concurrent buffering: operations are added without taking the lock, and drained by flushes
+    private final ConcurrentLinkedQueue<IngesterOperation<Context>> concurrentOperations = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger concurrentCount = new AtomicInteger();
+    private final AtomicLong concurrentSize = new AtomicLong();
+    private final LongAdder concurrentAdds = new LongAdder();
+    private final LongAdder concurrentContentions = new LongAdder();
+
+    // Operations added without waiting while the buffer was full, moved to the buffer as it is flushed
+    private final ArrayDeque<IngesterOperation<Context>> overflowOperations = new ArrayDeque<>();
+    private long overflowSize = 0;
+    private final LongAdder nonBlockingAdds = new LongAdder();
+
+    // Size statistics
+    private final SizeHistogram operationSizes = new SizeHistogram();
+    private final SizeHistogram requestSizes = new SizeHistogram();
 
     // Synchronization objects
     private final ReentrantLock lock = new ReentrantLock();
@@ -136,19 +183,30 @@ public class BulkIngester<Context> implements AutoCloseable {
     private final FnCondition sendRequestCondition = new FnCondition(lock, this::canSendRequest);
     private final FnCondition closeCondition = new FnCondition(lock, this::closedAndFlushed);
     private final AtomicInteger listenerInProgressCount = new AtomicInteger();
-    private final AtomicInteger retriesInProgressCount = new AtomicInteger();
 
     private static class RequestExecution<Context> {
         public final long id;
         public final BulkRequest request;
         public final List<Context> contexts;
         public final CompletionStage<BulkResponse> futureResponse;
-
-        RequestExecution(long id, BulkRequest request, List<Context> contexts, CompletionStage<BulkResponse> futureResponse) {
+        // Number of operations taken from the buffer, as opposed to retries
+        public final int bufferedCount;
+        public final long size;
+
+        RequestExecution(
+            long id,
+            BulkRequest request,
+            List<Context> contexts,
+            CompletionStage<BulkResponse> futureResponse,
+            int bufferedCount,
+            long size
+        ) {
             this.id = id;
             this.request = request;
             this.contexts = contexts;
             this.futureResponse = futureResponse;
+            this.bufferedCount = bufferedCount;
+            this.size = size;
         }
     }
 
@@ -162,21 +220,29 @@ public class BulkIngester<Context> implements AutoCloseable {
         this.listener = builder.listener;
         this.backoffPolicy = builder.backoffPolicy;
         this.flushIntervalMillis = builder.flushIntervalMillis;
-
-        if (flushIntervalMillis != null || listener != null) {
-            // Create a scheduler if needed
-            if (builder.scheduler == null) {
-                this.scheduler = Executors.newScheduledThreadPool(maxRequests + 1, (r) -> {
-                    Thread t = Executors.defaultThreadFactory().newThread(r);
-                    t.setName("bulk-ingester-executor#" + ingesterId + "#" + t.getId());
-                    t.setDaemon(true);
-                    return t;
-                });
-            } else {
-                // It's not ours, we will not close it.
-                this.scheduler = builder.scheduler;
-                this.isExternalScheduler = true;
-            }
+        this.concurrentBuffering = builder.concurrentBuffering;
+        this.preSerialize = builder.preSerialize;
+        this.retryItemIf = builder.retryItemIf;
+        this.retryRequestIf = builder.retryRequestIf;
+        this.targetTookMillis = builder.targetTookMillis;
+        this.minAdaptiveSize = builder.minAdaptiveSize;
+        this.maxOverflowOperations = builder.maxOverflowOperations < 0 ? Integer.MAX_VALUE : builder.maxOverflowOperations;
+        this.maxOverflowSize = builder.maxOverflowSize < 0 ? Long.MAX_VALUE : builder.maxOverflowSize;
+        this.sizeLimit.set(this.maxSize);
+
+        // Create a scheduler if needed. It also runs the flushes that follow responses, so that they don't run on the
+        // transport's threads. Its threads are only started when tasks are submitted.
+        if (builder.scheduler == null) {
+            this.scheduler = Executors.newScheduledThreadPool(maxRequests + 1, (r) -> {
+                Thread t = Executors.defaultThreadFactory().newThread(r);
+                t.setName("bulk-ingester-executor#" + ingesterId + "#" + t.getId());
+                t.setDaemon(true);
+                return t;
+            });
+        } else {
+            // It's not ours, we will not close it.
+            this.scheduler = builder.scheduler;
+            this.isExternalScheduler = true;
         }
 
         if (flushIntervalMillis != null) {
@@ -215,6 +281,16 @@ public class BulkIngester<Context> implements AutoCloseable {
         return this.maxSize;
     }
 
+    /**
+     * The maximum size in bytes currently applied to bulk requests. This is {@link #maxSize()} unless adaptive sizing
+     * is enabled, in which case it varies between the configured minimum size and {@link #maxSize()}.
+     *
+     * @see Builder#adaptiveSize
+     */
+    public long currentMaxSize() {
+        return this.sizeLimit.get();
+    }
+
     /**
      * The configured maximum number of concurrent request sent to OpenSearch.
      */
@@ -234,18 +310,33 @@ public class BulkIngester<Context> implements AutoCloseable {
     }
 
     /**
-     * The number of operations that have been buffered, waiting to be sent.
+     * Whether operations are buffered without taking the ingester's lock.
+     */
+    public boolean concurrentBuffering() {
+        return this.concurrentBuffering;
+    }
+
+    /**
+     * Whether operations are serialized when they are added, rather than when requests are sent.
+     */
+    public boolean preSerialize() {
+        return this.preSerialize;
+    }
+
+    /**
+     * The number of operations that have been buffered, waiting to be sent. This includes failed operations
+     * waiting to be retried.
      */
     public int pendingOperations() {
-        List<RetryableBulkOperation<Context>> operations = this.operations;
-        return operations == null ? 0 : operations.size();
+        List<IngesterOperation<Context>> operations = this.operations;
+        return (operations == null ? 0 : operations.size()) + concurrentCount.get() + overflowOperations.size() + retryOperations.size();
     }
 
     /**
      * The size in bytes of operations that have been buffered, waiting to be sent.
      */
     public long pendingOperationsSize() {
-        return this.currentSize;
+        return this.currentSize + this.concurrentSize.get() + this.overflowSize;
     }
 
     /**
@@ -261,7 +352,7 @@ public class BulkIngester<Context> implements AutoCloseable {
      * Statistics: the number of operations that were added to this ingester since it was created.
      */
     public long operationsCount() {
-        return this.addCondition.invocations();
+        return this.addCondition.invocations() + this.concurrentAdds.sum() + this.nonBlockingAdds.sum();
     }
 
     /**
@@ -273,7 +364,7 @@ public class BulkIngester<Context> implements AutoCloseable {
      * @see Builder#maxSize
      */
     public long operationContentionsCount() {
-        return this.addCondition.contentions();
+        return this.addCondition.contentions() + this.concurrentContentions.sum();
     }
 
     /**
@@ -293,6 +384,35 @@ public class BulkIngester<Context> implements AutoCloseable {
         return this.sendRequestCondition.contentions();
     }
 
+    /**
+     * Statistics: the total size in bytes of the operations that were added to this ingester since it was created.
+     */
+    public long operationsSize() {
+        return this.operationSizes.sum();
+    }
+
+    /**
+     * Statistics: the total size in bytes of the bulk requests that were produced by this ingester since it was
+     * created. Retried operations are counted in each request they are sent in.
+     */
+    public long requestsSize() {
+        return this.requestSizes.sum();
+    }
+
+    /**
+     * Statistics: the distribution of the size in bytes of the operations that were added to this ingester.
+     */
+    public SizeHistogram operationSizeHistogram() {
+        return this.operationSizes;
+    }
+
+    /**
+     * Statistics: the distribution of the size in bytes of the bulk requests that were produced by this ingester.
+     */
+    public SizeHistogram requestSizeHistogram() {
+        return this.requestSizes;
+    }
+
     // ----- Predicates for the condition variables
 
     private boolean canSendRequest() {
@@ -300,15 +420,49 @@ public class BulkIngester<Context> implements AutoCloseable {
     }
 
     private boolean canAddOperation() {
-        return currentSize < maxSize && operations.size() < maxOperations;
+        return currentSize < sizeLimit.get() && operations.size() < maxOperations;
     }
 
     private boolean closedAndFlushed() {
         return isClosed
             && operations.isEmpty()
+            && concurrentOperations.isEmpty()
+            && overflowOperations.isEmpty()
+            && retryOperations.isEmpty()
             && requestsInFlightCount == 0
-            && listenerInProgressCount.get() == 0
-            && retriesInProgressCount.get() == 0;
+            && listenerInProgressCount.get() == 0;
+    }
+
+    // Called within the lock
+    private boolean canFlush() {
+        return !operations.isEmpty() || !concurrentOperations.isEmpty() || !overflowOperations.isEmpty() || hasSendableRetry();
+    }
+
+    // Called within the lock
+    private boolean hasBufferRoom() {
+        return concurrentBuffering ? !isConcurrentBufferFull() : canAddOperation();
+    }
+
+    // Called within the lock
+    private void addToBuffer(IngesterOperation<Context> ingestOp) {
+        if (concurrentBuffering) {
+            concurrentOperations.add(ingestOp);
+            concurrentCount.incrementAndGet();
+            concurrentSize.addAndGet(ingestOp.size());
+        } else {
+            operations.add(ingestOp);
+            currentSize += ingestOp.size();
+        }
+    }
+
+    // Called within the lock
+    private boolean hasSendableRetry() {
+        IngesterOperation<Context> retry = retryOperations.peek();
+        return retry != null && retry.repeatableOperation().isSendable();
+    }
+
+    private boolean isConcurrentBufferFull() {
+        return concurrentCount.get() >= maxOperations || concurrentSize.get() >= sizeLimit.get();
     }
 
     // ----- Ingester logic
@@ -353,44 +507,118 @@ public class BulkIngester<Context> implements AutoCloseable {
      * automatic flush triggers (maxOperations, maxSize, or flushInterval).
      */
     public void flush() {
-        List<RetryableBulkOperation<Context>> sentRequests = new ArrayList<>();
-        RequestExecution<Context> exec = sendRequestCondition.whenReadyIf(() -> {
-            // May happen on manual and periodic flushes
-            return !operations.isEmpty() && operations.stream().anyMatch(RetryableBulkOperation::isSendable);
-        }, () -> {
-            // Selecting operations that can be sent immediately,
-            // Dividing actual operations from contexts
-            List<BulkOperation> immediateOps = new ArrayList<>();
-            List<Context> contexts = new ArrayList<>();
+        if (!concurrentBuffering) {
+            sendRequest(this::canFlush);
+            return;
+        }
 
-            for (Iterator<RetryableBulkOperation<Context>> it = operations.iterator(); it.hasNext();) {
-                RetryableBulkOperation<Context> op = it.next();
-                if (op.isSendable()) {
-                    immediateOps.add(op.operation());
-                    contexts.add(op.context());
+        // Send the operations buffered so far, in as many requests as needed to honor the size limits.
+        // Operations added in the meantime are left to later flushes, so that flushing always terminates.
+        long remaining = concurrentCount.get();
+        do {
+            RequestExecution<Context> exec = sendRequest(this::canFlush);
+            if (exec == null) {
+                return;
+            }
+            remaining -= exec.bufferedCount;
+        } while (remaining > 0);
+    }
 
-                    sentRequests.add(op);
-                    it.remove();
-                }
+    // Flushes the concurrent buffer if it reached the size limits, waiting for a request to be allowed if needed
+    private void flushIfFull() {
+        sendRequest(this::isConcurrentBufferFull);
+    }
+
+    // Takes the operations that can be sent in the next request. Called within the lock.
+    private List<IngesterOperation<Context>> takeSendableOperations() {
+        List<IngesterOperation<Context>> result;
+        if (concurrentBuffering) {
+            result = new ArrayList<>();
+            long size = 0;
+            long limit = sizeLimit.get();
+            IngesterOperation<Context> ingestOp;
+            while (result.size() < maxOperations && size < limit && (ingestOp = concurrentOperations.poll()) != null) {
+                result.add(ingestOp);
+                size += ingestOp.size();
+                concurrentCount.decrementAndGet();
+                concurrentSize.addAndGet(-ingestOp.size());
+            }
+            drainOverflow();
+        } else {
+            // Buffered operations are all sendable, retries waiting for their delay are kept separately
+            result = operations;
+            operations = new ArrayList<>();
+            currentSize = 0;
+            drainOverflow();
+            addCondition.signalIfReady();
+        }
+        return result;
+    }
+
+    // Moves operations added without waiting to the room that was freed in the buffer. Called within the lock.
+    private void drainOverflow() {
+        while (!overflowOperations.isEmpty() && hasBufferRoom()) {
+            IngesterOperation<Context> ingestOp = overflowOperations.poll();
+            overflowSize -= ingestOp.size();
+            addToBuffer(ingestOp);
+        }
+    }
+
+    // Flushes the buffer if it is full and a request can be sent right away. Never waits.
+    private void flushIfFullWithoutWaiting() {
+        sendRequest(() -> canSendRequest() && (!hasBufferRoom() || (isClosed && canFlush())));
+    }
+
+    private RequestExecution<Context> sendRequest(BooleanSupplier canRun) {
+        List<IngesterOperation<Context>> sentRequests = new ArrayList<>();
+        RequestExecution<Context> exec = sendRequestCondition.whenReadyIf(canRun, () -> {
+            sentRequests.addAll(takeSendableOperations());
+            int bufferedCount = sentRequests.size();
+
+            // Retries whose delay has elapsed
+            while (hasSendableRetry()) {
+                sentRequests.add(retryOperations.poll());
+            }
+
+            // Dividing actual operations from contexts
+            List<BulkOperation> immediateOps = new ArrayList<>(sentRequests.size());
+            List<Context> contexts = new ArrayList<>(sentRequests.size());
+            long requestSize = 0;
+            for (IngesterOperation<Context> op : sentRequests) {
+                immediateOps.add(op.repeatableOperation().operation());
+                contexts.add(op.repeatableOperation().context());
+                requestSize += op.size();
             }
 
             // Build the request
             BulkRequest request = newRequest().operations(immediateOps).build();
 
-            // Prepare for next round
-            currentSize = operations.size();
-            addCondition.signalIfReady();
-
             long id = sendRequestCondition.invocations();
 
             if (listener != null) {
                 // synchronous execution to make sure it actually runs before
-                listener.beforeBulk(id, request, contexts);
+                try {
+                    listener.beforeBulk(id, request, contexts);
+                } catch (RuntimeException e) {
+                    // The request is not sent
+                    completeExceptionally(sentRequests, e);
+                    throw e;
+                }
             }
 
             CompletionStage<BulkResponse> result;
             try {
-                result = client.bulk(request);
+                if (preSerialize) {
+                    // Operations are sent as is, only their bytes are copied to the request body
+                    result = client._transport()
+                        .performRequestAsync(
+                            new SerializedBulkRequest(request, new ArrayList<>(sentRequests)),
+                            SerializedBulkRequest._ENDPOINT,
+                            client._transportOptions()
+                        );
+                } else {
+                    result = client.bulk(request);
+                }
             } catch (IOException e) {
                 // Convert IOException to a failed CompletionStage
                 result = CompletableFuture.failedFuture(e);
@@ -402,120 +630,178 @@ public class BulkIngester<Context> implements AutoCloseable {
                 request = null;
             }
 
-            return new RequestExecution<>(id, request, contexts, result);
+            requestSizes.record(requestSize);
+
+            return new RequestExecution<>(id, request, contexts, result, bufferedCount, requestSize);
         });
 
         if (exec != null) {
             // A request was actually sent
             exec.futureResponse.handle((resp, thr) -> {
                 if (resp != null) {
-
-                    // Success? Checking if total or partial
-                    List<BulkResponseItem> failedRequestsCanRetry = resp.items()
-                        .stream()
-                        .filter(i -> i.error() != null && i.status() == 429)
-                        .collect(Collectors.toList());
-
-                    if (failedRequestsCanRetry.isEmpty() || backoffPolicy.equals(BackoffPolicy.noBackoff())) {
-                        // Total success! ...or there's no retry policy implemented. Either way, can call
-                        listenerAfterBulkSuccess(resp, exec);
-                    } else {
-                        // Partial success, retrying failed requests if policy allows it
-                        // Keeping list of retryable requests/responses, to exclude them for calling
-                        // listener later
-                        List<RetryableBulkOperation<Context>> retryableReq = new ArrayList<>();
-                        List<RetryableBulkOperation<Context>> refires = new ArrayList<>();
-                        List<BulkResponseItem> retryableResp = new ArrayList<>();
-
-                        for (BulkResponseItem bulkItemResponse : failedRequestsCanRetry) {
-                            int index = resp.items().indexOf(bulkItemResponse);
-                            selectingRetries(index, bulkItemResponse, sentRequests, retryableResp, retryableReq, refires);
-                        }
-                        // Scheduling flushes for just sent out retryable requests
-                        if (!refires.isEmpty()) {
-                            scheduleRetries(refires);
-                        }
-                        // Retrieving list of remaining successful or not retryable requests
-                        retryableReq.forEach(sentRequests::remove);
-                        if (!sentRequests.isEmpty()) {
-                            if (listener != null) {
-                                // Creating partial BulkRequest
-                                List<BulkOperation> partialOps = new ArrayList<>();
-                                List<Context> partialCtx = new ArrayList<>();
-                                for (RetryableBulkOperation<Context> op : sentRequests) {
-                                    partialOps.add(op.operation());
-                                    partialCtx.add(op.context());
-                                }
-                                BulkRequest partialRequest = newRequest().operations(partialOps).build();
-
-                                // Filtering response
-                                List<BulkResponseItem> partialItems = resp.items()
-                                    .stream()
-                                    .filter(i -> !retryableResp.contains(i))
-                                    .collect(Collectors.toList());
-
-                                BulkResponse partialResp = BulkResponse.of(
-                                    br -> br.items(partialItems).errors(resp.errors()).took(resp.took()).ingestTook(resp.ingestTook())
-                                );
-
-                                listenerInProgressCount.incrementAndGet();
-                                scheduler.submit(() -> {
-                                    try {
-                                        listener.afterBulk(exec.id, partialRequest, partialCtx, partialResp);
-                                    } finally {
-                                        if (listenerInProgressCount.decrementAndGet() == 0) {
-                                            closeCondition.signalIfReady();
-                                        }
-                                    }
-                                });
-                            }
-                        }
-
-                    }
+                    adaptSizeLimit(exec.size, resp.took());
+                    handleResponse(resp, exec, sentRequests);
                 } else {
-                    // Failure
-                    listenerAfterBulkException(thr, exec);
+                    handleFailure(thr, exec, sentRequests);
                 }
 
                 sendRequestCondition.signalIfReadyAfter(() -> {
                     requestsInFlightCount--;
                     closeCondition.signalAllIfReady();
                 });
+
+                // Operations added without waiting, or a lowered size limit, can leave a full buffer that no producer
+                // will flush. Flush it if a request can be sent right away, or leave it to the next response. This runs
+                // on the scheduler, as the response may be handled on a transport I/O thread.
+                try {
+                    scheduler.execute(this::flushIfFullWithoutWaiting);
+                } catch (RejectedExecutionException e) {
+                    // The ingester was closed, and close() has already flushed everything
+                }
                 return null;
             });
         }
+        return exec;
     }
 
-    private void selectingRetries(
-        int index,
-        BulkResponseItem bulkItemResponse,
-        List<RetryableBulkOperation<Context>> sentRequests,
-        List<BulkResponseItem> retryableResp,
-        List<RetryableBulkOperation<Context>> retryableReq,
-        List<RetryableBulkOperation<Context>> refires
-    ) {
-
-        // Getting original failed, requests and keeping successful ones to send to the listener
-        RetryableBulkOperation<Context> original = sentRequests.get(index);
-        if (original.canRetry()) {
-            retryableResp.add(bulkItemResponse);
-            Iterator<Long> retryTimes = Optional.ofNullable(original.retries()).orElse(backoffPolicy.iterator());
-            RetryableBulkOperation<Context> refire = new RetryableBulkOperation<>(original.operation(), original.context(), retryTimes);
-            retryableReq.add(original);
-            refires.add(refire);
-            addRetry(refire);
-            logger.warn("Added failed request back in queue, retrying in : " + refire.currentRetryTimeDelay() + " ms");
-        } else {
+    // Moves the size limit towards the size that the server would process in the target time, given the throughput
+    // observed for a request. Steps are damped and bounded to a factor of 2 to smooth out variations between requests.
+    private void adaptSizeLimit(long requestSize, long took) {
+        if (targetTookMillis == null || requestSize <= 0 || took <= 0) {
+            return;
+        }
+
+        double idealSize = (double) requestSize * targetTookMillis / took;
+        sizeLimit.updateAndGet(current -> {
+            double target = Math.max(current / 2.0, Math.min(current * 2.0, idealSize));
+            long next = Math.round(current + (target - current) / 2);
+            return Math.max(minAdaptiveSize, Math.min(maxSize, next));
+        });
+    }
+
+    // Retries the failed items of a response that match the retry predicate, in a single pass over the items which are
+    // in the same order as operations. The listener is called with the other items, if any.
+    private void handleResponse(BulkResponse resp, RequestExecution<Context> exec, List<IngesterOperation<Context>> sentOps) {
+        List<BulkResponseItem> items = resp.items();
+        if (items.size() != sentOps.size()) {
+            // Items cannot be matched with operations
+            completeExceptionally(
+                sentOps,
+                new IllegalStateException("Bulk response has " + items.size() + " items for " + sentOps.size() + " operations")
+            );
+            listenerAfterBulkSuccess(exec.id, exec.request, exec.contexts, resp);
+            return;
+        }
+
+        boolean canRetry = !backoffPolicy.equals(BackoffPolicy.noBackoff());
+        List<IngesterOperation<Context>> retries = new ArrayList<>();
+        List<BulkOperation> partialOps = new ArrayList<>();
+        List<Context> partialCtx = new ArrayList<>();
+        List<BulkResponseItem> partialItems = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkResponseItem item = items.get(i);
+            IngesterOperation<Context> sent = sentOps.get(i);
+            IngesterOperation<Context> retry = canRetry && item.error() != null && retryItemIf.test(item) ? nextRetry(sent) : null;
+            if (retry != null) {
+                retries.add(retry);
+            } else {
+                CompletableFuture<BulkResponseItem> completion = sent.repeatableOperation().completion();
+                if (completion != null) {
+                    completion.complete(item);
+                }
+                if (listener != null) {
+                    partialOps.add(sent.repeatableOperation().operation());
+                    partialCtx.add(sent.repeatableOperation().context());
+                    partialItems.add(item);
+                }
+            }
+        }
+
+        if (retries.isEmpty()) {
+            listenerAfterBulkSuccess(exec.id, exec.request, exec.contexts, resp);
+            return;
+        }
+
+        addRetries(retries);
+
+        if (!partialItems.isEmpty()) {
+            BulkRequest partialRequest = newRequest().operations(partialOps).build();
+            BulkResponse partialResp = BulkResponse.of(
+                br -> br.items(partialItems).errors(resp.errors()).took(resp.took()).ingestTook(resp.ingestTook())
+            );
+            listenerAfterBulkSuccess(exec.id, partialRequest, partialCtx, partialResp);
+        }
+    }
+
+    // Resends the operations of a request that failed as a whole if the failure matches the retry predicate. The
+    // listener is called with the operations that cannot be retried, if any.
+    private void handleFailure(Throwable thr, RequestExecution<Context> exec, List<IngesterOperation<Context>> sentOps) {
+        Throwable cause = ResponseStatus.unwrap(thr);
+        if (backoffPolicy.equals(BackoffPolicy.noBackoff()) || !retryRequestIf.test(cause)) {
+            completeExceptionally(sentOps, cause);
+            listenerAfterBulkException(exec.id, exec.request, exec.contexts, thr);
+            return;
+        }
+
+        List<IngesterOperation<Context>> retries = new ArrayList<>(sentOps.size());
+        List<BulkOperation> partialOps = new ArrayList<>();
+        List<Context> partialCtx = new ArrayList<>();
+
+        for (IngesterOperation<Context> sent : sentOps) {
+            IngesterOperation<Context> retry = nextRetry(sent);
+            if (retry != null) {
+                retries.add(retry);
+            } else {
+                CompletableFuture<BulkResponseItem> completion = sent.repeatableOperation().completion();
+                if (completion != null) {
+                    completion.completeExceptionally(cause);
+                }
+                if (listener != null) {
+                    partialOps.add(sent.repeatableOperation().operation());
+                    partialCtx.add(sent.repeatableOperation().context());
+                }
+            }
+        }
+
+        if (retries.isEmpty()) {
+            listenerAfterBulkException(exec.id, exec.request, exec.contexts, thr);
+            return;
+        }
+
+        addRetries(retries);
+
+        if (!partialOps.isEmpty()) {
+            listenerAfterBulkException(exec.id, newRequest().operations(partialOps).build(), partialCtx, thr);
+        }
+    }
+
+    private static void completeExceptionally(List<? extends IngesterOperation<?>> ops, Throwable failure) {
+        for (IngesterOperation<?> op : ops) {
+            CompletableFuture<BulkResponseItem> completion = op.repeatableOperation().completion();
+            if (completion != null) {
+                completion.completeExceptionally(failure);
+            }
+        }
+    }
+
+    // Creates the next retry of a failed operation, or returns null if its retries are exhausted
+    private @Nullable IngesterOperation<Context> nextRetry(IngesterOperation<Context> sent) {
+        RetryableBulkOperation<Context> original = sent.repeatableOperation();
+        Iterator<Long> retryTimes = Optional.ofNullable(original.retries()).orElseGet(backoffPolicy::iterator);
+        if (!retryTimes.hasNext()) {
             logger.warn("Retries finished for request: " + original.operation()._kind().toString());
+            return null;
         }
+        return sent.withRetry(new RetryableBulkOperation<>(original.operation(), original.context(), retryTimes, original.completion()));
     }
 
-    private void listenerAfterBulkException(Throwable thr, RequestExecution<Context> exec) {
+    private void listenerAfterBulkException(long id, BulkRequest request, List<Context> contexts, Throwable thr) {
         if (listener != null) {
             listenerInProgressCount.incrementAndGet();
             scheduler.submit(() -> {
                 try {
-                    listener.afterBulk(exec.id, exec.request, exec.contexts, thr);
+                    listener.afterBulk(id, request, contexts, thr);
                 } finally {
                     if (listenerInProgressCount.decrementAndGet() == 0) {
                         closeCondition.signalIfReady();
@@ -525,12 +811,12 @@ public class BulkIngester<Context> implements AutoCloseable {
         }
     }
 
-    private void listenerAfterBulkSuccess(BulkResponse resp, RequestExecution<Context> exec) {
+    private void listenerAfterBulkSuccess(long id, BulkRequest request, List<Context> contexts, BulkResponse resp) {
         if (listener != null) {
             listenerInProgressCount.incrementAndGet();
             scheduler.submit(() -> {
                 try {
-                    listener.afterBulk(exec.id, exec.request, exec.contexts, resp);
+                    listener.afterBulk(id, request, contexts, resp);
                 } finally {
                     if (listenerInProgressCount.decrementAndGet() == 0) {
                         closeCondition.signalIfReady();
@@ -540,12 +826,13 @@ public class BulkIngester<Context> implements AutoCloseable {
         }
     }
 
-    private void scheduleRetries(List<RetryableBulkOperation<Context>> retryableReq) {
-        LongSummaryStatistics statsDelays = retryableReq.stream()
-            .map(RetryableBulkOperation::currentRetryTimeDelay)
-            .mapToLong(Long::longValue)
+    private void scheduleRetries(List<IngesterOperation<Context>> retries) {
+        LongSummaryStatistics statsDelays = retries.stream()
+            .mapToLong(op -> op.repeatableOperation().currentRetryTimeDelay())
             .summaryStatistics();
 
+        logger.warn("Added " + retries.size() + " failed operations back in queue, retrying in " + statsDelays.getMin() + " ms");
+
         // scheduling earlier and latest delay
         retryScheduler.schedule(this::flush, statsDelays.getMin(), TimeUnit.MILLISECONDS);
         retryScheduler.schedule(this::flush, statsDelays.getMax(), TimeUnit.MILLISECONDS);
@@ -576,36 +863,185 @@ public class BulkIngester<Context> implements AutoCloseable {
         innerAdd(repeatableOp);
     }
 
-    // Same as "add", but skips the closed check to allow retries to be added even after ingester closure
-    private void addRetry(RetryableBulkOperation<Context> repeatableOp) {
-        // Sending the operation back in the queue using the retry scheduler
-        retriesInProgressCount.incrementAndGet();
-        retryScheduler.submit(() -> {
-            try {
-                innerAdd(repeatableOp);
-            } finally {
-                if (retriesInProgressCount.decrementAndGet() == 0) {
-                    closeCondition.signalIfReady();
-                }
-            }
-        });
+    // Skips the closed check and the buffer limits to allow retries to be added even after ingester closure.
+    // Retries are sent by the flushes scheduled once their delay has elapsed.
+    private void addRetries(List<IngesterOperation<Context>> retries) {
+        lock.lock();
+        try {
+            retryOperations.addAll(retries);
+        } finally {
+            lock.unlock();
+        }
+        scheduleRetries(retries);
+    }
+
+    private IngesterOperation<Context> newIngesterOperation(RetryableBulkOperation<Context> repeatableOp) {
+        JsonpMapper mapper = client._transport().jsonpMapper();
+        return preSerialize ? IngesterOperation.serialized(repeatableOp, mapper) : IngesterOperation.of(repeatableOp, mapper);
     }
 
     private void innerAdd(RetryableBulkOperation<Context> repeatableOp) {
-        IngesterOperation ingestOp = IngesterOperation.of(repeatableOp, client._transport().jsonpMapper());
+        IngesterOperation<Context> ingestOp = newIngesterOperation(repeatableOp);
+        operationSizes.record(ingestOp.size());
+
+        if (concurrentBuffering) {
+            concurrentAdd(ingestOp);
+            return;
+        }
 
         addCondition.whenReady(() -> {
-            operations.add(ingestOp.repeatableOperation());
+            operations.add(ingestOp);
             currentSize += ingestOp.size();
 
             if (!canAddOperation()) {
-                flush();
+                // The buffer may have been sent by a completing request while waiting to send it
+                sendRequest(() -> !canAddOperation());
             } else {
                 addCondition.signalIfReady();
             }
         });
     }
 
+    private void concurrentAdd(IngesterOperation<Context> ingestOp) {
+        // Backpressure: help flushing the buffer while it is full, waiting for a request to be allowed if needed
+        if (isConcurrentBufferFull()) {
+            concurrentContentions.increment();
+            do {
+                flushIfFull();
+            } while (isConcurrentBufferFull());
+        }
+
+        // Counters are updated after the operation is visible in the queue, so that a flush
+        // never sees more operations counted than it can drain.
+        concurrentOperations.add(ingestOp);
+        concurrentCount.incrementAndGet();
+        concurrentSize.addAndGet(ingestOp.size());
+        concurrentAdds.increment();
+
+        if (isConcurrentBufferFull()) {
+            flushIfFull();
+        }
+    }
+
+    /**
+     * Add a bulk operation to the ingester with an associated context, without blocking.
+     * <p>
+     * The operation is buffered like with {@link #add(BulkOperation, Object)}. If the buffer is full, it is kept
+     * aside and moved to the buffer once room has been made by sending a request, instead of waiting for it. This
+     * method never waits for buffer room or for in-flight requests, although it may briefly contend with other
+     * threads on the ingester's lock. It can be used from event loop threads.
+     * <p>
+     * The returned stage provides backpressure: it completes with the response item of the operation once it has
+     * been processed, after its retries if any, or exceptionally if the request failed and was not retried. The
+     * operations kept aside are limited by {@link Builder#maxOverflow(int, long)}: past that limit, the operation is
+     * not added and the returned stage fails with a {@link RejectedExecutionException}. Stages are completed on the
+     * thread handling the response, and dependent actions should not block it.
+     *
+     * @param operation the bulk operation to add
+     * @param context   optional context to associate with this operation for tracking purposes
+     * @return a stage completed with the response item of the operation
+     * @throws IllegalStateException if the ingester has been closed
+     */
+    public CompletionStage<BulkResponseItem> addAsync(BulkOperation operation, Context context) {
+        if (isClosed) {
+            throw new IllegalStateException("Ingester has been closed");
+        }
+
+        CompletableFuture<BulkResponseItem> completion = new CompletableFuture<>();
+        IngesterOperation<Context> ingestOp = newIngesterOperation(new RetryableBulkOperation<>(operation, context, null, completion));
+
+        lock.lock();
+        try {
+            if (overflowOperations.isEmpty() && hasBufferRoom()) {
+                addToBuffer(ingestOp);
+            } else if (overflowOperations.size() >= maxOverflowOperations || overflowSize + ingestOp.size() > maxOverflowSize) {
+                completion.completeExceptionally(
+                    new RejectedExecutionException(
+                        "Operation rejected, "
+                            + overflowOperations.size()
+                            + " operations of "
+                            + overflowSize
+                            + " bytes are already waiting for buffer room"
+                    )
+                );
+                return completion;
+            } else {
+                overflowOperations.add(ingestOp);
+                overflowSize += ingestOp.size();
+            }
+        } finally {
+            lock.unlock();
+        }
+        operationSizes.record(ingestOp.size());
+        nonBlockingAdds.increment();
+
+        flushIfFullWithoutWaiting();
+        return completion;
+    }
+
+    /**
+     * Add a bulk operation to the ingester without an associated context, without blocking.
+     * <p>
+     * Equivalent to calling {@code addAsync(operation, null)}.
+     *
+     * @param operation the bulk operation to add
+     * @return a stage completed with the response item of the operation
+     * @throws IllegalStateException if the ingester has been closed
+     * @see #addAsync(BulkOperation, Object)
+     */
+    public CompletionStage<BulkResponseItem> addAsync(BulkOperation operation) {
+        return addAsync(operation, null);
+    }
+
+    /**
+     * Add a bulk operation to the ingester with an associated context, only if the buffer has room for it.
+     * <p>
+     * Unlike {@link #add(BulkOperation, Object)}, this method does not wait for buffer room or for in-flight
+     * requests, although it may briefly contend with other threads on the ingester's lock. If the buffer is full,
+     * the operation is not added and the caller can try again later, for example once a request has completed.
+     *
+     * @param operation the bulk operation to add
+     * @param context   optional context to associate with this operation for tracking purposes
+     * @return {@code true} if the operation was added, {@code false} if the buffer is full
+     * @throws IllegalStateException if the ingester has been closed
+     */
+    public boolean tryAdd(BulkOperation operation, Context context) {
+        if (isClosed) {
+            throw new IllegalStateException("Ingester has been closed");
+        }
+
+        IngesterOperation<Context> ingestOp = newIngesterOperation(new RetryableBulkOperation<>(operation, context, null));
+
+        lock.lock();
+        try {
+            if (!overflowOperations.isEmpty() || !hasBufferRoom()) {
+                return false;
+            }
+            addToBuffer(ingestOp);
+        } finally {
+            lock.unlock();
+        }
+        operationSizes.record(ingestOp.size());
+        nonBlockingAdds.increment();
+
+        flushIfFullWithoutWaiting();
+        return true;
+    }
+
+    /**
+     * Add a bulk operation to the ingester without an associated context, only if the buffer has room for it.
+     * <p>
+     * Equivalent to calling {@code tryAdd(operation, null)}.
+     *
+     * @param operation the bulk operation to add
+     * @return {@code true} if the operation was added, {@code false} if the buffer is full
+     * @throws IllegalStateException if the ingester has been closed
+     * @see #tryAdd(BulkOperation, Object)
+     */
+    public boolean tryAdd(BulkOperation operation) {
+        return tryAdd(operation, null);
+    }
+
     /**
      * Add a bulk operation to the ingester without an associated context.
      * <p>
@@ -691,6 +1127,14 @@ public class BulkIngester<Context> implements AutoCloseable {
         private BulkListener<Context> listener;
         private ScheduledExecutorService scheduler;
         private BackoffPolicy backoffPolicy;
+        private boolean concurrentBuffering;
+        private boolean preSerialize;
+        private Predicate<BulkResponseItem> retryItemIf = BulkRetryPredicates.DEFAULT_ITEM;
+        private Predicate<Throwable> retryRequestIf = BulkRetryPredicates.DEFAULT_REQUEST;
+        private Long targetTookMillis;
+        private long minAdaptiveSize;
+        private int maxOverflowOperations = 10_000;
+        private long maxOverflowSize = 50 * 1024 * 1024;
 
         public Builder<Context> client(OpenSearchAsyncClient client) {
             this.client = client;
@@ -781,14 +1225,98 @@ public class BulkIngester<Context> implements AutoCloseable {
         }
 
         /**
-         * Sets the backoff policy that will handle retries for error 429: too many requests.
-         * All the times are defined in milliseconds.
+         * Sets the backoff policy that will handle retries of failed operations, as decided by {@link #retryItemIf}
+         * and {@link #retryRequestIf}. All the times are defined in milliseconds. Defaults to no retries.
          */
         public Builder<Context> backoffPolicy(BackoffPolicy backoffPolicy) {
             this.backoffPolicy = backoffPolicy;
             return this;
         }
 
+        /**
+         * Sets the predicate selecting the failed items of bulk responses whose operations are retried. Other items
+         * are reported to the listener. Defaults to {@link BulkRetryPredicates#DEFAULT_ITEM}.
+         */
+        public Builder<Context> retryItemIf(Predicate<BulkResponseItem> predicate) {
+            this.retryItemIf = Objects.requireNonNull(predicate, "predicate");
+            return this;
+        }
+
+        /**
+         * Sets the predicate selecting the failures of whole bulk requests whose operations are all retried. Other
+         * failures are reported to the listener. Defaults to {@link BulkRetryPredicates#DEFAULT_REQUEST}.
+         */
+        public Builder<Context> retryRequestIf(Predicate<Throwable> predicate) {
+            this.retryRequestIf = Objects.requireNonNull(predicate, "predicate");
+            return this;
+        }
+
+        /**
+         * Enables concurrent buffering. Operations are then added to a lock-free buffer, and the ingester's lock is
+         * only taken to send a request once the buffer reaches {@link #maxOperations} or {@link #maxSize}. This
+         * removes most of the contention when many threads add operations concurrently. Defaults to {@code false}.
+         * <p>
+         * Each request still honors {@link #maxOperations} and {@link #maxSize}, but the buffer may temporarily hold
+         * a few more operations than these limits, up to one per producer thread.
+         */
+        public Builder<Context> concurrentBuffering(boolean enabled) {
+            this.concurrentBuffering = enabled;
+            return this;
+        }
+
+        /**
+         * Enables serialization of operations when they are added. Each operation is then serialized once to its
+         * final bulk request representation by the thread calling {@code add}, and requests are built by
+         * concatenating these bytes. This spreads the serialization work across producer threads and makes
+         * flushes cheap, at the expense of holding buffered operations both as objects and as bytes.
+         * Defaults to {@code false}.
+         * <p>
+         * Listeners still receive requests with the operations as they were added.
+         */
+        public Builder<Context> preSerialize(boolean enabled) {
+            this.preSerialize = enabled;
+            return this;
+        }
+
+        /**
+         * Enables adaptive sizing: the size limit of requests is adjusted after each response so that the time
+         * OpenSearch takes to process a request, as reported by {@link BulkResponse#took()}, stays near a target.
+         * The size limit starts at {@link #maxSize}, which must be set, and varies between {@code minSize} and
+         * {@link #maxSize}. Defaults to not set.
+         *
+         * @param minSize the minimum size in bytes of requests
+         * @throws IllegalArgumentException if the minimum size is less than 1 or the target is not positive.
+         */
+        public Builder<Context> adaptiveSize(long minSize, long targetTook, TimeUnit unit) {
+            if (minSize < 1) {
+                throw new IllegalArgumentException("Min size should be at least 1");
+            }
+            if (targetTook <= 0) {
+                throw new IllegalArgumentException("Target took should be positive");
+            }
+            this.minAdaptiveSize = minSize;
+            this.targetTookMillis = unit.toMillis(targetTook);
+            return this;
+        }
+
+        /**
+         * Sets the limits of the operations that {@code addAsync} keeps aside while the buffer is full. Past either of
+         * them, operations are rejected. Defaults to {@code 10000} operations and 50 megabytes. Each can be set to
+         * {@code -1} to disable it.
+         *
+         * @param operations the maximum number of operations kept aside
+         * @param bytes      the maximum size in bytes of the operations kept aside
+         * @throws IllegalArgumentException if either is less than -1.
+         */
+        public Builder<Context> maxOverflow(int operations, long bytes) {
+            if (operations < -1 || bytes < -1) {
+                throw new IllegalArgumentException("Max overflow operations and size should be at least -1");
+            }
+            this.maxOverflowOperations = operations;
+            this.maxOverflowSize = bytes;
+            return this;
+        }
+
         /**
          * Sets global bulk request settings that will be applied to all requests sent by the ingester.
          */
@@ -818,6 +1346,10 @@ public class BulkIngester<Context> implements AutoCloseable {
                 throw new IllegalStateException("No bulk operation chunking criteria have been set.");
             }
 
+            if (this.targetTookMillis != null && (this.bulkSize < 0 || this.minAdaptiveSize > this.bulkSize)) {
+                throw new IllegalStateException("Adaptive sizing requires a max size greater than or equal to its min size.");
+            }
+
             return new BulkIngester<>(this);
         }
     }
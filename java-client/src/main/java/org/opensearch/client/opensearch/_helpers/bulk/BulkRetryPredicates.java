@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.transport.ResponseStatus;
+
+/**
+ * Predicates deciding which failures are retried by a {@link BulkIngester}, according to its
+ * {@link BulkIngester.Builder#backoffPolicy backoff policy}.
+ * <p>
+ * Item predicates are evaluated on the failed items of bulk responses, and only the operations of retried items are
+ * sent again. Request predicates are evaluated on the failures of whole bulk requests, such as connection errors,
+ * in which case all the operations of the request are sent again.
+ * <p>
+ * Predicates can be combined with {@link Predicate#or(Predicate)}, for example to also retry version conflicts of
+ * create operations:
+ * <pre>{@code
+ * BulkIngester<Void> ingester = BulkIngester.of(b -> b
+ *     .client(client)
+ *     .backoffPolicy(BackoffPolicy.exponentialBackoff())
+ *     .retryItemIf(BulkRetryPredicates.DEFAULT_ITEM.or(BulkRetryPredicates.createVersionConflicts()))
+ * );
+ * }</pre>
+ */
+public final class BulkRetryPredicates {
+
+    /**
+     * Items rejected because the cluster is overloaded or unavailable: status {@code 429} and {@code 503}, and
+     * rejected execution errors.
+     */
+    public static final Predicate<BulkResponseItem> DEFAULT_ITEM = statuses(429, 503).or(
+        errorTypes("rejected_execution_exception", "opensearch_rejected_execution_exception", "es_rejected_execution_exception")
+    );
+
+    /**
+     * Requests that failed without a response, such as connection errors and timeouts, or with status {@code 429},
+     * {@code 502}, {@code 503} or {@code 504}.
+     */
+    public static final Predicate<Throwable> DEFAULT_REQUEST = ResponseStatus::isTransient;
+
+    private BulkRetryPredicates() {}
+
+    /**
+     * Items that failed with one of the given HTTP statuses.
+     */
+    public static Predicate<BulkResponseItem> statuses(int... statuses) {
+        Set<Integer> set = toSet(statuses);
+        return item -> set.contains(item.status());
+    }
+
+    /**
+     * Items that failed with one of the given error types, such as {@code "rejected_execution_exception"}.
+     */
+    public static Predicate<BulkResponseItem> errorTypes(String... types) {
+        Set<String> set = new HashSet<>(Arrays.asList(types));
+        return item -> item.error() != null && set.contains(item.error().type());
+    }
+
+    /**
+     * Create operations that failed because the document already exists, or with a version conflict.
+     * Retrying them is only useful if documents are expected to be deleted concurrently.
+     */
+    public static Predicate<BulkResponseItem> createVersionConflicts() {
+        return item -> item.operationType() == OperationType.Create && item.status() == 409;
+    }
+
+    /**
+     * Requests that failed with one of the given HTTP statuses.
+     */
+    public static Predicate<Throwable> requestStatuses(int... statuses) {
+        Set<Integer> set = toSet(statuses);
+        return failure -> set.contains(ResponseStatus.of(failure));
+    }
+
+    private static Set<Integer> toSet(int... values) {
+        Set<Integer> set = new HashSet<>();
+        for (int value : values) {
+            set.add(value);
+        }
+        return set;
+    }
+}
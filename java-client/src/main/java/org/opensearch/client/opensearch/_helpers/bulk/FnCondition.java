@@ -104,7 +104,6 @@ class FnCondition {
                 return null;
             }
 
-            invocations++;
             boolean firstLoop = true;
             while (!ready.getAsBoolean()) {
                 if (firstLoop) {
@@ -115,9 +114,15 @@ class FnCondition {
             }
 
             if (canRun != null && !canRun.getAsBoolean()) {
+                if (!firstLoop) {
+                    // We were signalled but have nothing to run: pass the signal on to another waiting thread
+                    condition.signal();
+                }
                 return null;
             }
 
+            // Only count invocations that actually ran, as several threads may have been waiting to run the same work
+            invocations++;
             return fn.get();
         } finally {
             lock.unlock();
@@ -179,7 +184,7 @@ class FnCondition {
     }
 
     /**
-     * Number of invocations of {@code whenReady}.
+     * Number of invocations of {@code whenReady} that ran their function.
      */
     public long invocations() {
         return this.invocations;
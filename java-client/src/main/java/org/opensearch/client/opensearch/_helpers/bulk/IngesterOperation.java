@@ -32,34 +32,88 @@
 
 package org.opensearch.client.opensearch._helpers.bulk;
 
+import jakarta.json.stream.JsonGenerator;
+import java.util.Arrays;
+import java.util.Iterator;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonEnum;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkOperationBase;
 import org.opensearch.client.opensearch.core.bulk.CreateOperation;
 import org.opensearch.client.opensearch.core.bulk.DeleteOperation;
 import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 import org.opensearch.client.opensearch.core.bulk.UpdateOperation;
+import org.opensearch.client.opensearch.core.bulk.WriteOperation;
 import org.opensearch.client.util.BinaryData;
 import org.opensearch.client.util.NoCopyByteArrayOutputStream;
 
 /**
  * A bulk operation whose size has been calculated and content turned to a binary blob (to compute its size).
  * <p>
- * This class wraps a {@link RetryableBulkOperation} and calculates the estimated byte size that the operation
- * will occupy in the bulk request payload. For operations with documents (create, index, update), the document
- * content is converted to {@link BinaryData} to enable efficient size calculation and avoid re-serialization.
+ * This class wraps a {@link RetryableBulkOperation} and calculates the number of bytes that the operation
+ * will occupy in the bulk request payload: its action and metadata line, and for operations with documents
+ * (create, index, update) its source line. Document content is converted to {@link BinaryData} to enable
+ * efficient size calculation and avoid re-serialization. Sizes are exact for JSON generators that do not
+ * escape non-ASCII characters, such as Jackson's.
+ * <p>
+ * Operations can also be serialized upfront to their final NDJSON representation with
+ * {@link #serialized(RetryableBulkOperation, JsonpMapper)}, so that sending them only requires to copy their bytes.
  * <p>
  * This is an internal utility class used by {@link BulkIngester} to track buffered operation sizes.
+ *
+ * @param <Context> optional context type associated with the operation
  */
-class IngesterOperation {
-    private final RetryableBulkOperation repeatableOp;
+class IngesterOperation<Context> {
+    private final RetryableBulkOperation<Context> repeatableOp;
     private final long size;
+    private final @Nullable byte[] serialized;
 
-    IngesterOperation(RetryableBulkOperation repeatableOp, long size) {
+    IngesterOperation(RetryableBulkOperation<Context> repeatableOp, long size) {
+        this(repeatableOp, size, null);
+    }
+
+    private IngesterOperation(RetryableBulkOperation<Context> repeatableOp, long size, @Nullable byte[] serialized) {
         this.repeatableOp = repeatableOp;
         this.size = size;
+        this.serialized = serialized;
+    }
+
+    /**
+     * Create an IngesterOperation from a retryable bulk operation, serializing it to the bytes it takes in the bulk
+     * request payload. The operation is kept as is, and its size is the exact size of the serialized bytes.
+     *
+     * @param repeatableOp the retryable bulk operation to serialize
+     * @param mapper       the JSON mapper for serialization
+     * @return a serialized IngesterOperation
+     */
+    public static <Context> IngesterOperation<Context> serialized(RetryableBulkOperation<Context> repeatableOp, JsonpMapper mapper) {
+        NoCopyByteArrayOutputStream out = new NoCopyByteArrayOutputStream();
+        writeNdJson(repeatableOp.operation(), out, mapper);
+
+        byte[] bytes = out.array();
+        if (bytes.length != out.size()) {
+            // Do not retain the unused capacity of the buffer while the operation is waiting to be sent
+            bytes = Arrays.copyOf(bytes, out.size());
+        }
+        return new IngesterOperation<>(repeatableOp, bytes.length, bytes);
+    }
+
+    // Same as transports, which write items of nd-json values on separate lines, flattening nested structures
+    private static void writeNdJson(NdJsonpSerializable value, NoCopyByteArrayOutputStream out, JsonpMapper mapper) {
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable && item != value) { // do not recurse on the item itself
+                writeNdJson((NdJsonpSerializable) item, out, mapper);
+            } else {
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.close();
+                out.write('\n');
+            }
+        }
     }
 
     /**
@@ -69,7 +123,7 @@ class IngesterOperation {
      * @param mapper       the JSON mapper for serialization
      * @return an IngesterOperation with calculated size
      */
-    public static IngesterOperation of(RetryableBulkOperation repeatableOp, JsonpMapper mapper) {
+    public static <Context> IngesterOperation<Context> of(RetryableBulkOperation<Context> repeatableOp, JsonpMapper mapper) {
         switch (repeatableOp.operation()._kind()) {
             case Create:
                 return createOperation(repeatableOp, mapper);
@@ -89,12 +143,12 @@ class IngesterOperation {
      *
      * @return the retryable bulk operation
      */
-    public RetryableBulkOperation repeatableOperation() {
+    public RetryableBulkOperation<Context> repeatableOperation() {
         return this.repeatableOp;
     }
 
     /**
-     * Get the estimated size in bytes of this operation.
+     * Get the size in bytes of this operation in the bulk request payload, including line separators.
      *
      * @return the operation size in bytes
      */
@@ -102,95 +156,113 @@ class IngesterOperation {
         return this.size;
     }
 
-    private static IngesterOperation createOperation(RetryableBulkOperation repeatableOp, JsonpMapper mapper) {
+    /**
+     * Get the bytes of this operation in the bulk request payload, if it was serialized when created.
+     *
+     * @return the serialized operation, or {@code null} if it was not serialized
+     */
+    @Nullable
+    public byte[] serialized() {
+        return this.serialized;
+    }
+
+    /**
+     * Creates a new operation for a retry of this operation, keeping its size and serialized bytes.
+     *
+     * @param retry the retry of this operation
+     * @return an IngesterOperation wrapping the retry
+     */
+    public IngesterOperation<Context> withRetry(RetryableBulkOperation<Context> retry) {
+        return new IngesterOperation<>(retry, size, serialized);
+    }
+
+    private static <Context> IngesterOperation<Context> createOperation(RetryableBulkOperation<Context> repeatableOp, JsonpMapper mapper) {
         CreateOperation<?> create = repeatableOp.operation().create();
-        RetryableBulkOperation newOperation;
+        RetryableBulkOperation<Context> newOperation;
 
-        long size = basePropertiesSize(create);
+        long size = actionSize(BulkOperation.Kind.Create, writePropertiesSize(create));
 
         if (create.document() instanceof BinaryData) {
             newOperation = repeatableOp;
-            size += ((BinaryData) create.document()).size();
+            size += ((BinaryData) create.document()).size() + 1;
 
         } else {
             BinaryData binaryDoc = BinaryData.of(create.document(), mapper);
-            size += binaryDoc.size();
-            newOperation = new RetryableBulkOperation(BulkOperation.of(bo -> bo.create(idx -> {
+            size += binaryDoc.size() + 1;
+            newOperation = new RetryableBulkOperation<>(BulkOperation.of(bo -> bo.create(idx -> {
                 copyCreateProperties(create, idx);
                 return idx.document(binaryDoc);
-            })), repeatableOp.context(), repeatableOp.retries());
+            })), repeatableOp.context(), repeatableOp.retries(), repeatableOp.completion());
         }
 
-        return new IngesterOperation(newOperation, size);
+        return new IngesterOperation<>(newOperation, size);
     }
 
-    private static IngesterOperation indexOperation(RetryableBulkOperation repeatableOp, JsonpMapper mapper) {
+    private static <Context> IngesterOperation<Context> indexOperation(RetryableBulkOperation<Context> repeatableOp, JsonpMapper mapper) {
         IndexOperation<?> index = repeatableOp.operation().index();
-        RetryableBulkOperation newOperation;
+        RetryableBulkOperation<Context> newOperation;
 
-        long size = basePropertiesSize(index);
+        long size = actionSize(BulkOperation.Kind.Index, writePropertiesSize(index));
 
         if (index.document() instanceof BinaryData) {
             newOperation = repeatableOp;
-            size += ((BinaryData) index.document()).size();
+            size += ((BinaryData) index.document()).size() + 1;
 
         } else {
             BinaryData binaryDoc = BinaryData.of(index.document(), mapper);
-            size += binaryDoc.size();
-            newOperation = new RetryableBulkOperation(BulkOperation.of(bo -> bo.index(idx -> {
+            size += binaryDoc.size() + 1;
+            newOperation = new RetryableBulkOperation<>(BulkOperation.of(bo -> bo.index(idx -> {
                 copyIndexProperties(index, idx);
                 return idx.document(binaryDoc);
-            })), repeatableOp.context(), repeatableOp.retries());
+            })), repeatableOp.context(), repeatableOp.retries(), repeatableOp.completion());
         }
 
-        return new IngesterOperation(newOperation, size);
+        return new IngesterOperation<>(newOperation, size);
     }
 
-    private static IngesterOperation updateOperation(RetryableBulkOperation repeatableOp, JsonpMapper mapper) {
+    private static <Context> IngesterOperation<Context> updateOperation(RetryableBulkOperation<Context> repeatableOp, JsonpMapper mapper) {
         UpdateOperation<?> update = repeatableOp.operation().update();
 
         // UpdateOperation implements NdJsonpSerializable, which means it serializes as two separate JSON objects:
-        // 1. The metadata line (with base properties, requireAlias, retryOnConflict)
+        // 1. The action and metadata line (with base properties, requireAlias, retryOnConflict)
         // 2. The data line (UpdateOperationData with document, script, upsert, etc.)
         //
-        // We calculate the size by serializing both parts to measure their actual byte size.
+        // We calculate the size by serializing both parts the way transports do, to measure their actual byte size.
         // This is more accurate than estimation and handles all fields (doc, upsert, script, etc.)
-        long size = 0;
+        long size;
 
-        // Serialize both the metadata and data parts using _serializables()
         try {
             NoCopyByteArrayOutputStream out = new NoCopyByteArrayOutputStream();
-            jakarta.json.stream.JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
 
-            // UpdateOperation._serializables() returns an iterator with [metadata, data]
-            // Serialize each part (both are PlainJsonSerializable)
-            java.util.Iterator<?> serializables = update._serializables();
+            // BulkOperation._serializables() returns an iterator with [operation, data]
+            Iterator<?> serializables = repeatableOp.operation()._serializables();
             while (serializables.hasNext()) {
-                Object serializable = serializables.next();
-                if (serializable instanceof org.opensearch.client.json.PlainJsonSerializable) {
-                    ((org.opensearch.client.json.PlainJsonSerializable) serializable).serialize(generator, mapper);
-                    generator.flush();
-                }
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(serializables.next(), generator);
+                generator.close();
+                out.write('\n');
             }
 
-            generator.close();
             size = out.size();
 
         } catch (Exception e) {
             // If serialization fails for any reason, fall back to conservative estimate
             // This shouldn't happen in normal operation, but provides a safety net
-            size = basePropertiesSize(update) + size("retry_on_conflict", update.retryOnConflict()) + size(
-                "require_alias",
-                update.requireAlias()
+            size = actionSize(
+                BulkOperation.Kind.Update,
+                basePropertiesSize(update) + size("require_alias", update.requireAlias()) + size(
+                    "retry_on_conflict",
+                    update.retryOnConflict()
+                )
             ) + 300; // Fallback estimate for data
         }
 
-        return new IngesterOperation(repeatableOp, size);
+        return new IngesterOperation<>(repeatableOp, size);
     }
 
-    private static IngesterOperation deleteOperation(RetryableBulkOperation repeatableOp) {
+    private static <Context> IngesterOperation<Context> deleteOperation(RetryableBulkOperation<Context> repeatableOp) {
         DeleteOperation delete = repeatableOp.operation().delete();
-        return new IngesterOperation(repeatableOp, basePropertiesSize(delete));
+        return new IngesterOperation<>(repeatableOp, actionSize(BulkOperation.Kind.Delete, basePropertiesSize(delete)));
     }
 
     private static void copyBaseProperties(BulkOperationBase op, BulkOperationBase.AbstractBuilder<?> builder) {
@@ -215,9 +287,11 @@ class IngesterOperation {
         builder.requireAlias(op.requireAlias());
     }
 
+    // Field sizes below include a trailing comma, which the enclosing object removes for the last field
+
     private static int size(String name, @Nullable Boolean value) {
         if (value != null) {
-            return name.length() + 12; // 12 added chars for "name":"false",
+            return name.length() + (value ? 4 : 5) + 4; // 4 added chars for "name":,
         } else {
             return 0;
         }
@@ -225,7 +299,7 @@ class IngesterOperation {
 
     private static int size(String name, @Nullable String value) {
         if (value != null) {
-            return name.length() + value.length() + 6; // 6 added chars for "name":"value",
+            return name.length() + jsonStringSize(value) + 4; // 4 added chars for "name":,
         } else {
             return 0;
         }
@@ -233,10 +307,7 @@ class IngesterOperation {
 
     private static int size(String name, @Nullable Long value) {
         if (value != null) {
-            // Borrowed from Long.toUnsignedString0, shift = 3 (base 10 is closer to 3 than 4)
-            int mag = Integer.SIZE - Long.numberOfLeadingZeros(value);
-            int chars = Math.max(((mag + (3 - 1)) / 3), 1);
-            return name.length() + chars + 4; // 4 added chars for "name":,
+            return name.length() + Long.toString(value).length() + 4; // 4 added chars for "name":,
         } else {
             return 0;
         }
@@ -244,10 +315,7 @@ class IngesterOperation {
 
     private static int size(String name, @Nullable Integer value) {
         if (value != null) {
-            // Borrowed from Integer.toUnsignedString0, shift = 3 (base 10 is closer to 3 than 4)
-            int mag = Integer.SIZE - Integer.numberOfLeadingZeros(value);
-            int chars = Math.max(((mag + (3 - 1)) / 3), 1);
-            return name.length() + chars + 4;
+            return name.length() + Integer.toString(value).length() + 4; // 4 added chars for "name":,
         } else {
             return 0;
         }
@@ -255,17 +323,57 @@ class IngesterOperation {
 
     private static int size(String name, @Nullable JsonEnum value) {
         if (value != null) {
-            return name.length() + value.jsonValue().length() + 6;
+            return name.length() + jsonStringSize(value.jsonValue()) + 4; // 4 added chars for "name":,
         } else {
             return 0;
         }
     }
 
+    /**
+     * Size in bytes of a string once quoted, escaped and encoded in UTF-8.
+     */
+    static int jsonStringSize(String value) {
+        int size = 2; // Quotes
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20) {
+                // \n, \t, etc. or \\u00XX
+                size += (c == '\n' || c == '\t' || c == '\r' || c == '\b' || c == '\f') ? 2 : 6;
+            } else if (c == '"' || c == '\\') {
+                size += 2;
+            } else if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800) {
+                size += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                // Supplementary code point, encoded on 4 bytes
+                size += 4;
+                i++;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
     private static int basePropertiesSize(BulkOperationBase op) {
-        return size("id", op.id()) + size("index", op.index()) + size("if_primary_term", op.ifPrimaryTerm()) + size(
-            "if_seq_no",
-            op.ifSeqNo()
-        ) + size("routing", op.routing()) + size("version", op.version()) + size("version_type", op.versionType()) + 4; // Open/closing
-                                                                                                                        // brace, 2 newlines
+        return size("_id", op.id()) + size("_index", op.index()) + size("routing", op.routing()) + size(
+            "if_primary_term",
+            op.ifPrimaryTerm()
+        ) + size("if_seq_no", op.ifSeqNo()) + size("version", op.version()) + size("version_type", op.versionType());
+    }
+
+    private static int writePropertiesSize(WriteOperation op) {
+        return basePropertiesSize(op) + size("pipeline", op.pipeline()) + size("require_alias", op.requireAlias());
+    }
+
+    /**
+     * Size of the action and metadata line, e.g. <code>{"index":{"_id":"1"}}</code> followed by a newline.
+     */
+    private static long actionSize(BulkOperation.Kind kind, int propertiesSize) {
+        // Remove the trailing comma of the last property
+        int properties = propertiesSize > 0 ? propertiesSize - 1 : 0;
+        // {"kind":{ + properties + }} + newline
+        return kind.jsonValue().length() + 7 + properties + 1;
     }
 }
@@ -34,7 +34,10 @@ package org.opensearch.client.opensearch._helpers.bulk;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 
 /**
  * A bulk operation with retry information and optional context.
@@ -56,6 +59,7 @@ class RetryableBulkOperation<Context> {
     private final Context context;
     private final Iterator<Long> retries;
     private final Long retryTime;
+    private final @Nullable CompletableFuture<BulkResponseItem> completion;
 
     /**
      * Create a retryable bulk operation.
@@ -65,9 +69,27 @@ class RetryableBulkOperation<Context> {
      * @param retries iterator providing retry delay values in milliseconds, or null if this is not a retry
      */
     RetryableBulkOperation(BulkOperation request, Context context, Iterator<Long> retries) {
+        this(request, context, retries, null);
+    }
+
+    /**
+     * Create a retryable bulk operation whose outcome is reported to a future.
+     *
+     * @param request    the bulk operation
+     * @param context    optional context associated with this operation
+     * @param retries    iterator providing retry delay values in milliseconds, or null if this is not a retry
+     * @param completion optional future completed with the response item of the operation, shared by its retries
+     */
+    RetryableBulkOperation(
+        BulkOperation request,
+        Context context,
+        Iterator<Long> retries,
+        @Nullable CompletableFuture<BulkResponseItem> completion
+    ) {
         this.operation = request;
         this.context = context;
         this.retries = retries;
+        this.completion = completion;
         // if the retries iterator is null it means that it's not a retry, otherwise calculating retry time
         long currentMillis = currentMillis();
         this.retryTime = Optional.ofNullable(retries).map(r -> currentMillis + r.next()).orElse(currentMillis);
@@ -91,6 +113,16 @@ class RetryableBulkOperation<Context> {
         return context;
     }
 
+    /**
+     * Get the future completed with the response item of this operation, if any.
+     *
+     * @return the future, or null if the operation was added without one
+     */
+    @Nullable
+    public CompletableFuture<BulkResponseItem> completion() {
+        return completion;
+    }
+
     /**
      * Get the retry iterator providing backoff delay values.
      *
@@ -100,6 +132,15 @@ class RetryableBulkOperation<Context> {
         return retries;
     }
 
+    /**
+     * Get the time in milliseconds, on the {@link System#nanoTime()} scale, from which this operation can be sent.
+     *
+     * @return the retry time in milliseconds
+     */
+    public long retryTime() {
+        return this.retryTime;
+    }
+
     /**
      * Get the time delay in milliseconds until this operation can be sent.
      *
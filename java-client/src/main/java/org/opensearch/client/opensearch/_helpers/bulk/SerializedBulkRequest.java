@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.transport.GenericSerializable;
+import org.opensearch.client.transport.JsonEndpoint;
+import org.opensearch.client.util.ContentType;
+
+/**
+ * A bulk request whose operations have already been serialized to their NDJSON representation.
+ * <p>
+ * The request body is the concatenation of the serialized operations, written as is by transports. The request path,
+ * parameters and headers are those of the {@link BulkRequest} it was created with, whose operations are not
+ * serialized again.
+ * <p>
+ * This is an internal utility class used by {@link BulkIngester} when operations are serialized as they are added.
+ */
+class SerializedBulkRequest implements GenericSerializable {
+    private final BulkRequest request;
+    private final List<IngesterOperation<?>> operations;
+
+    /**
+     * Create a serialized bulk request.
+     *
+     * @param request    the bulk request providing the request path and parameters
+     * @param operations the operations to send, all of which must have been serialized
+     */
+    SerializedBulkRequest(BulkRequest request, List<IngesterOperation<?>> operations) {
+        this.request = request;
+        this.operations = operations;
+    }
+
+    /**
+     * Get the bulk request providing the request path and parameters.
+     *
+     * @return the bulk request
+     */
+    public BulkRequest request() {
+        return this.request;
+    }
+
+    @Override
+    public String serialize(OutputStream out) {
+        try {
+            for (IngesterOperation<?> op : operations) {
+                out.write(op.serialized());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ContentType.APPLICATION_JSON;
+    }
+
+    /**
+     * Endpoint for serialized bulk requests, delegating to the {@link BulkRequest} endpoint.
+     */
+    @SuppressWarnings("unchecked")
+    static final JsonEndpoint<SerializedBulkRequest, BulkResponse, ErrorResponse> _ENDPOINT = new Endpoint(
+        (JsonEndpoint<BulkRequest, BulkResponse, ErrorResponse>) BulkRequest._ENDPOINT
+    );
+
+    private static class Endpoint implements JsonEndpoint<SerializedBulkRequest, BulkResponse, ErrorResponse> {
+        private final JsonEndpoint<BulkRequest, BulkResponse, ErrorResponse> endpoint;
+
+        Endpoint(JsonEndpoint<BulkRequest, BulkResponse, ErrorResponse> endpoint) {
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public String method(SerializedBulkRequest request) {
+            return endpoint.method(request.request);
+        }
+
+        @Override
+        public String requestUrl(SerializedBulkRequest request) {
+            return endpoint.requestUrl(request.request);
+        }
+
+        @Override
+        public Map<String, String> queryParameters(SerializedBulkRequest request) {
+            return endpoint.queryParameters(request.request);
+        }
+
+        @Override
+        public Map<String, String> headers(SerializedBulkRequest request) {
+            return endpoint.headers(request.request);
+        }
+
+        @Override
+        public boolean hasRequestBody() {
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public JsonpDeserializer<BulkResponse> responseDeserializer() {
+            return endpoint.responseDeserializer();
+        }
+
+        @Override
+        public boolean isError(int statusCode) {
+            return endpoint.isError(statusCode);
+        }
+
+        @Override
+        @Nullable
+        public JsonpDeserializer<ErrorResponse> errorDeserializer(int statusCode) {
+            return endpoint.errorDeserializer(statusCode);
+        }
+    }
+}
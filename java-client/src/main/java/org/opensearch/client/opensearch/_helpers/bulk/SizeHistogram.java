@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of sizes in bytes, with power of two buckets. Bucket {@code 0} counts zero sizes and bucket {@code i}
+ * counts sizes between {@code 2^(i-1)} and {@code 2^i - 1}.
+ * <p>
+ * Histograms are updated concurrently by a {@link BulkIngester} and can be read at any time. Values read while the
+ * histogram is being updated may be slightly inconsistent with each other.
+ */
+public final class SizeHistogram {
+    /**
+     * The number of buckets.
+     */
+    public static final int BUCKETS = Long.SIZE + 1;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    SizeHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long size) {
+        buckets[bucket(size)].increment();
+        count.increment();
+        sum.add(size);
+        max.accumulate(size);
+    }
+
+    private static int bucket(long size) {
+        return Long.SIZE - Long.numberOfLeadingZeros(Math.max(size, 0));
+    }
+
+    /**
+     * The number of recorded sizes.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * The sum of recorded sizes.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * The largest recorded size, or {@code 0} if no size was recorded.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * The mean of recorded sizes, or {@code 0} if no size was recorded.
+     */
+    public double mean() {
+        long count = count();
+        return count == 0 ? 0 : (double) sum() / count;
+    }
+
+    /**
+     * The number of recorded sizes in a bucket.
+     *
+     * @param bucket the bucket, between {@code 0} and {@link #BUCKETS} (exclusive)
+     */
+    public long bucketCount(int bucket) {
+        return buckets[bucket].sum();
+    }
+
+    /**
+     * An upper bound of the given percentile of recorded sizes: the upper bound of the bucket it falls in, capped by
+     * {@link #max()}. Returns {@code 0} if no size was recorded.
+     *
+     * @param percentile the percentile, between {@code 0} and {@code 100}
+     * @throws IllegalArgumentException if the percentile is out of bounds
+     */
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile should be between 0 and 100");
+        }
+
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long upperBound = i == 0 ? 0 : (i >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.min(upperBound, max());
+            }
+        }
+        return max();
+    }
+
+    @Override
+    public String toString() {
+        return "SizeHistogram{count="
+            + count()
+            + ", mean="
+            + (long) mean()
+            + ", p50="
+            + percentile(50)
+            + ", p99="
+            + percentile(99)
+            + ", max="
+            + max()
+            + "}";
+    }
+}
@@ -0,0 +1,635 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.SortOptions;
+import org.opensearch.client.opensearch._types.Time;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.BackoffPolicy;
+import org.opensearch.client.transport.ResponseStatus;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.util.ApiTypeHelper;
+import org.opensearch.client.util.ObjectBuilder;
+
+/**
+ * An exporter for efficiently reading all the documents matching a search from OpenSearch.
+ * <p>
+ * The exporter opens a point in time (PIT) on the target indices, splits it into slices and pages through each slice
+ * with {@code search_after} on its own thread. Hits are handed over to the consumer through a bounded buffer: slices
+ * stop fetching pages while the buffer is full, so that a slow consumer does not lead to unbounded memory usage.
+ * <p>
+ * It also provides:
+ * <ul>
+ *   <li>Retries of transient failures (connection errors, {@code 429}, {@code 502}, {@code 503} and {@code 504}
+ *   responses) with a configurable backoff policy, applied to each page request independently</li>
+ *   <li>Deletion of the point in time once all slices are exhausted, the export failed or the exporter was closed</li>
+ * </ul>
+ * <p>
+ * Hits are returned in no particular order when more than one slice is used. The exporter is not thread-safe and must
+ * be consumed from a single thread. It must be closed when no longer needed to stop fetching pages and release
+ * resources.
+ * <p>
+ * Pages are sorted on {@code _shard_doc} unless the search request defines its own sort, which must then end with a
+ * unique tie-breaker so that {@code search_after} does not skip or repeat hits. Versions of OpenSearch that reject the
+ * {@code _shard_doc} sort are exported sorted on {@code _id} instead, which needs fielddata on {@code _id} (the
+ * {@code indices.id_field_data.enabled} cluster setting, enabled by default) and loads the ids of the documents in
+ * memory on the data nodes: defining a sort that ends with a unique field of the documents avoids both.
+ * <p>
+ * Example usage:
+ * <pre>{@code
+ * try (SearchExporter<MyDoc> exporter = SearchExporter.of(b -> b
+ *     .client(client)
+ *     .index("my-index")
+ *     .documentClass(MyDoc.class)
+ *     .request(r -> r.query(q -> q.term(t -> t.field("status").value(FieldValue.of("active")))))
+ *     .slices(8)
+ * )) {
+ *     exporter.start();
+ *     while (exporter.hasNext()) {
+ *         Hit<MyDoc> hit = exporter.next();
+ *         // ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @param <TDocument> the type of the documents
+ */
+public class SearchExporter<TDocument> implements Iterator<Hit<TDocument>>, AutoCloseable {
+
+    private static final Log logger = LogFactory.getLog(SearchExporter.class);
+
+    // Instance counter, to name the slice threads if we create them
+    private static final AtomicInteger idCounter = new AtomicInteger();
+
+    // Marks the end of the export in the hit buffer
+    private static final Object END = new Object();
+
+    // How often slices blocked on a full buffer check whether the exporter has been closed
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private static final SortOptions SHARD_DOC_SORT = SortOptions.of(s -> s.field(f -> f.field("_shard_doc")));
+
+    // The tie-breaker used when _shard_doc is rejected
+    private static final SortOptions ID_SORT = SortOptions.of(s -> s.field(f -> f.field("_id")));
+
+    // Configuration
+    private final OpenSearchClient client;
+    private final List<String> index;
+    private final @Nullable Function<SearchRequest.Builder, SearchRequest.Builder> requestFn;
+    private final boolean hasSort;
+    private final Class<TDocument> documentClass;
+    private final int slices;
+    private final int pageSize;
+    private final Time keepAlive;
+    private final BackoffPolicy backoffPolicy;
+    private final Executor executor;
+    private final @Nullable ExecutorService ownExecutor;
+
+    // Current state
+    private final BlockingQueue<Object> queue;
+    private final AtomicInteger runningSlices = new AtomicInteger();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private volatile String pitId;
+    private volatile SortOptions defaultSort = SHARD_DOC_SORT;
+    private volatile boolean isStarted = false;
+    private volatile boolean isClosed = false;
+    private Hit<TDocument> next;
+    private boolean done;
+
+    private SearchExporter(Builder<TDocument> builder) {
+        int exporterId = idCounter.incrementAndGet();
+        this.client = ApiTypeHelper.requireNonNull(builder.client, this, "client");
+        this.index = ApiTypeHelper.unmodifiableRequired(builder.index, this, "index");
+        this.documentClass = ApiTypeHelper.requireNonNull(builder.documentClass, this, "documentClass");
+        this.requestFn = builder.requestFn;
+        this.slices = builder.slices;
+        this.pageSize = builder.pageSize;
+        this.keepAlive = builder.keepAlive;
+        this.backoffPolicy = builder.backoffPolicy == null ? BackoffPolicy.noBackoff() : builder.backoffPolicy;
+        this.queue = new ArrayBlockingQueue<>(builder.bufferSize);
+
+        SearchRequest template = newRequest().build();
+        if (!template.index().isEmpty()) {
+            throw new IllegalArgumentException("Indices must be set on the exporter, not on the search request");
+        }
+        if (template.pit() != null || template.slice() != null || !template.searchAfter().isEmpty()) {
+            throw new IllegalArgumentException("The point in time, slice and search_after are managed by the exporter");
+        }
+        this.hasSort = !template.sort().isEmpty();
+
+        if (builder.executor == null) {
+            this.ownExecutor = Executors.newFixedThreadPool(slices, (r) -> {
+                Thread t = Executors.defaultThreadFactory().newThread(r);
+                t.setName("search-exporter#" + exporterId + "#" + t.getId());
+                t.setDaemon(true);
+                return t;
+            });
+            this.executor = ownExecutor;
+        } else {
+            // It's not ours, we will not shut it down.
+            this.ownExecutor = null;
+            this.executor = builder.executor;
+        }
+    }
+
+    // ----- Getters
+
+    /**
+     * The configured number of slices.
+     */
+    public int slices() {
+        return this.slices;
+    }
+
+    /**
+     * The configured number of hits requested per page.
+     */
+    public int pageSize() {
+        return this.pageSize;
+    }
+
+    /**
+     * The id of the point in time, or {@code null} if the exporter has not been started.
+     */
+    @Nullable
+    public String pitId() {
+        return this.pitId;
+    }
+
+    // ----- Statistics
+
+    /**
+     * Statistics: the number of hits that have been fetched from OpenSearch.
+     */
+    public long hitCount() {
+        return this.hitCount.get();
+    }
+
+    /**
+     * Statistics: the number of page requests that were retried after a transient failure.
+     */
+    public long retryCount() {
+        return this.retryCount.get();
+    }
+
+    // ----- Exporter logic
+
+    /**
+     * Opens the point in time and starts fetching the slices. Does nothing if the exporter has already been started.
+     * <p>
+     * Calling this method is optional, {@link #hasNext()} starts the exporter if needed, but it allows failures to open
+     * the point in time to be reported as checked exceptions.
+     *
+     * @return this exporter
+     * @throws IOException if the point in time could not be opened
+     * @throws IllegalStateException if the exporter has been closed
+     */
+    public synchronized SearchExporter<TDocument> start() throws IOException {
+        if (isClosed) {
+            throw new IllegalStateException("Exporter has been closed");
+        }
+        if (isStarted) {
+            return this;
+        }
+
+        this.pitId = client.createPit(p -> p.index(index).keepAlive(keepAlive)).pitId();
+        this.isStarted = true;
+
+        runningSlices.set(slices);
+        for (int i = 0; i < slices; i++) {
+            int sliceId = i;
+            try {
+                executor.execute(() -> exportSlice(sliceId));
+            } catch (RejectedExecutionException e) {
+                failed(e);
+                sliceFinished();
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+        if (!isStarted) {
+            try {
+                start();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("thread waiting for the next hit was interrupted", e);
+        }
+
+        if (item == END) {
+            done = true;
+            Throwable thr = failure.get();
+            if (thr instanceof RuntimeException) {
+                throw (RuntimeException) thr;
+            } else if (thr instanceof IOException) {
+                throw new UncheckedIOException((IOException) thr);
+            } else if (thr instanceof Error) {
+                throw (Error) thr;
+            } else if (thr != null) {
+                throw new IllegalStateException("Export failed", thr);
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        Hit<TDocument> hit = (Hit<TDocument>) item;
+        next = hit;
+        return true;
+    }
+
+    @Override
+    public Hit<TDocument> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Hit<TDocument> hit = next;
+        next = null;
+        return hit;
+    }
+
+    /**
+     * A sequential stream over the remaining hits. Closing it closes this exporter.
+     */
+    public Stream<Hit<TDocument>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    private SearchRequest.Builder newRequest() {
+        SearchRequest.Builder result = new SearchRequest.Builder();
+        if (requestFn != null) {
+            result = requestFn.apply(result);
+        }
+        return result;
+    }
+
+    private SearchRequest pageRequest(int sliceId, @Nullable List<FieldValue> searchAfter) {
+        SearchRequest.Builder request = newRequest().pit(p -> p.id(pitId).keepAlive(keepAlive)).size(pageSize);
+        if (!hasSort) {
+            request.sort(defaultSort);
+        }
+        if (slices > 1) {
+            request.slice(s -> s.id(sliceId).max(slices));
+        }
+        if (searchAfter != null) {
+            request.searchAfter(searchAfter);
+        }
+        return request.build();
+    }
+
+    private void exportSlice(int sliceId) {
+        try {
+            List<FieldValue> searchAfter = null;
+            while (!isClosed && failure.get() == null) {
+                List<Hit<TDocument>> hits = searchWithRetries(sliceId, searchAfter).hits().hits();
+                hitCount.addAndGet(hits.size());
+
+                for (Hit<TDocument> hit : hits) {
+                    if (!offer(hit)) {
+                        return;
+                    }
+                }
+
+                if (hits.size() < pageSize) {
+                    // Last page of this slice
+                    break;
+                }
+                List<FieldValue> sort = hits.get(hits.size() - 1).sort();
+                if (sort.isEmpty()) {
+                    // Would fetch the same page forever
+                    throw new IllegalStateException("Hits have no sort values, search_after cannot be used");
+                }
+                searchAfter = new ArrayList<>(sort);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failed(e);
+        } catch (Throwable thr) {
+            failed(thr);
+        } finally {
+            sliceFinished();
+        }
+    }
+
+    private SearchResponse<TDocument> searchWithRetries(int sliceId, @Nullable List<FieldValue> searchAfter) throws IOException,
+        InterruptedException {
+        SearchRequest request = pageRequest(sliceId, searchAfter);
+        Iterator<Long> retryDelays = null;
+
+        while (true) {
+            try {
+                return client.search(request, documentClass);
+            } catch (IOException | OpenSearchException e) {
+                if (!hasSort && request.sort().get(0) == SHARD_DOC_SORT && isShardDocRejected(e)) {
+                    if (defaultSort == SHARD_DOC_SORT) {
+                        logger.warn("Sorting on _shard_doc is not supported, sorting on _id instead", e);
+                        defaultSort = ID_SORT;
+                    }
+                    request = pageRequest(sliceId, searchAfter);
+                    continue;
+                }
+                if (!ResponseStatus.isTransient(e)) {
+                    throw e;
+                }
+                if (retryDelays == null) {
+                    retryDelays = backoffPolicy.iterator();
+                }
+                if (isClosed || !retryDelays.hasNext()) {
+                    throw e;
+                }
+                long delay = retryDelays.next();
+                logger.warn("Failed to fetch a page of slice " + sliceId + ", retrying in : " + delay + " ms", e);
+                retryCount.incrementAndGet();
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    // Whether the failure is the rejection of the _shard_doc sort, which older versions of OpenSearch don't support
+    private static boolean isShardDocRejected(Exception e) {
+        return e instanceof OpenSearchException
+            && ((OpenSearchException) e).status() == 400
+            && mentionsShardDoc(((OpenSearchException) e).error());
+    }
+
+    private static boolean mentionsShardDoc(@Nullable ErrorCause cause) {
+        if (cause == null) {
+            return false;
+        }
+        if (cause.reason() != null && cause.reason().contains("_shard_doc")) {
+            return true;
+        }
+        for (ErrorCause rootCause : cause.rootCause()) {
+            if (mentionsShardDoc(rootCause)) {
+                return true;
+            }
+        }
+        return mentionsShardDoc(cause.causedBy());
+    }
+
+    // Waits for room in the buffer, giving up if the exporter is closed in the meantime
+    private boolean offer(Object item) throws InterruptedException {
+        while (!isClosed) {
+            if (queue.offer(item, POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void failed(Throwable thr) {
+        if (failure.compareAndSet(null, thr)) {
+            logger.error("Export of point in time " + pitId + " failed", thr);
+        }
+    }
+
+    private void sliceFinished() {
+        if (runningSlices.decrementAndGet() != 0) {
+            return;
+        }
+
+        try {
+            deletePit();
+            offer(END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            completion.complete(null);
+        }
+    }
+
+    private void deletePit() {
+        try {
+            client.deletePit(d -> d.pitId(pitId));
+        } catch (IOException | RuntimeException e) {
+            // The point in time will expire after its keep alive
+            logger.warn("Failed to delete point in time " + pitId, e);
+        }
+    }
+
+    /**
+     * Close this exporter, stopping all slices and deleting the point in time. This <strong>does not close</strong>
+     * the underlying {@link OpenSearchClient} and {@link org.opensearch.client.transport.Transport}.
+     * <p>
+     * This method waits for page requests that are in flight to complete.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+        }
+
+        done = true;
+        next = null;
+        // Unblock slices waiting for room in the buffer
+        queue.clear();
+
+        if (isStarted) {
+            completion.join();
+        }
+
+        if (ownExecutor != null) {
+            ownExecutor.shutdownNow();
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+
+    public static <TDocument> SearchExporter<TDocument> of(Function<Builder<TDocument>, Builder<TDocument>> f) {
+        return f.apply(new Builder<>()).build();
+    }
+
+    public static class Builder<TDocument> implements ObjectBuilder<SearchExporter<TDocument>> {
+        private OpenSearchClient client;
+        private List<String> index;
+        private Function<SearchRequest.Builder, SearchRequest.Builder> requestFn;
+        private Class<TDocument> documentClass;
+        private int slices = 1;
+        private int pageSize = 1000;
+        private int bufferSize = 1000;
+        private Time keepAlive = Time.of(t -> t.time("5m"));
+        private BackoffPolicy backoffPolicy;
+        private Executor executor;
+
+        public Builder<TDocument> client(OpenSearchClient client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder<TDocument> client(OpenSearchAsyncClient client) {
+            TransportOptions options = client._transportOptions();
+            if (options == client._transport().options()) {
+                options = null;
+            }
+            return client(new OpenSearchClient(client._transport(), options));
+        }
+
+        /**
+         * Sets the indices to export. Required.
+         */
+        public Builder<TDocument> index(List<String> index) {
+            this.index = index;
+            return this;
+        }
+
+        /**
+         * Sets the indices to export. Required.
+         */
+        public Builder<TDocument> index(String value, String... values) {
+            List<String> index = new ArrayList<>();
+            index.add(value);
+            for (String v : values) {
+                index.add(v);
+            }
+            return index(index);
+        }
+
+        /**
+         * Sets the class of the documents. Required.
+         */
+        public Builder<TDocument> documentClass(Class<TDocument> documentClass) {
+            this.documentClass = documentClass;
+            return this;
+        }
+
+        /**
+         * Sets the search request settings (query, source filtering, sort...) that will be applied to all page
+         * requests. The function is called for each page request. The indices, point in time, slice, size and
+         * {@code search_after} are managed by the exporter and must not be set.
+         */
+        public Builder<TDocument> request(Function<SearchRequest.Builder, SearchRequest.Builder> fn) {
+            this.requestFn = fn;
+            return this;
+        }
+
+        /**
+         * Sets the number of slices fetched concurrently. Defaults to {@code 1}.
+         *
+         * @throws IllegalArgumentException if less than 1.
+         */
+        public Builder<TDocument> slices(int slices) {
+            if (slices < 1) {
+                throw new IllegalArgumentException("Slices should be at least 1");
+            }
+            this.slices = slices;
+            return this;
+        }
+
+        /**
+         * Sets the number of hits requested per page. Defaults to {@code 1000}.
+         *
+         * @throws IllegalArgumentException if less than 1.
+         */
+        public Builder<TDocument> pageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("Page size should be at least 1");
+            }
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of fetched hits that can be buffered, waiting to be consumed. Slices stop fetching pages
+         * while the buffer is full. Defaults to {@code 1000}.
+         *
+         * @throws IllegalArgumentException if less than 1.
+         */
+        public Builder<TDocument> bufferSize(int bufferSize) {
+            if (bufferSize < 1) {
+                throw new IllegalArgumentException("Buffer size should be at least 1");
+            }
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Sets how long the point in time is kept alive between two page requests. Defaults to 5 minutes.
+         */
+        public Builder<TDocument> keepAlive(Time keepAlive) {
+            this.keepAlive = keepAlive;
+            return this;
+        }
+
+        /**
+         * Sets the backoff policy that will handle retries of page requests that failed with a transient error.
+         * All the times are defined in milliseconds. Defaults to no retries.
+         */
+        public Builder<TDocument> backoffPolicy(BackoffPolicy backoffPolicy) {
+            this.backoffPolicy = backoffPolicy;
+            return this;
+        }
+
+        /**
+         * Sets a custom executor to fetch the slices. It should be able to run as many tasks concurrently as there
+         * are slices. A default one with one thread per slice is used if not set.
+         */
+        public Builder<TDocument> executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public SearchExporter<TDocument> build() {
+            return new SearchExporter<>(this);
+        }
+    }
+}
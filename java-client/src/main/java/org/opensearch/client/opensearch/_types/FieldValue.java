@@ -284,7 +284,7 @@ public class FieldValue implements TaggedUnion<FieldValue.Kind, Object>, JsonpSe
                         if (parser.isIntegralNumber()) {
                             return FieldValue.of(parser.getLong());
                         } else {
-                            return FieldValue.of(parser.getBigDecimal().doubleValue());
+                            return FieldValue.of(JsonpDeserializer.doubleDeserializer().deserialize(parser, mapper, event));
                         }
                 }
                 return null;
@@ -33,6 +33,7 @@
 package org.opensearch.client.opensearch.core;
 
 import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
 import java.util.List;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -238,6 +239,24 @@ public class BulkResponse implements PlainJsonSerializable {
         op.add(Builder::took, JsonpDeserializer.longDeserializer(), "took");
         op.add(Builder::ingestTook, JsonpDeserializer.longDeserializer(), "ingest_took");
 
+        op.addFieldSwitch(BulkResponse::deserializeBulkResponseField);
+
+    }
+
+    protected static boolean deserializeBulkResponseField(Builder builder, String name, JsonParser parser, JsonpMapper mapper) {
+        switch (name) {
+            case "errors":
+                builder.errors = JsonpDeserializer.booleanDeserializer().deserialize(parser, mapper);
+                return true;
+            case "took":
+                builder.took = JsonpDeserializer.longDeserializer().deserialize(parser, mapper);
+                return true;
+            case "ingest_took":
+                builder.ingestTook = JsonpDeserializer.longDeserializer().deserialize(parser, mapper);
+                return true;
+            default:
+                return false;
+        }
     }
 
 }
@@ -36,8 +36,10 @@ import jakarta.json.stream.JsonGenerator;
 import java.util.Iterator;
 import java.util.function.Function;
 import org.opensearch.client.json.JsonEnum;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializable;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.ObjectBuilder;
@@ -68,9 +70,11 @@ public class BulkOperation implements TaggedUnion<BulkOperation.Kind, Object>, N
         ;
 
         private final String jsonValue;
+        private final JsonpKey jsonKey;
 
         Kind(String jsonValue) {
             this.jsonValue = jsonValue;
+            this.jsonKey = JsonpKey.of(jsonValue);
         }
 
         public String jsonValue() {
@@ -189,7 +193,7 @@ public class BulkOperation implements TaggedUnion<BulkOperation.Kind, Object>, N
 
         generator.writeStartObject();
 
-        generator.writeKey(_kind.jsonValue());
+        JsonpUtils.writeKey(generator, _kind.jsonKey);
         if (_value instanceof JsonpSerializable) {
             ((JsonpSerializable) _value).serialize(generator, mapper);
         }
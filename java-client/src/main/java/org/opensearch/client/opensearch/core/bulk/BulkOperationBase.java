@@ -35,7 +35,9 @@ package org.opensearch.client.opensearch.core.bulk;
 import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 import org.opensearch.client.json.PlainJsonSerializable;
 import org.opensearch.client.opensearch._types.VersionType;
@@ -144,40 +146,48 @@ public abstract class BulkOperationBase implements PlainJsonSerializable {
         generator.writeEnd();
     }
 
+    private static final JsonpKey KEY_ID = JsonpKey.of("_id");
+    private static final JsonpKey KEY_INDEX = JsonpKey.of("_index");
+    private static final JsonpKey KEY_ROUTING = JsonpKey.of("routing");
+    private static final JsonpKey KEY_IF_PRIMARY_TERM = JsonpKey.of("if_primary_term");
+    private static final JsonpKey KEY_IF_SEQ_NO = JsonpKey.of("if_seq_no");
+    private static final JsonpKey KEY_VERSION = JsonpKey.of("version");
+    private static final JsonpKey KEY_VERSION_TYPE = JsonpKey.of("version_type");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
 
         if (this.id != null) {
-            generator.writeKey("_id");
+            JsonpUtils.writeKey(generator, KEY_ID);
             generator.write(this.id);
 
         }
         if (this.index != null) {
-            generator.writeKey("_index");
+            JsonpUtils.writeKey(generator, KEY_INDEX);
             generator.write(this.index);
 
         }
         if (this.routing != null) {
-            generator.writeKey("routing");
+            JsonpUtils.writeKey(generator, KEY_ROUTING);
             generator.write(this.routing);
 
         }
         if (this.ifPrimaryTerm != null) {
-            generator.writeKey("if_primary_term");
+            JsonpUtils.writeKey(generator, KEY_IF_PRIMARY_TERM);
             generator.write(this.ifPrimaryTerm);
 
         }
         if (this.ifSeqNo != null) {
-            generator.writeKey("if_seq_no");
+            JsonpUtils.writeKey(generator, KEY_IF_SEQ_NO);
             generator.write(this.ifSeqNo);
 
         }
         if (this.version != null) {
-            generator.writeKey("version");
+            JsonpUtils.writeKey(generator, KEY_VERSION);
             generator.write(this.version);
 
         }
         if (this.versionType != null) {
-            generator.writeKey("version_type");
+            JsonpUtils.writeKey(generator, KEY_VERSION_TYPE);
             this.versionType.serialize(generator, mapper);
         }
 
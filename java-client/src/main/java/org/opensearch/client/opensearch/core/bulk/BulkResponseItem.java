@@ -33,6 +33,7 @@
 package org.opensearch.client.opensearch.core.bulk;
 
 import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonParser;
 import java.util.Map;
 import java.util.function.Function;
 import javax.annotation.Nullable;
@@ -467,8 +468,47 @@ public class BulkResponseItem implements PlainJsonSerializable {
         op.add(Builder::forcedRefresh, JsonpDeserializer.booleanDeserializer(), "forced_refresh");
         op.add(Builder::get, InlineGet.createInlineGetDeserializer(JsonpDeserializer.stringMapDeserializer(JsonData._DESERIALIZER)), "get");
 
+        op.addFieldSwitch(BulkResponseItem::deserializeBulkResponseItemField);
+
         op.setKey(Builder::operationType, OperationType._DESERIALIZER);
 
     }
 
+    protected static boolean deserializeBulkResponseItemField(Builder builder, String name, JsonParser parser, JsonpMapper mapper) {
+        switch (name) {
+            case "_id":
+                builder.id = JsonpDeserializer.stringDeserializer().deserialize(parser, mapper);
+                return true;
+            case "_index":
+                builder.index = JsonpDeserializer.stringDeserializer().deserialize(parser, mapper);
+                return true;
+            case "status":
+                builder.status = JsonpDeserializer.integerDeserializer().deserialize(parser, mapper);
+                return true;
+            case "error":
+                builder.error = ErrorCause._DESERIALIZER.deserialize(parser, mapper);
+                return true;
+            case "_primary_term":
+                builder.primaryTerm = JsonpDeserializer.longDeserializer().deserialize(parser, mapper);
+                return true;
+            case "result":
+                builder.result = JsonpDeserializer.stringDeserializer().deserialize(parser, mapper);
+                return true;
+            case "_seq_no":
+                builder.seqNo = JsonpDeserializer.longDeserializer().deserialize(parser, mapper);
+                return true;
+            case "_shards":
+                builder.shards = ShardStatistics._DESERIALIZER.deserialize(parser, mapper);
+                return true;
+            case "_version":
+                builder.version = JsonpDeserializer.longDeserializer().deserialize(parser, mapper);
+                return true;
+            case "forced_refresh":
+                builder.forcedRefresh = JsonpDeserializer.booleanDeserializer().deserialize(parser, mapper);
+                return true;
+            default:
+                return false;
+        }
+    }
+
 }
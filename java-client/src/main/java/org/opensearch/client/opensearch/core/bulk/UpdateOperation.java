@@ -37,8 +37,10 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.Function;
 import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.JsonpSerializer;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.opensearch._types.Script;
 import org.opensearch.client.opensearch.core.search.SourceConfig;
@@ -103,16 +105,19 @@ public class UpdateOperation<TDocument> extends BulkOperationBase implements NdJ
         return this.retryOnConflict;
     }
 
+    private static final JsonpKey KEY_REQUIRE_ALIAS = JsonpKey.of("require_alias");
+    private static final JsonpKey KEY_RETRY_ON_CONFLICT = JsonpKey.of("retry_on_conflict");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
 
         super.serializeInternal(generator, mapper);
         if (this.requireAlias != null) {
-            generator.writeKey("require_alias");
+            JsonpUtils.writeKey(generator, KEY_REQUIRE_ALIAS);
             generator.write(this.requireAlias);
 
         }
         if (this.retryOnConflict != null) {
-            generator.writeKey("retry_on_conflict");
+            JsonpUtils.writeKey(generator, KEY_RETRY_ON_CONFLICT);
             generator.write(this.retryOnConflict);
 
         }
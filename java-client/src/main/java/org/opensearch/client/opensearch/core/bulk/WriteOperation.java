@@ -35,7 +35,9 @@ package org.opensearch.client.opensearch.core.bulk;
 import jakarta.json.stream.JsonGenerator;
 import javax.annotation.Nullable;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
 import org.opensearch.client.json.ObjectDeserializer;
 
 // typedef: _global.bulk.WriteOperation
@@ -71,16 +73,19 @@ public abstract class WriteOperation extends BulkOperationBase {
         return this.requireAlias;
     }
 
+    private static final JsonpKey KEY_PIPELINE = JsonpKey.of("pipeline");
+    private static final JsonpKey KEY_REQUIRE_ALIAS = JsonpKey.of("require_alias");
+
     protected void serializeInternal(JsonGenerator generator, JsonpMapper mapper) {
 
         super.serializeInternal(generator, mapper);
         if (this.pipeline != null) {
-            generator.writeKey("pipeline");
+            JsonpUtils.writeKey(generator, KEY_PIPELINE);
             generator.write(this.pipeline);
 
         }
         if (this.requireAlias != null) {
-            generator.writeKey("require_alias");
+            JsonpUtils.writeKey(generator, KEY_REQUIRE_ALIAS);
             generator.write(this.requireAlias);
 
         }
@@ -0,0 +1,351 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.core.search;
+
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpDeserializerBase;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.ObjectBuilderDeserializer;
+import org.opensearch.client.opensearch.core.ScrollRequest;
+import org.opensearch.client.opensearch.core.ScrollResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+import org.opensearch.client.util.ObjectBuilder;
+
+/**
+ * An iterator over the hits of a search or scroll response that deserializes them one at a time, instead of
+ * materializing the whole {@link HitsMetadata#hits()} list. Hits are handed over through a small bounded buffer as
+ * soon as they are decoded, and are not retained once returned by {@link #next()}. When the transport streams
+ * response bodies, decoding overlaps with network I/O and only a few hits are held in memory at any time.
+ * <p>
+ * The request is performed by a background task running on the provided executor, which blocks while the buffer is
+ * full. Streams must therefore always be closed, usually with a try-with-resources statement.
+ * <p>
+ * To defer the decoding of documents until they are actually needed, use {@link org.opensearch.client.json.JsonData}
+ * as the document type and convert sources with {@link org.opensearch.client.json.JsonData#to(Class)}.
+ *
+ * @param <TDocument> the type of the documents
+ */
+public class SearchHitStream<TDocument> implements Iterator<Hit<TDocument>>, Closeable {
+    /**
+     * The default number of decoded hits that are buffered ahead of the consumer.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64;
+
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue;
+    private final CompletableFuture<SearchHitStream<TDocument>> started = new CompletableFuture<>();
+    private volatile boolean closed;
+    private volatile SearchResult<TDocument> response;
+    private volatile Throwable failure;
+    private Hit<TDocument> next;
+    private boolean done;
+
+    private SearchHitStream(int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    /**
+     * Starts a search request whose hits are streamed.
+     *
+     * @param transport the transport performing the request
+     * @param options the transport options, if any
+     * @param request the search request
+     * @param tDocumentDeserializer the deserializer of the documents
+     * @param executor the executor running the request
+     * @param bufferSize the number of decoded hits buffered ahead of the consumer
+     */
+    public static <TDocument> SearchHitStream<TDocument> search(
+        OpenSearchTransport transport,
+        @Nullable TransportOptions options,
+        SearchRequest request,
+        JsonpDeserializer<TDocument> tDocumentDeserializer,
+        Executor executor,
+        int bufferSize
+    ) {
+        final SearchHitStream<TDocument> stream = new SearchHitStream<>(bufferSize);
+        final SimpleEndpoint<SearchRequest, SearchResponse<TDocument>> endpoint = SearchRequest._ENDPOINT.withResponseDeserializer(
+            stream.responseDeserializer(SearchResponse.Builder<TDocument>::new, tDocumentDeserializer)
+        );
+        stream.start(executor, () -> transport.performRequest(request, endpoint, options));
+        return stream;
+    }
+
+    /**
+     * Starts a scroll request whose hits are streamed.
+     *
+     * @param transport the transport performing the request
+     * @param options the transport options, if any
+     * @param request the scroll request
+     * @param tDocumentDeserializer the deserializer of the documents
+     * @param executor the executor running the request
+     * @param bufferSize the number of decoded hits buffered ahead of the consumer
+     */
+    public static <TDocument> SearchHitStream<TDocument> scroll(
+        OpenSearchTransport transport,
+        @Nullable TransportOptions options,
+        ScrollRequest request,
+        JsonpDeserializer<TDocument> tDocumentDeserializer,
+        Executor executor,
+        int bufferSize
+    ) {
+        final SearchHitStream<TDocument> stream = new SearchHitStream<>(bufferSize);
+        final SimpleEndpoint<ScrollRequest, ScrollResponse<TDocument>> endpoint = ScrollRequest._ENDPOINT.withResponseDeserializer(
+            stream.responseDeserializer(ScrollResponse.Builder<TDocument>::new, tDocumentDeserializer)
+        );
+        stream.start(executor, () -> transport.performRequest(request, endpoint, options));
+        return stream;
+    }
+
+    /**
+     * An executor that runs each stream on a daemon thread of a shared pool. Idle threads are kept for a minute, so that
+     * streaming successive pages of a scroll reuses them.
+     */
+    public static Executor defaultExecutor() {
+        return DefaultExecutorHolder.EXECUTOR;
+    }
+
+    // Created on first use
+    private static final class DefaultExecutorHolder {
+        static final Executor EXECUTOR = Executors.newCachedThreadPool(r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("opensearch-search-stream#" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * A future that completes with this stream once the first hit has been decoded or the response has been fully
+     * read, and that completes exceptionally if the request failed before any hit could be decoded.
+     */
+    public CompletableFuture<SearchHitStream<TDocument>> started() {
+        return started;
+    }
+
+    /**
+     * Waits until the first hit has been decoded or the response has been fully read.
+     *
+     * @return this stream
+     * @throws IOException if the request failed before any hit could be decoded
+     */
+    public SearchHitStream<TDocument> awaitStarted() throws IOException {
+        try {
+            return started.get();
+        } catch (InterruptedException e) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("thread waiting for the first hit was interrupted", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+        if (done) {
+            return false;
+        }
+
+        final Object item;
+        try {
+            item = queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("thread waiting for the next hit was interrupted", e);
+        }
+
+        if (item == END) {
+            done = true;
+            final Throwable failure = this.failure;
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof IOException) {
+                throw new UncheckedIOException((IOException) failure);
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            return false;
+        }
+
+        @SuppressWarnings("unchecked")
+        final Hit<TDocument> hit = (Hit<TDocument>) item;
+        next = hit;
+        return true;
+    }
+
+    @Override
+    public Hit<TDocument> next() {
+        if (hasNext() == false) {
+            throw new NoSuchElementException();
+        }
+        final Hit<TDocument> hit = next;
+        next = null;
+        return hit;
+    }
+
+    /**
+     * A sequential stream over the remaining hits. Closing it closes this stream.
+     */
+    public Stream<Hit<TDocument>> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(this::close);
+    }
+
+    /**
+     * The response, without its hits. It is only available once all hits have been consumed.
+     *
+     * @throws IllegalStateException if hits remain to be consumed.
+     */
+    public SearchResult<TDocument> response() {
+        if (done == false || next != null) {
+            throw new IllegalStateException("The response is only available once all hits have been consumed");
+        }
+        return response;
+    }
+
+    /**
+     * Stops streaming hits. The rest of the response is read but not decoded.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        done = true;
+        next = null;
+        // Unblock the background task, that will then stop at the next hit
+        queue.clear();
+    }
+
+    private void start(Executor executor, ResponseSupplier<? extends SearchResult<TDocument>> request) {
+        executor.execute(() -> {
+            try {
+                response = request.get();
+            } catch (Throwable t) {
+                failure = t;
+                started.completeExceptionally(t);
+            }
+            if (closed == false) {
+                try {
+                    queue.put(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            started.complete(this);
+        });
+    }
+
+    private void push(Object item) {
+        if (closed) {
+            throw new CancellationException("The hit stream has been closed");
+        }
+        try {
+            queue.put(item);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Thread streaming hits was interrupted");
+        }
+        started.complete(this);
+    }
+
+    /**
+     * Creates a deserializer for a search result whose hits are pushed to this stream instead of being collected.
+     */
+    private <
+        ResponseT,
+        BuilderT extends SearchResult.AbstractBuilder<TDocument, BuilderT> & ObjectBuilder<ResponseT>>
+        JsonpDeserializer<ResponseT>
+        responseDeserializer(Supplier<BuilderT> builder, JsonpDeserializer<TDocument> tDocumentDeserializer) {
+        final JsonpDeserializer<HitsMetadata<TDocument>> hitsDeserializer = ObjectBuilderDeserializer.createForObject(
+            HitsMetadata.Builder<TDocument>::new,
+            op -> {
+                HitsMetadata.setupHitsMetadataDeserializer(op, tDocumentDeserializer);
+                op.add(
+                    HitsMetadata.Builder::hits,
+                    new HitsDeserializer<>(Hit.createHitDeserializer(tDocumentDeserializer), this::push),
+                    "hits"
+                );
+            }
+        );
+
+        return ObjectBuilderDeserializer.createForObject(builder, op -> {
+            SearchResult.setupSearchResultDeserializer(op, tDocumentDeserializer);
+            op.add(SearchResult.AbstractBuilder::hits, hitsDeserializer, "hits");
+        });
+    }
+
+    @FunctionalInterface
+    private interface ResponseSupplier<T> {
+        T get() throws IOException;
+    }
+
+    /**
+     * Deserializes an array of hits by handing each of them to a consumer, returning an empty list.
+     */
+    private static class HitsDeserializer<TDocument> extends JsonpDeserializerBase<List<Hit<TDocument>>> {
+        private final JsonpDeserializer<Hit<TDocument>> hitDeserializer;
+        private final Consumer<Object> consumer;
+
+        HitsDeserializer(JsonpDeserializer<Hit<TDocument>> hitDeserializer, Consumer<Object> consumer) {
+            super(EnumSet.of(Event.START_ARRAY));
+            this.hitDeserializer = hitDeserializer;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public List<Hit<TDocument>> deserialize(JsonParser parser, JsonpMapper mapper, Event event) {
+            while ((event = parser.next()) != Event.END_ARRAY) {
+                consumer.accept(hitDeserializer.deserialize(parser, mapper, event));
+            }
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import javax.annotation.Nullable;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.httpclient5.ResponseException;
+
+/**
+ * Finds the HTTP status of failed requests, whatever the transport that sent them.
+ * <p>
+ * Transports report error responses as an {@link OpenSearchException} when they can decode them, and otherwise as a
+ * {@link TransportException} or as the response exception of their HTTP client.
+ */
+public final class ResponseStatus {
+
+    /**
+     * The status of failures without a response, such as connection errors and timeouts.
+     */
+    public static final int NONE = -1;
+
+    private static final boolean REST_CLIENT_AVAILABLE = isAvailable("org.opensearch.client.ResponseException");
+
+    private ResponseStatus() {}
+
+    /**
+     * The HTTP status of a failed request, or {@link #NONE} if no response was received.
+     */
+    public static int of(@Nullable Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof OpenSearchException) {
+                return ((OpenSearchException) t).status();
+            }
+            if (t instanceof ResponseException) {
+                return ((ResponseException) t).status();
+            }
+            if (REST_CLIENT_AVAILABLE && RestClientResponses.isResponseException(t)) {
+                return RestClientResponses.status(t);
+            }
+            if (t instanceof TransportException && ((TransportException) t).statusCode() != NONE) {
+                return ((TransportException) t).statusCode();
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Whether a failed request may succeed if sent again: it failed with an {@link IOException} and without a response,
+     * such as a connection error or a timeout, or with status {@code 429}, {@code 502}, {@code 503} or {@code 504}.
+     */
+    public static boolean isTransient(@Nullable Throwable failure) {
+        final int status = of(failure);
+        if (status == NONE) {
+            return unwrap(failure) instanceof IOException;
+        }
+        return status == 429 || status == 502 || status == 503 || status == 504;
+    }
+
+    /**
+     * Unwraps the failures of asynchronous computations.
+     */
+    @Nullable
+    public static Throwable unwrap(@Nullable Throwable failure) {
+        while ((failure instanceof CompletionException || failure instanceof ExecutionException) && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        return failure;
+    }
+
+    private static boolean isAvailable(String className) {
+        try {
+            Class.forName(className, false, ResponseStatus.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    // The low level REST client is an optional dependency: this class is only loaded when it is available
+    private static final class RestClientResponses {
+        static boolean isResponseException(Throwable t) {
+            return t instanceof org.opensearch.client.ResponseException;
+        }
+
+        static int status(Throwable t) {
+            return ((org.opensearch.client.ResponseException) t).getResponse().getStatusLine().getStatusCode();
+        }
+    }
+}
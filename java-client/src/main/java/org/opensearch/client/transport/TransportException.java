@@ -36,12 +36,29 @@ import java.io.IOException;
 
 public class TransportException extends IOException {
 
+    private final int statusCode;
+
     public TransportException(String message) {
         this(message, null);
     }
 
     public TransportException(String message, Throwable cause) {
+        this(-1, message, cause);
+    }
+
+    /**
+     * @param statusCode the status code of the response that caused this exception, or {@code -1} if no response was received.
+     */
+    public TransportException(int statusCode, String message, Throwable cause) {
         super(message, cause);
+        this.statusCode = statusCode;
     }
 
+    /**
+     * The status code of the response that caused this exception, or {@code -1} if no response was received or if it isn't
+     * known.
+     */
+    public int statusCode() {
+        return statusCode;
+    }
 }
@@ -17,7 +17,7 @@ import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 
 /**
  * An implementation of AWS {@SdkHttpContentPublisher} that transfers a pre-existing
- * byte array
+ * byte array, or pre-existing byte buffers
  */
 class AsyncByteArrayContentPublisher implements SdkHttpContentPublisher {
     private final AsyncRequestBody delegate;
@@ -30,6 +30,10 @@ class AsyncByteArrayContentPublisher implements SdkHttpContentPublisher {
         }
     }
 
+    AsyncByteArrayContentPublisher(ByteBuffer[] data) {
+        delegate = AsyncRequestBody.fromByteBuffersUnsafe(data);
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return delegate.contentLength();
@@ -30,7 +30,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPInputStream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -49,8 +48,13 @@ import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.transport.instrumentation.RequestEvent;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+import org.opensearch.client.util.BufferPool;
 import org.opensearch.client.util.MissingRequiredPropertyException;
 import org.opensearch.client.util.OpenSearchRequestBodyBuffer;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
@@ -211,28 +215,55 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         @Nullable TransportOptions options
     ) throws IOException {
+        final RequestEvent event = RequestEvent.start(getInstrumentation(options), request, endpoint.method(request));
+        try {
+            final ResponseT response = performRequest(request, endpoint, options, event);
+            if (event != null) {
+                event.end(null);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (event != null) {
+                event.end(e);
+            }
+            throw e;
+        }
+    }
+
+    private <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+        RequestT request,
+        Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+        @Nullable TransportOptions options,
+        @Nullable RequestEvent event
+    ) throws IOException {
+        final long serializationStartNanos = event == null ? 0 : System.nanoTime();
         OpenSearchRequestBodyBuffer requestBody = prepareRequestBody(request, endpoint, options);
-        SignedRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
+        try {
+            SignedRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
+            onSerialized(event, serializationStartNanos, requestBody);
 
-        if (httpClient instanceof SdkHttpClient) {
-            return executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options);
-        } else if (httpClient instanceof SdkAsyncHttpClient) {
-            try {
-                return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options).get();
-            } catch (ExecutionException e) {
-                Exception cause = extractAndWrapCause(e);
-                if (cause instanceof IOException) {
-                    throw (IOException) cause;
-                }
-                if (cause instanceof RuntimeException) {
-                    throw (RuntimeException) cause;
+            if (httpClient instanceof SdkHttpClient) {
+                return executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options, event);
+            } else if (httpClient instanceof SdkAsyncHttpClient) {
+                try {
+                    return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options, event).get();
+                } catch (ExecutionException e) {
+                    Exception cause = extractAndWrapCause(e);
+                    if (cause instanceof IOException) {
+                        throw (IOException) cause;
+                    }
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new IllegalStateException("unexpected exception type: must be either RuntimeException or IOException", cause);
+                } catch (InterruptedException e) {
+                    throw new IOException("HttpRequest was interrupted", e);
                 }
-                throw new IllegalStateException("unexpected exception type: must be either RuntimeException or IOException", cause);
-            } catch (InterruptedException e) {
-                throw new IOException("HttpRequest was interrupted", e);
+            } else {
+                throw new IOException("invalid httpClient: " + httpClient);
             }
-        } else {
-            throw new IOException("invalid httpClient: " + httpClient);
+        } finally {
+            releaseRequestBody(requestBody);
         }
     }
 
@@ -242,18 +273,41 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         @Nullable TransportOptions options
     ) {
+        final RequestEvent event = RequestEvent.start(getInstrumentation(options), request, endpoint.method(request));
+        OpenSearchRequestBodyBuffer requestBody = null;
         try {
-            OpenSearchRequestBodyBuffer requestBody = prepareRequestBody(request, endpoint, options);
+            final long serializationStartNanos = event == null ? 0 : System.nanoTime();
+            requestBody = prepareRequestBody(request, endpoint, options);
             SignedRequest clientReq = prepareRequest(request, endpoint, options, requestBody);
+            onSerialized(event, serializationStartNanos, requestBody);
             if (httpClient instanceof SdkAsyncHttpClient) {
-                return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options);
+                final OpenSearchRequestBodyBuffer body = requestBody;
+                return executeAsync((SdkAsyncHttpClient) httpClient, clientReq, requestBody, endpoint, options, event).whenComplete(
+                    (r, e) -> {
+                        releaseRequestBody(body);
+                        if (event != null) {
+                            event.end(e);
+                        }
+                    }
+                );
             } else if (httpClient instanceof SdkHttpClient) {
-                ResponseT result = executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options);
-                return CompletableFuture.completedFuture(result);
+                try {
+                    ResponseT result = executeSync((SdkHttpClient) httpClient, clientReq, endpoint, options, event);
+                    if (event != null) {
+                        event.end(null);
+                    }
+                    return CompletableFuture.completedFuture(result);
+                } finally {
+                    releaseRequestBody(requestBody);
+                }
             } else {
                 throw new IOException("invalid httpClient: " + httpClient);
             }
         } catch (Throwable e) {
+            releaseRequestBody(requestBody);
+            if (event != null) {
+                event.end(e);
+            }
             CompletableFuture<ResponseT> cf = new CompletableFuture<>();
             cf.completeExceptionally(e);
             return cf;
@@ -287,14 +341,45 @@ public class AwsSdk2Transport implements OpenSearchTransport {
                 DEFAULT_REQUEST_COMPRESSION_SIZE
             );
 
-            OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(mapper, maxUncompressedSize);
-            buffer.addContent(request);
-            buffer.close();
+            final BufferPool bufferPool = getOption(options, AwsSdk2TransportOptions::bufferPool).orElse(BufferPool.UNPOOLED);
+
+            final CompressionCodec codec = getOption(options, AwsSdk2TransportOptions::compressionCodec).orElse(CompressionCodecs.gzip());
+
+            OpenSearchRequestBodyBuffer buffer = new OpenSearchRequestBodyBuffer(mapper, maxUncompressedSize, bufferPool, codec);
+            try {
+                buffer.addContent(request);
+                buffer.close();
+            } catch (IOException | RuntimeException e) {
+                buffer.release();
+                throw e;
+            }
             return buffer;
         }
         return null;
     }
 
+    private TransportInstrumentation getInstrumentation(@Nullable TransportOptions options) {
+        return getOption(options, AwsSdk2TransportOptions::instrumentation).orElse(TransportInstrumentation.NOOP);
+    }
+
+    private static void onSerialized(@Nullable RequestEvent event, long startNanos, @CheckForNull OpenSearchRequestBodyBuffer body) {
+        if (event != null) {
+            event.onSerialized(System.nanoTime() - startNanos, body == null ? -1 : body.getContentLength());
+        }
+    }
+
+    private static void onAttempt(@Nullable RequestEvent event, SdkHttpRequest request, long startNanos, int status) {
+        if (event != null) {
+            event.onAttempt(request.protocol() + "://" + request.host() + ":" + request.port(), 0, System.nanoTime() - startNanos, status);
+        }
+    }
+
+    private static void releaseRequestBody(@CheckForNull OpenSearchRequestBodyBuffer body) {
+        if (body != null) {
+            body.release();
+        }
+    }
+
     private <RequestT> SignedRequest prepareRequest(
         RequestT request,
         Endpoint<RequestT, ?, ?> endpoint,
@@ -345,7 +430,7 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             throw new IllegalArgumentException("Invalid request URI: " + url.toString());
         }
 
-        ContentStreamProvider bodyProvider = body != null ? ContentStreamProvider.fromByteArrayUnsafe(body.getByteArray()) : null;
+        ContentStreamProvider bodyProvider = body != null ? body::getInputStream : null;
 
         applyHeadersPreSigning(req, options, body);
 
@@ -385,7 +470,14 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         }
 
         if (getOption(options, AwsSdk2TransportOptions::responseCompression).orElse(Boolean.TRUE)) {
-            req.putHeader("Accept-Encoding", "gzip");
+            // Responses are decoded with the request codec when the server picks it, and gzip is always understood
+            final String encoding = getOption(options, AwsSdk2TransportOptions::compressionCodec).map(CompressionCodec::contentEncoding)
+                .orElse(CompressionCodecs.GZIP);
+            if (CompressionCodecs.GZIP.equals(encoding)) {
+                req.putHeader("Accept-Encoding", encoding);
+            } else {
+                req.putHeader("Accept-Encoding", encoding + ", " + CompressionCodecs.GZIP);
+            }
         } else {
             req.removeHeader("Accept-Encoding");
         }
@@ -428,16 +520,26 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         SdkHttpClient syncHttpClient,
         SignedRequest signedRequest,
         Endpoint<?, ResponseT, ?> endpoint,
-        TransportOptions options
+        TransportOptions options,
+        @Nullable RequestEvent event
     ) throws IOException {
         SdkHttpRequest httpRequest = signedRequest.request();
         HttpExecuteRequest.Builder executeRequest = HttpExecuteRequest.builder().request(httpRequest);
         signedRequest.payload().ifPresent(executeRequest::contentStreamProvider);
-        HttpExecuteResponse executeResponse = syncHttpClient.prepareRequest(executeRequest.build()).call();
+        final long startNanos = event == null ? 0 : System.nanoTime();
+        HttpExecuteResponse executeResponse;
+        try {
+            executeResponse = syncHttpClient.prepareRequest(executeRequest.build()).call();
+        } catch (IOException | RuntimeException e) {
+            onAttempt(event, httpRequest, startNanos, -1);
+            throw e;
+        }
         AbortableInputStream bodyStream = null;
         try {
             bodyStream = executeResponse.responseBody().orElse(null);
             SdkHttpResponse httpResponse = executeResponse.httpResponse();
+            // The body is received while it is deserialized
+            onAttempt(event, httpRequest, startNanos, httpResponse.statusCode());
             return parseResponse(
                 httpRequest.getUri(),
                 httpRequest.method(),
@@ -445,7 +547,9 @@ public class AwsSdk2Transport implements OpenSearchTransport {
                 httpResponse,
                 bodyStream,
                 endpoint,
-                options
+                options,
+                event,
+                -1
             );
         } finally {
             if (bodyStream != null) {
@@ -459,18 +563,30 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         SignedRequest signedRequest,
         @CheckForNull OpenSearchRequestBodyBuffer requestBody,
         Endpoint<?, ResponseT, ?> endpoint,
-        TransportOptions options
+        TransportOptions options,
+        @Nullable RequestEvent event
     ) {
         SdkHttpRequest httpRequest = signedRequest.request();
-        byte[] requestBodyArray = requestBody == null ? NO_BYTES : requestBody.getByteArray();
+        final AsyncByteArrayContentPublisher requestContent = requestBody == null
+            ? new AsyncByteArrayContentPublisher(NO_BYTES)
+            : new AsyncByteArrayContentPublisher(requestBody.getByteBuffers());
         final AsyncCapturingResponseHandler responseHandler = new AsyncCapturingResponseHandler();
         AsyncExecuteRequest.Builder executeRequest = AsyncExecuteRequest.builder()
             .request(httpRequest)
-            .requestContentPublisher(new AsyncByteArrayContentPublisher(requestBodyArray))
+            .requestContentPublisher(requestContent)
             .responseHandler(responseHandler);
+        final long startNanos = event == null ? 0 : System.nanoTime();
         CompletableFuture<Void> executeFuture = asyncHttpClient.execute(executeRequest.build());
+        if (event != null) {
+            executeFuture.whenComplete((_v, e) -> {
+                if (e != null) {
+                    onAttempt(event, httpRequest, startNanos, -1);
+                }
+            });
+        }
         return executeFuture.thenCompose(_v -> responseHandler.getHeaderPromise())
             .thenCompose(response -> responseHandler.getBodyPromise().thenCompose(responseBody -> {
+                onAttempt(event, httpRequest, startNanos, response.statusCode());
                 CompletableFuture<ResponseT> ret = new CompletableFuture<>();
                 try {
                     InputStream bodyStream = new ByteArrayInputStream(responseBody);
@@ -482,7 +598,9 @@ public class AwsSdk2Transport implements OpenSearchTransport {
                             response,
                             bodyStream,
                             endpoint,
-                            options
+                            options,
+                            event,
+                            responseBody.length
                         )
                     );
                 } catch (Throwable e) {
@@ -492,6 +610,28 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             }));
     }
 
+    private <ResponseT, ErrorT> ResponseT parseResponse(
+        URI uri,
+        @Nonnull SdkHttpMethod method,
+        String protocol,
+        @Nonnull SdkHttpResponse httpResponse,
+        @CheckForNull InputStream bodyStream,
+        @Nonnull Endpoint<?, ResponseT, ErrorT> endpoint,
+        @CheckForNull TransportOptions options,
+        @Nullable RequestEvent event,
+        long responseBytes
+    ) throws IOException {
+        if (event == null) {
+            return parseResponse(uri, method, protocol, httpResponse, bodyStream, endpoint, options);
+        }
+        final long startNanos = System.nanoTime();
+        try {
+            return parseResponse(uri, method, protocol, httpResponse, bodyStream, endpoint, options);
+        } finally {
+            event.onDeserialized(System.nanoTime() - startNanos, responseBytes);
+        }
+    }
+
     private <ResponseT, ErrorT> ResponseT parseResponse(
         URI uri,
         @Nonnull SdkHttpMethod method,
@@ -506,9 +646,11 @@ public class AwsSdk2Transport implements OpenSearchTransport {
         ).map(AwsSdk2TransportOptions::mapper).orElse(defaultMapper);
 
         int statusCode = httpResponse.statusCode();
-        boolean isZipped = httpResponse.firstMatchingHeader("Content-Encoding").map(enc -> enc.contains("gzip")).orElse(Boolean.FALSE);
-        if (bodyStream != null && isZipped) {
-            bodyStream = new GZIPInputStream(bodyStream);
+        final CompressionCodec codec = httpResponse.firstMatchingHeader("Content-Encoding")
+            .map(CompressionCodecs::forContentEncoding)
+            .orElse(null);
+        if (bodyStream != null && codec != null) {
+            bodyStream = codec.decompress(bodyStream);
         }
 
         if (statusCode == 403) {
@@ -571,7 +713,7 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             } else {
                 JsonpDeserializer<ErrorT> errorDeserializer = endpoint.errorDeserializer(statusCode);
                 if (errorDeserializer == null || bodyStream == null) {
-                    throw new TransportException("Request failed with status code '" + statusCode + "'");
+                    throw new TransportException(statusCode, "Request failed with status code '" + statusCode + "'", null);
                 }
 
                 // We may have to reset if there is a parse deserialization exception
@@ -623,7 +765,7 @@ public class AwsSdk2Transport implements OpenSearchTransport {
             if (responseParser != null) {
                 // Expecting a body
                 if (bodyStream == null) {
-                    throw new TransportException("Expecting a response body, but none was sent");
+                    throw new TransportException(httpResponse.statusCode(), "Expecting a response body, but none was sent", null);
                 }
                 try (JsonParser parser = mapper.jsonProvider().createParser(bodyStream)) {
                     try {
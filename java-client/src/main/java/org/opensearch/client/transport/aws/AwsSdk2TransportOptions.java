@@ -13,6 +13,10 @@ import java.util.List;
 import java.util.function.Function;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+import org.opensearch.client.util.BufferPool;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 
 public interface AwsSdk2TransportOptions extends TransportOptions {
@@ -84,6 +88,43 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
      */
     Clock signingClock();
 
+    /**
+     * Get the pool that request body buffers are borrowed from.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * {@link BufferPool#UNPOOLED} if there is none.
+     * </P>
+     *
+     * @return A buffer pool or null
+     */
+    BufferPool bufferPool();
+
+    /**
+     * Get the codec compressing request bodies.  It is also sent, next to gzip, in the Accept-Encoding
+     * header of requests when response compression is enabled.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * {@link CompressionCodecs#gzip()} if there is none.
+     * </P>
+     *
+     * @return A compression codec or null
+     */
+    CompressionCodec compressionCodec();
+
+    /**
+     * Get the instrumentation receiving the time spent serializing, signing, sending and deserializing requests.
+     * <p>
+     * If this is null, then a default will be used -- either a value specified
+     * in a more general {@link AwsSdk2TransportOptions} that applies to the request, or
+     * {@link TransportInstrumentation#NOOP} if there is none.
+     * </P>
+     *
+     * @return An instrumentation or null
+     */
+    TransportInstrumentation instrumentation();
+
     AwsSdk2TransportOptions.Builder toBuilder();
 
     static AwsSdk2TransportOptions.Builder builder() {
@@ -107,6 +148,12 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
 
         Builder setSigningClock(Clock clock);
 
+        Builder setBufferPool(BufferPool bufferPool);
+
+        Builder setCompressionCodec(CompressionCodec compressionCodec);
+
+        Builder setInstrumentation(TransportInstrumentation instrumentation);
+
         AwsSdk2TransportOptions build();
     }
 
@@ -117,6 +164,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
         protected Boolean responseCompression;
         protected JsonpMapper mapper;
         protected Clock signingClock;
+        protected BufferPool bufferPool;
+        protected CompressionCodec compressionCodec;
+        protected TransportInstrumentation instrumentation;
 
         public BuilderImpl() {}
 
@@ -127,6 +177,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             responseCompression = src.responseCompression();
             mapper = src.mapper();
             signingClock = src.signingClock();
+            bufferPool = src.bufferPool();
+            compressionCodec = src.compressionCodec();
+            instrumentation = src.instrumentation();
         }
 
         @Override
@@ -177,6 +230,24 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             return this;
         }
 
+        @Override
+        public Builder setBufferPool(BufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
+        @Override
+        public Builder setCompressionCodec(CompressionCodec compressionCodec) {
+            this.compressionCodec = compressionCodec;
+            return this;
+        }
+
+        @Override
+        public Builder setInstrumentation(TransportInstrumentation instrumentation) {
+            this.instrumentation = instrumentation;
+            return this;
+        }
+
         @Override
         public AwsSdk2TransportOptions build() {
             return new DefaultImpl(this);
@@ -190,6 +261,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
         private final Boolean responseCompression;
         private final JsonpMapper mapper;
         private final Clock signingClock;
+        private final BufferPool bufferPool;
+        private final CompressionCodec compressionCodec;
+        private final TransportInstrumentation instrumentation;
 
         DefaultImpl(AwsSdk2TransportOptions.BuilderImpl builder) {
             super(builder);
@@ -198,6 +272,9 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             responseCompression = builder.responseCompression;
             mapper = builder.mapper;
             signingClock = builder.signingClock;
+            bufferPool = builder.bufferPool;
+            compressionCodec = builder.compressionCodec;
+            instrumentation = builder.instrumentation;
         }
 
         @Override
@@ -225,6 +302,21 @@ public interface AwsSdk2TransportOptions extends TransportOptions {
             return signingClock;
         }
 
+        @Override
+        public BufferPool bufferPool() {
+            return bufferPool;
+        }
+
+        @Override
+        public CompressionCodec compressionCodec() {
+            return compressionCodec;
+        }
+
+        @Override
+        public TransportInstrumentation instrumentation() {
+            return instrumentation;
+        }
+
         @Override
         public AwsSdk2TransportOptions.Builder toBuilder() {
             return new AwsSdk2TransportOptions.BuilderImpl(this);
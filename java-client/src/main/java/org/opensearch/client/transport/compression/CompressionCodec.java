@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A content coding that compresses request bodies and decompresses response bodies, identified by the token sent in
+ * the {@code Content-Encoding} and {@code Accept-Encoding} headers.
+ * <p>
+ * The gzip and deflate codecs are built in, and zstd and lz4 codecs are available when their libraries are on the
+ * classpath (see {@link CompressionCodecs}). Other codecs can be registered with the {@link java.util.ServiceLoader}
+ * mechanism, by listing their classes in a
+ * {@code META-INF/services/org.opensearch.client.transport.compression.CompressionCodec} resource.
+ * <p>
+ * Implementations must be thread-safe.
+ */
+public interface CompressionCodec {
+
+    /**
+     * The content coding token of this codec, e.g. {@code gzip}.
+     */
+    String contentEncoding();
+
+    /**
+     * Wraps a stream so that the content written to it is compressed. Closing the returned stream finishes the
+     * compressed content and closes {@code out}.
+     *
+     * @param out the stream receiving the compressed content
+     * @return a stream compressing what is written to it
+     * @throws IOException if writing the start of the compressed content fails
+     */
+    OutputStream compress(OutputStream out) throws IOException;
+
+    /**
+     * Wraps a stream of compressed content so that it is decompressed while it is read.
+     *
+     * @param in the stream of compressed content
+     * @return a stream of the decompressed content
+     * @throws IOException if reading the start of the compressed content fails
+     */
+    InputStream decompress(InputStream in) throws IOException;
+}
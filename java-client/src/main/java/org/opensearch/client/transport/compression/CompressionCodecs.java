@@ -0,0 +1,227 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.compression;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.zip.Deflater;
+import javax.annotation.CheckForNull;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.opensearch.client.util.DeflaterPool;
+
+/**
+ * The available {@link CompressionCodec}s.
+ * <p>
+ * The gzip and deflate codecs are always available. The zstd codec requires
+ * <a href="https://github.com/luben/zstd-jni">zstd-jni</a> and the lz4 codec requires
+ * <a href="https://github.com/lz4/lz4-java">lz4-java</a> on the classpath, and both also require the cluster to
+ * accept request bodies in these formats.
+ */
+public final class CompressionCodecs {
+    private static final Log logger = LogFactory.getLog(CompressionCodecs.class);
+
+    /**
+     * The gzip content coding.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * The deflate content coding, i.e. the zlib format.
+     */
+    public static final String DEFLATE = "deflate";
+
+    /**
+     * The zstd content coding.
+     */
+    public static final String ZSTD = "zstd";
+
+    /**
+     * The lz4 content coding, using the lz4 frame format.
+     */
+    public static final String LZ4 = "lz4";
+
+    // One codec per compression level, from Deflater.DEFAULT_COMPRESSION (-1) to Deflater.BEST_COMPRESSION (9)
+    private static final CompressionCodec[] GZIP_CODECS = new CompressionCodec[Deflater.BEST_COMPRESSION + 2];
+    private static final CompressionCodec[] DEFLATE_CODECS = new CompressionCodec[Deflater.BEST_COMPRESSION + 2];
+
+    static {
+        for (int i = 0; i < GZIP_CODECS.length; i++) {
+            GZIP_CODECS[i] = new DeflateCompressionCodec(GZIP, DeflaterPool.shared(i - 1));
+            DEFLATE_CODECS[i] = new DeflateCompressionCodec(
+                DEFLATE,
+                new DeflaterPool(i - 1, false, DeflaterPool.DEFAULT_MAX_RETAINED_DEFLATERS)
+            );
+        }
+    }
+
+    private CompressionCodecs() {}
+
+    /**
+     * The gzip codec with the default compression level.
+     */
+    public static CompressionCodec gzip() {
+        return gzip(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * The gzip codec with the given compression level.
+     *
+     * @param level the compression level, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @throws IllegalArgumentException if {@code level} is not a valid compression level.
+     */
+    public static CompressionCodec gzip(int level) {
+        return GZIP_CODECS[checkLevel(level) + 1];
+    }
+
+    /**
+     * The gzip codec borrowing its deflaters from the given pool of raw deflaters.
+     *
+     * @throws IllegalArgumentException if the pool does not hold raw deflaters.
+     */
+    public static CompressionCodec gzip(DeflaterPool pool) {
+        if (!pool.nowrap()) {
+            throw new IllegalArgumentException("gzip requires a pool of raw deflaters");
+        }
+        return new DeflateCompressionCodec(GZIP, pool);
+    }
+
+    /**
+     * The deflate codec with the default compression level.
+     */
+    public static CompressionCodec deflate() {
+        return deflate(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * The deflate codec with the given compression level.
+     *
+     * @param level the compression level, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @throws IllegalArgumentException if {@code level} is not a valid compression level.
+     */
+    public static CompressionCodec deflate(int level) {
+        return DEFLATE_CODECS[checkLevel(level) + 1];
+    }
+
+    /**
+     * The zstd codec with the default compression level of zstd-jni.
+     *
+     * @throws IllegalStateException if zstd-jni is not on the classpath.
+     */
+    public static CompressionCodec zstd() {
+        return require(Registry.ZSTD, "zstd-jni");
+    }
+
+    /**
+     * The lz4 codec.
+     *
+     * @throws IllegalStateException if lz4-java is not on the classpath.
+     */
+    public static CompressionCodec lz4() {
+        return require(Registry.LZ4, "lz4-java");
+    }
+
+    /**
+     * Returns the codec of a content coding, either built in or registered with the {@link ServiceLoader} mechanism.
+     * Registered codecs take precedence over built in codecs for the same content coding.
+     *
+     * @param contentEncoding the content coding token, as found in a {@code Content-Encoding} header
+     * @return the codec, or {@code null} if no codec is available for this content coding
+     */
+    @CheckForNull
+    public static CompressionCodec forContentEncoding(@CheckForNull String contentEncoding) {
+        if (contentEncoding == null) {
+            return null;
+        }
+        final String token = contentEncoding.trim().toLowerCase(Locale.ROOT);
+        // x-gzip is an alias of gzip, see RFC 9110
+        return Registry.ALL.get("x-gzip".equals(token) ? GZIP : token);
+    }
+
+    /**
+     * All the available codecs, by content coding.
+     */
+    public static Map<String, CompressionCodec> available() {
+        return Registry.ALL;
+    }
+
+    private static CompressionCodec require(@CheckForNull CompressionCodec codec, String library) {
+        if (codec == null) {
+            throw new IllegalStateException(library + " is not available on the classpath");
+        }
+        return codec;
+    }
+
+    private static int checkLevel(int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("compression level must be between -1 and 9");
+        }
+        return level;
+    }
+
+    /**
+     * The optional and registered codecs, looked up on first use so that the classpath is only scanned when needed.
+     */
+    private static final class Registry {
+        @CheckForNull
+        static final CompressionCodec ZSTD = ReflectiveCompressionCodec.load(
+            CompressionCodecs.ZSTD,
+            "com.github.luben.zstd.ZstdOutputStream",
+            "com.github.luben.zstd.ZstdInputStream"
+        );
+
+        @CheckForNull
+        static final CompressionCodec LZ4 = ReflectiveCompressionCodec.load(
+            CompressionCodecs.LZ4,
+            "net.jpountz.lz4.LZ4FrameOutputStream",
+            "net.jpountz.lz4.LZ4FrameInputStream"
+        );
+
+        static final Map<String, CompressionCodec> ALL = load();
+
+        private static Map<String, CompressionCodec> load() {
+            final Map<String, CompressionCodec> codecs = new LinkedHashMap<>();
+            codecs.put(GZIP, gzip());
+            codecs.put(DEFLATE, deflate());
+            if (ZSTD != null) {
+                codecs.put(ZSTD.contentEncoding(), ZSTD);
+            }
+            if (LZ4 != null) {
+                codecs.put(LZ4.contentEncoding(), LZ4);
+            }
+            for (CompressionCodec codec : loadServices()) {
+                codecs.put(codec.contentEncoding().toLowerCase(Locale.ROOT), codec);
+            }
+            return Collections.unmodifiableMap(codecs);
+        }
+
+        private static List<CompressionCodec> loadServices() {
+            final List<CompressionCodec> codecs = new ArrayList<>();
+            final ClassLoader loader = CompressionCodecs.class.getClassLoader();
+            final Iterator<CompressionCodec> services = ServiceLoader.load(CompressionCodec.class, loader).iterator();
+            while (true) {
+                try {
+                    if (!services.hasNext()) {
+                        return codecs;
+                    }
+                    codecs.add(services.next());
+                } catch (ServiceConfigurationError e) {
+                    logger.warn("Failed to load a compression codec", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.opensearch.client.util.DeflaterPool;
+import org.opensearch.client.util.PooledDeflaterOutputStream;
+import org.opensearch.client.util.PooledGzipOutputStream;
+
+/**
+ * The gzip and deflate (zlib format) codecs, compressing with deflaters borrowed from a {@link DeflaterPool}.
+ */
+final class DeflateCompressionCodec implements CompressionCodec {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final String contentEncoding;
+    private final DeflaterPool pool;
+
+    DeflateCompressionCodec(String contentEncoding, DeflaterPool pool) {
+        this.contentEncoding = contentEncoding;
+        this.pool = pool;
+    }
+
+    @Override
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+        if (pool.nowrap()) {
+            return new PooledGzipOutputStream(out, pool, BUFFER_SIZE);
+        }
+        return new PooledDeflaterOutputStream(out, pool, BUFFER_SIZE);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+        if (pool.nowrap()) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return new InflaterInputStream(in);
+    }
+
+    @Override
+    public String toString() {
+        return contentEncoding + "(level=" + pool.level() + ")";
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import javax.annotation.CheckForNull;
+
+/**
+ * A codec backed by the stream classes of an optional library, which are looked up by name so that the library is
+ * not needed at compile time.
+ */
+final class ReflectiveCompressionCodec implements CompressionCodec {
+    private final String contentEncoding;
+    private final Constructor<? extends OutputStream> outputStream;
+    private final Constructor<? extends InputStream> inputStream;
+
+    private ReflectiveCompressionCodec(
+        String contentEncoding,
+        Constructor<? extends OutputStream> outputStream,
+        Constructor<? extends InputStream> inputStream
+    ) {
+        this.contentEncoding = contentEncoding;
+        this.outputStream = outputStream;
+        this.inputStream = inputStream;
+    }
+
+    /**
+     * Creates a codec from stream classes that have constructors taking the wrapped stream as their only argument.
+     *
+     * @return the codec, or {@code null} if the classes are not on the classpath
+     */
+    @CheckForNull
+    static CompressionCodec load(String contentEncoding, String outputStreamClass, String inputStreamClass) {
+        try {
+            final ClassLoader loader = ReflectiveCompressionCodec.class.getClassLoader();
+            final Constructor<? extends OutputStream> out = Class.forName(outputStreamClass, true, loader)
+                .asSubclass(OutputStream.class)
+                .getConstructor(OutputStream.class);
+            final Constructor<? extends InputStream> in = Class.forName(inputStreamClass, true, loader)
+                .asSubclass(InputStream.class)
+                .getConstructor(InputStream.class);
+            return new ReflectiveCompressionCodec(contentEncoding, out, in);
+        } catch (ReflectiveOperationException | LinkageError | ClassCastException e) {
+            // Not on the classpath, or a version without the expected constructors. Native libraries may also fail to load.
+            return null;
+        }
+    }
+
+    @Override
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+        return newInstance(outputStream, out);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+        return newInstance(inputStream, in);
+    }
+
+    private static <T> T newInstance(Constructor<T> constructor, Object stream) throws IOException {
+        try {
+            return constructor.newInstance(stream);
+        } catch (InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create a " + constructor.getDeclaringClass().getName(), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return contentEncoding + "(" + outputStream.getDeclaringClass().getName() + ")";
+    }
+}
@@ -10,8 +10,6 @@ package org.opensearch.client.transport.httpclient5;
 
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -31,6 +29,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -40,10 +39,15 @@ import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 import javax.annotation.Nullable;
 import javax.net.ssl.SSLHandshakeException;
 import org.apache.commons.logging.Log;
@@ -70,7 +74,6 @@ import org.apache.hc.core5.http.HttpHost;
 import org.apache.hc.core5.http.HttpRequest;
 import org.apache.hc.core5.http.HttpStatus;
 import org.apache.hc.core5.http.io.entity.BufferedHttpEntity;
-import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
 import org.apache.hc.core5.http.message.BasicHeader;
@@ -92,13 +95,25 @@ import org.opensearch.client.transport.JsonEndpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
 import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.transport.httpclient5.internal.AdaptiveNodeSelector;
 import org.opensearch.client.transport.httpclient5.internal.HttpUriRequestProducer;
 import org.opensearch.client.transport.httpclient5.internal.Node;
 import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
 import org.opensearch.client.transport.httpclient5.internal.NodeState;
+import org.opensearch.client.transport.httpclient5.internal.SegmentedByteArrayEntity;
+import org.opensearch.client.transport.httpclient5.internal.StreamLimiter;
+import org.opensearch.client.transport.httpclient5.internal.StreamingAsyncResponseConsumer;
+import org.opensearch.client.transport.httpclient5.internal.StreamingJsonpEntity;
+import org.opensearch.client.transport.instrumentation.RequestEvent;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+import org.opensearch.client.util.BufferPool;
 import org.opensearch.client.util.MissingRequiredPropertyException;
+import org.opensearch.client.util.RequestUri;
+import org.opensearch.client.util.SegmentedByteArrayOutputStream;
 
 /**
  * Apache HttpClient 5 based client transport.
@@ -114,12 +129,32 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     private final AtomicInteger lastNodeIndex = new AtomicInteger(0);
     private volatile NodeTuple<List<Node>> nodeTuple;
     private final NodeSelector nodeSelector;
+    @Nullable
+    private final AdaptiveNodeSelector adaptiveNodeSelector;
     private final WarningsHandler warningsHandler;
     private final FailureListener failureListener;
     private final boolean compressionEnabled;
     private final boolean chunkedEnabled;
+    private final CompressionCodec compressionCodec;
+    private final String acceptEncoding;
+    private final int requestCompressionSize;
+    private final boolean streamingEnabled;
+    private final BufferPool bufferPool;
+    private final boolean responseStreamingEnabled;
+    private final Executor responseExecutor;
+    @Nullable
+    private final ExecutorService ownResponseExecutor;
+    @Nullable
+    private final StreamLimiter streamLimiter;
     private final String pathPrefix;
     private final List<Header> defaultHeaders;
+    @Nullable
+    private volatile Sniffer sniffer;
+    @Nullable
+    private volatile RequestHedger requestHedger;
+    @Nullable
+    private final ShardRouter shardRouter;
+    private final TransportInstrumentation instrumentation;
 
     public ApacheHttpClient5Transport(
         final CloseableHttpAsyncClient client,
@@ -133,6 +168,52 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         final boolean strictDeprecationMode,
         final boolean compressionEnabled,
         final boolean chunkedEnabled
+    ) {
+        this(
+            client,
+            defaultHeaders,
+            nodes,
+            mapper,
+            options,
+            pathPrefix,
+            failureListener,
+            nodeSelector,
+            strictDeprecationMode,
+            compressionEnabled,
+            chunkedEnabled,
+            false,
+            BufferPool.UNPOOLED,
+            false,
+            null,
+            0,
+            false,
+            CompressionCodecs.gzip(),
+            0,
+            TransportInstrumentation.NOOP
+        );
+    }
+
+    ApacheHttpClient5Transport(
+        final CloseableHttpAsyncClient client,
+        final Header[] defaultHeaders,
+        final List<Node> nodes,
+        final JsonpMapper mapper,
+        @Nullable TransportOptions options,
+        final String pathPrefix,
+        final FailureListener failureListener,
+        final NodeSelector nodeSelector,
+        final boolean strictDeprecationMode,
+        final boolean compressionEnabled,
+        final boolean chunkedEnabled,
+        final boolean streamingEnabled,
+        final BufferPool bufferPool,
+        final boolean responseStreamingEnabled,
+        @Nullable final Executor responseExecutor,
+        final int maxConcurrentStreamsPerNode,
+        final boolean shardAwareRoutingEnabled,
+        final CompressionCodec compressionCodec,
+        final int requestCompressionSize,
+        final TransportInstrumentation instrumentation
     ) {
         this.mapper = mapper;
         this.client = client;
@@ -141,9 +222,33 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         this.transportOptions = (options == null) ? ApacheHttpClient5Options.initialOptions() : ApacheHttpClient5Options.of(options);
         this.warningsHandler = strictDeprecationMode ? WarningsHandler.STRICT : WarningsHandler.PERMISSIVE;
         this.nodeSelector = (nodeSelector == null) ? NodeSelector.ANY : nodeSelector;
+        this.adaptiveNodeSelector = (nodeSelector instanceof AdaptiveNodeSelector) ? (AdaptiveNodeSelector) nodeSelector : null;
         this.failureListener = (failureListener == null) ? new FailureListener() : failureListener;
         this.chunkedEnabled = chunkedEnabled;
         this.compressionEnabled = compressionEnabled;
+        this.compressionCodec = Objects.requireNonNull(compressionCodec, "compressionCodec must not be null");
+        this.acceptEncoding = acceptEncoding(compressionCodec);
+        this.requestCompressionSize = requestCompressionSize;
+        this.streamingEnabled = streamingEnabled;
+        this.bufferPool = Objects.requireNonNull(bufferPool, "bufferPool must not be null");
+        this.responseStreamingEnabled = responseStreamingEnabled;
+        if (responseStreamingEnabled && responseExecutor == null) {
+            // Decoding blocks while the body is received: it must not hold threads of the common pool
+            this.ownResponseExecutor = Executors.newCachedThreadPool(r -> {
+                Thread t = Executors.defaultThreadFactory().newThread(r);
+                t.setName("opensearch-response-decoder#" + t.getId());
+                t.setDaemon(true);
+                return t;
+            });
+            this.responseExecutor = ownResponseExecutor;
+        } else {
+            // It's not ours, we will not shut it down.
+            this.ownResponseExecutor = null;
+            this.responseExecutor = responseExecutor;
+        }
+        this.streamLimiter = maxConcurrentStreamsPerNode > 0 ? new StreamLimiter(maxConcurrentStreamsPerNode) : null;
+        this.shardRouter = shardAwareRoutingEnabled ? new ShardRouter(this, ShardRouter.DEFAULT_REFRESH_INTERVAL_MILLIS) : null;
+        this.instrumentation = Objects.requireNonNull(instrumentation, "instrumentation must not be null");
         setNodes(nodes);
     }
 
@@ -153,17 +258,26 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         TransportOptions options
     ) throws IOException {
+        final RequestEvent event = RequestEvent.start(instrumentation, request, endpoint.method(request));
         try {
-            return performRequestAsync(request, endpoint, options).get();
-        } catch (final Exception ex) {
-            Exception cause = extractAndWrapCause(ex);
-            if (cause instanceof IOException) {
-                throw (IOException) cause;
+            final Response clientResp = await(executeRequest(request, endpoint, options, event));
+            // Decode on the calling thread rather than on an I/O reactor thread: the response body may still be being
+            // received, and deserializers may block (see SearchHitStream)
+            final ResponseT response;
+            try {
+                response = prepareResponse(clientResp, endpoint, event);
+            } catch (final IOException | RuntimeException ex) {
+                throw rethrow(ex);
             }
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
+            if (event != null) {
+                event.end(null);
+            }
+            return response;
+        } catch (final IOException | RuntimeException ex) {
+            if (event != null) {
+                event.end(ex);
             }
-            throw new IllegalStateException("unexpected exception type: must be either RuntimeException or IOException", cause);
+            throw ex;
         }
     }
 
@@ -173,27 +287,101 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         TransportOptions options
     ) {
+        final RequestEvent event = RequestEvent.start(instrumentation, request, endpoint.method(request));
+        final Function<Response, ResponseT> decoder = r -> {
+            try {
+                return (ResponseT) prepareResponse(r, endpoint, event);
+            } catch (final IOException ex) {
+                throw new CompletionException(ex);
+            }
+        };
 
+        final CompletableFuture<Response> future;
+        try {
+            future = executeRequest(request, endpoint, options, event);
+        } catch (final RuntimeException ex) {
+            if (event != null) {
+                event.end(ex);
+            }
+            throw ex;
+        }
+        final CompletableFuture<ResponseT> response;
+        if (responseStreamingEnabled) {
+            // The response body is fed by the I/O reactor threads: it can't be decoded on one of them
+            response = future.thenApplyAsync(decoder, responseExecutor);
+        } else {
+            response = future.thenApply(decoder);
+        }
+        if (event == null) {
+            return response;
+        }
+        return response.whenComplete((r, ex) -> event.end(ex));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (final Exception ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    private static IOException rethrow(Exception ex) throws IOException {
+        Exception cause = extractAndWrapCause(ex);
+        if (cause instanceof IOException) {
+            throw (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new IllegalStateException("unexpected exception type: must be either RuntimeException or IOException", cause);
+    }
+
+    private <RequestT, ResponseT, ErrorT> CompletableFuture<Response> executeRequest(
+        RequestT request,
+        Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+        TransportOptions options,
+        @Nullable RequestEvent event
+    ) {
         final ApacheHttpClient5Options requestOptions = (options == null) ? transportOptions : ApacheHttpClient5Options.of(options);
         final CompletableFuture<Response> future = new CompletableFuture<>();
+        final long serializationStartNanos = (event == null) ? 0 : System.nanoTime();
         final HttpUriRequestBase clientReq = prepareLowLevelRequest(request, endpoint, requestOptions);
+        if (event != null) {
+            // The length of compressed bodies that are not chunked is known once they are compressed
+            final HttpEntity entity = clientReq.getEntity();
+            final long requestBytes = (entity == null) ? -1 : entity.getContentLength();
+            event.onSerialized(System.nanoTime() - serializationStartNanos, requestBytes);
+        }
         final WarningsHandler warningsHandler = (requestOptions.getWarningsHandler() == null)
             ? this.warningsHandler
             : requestOptions.getWarningsHandler();
 
+        CompletableFuture<?> exchange = future;
         try {
-            performRequestAsync(nextNodes(), requestOptions, clientReq, warningsHandler, future);
+            final HttpHost preferredHost = (shardRouter == null) ? null : shardRouter.route(request);
+            final RequestHedger requestHedger = this.requestHedger;
+            if (requestHedger != null && RequestHedger.isHedgeable(request)) {
+                exchange = new HedgedExchange(
+                    requestHedger,
+                    nextNodes(preferredHost),
+                    requestOptions,
+                    clientReq,
+                    warningsHandler,
+                    future,
+                    event
+                ).start();
+            } else {
+                performRequestAsync(nextNodes(preferredHost), requestOptions, clientReq, warningsHandler, future, event);
+            }
         } catch (final IOException ex) {
             future.completeExceptionally(ex);
         }
 
-        return future.thenApply(r -> {
-            try {
-                return (ResponseT) prepareResponse(r, endpoint);
-            } catch (final IOException ex) {
-                throw new CompletionException(ex);
-            }
-        });
+        // Pooled request body buffers can only be released once the exchange, including retries and hedges, has completed
+        exchange.whenComplete((r, e) -> releaseRequestBody(clientReq));
+
+        return future;
     }
 
     @Override
@@ -208,7 +396,18 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
 
     @Override
     public void close() throws IOException {
+        Sniffer sniffer = this.sniffer;
+        if (sniffer != null) {
+            sniffer.close();
+        }
+        RequestHedger requestHedger = this.requestHedger;
+        if (requestHedger != null) {
+            requestHedger.close();
+        }
         client.close();
+        if (ownResponseExecutor != null) {
+            ownResponseExecutor.shutdown();
+        }
     }
 
     private void performRequestAsync(
@@ -216,69 +415,131 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         final ApacheHttpClient5Options options,
         final HttpUriRequestBase request,
         final WarningsHandler warningsHandler,
-        final CompletableFuture<Response> listener
+        final CompletableFuture<Response> listener,
+        @Nullable final RequestEvent event
     ) {
-        final RequestContext context = createContextForNextAttempt(options, request, nodeTuple.nodes.next(), nodeTuple.authCache);
-        Future<ClassicHttpResponse> future = client.execute(
-            context.requestProducer,
-            context.asyncResponseConsumer,
-            context.context,
-            new FutureCallback<ClassicHttpResponse>() {
-                @Override
-                public void completed(ClassicHttpResponse httpResponse) {
-                    try {
-                        ResponseOrResponseException responseOrResponseException = convertResponse(
-                            request,
-                            context.node,
-                            httpResponse,
-                            warningsHandler
-                        );
-                        if (responseOrResponseException.responseException == null) {
-                            listener.complete(responseOrResponseException.response);
-                        } else {
-                            if (nodeTuple.nodes.hasNext()) {
-                                performRequestAsync(nodeTuple, options, request, warningsHandler, listener);
+        final RequestContext context = createContextForNextAttempt(options, request, nodeTuple.nodes.next(), nodeTuple.authCache, event);
+        if (streamLimiter == null) {
+            execute(nodeTuple, options, request, warningsHandler, listener, context);
+            return;
+        }
+
+        final HttpHost host = context.node.getHost();
+        streamLimiter.execute(host, () -> {
+            try {
+                execute(nodeTuple, options, request, warningsHandler, listener, context);
+            } catch (RuntimeException e) {
+                listener.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void execute(
+        final NodeTuple<Iterator<Node>> nodeTuple,
+        final ApacheHttpClient5Options options,
+        final HttpUriRequestBase request,
+        final WarningsHandler warningsHandler,
+        final CompletableFuture<Response> listener,
+        final RequestContext context
+    ) {
+        final long startNanos = System.nanoTime();
+        if (adaptiveNodeSelector != null) {
+            adaptiveNodeSelector.onRequest(context.node);
+        }
+
+        final Future<ClassicHttpResponse> future;
+        try {
+            future = client.execute(
+                context.requestProducer,
+                context.asyncResponseConsumer,
+                context.context,
+                new FutureCallback<ClassicHttpResponse>() {
+                    @Override
+                    public void completed(ClassicHttpResponse httpResponse) {
+                        onAttemptCompleted(context, startNanos, httpResponse.getCode());
+                        try {
+                            ResponseOrResponseException responseOrResponseException = convertResponse(
+                                request,
+                                context.node,
+                                httpResponse,
+                                warningsHandler
+                            );
+                            if (responseOrResponseException.responseException == null) {
+                                listener.complete(responseOrResponseException.response);
                             } else {
-                                listener.completeExceptionally(responseOrResponseException.responseException);
+                                if (nodeTuple.nodes.hasNext()) {
+                                    performRequestAsync(nodeTuple, options, request, warningsHandler, listener, context.event);
+                                } else {
+                                    listener.completeExceptionally(responseOrResponseException.responseException);
+                                }
                             }
+                        } catch (Exception e) {
+                            listener.completeExceptionally(e);
                         }
-                    } catch (Exception e) {
-                        listener.completeExceptionally(e);
                     }
-                }
 
-                @Override
-                public void failed(Exception failure) {
-                    try {
-                        onFailure(context.node);
-                        if (nodeTuple.nodes.hasNext()) {
-                            performRequestAsync(nodeTuple, options, request, warningsHandler, listener);
-                        } else {
-                            listener.completeExceptionally(failure);
+                    @Override
+                    public void failed(Exception failure) {
+                        onAttemptCompleted(context, startNanos, -1);
+                        try {
+                            onFailure(context.node);
+                            if (nodeTuple.nodes.hasNext()) {
+                                performRequestAsync(nodeTuple, options, request, warningsHandler, listener, context.event);
+                            } else {
+                                listener.completeExceptionally(failure);
+                            }
+                        } catch (Exception e) {
+                            listener.completeExceptionally(e);
                         }
-                    } catch (Exception e) {
-                        listener.completeExceptionally(e);
                     }
-                }
 
-                @Override
-                public void cancelled() {
-                    listener.completeExceptionally(new CancellationException("request was cancelled"));
+                    @Override
+                    public void cancelled() {
+                        onAttemptCompleted(context, startNanos, -1);
+                        listener.completeExceptionally(new CancellationException("request was cancelled"));
+                    }
                 }
-            }
-        );
+            );
+        } catch (RuntimeException e) {
+            onAttemptCompleted(context, startNanos, -1);
+            throw e;
+        }
 
         if (future instanceof org.apache.hc.core5.concurrent.Cancellable) {
             request.setDependency((org.apache.hc.core5.concurrent.Cancellable) future);
         }
     }
 
+    private void onAttemptCompleted(RequestContext context, long startNanos, int status) {
+        final Node node = context.node;
+        if (adaptiveNodeSelector != null) {
+            final long tookNanos = System.nanoTime() - startNanos;
+            // Failures, cancelled attempts such as hedging losers, and overload responses are not latency samples
+            if (status > 0 && status < 500 && status != 429) {
+                adaptiveNodeSelector.onResponse(node, tookNanos);
+            } else {
+                adaptiveNodeSelector.onFailure(node, tookNanos);
+            }
+        }
+        if (streamLimiter != null) {
+            streamLimiter.release(node.getHost());
+        }
+        final RequestEvent event = context.event;
+        if (event != null) {
+            final long nowNanos = System.nanoTime();
+            // Requests that failed before being sent only spent time waiting for a connection
+            final long sentNanos = (context.sentNanos == 0) ? nowNanos : context.sentNanos;
+            event.onAttempt(node.getHost().toURI(), sentNanos - context.createdNanos, nowNanos - sentNanos, status);
+        }
+    }
+
     /**
-     * Replaces the nodes with which the client communicates.
+     * Replaces the nodes with which the client communicates. Nodes that are kept remain in the denylist if they were
+     * in it, and keep their statistics; the state kept for removed nodes is discarded.
      *
      * @param nodes the new nodes to communicate with.
      */
-    private void setNodes(Collection<Node> nodes) {
+    void setNodes(Collection<Node> nodes) {
         if (nodes == null || nodes.isEmpty()) {
             throw new IllegalArgumentException("nodes must not be null or empty");
         }
@@ -292,7 +553,46 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
             authCache.put(node.getHost(), new BasicScheme());
         }
         this.nodeTuple = new NodeTuple<>(Collections.unmodifiableList(new ArrayList<>(nodesByHost.values())), authCache);
-        this.denylist.clear();
+        this.denylist.keySet().retainAll(nodesByHost.keySet());
+        if (adaptiveNodeSelector != null) {
+            adaptiveNodeSelector.retainAll(nodesByHost.keySet());
+        }
+        if (streamLimiter != null) {
+            streamLimiter.retainAll(nodesByHost.keySet());
+        }
+        if (shardRouter != null) {
+            shardRouter.invalidateNodes();
+        }
+    }
+
+    /**
+     * The router of single document requests, if shard aware routing is enabled. Package private for testing.
+     */
+    @Nullable
+    ShardRouter shardRouter() {
+        return shardRouter;
+    }
+
+    /**
+     * Sets the sniffer refreshing the nodes, which is notified of failures and closed with this transport.
+     */
+    void setSniffer(Sniffer sniffer) {
+        this.sniffer = sniffer;
+    }
+
+    /**
+     * The hedger of read requests, if hedging is enabled. Package private for testing.
+     */
+    @Nullable
+    RequestHedger requestHedger() {
+        return requestHedger;
+    }
+
+    /**
+     * Sets the hedger of read requests, which is closed with this transport.
+     */
+    void setRequestHedger(RequestHedger requestHedger) {
+        this.requestHedger = requestHedger;
     }
 
     private ResponseOrResponseException convertResponse(
@@ -350,6 +650,18 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         return ignoreErrorCodes;
     }
 
+    /**
+     * Responses are decoded by the HTTP client, which supports gzip and deflate, and zstd with zstd-jni on the classpath:
+     * the codec used for requests is also accepted for responses when the client can decode it.
+     */
+    private static String acceptEncoding(CompressionCodec codec) {
+        final String encoding = codec.contentEncoding();
+        if (CompressionCodecs.DEFLATE.equals(encoding) || CompressionCodecs.ZSTD.equals(encoding)) {
+            return encoding + ", " + CompressionCodecs.GZIP;
+        }
+        return CompressionCodecs.GZIP;
+    }
+
     private static boolean isSuccessfulResponse(int statusCode) {
         return statusCode < 300;
     }
@@ -371,11 +683,22 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
      * If there are no living nodes that match the {@link NodeSelector}
      * this will return the dead node that matches the {@link NodeSelector}
      * that is closest to being revived.
+     * <p>
+     * A living node with the preferred host, if any, is tried first.
      * @throws IOException if no nodes are available
      */
-    private NodeTuple<Iterator<Node>> nextNodes() throws IOException {
+    private NodeTuple<Iterator<Node>> nextNodes(@Nullable HttpHost preferredHost) throws IOException {
         NodeTuple<List<Node>> nodeTuple = this.nodeTuple;
         Iterable<Node> hosts = selectNodes(nodeTuple, denylist, lastNodeIndex, nodeSelector);
+        if (preferredHost != null && hosts instanceof List) {
+            List<Node> selectedNodes = (List<Node>) hosts;
+            for (int i = 1; i < selectedNodes.size(); i++) {
+                if (selectedNodes.get(i).getHost().equals(preferredHost)) {
+                    Collections.swap(selectedNodes, 0, i);
+                    break;
+                }
+            }
+        }
         return new NodeTuple<>(hosts.iterator(), nodeTuple.authCache);
     }
 
@@ -417,6 +740,9 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                  * requests will try the nodes in a different order.
                  */
                 Collections.rotate(selectedLivingNodes, lastNodeIndex.getAndIncrement());
+                if (nodeSelector instanceof AdaptiveNodeSelector) {
+                    ((AdaptiveNodeSelector) nodeSelector).prioritize(selectedLivingNodes);
+                }
                 return selectedLivingNodes;
             }
         }
@@ -472,16 +798,24 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
             }
         }
         failureListener.onFailure(node);
+        if (shardRouter != null) {
+            shardRouter.invalidate();
+        }
+        Sniffer sniffer = this.sniffer;
+        if (sniffer != null) {
+            sniffer.sniffOnFailure();
+        }
     }
 
     private RequestContext createContextForNextAttempt(
         final ApacheHttpClient5Options options,
         final HttpUriRequestBase request,
         final Node node,
-        final AuthCache authCache
+        final AuthCache authCache,
+        @Nullable final RequestEvent event
     ) {
         request.reset();
-        return new RequestContext(options, request, node, authCache);
+        return new RequestContext(options, request, node, authCache, responseStreamingEnabled, event);
     }
 
     private <ResponseT, ErrorT> ResponseT prepareResponse(Response clientResp, Endpoint<?, ResponseT, ErrorT> endpoint) throws IOException {
@@ -489,13 +823,17 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         try {
             int statusCode = clientResp.getStatusLine().getStatusCode();
             if (statusCode == HttpStatus.SC_FORBIDDEN) {
-                throw new TransportException("Forbidden access", new ResponseException(clientResp));
+                throw new TransportException(statusCode, "Forbidden access", new ResponseException(clientResp));
             } else if (statusCode == HttpStatus.SC_UNAUTHORIZED) {
-                throw new TransportException("Unauthorized access", new ResponseException(clientResp));
+                throw new TransportException(statusCode, "Unauthorized access", new ResponseException(clientResp));
             } else if (endpoint.isError(statusCode)) {
                 HttpEntity entity = clientResp.getEntity();
                 if (entity == null) {
-                    throw new TransportException("Expecting a response body, but none was sent", new ResponseException(clientResp));
+                    throw new TransportException(
+                        statusCode,
+                        "Expecting a response body, but none was sent",
+                        new ResponseException(clientResp)
+                    );
                 }
 
                 if (endpoint instanceof GenericEndpoint) {
@@ -527,6 +865,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                     JsonpDeserializer<ErrorT> errorDeserializer = endpoint.errorDeserializer(statusCode);
                     if (errorDeserializer == null) {
                         throw new TransportException(
+                            statusCode,
                             "Request failed with status code '" + statusCode + "'",
                             new ResponseException(clientResp)
                         );
@@ -548,7 +887,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                             return response;
                         } catch (Exception respEx) {
                             // No better luck: throw the original error decoding exception
-                            throw new TransportException("Failed to decode error response", new ResponseException(clientResp));
+                            throw new TransportException(statusCode, "Failed to decode error response", new ResponseException(clientResp));
                         }
                     }
                 }
@@ -560,6 +899,24 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         }
     }
 
+    private <ResponseT, ErrorT> ResponseT prepareResponse(
+        Response clientResp,
+        Endpoint<?, ResponseT, ErrorT> endpoint,
+        @Nullable RequestEvent event
+    ) throws IOException {
+        if (event == null) {
+            return prepareResponse(clientResp, endpoint);
+        }
+        final HttpEntity entity = clientResp.getEntity();
+        final long responseBytes = (entity == null) ? -1 : entity.getContentLength();
+        final long startNanos = System.nanoTime();
+        try {
+            return prepareResponse(clientResp, endpoint);
+        } finally {
+            event.onDeserialized(System.nanoTime() - startNanos, responseBytes);
+        }
+    }
+
     private <RequestT> HttpUriRequestBase prepareLowLevelRequest(
         RequestT request,
         Endpoint<RequestT, ?, ?> endpoint,
@@ -571,22 +928,38 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
 
         final URI uri = buildUri(pathPrefix, path, params);
         final HttpUriRequestBase clientReq = new HttpUriRequestBase(method, uri);
-        if (endpoint.hasRequestBody()) {
+        if (endpoint.hasRequestBody() && streamingEnabled && !(request instanceof GenericSerializable)) {
+            // Request body is serialized lazily, chunk by chunk, on each attempt. The entity takes care of compression.
+            clientReq.setEntity(
+                new StreamingJsonpEntity(
+                    request,
+                    mapper,
+                    JsonContentType,
+                    compressionEnabled ? compressionCodec : null,
+                    StreamingJsonpEntity.DEFAULT_CHUNK_SIZE
+                )
+            );
+        } else if (endpoint.hasRequestBody()) {
             // Request has a body and must implement JsonpSerializable or NdJsonpSerializable
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            SegmentedByteArrayOutputStream baos = new SegmentedByteArrayOutputStream(bufferPool);
 
             ContentType contentType = JsonContentType;
-            if (request instanceof NdJsonpSerializable) {
-                writeNdJson((NdJsonpSerializable) request, baos);
-            } else if (request instanceof GenericSerializable) {
-                contentType = ContentType.parse(((GenericSerializable) request).serialize(baos));
-            } else {
-                JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
-                mapper.serialize(request, generator);
-                generator.close();
+            try {
+                if (request instanceof NdJsonpSerializable) {
+                    writeNdJson((NdJsonpSerializable) request, baos);
+                } else if (request instanceof GenericSerializable) {
+                    contentType = ContentType.parse(((GenericSerializable) request).serialize(baos));
+                } else {
+                    JsonGenerator generator = mapper.jsonProvider().createGenerator(baos);
+                    mapper.serialize(request, generator);
+                    generator.close();
+                }
+            } catch (RuntimeException e) {
+                baos.release();
+                throw e;
             }
 
-            addRequestBody(clientReq, new ByteArrayEntity(baos.toByteArray(), contentType));
+            addRequestBody(clientReq, new SegmentedByteArrayEntity(baos, contentType));
         }
 
         setHeaders(clientReq, options.headers());
@@ -598,13 +971,24 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         return clientReq;
     }
 
+    private static void releaseRequestBody(HttpUriRequestBase httpRequest) {
+        final HttpEntity entity = httpRequest.getEntity();
+        if (entity != null) {
+            try {
+                entity.close();
+            } catch (IOException e) {
+                logger.debug("Failed to release request body", e);
+            }
+        }
+    }
+
     private HttpUriRequestBase addRequestBody(HttpUriRequestBase httpRequest, HttpEntity entity) {
         if (entity != null) {
-            if (compressionEnabled) {
+            if (compressionEnabled && entity.getContentLength() >= requestCompressionSize) {
                 if (chunkedEnabled) {
-                    entity = new ContentCompressingEntity(entity, chunkedEnabled);
+                    entity = new ContentCompressingEntity(entity, chunkedEnabled, compressionCodec, bufferPool);
                 } else {
-                    entity = new ContentCompressingEntity(entity);
+                    entity = new ContentCompressingEntity(entity, compressionCodec, bufferPool);
                 }
             } else if (chunkedEnabled) {
                 entity = new ContentHttpEntity(entity, chunkedEnabled);
@@ -627,7 +1011,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
             }
         }
         if (compressionEnabled) {
-            httpRequest.addHeader("Accept-Encoding", "gzip");
+            httpRequest.addHeader("Accept-Encoding", acceptEncoding);
         }
     }
 
@@ -664,7 +1048,11 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
             if (responseParser != null) {
                 // Expecting a body
                 if (entity == null) {
-                    throw new TransportException("Expecting a response body, but none was sent", new ResponseException(clientResp));
+                    throw new TransportException(
+                        statusCode,
+                        "Expecting a response body, but none was sent",
+                        new ResponseException(clientResp)
+                    );
                 }
                 InputStream content = entity.getContent();
                 try (JsonParser parser = mapper.jsonProvider().createParser(content)) {
@@ -772,7 +1160,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
      * Write an nd-json value by serializing each of its items on a separate line, recursing if its items themselves implement
      * {@link NdJsonpSerializable} to flattening nested structures.
      */
-    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream baos) {
+    private void writeNdJson(NdJsonpSerializable value, SegmentedByteArrayOutputStream baos) {
         Iterator<?> values = value._serializables();
         while (values.hasNext()) {
             Object item = values.next();
@@ -790,6 +1178,12 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     private static URI buildUri(String pathPrefix, String path, Map<String, String> params) {
         Objects.requireNonNull(path, "path must not be null");
         try {
+            // Paths built by the endpoints are already encoded, and don't need to go through the URIBuilder
+            final String uri = RequestUri.format(pathPrefix, path, params);
+            if (uri != null) {
+                return new URI(uri);
+            }
+
             String fullPath;
             if (pathPrefix != null && pathPrefix.isEmpty() == false) {
                 if (pathPrefix.endsWith("/") && path.startsWith("/")) {
@@ -818,23 +1212,277 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         }
     }
 
+    /**
+     * A read request that is sent again to another node if it didn't complete after the delay given by the
+     * {@link RequestHedger}. The first successful response completes the request and cancels the other attempt, and the
+     * request fails if both attempts fail. Each attempt retries on the nodes that were not tried yet by either attempt.
+     */
+    private final class HedgedExchange {
+        private final RequestHedger requestHedger;
+        private final SharedNodes nodes;
+        private final AuthCache authCache;
+        private final ApacheHttpClient5Options options;
+        private final HttpUriRequestBase request;
+        private final WarningsHandler warningsHandler;
+        private final CompletableFuture<Response> listener;
+        @Nullable
+        private final RequestEvent event;
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private final long startNanos = System.nanoTime();
+        // Guarded by this
+        @Nullable
+        private ScheduledFuture<?> scheduledHedge;
+        @Nullable
+        private HttpUriRequestBase hedgeRequest;
+        private int pendingAttempts;
+        private boolean completed;
+        @Nullable
+        private Throwable failure;
+
+        HedgedExchange(
+            final RequestHedger requestHedger,
+            final NodeTuple<Iterator<Node>> nodeTuple,
+            final ApacheHttpClient5Options options,
+            final HttpUriRequestBase request,
+            final WarningsHandler warningsHandler,
+            final CompletableFuture<Response> listener,
+            @Nullable final RequestEvent event
+        ) {
+            this.requestHedger = requestHedger;
+            this.nodes = new SharedNodes(nodeTuple.nodes);
+            this.authCache = nodeTuple.authCache;
+            this.options = options;
+            this.request = request;
+            this.warningsHandler = warningsHandler;
+            this.listener = listener;
+            this.event = event;
+        }
+
+        /**
+         * Sends the request, and schedules the hedge.
+         *
+         * @return a future completed once all the attempts have completed
+         */
+        CompletableFuture<Void> start() {
+            synchronized (this) {
+                pendingAttempts = 1;
+            }
+            final CompletableFuture<Response> attempt = new CompletableFuture<>();
+            attempt.whenComplete((response, ex) -> onAttemptCompleted(response, ex, request));
+            performRequestAsync(new NodeTuple<>(nodes.iterator(null), authCache), options, request, warningsHandler, attempt, event);
+
+            final ScheduledFuture<?> hedge = nodes.hasRemaining() ? requestHedger.schedule(this::hedge) : null;
+            if (hedge != null) {
+                synchronized (this) {
+                    if (completed) {
+                        hedge.cancel(false);
+                    } else {
+                        scheduledHedge = hedge;
+                    }
+                }
+            }
+            return completion;
+        }
+
+        private void hedge() {
+            final HttpUriRequestBase hedgeRequest;
+            final Node node;
+            synchronized (this) {
+                if (completed || !nodes.hasRemaining() || !requestHedger.tryAcquire()) {
+                    return;
+                }
+                node = nodes.poll();
+                if (node == null) {
+                    return;
+                }
+                // The original request is modified by its attempts, the hedge needs its own copy
+                hedgeRequest = new HttpUriRequestBase(request.getMethod(), URI.create(request.getRequestUri()));
+                hedgeRequest.setHeaders(request.getHeaders());
+                hedgeRequest.setEntity(request.getEntity());
+                hedgeRequest.setConfig(request.getConfig());
+                this.hedgeRequest = hedgeRequest;
+                pendingAttempts++;
+            }
+            if (logger.isDebugEnabled()) {
+                logger.debug("hedging request [" + request.getMethod() + " " + request.getRequestUri() + "]");
+            }
+            final CompletableFuture<Response> attempt = new CompletableFuture<>();
+            attempt.whenComplete((response, ex) -> onAttemptCompleted(response, ex, hedgeRequest));
+            try {
+                performRequestAsync(
+                    new NodeTuple<>(nodes.iterator(node), authCache),
+                    options,
+                    hedgeRequest,
+                    warningsHandler,
+                    attempt,
+                    event
+                );
+            } catch (RuntimeException e) {
+                attempt.completeExceptionally(e);
+            }
+        }
+
+        private void onAttemptCompleted(@Nullable Response response, @Nullable Throwable ex, HttpUriRequestBase attemptRequest) {
+            HttpUriRequestBase loser = null;
+            boolean succeeded = false;
+            boolean failed = false;
+            final boolean done;
+            synchronized (this) {
+                pendingAttempts--;
+                if (!completed) {
+                    if (ex == null) {
+                        completed = succeeded = true;
+                        loser = (attemptRequest == request) ? hedgeRequest : request;
+                    } else {
+                        // Report the failure of the original request first
+                        if (failure == null) {
+                            failure = ex;
+                        } else if (attemptRequest == request) {
+                            ex.addSuppressed(failure);
+                            failure = ex;
+                        } else {
+                            failure.addSuppressed(ex);
+                        }
+                        completed = failed = pendingAttempts == 0;
+                    }
+                    if (completed && scheduledHedge != null) {
+                        scheduledHedge.cancel(false);
+                    }
+                }
+                done = completed && pendingAttempts == 0;
+            }
+
+            if (succeeded) {
+                requestHedger.onResponse(System.nanoTime() - startNanos);
+                listener.complete(response);
+                if (loser != null) {
+                    loser.cancel();
+                }
+            } else if (failed) {
+                listener.completeExceptionally(failure);
+            } else if (response != null) {
+                // Both attempts succeeded: discard the response that lost
+                discard(response);
+            }
+            if (done) {
+                completion.complete(null);
+            }
+        }
+    }
+
+    private void discard(Response response) {
+        final HttpEntity entity = response.getEntity();
+        if (entity == null) {
+            return;
+        }
+        if (responseStreamingEnabled) {
+            // The rest of a streamed body can't be read on an I/O reactor thread
+            try {
+                CompletableFuture.runAsync(() -> EntityUtils.consumeQuietly(entity), responseExecutor);
+            } catch (RejectedExecutionException e) {
+                // The transport is closed, and so is the connection of the response
+                EntityUtils.consumeQuietly(entity);
+            }
+        } else {
+            EntityUtils.consumeQuietly(entity);
+        }
+    }
+
+    /**
+     * The nodes of a hedged request, shared by its attempts so that each node is tried by only one of them.
+     */
+    private static final class SharedNodes {
+        private final List<Node> nodes = new ArrayList<>();
+        private final AtomicInteger nextNode = new AtomicInteger();
+
+        SharedNodes(Iterator<Node> nodes) {
+            nodes.forEachRemaining(this.nodes::add);
+        }
+
+        boolean hasRemaining() {
+            return nextNode.get() < nodes.size();
+        }
+
+        /**
+         * Takes the next node that wasn't tried yet.
+         */
+        @Nullable
+        Node poll() {
+            final int index = nextNode.getAndIncrement();
+            return index < nodes.size() ? nodes.get(index) : null;
+        }
+
+        /**
+         * An iterator for the attempts of a single request, which must not be used concurrently. A node is taken from
+         * the shared nodes as soon as {@code hasNext()} is called, so that another attempt can't take it before
+         * {@code next()} is called.
+         *
+         * @param first the node taken for the first attempt, if any
+         */
+        Iterator<Node> iterator(@Nullable Node first) {
+            return new Iterator<Node>() {
+                @Nullable
+                private Node taken = first;
+
+                @Override
+                public boolean hasNext() {
+                    if (taken == null) {
+                        taken = poll();
+                    }
+                    return taken != null;
+                }
+
+                @Override
+                public Node next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    final Node node = taken;
+                    taken = null;
+                    return node;
+                }
+            };
+        }
+    }
+
     private static class RequestContext {
         private final Node node;
         private final AsyncRequestProducer requestProducer;
         private final AsyncResponseConsumer<ClassicHttpResponse> asyncResponseConsumer;
         private final HttpClientContext context;
+        @Nullable
+        private final RequestEvent event;
+        // Only measured when the request is instrumented
+        private final long createdNanos;
+        private volatile long sentNanos;
 
         RequestContext(
             final ApacheHttpClient5Options options,
             final HttpUriRequestBase request,
             final Node node,
-            final AuthCache authCache
+            final AuthCache authCache,
+            final boolean responseStreamingEnabled,
+            @Nullable final RequestEvent event
         ) {
             this.node = node;
+            this.event = event;
             this.requestProducer = HttpUriRequestProducer.create(request, node.getHost());
-            this.asyncResponseConsumer = options.getHttpAsyncResponseConsumerFactory().createHttpAsyncResponseConsumer();
+            final AsyncResponseConsumer<ClassicHttpResponse> consumer = options.getHttpAsyncResponseConsumerFactory()
+                .createHttpAsyncResponseConsumer();
+            this.asyncResponseConsumer = responseStreamingEnabled ? new StreamingAsyncResponseConsumer(consumer) : consumer;
             this.context = HttpClientContext.create();
             context.setAuthCache(new WrappingAuthCache(context, authCache));
+            if (event == null) {
+                this.createdNanos = 0;
+            } else {
+                this.createdNanos = System.nanoTime();
+                context.setAttribute(RequestSentAsyncExec.ATTRIBUTE, (Runnable) () -> {
+                    // Requests retried internally by the client are sent again
+                    if (sentNanos == 0) {
+                        sentNanos = System.nanoTime();
+                    }
+                });
+            }
         }
     }
 
@@ -931,12 +1579,19 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
     }
 
     /**
-     * A gzip compressing entity that also implements {@code getContent()}.
+     * A compressing entity, gzip unless another {@link CompressionCodec} is given, that also implements
+     * {@code getContent()}.
+     * <p>
+     * The content is compressed at most once: the compressed bytes are kept the first time they are needed, either to
+     * compute the content length, to read the content or to write it out, and reused for every attempt of the request
+     * until the entity is closed. With chunked encoding, the first attempt writes the compressed bytes out as they are
+     * produced and keeps a copy of them.
      */
     public static class ContentCompressingEntity extends HttpEntityWrapper {
-        private static final String GZIP_CODEC = "gzip";
-
         private Optional<Boolean> chunkedEnabled;
+        private final CompressionCodec codec;
+        private final BufferPool bufferPool;
+        private SegmentedByteArrayOutputStream compressed;
 
         /**
          * Creates a {@link ContentCompressingEntity} instance with the provided HTTP entity.
@@ -944,8 +1599,18 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
          * @param entity the HTTP entity.
          */
         public ContentCompressingEntity(HttpEntity entity) {
-            super(entity);
-            this.chunkedEnabled = Optional.empty();
+            this(entity, CompressionCodecs.gzip(), BufferPool.UNPOOLED);
+        }
+
+        /**
+         * Creates a {@link ContentCompressingEntity} instance with the provided HTTP entity.
+         *
+         * @param entity the HTTP entity.
+         * @param codec the codec compressing the content.
+         * @param bufferPool the pool of the segments holding the compressed content.
+         */
+        public ContentCompressingEntity(HttpEntity entity, CompressionCodec codec, BufferPool bufferPool) {
+            this(entity, Optional.empty(), codec, bufferPool);
         }
 
         /**
@@ -953,7 +1618,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
          */
         @Override
         public String getContentEncoding() {
-            return GZIP_CODEC;
+            return codec.contentEncoding();
         }
 
         /**
@@ -963,8 +1628,31 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
          * @param chunkedEnabled force enable/disable chunked transfer-encoding.
          */
         public ContentCompressingEntity(HttpEntity entity, boolean chunkedEnabled) {
+            this(entity, chunkedEnabled, CompressionCodecs.gzip(), BufferPool.UNPOOLED);
+        }
+
+        /**
+         * Creates a {@link ContentCompressingEntity} instance with the provided HTTP entity.
+         *
+         * @param entity the HTTP entity.
+         * @param chunkedEnabled force enable/disable chunked transfer-encoding.
+         * @param codec the codec compressing the content.
+         * @param bufferPool the pool of the segments holding the compressed content.
+         */
+        public ContentCompressingEntity(HttpEntity entity, boolean chunkedEnabled, CompressionCodec codec, BufferPool bufferPool) {
+            this(entity, Optional.of(chunkedEnabled), codec, bufferPool);
+        }
+
+        private ContentCompressingEntity(
+            HttpEntity entity,
+            Optional<Boolean> chunkedEnabled,
+            CompressionCodec codec,
+            BufferPool bufferPool
+        ) {
             super(entity);
-            this.chunkedEnabled = Optional.of(chunkedEnabled);
+            this.chunkedEnabled = chunkedEnabled;
+            this.codec = Objects.requireNonNull(codec, "codec must not be null");
+            this.bufferPool = Objects.requireNonNull(bufferPool, "bufferPool must not be null");
         }
 
         /**
@@ -972,11 +1660,7 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
          */
         @Override
         public InputStream getContent() throws IOException {
-            ByteArrayInputOutputStream out = new ByteArrayInputOutputStream(1024);
-            try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
-                super.writeTo(gzipOut);
-            }
-            return out.asInput();
+            return compressed().asInputStream();
         }
 
         /**
@@ -1000,20 +1684,11 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
                 if (chunkedEnabled.get()) {
                     return -1L;
                 } else {
-                    long size = 0;
-                    final byte[] buf = new byte[8192];
-                    int nread = 0;
-
-                    try (InputStream is = getContent()) {
-                        // read to EOF which may read more or less than buffer size
-                        while ((nread = is.read(buf)) > 0) {
-                            size += nread;
-                        }
+                    try {
+                        return compressed().size();
                     } catch (IOException ex) {
-                        size = -1L;
+                        return -1L;
                     }
-
-                    return size;
                 }
             } else {
                 return -1;
@@ -1028,11 +1703,122 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         @Override
         public void writeTo(final OutputStream outStream) throws IOException {
             Args.notNull(outStream, "Output stream");
-            final GZIPOutputStream gzip = new GZIPOutputStream(outStream);
-            super.writeTo(gzip);
-            // Only close output stream if the wrapped entity has been
-            // successfully written out
-            gzip.close();
+            final SegmentedByteArrayOutputStream content = cached();
+            if (content != null) {
+                content.writeTo(outStream);
+                return;
+            }
+            // Nothing was compressed yet: compress to the output stream, and keep a copy of the compressed bytes for the
+            // next attempts. Closing the compressing stream finishes the compressed content but leaves the output
+            // stream open.
+            final CopyingOutputStream copying = new CopyingOutputStream(outStream, new SegmentedByteArrayOutputStream(bufferPool));
+            try (OutputStream compressing = codec.compress(copying)) {
+                super.writeTo(compressing);
+            } catch (IOException | RuntimeException e) {
+                copying.copy.release();
+                throw e;
+            }
+            keep(copying.copy);
+            if (copying.failure != null) {
+                throw copying.failure;
+            }
+        }
+
+        /**
+         * Releases the compressed content, and closes the wrapped entity.
+         */
+        @Override
+        public void close() throws IOException {
+            synchronized (this) {
+                if (compressed != null) {
+                    compressed.release();
+                    compressed = null;
+                }
+            }
+            super.close();
+        }
+
+        private synchronized SegmentedByteArrayOutputStream cached() {
+            return compressed;
+        }
+
+        private synchronized void keep(SegmentedByteArrayOutputStream copy) {
+            if (compressed == null) {
+                compressed = copy;
+            } else {
+                // Another attempt compressed the content at the same time
+                copy.release();
+            }
+        }
+
+        private synchronized SegmentedByteArrayOutputStream compressed() throws IOException {
+            if (compressed == null) {
+                final SegmentedByteArrayOutputStream out = new SegmentedByteArrayOutputStream(bufferPool);
+                try (OutputStream compressing = codec.compress(out)) {
+                    super.writeTo(compressing);
+                } catch (IOException | RuntimeException e) {
+                    out.release();
+                    throw e;
+                }
+                compressed = out;
+            }
+            return compressed;
+        }
+    }
+
+    /**
+     * An output stream that writes to the request and keeps a copy of what is written. It is not closed with the
+     * stream wrapping it, and a failure of the request stops the writes to the request but not the copy, so that the
+     * copy is complete for the next attempt.
+     */
+    private static class CopyingOutputStream extends OutputStream {
+        private final OutputStream out;
+        private final SegmentedByteArrayOutputStream copy;
+        private IOException failure;
+
+        CopyingOutputStream(OutputStream out, SegmentedByteArrayOutputStream copy) {
+            this.out = out;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(int b) {
+            copy.write(b);
+            if (failure == null) {
+                try {
+                    out.write(b);
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            copy.write(b, off, len);
+            if (failure == null) {
+                try {
+                    out.write(b, off, len);
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            if (failure == null) {
+                try {
+                    out.flush();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
         }
     }
 
@@ -1075,19 +1861,6 @@ public class ApacheHttpClient5Transport implements OpenSearchTransport {
         }
     }
 
-    /**
-     * A ByteArrayOutputStream that can be turned into an input stream without copying the underlying buffer.
-     */
-    private static class ByteArrayInputOutputStream extends ByteArrayOutputStream {
-        ByteArrayInputOutputStream(int size) {
-            super(size);
-        }
-
-        public InputStream asInput() {
-            return new ByteArrayInputStream(this.buf, 0, this.count);
-        }
-    }
-
     /**
      * Wrap the exception so the caller's signature shows up in the stack trace, taking care to copy the original type and message
      * where possible so async and sync code don't have to check different exceptions.
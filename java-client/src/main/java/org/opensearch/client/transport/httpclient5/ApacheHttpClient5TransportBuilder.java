@@ -15,14 +15,19 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import org.apache.hc.client5.http.auth.CredentialsProvider;
 import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.ChainElement;
 import org.apache.hc.client5.http.impl.DefaultAuthenticationStrategy;
 import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.ContentCompressionAsyncExec;
+import org.apache.hc.client5.http.impl.async.H2AsyncClientBuilder;
 import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
@@ -40,8 +45,12 @@ import org.opensearch.client.RestClientBuilder;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
 import org.opensearch.client.transport.httpclient5.internal.Node;
 import org.opensearch.client.transport.httpclient5.internal.NodeSelector;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+import org.opensearch.client.util.BufferPool;
 
 public class ApacheHttpClient5TransportBuilder {
     /**
@@ -64,19 +73,62 @@ public class ApacheHttpClient5TransportBuilder {
      */
     public static final int DEFAULT_MAX_CONN_TOTAL = 30;
 
+    /**
+     * The default maximum of concurrent HTTP/2 streams per node.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_STREAMS_PER_NODE = 100;
+
+    /**
+     * The default interval between two sniffs of the nodes in milliseconds.
+     */
+    public static final int DEFAULT_SNIFF_INTERVAL_MILLIS = 5 * 60 * 1000;
+
+    /**
+     * The default delay between a sniff triggered by a failure and the next sniff in milliseconds.
+     */
+    public static final int DEFAULT_SNIFF_AFTER_FAILURE_DELAY_MILLIS = 60 * 1000;
+
+    /**
+     * The default percentile of the latency of read requests after which they are hedged.
+     */
+    public static final double DEFAULT_HEDGING_PERCENTILE = 0.95;
+
+    /**
+     * The default maximum ratio of hedges to hedgeable read requests.
+     */
+    public static final double DEFAULT_HEDGING_BUDGET = 0.05;
+
     private static final Header[] EMPTY_HEADERS = new Header[0];
 
     private final List<Node> nodes;
     private Header[] defaultHeaders = EMPTY_HEADERS;
     private ApacheHttpClient5Transport.FailureListener failureListener;
+    private TransportInstrumentation instrumentation = TransportInstrumentation.NOOP;
     private HttpClientConfigCallback httpClientConfigCallback;
+    private Http2ClientConfigCallback http2ClientConfigCallback;
     private RequestConfigCallback requestConfigCallback;
     private ConnectionConfigCallback connectionConfigCallback;
     private String pathPrefix;
     private NodeSelector nodeSelector = NodeSelector.ANY;
     private boolean strictDeprecationMode = false;
     private boolean compressionEnabled = false;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private CompressionCodec compressionCodec;
+    private int requestCompressionSize = 0;
     private Optional<Boolean> chunkedEnabled;
+    private boolean streamingEnabled = false;
+    private BufferPool bufferPool = BufferPool.UNPOOLED;
+    private boolean responseStreamingEnabled = false;
+    private Executor responseExecutor;
+    private boolean http2Enabled = false;
+    private int maxConcurrentStreamsPerNode = DEFAULT_MAX_CONCURRENT_STREAMS_PER_NODE;
+    private boolean sniffingEnabled = false;
+    private int sniffIntervalMillis = DEFAULT_SNIFF_INTERVAL_MILLIS;
+    private int sniffAfterFailureDelayMillis = DEFAULT_SNIFF_AFTER_FAILURE_DELAY_MILLIS;
+    private boolean shardAwareRoutingEnabled = false;
+    private boolean hedgingEnabled = false;
+    private double hedgingPercentile = DEFAULT_HEDGING_PERCENTILE;
+    private double hedgingBudget = DEFAULT_HEDGING_BUDGET;
     private JsonpMapper mapper;
     private TransportOptions options;
 
@@ -127,6 +179,18 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Sets the instrumentation receiving the time spent serializing, queueing, sending and deserializing each request.
+     * Defaults to {@link TransportInstrumentation#NOOP}, which doesn't record anything.
+     *
+     * @param instrumentation the instrumentation of the requests
+     * @throws NullPointerException if {@code instrumentation} is {@code null}.
+     */
+    public ApacheHttpClient5TransportBuilder setInstrumentation(TransportInstrumentation instrumentation) {
+        this.instrumentation = Objects.requireNonNull(instrumentation, "instrumentation must not be null");
+        return this;
+    }
+
     /**
      * Sets the {@link HttpClientConfigCallback} to be used to customize http client configuration
      *
@@ -139,6 +203,20 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@link Http2ClientConfigCallback} to be used to customize http client configuration when HTTP/2 is
+     * enabled, instead of the {@link HttpClientConfigCallback}.
+     *
+     * @param http2ClientConfigCallback the {@link Http2ClientConfigCallback} to be used
+     * @throws NullPointerException if {@code http2ClientConfigCallback} is {@code null}.
+     * @see #setHttp2Enabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setHttp2ClientConfigCallback(Http2ClientConfigCallback http2ClientConfigCallback) {
+        Objects.requireNonNull(http2ClientConfigCallback, "http2ClientConfigCallback must not be null");
+        this.http2ClientConfigCallback = http2ClientConfigCallback;
+        return this;
+    }
+
     /**
      * Sets the {@link RequestConfigCallback} to be used to customize http client configuration
      *
@@ -265,6 +343,50 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Sets the gzip compression level of request bodies, when compression is enabled. Lower levels trade a larger
+     * body for less CPU time. Ignored if a codec is set with {@link #setCompressionCodec(CompressionCodec)}.
+     *
+     * @param compressionLevel the compression level, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @throws IllegalArgumentException if {@code compressionLevel} is not a valid compression level.
+     */
+    public ApacheHttpClient5TransportBuilder setCompressionLevel(int compressionLevel) {
+        if (compressionLevel < Deflater.DEFAULT_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("compressionLevel must be between -1 and 9");
+        }
+        this.compressionLevel = compressionLevel;
+        return this;
+    }
+
+    /**
+     * Sets the codec compressing request bodies, when compression is enabled, instead of gzip. The codec is also
+     * advertised in the {@code Accept-Encoding} header, next to gzip, if the HTTP client can decode it, which is the
+     * case for deflate and, with zstd-jni on the classpath, zstd. The cluster must accept request bodies encoded with
+     * this codec.
+     *
+     * @param compressionCodec the codec, see {@link CompressionCodecs}
+     */
+    public ApacheHttpClient5TransportBuilder setCompressionCodec(CompressionCodec compressionCodec) {
+        this.compressionCodec = Objects.requireNonNull(compressionCodec, "compressionCodec must not be null");
+        return this;
+    }
+
+    /**
+     * Sets the size in bytes below which request bodies are sent uncompressed, when compression is enabled. Bodies
+     * whose size is not known in advance, like streamed bodies (see {@link #setStreamingEnabled(boolean)}), are always
+     * compressed. Defaults to 0, i.e. all the bodies are compressed.
+     *
+     * @param requestCompressionSize the minimum size of compressed request bodies
+     * @throws IllegalArgumentException if {@code requestCompressionSize} is negative.
+     */
+    public ApacheHttpClient5TransportBuilder setRequestCompressionSize(int requestCompressionSize) {
+        if (requestCompressionSize < 0) {
+            throw new IllegalArgumentException("requestCompressionSize must not be negative");
+        }
+        this.requestCompressionSize = requestCompressionSize;
+        return this;
+    }
+
     /**
      * Whether the REST client should use Transfer-Encoding: chunked for requests or not"
      *
@@ -275,6 +397,216 @@ public class ApacheHttpClient5TransportBuilder {
         return this;
     }
 
+    /**
+     * Whether request bodies should be serialized lazily, in chunks, while they are being sent instead of being
+     * fully materialized in memory beforehand. This mostly benefits large nd-json requests (like bulk requests), which
+     * then only hold a few serialized operations in memory at any time. Retries re-serialize the request.
+     * <p>
+     * Since the length of a streamed body is not known in advance, it is always sent with
+     * Transfer-Encoding: chunked, regardless of {@link #setChunkedEnabled(boolean)}. Requests implementing
+     * {@link org.opensearch.client.transport.GenericSerializable} are always buffered.
+     *
+     * @param streamingEnabled flag for enabling streaming of request bodies
+     */
+    public ApacheHttpClient5TransportBuilder setStreamingEnabled(boolean streamingEnabled) {
+        this.streamingEnabled = streamingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the pool that buffered request bodies borrow their memory from. Buffers are given back to the pool once the
+     * exchange, including retries, has completed. Defaults to {@link BufferPool#UNPOOLED}; a shared
+     * {@link org.opensearch.client.util.BoundedBufferPool} avoids allocating new buffers for each request.
+     *
+     * @param bufferPool the pool to use for request bodies
+     * @throws NullPointerException if {@code bufferPool} is {@code null}.
+     */
+    public ApacheHttpClient5TransportBuilder setBufferPool(BufferPool bufferPool) {
+        Objects.requireNonNull(bufferPool, "bufferPool must not be null");
+        this.bufferPool = bufferPool;
+        return this;
+    }
+
+    /**
+     * Whether successful response bodies should be deserialized while they are being received instead of being fully
+     * buffered in memory beforehand. Deserialization then overlaps with network I/O, and only a small window of the raw
+     * body is held in memory at any time, which mostly benefits large search and scroll responses. Error responses and
+     * responses carrying warnings are still buffered using the configured
+     * {@link HttpAsyncResponseConsumerFactory}.
+     * <p>
+     * Synchronous requests are deserialized on the calling thread. Asynchronous requests are deserialized on the
+     * executor set with {@link #setResponseExecutor(Executor)}, blocking one of its threads while the body is received.
+     *
+     * @param responseStreamingEnabled flag for enabling streaming of response bodies
+     */
+    public ApacheHttpClient5TransportBuilder setResponseStreamingEnabled(boolean responseStreamingEnabled) {
+        this.responseStreamingEnabled = responseStreamingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the executor that deserializes the responses of asynchronous requests when response streaming is enabled.
+     * Defaults to a pool of daemon threads owned by the transport, and shut down when it is closed.
+     *
+     * @param responseExecutor the executor deserializing streamed responses
+     * @throws NullPointerException if {@code responseExecutor} is {@code null}.
+     * @see #setResponseStreamingEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setResponseExecutor(Executor responseExecutor) {
+        Objects.requireNonNull(responseExecutor, "responseExecutor must not be null");
+        this.responseExecutor = responseExecutor;
+        return this;
+    }
+
+    /**
+     * Whether requests should be sent using HTTP/2, multiplexing concurrent requests as streams of a single connection
+     * to each node instead of using a pool of HTTP/1.1 connections, each of which only carries one request at a time.
+     * This saves connections and TLS handshakes when many small requests are sent concurrently.
+     * <p>
+     * HTTP/2 is negotiated with TLS ALPN for {@code https} nodes, and used with prior knowledge (h2c) for {@code http}
+     * nodes. Nodes must support HTTP/2: there is no fallback to HTTP/1.1.
+     * <p>
+     * The number of requests concurrently sent to each node is limited by
+     * {@link #setMaxConcurrentStreamsPerNode(int)}. The http client is customized with
+     * {@link #setHttp2ClientConfigCallback(Http2ClientConfigCallback)}, the {@link HttpClientConfigCallback} being
+     * ignored.
+     *
+     * @param http2Enabled flag for enabling HTTP/2
+     */
+    public ApacheHttpClient5TransportBuilder setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests concurrently sent to each node when HTTP/2 is enabled, which defaults to
+     * {@link #DEFAULT_MAX_CONCURRENT_STREAMS_PER_NODE}. Requests over this limit are queued until a request to the
+     * same node completes. It should not be greater than the number of concurrent streams nodes allow on a connection.
+     *
+     * @param maxConcurrentStreamsPerNode the maximum number of requests in flight to each node
+     * @throws IllegalArgumentException if {@code maxConcurrentStreamsPerNode} is lower than 1.
+     * @see #setHttp2Enabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setMaxConcurrentStreamsPerNode(int maxConcurrentStreamsPerNode) {
+        if (maxConcurrentStreamsPerNode < 1) {
+            throw new IllegalArgumentException("maxConcurrentStreamsPerNode must be at least 1");
+        }
+        this.maxConcurrentStreamsPerNode = maxConcurrentStreamsPerNode;
+        return this;
+    }
+
+    /**
+     * Whether the nodes the transport communicates with should be discovered from the cluster. The nodes given to the
+     * builder are then only used to sniff the nodes of the cluster with HTTP enabled, using the nodes info API. Nodes
+     * are sniffed when the transport is built, every {@link #setSniffIntervalMillis(int) sniff interval}, and when a
+     * request to a node fails. The {@link #setNodeSelector(NodeSelector) node selector} can use the roles and
+     * attributes of sniffed nodes, for instance to skip dedicated cluster manager nodes.
+     *
+     * @param sniffingEnabled flag for enabling sniffing
+     */
+    public ApacheHttpClient5TransportBuilder setSniffingEnabled(boolean sniffingEnabled) {
+        this.sniffingEnabled = sniffingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the interval between two sniffs of the nodes, which defaults to {@link #DEFAULT_SNIFF_INTERVAL_MILLIS}.
+     *
+     * @param sniffIntervalMillis the interval between two sniffs in milliseconds
+     * @throws IllegalArgumentException if {@code sniffIntervalMillis} is not greater than 0.
+     * @see #setSniffingEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setSniffIntervalMillis(int sniffIntervalMillis) {
+        if (sniffIntervalMillis <= 0) {
+            throw new IllegalArgumentException("sniffIntervalMillis must be greater than 0");
+        }
+        this.sniffIntervalMillis = sniffIntervalMillis;
+        return this;
+    }
+
+    /**
+     * Sets the delay between a sniff triggered by a failed request and the next sniff, which defaults to
+     * {@link #DEFAULT_SNIFF_AFTER_FAILURE_DELAY_MILLIS}. It is usually shorter than the sniff interval, so that the
+     * nodes are checked again soon when a node went away.
+     *
+     * @param sniffAfterFailureDelayMillis the delay after a sniff triggered by a failure in milliseconds
+     * @throws IllegalArgumentException if {@code sniffAfterFailureDelayMillis} is not greater than 0.
+     * @see #setSniffingEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setSniffAfterFailureDelayMillis(int sniffAfterFailureDelayMillis) {
+        if (sniffAfterFailureDelayMillis <= 0) {
+            throw new IllegalArgumentException("sniffAfterFailureDelayMillis must be greater than 0");
+        }
+        this.sniffAfterFailureDelayMillis = sniffAfterFailureDelayMillis;
+        return this;
+    }
+
+    /**
+     * Whether requests on a single document (get, index, update and delete by id) should be sent first to a node
+     * holding the shard of the document, saving the hop from the node receiving the request to the node holding the
+     * shard. Writes are sent to the node holding the primary shard, and reads to any node holding a copy of the shard.
+     * <p>
+     * The shard of a document is computed from the routing table of its index, which is read from the cluster state in
+     * the background the first time the index is used, and refreshed every minute or after a request failure. The
+     * client must be allowed to read the cluster state and the nodes info. This works best along with
+     * {@link #setSniffingEnabled(boolean) sniffing}, so that all the nodes holding shards are known.
+     *
+     * @param shardAwareRoutingEnabled flag for enabling shard aware routing
+     */
+    public ApacheHttpClient5TransportBuilder setShardAwareRoutingEnabled(boolean shardAwareRoutingEnabled) {
+        this.shardAwareRoutingEnabled = shardAwareRoutingEnabled;
+        return this;
+    }
+
+    /**
+     * Whether read requests (search, get, multi get and count) should be hedged: a request that didn't complete after
+     * a delay is sent again to another node, the first successful response is used and the other attempt is cancelled.
+     * This cuts the tail latency caused by a slow node, at the cost of some extra load.
+     * <p>
+     * The delay is the {@link #setHedgingPercentile(double) hedging percentile} of the latency of the last read
+     * requests, and requests are only hedged once the latency of 100 requests was recorded. The extra load is limited
+     * by the {@link #setHedgingBudget(double) hedging budget}. Requests are never hedged to a node that was already
+     * tried, so hedging requires at least two nodes.
+     *
+     * @param hedgingEnabled flag for enabling hedging
+     */
+    public ApacheHttpClient5TransportBuilder setHedgingEnabled(boolean hedgingEnabled) {
+        this.hedgingEnabled = hedgingEnabled;
+        return this;
+    }
+
+    /**
+     * Sets the percentile of the latency of read requests after which they are hedged, which defaults to
+     * {@link #DEFAULT_HEDGING_PERCENTILE}.
+     *
+     * @param hedgingPercentile the percentile, between 0 and 1 (excluded)
+     * @throws IllegalArgumentException if {@code hedgingPercentile} is not between 0 and 1 (excluded).
+     * @see #setHedgingEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setHedgingPercentile(double hedgingPercentile) {
+        if (!(hedgingPercentile > 0 && hedgingPercentile < 1)) {
+            throw new IllegalArgumentException("hedgingPercentile must be between 0 and 1 (excluded)");
+        }
+        this.hedgingPercentile = hedgingPercentile;
+        return this;
+    }
+
+    /**
+     * Sets the maximum ratio of hedges to hedgeable read requests, which defaults to {@link #DEFAULT_HEDGING_BUDGET},
+     * i.e. hedging adds at most 5% of read requests.
+     *
+     * @param hedgingBudget the ratio, between 0 (excluded) and 1
+     * @throws IllegalArgumentException if {@code hedgingBudget} is not between 0 (excluded) and 1.
+     * @see #setHedgingEnabled(boolean)
+     */
+    public ApacheHttpClient5TransportBuilder setHedgingBudget(double hedgingBudget) {
+        if (!(hedgingBudget > 0 && hedgingBudget <= 1)) {
+            throw new IllegalArgumentException("hedgingBudget must be between 0 (excluded) and 1");
+        }
+        this.hedgingBudget = hedgingBudget;
+        return this;
+    }
+
     /**
      * Creates a new {@link RestClient} based on the provided configuration.
      */
@@ -301,10 +633,27 @@ public class ApacheHttpClient5TransportBuilder {
             nodeSelector,
             strictDeprecationMode,
             compressionEnabled,
-            chunkedEnabled.orElse(false)
+            chunkedEnabled.orElse(false),
+            streamingEnabled,
+            bufferPool,
+            responseStreamingEnabled,
+            responseExecutor,
+            http2Enabled ? maxConcurrentStreamsPerNode : 0,
+            shardAwareRoutingEnabled,
+            compressionCodec != null ? compressionCodec : CompressionCodecs.gzip(compressionLevel),
+            requestCompressionSize,
+            instrumentation
         );
 
         httpClient.start();
+        if (hedgingEnabled) {
+            transport.setRequestHedger(new RequestHedger(hedgingPercentile, hedgingBudget));
+        }
+        if (sniffingEnabled) {
+            Sniffer sniffer = new Sniffer(transport, sniffIntervalMillis, sniffAfterFailureDelayMillis);
+            transport.setSniffer(sniffer);
+            sniffer.start();
+        }
         return transport;
     }
 
@@ -368,6 +717,10 @@ public class ApacheHttpClient5TransportBuilder {
                 })
                 .build();
 
+            if (http2Enabled) {
+                return createHttp2Client(requestConfigBuilder.build(), connectionConfigBuilder.build(), tlsStrategy);
+            }
+
             final PoolingAsyncClientConnectionManager connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
                 .setMaxConnPerRoute(DEFAULT_MAX_CONN_PER_ROUTE)
                 .setMaxConnTotal(DEFAULT_MAX_CONN_TOTAL)
@@ -380,6 +733,14 @@ public class ApacheHttpClient5TransportBuilder {
                 .setConnectionManager(connectionManager)
                 .setTargetAuthenticationStrategy(DefaultAuthenticationStrategy.INSTANCE)
                 .disableAutomaticRetries();
+            if (instrumentation != TransportInstrumentation.NOOP) {
+                // Runs once a connection was leased from the pool
+                httpClientBuilder.addExecInterceptorAfter(
+                    ChainElement.CONNECT.name(),
+                    RequestSentAsyncExec.NAME,
+                    new RequestSentAsyncExec()
+                );
+            }
             if (httpClientConfigCallback != null) {
                 httpClientBuilder = httpClientConfigCallback.customizeHttpClient(httpClientBuilder);
             }
@@ -391,6 +752,37 @@ public class ApacheHttpClient5TransportBuilder {
         }
     }
 
+    private CloseableHttpAsyncClient createHttp2Client(
+        RequestConfig requestConfig,
+        ConnectionConfig connectionConfig,
+        TlsStrategy tlsStrategy
+    ) {
+        // Requests to a node are multiplexed on a single connection, which is shared even while it is being established
+        H2AsyncClientBuilder httpClientBuilder = H2AsyncClientBuilder.create()
+            .setDefaultRequestConfig(requestConfig)
+            .setDefaultConnectionConfig(connectionConfig)
+            .setTlsStrategy(tlsStrategy)
+            .setTargetAuthenticationStrategy(DefaultAuthenticationStrategy.INSTANCE)
+            // Unlike the HTTP/1.1 client, the HTTP/2 client does not decode compressed responses by default. They are
+            // decompressed as they are received, so that buffered and streamed responses are both decoded.
+            .addExecInterceptorFirst(ChainElement.COMPRESS.name(), new ContentCompressionAsyncExec())
+            .disableAutomaticRetries();
+        if (instrumentation != TransportInstrumentation.NOOP) {
+            // There is no connection pool, the request is sent on the shared connection to the node
+            httpClientBuilder.addExecInterceptorBefore(
+                ChainElement.MAIN_TRANSPORT.name(),
+                RequestSentAsyncExec.NAME,
+                new RequestSentAsyncExec()
+            );
+        }
+        if (http2ClientConfigCallback != null) {
+            httpClientBuilder = http2ClientConfigCallback.customizeHttpClient(httpClientBuilder);
+        }
+
+        final H2AsyncClientBuilder finalBuilder = httpClientBuilder;
+        return AccessController.doPrivileged((PrivilegedAction<CloseableHttpAsyncClient>) finalBuilder::build);
+    }
+
     /**
      * Callback used the default {@link RequestConfig} being set to the {@link CloseableHttpClient}
      * @see HttpClientBuilder#setDefaultRequestConfig
@@ -440,4 +832,18 @@ public class ApacheHttpClient5TransportBuilder {
         HttpAsyncClientBuilder customizeHttpClient(HttpAsyncClientBuilder httpClientBuilder);
     }
 
+    /**
+     * Callback used to customize the {@link CloseableHttpAsyncClient} instance used when HTTP/2 is enabled.
+     * @see #setHttp2Enabled(boolean)
+     */
+    public interface Http2ClientConfigCallback {
+        /**
+         * Allows to customize the HTTP/2 {@link CloseableHttpAsyncClient} being created, for example to set the default
+         * {@link CredentialsProvider} or the {@link TlsStrategy}.
+         *
+         * @param httpClientBuilder the {@link H2AsyncClientBuilder} for customizing the client instance.
+         */
+        H2AsyncClientBuilder customizeHttpClient(H2AsyncClientBuilder httpClientBuilder);
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.Closeable;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.MgetRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+
+/**
+ * Decides when read requests (search, get, multi get and count) are hedged: when a request didn't complete after a
+ * delay, a duplicate is sent to another node and the first successful response wins.
+ * <p>
+ * The delay is a percentile of the latency of the last hedgeable requests, so that only the slowest requests are
+ * hedged. Requests are not hedged until enough latencies have been recorded. Hedges are also limited by a budget: each
+ * hedgeable request earns a fraction of a hedge, and a hedge is only sent if a whole one was earned, so that hedging
+ * adds at most this fraction of extra requests. Up to {@link #MAX_BURST} unused hedges are kept for bursts of slow
+ * requests.
+ * <p>
+ * Hedges are scheduled on a single daemon thread, which is stopped when the transport is closed.
+ */
+final class RequestHedger implements Closeable {
+    // Number of latencies recorded before hedging, and between two updates of the delay
+    static final int MIN_SAMPLES = 100;
+    // Maximum number of unused hedges kept for bursts of slow requests
+    static final int MAX_BURST = 10;
+
+    private static final int MAX_SAMPLES = 1024;
+    private static final long TOKENS_PER_HEDGE = 1000;
+
+    private final double percentile;
+    private final long tokensPerRequest;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final AtomicLong tokens = new AtomicLong();
+    private final long[] samples = new long[MAX_SAMPLES];
+    private long sampleCount;
+    private volatile long delayNanos = -1;
+
+    /**
+     * @param percentile the percentile of the latency of hedgeable requests after which they are hedged, between 0 and 1
+     * @param budget     the maximum ratio of hedges to hedgeable requests, between 0 and 1
+     */
+    RequestHedger(double percentile, double budget) {
+        this.percentile = percentile;
+        this.tokensPerRequest = Math.round(budget * TOKENS_PER_HEDGE);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("opensearch-java-hedger#" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        // Most hedges are cancelled, don't keep them until their delay expires
+        this.scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Whether a request is an idempotent read that can be hedged. Scroll searches are not: each of them opens a search
+     * context on the server, which would be left open by the request that loses.
+     */
+    static boolean isHedgeable(Object request) {
+        return (request instanceof SearchRequest && ((SearchRequest) request).scroll() == null)
+            || request instanceof GetRequest
+            || request instanceof MgetRequest
+            || request instanceof CountRequest;
+    }
+
+    /**
+     * Called when a hedgeable request is sent: earns its share of the budget, and schedules the hedge.
+     *
+     * @param hedge sends the hedge, if there is enough budget left when it runs
+     * @return the scheduled hedge, or {@code null} if not enough latencies were recorded yet
+     */
+    @Nullable
+    ScheduledFuture<?> schedule(Runnable hedge) {
+        final long max = MAX_BURST * TOKENS_PER_HEDGE;
+        tokens.getAndUpdate(t -> Math.min(max, t + tokensPerRequest));
+
+        final long delay = delayNanos;
+        if (delay < 0) {
+            return null;
+        }
+        try {
+            return scheduler.schedule(hedge, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // Closed
+            return null;
+        }
+    }
+
+    /**
+     * Takes a hedge from the budget.
+     *
+     * @return whether there was enough budget left
+     */
+    boolean tryAcquire() {
+        while (true) {
+            final long current = tokens.get();
+            if (current < TOKENS_PER_HEDGE) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKENS_PER_HEDGE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Records the latency of a successful hedgeable request, as seen by the caller.
+     */
+    void onResponse(long latencyNanos) {
+        final long[] sorted;
+        synchronized (samples) {
+            samples[(int) (sampleCount++ % MAX_SAMPLES)] = latencyNanos;
+            if (sampleCount % MIN_SAMPLES != 0) {
+                return;
+            }
+            sorted = Arrays.copyOf(samples, (int) Math.min(sampleCount, MAX_SAMPLES));
+        }
+        Arrays.sort(sorted);
+        // Nearest rank
+        delayNanos = sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+    }
+
+    /**
+     * The current delay before a request is hedged, or -1 if not enough latencies were recorded yet.
+     */
+    long delayNanos() {
+        return delayNanos;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
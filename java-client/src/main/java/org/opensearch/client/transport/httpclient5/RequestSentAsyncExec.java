@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import java.io.IOException;
+import org.apache.hc.client5.http.async.AsyncExecCallback;
+import org.apache.hc.client5.http.async.AsyncExecChain;
+import org.apache.hc.client5.http.async.AsyncExecChainHandler;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+
+/**
+ * Notifies instrumented requests when they are about to be sent, once a connection was leased from the pool, so that
+ * the time spent waiting for a connection can be told apart from the time spent on the network.
+ * <p>
+ * The notification is a {@link Runnable} found in the {@link #ATTRIBUTE} attribute of the client context, and is run
+ * again if the request is retried internally by the client.
+ */
+final class RequestSentAsyncExec implements AsyncExecChainHandler {
+    static final String NAME = "opensearch-request-sent";
+    static final String ATTRIBUTE = "opensearch.request-sent";
+
+    @Override
+    public void execute(
+        final HttpRequest request,
+        final AsyncEntityProducer entityProducer,
+        final AsyncExecChain.Scope scope,
+        final AsyncExecChain chain,
+        final AsyncExecCallback asyncExecCallback
+    ) throws HttpException, IOException {
+        final Object onSent = scope.clientContext.getAttribute(ATTRIBUTE);
+        if (onSent instanceof Runnable) {
+            ((Runnable) onSent).run();
+        }
+        chain.proceed(request, entityProducer, scope, asyncExecCallback);
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.opensearch.core.DeleteRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.UpdateRequest;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+import org.opensearch.client.transport.httpclient5.internal.Murmur3HashFunction;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+/**
+ * Finds the node holding the shard targeted by single document requests (get, index, update and delete by id), so
+ * that they can be sent to this node first and save the hop from the coordinating node to the shard. Writes go to the
+ * node of the primary shard, and reads to a random node holding a started copy of the shard.
+ * <p>
+ * The shard is computed like OpenSearch does, by hashing the routing value of the document (its id if no routing
+ * is given) with {@link Murmur3HashFunction}. The number of shards and routing shards of each index, and the nodes
+ * holding its shards, are read from the cluster state and cached. The first requests to an index, and the requests
+ * sent while the cache entry of the index is refreshed, are sent to the nodes in the usual order: cache entries are
+ * loaded in the background, without delaying requests. Cache entries are refreshed after a fixed interval, and
+ * dropped when a request fails or the nodes of the transport change. At most {@link #DEFAULT_MAX_INDICES} indices are
+ * cached: stale entries, then arbitrary ones, are dropped beyond that, so that index names built with date math don't
+ * grow the cache forever.
+ * <p>
+ * The hosts of the nodes of the cluster are read from the nodes info once, and read again when the nodes of the
+ * transport change or a routing table refers to a node that wasn't in the cluster yet.
+ * <p>
+ * Routing is a best effort: any node forwards requests to the right shard, so a stale cache entry only costs the
+ * extra hop again. Indices that can't be routed, like aliases and data streams resolving to several indices, or
+ * clusters where the client isn't allowed to read the cluster state, are cached as such.
+ */
+final class ShardRouter {
+    private static final Log logger = LogFactory.getLog(ShardRouter.class);
+
+    static final long DEFAULT_REFRESH_INTERVAL_MILLIS = 60_000;
+
+    static final int DEFAULT_MAX_INDICES = 1000;
+
+    private static final SimpleEndpoint<Void, JsonValue> NODES_ENDPOINT = new SimpleEndpoint<>(
+        request -> "GET",
+        request -> "/_nodes/http",
+        // The name keeps the nodes that have no HTTP address
+        request -> Collections.singletonMap("filter_path", "nodes.*.name,nodes.*.http.publish_address"),
+        SimpleEndpoint.emptyMap(),
+        false,
+        JsonpDeserializer.jsonValueDeserializer()
+    );
+
+    private static final SimpleEndpoint<String, JsonValue> STATE_ENDPOINT = new SimpleEndpoint<>(request -> "GET", request -> {
+        StringBuilder buf = new StringBuilder("/_cluster/state/metadata,routing_table/");
+        SimpleEndpoint.pathEncode(request, buf);
+        return buf.toString();
+    },
+        request -> Collections.singletonMap(
+            "filter_path",
+            "metadata.indices.*.routing_num_shards,metadata.indices.*.settings.index.number_of_shards,"
+                + "metadata.indices.*.settings.index.routing_partition_size,routing_table.indices"
+        ),
+        SimpleEndpoint.emptyMap(),
+        false,
+        JsonpDeserializer.jsonValueDeserializer()
+    );
+
+    private final ApacheHttpClient5Transport transport;
+    private final long refreshIntervalNanos;
+    private final int maxIndices;
+    private final ConcurrentMap<String, IndexRouting> indices = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    // The hosts of the nodes of the cluster by node id, or null until they are loaded for the current nodes
+    private final AtomicReference<CompletableFuture<Map<String, HttpHost>>> nodeHosts = new AtomicReference<>();
+
+    ShardRouter(ApacheHttpClient5Transport transport, long refreshIntervalMillis) {
+        this(transport, refreshIntervalMillis, DEFAULT_MAX_INDICES);
+    }
+
+    ShardRouter(ApacheHttpClient5Transport transport, long refreshIntervalMillis, int maxIndices) {
+        this.transport = transport;
+        this.refreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(refreshIntervalMillis);
+        this.maxIndices = maxIndices;
+    }
+
+    /**
+     * The host of the node a request should be sent to first, or {@code null} if the request doesn't target a single
+     * document or its shard isn't known yet.
+     *
+     * @param request the request
+     */
+    @Nullable
+    HttpHost route(Object request) {
+        if (request instanceof GetRequest) {
+            GetRequest get = (GetRequest) request;
+            // Preferences like _local decide on which node the document is read
+            if (get.preference() != null || get.routing().size() > 1) {
+                return null;
+            }
+            return route(get.index(), get.id(), get.routing().isEmpty() ? null : get.routing().get(0), false);
+        }
+        if (request instanceof IndexRequest) {
+            IndexRequest<?> index = (IndexRequest<?>) request;
+            // Documents without an id get a random one, and thus a random shard
+            return index.id() == null ? null : route(index.index(), index.id(), index.routing(), true);
+        }
+        if (request instanceof UpdateRequest) {
+            UpdateRequest<?, ?> update = (UpdateRequest<?, ?>) request;
+            return route(update.index(), update.id(), update.routing(), true);
+        }
+        if (request instanceof DeleteRequest) {
+            DeleteRequest delete = (DeleteRequest) request;
+            if (delete.routing().size() > 1) {
+                return null;
+            }
+            return route(delete.index(), delete.id(), delete.routing().isEmpty() ? null : delete.routing().get(0), true);
+        }
+        return null;
+    }
+
+    @Nullable
+    private HttpHost route(String index, String id, @Nullable String routing, boolean primary) {
+        IndexRouting indexRouting = indices.get(index);
+        long now = System.nanoTime();
+        if (indexRouting == null || now - indexRouting.loadedNanos > refreshIntervalNanos) {
+            refresh(index, now);
+        }
+        return indexRouting == null ? null : indexRouting.host(id, routing, primary);
+    }
+
+    /**
+     * Drops all cached routing tables.
+     */
+    void invalidate() {
+        indices.clear();
+    }
+
+    /**
+     * Drops all cached routing tables and the hosts of the nodes of the cluster, which are mapped to the nodes of the
+     * transport.
+     */
+    void invalidateNodes() {
+        nodeHosts.set(null);
+        indices.clear();
+    }
+
+    /**
+     * The number of indices whose routing table is cached.
+     */
+    int cachedIndices() {
+        return indices.size();
+    }
+
+    private void refresh(String index, long now) {
+        if (!refreshing.add(index)) {
+            return;
+        }
+        nodeHosts().thenCompose(hosts -> transport.performRequestAsync(index, STATE_ENDPOINT, null).thenApply(state -> {
+            JsonObject stateObject = state.asJsonObject();
+            if (hasUnknownNodes(stateObject, hosts)) {
+                // Nodes joined the cluster since the hosts were loaded
+                dropNodeHosts(hosts);
+            }
+            return parse(stateObject, hosts, now);
+        })).whenComplete((indexRouting, failure) -> {
+            if (failure != null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("failed to load the routing table of [" + index + "]", failure);
+                }
+                indexRouting = IndexRouting.unroutable(now);
+            }
+            indices.put(index, indexRouting);
+            refreshing.remove(index);
+            if (indices.size() > maxIndices) {
+                evict(now);
+            }
+        });
+    }
+
+    /**
+     * The hosts of the nodes of the cluster, loading them if needed.
+     */
+    private CompletableFuture<Map<String, HttpHost>> nodeHosts() {
+        while (true) {
+            CompletableFuture<Map<String, HttpHost>> hosts = nodeHosts.get();
+            if (hosts != null) {
+                return hosts;
+            }
+            CompletableFuture<Map<String, HttpHost>> loading = new CompletableFuture<>();
+            if (nodeHosts.compareAndSet(null, loading)) {
+                transport.performRequestAsync(null, NODES_ENDPOINT, null)
+                    .thenApply(nodes -> nodeHosts(nodes.asJsonObject()))
+                    .whenComplete((loaded, failure) -> {
+                        if (failure != null) {
+                            // Loaded again by the next refresh
+                            nodeHosts.compareAndSet(loading, null);
+                            loading.completeExceptionally(failure);
+                        } else {
+                            loading.complete(loaded);
+                        }
+                    });
+                return loading;
+            }
+        }
+    }
+
+    private void dropNodeHosts(Map<String, HttpHost> hosts) {
+        CompletableFuture<Map<String, HttpHost>> current = nodeHosts.get();
+        if (current != null && current.getNow(null) == hosts) {
+            nodeHosts.compareAndSet(current, null);
+        }
+    }
+
+    /**
+     * Drops the stale routing tables, and arbitrary ones if there are still too many.
+     */
+    private void evict(long now) {
+        indices.values().removeIf(indexRouting -> now - indexRouting.loadedNanos > refreshIntervalNanos);
+        Iterator<String> names = indices.keySet().iterator();
+        while (indices.size() > maxIndices && names.hasNext()) {
+            names.next();
+            names.remove();
+        }
+    }
+
+    /**
+     * Maps the ids of the nodes of the cluster to the hosts of the transport. Nodes that aren't nodes of the transport
+     * are mapped to {@code null}.
+     */
+    private Map<String, HttpHost> nodeHosts(JsonObject nodesInfo) {
+        Collection<Node> nodes = transport.getNodes().keySet();
+        Map<String, HttpHost> hosts = new HashMap<>();
+        JsonObject clusterNodes = nodesInfo.getJsonObject("nodes");
+        if (clusterNodes == null) {
+            return hosts;
+        }
+        for (Map.Entry<String, JsonValue> entry : clusterNodes.entrySet()) {
+            hosts.put(entry.getKey(), null);
+            JsonObject http = entry.getValue().asJsonObject().getJsonObject("http");
+            if (http == null) {
+                continue;
+            }
+            try {
+                HttpHost publishHost = Sniffer.parseHost("http", http.getString("publish_address"));
+                for (Node node : nodes) {
+                    if (sameAddress(node.getHost(), publishHost) || isBoundTo(node, publishHost)) {
+                        hosts.put(entry.getKey(), node.getHost());
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                logger.debug("ignoring node [" + entry.getKey() + "] with invalid address", e);
+            }
+        }
+        return hosts;
+    }
+
+    /**
+     * Whether the routing table refers to nodes that are not known.
+     *
+     * @param state     the metadata and routing table of an index
+     * @param nodeHosts the hosts of the nodes, by node id
+     */
+    static boolean hasUnknownNodes(JsonObject state, Map<String, HttpHost> nodeHosts) {
+        JsonObject routingTable = state.getJsonObject("routing_table");
+        JsonObject routingIndices = routingTable == null ? null : routingTable.getJsonObject("indices");
+        if (routingIndices == null) {
+            return false;
+        }
+        for (JsonValue index : routingIndices.values()) {
+            JsonObject shards = index.asJsonObject().getJsonObject("shards");
+            if (shards == null) {
+                continue;
+            }
+            for (JsonValue copies : shards.values()) {
+                for (JsonValue copy : copies.asJsonArray()) {
+                    JsonObject copyObject = copy.asJsonObject();
+                    if (!copyObject.isNull("node") && !nodeHosts.containsKey(copyObject.getString("node"))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBoundTo(Node node, HttpHost host) {
+        if (node.getBoundHosts() != null) {
+            for (HttpHost boundHost : node.getBoundHosts()) {
+                if (sameAddress(boundHost, host)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean sameAddress(HttpHost host1, HttpHost host2) {
+        return host1.getPort() == host2.getPort() && host1.getHostName().equalsIgnoreCase(host2.getHostName());
+    }
+
+    /**
+     * Reads the routing table of an index from the cluster state.
+     *
+     * @param state     the metadata and routing table of the index
+     * @param nodeHosts the hosts of the nodes, by node id
+     * @param now       the time the routing table was loaded at
+     */
+    static IndexRouting parse(JsonObject state, Map<String, HttpHost> nodeHosts, long now) {
+        JsonObject metadata = state.getJsonObject("metadata");
+        JsonObject indicesMetadata = metadata == null ? null : metadata.getJsonObject("indices");
+        if (indicesMetadata == null || indicesMetadata.size() != 1) {
+            // Missing index, or alias or data stream resolving to several indices
+            return IndexRouting.unroutable(now);
+        }
+        Map.Entry<String, JsonValue> index = indicesMetadata.entrySet().iterator().next();
+        JsonObject indexMetadata = index.getValue().asJsonObject();
+        JsonObject settings = indexMetadata.getJsonObject("settings").getJsonObject("index");
+        int numberOfShards = intValue(settings.get("number_of_shards"), -1);
+        int routingNumShards = intValue(indexMetadata.get("routing_num_shards"), numberOfShards);
+        int partitionSize = intValue(settings.get("routing_partition_size"), 1);
+        if (numberOfShards < 1) {
+            return IndexRouting.unroutable(now);
+        }
+
+        HttpHost[] primaries = new HttpHost[numberOfShards];
+        HttpHost[][] copies = new HttpHost[numberOfShards][];
+        JsonObject shards = state.getJsonObject("routing_table")
+            .getJsonObject("indices")
+            .getJsonObject(index.getKey())
+            .getJsonObject("shards");
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            List<HttpHost> started = new ArrayList<>();
+            for (JsonValue value : shards.getJsonArray(String.valueOf(shard))) {
+                JsonObject copy = value.asJsonObject();
+                HttpHost host = copy.isNull("node") ? null : nodeHosts.get(copy.getString("node"));
+                if (host != null && "STARTED".equals(copy.getString("state", null))) {
+                    started.add(host);
+                    if (copy.getBoolean("primary", false)) {
+                        primaries[shard] = host;
+                    }
+                }
+            }
+            copies[shard] = started.toArray(new HttpHost[0]);
+        }
+        return new IndexRouting(now, routingNumShards, routingNumShards / numberOfShards, partitionSize, primaries, copies);
+    }
+
+    private static int intValue(@Nullable JsonValue value, int defaultValue) {
+        if (value instanceof JsonNumber) {
+            return ((JsonNumber) value).intValue();
+        }
+        if (value instanceof JsonString) {
+            return Integer.parseInt(((JsonString) value).getString());
+        }
+        return defaultValue;
+    }
+
+    /**
+     * The routing table of an index.
+     */
+    static final class IndexRouting {
+        final long loadedNanos;
+        private final int routingNumShards;
+        private final int routingFactor;
+        private final int partitionSize;
+        @Nullable
+        private final HttpHost[] primaries;
+        @Nullable
+        private final HttpHost[][] copies;
+
+        IndexRouting(
+            long loadedNanos,
+            int routingNumShards,
+            int routingFactor,
+            int partitionSize,
+            HttpHost[] primaries,
+            HttpHost[][] copies
+        ) {
+            this.loadedNanos = loadedNanos;
+            this.routingNumShards = routingNumShards;
+            this.routingFactor = routingFactor;
+            this.partitionSize = partitionSize;
+            this.primaries = primaries;
+            this.copies = copies;
+        }
+
+        static IndexRouting unroutable(long loadedNanos) {
+            return new IndexRouting(loadedNanos, 0, 0, 0, null, null);
+        }
+
+        /**
+         * The shard of a document, computed like OpenSearch does.
+         */
+        int shardId(String id, @Nullable String routing) {
+            int hash;
+            if (routing == null) {
+                hash = Murmur3HashFunction.hash(id);
+            } else {
+                // With routing partitions, the id selects a shard among the shards the routing value maps to
+                int partitionOffset = partitionSize == 1 ? 0 : Math.floorMod(Murmur3HashFunction.hash(id), partitionSize);
+                hash = Murmur3HashFunction.hash(routing) + partitionOffset;
+            }
+            return Math.floorMod(hash, routingNumShards) / routingFactor;
+        }
+
+        @Nullable
+        HttpHost host(String id, @Nullable String routing, boolean primary) {
+            if (copies == null) {
+                return null;
+            }
+            int shard = shardId(id, routing);
+            if (primary) {
+                return primaries[shard];
+            }
+            HttpHost[] shardCopies = copies[shard];
+            return shardCopies.length == 0 ? null : shardCopies[ThreadLocalRandom.current().nextInt(shardCopies.length)];
+        }
+    }
+}
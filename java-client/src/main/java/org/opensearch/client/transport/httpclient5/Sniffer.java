@@ -0,0 +1,230 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.Nullable;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hc.core5.http.HttpHost;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+/**
+ * Periodically refreshes the nodes of an {@link ApacheHttpClient5Transport} with the nodes of the cluster that have
+ * HTTP enabled, as returned by the nodes info API ({@code _nodes/http}). The nodes are sniffed once when the sniffer
+ * is started, then at a fixed interval, and also right after a request to a node failed, in which case the following
+ * sniff happens after a shorter delay.
+ * <p>
+ * Sniffed nodes carry their roles, version and attributes, so that the {@link
+ * org.opensearch.client.transport.httpclient5.internal.NodeSelector} of the transport can filter them, for instance
+ * to skip dedicated cluster manager nodes. Nodes are sniffed on a single daemon thread, which is stopped when the
+ * transport is closed.
+ */
+final class Sniffer implements Closeable {
+    private static final Log logger = LogFactory.getLog(Sniffer.class);
+
+    // The response is parsed as a tree rather than as a NodesInfoResponse, as the roles of the nodes are an enum
+    // which doesn't cover all the roles nodes may have, like "search" or custom roles.
+    private static final SimpleEndpoint<String, JsonValue> ENDPOINT = new SimpleEndpoint<>(
+        request -> "GET",
+        request -> "/_nodes/http",
+        request -> Collections.singletonMap("timeout", request),
+        SimpleEndpoint.emptyMap(),
+        false,
+        JsonpDeserializer.jsonValueDeserializer()
+    );
+
+    // Time given to the node receiving the request to collect the information of all other nodes
+    private static final String SNIFF_REQUEST_TIMEOUT = "1s";
+
+    private final ApacheHttpClient5Transport transport;
+    private final long sniffIntervalMillis;
+    private final long sniffAfterFailureDelayMillis;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean sniffing = new AtomicBoolean();
+    @Nullable
+    private ScheduledFuture<?> nextSniff;
+    private boolean closed;
+
+    Sniffer(ApacheHttpClient5Transport transport, long sniffIntervalMillis, long sniffAfterFailureDelayMillis) {
+        this.transport = transport;
+        this.sniffIntervalMillis = sniffIntervalMillis;
+        this.sniffAfterFailureDelayMillis = sniffAfterFailureDelayMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = Executors.defaultThreadFactory().newThread(r);
+            t.setName("opensearch-java-sniffer#" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Sniffs the nodes immediately, then at the sniff interval.
+     */
+    void start() {
+        schedule(0, sniffIntervalMillis);
+    }
+
+    /**
+     * Called when a request to a node failed: sniffs the nodes immediately, unless they are already being sniffed,
+     * then after the sniff after failure delay. Failed sniff requests are ignored, so that sniffing a cluster that
+     * can't be reached doesn't loop.
+     */
+    void sniffOnFailure() {
+        if (!sniffing.get()) {
+            schedule(0, sniffAfterFailureDelayMillis);
+        }
+    }
+
+    private synchronized void schedule(long delayMillis, long nextDelayMillis) {
+        if (closed) {
+            return;
+        }
+        if (nextSniff != null) {
+            nextSniff.cancel(false);
+        }
+        nextSniff = scheduler.schedule(() -> sniff(nextDelayMillis), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void sniff(long nextDelayMillis) {
+        if (!sniffing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Node> nodes = sniffNodes();
+            if (nodes.isEmpty()) {
+                logger.warn("no nodes with http enabled were sniffed, keeping the current nodes");
+            } else {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("sniffed nodes " + nodes);
+                }
+                transport.setNodes(nodes);
+            }
+        } catch (Exception e) {
+            logger.error("error while sniffing nodes", e);
+        } finally {
+            sniffing.set(false);
+            schedule(nextDelayMillis, sniffIntervalMillis);
+        }
+    }
+
+    List<Node> sniffNodes() throws IOException {
+        String scheme = transport.getNodes().keySet().iterator().next().getHost().getSchemeName();
+        JsonValue response = transport.performRequest(SNIFF_REQUEST_TIMEOUT, ENDPOINT, null);
+        return parseNodes(response.asJsonObject(), scheme);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            closed = true;
+            if (nextSniff != null) {
+                nextSniff.cancel(false);
+            }
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Reads the nodes with HTTP enabled from a {@code _nodes/http} response.
+     *
+     * @param response the nodes info response
+     * @param scheme   the scheme used to communicate with the nodes
+     */
+    static List<Node> parseNodes(JsonObject response, String scheme) throws IOException {
+        JsonObject nodes = response.getJsonObject("nodes");
+        if (nodes == null) {
+            throw new IOException("the nodes info response contains no nodes");
+        }
+        List<Node> result = new ArrayList<>(nodes.size());
+        for (Map.Entry<String, JsonValue> entry : nodes.entrySet()) {
+            JsonObject info = entry.getValue().asJsonObject();
+            JsonObject http = info.getJsonObject("http");
+            if (http == null) {
+                if (logger.isDebugEnabled()) {
+                    logger.debug("skipping node [" + entry.getKey() + "] with http disabled");
+                }
+                continue;
+            }
+            result.add(parseNode(info, http, scheme));
+        }
+        return result;
+    }
+
+    private static Node parseNode(JsonObject info, JsonObject http, String scheme) throws IOException {
+        HttpHost publishHost = parseHost(scheme, http.getString("publish_address"));
+
+        Set<HttpHost> boundHosts = new HashSet<>();
+        JsonArray boundAddresses = http.getJsonArray("bound_address");
+        if (boundAddresses != null) {
+            for (JsonString address : boundAddresses.getValuesAs(JsonString.class)) {
+                boundHosts.add(parseHost(scheme, address.getString()));
+            }
+        }
+
+        Node.Roles roles = null;
+        JsonArray roleNames = info.getJsonArray("roles");
+        if (roleNames != null) {
+            Set<String> names = new HashSet<>();
+            for (JsonString role : roleNames.getValuesAs(JsonString.class)) {
+                names.add(role.getString());
+            }
+            roles = new Node.Roles(names);
+        }
+
+        Map<String, List<String>> attributes = null;
+        JsonObject attributeValues = info.getJsonObject("attributes");
+        if (attributeValues != null) {
+            attributes = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonValue> attribute : attributeValues.entrySet()) {
+                JsonValue value = attribute.getValue();
+                String string = value instanceof JsonString ? ((JsonString) value).getString() : value.toString();
+                attributes.put(attribute.getKey(), Collections.singletonList(string));
+            }
+        }
+
+        return new Node(publishHost, boundHosts, info.getString("name", null), info.getString("version", null), roles, attributes);
+    }
+
+    /**
+     * Parses an address, which is {@code hostname/ip:port} when the node has a host name and {@code ip:port} otherwise.
+     */
+    static HttpHost parseHost(String scheme, String address) throws IOException {
+        int slash = address.indexOf('/');
+        try {
+            if (slash < 0) {
+                return HttpHost.create(scheme + "://" + address);
+            }
+            HttpHost host = HttpHost.create(scheme + "://" + address.substring(slash + 1));
+            return new HttpHost(scheme, address.substring(0, slash), host.getPort());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            throw new IOException("invalid node address [" + address + "]", e);
+        }
+    }
+}
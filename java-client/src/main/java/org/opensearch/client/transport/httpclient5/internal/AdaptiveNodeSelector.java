@@ -0,0 +1,263 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import org.apache.hc.core5.http.HttpHost;
+
+/**
+ * Selects nodes according to their observed latency, steering requests away from slow or overloaded nodes.
+ * <p>
+ * The transport keeps track of the requests in flight to each node, and of an exponentially weighted moving average
+ * (EWMA) of their latency. The load of a node is its average latency multiplied by the number of requests in flight to
+ * it plus one. Each request is first sent to the least loaded of two nodes picked at random among the selected nodes
+ * ("power of two choices"), which avoids herding all requests to the same node. Other nodes are tried in round robin
+ * order if the request fails.
+ * <p>
+ * Only successful responses are latency samples. A failed or cancelled request, such as a hedged request that lost to
+ * another node, is instead recorded as a sample of twice the time it took or twice the average latency of its node,
+ * whichever is greater, so that failing fast or being abandoned never makes a node look faster.
+ * <p>
+ * The average latency of a node that didn't respond yet is the average latency of all nodes. The average latency of a
+ * node also converges to the average latency of all nodes while it doesn't respond to any request, so that nodes that
+ * were slow for a while, like nodes going through a garbage collection, eventually receive requests again.
+ * <p>
+ * Nodes are first filtered with the {@link NodeSelector} this selector is created with. A selector keeps statistics
+ * about the nodes of a transport, and must not be shared by several transports.
+ */
+public final class AdaptiveNodeSelector implements NodeSelector {
+    /**
+     * The default weight of new latency samples in the average latency of a node.
+     */
+    public static final double DEFAULT_ALPHA = 0.3;
+
+    /**
+     * The default time after which the difference between the average latency of a node that didn't respond to
+     * requests and the average latency of all nodes has decayed to {@code 1/e} of its value.
+     */
+    public static final long DEFAULT_DECAY_MILLIS = 5000;
+
+    // The factor applied to the latency samples of failed requests
+    private static final double FAILURE_PENALTY = 2;
+
+    private final NodeSelector filter;
+    private final double alpha;
+    private final double decayNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<HttpHost, NodeStats> stats = new ConcurrentHashMap<>();
+    // Average latency of all nodes. Concurrent updates may lose samples, which doesn't matter for an average.
+    private volatile double globalEwmaNanos;
+
+    /**
+     * Creates a selector that doesn't filter nodes, with default settings.
+     */
+    public AdaptiveNodeSelector() {
+        this(NodeSelector.ANY);
+    }
+
+    /**
+     * Creates a selector with default settings.
+     *
+     * @param filter the selector filtering nodes before choosing among them
+     */
+    public AdaptiveNodeSelector(NodeSelector filter) {
+        this(filter, DEFAULT_ALPHA, DEFAULT_DECAY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a selector.
+     *
+     * @param filter the selector filtering nodes before choosing among them
+     * @param alpha  the weight of new latency samples in the average latency of a node, between 0 (excluded) and 1
+     * @param decay  the time after which the difference between the average latency of a node that didn't respond to
+     *               requests and the average latency of all nodes has decayed to {@code 1/e} of its value
+     * @param unit   the unit of {@code decay}
+     */
+    public AdaptiveNodeSelector(NodeSelector filter, double alpha, long decay, TimeUnit unit) {
+        this(filter, alpha, decay, unit, System::nanoTime);
+    }
+
+    AdaptiveNodeSelector(NodeSelector filter, double alpha, long decay, TimeUnit unit, LongSupplier nanoClock) {
+        if (!(alpha > 0 && alpha <= 1)) {
+            throw new IllegalArgumentException("alpha must be greater than 0 and at most 1");
+        }
+        if (decay <= 0) {
+            throw new IllegalArgumentException("decay must be positive");
+        }
+        this.filter = Objects.requireNonNull(filter, "filter must not be null");
+        this.alpha = alpha;
+        this.decayNanos = unit.toNanos(decay);
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public void select(Iterable<Node> nodes) {
+        filter.select(nodes);
+    }
+
+    /**
+     * Moves the node a request should be sent to first at the start of a list of selected nodes, leaving the others
+     * in their order.
+     *
+     * @param nodes the selected nodes, in the order they would be tried otherwise
+     */
+    public void prioritize(List<Node> nodes) {
+        int size = nodes.size();
+        if (size < 2) {
+            return;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+
+        long now = nanoClock.getAsLong();
+        int chosen = load(nodes.get(first), now) <= load(nodes.get(second), now) ? first : second;
+        if (chosen != 0) {
+            Collections.swap(nodes, 0, chosen);
+        }
+    }
+
+    /**
+     * Records that a request is being sent to a node.
+     *
+     * @param node the node
+     */
+    public void onRequest(Node node) {
+        stats(node.getHost()).inFlight.incrementAndGet();
+    }
+
+    /**
+     * Records that a node successfully responded to a request.
+     *
+     * @param node      the node
+     * @param tookNanos the time it took for the node to respond, in nanoseconds
+     */
+    public void onResponse(Node node, long tookNanos) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        if (nodeStats != null) {
+            nodeStats.complete();
+            nodeStats.update(tookNanos, nanoClock.getAsLong(), alpha);
+        }
+
+        double global = globalEwmaNanos;
+        globalEwmaNanos = global == 0 ? tookNanos : global + alpha * (tookNanos - global);
+    }
+
+    /**
+     * Records that a request sent to a node failed, was rejected because the node is overloaded, or was cancelled.
+     * The average latency of all nodes is left unchanged.
+     *
+     * @param node      the node
+     * @param tookNanos the time elapsed until the failure or cancellation, in nanoseconds
+     */
+    public void onFailure(Node node, long tookNanos) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        if (nodeStats == null) {
+            // The node was removed while the request was in flight
+            return;
+        }
+        nodeStats.complete();
+        long now = nanoClock.getAsLong();
+        double penalized = FAILURE_PENALTY * Math.max(tookNanos, latency(nodeStats, now));
+        if (penalized > 0) {
+            nodeStats.update(penalized, now, alpha);
+        }
+    }
+
+    /**
+     * Discards the statistics of the nodes whose host is not in the given collection, such as nodes removed from the
+     * transport. Requests still in flight to these nodes are not recorded when they complete.
+     *
+     * @param hosts the hosts of the nodes to keep the statistics of
+     */
+    public void retainAll(Collection<HttpHost> hosts) {
+        stats.keySet().retainAll(hosts);
+    }
+
+    /**
+     * The current average latency of a node, in nanoseconds.
+     *
+     * @param host the host of the node
+     */
+    public double averageLatencyNanos(HttpHost host) {
+        return latency(stats.get(host), nanoClock.getAsLong());
+    }
+
+    /**
+     * The number of requests in flight to a node.
+     *
+     * @param host the host of the node
+     */
+    public int inFlight(HttpHost host) {
+        NodeStats nodeStats = stats.get(host);
+        return nodeStats == null ? 0 : nodeStats.inFlight.get();
+    }
+
+    /**
+     * The number of nodes whose statistics are kept.
+     */
+    int hosts() {
+        return stats.size();
+    }
+
+    private double load(Node node, long now) {
+        NodeStats nodeStats = stats.get(node.getHost());
+        return latency(nodeStats, now) * (nodeStats == null ? 1 : nodeStats.inFlight.get() + 1);
+    }
+
+    private double latency(NodeStats nodeStats, long now) {
+        double global = globalEwmaNanos;
+        if (nodeStats == null || !nodeStats.sampled) {
+            return global;
+        }
+        double ewma = nodeStats.ewmaNanos;
+        long idleNanos = now - nodeStats.lastUpdateNanos;
+        return idleNanos <= 0 ? ewma : global + (ewma - global) * Math.exp(-idleNanos / decayNanos);
+    }
+
+    private NodeStats stats(HttpHost host) {
+        NodeStats nodeStats = stats.get(host);
+        return nodeStats != null ? nodeStats : stats.computeIfAbsent(host, h -> new NodeStats());
+    }
+
+    @Override
+    public String toString() {
+        return "ADAPTIVE(" + filter + ")";
+    }
+
+    private static final class NodeStats {
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private volatile double ewmaNanos;
+        private volatile long lastUpdateNanos;
+        private volatile boolean sampled;
+
+        // A request may complete after the statistics of its node were discarded and created again
+        void complete() {
+            inFlight.updateAndGet(n -> n > 0 ? n - 1 : 0);
+        }
+
+        synchronized void update(double tookNanos, long now, double alpha) {
+            ewmaNanos = sampled ? ewmaNanos + alpha * (tookNanos - ewmaNanos) : tookNanos;
+            lastUpdateNanos = now;
+            sampled = true;
+        }
+    }
+}
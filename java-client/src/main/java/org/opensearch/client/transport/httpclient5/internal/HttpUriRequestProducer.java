@@ -52,7 +52,9 @@ public class HttpUriRequestProducer extends BasicRequestProducer {
         final HttpEntity entity = request.getEntity();
         AsyncEntityProducer entityProducer = null;
 
-        if (entity != null) {
+        if (entity instanceof StreamingJsonpEntity) {
+            entityProducer = ((StreamingJsonpEntity) entity).createProducer();
+        } else if (entity != null) {
             entityProducer = new HttpEntityAsyncEntityProducer(entity);
         }
 
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+/**
+ * The hash function OpenSearch uses to route documents to shards: the 32 bits x86 variant of MurmurHash3 with a seed of
+ * 0, applied to the UTF-16 little-endian encoding of the routing value.
+ * <p>
+ * The characters are hashed directly, two characters forming a 4 bytes block, without encoding the value first.
+ */
+public final class Murmur3HashFunction {
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private Murmur3HashFunction() {}
+
+    /**
+     * Hashes a routing value, like OpenSearch does to compute the shard of a document.
+     *
+     * @param routing the routing value, which is the document id if no routing is given
+     * @return the hash of the routing value
+     */
+    public static int hash(String routing) {
+        int length = routing.length();
+        int h1 = 0;
+
+        int blocks = length & ~1;
+        for (int i = 0; i < blocks; i += 2) {
+            int k1 = routing.charAt(i) | (routing.charAt(i + 1) << 16);
+            h1 ^= mixK1(k1);
+            h1 = Integer.rotateLeft(h1, 13);
+            h1 = h1 * 5 + 0xe6546b64;
+        }
+
+        if ((length & 1) != 0) {
+            // The 2 remaining bytes of an odd number of characters
+            h1 ^= mixK1(routing.charAt(length - 1));
+        }
+
+        return fmix(h1 ^ (length * 2));
+    }
+
+    private static int mixK1(int k1) {
+        k1 *= C1;
+        k1 = Integer.rotateLeft(k1, 15);
+        return k1 * C2;
+    }
+
+    private static int fmix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.util.Args;
+import org.opensearch.client.util.BufferPool;
+import org.opensearch.client.util.SegmentedByteArrayOutputStream;
+
+/**
+ * A repeatable {@link org.apache.hc.core5.http.HttpEntity} backed by the segments of a
+ * {@link SegmentedByteArrayOutputStream}, sent without copying them into a single array.
+ * <p>
+ * Closing the entity gives the segments back to their {@link BufferPool}: it must only be closed once the exchange
+ * that sends it has completed.
+ */
+public class SegmentedByteArrayEntity extends AbstractHttpEntity {
+    private final SegmentedByteArrayOutputStream buffer;
+
+    /**
+     * Creates a new entity.
+     *
+     * @param buffer the buffer holding the content
+     * @param contentType the content type of the entity
+     */
+    public SegmentedByteArrayEntity(SegmentedByteArrayOutputStream buffer, ContentType contentType) {
+        super(contentType, null);
+        this.buffer = Args.notNull(buffer, "Buffer");
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return buffer.size();
+    }
+
+    @Override
+    public InputStream getContent() {
+        return buffer.asInputStream();
+    }
+
+    @Override
+    public void writeTo(final OutputStream outStream) throws IOException {
+        Args.notNull(outStream, "Output stream");
+        buffer.writeTo(outStream);
+        outStream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Gives the content's segments back to their pool.
+     */
+    @Override
+    public void close() {
+        buffer.release();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.hc.core5.http.HttpHost;
+
+/**
+ * Limits the number of requests concurrently in flight to each host. Requests over the limit are queued, and are
+ * started when a request to the same host completes: the calling thread never waits.
+ * <p>
+ * This is used to bound the number of streams multiplexed on the HTTP/2 connection to each node.
+ */
+public final class StreamLimiter {
+    private final int maxStreams;
+    private final ConcurrentMap<HttpHost, Streams> streams = new ConcurrentHashMap<>();
+    // The hosts whose streams are kept once idle, or null for all hosts
+    private volatile Set<HttpHost> retained;
+
+    /**
+     * Creates a limiter.
+     *
+     * @param maxStreams the maximum number of requests in flight to each host
+     * @throws IllegalArgumentException if {@code maxStreams} is lower than 1
+     */
+    public StreamLimiter(int maxStreams) {
+        if (maxStreams < 1) {
+            throw new IllegalArgumentException("maxStreams must be at least 1");
+        }
+        this.maxStreams = maxStreams;
+    }
+
+    /**
+     * Starts a request to a host if the limit isn't reached, or queues it otherwise. Every started request must be
+     * followed by a call to {@link #release(HttpHost)} once it has completed.
+     *
+     * @param host    the host the request is sent to
+     * @param request the request to start
+     */
+    public void execute(HttpHost host, Runnable request) {
+        boolean[] acquired = new boolean[1];
+        streams.compute(host, (h, hostStreams) -> {
+            Streams current = hostStreams != null ? hostStreams : new Streams(maxStreams);
+            acquired[0] = current.acquireOrQueue(request);
+            return current;
+        });
+        if (acquired[0]) {
+            request.run();
+        }
+    }
+
+    /**
+     * Signals the completion of a request to a host, starting the next queued request if any.
+     *
+     * @param host the host the request was sent to
+     */
+    public void release(HttpHost host) {
+        Runnable[] next = new Runnable[1];
+        streams.computeIfPresent(host, (h, hostStreams) -> {
+            next[0] = hostStreams.releaseOrPoll();
+            return isDiscarded(h, hostStreams) ? null : hostStreams;
+        });
+        if (next[0] != null) {
+            next[0].run();
+        }
+    }
+
+    /**
+     * Discards the state kept for the hosts that are not in the given collection, such as nodes removed from the
+     * transport. The state of a host with requests in flight or queued is discarded once they have completed.
+     *
+     * @param hosts the hosts to keep the state of
+     */
+    public void retainAll(Collection<HttpHost> hosts) {
+        Set<HttpHost> retained = new HashSet<>(hosts);
+        this.retained = retained;
+        for (HttpHost host : streams.keySet()) {
+            if (!retained.contains(host)) {
+                streams.computeIfPresent(host, (h, hostStreams) -> isDiscarded(h, hostStreams) ? null : hostStreams);
+            }
+        }
+    }
+
+    /**
+     * The number of requests in flight to a host.
+     */
+    public int active(HttpHost host) {
+        Streams hostStreams = streams.get(host);
+        return hostStreams == null ? 0 : hostStreams.active();
+    }
+
+    /**
+     * The number of requests waiting for a request to a host to complete.
+     */
+    public int queued(HttpHost host) {
+        Streams hostStreams = streams.get(host);
+        return hostStreams == null ? 0 : hostStreams.queued();
+    }
+
+    /**
+     * The number of hosts whose state is kept.
+     */
+    int hosts() {
+        return streams.size();
+    }
+
+    private boolean isDiscarded(HttpHost host, Streams hostStreams) {
+        Set<HttpHost> retained = this.retained;
+        return retained != null && !retained.contains(host) && hostStreams.isIdle();
+    }
+
+    private static final class Streams {
+        private final int max;
+        private final Queue<Runnable> queue = new ArrayDeque<>();
+        private int active;
+
+        Streams(int max) {
+            this.max = max;
+        }
+
+        synchronized boolean acquireOrQueue(Runnable request) {
+            if (active < max) {
+                active++;
+                return true;
+            }
+            queue.add(request);
+            return false;
+        }
+
+        /**
+         * Hands over the slot of a completed request to the next queued request, if any.
+         */
+        synchronized Runnable releaseOrPoll() {
+            Runnable next = queue.poll();
+            if (next == null) {
+                active--;
+            }
+            return next;
+        }
+
+        synchronized int active() {
+            return active;
+        }
+
+        synchronized int queued() {
+            return queue.size();
+        }
+
+        synchronized boolean isIdle() {
+            return active == 0 && queue.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.io.entity.InputStreamEntity;
+import org.apache.hc.core5.http.message.BasicClassicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncResponseConsumer;
+import org.apache.hc.core5.http.nio.CapacityChannel;
+import org.apache.hc.core5.http.nio.support.classic.ContentInputStream;
+import org.apache.hc.core5.http.nio.support.classic.SharedInputBuffer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * An {@link AsyncResponseConsumer} that hands successful responses over as soon as their headers are received, with an
+ * entity whose content is fed by the I/O reactor while it is being read. At most {@code bufferSize} bytes of the body
+ * are held in memory at any time: the server is only allowed to send more once they have been read.
+ * <p>
+ * Responses that may have to be turned into exceptions before they are handed over (unsuccessful responses and
+ * responses carrying warnings) are consumed by a fallback consumer instead, usually one that buffers them.
+ * <p>
+ * The content of a streamed response must not be read from an I/O reactor thread, since these threads are the ones
+ * that feed it.
+ */
+public class StreamingAsyncResponseConsumer implements AsyncResponseConsumer<ClassicHttpResponse> {
+    /**
+     * The default maximum number of bytes held in memory for a streamed response.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final AsyncResponseConsumer<ClassicHttpResponse> fallback;
+    private final int bufferSize;
+    private volatile SharedInputBuffer buffer;
+    private volatile boolean endStream;
+    private volatile Exception failure;
+
+    /**
+     * Creates a new consumer with a buffer of {@link #DEFAULT_BUFFER_SIZE} bytes.
+     *
+     * @param fallback the consumer of the responses that are not streamed
+     */
+    public StreamingAsyncResponseConsumer(AsyncResponseConsumer<ClassicHttpResponse> fallback) {
+        this(fallback, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates a new consumer.
+     *
+     * @param fallback the consumer of the responses that are not streamed
+     * @param bufferSize the maximum number of bytes held in memory for a streamed response. Must be greater than 0.
+     * @throws IllegalArgumentException if {@code bufferSize} is less than or equal to 0.
+     */
+    public StreamingAsyncResponseConsumer(AsyncResponseConsumer<ClassicHttpResponse> fallback, int bufferSize) {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("bufferSize must be greater than 0");
+        }
+        this.fallback = fallback;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void consumeResponse(
+        final HttpResponse response,
+        final EntityDetails entityDetails,
+        final HttpContext context,
+        final FutureCallback<ClassicHttpResponse> resultCallback
+    ) throws HttpException, IOException {
+        if (entityDetails == null || response.getCode() >= 300 || response.containsHeader("Warning")) {
+            fallback.consumeResponse(response, entityDetails, context, resultCallback);
+            return;
+        }
+
+        final ClassicHttpResponse classicResponse = new BasicClassicHttpResponse(response.getCode());
+        classicResponse.setVersion(response.getVersion());
+        classicResponse.setHeaders(response.getHeaders());
+        classicResponse.setReasonPhrase(response.getReasonPhrase());
+        if (response.getLocale() != null) {
+            classicResponse.setLocale(response.getLocale());
+        }
+
+        final SharedInputBuffer buffer = new SharedInputBuffer(bufferSize);
+        classicResponse.setEntity(
+            new InputStreamEntity(
+                new FailureAwareInputStream(new ContentInputStream(buffer)),
+                entityDetails.getContentLength(),
+                ContentType.parseLenient(entityDetails.getContentType()),
+                entityDetails.getContentEncoding()
+            )
+        );
+        this.buffer = buffer;
+
+        resultCallback.completed(classicResponse);
+    }
+
+    @Override
+    public void informationResponse(final HttpResponse response, final HttpContext context) throws HttpException, IOException {}
+
+    @Override
+    public void updateCapacity(final CapacityChannel capacityChannel) throws IOException {
+        final SharedInputBuffer buffer = this.buffer;
+        if (buffer != null) {
+            buffer.updateCapacity(capacityChannel);
+        } else {
+            fallback.updateCapacity(capacityChannel);
+        }
+    }
+
+    @Override
+    public void consume(final ByteBuffer src) throws IOException {
+        final SharedInputBuffer buffer = this.buffer;
+        if (buffer != null) {
+            buffer.fill(src);
+        } else {
+            fallback.consume(src);
+        }
+    }
+
+    @Override
+    public void streamEnd(final List<? extends Header> trailers) throws HttpException, IOException {
+        final SharedInputBuffer buffer = this.buffer;
+        if (buffer != null) {
+            endStream = true;
+            buffer.markEndStream();
+        } else {
+            fallback.streamEnd(trailers);
+        }
+    }
+
+    @Override
+    public void failed(final Exception cause) {
+        final SharedInputBuffer buffer = this.buffer;
+        if (buffer != null) {
+            // Wake up the reader, it will rethrow the cause
+            failure = cause;
+            buffer.abort();
+        } else {
+            fallback.failed(cause);
+        }
+    }
+
+    @Override
+    public void releaseResources() {
+        final SharedInputBuffer buffer = this.buffer;
+        if (buffer != null && endStream == false) {
+            // The exchange was cancelled before the body was fully received, wake up the reader
+            buffer.abort();
+        }
+        fallback.releaseResources();
+    }
+
+    /**
+     * Rethrows the failure of the exchange, if any, when reading from the shared buffer fails.
+     */
+    private class FailureAwareInputStream extends InputStream {
+        private final InputStream delegate;
+
+        FailureAwareInputStream(InputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                return delegate.read();
+            } catch (IOException e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                return delegate.read(b, off, len);
+            } catch (IOException e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public int available() throws IOException {
+            return delegate.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                delegate.close();
+            } catch (IOException e) {
+                throw rethrow(e);
+            }
+        }
+
+        private IOException rethrow(IOException e) {
+            final Exception cause = failure;
+            if (cause instanceof IOException) {
+                return (IOException) cause;
+            } else if (cause != null) {
+                return new IOException(cause.getMessage(), cause);
+            }
+            return e;
+        }
+    }
+}
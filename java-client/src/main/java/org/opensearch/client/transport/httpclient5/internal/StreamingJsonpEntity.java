@@ -0,0 +1,287 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import javax.annotation.Nullable;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.io.entity.AbstractHttpEntity;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.util.Args;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
+import org.opensearch.client.util.NoCopyByteArrayOutputStream;
+
+/**
+ * An {@link org.apache.hc.core5.http.HttpEntity} that serializes a request body lazily, instead of materializing
+ * it in a byte array up front. When sent through the async client, the body is produced in chunks by a
+ * {@link StreamingJsonpEntityProducer}, so that only a few items of an nd-json request (e.g. a bulk request) are held
+ * in serialized form at any time.
+ * <p>
+ * The entity is repeatable: each producer re-serializes the request from scratch, which is what happens when a request
+ * is retried on another node. Classic consumers calling {@link #getContent()} get a buffered copy of the whole body.
+ */
+public class StreamingJsonpEntity extends AbstractHttpEntity {
+    /**
+     * The default number of serialized bytes accumulated before a chunk is handed to the output channel.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final Object value;
+    private final JsonpMapper mapper;
+    @Nullable
+    private final CompressionCodec codec;
+    private final int chunkSize;
+
+    /**
+     * Creates a new streaming entity.
+     *
+     * @param value the request to serialize, either a {@link NdJsonpSerializable} or a value the mapper can serialize
+     * @param mapper the mapper used to serialize the value
+     * @param contentType the content type of the entity
+     * @param compressed whether the serialized content should be gzip compressed
+     */
+    public StreamingJsonpEntity(Object value, JsonpMapper mapper, ContentType contentType, boolean compressed) {
+        this(value, mapper, contentType, compressed, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new streaming entity.
+     *
+     * @param value the request to serialize, either a {@link NdJsonpSerializable} or a value the mapper can serialize
+     * @param mapper the mapper used to serialize the value
+     * @param contentType the content type of the entity
+     * @param compressed whether the serialized content should be gzip compressed
+     * @param chunkSize the number of serialized bytes to accumulate before handing a chunk to the output channel
+     */
+    public StreamingJsonpEntity(Object value, JsonpMapper mapper, ContentType contentType, boolean compressed, int chunkSize) {
+        this(value, mapper, contentType, compressed ? CompressionCodecs.gzip() : null, chunkSize);
+    }
+
+    /**
+     * Creates a new streaming entity.
+     *
+     * @param value the request to serialize, either a {@link NdJsonpSerializable} or a value the mapper can serialize
+     * @param mapper the mapper used to serialize the value
+     * @param contentType the content type of the entity
+     * @param codec the codec compressing the serialized content, or {@code null} to send it uncompressed
+     * @param chunkSize the number of serialized bytes to accumulate before handing a chunk to the output channel
+     */
+    public StreamingJsonpEntity(
+        Object value,
+        JsonpMapper mapper,
+        ContentType contentType,
+        @Nullable CompressionCodec codec,
+        int chunkSize
+    ) {
+        super(contentType, codec != null ? codec.contentEncoding() : null, true);
+        this.value = Args.notNull(value, "Value");
+        this.mapper = Args.notNull(mapper, "Mapper");
+        this.codec = codec;
+        this.chunkSize = Args.positive(chunkSize, "Chunk size");
+    }
+
+    /**
+     * Creates a new {@link AsyncEntityProducer} that serializes this entity in chunks, called once per request attempt.
+     */
+    public AsyncEntityProducer createProducer() {
+        return new StreamingJsonpEntityProducer(this);
+    }
+
+    /**
+     * Creates a new serializer positioned at the start of the content.
+     */
+    ChunkSerializer newSerializer() {
+        return new ChunkSerializer(value, mapper, codec, chunkSize);
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * The length is only known once the content has been serialized.
+     *
+     * @return -1
+     */
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Returns a buffered copy of the whole serialized content.
+     */
+    @Override
+    public InputStream getContent() throws IOException {
+        final NoCopyByteArrayOutputStream out = new NoCopyByteArrayOutputStream(chunkSize);
+        writeTo(out);
+        return out.asInputStream();
+    }
+
+    @Override
+    public void writeTo(final OutputStream outStream) throws IOException {
+        Args.notNull(outStream, "Output stream");
+        final ChunkSerializer serializer = newSerializer();
+        try {
+            ByteBuffer chunk;
+            while ((chunk = serializer.nextChunk()) != null) {
+                outStream.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining());
+            }
+        } finally {
+            serializer.release();
+        }
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {}
+
+    /**
+     * Serializes a value into a sequence of chunks, flattening nested {@link NdJsonpSerializable} items the same way the
+     * buffered request path does. Not thread-safe: a serializer is owned by a single producer.
+     */
+    static final class ChunkSerializer {
+        private final JsonpMapper mapper;
+        private final int chunkSize;
+        private final boolean ndJson;
+        private final Deque<Iterator<?>> iterators = new ArrayDeque<>();
+        private final Deque<Object> owners = new ArrayDeque<>();
+        private final NoCopyByteArrayOutputStream buffer;
+        @Nullable
+        private final OutputStream compressor;
+        private final OutputStream out;
+        private boolean finished;
+        private boolean consumed;
+
+        ChunkSerializer(Object value, JsonpMapper mapper, @Nullable CompressionCodec codec, int chunkSize) {
+            this.mapper = mapper;
+            this.chunkSize = chunkSize;
+            this.buffer = new NoCopyByteArrayOutputStream(chunkSize);
+            try {
+                this.compressor = codec != null ? codec.compress(buffer) : null;
+            } catch (IOException e) {
+                // Writing the start of the compressed content to an in-memory buffer cannot fail
+                throw new IllegalStateException(e);
+            }
+            this.out = new UncloseableOutputStream(compressor != null ? compressor : buffer);
+            if (value instanceof NdJsonpSerializable) {
+                this.ndJson = true;
+                this.iterators.push(((NdJsonpSerializable) value)._serializables());
+                this.owners.push(value);
+            } else {
+                this.ndJson = false;
+                this.iterators.push(Collections.singletonList(value).iterator());
+                this.owners.push(this);
+            }
+        }
+
+        /**
+         * Serializes the next items until at least a chunk worth of bytes is available, or the content is exhausted.
+         * The returned buffer is only valid until the next call.
+         *
+         * @return the next chunk, or {@code null} once all the content has been returned
+         */
+        ByteBuffer nextChunk() throws IOException {
+            if (finished) {
+                return null;
+            }
+            if (consumed) {
+                // Only discard what was handed out, the buffer may start with a compression header
+                buffer.reset();
+            }
+            while (buffer.size() < chunkSize) {
+                final Object item = nextItem();
+                if (item == null) {
+                    finished = true;
+                    if (compressor != null) {
+                        compressor.close();
+                    }
+                    break;
+                }
+                final JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.close();
+                if (ndJson) {
+                    out.write('\n');
+                }
+            }
+            consumed = true;
+            return buffer.size() > 0 ? buffer.asByteBuffer() : null;
+        }
+
+        /**
+         * Releases the compression resources of an abandoned serializer, e.g. returns its deflater to its pool. Has no
+         * effect once all the content was returned.
+         */
+        void release() {
+            if (compressor != null && !finished) {
+                try {
+                    compressor.close();
+                } catch (IOException e) {
+                    // The content is discarded anyway
+                }
+            }
+        }
+
+        private Object nextItem() {
+            while (!iterators.isEmpty()) {
+                final Iterator<?> values = iterators.peek();
+                if (!values.hasNext()) {
+                    iterators.pop();
+                    owners.pop();
+                    continue;
+                }
+                final Object item = values.next();
+                if (item instanceof NdJsonpSerializable && item != owners.peek()) { // do not recurse on the item itself
+                    iterators.push(((NdJsonpSerializable) item)._serializables());
+                    owners.push(item);
+                } else {
+                    return item;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Closing a generator closes its target: prevent it from finishing the compressed content after each item.
+     */
+    private static final class UncloseableOutputStream extends FilterOutputStream {
+        UncloseableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
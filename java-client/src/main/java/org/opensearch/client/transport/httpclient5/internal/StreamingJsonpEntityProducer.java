@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.apache.hc.core5.util.Args;
+
+/**
+ * The {@link AsyncEntityProducer} implementation for {@link StreamingJsonpEntity}. Serializes the request
+ * chunk by chunk, directly when the underlying data channel is able to accept more data, so that the whole
+ * body is never held in memory.
+ * <p>
+ * Note that serialization happens on the I/O reactor thread.
+ */
+public class StreamingJsonpEntityProducer implements AsyncEntityProducer {
+
+    private final StreamingJsonpEntity entity;
+    private final AtomicReference<Exception> exception;
+    private StreamingJsonpEntity.ChunkSerializer serializer;
+    private ByteBuffer chunk;
+
+    /**
+     * Create new async streaming entity producer
+     * @param entity streaming entity
+     */
+    public StreamingJsonpEntityProducer(final StreamingJsonpEntity entity) {
+        this.entity = Args.notNull(entity, "Http Entity");
+        this.exception = new AtomicReference<>();
+    }
+
+    /**
+     * The content is re-serialized on each attempt, so it can always be produced again.
+     */
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    /**
+     * Returns content type of the entity, if known.
+     */
+    @Override
+    public String getContentType() {
+        return entity.getContentType();
+    }
+
+    /**
+     * The length is only known once the content has been serialized.
+     */
+    @Override
+    public long getContentLength() {
+        return -1;
+    }
+
+    /**
+     * Returns the number of bytes immediately available for output.
+     * This method can be used as a hint to control output events
+     * of the underlying I/O session.
+     *
+     * @return the number of bytes immediately available for output
+     */
+    @Override
+    public int available() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns content encoding of the entity, if known.
+     */
+    @Override
+    public String getContentEncoding() {
+        return entity.getContentEncoding();
+    }
+
+    /**
+     * The content length is not known in advance, so the content is always chunked.
+     */
+    @Override
+    public boolean isChunked() {
+        return true;
+    }
+
+    /**
+     * Preliminary declaration of trailing headers.
+     */
+    @Override
+    public Set<String> getTrailerNames() {
+        return entity.getTrailerNames();
+    }
+
+    /**
+     * Triggered to signal the ability of the underlying data channel
+     * to accept more data. Serializes and writes chunks until the channel
+     * stops accepting data or the content is exhausted.
+     *
+     * @param channel the data channel capable to accepting more data.
+     */
+    @Override
+    public void produce(final DataStreamChannel channel) throws IOException {
+        if (serializer == null) {
+            serializer = entity.newSerializer();
+        }
+        while (true) {
+            if (chunk != null && chunk.hasRemaining()) {
+                channel.write(chunk);
+                if (chunk.hasRemaining()) {
+                    // The channel is full, wait to be called again
+                    return;
+                }
+            }
+            chunk = serializer.nextChunk();
+            if (chunk == null) {
+                channel.endStream();
+                releaseResources();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Triggered to signal a failure in data generation.
+     *
+     * @param cause the cause of the failure.
+     */
+    @Override
+    public void failed(final Exception cause) {
+        if (exception.compareAndSet(null, cause)) {
+            releaseResources();
+        }
+    }
+
+    /**
+     * Release resources being held
+     */
+    @Override
+    public void releaseResources() {
+        if (serializer != null) {
+            serializer.release();
+        }
+        serializer = null;
+        chunk = null;
+    }
+
+}
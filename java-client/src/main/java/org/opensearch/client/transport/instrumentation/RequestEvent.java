@@ -0,0 +1,265 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.instrumentation;
+
+import javax.annotation.Nullable;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * The timings and sizes of a request, recorded by the transport sending it.
+ * <p>
+ * The phases of a request are, in this order:
+ * <ul>
+ *     <li>serialization: the request body is serialized and compressed,</li>
+ *     <li>queue: the request waits for a connection, or for a stream on an HTTP/2 connection,</li>
+ *     <li>network: the request is sent and its response is received,</li>
+ *     <li>deserialization: the response body is deserialized.</li>
+ * </ul>
+ * Transports that don't know when a connection is available report the queue time as part of the network time. When a
+ * request is retried on other nodes, the queue and network times are summed over the attempts, and the node and status
+ * are those of the last attempt. Durations are {@code 0} and sizes are {@code -1} when unknown.
+ * <p>
+ * The {@code on*} methods are called by transports.
+ */
+public final class RequestEvent {
+    private static final Log logger = LogFactory.getLog(RequestEvent.class);
+
+    private static final String API_PACKAGE = "org.opensearch.client.opensearch.";
+
+    private static final ClassValue<String> ENDPOINT_IDS = new ClassValue<String>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            final String name = type.getName();
+            return name.startsWith(API_PACKAGE) ? name.substring(API_PACKAGE.length()) : name;
+        }
+    };
+
+    private final TransportInstrumentation instrumentation;
+    private final String endpointId;
+    private final String method;
+    private final long startNanos;
+    @Nullable
+    private volatile Object attachment;
+    private long serializationNanos;
+    private long requestBytes = -1;
+    private int attempts;
+    @Nullable
+    private String node;
+    private int status = -1;
+    private long queueNanos;
+    private long networkNanos;
+    private long responseBytes = -1;
+    private long deserializationNanos;
+    private long totalNanos;
+    @Nullable
+    private Throwable failure;
+
+    private RequestEvent(TransportInstrumentation instrumentation, String endpointId, String method) {
+        this.instrumentation = instrumentation;
+        this.endpointId = endpointId;
+        this.method = method;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts the event of a request, if the instrumentation is enabled.
+     *
+     * @param instrumentation the instrumentation of the transport
+     * @param request         the request, whose class identifies its endpoint
+     * @param method          the HTTP method of the request
+     * @return the event, or {@code null} if the instrumentation is disabled
+     */
+    @Nullable
+    public static RequestEvent start(TransportInstrumentation instrumentation, Object request, String method) {
+        if (!instrumentation.isEnabled()) {
+            return null;
+        }
+        final RequestEvent event = new RequestEvent(instrumentation, ENDPOINT_IDS.get(request.getClass()), method);
+        try {
+            instrumentation.onRequestStart(event);
+        } catch (RuntimeException e) {
+            logger.warn("Transport instrumentation failed", e);
+        }
+        return event;
+    }
+
+    /**
+     * Records the serialization of the request body.
+     *
+     * @param nanos the time spent serializing and compressing the body
+     * @param bytes the size of the body as sent, or {@code -1} if unknown
+     */
+    public void onSerialized(long nanos, long bytes) {
+        this.serializationNanos = nanos;
+        this.requestBytes = bytes;
+    }
+
+    /**
+     * Records an attempt to send the request to a node.
+     *
+     * @param node         the node, or {@code null} if unknown
+     * @param queueNanos   the time spent waiting for a connection
+     * @param networkNanos the time spent sending the request and receiving its response
+     * @param status       the status of the response, or {@code -1} if no response was received
+     */
+    public synchronized void onAttempt(@Nullable String node, long queueNanos, long networkNanos, int status) {
+        this.attempts++;
+        this.node = node;
+        this.queueNanos += queueNanos;
+        this.networkNanos += networkNanos;
+        this.status = status;
+    }
+
+    /**
+     * Records the deserialization of the response body.
+     *
+     * @param nanos the time spent deserializing the body
+     * @param bytes the size of the body as received, or {@code -1} if unknown
+     */
+    public void onDeserialized(long nanos, long bytes) {
+        this.deserializationNanos = nanos;
+        this.responseBytes = bytes;
+    }
+
+    /**
+     * Ends the event and passes it to the instrumentation.
+     *
+     * @param failure the failure of the request, or {@code null} if it succeeded
+     */
+    public void end(@Nullable Throwable failure) {
+        synchronized (this) {
+            this.totalNanos = System.nanoTime() - startNanos;
+            this.failure = failure;
+        }
+        try {
+            instrumentation.onRequestEnd(this);
+        } catch (RuntimeException e) {
+            logger.warn("Transport instrumentation failed", e);
+        }
+    }
+
+    /**
+     * The endpoint of the request: the name of its class, relative to the {@code org.opensearch.client.opensearch}
+     * package for the OpenSearch APIs, such as {@code core.SearchRequest} or {@code indices.CreateIndexRequest}.
+     */
+    public String endpointId() {
+        return endpointId;
+    }
+
+    /**
+     * The HTTP method of the request.
+     */
+    public String method() {
+        return method;
+    }
+
+    /**
+     * The value of {@link System#nanoTime()} when the request started.
+     */
+    public long startNanos() {
+        return startNanos;
+    }
+
+    /**
+     * The time spent serializing and compressing the request body.
+     */
+    public long serializationNanos() {
+        return serializationNanos;
+    }
+
+    /**
+     * The size of the request body as sent, or {@code -1} if unknown or if the request has no body.
+     */
+    public long requestBytes() {
+        return requestBytes;
+    }
+
+    /**
+     * The number of nodes the request was sent to.
+     */
+    public synchronized int attempts() {
+        return attempts;
+    }
+
+    /**
+     * The node the request was last sent to, or {@code null} if it wasn't sent or if the transport doesn't know it.
+     */
+    @Nullable
+    public synchronized String node() {
+        return node;
+    }
+
+    /**
+     * The status of the last response, or {@code -1} if no response was received.
+     */
+    public synchronized int status() {
+        return status;
+    }
+
+    /**
+     * The time spent waiting for a connection.
+     */
+    public synchronized long queueNanos() {
+        return queueNanos;
+    }
+
+    /**
+     * The time spent sending the request and receiving its response.
+     */
+    public synchronized long networkNanos() {
+        return networkNanos;
+    }
+
+    /**
+     * The size of the response body as received, or {@code -1} if unknown.
+     */
+    public long responseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * The time spent deserializing the response body.
+     */
+    public long deserializationNanos() {
+        return deserializationNanos;
+    }
+
+    /**
+     * The time between the start and the end of the request.
+     */
+    public synchronized long totalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * The failure of the request, or {@code null} if it succeeded.
+     */
+    @Nullable
+    public synchronized Throwable failure() {
+        return failure;
+    }
+
+    /**
+     * A value kept by the instrumentation from the start to the end of the request, such as a tracing span.
+     */
+    @Nullable
+    public Object attachment() {
+        return attachment;
+    }
+
+    public void setAttachment(@Nullable Object attachment) {
+        this.attachment = attachment;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestEvent{endpoint=" + endpointId + ", node=" + node() + ", status=" + status() + ", totalNanos=" + totalNanos() + "}";
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.instrumentation;
+
+/**
+ * Receives the timings of the requests sent by a transport, to feed metrics or traces, for instance with Micrometer or
+ * OpenTelemetry.
+ * <p>
+ * A {@link RequestEvent} is started before the request is serialized and ended once its response is deserialized or
+ * the request failed. It holds the time spent in each phase of the request, in nanoseconds. Transports don't create
+ * events, and don't read the clock, when the instrumentation is not {@link #isEnabled() enabled}, which is the case of
+ * the default {@link #NOOP} instrumentation.
+ * <p>
+ * Implementations must be thread safe and must not block: they are called by the threads sending requests and by the
+ * I/O threads completing them. Exceptions thrown by implementations are logged and ignored.
+ */
+public interface TransportInstrumentation {
+
+    /**
+     * The instrumentation that ignores all requests.
+     */
+    TransportInstrumentation NOOP = new TransportInstrumentation() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void onRequestEnd(RequestEvent event) {}
+    };
+
+    /**
+     * Whether requests are instrumented.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Called before a request is serialized. Tracing implementations can start a span and keep it with
+     * {@link RequestEvent#setAttachment(Object)}.
+     */
+    default void onRequestStart(RequestEvent event) {}
+
+    /**
+     * Called once a request completed, successfully or not.
+     */
+    void onRequestEnd(RequestEvent event);
+}
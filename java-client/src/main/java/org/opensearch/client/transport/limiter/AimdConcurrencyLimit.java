@@ -0,0 +1,98 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Additive increase, multiplicative decrease: the limit grows by one for each successful request, and is multiplied by
+ * a backoff ratio when a request is dropped or slower than a timeout.
+ * <p>
+ * The limit only grows when at least half of it is in use, so that it does not drift upwards while the client is idle.
+ */
+public final class AimdConcurrencyLimit implements ConcurrencyLimit {
+    /**
+     * The default initial limit.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    /**
+     * The default minimum limit.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+    /**
+     * The default maximum limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 1000;
+    /**
+     * The default ratio the limit is multiplied by when a request is dropped.
+     */
+    public static final double DEFAULT_BACKOFF_RATIO = 0.9;
+    /**
+     * The default latency after which a request is handled as dropped.
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long timeoutNanos;
+    private volatile int limit;
+
+    /**
+     * Creates a limit with the default settings.
+     */
+    public AimdConcurrencyLimit() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_BACKOFF_RATIO, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param initialLimit  the limit until the first samples are recorded
+     * @param minLimit      the minimum limit, at least 1
+     * @param maxLimit      the maximum limit
+     * @param backoffRatio  the ratio the limit is multiplied by when a request is dropped, between 0.5 and 1 excluded
+     * @param timeoutMillis the latency after which a request is handled as dropped
+     * @throws IllegalArgumentException if the limits are not ordered, or if a setting is out of range.
+     */
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double backoffRatio, long timeoutMillis) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio < 0.5 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be between 0.5 and 1");
+        }
+        if (timeoutMillis <= 0) {
+            throw new IllegalArgumentException("timeoutMillis must be greater than 0");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        final int current = limit;
+        if (dropped || rttNanos > timeoutNanos) {
+            limit = Math.max(minLimit, Math.min(current - 1, (int) (current * backoffRatio)));
+        } else if (inFlight * 2 >= current) {
+            limit = Math.min(maxLimit, current + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AimdConcurrencyLimit{limit=" + limit + "}";
+    }
+}
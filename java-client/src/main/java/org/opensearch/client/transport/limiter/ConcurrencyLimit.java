@@ -0,0 +1,34 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+/**
+ * An algorithm that adjusts the maximum number of concurrent requests from the latency and outcome of completed requests.
+ * <p>
+ * Implementations must be thread safe: samples are recorded by the threads that complete requests.
+ *
+ * @see AimdConcurrencyLimit
+ * @see VegasConcurrencyLimit
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * The current maximum number of concurrent requests, at least 1.
+     */
+    int limit();
+
+    /**
+     * Records a completed request.
+     *
+     * @param rttNanos the time between sending the request and receiving its response
+     * @param inFlight the number of requests in flight when the request was sent, including itself
+     * @param dropped  whether the cluster rejected the request because it is overloaded, or the request timed out
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+import org.opensearch.client.transport.ResponseStatus;
+import org.opensearch.client.transport.TransportException;
+
+/**
+ * Limits the number of concurrent requests of a {@link ConcurrencyLimitingTransport} partition: requests over the
+ * limit wait in a bounded queue, and fail when the queue is full.
+ * <p>
+ * The getters of this class are the metrics of the partition.
+ */
+public final class ConcurrencyLimiter {
+    private final ConcurrencyLimit limit;
+    private final int maxQueueSize;
+    private final ArrayDeque<CompletableFuture<Integer>> queue = new ArrayDeque<>();
+    private final AtomicLong rejected = new AtomicLong();
+    private int inFlight;
+    private boolean closed;
+
+    ConcurrencyLimiter(ConcurrencyLimit limit, int maxQueueSize) {
+        this.limit = limit;
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * The current maximum number of concurrent requests.
+     */
+    public int limit() {
+        return limit.limit();
+    }
+
+    /**
+     * The number of requests in flight.
+     */
+    public synchronized int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * The number of requests waiting for a request in flight to complete.
+     */
+    public synchronized int queued() {
+        return queue.size();
+    }
+
+    /**
+     * Statistics: the number of requests that failed because the limit was reached and the queue was full.
+     */
+    public long rejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Takes a permit to send a request.
+     *
+     * @return a future completed with the number of requests in flight once the request can be sent, or failed with a
+     * {@link TransportException} if the limit is reached and the queue is full.
+     */
+    CompletableFuture<Integer> acquire() {
+        synchronized (this) {
+            if (!closed) {
+                if (inFlight < limit.limit()) {
+                    return CompletableFuture.completedFuture(++inFlight);
+                }
+                if (queue.size() < maxQueueSize) {
+                    final CompletableFuture<Integer> permit = new CompletableFuture<>();
+                    queue.add(permit);
+                    return permit;
+                }
+            }
+        }
+        final CompletableFuture<Integer> rejection = new CompletableFuture<>();
+        rejected.incrementAndGet();
+        rejection.completeExceptionally(
+            new TransportException("Too many concurrent requests: the limit of " + limit.limit() + " in flight requests is reached")
+        );
+        return rejection;
+    }
+
+    /**
+     * Gives back the permit of a completed request, and records its outcome.
+     *
+     * @param inFlight the number of requests in flight when the request was sent
+     * @param rttNanos the latency of the request
+     * @param failure  the failure of the request, or {@code null} if it succeeded
+     */
+    void release(int inFlight, long rttNanos, @Nullable Throwable failure) {
+        final int status = ResponseStatus.of(failure);
+        final boolean dropped = status == 429 || status == 503 || isTimeout(ResponseStatus.unwrap(failure));
+        // Failures without a response, such as connection errors, say nothing about the load of the cluster
+        if (failure == null || dropped || status != ResponseStatus.NONE) {
+            limit.onSample(rttNanos, inFlight, dropped);
+        }
+        release();
+    }
+
+    /**
+     * Gives up on a permit that the caller will not use: removes it from the queue, or gives it back if it was already
+     * granted.
+     */
+    void cancel(CompletableFuture<Integer> permit) {
+        synchronized (this) {
+            if (queue.remove(permit)) {
+                return;
+            }
+        }
+        if (permit.isDone() && !permit.isCompletedExceptionally()) {
+            release();
+        }
+    }
+
+    /**
+     * Fails the requests waiting in the queue, and rejects new requests.
+     */
+    void close() {
+        final List<CompletableFuture<Integer>> waiting;
+        synchronized (this) {
+            closed = true;
+            waiting = new ArrayList<>(queue);
+            queue.clear();
+        }
+        for (CompletableFuture<Integer> permit : waiting) {
+            permit.completeExceptionally(new TransportException("The transport is closed"));
+        }
+    }
+
+    private void release() {
+        final List<CompletableFuture<Integer>> granted = new ArrayList<>();
+        final List<Integer> counts = new ArrayList<>();
+        synchronized (this) {
+            inFlight--;
+            while (inFlight < limit.limit() && !queue.isEmpty()) {
+                granted.add(queue.poll());
+                counts.add(++inFlight);
+            }
+        }
+        // Outside of the lock: completing a permit sends its request
+        for (int i = 0; i < granted.size(); i++) {
+            granted.get(i).complete(counts.get(i));
+        }
+    }
+
+    private static boolean isTimeout(@Nullable Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof SocketTimeoutException || t instanceof TimeoutException) {
+                return true;
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimiter{limit=" + limit() + ", inFlight=" + inFlight() + ", queued=" + queued() + "}";
+    }
+}
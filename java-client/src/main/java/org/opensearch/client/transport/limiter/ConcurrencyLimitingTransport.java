@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportException;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.client.util.ObjectBuilder;
+
+/**
+ * A transport that limits the number of concurrent requests sent by another transport, with a limit that adapts to
+ * the latency and the rejections of the cluster. It works with any transport, such as the
+ * {@link org.opensearch.client.transport.httpclient5.ApacheHttpClient5Transport},
+ * {@link org.opensearch.client.transport.rest_client.RestClientTransport} and
+ * {@link org.opensearch.client.transport.aws.AwsSdk2Transport}.
+ * <p>
+ * Requests over the limit wait in a bounded queue until a request in flight completes, and fail with a
+ * {@link TransportException} when the queue is full, rather than piling up in the connection pool. The limit is
+ * computed by a {@link ConcurrencyLimit} from the latency of successful requests, and requests that failed with status
+ * {@code 429} or {@code 503} or that timed out.
+ * <p>
+ * Requests can share a single limit, or have one limit per endpoint, so that slow requests such as bulk requests don't
+ * hold back fast ones such as get requests. The current limits are exposed by {@link #limiters()}.
+ * <p>
+ * Asynchronous requests that waited in the queue are sent from an executor, rather than from the thread that completed
+ * the request freeing their permit, which is usually an I/O thread of the transport. Cancelling or timing out the future
+ * of a queued request removes it from the queue.
+ */
+public class ConcurrencyLimitingTransport implements OpenSearchTransport {
+    /**
+     * The key of the limiter shared by all requests when limits are not per endpoint.
+     */
+    public static final String ALL = "_all";
+
+    /**
+     * The default maximum number of requests waiting for a request in flight to complete.
+     */
+    public static final int DEFAULT_MAX_QUEUE_SIZE = 100;
+
+    private final OpenSearchTransport transport;
+    private final Supplier<ConcurrencyLimit> limit;
+    private final int maxQueueSize;
+    private final boolean perEndpoint;
+    private final Executor executor;
+    private final @Nullable ExecutorService ownExecutor;
+    private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    private ConcurrencyLimitingTransport(Builder builder) {
+        if (builder.transport == null) {
+            throw new IllegalStateException("A transport must be set");
+        }
+        this.transport = builder.transport;
+        this.limit = builder.limit;
+        this.maxQueueSize = builder.maxQueueSize;
+        this.perEndpoint = builder.perEndpoint;
+
+        if (builder.executor == null) {
+            this.ownExecutor = Executors.newCachedThreadPool(r -> {
+                Thread t = Executors.defaultThreadFactory().newThread(r);
+                t.setName("opensearch-concurrency-limiter#" + t.getId());
+                t.setDaemon(true);
+                return t;
+            });
+            this.executor = ownExecutor;
+        } else {
+            // It's not ours, we will not shut it down.
+            this.ownExecutor = null;
+            this.executor = builder.executor;
+        }
+    }
+
+    /**
+     * The transport that sends the requests.
+     */
+    public OpenSearchTransport transport() {
+        return transport;
+    }
+
+    /**
+     * The limiters, by endpoint: either a single limiter with the {@link #ALL} key, or one limiter per endpoint, keyed
+     * by the class name of its requests. Limiters are created when the first request of their endpoint is sent.
+     */
+    public Map<String, ConcurrencyLimiter> limiters() {
+        return Collections.unmodifiableMap(limiters);
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+        RequestT request,
+        Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+        @Nullable TransportOptions options
+    ) throws IOException {
+        final ConcurrencyLimiter limiter = limiter(request);
+        final CompletableFuture<Integer> permit = limiter.acquire();
+        final int inFlight;
+        try {
+            inFlight = permit.get();
+        } catch (InterruptedException e) {
+            limiter.cancel(permit);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a request in flight to complete");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new TransportException("Failed to acquire a permit", e.getCause());
+        }
+
+        final long start = System.nanoTime();
+        try {
+            final ResponseT response = transport.performRequest(request, endpoint, options);
+            limiter.release(inFlight, System.nanoTime() - start, null);
+            return response;
+        } catch (Throwable t) {
+            limiter.release(inFlight, System.nanoTime() - start, t);
+            throw t;
+        }
+    }
+
+    @Override
+    public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+        RequestT request,
+        Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+        @Nullable TransportOptions options
+    ) {
+        final ConcurrencyLimiter limiter = limiter(request);
+        final CompletableFuture<Integer> permit = limiter.acquire();
+        // Set by whoever comes first: sending the request, or giving up on the permit
+        final AtomicBoolean claimed = new AtomicBoolean();
+
+        final Function<Integer, CompletableFuture<ResponseT>> send = inFlight -> {
+            if (!claimed.compareAndSet(false, true)) {
+                // The caller gave up while the permit was being granted, and it was given back
+                final CompletableFuture<ResponseT> abandoned = new CompletableFuture<>();
+                abandoned.cancel(false);
+                return abandoned;
+            }
+            final long start = System.nanoTime();
+            final CompletableFuture<ResponseT> future;
+            try {
+                future = transport.performRequestAsync(request, endpoint, options);
+            } catch (RuntimeException e) {
+                limiter.release(inFlight, System.nanoTime() - start, e);
+                throw e;
+            }
+            return future.whenComplete((response, failure) -> limiter.release(inFlight, System.nanoTime() - start, failure));
+        };
+
+        // Requests that get a permit right away are sent by the caller. Queued requests are sent from the executor, as
+        // their permit is granted by the thread completing another request.
+        final CompletableFuture<ResponseT> result = permit.isDone() ? permit.thenCompose(send) : permit.thenComposeAsync(send, executor);
+
+        // Cancelled, timed out, or failed before being sent: the permit is no longer needed
+        result.whenComplete((response, failure) -> {
+            if (failure != null && claimed.compareAndSet(false, true)) {
+                limiter.cancel(permit);
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public JsonpMapper jsonpMapper() {
+        return transport.jsonpMapper();
+    }
+
+    @Override
+    public TransportOptions options() {
+        return transport.options();
+    }
+
+    /**
+     * Fails the requests waiting for a permit, and closes the underlying transport.
+     */
+    @Override
+    public void close() throws IOException {
+        for (ConcurrencyLimiter limiter : limiters.values()) {
+            limiter.close();
+        }
+        if (ownExecutor != null) {
+            ownExecutor.shutdown();
+        }
+        transport.close();
+    }
+
+    private ConcurrencyLimiter limiter(Object request) {
+        final String key = perEndpoint ? request.getClass().getName() : ALL;
+        return limiters.computeIfAbsent(key, k -> new ConcurrencyLimiter(limit.get(), maxQueueSize));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+
+    public static ConcurrencyLimitingTransport of(Function<Builder, Builder> f) {
+        return f.apply(new Builder()).build();
+    }
+
+    public static class Builder implements ObjectBuilder<ConcurrencyLimitingTransport> {
+        private OpenSearchTransport transport;
+        private Supplier<ConcurrencyLimit> limit = AimdConcurrencyLimit::new;
+        private int maxQueueSize = DEFAULT_MAX_QUEUE_SIZE;
+        private boolean perEndpoint;
+        private Executor executor;
+
+        /**
+         * Sets the transport that sends the requests. Required.
+         */
+        public Builder transport(OpenSearchTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Sets the algorithm computing the limits, called once per limiter. Defaults to {@link AimdConcurrencyLimit}
+         * with its default settings.
+         */
+        public Builder limit(Supplier<ConcurrencyLimit> limit) {
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting for a request in flight to complete, per limiter. Defaults to
+         * {@link #DEFAULT_MAX_QUEUE_SIZE}. Can be set to {@code 0} to fail fast when the limit is reached.
+         *
+         * @throws IllegalArgumentException if less than 0.
+         */
+        public Builder maxQueueSize(int maxQueueSize) {
+            if (maxQueueSize < 0) {
+                throw new IllegalArgumentException("Max queue size should be at least 0");
+            }
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * Sets whether each endpoint has its own limit, rather than all requests sharing the same limit. Defaults to
+         * {@code false}.
+         */
+        public Builder perEndpoint(boolean enabled) {
+            this.perEndpoint = enabled;
+            return this;
+        }
+
+        /**
+         * Sets the executor that sends the asynchronous requests that waited in the queue. Defaults to a pool of daemon
+         * threads owned by the transport, and shut down when it is closed.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public ConcurrencyLimitingTransport build() {
+            return new ConcurrencyLimitingTransport(this);
+        }
+    }
+}
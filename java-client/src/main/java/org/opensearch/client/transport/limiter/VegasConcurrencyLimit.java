@@ -0,0 +1,107 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+/**
+ * A limit derived from TCP Vegas congestion control: the number of requests queued in the cluster is estimated from the
+ * ratio of the latency without load, the lowest latency observed, to the current latency. The limit grows while this
+ * estimate is small and shrinks when it grows, so that latency increases are detected before requests are rejected.
+ * <p>
+ * The thresholds are proportional to the logarithm of the limit, like in the Netflix concurrency-limits library. The
+ * latency without load is measured again every {@link #DEFAULT_PROBE_INTERVAL} samples, so that the limit adapts when
+ * the cluster becomes durably slower. Dropped requests shrink the limit regardless of their latency.
+ */
+public final class VegasConcurrencyLimit implements ConcurrencyLimit {
+    /**
+     * The default initial limit.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 20;
+    /**
+     * The default maximum limit.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 1000;
+    /**
+     * The default number of samples after which the latency without load is measured again.
+     */
+    public static final int DEFAULT_PROBE_INTERVAL = 1000;
+
+    private final int maxLimit;
+    private final int probeInterval;
+    private volatile int limit;
+    private long rttNoLoadNanos;
+    private long samples;
+
+    /**
+     * Creates a limit with the default settings.
+     */
+    public VegasConcurrencyLimit() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_PROBE_INTERVAL);
+    }
+
+    /**
+     * @param initialLimit  the limit until the first samples are recorded
+     * @param maxLimit      the maximum limit
+     * @param probeInterval the number of samples after which the latency without load is measured again
+     * @throws IllegalArgumentException if the limits are not ordered, or if a setting is out of range.
+     */
+    public VegasConcurrencyLimit(int initialLimit, int maxLimit, int probeInterval) {
+        if (initialLimit < 1 || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= initialLimit <= maxLimit");
+        }
+        if (probeInterval <= 0) {
+            throw new IllegalArgumentException("probeInterval must be greater than 0");
+        }
+        this.limit = initialLimit;
+        this.maxLimit = maxLimit;
+        this.probeInterval = probeInterval;
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+        final int current = limit;
+        final int log = log10(current);
+        if (dropped) {
+            limit = Math.max(1, current - log);
+            return;
+        }
+        if (++samples % probeInterval == 0) {
+            rttNoLoadNanos = 0;
+        }
+        if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = Math.max(1, rttNanos);
+            return;
+        }
+
+        final int queued = (int) Math.ceil(current * (1 - (double) rttNoLoadNanos / rttNanos));
+        if (queued > 6 * log) {
+            limit = Math.max(1, current - log);
+        } else if (inFlight * 2 < current) {
+            // The limit is not the bottleneck, don't grow it
+            return;
+        } else if (queued <= log) {
+            limit = Math.min(maxLimit, current + 6 * log);
+        } else if (queued < 3 * log) {
+            limit = Math.min(maxLimit, current + log);
+        }
+    }
+
+    private static int log10(int limit) {
+        return Math.max(1, (int) Math.log10(limit));
+    }
+
+    @Override
+    public String toString() {
+        return "VegasConcurrencyLimit{limit=" + limit + "}";
+    }
+}
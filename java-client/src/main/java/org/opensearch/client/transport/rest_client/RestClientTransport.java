@@ -41,6 +41,7 @@ import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -70,6 +71,8 @@ import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
 import org.opensearch.client.transport.endpoints.BooleanEndpoint;
 import org.opensearch.client.transport.endpoints.BooleanResponse;
+import org.opensearch.client.transport.instrumentation.RequestEvent;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
 import org.opensearch.client.util.ApiTypeHelper;
 import org.opensearch.client.util.MissingRequiredPropertyException;
 
@@ -102,11 +105,26 @@ public class RestClientTransport implements OpenSearchTransport {
     private final RestClient restClient;
     private final JsonpMapper mapper;
     private final RestClientOptions transportOptions;
+    private final TransportInstrumentation instrumentation;
 
     public RestClientTransport(RestClient restClient, JsonpMapper mapper, @Nullable TransportOptions options) {
+        this(restClient, mapper, options, TransportInstrumentation.NOOP);
+    }
+
+    /**
+     * Creates a transport whose requests are instrumented. The low level client doesn't report the time spent waiting
+     * for a connection, which is part of the network time.
+     */
+    public RestClientTransport(
+        RestClient restClient,
+        JsonpMapper mapper,
+        @Nullable TransportOptions options,
+        TransportInstrumentation instrumentation
+    ) {
         this.restClient = restClient;
         this.mapper = mapper;
         this.transportOptions = options == null ? RestClientOptions.initialOptions() : RestClientOptions.of(options);
+        this.instrumentation = Objects.requireNonNull(instrumentation, "instrumentation must not be null");
     }
 
     public RestClientTransport(RestClient restClient, JsonpMapper mapper) {
@@ -124,7 +142,7 @@ public class RestClientTransport implements OpenSearchTransport {
      * Copies this {@link #RestClientTransport} with specific request options.
      */
     public RestClientTransport withRequestOptions(@Nullable TransportOptions options) {
-        return new RestClientTransport(this.restClient, this.mapper, options);
+        return new RestClientTransport(this.restClient, this.mapper, options, this.instrumentation);
     }
 
     @Override
@@ -148,9 +166,29 @@ public class RestClientTransport implements OpenSearchTransport {
         @Nullable TransportOptions options
     ) throws IOException {
 
-        org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options);
-        org.opensearch.client.Response clientResp = restClient.performRequest(clientReq);
-        return getHighLevelResponse(clientResp, endpoint);
+        final RequestEvent event = RequestEvent.start(instrumentation, request, endpoint.method(request));
+        try {
+            org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options, event);
+            final long startNanos = event == null ? 0 : System.nanoTime();
+            org.opensearch.client.Response clientResp;
+            try {
+                clientResp = restClient.performRequest(clientReq);
+            } catch (IOException e) {
+                onAttempt(event, startNanos, e instanceof ResponseException ? ((ResponseException) e).getResponse() : null);
+                throw e;
+            }
+            onAttempt(event, startNanos, clientResp);
+            ResponseT response = getHighLevelResponse(clientResp, endpoint, event);
+            if (event != null) {
+                event.end(null);
+            }
+            return response;
+        } catch (IOException | RuntimeException e) {
+            if (event != null) {
+                event.end(e);
+            }
+            throw e;
+        }
     }
 
     public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
@@ -158,9 +196,22 @@ public class RestClientTransport implements OpenSearchTransport {
         Endpoint<RequestT, ResponseT, ErrorT> endpoint,
         @Nullable TransportOptions options
     ) {
-        org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options);
+        final RequestEvent event = RequestEvent.start(instrumentation, request, endpoint.method(request));
+        org.opensearch.client.Request clientReq;
+        try {
+            clientReq = prepareLowLevelRequest(request, endpoint, options, event);
+        } catch (RuntimeException e) {
+            if (event != null) {
+                event.end(e);
+            }
+            throw e;
+        }
 
         RequestFuture<ResponseT> future = new RequestFuture<>();
+        if (event != null) {
+            future.whenComplete((r, e) -> event.end(e));
+        }
+        final long startNanos = event == null ? 0 : System.nanoTime();
 
         // Propagate required property checks to the thread that will decode the response
         boolean disableRequiredChecks = ApiTypeHelper.requiredPropertiesCheckDisabled();
@@ -168,9 +219,10 @@ public class RestClientTransport implements OpenSearchTransport {
         future.cancellable = restClient.performRequestAsync(clientReq, new ResponseListener() {
             @Override
             public void onSuccess(Response clientResp) {
+                onAttempt(event, startNanos, clientResp);
                 try (ApiTypeHelper.DisabledChecksHandle h = ApiTypeHelper.DANGEROUS_disableRequiredPropertiesCheck(disableRequiredChecks)) {
 
-                    ResponseT response = getHighLevelResponse(clientResp, endpoint);
+                    ResponseT response = getHighLevelResponse(clientResp, endpoint, event);
                     future.complete(response);
 
                 } catch (Exception e) {
@@ -180,6 +232,7 @@ public class RestClientTransport implements OpenSearchTransport {
 
             @Override
             public void onFailure(Exception e) {
+                onAttempt(event, startNanos, e instanceof ResponseException ? ((ResponseException) e).getResponse() : null);
                 future.completeExceptionally(e);
             }
         });
@@ -187,6 +240,51 @@ public class RestClientTransport implements OpenSearchTransport {
         return future;
     }
 
+    private <RequestT> org.opensearch.client.Request prepareLowLevelRequest(
+        RequestT request,
+        Endpoint<RequestT, ?, ?> endpoint,
+        @Nullable TransportOptions options,
+        @Nullable RequestEvent event
+    ) {
+        if (event == null) {
+            return prepareLowLevelRequest(request, endpoint, options);
+        }
+        final long startNanos = System.nanoTime();
+        final org.opensearch.client.Request clientReq = prepareLowLevelRequest(request, endpoint, options);
+        final HttpEntity entity = clientReq.getEntity();
+        event.onSerialized(System.nanoTime() - startNanos, entity == null ? -1 : entity.getContentLength());
+        return clientReq;
+    }
+
+    private static void onAttempt(@Nullable RequestEvent event, long startNanos, @Nullable Response clientResp) {
+        if (event != null) {
+            event.onAttempt(
+                clientResp == null ? null : clientResp.getHost().toURI(),
+                0,
+                System.nanoTime() - startNanos,
+                clientResp == null ? -1 : clientResp.getStatusLine().getStatusCode()
+            );
+        }
+    }
+
+    private <ResponseT, ErrorT> ResponseT getHighLevelResponse(
+        org.opensearch.client.Response clientResp,
+        Endpoint<?, ResponseT, ErrorT> endpoint,
+        @Nullable RequestEvent event
+    ) throws IOException {
+        if (event == null) {
+            return getHighLevelResponse(clientResp, endpoint);
+        }
+        final HttpEntity entity = clientResp.getEntity();
+        final long responseBytes = entity == null ? -1 : entity.getContentLength();
+        final long startNanos = System.nanoTime();
+        try {
+            return getHighLevelResponse(clientResp, endpoint);
+        } finally {
+            event.onDeserialized(System.nanoTime() - startNanos, responseBytes);
+        }
+    }
+
     private <RequestT> org.opensearch.client.Request prepareLowLevelRequest(
         RequestT request,
         Endpoint<RequestT, ?, ?> endpoint,
@@ -258,13 +356,17 @@ public class RestClientTransport implements OpenSearchTransport {
             int statusCode = clientResp.getStatusLine().getStatusCode();
 
             if (statusCode == HttpStatus.SC_FORBIDDEN) {
-                throw new TransportException("Forbidden access", new ResponseException(clientResp));
+                throw new TransportException(statusCode, "Forbidden access", new ResponseException(clientResp));
             } else if (statusCode == HttpStatus.SC_UNAUTHORIZED) {
-                throw new TransportException("Unauthorized access", new ResponseException(clientResp));
+                throw new TransportException(statusCode, "Unauthorized access", new ResponseException(clientResp));
             } else if (endpoint.isError(statusCode)) {
                 HttpEntity entity = clientResp.getEntity();
                 if (entity == null) {
-                    throw new TransportException("Expecting a response body, but none was sent", new ResponseException(clientResp));
+                    throw new TransportException(
+                        statusCode,
+                        "Expecting a response body, but none was sent",
+                        new ResponseException(clientResp)
+                    );
                 }
 
                 if (endpoint instanceof GenericEndpoint) {
@@ -297,6 +399,7 @@ public class RestClientTransport implements OpenSearchTransport {
                     JsonpDeserializer<ErrorT> errorDeserializer = endpoint.errorDeserializer(statusCode);
                     if (errorDeserializer == null) {
                         throw new TransportException(
+                            statusCode,
                             "Request failed with status code '" + statusCode + "'",
                             new ResponseException(clientResp)
                         );
@@ -318,7 +421,7 @@ public class RestClientTransport implements OpenSearchTransport {
                             return response;
                         } catch (Exception respEx) {
                             // No better luck: throw the original error decoding exception
-                            throw new TransportException("Failed to decode error response", new ResponseException(clientResp));
+                            throw new TransportException(statusCode, "Failed to decode error response", new ResponseException(clientResp));
                         }
                     }
                 }
@@ -353,7 +456,11 @@ public class RestClientTransport implements OpenSearchTransport {
             if (responseParser != null) {
                 // Expecting a body
                 if (entity == null) {
-                    throw new TransportException("Expecting a response body, but none was sent", new ResponseException(clientResp));
+                    throw new TransportException(
+                        statusCode,
+                        "Expecting a response body, but none was sent",
+                        new ResponseException(clientResp)
+                    );
                 }
                 InputStream content = entity.getContent();
                 try (JsonParser parser = mapper.jsonProvider().createParser(content)) {
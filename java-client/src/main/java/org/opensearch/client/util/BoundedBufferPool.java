@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free {@link BufferPool} that retains at most a fixed number of released segments. Segments are kept in an
+ * array of slots that are claimed and filled with compare-and-set operations, starting at a position derived from the
+ * calling thread so that concurrent threads mostly touch different slots. When no free segment is found a new one is
+ * allocated, and when all slots are taken a released segment is simply dropped.
+ */
+public class BoundedBufferPool implements BufferPool {
+    /**
+     * The default maximum number of retained segments, i.e. 8MB with the default segment size.
+     */
+    public static final int DEFAULT_MAX_RETAINED_SEGMENTS = 512;
+
+    private final int segmentSize;
+    private final AtomicReferenceArray<byte[]> slots;
+
+    /**
+     * Creates a pool of {@link BufferPool#DEFAULT_SEGMENT_SIZE} segments retaining at most
+     * {@link #DEFAULT_MAX_RETAINED_SEGMENTS} of them.
+     */
+    public BoundedBufferPool() {
+        this(DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_RETAINED_SEGMENTS);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param segmentSize the size of the segments, in bytes
+     * @param maxRetainedSegments the maximum number of released segments kept for reuse
+     */
+    public BoundedBufferPool(int segmentSize, int maxRetainedSegments) {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("segmentSize must be greater than 0");
+        }
+        if (maxRetainedSegments <= 0) {
+            throw new IllegalArgumentException("maxRetainedSegments must be greater than 0");
+        }
+        this.segmentSize = segmentSize;
+        this.slots = new AtomicReferenceArray<>(maxRetainedSegments);
+    }
+
+    @Override
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    @Override
+    public byte[] acquire() {
+        final int length = slots.length();
+        final int start = startIndex(length);
+        for (int i = 0; i < length; i++) {
+            final int index = (start + i) % length;
+            final byte[] segment = slots.get(index);
+            if (segment != null && slots.compareAndSet(index, segment, null)) {
+                return segment;
+            }
+        }
+        return new byte[segmentSize];
+    }
+
+    @Override
+    public void release(byte[] segment) {
+        if (segment == null || segment.length != segmentSize) {
+            return;
+        }
+        final int length = slots.length();
+        final int start = startIndex(length);
+        for (int i = 0; i < length; i++) {
+            final int index = (start + i) % length;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, segment)) {
+                return;
+            }
+        }
+        // Pool is full, let the segment be garbage collected
+    }
+
+    /**
+     * The number of segments currently available for reuse. Only meant for monitoring, as the value may be stale.
+     */
+    public int retainedSegments() {
+        int count = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int startIndex(int length) {
+        // Spread threads over the slots to limit contention
+        final long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 33) % length;
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedBufferPool{segmentSize=" + segmentSize + ", maxRetainedSegments=" + slots.length() + "}";
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+/**
+ * Allocator of the fixed-size byte array segments that request bodies are serialized into. Transports borrow
+ * segments with {@link #acquire()} while serializing a request and give them back with {@link #release(byte[])}
+ * once the exchange has completed, so that implementations can recycle them across requests.
+ * <p>
+ * Implementations must be thread-safe.
+ *
+ * @see SegmentedByteArrayOutputStream
+ * @see BoundedBufferPool
+ */
+public interface BufferPool {
+    /**
+     * The default size of a segment, in bytes.
+     */
+    int DEFAULT_SEGMENT_SIZE = 16 * 1024;
+
+    /**
+     * A pool that allocates a new segment on each call and lets released segments be garbage collected. Its segments
+     * are small, so that small request bodies don't allocate much more than they need.
+     */
+    BufferPool UNPOOLED = new BufferPool() {
+        private static final int SEGMENT_SIZE = 1024;
+
+        @Override
+        public int segmentSize() {
+            return SEGMENT_SIZE;
+        }
+
+        @Override
+        public byte[] acquire() {
+            return new byte[SEGMENT_SIZE];
+        }
+
+        @Override
+        public void release(byte[] segment) {}
+
+        @Override
+        public String toString() {
+            return "BufferPool.UNPOOLED";
+        }
+    };
+
+    /**
+     * The length of the segments returned by {@link #acquire()}.
+     */
+    int segmentSize();
+
+    /**
+     * Borrows a segment of {@link #segmentSize()} bytes. Its content is unspecified.
+     */
+    byte[] acquire();
+
+    /**
+     * Gives back a segment previously obtained from {@link #acquire()}. The caller must not use it afterwards.
+     *
+     * @param segment the segment to give back
+     */
+    void release(byte[] segment);
+}
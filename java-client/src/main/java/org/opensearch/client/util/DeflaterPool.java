@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * A bounded pool of {@link Deflater} instances sharing the same compression level and format, either raw deflate
+ * (as used by gzip) or zlib.
+ * <p>
+ * Creating a deflater allocates several hundred kilobytes of native memory that is only freed by {@link Deflater#end()}
+ * or by the garbage collector, which makes it expensive to create one per request. Released deflaters are reset and
+ * kept for reuse, and ended when the pool is full.
+ */
+public final class DeflaterPool {
+    /**
+     * The default maximum number of retained deflaters.
+     */
+    public static final int DEFAULT_MAX_RETAINED_DEFLATERS = 16;
+
+    // One shared pool per compression level, from Deflater.DEFAULT_COMPRESSION (-1) to Deflater.BEST_COMPRESSION (9)
+    private static final DeflaterPool[] SHARED = new DeflaterPool[Deflater.BEST_COMPRESSION + 2];
+
+    static {
+        for (int i = 0; i < SHARED.length; i++) {
+            SHARED[i] = new DeflaterPool(i - 1, true, DEFAULT_MAX_RETAINED_DEFLATERS);
+        }
+    }
+
+    private final int level;
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Deflater> deflaters;
+
+    /**
+     * Creates a pool of raw deflaters, without zlib header and checksum.
+     *
+     * @param level the compression level of the deflaters, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param maxRetainedDeflaters the maximum number of released deflaters kept for reuse
+     */
+    public DeflaterPool(int level, int maxRetainedDeflaters) {
+        this(level, true, maxRetainedDeflaters);
+    }
+
+    /**
+     * Creates a pool.
+     *
+     * @param level the compression level of the deflaters, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     * @param nowrap {@code true} for raw deflaters, {@code false} for deflaters producing the zlib format
+     * @param maxRetainedDeflaters the maximum number of released deflaters kept for reuse
+     */
+    public DeflaterPool(int level, boolean nowrap, int maxRetainedDeflaters) {
+        checkLevel(level);
+        if (maxRetainedDeflaters <= 0) {
+            throw new IllegalArgumentException("maxRetainedDeflaters must be greater than 0");
+        }
+        this.level = level;
+        this.nowrap = nowrap;
+        this.deflaters = new ArrayBlockingQueue<>(maxRetainedDeflaters);
+    }
+
+    /**
+     * Returns the process-wide pool of raw deflaters with the given compression level.
+     *
+     * @param level the compression level of the deflaters, from 0 to 9 or {@link Deflater#DEFAULT_COMPRESSION}
+     */
+    public static DeflaterPool shared(int level) {
+        checkLevel(level);
+        return SHARED[level + 1];
+    }
+
+    /**
+     * The compression level of the deflaters of this pool.
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Whether the deflaters of this pool produce raw deflate data, without zlib header and checksum.
+     */
+    public boolean nowrap() {
+        return nowrap;
+    }
+
+    /**
+     * Returns a deflater ready to compress new content, either reused or newly created.
+     */
+    public Deflater acquire() {
+        final Deflater deflater = deflaters.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    /**
+     * Returns a deflater to the pool. The deflater must not be used by the caller afterwards.
+     */
+    public void release(Deflater deflater) {
+        if (deflater == null) {
+            return;
+        }
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            // Pool is full, free the native memory now rather than waiting for the garbage collector
+            deflater.end();
+        }
+    }
+
+    /**
+     * The number of deflaters currently available for reuse. Only meant for monitoring, as the value may be stale.
+     */
+    public int retainedDeflaters() {
+        return deflaters.size();
+    }
+
+    private static void checkLevel(int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("compression level must be between -1 and 9");
+        }
+    }
+
+    @Override
+    public String toString() {
+        final int maxRetainedDeflaters = deflaters.size() + deflaters.remainingCapacity();
+        return "DeflaterPool{level=" + level + ", nowrap=" + nowrap + ", maxRetainedDeflaters=" + maxRetainedDeflaters + "}";
+    }
+}
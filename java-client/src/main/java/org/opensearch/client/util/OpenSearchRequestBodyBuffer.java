@@ -10,12 +10,11 @@ package org.opensearch.client.util;
 
 import jakarta.json.stream.JsonGenerator;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.Iterator;
-import java.util.zip.GZIPOutputStream;
 import javax.annotation.CheckForNull;
 import javax.annotation.Nonnull;
 import org.apache.hc.core5.http.ContentType;
@@ -23,6 +22,8 @@ import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.NdJsonpSerializable;
 import org.opensearch.client.transport.GenericSerializable;
 import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
 
 /**
  * Serializes and captures an OpenSearch request body, and then provides access to it in convenient
@@ -34,7 +35,7 @@ import org.opensearch.client.transport.OpenSearchTransport;
  */
 public class OpenSearchRequestBodyBuffer {
     private static final byte[] NO_BYTES = new byte[0];
-    private final OutputBuffer outputBuffer;
+    private final SegmentedByteArrayOutputStream outputBuffer;
     private final CompressingOutputBuffer captureBuffer;
     private final JsonpMapper mapper;
     private final JsonGenerator jsonGenerator;
@@ -51,8 +52,35 @@ public class OpenSearchRequestBodyBuffer {
      *                               compressed.  Pass Integer.MAX_VALUE to prevent compression
      */
     public OpenSearchRequestBodyBuffer(JsonpMapper mapper, int requestCompressionSize) {
-        this.outputBuffer = new OutputBuffer();
-        this.captureBuffer = new CompressingOutputBuffer(this.outputBuffer, requestCompressionSize);
+        this(mapper, requestCompressionSize, BufferPool.UNPOOLED);
+    }
+
+    /**
+     * Create a request body buffer whose memory is borrowed from a pool. Call {@link #release()} once the
+     * request has been sent to give it back.
+     *
+     * @param mapper                 mapper used to serialize the content
+     * @param requestCompressionSize When the captured data exceeds this size, it will be automatically
+     *                               compressed.  Pass Integer.MAX_VALUE to prevent compression
+     * @param bufferPool             pool the buffer segments are borrowed from
+     */
+    public OpenSearchRequestBodyBuffer(JsonpMapper mapper, int requestCompressionSize, BufferPool bufferPool) {
+        this(mapper, requestCompressionSize, bufferPool, CompressionCodecs.gzip());
+    }
+
+    /**
+     * Create a request body buffer whose memory is borrowed from a pool, and that is compressed with the given codec.
+     * Call {@link #release()} once the request has been sent to give it back.
+     *
+     * @param mapper                 mapper used to serialize the content
+     * @param requestCompressionSize When the captured data exceeds this size, it will be automatically
+     *                               compressed.  Pass Integer.MAX_VALUE to prevent compression
+     * @param bufferPool             pool the buffer segments are borrowed from
+     * @param codec                  codec compressing the content
+     */
+    public OpenSearchRequestBodyBuffer(JsonpMapper mapper, int requestCompressionSize, BufferPool bufferPool, CompressionCodec codec) {
+        this.outputBuffer = new SegmentedByteArrayOutputStream(bufferPool);
+        this.captureBuffer = new CompressingOutputBuffer(this.outputBuffer, requestCompressionSize, codec);
         this.mapper = mapper;
         jsonGenerator = mapper.jsonProvider().createGenerator(this.captureBuffer);
     }
@@ -123,7 +151,7 @@ public class OpenSearchRequestBodyBuffer {
     @CheckForNull
     public String getContentEncoding() {
         if (captureBuffer.isCompressed()) {
-            return "gzip";
+            return captureBuffer.codec.contentEncoding();
         }
         return null;
     }
@@ -185,10 +213,34 @@ public class OpenSearchRequestBodyBuffer {
         if (outputBuffer.size() <= 0) {
             return new ByteArrayInputStream(NO_BYTES);
         } else {
-            return outputBuffer.toInputStream();
+            return outputBuffer.asInputStream();
         }
     }
 
+    /**
+     * Get the contents of this buffer as views on its segments, without copying them.
+     * <p>
+     * This call finalizes the buffer.  After this call, any attempt to add more content
+     * will throw an IOException.
+     * </P>
+     *
+     * @return The buffered data
+     */
+    public ByteBuffer[] getByteBuffers() {
+        ensureClosed();
+        return outputBuffer.asByteBuffers();
+    }
+
+    /**
+     * Finalizes the buffer and gives its memory back to the pool it was borrowed from. Streams and buffers
+     * previously returned by {@link #getInputStream()} and {@link #getByteBuffers()} must not be used after this
+     * call, while arrays returned by {@link #getByteArray()} remain valid.
+     */
+    public void release() {
+        ensureClosed();
+        outputBuffer.release();
+    }
+
     /**
      * This call finalizes the buffer.  After this call, any attempt to add more content
      * will throw an IOException.
@@ -211,12 +263,6 @@ public class OpenSearchRequestBodyBuffer {
         }
     }
 
-    private static class OutputBuffer extends ByteArrayOutputStream {
-        InputStream toInputStream() {
-            return new ByteArrayInputStream(this.buf, 0, this.count);
-        }
-    }
-
     private static class ClosedOutputBuffer extends OutputStream {
         static final ClosedOutputBuffer INSTANCE = new ClosedOutputBuffer();
 
@@ -230,16 +276,18 @@ public class OpenSearchRequestBodyBuffer {
     }
 
     private static class CompressingOutputBuffer extends OutputStream {
-        private final OutputBuffer outputBuffer;
+        private final SegmentedByteArrayOutputStream outputBuffer;
         private final int requestCompressionSize;
+        private final CompressionCodec codec;
         private OutputStream delegate;
         private int bytesUntilCompression;
         private boolean isCompressed;
 
-        private CompressingOutputBuffer(OutputBuffer outputBuffer, int requestCompressionSize) {
+        private CompressingOutputBuffer(SegmentedByteArrayOutputStream outputBuffer, int requestCompressionSize, CompressionCodec codec) {
             this.outputBuffer = outputBuffer;
             this.delegate = outputBuffer;
             this.requestCompressionSize = requestCompressionSize;
+            this.codec = codec;
             this.bytesUntilCompression = requestCompressionSize;
             this.isCompressed = false;
         }
@@ -278,7 +326,7 @@ public class OpenSearchRequestBodyBuffer {
                 this.bytesUntilCompression = Integer.MAX_VALUE;
                 byte[] uncompressed = outputBuffer.toByteArray();
                 outputBuffer.reset();
-                delegate = new GZIPOutputStream(outputBuffer);
+                delegate = codec.compress(outputBuffer);
                 if (uncompressed.length > 0) {
                     delegate.write(uncompressed);
                 }
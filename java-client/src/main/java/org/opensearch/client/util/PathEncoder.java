@@ -8,7 +8,9 @@
 
 package org.opensearch.client.util;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PathEncoder {
     private enum Encoding {
@@ -40,11 +42,36 @@ public class PathEncoder {
         .flatMap(Encoding::get)
         .orElse(ENCODING_DEFAULT);
 
+    // Encodings of the segments that had characters to escape, such as index patterns, lists of indices and date math
+    // index names, which are used again and again. Cleared when full, as document ids can also end up here.
+    private static final int MAX_CACHED_SEGMENTS = 1024;
+    private static final int MAX_CACHED_SEGMENT_LENGTH = 256;
+    private static final Map<String, String> ENCODED_SEGMENTS = new ConcurrentHashMap<>();
+
     public static String encode(String pathSegment) {
-        return ENCODING.percentCodec.encode(pathSegment);
+        final PercentCodec codec = ENCODING.percentCodec;
+        if (pathSegment == null || codec.isUnreserved(pathSegment)) {
+            return pathSegment;
+        }
+        if (pathSegment.length() > MAX_CACHED_SEGMENT_LENGTH) {
+            return codec.encode(pathSegment);
+        }
+        String encoded = ENCODED_SEGMENTS.get(pathSegment);
+        if (encoded == null) {
+            encoded = codec.encode(pathSegment);
+            if (ENCODED_SEGMENTS.size() >= MAX_CACHED_SEGMENTS) {
+                ENCODED_SEGMENTS.clear();
+            }
+            ENCODED_SEGMENTS.put(pathSegment, encoded);
+        }
+        return encoded;
     }
 
     public static void encode(StringBuilder dest, CharSequence pathSegment) {
-        ENCODING.percentCodec.encode(dest, pathSegment);
+        if (pathSegment instanceof String) {
+            dest.append(encode((String) pathSegment));
+        } else {
+            ENCODING.percentCodec.encode(dest, pathSegment);
+        }
     }
 }
@@ -92,35 +92,74 @@ class PercentCodec {
     };
 
     private static final int RADIX = 16;
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
-    private static void encode(
-        final StringBuilder buf,
-        final CharSequence content,
-        final Charset charset,
-        final Chars safeChars,
-        final boolean blankAsPlus
-    ) {
+    private static void encode(final StringBuilder buf, final CharSequence content, final Chars safeChars, final boolean blankAsPlus) {
         if (content == null) {
             return;
         }
-        final CharBuffer cb = CharBuffer.wrap(content);
-        final ByteBuffer bb = (charset != null ? charset : StandardCharsets.UTF_8).encode(cb);
-        while (bb.hasRemaining()) {
-            final int b = bb.get() & 0xff;
-            if (safeChars.contains(b)) {
-                buf.append((char) b);
-            } else if (blankAsPlus && b == ' ') {
-                buf.append("+");
+        // Encodes to UTF-8 on the fly rather than through a CharsetEncoder, which allocates buffers on each call
+        final int length = content.length();
+        for (int i = 0; i < length; i++) {
+            final char c = content.charAt(i);
+            if (c < 0x80) {
+                if (safeChars.contains(c)) {
+                    buf.append(c);
+                } else if (blankAsPlus && c == ' ') {
+                    buf.append('+');
+                } else {
+                    appendEscaped(buf, c);
+                }
+            } else if (c < 0x800) {
+                appendEscaped(buf, 0xC0 | (c >> 6));
+                appendEscaped(buf, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(content.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, content.charAt(++i));
+                appendEscaped(buf, 0xF0 | (codePoint >> 18));
+                appendEscaped(buf, 0x80 | ((codePoint >> 12) & 0x3F));
+                appendEscaped(buf, 0x80 | ((codePoint >> 6) & 0x3F));
+                appendEscaped(buf, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates are replaced, as the UTF-8 charset encoder does
+                appendEscaped(buf, '?');
             } else {
-                buf.append("%");
-                final char hex1 = Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, RADIX));
-                final char hex2 = Character.toUpperCase(Character.forDigit(b & 0xF, RADIX));
-                buf.append(hex1);
-                buf.append(hex2);
+                appendEscaped(buf, 0xE0 | (c >> 12));
+                appendEscaped(buf, 0x80 | ((c >> 6) & 0x3F));
+                appendEscaped(buf, 0x80 | (c & 0x3F));
             }
         }
     }
 
+    private static void appendEscaped(final StringBuilder buf, final int b) {
+        buf.append('%');
+        buf.append(HEX_DIGITS[(b >> 4) & 0xF]);
+        buf.append(HEX_DIGITS[b & 0xF]);
+    }
+
+    /**
+     * Whether a path, such as the ones built by the endpoints, is already percent-encoded: it only contains the
+     * characters allowed in a path, and valid escape sequences.
+     */
+    static boolean isEncodedPath(final CharSequence path) {
+        final int length = path.length();
+        for (int i = 0; i < length; i++) {
+            final char c = path.charAt(i);
+            if (c == '%') {
+                if (i + 2 >= length || !isHexDigit(path.charAt(i + 1)) || !isHexDigit(path.charAt(i + 2))) {
+                    return false;
+                }
+                i += 2;
+            } else if (c != '/' && (c >= 0x80 || !RFC3986_PATH_CHARS.contains(c))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return (c >= '0' && c <= '9') || (c >= 'A' && c <= 'F') || (c >= 'a' && c <= 'f');
+    }
+
     private static String decode(final CharSequence content, final Charset charset, final boolean plusAsBlank) {
         if (content == null) {
             return null;
@@ -162,18 +201,34 @@ class PercentCodec {
     }
 
     public void encode(final StringBuilder buf, final CharSequence content) {
-        encode(buf, content, StandardCharsets.UTF_8, unreserved, false);
+        encode(buf, content, unreserved, false);
     }
 
     public String encode(final CharSequence content) {
         if (content == null) {
             return null;
         }
-        final StringBuilder buf = new StringBuilder();
-        encode(buf, content, StandardCharsets.UTF_8, unreserved, false);
+        if (isUnreserved(content)) {
+            return content.toString();
+        }
+        final StringBuilder buf = new StringBuilder(content.length() + 16);
+        encode(buf, content, unreserved, false);
         return buf.toString();
     }
 
+    /**
+     * Whether a string is left as is when encoded.
+     */
+    public boolean isUnreserved(final CharSequence content) {
+        final int length = content.length();
+        for (int i = 0; i < length; i++) {
+            if (!unreserved.contains(content.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     public String decode(final CharSequence content) {
         return decode(content, StandardCharsets.UTF_8, false);
     }
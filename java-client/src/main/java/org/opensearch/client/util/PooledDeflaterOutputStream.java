@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * A compressing output stream that borrows its deflater from a {@link DeflaterPool} and returns it once the stream is
+ * finished. Depending on the pool, the content is written in the zlib or in the raw deflate format.
+ * <p>
+ * A stream that is abandoned before being finished should be {@link #release() released} so that its deflater can be
+ * reused.
+ */
+public class PooledDeflaterOutputStream extends DeflaterOutputStream {
+    private final DeflaterPool pool;
+    private boolean released;
+
+    /**
+     * Creates a stream.
+     *
+     * @param out the stream receiving the compressed content
+     * @param pool the pool the deflater is borrowed from
+     * @param bufferSize the size of the output buffer
+     */
+    public PooledDeflaterOutputStream(OutputStream out, DeflaterPool pool, int bufferSize) {
+        super(out, pool.acquire(), bufferSize);
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (released) {
+            throw new IOException("write beyond end of stream");
+        }
+        super.write(b, off, len);
+    }
+
+    /**
+     * Finishes the compressed content, without closing the underlying stream. The deflater is returned to the pool.
+     */
+    @Override
+    public void finish() throws IOException {
+        if (released) {
+            return;
+        }
+        try {
+            super.finish();
+            writeTrailer();
+        } finally {
+            release();
+        }
+    }
+
+    /**
+     * Called once the compressed content is finished, to write what follows it.
+     */
+    protected void writeTrailer() throws IOException {}
+
+    /**
+     * Returns the deflater to the pool without finishing the compressed content. Further writes fail.
+     */
+    public void release() {
+        if (!released) {
+            released = true;
+            pool.release(def);
+        }
+    }
+}
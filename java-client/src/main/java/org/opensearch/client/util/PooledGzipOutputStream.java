@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+
+/**
+ * A gzip compressing output stream, like {@link java.util.zip.GZIPOutputStream}, that borrows its deflater from a
+ * {@link DeflaterPool} of raw deflaters and returns it once the stream is finished.
+ * <p>
+ * A stream that is abandoned before being finished should be {@link #release() released} so that its deflater can be
+ * reused.
+ */
+public class PooledGzipOutputStream extends PooledDeflaterOutputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int TRAILER_SIZE = 8;
+
+    // Magic number, deflate method, no flags, no modification time, no extra flags, unknown OS
+    private static final byte[] HEADER = { (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), 8, 0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Creates a stream with an 8KB output buffer and writes the gzip header.
+     *
+     * @param out the stream receiving the compressed content
+     * @param pool the pool the deflater is borrowed from
+     */
+    public PooledGzipOutputStream(OutputStream out, DeflaterPool pool) throws IOException {
+        this(out, pool, 8192);
+    }
+
+    /**
+     * Creates a stream and writes the gzip header.
+     *
+     * @param out the stream receiving the compressed content
+     * @param pool the pool the deflater is borrowed from
+     * @param bufferSize the size of the output buffer
+     */
+    public PooledGzipOutputStream(OutputStream out, DeflaterPool pool, int bufferSize) throws IOException {
+        super(out, pool, bufferSize);
+        if (!pool.nowrap()) {
+            release();
+            throw new IllegalArgumentException("gzip requires a pool of raw deflaters");
+        }
+        try {
+            out.write(HEADER);
+        } catch (IOException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        super.write(b, off, len);
+        crc.update(b, off, len);
+    }
+
+    /**
+     * Writes the checksum and the size of the uncompressed content.
+     */
+    @Override
+    protected void writeTrailer() throws IOException {
+        final byte[] trailer = new byte[TRAILER_SIZE];
+        writeInt((int) crc.getValue(), trailer, 0);
+        writeInt((int) def.getBytesRead(), trailer, 4);
+        out.write(trailer);
+    }
+
+    private static void writeInt(int value, byte[] buf, int offset) {
+        // Little endian, as required by the gzip format
+        buf[offset] = (byte) value;
+        buf[offset + 1] = (byte) (value >> 8);
+        buf[offset + 2] = (byte) (value >> 16);
+        buf[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Writes the path and query of request URIs.
+ * <p>
+ * The paths built by the endpoints are already percent-encoded, so they are copied as is after the path prefix, and
+ * the query parameters are percent-encoded as RFC 3986 unreserved characters, the same way as the Apache HttpClient 5
+ * {@code URIBuilder} does. Each thread writes into its own buffer, so that only the resulting string is allocated.
+ */
+public final class RequestUri {
+    // Buffers grown larger than this by requests with a large query are not kept
+    private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private RequestUri() {}
+
+    /**
+     * Writes the path and query of a request URI.
+     *
+     * @param pathPrefix the prefix of all the paths, may be {@code null}
+     * @param path the path of the request
+     * @param params the query parameters
+     * @return the path and query, or {@code null} if the path prefix or the path is not percent-encoded, in which case
+     *         they must be parsed by a full URI parser
+     */
+    @Nullable
+    public static String format(@Nullable String pathPrefix, String path, Map<String, String> params) {
+        final boolean hasPrefix = pathPrefix != null && !pathPrefix.isEmpty();
+        if ((hasPrefix && !PercentCodec.isEncodedPath(pathPrefix)) || !PercentCodec.isEncodedPath(path)) {
+            return null;
+        }
+
+        StringBuilder buf = BUFFER.get();
+        if (buf.capacity() > MAX_RETAINED_CAPACITY) {
+            buf = new StringBuilder(256);
+            BUFFER.set(buf);
+        }
+        buf.setLength(0);
+
+        if (hasPrefix) {
+            final boolean prefixEndsWithSlash = pathPrefix.endsWith("/");
+            final boolean pathStartsWithSlash = path.startsWith("/");
+            if (prefixEndsWithSlash && pathStartsWithSlash) {
+                buf.append(pathPrefix, 0, pathPrefix.length() - 1);
+            } else {
+                buf.append(pathPrefix);
+                if (!prefixEndsWithSlash && !pathStartsWithSlash) {
+                    buf.append('/');
+                }
+            }
+        }
+        buf.append(path);
+
+        char separator = '?';
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            buf.append(separator);
+            PercentCodec.RFC3986_UNRESERVED.encode(buf, param.getKey());
+            if (param.getValue() != null) {
+                buf.append('=');
+                PercentCodec.RFC3986_UNRESERVED.encode(buf, param.getValue());
+            }
+            separator = '&';
+        }
+        return buf.toString();
+    }
+}
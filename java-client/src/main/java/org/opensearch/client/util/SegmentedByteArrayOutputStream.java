@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An output stream that writes into a list of fixed-size segments borrowed from a {@link BufferPool}, so that
+ * growing it never copies data and its memory can be recycled once the content is no longer needed.
+ * <p>
+ * Call {@link #release()} when done with the content: segments are then given back to the pool, and any view
+ * previously obtained from this stream must not be used anymore. Closing the stream has no effect, like
+ * {@link java.io.ByteArrayOutputStream}.
+ */
+public class SegmentedByteArrayOutputStream extends OutputStream {
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final BufferPool pool;
+    private final int segmentSize;
+    private final List<byte[]> segments = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private int count;
+
+    /**
+     * Create a new output stream that borrows its segments from the provided pool.
+     *
+     * @param pool the pool to borrow segments from
+     */
+    public SegmentedByteArrayOutputStream(BufferPool pool) {
+        this.pool = pool;
+        this.segmentSize = pool.segmentSize();
+    }
+
+    @Override
+    public void write(int b) {
+        if (current == null || position == segmentSize) {
+            nextSegment();
+        }
+        current[position++] = (byte) b;
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if ((off < 0) || (len < 0) || (len > b.length - off)) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            if (current == null || position == segmentSize) {
+                nextSegment();
+            }
+            final int n = Math.min(len, segmentSize - position);
+            System.arraycopy(b, off, current, position, n);
+            position += n;
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private void nextSegment() {
+        current = pool.acquire();
+        segments.add(current);
+        position = 0;
+    }
+
+    /**
+     * The number of bytes written to this stream.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Writes the content of this stream to another output stream.
+     *
+     * @param out the stream to write to
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        int remaining = count;
+        for (byte[] segment : segments) {
+            final int n = Math.min(remaining, segmentSize);
+            out.write(segment, 0, n);
+            remaining -= n;
+        }
+    }
+
+    /**
+     * Copies the content of this stream into a new byte array.
+     */
+    public byte[] toByteArray() {
+        if (count == 0) {
+            return NO_BYTES;
+        }
+        final byte[] result = new byte[count];
+        int offset = 0;
+        for (byte[] segment : segments) {
+            final int n = Math.min(count - offset, segmentSize);
+            System.arraycopy(segment, 0, result, offset, n);
+            offset += n;
+        }
+        return result;
+    }
+
+    /**
+     * Get {@code ByteBuffer} views on the segments of this stream, without copying them.
+     */
+    public ByteBuffer[] asByteBuffers() {
+        final ByteBuffer[] buffers = new ByteBuffer[segments.size()];
+        int remaining = count;
+        for (int i = 0; i < buffers.length; i++) {
+            final int n = Math.min(remaining, segmentSize);
+            buffers[i] = ByteBuffer.wrap(segments.get(i), 0, n);
+            remaining -= n;
+        }
+        return buffers;
+    }
+
+    /**
+     * Get a new {@code InputStream} view on the content of this stream, without copying it. Calls to this method are
+     * cheap, and all the returned streams share the same segments.
+     */
+    public InputStream asInputStream() {
+        return new SegmentsInputStream();
+    }
+
+    /**
+     * Discards the content of this stream, giving its segments back to the pool. The stream can then be written to again.
+     */
+    public void reset() {
+        for (byte[] segment : segments) {
+            pool.release(segment);
+        }
+        segments.clear();
+        current = null;
+        position = 0;
+        count = 0;
+    }
+
+    /**
+     * Gives the segments back to the pool. Same as {@link #reset()}, provided to make ownership explicit.
+     */
+    public void release() {
+        reset();
+    }
+
+    private class SegmentsInputStream extends InputStream {
+        private final int limit = count;
+        private int offset;
+        private int mark;
+
+        @Override
+        public int read() {
+            if (offset >= limit) {
+                return -1;
+            }
+            final int b = segments.get(offset / segmentSize)[offset % segmentSize] & 0xff;
+            offset++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if ((off < 0) || (len < 0) || (len > b.length - off)) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            if (offset >= limit) {
+                return -1;
+            }
+            int read = 0;
+            while (read < len && offset < limit) {
+                final int inSegment = offset % segmentSize;
+                final int n = Math.min(Math.min(len - read, segmentSize - inSegment), limit - offset);
+                System.arraycopy(segments.get(offset / segmentSize), inSegment, b, off + read, n);
+                read += n;
+                offset += n;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            final long skipped = Math.max(0, Math.min(n, limit - offset));
+            offset += (int) skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return limit - offset;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return true;
+        }
+
+        @Override
+        public synchronized void mark(int readlimit) {
+            mark = offset;
+        }
+
+        @Override
+        public synchronized void reset() {
+            offset = mark;
+        }
+    }
+}
@@ -33,15 +33,20 @@
 package org.opensearch.client.opensearch._helpers.bulk;
 
 import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -57,8 +62,10 @@ import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.transport.BackoffPolicy;
 import org.opensearch.client.transport.Endpoint;
 import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportException;
 import org.opensearch.client.transport.TransportOptions;
 
 public class BulkIngesterTest extends Assert {
@@ -88,6 +95,10 @@ public class BulkIngesterTest extends Assert {
         i -> i.index("foo").status(200).operationType(OperationType.Delete)
     );
 
+    private static final BulkResponseItem rejectedItem = BulkResponseItem.of(
+        i -> i.index("foo").status(429).operationType(OperationType.Delete).error(e -> e.type("rejected").reason("Too many requests"))
+    );
+
     private static final BulkOperation operation = BulkOperation.of(op -> op.delete(d -> d.index("foo").id("bar")));
 
     private void printStats(BulkIngester<?> ingester) {
@@ -116,29 +127,45 @@ public class BulkIngesterTest extends Assert {
     @Test
     public void basicTestFlush() throws Exception {
         // Prime numbers, so that we have leftovers to flush before shutting down
-        multiThreadTest(7, 3, 5, 101, true);
+        multiThreadTest(7, 3, 5, 101, true, false);
     }
 
     @Test
     public void basicTestFlushWithInternalScheduler() throws Exception {
         // Prime numbers, so that we have leftovers to flush before shutting down
-        multiThreadTest(7, 3, 5, 101, false);
+        multiThreadTest(7, 3, 5, 101, false, false);
     }
 
     @Test
     public void basicTestNoFlush() throws Exception {
         // Will have nothing to flush on close.
-        multiThreadTest(10, 3, 5, 100, true);
+        multiThreadTest(10, 3, 5, 100, true, false);
     }
 
     @Test
     public void basicTestNoFlushWithInternalScheduler() throws Exception {
         // Will have nothing to flush on close.
-        multiThreadTest(10, 3, 5, 100, false);
+        multiThreadTest(10, 3, 5, 100, false, false);
+    }
+
+    @Test
+    public void concurrentBufferingTestFlush() throws Exception {
+        multiThreadTest(7, 3, 16, 101, true, true);
     }
 
-    private void multiThreadTest(int maxOperations, int maxRequests, int numThreads, int numOperations, boolean externalScheduler)
-        throws Exception {
+    @Test
+    public void concurrentBufferingTestNoFlush() throws Exception {
+        multiThreadTest(10, 1, 16, 100, false, true);
+    }
+
+    private void multiThreadTest(
+        int maxOperations,
+        int maxRequests,
+        int numThreads,
+        int numOperations,
+        boolean externalScheduler,
+        boolean concurrentBuffering
+    ) throws Exception {
 
         CountingListener listener = new CountingListener();
         TestTransport transport = new TestTransport();
@@ -156,26 +183,35 @@ public class BulkIngesterTest extends Assert {
         }
 
         BulkIngester<Void> ingester = BulkIngester.of(
-            b -> b.client(client).maxOperations(maxOperations).maxConcurrentRequests(maxRequests).scheduler(scheduler).listener(listener)
+            b -> b.client(client)
+                .maxOperations(maxOperations)
+                .maxConcurrentRequests(maxRequests)
+                .scheduler(scheduler)
+                .listener(listener)
+                .concurrentBuffering(concurrentBuffering)
         );
 
         CountDownLatch latch = new CountDownLatch(numThreads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
         for (int i = 0; i < numThreads; i++) {
             new Thread(() -> {
                 try {
                     Thread.sleep((long) (Math.random() * 100));
-                } catch (InterruptedException e) {
-                    throw new RuntimeException(e);
-                }
-                for (int j = 0; j < numOperations; j++) {
-                    ingester.add(operation);
+                    for (int j = 0; j < numOperations; j++) {
+                        ingester.add(operation);
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                } finally {
+                    latch.countDown();
                 }
-
-                latch.countDown();
             }).start();
         }
 
         latch.await();
+        if (failure.get() != null) {
+            throw new AssertionError("Producer failed", failure.get());
+        }
 
         ingester.close();
         transport.close();
@@ -223,6 +259,482 @@ public class BulkIngesterTest extends Assert {
         assertEquals(5, ingester.requestCount());
     }
 
+    @Test
+    public void sizeLimitConcurrentBufferingTest() throws Exception {
+        TestTransport transport = new TestTransport();
+        CountingListener listener = new CountingListener();
+
+        long operationSize = IngesterOperation.of(new RetryableBulkOperation<>(operation, null, null), transport.jsonpMapper()).size();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                // Set size limit just above 2 operations' size, leading to 3 operations per request
+                .maxSize(2 * operationSize + 1)
+                .listener(listener)
+                .concurrentBuffering(true)
+        );
+
+        for (int i = 0; i < 10; i++) {
+            ingester.add(operation);
+            assertTrue(ingester.pendingOperationsSize() <= 2 * operationSize);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(10, ingester.operationsCount());
+        assertEquals(4, ingester.requestCount());
+        assertEquals(10, listener.operations.get());
+        assertEquals(0, ingester.pendingOperations());
+    }
+
+    @Test
+    public void sizeStatisticsTest() throws Exception {
+        TestTransport transport = new TestTransport();
+
+        long operationSize = IngesterOperation.of(new RetryableBulkOperation<>(operation, null, null), transport.jsonpMapper()).size();
+
+        BulkIngester<?> ingester = BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(4));
+
+        for (int i = 0; i < 10; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(10 * operationSize, ingester.operationsSize());
+        assertEquals(10 * operationSize, ingester.requestsSize());
+        assertEquals(10, ingester.operationSizeHistogram().count());
+        assertEquals(operationSize, ingester.operationSizeHistogram().max());
+        assertEquals(3, ingester.requestSizeHistogram().count());
+        assertEquals(4 * operationSize, ingester.requestSizeHistogram().max());
+    }
+
+    @Test
+    public void adaptiveSizeTest() throws Exception {
+        TestTransport transport = new TestTransport();
+        // Processing 10 operations takes the target time
+        transport.tookPerOperation = 2;
+
+        long operationSize = IngesterOperation.of(new RetryableBulkOperation<>(operation, null, null), transport.jsonpMapper()).size();
+
+        BulkIngester<?> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(-1)
+                .maxSize(100 * operationSize)
+                .maxConcurrentRequests(1)
+                .adaptiveSize(operationSize, 20, TimeUnit.MILLISECONDS)
+        );
+
+        assertEquals(100 * operationSize, ingester.currentMaxSize());
+
+        for (int i = 0; i < 1000; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(1000, transport.operations.get());
+        // The size limit converged towards 10 operations
+        assertTrue(ingester.currentMaxSize() >= 8 * operationSize);
+        assertTrue(ingester.currentMaxSize() <= 14 * operationSize);
+        assertTrue(ingester.requestCount() > 20);
+    }
+
+    @Test
+    public void adaptiveSizeRequiresMaxSize() {
+        TestTransport transport = new TestTransport();
+        assertThrows(
+            IllegalStateException.class,
+            () -> BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(transport)).maxSize(-1).adaptiveSize(1000, 1, TimeUnit.SECONDS))
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(transport)).adaptiveSize(1000, 0, TimeUnit.SECONDS))
+        );
+    }
+
+    @Test
+    public void preSerializeTest() throws Exception {
+        TestTransport transport = new TestTransport();
+        CountingListener listener = new CountingListener();
+        JsonpMapper mapper = transport.jsonpMapper();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(5).listener(listener).preSerialize(true)
+        );
+
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        for (int i = 0; i < 12; i++) {
+            String id = String.valueOf(i);
+            Map<String, Object> doc = Collections.singletonMap("value", i);
+            BulkOperation op = BulkOperation.of(b -> b.index(idx -> idx.index("test").id(id).document(doc)));
+            ingester.add(op);
+
+            expected.write(("{\"index\":{\"_id\":\"" + id + "\",\"_index\":\"test\"}}\n").getBytes());
+            expected.write((toJsonString(doc, mapper) + "\n").getBytes());
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(3, transport.serializedBodies.size());
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        for (byte[] body : transport.serializedBodies) {
+            actual.write(body);
+        }
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.size(), ingester.requestsSize());
+
+        assertEquals(12, listener.operations.get());
+        assertEquals(12, transport.operations.get());
+    }
+
+    @Test
+    public void retryTooManyRequests() throws Exception {
+        TestTransport transport = new TestTransport();
+        // The first 15 operations sent are rejected
+        transport.rejectedOperations.set(15);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(listener)
+                // Enough retries for an operation to be rejected in every request while rejections last
+                .backoffPolicy(BackoffPolicy.constantBackoff(10L, 20))
+        );
+
+        for (int i = 0; i < 20; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(20, ingester.operationsCount());
+        // All operations eventually succeeded
+        assertEquals(20, listener.successfulOperations.get());
+        assertEquals(35, transport.operations.get());
+        assertEquals(0, ingester.pendingOperations());
+    }
+
+    @Test
+    public void retryItemPredicate() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.rejectedOperations.set(5);
+        transport.rejection = BulkResponseItem.of(
+            i -> i.index("foo")
+                .status(409)
+                .operationType(OperationType.Create)
+                .error(e -> e.type("version_conflict_engine_exception").reason("Document already exists"))
+        );
+        CountingListener listener = new CountingListener();
+
+        // Version conflicts are not retried by default
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(listener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 3))
+        );
+        for (int i = 0; i < 10; i++) {
+            ingester.add(operation);
+        }
+        ingester.close();
+
+        assertEquals(10, listener.operations.get());
+        assertEquals(5, listener.successfulOperations.get());
+        assertEquals(10, transport.operations.get());
+
+        transport.rejectedOperations.set(5);
+        CountingListener retryingListener = new CountingListener();
+        ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(retryingListener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 3))
+                .retryItemIf(BulkRetryPredicates.DEFAULT_ITEM.or(BulkRetryPredicates.createVersionConflicts()))
+        );
+        for (int i = 0; i < 10; i++) {
+            ingester.add(operation);
+        }
+        ingester.close();
+        transport.close();
+
+        assertEquals(10, retryingListener.operations.get());
+        assertEquals(10, retryingListener.successfulOperations.get());
+        assertEquals(25, transport.operations.get());
+    }
+
+    @Test
+    public void retryFailedRequests() throws Exception {
+        TestTransport transport = new TestTransport();
+        // The first 2 requests fail as a whole
+        transport.failedRequests.set(2);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(listener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 5))
+        );
+
+        for (int i = 0; i < 20; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        // All operations were resent and eventually succeeded, without failures reported to the listener
+        assertEquals(20, listener.successfulOperations.get());
+        assertEquals(20, listener.operations.get());
+        assertEquals(0, listener.failedOperations.get());
+        assertEquals(20, ingester.operationsCount());
+        assertEquals(0, ingester.pendingOperations());
+    }
+
+    @Test
+    public void failedRequestsNotRetried() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.failedRequests.set(1);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(listener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 5))
+                .retryRequestIf(failure -> false)
+        );
+
+        for (int i = 0; i < 20; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(10, listener.failedOperations.get());
+        assertEquals(10, listener.successfulOperations.get());
+        assertEquals(20, transport.operations.get());
+    }
+
+    @Test
+    public void retryExhaustedForFailedRequests() throws Exception {
+        TestTransport transport = new TestTransport();
+        // More failures than retries
+        transport.failedRequests.set(5);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(10)
+                .listener(listener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 2))
+        );
+
+        for (int i = 0; i < 10; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        // Initial request and 2 retries
+        assertEquals(3, transport.requestsStarted.get());
+        assertEquals(10, listener.failedOperations.get());
+        assertEquals(0, listener.successfulOperations.get());
+        assertEquals(0, ingester.pendingOperations());
+    }
+
+    @Test
+    public void largeResponseRetries() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.rejectedOperations.set(5_000);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport))
+                .maxOperations(20_000)
+                .maxSize(-1)
+                .listener(listener)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 5))
+        );
+
+        for (int i = 0; i < 20_000; i++) {
+            ingester.add(operation);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(20_000, listener.successfulOperations.get());
+        assertEquals(25_000, transport.operations.get());
+        assertEquals(2, transport.requestsStarted.get());
+    }
+
+    @Test
+    public void addAsyncTest() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.responseGate = new CountDownLatch(1);
+        CountingListener listener = new CountingListener();
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(10).maxConcurrentRequests(1).listener(listener)
+        );
+
+        // Responses are held: add() would block once the first request is sent and the buffer is full again
+        List<CompletableFuture<BulkResponseItem>> completions = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            completions.add(ingester.addAsync(operation).toCompletableFuture());
+        }
+        assertEquals(1, transport.requestsStarted.get());
+        assertEquals(90, ingester.pendingOperations());
+        assertTrue(completions.stream().noneMatch(CompletableFuture::isDone));
+
+        transport.responseGate.countDown();
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Completed even before the ingester is closed
+        for (CompletableFuture<BulkResponseItem> completion : completions) {
+            assertEquals(200, completion.get().status());
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(100, ingester.operationsCount());
+        assertEquals(10, ingester.requestCount());
+        assertEquals(100, listener.operations.get());
+        assertEquals(0, ingester.pendingOperations());
+    }
+
+    @Test
+    public void addAsyncRetriesAndFailures() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.rejectedOperations.set(15);
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(10).backoffPolicy(BackoffPolicy.constantBackoff(1L, 1))
+        );
+
+        List<CompletableFuture<BulkResponseItem>> completions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            completions.add(ingester.addAsync(operation).toCompletableFuture());
+        }
+        ingester.close();
+
+        // All operations were rejected once. Half of them were rejected again on retry, and have no retries left.
+        int rejected = 0;
+        for (CompletableFuture<BulkResponseItem> completion : completions) {
+            if (completion.get(10, TimeUnit.SECONDS).status() == 429) {
+                rejected++;
+            }
+        }
+        assertEquals(5, rejected);
+
+        transport.failedRequests.set(1);
+        ingester = BulkIngester.of(b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(5));
+        CompletableFuture<BulkResponseItem> failed = ingester.addAsync(operation).toCompletableFuture();
+        ingester.close();
+        transport.close();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> failed.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TransportException);
+    }
+
+    @Test
+    public void addAsyncOverflowLimit() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.responseGate = new CountDownLatch(1);
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(10).maxConcurrentRequests(1).maxOverflow(20, -1)
+        );
+
+        // 10 operations in flight, 10 in the buffer and 20 kept aside
+        List<CompletableFuture<BulkResponseItem>> completions = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            completions.add(ingester.addAsync(operation).toCompletableFuture());
+        }
+        CompletableFuture<BulkResponseItem> rejected = ingester.addAsync(operation).toCompletableFuture();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+        assertEquals(40, ingester.operationsCount());
+        assertEquals(30, ingester.pendingOperations());
+
+        transport.responseGate.countDown();
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+
+        // Requests following a response are sent by the ingester's scheduler, not by the thread of the response
+        assertEquals(4, transport.requestThreads.size());
+        transport.requestThreads.stream().skip(1).forEach(name -> assertTrue(name, name.startsWith("bulk-ingester-executor#")));
+
+        // Room was made: operations are accepted again
+        CompletableFuture<BulkResponseItem> accepted = ingester.addAsync(operation).toCompletableFuture();
+        ingester.close();
+        assertEquals(200, accepted.get(10, TimeUnit.SECONDS).status());
+
+        // Limit in bytes
+        long operationSize = ingester.operationsSize() / ingester.operationsCount();
+        transport.responseGate = new CountDownLatch(1);
+        BulkIngester<Void> sizeLimited = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(10).maxOverflow(-1, 5 * operationSize)
+        );
+
+        completions.clear();
+        for (int i = 0; i < 25; i++) {
+            completions.add(sizeLimited.addAsync(operation).toCompletableFuture());
+        }
+        CompletableFuture<BulkResponseItem> rejectedBySize = sizeLimited.addAsync(operation).toCompletableFuture();
+        e = assertThrows(ExecutionException.class, () -> rejectedBySize.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof RejectedExecutionException);
+
+        transport.responseGate.countDown();
+        sizeLimited.close();
+        transport.close();
+        CompletableFuture.allOf(completions.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        assertEquals(25, sizeLimited.operationsCount());
+    }
+
+    @Test
+    public void tryAddTest() throws Exception {
+        TestTransport transport = new TestTransport();
+        transport.responseGate = new CountDownLatch(1);
+
+        BulkIngester<Void> ingester = BulkIngester.of(
+            b -> b.client(new OpenSearchAsyncClient(transport)).maxOperations(5).maxConcurrentRequests(1)
+        );
+
+        // A first request is sent, then the buffer is filled while it is in flight
+        for (int i = 0; i < 10; i++) {
+            assertTrue(ingester.tryAdd(operation));
+        }
+        assertFalse(ingester.tryAdd(operation));
+        assertEquals(1, transport.requestsStarted.get());
+        assertEquals(10, ingester.operationsCount());
+
+        // Completing the first request sends the full buffer, making room again
+        transport.responseGate.countDown();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!ingester.tryAdd(operation)) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(1);
+        }
+
+        ingester.close();
+        transport.close();
+
+        assertEquals(11, ingester.operationsCount());
+        assertEquals(11, transport.operations.get());
+        assertEquals(3, transport.requestsStarted.get());
+    }
+
     @Test
     public void periodicFlushTest() throws Exception {
         TestTransport transport = new TestTransport();
@@ -461,6 +973,13 @@ public class BulkIngesterTest extends Assert {
             // Expected
         }
 
+        try {
+            b.maxOverflow(-2, -1);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+
         try {
             b.maxSize(-1).maxOperations(-1).build();
             fail("Expected IllegalStateException");
@@ -473,6 +992,8 @@ public class BulkIngesterTest extends Assert {
 
     private static class CountingListener implements BulkListener<Void> {
         public final AtomicInteger operations = new AtomicInteger();
+        public final AtomicInteger successfulOperations = new AtomicInteger();
+        public final AtomicInteger failedOperations = new AtomicInteger();
         public final AtomicInteger requests = new AtomicInteger();
 
         @Override
@@ -483,6 +1004,7 @@ public class BulkIngesterTest extends Assert {
         @Override
         public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, BulkResponse response) {
             operations.addAndGet(request.operations().size());
+            successfulOperations.addAndGet((int) response.items().stream().filter(i -> i.error() == null).count());
             requests.incrementAndGet();
         }
 
@@ -490,6 +1012,7 @@ public class BulkIngesterTest extends Assert {
         public void afterBulk(long executionId, BulkRequest request, List<Void> contexts, Throwable failure) {
             failure.printStackTrace();
             operations.addAndGet(request.operations().size());
+            failedOperations.addAndGet(request.operations().size());
             requests.incrementAndGet();
         }
     }
@@ -498,6 +1021,16 @@ public class BulkIngesterTest extends Assert {
         public final AtomicInteger requestsStarted = new AtomicInteger();
         public final AtomicInteger requestsCompleted = new AtomicInteger();
         public final AtomicInteger operations = new AtomicInteger();
+        public final AtomicInteger rejectedOperations = new AtomicInteger();
+        public volatile BulkResponseItem rejection = rejectedItem;
+        public final AtomicInteger failedRequests = new AtomicInteger();
+        // If set, responses are held until the latch is released
+        public volatile CountDownLatch responseGate = null;
+        public final ConcurrentLinkedQueue<byte[]> serializedBodies = new ConcurrentLinkedQueue<>();
+        // Names of the threads that sent requests
+        public final ConcurrentLinkedQueue<String> requestThreads = new ConcurrentLinkedQueue<>();
+        // If set, the processing time reported in responses is proportional to the number of operations
+        public volatile long tookPerOperation = 0;
 
         private final ExecutorService executor = Executors.newCachedThreadPool();
 
@@ -517,23 +1050,51 @@ public class BulkIngesterTest extends Assert {
             @Nullable TransportOptions options
         ) {
 
-            BulkRequest bulk = (BulkRequest) request;
+            BulkRequest bulk;
+            if (request instanceof SerializedBulkRequest) {
+                bulk = ((SerializedBulkRequest) request).request();
+                ByteArrayOutputStream body = new ByteArrayOutputStream();
+                ((SerializedBulkRequest) request).serialize(body);
+                serializedBodies.add(body.toByteArray());
+            } else {
+                bulk = (BulkRequest) request;
+            }
             requestsStarted.incrementAndGet();
+            requestThreads.add(Thread.currentThread().getName());
             operations.addAndGet(bulk.operations().size());
 
             if (bulk.operations().size() == 0) {
                 System.out.println("No operations!");
             }
 
+            if (failedRequests.getAndDecrement() > 0) {
+                CompletableFuture<ResponseT> failure = new CompletableFuture<>();
+                executor.submit(() -> {
+                    requestsCompleted.incrementAndGet();
+                    failure.completeExceptionally(new TransportException("Connection reset"));
+                });
+                return failure;
+            }
+
             List<BulkResponseItem> items = new ArrayList<>();
             for (int i = 0; i < bulk.operations().size(); i++) {
-                items.add(successItem);
+                items.add(rejectedOperations.getAndDecrement() > 0 ? rejection : successItem);
             }
 
+            long took = tookPerOperation > 0 ? tookPerOperation * bulk.operations().size() : 3;
+
+            CountDownLatch gate = responseGate;
             CompletableFuture<BulkResponse> response = new CompletableFuture<>();
             executor.submit(() -> {
+                if (gate != null) {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
                 requestsCompleted.incrementAndGet();
-                response.complete(BulkResponse.of(r -> r.errors(false).items(items).took(3)));
+                response.complete(BulkResponse.of(r -> r.errors(false).items(items).took(took)));
             });
 
             @SuppressWarnings("unchecked")
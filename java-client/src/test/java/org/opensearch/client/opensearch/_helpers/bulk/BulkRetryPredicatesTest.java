@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.transport.TransportException;
+
+public class BulkRetryPredicatesTest extends Assert {
+
+    private static BulkResponseItem item(int status, OperationType type, String errorType) {
+        return BulkResponseItem.of(i -> i.index("foo").status(status).operationType(type).error(e -> e.type(errorType).reason("failed")));
+    }
+
+    private static OpenSearchException exception(int status) {
+        return new OpenSearchException(ErrorResponse.of(r -> r.status(status).error(e -> e.type("error").reason("failed"))));
+    }
+
+    @Test
+    public void defaultItemPredicate() {
+        assertTrue(BulkRetryPredicates.DEFAULT_ITEM.test(item(429, OperationType.Index, "rejected_execution_exception")));
+        assertTrue(BulkRetryPredicates.DEFAULT_ITEM.test(item(503, OperationType.Index, "unavailable_shards_exception")));
+        assertTrue(BulkRetryPredicates.DEFAULT_ITEM.test(item(500, OperationType.Index, "es_rejected_execution_exception")));
+        assertFalse(BulkRetryPredicates.DEFAULT_ITEM.test(item(400, OperationType.Index, "mapper_parsing_exception")));
+        assertFalse(BulkRetryPredicates.DEFAULT_ITEM.test(item(409, OperationType.Create, "version_conflict_engine_exception")));
+    }
+
+    @Test
+    public void itemPredicates() {
+        assertTrue(BulkRetryPredicates.statuses(409).test(item(409, OperationType.Index, "version_conflict_engine_exception")));
+        assertTrue(BulkRetryPredicates.errorTypes("foo", "bar").test(item(400, OperationType.Index, "bar")));
+        assertFalse(BulkRetryPredicates.errorTypes("foo").test(item(400, OperationType.Index, "bar")));
+
+        assertTrue(BulkRetryPredicates.createVersionConflicts().test(item(409, OperationType.Create, "version_conflict_engine_exception")));
+        assertFalse(BulkRetryPredicates.createVersionConflicts().test(item(409, OperationType.Index, "version_conflict_engine_exception")));
+    }
+
+    @Test
+    public void defaultRequestPredicate() {
+        // No response
+        assertTrue(BulkRetryPredicates.DEFAULT_REQUEST.test(new TransportException("Connection reset")));
+        assertTrue(BulkRetryPredicates.DEFAULT_REQUEST.test(new CompletionException(new IOException("Connection refused"))));
+
+        // Server errors
+        assertTrue(BulkRetryPredicates.DEFAULT_REQUEST.test(exception(503)));
+        assertTrue(BulkRetryPredicates.DEFAULT_REQUEST.test(new CompletionException(exception(429))));
+        assertFalse(BulkRetryPredicates.DEFAULT_REQUEST.test(exception(400)));
+        assertFalse(BulkRetryPredicates.DEFAULT_REQUEST.test(new CompletionException(new IllegalStateException())));
+
+        // Error responses that the transport couldn't decode
+        assertFalse(BulkRetryPredicates.DEFAULT_REQUEST.test(new TransportException(401, "Unauthorized access", null)));
+        assertFalse(BulkRetryPredicates.DEFAULT_REQUEST.test(new TransportException(413, "Request failed with status code '413'", null)));
+        assertTrue(BulkRetryPredicates.DEFAULT_REQUEST.test(new TransportException(503, "Request failed with status code '503'", null)));
+    }
+
+    @Test
+    public void requestStatuses() {
+        assertTrue(BulkRetryPredicates.requestStatuses(500).test(exception(500)));
+        assertFalse(BulkRetryPredicates.requestStatuses(500).test(exception(502)));
+        assertFalse(BulkRetryPredicates.requestStatuses(500).test(new TransportException("Connection reset")));
+    }
+}
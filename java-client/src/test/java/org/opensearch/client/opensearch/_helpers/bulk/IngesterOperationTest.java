@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.util.Collections;
+import java.util.Iterator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.NdJsonpSerializable;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.VersionType;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.util.BinaryData;
+
+public class IngesterOperationTest extends Assert {
+
+    private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+    public static class AppData {
+        private int intValue;
+        private String msg;
+
+        public int getIntValue() {
+            return intValue;
+        }
+
+        public void setIntValue(int intValue) {
+            this.intValue = intValue;
+        }
+
+        public String getMsg() {
+            return msg;
+        }
+
+        public void setMsg(String msg) {
+            this.msg = msg;
+        }
+    }
+
+    private static AppData appData(int value, String msg) {
+        AppData data = new AppData();
+        data.setIntValue(value);
+        data.setMsg(msg);
+        return data;
+    }
+
+    @Test
+    public void indexOperationSize() {
+        assertExactSize(BulkOperation.of(b -> b.index(i -> i.index("foo").id("1").document(appData(42, "hello")))));
+        assertExactSize(
+            BulkOperation.of(
+                b -> b.index(
+                    i -> i.index("foo")
+                        .id("é\"\\\u0001☃")
+                        .routing("r")
+                        .pipeline("pipe")
+                        .requireAlias(true)
+                        .version(12345L)
+                        .versionType(VersionType.External)
+                        .ifSeqNo(-3L)
+                        .ifPrimaryTerm(7L)
+                        .document(appData(-1, "héllo \"world\"\n"))
+                )
+            )
+        );
+        assertExactSize(BulkOperation.of(b -> b.index(i -> i.document(appData(0, null)))));
+    }
+
+    @Test
+    public void createOperationSize() {
+        assertExactSize(BulkOperation.of(b -> b.create(c -> c.index("foo").id("1").requireAlias(false).document(appData(1, "x")))));
+        assertExactSize(
+            BulkOperation.of(b -> b.create(c -> c.index("foo").document(BinaryData.of("{\"a\":1}".getBytes(), "application/json"))))
+        );
+    }
+
+    @Test
+    public void deleteOperationSize() {
+        assertExactSize(BulkOperation.of(b -> b.delete(d -> d.index("foo").id("1"))));
+        assertExactSize(BulkOperation.of(b -> b.delete(d -> d.index("ünïcode").id("abc").version(1L).versionType(VersionType.Internal))));
+    }
+
+    @Test
+    public void updateOperationSize() {
+        assertExactSize(
+            BulkOperation.of(
+                b -> b.update(u -> u.index("foo").id("1").retryOnConflict(3).document(appData(1, "x")).upsert(appData(2, "y")))
+            )
+        );
+    }
+
+    @Test
+    public void retryKeepsSize() {
+        IngesterOperation<Void> op = IngesterOperation.of(
+            new RetryableBulkOperation<>(BulkOperation.of(b -> b.delete(d -> d.index("foo").id("1"))), null, null),
+            mapper
+        );
+        IngesterOperation<Void> retry = op.withRetry(
+            new RetryableBulkOperation<>(op.repeatableOperation().operation(), null, Collections.singletonList(0L).iterator())
+        );
+        assertEquals(op.size(), retry.size());
+        assertNull(retry.serialized());
+
+        IngesterOperation<Void> serialized = IngesterOperation.serialized(op.repeatableOperation(), mapper);
+        assertSame(serialized.serialized(), serialized.withRetry(op.repeatableOperation()).serialized());
+    }
+
+    private void assertExactSize(BulkOperation operation) {
+        IngesterOperation<Void> op = IngesterOperation.of(new RetryableBulkOperation<>(operation, null, null), mapper);
+
+        // Serialize the operation the way transports serialize bulk requests
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeNdJson(BulkRequest.of(b -> b.operations(op.repeatableOperation().operation())), out);
+
+        assertEquals(out.toString(), out.size(), op.size());
+
+        // Pre-serialized operations have the exact same bytes
+        IngesterOperation<Void> serialized = IngesterOperation.serialized(new RetryableBulkOperation<>(operation, null, null), mapper);
+        assertArrayEquals(out.toByteArray(), serialized.serialized());
+        assertEquals(out.size(), serialized.size());
+        assertSame(operation, serialized.repeatableOperation().operation());
+    }
+
+    private void writeNdJson(NdJsonpSerializable value, ByteArrayOutputStream out) {
+        Iterator<?> values = value._serializables();
+        while (values.hasNext()) {
+            Object item = values.next();
+            if (item instanceof NdJsonpSerializable && item != value) {
+                writeNdJson((NdJsonpSerializable) item, out);
+            } else {
+                JsonGenerator generator = mapper.jsonProvider().createGenerator(out);
+                mapper.serialize(item, generator);
+                generator.close();
+                out.write('\n');
+            }
+        }
+    }
+}
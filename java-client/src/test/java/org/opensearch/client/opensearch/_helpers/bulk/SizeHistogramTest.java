@@ -0,0 +1,64 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.bulk;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SizeHistogramTest extends Assert {
+
+    @Test
+    public void emptyHistogram() {
+        SizeHistogram histogram = new SizeHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.sum());
+        assertEquals(0, histogram.max());
+        assertEquals(0, histogram.mean(), 0);
+        assertEquals(0, histogram.percentile(50));
+    }
+
+    @Test
+    public void bucketsAndPercentiles() {
+        SizeHistogram histogram = new SizeHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(1000);
+        for (int i = 0; i < 97; i++) {
+            histogram.record(100);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(1 + 1000 + 9700, histogram.sum());
+        assertEquals(1000, histogram.max());
+        assertEquals(107.01, histogram.mean(), 0.001);
+
+        assertEquals(1, histogram.bucketCount(0));
+        assertEquals(1, histogram.bucketCount(1));
+        // 100 is between 64 and 127
+        assertEquals(97, histogram.bucketCount(7));
+        // 1000 is between 512 and 1023
+        assertEquals(1, histogram.bucketCount(10));
+
+        assertEquals(0, histogram.percentile(0));
+        assertEquals(127, histogram.percentile(50));
+        assertEquals(127, histogram.percentile(99));
+        // Capped by the max value
+        assertEquals(1000, histogram.percentile(100));
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentile(101));
+    }
+
+    @Test
+    public void largeValues() {
+        SizeHistogram histogram = new SizeHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(1, histogram.bucketCount(SizeHistogram.BUCKETS - 2));
+        assertEquals(Long.MAX_VALUE, histogram.percentile(50));
+    }
+}
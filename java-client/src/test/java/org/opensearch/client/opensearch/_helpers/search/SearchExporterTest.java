@@ -0,0 +1,342 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch._helpers.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.CreatePitRequest;
+import org.opensearch.client.opensearch.core.CreatePitResponse;
+import org.opensearch.client.opensearch.core.DeletePitRequest;
+import org.opensearch.client.opensearch.core.DeletePitResponse;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.transport.BackoffPolicy;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportException;
+import org.opensearch.client.transport.TransportOptions;
+
+public class SearchExporterTest extends Assert {
+
+    static class AppData {
+        private int intValue;
+
+        public int getIntValue() {
+            return intValue;
+        }
+
+        public void setIntValue(int intValue) {
+            this.intValue = intValue;
+        }
+    }
+
+    @Test
+    public void exportAllSlices() throws Exception {
+        TestTransport transport = new TestTransport(1000, 0);
+        Set<Integer> values = new HashSet<>();
+
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(new OpenSearchClient(transport))
+                    .index("foo")
+                    .documentClass(AppData.class)
+                    .request(r -> r.trackTotalHits(t -> t.enabled(false)))
+                    .slices(4)
+                    .pageSize(33)
+                    .bufferSize(10)
+            )
+        ) {
+            exporter.start();
+            assertEquals("pit-1", exporter.pitId());
+            while (exporter.hasNext()) {
+                assertTrue(values.add(exporter.next().source().getIntValue()));
+            }
+            assertFalse(exporter.hasNext());
+            assertEquals(1000, exporter.hitCount());
+        }
+
+        assertEquals(1000, values.size());
+        assertEquals(1, transport.deletedPits.size());
+        assertEquals("pit-1", transport.deletedPits.peek());
+
+        // Every request targets the point in time and a single slice
+        for (SearchRequest request : transport.searches) {
+            assertTrue(request.index().isEmpty());
+            assertEquals("pit-1", request.pit().id());
+            assertEquals(4, request.slice().max());
+            assertEquals(33, (int) request.size());
+            assertEquals("_shard_doc", request.sort().get(0).field().field());
+            assertFalse(request.trackTotalHits().enabled());
+        }
+    }
+
+    @Test
+    public void retryTransientFailures() throws Exception {
+        TestTransport transport = new TestTransport(100, 3);
+
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(new OpenSearchClient(transport))
+                    .index("foo")
+                    .documentClass(AppData.class)
+                    .pageSize(10)
+                    .backoffPolicy(BackoffPolicy.constantBackoff(1L, 5))
+            )
+        ) {
+            List<Hit<AppData>> hits = exporter.stream().collect(Collectors.toList());
+            assertEquals(100, hits.size());
+            assertEquals(3, exporter.retryCount());
+            // A single slice is not sliced
+            assertNull(transport.searches.peek().slice());
+        }
+        assertEquals(1, transport.deletedPits.size());
+    }
+
+    @Test
+    public void failureIsRethrownAndPitDeleted() throws Exception {
+        TestTransport transport = new TestTransport(100, 3);
+
+        SearchExporter<AppData> exporter = SearchExporter.of(
+            b -> b.client(new OpenSearchClient(transport))
+                .index("foo")
+                .documentClass(AppData.class)
+                .pageSize(10)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 2))
+        );
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> {
+            while (exporter.hasNext()) {
+                exporter.next();
+            }
+        });
+        assertTrue(e.getCause() instanceof TransportException);
+        assertEquals(2, exporter.retryCount());
+        assertFalse(exporter.hasNext());
+
+        exporter.close();
+        assertEquals(1, transport.deletedPits.size());
+    }
+
+    @Test
+    public void errorResponsesAreNotRetried() throws Exception {
+        TestTransport transport = new TestTransport(100, 1);
+        // An error response that the transport couldn't decode, such as a plain text 403 of the security plugin
+        transport.failure = new TransportException(403, "Forbidden access", null);
+
+        SearchExporter<AppData> exporter = SearchExporter.of(
+            b -> b.client(new OpenSearchClient(transport))
+                .index("foo")
+                .documentClass(AppData.class)
+                .pageSize(10)
+                .backoffPolicy(BackoffPolicy.constantBackoff(1L, 5))
+        );
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> {
+            while (exporter.hasNext()) {
+                exporter.next();
+            }
+        });
+        assertSame(transport.failure, e.getCause());
+        assertEquals(0, exporter.retryCount());
+
+        exporter.close();
+        assertEquals(1, transport.deletedPits.size());
+    }
+
+    @Test
+    public void rejectedShardDocSortFallsBackToId() throws Exception {
+        TestTransport transport = new TestTransport(100, 0);
+        transport.rejectShardDoc = true;
+        Set<Integer> values = new HashSet<>();
+
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(new OpenSearchClient(transport)).index("foo").documentClass(AppData.class).slices(2).pageSize(10)
+            )
+        ) {
+            exporter.forEachRemaining(hit -> assertTrue(values.add(hit.source().getIntValue())));
+            // The rejection is not a transient failure
+            assertEquals(0, exporter.retryCount());
+        }
+
+        assertEquals(100, values.size());
+        List<String> sorts = transport.searches.stream().map(r -> r.sort().get(0).field().field()).collect(Collectors.toList());
+        // Each slice requests _shard_doc at most once: once rejected, pages are sorted on _id
+        int shardDocSorts = Collections.frequency(sorts, "_shard_doc");
+        assertTrue(shardDocSorts >= 1 && shardDocSorts <= 2);
+        assertEquals(sorts.size() - shardDocSorts, Collections.frequency(sorts, "_id"));
+    }
+
+    @Test
+    public void closeStopsSlices() throws Exception {
+        TestTransport transport = new TestTransport(100_000, 0);
+
+        SearchExporter<AppData> exporter = SearchExporter.of(
+            b -> b.client(new OpenSearchClient(transport)).index("foo").documentClass(AppData.class).slices(3).pageSize(100).bufferSize(5)
+        );
+
+        for (int i = 0; i < 50; i++) {
+            assertTrue(exporter.hasNext());
+            exporter.next();
+        }
+        exporter.close();
+
+        assertFalse(exporter.hasNext());
+        assertEquals(1, transport.deletedPits.size());
+        // Slices stopped fetching pages once the buffer was full
+        assertTrue(transport.searches.size() < 10);
+        assertThrows(IllegalStateException.class, exporter::start);
+    }
+
+    @Test
+    public void invalidRequest() {
+        TestTransport transport = new TestTransport(0, 0);
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SearchExporter.<AppData>of(
+                b -> b.client(new OpenSearchClient(transport)).index("foo").documentClass(AppData.class).request(r -> r.index("bar"))
+            )
+        );
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SearchExporter.<AppData>of(
+                b -> b.client(new OpenSearchClient(transport))
+                    .index("foo")
+                    .documentClass(AppData.class)
+                    .request(r -> r.slice(s -> s.id(0).max(2)))
+            )
+        );
+    }
+
+    /**
+     * A transport that serves documents 0 to size - 1, sliced on their value and sorted by value.
+     */
+    private static class TestTransport implements OpenSearchTransport {
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+        private final int size;
+        private final AtomicInteger failures;
+        final ConcurrentLinkedQueue<SearchRequest> searches = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<String> deletedPits = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pitCounter = new AtomicInteger();
+        volatile IOException failure = new TransportException("Connection reset");
+        // Rejects the _shard_doc sort like versions of OpenSearch that don't support it
+        volatile boolean rejectShardDoc;
+
+        TestTransport(int size, int failures) {
+            this.size = size;
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) throws IOException {
+            if (request instanceof CreatePitRequest) {
+                int id = pitCounter.incrementAndGet();
+                return (ResponseT) CreatePitResponse.of(r -> r.pitId("pit-" + id).creationTime(0L));
+            }
+            if (request instanceof DeletePitRequest) {
+                deletedPits.addAll(((DeletePitRequest) request).pitId());
+                return (ResponseT) DeletePitResponse.of(r -> r);
+            }
+
+            SearchRequest search = (SearchRequest) request;
+            searches.add(search);
+            if (failures.getAndDecrement() > 0) {
+                throw failure;
+            }
+            if (rejectShardDoc && "_shard_doc".equals(search.sort().get(0).field().field())) {
+                throw new OpenSearchException(
+                    ErrorResponse.of(
+                        r -> r.status(400)
+                            .error(
+                                e -> e.type("search_phase_execution_exception")
+                                    .reason("all shards failed")
+                                    .rootCause(
+                                        c -> c.type("query_shard_exception").reason("No mapping found for [_shard_doc] in order to sort on")
+                                    )
+                            )
+                    )
+                );
+            }
+
+            int slice = search.slice() == null ? 0 : search.slice().id();
+            int max = search.slice() == null ? 1 : search.slice().max();
+            long after = search.searchAfter().isEmpty() ? -1 : search.searchAfter().get(0).longValue();
+
+            List<Hit<AppData>> hits = new ArrayList<>();
+            for (int i = (int) after + 1; i < size && hits.size() < search.size(); i++) {
+                if (i % max == slice) {
+                    AppData data = new AppData();
+                    data.setIntValue(i);
+                    long value = i;
+                    hits.add(Hit.of(h -> h.index("foo").id(String.valueOf(value)).source(data).sort(FieldValue.of(value))));
+                }
+            }
+
+            return (ResponseT) SearchResponse.<AppData>of(
+                r -> r.took(1)
+                    .timedOut(false)
+                    .shards(s -> s.total(1).successful(1).failed(0))
+                    .hits(h -> h.hits(hits))
+                    .pitId(search.pit().id())
+            );
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) {
+            CompletableFuture<ResponseT> future = new CompletableFuture<>();
+            try {
+                future.complete(performRequest(request, endpoint, options));
+            } catch (IOException e) {
+                future.completeExceptionally(e);
+            }
+            return future;
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
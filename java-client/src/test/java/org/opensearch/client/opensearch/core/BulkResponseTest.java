@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.core;
+
+import org.junit.Test;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.model.ModelTestCase;
+
+public class BulkResponseTest extends ModelTestCase {
+
+    @Test
+    public void shouldDeserializeBulkResponse() {
+        // given
+        final String json = "{\"took\":30,\"ingest_took\":2,\"errors\":true,\"items\":["
+            + "{\"index\":{\"_index\":\"test\",\"_id\":\"1\",\"_version\":3,\"result\":\"updated\",\"forced_refresh\":true,"
+            + "\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},\"_seq_no\":7,\"_primary_term\":1,\"status\":200,"
+            + "\"get\":{\"found\":true,\"_source\":{\"foo\":\"bar\"}}}},"
+            + "{\"create\":{\"_index\":\"test\",\"_id\":\"2\",\"status\":409,"
+            + "\"error\":{\"type\":\"version_conflict_engine_exception\",\"reason\":\"document already exists\"}}}]}";
+
+        // when
+        final BulkResponse response = fromJson(json, BulkResponse.class);
+
+        // then
+        assertEquals(30, response.took());
+        assertEquals(Long.valueOf(2), response.ingestTook());
+        assertTrue(response.errors());
+        assertEquals(2, response.items().size());
+
+        final BulkResponseItem updated = response.items().get(0);
+        assertEquals(OperationType.Index, updated.operationType());
+        assertEquals("test", updated.index());
+        assertEquals("1", updated.id());
+        assertEquals(Long.valueOf(3), updated.version());
+        assertEquals("updated", updated.result());
+        assertEquals(Boolean.TRUE, updated.forcedRefresh());
+        assertEquals(2, updated.shards().total());
+        assertEquals(Long.valueOf(7), updated.seqNo());
+        assertEquals(Long.valueOf(1), updated.primaryTerm());
+        assertEquals(200, updated.status());
+        assertEquals("bar", updated.get().source().get("foo").to(String.class));
+
+        final BulkResponseItem conflict = response.items().get(1);
+        assertEquals(OperationType.Create, conflict.operationType());
+        assertEquals(409, conflict.status());
+        assertEquals("version_conflict_engine_exception", conflict.error().type());
+    }
+}
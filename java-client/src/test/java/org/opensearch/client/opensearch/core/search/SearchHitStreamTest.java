@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.core.search;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.json.stream.JsonParser;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.SearchRequest;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.JsonEndpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportOptions;
+
+public class SearchHitStreamTest {
+    public static class Doc {
+        public int n;
+    }
+
+    @Test
+    public void testHitsAreStreamed() throws IOException {
+        final TestTransport transport = new TestTransport(response(5));
+        try (SearchHitStream<Doc> stream = new OpenSearchClient(transport).searchStream(s -> s.index("test"), Doc.class)) {
+            assertThrows(IllegalStateException.class, stream::response);
+
+            int expected = 0;
+            while (stream.hasNext()) {
+                final Hit<Doc> hit = stream.next();
+                assertEquals(String.valueOf(expected), hit.id());
+                assertEquals(expected, hit.source().n);
+                expected++;
+            }
+            assertEquals(5, expected);
+
+            final SearchResult<Doc> response = stream.response();
+            assertEquals(5, response.hits().total().value());
+            assertTrue(response.hits().hits().isEmpty());
+            assertEquals("scroll-id", response.scrollId());
+            assertEquals(12, response.took());
+        }
+    }
+
+    @Test
+    public void testDeferredSourceDecoding() throws IOException {
+        final TestTransport transport = new TestTransport(response(3));
+        try (
+            SearchHitStream<JsonData> stream = SearchHitStream.search(
+                transport,
+                null,
+                new SearchRequest.Builder().index("test").build(),
+                JsonData._DESERIALIZER,
+                SearchHitStream.defaultExecutor(),
+                1
+            ).awaitStarted()
+        ) {
+            final List<Integer> values = stream.stream().map(hit -> hit.source().to(Doc.class).n).collect(Collectors.toList());
+            assertEquals(3, values.size());
+            assertEquals(2, (int) values.get(2));
+        }
+    }
+
+    @Test
+    public void testCloseStopsDecoding() throws Exception {
+        final TestTransport transport = new TestTransport(response(100));
+        final SearchHitStream<Doc> stream = new OpenSearchClient(transport).searchStream(s -> s.index("test"), Doc.class);
+        assertTrue(stream.hasNext());
+        stream.next();
+        stream.close();
+
+        assertFalse(stream.hasNext());
+        assertTrue(transport.done.await(10, TimeUnit.SECONDS));
+        // The background task was stopped at the next hit instead of decoding the whole response
+        assertTrue(transport.failure.get() instanceof RuntimeException);
+    }
+
+    @Test
+    public void testFailureBeforeFirstHit() {
+        final TestTransport transport = new TestTransport("{\"took\": 1, \"timed_out\": false");
+        assertThrows(RuntimeException.class, () -> new OpenSearchClient(transport).searchStream(s -> s.index("test"), Doc.class));
+
+        final TestTransport failing = new TestTransport(null);
+        final IOException e = assertThrows(
+            IOException.class,
+            () -> new OpenSearchClient(failing).searchStream(s -> s.index("test"), Doc.class)
+        );
+        assertEquals("Connection refused", e.getMessage());
+    }
+
+    @Test
+    public void testDefaultExecutorReusesThreads() throws Exception {
+        final AtomicReference<Thread> first = new AtomicReference<>();
+        final CountDownLatch firstDone = new CountDownLatch(1);
+        SearchHitStream.defaultExecutor().execute(() -> {
+            first.set(Thread.currentThread());
+            firstDone.countDown();
+        });
+        assertTrue(firstDone.await(10, TimeUnit.SECONDS));
+        // Let the first task return its thread to the pool
+        while (first.get().getState() == Thread.State.RUNNABLE) {
+            Thread.sleep(1);
+        }
+
+        final CompletableFuture<Thread> second = new CompletableFuture<>();
+        SearchHitStream.defaultExecutor().execute(() -> second.complete(Thread.currentThread()));
+        assertSame(first.get(), second.get(10, TimeUnit.SECONDS));
+        assertTrue(first.get().isDaemon());
+    }
+
+    private static String response(int hits) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("{\"_scroll_id\":\"scroll-id\",\"took\":12,\"timed_out\":false,");
+        sb.append("\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},");
+        sb.append("\"hits\":{\"total\":{\"value\":").append(hits).append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+        for (int i = 0; i < hits; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"_index\":\"test\",\"_id\":\"").append(i).append("\",\"_score\":1.0,\"_source\":{\"n\":").append(i).append("}}");
+        }
+        sb.append("]}}");
+        return sb.toString();
+    }
+
+    private static class TestTransport implements OpenSearchTransport {
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+        private final String body;
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        TestTransport(@Nullable String body) {
+            this.body = body;
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) throws IOException {
+            try {
+                if (body == null) {
+                    throw new IOException("Connection refused");
+                }
+                try (JsonParser parser = mapper.jsonProvider().createParser(new StringReader(body))) {
+                    return ((JsonEndpoint<RequestT, ResponseT, ErrorT>) endpoint).responseDeserializer().deserialize(parser, mapper);
+                }
+            } catch (IOException | RuntimeException e) {
+                failure.set(e);
+                throw e;
+            } finally {
+                done.countDown();
+            }
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -13,6 +13,9 @@ import java.io.StringReader;
 import java.util.List;
 import org.junit.Test;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
 import org.opensearch.client.opensearch._types.FieldValue;
 import org.opensearch.client.opensearch.model.ModelTestCase;
 
@@ -48,4 +51,20 @@ public class JsonpDeserializerBaseTest extends ModelTestCase {
             assertEquals("c", valueList.get(2)._get());
         }
     }
+
+    @Test
+    public void testFloatingPointNumbersAreTheSameWithAllParsers() {
+
+        String[] numbers = { "0", "-1", "0.1", "1.0", "3.4028235E38", "4.9E-324", "1e400", "0.30000000000000004", "12345678901234567890" };
+
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            for (String number : numbers) {
+                JsonParser parser = mapper.jsonProvider().createParser(new StringReader(number));
+                assertEquals(number, Double.valueOf(number), JsonpDeserializer.doubleDeserializer().deserialize(parser, mapper));
+
+                parser = mapper.jsonProvider().createParser(new StringReader(number));
+                assertEquals(number, Float.valueOf(number), JsonpDeserializer.floatDeserializer().deserialize(parser, mapper));
+            }
+        }
+    }
 }
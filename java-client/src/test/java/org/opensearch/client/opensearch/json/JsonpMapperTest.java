@@ -53,10 +53,15 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.opensearch.client.json.JsonData;
 import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpKey;
 import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpMapperBase;
+import org.opensearch.client.json.JsonpUtils;
+import org.opensearch.client.json.PreEncodedKeyJsonGenerator;
 import org.opensearch.client.json.jackson.JacksonJsonpMapper;
 import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
 import org.opensearch.client.opensearch.IOUtils;
+import org.opensearch.client.opensearch.core.CountResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.model.ModelTestCase;
 
@@ -168,6 +173,54 @@ public class JsonpMapperTest extends Assert {
         assertEquals(2, successes.get());
     }
 
+    @Test
+    public void testDeserializersAreCached() {
+        assertSame(CountResponse._DESERIALIZER, JsonpMapperBase.findDeserializer(CountResponse.class));
+        assertSame(CountResponse._DESERIALIZER, JsonpMapperBase.findDeserializer(CountResponse.class));
+        assertNull(JsonpMapperBase.findDeserializer(SomeClass.class));
+
+        AtomicInteger lookups = new AtomicInteger();
+        JacksonJsonpMapper mapper = new JacksonJsonpMapper() {
+            @Override
+            protected <T> JsonpDeserializer<T> getDefaultDeserializer(Class<T> clazz) {
+                lookups.incrementAndGet();
+                return super.getDefaultDeserializer(clazz);
+            }
+        };
+        testDeserialize(mapper, json);
+        testDeserialize(mapper, json);
+        // Copies share the deserializers
+        testDeserialize(mapper.withAttribute("foo", "bar"), json);
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    public void testPreEncodedKeys() {
+        JsonpKey id = JsonpKey.of("_id");
+        JsonpKey escaped = JsonpKey.of("caf\u00e9 \"quoted\"");
+        String expected = "{\"_id\":\"1\",\"caf\u00e9 \\\"quoted\\\"\":{\"_id\":2}}";
+
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            // Each key is written twice, to use the cached encoding
+            for (int i = 0; i < 2; i++) {
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = mapper.jsonProvider().createGenerator(writer)) {
+                    assertEquals(mapper instanceof JacksonJsonpMapper, generator instanceof PreEncodedKeyJsonGenerator);
+                    generator.writeStartObject();
+                    JsonpUtils.writeKey(generator, id);
+                    generator.write("1");
+                    JsonpUtils.writeKey(generator, escaped);
+                    generator.writeStartObject();
+                    JsonpUtils.writeKey(generator, id);
+                    generator.write(2);
+                    generator.writeEnd();
+                    generator.writeEnd();
+                }
+                assertEquals(expected, writer.toString());
+            }
+        }
+    }
+
     private void testSerialize(JsonpMapper mapper, String expected) {
 
         SomeClass something = new SomeClass();
@@ -0,0 +1,169 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.json;
+
+import jakarta.json.stream.JsonParser;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.ObjectDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+
+public class ObjectDeserializerTest extends Assert {
+
+    @Test
+    public void testFieldsAreFoundWithAllParsers() {
+        ObjectDeserializer<Map<String, Object>> deserializer = newDeserializer();
+        // Many fields, so that some of them collide in the symbol table
+        for (int i = 0; i < 100; i++) {
+            String name = "field_" + i;
+            deserializer.add((map, value) -> map.put(name, value), JsonpDeserializer.integerDeserializer(), name);
+        }
+        deserializer.add((map, value) -> map.put("name", value), JsonpDeserializer.stringDeserializer(), "name", "alias");
+
+        // Jackson parsers return interned names, JSON-B parsers don't
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            String json = "{\"field_0\":0,\"field_42\":42,\"field_99\":99,\"alias\":\"foo\"}";
+            Map<String, Object> map = deserialize(deserializer, mapper, json);
+            assertEquals(0, map.get("field_0"));
+            assertEquals(42, map.get("field_42"));
+            assertEquals(99, map.get("field_99"));
+            assertEquals("foo", map.get("name"));
+
+            // Unknown fields are ignored by default
+            assertTrue(deserialize(deserializer, mapper, "{\"field_100\":100}").isEmpty());
+        }
+    }
+
+    @Test
+    public void testFieldsAddedAfterFirstUseAreFound() {
+        JsonpMapper mapper = new JacksonJsonpMapper();
+        ObjectDeserializer<Map<String, Object>> deserializer = newDeserializer();
+        deserializer.add((map, value) -> map.put("a", value), JsonpDeserializer.integerDeserializer(), "a");
+        assertEquals(1, deserialize(deserializer, mapper, "{\"a\":1}").get("a"));
+
+        deserializer.add((map, value) -> map.put("b", value), JsonpDeserializer.integerDeserializer(), "b");
+        deserializer.ignore("c");
+        Map<String, Object> map = deserialize(deserializer, mapper, "{\"a\":1,\"b\":2,\"c\":{\"d\":3}}");
+        assertEquals(1, map.get("a"));
+        assertEquals(2, map.get("b"));
+        assertFalse(map.containsKey("c"));
+    }
+
+    @Test
+    public void testReplacedFieldsAreFound() {
+        JsonpMapper mapper = new JacksonJsonpMapper();
+        SubclassDeserializer deserializer = new SubclassDeserializer();
+        deserializer.add((map, value) -> map.put("a", "first"), JsonpDeserializer.integerDeserializer(), "a");
+        deserializer.add((map, value) -> map.put("b", "first"), JsonpDeserializer.integerDeserializer(), "b");
+        assertEquals("first", deserialize(deserializer, mapper, "{\"a\":1}").get("a"));
+
+        // Same number of fields, with a different deserializer
+        deserializer.add((map, value) -> map.put("a", "second"), JsonpDeserializer.integerDeserializer(), "a");
+        assertEquals("second", deserialize(deserializer, mapper, "{\"a\":1}").get("a"));
+
+        deserializer.copyField("a", "b");
+        Map<String, Object> map = deserialize(deserializer, mapper, "{\"b\":1}");
+        assertEquals("second", map.get("a"));
+        assertFalse(map.containsKey("b"));
+    }
+
+    @Test
+    public void testFieldSwitchesAreTriedBeforeFieldDeserializers() {
+        ObjectDeserializer<Map<String, Object>> deserializer = newDeserializer();
+        deserializer.add((map, value) -> map.put("a", "table"), JsonpDeserializer.integerDeserializer(), "a");
+        deserializer.add((map, value) -> map.put("b", "table"), JsonpDeserializer.integerDeserializer(), "b");
+        deserializer.add((map, value) -> map.put("c", "table"), JsonpDeserializer.integerDeserializer(), "c");
+        deserializer.addFieldSwitch((map, name, parser, mapper) -> {
+            switch (name) {
+                case "a":
+                case "b":
+                    map.put(name, "parent:" + JsonpDeserializer.integerDeserializer().deserialize(parser, mapper));
+                    return true;
+                default:
+                    return false;
+            }
+        });
+        // Added later, as by a subclass
+        deserializer.addFieldSwitch((map, name, parser, mapper) -> {
+            if (name.equals("a")) {
+                map.put(name, "child:" + JsonpDeserializer.integerDeserializer().deserialize(parser, mapper));
+                return true;
+            }
+            return false;
+        });
+
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            Map<String, Object> map = deserialize(deserializer, mapper, "{\"a\":1,\"b\":2,\"c\":3,\"d\":4}");
+            assertEquals("child:1", map.get("a"));
+            assertEquals("parent:2", map.get("b"));
+            assertEquals("table", map.get("c"));
+            assertFalse(map.containsKey("d"));
+        }
+    }
+
+    @Test
+    public void testFieldsChangedAfterFieldSwitchesTakePrecedence() {
+        ObjectDeserializer<Map<String, Object>> deserializer = newDeserializer();
+        deserializer.add((map, value) -> map.put("a", "table"), JsonpDeserializer.integerDeserializer(), "a");
+        deserializer.add((map, value) -> map.put("b", "table"), JsonpDeserializer.integerDeserializer(), "b");
+        deserializer.add((map, value) -> map.put("c", "table"), JsonpDeserializer.integerDeserializer(), "c");
+        deserializer.addFieldSwitch((map, name, parser, mapper) -> {
+            map.put(name, "parent:" + JsonpDeserializer.integerDeserializer().deserialize(parser, mapper));
+            return true;
+        });
+        deserializer.ignore("a");
+        deserializer.add((map, value) -> map.put("b", "child table"), JsonpDeserializer.integerDeserializer(), "b");
+
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            Map<String, Object> map = deserialize(deserializer, mapper, "{\"a\":1,\"b\":2,\"c\":3}");
+            assertFalse(map.containsKey("a"));
+            assertEquals("child table", map.get("b"));
+            assertEquals("parent:3", map.get("c"));
+        }
+
+        // A later switch takes precedence again, but not over the earlier switch for the fields changed in between
+        deserializer.addFieldSwitch((map, name, parser, mapper) -> {
+            if (name.equals("c")) {
+                map.put(name, "child:" + JsonpDeserializer.integerDeserializer().deserialize(parser, mapper));
+                return true;
+            }
+            return false;
+        });
+        Map<String, Object> map = deserialize(deserializer, new JacksonJsonpMapper(), "{\"a\":1,\"b\":2,\"c\":3}");
+        assertFalse(map.containsKey("a"));
+        assertEquals("child table", map.get("b"));
+        assertEquals("child:3", map.get("c"));
+    }
+
+    // Changes its field deserializers directly, as subclasses may do
+    private static class SubclassDeserializer extends ObjectDeserializer<Map<String, Object>> {
+        SubclassDeserializer() {
+            super(HashMap::new);
+        }
+
+        void copyField(String from, String to) {
+            fieldDeserializers.put(to, fieldDeserializers.get(from));
+        }
+    }
+
+    private static ObjectDeserializer<Map<String, Object>> newDeserializer() {
+        return new ObjectDeserializer<>(HashMap::new);
+    }
+
+    private static Map<String, Object> deserialize(ObjectDeserializer<Map<String, Object>> deserializer, JsonpMapper mapper, String json) {
+        JsonParser parser = mapper.jsonProvider().createParser(new StringReader(json));
+        return deserializer.deserialize(parser, mapper);
+    }
+}
@@ -35,7 +35,9 @@ package org.opensearch.client.opensearch.json.jackson;
 import jakarta.json.stream.JsonParser;
 import jakarta.json.stream.JsonParser.Event;
 import java.io.StringReader;
+import java.util.NoSuchElementException;
 import org.junit.Test;
+import org.opensearch.client.json.DirectJsonParser;
 import org.opensearch.client.json.JsonpDeserializer;
 import org.opensearch.client.json.JsonpMapper;
 import org.opensearch.client.json.jackson.JacksonJsonProvider;
@@ -112,6 +114,53 @@ public class JacksonJsonpParserTest extends ModelTestCase {
         }
     }
 
+    @Test
+    public void testDirectMethods() {
+
+        JacksonJsonProvider provider = new JacksonJsonProvider();
+        String json = "{ 'foo': 'fooValue', 'bar': 1, 'baz': 0.1, 'quux': 1e400 }".replace('\'', '"');
+        DirectJsonParser parser = (DirectJsonParser) provider.createParser(new StringReader(json));
+
+        assertNull(parser.nextFieldName());
+        assertEquals(Event.START_OBJECT, parser.currentEvent());
+
+        assertEquals("foo", parser.nextFieldName());
+        assertEquals(Event.KEY_NAME, parser.currentEvent());
+        assertEquals("foo", parser.getText());
+        assertEquals(Event.VALUE_STRING, parser.next());
+        assertEquals("fooValue", parser.getText());
+
+        // test it sometimes, but not always to detect invalid state management
+        assertTrue(parser.hasNext());
+        assertEquals("bar", parser.nextFieldName());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals("1", parser.getText());
+        assertEquals(1, parser.getIntValue());
+        assertEquals(1L, parser.getLongValue());
+        assertEquals(1.0, parser.getDoubleValue(), 0.0);
+
+        assertEquals("baz", parser.nextFieldName());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(0.1, parser.getDoubleValue(), 0.0);
+        assertEquals(0.1f, parser.getFloatValue(), 0.0f);
+
+        assertEquals("quux", parser.nextFieldName());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(Double.POSITIVE_INFINITY, parser.getDoubleValue(), 0.0);
+
+        assertTrue(parser.hasNext());
+        assertNull(parser.nextFieldName());
+        assertEquals(Event.END_OBJECT, parser.currentEvent());
+
+        assertFalse(parser.hasNext());
+        try {
+            parser.nextFieldName();
+            fail();
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testMultiSearchResponse() {
         String json = "{\n"
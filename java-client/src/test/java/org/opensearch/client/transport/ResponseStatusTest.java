@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletionException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.impl.bootstrap.HttpServer;
+import org.apache.hc.core5.http.impl.bootstrap.ServerBootstrap;
+import org.apache.hc.core5.http.io.entity.StringEntity;
+import org.apache.hc.core5.io.CloseMode;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+import org.opensearch.client.transport.rest_client.RestClientTransport;
+
+public class ResponseStatusTest extends Assert {
+
+    private HttpServer server;
+    private HttpHost host;
+    private volatile int status;
+
+    @Before
+    public void setup() throws IOException {
+        // Error responses that aren't OpenSearch errors, such as the ones of the security plugin or of a load balancer
+        server = ServerBootstrap.bootstrap().setListenerPort(0).register("*", (request, response, context) -> {
+            response.setCode(status);
+            response.setEntity(new StringEntity("Not an OpenSearch error", ContentType.TEXT_PLAIN));
+        }).create();
+        server.start();
+        host = new HttpHost("http", "localhost", server.getLocalPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void testFailuresWithoutResponse() {
+        assertEquals(ResponseStatus.NONE, ResponseStatus.of(new TransportException("Connection reset")));
+        assertEquals(ResponseStatus.NONE, ResponseStatus.of(new CompletionException(new SocketTimeoutException())));
+        assertEquals(ResponseStatus.NONE, ResponseStatus.of(null));
+
+        assertTrue(ResponseStatus.isTransient(new CompletionException(new SocketTimeoutException())));
+        assertFalse(ResponseStatus.isTransient(new CompletionException(new IllegalStateException())));
+    }
+
+    @Test
+    public void testFailuresWithResponse() {
+        OpenSearchException tooManyRequests = new OpenSearchException(
+            ErrorResponse.of(r -> r.status(429).error(e -> e.type("rejected_execution_exception").reason("rejected")))
+        );
+        assertEquals(429, ResponseStatus.of(new CompletionException(tooManyRequests)));
+        assertTrue(ResponseStatus.isTransient(tooManyRequests));
+
+        assertEquals(413, ResponseStatus.of(new TransportException(413, "Request failed with status code '413'", null)));
+        assertFalse(ResponseStatus.isTransient(new TransportException(413, "Request failed with status code '413'", null)));
+    }
+
+    @Test
+    public void testRestClientTransportFailures() throws IOException {
+        try (RestClient restClient = RestClient.builder(host).build()) {
+            assertStatuses(new OpenSearchClient(new RestClientTransport(restClient, new JacksonJsonpMapper())));
+        }
+    }
+
+    @Test
+    public void testApacheHttpClient5TransportFailures() throws IOException {
+        try (OpenSearchTransport transport = ApacheHttpClient5TransportBuilder.builder(host).build()) {
+            assertStatuses(new OpenSearchClient(transport));
+        }
+    }
+
+    private void assertStatuses(OpenSearchClient client) {
+        for (int status : new int[] { 401, 403, 413, 503 }) {
+            this.status = status;
+            try {
+                client.info();
+                fail("Expected a failure for status " + status);
+            } catch (Exception e) {
+                assertEquals(e.toString(), status, ResponseStatus.of(e));
+                assertEquals(e.toString(), status == 503, ResponseStatus.isTransient(e));
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.compression;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.Test;
+import org.opensearch.client.util.DeflaterPool;
+
+public class CompressionCodecsTest {
+
+    @Test
+    public void testGzip() throws IOException {
+        CompressionCodec codec = CompressionCodecs.gzip(Deflater.BEST_SPEED);
+        byte[] data = content();
+        byte[] compressed = compress(codec, data);
+
+        assertEquals("gzip", codec.contentEncoding());
+        assertTrue(compressed.length < data.length);
+        assertArrayEquals(data, read(new GZIPInputStream(new ByteArrayInputStream(compressed))));
+        assertArrayEquals(data, read(codec.decompress(new ByteArrayInputStream(compressed))));
+        assertSame(codec, CompressionCodecs.gzip(Deflater.BEST_SPEED));
+    }
+
+    @Test
+    public void testDeflate() throws IOException {
+        CompressionCodec codec = CompressionCodecs.deflate();
+        byte[] data = content();
+        byte[] compressed = compress(codec, data);
+
+        assertEquals("deflate", codec.contentEncoding());
+        assertTrue(compressed.length < data.length);
+        // The deflate content coding is the zlib format, not raw deflate
+        assertArrayEquals(data, read(new InflaterInputStream(new ByteArrayInputStream(compressed))));
+        assertArrayEquals(data, read(codec.decompress(new ByteArrayInputStream(compressed))));
+    }
+
+    @Test
+    public void testGzipWithPool() throws IOException {
+        DeflaterPool pool = new DeflaterPool(Deflater.BEST_COMPRESSION, 1);
+        CompressionCodec codec = CompressionCodecs.gzip(pool);
+        byte[] data = content();
+
+        assertArrayEquals(data, read(codec.decompress(new ByteArrayInputStream(compress(codec, data)))));
+        assertEquals(1, pool.retainedDeflaters());
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodecs.gzip(new DeflaterPool(1, false, 1)));
+    }
+
+    @Test
+    public void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodecs.gzip(10));
+        assertThrows(IllegalArgumentException.class, () -> CompressionCodecs.deflate(-2));
+    }
+
+    @Test
+    public void testForContentEncoding() {
+        assertSame(CompressionCodecs.gzip(), CompressionCodecs.forContentEncoding("gzip"));
+        assertSame(CompressionCodecs.gzip(), CompressionCodecs.forContentEncoding(" X-GZIP "));
+        assertSame(CompressionCodecs.deflate(), CompressionCodecs.forContentEncoding("Deflate"));
+        assertNull(CompressionCodecs.forContentEncoding("br"));
+        assertNull(CompressionCodecs.forContentEncoding(null));
+    }
+
+    @Test
+    public void testOptionalCodecsAreUnavailable() {
+        // Neither zstd-jni nor lz4-java are test dependencies
+        assertNull(CompressionCodecs.forContentEncoding("zstd"));
+        assertNull(CompressionCodecs.forContentEncoding("lz4"));
+        assertThrows(IllegalStateException.class, CompressionCodecs::zstd);
+        assertThrows(IllegalStateException.class, CompressionCodecs::lz4);
+    }
+
+    @Test
+    public void testRegisteredCodecs() throws IOException {
+        CompressionCodec codec = CompressionCodecs.forContentEncoding("x-identity");
+        assertNotNull(codec);
+        assertSame(codec, CompressionCodecs.available().get("x-identity"));
+        assertArrayEquals(content(), compress(codec, content()));
+    }
+
+    @Test
+    public void testReflectiveCodec() throws IOException {
+        CompressionCodec codec = ReflectiveCompressionCodec.load(
+            "deflate",
+            "java.util.zip.DeflaterOutputStream",
+            "java.util.zip.InflaterInputStream"
+        );
+        assertNotNull(codec);
+        byte[] data = content();
+        assertArrayEquals(data, read(codec.decompress(new ByteArrayInputStream(compress(codec, data)))));
+
+        assertNull(ReflectiveCompressionCodec.load("missing", "com.example.MissingOutputStream", "com.example.MissingInputStream"));
+        assertNull(ReflectiveCompressionCodec.load("invalid", "java.lang.String", "java.util.zip.InflaterInputStream"));
+    }
+
+    private static byte[] content() {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append("{\"index\":{\"_index\":\"docs\",\"_id\":\"").append(i).append("\"}}\n");
+        }
+        return content.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(CompressionCodec codec, byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream compressing = codec.compress(out)) {
+            compressing.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int n;
+            while ((n = input.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * A codec registered in META-INF/services that leaves the content as is.
+     */
+    public static class IdentityCodec implements CompressionCodec {
+        @Override
+        public String contentEncoding() {
+            return "x-identity";
+        }
+
+        @Override
+        public OutputStream compress(OutputStream out) {
+            return new FilterOutputStream(out);
+        }
+
+        @Override
+        public InputStream decompress(InputStream in) {
+            return in;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.io.entity.ByteArrayEntity;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityProducer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.Result;
+import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.transport.compression.CompressionCodecs;
+import org.opensearch.client.util.BufferPool;
+
+public class CompressionTest {
+    private static final String INDEX_RESPONSE = "{\"_index\":\"docs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}";
+
+    private final AtomicReference<Message<HttpRequest, byte[]>> lastRequest = new AtomicReference<>();
+
+    private HttpAsyncServer server;
+    private HttpHost host;
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.close(CloseMode.IMMEDIATE);
+        }
+    }
+
+    @Test
+    public void testContentIsCompressedOnce() throws IOException {
+        CountingEntity content = new CountingEntity(largeDocument().getBytes(StandardCharsets.UTF_8));
+        ApacheHttpClient5Transport.ContentCompressingEntity entity = new ApacheHttpClient5Transport.ContentCompressingEntity(
+            content,
+            false,
+            CompressionCodecs.gzip(1),
+            BufferPool.UNPOOLED
+        );
+
+        long length = entity.getContentLength();
+        byte[] first = read(entity.getContent());
+        byte[] second = read(entity.getContent());
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        entity.writeTo(written);
+
+        assertEquals(1, content.writes.get());
+        assertEquals(length, first.length);
+        assertArrayEquals(first, second);
+        assertArrayEquals(first, written.toByteArray());
+        assertArrayEquals(content.bytes, gunzip(first));
+        entity.close();
+    }
+
+    @Test
+    public void testChunkedContentIsCompressedOnceAcrossRetries() throws IOException {
+        CountingEntity content = new CountingEntity(largeDocument().getBytes(StandardCharsets.UTF_8));
+        ApacheHttpClient5Transport.ContentCompressingEntity entity = new ApacheHttpClient5Transport.ContentCompressingEntity(
+            content,
+            true,
+            CompressionCodecs.gzip(1),
+            BufferPool.UNPOOLED
+        );
+        assertEquals(-1L, entity.getContentLength());
+        assertEquals(0, content.writes.get());
+
+        // The first attempt fails while the content is sent
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        IOException failure = assertThrows(IOException.class, () -> entity.writeTo(new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] { (byte) b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (sent.size() + len > 16) {
+                    throw new IOException("Connection reset");
+                }
+                sent.write(b, off, len);
+            }
+        }));
+        assertEquals("Connection reset", failure.getMessage());
+
+        // The retries replay the compressed content
+        ByteArrayOutputStream retried = new ByteArrayOutputStream();
+        entity.writeTo(retried);
+        ByteArrayOutputStream hedged = new ByteArrayOutputStream();
+        entity.writeTo(hedged);
+
+        assertEquals(1, content.writes.get());
+        assertArrayEquals(retried.toByteArray(), hedged.toByteArray());
+        assertArrayEquals(content.bytes, gunzip(retried.toByteArray()));
+        entity.close();
+    }
+
+    @Test
+    public void testRequestsAreCompressed() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_1);
+        String document = largeDocument();
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setCompressionEnabled(true)
+                .setCompressionLevel(9)
+                .build()
+        ) {
+            IndexResponse response = new OpenSearchClient(transport).index(r -> r.index("docs").id("1").document(JsonData.of(document)));
+            assertEquals(Result.Created, response.result());
+        }
+
+        Message<HttpRequest, byte[]> request = lastRequest.get();
+        assertEquals("gzip", request.getHead().getFirstHeader("Content-Encoding").getValue());
+        assertEquals("\"" + document + "\"", new String(gunzip(request.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testRequestsAreCompressedWithCodec() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_1);
+        String document = largeDocument();
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setCompressionEnabled(true)
+                .setCompressionCodec(CompressionCodecs.deflate())
+                .build()
+        ) {
+            IndexResponse response = new OpenSearchClient(transport).index(r -> r.index("docs").id("1").document(JsonData.of(document)));
+            assertEquals(Result.Created, response.result());
+        }
+
+        Message<HttpRequest, byte[]> request = lastRequest.get();
+        assertEquals("deflate", request.getHead().getFirstHeader("Content-Encoding").getValue());
+        assertEquals("deflate, gzip", request.getHead().getFirstHeader("Accept-Encoding").getValue());
+        byte[] body = read(new InflaterInputStream(new ByteArrayInputStream(request.getBody())));
+        assertEquals("\"" + document + "\"", new String(body, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testSmallRequestsAreNotCompressed() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_1);
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setCompressionEnabled(true)
+                .setRequestCompressionSize(1024)
+                .build()
+        ) {
+            IndexResponse response = new OpenSearchClient(transport).index(
+                r -> r.index("docs").id("1").document(Collections.singletonMap("field", "value"))
+            );
+            assertEquals(Result.Created, response.result());
+        }
+
+        Message<HttpRequest, byte[]> request = lastRequest.get();
+        assertNull(request.getHead().getFirstHeader("Content-Encoding"));
+        assertEquals("{\"field\":\"value\"}", new String(request.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testHttp2ResponsesAreDecompressed() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_2);
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setHttp2Enabled(true)
+                .setCompressionEnabled(true)
+                .build()
+        ) {
+            IndexResponse response = new OpenSearchClient(transport).index(r -> r.index("docs").id("1").document(JsonData.of("value")));
+            assertEquals(Result.Created, response.result());
+        }
+        assertEquals("gzip", lastRequest.get().getHead().getFirstHeader("Accept-Encoding").getValue());
+    }
+
+    @Test
+    public void testStreamedRequestsAreCompressed() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_1);
+        String document = largeDocument();
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setCompressionEnabled(true)
+                .setStreamingEnabled(true)
+                .setRequestCompressionSize(Integer.MAX_VALUE)
+                .build()
+        ) {
+            IndexResponse response = new OpenSearchClient(transport).index(r -> r.index("docs").id("1").document(JsonData.of(document)));
+            assertEquals(Result.Created, response.result());
+        }
+
+        Message<HttpRequest, byte[]> request = lastRequest.get();
+        assertEquals("gzip", request.getHead().getFirstHeader("Content-Encoding").getValue());
+        assertEquals("\"" + document + "\"", new String(gunzip(request.getBody()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testInvalidCompressionSettings() {
+        ApacheHttpClient5TransportBuilder builder = ApacheHttpClient5TransportBuilder.builder(new HttpHost("localhost", 9200));
+        assertThrows(IllegalArgumentException.class, () -> builder.setCompressionLevel(10));
+        assertThrows(IllegalArgumentException.class, () -> builder.setRequestCompressionSize(-1));
+    }
+
+    private void startServer(HttpVersionPolicy versionPolicy) throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(versionPolicy)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, byte[]>>() {
+                @Override
+                public BasicRequestConsumer<byte[]> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(entityDetails == null ? null : new BasicAsyncEntityConsumer());
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, byte[]> message, ResponseTrigger responseTrigger, HttpContext context)
+                    throws IOException {
+                    lastRequest.set(message);
+                    BasicHttpResponse response = new BasicHttpResponse(HttpStatus.SC_CREATED);
+                    byte[] body = INDEX_RESPONSE.getBytes(StandardCharsets.UTF_8);
+                    Header acceptEncoding = message.getHead().getFirstHeader("Accept-Encoding");
+                    if (acceptEncoding != null && acceptEncoding.getValue().contains("gzip")) {
+                        response.addHeader("Content-Encoding", "gzip");
+                        body = gzip(body);
+                    }
+                    try {
+                        responseTrigger.submitResponse(
+                            new BasicResponseProducer(response, new BasicAsyncEntityProducer(body, ContentType.APPLICATION_JSON)),
+                            context
+                        );
+                    } catch (Exception e) {
+                        throw new IOException(e);
+                    }
+                }
+            })
+            .create();
+        server.start();
+
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+    }
+
+    private static String largeDocument() {
+        StringBuilder document = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            document.append("value").append(i % 10);
+        }
+        return document.toString();
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        return read(new GZIPInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int n;
+            while ((n = input.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * An entity counting how many times its content is written out.
+     */
+    private static class CountingEntity extends HttpEntityWrapper {
+        final byte[] bytes;
+        final AtomicInteger writes = new AtomicInteger();
+
+        CountingEntity(byte[] bytes) {
+            super(new ByteArrayEntity(bytes, ContentType.APPLICATION_JSON));
+            this.bytes = bytes;
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            writes.incrementAndGet();
+            super.writeTo(outStream);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.opensearch.core.GetRequest;
+import org.opensearch.client.opensearch.core.IndexRequest;
+import org.opensearch.client.opensearch.core.SearchRequest;
+
+public class HedgingTest {
+    private static final String COUNT_RESPONSE = "{\"count\":0,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}}";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private LocalNode slowNode;
+    private LocalNode fastNode;
+
+    @Before
+    public void setUp() throws Exception {
+        slowNode = new LocalNode();
+        fastNode = new LocalNode();
+    }
+
+    @After
+    public void tearDown() {
+        slowNode.close();
+        fastNode.close();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testSlowRequestsAreHedged() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(slowNode.host, fastNode.host)
+                .setHedgingEnabled(true)
+                .build()
+        ) {
+            OpenSearchClient client = new OpenSearchClient(transport);
+            for (int i = 0; i < RequestHedger.MIN_SAMPLES; i++) {
+                client.count(c -> c.index("docs"));
+            }
+            assertTrue(transport.requestHedger().delayNanos() >= 0);
+
+            slowNode.delayMillis = 10_000;
+            int slowRequests = slowNode.requests.get();
+            long start = System.nanoTime();
+            for (int i = 0; i < 4; i++) {
+                assertEquals(0, client.count(c -> c.index("docs")).count());
+            }
+            // Requests sent to the slow node first completed with the hedge sent to the fast node
+            assertTrue(slowNode.requests.get() > slowRequests);
+            assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 5_000);
+        }
+    }
+
+    @Test
+    public void testHedgesAreLimitedByTheBudget() {
+        RequestHedger hedger = new RequestHedger(0.9, 0.1);
+        try {
+            assertNull(hedger.schedule(() -> {}));
+            for (int i = 1; i <= RequestHedger.MIN_SAMPLES; i++) {
+                hedger.onResponse(TimeUnit.MILLISECONDS.toNanos(i));
+            }
+            assertEquals(TimeUnit.MILLISECONDS.toNanos(90), hedger.delayNanos());
+
+            // 11 requests earned one hedge, plus a tenth of one
+            for (int i = 0; i < 10; i++) {
+                ScheduledFuture<?> hedge = hedger.schedule(() -> {});
+                assertNotNull(hedge);
+                hedge.cancel(false);
+            }
+            assertTrue(hedger.tryAcquire());
+            assertFalse(hedger.tryAcquire());
+
+            // Unused hedges are capped
+            for (int i = 0; i < 1000; i++) {
+                hedger.schedule(() -> {}).cancel(false);
+            }
+            for (int i = 0; i < RequestHedger.MAX_BURST; i++) {
+                assertTrue(hedger.tryAcquire());
+            }
+            assertFalse(hedger.tryAcquire());
+        } finally {
+            hedger.close();
+        }
+        assertNull(hedger.schedule(() -> {}));
+    }
+
+    @Test
+    public void testOnlyReadsAreHedged() {
+        assertTrue(RequestHedger.isHedgeable(new SearchRequest.Builder().build()));
+        assertTrue(RequestHedger.isHedgeable(new CountRequest.Builder().build()));
+        assertTrue(RequestHedger.isHedgeable(new GetRequest.Builder().index("docs").id("1").build()));
+        assertFalse(RequestHedger.isHedgeable(new IndexRequest.Builder<String>().index("docs").document("{}").build()));
+        // The losing request of a scroll search would leave its search context open
+        assertFalse(RequestHedger.isHedgeable(new SearchRequest.Builder().scroll(s -> s.time("1m")).build()));
+    }
+
+    private class LocalNode {
+        final HttpAsyncServer server;
+        final HttpHost host;
+        final AtomicInteger requests = new AtomicInteger();
+        volatile long delayMillis;
+
+        LocalNode() throws Exception {
+            server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                    @Override
+                    public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context) {
+                        requests.incrementAndGet();
+                        scheduler.schedule(() -> {
+                            try {
+                                responseTrigger.submitResponse(
+                                    new BasicResponseProducer(HttpStatus.SC_OK, COUNT_RESPONSE, ContentType.APPLICATION_JSON),
+                                    context
+                                );
+                            } catch (Exception e) {
+                                // The request was cancelled
+                            }
+                        }, delayMillis, TimeUnit.MILLISECONDS);
+                    }
+                })
+                .create();
+            server.start();
+            ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+            host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+        }
+
+        void close() {
+            server.close(CloseMode.IMMEDIATE);
+        }
+    }
+}
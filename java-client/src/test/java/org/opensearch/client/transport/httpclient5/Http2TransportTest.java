@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.HttpVersion;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.ProtocolVersion;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.transport.endpoints.BooleanResponse;
+
+public class Http2TransportTest {
+    private static final long RESPONSE_DELAY_MILLIS = 50;
+
+    private final Set<ProtocolVersion> versions = ConcurrentHashMap.newKeySet();
+    private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private final AtomicInteger maxActiveRequests = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+    private HttpAsyncServer server;
+    private HttpHost host;
+
+    @Before
+    public void setUp() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        if (server != null) {
+            server.close(CloseMode.IMMEDIATE);
+        }
+        scheduler.shutdownNow();
+    }
+
+    private void startServer(HttpVersionPolicy versionPolicy) throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(versionPolicy)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                @Override
+                public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(() -> null);
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context) {
+                    HttpCoreContext coreContext = HttpCoreContext.cast(context);
+                    versions.add(coreContext.getProtocolVersion());
+                    connections.add(coreContext.getEndpointDetails().getRemoteAddress());
+                    maxActiveRequests.accumulateAndGet(activeRequests.incrementAndGet(), Math::max);
+
+                    scheduler.schedule(() -> {
+                        activeRequests.decrementAndGet();
+                        try {
+                            responseTrigger.submitResponse(new BasicResponseProducer(new BasicHttpResponse(HttpStatus.SC_OK)), context);
+                        } catch (Exception e) {
+                            throw new RuntimeException(e);
+                        }
+                    }, RESPONSE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            })
+            .create();
+        server.start();
+
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+    }
+
+    @Test
+    public void testHttp2MultiplexesRequests() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_2);
+        try (ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host).setHttp2Enabled(true).build()) {
+            pingConcurrently(new OpenSearchAsyncClient(transport), 20);
+        }
+
+        assertEquals(Collections.singleton(HttpVersion.HTTP_2), versions);
+        assertEquals(1, connections.size());
+        // More concurrent requests than HTTP/1.1 connections per route
+        assertTrue(
+            "max active requests: " + maxActiveRequests.get(),
+            maxActiveRequests.get() > ApacheHttpClient5TransportBuilder.DEFAULT_MAX_CONN_PER_ROUTE
+        );
+    }
+
+    @Test
+    public void testHttp2StreamsPerNodeLimit() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_2);
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setHttp2Enabled(true)
+                .setMaxConcurrentStreamsPerNode(3)
+                .build()
+        ) {
+            pingConcurrently(new OpenSearchAsyncClient(transport), 20);
+        }
+
+        assertEquals(Collections.singleton(HttpVersion.HTTP_2), versions);
+        assertEquals(1, connections.size());
+        assertTrue("max active requests: " + maxActiveRequests.get(), maxActiveRequests.get() <= 3);
+    }
+
+    @Test
+    public void testHttp1ByDefault() throws Exception {
+        startServer(HttpVersionPolicy.FORCE_HTTP_1);
+        try (ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host).build()) {
+            pingConcurrently(new OpenSearchAsyncClient(transport), 20);
+        }
+
+        assertEquals(Collections.singleton(HttpVersion.HTTP_1_1), versions);
+        assertTrue(connections.size() > 1);
+        assertTrue(maxActiveRequests.get() <= ApacheHttpClient5TransportBuilder.DEFAULT_MAX_CONN_PER_ROUTE);
+    }
+
+    @Test
+    public void testInvalidStreamsPerNodeLimit() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ApacheHttpClient5TransportBuilder.builder(new HttpHost("localhost", 9200)).setMaxConcurrentStreamsPerNode(0)
+        );
+    }
+
+    private static void pingConcurrently(OpenSearchAsyncClient client, int count) throws Exception {
+        List<CompletableFuture<BooleanResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            responses.add(client.ping());
+        }
+        for (CompletableFuture<BooleanResponse> response : responses) {
+            assertTrue(response.get(10, TimeUnit.SECONDS).value());
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.CountRequest;
+import org.opensearch.client.transport.instrumentation.RequestEvent;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+
+public class InstrumentationTest {
+    private static final String COUNT_RESPONSE = "{\"count\":0,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}}";
+    private static final String INDEX_RESPONSE = "{\"_index\":\"docs\",\"_id\":\"1\",\"_version\":1,\"result\":\"created\","
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}";
+    private static final String ERROR_RESPONSE = "{\"error\":{\"type\":\"index_not_found_exception\",\"reason\":\"no such index\"},"
+        + "\"status\":404}";
+
+    private final List<RequestEvent> started = new CopyOnWriteArrayList<>();
+    private final List<RequestEvent> ended = new CopyOnWriteArrayList<>();
+    private final TransportInstrumentation instrumentation = new TransportInstrumentation() {
+        @Override
+        public void onRequestStart(RequestEvent event) {
+            started.add(event);
+            event.setAttachment("span");
+        }
+
+        @Override
+        public void onRequestEnd(RequestEvent event) {
+            ended.add(event);
+        }
+    };
+
+    private HttpAsyncServer server;
+    private HttpHost host;
+
+    @Before
+    public void setUp() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                @Override
+                public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context)
+                    throws HttpException, IOException {
+                    final String path = message.getHead().getPath();
+                    final BasicResponseProducer response;
+                    if (path.startsWith("/missing")) {
+                        response = new BasicResponseProducer(HttpStatus.SC_NOT_FOUND, ERROR_RESPONSE, ContentType.APPLICATION_JSON);
+                    } else if (path.contains("_count")) {
+                        response = new BasicResponseProducer(HttpStatus.SC_OK, COUNT_RESPONSE, ContentType.APPLICATION_JSON);
+                    } else {
+                        response = new BasicResponseProducer(HttpStatus.SC_CREATED, INDEX_RESPONSE, ContentType.APPLICATION_JSON);
+                    }
+                    responseTrigger.submitResponse(response, context);
+                }
+            })
+            .create();
+        server.start();
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void testRequestPhasesAreRecorded() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setInstrumentation(instrumentation)
+                .build()
+        ) {
+            assertEquals(0, new OpenSearchClient(transport).count(c -> c.index("docs")).count());
+        }
+
+        assertEquals(1, started.size());
+        assertEquals(1, ended.size());
+        RequestEvent event = ended.get(0);
+        assertSame(started.get(0), event);
+        assertEquals("span", event.attachment());
+        assertEquals("core.CountRequest", event.endpointId());
+        assertEquals(host.toURI(), event.node());
+        assertEquals(HttpStatus.SC_OK, event.status());
+        assertEquals(1, event.attempts());
+        assertEquals(COUNT_RESPONSE.getBytes(StandardCharsets.UTF_8).length, event.responseBytes());
+        assertNull(event.failure());
+        assertTrue(event.networkNanos() > 0);
+        assertTrue(event.deserializationNanos() > 0);
+        assertTrue(
+            event.totalNanos() >= event.serializationNanos() + event.queueNanos() + event.networkNanos() + event.deserializationNanos()
+        );
+    }
+
+    @Test
+    public void testAsyncRequestBodiesAreMeasured() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setInstrumentation(instrumentation)
+                .build()
+        ) {
+            new OpenSearchAsyncClient(transport).index(r -> r.index("docs").id("1").document(JsonData.of("{}"))).get();
+        }
+
+        assertEquals(1, ended.size());
+        RequestEvent event = ended.get(0);
+        assertEquals("core.IndexRequest", event.endpointId());
+        assertEquals("PUT", event.method());
+        assertEquals("\"{}\"".length(), event.requestBytes());
+        assertTrue(event.serializationNanos() > 0);
+        assertEquals(HttpStatus.SC_CREATED, event.status());
+    }
+
+    @Test
+    public void testFailuresAreRecorded() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                .setInstrumentation(instrumentation)
+                .build()
+        ) {
+            assertThrows(OpenSearchException.class, () -> new OpenSearchClient(transport).count(c -> c.index("missing")));
+        }
+
+        assertEquals(1, ended.size());
+        RequestEvent event = ended.get(0);
+        assertEquals(HttpStatus.SC_NOT_FOUND, event.status());
+        assertNotNull(event.failure());
+        assertTrue(event.failure() instanceof OpenSearchException);
+    }
+
+    @Test
+    public void testDisabledInstrumentationCreatesNoEvents() {
+        assertNull(RequestEvent.start(TransportInstrumentation.NOOP, new CountRequest.Builder().build(), "GET"));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.json.stream.JsonParser;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.opensearch.core.CountResponse;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+
+public class ResponseStreamingTest {
+    private static final String COUNT_RESPONSE = "{\"count\":3,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}}";
+
+    // Records the thread that decodes the response
+    private final AtomicReference<Thread> decoder = new AtomicReference<>();
+    private final SimpleEndpoint<Void, CountResponse> endpoint = new SimpleEndpoint<>(
+        r -> "GET",
+        r -> "/docs/_count",
+        r -> Collections.emptyMap(),
+        r -> Collections.emptyMap(),
+        false,
+        JsonpDeserializer.of(EnumSet.of(JsonParser.Event.START_OBJECT), (parser, mapper) -> {
+            decoder.set(Thread.currentThread());
+            return CountResponse._DESERIALIZER.deserialize(parser, mapper);
+        })
+    );
+
+    private HttpAsyncServer server;
+    private HttpHost host;
+
+    @Before
+    public void setUp() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                @Override
+                public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context)
+                    throws HttpException, IOException {
+                    responseTrigger.submitResponse(
+                        new BasicResponseProducer(HttpStatus.SC_OK, COUNT_RESPONSE, ContentType.APPLICATION_JSON),
+                        context
+                    );
+                }
+            })
+            .create();
+        server.start();
+        ListenerEndpoint listener = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        host = new HttpHost("http", "localhost", ((InetSocketAddress) listener.getAddress()).getPort());
+    }
+
+    @After
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void testAsyncResponsesAreDecodedOnTheTransportPool() throws Exception {
+        Thread thread;
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host).setResponseStreamingEnabled(true).build()
+        ) {
+            assertEquals(3, transport.performRequestAsync(null, endpoint, null).get(10, TimeUnit.SECONDS).count());
+
+            // Not a thread of the common pool, whose threads would be blocked while the body is received
+            thread = decoder.get();
+            assertTrue(thread.getName(), thread.getName().startsWith("opensearch-response-decoder#"));
+            assertTrue(thread.isDaemon());
+
+            // Synchronous requests are decoded on the calling thread
+            assertEquals(3, transport.performRequest(null, endpoint, null).count());
+            assertSame(Thread.currentThread(), decoder.get());
+        }
+
+        // The pool is shut down with the transport
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    public void testAsyncResponsesAreDecodedOnTheResponseExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "custom-decoder"));
+        try {
+            try (
+                ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(host)
+                    .setResponseStreamingEnabled(true)
+                    .setResponseExecutor(executor)
+                    .build()
+            ) {
+                assertEquals(3, transport.performRequestAsync(null, endpoint, null).get(10, TimeUnit.SECONDS).count());
+                assertEquals("custom-decoder", decoder.get().getName());
+            }
+
+            // It's not the transport's executor
+            assertFalse(executor.isShutdown());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
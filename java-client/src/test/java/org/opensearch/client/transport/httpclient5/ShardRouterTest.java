@@ -0,0 +1,359 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.core.GetRequest;
+
+public class ShardRouterTest {
+    private static final HttpHost HOST1 = new HttpHost("http", "node1", 9200);
+    private static final HttpHost HOST2 = new HttpHost("http", "node2", 9200);
+
+    // Shards of the documents with ids 1 to 10 in an index with 5 shards, as computed by OpenSearch
+    private static final int[] SHARDS = { 4, 3, 0, 1, 0, 3, 2, 2, 0, 2 };
+
+    private final List<LocalNode> localNodes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nodesInfoRequests = new AtomicInteger();
+    private final AtomicInteger stateRequests = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        localNodes.add(new LocalNode());
+        localNodes.add(new LocalNode());
+    }
+
+    @After
+    public void tearDown() {
+        for (LocalNode node : localNodes) {
+            node.close();
+        }
+    }
+
+    @Test
+    public void testShardIds() {
+        ShardRouter.IndexRouting routing = ShardRouter.parse(parse(clusterState("docs", 5, 640, 1, "n0", "n1")), nodeHosts(), 0);
+        for (int i = 0; i < SHARDS.length; i++) {
+            assertEquals(SHARDS[i], routing.shardId(String.valueOf(i + 1), null));
+        }
+        // The routing value replaces the id
+        assertEquals(0, routing.shardId("1", "user1"));
+        assertEquals(0, routing.shardId("2", "user1"));
+    }
+
+    @Test
+    public void testShardIdsWithRoutingPartitions() {
+        ShardRouter.IndexRouting routing = ShardRouter.parse(parse(clusterState("docs", 6, 6, 3, "n0", "n1")), nodeHosts(), 0);
+        assertEquals(0, routing.shardId("1", "user1"));
+        assertEquals(4, routing.shardId("2", "user1"));
+        assertEquals(0, routing.shardId("3", "user1"));
+        assertEquals(4, routing.shardId("4", "user1"));
+    }
+
+    @Test
+    public void testHosts() {
+        ShardRouter.IndexRouting routing = ShardRouter.parse(parse(clusterState("docs", 5, 640, 1, "n0", "n1")), nodeHosts(), 0);
+        // Primaries are on n0 for even shards and on n1 for odd shards, replicas on the other node
+        assertEquals(HOST1, routing.host("1", null, true));
+        assertEquals(HOST2, routing.host("2", null, true));
+        assertEquals(new HashSet<>(Arrays.asList(HOST1, HOST2)), readHosts(routing, "1"));
+    }
+
+    @Test
+    public void testUnknownNodes() {
+        ShardRouter.IndexRouting routing = ShardRouter.parse(parse(clusterState("docs", 5, 640, 1, "n0", "other")), nodeHosts(), 0);
+        // Shard 3 has its primary on the unknown node, and its replica on n0
+        assertNull(routing.host("2", null, true));
+        assertEquals(Collections.singleton(HOST1), readHosts(routing, "2"));
+        assertEquals(HOST1, routing.host("1", null, true));
+    }
+
+    @Test
+    public void testUnroutableIndices() {
+        // An alias resolving to several indices
+        String state = "{\"metadata\":{\"indices\":{\"a\":{},\"b\":{}}},\"routing_table\":{\"indices\":{}}}";
+        assertNull(ShardRouter.parse(parse(state), nodeHosts(), 0).host("1", null, false));
+        // A missing index
+        assertNull(ShardRouter.parse(parse("{}"), nodeHosts(), 0).host("1", null, false));
+    }
+
+    @Test
+    public void testRequestsSentToShardNodes() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(localNodes.get(0).host, localNodes.get(1).host)
+                .setShardAwareRoutingEnabled(true)
+                .build()
+        ) {
+            OpenSearchClient client = new OpenSearchClient(transport);
+
+            // The routing table is loaded in the background
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (transport.shardRouter().route(GetRequest.of(g -> g.index("docs").id("1"))) == null) {
+                client.get(g -> g.index("docs").id("1"), JsonData.class);
+                assertTrue("routing table not loaded in time", System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+            for (LocalNode node : localNodes) {
+                node.documents.clear();
+            }
+
+            for (int i = 0; i < SHARDS.length; i++) {
+                String id = String.valueOf(i + 1);
+                client.get(g -> g.index("docs").id(id), JsonData.class);
+                client.index(r -> r.index("docs").id(id).document(JsonData.of("{}")));
+            }
+
+            for (int i = 0; i < SHARDS.length; i++) {
+                String id = String.valueOf(i + 1);
+                LocalNode primary = localNodes.get(SHARDS[i] % 2);
+                // Primary copies only, so that reads are routed like writes
+                assertEquals("document " + id, 2, primary.documents.stream().filter(id::equals).count());
+            }
+        }
+    }
+
+    @Test
+    public void testNodeHostsAreLoadedOncePerNodeSet() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(localNodes.get(0).host, localNodes.get(1).host)
+                .build()
+        ) {
+            // Refreshed on every request
+            ShardRouter router = new ShardRouter(transport, 0);
+            refresh(router, "docs", 5);
+            assertEquals(1, nodesInfoRequests.get());
+
+            // The nodes of the transport changed
+            router.invalidateNodes();
+            refresh(router, "docs", 10);
+            assertEquals(2, nodesInfoRequests.get());
+
+            // The routing table refers to a node that is not known yet
+            refresh(router, "moved", 13);
+            assertTrue(nodesInfoRequests.get() > 2);
+        }
+    }
+
+    @Test
+    public void testCachedIndicesAreBounded() throws Exception {
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(localNodes.get(0).host, localNodes.get(1).host)
+                .build()
+        ) {
+            ShardRouter router = new ShardRouter(transport, TimeUnit.MINUTES.toMillis(1), 5);
+            // Like daily indices named with date math
+            for (int i = 0; i < 20; i++) {
+                String index = "<logs-{now/d-" + i + "d}>";
+                assertNull(router.route(GetRequest.of(g -> g.index(index).id("1"))));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (stateRequests.get() < 20 || router.cachedIndices() != 5) {
+                assertTrue("routing tables not loaded in time", System.nanoTime() < deadline);
+                Thread.sleep(10);
+            }
+            Thread.sleep(200);
+            assertEquals(5, router.cachedIndices());
+        }
+    }
+
+    // Routes requests to an index until the cluster state was requested a number of times
+    private void refresh(ShardRouter router, String index, int stateRequests) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (this.stateRequests.get() < stateRequests) {
+            router.route(GetRequest.of(g -> g.index(index).id("1")));
+            assertTrue("routing table not loaded in time", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static Set<HttpHost> readHosts(ShardRouter.IndexRouting routing, String id) {
+        Set<HttpHost> hosts = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            hosts.add(routing.host(id, null, false));
+        }
+        return hosts;
+    }
+
+    private static Map<String, HttpHost> nodeHosts() {
+        Map<String, HttpHost> hosts = new HashMap<>();
+        hosts.put("n0", HOST1);
+        hosts.put("n1", HOST2);
+        return hosts;
+    }
+
+    private static JsonObject parse(String json) {
+        JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+        return JsonpDeserializer.jsonValueDeserializer()
+            .deserialize(mapper.jsonProvider().createParser(new StringReader(json)), mapper)
+            .asJsonObject();
+    }
+
+    /**
+     * The metadata and routing table of an index, with the primary of even shards on {@code node0} and the primary
+     * of odd shards on {@code node1}, and their replicas on the other node.
+     */
+    private static String clusterState(String index, int shards, int routingShards, int partitionSize, String node0, String node1) {
+        return clusterState(index, shards, routingShards, partitionSize, node0, node1, true);
+    }
+
+    private static String clusterState(
+        String index,
+        int shards,
+        int routingShards,
+        int partitionSize,
+        String node0,
+        String node1,
+        boolean withReplicas
+    ) {
+        StringBuilder state = new StringBuilder();
+        state.append("{\"metadata\":{\"indices\":{\"")
+            .append(index)
+            .append("\":{\"routing_num_shards\":")
+            .append(routingShards)
+            .append(",\"settings\":{\"index\":{\"number_of_shards\":\"")
+            .append(shards)
+            .append("\",\"routing_partition_size\":\"")
+            .append(partitionSize)
+            .append("\"}}}}},\"routing_table\":{\"indices\":{\"")
+            .append(index)
+            .append("\":{\"shards\":{");
+        for (int shard = 0; shard < shards; shard++) {
+            String primary = shard % 2 == 0 ? node0 : node1;
+            String replica = shard % 2 == 0 ? node1 : node0;
+            state.append(shard == 0 ? "" : ",").append("\"").append(shard).append("\":[");
+            state.append(shardCopy(index, shard, primary, true));
+            if (withReplicas) {
+                state.append(",").append(shardCopy(index, shard, replica, false));
+            }
+            state.append(",{\"state\":\"UNASSIGNED\",\"primary\":false,\"node\":null,\"shard\":").append(shard).append("}]");
+        }
+        return state.append("}}}}}").toString();
+    }
+
+    private static String shardCopy(String index, int shard, String node, boolean primary) {
+        return "{\"state\":\"STARTED\",\"primary\":"
+            + primary
+            + ",\"node\":\""
+            + node
+            + "\",\"relocating_node\":null,\"shard\":"
+            + shard
+            + ",\"index\":\""
+            + index
+            + "\"}";
+    }
+
+    /**
+     * A node answering the nodes info and cluster state requests of the router, and recording the ids of the
+     * documents it receives requests for.
+     */
+    private class LocalNode {
+        final HttpAsyncServer server;
+        final HttpHost host;
+        final List<String> documents = new CopyOnWriteArrayList<>();
+
+        LocalNode() throws Exception {
+            server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                    @Override
+                    public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context)
+                        throws IOException, HttpException {
+                        String path = message.getHead().getPath();
+                        String body;
+                        if (path.startsWith("/_nodes/http")) {
+                            nodesInfoRequests.incrementAndGet();
+                            body = "{\"nodes\":{\"n0\":{\"http\":{\"publish_address\":\""
+                                + localNodes.get(0).host.toHostString()
+                                + "\"}},\"n1\":{\"http\":{\"publish_address\":\""
+                                + localNodes.get(1).host.toHostString()
+                                + "\"}}}}";
+                        } else if (path.startsWith("/_cluster/state/")) {
+                            stateRequests.incrementAndGet();
+                            if (path.startsWith("/_cluster/state/metadata,routing_table/docs")) {
+                                body = clusterState("docs", 5, 640, 1, "n0", "n1", false);
+                            } else if (path.startsWith("/_cluster/state/metadata,routing_table/moved")) {
+                                // A node that joined the cluster after the nodes info was read
+                                body = clusterState("moved", 5, 640, 1, "n0", "n2", false);
+                            } else {
+                                body = "{}";
+                            }
+                        } else {
+                            String docId = path.substring(path.lastIndexOf('/') + 1);
+                            documents.add(docId);
+                            body = "GET".equals(message.getHead().getMethod())
+                                ? "{\"_index\":\"docs\",\"_id\":\"" + docId + "\",\"found\":false}"
+                                : "{\"_index\":\"docs\",\"_id\":\""
+                                    + docId
+                                    + "\",\"_version\":1,\"result\":\"created\","
+                                    + "\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},\"_seq_no\":0,\"_primary_term\":1}";
+                        }
+                        responseTrigger.submitResponse(
+                            new BasicResponseProducer(HttpStatus.SC_OK, body, ContentType.APPLICATION_JSON),
+                            context
+                        );
+                    }
+                })
+                .create();
+            server.start();
+            ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+            host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+        }
+
+        void close() {
+            server.close(CloseMode.IMMEDIATE);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import jakarta.json.JsonObject;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.transport.httpclient5.internal.AdaptiveNodeSelector;
+import org.opensearch.client.transport.httpclient5.internal.Node;
+
+public class SnifferTest {
+    private final AtomicReference<String> nodesResponse = new AtomicReference<>();
+    private final AtomicInteger sniffRequests = new AtomicInteger();
+
+    private HttpAsyncServer server;
+    private int port;
+
+    @Before
+    public void setUp() throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                @Override
+                public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(() -> null);
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context)
+                    throws IOException, HttpException {
+                    if (message.getHead().getPath().startsWith("/_nodes/http")) {
+                        sniffRequests.incrementAndGet();
+                        responseTrigger.submitResponse(
+                            new BasicResponseProducer(HttpStatus.SC_OK, nodesResponse.get(), ContentType.APPLICATION_JSON),
+                            context
+                        );
+                    } else {
+                        responseTrigger.submitResponse(new BasicResponseProducer(new BasicHttpResponse(HttpStatus.SC_OK)), context);
+                    }
+                }
+            })
+            .create();
+        server.start();
+
+        ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+        port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+    }
+
+    @After
+    public void tearDown() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    @Test
+    public void testParseNodes() throws Exception {
+        String json = "{\"_nodes\":{\"total\":3,\"successful\":3,\"failed\":0},\"cluster_name\":\"test\",\"nodes\":{"
+            + "\"a\":{\"name\":\"node-a\",\"version\":\"2.19.0\",\"roles\":[\"cluster_manager\"],"
+            + "\"attributes\":{\"zone\":\"zone-1\"},"
+            + "\"http\":{\"bound_address\":[\"127.0.0.1:9200\",\"[::1]:9200\"],\"publish_address\":\"es-a.local/127.0.0.1:9200\"}},"
+            + "\"b\":{\"name\":\"node-b\",\"version\":\"2.19.0\",\"roles\":[\"data\",\"ingest\",\"search\"],"
+            + "\"http\":{\"bound_address\":[\"10.0.0.2:9201\"],\"publish_address\":\"10.0.0.2:9201\"}},"
+            + "\"c\":{\"name\":\"node-c\",\"version\":\"2.19.0\",\"roles\":[\"data\"]}"
+            + "}}";
+
+        List<Node> nodes = Sniffer.parseNodes(parse(json), "https");
+        assertEquals(2, nodes.size());
+
+        Node a = nodes.get(0);
+        assertEquals(new HttpHost("https", "es-a.local", 9200), a.getHost());
+        assertEquals(
+            new HashSet<>(Arrays.asList(new HttpHost("https", "127.0.0.1", 9200), HttpHost.create("https://[::1]:9200"))),
+            a.getBoundHosts()
+        );
+        assertEquals("node-a", a.getName());
+        assertEquals("2.19.0", a.getVersion());
+        assertTrue(a.getRoles().isClusterManagerEligible());
+        assertEquals(Collections.singletonMap("zone", Collections.singletonList("zone-1")), a.getAttributes());
+
+        Node b = nodes.get(1);
+        assertEquals(new HttpHost("https", "10.0.0.2", 9201), b.getHost());
+        assertTrue(b.getRoles().isData());
+        assertTrue(b.getRoles().isSearch());
+        assertNull(b.getAttributes());
+    }
+
+    @Test
+    public void testParseInvalidResponse() {
+        assertThrows(IOException.class, () -> Sniffer.parseNodes(parse("{\"cluster_name\":\"test\"}"), "http"));
+    }
+
+    @Test
+    public void testSniffNodesOnStart() throws Exception {
+        nodesResponse.set(nodes(node("a", "localhost:" + port, "cluster_manager"), node("b", "127.0.0.1:" + port, "data")));
+
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "localhost", port))
+                .setSniffingEnabled(true)
+                .build()
+        ) {
+            assertBusy(() -> transport.getNodes().size() == 2);
+            Set<String> sniffed = transport.getNodes().keySet().stream().map(n -> n.getHost().toHostString()).collect(Collectors.toSet());
+            assertEquals(new HashSet<>(Arrays.asList("localhost:" + port, "127.0.0.1:" + port)), sniffed);
+            assertEquals(1, sniffRequests.get());
+        }
+    }
+
+    @Test
+    public void testSniffNodesOnFailure() throws Exception {
+        int deadPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            deadPort = socket.getLocalPort();
+        }
+        nodesResponse.set(nodes(node("a", "localhost:" + port, "data"), node("b", "localhost:" + deadPort, "data")));
+
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(new HttpHost("http", "localhost", port))
+                .setSniffingEnabled(true)
+                .setSniffIntervalMillis((int) TimeUnit.HOURS.toMillis(1))
+                .build()
+        ) {
+            assertBusy(() -> transport.getNodes().size() == 2);
+
+            // The dead node leaves the cluster, which is noticed when a request to it fails
+            nodesResponse.set(nodes(node("a", "localhost:" + port, "data")));
+            OpenSearchClient client = new OpenSearchClient(transport);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(client.ping().value());
+            }
+            assertBusy(() -> transport.getNodes().size() == 1);
+            assertEquals(port, transport.getNodes().keySet().iterator().next().getHost().getPort());
+            assertEquals(2, sniffRequests.get());
+        }
+    }
+
+    @Test
+    public void testStateOfRemovedNodesIsDiscarded() throws Exception {
+        AdaptiveNodeSelector selector = new AdaptiveNodeSelector();
+        Node a = new Node(new HttpHost("http", "localhost", port));
+        Node b = new Node(new HttpHost("http", "127.0.0.1", port));
+
+        try (
+            ApacheHttpClient5Transport transport = ApacheHttpClient5TransportBuilder.builder(a.getHost(), b.getHost())
+                .setNodeSelector(selector)
+                .build()
+        ) {
+            selector.onRequest(a);
+            selector.onRequest(b);
+
+            // Nodes replaced by sniffing lose their statistics, kept nodes keep them
+            transport.setNodes(Collections.singletonList(a));
+            assertEquals(1, selector.inFlight(a.getHost()));
+            assertEquals(0, selector.inFlight(b.getHost()));
+        }
+    }
+
+    @Test
+    public void testInvalidSniffSettings() {
+        ApacheHttpClient5TransportBuilder builder = ApacheHttpClient5TransportBuilder.builder(new HttpHost("localhost", 9200));
+        assertThrows(IllegalArgumentException.class, () -> builder.setSniffIntervalMillis(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.setSniffAfterFailureDelayMillis(-1));
+    }
+
+    private static JsonObject parse(String json) {
+        JacksonJsonpMapper mapper = new JacksonJsonpMapper();
+        return JsonpDeserializer.jsonValueDeserializer()
+            .deserialize(mapper.jsonProvider().createParser(new StringReader(json)), mapper)
+            .asJsonObject();
+    }
+
+    private static String nodes(String... nodes) {
+        return "{\"cluster_name\":\"test\",\"nodes\":{" + String.join(",", nodes) + "}}";
+    }
+
+    private static String node(String id, String address, String role) {
+        return "\""
+            + id
+            + "\":{\"name\":\""
+            + id
+            + "\",\"version\":\"2.19.0\",\"roles\":[\""
+            + role
+            + "\"],\"http\":{\"bound_address\":[\""
+            + address
+            + "\"],\"publish_address\":\""
+            + address
+            + "\"}}";
+    }
+
+    private static void assertBusy(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertTrue("condition not met in time", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
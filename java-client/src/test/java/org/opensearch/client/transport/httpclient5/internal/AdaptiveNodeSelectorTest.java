@@ -0,0 +1,260 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Test;
+
+public class AdaptiveNodeSelectorTest {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static List<Node> nodes(int count) {
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            nodes.add(new Node(new HttpHost("node" + i, 9200)));
+        }
+        return nodes;
+    }
+
+    @Test
+    public void testStatistics() {
+        long[] clock = { 0 };
+        AdaptiveNodeSelector selector = new AdaptiveNodeSelector(NodeSelector.ANY, 0.5, 1, TimeUnit.SECONDS, () -> clock[0]);
+        List<Node> nodes = nodes(2);
+        HttpHost host0 = nodes.get(0).getHost();
+        HttpHost host1 = nodes.get(1).getHost();
+
+        selector.onRequest(nodes.get(0));
+        selector.onRequest(nodes.get(0));
+        assertEquals(2, selector.inFlight(host0));
+        assertEquals(0, selector.inFlight(host1));
+
+        selector.onResponse(nodes.get(0), 10 * MILLIS);
+        assertEquals(1, selector.inFlight(host0));
+        assertEquals(10 * MILLIS, selector.averageLatencyNanos(host0), 1);
+        // Nodes without responses get the average latency of all nodes
+        assertEquals(10 * MILLIS, selector.averageLatencyNanos(host1), 1);
+
+        selector.onResponse(nodes.get(0), 20 * MILLIS);
+        assertEquals(15 * MILLIS, selector.averageLatencyNanos(host0), 1);
+
+        selector.onRequest(nodes.get(1));
+        selector.onResponse(nodes.get(1), 100 * MILLIS);
+        assertEquals(100 * MILLIS, selector.averageLatencyNanos(host1), 1);
+
+        // Failures are penalized: a fast failure makes a node look slower, not faster
+        selector.onRequest(nodes.get(0));
+        selector.onFailure(nodes.get(0), MILLIS);
+        assertEquals(0, selector.inFlight(host0));
+        assertEquals(22.5 * MILLIS, selector.averageLatencyNanos(host0), 1);
+
+        // Idle nodes converge to the average latency of all nodes
+        double global = selector.averageLatencyNanos(new HttpHost("other", 9200));
+        clock[0] += TimeUnit.SECONDS.toNanos(1);
+        assertEquals(global + (100 * MILLIS - global) / Math.E, selector.averageLatencyNanos(host1), 1);
+        clock[0] += TimeUnit.SECONDS.toNanos(100);
+        assertEquals(global, selector.averageLatencyNanos(host1), 1);
+    }
+
+    @Test
+    public void testStatisticsOfRemovedNodesAreDiscarded() {
+        AdaptiveNodeSelector selector = new AdaptiveNodeSelector();
+        List<Node> nodes = nodes(3);
+        for (Node node : nodes) {
+            selector.onRequest(node);
+            selector.onResponse(node, 10 * MILLIS);
+        }
+        selector.onRequest(nodes.get(2));
+        assertEquals(3, selector.hosts());
+
+        selector.retainAll(Collections.singleton(nodes.get(0).getHost()));
+        assertEquals(1, selector.hosts());
+        assertEquals(0, selector.inFlight(nodes.get(2).getHost()));
+
+        // Requests in flight to removed nodes don't bring their statistics back
+        selector.onResponse(nodes.get(2), 10 * MILLIS);
+        assertEquals(1, selector.hosts());
+
+        // Nor do they make the in flight count of a node added again negative
+        selector.onRequest(nodes.get(1));
+        selector.onFailure(nodes.get(1), MILLIS);
+        selector.onResponse(nodes.get(1), MILLIS);
+        assertEquals(0, selector.inFlight(nodes.get(1).getHost()));
+    }
+
+    @Test
+    public void testPrioritizeLeastLoaded() {
+        AdaptiveNodeSelector selector = new AdaptiveNodeSelector();
+        List<Node> nodes = nodes(2);
+        selector.onRequest(nodes.get(0));
+        selector.onResponse(nodes.get(0), 100 * MILLIS);
+        selector.onRequest(nodes.get(1));
+        selector.onResponse(nodes.get(1), MILLIS);
+
+        // With two nodes, both are always compared
+        for (int i = 0; i < 10; i++) {
+            List<Node> selected = new ArrayList<>(nodes);
+            Collections.rotate(selected, i);
+            selector.prioritize(selected);
+            assertEquals(nodes.get(1), selected.get(0));
+            assertEquals(2, selected.size());
+        }
+
+        // Requests in flight increase the load of a node
+        for (int i = 0; i < 200; i++) {
+            selector.onRequest(nodes.get(1));
+        }
+        List<Node> selected = new ArrayList<>(nodes);
+        selector.prioritize(selected);
+        assertEquals(nodes.get(0), selected.get(0));
+    }
+
+    @Test
+    public void testFilter() {
+        AdaptiveNodeSelector selector = new AdaptiveNodeSelector(nodes -> {
+            Iterator<Node> iterator = nodes.iterator();
+            iterator.next();
+            iterator.remove();
+        });
+        List<Node> nodes = nodes(3);
+        selector.select(nodes);
+        assertEquals(2, nodes.size());
+        assertEquals("node1", nodes.get(0).getHost().getHostName());
+    }
+
+    @Test
+    public void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveNodeSelector(NodeSelector.ANY, 0, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveNodeSelector(NodeSelector.ANY, 1.5, 1, TimeUnit.SECONDS));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveNodeSelector(NodeSelector.ANY, 0.5, 0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testSimulationWithSlowNode() {
+        // One node out of 5 is 20 times slower than the others
+        Simulation simulation = new Simulation(5, (node, time) -> node == 0 ? 200 * MILLIS : 10 * MILLIS);
+        simulation.run(50_000, 32);
+
+        // Round robin would send 20% of the requests to each node
+        double slowShare = simulation.share(0, 0, simulation.clock[0]);
+        assertTrue("slow node share: " + slowShare, slowShare < 0.03);
+        // Requests spend less time waiting on the slow node than with round robin
+        assertTrue("mean latency: " + simulation.meanLatency() / MILLIS, simulation.meanLatency() < 20 * MILLIS);
+    }
+
+    @Test
+    public void testSimulationWithCancelledRequests() {
+        // Requests to the slow node are cancelled after 30ms, like hedged requests that lost to another node
+        Simulation simulation = new Simulation(5, (node, time) -> node == 0 ? 200 * MILLIS : 10 * MILLIS);
+        simulation.cancelAfter = 30 * MILLIS;
+        simulation.run(50_000, 32);
+
+        // Cancelled requests don't make the slow node look as fast as the time it took to cancel them
+        double slowShare = simulation.share(0, 0, simulation.clock[0]);
+        assertTrue("slow node share: " + slowShare, slowShare < 0.01);
+    }
+
+    @Test
+    public void testSimulationWithPausedNode() {
+        long pauseStart = TimeUnit.SECONDS.toNanos(5);
+        long pauseEnd = TimeUnit.SECONDS.toNanos(7);
+        // Node 0 stalls for 2 seconds, like during a long garbage collection
+        Simulation simulation = new Simulation(4, (node, time) -> {
+            if (node == 0 && time < pauseEnd && time + 5 * MILLIS > pauseStart) {
+                return Math.max(pauseEnd - time, 5 * MILLIS);
+            }
+            return 5 * MILLIS;
+        });
+        simulation.run(300_000, 16);
+        long end = simulation.clock[0];
+        assertTrue("simulated time: " + end, end > TimeUnit.SECONDS.toNanos(30));
+
+        double beforePause = simulation.share(0, TimeUnit.SECONDS.toNanos(1), pauseStart);
+        double duringPause = simulation.share(0, pauseStart, pauseEnd);
+        double recovered = simulation.share(0, end - TimeUnit.SECONDS.toNanos(5), end);
+
+        assertTrue("share before pause: " + beforePause, beforePause > 0.15);
+        // Once the first requests are stuck, the node stops receiving requests
+        assertTrue("share during pause: " + duringPause, duringPause < 0.01);
+        // The paused node eventually receives its share of requests again
+        assertTrue("share after recovery: " + recovered, recovered > 0.15);
+    }
+
+    /**
+     * A discrete event simulation of requests sent with a given concurrency to nodes with a given latency.
+     */
+    private static class Simulation {
+        final long[] clock = { 0 };
+        final List<Node> nodes;
+        final AdaptiveNodeSelector selector;
+        final BiFunction<Integer, Long, Long> latency;
+        // Requests that take longer are cancelled
+        long cancelAfter = Long.MAX_VALUE;
+        final List<long[]> requests = new ArrayList<>(); // start time, node, latency
+        final PriorityQueue<long[]> inFlight = new PriorityQueue<>((a, b) -> Long.compare(a[0] + a[2], b[0] + b[2]));
+        int nextNode = 0;
+
+        Simulation(int nodeCount, BiFunction<Integer, Long, Long> latency) {
+            this.nodes = nodes(nodeCount);
+            this.selector = new AdaptiveNodeSelector(NodeSelector.ANY, 0.3, 1, TimeUnit.SECONDS, () -> clock[0]);
+            this.latency = latency;
+        }
+
+        void run(int count, int concurrency) {
+            for (int i = 0; i < count; i++) {
+                if (inFlight.size() == concurrency) {
+                    complete(inFlight.poll());
+                }
+                // Same ordering as the transport: round robin, then prioritization
+                List<Node> selected = new ArrayList<>(nodes);
+                Collections.rotate(selected, nextNode++);
+                selector.prioritize(selected);
+
+                int node = nodes.indexOf(selected.get(0));
+                long[] request = { clock[0], node, Math.min(latency.apply(node, clock[0]), cancelAfter) };
+                selector.onRequest(nodes.get(node));
+                requests.add(request);
+                inFlight.add(request);
+            }
+            while (!inFlight.isEmpty()) {
+                complete(inFlight.poll());
+            }
+        }
+
+        private void complete(long[] request) {
+            clock[0] = Math.max(clock[0], request[0] + request[2]);
+            if (request[2] < cancelAfter) {
+                selector.onResponse(nodes.get((int) request[1]), request[2]);
+            } else {
+                selector.onFailure(nodes.get((int) request[1]), request[2]);
+            }
+        }
+
+        double share(int node, long from, long to) {
+            long total = requests.stream().filter(r -> r[0] >= from && r[0] < to).count();
+            long toNode = requests.stream().filter(r -> r[0] >= from && r[0] < to && r[1] == node).count();
+            return (double) toNode / total;
+        }
+
+        double meanLatency() {
+            return requests.stream().mapToLong(r -> r[2]).average().orElse(0);
+        }
+    }
+}
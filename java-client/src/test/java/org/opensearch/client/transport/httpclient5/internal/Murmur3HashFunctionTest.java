@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class Murmur3HashFunctionTest {
+
+    @Test
+    public void testHash() {
+        // Same values as the server implementation
+        assertEquals(0x5a0cb7c3, Murmur3HashFunction.hash("hell"));
+        assertEquals(0xd7c31989, Murmur3HashFunction.hash("hello"));
+        assertEquals(0x22ab2984, Murmur3HashFunction.hash("hello w"));
+        assertEquals(0xdf0ca123, Murmur3HashFunction.hash("hello wo"));
+        assertEquals(0xe7744d61, Murmur3HashFunction.hash("hello wor"));
+        assertEquals(0xe07db09c, Murmur3HashFunction.hash("The quick brown fox jumps over the lazy dog"));
+        assertEquals(0x4e63d2ad, Murmur3HashFunction.hash("The quick brown fox jumps over the lazy cog"));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, Murmur3HashFunction.hash(""));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.hc.core5.http.HttpHost;
+import org.junit.Test;
+
+public class StreamLimiterTest {
+    private static final HttpHost HOST1 = new HttpHost("http", "node1", 9200);
+    private static final HttpHost HOST2 = new HttpHost("http", "node2", 9200);
+
+    @Test
+    public void testRequestsOverLimitAreQueued() {
+        StreamLimiter limiter = new StreamLimiter(2);
+        List<Integer> started = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            int request = i;
+            limiter.execute(HOST1, () -> started.add(request));
+        }
+        assertEquals(2, started.size());
+        assertEquals(2, limiter.active(HOST1));
+        assertEquals(3, limiter.queued(HOST1));
+
+        // Other hosts have their own limit
+        limiter.execute(HOST2, () -> started.add(-1));
+        assertEquals(3, started.size());
+        assertEquals(1, limiter.active(HOST2));
+
+        // Completed requests hand over their slot to queued ones, in order
+        limiter.release(HOST1);
+        assertEquals(Integer.valueOf(2), started.get(3));
+        assertEquals(2, limiter.active(HOST1));
+        assertEquals(2, limiter.queued(HOST1));
+
+        limiter.release(HOST1);
+        limiter.release(HOST1);
+        assertEquals(6, started.size());
+        assertEquals(2, limiter.active(HOST1));
+        assertEquals(0, limiter.queued(HOST1));
+
+        limiter.release(HOST1);
+        limiter.release(HOST1);
+        limiter.release(HOST2);
+        assertEquals(0, limiter.active(HOST1));
+        assertEquals(0, limiter.active(HOST2));
+    }
+
+    @Test
+    public void testQueuedRequestsCanCompleteImmediately() {
+        StreamLimiter limiter = new StreamLimiter(1);
+        List<Integer> started = new ArrayList<>();
+
+        limiter.execute(HOST1, () -> started.add(0));
+        for (int i = 1; i < 4; i++) {
+            int request = i;
+            // Requests that complete as they are started, like requests failing on submission
+            limiter.execute(HOST1, () -> {
+                started.add(request);
+                limiter.release(HOST1);
+            });
+        }
+        assertEquals(1, started.size());
+
+        limiter.release(HOST1);
+        assertEquals(4, started.size());
+        assertEquals(0, limiter.active(HOST1));
+        assertEquals(0, limiter.queued(HOST1));
+    }
+
+    @Test
+    public void testStateOfRemovedHostsIsDiscarded() {
+        StreamLimiter limiter = new StreamLimiter(1);
+        List<Integer> started = new ArrayList<>();
+
+        limiter.execute(HOST1, () -> started.add(1));
+        limiter.release(HOST1);
+        limiter.execute(HOST2, () -> started.add(2));
+        limiter.execute(HOST2, () -> started.add(3));
+        assertEquals(2, limiter.hosts());
+
+        limiter.retainAll(Collections.emptySet());
+        assertEquals(0, limiter.active(HOST1));
+        // Requests in flight or queued to a removed host still complete, and its state is discarded afterwards
+        assertEquals(1, limiter.hosts());
+        limiter.release(HOST2);
+        assertEquals(Arrays.asList(1, 2, 3), started);
+        assertEquals(1, limiter.hosts());
+        limiter.release(HOST2);
+        assertEquals(0, limiter.hosts());
+        assertEquals(0, limiter.active(HOST2));
+
+        // A host added again is limited as before
+        limiter.retainAll(Collections.singleton(HOST1));
+        limiter.execute(HOST1, () -> started.add(4));
+        limiter.execute(HOST1, () -> started.add(5));
+        assertEquals(1, limiter.active(HOST1));
+        assertEquals(1, limiter.queued(HOST1));
+    }
+
+    @Test
+    public void testInvalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamLimiter(0));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.carrotsearch.randomizedtesting.RandomizedTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.impl.BasicEntityDetails;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingAsyncResponseConsumerTest extends RandomizedTest {
+    private static final int BUFFER_SIZE = 1024;
+    private StreamingAsyncResponseConsumer consumer;
+    private CompletableFuture<ClassicHttpResponse> result;
+
+    @Before
+    public void setUp() {
+        consumer = new StreamingAsyncResponseConsumer(new HeapBufferedAsyncResponseConsumer(100 * 1024), BUFFER_SIZE);
+        result = new CompletableFuture<>();
+    }
+
+    @After
+    public void tearDown() {
+        consumer.releaseResources();
+    }
+
+    @Test
+    public void testSuccessfulResponseIsStreamed() throws Exception {
+        final byte[] body = randomBytesOfLength(10 * BUFFER_SIZE + randomIntBetween(0, BUFFER_SIZE));
+        consumer.consumeResponse(new BasicHttpResponse(200), details(), null, callback());
+
+        // The response is available before its body has been received
+        assertThat(result.isDone(), equalTo(true));
+        final InputStream content = result.get().getEntity().getContent();
+        final CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readFully(content);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        int offset = 0;
+        while (offset < body.length) {
+            final int length = Math.min(body.length - offset, randomIntBetween(1, BUFFER_SIZE));
+            final ByteBuffer chunk = ByteBuffer.wrap(body, offset, length);
+            while (chunk.hasRemaining()) {
+                consumer.consume(chunk);
+            }
+            offset += length;
+        }
+        consumer.streamEnd(Collections.emptyList());
+
+        assertThat(Arrays.equals(read.get(10, TimeUnit.SECONDS), body), equalTo(true));
+    }
+
+    @Test
+    public void testFailureIsRethrownToReader() throws Exception {
+        consumer.consumeResponse(new BasicHttpResponse(200), details(), null, callback());
+        final InputStream content = result.get().getEntity().getContent();
+        final CompletableFuture<byte[]> read = CompletableFuture.supplyAsync(() -> {
+            try {
+                return readFully(content);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        consumer.consume(ByteBuffer.wrap(randomBytesOfLength(100)));
+        consumer.failed(new ConnectionClosedException("Connection closed"));
+
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> read.get(10, TimeUnit.SECONDS));
+        assertThat(e.getCause().getCause(), instanceOf(ConnectionClosedException.class));
+    }
+
+    @Test
+    public void testErrorResponseIsBuffered() throws Exception {
+        final byte[] body = randomBytesOfLength(100);
+        consumer.consumeResponse(new BasicHttpResponse(500), details(), null, callback());
+        consumer.consume(ByteBuffer.wrap(body));
+
+        assertThat(result.isDone(), equalTo(false));
+        consumer.streamEnd(Collections.emptyList());
+
+        assertThat(result.isDone(), equalTo(true));
+        assertThat(result.get().getEntity().isRepeatable(), equalTo(true));
+        assertThat(Arrays.equals(EntityUtils.toByteArray(result.get().getEntity()), body), equalTo(true));
+    }
+
+    private static BasicEntityDetails details() {
+        return new BasicEntityDetails(-1, ContentType.APPLICATION_JSON);
+    }
+
+    private FutureCallback<ClassicHttpResponse> callback() {
+        return new FutureCallback<ClassicHttpResponse>() {
+            @Override
+            public void completed(ClassicHttpResponse response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                result.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                result.cancel(false);
+            }
+        };
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[256];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.httpclient5.internal;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.DataStreamChannel;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+
+public class StreamingJsonpEntityTest {
+    private final JsonpMapper mapper = new JacksonJsonpMapper();
+
+    @Test
+    public void testWriteToMatchesNdJson() throws IOException {
+        final StreamingJsonpEntity entity = new StreamingJsonpEntity(bulkRequest(3), mapper, ContentType.APPLICATION_JSON, false);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        entity.writeTo(out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8.name()), equalTo(expectedNdJson(3)));
+        assertThat(entity.getContentLength(), equalTo(-1L));
+        assertThat(entity.isChunked(), equalTo(true));
+        assertThat(entity.isRepeatable(), equalTo(true));
+    }
+
+    @Test
+    public void testProducerWritesChunks() throws IOException {
+        // Small chunks and a slow channel force the producer to suspend and resume many times
+        final StreamingJsonpEntity entity = new StreamingJsonpEntity(bulkRequest(50), mapper, ContentType.APPLICATION_JSON, false, 16);
+
+        assertThat(new String(produce(entity.createProducer(), 7), StandardCharsets.UTF_8), equalTo(expectedNdJson(50)));
+    }
+
+    @Test
+    public void testProducerIsRepeatable() throws IOException {
+        final StreamingJsonpEntity entity = new StreamingJsonpEntity(bulkRequest(10), mapper, ContentType.APPLICATION_JSON, false, 64);
+
+        final byte[] first = produce(entity.createProducer(), 100);
+        final byte[] second = produce(entity.createProducer(), 100);
+        assertThat(new String(second, StandardCharsets.UTF_8), equalTo(new String(first, StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void testProducerCompressesContent() throws IOException {
+        final StreamingJsonpEntity entity = new StreamingJsonpEntity(bulkRequest(50), mapper, ContentType.APPLICATION_JSON, true, 32);
+        final AsyncEntityProducer producer = entity.createProducer();
+        assertThat(producer.getContentEncoding(), equalTo("gzip"));
+
+        final byte[] compressed = produce(producer, 50);
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buf = new byte[1024];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            assertThat(out.toString(StandardCharsets.UTF_8.name()), equalTo(expectedNdJson(50)));
+        }
+    }
+
+    @Test
+    public void testSingleValueHasNoTrailingNewline() throws IOException {
+        final StreamingJsonpEntity entity = new StreamingJsonpEntity(
+            Collections.singletonMap("field", "value"),
+            mapper,
+            ContentType.APPLICATION_JSON,
+            false
+        );
+
+        assertThat(new String(produce(entity.createProducer(), 3), StandardCharsets.UTF_8), equalTo("{\"field\":\"value\"}"));
+    }
+
+    private static byte[] produce(AsyncEntityProducer producer, int maxBytesPerWrite) throws IOException {
+        final CapturingChannel channel = new CapturingChannel(maxBytesPerWrite);
+        int rounds = 0;
+        while (!channel.ended) {
+            producer.produce(channel);
+            if (++rounds > 100_000) {
+                throw new AssertionError("producer did not end the stream");
+            }
+        }
+        return channel.out.toByteArray();
+    }
+
+    private static BulkRequest bulkRequest(int count) {
+        final List<BulkOperation> operations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final String id = Integer.toString(i);
+            operations.add(BulkOperation.of(b -> b.index(idx -> idx.index("test").id(id).document(Collections.singletonMap("value", id)))));
+        }
+        return BulkRequest.of(b -> b.operations(operations));
+    }
+
+    private static String expectedNdJson(int count) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append("{\"index\":{\"_id\":\"").append(i).append("\",\"_index\":\"test\"}}\n");
+            sb.append("{\"value\":\"").append(i).append("\"}\n");
+        }
+        return sb.toString();
+    }
+
+    private static final class CapturingChannel implements DataStreamChannel {
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        private final int maxBytesPerWrite;
+        private boolean ended;
+
+        CapturingChannel(int maxBytesPerWrite) {
+            this.maxBytesPerWrite = maxBytesPerWrite;
+        }
+
+        @Override
+        public void requestOutput() {}
+
+        @Override
+        public int write(ByteBuffer src) {
+            final int len = Math.min(src.remaining(), maxBytesPerWrite);
+            for (int i = 0; i < len; i++) {
+                out.write(src.get());
+            }
+            return len;
+        }
+
+        @Override
+        public void endStream() {
+            ended = true;
+        }
+
+        @Override
+        public void endStream(List<? extends Header> trailers) {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ConcurrencyLimitTest extends Assert {
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void aimdIncreasesAdditivelyAndDecreasesMultiplicatively() {
+        AimdConcurrencyLimit limit = new AimdConcurrencyLimit(10, 2, 12, 0.5, 1000);
+
+        // Not enough requests in flight to grow
+        limit.onSample(10 * MILLIS, 4, false);
+        assertEquals(10, limit.limit());
+
+        limit.onSample(10 * MILLIS, 5, false);
+        assertEquals(11, limit.limit());
+        limit.onSample(10 * MILLIS, 10, false);
+        limit.onSample(10 * MILLIS, 10, false);
+        assertEquals(12, limit.limit());
+
+        limit.onSample(10 * MILLIS, 12, true);
+        assertEquals(6, limit.limit());
+
+        // Timeouts are drops
+        limit.onSample(2000 * MILLIS, 6, false);
+        assertEquals(3, limit.limit());
+        limit.onSample(10 * MILLIS, 3, true);
+        limit.onSample(10 * MILLIS, 3, true);
+        assertEquals(2, limit.limit());
+    }
+
+    @Test
+    public void aimdRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(10, 0, 100, 0.9, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(10, 20, 100, 0.9, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(10, 1, 100, 1, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new AimdConcurrencyLimit(10, 1, 100, 0.9, 0));
+    }
+
+    @Test
+    public void vegasFollowsLatency() {
+        VegasConcurrencyLimit limit = new VegasConcurrencyLimit(20, 100, 1000);
+
+        // The first sample is the latency without load
+        limit.onSample(10 * MILLIS, 20, false);
+        assertEquals(20, limit.limit());
+
+        // No queueing: grow quickly
+        limit.onSample(10 * MILLIS, 20, false);
+        assertEquals(26, limit.limit());
+
+        // The latency doubled: half of the requests are queued, shrink
+        limit.onSample(20 * MILLIS, 26, false);
+        assertEquals(25, limit.limit());
+
+        // Dropped requests shrink the limit whatever their latency
+        limit.onSample(10 * MILLIS, 25, true);
+        assertEquals(24, limit.limit());
+
+        // Not enough requests in flight to grow
+        limit.onSample(10 * MILLIS, 2, false);
+        assertEquals(24, limit.limit());
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.transport.limiter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.transport.Endpoint;
+import org.opensearch.client.transport.OpenSearchTransport;
+import org.opensearch.client.transport.TransportException;
+import org.opensearch.client.transport.TransportOptions;
+
+public class ConcurrencyLimitingTransportTest extends Assert {
+
+    @Test
+    public void requestsOverTheLimitAreQueued() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(
+            b -> b.transport(delegate).limit(() -> new FixedLimit(2)).maxQueueSize(1).executor(Runnable::run)
+        );
+
+        CompletableFuture<Object> first = transport.performRequestAsync("first", null, null);
+        CompletableFuture<Object> second = transport.performRequestAsync("second", null, null);
+        CompletableFuture<Object> third = transport.performRequestAsync("third", null, null);
+        CompletableFuture<Object> fourth = transport.performRequestAsync("fourth", null, null);
+
+        ConcurrencyLimiter limiter = transport.limiters().get(ConcurrencyLimitingTransport.ALL);
+        assertEquals(2, delegate.pending.size());
+        assertEquals(2, limiter.inFlight());
+        assertEquals(1, limiter.queued());
+
+        // The queue is full
+        assertTrue(fourth.isCompletedExceptionally());
+        assertEquals(1, limiter.rejected());
+        try {
+            fourth.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TransportException);
+        }
+
+        // Completing a request sends the queued one
+        delegate.pending.poll().complete("ok");
+        assertEquals("ok", first.get());
+        assertEquals(2, delegate.pending.size());
+        assertEquals(2, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+
+        delegate.pending.poll().complete("ok");
+        delegate.pending.poll().complete("ok");
+        assertEquals("ok", second.get());
+        assertEquals("ok", third.get());
+        assertEquals(0, limiter.inFlight());
+    }
+
+    @Test
+    public void queuedRequestsAreSentFromTheExecutor() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(b -> b.transport(delegate).limit(() -> new FixedLimit(1)));
+
+        transport.performRequestAsync("first", null, null);
+        CompletableFuture<Object> second = transport.performRequestAsync("second", null, null);
+        assertEquals(Thread.currentThread(), delegate.senders.get("first"));
+
+        // Completed by this thread, standing for an I/O thread of the transport
+        delegate.pending.poll().complete("ok");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (delegate.pending.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        delegate.pending.poll().complete("ok");
+        assertEquals("ok", second.get(10, TimeUnit.SECONDS));
+
+        Thread sender = delegate.senders.get("second");
+        assertNotEquals(Thread.currentThread(), sender);
+        assertTrue(sender.getName(), sender.getName().startsWith("opensearch-concurrency-limiter#"));
+        assertTrue(sender.isDaemon());
+        transport.close();
+    }
+
+    @Test
+    public void abandonedQueuedRequestsAreNotSent() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(
+            b -> b.transport(delegate).limit(() -> new FixedLimit(1)).executor(Runnable::run)
+        );
+
+        CompletableFuture<Object> first = transport.performRequestAsync("first", null, null);
+        CompletableFuture<Object> cancelled = transport.performRequestAsync("cancelled", null, null);
+        CompletableFuture<Object> timedOut = transport.performRequestAsync("timed out", null, null).orTimeout(10, TimeUnit.MILLISECONDS);
+        CompletableFuture<Object> last = transport.performRequestAsync("last", null, null);
+        ConcurrencyLimiter limiter = transport.limiters().get(ConcurrencyLimitingTransport.ALL);
+        assertEquals(3, limiter.queued());
+
+        cancelled.cancel(true);
+        try {
+            timedOut.get(10, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        assertTrue(cancelled.isCancelled());
+        assertEquals(1, limiter.queued());
+
+        // The freed permit goes to the last request, and the abandoned ones are never sent
+        delegate.pending.poll().complete("ok");
+        assertEquals("ok", first.get());
+        delegate.pending.poll().complete("ok");
+        assertEquals("ok", last.get());
+
+        assertFalse(delegate.senders.containsKey("cancelled"));
+        assertFalse(delegate.senders.containsKey("timed out"));
+        assertEquals(0, limiter.inFlight());
+        assertEquals(0, limiter.queued());
+        try {
+            cancelled.join();
+            fail();
+        } catch (CancellationException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void failFastWithoutQueue() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(
+            b -> b.transport(delegate).limit(() -> new FixedLimit(1)).maxQueueSize(0)
+        );
+
+        transport.performRequestAsync("first", null, null);
+        assertTrue(transport.performRequestAsync("second", null, null).isCompletedExceptionally());
+
+        // Synchronous requests are limited too
+        try {
+            transport.performRequest("third", null, null);
+            fail();
+        } catch (TransportException e) {
+            // Expected
+        }
+
+        delegate.pending.poll().complete("ok");
+        assertEquals("sync", transport.performRequest("fourth", null, null));
+        assertEquals(0, transport.limiters().get(ConcurrencyLimitingTransport.ALL).inFlight());
+    }
+
+    @Test
+    public void limitsArePerEndpoint() {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(
+            b -> b.transport(delegate).limit(() -> new FixedLimit(1)).maxQueueSize(0).perEndpoint(true)
+        );
+
+        assertFalse(transport.performRequestAsync("string", null, null).isCompletedExceptionally());
+        assertFalse(transport.performRequestAsync(42, null, null).isCompletedExceptionally());
+        assertTrue(transport.performRequestAsync("other string", null, null).isCompletedExceptionally());
+
+        assertEquals(2, transport.limiters().size());
+        assertEquals(1, transport.limiters().get(String.class.getName()).rejected());
+        assertEquals(0, transport.limiters().get(Integer.class.getName()).rejected());
+    }
+
+    @Test
+    public void rejectionsShrinkTheLimit() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(
+            b -> b.transport(delegate).limit(() -> new AimdConcurrencyLimit(10, 1, 100, 0.5, 1000))
+        );
+
+        CompletableFuture<Object> future = transport.performRequestAsync("request", null, null);
+        delegate.pending.poll().completeExceptionally(exception(429));
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(5, transport.limiters().get(ConcurrencyLimitingTransport.ALL).limit());
+
+        // Other errors from the cluster are samples of its latency
+        future = transport.performRequestAsync("request", null, null);
+        delegate.pending.poll().completeExceptionally(exception(404));
+        assertEquals(5, transport.limiters().get(ConcurrencyLimitingTransport.ALL).limit());
+    }
+
+    @Test
+    public void failuresWithoutErrorBodyAreSampled() throws Exception {
+        TestTransport delegate = new TestTransport();
+        FixedLimit limit = new FixedLimit(10);
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(b -> b.transport(delegate).limit(() -> limit));
+
+        // Transports report error responses that they can't decode, like those of a load balancer, with their status
+        CompletableFuture<Object> future = transport.performRequestAsync("request", null, null);
+        delegate.pending.poll().completeExceptionally(new TransportException(503, "Request failed with status code '503'", null));
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(1, limit.samples.get());
+        assertEquals(1, limit.drops.get());
+
+        future = transport.performRequestAsync("request", null, null);
+        delegate.pending.poll().completeExceptionally(new TransportException(413, "Request failed with status code '413'", null));
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(2, limit.samples.get());
+        assertEquals(1, limit.drops.get());
+
+        // Failures without a response say nothing about the load of the cluster
+        future = transport.performRequestAsync("request", null, null);
+        delegate.pending.poll().completeExceptionally(new TransportException("Connection refused"));
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(2, limit.samples.get());
+        assertEquals(0, transport.limiters().get(ConcurrencyLimitingTransport.ALL).inFlight());
+    }
+
+    @Test
+    public void closeFailsQueuedRequests() throws Exception {
+        TestTransport delegate = new TestTransport();
+        ConcurrencyLimitingTransport transport = ConcurrencyLimitingTransport.of(b -> b.transport(delegate).limit(() -> new FixedLimit(1)));
+
+        transport.performRequestAsync("first", null, null);
+        CompletableFuture<Object> queued = transport.performRequestAsync("second", null, null);
+        transport.close();
+
+        assertTrue(delegate.closed);
+        assertTrue(queued.isCompletedExceptionally());
+        assertTrue(transport.performRequestAsync("third", null, null).isCompletedExceptionally());
+    }
+
+    private static OpenSearchException exception(int status) {
+        return new OpenSearchException(ErrorResponse.of(r -> r.status(status).error(e -> e.type("error").reason("failed"))));
+    }
+
+    private static class FixedLimit implements ConcurrencyLimit {
+        private final int limit;
+        final AtomicInteger samples = new AtomicInteger();
+        final AtomicInteger drops = new AtomicInteger();
+
+        FixedLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int limit() {
+            return limit;
+        }
+
+        @Override
+        public void onSample(long rttNanos, int inFlight, boolean dropped) {
+            samples.incrementAndGet();
+            if (dropped) {
+                drops.incrementAndGet();
+            }
+        }
+    }
+
+    private static class TestTransport implements OpenSearchTransport {
+        final ConcurrentLinkedQueue<CompletableFuture<Object>> pending = new ConcurrentLinkedQueue<>();
+        final Map<Object, Thread> senders = new ConcurrentHashMap<>();
+        volatile boolean closed;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) throws IOException {
+            return (ResponseT) "sync";
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(
+            RequestT request,
+            Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+            @Nullable TransportOptions options
+        ) {
+            senders.put(request, Thread.currentThread());
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            pending.add(future);
+            return (CompletableFuture<ResponseT>) (CompletableFuture<?>) future;
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return new JsonbJsonpMapper();
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -28,7 +28,10 @@ public class PercentCodecTest {
                 { "a/b", "a%2Fb", "a%2Fb" },
                 { "a/b/c/_refresh", "a%2Fb%2Fc%2F_refresh", "a%2Fb%2Fc%2F_refresh" },
                 { "a:b:c:d:e::1.0", "a%3Ab%3Ac%3Ad%3Ae%3A%3A1.0", "a:b:c:d:e::1.0" },
-                { "a,b,c", "a%2Cb%2Cc", "a,b,c" } }
+                { "a,b,c", "a%2Cb%2Cc", "a,b,c" },
+                { "a b", "a%20b", "a%20b" },
+                { "caf\u00e9", "caf%C3%A9", "caf%C3%A9" },
+                { "\u4e2d\ud83d\ude00", "%E4%B8%AD%F0%9F%98%80", "%E4%B8%AD%F0%9F%98%80" } }
         );
     }
 
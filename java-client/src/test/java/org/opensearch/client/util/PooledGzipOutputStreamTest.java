@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+public class PooledGzipOutputStreamTest {
+
+    @Test
+    public void testCompressedContentIsGzip() throws IOException {
+        DeflaterPool pool = new DeflaterPool(Deflater.BEST_SPEED, 2);
+        byte[] data = compressibleBytes(100_000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PooledGzipOutputStream gzip = new PooledGzipOutputStream(out, pool, 512)) {
+            gzip.write(data[0]);
+            gzip.write(data, 1, data.length - 1);
+        }
+
+        assertArrayEquals(data, gunzip(out.toByteArray()));
+    }
+
+    @Test
+    public void testDeflatersAreReused() throws IOException {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 2);
+        byte[] first = compressibleBytes(1000);
+        byte[] second = compressibleBytes(3000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PooledGzipOutputStream gzip = new PooledGzipOutputStream(out, pool);
+        gzip.write(first);
+        gzip.finish();
+        assertEquals(1, pool.retainedDeflaters());
+        // Finishing again has no effect on the released deflater
+        gzip.close();
+        assertEquals(1, pool.retainedDeflaters());
+        assertArrayEquals(first, gunzip(out.toByteArray()));
+        assertThrows(IOException.class, () -> gzip.write(first));
+
+        // The reset deflater produces the same output as a new one
+        Deflater deflater = pool.acquire();
+        pool.release(deflater);
+        out.reset();
+        try (PooledGzipOutputStream reused = new PooledGzipOutputStream(out, pool)) {
+            reused.write(second);
+        }
+        assertArrayEquals(second, gunzip(out.toByteArray()));
+        assertSame(deflater, pool.acquire());
+    }
+
+    @Test
+    public void testAbandonedStreamReleasesDeflater() throws IOException {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 2);
+        PooledGzipOutputStream gzip = new PooledGzipOutputStream(new ByteArrayOutputStream(), pool);
+        gzip.write(compressibleBytes(1000));
+        gzip.release();
+        gzip.release();
+        assertEquals(1, pool.retainedDeflaters());
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        DeflaterPool pool = new DeflaterPool(Deflater.DEFAULT_COMPRESSION, 1);
+        Deflater first = pool.acquire();
+        Deflater second = pool.acquire();
+        pool.release(first);
+        pool.release(second);
+        assertEquals(1, pool.retainedDeflaters());
+        assertSame(first, pool.acquire());
+    }
+
+    @Test
+    public void testInvalidLevel() {
+        assertThrows(IllegalArgumentException.class, () -> new DeflaterPool(10, 1));
+        assertThrows(IllegalArgumentException.class, () -> DeflaterPool.shared(-2));
+        assertSame(DeflaterPool.shared(Deflater.DEFAULT_COMPRESSION), DeflaterPool.shared(Deflater.DEFAULT_COMPRESSION));
+        assertEquals(Deflater.BEST_COMPRESSION, DeflaterPool.shared(Deflater.BEST_COMPRESSION).level());
+    }
+
+    private static byte[] compressibleBytes(int length) {
+        byte[] bytes = new byte[length];
+        Random random = new Random(length);
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return bytes;
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[1024];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                out.write(buf, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
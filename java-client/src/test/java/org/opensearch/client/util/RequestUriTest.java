@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.hc.core5.net.URIBuilder;
+import org.junit.Test;
+
+public class RequestUriTest {
+    @Test
+    public void testPathPrefixIsJoined() {
+        Map<String, String> params = Collections.emptyMap();
+        assertEquals("/_search", RequestUri.format(null, "/_search", params));
+        assertEquals("/_search", RequestUri.format("", "/_search", params));
+        assertEquals("/prefix/_search", RequestUri.format("/prefix", "/_search", params));
+        assertEquals("/prefix/_search", RequestUri.format("/prefix/", "/_search", params));
+        assertEquals("/prefix/_search", RequestUri.format("/prefix/", "_search", params));
+        assertEquals("/prefix/_search", RequestUri.format("/prefix", "_search", params));
+    }
+
+    @Test
+    public void testQueryIsEncodedLikeUriBuilder() throws Exception {
+        StringBuilder ascii = new StringBuilder();
+        for (char c = ' '; c < 0x7F; c++) {
+            ascii.append(c);
+        }
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("routing", "a b,c");
+        params.put("q" + ascii, ascii + "caf\u00e9 \u4e2d\ud83d\ude00");
+        params.put("flag", null);
+        String path = "/logs-*,metrics/_doc/a%2Fb:c@d";
+
+        URIBuilder builder = new URIBuilder(path);
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            builder.addParameter(param.getKey(), param.getValue());
+        }
+        assertEquals(builder.build().toASCIIString(), RequestUri.format(null, path, params));
+    }
+
+    @Test
+    public void testPathsThatAreNotEncodedAreRejected() {
+        Map<String, String> params = Collections.emptyMap();
+        assertNull(RequestUri.format(null, "/_cat/indices?v", params));
+        assertNull(RequestUri.format(null, "/a b", params));
+        assertNull(RequestUri.format(null, "/caf\u00e9", params));
+        assertNull(RequestUri.format(null, "/100%", params));
+        assertNull(RequestUri.format("/a#b", "/_search", params));
+    }
+
+    @Test
+    public void testEscapedSegmentsAreCached() {
+        assertEquals("logs", PathEncoder.encode("logs"));
+        String encoded = PathEncoder.encode("<logs-{now/d}>");
+        assertEquals("%3Clogs-%7Bnow%2Fd%7D%3E", encoded);
+        assertEquals(encoded, PathEncoder.encode("<logs-{now/d}>"));
+
+        StringBuilder buf = new StringBuilder("/");
+        PathEncoder.encode(buf, "a b");
+        assertEquals("/a%20b", buf.toString());
+    }
+}
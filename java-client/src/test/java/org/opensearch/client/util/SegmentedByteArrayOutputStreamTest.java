@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.util;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import org.junit.Test;
+
+public class SegmentedByteArrayOutputStreamTest {
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    @Test
+    public void testWriteAcrossSegments() throws IOException {
+        BoundedBufferPool pool = new BoundedBufferPool(16, 8);
+        SegmentedByteArrayOutputStream out = new SegmentedByteArrayOutputStream(pool);
+        byte[] data = randomBytes(100);
+
+        out.write(data[0]);
+        out.write(data, 1, 40);
+        out.write(data, 41, 59);
+
+        assertEquals(100, out.size());
+        assertArrayEquals(data, out.toByteArray());
+
+        ByteArrayOutputStream copy = new ByteArrayOutputStream();
+        out.writeTo(copy);
+        assertArrayEquals(data, copy.toByteArray());
+
+        ByteBuffer[] buffers = out.asByteBuffers();
+        assertEquals(7, buffers.length);
+        ByteBuffer joined = ByteBuffer.allocate(100);
+        for (ByteBuffer buffer : buffers) {
+            joined.put(buffer);
+        }
+        assertArrayEquals(data, joined.array());
+    }
+
+    @Test
+    public void testInputStream() throws IOException {
+        SegmentedByteArrayOutputStream out = new SegmentedByteArrayOutputStream(new BoundedBufferPool(10, 8));
+        byte[] data = randomBytes(35);
+        out.write(data);
+
+        InputStream in = out.asInputStream();
+        assertEquals(35, in.available());
+        assertEquals(data[0] & 0xff, in.read());
+        in.mark(0);
+
+        byte[] read = new byte[34];
+        assertEquals(34, in.read(read, 0, 34));
+        assertEquals(-1, in.read());
+        assertEquals(-1, in.read(read, 0, 1));
+
+        in.reset();
+        assertEquals(4, in.skip(4));
+        assertEquals(data[5] & 0xff, in.read());
+
+        byte[] expected = new byte[34];
+        System.arraycopy(data, 1, expected, 0, 34);
+        assertArrayEquals(expected, read);
+    }
+
+    @Test
+    public void testReleaseRecyclesSegments() {
+        BoundedBufferPool pool = new BoundedBufferPool(16, 2);
+        SegmentedByteArrayOutputStream out = new SegmentedByteArrayOutputStream(pool);
+        out.write(randomBytes(48), 0, 48);
+        ByteBuffer[] buffers = out.asByteBuffers();
+
+        out.release();
+        assertEquals(0, out.size());
+        assertEquals(0, out.toByteArray().length);
+        // Only two segments out of three are retained
+        assertEquals(2, pool.retainedSegments());
+
+        byte[] first = pool.acquire();
+        byte[] second = pool.acquire();
+        byte[] third = pool.acquire();
+        assertEquals(0, pool.retainedSegments());
+        assertNotSame(first, second);
+        assertEquals(16, third.length);
+
+        pool.release(first);
+        assertSame(first, pool.acquire());
+
+        // Segments of another size are not retained
+        pool.release(new byte[8]);
+        assertEquals(0, pool.retainedSegments());
+        assertEquals(3, buffers.length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPool() {
+        new BoundedBufferPool(0, 1);
+    }
+}
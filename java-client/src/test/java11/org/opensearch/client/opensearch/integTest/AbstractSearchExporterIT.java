@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.opensearch.integTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.client.opensearch._helpers.search.SearchExporter;
+import org.opensearch.client.opensearch._types.FieldValue;
+import org.opensearch.client.opensearch._types.Refresh;
+import org.opensearch.client.opensearch._types.SortOrder;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.search.Hit;
+
+public abstract class AbstractSearchExporterIT extends OpenSearchJavaClientTestCase {
+    private static final String INDEX = "search-exporter";
+    private static final int DOCUMENTS = 1000;
+
+    public static class AppData {
+        private int intValue;
+        private String msg;
+
+        public int getIntValue() {
+            return intValue;
+        }
+
+        public void setIntValue(int intValue) {
+            this.intValue = intValue;
+        }
+
+        public String getMsg() {
+            return msg;
+        }
+
+        public void setMsg(String msg) {
+            this.msg = msg;
+        }
+    }
+
+    @Before
+    public void createDocuments() throws IOException {
+        assumeTrue("The PIT is supported in OpenSearch 2.4.0 and later", getServerVersion().onOrAfter(Version.V_2_4_0));
+
+        // Several shards, so that the sort needs a tie-breaker across shards
+        javaClient().indices()
+            .create(
+                c -> c.index(INDEX)
+                    .settings(s -> s.numberOfShards(3).numberOfReplicas(0))
+                    .mappings(m -> m.properties("intValue", p -> p.integer(i -> i)))
+            );
+
+        List<BulkOperation> operations = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            AppData appData = new AppData();
+            appData.setIntValue(i);
+            appData.setMsg(i % 2 == 0 ? "even" : "odd");
+            String id = String.valueOf(i);
+            operations.add(BulkOperation.of(o -> o.index(d -> d.id(id).document(appData))));
+        }
+        BulkResponse response = javaClient().bulk(b -> b.index(INDEX).operations(operations).refresh(Refresh.True));
+        assertFalse(response.errors());
+    }
+
+    @Test
+    public void testExportWithDefaultSort() throws Exception {
+        // Sorted on _shard_doc, or on _id on versions that reject it
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(javaClient()).index(INDEX).documentClass(AppData.class).slices(4).pageSize(50).bufferSize(20)
+            )
+        ) {
+            assertEquals(DOCUMENTS, export(exporter).size());
+            assertEquals(DOCUMENTS, exporter.hitCount());
+        }
+    }
+
+    @Test
+    public void testExportWithQueryAndSort() throws Exception {
+        Set<Integer> values;
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(javaClient())
+                    .index(INDEX)
+                    .documentClass(AppData.class)
+                    .request(
+                        r -> r.query(q -> q.term(t -> t.field("msg.keyword").value(FieldValue.of("even"))))
+                            // A unique field of the documents is the tie-breaker
+                            .sort(s -> s.field(f -> f.field("intValue").order(SortOrder.Asc)))
+                    )
+                    .slices(2)
+                    .pageSize(30)
+            )
+        ) {
+            values = export(exporter);
+        }
+
+        assertEquals(DOCUMENTS / 2, values.size());
+        for (int value : values) {
+            assertEquals(0, value % 2);
+        }
+    }
+
+    @Test
+    public void testExportWithSingleSlice() throws Exception {
+        try (
+            SearchExporter<AppData> exporter = SearchExporter.of(
+                b -> b.client(javaClient()).index(INDEX).documentClass(AppData.class).pageSize(100)
+            )
+        ) {
+            assertEquals(DOCUMENTS, exporter.stream().map(Hit::id).distinct().count());
+        }
+    }
+
+    // Exports all hits, checking that none is repeated
+    private static Set<Integer> export(SearchExporter<AppData> exporter) throws IOException {
+        exporter.start();
+        assertNotNull(exporter.pitId());
+
+        Set<Integer> values = new HashSet<>();
+        while (exporter.hasNext()) {
+            int value = exporter.next().source().getIntValue();
+            assertTrue("Hit " + value + " was exported twice", values.add(value));
+        }
+        return values;
+    }
+}
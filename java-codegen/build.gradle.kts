@@ -81,7 +81,7 @@ tasks.named<JavaExec>("run") {
         "--input", localSpecification,
         "--eclipse-config", "$rootDir/buildSrc/formatterConfig-generated.xml",
         "--output", "${project(":java-client").projectDir}/src/generated/java/"
-    )
+    ) + if (project.hasProperty("switchDeserializers")) listOf("--switch-deserializers") else emptyList()
 }
 
 tasks.withType<ProcessResources> {
@@ -126,11 +126,19 @@ public class CodeGenerator {
             .hasArg()
             .required()
             .build();
+        var switchDeserializersOpt = Option.builder()
+            .longOpt("switch-deserializers")
+            .desc("Generate a switch on the field names that deserializes the fields of each object shape directly into its builder")
+            .build();
         var helpOpt = Option.builder("h").longOpt("help").desc("Print this help information").build();
         final var usageString =
             "CodeGenerator.class --input https://.../opensearch-openapi.yaml --eclipse-config ./buildSrc/formatterConfig.xml --output ./java-client/src/generated/java";
 
-        var options = new Options().addOption(inputOpt).addOption(eclipseConfigOpt).addOption(outputOpt).addOption(helpOpt);
+        var options = new Options().addOption(inputOpt)
+            .addOption(eclipseConfigOpt)
+            .addOption(outputOpt)
+            .addOption(switchDeserializersOpt)
+            .addOption(helpOpt);
 
         var cliParser = new DefaultParser();
 
@@ -146,9 +154,11 @@ public class CodeGenerator {
             var specLocation = new URI(cli.getOptionValue(inputOpt));
             var eclipseConfig = new File(cli.getOptionValue(eclipseConfigOpt));
             var outputDir = new File(cli.getOptionValue(outputOpt));
+            var switchDeserializers = cli.hasOption(switchDeserializersOpt);
             LOGGER.info("Specification Location: {}", specLocation);
             LOGGER.info("Eclipse Configuration: {}", eclipseConfig);
             LOGGER.info("Output Directory: {}", outputDir);
+            LOGGER.info("Switch Deserializers: {}", switchDeserializers);
 
             Namespace root = parseSpec(specLocation);
 
@@ -161,6 +171,7 @@ public class CodeGenerator {
                     .withOutputDir(rootPackageOutputDir)
                     .withJavaCodeFormatter(b -> b.withRootDir(rootPackageOutputDir.toPath()).withEclipseFormatterConfig(eclipseConfig))
                     .withTemplateLoader(b -> b.withTemplatesResourceSubPath("/org/opensearch/client/codegen/templates"))
+                    .withSwitchDeserializers(switchDeserializers)
                     .build()
             ) {
                 root.render(ctx);
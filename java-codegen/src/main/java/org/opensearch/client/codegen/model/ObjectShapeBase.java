@@ -8,11 +8,14 @@
 
 package org.opensearch.client.codegen.model;
 
+import com.samskivert.mustache.Mustache;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -21,8 +24,10 @@ import java.util.stream.Collectors;
 import org.opensearch.client.codegen.model.types.Type;
 import org.opensearch.client.codegen.model.types.TypeRef;
 import org.opensearch.client.codegen.model.types.Types;
+import org.opensearch.client.codegen.renderer.lambdas.TemplateStringLambda;
 import org.opensearch.client.codegen.transformer.overrides.ShouldGenerate;
 import org.opensearch.client.codegen.utils.NameSanitizer;
+import org.opensearch.client.codegen.utils.Strings;
 
 public class ObjectShapeBase extends Shape {
     protected final Map<String, Field> bodyFields = new TreeMap<>();
@@ -150,6 +155,27 @@ public class ObjectShapeBase extends Shape {
         return getBodyFields();
     }
 
+    /**
+     * Maps the name of a field to serialize to the name of the constant that holds its pre-encoded key. Field names that only differ
+     * in case or separators have the same constant case, so the later ones get a numbered suffix.
+     */
+    public Mustache.Lambda keyName() {
+        return TemplateStringLambda.asMustacheLambda(name -> getKeyNames().get(name));
+    }
+
+    private Map<String, String> getKeyNames() {
+        var keyNames = new HashMap<String, String>();
+        var constants = new HashSet<String>();
+        for (var field : getFieldsToSerialize()) {
+            var constant = "KEY_" + Strings.toSnakeCase(field.getName()).toUpperCase(Locale.ROOT);
+            for (var i = 2; !constants.add(constant); i++) {
+                constant = "KEY_" + Strings.toSnakeCase(field.getName()).toUpperCase(Locale.ROOT) + "_" + i;
+            }
+            keyNames.put(field.getName(), constant);
+        }
+        return keyNames;
+    }
+
     public boolean hasFieldsToSerialize() {
         return !bodyFields.isEmpty() || additionalProperties != null;
     }
@@ -158,6 +184,21 @@ public class ObjectShapeBase extends Shape {
         return getBodyFields();
     }
 
+    /**
+     * The fields that a generated field switch deserializes directly into the builder: the ones whose deserializer is a constant,
+     * which excludes lists, maps and generic types.
+     */
+    public Collection<Field> getFieldsToDeserializeInSwitch() {
+        return getFieldsToDeserialize().stream().filter(f -> {
+            var type = f.getType();
+            return !type.isListOrMap() && !type.isTypeParameterRef() && !type.hasTypeParams();
+        }).collect(Collectors.toList());
+    }
+
+    public boolean hasFieldsToDeserializeInSwitch() {
+        return !getFieldsToDeserializeInSwitch().isEmpty();
+    }
+
     public Collection<BuilderSetter> getConcreteBuilderSetters() {
         var builderT = Type.builder().withName("Builder").withTypeParameters(getSelfType().getTypeParams()).build();
         return getFields().stream().map(f -> new BuilderSetter(builderT, f)).collect(Collectors.toList());
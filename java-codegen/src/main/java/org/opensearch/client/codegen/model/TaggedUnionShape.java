@@ -101,6 +101,14 @@ public class TaggedUnionShape extends ObjectShapeBase {
         return externallyDiscriminated == ExternallyDiscriminated.TYPED_KEYS;
     }
 
+    /**
+     * Whether the union writes the name of its variant as a key itself, which is when it is externally discriminated without
+     * typed keys. Its kinds then hold a pre-encoded key for their name.
+     */
+    public boolean writesKindKey() {
+        return isExternallyDiscriminated() && !isInternallyDiscriminated() && !usesTypedKeys();
+    }
+
     public void setExternallyDiscriminated(ExternallyDiscriminated externallyDiscriminated) {
         this.externallyDiscriminated = externallyDiscriminated;
     }
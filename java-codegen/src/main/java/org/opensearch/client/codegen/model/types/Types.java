@@ -160,6 +160,7 @@ public final class Types {
             public static final Type JsonData = type(PACKAGE, "JsonData");
             public static final Type JsonpDeserializable = type(PACKAGE, "JsonpDeserializable");
             public static final Type JsonpDeserializer = type(PACKAGE, "JsonpDeserializer");
+            public static final Type JsonpKey = type(PACKAGE, "JsonpKey");
             public static final Type JsonEnum = type(PACKAGE, "JsonEnum");
             public static final Type JsonpMapper = type(PACKAGE, "JsonpMapper");
             public static final Type JsonpSerializable = type(PACKAGE, "JsonpSerializable");
@@ -296,6 +297,7 @@ public final class Types {
             public static final class Stream {
                 public static final String PACKAGE = Json.PACKAGE + ".stream";
                 public static final Type JsonGenerator = type(PACKAGE, "JsonGenerator");
+                public static final Type JsonParser = type(PACKAGE, "JsonParser");
             }
         }
     }
@@ -23,12 +23,14 @@ public final class ShapeRenderingContext implements AutoCloseable {
     @Nonnull
     private final JavaCodeFormatter javaCodeFormatter;
     private final boolean ownedJavaCodeFormatter;
+    private final boolean switchDeserializers;
 
     private ShapeRenderingContext(Builder builder) {
         this.outputDir = Objects.requireNonNull(builder.outputDir, "outputDir must not be null");
         this.templateLoader = Objects.requireNonNull(builder.templateLoader, "templateLoader must not be null");
         this.javaCodeFormatter = Objects.requireNonNull(builder.javaCodeFormatter, "javaCodeFormatter must not be null");
         this.ownedJavaCodeFormatter = builder.ownedJavaCodeFormatter;
+        this.switchDeserializers = builder.switchDeserializers;
     }
 
     @Nonnull
@@ -36,6 +38,7 @@ public final class ShapeRenderingContext implements AutoCloseable {
         return builder().withOutputDir(new File(outputDir, Strings.requireNonBlank(name, "name must not be null")))
             .withTemplateLoader(templateLoader)
             .withJavaCodeFormatter(javaCodeFormatter)
+            .withSwitchDeserializers(switchDeserializers)
             .build();
     }
 
@@ -53,6 +56,7 @@ public final class ShapeRenderingContext implements AutoCloseable {
             .withValueFormatter(valueFormatterConfigurator)
             .withTemplateLoader(templateLoader)
             .withJavaCodeFormatter(javaCodeFormatter)
+            .withSwitchDeserializers(switchDeserializers)
             .build();
     }
 
@@ -73,6 +77,7 @@ public final class ShapeRenderingContext implements AutoCloseable {
         private TemplateLoader templateLoader;
         private JavaCodeFormatter javaCodeFormatter;
         private boolean ownedJavaCodeFormatter;
+        private boolean switchDeserializers;
 
         private Builder() {}
 
@@ -123,5 +128,11 @@ public final class ShapeRenderingContext implements AutoCloseable {
                 true
             );
         }
+
+        @Nonnull
+        public Builder withSwitchDeserializers(boolean switchDeserializers) {
+            this.switchDeserializers = switchDeserializers;
+            return this;
+        }
     }
 }
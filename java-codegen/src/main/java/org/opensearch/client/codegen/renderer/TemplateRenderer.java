@@ -41,7 +41,10 @@ public final class TemplateRenderer {
             .withLoader(Objects.requireNonNull(builder.templateLoader, "templateLoader must not be null"))
             .withFormatter(Objects.requireNonNull(builder.valueFormatter, "valueFormatter must not be null"))
             .withCollector(new TemplateObjectCollector());
-        this.context = TemplateGlobalContext.builder().withRenderer(this).build();
+        this.context = TemplateGlobalContext.builder()
+            .withRenderer(this)
+            .withValue("switchDeserializers", builder.switchDeserializers)
+            .build();
         this.javaCodeFormatter = Objects.requireNonNull(builder.javaCodeFormatter, "javaCodeFormatter must not be null");
     }
 
@@ -88,6 +91,7 @@ public final class TemplateRenderer {
         private TemplateValueFormatter valueFormatter;
         private TemplateLoader templateLoader;
         private JavaCodeFormatter javaCodeFormatter;
+        private boolean switchDeserializers;
 
         private Builder() {}
 
@@ -116,5 +120,11 @@ public final class TemplateRenderer {
             this.javaCodeFormatter = Objects.requireNonNull(javaCodeFormatter, "javaCodeFormatter must not be null");
             return this;
         }
+
+        @Nonnull
+        public Builder withSwitchDeserializers(boolean switchDeserializers) {
+            this.switchDeserializers = switchDeserializers;
+            return this;
+        }
     }
 }
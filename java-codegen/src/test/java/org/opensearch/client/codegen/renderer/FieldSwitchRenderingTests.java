@@ -0,0 +1,125 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.codegen.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.client.codegen.model.Field;
+import org.opensearch.client.codegen.model.Namespace;
+import org.opensearch.client.codegen.model.ObjectShape;
+import org.opensearch.client.codegen.model.types.Type;
+import org.opensearch.client.codegen.model.types.Types;
+import org.opensearch.client.codegen.transformer.overrides.ShouldGenerate;
+
+public class FieldSwitchRenderingTests {
+    @TempDir
+    Path outputDir;
+
+    @Test
+    public void rendersFieldSwitch() throws Exception {
+        var java = render(true);
+
+        assertTrue(java.contains("op.addFieldSwitch(ShardStatistics::deserializeShardStatisticsField);"), java);
+        assertTrue(
+            java.contains(
+                "protected static boolean deserializeShardStatisticsField(ShardStatistics.Builder builder, String name, "
+                    + "JsonParser parser, JsonpMapper mapper) {"
+            ),
+            java
+        );
+        assertTrue(
+            java.contains(
+                "case \"failed\": builder.failed = JsonpDeserializer.integerDeserializer().deserialize(parser, mapper); return true;"
+            ),
+            java
+        );
+        assertTrue(
+            java.contains(
+                "case \"total\": builder.total = JsonpDeserializer.integerDeserializer().deserialize(parser, mapper); return true;"
+            ),
+            java
+        );
+        assertTrue(java.contains("default: return false;"), java);
+
+        // Lists are left to the field table, which still registers every field
+        assertFalse(java.contains("case \"failures\":"), java);
+        assertTrue(
+            java.contains(
+                "op.add(Builder::failures, JsonpDeserializer.arrayDeserializer(ShardSearchFailure._DESERIALIZER), \"failures\");"
+            ),
+            java
+        );
+        assertTrue(java.contains("op.add(Builder::failed, JsonpDeserializer.integerDeserializer(), \"failed\");"), java);
+    }
+
+    @Test
+    public void rendersNoFieldSwitchByDefault() throws Exception {
+        var java = render(false);
+
+        assertFalse(java.contains("addFieldSwitch"), java);
+        assertFalse(java.contains("deserializeShardStatisticsField"), java);
+        assertTrue(java.contains("op.add(Builder::failed, JsonpDeserializer.integerDeserializer(), \"failed\");"), java);
+    }
+
+    // Renders _types.ShardStatistics as the specification defines it, with the whitespace collapsed and unwrapped
+    private String render(boolean switchDeserializers) throws Exception {
+        var shape = new ObjectShape(
+            new Namespace().child("_types"),
+            "ShardStatistics",
+            "_common___ShardStatistics",
+            null,
+            ShouldGenerate.Always
+        );
+        shape.addBodyField(integerField("failed", true));
+        shape.addBodyField(
+            Field.builder()
+                .withWireName("failures")
+                .withName("failures")
+                .withType(
+                    Types.Java.Util.List(
+                        Type.builder().withPackage("org.opensearch.client.opensearch._types").withName("ShardSearchFailure").build()
+                    )
+                )
+                .build()
+        );
+        shape.addBodyField(integerField("skipped", false));
+        shape.addBodyField(integerField("successful", true));
+        shape.addBodyField(integerField("total", true));
+
+        var outputDir = this.outputDir.toFile();
+        try (
+            var ctx = ShapeRenderingContext.builder()
+                .withOutputDir(outputDir)
+                .withJavaCodeFormatter(
+                    b -> b.withRootDir(outputDir.toPath()).withEclipseFormatterConfig(new File("../buildSrc/formatterConfig-generated.xml"))
+                )
+                .withTemplateLoader(b -> b.withTemplatesResourceSubPath("/org/opensearch/client/codegen/templates"))
+                .withSwitchDeserializers(switchDeserializers)
+                .build()
+        ) {
+            shape.render(ctx);
+        }
+
+        return Files.readString(outputDir.toPath().resolve("ShardStatistics.java"), StandardCharsets.UTF_8)
+            .replaceAll("\\s+", " ")
+            .replace("( ", "(")
+            .replace(" )", ")");
+    }
+
+    private static Field integerField(String name, boolean required) {
+        return Field.builder().withWireName(name).withName(name).withType(Types.Java.Lang.Integer).withRequired(required).build();
+    }
+}
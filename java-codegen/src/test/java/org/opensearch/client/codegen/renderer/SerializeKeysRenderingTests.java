@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.codegen.renderer;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.client.codegen.model.Field;
+import org.opensearch.client.codegen.model.Namespace;
+import org.opensearch.client.codegen.model.ObjectShape;
+import org.opensearch.client.codegen.model.types.Types;
+import org.opensearch.client.codegen.transformer.overrides.ShouldGenerate;
+
+public class SerializeKeysRenderingTests {
+    @TempDir
+    Path outputDir;
+
+    @Test
+    public void rendersUniqueKeyNames() throws Exception {
+        var shape = new ObjectShape(new Namespace().child("_types"), "Keys", "_common___Keys", null, ShouldGenerate.Always);
+        // Both have the constant case FOO_BAR
+        shape.addBodyField(stringField("foo.bar", "fooBar"));
+        shape.addBodyField(stringField("foo_bar", "foo_bar"));
+        shape.addBodyField(stringField("took", "took"));
+
+        var java = render(shape);
+
+        assertTrue(java.contains("private static final JsonpKey KEY_FOO_BAR = JsonpKey.of(\"foo.bar\");"), java);
+        assertTrue(java.contains("private static final JsonpKey KEY_FOO_BAR_2 = JsonpKey.of(\"foo_bar\");"), java);
+        assertTrue(java.contains("private static final JsonpKey KEY_TOOK = JsonpKey.of(\"took\");"), java);
+        assertTrue(java.contains("JsonpUtils.writeKey(generator, KEY_FOO_BAR); generator.write(this.fooBar);"), java);
+        assertTrue(java.contains("JsonpUtils.writeKey(generator, KEY_FOO_BAR_2); generator.write(this.foo_bar);"), java);
+    }
+
+    // Renders the shape with the whitespace collapsed
+    private String render(ObjectShape shape) throws Exception {
+        var outputDir = this.outputDir.toFile();
+        try (
+            var ctx = ShapeRenderingContext.builder()
+                .withOutputDir(outputDir)
+                .withJavaCodeFormatter(
+                    b -> b.withRootDir(outputDir.toPath()).withEclipseFormatterConfig(new File("../buildSrc/formatterConfig-generated.xml"))
+                )
+                .withTemplateLoader(b -> b.withTemplatesResourceSubPath("/org/opensearch/client/codegen/templates"))
+                .build()
+        ) {
+            shape.render(ctx);
+        }
+
+        return Files.readString(outputDir.toPath().resolve(shape.getClassName() + ".java"), StandardCharsets.UTF_8).replaceAll("\\s+", " ");
+    }
+
+    private static Field stringField(String wireName, String name) {
+        return Field.builder().withWireName(wireName).withName(name).withType(Types.Java.Lang.String).withRequired(true).build();
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import jakarta.json.stream.JsonGenerator;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.function.BiConsumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.json.JsonpKey;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpUtils;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+
+/**
+ * Measures the serialization of bulk operation headers, with their property names written from plain strings and from
+ * pre-encoded keys, and with {@code BulkOperation.serialize}, which uses pre-encoded keys.
+ * <p>
+ * The headers are written with a generator per header, as the transports do for bulk requests, and with a single
+ * generator for all of them, which shows the cost of writing the keys without the cost of creating the generators.
+ * <p>
+ * The number of operations can be tuned with the {@code OPERATIONS} environment variable, and the number of iterations
+ * with the {@code ITERATIONS} environment variable.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=BulkHeaderSerializationBenchmark}
+ */
+public class BulkHeaderSerializationBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(BulkHeaderSerializationBenchmark.class);
+
+    public static void main(String[] args) {
+        var env = System.getenv();
+        var operations = Integer.parseInt(env.getOrDefault("OPERATIONS", "1000"));
+        var iterations = Integer.parseInt(env.getOrDefault("ITERATIONS", "2000"));
+
+        var mapper = new JacksonJsonpMapper();
+        var headers = new ArrayList<BulkOperation>(operations);
+        for (var i = 0; i < operations; i++) {
+            var id = String.valueOf(i);
+            var operation = new IndexOperation.Builder<>().index("benchmark")
+                .id(id)
+                .routing("shard-" + (i % 16))
+                .pipeline("ingest")
+                .document(id)
+                .build();
+            headers.add(new BulkOperation(operation));
+        }
+        var out = new ByteArrayOutputStream(operations * 128);
+
+        var writers = new LinkedHashMap<String, BiConsumer<BulkOperation, JsonGenerator>>();
+        writers.put("string keys", Headers::writeWithStringKeys);
+        writers.put("pre-encoded keys", Headers::writeWithPreEncodedKeys);
+        writers.put("BulkOperation.serialize", mapper::serialize);
+
+        for (var round = 0; round < 3; round++) {
+            for (var writer : writers.entrySet()) {
+                var write = writer.getValue();
+                measure("generator per header, " + writer.getKey(), iterations, out, () -> writePerHeader(mapper, headers, out, write));
+            }
+            for (var writer : writers.entrySet()) {
+                var write = writer.getValue();
+                measure("single generator, " + writer.getKey(), iterations, out, () -> writeSingle(mapper, headers, out, write));
+            }
+        }
+    }
+
+    private static void measure(String name, int iterations, ByteArrayOutputStream out, Runnable operation) {
+        // Warm up
+        for (var i = 0; i < iterations / 2; i++) {
+            out.reset();
+            operation.run();
+        }
+
+        var start = System.nanoTime();
+        for (var i = 0; i < iterations; i++) {
+            out.reset();
+            operation.run();
+        }
+        var nanos = System.nanoTime() - start;
+        LOGGER.info("{}: {} us/op ({} bytes)", name, String.format("%.1f", nanos / 1e3 / iterations), out.size());
+    }
+
+    private static void writePerHeader(
+        JsonpMapper mapper,
+        List<BulkOperation> headers,
+        ByteArrayOutputStream out,
+        BiConsumer<BulkOperation, JsonGenerator> writer
+    ) {
+        for (var header : headers) {
+            var generator = mapper.jsonProvider().createGenerator(out);
+            writer.accept(header, generator);
+            generator.close();
+            out.write('\n');
+        }
+    }
+
+    private static void writeSingle(
+        JsonpMapper mapper,
+        List<BulkOperation> headers,
+        ByteArrayOutputStream out,
+        BiConsumer<BulkOperation, JsonGenerator> writer
+    ) {
+        var generator = mapper.jsonProvider().createGenerator(out);
+        generator.writeStartArray();
+        for (var header : headers) {
+            writer.accept(header, generator);
+        }
+        generator.writeEnd();
+        generator.close();
+    }
+
+    // The same headers as BulkOperation.serialize, written with both kinds of keys
+    private static final class Headers {
+        private static final JsonpKey INDEX = JsonpKey.of("index");
+        private static final JsonpKey ID = JsonpKey.of("_id");
+        private static final JsonpKey INDEX_NAME = JsonpKey.of("_index");
+        private static final JsonpKey ROUTING = JsonpKey.of("routing");
+        private static final JsonpKey PIPELINE = JsonpKey.of("pipeline");
+
+        static void writeWithStringKeys(BulkOperation header, JsonGenerator generator) {
+            var operation = header.index();
+            generator.writeStartObject();
+            generator.writeKey("index");
+            generator.writeStartObject();
+            generator.writeKey("_id");
+            generator.write(operation.id());
+            generator.writeKey("_index");
+            generator.write(operation.index());
+            generator.writeKey("routing");
+            generator.write(operation.routing());
+            generator.writeKey("pipeline");
+            generator.write(operation.pipeline());
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+
+        static void writeWithPreEncodedKeys(BulkOperation header, JsonGenerator generator) {
+            var operation = header.index();
+            generator.writeStartObject();
+            JsonpUtils.writeKey(generator, INDEX);
+            generator.writeStartObject();
+            JsonpUtils.writeKey(generator, ID);
+            generator.write(operation.id());
+            JsonpUtils.writeKey(generator, INDEX_NAME);
+            generator.write(operation.index());
+            JsonpUtils.writeKey(generator, ROUTING);
+            generator.write(operation.routing());
+            JsonpUtils.writeKey(generator, PIPELINE);
+            generator.write(operation.pipeline());
+            generator.writeEnd();
+            generator.writeEnd();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.Deflater;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.transport.compression.CompressionCodec;
+import org.opensearch.client.transport.compression.CompressionCodecs;
+
+/**
+ * Compares the compression codecs on a bulk request body: compression and decompression throughput against the
+ * compression ratio.
+ * <p>
+ * The codecs measured are gzip and deflate at a few levels, and zstd and lz4 when zstd-jni and lz4-java are on the
+ * classpath. The size of the bulk body and the number of iterations can be tuned with the {@code DOCUMENTS} and
+ * {@code ITERATIONS} environment variables.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=CompressionBenchmark}
+ */
+public class CompressionBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(CompressionBenchmark.class);
+
+    public static void main(String[] args) throws IOException {
+        var env = System.getenv();
+        var documents = Integer.parseInt(env.getOrDefault("DOCUMENTS", "10000"));
+        var iterations = Integer.parseInt(env.getOrDefault("ITERATIONS", "50"));
+
+        var body = bulkBody(documents);
+        LOGGER.info("Bulk body of {} documents, {} bytes", documents, body.length);
+
+        var codecs = new ArrayList<CompressionCodec>();
+        for (var level : new int[] { Deflater.BEST_SPEED, Deflater.DEFAULT_COMPRESSION, Deflater.BEST_COMPRESSION }) {
+            codecs.add(CompressionCodecs.gzip(level));
+        }
+        codecs.add(CompressionCodecs.deflate(Deflater.BEST_SPEED));
+        for (var optional : Arrays.asList(CompressionCodecs.ZSTD, CompressionCodecs.LZ4)) {
+            var codec = CompressionCodecs.forContentEncoding(optional);
+            if (codec != null) {
+                codecs.add(codec);
+            } else {
+                LOGGER.info("{} is not available on the classpath", optional);
+            }
+        }
+
+        for (var codec : codecs) {
+            // Warm up
+            var compressed = compress(codec, body);
+            for (var i = 0; i < iterations / 5; i++) {
+                decompress(codec, compress(codec, body));
+            }
+
+            var start = System.nanoTime();
+            for (var i = 0; i < iterations; i++) {
+                compressed = compress(codec, body);
+            }
+            var compressNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (var i = 0; i < iterations; i++) {
+                decompress(codec, compressed);
+            }
+            var decompressNanos = System.nanoTime() - start;
+
+            LOGGER.info(
+                "{}: ratio {}, compression {} MB/s, decompression {} MB/s",
+                codec,
+                String.format("%.2f", (double) body.length / compressed.length),
+                String.format("%.0f", megabytesPerSecond(body.length, iterations, compressNanos)),
+                String.format("%.0f", megabytesPerSecond(body.length, iterations, decompressNanos))
+            );
+        }
+    }
+
+    private static byte[] bulkBody(int documents) {
+        var random = new Random(42);
+        var words = new String[] { "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "search", "index", "shard" };
+        var body = new StringBuilder();
+        for (var i = 0; i < documents; i++) {
+            body.append("{\"index\":{\"_index\":\"benchmark\",\"_id\":\"").append(i).append("\"}}\n");
+            body.append("{\"title\":\"");
+            for (var w = 0; w < 8; w++) {
+                body.append(words[random.nextInt(words.length)]).append(' ');
+            }
+            body.append("\",\"count\":").append(random.nextInt(100_000));
+            body.append(",\"price\":").append(random.nextDouble() * 1000);
+            body.append(",\"timestamp\":").append(1_700_000_000_000L + random.nextInt(1_000_000_000)).append("}\n");
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] compress(CompressionCodec codec, byte[] body) throws IOException {
+        var out = new ByteArrayOutputStream(body.length / 4);
+        try (OutputStream compressing = codec.compress(out)) {
+            compressing.write(body);
+        }
+        return out.toByteArray();
+    }
+
+    private static long decompress(CompressionCodec codec, byte[] compressed) throws IOException {
+        var buffer = new byte[8192];
+        var total = 0L;
+        try (InputStream in = codec.decompress(new ByteArrayInputStream(compressed))) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    private static double megabytesPerSecond(long bytes, int iterations, long nanos) {
+        return (double) bytes * iterations / (1024 * 1024) / (nanos / 1e9);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import jakarta.json.stream.JsonParser;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.json.JsonpDeserializable;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.JsonpMapperBase;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.json.jsonb.JsonbJsonpMapper;
+import org.opensearch.client.opensearch.core.CountResponse;
+
+/**
+ * Measures the cost of deserializing small documents into generated types, with the deserializer found through
+ * reflection on each call, as the mappers used to do, and with the deserializer cached by the mappers.
+ * <p>
+ * The number of iterations can be tuned with the {@code ITERATIONS} environment variable.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=DeserializerLookupBenchmark}
+ */
+public class DeserializerLookupBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(DeserializerLookupBenchmark.class);
+
+    private static final String COUNT_RESPONSE = "{\"count\":42,\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}}";
+
+    public static void main(String[] args) throws Exception {
+        var iterations = Integer.parseInt(System.getenv().getOrDefault("ITERATIONS", "1000000"));
+
+        measure("lookup, reflection", iterations, () -> reflectiveLookup(CountResponse.class));
+        measure("lookup, cached", iterations, () -> JsonpMapperBase.findDeserializer(CountResponse.class));
+
+        for (JsonpMapper mapper : new JsonpMapper[] { new JacksonJsonpMapper(), new JsonbJsonpMapper() }) {
+            var name = mapper.getClass().getSimpleName();
+            measure(name + ", reflection", iterations, () -> {
+                try (JsonParser parser = mapper.jsonProvider().createParser(new StringReader(COUNT_RESPONSE))) {
+                    return reflectiveLookup(CountResponse.class).deserialize(parser, mapper);
+                }
+            });
+            measure(name + ", cached", iterations, () -> {
+                try (JsonParser parser = mapper.jsonProvider().createParser(new StringReader(COUNT_RESPONSE))) {
+                    return mapper.deserialize(parser, CountResponse.class);
+                }
+            });
+        }
+    }
+
+    private static void measure(String name, int iterations, Operation operation) throws Exception {
+        // Warm up
+        for (var i = 0; i < iterations / 5; i++) {
+            operation.run();
+        }
+
+        Object result = null;
+        var start = System.nanoTime();
+        for (var i = 0; i < iterations; i++) {
+            result = operation.run();
+        }
+        var nanos = System.nanoTime() - start;
+        LOGGER.info("{}: {} ns/op ({})", name, String.format("%.1f", (double) nanos / iterations), result != null);
+    }
+
+    // The lookup done on each call before deserializers were cached
+    @SuppressWarnings("unchecked")
+    private static <T> JsonpDeserializer<T> reflectiveLookup(Class<T> clazz) {
+        var annotation = clazz.getAnnotation(JsonpDeserializable.class);
+        try {
+            Field field = clazz.getDeclaredField(annotation.field());
+            return (JsonpDeserializer<T>) field.get(null);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private interface Operation {
+        Object run() throws Exception;
+    }
+}
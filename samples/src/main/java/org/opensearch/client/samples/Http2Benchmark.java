@@ -0,0 +1,193 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http.protocol.HttpCoreContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+
+/**
+ * Compares HTTP/1.1 connection pooling with HTTP/2 multiplexing when sending many small concurrent searches.
+ * <p>
+ * The searches are sent to a local in-process server, which answers them with an empty search response after a
+ * simulated latency, so that the benchmark measures the transport rather than the cluster. It can be tuned with the
+ * {@code REQUESTS}, {@code CONCURRENCY} and {@code LATENCY_MS} environment variables.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=Http2Benchmark}
+ */
+public class Http2Benchmark {
+    private static final Logger LOGGER = LogManager.getLogger(Http2Benchmark.class);
+
+    private static final String SEARCH_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+        + "\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"hits\":[]}}";
+
+    public static void main(String[] args) {
+        var env = System.getenv();
+        var requests = Integer.parseInt(env.getOrDefault("REQUESTS", "20000"));
+        var concurrency = Integer.parseInt(env.getOrDefault("CONCURRENCY", "200"));
+        var latencyMillis = Long.parseLong(env.getOrDefault("LATENCY_MS", "5"));
+
+        var scheduler = Executors.newScheduledThreadPool(2);
+        try {
+            for (var http2 : new boolean[] { false, true }) {
+                var versionPolicy = http2 ? HttpVersionPolicy.FORCE_HTTP_2 : HttpVersionPolicy.FORCE_HTTP_1;
+                var server = new LocalServer(versionPolicy, scheduler, latencyMillis);
+                try (var transport = ApacheHttpClient5TransportBuilder.builder(server.host()).setHttp2Enabled(http2).build()) {
+                    var client = new OpenSearchAsyncClient(transport);
+                    // Warm up connections and code paths
+                    run(client, requests / 10, concurrency);
+                    var result = run(client, requests, concurrency);
+                    LOGGER.info(
+                        "{}: {} requests/s, p50 {} ms, p99 {} ms, {} connections",
+                        http2 ? "HTTP/2 multiplexing" : "HTTP/1.1 pooling",
+                        String.format("%.0f", result.throughput()),
+                        String.format("%.2f", result.percentile(0.50)),
+                        String.format("%.2f", result.percentile(0.99)),
+                        server.connections()
+                    );
+                } finally {
+                    server.close();
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.error("Unexpected exception", e);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private static Result run(OpenSearchAsyncClient client, int requests, int concurrency) throws Exception {
+        var inFlight = new Semaphore(concurrency);
+        var done = new CountDownLatch(requests);
+        var failures = new AtomicInteger();
+        var latencies = new long[requests];
+
+        var start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            var request = i;
+            var requestStart = System.nanoTime();
+            client.search(s -> s.index("benchmark").size(0), Void.class).whenComplete((response, failure) -> {
+                latencies[request] = System.nanoTime() - requestStart;
+                if (failure != null) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        var elapsed = System.nanoTime() - start;
+
+        if (failures.get() > 0) {
+            throw new IllegalStateException(failures.get() + " requests failed");
+        }
+        return new Result(latencies, elapsed);
+    }
+
+    private static class Result {
+        private final long[] latencies;
+        private final long elapsedNanos;
+
+        Result(long[] latencies, long elapsedNanos) {
+            this.latencies = latencies.clone();
+            this.elapsedNanos = elapsedNanos;
+            Arrays.sort(this.latencies);
+        }
+
+        double throughput() {
+            return latencies.length / (elapsedNanos / 1e9);
+        }
+
+        double percentile(double percentile) {
+            return latencies[(int) Math.min(latencies.length - 1, latencies.length * percentile)] / 1e6;
+        }
+    }
+
+    /**
+     * A server answering all requests with an empty search response after a delay, using either HTTP/1.1 or HTTP/2
+     * with prior knowledge.
+     */
+    private static class LocalServer {
+        private final HttpAsyncServer server;
+        private final HttpHost host;
+        private final Set<SocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+        LocalServer(HttpVersionPolicy versionPolicy, ScheduledExecutorService scheduler, long latencyMillis) throws Exception {
+            server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(versionPolicy)
+                .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                    @Override
+                    public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                        return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                    }
+
+                    @Override
+                    public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context) {
+                        connections.add(HttpCoreContext.cast(context).getEndpointDetails().getRemoteAddress());
+                        scheduler.schedule(() -> {
+                            try {
+                                responseTrigger.submitResponse(
+                                    new BasicResponseProducer(200, SEARCH_RESPONSE, ContentType.APPLICATION_JSON),
+                                    context
+                                );
+                            } catch (Exception e) {
+                                LOGGER.error("Failed to send response", e);
+                            }
+                        }, latencyMillis, TimeUnit.MILLISECONDS);
+                    }
+                })
+                .create();
+            server.start();
+            var endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+            host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+        }
+
+        HttpHost host() {
+            return host;
+        }
+
+        int connections() {
+            return connections.size();
+        }
+
+        void close() {
+            server.close(CloseMode.GRACEFUL);
+        }
+    }
+}
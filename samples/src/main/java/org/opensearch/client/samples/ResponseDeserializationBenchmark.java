@@ -0,0 +1,218 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import jakarta.json.stream.JsonParser;
+import java.io.ByteArrayInputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.json.DelegatingJsonParser;
+import org.opensearch.client.json.JsonData;
+import org.opensearch.client.json.JsonpDeserializer;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.ObjectBuilderDeserializer;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.InlineGet;
+import org.opensearch.client.opensearch._types.ShardStatistics;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+import org.opensearch.client.opensearch.nodes.NodesStatsResponse;
+
+/**
+ * Measures the deserialization of large responses into the generated types: the time and the memory allocated per
+ * response.
+ * <p>
+ * The responses are a bulk response and a search response, whose number of items and hits can be tuned with the
+ * {@code DOCUMENTS} environment variable, and a nodes stats response, whose number of nodes can be tuned with the
+ * {@code NODES} environment variable. The number of iterations can be tuned with the {@code ITERATIONS} environment
+ * variable.
+ * <p>
+ * The bulk response types deserialize their fields with a field switch, as the generated types do when the code generator
+ * is run with {@code -PswitchDeserializers}, and are also measured with deserializers that only register the fields, as
+ * the generated types do by default. Comparing the other responses requires generating the code in both modes.
+ * <p>
+ * Each response is deserialized with the Jackson parser, which reads property names and numbers directly from its tokens
+ * as a {@code DirectJsonParser}, and with the same parser behind a wrapper that only exposes its JSONP events and values.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=ResponseDeserializationBenchmark}
+ */
+public class ResponseDeserializationBenchmark {
+    private static final Logger LOGGER = LogManager.getLogger(ResponseDeserializationBenchmark.class);
+
+    public static void main(String[] args) {
+        var env = System.getenv();
+        var documents = Integer.parseInt(env.getOrDefault("DOCUMENTS", "1000"));
+        var nodes = Integer.parseInt(env.getOrDefault("NODES", "100"));
+        var iterations = Integer.parseInt(env.getOrDefault("ITERATIONS", "2000"));
+
+        var mapper = new JacksonJsonpMapper();
+        var responses = new LinkedHashMap<String, Map.Entry<byte[], JsonpDeserializer<?>>>();
+        responses.put("BulkResponse (switch)", Map.entry(bulkResponse(documents), BulkResponse._DESERIALIZER));
+        responses.put("BulkResponse (table)", Map.entry(bulkResponse(documents), TABLE_BULK_RESPONSE_DESERIALIZER));
+        responses.put(
+            "SearchResponse",
+            Map.entry(searchResponse(documents), SearchResponse.createSearchResponseDeserializer(JsonpDeserializer.voidDeserializer()))
+        );
+        responses.put("NodesStatsResponse", Map.entry(nodesStatsResponse(nodes), NodesStatsResponse._DESERIALIZER));
+
+        for (var response : responses.entrySet()) {
+            var json = response.getValue().getKey();
+            var deserializer = response.getValue().getValue();
+
+            for (var direct : new boolean[] { true, false }) {
+                // Warm up
+                for (var i = 0; i < iterations / 2; i++) {
+                    deserialize(mapper, deserializer, json, direct);
+                }
+
+                var allocated = allocatedBytes();
+                var start = System.nanoTime();
+                for (var i = 0; i < iterations; i++) {
+                    deserialize(mapper, deserializer, json, direct);
+                }
+                var nanos = System.nanoTime() - start;
+                allocated = allocatedBytes() - allocated;
+
+                LOGGER.info(
+                    "{} of {} bytes, {}: {} us/op, {} KB allocated/op",
+                    response.getKey(),
+                    json.length,
+                    direct ? "direct" : "JSONP only",
+                    String.format("%.1f", nanos / 1e3 / iterations),
+                    String.format("%.1f", allocated / 1024.0 / iterations)
+                );
+            }
+        }
+    }
+
+    // The bulk response deserializers without their field switch
+    private static final JsonpDeserializer<BulkResponseItem> TABLE_BULK_RESPONSE_ITEM_DESERIALIZER = ObjectBuilderDeserializer.lazy(
+        BulkResponseItem.Builder::new,
+        op -> {
+            op.add(BulkResponseItem.Builder::id, JsonpDeserializer.stringDeserializer(), "_id");
+            op.add(BulkResponseItem.Builder::index, JsonpDeserializer.stringDeserializer(), "_index");
+            op.add(BulkResponseItem.Builder::status, JsonpDeserializer.integerDeserializer(), "status");
+            op.add(BulkResponseItem.Builder::error, ErrorCause._DESERIALIZER, "error");
+            op.add(BulkResponseItem.Builder::primaryTerm, JsonpDeserializer.longDeserializer(), "_primary_term");
+            op.add(BulkResponseItem.Builder::result, JsonpDeserializer.stringDeserializer(), "result");
+            op.add(BulkResponseItem.Builder::seqNo, JsonpDeserializer.longDeserializer(), "_seq_no");
+            op.add(BulkResponseItem.Builder::shards, ShardStatistics._DESERIALIZER, "_shards");
+            op.add(BulkResponseItem.Builder::version, JsonpDeserializer.longDeserializer(), "_version");
+            op.add(BulkResponseItem.Builder::forcedRefresh, JsonpDeserializer.booleanDeserializer(), "forced_refresh");
+            op.add(
+                BulkResponseItem.Builder::get,
+                InlineGet.createInlineGetDeserializer(JsonpDeserializer.stringMapDeserializer(JsonData._DESERIALIZER)),
+                "get"
+            );
+            op.setKey(BulkResponseItem.Builder::operationType, OperationType._DESERIALIZER);
+        }
+    );
+
+    private static final JsonpDeserializer<BulkResponse> TABLE_BULK_RESPONSE_DESERIALIZER = ObjectBuilderDeserializer.lazy(
+        BulkResponse.Builder::new,
+        op -> {
+            op.add(BulkResponse.Builder::errors, JsonpDeserializer.booleanDeserializer(), "errors");
+            op.add(BulkResponse.Builder::items, JsonpDeserializer.arrayDeserializer(TABLE_BULK_RESPONSE_ITEM_DESERIALIZER), "items");
+            op.add(BulkResponse.Builder::took, JsonpDeserializer.longDeserializer(), "took");
+            op.add(BulkResponse.Builder::ingestTook, JsonpDeserializer.longDeserializer(), "ingest_took");
+        }
+    );
+
+    private static Object deserialize(JsonpMapper mapper, JsonpDeserializer<?> deserializer, byte[] json, boolean direct) {
+        try (JsonParser parser = mapper.jsonProvider().createParser(new ByteArrayInputStream(json))) {
+            return deserializer.deserialize(direct ? parser : new JsonpOnlyParser(parser), mapper);
+        }
+    }
+
+    // Hides the direct methods of the Jackson parser, to only go through its JSONP events and values
+    private static final class JsonpOnlyParser extends DelegatingJsonParser {
+        JsonpOnlyParser(JsonParser parser) {
+            super(parser);
+        }
+    }
+
+    private static long allocatedBytes() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static byte[] bulkResponse(int documents) {
+        var json = new StringBuilder("{\"took\":30,\"errors\":false,\"items\":[");
+        for (var i = 0; i < documents; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"index\":{\"_index\":\"benchmark\",\"_id\":\"")
+                .append(i)
+                .append("\",\"_version\":1,\"result\":\"created\",\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},")
+                .append("\"_seq_no\":")
+                .append(i)
+                .append(",\"_primary_term\":1,\"status\":201}}");
+        }
+        return json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] searchResponse(int documents) {
+        var json = new StringBuilder("{\"took\":5,\"timed_out\":false,").append(
+            "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+        ).append("\"hits\":{\"total\":{\"value\":").append(documents).append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+        for (var i = 0; i < documents; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("{\"_index\":\"benchmark\",\"_id\":\"")
+                .append(i)
+                .append("\",\"_score\":1.0,\"_version\":3,\"_seq_no\":")
+                .append(i)
+                .append(",\"_primary_term\":1,\"sort\":[")
+                .append(i)
+                .append("]}");
+        }
+        return json.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] nodesStatsResponse(int nodes) {
+        var json = new StringBuilder("{\"_nodes\":{\"total\":").append(nodes)
+            .append(",\"successful\":")
+            .append(nodes)
+            .append(",\"failed\":0},\"cluster_name\":\"benchmark\",\"nodes\":{");
+        for (var i = 0; i < nodes; i++) {
+            json.append(i == 0 ? "" : ",")
+                .append("\"node-")
+                .append(i)
+                .append("\":{\"timestamp\":1700000000000,\"name\":\"node-")
+                .append(i)
+                .append("\",\"transport_address\":\"10.0.0.1:9300\",\"host\":\"10.0.0.1\",\"ip\":\"10.0.0.1:9300\",")
+                .append("\"roles\":[\"cluster_manager\",\"data\",\"ingest\"],")
+                .append("\"os\":{\"timestamp\":1700000000000,\"cpu\":{\"percent\":12},")
+                .append("\"mem\":{\"total_in_bytes\":17179869184,\"free_in_bytes\":4294967296,\"used_in_bytes\":12884901888,")
+                .append("\"free_percent\":25,\"used_percent\":75},")
+                .append("\"swap\":{\"total_in_bytes\":0,\"free_in_bytes\":0,\"used_in_bytes\":0}},")
+                .append("\"jvm\":{\"timestamp\":1700000000000,\"uptime_in_millis\":123456789,")
+                .append("\"mem\":{\"heap_used_in_bytes\":1073741824,\"heap_used_percent\":50,")
+                .append("\"heap_committed_in_bytes\":2147483648,\"heap_max_in_bytes\":2147483648,")
+                .append("\"non_heap_used_in_bytes\":157286400,\"non_heap_committed_in_bytes\":167772160,\"pools\":{");
+            for (var pool : new String[] { "young", "old", "survivor" }) {
+                json.append(pool.equals("young") ? "" : ",")
+                    .append('"')
+                    .append(pool)
+                    .append("\":{\"used_in_bytes\":268435456,\"max_in_bytes\":0,")
+                    .append("\"peak_used_in_bytes\":536870912,\"peak_max_in_bytes\":0}");
+            }
+            json.append("}},\"threads\":{\"count\":120,\"peak_count\":130},\"gc\":{\"collectors\":{")
+                .append("\"young\":{\"collection_count\":1234,\"collection_time_in_millis\":5678},")
+                .append("\"old\":{\"collection_count\":0,\"collection_time_in_millis\":0}}},")
+                .append("\"classes\":{\"current_loaded_count\":25000,\"total_loaded_count\":25100,\"total_unloaded_count\":100}}}");
+        }
+        return json.append("}}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
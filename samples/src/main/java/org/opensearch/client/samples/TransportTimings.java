@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.client.samples;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.DiscardingEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.opensearch.OpenSearchAsyncClient;
+import org.opensearch.client.transport.httpclient5.ApacheHttpClient5TransportBuilder;
+import org.opensearch.client.transport.instrumentation.RequestEvent;
+import org.opensearch.client.transport.instrumentation.TransportInstrumentation;
+
+/**
+ * Shows where client side time goes with a {@link TransportInstrumentation} aggregating the phases of requests by
+ * endpoint, the way a Micrometer or OpenTelemetry adapter would.
+ * <p>
+ * Searches are sent to a local in-process server answering them after a simulated latency. With more concurrent
+ * requests than pooled connections, requests spend time waiting for a connection. It can be tuned with the
+ * {@code REQUESTS}, {@code CONCURRENCY} and {@code LATENCY_MS} environment variables.
+ * <p>
+ * Run with: {@code ./gradlew :samples:run -Dsamples.mainClass=TransportTimings}
+ */
+public class TransportTimings {
+    private static final Logger LOGGER = LogManager.getLogger(TransportTimings.class);
+
+    private static final String SEARCH_RESPONSE = "{\"took\":1,\"timed_out\":false,"
+        + "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+        + "\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"hits\":[]}}";
+
+    public static void main(String[] args) {
+        var env = System.getenv();
+        var requests = Integer.parseInt(env.getOrDefault("REQUESTS", "10000"));
+        var concurrency = Integer.parseInt(env.getOrDefault("CONCURRENCY", "100"));
+        var latencyMillis = Long.parseLong(env.getOrDefault("LATENCY_MS", "2"));
+
+        var scheduler = Executors.newScheduledThreadPool(2);
+        var timings = new PhaseTimings();
+        HttpAsyncServer server = null;
+        try {
+            server = createServer(scheduler, latencyMillis);
+            server.start();
+            var endpoint = server.listen(new InetSocketAddress("localhost", 0), URIScheme.HTTP).get();
+            var host = new HttpHost("http", "localhost", ((InetSocketAddress) endpoint.getAddress()).getPort());
+            try (var transport = ApacheHttpClient5TransportBuilder.builder(host).setInstrumentation(timings).build()) {
+                var client = new OpenSearchAsyncClient(transport);
+                var inFlight = new Semaphore(concurrency);
+                var done = new CountDownLatch(requests);
+                for (var i = 0; i < requests; i++) {
+                    inFlight.acquire();
+                    client.search(s -> s.index("timings").size(0), Void.class).whenComplete((response, failure) -> {
+                        inFlight.release();
+                        done.countDown();
+                    });
+                }
+                done.await();
+            }
+            timings.log();
+        } catch (Exception e) {
+            LOGGER.error("Unexpected exception", e);
+        } finally {
+            if (server != null) {
+                server.close(CloseMode.GRACEFUL);
+            }
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Sums the time spent in each phase of the requests, by endpoint.
+     */
+    private static class PhaseTimings implements TransportInstrumentation {
+        private final Map<String, LongAdder[]> phases = new ConcurrentHashMap<>();
+
+        @Override
+        public void onRequestEnd(RequestEvent event) {
+            var sums = phases.computeIfAbsent(
+                event.endpointId(),
+                id -> new LongAdder[] {
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder(),
+                    new LongAdder() }
+            );
+            sums[0].increment();
+            sums[1].add(event.serializationNanos());
+            sums[2].add(event.queueNanos());
+            sums[3].add(event.networkNanos());
+            sums[4].add(event.deserializationNanos());
+            sums[5].add(event.totalNanos());
+        }
+
+        void log() {
+            phases.forEach((endpoint, sums) -> {
+                var count = sums[0].sum();
+                LOGGER.info(
+                    "{}: {} requests, average serialization {} us, queue {} us, network {} us, deserialization {} us, total {} us",
+                    endpoint,
+                    count,
+                    sums[1].sum() / count / 1000,
+                    sums[2].sum() / count / 1000,
+                    sums[3].sum() / count / 1000,
+                    sums[4].sum() / count / 1000,
+                    sums[5].sum() / count / 1000
+                );
+            });
+        }
+    }
+
+    private static HttpAsyncServer createServer(ScheduledExecutorService scheduler, long latencyMillis) {
+        return H2ServerBootstrap.bootstrap()
+            .setVersionPolicy(HttpVersionPolicy.FORCE_HTTP_1)
+            .register("*", new AsyncServerRequestHandler<Message<HttpRequest, Void>>() {
+                @Override
+                public BasicRequestConsumer<Void> prepare(HttpRequest request, EntityDetails entityDetails, HttpContext context) {
+                    return new BasicRequestConsumer<>(entityDetails == null ? null : new DiscardingEntityConsumer<>());
+                }
+
+                @Override
+                public void handle(Message<HttpRequest, Void> message, ResponseTrigger responseTrigger, HttpContext context) {
+                    scheduler.schedule(() -> {
+                        try {
+                            responseTrigger.submitResponse(
+                                new BasicResponseProducer(200, SEARCH_RESPONSE, ContentType.APPLICATION_JSON),
+                                context
+                            );
+                        } catch (Exception e) {
+                            LOGGER.error("Failed to send response", e);
+                        }
+                    }, latencyMillis, TimeUnit.MILLISECONDS);
+                }
+            })
+            .create();
+    }
+}